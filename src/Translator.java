@@ -2,6 +2,7 @@ import java.io.File;
 import java.io.IOException;
 import java.io.FileOutputStream;
 import java.io.Reader;
+import java.io.StringWriter;
 
 import xtc.lang.JavaFiveParser;
 import xtc.lang.JavaPrinter;
@@ -11,6 +12,7 @@ import xtc.parser.Result;
 
 import xtc.tree.GNode;
 import xtc.tree.Node;
+import xtc.tree.ParallelTraversal;
 import xtc.tree.Printer;
 import xtc.tree.Visitor;
 
@@ -56,6 +58,7 @@ public class Translator extends Tool
       bool("printJavaAST", "printJavaAST", false, "Print Java AST.").
       bool("printJavaCode", "printJavaCode", false, "Print Java code.").
       bool("countMethods", "countMethods", false, "Count all Java methods.").
+      bool("parallel", "parallel", false, "Count all Java methods in parallel.").
       bool("testHeaderPrint", "testHeaderPrint", false, "Print out the header file for a corresponding C++ file.").
       bool("testVTPrint", "testVTPrint", false, "Print the vtables needed for the translation of the Java program into a C++ program.").
       bool("testSourcePrint", "testSourcePrint", false, "Print out the source file for a corresponding C++ file.").
@@ -84,8 +87,7 @@ public class Translator extends Tool
   }
 
   public Node parse(Reader in, File file) throws IOException, ParseException {
-    JavaFiveParser parser =
-      new JavaFiveParser(in, file.toString(), (int)file.length());
+    JavaFiveParser parser = getParser(JavaFiveParser.class, in, file);
     Result result = parser.pCompilationUnit(0);
     return (Node)parser.value(result);
   }
@@ -106,26 +108,16 @@ public class Translator extends Tool
     }
 
     if (runtime.test("countMethods")) {
-      new Visitor() {
-        private int count = 0;
-
-        public void visitCompilationUnit(GNode n) {
-          visit(n);
-          runtime.console().p("Number of methods: ").p(count).pln().flush();
-        }
-
-        public void visitMethodDeclaration(GNode n) {
-          runtime.console().p("Name of node: ").p(n.getName()).pln();
-          runtime.console().p("Name of method: ").p(n.getString(3)).pln();
-          visit(n);
-          count++;
-        }
-
-        public void visit(Node n) {
-          for (Object o : n) if (o instanceof Node) dispatch((Node) o);
-        }
-
-      }.dispatch(node);
+      MethodCounter counter;
+      if (runtime.test("parallel")) {
+        counter = new MethodCounter.Traversal().traverse(node);
+      } else {
+        counter = new MethodCounter();
+        counter.dispatch(node);
+      }
+      counter.printer.flush();
+      runtime.console().p(counter.names.toString());
+      runtime.console().p("Number of methods: ").p(counter.count).pln().flush();
     }
 
     if(runtime.test("testHeaderPrint"))
@@ -181,6 +173,62 @@ public class Translator extends Tool
     }
   }
 
+  /**
+   * A visitor to count all methods.  It records the names of the
+   * counted methods, so that the results of several counters can be
+   * combined in order.
+   */
+  static class MethodCounter extends Visitor {
+    /** The names of the counted methods. */
+    final StringWriter names = new StringWriter();
+
+    /** The printer for the names. */
+    final Printer printer = new Printer(names);
+
+    /** The number of methods. */
+    int count = 0;
+
+    public void visitMethodDeclaration(GNode n) {
+      printer.p("Name of node: ").p(n.getName()).pln();
+      printer.p("Name of method: ").p(n.getString(3)).pln();
+      visit(n);
+      count++;
+    }
+
+    public void visit(Node n) {
+      for (Object o : n) if (o instanceof Node) dispatch((Node) o);
+    }
+
+    /**
+     * A parallel traversal to count all methods.  It processes the
+     * members of class bodies in parallel.
+     */
+    static class Traversal
+      extends ParallelTraversal<MethodCounter, MethodCounter> {
+
+      protected MethodCounter newVisitor() {
+        return new MethodCounter();
+      }
+
+      protected MethodCounter result(MethodCounter counter) {
+        counter.printer.flush();
+        return counter;
+      }
+
+      protected MethodCounter combine(MethodCounter left,
+                                      MethodCounter right) {
+        left.names.append(right.names.getBuffer());
+        left.count += right.count;
+        return left;
+      }
+
+      protected boolean split(GNode node) {
+        return node.hasName("CompilationUnit") ||
+          node.hasName("ClassDeclaration") || node.hasName("ClassBody");
+      }
+    }
+  }
+
   /**
    * Run the translator with the specified command line arguments.
    *
@@ -155,6 +155,9 @@ public interface Constants {
   /** The attribute name of all string set attributes. */
   public static final String NAME_STRING_SET = "setOfString";
 
+  /** The attribute name of all visitor attributes. */
+  public static final String NAME_VISITOR = "visitor";
+
   // =========================================================================
 
   /** The attribute name of all storage class attributes. */
@@ -231,6 +234,12 @@ public interface Constants {
   /** The canonical <code>builtin</code> attribute. */
   public static final Attribute ATT_BUILTIN = new Attribute("builtin");
 
+  /** The canonical <code>byteInput</code> attribute. */
+  public static final Attribute ATT_BYTE_INPUT = new Attribute("byteInput");
+
+  /** The canonical <code>columnMajor</code> attribute. */
+  public static final Attribute ATT_COLUMN_MAJOR = new Attribute("columnMajor");
+
   /** The canonical <code>constant</code> attribute. */
   public static final Attribute ATT_CONSTANT = new Attribute("constant");
 
@@ -240,6 +249,9 @@ public interface Constants {
   /** The canonical <code>dump</code> attribute. */
   public static final Attribute ATT_DUMP = new Attribute("dump");
 
+  /** The canonical <code>events</code> attribute. */
+  public static final Attribute ATT_EVENTS = new Attribute("events");
+
   /** The canonical <code>explicit</code> attribute. */
   public static final Attribute ATT_EXPLICIT = new Attribute("explicit");
 
@@ -260,6 +272,9 @@ public interface Constants {
   /** The canonical <code>implicit</code> attribute. */
   public static final Attribute ATT_IMPLICIT = new Attribute("implicit");
 
+  /** The canonical <code>incremental</code> attribute. */
+  public static final Attribute ATT_INCREMENTAL = new Attribute("incremental");
+
   /** The canonical <code>inline</code> attribute. */
   public static final Attribute ATT_INLINE = new Attribute("inline");
 
@@ -311,6 +326,9 @@ public interface Constants {
   /** The canonical <code>stateful</code> attribute. */
   public static final Attribute ATT_STATEFUL = new Attribute("stateful");
 
+  /** The canonical <code>streaming</code> attribute. */
+  public static final Attribute ATT_STREAMING = new Attribute("streaming");
+
   /** The canonical <code>strictfp</code> attribute. */
   public static final Attribute ATT_STRICT_FP = new Attribute("strictfp");
 
@@ -320,6 +338,9 @@ public interface Constants {
   /** The canonical <code>threadLocal</code> attribute. */
   public static final Attribute ATT_THREAD_LOCAL = new Attribute("threadLocal");
 
+  /** The canonical <code>tokenized</code> attribute. */
+  public static final Attribute ATT_TOKENIZED = new Attribute("tokenized");
+
   /** The canonical <code>transient</code> attribute. */
   public static final Attribute ATT_TRANSIENT = new Attribute("transient");
 
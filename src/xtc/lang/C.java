@@ -42,6 +42,7 @@ import xtc.type.TypePrinter;
 import xtc.util.SymbolTable;
 import xtc.util.Tool;
 
+import xtc.parser.ParserBase;
 import xtc.parser.Result;
 import xtc.parser.ParseException;
 
@@ -49,7 +50,7 @@ import xtc.parser.ParseException;
  * The C tool.
  *
  * @author Robert Grimm
- * @version $Revision: 1.68 $
+ * @version $Revision: 1.70 $
  */
 public class C extends Tool {
 
@@ -95,6 +96,8 @@ public class C extends Tool {
            "Extract and print the program's features.").
       bool("printStats", "printASTStats", false,
            "Collect and print the program's AST statistics.").
+      bool("parallel", "optionParallel", false,
+           "Collect the program's features and statistics in parallel.").
       bool("printSymbolTable", "printSymbolTable", false,
            "Print the program's symbol table.").
       bool("strip", "optionStrip", false,
@@ -316,13 +319,14 @@ public class C extends Tool {
       }
 
     } else if (runtime.test("optionNoIncr")) { // ==================== Parser
-      CParser parser = new CParser(in, file.toString(), (int)file.length());
+      CParser parser = getParser(CParser.class, in, file);
       Result  result = parser.pTranslationUnit(0);
       printMemoInfo(parser, file);
       return (Node)parser.value(result);
 
     } else {
-      CParser parser = new CParser(in, file.getName());
+      CParser parser = getParser(CParser.class, in, file.getName(),
+                                 ParserBase.INIT_SIZE - 1);
       GNode   root   = GNode.create("TranslationUnit");
       boolean first  = true;
 
@@ -407,14 +411,23 @@ public class C extends Tool {
 
       // Print program features.
       if (runtime.test("printFeatures") && 0 == runtime.errorCount()) {
-        new CFeatureExtractor(runtime).process(node, table);
+        if (runtime.test("optionParallel")) {
+          new CFeatureExtractor.Traversal(runtime, table).print(node);
+        } else {
+          new CFeatureExtractor(runtime).process(node, table);
+        }
       }
     }
 
     // Print AST statistics.
     if (runtime.test("printASTStats")) {
-      CCounter counter = new CCounter();
-      counter.dispatch(node);
+      CCounter counter;
+      if (runtime.test("optionParallel")) {
+        counter = new CCounter.Traversal().traverse(node);
+      } else {
+        counter = new CCounter();
+        counter.dispatch(node);
+      }
       counter.print(runtime.console());
       runtime.console().flush();
     }
@@ -23,6 +23,7 @@ import java.util.Iterator;
 import xtc.tree.LineMarker;
 import xtc.tree.Node;
 import xtc.tree.GNode;
+import xtc.tree.ParallelTraversal;
 import xtc.tree.Pragma;
 import xtc.tree.Printer;
 import xtc.tree.Visitor;
@@ -31,7 +32,7 @@ import xtc.tree.Visitor;
  * A visitor to collect statistics on a C program.
  *
  * @author Robert Grimm
- * @version $Revision: 1.9 $
+ * @version $Revision: 1.10 $
  */
 public class CCounter extends Visitor {
 
@@ -143,6 +144,38 @@ public class CCounter extends Visitor {
     countPragma              = 0;
   }
 
+  /**
+   * Add the specified counter's counters to this counter's counters.
+   *
+   * @param other The other counter.
+   */
+  public void add(CCounter other) {
+    countTopLevelDeclaration += other.countTopLevelDeclaration;
+    countTopLevelFunction    += other.countTopLevelFunction;
+    countNestedDeclaration   += other.countNestedDeclaration;
+    countNestedFunction      += other.countNestedFunction;
+    countLocalLabelDecl      += other.countLocalLabelDecl;
+    countNamedLabel          += other.countNamedLabel;
+    countCaseLabel           += other.countCaseLabel;
+    countDefaultLabel        += other.countDefaultLabel;
+    countCompoundStmt        += other.countCompoundStmt;
+    countIfStmt              += other.countIfStmt;
+    countIfElseStmt          += other.countIfElseStmt;
+    countWhileStmt           += other.countWhileStmt;
+    countDoStmt              += other.countDoStmt;
+    countForStmt             += other.countForStmt;
+    countSwitchStmt          += other.countSwitchStmt;
+    countBreakStmt           += other.countBreakStmt;
+    countContinueStmt        += other.countContinueStmt;
+    countReturnStmt          += other.countReturnStmt;
+    countGotoStmt            += other.countGotoStmt;
+    countExpressionStmt      += other.countExpressionStmt;
+    countAssemblyStmt        += other.countAssemblyStmt;
+    countEmptyStmt           += other.countEmptyStmt;
+    countLineMarker          += other.countLineMarker;
+    countPragma              += other.countPragma;
+  }
+
   /**
    * Print all counters.
    *
@@ -547,4 +580,38 @@ public class CCounter extends Visitor {
     dispatch(p.getNode());
   }
 
+  // =========================================================================
+
+  /**
+   * A parallel traversal to collect statistics on a C program.  This
+   * traversal processes the top-level declarations and function
+   * definitions of a translation unit in parallel and adds up the
+   * resulting counters.
+   */
+  public static class Traversal extends ParallelTraversal<CCounter, CCounter> {
+
+    protected CCounter newVisitor() {
+      return new CCounter();
+    }
+
+    protected CCounter result(CCounter counter) {
+      return counter;
+    }
+
+    protected CCounter combine(CCounter left, CCounter right) {
+      left.add(right);
+      return left;
+    }
+
+    protected boolean split(GNode node) {
+      return node.hasName("TranslationUnit");
+    }
+
+    protected void process(CCounter counter, Node node) {
+      counter.isTopLevel = true;
+      counter.dispatch(node);
+    }
+
+  }
+
 }
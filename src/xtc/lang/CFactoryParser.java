@@ -1,8 +1,8 @@
 // ===========================================================================
 // This file has been generated by
-// Rats! Parser Generator, version 2.1.0,
-// (C) 2004-2011 Robert Grimm,
-// on Monday, July 25, 2011 at 2:20:17 PM.
+// Rats! Parser Generator, version 2.3.1,
+// (C) 2004-2012 Robert Grimm,
+// on Sunday, October 18, 2026 at 7:30:45 PM.
 // Edit at your own risk.
 // ===========================================================================
 
@@ -30,7 +30,7 @@ import xtc.parser.ParseError;
  * Packrat parser for grammar <code>xtc.lang.CFactory</code>.
  *
  * <p />This class has been generated by the <i>Rats!</i> parser
- * generator, version 2.1.0, (C) 2004-2011 Robert Grimm.
+ * generator, version 2.3.1, (C) 2004-2012 Robert Grimm.
  */
 public final class CFactoryParser extends ParserBase {
 
@@ -53,64 +53,121 @@ public final class CFactoryParser extends ParserBase {
 
   /** Chunk 1 of memoized results. */
   static final class Chunk1 {
-    Result fAliasTerm;
+    Result fCIdentifier$Word;
+    Result fKeyword;
+    Result fCIdentifier$Identifier;
+    Result fSymbol;
+    Result fStringLiteral;
+    Result fStringConstant$$Plus1;
+    Result fStringConstant;
+    Result fNodeVariable;
+    Result fCharacterLiteral;
+    Result fUnaryExpression;
+
+    void clear() {
+      fCIdentifier$Word = null;
+      fKeyword = null;
+      fCIdentifier$Identifier = null;
+      fSymbol = null;
+      fStringLiteral = null;
+      fStringConstant$$Plus1 = null;
+      fStringConstant = null;
+      fNodeVariable = null;
+      fCharacterLiteral = null;
+      fUnaryExpression = null;
+    }
+  }
+
+  /** Chunk 2 of memoized results. */
+  static final class Chunk2 {
+    Result fAttributeSpecifier;
     Result fDeclarationSpecifiers;
     Result fSpecifierQualifierList;
-    Result fAttributedDeclarator;
-    Result fDeclarator;
+    Result fAttributeSpecifierList;
     Result fPointer;
-    Result fVariableLength;
+    Result fStringVariable;
+    Result fDeclarator;
+    Result fAttributedDeclarator;
     Result fParameterTypeList;
-    Result fAbstractDeclarator;
     Result fTypeName;
-  }
 
-  /** Chunk 2 of memoized results. */
-  static final class Chunk2 {
-    Result fAttributeSpecifierList;
-    Result fAttributeSpecifier;
-    Result fStatement;
-    Result fCompoundStatement;
-    Result fCommaExpression;
-    Result fAssignmentExpression;
-    Result fConditionalExpression;
-    Result fLogicalOrExpression;
-    Result fCastExpression;
-    Result fUnaryExpression;
+    void clear() {
+      fAttributeSpecifier = null;
+      fDeclarationSpecifiers = null;
+      fSpecifierQualifierList = null;
+      fAttributeSpecifierList = null;
+      fPointer = null;
+      fStringVariable = null;
+      fDeclarator = null;
+      fAttributedDeclarator = null;
+      fParameterTypeList = null;
+      fTypeName = null;
+    }
   }
 
   /** Chunk 3 of memoized results. */
   static final class Chunk3 {
-    Result fExpressionList;
-    Result fExpressionList$$Star1;
-    Result fAssemblyOperands;
-    Result fAssemblyOperands$$Star1;
-    Result fAssemblyOperand;
+    Result fCastExpression;
+    Result fLogicalOrExpression;
+    Result fConditionalExpression;
+    Result fAssignmentExpression;
+    Result fCommaExpression;
+    Result fCompoundStatement;
     Result fAsmKeyword;
-    Result fNodeVariable;
-    Result fStringVariable;
-    Result fNodeListVariable;
-    Result fExponent;
+    Result fStatement;
+    Result fExpressionList;
+    Result fJavaIdentifier$Word;
+
+    void clear() {
+      fCastExpression = null;
+      fLogicalOrExpression = null;
+      fConditionalExpression = null;
+      fAssignmentExpression = null;
+      fCommaExpression = null;
+      fCompoundStatement = null;
+      fAsmKeyword = null;
+      fStatement = null;
+      fExpressionList = null;
+      fJavaIdentifier$Word = null;
+    }
   }
 
   /** Chunk 4 of memoized results. */
   static final class Chunk4 {
+    Result fAssemblyOperand;
+    Result fAssemblyOperands;
+    Result fAliasTerm;
+    Result fVariableLength;
+    Result fAbstractDeclarator;
+    Result fExpressionList$$Star1;
+    Result fAssemblyOperands$$Star1;
+    Result fNodeListVariable;
+    Result fExponent;
     Result f$$Shared2;
-    Result fBinaryExponent;
-    Result fCharacterLiteral;
-    Result fStringConstant;
-    Result fStringConstant$$Plus1;
-    Result fStringLiteral;
-    Result fCIdentifier$Identifier;
-    Result fKeyword;
-    Result fCIdentifier$Word;
-    Result fSymbol;
+
+    void clear() {
+      fAssemblyOperand = null;
+      fAssemblyOperands = null;
+      fAliasTerm = null;
+      fVariableLength = null;
+      fAbstractDeclarator = null;
+      fExpressionList$$Star1 = null;
+      fAssemblyOperands$$Star1 = null;
+      fNodeListVariable = null;
+      fExponent = null;
+      f$$Shared2 = null;
+    }
   }
 
   /** Chunk 5 of memoized results. */
   static final class Chunk5 {
+    Result fBinaryExponent;
     Result fJavaIdentifier$Identifier;
-    Result fJavaIdentifier$Word;
+
+    void clear() {
+      fBinaryExponent = null;
+      fJavaIdentifier$Identifier = null;
+    }
   }
 
   // =========================================================================
@@ -122,6 +179,15 @@ public final class CFactoryParser extends ParserBase {
     Chunk3 chunk3;
     Chunk4 chunk4;
     Chunk5 chunk5;
+
+    protected boolean clear() {
+      if (null != chunk1) chunk1.clear();
+      if (null != chunk2) chunk2.clear();
+      if (null != chunk3) chunk3.clear();
+      if (null != chunk4) chunk4.clear();
+      if (null != chunk5) chunk5.clear();
+      return true;
+    }
   }
 
   // =========================================================================
@@ -162,6 +228,58 @@ public final class CFactoryParser extends ParserBase {
 
   // =========================================================================
 
+  /** The names of the memoized productions. */
+  private static final String[] yyProductions = {
+    "xtc.lang.CFactory.AliasTerm",
+    "xtc.lang.CPattern.DeclarationSpecifiers",
+    "xtc.lang.CPattern.SpecifierQualifierList",
+    "xtc.lang.CPattern.AttributedDeclarator",
+    "xtc.lang.CPattern.Declarator",
+    "xtc.lang.CPattern.Pointer",
+    "xtc.lang.CPattern.VariableLength",
+    "xtc.lang.CPattern.ParameterTypeList",
+    "xtc.lang.CPattern.AbstractDeclarator",
+    "xtc.lang.CPattern.TypeName",
+    "xtc.lang.CPattern.AttributeSpecifierList",
+    "xtc.lang.CPattern.AttributeSpecifier",
+    "xtc.lang.CPattern.Statement",
+    "xtc.lang.CPattern.CompoundStatement",
+    "xtc.lang.CPattern.CommaExpression",
+    "xtc.lang.CPattern.AssignmentExpression",
+    "xtc.lang.CPattern.ConditionalExpression",
+    "xtc.lang.CPattern.LogicalOrExpression",
+    "xtc.lang.CPattern.CastExpression",
+    "xtc.lang.CPattern.UnaryExpression",
+    "xtc.lang.CPattern.ExpressionList",
+    "xtc.lang.CFactory.ExpressionList$$Star1",
+    "xtc.lang.CPattern.AssemblyOperands",
+    "xtc.lang.CFactory.AssemblyOperands$$Star1",
+    "xtc.lang.CPattern.AssemblyOperand",
+    "xtc.lang.CPattern.AsmKeyword",
+    "xtc.lang.CPattern.NodeVariable",
+    "xtc.lang.CPattern.StringVariable",
+    "xtc.lang.CPattern.NodeListVariable",
+    "xtc.lang.CConstant.Exponent",
+    "xtc.lang.CFactory.$$Shared2",
+    "xtc.lang.CConstant.BinaryExponent",
+    "xtc.lang.CConstant.CharacterLiteral",
+    "xtc.lang.CConstant.StringConstant",
+    "xtc.lang.CFactory.StringConstant$$Plus1",
+    "xtc.lang.CConstant.StringLiteral",
+    "xtc.lang.CIdentifier.Identifier",
+    "xtc.lang.CIdentifier.Keyword",
+    "xtc.lang.CIdentifier.Word",
+    "xtc.lang.CSymbol.Symbol",
+    "xtc.lang.JavaIdentifier.Identifier",
+    "xtc.lang.JavaIdentifier.Word",
+  };
+
+  protected String[] productions() {
+    return yyProductions;
+  }
+
+  // =========================================================================
+
   /**
    * Parse nonterminal xtc.lang.CFactory.Factory.
    *
@@ -218,7 +336,7 @@ public final class CFactoryParser extends ParserBase {
                 if (yyResult.hasValue()) {
 
                   yyValue = GNode.create("Factory", v$g$1, v$g$2);
-                  yyValue.setLocation(location(yyStart));
+                  locate(yyValue, yyStart);
 
                   return yyResult.createValue(yyValue, yyError);
                 }
@@ -261,7 +379,7 @@ public final class CFactoryParser extends ParserBase {
     ParseError yyError = ParseError.DUMMY;
 
     // Reset the global state object.
-    yyState.reset(column(yyStart).file);
+    yyState.reset(fileAt(yyStart));
 
     // Alternative 1.
 
@@ -368,28 +486,7 @@ public final class CFactoryParser extends ParserBase {
 
               case '/':
                 {
-                  yyRepetition2 = yyIndex;
-                  while (true) {
-
-                    yyC = character(yyRepetition2);
-                    if (-1 != yyC) {
-                      yyIndex = yyRepetition2 + 1;
-
-                      switch (yyC) {
-                      case '\n':
-                      case '\r':
-                        /* No match. */
-                        break;
-
-                      default:
-                        {
-                          yyRepetition2 = yyIndex;
-                          continue;
-                        }
-                      }
-                    }
-                    break;
-                  }
+                  yyRepetition2 = scan(yyIndex, 0xffffffffffffdbffL, 0xffffffffffffffffL, true);
 
                   yyPredResult = pLineTerminator(yyRepetition2);
                   yyError      = yyPredResult.select(yyError);
@@ -537,10 +634,15 @@ public final class CFactoryParser extends ParserBase {
    */
   private Result pAliasTerm(final int yyStart) throws IOException {
     CFactoryParserColumn yyColumn = (CFactoryParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fAliasTerm) 
-      yyColumn.chunk1.fAliasTerm = pAliasTerm$1(yyStart);
-    return yyColumn.chunk1.fAliasTerm;
+    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
+    if (null == yyColumn.chunk4.fAliasTerm) {
+      yyColumn.chunk4.fAliasTerm = pAliasTerm$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(0, yyColumn.chunk4.fAliasTerm);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(0, yyColumn.chunk4.fAliasTerm);
+    }
+    return yyColumn.chunk4.fAliasTerm;
   }
 
   /** Actually parse xtc.lang.CFactory.AliasTerm. */
@@ -580,7 +682,8 @@ public final class CFactoryParser extends ParserBase {
     Result     yyResult;
     int        yyRepetition1;
     boolean    yyRepeated1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -588,7 +691,8 @@ public final class CFactoryParser extends ParserBase {
 
     yyRepetition1 = yyStart;
     yyRepeated1   = false;
-    yyRepValue1   = Pair.empty();
+    yyRepStart1   = bufferStart();
+    yyRepEnd1   = yyRepStart1;
     while (true) {
 
       yyResult = pMethod(yyRepetition1);
@@ -598,17 +702,18 @@ public final class CFactoryParser extends ParserBase {
 
         yyRepetition1 = yyResult.index;
         yyRepeated1   = true;
-        yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+        yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
         continue;
       }
       break;
     }
 
     if (yyRepeated1) {
-      final Pair<Node> v$g$1 = yyRepValue1.reverse();
+      final int v$g$1 = yyRepStart1;
+      final int v$g$1$end = yyRepEnd1;
 
-      yyValue = GNode.createFromPair("Methods", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      yyValue = bufferedNode("Methods", v$g$1, v$g$1$end);
+      locate(yyValue, yyStart);
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
     }
@@ -653,7 +758,7 @@ public final class CFactoryParser extends ParserBase {
           if (yyResult.hasValue("}")) {
 
             yyValue = GNode.create("Method", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
@@ -746,7 +851,7 @@ public final class CFactoryParser extends ParserBase {
                 final Node v$g$5 = yyResult.semanticValue();
 
                 yyValue = GNode.create("FunctionDefinition", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return yyResult.createValue(yyValue, yyError);
               }
@@ -773,7 +878,8 @@ public final class CFactoryParser extends ParserBase {
     Result     yyResult;
     int        yyRepetition1;
     boolean    yyRepeated1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -781,7 +887,8 @@ public final class CFactoryParser extends ParserBase {
 
     yyRepetition1 = yyStart;
     yyRepeated1   = false;
-    yyRepValue1   = Pair.empty();
+    yyRepStart1   = bufferStart();
+    yyRepEnd1   = yyRepStart1;
     while (true) {
 
       yyResult = pDeclarationListEntry(yyRepetition1);
@@ -791,17 +898,18 @@ public final class CFactoryParser extends ParserBase {
 
         yyRepetition1 = yyResult.index;
         yyRepeated1   = true;
-        yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+        yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
         continue;
       }
       break;
     }
 
     if (yyRepeated1) {
-      final Pair<Node> v$g$1 = yyRepValue1.reverse();
+      final int v$g$1 = yyRepStart1;
+      final int v$g$1$end = yyRepEnd1;
 
-      yyValue = GNode.createFromPair("DeclarationList", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      yyValue = bufferedNode("DeclarationList", v$g$1, v$g$1$end);
+      locate(yyValue, yyStart);
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
     }
@@ -936,7 +1044,7 @@ public final class CFactoryParser extends ParserBase {
             if (yyResult.hasValue(";")) {
 
               yyValue = GNode.create("Declaration", v$g$1, v$g$2, l);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             } else {
@@ -965,10 +1073,16 @@ public final class CFactoryParser extends ParserBase {
     throws IOException {
 
     CFactoryParserColumn yyColumn = (CFactoryParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fDeclarationSpecifiers) 
-      yyColumn.chunk1.fDeclarationSpecifiers = pDeclarationSpecifiers$1(yyStart);
-    return yyColumn.chunk1.fDeclarationSpecifiers;
+    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
+    if (null == yyColumn.chunk2.fDeclarationSpecifiers) {
+      yyColumn.chunk2.fDeclarationSpecifiers = 
+        pDeclarationSpecifiers$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(1, yyColumn.chunk2.fDeclarationSpecifiers);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(1, yyColumn.chunk2.fDeclarationSpecifiers);
+    }
+    return yyColumn.chunk2.fDeclarationSpecifiers;
   }
 
   /** Actually parse xtc.lang.CPattern.DeclarationSpecifiers. */
@@ -987,7 +1101,7 @@ public final class CFactoryParser extends ParserBase {
       final Pair<Node> v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.createFromPair("DeclarationSpecifiers", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -1059,85 +1173,161 @@ public final class CFactoryParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x7f;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <StorageClass>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pStorageClassSpecifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pStorageClassSpecifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <TypeSpecifier>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pTypeSpecifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
-
-      yyResult = pTypeSpecContext(yyResult.index);
+      yyResult = pTypeSpecifier(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-        return yyResult.createValue(yyValue, yyError);
+        yyResult = pTypeSpecContext(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative <TypeQualifier>.
+    if ((0 != (yyFirst & 0x4)) || (yyError.index < yyStart)) {
 
-    yyResult = pTypeQualifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pTypeQualifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 4.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("inline")) {
-      final String v$g$1 = "inline";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("inline")) {
+        final String v$g$1 = "inline";
 
-      yyValue = GNode.create("FunctionSpecifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("FunctionSpecifier", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 5.
+    if (0 != (yyFirst & 0x10)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__inline")) {
-      final String v$g$2 = "__inline";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__inline")) {
+        final String v$g$2 = "__inline";
 
-      yyValue = GNode.create("FunctionSpecifier", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("FunctionSpecifier", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 6.
+    if (0 != (yyFirst & 0x20)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__inline__")) {
-      final String v$g$3 = "__inline__";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__inline__")) {
+        final String v$g$3 = "__inline__";
 
-      yyValue = GNode.create("FunctionSpecifier", v$g$3);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("FunctionSpecifier", v$g$3);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Attribute>.
+    if ((0 != (yyFirst & 0x40)) || (yyError.index < yyStart)) {
 
-    yyResult = pAttributeSpecifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pAttributeSpecifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -1160,7 +1350,8 @@ public final class CFactoryParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -1172,7 +1363,8 @@ public final class CFactoryParser extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyBase   = yyRepetition1;
@@ -1185,7 +1377,7 @@ public final class CFactoryParser extends ParserBase {
             final Node v$el$1 = yyResult.semanticValue();
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
         } else {
@@ -1194,10 +1386,11 @@ public final class CFactoryParser extends ParserBase {
         break;
       }
       { // Start scope for v$g$2.
-        final Pair<Node> v$g$2 = yyRepValue1.reverse();
+        final int v$g$2 = yyRepStart1;
+        final int v$g$2$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("InitializedDeclaratorList", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("InitializedDeclaratorList", v$g$1, v$g$2, v$g$2$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$2.
@@ -1295,7 +1488,7 @@ public final class CFactoryParser extends ParserBase {
               final Node v$g$5 = yyOpValue1;
 
               yyValue = GNode.create("InitializedDeclarator", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return new SemanticValue(yyValue, yyOption1, yyError);
             } // End scope for v$g$5.
@@ -1324,74 +1517,148 @@ public final class CFactoryParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x3f;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("auto")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("auto")) {
 
-      yyValue = GNode.create("AutoSpecifier", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("AutoSpecifier", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("extern")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("extern")) {
 
-      yyValue = GNode.create("ExternSpecifier", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("ExternSpecifier", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("register")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("register")) {
 
-      yyValue = GNode.create("RegisterSpecifier", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("RegisterSpecifier", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 4.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("static")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("static")) {
 
-      yyValue = GNode.create("StaticSpecifier", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("StaticSpecifier", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 5.
+    if (0 != (yyFirst & 0x10)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__thread")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__thread")) {
 
-      yyValue = GNode.create("ThreadSpecifier", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("ThreadSpecifier", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 6.
+    if (0 != (yyFirst & 0x20)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("typedef")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("typedef")) {
 
-      yyResult = pTypedefContext(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
+        yyResult = pTypedefContext(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
 
-        yyValue = GNode.create("TypedefSpecifier", false);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("TypedefSpecifier", false);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
@@ -1414,112 +1681,192 @@ public final class CFactoryParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x1ff;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("volatile")) {
-      final String v$g$1 = "volatile";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("volatile")) {
+        final String v$g$1 = "volatile";
 
-      yyValue = GNode.create("VolatileQualifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("VolatileQualifier", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__volatile")) {
-      final String v$g$2 = "__volatile";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__volatile")) {
+        final String v$g$2 = "__volatile";
 
-      yyValue = GNode.create("VolatileQualifier", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("VolatileQualifier", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__volatile__")) {
-      final String v$g$3 = "__volatile__";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__volatile__")) {
+        final String v$g$3 = "__volatile__";
 
-      yyValue = GNode.create("VolatileQualifier", v$g$3);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("VolatileQualifier", v$g$3);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 4.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("const")) {
-      final String v$g$1 = "const";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("const")) {
+        final String v$g$1 = "const";
 
-      yyValue = GNode.create("ConstantQualifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("ConstantQualifier", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 5.
+    if (0 != (yyFirst & 0x10)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__const")) {
-      final String v$g$2 = "__const";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__const")) {
+        final String v$g$2 = "__const";
 
-      yyValue = GNode.create("ConstantQualifier", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("ConstantQualifier", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 6.
+    if (0 != (yyFirst & 0x20)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__const__")) {
-      final String v$g$3 = "__const__";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__const__")) {
+        final String v$g$3 = "__const__";
 
-      yyValue = GNode.create("ConstantQualifier", v$g$3);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("ConstantQualifier", v$g$3);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 7.
+    if (0 != (yyFirst & 0x40)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("restrict")) {
-      final String v$g$1 = "restrict";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("restrict")) {
+        final String v$g$1 = "restrict";
 
-      yyValue = GNode.create("RestrictQualifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("RestrictQualifier", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 8.
+    if (0 != (yyFirst & 0x80)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__restrict")) {
-      final String v$g$2 = "__restrict";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__restrict")) {
+        final String v$g$2 = "__restrict";
 
-      yyValue = GNode.create("RestrictQualifier", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("RestrictQualifier", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 9.
+    if (0 != (yyFirst & 0x100)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__restrict__")) {
-      final String v$g$3 = "__restrict__";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__restrict__")) {
+        final String v$g$3 = "__restrict__";
 
-      yyValue = GNode.create("RestrictQualifier", v$g$3);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("RestrictQualifier", v$g$3);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -1542,148 +1889,228 @@ public final class CFactoryParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x1ff;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Enumeration>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pEnumerationTypeSpecifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pEnumerationTypeSpecifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Structure>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pStructureTypeSpecifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pStructureTypeSpecifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Union>.
+    if ((0 != (yyFirst & 0x4)) || (yyError.index < yyStart)) {
 
-    yyResult = pUnionTypeSpecifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pUnionTypeSpecifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Floating>.
+    if ((0 != (yyFirst & 0x8)) || (yyError.index < yyStart)) {
 
-    yyResult = pFloatingPointTypeSpecifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pFloatingPointTypeSpecifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Integer>.
+    if ((0 != (yyFirst & 0x10)) || (yyError.index < yyStart)) {
 
-    yyResult = pIntegerTypeSpecifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pIntegerTypeSpecifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 6.
+    if ((0 != (yyFirst & 0x20)) || (yyError.index < yyStart)) {
 
-    yyResult = pCIdentifier$Identifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final String id = yyResult.semanticValue();
+      yyResult = pCIdentifier$Identifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final String id = yyResult.semanticValue();
 
-      if (yyState.isType(toText(id))) {
+        if (yyState.isType(toText(id))) {
 
-        yyValue = GNode.create("TypedefName", id);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("TypedefName", id);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 7.
+    if ((0 != (yyFirst & 0x40)) || (yyError.index < yyStart)) {
 
-    yyResult = pTypeofKeyword(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
+      yyResult = pTypeofKeyword(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
 
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue("(")) {
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue("(")) {
 
-        final int yyChoice1 = yyResult.index;
+          final int yyChoice1 = yyResult.index;
 
-        // Nested alternative 1.
+          // Nested alternative 1.
 
-        yyResult = pTypeName(yyChoice1);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$g$1 = yyResult.semanticValue();
+          yyResult = pTypeName(yyChoice1);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Node v$g$1 = yyResult.semanticValue();
 
-          yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue(")")) {
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue(")")) {
 
-            yyValue = GNode.create("TypeofSpecifier", v$g$1);
-            yyValue.setLocation(location(yyStart));
+              yyValue = GNode.create("TypeofSpecifier", v$g$1);
+              locate(yyValue, yyStart);
 
-            return yyResult.createValue(yyValue, yyError);
-          } else {
-            yyError = yyError.select("')' expected", yyBase);
+              return yyResult.createValue(yyValue, yyError);
+            } else {
+              yyError = yyError.select("')' expected", yyBase);
+            }
           }
-        }
 
-        // Nested alternative 2.
+          // Nested alternative 2.
 
-        yyResult = pCommaExpression(yyChoice1);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$g$2 = yyResult.semanticValue();
+          yyResult = pCommaExpression(yyChoice1);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Node v$g$2 = yyResult.semanticValue();
 
-          yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue(")")) {
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue(")")) {
 
-            yyValue = GNode.create("TypeofSpecifier", v$g$2);
-            yyValue.setLocation(location(yyStart));
+              yyValue = GNode.create("TypeofSpecifier", v$g$2);
+              locate(yyValue, yyStart);
 
-            return yyResult.createValue(yyValue, yyError);
-          } else {
-            yyError = yyError.select("')' expected", yyBase);
+              return yyResult.createValue(yyValue, yyError);
+            } else {
+              yyError = yyError.select("')' expected", yyBase);
+            }
           }
+        } else {
+          yyError = yyError.select("'(' expected", yyBase);
         }
-      } else {
-        yyError = yyError.select("'(' expected", yyBase);
       }
     }
 
     // Alternative 8.
+    if (0 != (yyFirst & 0x80)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("void")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("void")) {
 
-      yyValue = GNode.create("VoidTypeSpecifier", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("VoidTypeSpecifier", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 9.
+    if (0 != (yyFirst & 0x100)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__builtin_va_list")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__builtin_va_list")) {
 
-      yyValue = GNode.create("VarArgListSpecifier", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("VarArgListSpecifier", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -1786,7 +2213,7 @@ public final class CFactoryParser extends ParserBase {
                   final Node v$g$4 = cast(yyOpValue1);
 
                   yyValue = GNode.create("EnumerationTypeDefinition", v$g$1, v$g$2, v$g$3, v$g$4);
-                  yyValue.setLocation(location(yyStart));
+                  locate(yyValue, yyStart);
 
                   return new SemanticValue(yyValue, yyOption1, yyError);
                 } // End scope for v$g$4.
@@ -1807,7 +2234,7 @@ public final class CFactoryParser extends ParserBase {
           final String v$g$2 = yyResult.semanticValue();
 
           yyValue = GNode.create("EnumerationTypeReference", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -1832,7 +2259,8 @@ public final class CFactoryParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -1844,7 +2272,8 @@ public final class CFactoryParser extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyBase   = yyRepetition1;
@@ -1857,7 +2286,7 @@ public final class CFactoryParser extends ParserBase {
             final Node v$el$1 = yyResult.semanticValue();
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
         } else {
@@ -1866,10 +2295,11 @@ public final class CFactoryParser extends ParserBase {
         break;
       }
       { // Start scope for v$g$2.
-        final Pair<Node> v$g$2 = yyRepValue1.reverse();
+        final int v$g$2 = yyRepStart1;
+        final int v$g$2$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("EnumeratorList", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("EnumeratorList", v$g$1, v$g$2, v$g$2$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$2.
@@ -1927,7 +2357,7 @@ public final class CFactoryParser extends ParserBase {
         final Node v$g$1 = yyOpValue1;
 
         yyValue = GNode.create("Enumerator", id, v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyOption1, yyError);
       } // End scope for v$g$1.
@@ -2037,7 +2467,7 @@ public final class CFactoryParser extends ParserBase {
                           final Node v$g$4 = cast(yyOpValue1);
 
                           yyValue = GNode.create("StructureTypeDefinition", v$g$1, v$g$2, v$g$3, v$g$4);
-                          yyValue.setLocation(location(yyStart));
+                          locate(yyValue, yyStart);
 
                           return new SemanticValue(yyValue, yyOption1, yyError);
                         } // End scope for v$g$4.
@@ -2062,7 +2492,7 @@ public final class CFactoryParser extends ParserBase {
           final Object v$g$2 = yyResult.semanticValue();
 
           yyValue = GNode.create("StructureTypeReference", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -2090,24 +2520,94 @@ public final class CFactoryParser extends ParserBase {
     Object     yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '#':
+      yyFirst = 0x1;
+      break;
+
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x2;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Pattern>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pStringVariable(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pStringVariable(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Identifier>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pCIdentifier$Identifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pCIdentifier$Identifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -2212,7 +2712,7 @@ public final class CFactoryParser extends ParserBase {
                           final Node v$g$4 = cast(yyOpValue1);
 
                           yyValue = GNode.create("UnionTypeDefinition", v$g$1, v$g$2, v$g$3, v$g$4);
-                          yyValue.setLocation(location(yyStart));
+                          locate(yyValue, yyStart);
 
                           return new SemanticValue(yyValue, yyOption1, yyError);
                         } // End scope for v$g$4.
@@ -2237,7 +2737,7 @@ public final class CFactoryParser extends ParserBase {
           final Object v$g$2 = yyResult.semanticValue();
 
           yyValue = GNode.create("UnionTypeReference", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -2264,7 +2764,8 @@ public final class CFactoryParser extends ParserBase {
     Result     yyResult;
     int        yyRepetition1;
     boolean    yyRepeated1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -2272,7 +2773,8 @@ public final class CFactoryParser extends ParserBase {
 
     yyRepetition1 = yyStart;
     yyRepeated1   = false;
-    yyRepValue1   = Pair.empty();
+    yyRepStart1   = bufferStart();
+    yyRepEnd1   = yyRepStart1;
     while (true) {
 
       yyResult = pAnnotatedStructureDeclaration(yyRepetition1);
@@ -2282,26 +2784,29 @@ public final class CFactoryParser extends ParserBase {
 
         yyRepetition1 = yyResult.index;
         yyRepeated1   = true;
-        yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+        yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
         continue;
       }
       break;
     }
 
     if (yyRepeated1) {
-      final Pair<Node> v$g$1 = yyRepValue1.reverse();
+      final int v$g$1 = yyRepStart1;
+      final int v$g$1$end = yyRepEnd1;
 
       yyResult = pAnnotations(yyRepetition1);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
         final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("StructureDeclarationList", v$g$1.size() + 1).
-          addAll(v$g$1).add(v$g$2);
-        yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("StructureDeclarationList", (v$g$1$end - v$g$1) + 1);
+        addBuffered(yyValue, v$g$1, v$g$1$end);
+        yyValue.add(v$g$2);
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
+      releaseBuffer(v$g$1);
     }
 
     // Alternative <Empty>.
@@ -2314,7 +2819,7 @@ public final class CFactoryParser extends ParserBase {
         final Node v$g$3 = yyResult.semanticValue();
 
         yyValue = GNode.create("StructureDeclarationList", v$g$3);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -2388,94 +2893,166 @@ public final class CFactoryParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
-    // Alternative <Declaration>.
-
-    yyOption1  = yyStart;
-    yyOpValue1 = null;
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '#':
+      yyFirst = 0x6;
+      break;
 
-    yyBase   = yyOption1;
-    yyResult = pKeyword(yyBase);
-    if (yyResult.hasValue("__extension__")) {
-      final String v$el$1 = "__extension__";
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x1;
+      break;
 
-      yyOption1  = yyResult.index;
-      yyOpValue1 = v$el$1;
-    } else {
-      yyError = yyError.select("'__extension__' expected", yyBase);
+    default:
+      yyFirst = 0;
     }
-    { // Start scope for v$g$1.
-      final String v$g$1 = yyOpValue1;
 
-      yyResult = pSpecifierQualifierList(yyOption1);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$2 = yyResult.semanticValue();
+    // Alternative <Declaration>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index <= yyStart)) {
+
+      yyOption1  = yyStart;
+      yyOpValue1 = null;
+
+      yyBase   = yyOption1;
+      yyResult = pKeyword(yyBase);
+      if (yyResult.hasValue("__extension__")) {
+        final String v$el$1 = "__extension__";
+
+        yyOption1  = yyResult.index;
+        yyOpValue1 = v$el$1;
+      } else {
+        yyError = yyError.select("'__extension__' expected", yyBase);
+      }
+      { // Start scope for v$g$1.
+        final String v$g$1 = yyOpValue1;
 
-        yyResult = pOptionalStructureDeclaratorList(yyResult.index);
+        yyResult = pSpecifierQualifierList(yyOption1);
         yyError  = yyResult.select(yyError);
         if (yyResult.hasValue()) {
-          final Node v$g$3 = yyResult.semanticValue();
+          final Node v$g$2 = yyResult.semanticValue();
 
-          yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue(";")) {
+          yyResult = pOptionalStructureDeclaratorList(yyResult.index);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Node v$g$3 = yyResult.semanticValue();
 
-            yyOption1  = yyResult.index;
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue(";")) {
+
+              yyOption1  = yyResult.index;
 
-            if (GCC) {
+              if (GCC) {
 
-              yyRepetition1 = yyOption1;
-              yyRepeated1   = false;
-              while (true) {
+                yyRepetition1 = yyOption1;
+                yyRepeated1   = false;
+                while (true) {
 
-                yyBase   = yyRepetition1;
-                yyResult = pSymbol(yyBase);
-                if (yyResult.hasValue(";")) {
+                  yyBase   = yyRepetition1;
+                  yyResult = pSymbol(yyBase);
+                  if (yyResult.hasValue(";")) {
 
-                  yyRepetition1 = yyResult.index;
-                  yyRepeated1   = true;
-                  continue;
-                } else {
-                  yyError = yyError.select("';' expected", yyBase);
+                    yyRepetition1 = yyResult.index;
+                    yyRepeated1   = true;
+                    continue;
+                  } else {
+                    yyError = yyError.select("';' expected", yyBase);
+                  }
+                  break;
                 }
-                break;
-              }
 
-              if (yyRepeated1) {
+                if (yyRepeated1) {
 
-                yyOption1  = yyRepetition1;
+                  yyOption1  = yyRepetition1;
+                }
               }
-            }
 
-            yyValue = GNode.create("StructureDeclaration", v$g$1, v$g$2, v$g$3);
-            yyValue.setLocation(location(yyStart));
+              yyValue = GNode.create("StructureDeclaration", v$g$1, v$g$2, v$g$3);
+              locate(yyValue, yyStart);
 
-            return new SemanticValue(yyValue, yyOption1, yyError);
-          } else {
-            yyError = yyError.select("';' expected", yyBase);
+              return new SemanticValue(yyValue, yyOption1, yyError);
+            } else {
+              yyError = yyError.select("';' expected", yyBase);
+            }
           }
         }
-      }
-    } // End scope for v$g$1.
+      } // End scope for v$g$1.
+    }
 
     // Alternative <ListPattern>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pNodeListVariable(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pNodeListVariable(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Pattern>.
+    if ((0 != (yyFirst & 0x4)) || (yyError.index < yyStart)) {
 
-    yyResult = pNodeVariable(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pNodeVariable(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -2496,10 +3073,16 @@ public final class CFactoryParser extends ParserBase {
     throws IOException {
 
     CFactoryParserColumn yyColumn = (CFactoryParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fSpecifierQualifierList) 
-      yyColumn.chunk1.fSpecifierQualifierList = pSpecifierQualifierList$1(yyStart);
-    return yyColumn.chunk1.fSpecifierQualifierList;
+    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
+    if (null == yyColumn.chunk2.fSpecifierQualifierList) {
+      yyColumn.chunk2.fSpecifierQualifierList = 
+        pSpecifierQualifierList$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(2, yyColumn.chunk2.fSpecifierQualifierList);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(2, yyColumn.chunk2.fSpecifierQualifierList);
+    }
+    return yyColumn.chunk2.fSpecifierQualifierList;
   }
 
   /** Actually parse xtc.lang.CPattern.SpecifierQualifierList. */
@@ -2518,7 +3101,7 @@ public final class CFactoryParser extends ParserBase {
       final Pair<Node> v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.createFromPair("SpecifierQualifierList", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -2590,39 +3173,107 @@ public final class CFactoryParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
-    // Alternative <TypeSpecifier>.
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x7;
+      break;
 
-    yyResult = pTypeSpecifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+    default:
+      yyFirst = 0;
+    }
+
+    // Alternative <TypeSpecifier>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-      yyResult = pTypeSpecContext(yyResult.index);
+      yyResult = pTypeSpecifier(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-        return yyResult.createValue(yyValue, yyError);
+        yyResult = pTypeSpecContext(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative <TypeQualifier>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pTypeQualifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pTypeQualifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Attribute>.
+    if ((0 != (yyFirst & 0x4)) || (yyError.index < yyStart)) {
 
-    yyResult = pAttributeSpecifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pAttributeSpecifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -2685,7 +3336,8 @@ public final class CFactoryParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -2697,7 +3349,8 @@ public final class CFactoryParser extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyBase   = yyRepetition1;
@@ -2710,7 +3363,7 @@ public final class CFactoryParser extends ParserBase {
             final Node v$el$1 = yyResult.semanticValue();
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
         } else {
@@ -2719,10 +3372,11 @@ public final class CFactoryParser extends ParserBase {
         break;
       }
       { // Start scope for v$g$2.
-        final Pair<Node> v$g$2 = yyRepValue1.reverse();
+        final int v$g$2 = yyRepStart1;
+        final int v$g$2$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("StructureDeclaratorList", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("StructureDeclaratorList", v$g$1, v$g$2, v$g$2$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$2.
@@ -2749,78 +3403,169 @@ public final class CFactoryParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
-    // Alternative 1.
-
-    yyOption1  = yyStart;
-    yyOpValue1 = null;
-
-    yyResult = pAttributeSpecifierList(yyOption1);
-    yyError  = yyResult.select(yyError, yyOption1);
-    if (yyResult.hasValue()) {
-      final Node v$el$1 = yyResult.semanticValue();
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '#':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '[':
+    case ']':
+    case '^':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
 
-      yyOption1  = yyResult.index;
-      yyOpValue1 = v$el$1;
+    default:
+      yyFirst = 0;
     }
-    { // Start scope for v$g$1.
-      final Node v$g$1 = yyOpValue1;
 
+    // Alternative 1.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index <= yyStart)) {
+
+      yyOption1  = yyStart;
       yyOpValue1 = null;
 
-      yyResult = pDeclarator(yyOption1);
+      yyResult = pAttributeSpecifierList(yyOption1);
       yyError  = yyResult.select(yyError, yyOption1);
       if (yyResult.hasValue()) {
-        final Node v$el$2 = yyResult.semanticValue();
+        final Node v$el$1 = yyResult.semanticValue();
 
         yyOption1  = yyResult.index;
-        yyOpValue1 = v$el$2;
+        yyOpValue1 = v$el$1;
       }
-      { // Start scope for v$g$2.
-        final Node v$g$2 = yyOpValue1;
+      { // Start scope for v$g$1.
+        final Node v$g$1 = yyOpValue1;
 
-        yyBase   = yyOption1;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue(":")) {
+        yyOpValue1 = null;
 
-          yyResult = pConditionalExpression(yyResult.index);
-          yyError  = yyResult.select(yyError);
-          if (yyResult.hasValue()) {
-            final Node v$g$3 = yyResult.semanticValue();
+        yyResult = pDeclarator(yyOption1);
+        yyError  = yyResult.select(yyError, yyOption1);
+        if (yyResult.hasValue()) {
+          final Node v$el$2 = yyResult.semanticValue();
 
-            yyOption1  = yyResult.index;
-            yyOpValue1 = null;
+          yyOption1  = yyResult.index;
+          yyOpValue1 = v$el$2;
+        }
+        { // Start scope for v$g$2.
+          final Node v$g$2 = yyOpValue1;
 
-            yyResult = pAttributeSpecifierList(yyOption1);
-            yyError  = yyResult.select(yyError, yyOption1);
+          yyBase   = yyOption1;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue(":")) {
+
+            yyResult = pConditionalExpression(yyResult.index);
+            yyError  = yyResult.select(yyError);
             if (yyResult.hasValue()) {
-              final Node v$el$3 = yyResult.semanticValue();
+              final Node v$g$3 = yyResult.semanticValue();
 
               yyOption1  = yyResult.index;
-              yyOpValue1 = v$el$3;
-            }
-            { // Start scope for v$g$4.
-              final Node v$g$4 = yyOpValue1;
+              yyOpValue1 = null;
 
-              yyValue = GNode.create("BitField", v$g$1, v$g$2, v$g$3, v$g$4);
-              yyValue.setLocation(location(yyStart));
+              yyResult = pAttributeSpecifierList(yyOption1);
+              yyError  = yyResult.select(yyError, yyOption1);
+              if (yyResult.hasValue()) {
+                final Node v$el$3 = yyResult.semanticValue();
 
-              return new SemanticValue(yyValue, yyOption1, yyError);
-            } // End scope for v$g$4.
+                yyOption1  = yyResult.index;
+                yyOpValue1 = v$el$3;
+              }
+              { // Start scope for v$g$4.
+                final Node v$g$4 = yyOpValue1;
+
+                yyValue = GNode.create("BitField", v$g$1, v$g$2, v$g$3, v$g$4);
+                locate(yyValue, yyStart);
+
+                return new SemanticValue(yyValue, yyOption1, yyError);
+              } // End scope for v$g$4.
+            }
+          } else {
+            yyError = yyError.select("':' expected", yyBase);
           }
-        } else {
-          yyError = yyError.select("':' expected", yyBase);
-        }
-      } // End scope for v$g$2.
-    } // End scope for v$g$1.
+        } // End scope for v$g$2.
+      } // End scope for v$g$1.
+    }
 
     // Alternative <Simple>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pAttributedDeclarator(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pAttributedDeclarator(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -2838,10 +3583,16 @@ public final class CFactoryParser extends ParserBase {
    */
   private Result pAttributedDeclarator(final int yyStart) throws IOException {
     CFactoryParserColumn yyColumn = (CFactoryParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fAttributedDeclarator) 
-      yyColumn.chunk1.fAttributedDeclarator = pAttributedDeclarator$1(yyStart);
-    return yyColumn.chunk1.fAttributedDeclarator;
+    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
+    if (null == yyColumn.chunk2.fAttributedDeclarator) {
+      yyColumn.chunk2.fAttributedDeclarator = 
+        pAttributedDeclarator$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(3, yyColumn.chunk2.fAttributedDeclarator);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(3, yyColumn.chunk2.fAttributedDeclarator);
+    }
+    return yyColumn.chunk2.fAttributedDeclarator;
   }
 
   /** Actually parse xtc.lang.CPattern.AttributedDeclarator. */
@@ -2890,7 +3641,7 @@ public final class CFactoryParser extends ParserBase {
           final Node v$g$3 = yyOpValue1;
 
           yyValue = GNode.create("AttributedDeclarator", v$g$1, v$g$2, v$g$3);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyOption1, yyError);
         } // End scope for v$g$3.
@@ -2912,10 +3663,15 @@ public final class CFactoryParser extends ParserBase {
    */
   private Result pDeclarator(final int yyStart) throws IOException {
     CFactoryParserColumn yyColumn = (CFactoryParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fDeclarator) 
-      yyColumn.chunk1.fDeclarator = pDeclarator$1(yyStart);
-    return yyColumn.chunk1.fDeclarator;
+    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
+    if (null == yyColumn.chunk2.fDeclarator) {
+      yyColumn.chunk2.fDeclarator = pDeclarator$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(4, yyColumn.chunk2.fDeclarator);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(4, yyColumn.chunk2.fDeclarator);
+    }
+    return yyColumn.chunk2.fDeclarator;
   }
 
   /** Actually parse xtc.lang.CPattern.Declarator. */
@@ -2924,24 +3680,118 @@ public final class CFactoryParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
+
+    case '#':
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x2;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Pointer>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pPointerDeclarator(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pPointerDeclarator(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Direct>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pDirectDeclarator(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pDirectDeclarator(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -2975,7 +3825,7 @@ public final class CFactoryParser extends ParserBase {
         final Node v$g$2 = yyResult.semanticValue();
 
         yyValue = GNode.create("PointerDeclarator", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -2996,10 +3846,15 @@ public final class CFactoryParser extends ParserBase {
    */
   private Result pPointer(final int yyStart) throws IOException {
     CFactoryParserColumn yyColumn = (CFactoryParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fPointer) 
-      yyColumn.chunk1.fPointer = pPointer$1(yyStart);
-    return yyColumn.chunk1.fPointer;
+    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
+    if (null == yyColumn.chunk2.fPointer) {
+      yyColumn.chunk2.fPointer = pPointer$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(5, yyColumn.chunk2.fPointer);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(5, yyColumn.chunk2.fPointer);
+    }
+    return yyColumn.chunk2.fPointer;
   }
 
   /** Actually parse xtc.lang.CPattern.Pointer. */
@@ -3035,7 +3890,7 @@ public final class CFactoryParser extends ParserBase {
           final Node v$g$2 = yyOpValue1;
 
           yyValue = GNode.create("Pointer", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyOption1, yyError);
         } // End scope for v$g$2.
@@ -3059,14 +3914,16 @@ public final class CFactoryParser extends ParserBase {
   private Result pTypeQualifierList(final int yyStart) throws IOException {
     Result     yyResult;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
     // Alternative 1.
 
     yyRepetition1 = yyStart;
-    yyRepValue1   = Pair.empty();
+    yyRepStart1   = bufferStart();
+    yyRepEnd1   = yyRepStart1;
     while (true) {
 
       yyResult = pTypeQualifierList$$Choice1(yyRepetition1);
@@ -3075,16 +3932,17 @@ public final class CFactoryParser extends ParserBase {
         final Node v$el$1 = yyResult.semanticValue();
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+        yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
         continue;
       }
       break;
     }
     { // Start scope for v$g$1.
-      final Pair<Node> v$g$1 = yyRepValue1.reverse();
+      final int v$g$1 = yyRepStart1;
+      final int v$g$1$end = yyRepEnd1;
 
-      yyValue = GNode.createFromPair("TypeQualifierList", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      yyValue = bufferedNode("TypeQualifierList", v$g$1, v$g$1$end);
+      locate(yyValue, yyStart);
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
     } // End scope for v$g$1.
@@ -3106,24 +3964,90 @@ public final class CFactoryParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pTypeQualifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pTypeQualifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 2.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pAttributeSpecifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pAttributeSpecifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -3147,77 +4071,171 @@ public final class CFactoryParser extends ParserBase {
     Node               yyValue;
     ParseError         yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x1;
+      break;
+
+    case '#':
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x2;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <FullBase>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("(")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("(")) {
 
-      yyResult = pAttributedDeclarator(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$7 = yyResult.semanticValue();
+        yyResult = pAttributedDeclarator(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$7 = yyResult.semanticValue();
 
-        yyBase   = yyResult.index;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue(")")) {
+          yyBase   = yyResult.index;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue(")")) {
 
-          yyRepetition1 = yyResult.index;
-          yyRepValue1   = Pair.empty();
-          while (true) {
+            yyRepetition1 = yyResult.index;
+            yyRepValue1   = Pair.empty();
+            while (true) {
 
-            yyResult = pDirectDeclarator$$Tail1(yyRepetition1);
-            yyError  = yyResult.select(yyError, yyRepetition1);
-            if (yyResult.hasValue()) {
-              final Action<Node> v$8 = yyResult.semanticValue();
+              yyResult = pDirectDeclarator$$Tail1(yyRepetition1);
+              yyError  = yyResult.select(yyError, yyRepetition1);
+              if (yyResult.hasValue()) {
+                final Action<Node> v$8 = yyResult.semanticValue();
 
-              yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Action<Node>>(v$8, yyRepValue1);
-              continue;
+                yyRepetition1 = yyResult.index;
+                yyRepValue1   = new Pair<Action<Node>>(v$8, yyRepValue1);
+                continue;
+              }
+              break;
             }
-            break;
-          }
-          { // Start scope for v$9.
-            final Pair<Action<Node>> v$9 = yyRepValue1.reverse();
+            { // Start scope for v$9.
+              final Pair<Action<Node>> v$9 = yyRepValue1.reverse();
 
-            yyValue = apply(v$9, v$g$7, yyStart);
+              yyValue = apply(v$9, v$g$7, yyStart);
 
-            return new SemanticValue(yyValue, yyRepetition1, yyError);
-          } // End scope for v$9.
-        } else {
-          yyError = yyError.select("')' expected", yyBase);
+              return new SemanticValue(yyValue, yyRepetition1, yyError);
+            } // End scope for v$9.
+          } else {
+            yyError = yyError.select("')' expected", yyBase);
+          }
         }
       }
     }
 
     // Alternative <SimpleBase>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pSimpleDeclarator(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final Node v$g$10 = yyResult.semanticValue();
+      yyResult = pSimpleDeclarator(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final Node v$g$10 = yyResult.semanticValue();
 
-      yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
-      while (true) {
+        yyRepetition1 = yyResult.index;
+        yyRepValue1   = Pair.empty();
+        while (true) {
 
-        yyResult = pDirectDeclarator$$Tail1(yyRepetition1);
-        yyError  = yyResult.select(yyError, yyRepetition1);
-        if (yyResult.hasValue()) {
-          final Action<Node> v$11 = yyResult.semanticValue();
+          yyResult = pDirectDeclarator$$Tail1(yyRepetition1);
+          yyError  = yyResult.select(yyError, yyRepetition1);
+          if (yyResult.hasValue()) {
+            final Action<Node> v$11 = yyResult.semanticValue();
 
-          yyRepetition1 = yyResult.index;
-          yyRepValue1   = new Pair<Action<Node>>(v$11, yyRepValue1);
-          continue;
+            yyRepetition1 = yyResult.index;
+            yyRepValue1   = new Pair<Action<Node>>(v$11, yyRepValue1);
+            continue;
+          }
+          break;
         }
-        break;
-      }
-      { // Start scope for v$12.
-        final Pair<Action<Node>> v$12 = yyRepValue1.reverse();
+        { // Start scope for v$12.
+          final Pair<Action<Node>> v$12 = yyRepValue1.reverse();
 
-        yyValue = apply(v$12, v$g$10, yyStart);
+          yyValue = apply(v$12, v$g$10, yyStart);
 
-        return new SemanticValue(yyValue, yyRepetition1, yyError);
-      } // End scope for v$12.
+          return new SemanticValue(yyValue, yyRepetition1, yyError);
+        } // End scope for v$12.
+      }
     }
 
     // Done.
@@ -3244,144 +4262,181 @@ public final class CFactoryParser extends ParserBase {
     Action<Node> yyValue;
     ParseError   yyError = ParseError.DUMMY;
 
-    // Alternative 1.
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("(")) {
+    default:
+      yyFirst = 0;
+    }
 
-      yyResult = pPushScope(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-
-        final int yyChoice1 = yyResult.index;
+    // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-        // Nested alternative 1.
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("(")) {
 
-        yyResult = pParameterTypeList(yyChoice1);
+        yyResult = pPushScope(yyResult.index);
         yyError  = yyResult.select(yyError);
         if (yyResult.hasValue()) {
-          final Node v$g$2 = yyResult.semanticValue();
 
-          yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue(")")) {
+          final int yyChoice1 = yyResult.index;
 
-            yyResult = pParameterContext(yyResult.index);
-            yyError  = yyResult.select(yyError);
-            if (yyResult.hasValue()) {
+          // Nested alternative 1.
 
-              yyValue = new Action<Node>() {
-                public Node run(Node v$1) {
-                  return GNode.create("FunctionDeclarator", v$1, v$g$2);
-                }};
+          yyResult = pParameterTypeList(yyChoice1);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Node v$g$2 = yyResult.semanticValue();
 
-              return yyResult.createValue(yyValue, yyError);
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue(")")) {
+
+              yyResult = pParameterContext(yyResult.index);
+              yyError  = yyResult.select(yyError);
+              if (yyResult.hasValue()) {
+
+                yyValue = new Action<Node>() {
+                  public Node run(Node v$1) {
+                    return GNode.create("FunctionDeclarator", v$1, v$g$2);
+                  }};
+
+                return yyResult.createValue(yyValue, yyError);
+              }
+            } else {
+              yyError = yyError.select("')' expected", yyBase);
             }
-          } else {
-            yyError = yyError.select("')' expected", yyBase);
           }
-        }
 
-        // Nested alternative 2.
+          // Nested alternative 2.
 
-        yyOption1  = yyChoice1;
-        yyOpValue1 = null;
+          yyOption1  = yyChoice1;
+          yyOpValue1 = null;
 
-        yyResult = pIdentifierList(yyOption1);
-        yyError  = yyResult.select(yyError, yyOption1);
-        if (yyResult.hasValue()) {
-          final Node v$el$1 = yyResult.semanticValue();
+          yyResult = pIdentifierList(yyOption1);
+          yyError  = yyResult.select(yyError, yyOption1);
+          if (yyResult.hasValue()) {
+            final Node v$el$1 = yyResult.semanticValue();
 
-          yyOption1  = yyResult.index;
-          yyOpValue1 = v$el$1;
-        }
-        { // Start scope for v$g$3.
-          final Node v$g$3 = yyOpValue1;
+            yyOption1  = yyResult.index;
+            yyOpValue1 = v$el$1;
+          }
+          { // Start scope for v$g$3.
+            final Node v$g$3 = yyOpValue1;
 
-          yyBase   = yyOption1;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue(")")) {
+            yyBase   = yyOption1;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue(")")) {
 
-            yyResult = pParameterContext(yyResult.index);
-            yyError  = yyResult.select(yyError);
-            if (yyResult.hasValue()) {
+              yyResult = pParameterContext(yyResult.index);
+              yyError  = yyResult.select(yyError);
+              if (yyResult.hasValue()) {
 
-              yyValue = new Action<Node>() {
-                public Node run(Node v$1) {
-                  return GNode.create("FunctionDeclarator", v$1, v$g$3);
-                }};
+                yyValue = new Action<Node>() {
+                  public Node run(Node v$1) {
+                    return GNode.create("FunctionDeclarator", v$1, v$g$3);
+                  }};
 
-              return yyResult.createValue(yyValue, yyError);
+                return yyResult.createValue(yyValue, yyError);
+              }
+            } else {
+              yyError = yyError.select("')' expected", yyBase);
             }
-          } else {
-            yyError = yyError.select("')' expected", yyBase);
-          }
-        } // End scope for v$g$3.
+          } // End scope for v$g$3.
+        }
       }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("[")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("[")) {
 
-      yyResult = pArrayQualifierList(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$4 = yyResult.semanticValue();
+        yyResult = pArrayQualifierList(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$4 = yyResult.semanticValue();
 
-        final int yyChoice1 = yyResult.index;
+          final int yyChoice1 = yyResult.index;
 
-        // Nested alternative 1.
+          // Nested alternative 1.
 
-        yyOption1  = yyChoice1;
-        yyOpValue1 = null;
+          yyOption1  = yyChoice1;
+          yyOpValue1 = null;
 
-        yyResult = pAssignmentExpression(yyOption1);
-        yyError  = yyResult.select(yyError, yyOption1);
-        if (yyResult.hasValue()) {
-          final Node v$el$2 = yyResult.semanticValue();
+          yyResult = pAssignmentExpression(yyOption1);
+          yyError  = yyResult.select(yyError, yyOption1);
+          if (yyResult.hasValue()) {
+            final Node v$el$2 = yyResult.semanticValue();
 
-          yyOption1  = yyResult.index;
-          yyOpValue1 = v$el$2;
-        }
-        { // Start scope for v$g$5.
-          final Node v$g$5 = yyOpValue1;
+            yyOption1  = yyResult.index;
+            yyOpValue1 = v$el$2;
+          }
+          { // Start scope for v$g$5.
+            final Node v$g$5 = yyOpValue1;
 
-          yyBase   = yyOption1;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue("]")) {
+            yyBase   = yyOption1;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue("]")) {
 
-            yyValue = new Action<Node>() {
-              public Node run(Node v$1) {
-                return GNode.create("ArrayDeclarator", v$1, v$g$4, v$g$5);
-              }};
+              yyValue = new Action<Node>() {
+                public Node run(Node v$1) {
+                  return GNode.create("ArrayDeclarator", v$1, v$g$4, v$g$5);
+                }};
 
-            return yyResult.createValue(yyValue, yyError);
-          } else {
-            yyError = yyError.select("']' expected", yyBase);
-          }
-        } // End scope for v$g$5.
+              return yyResult.createValue(yyValue, yyError);
+            } else {
+              yyError = yyError.select("']' expected", yyBase);
+            }
+          } // End scope for v$g$5.
 
-        // Nested alternative 2.
+          // Nested alternative 2.
 
-        yyResult = pVariableLength(yyChoice1);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$g$6 = yyResult.semanticValue();
+          yyResult = pVariableLength(yyChoice1);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Node v$g$6 = yyResult.semanticValue();
 
-          yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue("]")) {
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue("]")) {
 
-            yyValue = new Action<Node>() {
-              public Node run(Node v$1) {
-                return GNode.create("ArrayDeclarator", v$1, v$g$4, v$g$6);
-              }};
+              yyValue = new Action<Node>() {
+                public Node run(Node v$1) {
+                  return GNode.create("ArrayDeclarator", v$1, v$g$4, v$g$6);
+                }};
 
-            return yyResult.createValue(yyValue, yyError);
-          } else {
-            yyError = yyError.select("']' expected", yyBase);
+              return yyResult.createValue(yyValue, yyError);
+            } else {
+              yyError = yyError.select("']' expected", yyBase);
+            }
           }
         }
       }
@@ -3403,10 +4458,15 @@ public final class CFactoryParser extends ParserBase {
    */
   private Result pVariableLength(final int yyStart) throws IOException {
     CFactoryParserColumn yyColumn = (CFactoryParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fVariableLength) 
-      yyColumn.chunk1.fVariableLength = pVariableLength$1(yyStart);
-    return yyColumn.chunk1.fVariableLength;
+    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
+    if (null == yyColumn.chunk4.fVariableLength) {
+      yyColumn.chunk4.fVariableLength = pVariableLength$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(6, yyColumn.chunk4.fVariableLength);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(6, yyColumn.chunk4.fVariableLength);
+    }
+    return yyColumn.chunk4.fVariableLength;
   }
 
   /** Actually parse xtc.lang.CPattern.VariableLength. */
@@ -3421,7 +4481,7 @@ public final class CFactoryParser extends ParserBase {
     if (yyResult.hasValue("*")) {
 
       yyValue = GNode.create("VariableLength", false);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -3445,32 +4505,102 @@ public final class CFactoryParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '#':
+      yyFirst = 0x1;
+      break;
+
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x2;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <PatternVariable>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pStringVariable(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final Node v$g$1 = yyResult.semanticValue();
+      yyResult = pStringVariable(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final Node v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("SimpleDeclarator", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("SimpleDeclarator", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Declarator>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pCIdentifier$Identifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final String id = yyResult.semanticValue();
+      yyResult = pCIdentifier$Identifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final String id = yyResult.semanticValue();
 
-      yyState.bind(toText(id));
+        yyState.bind(toText(id));
 
-      yyValue = GNode.create("SimpleDeclarator", id);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("SimpleDeclarator", id);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -3488,10 +4618,15 @@ public final class CFactoryParser extends ParserBase {
    */
   private Result pParameterTypeList(final int yyStart) throws IOException {
     CFactoryParserColumn yyColumn = (CFactoryParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fParameterTypeList) 
-      yyColumn.chunk1.fParameterTypeList = pParameterTypeList$1(yyStart);
-    return yyColumn.chunk1.fParameterTypeList;
+    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
+    if (null == yyColumn.chunk2.fParameterTypeList) {
+      yyColumn.chunk2.fParameterTypeList = pParameterTypeList$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(7, yyColumn.chunk2.fParameterTypeList);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(7, yyColumn.chunk2.fParameterTypeList);
+    }
+    return yyColumn.chunk2.fParameterTypeList;
   }
 
   /** Actually parse xtc.lang.CPattern.ParameterTypeList. */
@@ -3534,7 +4669,7 @@ public final class CFactoryParser extends ParserBase {
         final String v$g$2 = yyOpValue1;
 
         yyValue = GNode.create("ParameterTypeList", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyOption1, yyError);
       } // End scope for v$g$2.
@@ -3557,7 +4692,8 @@ public final class CFactoryParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -3569,7 +4705,8 @@ public final class CFactoryParser extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyBase   = yyRepetition1;
@@ -3582,7 +4719,7 @@ public final class CFactoryParser extends ParserBase {
             final Node v$el$1 = yyResult.semanticValue();
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
         } else {
@@ -3591,10 +4728,11 @@ public final class CFactoryParser extends ParserBase {
         break;
       }
       { // Start scope for v$g$2.
-        final Pair<Node> v$g$2 = yyRepValue1.reverse();
+        final int v$g$2 = yyRepStart1;
+        final int v$g$2$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("ParameterList", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("ParameterList", v$g$1, v$g$2, v$g$2$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$2.
@@ -3654,7 +4792,7 @@ public final class CFactoryParser extends ParserBase {
           final Node v$g$3 = yyOpValue1;
 
           yyValue = GNode.create("ParameterDeclaration", v$g$1, v$g$2, v$g$3);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           // Commit the state modification.
           yyState.commit();
@@ -3693,7 +4831,7 @@ public final class CFactoryParser extends ParserBase {
           final Node v$g$5 = yyOpValue1;
 
           yyValue = GNode.create("ParameterDeclaration", v$g$1, v$g$4, v$g$5);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           // Commit the state modification.
           yyState.commit();
@@ -3750,7 +4888,7 @@ public final class CFactoryParser extends ParserBase {
         final Node v$g$2 = yyResult.semanticValue();
 
         yyValue = GNode.create("AttributedAbstractDeclarator", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -3771,10 +4909,15 @@ public final class CFactoryParser extends ParserBase {
    */
   private Result pAbstractDeclarator(final int yyStart) throws IOException {
     CFactoryParserColumn yyColumn = (CFactoryParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fAbstractDeclarator) 
-      yyColumn.chunk1.fAbstractDeclarator = pAbstractDeclarator$1(yyStart);
-    return yyColumn.chunk1.fAbstractDeclarator;
+    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
+    if (null == yyColumn.chunk4.fAbstractDeclarator) {
+      yyColumn.chunk4.fAbstractDeclarator = pAbstractDeclarator$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(8, yyColumn.chunk4.fAbstractDeclarator);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(8, yyColumn.chunk4.fAbstractDeclarator);
+    }
+    return yyColumn.chunk4.fAbstractDeclarator;
   }
 
   /** Actually parse xtc.lang.CPattern.AbstractDeclarator. */
@@ -3809,7 +4952,7 @@ public final class CFactoryParser extends ParserBase {
         if ((null != p) || (null != d)) {
 
           yyValue = GNode.create("AbstractDeclarator", p, d);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -3928,102 +5071,139 @@ public final class CFactoryParser extends ParserBase {
     Action<Node> yyValue;
     ParseError   yyError = ParseError.DUMMY;
 
-    // Alternative 1.
-
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("[")) {
-      final String v$g$2 = "[";
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
 
-      final int yyChoice1 = yyResult.index;
+    default:
+      yyFirst = 0;
+    }
 
-      // Nested alternative 1.
+    // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-      yyOption1  = yyChoice1;
-      yyOpValue1 = null;
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("[")) {
+        final String v$g$2 = "[";
 
-      yyResult = pAssignmentExpression(yyOption1);
-      yyError  = yyResult.select(yyError, yyOption1);
-      if (yyResult.hasValue()) {
-        final Node v$el$1 = yyResult.semanticValue();
+        final int yyChoice1 = yyResult.index;
 
-        yyOption1  = yyResult.index;
-        yyOpValue1 = v$el$1;
-      }
-      { // Start scope for v$g$3.
-        final Node v$g$3 = yyOpValue1;
+        // Nested alternative 1.
 
-        yyBase   = yyOption1;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue("]")) {
+        yyOption1  = yyChoice1;
+        yyOpValue1 = null;
 
-          yyValue = new Action<Node>() {
-            public Node run(Node v$1) {
-              return GNode.create("DirectAbstractDeclarator", v$1, v$g$2, v$g$3);
-            }};
+        yyResult = pAssignmentExpression(yyOption1);
+        yyError  = yyResult.select(yyError, yyOption1);
+        if (yyResult.hasValue()) {
+          final Node v$el$1 = yyResult.semanticValue();
 
-          return yyResult.createValue(yyValue, yyError);
-        } else {
-          yyError = yyError.select("']' expected", yyBase);
+          yyOption1  = yyResult.index;
+          yyOpValue1 = v$el$1;
         }
-      } // End scope for v$g$3.
+        { // Start scope for v$g$3.
+          final Node v$g$3 = yyOpValue1;
 
-      // Nested alternative 2.
+          yyBase   = yyOption1;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue("]")) {
 
-      yyResult = pVariableLength(yyChoice1);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$4 = yyResult.semanticValue();
+            yyValue = new Action<Node>() {
+              public Node run(Node v$1) {
+                return GNode.create("DirectAbstractDeclarator", v$1, v$g$2, v$g$3);
+              }};
 
-        yyBase   = yyResult.index;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue("]")) {
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("']' expected", yyBase);
+          }
+        } // End scope for v$g$3.
 
-          yyValue = new Action<Node>() {
-            public Node run(Node v$1) {
-              return GNode.create("DirectAbstractDeclarator", v$1, v$g$2, v$g$4);
-            }};
+        // Nested alternative 2.
 
-          return yyResult.createValue(yyValue, yyError);
-        } else {
-          yyError = yyError.select("']' expected", yyBase);
-        }
-      }
+        yyResult = pVariableLength(yyChoice1);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$4 = yyResult.semanticValue();
+
+          yyBase   = yyResult.index;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue("]")) {
+
+            yyValue = new Action<Node>() {
+              public Node run(Node v$1) {
+                return GNode.create("DirectAbstractDeclarator", v$1, v$g$2, v$g$4);
+              }};
+
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("']' expected", yyBase);
+          }
+        }
+      }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("(")) {
-      final String v$g$5 = "(";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("(")) {
+        final String v$g$5 = "(";
 
-      yyOption1  = yyResult.index;
-      yyOpValue1 = null;
+        yyOption1  = yyResult.index;
+        yyOpValue1 = null;
 
-      yyResult = pParameterTypeList(yyOption1);
-      yyError  = yyResult.select(yyError, yyOption1);
-      if (yyResult.hasValue()) {
-        final Node v$el$2 = yyResult.semanticValue();
+        yyResult = pParameterTypeList(yyOption1);
+        yyError  = yyResult.select(yyError, yyOption1);
+        if (yyResult.hasValue()) {
+          final Node v$el$2 = yyResult.semanticValue();
 
-        yyOption1  = yyResult.index;
-        yyOpValue1 = v$el$2;
-      }
-      { // Start scope for v$g$6.
-        final Node v$g$6 = yyOpValue1;
+          yyOption1  = yyResult.index;
+          yyOpValue1 = v$el$2;
+        }
+        { // Start scope for v$g$6.
+          final Node v$g$6 = yyOpValue1;
 
-        yyBase   = yyOption1;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue(")")) {
+          yyBase   = yyOption1;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue(")")) {
 
-          yyValue = new Action<Node>() {
-            public Node run(Node v$1) {
-              return GNode.create("DirectAbstractDeclarator", v$1, v$g$5, v$g$6);
-            }};
+            yyValue = new Action<Node>() {
+              public Node run(Node v$1) {
+                return GNode.create("DirectAbstractDeclarator", v$1, v$g$5, v$g$6);
+              }};
 
-          return yyResult.createValue(yyValue, yyError);
-        } else {
-          yyError = yyError.select("')' expected", yyBase);
-        }
-      } // End scope for v$g$6.
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("')' expected", yyBase);
+          }
+        } // End scope for v$g$6.
+      }
     }
 
     // Done.
@@ -4041,12 +5221,13 @@ public final class CFactoryParser extends ParserBase {
    * @throws IOException Signals an I/O error.
    */
   private Result pIdentifierList(final int yyStart) throws IOException {
-    Result       yyResult;
-    int          yyBase;
-    int          yyRepetition1;
-    Pair<String> yyRepValue1;
-    Node         yyValue;
-    ParseError   yyError = ParseError.DUMMY;
+    Result     yyResult;
+    int        yyBase;
+    int        yyRepetition1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
+    Node       yyValue;
+    ParseError yyError = ParseError.DUMMY;
 
     // Alternative 1.
 
@@ -4058,7 +5239,8 @@ public final class CFactoryParser extends ParserBase {
       yyState.bind(toText(id1));
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyBase   = yyRepetition1;
@@ -4073,7 +5255,7 @@ public final class CFactoryParser extends ParserBase {
             yyState.bind(toText(id2));
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<String>(id2, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, id2);
             continue;
           }
         } else {
@@ -4082,10 +5264,11 @@ public final class CFactoryParser extends ParserBase {
         break;
       }
       { // Start scope for v$g$1.
-        final Pair<String> v$g$1 = yyRepValue1.reverse();
+        final int v$g$1 = yyRepStart1;
+        final int v$g$1$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("IdentifierList", id1, v$g$1);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("IdentifierList", id1, v$g$1, v$g$1$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$1.
@@ -4107,14 +5290,16 @@ public final class CFactoryParser extends ParserBase {
   private Result pArrayQualifierList(final int yyStart) throws IOException {
     Result     yyResult;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
     // Alternative 1.
 
     yyRepetition1 = yyStart;
-    yyRepValue1   = Pair.empty();
+    yyRepStart1   = bufferStart();
+    yyRepEnd1   = yyRepStart1;
     while (true) {
 
       yyResult = pArrayQualifierList$$Choice1(yyRepetition1);
@@ -4123,16 +5308,17 @@ public final class CFactoryParser extends ParserBase {
         final Node v$el$1 = yyResult.semanticValue();
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+        yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
         continue;
       }
       break;
     }
     { // Start scope for v$g$1.
-      final Pair<Node> v$g$1 = yyRepValue1.reverse();
+      final int v$g$1 = yyRepStart1;
+      final int v$g$1$end = yyRepEnd1;
 
-      yyValue = GNode.createFromPair("ArrayQualifierList", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      yyValue = bufferedNode("ArrayQualifierList", v$g$1, v$g$1$end);
+      locate(yyValue, yyStart);
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
     } // End scope for v$g$1.
@@ -4155,133 +5341,217 @@ public final class CFactoryParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x7ff;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("static")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("static")) {
 
-      yyValue = GNode.create("StaticSpecifier", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("StaticSpecifier", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("volatile")) {
-      final String v$g$1 = "volatile";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("volatile")) {
+        final String v$g$1 = "volatile";
 
-      yyValue = GNode.create("VolatileQualifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("VolatileQualifier", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__volatile")) {
-      final String v$g$2 = "__volatile";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__volatile")) {
+        final String v$g$2 = "__volatile";
 
-      yyValue = GNode.create("VolatileQualifier", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("VolatileQualifier", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 4.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__volatile__")) {
-      final String v$g$3 = "__volatile__";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__volatile__")) {
+        final String v$g$3 = "__volatile__";
 
-      yyValue = GNode.create("VolatileQualifier", v$g$3);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("VolatileQualifier", v$g$3);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 5.
+    if (0 != (yyFirst & 0x10)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("restrict")) {
-      final String v$g$1 = "restrict";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("restrict")) {
+        final String v$g$1 = "restrict";
 
-      yyValue = GNode.create("RestrictQualifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("RestrictQualifier", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 6.
+    if (0 != (yyFirst & 0x20)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__restrict")) {
-      final String v$g$2 = "__restrict";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__restrict")) {
+        final String v$g$2 = "__restrict";
 
-      yyValue = GNode.create("RestrictQualifier", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("RestrictQualifier", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 7.
+    if (0 != (yyFirst & 0x40)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__restrict__")) {
-      final String v$g$3 = "__restrict__";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__restrict__")) {
+        final String v$g$3 = "__restrict__";
 
-      yyValue = GNode.create("RestrictQualifier", v$g$3);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("RestrictQualifier", v$g$3);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 8.
+    if (0 != (yyFirst & 0x80)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("const")) {
-      final String v$g$1 = "const";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("const")) {
+        final String v$g$1 = "const";
 
-      yyValue = GNode.create("ConstantQualifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("ConstantQualifier", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 9.
+    if (0 != (yyFirst & 0x100)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__const")) {
-      final String v$g$2 = "__const";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__const")) {
+        final String v$g$2 = "__const";
 
-      yyValue = GNode.create("ConstantQualifier", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("ConstantQualifier", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 10.
+    if (0 != (yyFirst & 0x200)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__const__")) {
-      final String v$g$3 = "__const__";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__const__")) {
+        final String v$g$3 = "__const__";
 
-      yyValue = GNode.create("ConstantQualifier", v$g$3);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("ConstantQualifier", v$g$3);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 11.
+    if ((0 != (yyFirst & 0x400)) || (yyError.index < yyStart)) {
 
-    yyResult = pAttributeSpecifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pAttributeSpecifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -4305,50 +5575,120 @@ public final class CFactoryParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0xf;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("_Complex")) {
-      final String v$g$1 = "_Complex";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("_Complex")) {
+        final String v$g$1 = "_Complex";
 
-      yyValue = GNode.create("Complex", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("Complex", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__complex__")) {
-      final String v$g$2 = "__complex__";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__complex__")) {
+        final String v$g$2 = "__complex__";
 
-      yyValue = GNode.create("Complex", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("Complex", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("double")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("double")) {
 
-      yyValue = GNode.create("Double", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("Double", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 4.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("float")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("float")) {
 
-      yyValue = GNode.create("Float", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("Float", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -4370,106 +5710,186 @@ public final class CFactoryParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x1ff;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("long")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("long")) {
 
-      yyValue = GNode.create("Long", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("Long", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("int")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("int")) {
 
-      yyValue = GNode.create("Int", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("Int", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("short")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("short")) {
 
-      yyValue = GNode.create("Short", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("Short", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 4.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("char")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("char")) {
 
-      yyValue = GNode.create("Char", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("Char", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 5.
+    if (0 != (yyFirst & 0x10)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("_Bool")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("_Bool")) {
 
-      yyValue = GNode.create("Bool", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("Bool", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 6.
+    if (0 != (yyFirst & 0x20)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("unsigned")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("unsigned")) {
 
-      yyValue = GNode.create("Unsigned", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("Unsigned", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 7.
+    if (0 != (yyFirst & 0x40)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("signed")) {
-      final String v$g$1 = "signed";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("signed")) {
+        final String v$g$1 = "signed";
 
-      yyValue = GNode.create("Signed", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("Signed", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 8.
+    if (0 != (yyFirst & 0x80)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__signed")) {
-      final String v$g$2 = "__signed";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__signed")) {
+        final String v$g$2 = "__signed";
 
-      yyValue = GNode.create("Signed", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("Signed", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 9.
+    if (0 != (yyFirst & 0x100)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__signed__")) {
-      final String v$g$3 = "__signed__";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__signed__")) {
+        final String v$g$3 = "__signed__";
 
-      yyValue = GNode.create("Signed", v$g$3);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("Signed", v$g$3);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -4491,34 +5911,102 @@ public final class CFactoryParser extends ParserBase {
     Void       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x7;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("typeof")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("typeof")) {
 
-      yyValue = null;
+        yyValue = null;
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__typeof")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__typeof")) {
 
-      yyValue = null;
+        yyValue = null;
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__typeof__")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__typeof__")) {
 
-      yyValue = null;
+        yyValue = null;
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -4602,7 +6090,8 @@ public final class CFactoryParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -4614,7 +6103,8 @@ public final class CFactoryParser extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyBase   = yyRepetition1;
@@ -4627,7 +6117,7 @@ public final class CFactoryParser extends ParserBase {
             final Node v$el$1 = yyResult.semanticValue();
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
         } else {
@@ -4636,10 +6126,11 @@ public final class CFactoryParser extends ParserBase {
         break;
       }
       { // Start scope for v$g$2.
-        final Pair<Node> v$g$2 = yyRepValue1.reverse();
+        final int v$g$2 = yyRepStart1;
+        final int v$g$2$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("InitializerList", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("InitializerList", v$g$1, v$g$2, v$g$2$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$2.
@@ -4650,7 +6141,7 @@ public final class CFactoryParser extends ParserBase {
     if (GCC) {
 
       yyValue = GNode.create("InitializerList", false);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return new SemanticValue(yyValue, yyStart, yyError);
     }
@@ -4698,7 +6189,7 @@ public final class CFactoryParser extends ParserBase {
         final Node v$g$2 = yyResult.semanticValue();
 
         yyValue = GNode.create("InitializerListEntry", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -4722,7 +6213,8 @@ public final class CFactoryParser extends ParserBase {
     int        yyBase;
     int        yyRepetition1;
     boolean    yyRepeated1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -4730,7 +6222,8 @@ public final class CFactoryParser extends ParserBase {
 
     yyRepetition1 = yyStart;
     yyRepeated1   = false;
-    yyRepValue1   = Pair.empty();
+    yyRepStart1   = bufferStart();
+    yyRepEnd1   = yyRepStart1;
     while (true) {
 
       yyResult = pDesignator(yyRepetition1);
@@ -4740,26 +6233,28 @@ public final class CFactoryParser extends ParserBase {
 
         yyRepetition1 = yyResult.index;
         yyRepeated1   = true;
-        yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+        yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
         continue;
       }
       break;
     }
 
     if (yyRepeated1) {
-      final Pair<Node> v$g$1 = yyRepValue1.reverse();
+      final int v$g$1 = yyRepStart1;
+      final int v$g$1$end = yyRepEnd1;
 
       yyBase   = yyRepetition1;
       yyResult = pSymbol(yyBase);
       if (yyResult.hasValue("=")) {
 
-        yyValue = GNode.createFromPair("Designation", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("Designation", v$g$1, v$g$1$end);
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       } else {
         yyError = yyError.select("'=' expected", yyBase);
       }
+      releaseBuffer(v$g$1);
     }
 
     // Alternative 2.
@@ -4809,27 +6304,62 @@ public final class CFactoryParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
-    // Alternative <Array>.
-
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("[")) {
-      final String v$g$1 = "[";
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
 
-      yyResult = pConditionalExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$2 = yyResult.semanticValue();
+    default:
+      yyFirst = 0;
+    }
 
-        yyBase   = yyResult.index;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue("]")) {
+    // Alternative <Array>.
+    if (0 != (yyFirst & 0x1)) {
 
-          yyValue = GNode.create("Designator", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("[")) {
+        final String v$g$1 = "[";
 
-          return yyResult.createValue(yyValue, yyError);
-        } else {
-          yyError = yyError.select("']' expected", yyBase);
+        yyResult = pConditionalExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$2 = yyResult.semanticValue();
+
+          yyBase   = yyResult.index;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue("]")) {
+
+            yyValue = GNode.create("Designator", v$g$1, v$g$2);
+            locate(yyValue, yyStart);
+
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("']' expected", yyBase);
+          }
         }
       }
     }
@@ -4861,7 +6391,7 @@ public final class CFactoryParser extends ParserBase {
               if (yyResult.hasValue("]")) {
 
                 yyValue = GNode.create("Designator", v$g$3, v$g$4, v$g$5);
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return yyResult.createValue(yyValue, yyError);
               } else {
@@ -4876,20 +6406,22 @@ public final class CFactoryParser extends ParserBase {
     }
 
     // Alternative <Structure>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(".")) {
-      final String v$g$6 = ".";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(".")) {
+        final String v$g$6 = ".";
 
-      yyResult = pPrimaryIdentifier(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$7 = yyResult.semanticValue();
+        yyResult = pPrimaryIdentifier(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$7 = yyResult.semanticValue();
 
-        yyValue = GNode.create("Designator", v$g$6, v$g$7);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("Designator", v$g$6, v$g$7);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
@@ -4935,7 +6467,7 @@ public final class CFactoryParser extends ParserBase {
         if (yyResult.hasValue("]")) {
 
           yyValue = GNode.create("ObsoleteArrayDesignation", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
@@ -4958,7 +6490,7 @@ public final class CFactoryParser extends ParserBase {
             if (yyResult.hasValue("]")) {
 
               yyValue = GNode.create("ObsoleteArrayDesignation", v$g$1, v$g$2, v$g$3);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             } else {
@@ -5005,7 +6537,7 @@ public final class CFactoryParser extends ParserBase {
       if (yyResult.hasValue(":")) {
 
         yyValue = GNode.create("ObsoleteFieldDesignation", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       } else {
@@ -5028,10 +6560,15 @@ public final class CFactoryParser extends ParserBase {
    */
   private Result pTypeName(final int yyStart) throws IOException {
     CFactoryParserColumn yyColumn = (CFactoryParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fTypeName) 
-      yyColumn.chunk1.fTypeName = pTypeName$1(yyStart);
-    return yyColumn.chunk1.fTypeName;
+    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
+    if (null == yyColumn.chunk2.fTypeName) {
+      yyColumn.chunk2.fTypeName = pTypeName$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(9, yyColumn.chunk2.fTypeName);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(9, yyColumn.chunk2.fTypeName);
+    }
+    return yyColumn.chunk2.fTypeName;
   }
 
   /** Actually parse xtc.lang.CPattern.TypeName. */
@@ -5067,7 +6604,7 @@ public final class CFactoryParser extends ParserBase {
         final Node v$g$2 = yyOpValue1;
 
         yyValue = GNode.create("TypeName", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         // Commit the state modification.
         yyState.commit();
@@ -5097,8 +6634,14 @@ public final class CFactoryParser extends ParserBase {
 
     CFactoryParserColumn yyColumn = (CFactoryParserColumn)column(yyStart);
     if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fAttributeSpecifierList) 
-      yyColumn.chunk2.fAttributeSpecifierList = pAttributeSpecifierList$1(yyStart);
+    if (null == yyColumn.chunk2.fAttributeSpecifierList) {
+      yyColumn.chunk2.fAttributeSpecifierList = 
+        pAttributeSpecifierList$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(10, yyColumn.chunk2.fAttributeSpecifierList);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(10, yyColumn.chunk2.fAttributeSpecifierList);
+    }
     return yyColumn.chunk2.fAttributeSpecifierList;
   }
 
@@ -5118,7 +6661,7 @@ public final class CFactoryParser extends ParserBase {
       final Pair<Node> v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.createFromPair("AttributeSpecifierList", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -5188,8 +6731,13 @@ public final class CFactoryParser extends ParserBase {
   private Result pAttributeSpecifier(final int yyStart) throws IOException {
     CFactoryParserColumn yyColumn = (CFactoryParserColumn)column(yyStart);
     if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fAttributeSpecifier) 
+    if (null == yyColumn.chunk2.fAttributeSpecifier) {
       yyColumn.chunk2.fAttributeSpecifier = pAttributeSpecifier$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(11, yyColumn.chunk2.fAttributeSpecifier);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(11, yyColumn.chunk2.fAttributeSpecifier);
+    }
     return yyColumn.chunk2.fAttributeSpecifier;
   }
 
@@ -5239,7 +6787,7 @@ public final class CFactoryParser extends ParserBase {
               if (yyResult.hasValue(")")) {
 
                 yyValue = GNode.create("AttributeSpecifier", v$g$1);
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return yyResult.createValue(yyValue, yyError);
               } else {
@@ -5275,24 +6823,90 @@ public final class CFactoryParser extends ParserBase {
     Void       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__attribute")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__attribute")) {
 
-      yyValue = null;
+        yyValue = null;
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__attribute__")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__attribute__")) {
 
-      yyValue = null;
+        yyValue = null;
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -5313,7 +6927,8 @@ public final class CFactoryParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -5325,7 +6940,8 @@ public final class CFactoryParser extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyBase   = yyRepetition1;
@@ -5338,7 +6954,7 @@ public final class CFactoryParser extends ParserBase {
             final Node v$el$1 = yyResult.semanticValue();
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
         } else {
@@ -5347,10 +6963,11 @@ public final class CFactoryParser extends ParserBase {
         break;
       }
       { // Start scope for v$g$2.
-        final Pair<Node> v$g$2 = yyRepValue1.reverse();
+        final int v$g$2 = yyRepStart1;
+        final int v$g$2$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("AttributeList", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("AttributeList", v$g$1, v$g$2, v$g$2$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$2.
@@ -5424,7 +7041,7 @@ public final class CFactoryParser extends ParserBase {
         final Node v$g$2 = yyOpValue1;
 
         yyValue = GNode.create("AttributeListEntry", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyOption1, yyError);
       } // End scope for v$g$2.
@@ -5445,10 +7062,15 @@ public final class CFactoryParser extends ParserBase {
    */
   private Result pStatement(final int yyStart) throws IOException {
     CFactoryParserColumn yyColumn = (CFactoryParserColumn)column(yyStart);
-    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fStatement) 
-      yyColumn.chunk2.fStatement = pStatement$1(yyStart);
-    return yyColumn.chunk2.fStatement;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fStatement) {
+      yyColumn.chunk3.fStatement = pStatement$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(12, yyColumn.chunk3.fStatement);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(12, yyColumn.chunk3.fStatement);
+    }
+    return yyColumn.chunk3.fStatement;
   }
 
   /** Actually parse xtc.lang.CPattern.Statement. */
@@ -5460,6 +7082,95 @@ public final class CFactoryParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x801;
+      break;
+
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x7fe;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
 
     yyResult = pCommaExpression(yyStart);
@@ -5472,7 +7183,7 @@ public final class CFactoryParser extends ParserBase {
       if (yyResult.hasValue(";")) {
 
         yyValue = GNode.create("ExpressionStatement", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       } else {
@@ -5481,282 +7192,294 @@ public final class CFactoryParser extends ParserBase {
     }
 
     // Alternative <Compound>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pCompoundStatement(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pCompoundStatement(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("if")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("if")) {
 
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue("(")) {
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue("(")) {
 
-        yyResult = pCommaExpression(yyResult.index);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$g$1 = yyResult.semanticValue();
+          yyResult = pCommaExpression(yyResult.index);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Node v$g$1 = yyResult.semanticValue();
 
-          yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue(")")) {
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue(")")) {
 
-            yyResult = pStatement(yyResult.index);
-            yyError  = yyResult.select(yyError);
-            if (yyResult.hasValue()) {
-              final Node v$g$2 = yyResult.semanticValue();
+              yyResult = pStatement(yyResult.index);
+              yyError  = yyResult.select(yyError);
+              if (yyResult.hasValue()) {
+                final Node v$g$2 = yyResult.semanticValue();
 
-              final int yyChoice1 = yyResult.index;
+                final int yyChoice1 = yyResult.index;
 
-              // Nested alternative 1.
+                // Nested alternative 1.
 
-              yyBase   = yyChoice1;
-              yyResult = pKeyword(yyBase);
-              if (yyResult.hasValue("else")) {
+                yyBase   = yyChoice1;
+                yyResult = pKeyword(yyBase);
+                if (yyResult.hasValue("else")) {
 
-                yyResult = pStatement(yyResult.index);
-                yyError  = yyResult.select(yyError);
-                if (yyResult.hasValue()) {
-                  final Node v$g$3 = yyResult.semanticValue();
+                  yyResult = pStatement(yyResult.index);
+                  yyError  = yyResult.select(yyError);
+                  if (yyResult.hasValue()) {
+                    final Node v$g$3 = yyResult.semanticValue();
 
-                  yyValue = GNode.create("IfElseStatement", v$g$1, v$g$2, v$g$3);
-                  yyValue.setLocation(location(yyStart));
+                    yyValue = GNode.create("IfElseStatement", v$g$1, v$g$2, v$g$3);
+                    locate(yyValue, yyStart);
 
-                  return yyResult.createValue(yyValue, yyError);
+                    return yyResult.createValue(yyValue, yyError);
+                  }
+                } else {
+                  yyError = yyError.select("'else' expected", yyBase);
                 }
-              } else {
-                yyError = yyError.select("'else' expected", yyBase);
-              }
 
-              // Nested alternative 2.
+                // Nested alternative 2.
 
-              yyValue = GNode.create("IfStatement", v$g$1, v$g$2);
-              yyValue.setLocation(location(yyStart));
+                yyValue = GNode.create("IfStatement", v$g$1, v$g$2);
+                locate(yyValue, yyStart);
 
-              return new SemanticValue(yyValue, yyChoice1, yyError);
+                return new SemanticValue(yyValue, yyChoice1, yyError);
+              }
+            } else {
+              yyError = yyError.select("')' expected", yyBase);
             }
-          } else {
-            yyError = yyError.select("')' expected", yyBase);
           }
+        } else {
+          yyError = yyError.select("'(' expected", yyBase);
         }
-      } else {
-        yyError = yyError.select("'(' expected", yyBase);
       }
     }
 
     // Alternative 4.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("while")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("while")) {
 
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue("(")) {
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue("(")) {
 
-        yyResult = pCommaExpression(yyResult.index);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$g$1 = yyResult.semanticValue();
+          yyResult = pCommaExpression(yyResult.index);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Node v$g$1 = yyResult.semanticValue();
 
-          yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue(")")) {
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue(")")) {
 
-            yyResult = pStatement(yyResult.index);
-            yyError  = yyResult.select(yyError);
-            if (yyResult.hasValue()) {
-              final Node v$g$2 = yyResult.semanticValue();
+              yyResult = pStatement(yyResult.index);
+              yyError  = yyResult.select(yyError);
+              if (yyResult.hasValue()) {
+                final Node v$g$2 = yyResult.semanticValue();
 
-              yyValue = GNode.create("WhileStatement", v$g$1, v$g$2);
-              yyValue.setLocation(location(yyStart));
+                yyValue = GNode.create("WhileStatement", v$g$1, v$g$2);
+                locate(yyValue, yyStart);
 
-              return yyResult.createValue(yyValue, yyError);
+                return yyResult.createValue(yyValue, yyError);
+              }
+            } else {
+              yyError = yyError.select("')' expected", yyBase);
             }
-          } else {
-            yyError = yyError.select("')' expected", yyBase);
           }
+        } else {
+          yyError = yyError.select("'(' expected", yyBase);
         }
-      } else {
-        yyError = yyError.select("'(' expected", yyBase);
       }
     }
 
     // Alternative 5.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("do")) {
-
-      yyResult = pStatement(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("do")) {
 
-        yyBase   = yyResult.index;
-        yyResult = pKeyword(yyBase);
-        if (yyResult.hasValue("while")) {
+        yyResult = pStatement(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$1 = yyResult.semanticValue();
 
           yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue("(")) {
+          yyResult = pKeyword(yyBase);
+          if (yyResult.hasValue("while")) {
 
-            yyResult = pCommaExpression(yyResult.index);
-            yyError  = yyResult.select(yyError);
-            if (yyResult.hasValue()) {
-              final Node v$g$2 = yyResult.semanticValue();
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue("(")) {
 
-              yyBase   = yyResult.index;
-              yyResult = pSymbol(yyBase);
-              if (yyResult.hasValue(")")) {
+              yyResult = pCommaExpression(yyResult.index);
+              yyError  = yyResult.select(yyError);
+              if (yyResult.hasValue()) {
+                final Node v$g$2 = yyResult.semanticValue();
 
                 yyBase   = yyResult.index;
                 yyResult = pSymbol(yyBase);
-                if (yyResult.hasValue(";")) {
+                if (yyResult.hasValue(")")) {
+
+                  yyBase   = yyResult.index;
+                  yyResult = pSymbol(yyBase);
+                  if (yyResult.hasValue(";")) {
 
-                  yyValue = GNode.create("DoStatement", v$g$1, v$g$2);
-                  yyValue.setLocation(location(yyStart));
+                    yyValue = GNode.create("DoStatement", v$g$1, v$g$2);
+                    locate(yyValue, yyStart);
 
-                  return yyResult.createValue(yyValue, yyError);
+                    return yyResult.createValue(yyValue, yyError);
+                  } else {
+                    yyError = yyError.select("';' expected", yyBase);
+                  }
                 } else {
-                  yyError = yyError.select("';' expected", yyBase);
+                  yyError = yyError.select("')' expected", yyBase);
                 }
-              } else {
-                yyError = yyError.select("')' expected", yyBase);
               }
+            } else {
+              yyError = yyError.select("'(' expected", yyBase);
             }
           } else {
-            yyError = yyError.select("'(' expected", yyBase);
+            yyError = yyError.select("'while' expected", yyBase);
           }
-        } else {
-          yyError = yyError.select("'while' expected", yyBase);
         }
       }
     }
 
     // Alternative 6.
+    if (0 != (yyFirst & 0x10)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("for")) {
-
-      yyResult = pPushScope(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-
-        yyBase   = yyResult.index;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue("(")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("for")) {
 
-          yyResult = pInitialClause(yyResult.index);
-          yyError  = yyResult.select(yyError);
-          if (yyResult.hasValue()) {
-            final Node v$g$1 = yyResult.semanticValue();
+        yyResult = pPushScope(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
 
-            yyOption1  = yyResult.index;
-            yyOpValue1 = null;
+          yyBase   = yyResult.index;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue("(")) {
 
-            yyResult = pCommaExpression(yyOption1);
-            yyError  = yyResult.select(yyError, yyOption1);
+            yyResult = pInitialClause(yyResult.index);
+            yyError  = yyResult.select(yyError);
             if (yyResult.hasValue()) {
-              final Node v$el$1 = yyResult.semanticValue();
+              final Node v$g$1 = yyResult.semanticValue();
 
               yyOption1  = yyResult.index;
-              yyOpValue1 = v$el$1;
-            }
-            { // Start scope for v$g$2.
-              final Node v$g$2 = yyOpValue1;
+              yyOpValue1 = null;
 
-              yyBase   = yyOption1;
-              yyResult = pSymbol(yyBase);
-              if (yyResult.hasValue(";")) {
+              yyResult = pCommaExpression(yyOption1);
+              yyError  = yyResult.select(yyError, yyOption1);
+              if (yyResult.hasValue()) {
+                final Node v$el$1 = yyResult.semanticValue();
 
                 yyOption1  = yyResult.index;
-                yyOpValue1 = null;
+                yyOpValue1 = v$el$1;
+              }
+              { // Start scope for v$g$2.
+                final Node v$g$2 = yyOpValue1;
 
-                yyResult = pCommaExpression(yyOption1);
-                yyError  = yyResult.select(yyError, yyOption1);
-                if (yyResult.hasValue()) {
-                  final Node v$el$2 = yyResult.semanticValue();
+                yyBase   = yyOption1;
+                yyResult = pSymbol(yyBase);
+                if (yyResult.hasValue(";")) {
 
                   yyOption1  = yyResult.index;
-                  yyOpValue1 = v$el$2;
-                }
-                { // Start scope for v$g$3.
-                  final Node v$g$3 = yyOpValue1;
+                  yyOpValue1 = null;
 
-                  yyBase   = yyOption1;
-                  yyResult = pSymbol(yyBase);
-                  if (yyResult.hasValue(")")) {
+                  yyResult = pCommaExpression(yyOption1);
+                  yyError  = yyResult.select(yyError, yyOption1);
+                  if (yyResult.hasValue()) {
+                    final Node v$el$2 = yyResult.semanticValue();
 
-                    yyResult = pStatement(yyResult.index);
-                    yyError  = yyResult.select(yyError);
-                    if (yyResult.hasValue()) {
-                      final Node v$g$4 = yyResult.semanticValue();
+                    yyOption1  = yyResult.index;
+                    yyOpValue1 = v$el$2;
+                  }
+                  { // Start scope for v$g$3.
+                    final Node v$g$3 = yyOpValue1;
 
-                      yyResult = pPopScope(yyResult.index);
+                    yyBase   = yyOption1;
+                    yyResult = pSymbol(yyBase);
+                    if (yyResult.hasValue(")")) {
+
+                      yyResult = pStatement(yyResult.index);
                       yyError  = yyResult.select(yyError);
                       if (yyResult.hasValue()) {
+                        final Node v$g$4 = yyResult.semanticValue();
+
+                        yyResult = pPopScope(yyResult.index);
+                        yyError  = yyResult.select(yyError);
+                        if (yyResult.hasValue()) {
 
-                        yyValue = GNode.create("ForStatement", v$g$1, v$g$2, v$g$3, v$g$4);
-                        yyValue.setLocation(location(yyStart));
+                          yyValue = GNode.create("ForStatement", v$g$1, v$g$2, v$g$3, v$g$4);
+                          locate(yyValue, yyStart);
 
-                        return yyResult.createValue(yyValue, yyError);
+                          return yyResult.createValue(yyValue, yyError);
+                        }
                       }
+                    } else {
+                      yyError = yyError.select("')' expected", yyBase);
                     }
-                  } else {
-                    yyError = yyError.select("')' expected", yyBase);
-                  }
-                } // End scope for v$g$3.
-              } else {
-                yyError = yyError.select("';' expected", yyBase);
-              }
-            } // End scope for v$g$2.
+                  } // End scope for v$g$3.
+                } else {
+                  yyError = yyError.select("';' expected", yyBase);
+                }
+              } // End scope for v$g$2.
+            }
+          } else {
+            yyError = yyError.select("'(' expected", yyBase);
           }
-        } else {
-          yyError = yyError.select("'(' expected", yyBase);
         }
       }
     }
 
     // Alternative 7.
+    if (0 != (yyFirst & 0x20)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("switch")) {
-
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue("(")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("switch")) {
 
-        yyResult = pCommaExpression(yyResult.index);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$g$1 = yyResult.semanticValue();
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue("(")) {
 
-          yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue(")")) {
+          yyResult = pCommaExpression(yyResult.index);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Node v$g$1 = yyResult.semanticValue();
 
-            yyResult = pStatement(yyResult.index);
-            yyError  = yyResult.select(yyError);
-            if (yyResult.hasValue()) {
-              final Node v$g$2 = yyResult.semanticValue();
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue(")")) {
 
-              yyValue = GNode.create("SwitchStatement", v$g$1, v$g$2);
-              yyValue.setLocation(location(yyStart));
+              yyResult = pStatement(yyResult.index);
+              yyError  = yyResult.select(yyError);
+              if (yyResult.hasValue()) {
+                final Node v$g$2 = yyResult.semanticValue();
 
-              return yyResult.createValue(yyValue, yyError);
+                yyValue = GNode.create("SwitchStatement", v$g$1, v$g$2);
+                locate(yyValue, yyStart);
+
+                return yyResult.createValue(yyValue, yyError);
+              }
+            } else {
+              yyError = yyError.select("')' expected", yyBase);
             }
-          } else {
-            yyError = yyError.select("')' expected", yyBase);
           }
+        } else {
+          yyError = yyError.select("'(' expected", yyBase);
         }
-      } else {
-        yyError = yyError.select("'(' expected", yyBase);
       }
     }
 
@@ -5773,7 +7496,7 @@ public final class CFactoryParser extends ParserBase {
         final Node v$g$2 = yyResult.semanticValue();
 
         yyValue = GNode.create("LabeledStatement", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -5789,125 +7512,133 @@ public final class CFactoryParser extends ParserBase {
         final Node v$g$3 = yyResult.semanticValue();
 
         yyValue = GNode.create("LabeledStatement", v$g$3, null);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
     }
 
     // Alternative 10.
+    if (0 != (yyFirst & 0x40)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("break")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("break")) {
 
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue(";")) {
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue(";")) {
 
-        yyValue = GNode.create("BreakStatement", false);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("BreakStatement", false);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
-      } else {
-        yyError = yyError.select("';' expected", yyBase);
+          return yyResult.createValue(yyValue, yyError);
+        } else {
+          yyError = yyError.select("';' expected", yyBase);
+        }
       }
     }
 
     // Alternative 11.
+    if (0 != (yyFirst & 0x80)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("continue")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("continue")) {
 
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue(";")) {
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue(";")) {
 
-        yyValue = GNode.create("ContinueStatement", false);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("ContinueStatement", false);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
-      } else {
-        yyError = yyError.select("';' expected", yyBase);
+          return yyResult.createValue(yyValue, yyError);
+        } else {
+          yyError = yyError.select("';' expected", yyBase);
+        }
       }
     }
 
     // Alternative 12.
+    if (0 != (yyFirst & 0x100)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("return")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("return")) {
 
-      yyOption1  = yyResult.index;
-      yyOpValue1 = null;
+        yyOption1  = yyResult.index;
+        yyOpValue1 = null;
 
-      yyResult = pCommaExpression(yyOption1);
-      yyError  = yyResult.select(yyError, yyOption1);
-      if (yyResult.hasValue()) {
-        final Node v$el$1 = yyResult.semanticValue();
+        yyResult = pCommaExpression(yyOption1);
+        yyError  = yyResult.select(yyError, yyOption1);
+        if (yyResult.hasValue()) {
+          final Node v$el$1 = yyResult.semanticValue();
 
-        yyOption1  = yyResult.index;
-        yyOpValue1 = v$el$1;
-      }
-      { // Start scope for v$g$1.
-        final Node v$g$1 = yyOpValue1;
+          yyOption1  = yyResult.index;
+          yyOpValue1 = v$el$1;
+        }
+        { // Start scope for v$g$1.
+          final Node v$g$1 = yyOpValue1;
 
-        yyBase   = yyOption1;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue(";")) {
+          yyBase   = yyOption1;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue(";")) {
 
-          yyValue = GNode.create("ReturnStatement", v$g$1);
-          yyValue.setLocation(location(yyStart));
+            yyValue = GNode.create("ReturnStatement", v$g$1);
+            locate(yyValue, yyStart);
 
-          return yyResult.createValue(yyValue, yyError);
-        } else {
-          yyError = yyError.select("';' expected", yyBase);
-        }
-      } // End scope for v$g$1.
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("';' expected", yyBase);
+          }
+        } // End scope for v$g$1.
+      }
     }
 
     // Alternative 13.
+    if (0 != (yyFirst & 0x200)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("goto")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("goto")) {
 
-      final int yyChoice1 = yyResult.index;
+        final int yyChoice1 = yyResult.index;
 
-      // Nested alternative 1.
+        // Nested alternative 1.
 
-      yyResult = pGotoLabel(yyChoice1);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$2 = yyResult.semanticValue();
+        yyResult = pGotoLabel(yyChoice1);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$2 = yyResult.semanticValue();
 
-        yyBase   = yyResult.index;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue(";")) {
+          yyBase   = yyResult.index;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue(";")) {
 
-          yyValue = GNode.create("GotoStatement", null, v$g$2);
-          yyValue.setLocation(location(yyStart));
+            yyValue = GNode.create("GotoStatement", null, v$g$2);
+            locate(yyValue, yyStart);
 
-          return yyResult.createValue(yyValue, yyError);
-        } else {
-          yyError = yyError.select("';' expected", yyBase);
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("';' expected", yyBase);
+          }
         }
-      }
 
-      // Nested alternative 2.
+        // Nested alternative 2.
 
-      yyResult = pPrimaryIdentifier(yyChoice1);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$3 = yyResult.semanticValue();
+        yyResult = pPrimaryIdentifier(yyChoice1);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$3 = yyResult.semanticValue();
 
-        yyBase   = yyResult.index;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue(";")) {
+          yyBase   = yyResult.index;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue(";")) {
 
-          yyValue = GNode.create("GotoStatement", null, v$g$3);
-          yyValue.setLocation(location(yyStart));
+            yyValue = GNode.create("GotoStatement", null, v$g$3);
+            locate(yyValue, yyStart);
 
-          return yyResult.createValue(yyValue, yyError);
-        } else {
-          yyError = yyError.select("';' expected", yyBase);
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("';' expected", yyBase);
+          }
         }
       }
     }
@@ -5934,7 +7665,7 @@ public final class CFactoryParser extends ParserBase {
             if (yyResult.hasValue(";")) {
 
               yyValue = GNode.create("GotoStatement", v$g$4, v$g$5);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             } else {
@@ -5948,69 +7679,73 @@ public final class CFactoryParser extends ParserBase {
     }
 
     // Alternative 15.
+    if ((0 != (yyFirst & 0x400)) || (yyError.index < yyStart)) {
 
-    yyResult = pAsmKeyword(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-
-      yyOption1  = yyResult.index;
-      yyOpValue1 = null;
-
-      yyResult = pTypeQualifier(yyOption1);
-      yyError  = yyResult.select(yyError, yyOption1);
+      yyResult = pAsmKeyword(yyStart);
+      yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
-        final Node v$el$1 = yyResult.semanticValue();
 
         yyOption1  = yyResult.index;
-        yyOpValue1 = v$el$1;
-      }
-      { // Start scope for v$g$1.
-        final Node v$g$1 = yyOpValue1;
+        yyOpValue1 = null;
 
-        yyBase   = yyOption1;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue("(")) {
+        yyResult = pTypeQualifier(yyOption1);
+        yyError  = yyResult.select(yyError, yyOption1);
+        if (yyResult.hasValue()) {
+          final Node v$el$1 = yyResult.semanticValue();
 
-          yyResult = pAssemblyArgument(yyResult.index);
-          yyError  = yyResult.select(yyError);
-          if (yyResult.hasValue()) {
-            final Node v$g$2 = yyResult.semanticValue();
+          yyOption1  = yyResult.index;
+          yyOpValue1 = v$el$1;
+        }
+        { // Start scope for v$g$1.
+          final Node v$g$1 = yyOpValue1;
 
-            yyBase   = yyResult.index;
-            yyResult = pSymbol(yyBase);
-            if (yyResult.hasValue(")")) {
+          yyBase   = yyOption1;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue("(")) {
+
+            yyResult = pAssemblyArgument(yyResult.index);
+            yyError  = yyResult.select(yyError);
+            if (yyResult.hasValue()) {
+              final Node v$g$2 = yyResult.semanticValue();
 
               yyBase   = yyResult.index;
               yyResult = pSymbol(yyBase);
-              if (yyResult.hasValue(";")) {
-                final String v$g$3 = ";";
+              if (yyResult.hasValue(")")) {
 
-                yyValue = GNode.create("AssemblyStatement", v$g$1, v$g$2, v$g$3);
-                yyValue.setLocation(location(yyStart));
+                yyBase   = yyResult.index;
+                yyResult = pSymbol(yyBase);
+                if (yyResult.hasValue(";")) {
+                  final String v$g$3 = ";";
 
-                return yyResult.createValue(yyValue, yyError);
+                  yyValue = GNode.create("AssemblyStatement", v$g$1, v$g$2, v$g$3);
+                  locate(yyValue, yyStart);
+
+                  return yyResult.createValue(yyValue, yyError);
+                } else {
+                  yyError = yyError.select("';' expected", yyBase);
+                }
               } else {
-                yyError = yyError.select("';' expected", yyBase);
+                yyError = yyError.select("')' expected", yyBase);
               }
-            } else {
-              yyError = yyError.select("')' expected", yyBase);
             }
+          } else {
+            yyError = yyError.select("'(' expected", yyBase);
           }
-        } else {
-          yyError = yyError.select("'(' expected", yyBase);
-        }
-      } // End scope for v$g$1.
+        } // End scope for v$g$1.
+      }
     }
 
     // Alternative 16.
+    if (0 != (yyFirst & 0x800)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(";")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(";")) {
 
-      yyValue = GNode.create("EmptyStatement", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("EmptyStatement", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -6035,73 +7770,143 @@ public final class CFactoryParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
-    // Alternative <Patterned>.
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '#':
+      yyFirst = 0x1;
+      break;
 
-    yyResult = pStringVariable(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final Node v$g$1 = yyResult.semanticValue();
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0xe;
+      break;
 
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue(":")) {
+    default:
+      yyFirst = 0;
+    }
 
-        yyOption1  = yyResult.index;
-        yyOpValue1 = null;
+    // Alternative <Patterned>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-        yyResult = pAttributeSpecifierList(yyOption1);
-        yyError  = yyResult.select(yyError, yyOption1);
-        if (yyResult.hasValue()) {
-          final Node v$el$1 = yyResult.semanticValue();
+      yyResult = pStringVariable(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final Node v$g$1 = yyResult.semanticValue();
+
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue(":")) {
 
           yyOption1  = yyResult.index;
-          yyOpValue1 = v$el$1;
-        }
-        { // Start scope for v$g$2.
-          final Node v$g$2 = yyOpValue1;
+          yyOpValue1 = null;
 
-          yyValue = GNode.create("NamedLabel", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          yyResult = pAttributeSpecifierList(yyOption1);
+          yyError  = yyResult.select(yyError, yyOption1);
+          if (yyResult.hasValue()) {
+            final Node v$el$1 = yyResult.semanticValue();
 
-          return new SemanticValue(yyValue, yyOption1, yyError);
-        } // End scope for v$g$2.
-      } else {
-        yyError = yyError.select("':' expected", yyBase);
+            yyOption1  = yyResult.index;
+            yyOpValue1 = v$el$1;
+          }
+          { // Start scope for v$g$2.
+            final Node v$g$2 = yyOpValue1;
+
+            yyValue = GNode.create("NamedLabel", v$g$1, v$g$2);
+            locate(yyValue, yyStart);
+
+            return new SemanticValue(yyValue, yyOption1, yyError);
+          } // End scope for v$g$2.
+        } else {
+          yyError = yyError.select("':' expected", yyBase);
+        }
       }
     }
 
     // Alternative <Label>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pCIdentifier$Identifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final String v$g$3 = yyResult.semanticValue();
+      yyResult = pCIdentifier$Identifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final String v$g$3 = yyResult.semanticValue();
 
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue(":")) {
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue(":")) {
 
-        yyOption1  = yyResult.index;
-        yyOpValue1 = null;
+          yyOption1  = yyResult.index;
+          yyOpValue1 = null;
 
-        yyResult = pAttributeSpecifierList(yyOption1);
-        yyError  = yyResult.select(yyError, yyOption1);
-        if (yyResult.hasValue()) {
-          final Node v$el$2 = yyResult.semanticValue();
+          yyResult = pAttributeSpecifierList(yyOption1);
+          yyError  = yyResult.select(yyError, yyOption1);
+          if (yyResult.hasValue()) {
+            final Node v$el$2 = yyResult.semanticValue();
 
-          yyOption1  = yyResult.index;
-          yyOpValue1 = v$el$2;
-        }
-        { // Start scope for v$g$4.
-          final Node v$g$4 = yyOpValue1;
+            yyOption1  = yyResult.index;
+            yyOpValue1 = v$el$2;
+          }
+          { // Start scope for v$g$4.
+            final Node v$g$4 = yyOpValue1;
 
-          yyValue = GNode.create("NamedLabel", v$g$3, v$g$4);
-          yyValue.setLocation(location(yyStart));
+            yyValue = GNode.create("NamedLabel", v$g$3, v$g$4);
+            locate(yyValue, yyStart);
 
-          return new SemanticValue(yyValue, yyOption1, yyError);
-        } // End scope for v$g$4.
-      } else {
-        yyError = yyError.select("':' expected", yyBase);
+            return new SemanticValue(yyValue, yyOption1, yyError);
+          } // End scope for v$g$4.
+        } else {
+          yyError = yyError.select("':' expected", yyBase);
+        }
       }
     }
 
@@ -6131,7 +7936,7 @@ public final class CFactoryParser extends ParserBase {
               if (yyResult.hasValue(":")) {
 
                 yyValue = GNode.create("CaseLabel", v$g$1, v$g$2);
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return yyResult.createValue(yyValue, yyError);
               } else {
@@ -6146,44 +7951,48 @@ public final class CFactoryParser extends ParserBase {
     }
 
     // Alternative <Simple>.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("case")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("case")) {
 
-      yyResult = pConditionalExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$3 = yyResult.semanticValue();
+        yyResult = pConditionalExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$3 = yyResult.semanticValue();
 
-        yyBase   = yyResult.index;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue(":")) {
+          yyBase   = yyResult.index;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue(":")) {
 
-          yyValue = GNode.create("CaseLabel", v$g$3);
-          yyValue.setLocation(location(yyStart));
+            yyValue = GNode.create("CaseLabel", v$g$3);
+            locate(yyValue, yyStart);
 
-          return yyResult.createValue(yyValue, yyError);
-        } else {
-          yyError = yyError.select("':' expected", yyBase);
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("':' expected", yyBase);
+          }
         }
       }
     }
 
     // Alternative 5.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("default")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("default")) {
 
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue(":")) {
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue(":")) {
 
-        yyValue = GNode.create("DefaultLabel", false);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("DefaultLabel", false);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
-      } else {
-        yyError = yyError.select("':' expected", yyBase);
+          return yyResult.createValue(yyValue, yyError);
+        } else {
+          yyError = yyError.select("':' expected", yyBase);
+        }
       }
     }
 
@@ -6203,10 +8012,15 @@ public final class CFactoryParser extends ParserBase {
    */
   private Result pCompoundStatement(final int yyStart) throws IOException {
     CFactoryParserColumn yyColumn = (CFactoryParserColumn)column(yyStart);
-    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fCompoundStatement) 
-      yyColumn.chunk2.fCompoundStatement = pCompoundStatement$1(yyStart);
-    return yyColumn.chunk2.fCompoundStatement;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fCompoundStatement) {
+      yyColumn.chunk3.fCompoundStatement = pCompoundStatement$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(13, yyColumn.chunk3.fCompoundStatement);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(13, yyColumn.chunk3.fCompoundStatement);
+    }
+    return yyColumn.chunk3.fCompoundStatement;
   }
 
   /** Actually parse xtc.lang.CPattern.CompoundStatement. */
@@ -6250,7 +8064,7 @@ public final class CFactoryParser extends ParserBase {
 
                   yyValue = GNode.create("CompoundStatement", v$g$1.size() + v$g$2.size() + 1).
                     addAll(v$g$1).addAll(v$g$2).add(v$g$3);
-                  yyValue.setLocation(location(yyStart));
+                  locate(yyValue, yyStart);
 
                   return yyResult.createValue(yyValue, yyError);
                 }
@@ -6322,12 +8136,13 @@ public final class CFactoryParser extends ParserBase {
   private Result pLocalLabelDeclaration(final int yyStart) 
     throws IOException {
 
-    Result       yyResult;
-    int          yyBase;
-    int          yyRepetition1;
-    Pair<String> yyRepValue1;
-    Node         yyValue;
-    ParseError   yyError = ParseError.DUMMY;
+    Result     yyResult;
+    int        yyBase;
+    int        yyRepetition1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
+    Node       yyValue;
+    ParseError yyError = ParseError.DUMMY;
 
     // Alternative 1.
 
@@ -6340,7 +8155,8 @@ public final class CFactoryParser extends ParserBase {
         final String v$g$1 = yyResult.semanticValue();
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyBase   = yyRepetition1;
@@ -6353,7 +8169,7 @@ public final class CFactoryParser extends ParserBase {
               final String v$el$1 = yyResult.semanticValue();
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<String>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
           } else {
@@ -6362,19 +8178,21 @@ public final class CFactoryParser extends ParserBase {
           break;
         }
         { // Start scope for v$g$2.
-          final Pair<String> v$g$2 = yyRepValue1.reverse();
+          final int v$g$2 = yyRepStart1;
+          final int v$g$2$end = yyRepEnd1;
 
           yyBase   = yyRepetition1;
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue(";")) {
 
-            yyValue = GNode.createFromPair("LocalLabelDeclaration", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
+            yyValue = bufferedNode("LocalLabelDeclaration", v$g$1, v$g$2, v$g$2$end);
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
             yyError = yyError.select("';' expected", yyBase);
           }
+          releaseBuffer(v$g$2);
         } // End scope for v$g$2.
       }
     }
@@ -6445,6 +8263,16 @@ public final class CFactoryParser extends ParserBase {
     // Start a state modification.
     yyState.start();
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '#':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Declaration>.
 
     yyState.mark();
@@ -6480,35 +8308,39 @@ public final class CFactoryParser extends ParserBase {
     }
 
     // Alternative <ListPattern>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pNodeListVariable(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final Node v = yyResult.semanticValue();
+      yyResult = pNodeListVariable(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final Node v = yyResult.semanticValue();
 
-      yyValue = yyState.annotate(v);
+        yyValue = yyState.annotate(v);
 
-      // Commit the state modification.
-      yyState.commit();
+        // Commit the state modification.
+        yyState.commit();
 
-      setLocation(yyValue, yyStart);
-      return yyResult.createValue(yyValue, yyError);
+        setLocation(yyValue, yyStart);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Pattern>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pNodeVariable(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final Node v = yyResult.semanticValue();
+      yyResult = pNodeVariable(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final Node v = yyResult.semanticValue();
 
-      yyValue = yyState.annotate(v);
+        yyValue = yyState.annotate(v);
 
-      // Commit the state modification.
-      yyState.commit();
+        // Commit the state modification.
+        yyState.commit();
 
-      setLocation(yyValue, yyStart);
-      return yyResult.createValue(yyValue, yyError);
+        setLocation(yyValue, yyStart);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Abort the state modification.
@@ -6598,10 +8430,15 @@ public final class CFactoryParser extends ParserBase {
    */
   private Result pCommaExpression(final int yyStart) throws IOException {
     CFactoryParserColumn yyColumn = (CFactoryParserColumn)column(yyStart);
-    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fCommaExpression) 
-      yyColumn.chunk2.fCommaExpression = pCommaExpression$1(yyStart);
-    return yyColumn.chunk2.fCommaExpression;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fCommaExpression) {
+      yyColumn.chunk3.fCommaExpression = pCommaExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(14, yyColumn.chunk3.fCommaExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(14, yyColumn.chunk3.fCommaExpression);
+    }
+    return yyColumn.chunk3.fCommaExpression;
   }
 
   /** Actually parse xtc.lang.CPattern.CommaExpression. */
@@ -6698,10 +8535,16 @@ public final class CFactoryParser extends ParserBase {
    */
   private Result pAssignmentExpression(final int yyStart) throws IOException {
     CFactoryParserColumn yyColumn = (CFactoryParserColumn)column(yyStart);
-    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fAssignmentExpression) 
-      yyColumn.chunk2.fAssignmentExpression = pAssignmentExpression$1(yyStart);
-    return yyColumn.chunk2.fAssignmentExpression;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fAssignmentExpression) {
+      yyColumn.chunk3.fAssignmentExpression = 
+        pAssignmentExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(15, yyColumn.chunk3.fAssignmentExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(15, yyColumn.chunk3.fAssignmentExpression);
+    }
+    return yyColumn.chunk3.fAssignmentExpression;
   }
 
   /** Actually parse xtc.lang.CPattern.AssignmentExpression. */
@@ -6730,7 +8573,7 @@ public final class CFactoryParser extends ParserBase {
           final Node v$g$3 = yyResult.semanticValue();
 
           yyValue = GNode.create("AssignmentExpression", v$g$1, v$g$2, v$g$3);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -6765,103 +8608,158 @@ public final class CFactoryParser extends ParserBase {
     String     yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x7ff;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Equal>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("=")) {
-      yyValue = "=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("=")) {
+        yyValue = "=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <PlusEqual>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("+=")) {
-      yyValue = "+=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("+=")) {
+        yyValue = "+=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <MinusEqual>.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("-=")) {
-      yyValue = "-=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("-=")) {
+        yyValue = "-=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <TimesEqual>.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("*=")) {
-      yyValue = "*=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("*=")) {
+        yyValue = "*=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <OverEqual>.
+    if (0 != (yyFirst & 0x10)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("/=")) {
-      yyValue = "/=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("/=")) {
+        yyValue = "/=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <ModuloEqual>.
+    if (0 != (yyFirst & 0x20)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("%=")) {
-      yyValue = "%=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("%=")) {
+        yyValue = "%=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <LeftEqual>.
+    if (0 != (yyFirst & 0x40)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("<<=")) {
-      yyValue = "<<=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("<<=")) {
+        yyValue = "<<=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <RightEqual>.
+    if (0 != (yyFirst & 0x80)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(">>=")) {
-      yyValue = ">>=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(">>=")) {
+        yyValue = ">>=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <AndEqual>.
+    if (0 != (yyFirst & 0x100)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("&=")) {
-      yyValue = "&=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("&=")) {
+        yyValue = "&=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <XorEqual>.
+    if (0 != (yyFirst & 0x200)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("^=")) {
-      yyValue = "^=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("^=")) {
+        yyValue = "^=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <OrEqual>.
+    if (0 != (yyFirst & 0x400)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("|=")) {
-      yyValue = "|=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("|=")) {
+        yyValue = "|=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -6882,10 +8780,16 @@ public final class CFactoryParser extends ParserBase {
     throws IOException {
 
     CFactoryParserColumn yyColumn = (CFactoryParserColumn)column(yyStart);
-    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fConditionalExpression) 
-      yyColumn.chunk2.fConditionalExpression = pConditionalExpression$1(yyStart);
-    return yyColumn.chunk2.fConditionalExpression;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fConditionalExpression) {
+      yyColumn.chunk3.fConditionalExpression = 
+        pConditionalExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(16, yyColumn.chunk3.fConditionalExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(16, yyColumn.chunk3.fConditionalExpression);
+    }
+    return yyColumn.chunk3.fConditionalExpression;
   }
 
   /** Actually parse xtc.lang.CPattern.ConditionalExpression. */
@@ -6923,7 +8827,7 @@ public final class CFactoryParser extends ParserBase {
               final Node v$g$3 = yyResult.semanticValue();
 
               yyValue = GNode.create("ConditionalExpression", v$g$1, v$g$2, v$g$3);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -6959,7 +8863,7 @@ public final class CFactoryParser extends ParserBase {
               final Node v$g$6 = yyResult.semanticValue();
 
               yyValue = GNode.create("ConditionalExpression", v$g$4, null, v$g$6);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -6998,10 +8902,15 @@ public final class CFactoryParser extends ParserBase {
    */
   private Result pLogicalOrExpression(final int yyStart) throws IOException {
     CFactoryParserColumn yyColumn = (CFactoryParserColumn)column(yyStart);
-    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fLogicalOrExpression) 
-      yyColumn.chunk2.fLogicalOrExpression = pLogicalOrExpression$1(yyStart);
-    return yyColumn.chunk2.fLogicalOrExpression;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fLogicalOrExpression) {
+      yyColumn.chunk3.fLogicalOrExpression = pLogicalOrExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(17, yyColumn.chunk3.fLogicalOrExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(17, yyColumn.chunk3.fLogicalOrExpression);
+    }
+    return yyColumn.chunk3.fLogicalOrExpression;
   }
 
   /** Actually parse xtc.lang.CPattern.LogicalOrExpression. */
@@ -7562,22 +9471,59 @@ public final class CFactoryParser extends ParserBase {
     String     yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Equal>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("==")) {
-      yyValue = "==";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("==")) {
+        yyValue = "==";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <NotEqual>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("!=")) {
-      yyValue = "!=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("!=")) {
+        yyValue = "!=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -7692,40 +9638,81 @@ public final class CFactoryParser extends ParserBase {
     String     yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0xf;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <LessEqual>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("<=")) {
-      yyValue = "<=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("<=")) {
+        yyValue = "<=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Less>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("<")) {
-      yyValue = "<";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("<")) {
+        yyValue = "<";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <GreaterEqual>.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(">=")) {
-      yyValue = ">=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(">=")) {
+        yyValue = ">=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Greater>.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(">")) {
-      yyValue = ">";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(">")) {
+        yyValue = ">";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -7839,22 +9826,59 @@ public final class CFactoryParser extends ParserBase {
     String     yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Left>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("<<")) {
-      yyValue = "<<";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("<<")) {
+        yyValue = "<<";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Right>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(">>")) {
-      yyValue = ">>";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(">>")) {
+        yyValue = ">>";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -7968,22 +9992,59 @@ public final class CFactoryParser extends ParserBase {
     String     yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Plus>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("+")) {
-      yyValue = "+";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("+")) {
+        yyValue = "+";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Minus>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("-")) {
-      yyValue = "-";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("-")) {
+        yyValue = "-";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -8102,31 +10163,70 @@ public final class CFactoryParser extends ParserBase {
     String     yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x7;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Times>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("*")) {
-      yyValue = "*";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("*")) {
+        yyValue = "*";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Over>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("/")) {
-      yyValue = "/";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("/")) {
+        yyValue = "/";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Modulo>.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("%")) {
-      yyValue = "%";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("%")) {
+        yyValue = "%";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -8145,10 +10245,15 @@ public final class CFactoryParser extends ParserBase {
    */
   private Result pCastExpression(final int yyStart) throws IOException {
     CFactoryParserColumn yyColumn = (CFactoryParserColumn)column(yyStart);
-    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fCastExpression) 
-      yyColumn.chunk2.fCastExpression = pCastExpression$1(yyStart);
-    return yyColumn.chunk2.fCastExpression;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fCastExpression) {
+      yyColumn.chunk3.fCastExpression = pCastExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(18, yyColumn.chunk3.fCastExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(18, yyColumn.chunk3.fCastExpression);
+    }
+    return yyColumn.chunk3.fCastExpression;
   }
 
   /** Actually parse xtc.lang.CPattern.CastExpression. */
@@ -8178,7 +10283,7 @@ public final class CFactoryParser extends ParserBase {
             final Node v$g$2 = yyResult.semanticValue();
 
             yyValue = GNode.create("CastExpression", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           }
@@ -8214,10 +10319,15 @@ public final class CFactoryParser extends ParserBase {
    */
   private Result pUnaryExpression(final int yyStart) throws IOException {
     CFactoryParserColumn yyColumn = (CFactoryParserColumn)column(yyStart);
-    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fUnaryExpression) 
-      yyColumn.chunk2.fUnaryExpression = pUnaryExpression$1(yyStart);
-    return yyColumn.chunk2.fUnaryExpression;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fUnaryExpression) {
+      yyColumn.chunk1.fUnaryExpression = pUnaryExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(19, yyColumn.chunk1.fUnaryExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(19, yyColumn.chunk1.fUnaryExpression);
+    }
+    return yyColumn.chunk1.fUnaryExpression;
   }
 
   /** Actually parse xtc.lang.CPattern.UnaryExpression. */
@@ -8229,299 +10339,406 @@ public final class CFactoryParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0xff0;
+      break;
+
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0xf;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("sizeof")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("sizeof")) {
 
-      final int yyChoice1 = yyResult.index;
+        final int yyChoice1 = yyResult.index;
 
-      // Nested alternative 1.
+        // Nested alternative 1.
 
-      yyBase   = yyChoice1;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue("(")) {
+        yyBase   = yyChoice1;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue("(")) {
 
-        yyResult = pTypeName(yyResult.index);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$g$1 = yyResult.semanticValue();
+          yyResult = pTypeName(yyResult.index);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Node v$g$1 = yyResult.semanticValue();
 
-          yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue(")")) {
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue(")")) {
 
-            yyPredMatched = false;
+              yyPredMatched = false;
 
-            yyPredResult = pSymbol(yyResult.index);
-            if (yyPredResult.hasValue("{")) {
+              yyPredResult = pSymbol(yyResult.index);
+              if (yyPredResult.hasValue("{")) {
 
-              yyPredMatched = true;
-            }
+                yyPredMatched = true;
+              }
 
-            if (! yyPredMatched) {
+              if (! yyPredMatched) {
 
-              yyValue = GNode.create("SizeofExpression", v$g$1);
-              yyValue.setLocation(location(yyStart));
+                yyValue = GNode.create("SizeofExpression", v$g$1);
+                locate(yyValue, yyStart);
 
-              return yyResult.createValue(yyValue, yyError);
+                return yyResult.createValue(yyValue, yyError);
+              } else {
+                yyError = yyError.select("unary expression expected", yyStart);
+              }
             } else {
-              yyError = yyError.select("unary expression expected", yyStart);
+              yyError = yyError.select("')' expected", yyBase);
             }
-          } else {
-            yyError = yyError.select("')' expected", yyBase);
           }
+        } else {
+          yyError = yyError.select("'(' expected", yyBase);
         }
-      } else {
-        yyError = yyError.select("'(' expected", yyBase);
-      }
 
-      // Nested alternative 2.
+        // Nested alternative 2.
 
-      yyResult = pUnaryExpression(yyChoice1);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$2 = yyResult.semanticValue();
+        yyResult = pUnaryExpression(yyChoice1);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("SizeofExpression", v$g$2);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("SizeofExpression", v$g$2);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 2.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pAlignofKeyword(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
+      yyResult = pAlignofKeyword(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
 
-      final int yyChoice1 = yyResult.index;
+        final int yyChoice1 = yyResult.index;
 
-      // Nested alternative 1.
+        // Nested alternative 1.
 
-      yyBase   = yyChoice1;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue("(")) {
+        yyBase   = yyChoice1;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue("(")) {
 
-        yyResult = pTypeName(yyResult.index);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$g$1 = yyResult.semanticValue();
+          yyResult = pTypeName(yyResult.index);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Node v$g$1 = yyResult.semanticValue();
 
-          yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue(")")) {
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue(")")) {
 
-            yyPredMatched = false;
+              yyPredMatched = false;
 
-            yyPredResult = pSymbol(yyResult.index);
-            if (yyPredResult.hasValue("{")) {
+              yyPredResult = pSymbol(yyResult.index);
+              if (yyPredResult.hasValue("{")) {
 
-              yyPredMatched = true;
-            }
+                yyPredMatched = true;
+              }
 
-            if (! yyPredMatched) {
+              if (! yyPredMatched) {
 
-              yyValue = GNode.create("AlignofExpression", v$g$1);
-              yyValue.setLocation(location(yyStart));
+                yyValue = GNode.create("AlignofExpression", v$g$1);
+                locate(yyValue, yyStart);
 
-              return yyResult.createValue(yyValue, yyError);
+                return yyResult.createValue(yyValue, yyError);
+              } else {
+                yyError = yyError.select("unary expression expected", yyStart);
+              }
             } else {
-              yyError = yyError.select("unary expression expected", yyStart);
+              yyError = yyError.select("')' expected", yyBase);
             }
-          } else {
-            yyError = yyError.select("')' expected", yyBase);
           }
+        } else {
+          yyError = yyError.select("'(' expected", yyBase);
         }
-      } else {
-        yyError = yyError.select("'(' expected", yyBase);
-      }
 
-      // Nested alternative 2.
+        // Nested alternative 2.
 
-      yyResult = pUnaryExpression(yyChoice1);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$2 = yyResult.semanticValue();
+        yyResult = pUnaryExpression(yyChoice1);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("AlignofExpression", v$g$2);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("AlignofExpression", v$g$2);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__builtin_offsetof")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__builtin_offsetof")) {
 
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue("(")) {
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue("(")) {
 
-        yyResult = pTypeName(yyResult.index);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$g$1 = yyResult.semanticValue();
+          yyResult = pTypeName(yyResult.index);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Node v$g$1 = yyResult.semanticValue();
 
-          yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue(",")) {
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue(",")) {
 
-            yyResult = pPostfixExpression(yyResult.index);
-            yyError  = yyResult.select(yyError);
-            if (yyResult.hasValue()) {
-              final Node v$g$2 = yyResult.semanticValue();
+              yyResult = pPostfixExpression(yyResult.index);
+              yyError  = yyResult.select(yyError);
+              if (yyResult.hasValue()) {
+                final Node v$g$2 = yyResult.semanticValue();
 
-              yyBase   = yyResult.index;
-              yyResult = pSymbol(yyBase);
-              if (yyResult.hasValue(")")) {
+                yyBase   = yyResult.index;
+                yyResult = pSymbol(yyBase);
+                if (yyResult.hasValue(")")) {
 
-                yyValue = GNode.create("OffsetofExpression", v$g$1, v$g$2);
-                yyValue.setLocation(location(yyStart));
+                  yyValue = GNode.create("OffsetofExpression", v$g$1, v$g$2);
+                  locate(yyValue, yyStart);
 
-                return yyResult.createValue(yyValue, yyError);
-              } else {
-                yyError = yyError.select("')' expected", yyBase);
+                  return yyResult.createValue(yyValue, yyError);
+                } else {
+                  yyError = yyError.select("')' expected", yyBase);
+                }
               }
+            } else {
+              yyError = yyError.select("',' expected", yyBase);
             }
-          } else {
-            yyError = yyError.select("',' expected", yyBase);
           }
+        } else {
+          yyError = yyError.select("'(' expected", yyBase);
         }
-      } else {
-        yyError = yyError.select("'(' expected", yyBase);
       }
     }
 
     // Alternative 4.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__builtin_types_compatible_p")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__builtin_types_compatible_p")) {
 
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue("(")) {
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue("(")) {
 
-        yyResult = pTypeName(yyResult.index);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$g$1 = yyResult.semanticValue();
+          yyResult = pTypeName(yyResult.index);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Node v$g$1 = yyResult.semanticValue();
 
-          yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue(",")) {
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue(",")) {
 
-            yyResult = pTypeName(yyResult.index);
-            yyError  = yyResult.select(yyError);
-            if (yyResult.hasValue()) {
-              final Node v$g$2 = yyResult.semanticValue();
+              yyResult = pTypeName(yyResult.index);
+              yyError  = yyResult.select(yyError);
+              if (yyResult.hasValue()) {
+                final Node v$g$2 = yyResult.semanticValue();
 
-              yyBase   = yyResult.index;
-              yyResult = pSymbol(yyBase);
-              if (yyResult.hasValue(")")) {
+                yyBase   = yyResult.index;
+                yyResult = pSymbol(yyBase);
+                if (yyResult.hasValue(")")) {
 
-                yyValue = GNode.create("TypeCompatibilityExpression", v$g$1, v$g$2);
-                yyValue.setLocation(location(yyStart));
+                  yyValue = GNode.create("TypeCompatibilityExpression", v$g$1, v$g$2);
+                  locate(yyValue, yyStart);
 
-                return yyResult.createValue(yyValue, yyError);
-              } else {
-                yyError = yyError.select("')' expected", yyBase);
+                  return yyResult.createValue(yyValue, yyError);
+                } else {
+                  yyError = yyError.select("')' expected", yyBase);
+                }
               }
+            } else {
+              yyError = yyError.select("',' expected", yyBase);
             }
-          } else {
-            yyError = yyError.select("',' expected", yyBase);
           }
+        } else {
+          yyError = yyError.select("'(' expected", yyBase);
         }
-      } else {
-        yyError = yyError.select("'(' expected", yyBase);
       }
     }
 
     // Alternative 5.
+    if (0 != (yyFirst & 0x10)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("-")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("-")) {
 
-      yyResult = pCastExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
+        yyResult = pCastExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryMinusExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("UnaryMinusExpression", v$g$1);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 6.
+    if (0 != (yyFirst & 0x20)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("+")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("+")) {
 
-      yyResult = pCastExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
+        yyResult = pCastExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryPlusExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("UnaryPlusExpression", v$g$1);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 7.
+    if (0 != (yyFirst & 0x40)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("!")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("!")) {
 
-      yyResult = pCastExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
+        yyResult = pCastExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("LogicalNegationExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("LogicalNegationExpression", v$g$1);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 8.
+    if (0 != (yyFirst & 0x80)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("~")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("~")) {
 
-      yyResult = pCastExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
+        yyResult = pCastExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("BitwiseNegationExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("BitwiseNegationExpression", v$g$1);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 9.
+    if (0 != (yyFirst & 0x100)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("&")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("&")) {
 
-      yyResult = pCastExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
+        yyResult = pCastExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("AddressExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("AddressExpression", v$g$1);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
@@ -8542,7 +10759,7 @@ public final class CFactoryParser extends ParserBase {
           final Node v$g$1 = yyResult.semanticValue();
 
           yyValue = GNode.create("LabelAddressExpression", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -8555,7 +10772,7 @@ public final class CFactoryParser extends ParserBase {
           final String v$g$2 = yyResult.semanticValue();
 
           yyValue = GNode.create("LabelAddressExpression", v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -8563,53 +10780,59 @@ public final class CFactoryParser extends ParserBase {
     }
 
     // Alternative 11.
+    if (0 != (yyFirst & 0x200)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("*")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("*")) {
 
-      yyResult = pCastExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
+        yyResult = pCastExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("IndirectionExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("IndirectionExpression", v$g$1);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 12.
+    if (0 != (yyFirst & 0x400)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("++")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("++")) {
 
-      yyResult = pUnaryExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
+        yyResult = pUnaryExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("PreincrementExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("PreincrementExpression", v$g$1);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 13.
+    if (0 != (yyFirst & 0x800)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("--")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("--")) {
 
-      yyResult = pUnaryExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
+        yyResult = pUnaryExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("PredecrementExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("PredecrementExpression", v$g$1);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
@@ -8626,7 +10849,7 @@ public final class CFactoryParser extends ParserBase {
           final Node v$g$1 = yyResult.semanticValue();
 
           yyValue = GNode.create("ExtensionExpression", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -8662,24 +10885,90 @@ public final class CFactoryParser extends ParserBase {
     Void       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__alignof__")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__alignof__")) {
 
-      yyValue = null;
+        yyValue = null;
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__alignof")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__alignof")) {
 
-      yyValue = null;
+        yyValue = null;
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -8788,193 +11077,244 @@ public final class CFactoryParser extends ParserBase {
     Action<Node> yyValue;
     ParseError   yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x1ff;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("[")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("[")) {
 
-      yyResult = pCommaExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$2 = yyResult.semanticValue();
+        yyResult = pCommaExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$2 = yyResult.semanticValue();
 
-        yyBase   = yyResult.index;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue("]")) {
+          yyBase   = yyResult.index;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue("]")) {
 
-          yyValue = new Action<Node>() {
-            public Node run(Node v$1) {
-              return GNode.create("SubscriptExpression", v$1, v$g$2);
-            }};
+            yyValue = new Action<Node>() {
+              public Node run(Node v$1) {
+                return GNode.create("SubscriptExpression", v$1, v$g$2);
+              }};
 
-          return yyResult.createValue(yyValue, yyError);
-        } else {
-          yyError = yyError.select("']' expected", yyBase);
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("']' expected", yyBase);
+          }
         }
       }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(".")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(".")) {
 
-      yyResult = pCIdentifier$Identifier(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final String v$g$3 = yyResult.semanticValue();
+        yyResult = pCIdentifier$Identifier(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final String v$g$3 = yyResult.semanticValue();
 
-        yyValue = new Action<Node>() {
-          public Node run(Node v$1) {
-            return GNode.create("DirectComponentSelection", v$1, v$g$3);
-          }};
+          yyValue = new Action<Node>() {
+            public Node run(Node v$1) {
+              return GNode.create("DirectComponentSelection", v$1, v$g$3);
+            }};
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("->")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("->")) {
 
-      yyResult = pCIdentifier$Identifier(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final String v$g$4 = yyResult.semanticValue();
+        yyResult = pCIdentifier$Identifier(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final String v$g$4 = yyResult.semanticValue();
 
-        yyValue = new Action<Node>() {
-          public Node run(Node v$1) {
-            return GNode.create("IndirectComponentSelection", v$1, v$g$4);
-          }};
+          yyValue = new Action<Node>() {
+            public Node run(Node v$1) {
+              return GNode.create("IndirectComponentSelection", v$1, v$g$4);
+            }};
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 4.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("(")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("(")) {
 
-      yyResult = pArgumentPattern(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$5 = yyResult.semanticValue();
+        yyResult = pArgumentPattern(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$5 = yyResult.semanticValue();
 
-        yyBase   = yyResult.index;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue(")")) {
+          yyBase   = yyResult.index;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue(")")) {
 
-          yyValue = new Action<Node>() {
-            public Node run(Node v$1) {
-              return GNode.create("FunctionCall", v$1, v$g$5);
-            }};
+            yyValue = new Action<Node>() {
+              public Node run(Node v$1) {
+                return GNode.create("FunctionCall", v$1, v$g$5);
+              }};
 
-          return yyResult.createValue(yyValue, yyError);
-        } else {
-          yyError = yyError.select("')' expected", yyBase);
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("')' expected", yyBase);
+          }
         }
       }
     }
 
     // Alternative 5.
+    if (0 != (yyFirst & 0x10)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(".")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(".")) {
 
-      yyResult = pStringVariable(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$6 = yyResult.semanticValue();
+        yyResult = pStringVariable(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$6 = yyResult.semanticValue();
 
-        yyValue = new Action<Node>() {
-          public Node run(Node v$1) {
-            return GNode.create("DirectComponentSelection", v$1, v$g$6);
-          }};
+          yyValue = new Action<Node>() {
+            public Node run(Node v$1) {
+              return GNode.create("DirectComponentSelection", v$1, v$g$6);
+            }};
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 6.
+    if (0 != (yyFirst & 0x20)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("->")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("->")) {
 
-      yyResult = pStringVariable(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$7 = yyResult.semanticValue();
+        yyResult = pStringVariable(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$7 = yyResult.semanticValue();
 
-        yyValue = new Action<Node>() {
-          public Node run(Node v$1) {
-            return GNode.create("IndirectComponentSelection", v$1, v$g$7);
-          }};
+          yyValue = new Action<Node>() {
+            public Node run(Node v$1) {
+              return GNode.create("IndirectComponentSelection", v$1, v$g$7);
+            }};
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 7.
+    if (0 != (yyFirst & 0x40)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("(")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("(")) {
 
-      yyOption1  = yyResult.index;
-      yyOpValue1 = null;
+        yyOption1  = yyResult.index;
+        yyOpValue1 = null;
 
-      yyResult = pExpressionList(yyOption1);
-      yyError  = yyResult.select(yyError, yyOption1);
-      if (yyResult.hasValue()) {
-        final Node v$el$1 = yyResult.semanticValue();
+        yyResult = pExpressionList(yyOption1);
+        yyError  = yyResult.select(yyError, yyOption1);
+        if (yyResult.hasValue()) {
+          final Node v$el$1 = yyResult.semanticValue();
 
-        yyOption1  = yyResult.index;
-        yyOpValue1 = v$el$1;
-      }
-      { // Start scope for v$g$8.
-        final Node v$g$8 = yyOpValue1;
+          yyOption1  = yyResult.index;
+          yyOpValue1 = v$el$1;
+        }
+        { // Start scope for v$g$8.
+          final Node v$g$8 = yyOpValue1;
 
-        yyBase   = yyOption1;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue(")")) {
+          yyBase   = yyOption1;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue(")")) {
 
-          yyValue = new Action<Node>() {
-            public Node run(Node v$1) {
-              return GNode.create("FunctionCall", v$1, v$g$8);
-            }};
+            yyValue = new Action<Node>() {
+              public Node run(Node v$1) {
+                return GNode.create("FunctionCall", v$1, v$g$8);
+              }};
 
-          return yyResult.createValue(yyValue, yyError);
-        } else {
-          yyError = yyError.select("')' expected", yyBase);
-        }
-      } // End scope for v$g$8.
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("')' expected", yyBase);
+          }
+        } // End scope for v$g$8.
+      }
     }
 
     // Alternative 8.
+    if (0 != (yyFirst & 0x80)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("++")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("++")) {
 
-      yyValue = new Action<Node>() {
-        public Node run(Node v$1) {
-          return GNode.create("PostincrementExpression", v$1);
-        }};
+        yyValue = new Action<Node>() {
+          public Node run(Node v$1) {
+            return GNode.create("PostincrementExpression", v$1);
+          }};
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 9.
+    if (0 != (yyFirst & 0x100)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("--")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("--")) {
 
-      yyValue = new Action<Node>() {
-        public Node run(Node v$1) {
-          return GNode.create("PostdecrementExpression", v$1);
-        }};
+        yyValue = new Action<Node>() {
+          public Node run(Node v$1) {
+            return GNode.create("PostdecrementExpression", v$1);
+          }};
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -8994,8 +11334,13 @@ public final class CFactoryParser extends ParserBase {
   private Result pExpressionList(final int yyStart) throws IOException {
     CFactoryParserColumn yyColumn = (CFactoryParserColumn)column(yyStart);
     if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fExpressionList) 
+    if (null == yyColumn.chunk3.fExpressionList) {
       yyColumn.chunk3.fExpressionList = pExpressionList$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(20, yyColumn.chunk3.fExpressionList);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(20, yyColumn.chunk3.fExpressionList);
+    }
     return yyColumn.chunk3.fExpressionList;
   }
 
@@ -9018,7 +11363,7 @@ public final class CFactoryParser extends ParserBase {
         final Pair<Node> v$g$2 = yyResult.semanticValue();
 
         yyValue = GNode.createFromPair("ExpressionList", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -9041,10 +11386,16 @@ public final class CFactoryParser extends ParserBase {
     throws IOException {
 
     CFactoryParserColumn yyColumn = (CFactoryParserColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fExpressionList$$Star1) 
-      yyColumn.chunk3.fExpressionList$$Star1 = pExpressionList$$Star1$1(yyStart);
-    return yyColumn.chunk3.fExpressionList$$Star1;
+    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
+    if (null == yyColumn.chunk4.fExpressionList$$Star1) {
+      yyColumn.chunk4.fExpressionList$$Star1 = 
+        pExpressionList$$Star1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(21, yyColumn.chunk4.fExpressionList$$Star1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(21, yyColumn.chunk4.fExpressionList$$Star1);
+    }
+    return yyColumn.chunk4.fExpressionList$$Star1;
   }
 
   /** Actually parse xtc.lang.CFactory.ExpressionList$$Star1. */
@@ -9139,7 +11490,7 @@ public final class CFactoryParser extends ParserBase {
               if (yyResult.hasValue("}")) {
 
                 yyValue = GNode.create("CompoundLiteral", v$g$1, v$g$2);
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return yyResult.createValue(yyValue, yyError);
               } else {
@@ -9175,37 +11526,157 @@ public final class CFactoryParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x10;
+      break;
+
+    case '\"':
+    case '\'':
+    case '0':
+    case '1':
+    case '2':
+    case '3':
+    case '4':
+    case '5':
+    case '6':
+    case '7':
+    case '8':
+    case '9':
+      yyFirst = 0x2;
+      break;
+
+    case '#':
+      yyFirst = 0x1;
+      break;
+
+    case '.':
+      yyFirst = 0x12;
+      break;
+
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0xc;
+      break;
+
+    case 'L':
+      yyFirst = 0xe;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <PatternVariable>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pNodeVariable(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pNodeVariable(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Constant>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pConstant(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pConstant(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 3.
+    if ((0 != (yyFirst & 0x4)) || (yyError.index < yyStart)) {
 
-    yyResult = pCIdentifier$Identifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final String v$g$1 = yyResult.semanticValue();
+      yyResult = pCIdentifier$Identifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final String v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("PrimaryIdentifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("PrimaryIdentifier", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 4.
@@ -9225,7 +11696,7 @@ public final class CFactoryParser extends ParserBase {
           if (yyResult.hasValue(")")) {
 
             yyValue = GNode.create("StatementAsExpression", v$g$1);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
@@ -9236,66 +11707,70 @@ public final class CFactoryParser extends ParserBase {
     }
 
     // Alternative 5.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__builtin_va_arg")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__builtin_va_arg")) {
 
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue("(")) {
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue("(")) {
 
-        yyResult = pAssignmentExpression(yyResult.index);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$g$1 = yyResult.semanticValue();
+          yyResult = pAssignmentExpression(yyResult.index);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Node v$g$1 = yyResult.semanticValue();
 
-          yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue(",")) {
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue(",")) {
 
-            yyResult = pTypeName(yyResult.index);
-            yyError  = yyResult.select(yyError);
-            if (yyResult.hasValue()) {
-              final Node v$g$2 = yyResult.semanticValue();
+              yyResult = pTypeName(yyResult.index);
+              yyError  = yyResult.select(yyError);
+              if (yyResult.hasValue()) {
+                final Node v$g$2 = yyResult.semanticValue();
 
-              yyBase   = yyResult.index;
-              yyResult = pSymbol(yyBase);
-              if (yyResult.hasValue(")")) {
+                yyBase   = yyResult.index;
+                yyResult = pSymbol(yyBase);
+                if (yyResult.hasValue(")")) {
 
-                yyValue = GNode.create("VariableArgumentAccess", v$g$1, v$g$2);
-                yyValue.setLocation(location(yyStart));
+                  yyValue = GNode.create("VariableArgumentAccess", v$g$1, v$g$2);
+                  locate(yyValue, yyStart);
 
-                return yyResult.createValue(yyValue, yyError);
-              } else {
-                yyError = yyError.select("')' expected", yyBase);
+                  return yyResult.createValue(yyValue, yyError);
+                } else {
+                  yyError = yyError.select("')' expected", yyBase);
+                }
               }
+            } else {
+              yyError = yyError.select("',' expected", yyBase);
             }
-          } else {
-            yyError = yyError.select("',' expected", yyBase);
           }
+        } else {
+          yyError = yyError.select("'(' expected", yyBase);
         }
-      } else {
-        yyError = yyError.select("'(' expected", yyBase);
       }
     }
 
     // Alternative <ParenthesizedExpression>.
+    if (0 != (yyFirst & 0x10)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("(")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("(")) {
 
-      yyResult = pCommaExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        yyValue = yyResult.semanticValue();
+        yyResult = pCommaExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          yyValue = yyResult.semanticValue();
 
-        yyBase   = yyResult.index;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue(")")) {
+          yyBase   = yyResult.index;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue(")")) {
 
-          return yyResult.createValue(yyValue, yyError);
-        } else {
-          yyError = yyError.select("')' expected", yyBase);
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("')' expected", yyBase);
+          }
         }
       }
     }
@@ -9327,7 +11802,7 @@ public final class CFactoryParser extends ParserBase {
       final String v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.create("PrimaryIdentifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -9373,7 +11848,7 @@ public final class CFactoryParser extends ParserBase {
           if (yyResult.hasValue(")")) {
 
             yyValue = GNode.create("SimpleAssemblyExpression", v$g$1);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
@@ -9471,7 +11946,7 @@ public final class CFactoryParser extends ParserBase {
                   final Node v$g$4 = yyResult.semanticValue();
 
                   yyValue = GNode.create("AssemblyArgument", v$g$1, v$g$2, v$g$3, v$g$4);
-                  yyValue.setLocation(location(yyStart));
+                  locate(yyValue, yyStart);
 
                   return yyResult.createValue(yyValue, yyError);
                 }
@@ -9482,7 +11957,7 @@ public final class CFactoryParser extends ParserBase {
               // Nested alternative 2.
 
               yyValue = GNode.create("AssemblyArgument", v$g$1, v$g$2, v$g$3);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return new SemanticValue(yyValue, yyChoice3, yyError);
             } // End scope for v$g$3.
@@ -9493,7 +11968,7 @@ public final class CFactoryParser extends ParserBase {
           // Nested alternative 2.
 
           yyValue = GNode.create("AssemblyArgument", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyChoice2, yyError);
         } // End scope for v$g$2.
@@ -9504,7 +11979,7 @@ public final class CFactoryParser extends ParserBase {
       // Nested alternative 2.
 
       yyValue = GNode.create("AssemblyArgument", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return new SemanticValue(yyValue, yyChoice1, yyError);
     }
@@ -9524,10 +11999,15 @@ public final class CFactoryParser extends ParserBase {
    */
   private Result pAssemblyOperands(final int yyStart) throws IOException {
     CFactoryParserColumn yyColumn = (CFactoryParserColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fAssemblyOperands) 
-      yyColumn.chunk3.fAssemblyOperands = pAssemblyOperands$1(yyStart);
-    return yyColumn.chunk3.fAssemblyOperands;
+    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
+    if (null == yyColumn.chunk4.fAssemblyOperands) {
+      yyColumn.chunk4.fAssemblyOperands = pAssemblyOperands$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(22, yyColumn.chunk4.fAssemblyOperands);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(22, yyColumn.chunk4.fAssemblyOperands);
+    }
+    return yyColumn.chunk4.fAssemblyOperands;
   }
 
   /** Actually parse xtc.lang.CPattern.AssemblyOperands. */
@@ -9549,7 +12029,7 @@ public final class CFactoryParser extends ParserBase {
         final Pair<Node> v$g$2 = yyResult.semanticValue();
 
         yyValue = GNode.createFromPair("AssemblyOperands", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -9572,10 +12052,16 @@ public final class CFactoryParser extends ParserBase {
     throws IOException {
 
     CFactoryParserColumn yyColumn = (CFactoryParserColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fAssemblyOperands$$Star1) 
-      yyColumn.chunk3.fAssemblyOperands$$Star1 = pAssemblyOperands$$Star1$1(yyStart);
-    return yyColumn.chunk3.fAssemblyOperands$$Star1;
+    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
+    if (null == yyColumn.chunk4.fAssemblyOperands$$Star1) {
+      yyColumn.chunk4.fAssemblyOperands$$Star1 = 
+        pAssemblyOperands$$Star1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(23, yyColumn.chunk4.fAssemblyOperands$$Star1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(23, yyColumn.chunk4.fAssemblyOperands$$Star1);
+    }
+    return yyColumn.chunk4.fAssemblyOperands$$Star1;
   }
 
   /** Actually parse xtc.lang.CFactory.AssemblyOperands$$Star1. */
@@ -9626,10 +12112,15 @@ public final class CFactoryParser extends ParserBase {
    */
   private Result pAssemblyOperand(final int yyStart) throws IOException {
     CFactoryParserColumn yyColumn = (CFactoryParserColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fAssemblyOperand) 
-      yyColumn.chunk3.fAssemblyOperand = pAssemblyOperand$1(yyStart);
-    return yyColumn.chunk3.fAssemblyOperand;
+    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
+    if (null == yyColumn.chunk4.fAssemblyOperand) {
+      yyColumn.chunk4.fAssemblyOperand = pAssemblyOperand$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(24, yyColumn.chunk4.fAssemblyOperand);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(24, yyColumn.chunk4.fAssemblyOperand);
+    }
+    return yyColumn.chunk4.fAssemblyOperand;
   }
 
   /** Actually parse xtc.lang.CPattern.AssemblyOperand. */
@@ -9690,7 +12181,7 @@ public final class CFactoryParser extends ParserBase {
             if (yyResult.hasValue(")")) {
 
               yyValue = GNode.create("AssemblyOperand", v$g$1, v$g$2, v$g$3);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             } else {
@@ -9720,7 +12211,8 @@ public final class CFactoryParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -9732,7 +12224,8 @@ public final class CFactoryParser extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyBase   = yyRepetition1;
@@ -9745,7 +12238,7 @@ public final class CFactoryParser extends ParserBase {
             final Node v$el$1 = yyResult.semanticValue();
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
         } else {
@@ -9754,10 +12247,11 @@ public final class CFactoryParser extends ParserBase {
         break;
       }
       { // Start scope for v$g$2.
-        final Pair<Node> v$g$2 = yyRepValue1.reverse();
+        final int v$g$2 = yyRepStart1;
+        final int v$g$2$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("AssemblyClobbers", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("AssemblyClobbers", v$g$1, v$g$2, v$g$2$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$2.
@@ -9779,8 +12273,13 @@ public final class CFactoryParser extends ParserBase {
   private Result pAsmKeyword(final int yyStart) throws IOException {
     CFactoryParserColumn yyColumn = (CFactoryParserColumn)column(yyStart);
     if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fAsmKeyword) 
+    if (null == yyColumn.chunk3.fAsmKeyword) {
       yyColumn.chunk3.fAsmKeyword = pAsmKeyword$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(25, yyColumn.chunk3.fAsmKeyword);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(25, yyColumn.chunk3.fAsmKeyword);
+    }
     return yyColumn.chunk3.fAsmKeyword;
   }
 
@@ -9790,34 +12289,102 @@ public final class CFactoryParser extends ParserBase {
     Void       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x7;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("asm")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("asm")) {
 
-      yyValue = null;
+        yyValue = null;
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__asm")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__asm")) {
 
-      yyValue = null;
+        yyValue = null;
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__asm__")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__asm__")) {
 
-      yyValue = null;
+        yyValue = null;
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -9842,30 +12409,124 @@ public final class CFactoryParser extends ParserBase {
     // Start a state modification.
     yyState.start();
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '#':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x2;
+      break;
+
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Declaration>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pDeclaration(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pDeclaration(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      // Commit the state modification.
-      yyState.commit();
+        // Commit the state modification.
+        yyState.commit();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Function>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pFunctionDefinition(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pFunctionDefinition(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      // Commit the state modification.
-      yyState.commit();
+        // Commit the state modification.
+        yyState.commit();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Statement>.
@@ -9927,7 +12588,7 @@ public final class CFactoryParser extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.create("PrimaryIdentifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -9958,7 +12619,7 @@ public final class CFactoryParser extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.create("ExpressionList", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -9978,10 +12639,15 @@ public final class CFactoryParser extends ParserBase {
    */
   private Result pNodeVariable(final int yyStart) throws IOException {
     CFactoryParserColumn yyColumn = (CFactoryParserColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fNodeVariable) 
-      yyColumn.chunk3.fNodeVariable = pNodeVariable$1(yyStart);
-    return yyColumn.chunk3.fNodeVariable;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fNodeVariable) {
+      yyColumn.chunk1.fNodeVariable = pNodeVariable$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(26, yyColumn.chunk1.fNodeVariable);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(26, yyColumn.chunk1.fNodeVariable);
+    }
+    return yyColumn.chunk1.fNodeVariable;
   }
 
   /** Actually parse xtc.lang.CPattern.NodeVariable. */
@@ -10004,7 +12670,7 @@ public final class CFactoryParser extends ParserBase {
         final String v$g$1 = yyResult.semanticValue();
 
         yyValue = GNode.create("NodeVariable", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -10026,10 +12692,15 @@ public final class CFactoryParser extends ParserBase {
    */
   private Result pStringVariable(final int yyStart) throws IOException {
     CFactoryParserColumn yyColumn = (CFactoryParserColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fStringVariable) 
-      yyColumn.chunk3.fStringVariable = pStringVariable$1(yyStart);
-    return yyColumn.chunk3.fStringVariable;
+    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
+    if (null == yyColumn.chunk2.fStringVariable) {
+      yyColumn.chunk2.fStringVariable = pStringVariable$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(27, yyColumn.chunk2.fStringVariable);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(27, yyColumn.chunk2.fStringVariable);
+    }
+    return yyColumn.chunk2.fStringVariable;
   }
 
   /** Actually parse xtc.lang.CPattern.StringVariable. */
@@ -10052,7 +12723,7 @@ public final class CFactoryParser extends ParserBase {
         final String v$g$1 = yyResult.semanticValue();
 
         yyValue = GNode.create("StringVariable", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -10074,10 +12745,15 @@ public final class CFactoryParser extends ParserBase {
    */
   private Result pNodeListVariable(final int yyStart) throws IOException {
     CFactoryParserColumn yyColumn = (CFactoryParserColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fNodeListVariable) 
-      yyColumn.chunk3.fNodeListVariable = pNodeListVariable$1(yyStart);
-    return yyColumn.chunk3.fNodeListVariable;
+    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
+    if (null == yyColumn.chunk4.fNodeListVariable) {
+      yyColumn.chunk4.fNodeListVariable = pNodeListVariable$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(28, yyColumn.chunk4.fNodeListVariable);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(28, yyColumn.chunk4.fNodeListVariable);
+    }
+    return yyColumn.chunk4.fNodeListVariable;
   }
 
   /** Actually parse xtc.lang.CPattern.NodeListVariable. */
@@ -10112,7 +12788,7 @@ public final class CFactoryParser extends ParserBase {
             if (yyResult.hasValue()) {
 
               yyValue = GNode.create("NodeListVariable", v$g$1);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -10140,54 +12816,97 @@ public final class CFactoryParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
-    // Alternative 1.
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '\"':
+      yyFirst = 0x8;
+      break;
+
+    case '\'':
+      yyFirst = 0x4;
+      break;
+
+    case '.':
+      yyFirst = 0x1;
+      break;
+
+    case '0':
+    case '1':
+    case '2':
+    case '3':
+    case '4':
+    case '5':
+    case '6':
+    case '7':
+    case '8':
+    case '9':
+      yyFirst = 0x3;
+      break;
+
+    case 'L':
+      yyFirst = 0xc;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
 
-    yyResult = pFloatingConstant(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+    // Alternative 1.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-      yyResult = pSpacing(yyResult.index);
+      yyResult = pFloatingConstant(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-        return yyResult.createValue(yyValue, yyError);
+        yyResult = pSpacing(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 2.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pIntegerConstant(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
-
-      yyResult = pSpacing(yyResult.index);
+      yyResult = pIntegerConstant(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-        return yyResult.createValue(yyValue, yyError);
+        yyResult = pSpacing(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 3.
+    if ((0 != (yyFirst & 0x4)) || (yyError.index < yyStart)) {
 
-    yyResult = pCharacterConstant(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pCharacterConstant(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 4.
+    if ((0 != (yyFirst & 0x8)) || (yyError.index < yyStart)) {
 
-    yyResult = pStringConstant(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pStringConstant(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -10208,43 +12927,71 @@ public final class CFactoryParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '0':
+      yyFirst = 0x3;
+      break;
+
+    case '1':
+    case '2':
+    case '3':
+    case '4':
+    case '5':
+    case '6':
+    case '7':
+    case '8':
+    case '9':
+      yyFirst = 0x4;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Hex>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pHexConstant(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final String v$g$1 = yyResult.semanticValue();
+      yyResult = pHexConstant(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final String v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerConstant", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("IntegerConstant", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Octal>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pOctalConstant(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final String v$g$2 = yyResult.semanticValue();
+      yyResult = pOctalConstant(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final String v$g$2 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerConstant", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("IntegerConstant", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Decimal>.
+    if ((0 != (yyFirst & 0x4)) || (yyError.index < yyStart)) {
 
-    yyResult = pDecimalConstant(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final String v$g$3 = yyResult.semanticValue();
+      yyResult = pDecimalConstant(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final String v$g$3 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerConstant", v$g$3);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("IntegerConstant", v$g$3);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -10286,35 +13033,7 @@ public final class CFactoryParser extends ParserBase {
       case '8':
       case '9':
         {
-          yyRepetition1 = yyIndex;
-          while (true) {
-
-            yyC = character(yyRepetition1);
-            if (-1 != yyC) {
-              yyIndex = yyRepetition1 + 1;
-
-              switch (yyC) {
-              case '0':
-              case '1':
-              case '2':
-              case '3':
-              case '4':
-              case '5':
-              case '6':
-              case '7':
-              case '8':
-              case '9':
-                {
-                  yyRepetition1 = yyIndex;
-                  continue;
-                }
-
-              default:
-                /* No match. */
-              }
-            }
-            break;
-          }
+          yyRepetition1 = scan(yyIndex, 0x3ff000000000000L, 0x0L, false);
 
           yyOption1  = yyRepetition1;
 
@@ -10500,33 +13219,7 @@ public final class CFactoryParser extends ParserBase {
     if ('0' == yyC) {
       yyIndex = yyStart + 1;
 
-      yyRepetition1 = yyIndex;
-      while (true) {
-
-        yyC = character(yyRepetition1);
-        if (-1 != yyC) {
-          yyIndex = yyRepetition1 + 1;
-
-          switch (yyC) {
-          case '0':
-          case '1':
-          case '2':
-          case '3':
-          case '4':
-          case '5':
-          case '6':
-          case '7':
-            {
-              yyRepetition1 = yyIndex;
-              continue;
-            }
-
-          default:
-            /* No match. */
-          }
-        }
-        break;
-      }
+      yyRepetition1 = scan(yyIndex, 0xff000000000000L, 0x0L, false);
 
       yyOption1  = yyRepetition1;
 
@@ -10563,156 +13256,176 @@ public final class CFactoryParser extends ParserBase {
     Void       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'L':
+    case 'l':
+      yyFirst = 0x3;
+      break;
+
+    case 'U':
+    case 'u':
+      yyFirst = 0x2;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pLongLongSuffix(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
+      yyResult = pLongLongSuffix(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
 
-      final int yyChoice1 = yyResult.index;
+        final int yyChoice1 = yyResult.index;
 
-      // Nested alternative 1.
+        // Nested alternative 1.
 
-      yyC = character(yyChoice1);
-      if (-1 != yyC) {
-        yyIndex = yyChoice1 + 1;
+        yyC = character(yyChoice1);
+        if (-1 != yyC) {
+          yyIndex = yyChoice1 + 1;
 
-        switch (yyC) {
-        case 'U':
-        case 'u':
-          {
-            yyValue = null;
+          switch (yyC) {
+          case 'U':
+          case 'u':
+            {
+              yyValue = null;
 
-            return new SemanticValue(yyValue, yyIndex, yyError);
-          }
+              return new SemanticValue(yyValue, yyIndex, yyError);
+            }
 
-        default:
-          /* No match. */
+          default:
+            /* No match. */
+          }
         }
-      }
 
-      // Nested alternative 2.
+        // Nested alternative 2.
 
-      yyValue = null;
+        yyValue = null;
 
-      return new SemanticValue(yyValue, yyChoice1, yyError);
+        return new SemanticValue(yyValue, yyChoice1, yyError);
+      }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyC = character(yyStart);
-    if (-1 != yyC) {
-      yyIndex = yyStart + 1;
+      yyC = character(yyStart);
+      if (-1 != yyC) {
+        yyIndex = yyStart + 1;
 
-      switch (yyC) {
-      case 'L':
-      case 'l':
-        {
-          final int yyChoice1 = yyIndex;
+        switch (yyC) {
+        case 'L':
+        case 'l':
+          {
+            final int yyChoice1 = yyIndex;
 
-          // Nested alternative 1.
+            // Nested alternative 1.
 
-          yyC = character(yyChoice1);
-          if (-1 != yyC) {
-            yyIndex = yyChoice1 + 1;
+            yyC = character(yyChoice1);
+            if (-1 != yyC) {
+              yyIndex = yyChoice1 + 1;
 
-            switch (yyC) {
-            case 'U':
-            case 'u':
-              {
-                yyValue = null;
+              switch (yyC) {
+              case 'U':
+              case 'u':
+                {
+                  yyValue = null;
 
-                return new SemanticValue(yyValue, yyIndex, yyError);
-              }
+                  return new SemanticValue(yyValue, yyIndex, yyError);
+                }
 
-            default:
-              /* No match. */
+              default:
+                /* No match. */
+              }
             }
-          }
 
-          // Nested alternative 2.
+            // Nested alternative 2.
 
-          yyValue = null;
+            yyValue = null;
 
-          return new SemanticValue(yyValue, yyChoice1, yyError);
-        }
+            return new SemanticValue(yyValue, yyChoice1, yyError);
+          }
 
-      case 'U':
-      case 'u':
-        {
-          final int yyChoice1 = yyIndex;
+        case 'U':
+        case 'u':
+          {
+            final int yyChoice1 = yyIndex;
 
-          // Nested alternative 1.
+            // Nested alternative 1.
 
-          yyC = character(yyChoice1);
-          if (-1 != yyC) {
-            yyIndex = yyChoice1 + 1;
+            yyC = character(yyChoice1);
+            if (-1 != yyC) {
+              yyIndex = yyChoice1 + 1;
 
-            switch (yyC) {
-            case 'l':
-              {
-                yyC = character(yyIndex);
-                if (-1 != yyC) {
-                  yyIndex = yyIndex + 1;
-                  if ('l' == yyC) {
+              switch (yyC) {
+              case 'l':
+                {
+                  yyC = character(yyIndex);
+                  if (-1 != yyC) {
+                    yyIndex = yyIndex + 1;
+                    if ('l' == yyC) {
 
-                    yyValue = null;
+                      yyValue = null;
 
-                    return new SemanticValue(yyValue, yyIndex, yyError);
+                      return new SemanticValue(yyValue, yyIndex, yyError);
+                    }
                   }
                 }
-              }
-              break;
+                break;
 
-            case 'L':
-              {
-                yyC = character(yyIndex);
-                if (-1 != yyC) {
-                  yyIndex = yyIndex + 1;
-                  if ('L' == yyC) {
+              case 'L':
+                {
+                  yyC = character(yyIndex);
+                  if (-1 != yyC) {
+                    yyIndex = yyIndex + 1;
+                    if ('L' == yyC) {
 
-                    yyValue = null;
+                      yyValue = null;
 
-                    return new SemanticValue(yyValue, yyIndex, yyError);
+                      return new SemanticValue(yyValue, yyIndex, yyError);
+                    }
                   }
                 }
-              }
-              break;
+                break;
 
-            default:
-              /* No match. */
+              default:
+                /* No match. */
+              }
             }
-          }
 
-          // Nested alternative 2.
+            // Nested alternative 2.
 
-          yyC = character(yyChoice1);
-          if (-1 != yyC) {
-            yyIndex = yyChoice1 + 1;
+            yyC = character(yyChoice1);
+            if (-1 != yyC) {
+              yyIndex = yyChoice1 + 1;
 
-            switch (yyC) {
-            case 'L':
-            case 'l':
-              {
-                yyValue = null;
+              switch (yyC) {
+              case 'L':
+              case 'l':
+                {
+                  yyValue = null;
 
-                return new SemanticValue(yyValue, yyIndex, yyError);
-              }
+                  return new SemanticValue(yyValue, yyIndex, yyError);
+                }
 
-            default:
-              /* No match. */
+              default:
+                /* No match. */
+              }
             }
-          }
 
-          // Nested alternative 3.
+            // Nested alternative 3.
 
-          yyValue = null;
+            yyValue = null;
 
-          return new SemanticValue(yyValue, yyChoice1, yyError);
-        }
+            return new SemanticValue(yyValue, yyChoice1, yyError);
+          }
 
-      default:
-        /* No match. */
+        default:
+          /* No match. */
+        }
       }
     }
 
@@ -10797,30 +13510,57 @@ public final class CFactoryParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '.':
+    case '1':
+    case '2':
+    case '3':
+    case '4':
+    case '5':
+    case '6':
+    case '7':
+    case '8':
+    case '9':
+      yyFirst = 0x1;
+      break;
+
+    case '0':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Decimal>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pDecimalFloatingConstant(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final String v$g$1 = yyResult.semanticValue();
+      yyResult = pDecimalFloatingConstant(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final String v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("FloatingConstant", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("FloatingConstant", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Hex>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pHexFloatingConstant(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final String v$g$2 = yyResult.semanticValue();
+      yyResult = pHexFloatingConstant(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final String v$g$2 = yyResult.semanticValue();
 
-      yyValue = GNode.create("FloatingConstant", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("FloatingConstant", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -10848,47 +13588,117 @@ public final class CFactoryParser extends ParserBase {
     String     yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '.':
+      yyFirst = 0x2;
+      break;
+
+    case '0':
+    case '1':
+    case '2':
+    case '3':
+    case '4':
+    case '5':
+    case '6':
+    case '7':
+    case '8':
+    case '9':
+      yyFirst = 0x5;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index <= yyStart)) {
 
-    yyRepetition1 = yyStart;
-    yyRepeated1   = false;
-    while (true) {
+      yyRepetition1 = yyStart;
+      yyRepeated1   = false;
+      while (true) {
 
-      yyC = character(yyRepetition1);
-      if (-1 != yyC) {
-        yyIndex = yyRepetition1 + 1;
+        yyC = character(yyRepetition1);
+        if (-1 != yyC) {
+          yyIndex = yyRepetition1 + 1;
 
-        switch (yyC) {
-        case '0':
-        case '1':
-        case '2':
-        case '3':
-        case '4':
-        case '5':
-        case '6':
-        case '7':
-        case '8':
-        case '9':
-          {
-            yyRepetition1 = yyIndex;
-            yyRepeated1   = true;
-            continue;
+          switch (yyC) {
+          case '0':
+          case '1':
+          case '2':
+          case '3':
+          case '4':
+          case '5':
+          case '6':
+          case '7':
+          case '8':
+          case '9':
+            {
+              yyRepetition1 = yyIndex;
+              yyRepeated1   = true;
+              continue;
+            }
+
+          default:
+            /* No match. */
           }
+        }
+        break;
+      }
 
-        default:
-          /* No match. */
+      if (yyRepeated1) {
+
+        yyC = character(yyRepetition1);
+        if ('.' == yyC) {
+          yyIndex = yyRepetition1 + 1;
+
+          yyRepetition1 = scan(yyIndex, 0x3ff000000000000L, 0x0L, false);
+
+          yyOption1  = yyRepetition1;
+
+          yyResult = pExponent(yyOption1);
+          yyError  = yyResult.select(yyError, yyOption1);
+          if (yyResult.hasValue()) {
+
+            yyOption1  = yyResult.index;
+          }
+
+
+          yyC = character(yyOption1);
+          if (-1 != yyC) {
+            yyIndex = yyOption1 + 1;
+
+            switch (yyC) {
+            case 'F':
+            case 'L':
+            case 'f':
+            case 'l':
+              {
+                yyOption1  = yyIndex;
+              }
+              break;
+
+            default:
+              /* No match. */
+            }
+          }
+
+          yyValue = difference(yyStart, yyOption1);
+
+          return new SemanticValue(yyValue, yyOption1, yyError);
         }
       }
-      break;
     }
 
-    if (yyRepeated1) {
+    // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-      yyC = character(yyRepetition1);
+      yyC = character(yyStart);
       if ('.' == yyC) {
-        yyIndex = yyRepetition1 + 1;
+        yyIndex = yyStart + 1;
 
         yyRepetition1 = yyIndex;
+        yyRepeated1   = false;
         while (true) {
 
           yyC = character(yyRepetition1);
@@ -10908,6 +13718,7 @@ public final class CFactoryParser extends ParserBase {
             case '9':
               {
                 yyRepetition1 = yyIndex;
+                yyRepeated1   = true;
                 continue;
               }
 
@@ -10918,48 +13729,48 @@ public final class CFactoryParser extends ParserBase {
           break;
         }
 
-        yyOption1  = yyRepetition1;
+        if (yyRepeated1) {
 
-        yyResult = pExponent(yyOption1);
-        yyError  = yyResult.select(yyError, yyOption1);
-        if (yyResult.hasValue()) {
+          yyOption1  = yyRepetition1;
 
-          yyOption1  = yyResult.index;
-        }
+          yyResult = pExponent(yyOption1);
+          yyError  = yyResult.select(yyError, yyOption1);
+          if (yyResult.hasValue()) {
 
+            yyOption1  = yyResult.index;
+          }
 
-        yyC = character(yyOption1);
-        if (-1 != yyC) {
-          yyIndex = yyOption1 + 1;
 
-          switch (yyC) {
-          case 'F':
-          case 'L':
-          case 'f':
-          case 'l':
-            {
-              yyOption1  = yyIndex;
-            }
-            break;
+          yyC = character(yyOption1);
+          if (-1 != yyC) {
+            yyIndex = yyOption1 + 1;
 
-          default:
-            /* No match. */
+            switch (yyC) {
+            case 'F':
+            case 'L':
+            case 'f':
+            case 'l':
+              {
+                yyOption1  = yyIndex;
+              }
+              break;
+
+            default:
+              /* No match. */
+            }
           }
-        }
 
-        yyValue = difference(yyStart, yyOption1);
+          yyValue = difference(yyStart, yyOption1);
 
-        return new SemanticValue(yyValue, yyOption1, yyError);
+          return new SemanticValue(yyValue, yyOption1, yyError);
+        }
       }
     }
 
-    // Alternative 2.
-
-    yyC = character(yyStart);
-    if ('.' == yyC) {
-      yyIndex = yyStart + 1;
+    // Alternative 3.
+    if ((0 != (yyFirst & 0x4)) || (yyError.index <= yyStart)) {
 
-      yyRepetition1 = yyIndex;
+      yyRepetition1 = yyStart;
       yyRepeated1   = false;
       while (true) {
 
@@ -10991,107 +13802,37 @@ public final class CFactoryParser extends ParserBase {
         break;
       }
 
-      if (yyRepeated1) {
-
-        yyOption1  = yyRepetition1;
-
-        yyResult = pExponent(yyOption1);
-        yyError  = yyResult.select(yyError, yyOption1);
-        if (yyResult.hasValue()) {
-
-          yyOption1  = yyResult.index;
-        }
-
-
-        yyC = character(yyOption1);
-        if (-1 != yyC) {
-          yyIndex = yyOption1 + 1;
-
-          switch (yyC) {
-          case 'F':
-          case 'L':
-          case 'f':
-          case 'l':
-            {
-              yyOption1  = yyIndex;
-            }
-            break;
-
-          default:
-            /* No match. */
-          }
-        }
-
-        yyValue = difference(yyStart, yyOption1);
-
-        return new SemanticValue(yyValue, yyOption1, yyError);
-      }
-    }
-
-    // Alternative 3.
-
-    yyRepetition1 = yyStart;
-    yyRepeated1   = false;
-    while (true) {
-
-      yyC = character(yyRepetition1);
-      if (-1 != yyC) {
-        yyIndex = yyRepetition1 + 1;
-
-        switch (yyC) {
-        case '0':
-        case '1':
-        case '2':
-        case '3':
-        case '4':
-        case '5':
-        case '6':
-        case '7':
-        case '8':
-        case '9':
-          {
-            yyRepetition1 = yyIndex;
-            yyRepeated1   = true;
-            continue;
-          }
-
-        default:
-          /* No match. */
-        }
-      }
-      break;
-    }
-
-    if (yyRepeated1) {
+      if (yyRepeated1) {
 
-      yyResult = pExponent(yyRepetition1);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
+        yyResult = pExponent(yyRepetition1);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
 
-        yyOption1  = yyResult.index;
+          yyOption1  = yyResult.index;
 
-        yyC = character(yyOption1);
-        if (-1 != yyC) {
-          yyIndex = yyOption1 + 1;
+          yyC = character(yyOption1);
+          if (-1 != yyC) {
+            yyIndex = yyOption1 + 1;
 
-          switch (yyC) {
-          case 'F':
-          case 'L':
-          case 'f':
-          case 'l':
-            {
-              yyOption1  = yyIndex;
-            }
-            break;
+            switch (yyC) {
+            case 'F':
+            case 'L':
+            case 'f':
+            case 'l':
+              {
+                yyOption1  = yyIndex;
+              }
+              break;
 
-          default:
-            /* No match. */
+            default:
+              /* No match. */
+            }
           }
-        }
 
-        yyValue = difference(yyStart, yyOption1);
+          yyValue = difference(yyStart, yyOption1);
 
-        return new SemanticValue(yyValue, yyOption1, yyError);
+          return new SemanticValue(yyValue, yyOption1, yyError);
+        }
       }
     }
 
@@ -11179,47 +13920,7 @@ public final class CFactoryParser extends ParserBase {
         if ('.' == yyC) {
           yyIndex = yyRepetition1 + 1;
 
-          yyRepetition1 = yyIndex;
-          while (true) {
-
-            yyC = character(yyRepetition1);
-            if (-1 != yyC) {
-              yyIndex = yyRepetition1 + 1;
-
-              switch (yyC) {
-              case '0':
-              case '1':
-              case '2':
-              case '3':
-              case '4':
-              case '5':
-              case '6':
-              case '7':
-              case '8':
-              case '9':
-              case 'A':
-              case 'B':
-              case 'C':
-              case 'D':
-              case 'E':
-              case 'F':
-              case 'a':
-              case 'b':
-              case 'c':
-              case 'd':
-              case 'e':
-              case 'f':
-                {
-                  yyRepetition1 = yyIndex;
-                  continue;
-                }
-
-              default:
-                /* No match. */
-              }
-            }
-            break;
-          }
+          yyRepetition1 = scan(yyIndex, 0x3ff000000000000L, 0x7e0000007eL, false);
 
           yyResult = pBinaryExponent(yyRepetition1);
           yyError  = yyResult.select(yyError);
@@ -11433,10 +14134,15 @@ public final class CFactoryParser extends ParserBase {
    */
   private Result pExponent(final int yyStart) throws IOException {
     CFactoryParserColumn yyColumn = (CFactoryParserColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fExponent) 
-      yyColumn.chunk3.fExponent = pExponent$1(yyStart);
-    return yyColumn.chunk3.fExponent;
+    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
+    if (null == yyColumn.chunk4.fExponent) {
+      yyColumn.chunk4.fExponent = pExponent$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(29, yyColumn.chunk4.fExponent);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(29, yyColumn.chunk4.fExponent);
+    }
+    return yyColumn.chunk4.fExponent;
   }
 
   /** Actually parse xtc.lang.CConstant.Exponent. */
@@ -11513,8 +14219,13 @@ public final class CFactoryParser extends ParserBase {
   private Result p$$Shared2(final int yyStart) throws IOException {
     CFactoryParserColumn yyColumn = (CFactoryParserColumn)column(yyStart);
     if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.f$$Shared2) 
+    if (null == yyColumn.chunk4.f$$Shared2) {
       yyColumn.chunk4.f$$Shared2 = p$$Shared2$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(30, yyColumn.chunk4.f$$Shared2);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(30, yyColumn.chunk4.f$$Shared2);
+    }
     return yyColumn.chunk4.f$$Shared2;
   }
 
@@ -11585,10 +14296,15 @@ public final class CFactoryParser extends ParserBase {
    */
   private Result pBinaryExponent(final int yyStart) throws IOException {
     CFactoryParserColumn yyColumn = (CFactoryParserColumn)column(yyStart);
-    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.fBinaryExponent) 
-      yyColumn.chunk4.fBinaryExponent = pBinaryExponent$1(yyStart);
-    return yyColumn.chunk4.fBinaryExponent;
+    if (null == yyColumn.chunk5) yyColumn.chunk5 = new Chunk5();
+    if (null == yyColumn.chunk5.fBinaryExponent) {
+      yyColumn.chunk5.fBinaryExponent = pBinaryExponent$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(31, yyColumn.chunk5.fBinaryExponent);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(31, yyColumn.chunk5.fBinaryExponent);
+    }
+    return yyColumn.chunk5.fBinaryExponent;
   }
 
   /** Actually parse xtc.lang.CConstant.BinaryExponent. */
@@ -11664,39 +14380,57 @@ public final class CFactoryParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
-    // Alternative 1.
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '\'':
+      yyFirst = 0x2;
+      break;
 
-    yyResult = pWideCharacterLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final String v$g$1 = yyResult.semanticValue();
+    case 'L':
+      yyFirst = 0x1;
+      break;
 
-      yyResult = pSpacing(yyResult.index);
+    default:
+      yyFirst = 0;
+    }
+
+    // Alternative 1.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
+
+      yyResult = pWideCharacterLiteral(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
+        final String v$g$1 = yyResult.semanticValue();
+
+        yyResult = pSpacing(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
 
-        yyValue = GNode.create("CharacterConstant", v$g$1);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("CharacterConstant", v$g$1);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 2.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pCharacterLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final String v$g$2 = yyResult.semanticValue();
-
-      yyResult = pSpacing(yyResult.index);
+      yyResult = pCharacterLiteral(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
+        final String v$g$2 = yyResult.semanticValue();
+
+        yyResult = pSpacing(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
 
-        yyValue = GNode.create("CharacterConstant", v$g$2);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("CharacterConstant", v$g$2);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
@@ -11752,10 +14486,15 @@ public final class CFactoryParser extends ParserBase {
    */
   private Result pCharacterLiteral(final int yyStart) throws IOException {
     CFactoryParserColumn yyColumn = (CFactoryParserColumn)column(yyStart);
-    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.fCharacterLiteral) 
-      yyColumn.chunk4.fCharacterLiteral = pCharacterLiteral$1(yyStart);
-    return yyColumn.chunk4.fCharacterLiteral;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fCharacterLiteral) {
+      yyColumn.chunk1.fCharacterLiteral = pCharacterLiteral$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(32, yyColumn.chunk1.fCharacterLiteral);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(32, yyColumn.chunk1.fCharacterLiteral);
+    }
+    return yyColumn.chunk1.fCharacterLiteral;
   }
 
   /** Actually parse xtc.lang.CConstant.CharacterLiteral. */
@@ -11938,10 +14677,15 @@ public final class CFactoryParser extends ParserBase {
    */
   private Result pStringConstant(final int yyStart) throws IOException {
     CFactoryParserColumn yyColumn = (CFactoryParserColumn)column(yyStart);
-    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.fStringConstant) 
-      yyColumn.chunk4.fStringConstant = pStringConstant$1(yyStart);
-    return yyColumn.chunk4.fStringConstant;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fStringConstant) {
+      yyColumn.chunk1.fStringConstant = pStringConstant$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(33, yyColumn.chunk1.fStringConstant);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(33, yyColumn.chunk1.fStringConstant);
+    }
+    return yyColumn.chunk1.fStringConstant;
   }
 
   /** Actually parse xtc.lang.CConstant.StringConstant. */
@@ -11958,7 +14702,7 @@ public final class CFactoryParser extends ParserBase {
       final Pair<String> v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.createFromPair("StringConstant", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -11983,33 +14727,51 @@ public final class CFactoryParser extends ParserBase {
     String     yyValue;
     ParseError yyError = ParseError.DUMMY;
 
-    // Alternative 1.
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '\"':
+      yyFirst = 0x2;
+      break;
 
-    yyResult = pWideStringLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+    case 'L':
+      yyFirst = 0x1;
+      break;
 
-      yyResult = pSpacing(yyResult.index);
+    default:
+      yyFirst = 0;
+    }
+
+    // Alternative 1.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
+
+      yyResult = pWideStringLiteral(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-        return yyResult.createValue(yyValue, yyError);
+        yyResult = pSpacing(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 2.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pStringLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
-
-      yyResult = pSpacing(yyResult.index);
+      yyResult = pStringLiteral(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-        return yyResult.createValue(yyValue, yyError);
+        yyResult = pSpacing(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
@@ -12030,10 +14792,16 @@ public final class CFactoryParser extends ParserBase {
     throws IOException {
 
     CFactoryParserColumn yyColumn = (CFactoryParserColumn)column(yyStart);
-    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.fStringConstant$$Plus1) 
-      yyColumn.chunk4.fStringConstant$$Plus1 = pStringConstant$$Plus1$1(yyStart);
-    return yyColumn.chunk4.fStringConstant$$Plus1;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fStringConstant$$Plus1) {
+      yyColumn.chunk1.fStringConstant$$Plus1 = 
+        pStringConstant$$Plus1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(34, yyColumn.chunk1.fStringConstant$$Plus1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(34, yyColumn.chunk1.fStringConstant$$Plus1);
+    }
+    return yyColumn.chunk1.fStringConstant$$Plus1;
   }
 
   /** Actually parse xtc.lang.CFactory.StringConstant$$Plus1. */
@@ -12124,10 +14892,15 @@ public final class CFactoryParser extends ParserBase {
    */
   private Result pStringLiteral(final int yyStart) throws IOException {
     CFactoryParserColumn yyColumn = (CFactoryParserColumn)column(yyStart);
-    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.fStringLiteral) 
-      yyColumn.chunk4.fStringLiteral = pStringLiteral$1(yyStart);
-    return yyColumn.chunk4.fStringLiteral;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fStringLiteral) {
+      yyColumn.chunk1.fStringLiteral = pStringLiteral$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(35, yyColumn.chunk1.fStringLiteral);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(35, yyColumn.chunk1.fStringLiteral);
+    }
+    return yyColumn.chunk1.fStringLiteral;
   }
 
   /** Actually parse xtc.lang.CConstant.StringLiteral. */
@@ -12644,10 +15417,16 @@ public final class CFactoryParser extends ParserBase {
     throws IOException {
 
     CFactoryParserColumn yyColumn = (CFactoryParserColumn)column(yyStart);
-    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.fCIdentifier$Identifier) 
-      yyColumn.chunk4.fCIdentifier$Identifier = pCIdentifier$Identifier$1(yyStart);
-    return yyColumn.chunk4.fCIdentifier$Identifier;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fCIdentifier$Identifier) {
+      yyColumn.chunk1.fCIdentifier$Identifier = 
+        pCIdentifier$Identifier$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(36, yyColumn.chunk1.fCIdentifier$Identifier);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(36, yyColumn.chunk1.fCIdentifier$Identifier);
+    }
+    return yyColumn.chunk1.fCIdentifier$Identifier;
   }
 
   /** Actually parse xtc.lang.CIdentifier.Identifier. */
@@ -12687,10 +15466,15 @@ public final class CFactoryParser extends ParserBase {
    */
   private Result pKeyword(final int yyStart) throws IOException {
     CFactoryParserColumn yyColumn = (CFactoryParserColumn)column(yyStart);
-    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.fKeyword) 
-      yyColumn.chunk4.fKeyword = pKeyword$1(yyStart);
-    return yyColumn.chunk4.fKeyword;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fKeyword) {
+      yyColumn.chunk1.fKeyword = pKeyword$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(37, yyColumn.chunk1.fKeyword);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(37, yyColumn.chunk1.fKeyword);
+    }
+    return yyColumn.chunk1.fKeyword;
   }
 
   /** Actually parse xtc.lang.CIdentifier.Keyword. */
@@ -12728,10 +15512,15 @@ public final class CFactoryParser extends ParserBase {
    */
   private Result pCIdentifier$Word(final int yyStart) throws IOException {
     CFactoryParserColumn yyColumn = (CFactoryParserColumn)column(yyStart);
-    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.fCIdentifier$Word) 
-      yyColumn.chunk4.fCIdentifier$Word = pCIdentifier$Word$1(yyStart);
-    return yyColumn.chunk4.fCIdentifier$Word;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fCIdentifier$Word) {
+      yyColumn.chunk1.fCIdentifier$Word = pCIdentifier$Word$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(38, yyColumn.chunk1.fCIdentifier$Word);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(38, yyColumn.chunk1.fCIdentifier$Word);
+    }
+    return yyColumn.chunk1.fCIdentifier$Word;
   }
 
   /** Actually parse xtc.lang.CIdentifier.Word. */
@@ -12782,27 +15571,9 @@ public final class CFactoryParser extends ParserBase {
     yyC = character(yyStart);
     if (-1 != yyC) {
       yyIndex = yyStart + 1;
-      if ((('A' <= yyC) && (yyC <= 'Z')) ||
-          ('_' == yyC) ||
-          (('a' <= yyC) && (yyC <= 'z'))) {
+      if ((yyC < 128) && (0 != (yyClass1[yyC >> 6] & (1L << yyC)))) {
 
-        yyRepetition1 = yyIndex;
-        while (true) {
-
-          yyC = character(yyRepetition1);
-          if (-1 != yyC) {
-            yyIndex = yyRepetition1 + 1;
-            if ((('0' <= yyC) && (yyC <= '9')) ||
-                (('A' <= yyC) && (yyC <= 'Z')) ||
-                ('_' == yyC) ||
-                (('a' <= yyC) && (yyC <= 'z'))) {
-
-              yyRepetition1 = yyIndex;
-              continue;
-            }
-          }
-          break;
-        }
+        yyRepetition1 = scan(yyIndex, 0x3ff000000000000L, 0x7fffffe87fffffeL, false);
 
         yyValue = difference(yyStart, yyRepetition1);
 
@@ -12826,10 +15597,15 @@ public final class CFactoryParser extends ParserBase {
    */
   private Result pSymbol(final int yyStart) throws IOException {
     CFactoryParserColumn yyColumn = (CFactoryParserColumn)column(yyStart);
-    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.fSymbol) 
-      yyColumn.chunk4.fSymbol = pSymbol$1(yyStart);
-    return yyColumn.chunk4.fSymbol;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fSymbol) {
+      yyColumn.chunk1.fSymbol = pSymbol$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(39, yyColumn.chunk1.fSymbol);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(39, yyColumn.chunk1.fSymbol);
+    }
+    return yyColumn.chunk1.fSymbol;
   }
 
   /** Actually parse xtc.lang.CSymbol.Symbol. */
@@ -13530,28 +16306,7 @@ public final class CFactoryParser extends ParserBase {
 
               case '/':
                 {
-                  yyRepetition2 = yyIndex;
-                  while (true) {
-
-                    yyC = character(yyRepetition2);
-                    if (-1 != yyC) {
-                      yyIndex = yyRepetition2 + 1;
-
-                      switch (yyC) {
-                      case '\n':
-                      case '\r':
-                        /* No match. */
-                        break;
-
-                      default:
-                        {
-                          yyRepetition2 = yyIndex;
-                          continue;
-                        }
-                      }
-                    }
-                    break;
-                  }
+                  yyRepetition2 = scan(yyIndex, 0xffffffffffffdbffL, 0xffffffffffffffffL, true);
 
                   yyPredResult = pLineTerminator(yyRepetition2);
                   yyError      = yyPredResult.select(yyError);
@@ -14166,35 +16921,7 @@ public final class CFactoryParser extends ParserBase {
       case '8':
       case '9':
         {
-          yyRepetition1 = yyIndex;
-          while (true) {
-
-            yyC = character(yyRepetition1);
-            if (-1 != yyC) {
-              yyIndex = yyRepetition1 + 1;
-
-              switch (yyC) {
-              case '0':
-              case '1':
-              case '2':
-              case '3':
-              case '4':
-              case '5':
-              case '6':
-              case '7':
-              case '8':
-              case '9':
-                {
-                  yyRepetition1 = yyIndex;
-                  continue;
-                }
-
-              default:
-                /* No match. */
-              }
-            }
-            break;
-          }
+          yyRepetition1 = scan(yyIndex, 0x3ff000000000000L, 0x0L, false);
 
           yyValue = difference(yyStart, yyRepetition1);
 
@@ -14303,28 +17030,7 @@ public final class CFactoryParser extends ParserBase {
 
     // Alternative 1.
 
-    yyRepetition1 = yyStart;
-    while (true) {
-
-      yyC = character(yyRepetition1);
-      if (-1 != yyC) {
-        yyIndex = yyRepetition1 + 1;
-
-        switch (yyC) {
-        case '\n':
-        case '\r':
-          /* No match. */
-          break;
-
-        default:
-          {
-            yyRepetition1 = yyIndex;
-            continue;
-          }
-        }
-      }
-      break;
-    }
+    yyRepetition1 = scan(yyStart, 0xffffffffffffdbffL, 0xffffffffffffffffL, true);
 
     yyValue = difference(yyStart, yyRepetition1);
 
@@ -14519,12 +17225,13 @@ public final class CFactoryParser extends ParserBase {
    * @throws IOException Signals an I/O error.
    */
   private Result pQualifiedIdentifier(final int yyStart) throws IOException {
-    Result       yyResult;
-    int          yyBase;
-    int          yyRepetition1;
-    Pair<String> yyRepValue1;
-    Node         yyValue;
-    ParseError   yyError = ParseError.DUMMY;
+    Result     yyResult;
+    int        yyBase;
+    int        yyRepetition1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
+    Node       yyValue;
+    ParseError yyError = ParseError.DUMMY;
 
     // Alternative 1.
 
@@ -14534,7 +17241,8 @@ public final class CFactoryParser extends ParserBase {
       final String v$g$1 = yyResult.semanticValue();
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyBase   = yyRepetition1;
@@ -14547,7 +17255,7 @@ public final class CFactoryParser extends ParserBase {
             final String v$el$1 = yyResult.semanticValue();
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<String>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
         } else {
@@ -14556,10 +17264,11 @@ public final class CFactoryParser extends ParserBase {
         break;
       }
       { // Start scope for v$g$2.
-        final Pair<String> v$g$2 = yyRepValue1.reverse();
+        final int v$g$2 = yyRepStart1;
+        final int v$g$2$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("QualifiedIdentifier", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("QualifiedIdentifier", v$g$1, v$g$2, v$g$2$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$2.
@@ -14583,8 +17292,14 @@ public final class CFactoryParser extends ParserBase {
 
     CFactoryParserColumn yyColumn = (CFactoryParserColumn)column(yyStart);
     if (null == yyColumn.chunk5) yyColumn.chunk5 = new Chunk5();
-    if (null == yyColumn.chunk5.fJavaIdentifier$Identifier) 
-      yyColumn.chunk5.fJavaIdentifier$Identifier = pJavaIdentifier$Identifier$1(yyStart);
+    if (null == yyColumn.chunk5.fJavaIdentifier$Identifier) {
+      yyColumn.chunk5.fJavaIdentifier$Identifier = 
+        pJavaIdentifier$Identifier$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(40, yyColumn.chunk5.fJavaIdentifier$Identifier);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(40, yyColumn.chunk5.fJavaIdentifier$Identifier);
+    }
     return yyColumn.chunk5.fJavaIdentifier$Identifier;
   }
 
@@ -14625,10 +17340,15 @@ public final class CFactoryParser extends ParserBase {
    */
   private Result pJavaIdentifier$Word(final int yyStart) throws IOException {
     CFactoryParserColumn yyColumn = (CFactoryParserColumn)column(yyStart);
-    if (null == yyColumn.chunk5) yyColumn.chunk5 = new Chunk5();
-    if (null == yyColumn.chunk5.fJavaIdentifier$Word) 
-      yyColumn.chunk5.fJavaIdentifier$Word = pJavaIdentifier$Word$1(yyStart);
-    return yyColumn.chunk5.fJavaIdentifier$Word;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fJavaIdentifier$Word) {
+      yyColumn.chunk3.fJavaIdentifier$Word = pJavaIdentifier$Word$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(41, yyColumn.chunk3.fJavaIdentifier$Word);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(41, yyColumn.chunk3.fJavaIdentifier$Word);
+    }
+    return yyColumn.chunk3.fJavaIdentifier$Word;
   }
 
   /** Actually parse xtc.lang.JavaIdentifier.Word. */
@@ -14715,6 +17435,11 @@ public final class CFactoryParser extends ParserBase {
 
   // =========================================================================
 
+  /** The bit map for a character class. */
+  private static final long[] yyClass1 = { 0x0L, 0x7fffffe87fffffeL };
+
+  // =========================================================================
+
   static {
     add(JAVA_KEYWORDS, new String[] {
       "abstract",  "continue",  "for",         "new",        "switch",
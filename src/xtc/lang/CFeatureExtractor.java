@@ -18,10 +18,14 @@
  */
 package xtc.lang;
 
+import java.io.StringWriter;
+
 import xtc.Constants;
 
 import xtc.tree.GNode;
 import xtc.tree.Node;
+import xtc.tree.ParallelTraversal;
+import xtc.tree.Printer;
 import xtc.tree.Token;
 import xtc.tree.Visitor;
 
@@ -36,16 +40,27 @@ import xtc.util.Utilities;
 
 /**
  * A visitor to extract C features.  This visitor assumes that the AST
- * is well-typed and annotated with the correct types.
+ * is well-typed and annotated with the correct types.  Its {@link
+ * Traversal traversal} extracts the features of a translation unit's
+ * external declarations in parallel.
  *
  * @author Robert Grimm
- * @version $Revision: 1.6 $
+ * @version $Revision: 1.7 $
  */
 public class CFeatureExtractor extends Visitor {
 
   /** The runtime. */
   protected final Runtime runtime;
 
+  /**
+   * The buffer for the features or <code>null</code> if the features
+   * are printed to the console.
+   */
+  protected final StringWriter buffer;
+
+  /** The printer for the features. */
+  protected final Printer printer;
+
   /** The symbol table. */
   protected SymbolTable table;
 
@@ -62,6 +77,21 @@ public class CFeatureExtractor extends Visitor {
    */
   public CFeatureExtractor(Runtime runtime) {
     this.runtime = runtime;
+    this.buffer  = null;
+    this.printer = runtime.console();
+  }
+
+  /**
+   * Create a new C feature extractor that prints to the specified
+   * buffer.
+   *
+   * @param runtime The runtime.
+   * @param buffer The buffer.
+   */
+  protected CFeatureExtractor(Runtime runtime, StringWriter buffer) {
+    this.runtime = runtime;
+    this.buffer  = buffer;
+    this.printer = new Printer(buffer);
   }
 
   /**
@@ -75,9 +105,9 @@ public class CFeatureExtractor extends Visitor {
     type       = null;
     name       = null;
 
-    runtime.console().sep();
+    printer.sep();
     dispatch(node);
-    runtime.console().sep().flush();
+    printer.sep().flush();
   }
 
   /**
@@ -112,12 +142,12 @@ public class CFeatureExtractor extends Visitor {
     visit(n);
 
     if (isZeroLength(type)) {
-      runtime.console().loc(n).p(": zero length array '").p(name).pln("'");
+      printer.loc(n).p(": zero length array '").p(name).pln("'");
     }
 
     if (null != n.get(2)) {
       final String alt = toText(n.getGeneric(2).getGeneric(0));
-      runtime.console().loc(n).p(": assembly name '").p(name).p("' -> '").
+      printer.loc(n).p(": assembly name '").p(name).p("' -> '").
         p(alt).pln("'");
     }
 
@@ -127,7 +157,7 @@ public class CFeatureExtractor extends Visitor {
 
   /** Visit the specified thread specifier. */
   public void visitThreadSpecifier(GNode n) {
-    runtime.console().loc(n).pln(": thread-local");
+    printer.loc(n).pln(": thread-local");
   }
 
   /** Visit the specified enumertion type definition. */
@@ -150,7 +180,7 @@ public class CFeatureExtractor extends Visitor {
     visit(n);
 
     if (0 == type.toTagged().getMemberCount()) {
-      runtime.console().loc(n).p(": empty ").pln(toDescription(type));
+      printer.loc(n).p(": empty ").pln(toDescription(type));
     }
 
     exit(old);
@@ -169,7 +199,7 @@ public class CFeatureExtractor extends Visitor {
     visit(n);
 
     if (0 == type.toTagged().getMemberCount()) {
-      runtime.console().loc(n).p(": empty ").pln(toDescription(type));
+      printer.loc(n).p(": empty ").pln(toDescription(type));
     }
 
     exit(old);
@@ -184,7 +214,7 @@ public class CFeatureExtractor extends Visitor {
 
   /** Visit the specified structure declaration. */
   public void visitStructureDeclaration(GNode n) {
-    if (null == n.get(2)) runtime.console().loc(n).pln(": unnamed field");
+    if (null == n.get(2)) printer.loc(n).pln(": unnamed field");
     visit(n);
   }
 
@@ -197,7 +227,7 @@ public class CFeatureExtractor extends Visitor {
       final Type   t = type.toTagged().lookup(s);
 
       if (isZeroLength(t)) {
-        runtime.console().loc(n).p(": zero length array '").p(s).pln("'");
+        printer.loc(n).p(": zero length array '").p(s).pln("'");
       }
     }
   }
@@ -225,97 +255,97 @@ public class CFeatureExtractor extends Visitor {
 
   /** Visit the specified typeof specifier. */
   public void visitTypeofSpecifier(GNode n) {
-    runtime.console().loc(n).pln(": typeof");
+    printer.loc(n).pln(": typeof");
     visit(n);
   }
 
   /** Visit the specified var-arg list specifier. */
   public void visitVarArgListSpecifier(GNode n) {
-    runtime.console().loc(n).pln(": var-arg list");
+    printer.loc(n).pln(": var-arg list");
   }
 
   /** Visit the specified designator. */
   public void visitDesignator(GNode n) {
-    if (3 == n.size()) runtime.console().loc(n).pln(": array range");
+    if (3 == n.size()) printer.loc(n).pln(": array range");
     visit(n);
   }
 
   /** Visit the specified obsolete array designation. */
   public void visitObsoleteArrayDesignation(GNode n) {
-    if (3 == n.size()) runtime.console().loc(n).pln(": array range");
+    if (3 == n.size()) printer.loc(n).pln(": array range");
     visit(n);
   }
 
   /** Visit the specified attribute list entry. */
   public void visitAttributeListEntry(GNode n) {
-    runtime.console().loc(n).p(": ");
+    printer.loc(n).p(": ");
 
     if (null != type && type.resolve().isFunction()) {
-      runtime.console().p("function attribute '").p(name).p("' -> ");
+      printer.p("function attribute '").p(name).p("' -> ");
     } else if (null != type && type.hasTagged()) {
-      runtime.console().p("type attribute '").p(toDescription(type)).p("' -> ");
+      printer.p("type attribute '").p(toDescription(type)).p("' -> ");
     } else {
-      runtime.console().p("variable attribute ");
-      if (null != name) runtime.console().p("'").p(name).p("' -> ");
+      printer.p("variable attribute ");
+      if (null != name) printer.p("'").p(name).p("' -> ");
     }
-    runtime.console().p("'").p(n.getString(0)).pln("'");
+    printer.p("'").p(n.getString(0)).pln("'");
 
     dispatch(n.getNode(1));
   }
 
   /** Visit the specified local label declaration. */
   public void visitLocalLabelDeclaration(GNode n) {
-    runtime.console().loc(n).p(": local label");
+    printer.loc(n).p(": local label");
     if (1 == n.size()) {
-      runtime.console().p(' ');
+      printer.p(' ');
     } else {
-      runtime.console().p("s ");
+      printer.p("s ");
     }
     boolean first = true;
     for (Object o : n) {
       if (first) {
         first = false;
       } else {
-        runtime.console().p(", ");
+        printer.p(", ");
       }
-      runtime.console().p("'").p((String)o).p("'");
+      printer.p("'").p((String)o).p("'");
     }
-    runtime.console().pln();
+    printer.pln();
   }
 
   /** Visit the specified case label. */
   public void visitCaseLabel(GNode n) {
-    if (2 == n.size()) runtime.console().loc(n).pln(": case range");
+    if (2 == n.size()) printer.loc(n).pln(": case range");
     visit(n);
   }
 
   /** Visit the specified goto statement. */
   public void visitGotoStatement(GNode n) {
-    if (null != n.get(0)) runtime.console().loc(n).pln(": computed goto");
+    if (null != n.get(0)) printer.loc(n).pln(": computed goto");
     visit(n);
   }
 
   /** Visit the specified alignof expression. */
   public void visitAlignofExpression(GNode n) {
-    runtime.console().loc(n).pln(": alignof");
+    printer.loc(n).pln(": alignof");
     visit(n);
   }
 
   /** Visit the specified offsetof expression. */
   public void visitOffsetofExpression(GNode n) {
-    runtime.console().loc(n).pln(": offsetof");
+    printer.loc(n).pln(": offsetof");
     visit(n);
   }
 
   /** Visit the specified type compatibility expression. */
   public void visitTypeCompatibilityExpression(GNode n) {
-    runtime.console().loc(n).pln(": types_compatible_p");
+    printer.loc(n).pln(": types_compatible_p");
     visit(n);
   }
 
   /** Visit the specified label address expression. */
   public void visitLabelAddressExpression(GNode n) {
-    runtime.console().loc(n).pln(": label address");
+    printer.loc(n).pln(": label address");
     visit(n);
   }
 
@@ -325,7 +355,7 @@ public class CFeatureExtractor extends Visitor {
       final String s = n.getGeneric(0).getString(0);
 
       if (s.startsWith("__builtin_") || s.startsWith("__sync_")) {
-        runtime.console().loc(n).p(": call to built-in function '").p(s).
+        printer.loc(n).p(": call to built-in function '").p(s).
           pln("'");
       }
     }
@@ -334,20 +364,20 @@ public class CFeatureExtractor extends Visitor {
 
   /** Visit the specified statement as expression. */
   public void visitStatementAsExpression(GNode n) {
-    runtime.console().loc(n).pln(": statement expression");
+    printer.loc(n).pln(": statement expression");
     visit(n);
   }
 
   /** Visit the specified variable argument access. */
   public void visitVariableArgumentAccess(GNode n) {
-    runtime.console().loc(n).
+    printer.loc(n).
       pln(": call to built-in function '__builtin_va_arg'");
     visit(n);
   }
 
   /** Visit the specified assembly argument. */
   public void visitAssemblyArgument(GNode n) {
-    if (1 < n.size()) runtime.console().loc(n).pln(": extended asm");
+    if (1 < n.size()) printer.loc(n).pln(": extended asm");
     visit(n);
   }
 
@@ -427,4 +457,67 @@ public class CFeatureExtractor extends Visitor {
     return ((StringReference)toType(node).getShape()).getLiteral();
   }
 
+  // =========================================================================
+
+  /**
+   * A parallel traversal to extract C features.  Each task buffers
+   * the features of a range of external declarations and looks up
+   * symbols through its own view of the symbol table.  The features
+   * are printed in the order of the declarations.
+   */
+  public static class Traversal
+    extends ParallelTraversal<CFeatureExtractor, StringBuffer> {
+
+    /** The runtime. */
+    protected final Runtime runtime;
+
+    /** The symbol table. */
+    protected final SymbolTable table;
+
+    /**
+     * Create a new traversal.
+     *
+     * @param runtime The runtime.
+     * @param table The symbol table.
+     */
+    public Traversal(Runtime runtime, SymbolTable table) {
+      this.runtime = runtime;
+      this.table   = table;
+    }
+
+    /**
+     * Print the features of the specified AST.
+     *
+     * @param node The type-checked and marked AST.
+     */
+    public void print(Node node) {
+      final StringBuffer features = traverse(node);
+
+      runtime.console().sep();
+      runtime.console().p(features.toString());
+      runtime.console().sep().flush();
+    }
+
+    protected CFeatureExtractor newVisitor() {
+      CFeatureExtractor extractor =
+        new CFeatureExtractor(runtime, new StringWriter());
+      extractor.table = new SymbolTable(table);
+      return extractor;
+    }
+
+    protected StringBuffer result(CFeatureExtractor extractor) {
+      extractor.printer.flush();
+      return extractor.buffer.getBuffer();
+    }
+
+    protected StringBuffer combine(StringBuffer left, StringBuffer right) {
+      return left.append(right);
+    }
+
+    protected boolean split(GNode node) {
+      return node.hasName("TranslationUnit");
+    }
+
+  }
+
 }
@@ -1,8 +1,8 @@
 // ===========================================================================
 // This file has been generated by
-// Rats! Parser Generator, version 2.1.0,
-// (C) 2004-2011 Robert Grimm,
-// on Monday, July 25, 2011 at 2:20:14 PM.
+// Rats! Parser Generator, version 2.3.1,
+// (C) 2004-2012 Robert Grimm,
+// on Sunday, October 18, 2026 at 7:30:41 PM.
 // Edit at your own risk.
 // ===========================================================================
 
@@ -30,7 +30,7 @@ import xtc.parser.ParseError;
  * Packrat parser for grammar <code>xtc.lang.C</code>.
  *
  * <p />This class has been generated by the <i>Rats!</i> parser
- * generator, version 2.1.0, (C) 2004-2011 Robert Grimm.
+ * generator, version 2.3.1, (C) 2004-2012 Robert Grimm.
  */
 public final class CParser extends ParserBase {
 
@@ -50,55 +50,104 @@ public final class CParser extends ParserBase {
 
   /** Chunk 1 of memoized results. */
   static final class Chunk1 {
+    Result fWord;
+    Result fKeyword;
+    Result fIdentifier;
+    Result fSymbol;
+    Result fStringLiteral;
+    Result fStringConstant$$Plus1;
+    Result fStringConstant;
+    Result fCharacterLiteral;
+    Result fUnaryExpression;
+    Result fCastExpression;
+
+    void clear() {
+      fWord = null;
+      fKeyword = null;
+      fIdentifier = null;
+      fSymbol = null;
+      fStringLiteral = null;
+      fStringConstant$$Plus1 = null;
+      fStringConstant = null;
+      fCharacterLiteral = null;
+      fUnaryExpression = null;
+      fCastExpression = null;
+    }
+  }
+
+  /** Chunk 2 of memoized results. */
+  static final class Chunk2 {
+    Result fAttributeSpecifier;
     Result fDeclarationSpecifiers;
     Result fSpecifierQualifierList;
-    Result fAttributedDeclarator;
-    Result fDeclarator;
+    Result fAttributeSpecifierList;
     Result fPointer;
-    Result fVariableLength;
+    Result fDeclarator;
+    Result fAttributedDeclarator;
     Result fParameterTypeList;
-    Result fAbstractDeclarator;
     Result fTypeName;
-    Result fAttributeSpecifierList;
+    Result fAbstractDeclarator;
+
+    void clear() {
+      fAttributeSpecifier = null;
+      fDeclarationSpecifiers = null;
+      fSpecifierQualifierList = null;
+      fAttributeSpecifierList = null;
+      fPointer = null;
+      fDeclarator = null;
+      fAttributedDeclarator = null;
+      fParameterTypeList = null;
+      fTypeName = null;
+      fAbstractDeclarator = null;
+    }
   }
 
-  /** Chunk 2 of memoized results. */
-  static final class Chunk2 {
-    Result fAttributeSpecifier;
-    Result fStatement;
-    Result fCompoundStatement;
-    Result fCommaExpression;
-    Result fAssignmentExpression;
-    Result fConditionalExpression;
+  /** Chunk 3 of memoized results. */
+  static final class Chunk3 {
     Result fLogicalOrExpression;
-    Result fCastExpression;
-    Result fUnaryExpression;
+    Result fConditionalExpression;
+    Result fAssignmentExpression;
+    Result fCommaExpression;
+    Result fAsmKeyword;
+    Result fCompoundStatement;
+    Result fStatement;
     Result fExpressionList;
+    Result fSimpleAssemblyExpression;
+    Result fAssemblyOperand;
+
+    void clear() {
+      fLogicalOrExpression = null;
+      fConditionalExpression = null;
+      fAssignmentExpression = null;
+      fCommaExpression = null;
+      fAsmKeyword = null;
+      fCompoundStatement = null;
+      fStatement = null;
+      fExpressionList = null;
+      fSimpleAssemblyExpression = null;
+      fAssemblyOperand = null;
+    }
   }
 
-  /** Chunk 3 of memoized results. */
-  static final class Chunk3 {
+  /** Chunk 4 of memoized results. */
+  static final class Chunk4 {
+    Result fVariableLength;
     Result fExpressionList$$Star1;
-    Result fSimpleAssemblyExpression;
     Result fAssemblyOperands;
     Result fAssemblyOperands$$Star1;
-    Result fAssemblyOperand;
-    Result fAsmKeyword;
     Result fExponent;
     Result f$$Shared2;
     Result fBinaryExponent;
-    Result fCharacterLiteral;
-  }
 
-  /** Chunk 4 of memoized results. */
-  static final class Chunk4 {
-    Result fStringConstant;
-    Result fStringConstant$$Plus1;
-    Result fStringLiteral;
-    Result fIdentifier;
-    Result fKeyword;
-    Result fWord;
-    Result fSymbol;
+    void clear() {
+      fVariableLength = null;
+      fExpressionList$$Star1 = null;
+      fAssemblyOperands = null;
+      fAssemblyOperands$$Star1 = null;
+      fExponent = null;
+      f$$Shared2 = null;
+      fBinaryExponent = null;
+    }
   }
 
   // =========================================================================
@@ -109,6 +158,14 @@ public final class CParser extends ParserBase {
     Chunk2 chunk2;
     Chunk3 chunk3;
     Chunk4 chunk4;
+
+    protected boolean clear() {
+      if (null != chunk1) chunk1.clear();
+      if (null != chunk2) chunk2.clear();
+      if (null != chunk3) chunk3.clear();
+      if (null != chunk4) chunk4.clear();
+      return true;
+    }
   }
 
   // =========================================================================
@@ -149,6 +206,53 @@ public final class CParser extends ParserBase {
 
   // =========================================================================
 
+  /** The names of the memoized productions. */
+  private static final String[] yyProductions = {
+    "xtc.lang.C.DeclarationSpecifiers",
+    "xtc.lang.C.SpecifierQualifierList",
+    "xtc.lang.C.AttributedDeclarator",
+    "xtc.lang.C.Declarator",
+    "xtc.lang.C.Pointer",
+    "xtc.lang.C.VariableLength",
+    "xtc.lang.C.ParameterTypeList",
+    "xtc.lang.C.AbstractDeclarator",
+    "xtc.lang.C.TypeName",
+    "xtc.lang.C.AttributeSpecifierList",
+    "xtc.lang.C.AttributeSpecifier",
+    "xtc.lang.C.Statement",
+    "xtc.lang.C.CompoundStatement",
+    "xtc.lang.C.CommaExpression",
+    "xtc.lang.C.AssignmentExpression",
+    "xtc.lang.C.ConditionalExpression",
+    "xtc.lang.C.LogicalOrExpression",
+    "xtc.lang.C.CastExpression",
+    "xtc.lang.C.UnaryExpression",
+    "xtc.lang.C.ExpressionList",
+    "xtc.lang.C.ExpressionList$$Star1",
+    "xtc.lang.C.SimpleAssemblyExpression",
+    "xtc.lang.C.AssemblyOperands",
+    "xtc.lang.C.AssemblyOperands$$Star1",
+    "xtc.lang.C.AssemblyOperand",
+    "xtc.lang.C.AsmKeyword",
+    "xtc.lang.CConstant.Exponent",
+    "xtc.lang.C.$$Shared2",
+    "xtc.lang.CConstant.BinaryExponent",
+    "xtc.lang.CConstant.CharacterLiteral",
+    "xtc.lang.CConstant.StringConstant",
+    "xtc.lang.C.StringConstant$$Plus1",
+    "xtc.lang.CConstant.StringLiteral",
+    "xtc.lang.CIdentifier.Identifier",
+    "xtc.lang.CIdentifier.Keyword",
+    "xtc.lang.CIdentifier.Word",
+    "xtc.lang.CSymbol.Symbol",
+  };
+
+  protected String[] productions() {
+    return yyProductions;
+  }
+
+  // =========================================================================
+
   /**
    * Parse nonterminal xtc.lang.C.TranslationUnit.
    *
@@ -159,7 +263,8 @@ public final class CParser extends ParserBase {
   public Result pTranslationUnit(final int yyStart) throws IOException {
     Result     yyResult;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -170,7 +275,8 @@ public final class CParser extends ParserBase {
     if (yyResult.hasValue()) {
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyResult = pExternalDeclaration(yyRepetition1);
@@ -179,13 +285,14 @@ public final class CParser extends ParserBase {
           final Node v$el$1 = yyResult.semanticValue();
 
           yyRepetition1 = yyResult.index;
-          yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+          yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
           continue;
         }
         break;
       }
       { // Start scope for v$g$1.
-        final Pair<Node> v$g$1 = yyRepValue1.reverse();
+        final int v$g$1 = yyRepStart1;
+        final int v$g$1$end = yyRepEnd1;
 
         yyResult = pAnnotations(yyRepetition1);
         yyError  = yyResult.select(yyError);
@@ -196,13 +303,15 @@ public final class CParser extends ParserBase {
           yyError  = yyResult.select(yyError);
           if (yyResult.hasValue()) {
 
-            yyValue = GNode.create("TranslationUnit", v$g$1.size() + 1).
-              addAll(v$g$1).add(v$g$2);
-            yyValue.setLocation(location(yyStart));
+            yyValue = GNode.create("TranslationUnit", (v$g$1$end - v$g$1) + 1);
+            addBuffered(yyValue, v$g$1, v$g$1$end);
+            yyValue.add(v$g$2);
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           }
         }
+        releaseBuffer(v$g$1);
       } // End scope for v$g$1.
     }
 
@@ -225,7 +334,7 @@ public final class CParser extends ParserBase {
     ParseError yyError = ParseError.DUMMY;
 
     // Reset the global state object.
-    yyState.reset(column(yyStart).file);
+    yyState.reset(fileAt(yyStart));
 
     // Alternative 1.
 
@@ -264,6 +373,95 @@ public final class CParser extends ParserBase {
     // Start a state modification.
     yyState.start();
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x5;
+      break;
+
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Declaration>.
 
     yyState.mark();
@@ -283,51 +481,57 @@ public final class CParser extends ParserBase {
     }
 
     // Alternative <Function>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pFunctionDefinition(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final Node fd = yyResult.semanticValue();
+      yyResult = pFunctionDefinition(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final Node fd = yyResult.semanticValue();
 
-      yyValue = yyState.annotate(fd);
+        yyValue = yyState.annotate(fd);
 
-      // Commit the state modification.
-      yyState.commit();
+        // Commit the state modification.
+        yyState.commit();
 
-      setLocation(yyValue, yyStart);
-      return yyResult.createValue(yyValue, yyError);
+        setLocation(yyValue, yyStart);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Assembly>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pAssemblyDefinition(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final Node a = yyResult.semanticValue();
+      yyResult = pAssemblyDefinition(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final Node a = yyResult.semanticValue();
 
-      yyValue = yyState.annotate(a);
+        yyValue = yyState.annotate(a);
 
-      // Commit the state modification.
-      yyState.commit();
+        // Commit the state modification.
+        yyState.commit();
 
-      setLocation(yyValue, yyStart);
-      return yyResult.createValue(yyValue, yyError);
+        setLocation(yyValue, yyStart);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Empty>.
+    if ((0 != (yyFirst & 0x4)) || (yyError.index < yyStart)) {
 
-    yyResult = pEmptyDefinition(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final Node e = yyResult.semanticValue();
+      yyResult = pEmptyDefinition(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final Node e = yyResult.semanticValue();
 
-      yyValue = yyState.annotate(e);
+        yyValue = yyState.annotate(e);
 
-      // Commit the state modification.
-      yyState.commit();
+        // Commit the state modification.
+        yyState.commit();
 
-      setLocation(yyValue, yyStart);
-      return yyResult.createValue(yyValue, yyError);
+        setLocation(yyValue, yyStart);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Abort the state modification.
@@ -414,7 +618,7 @@ public final class CParser extends ParserBase {
                 final Node v$g$5 = yyResult.semanticValue();
 
                 yyValue = GNode.create("FunctionDefinition", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return yyResult.createValue(yyValue, yyError);
               }
@@ -441,7 +645,8 @@ public final class CParser extends ParserBase {
     Result     yyResult;
     int        yyRepetition1;
     boolean    yyRepeated1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -449,7 +654,8 @@ public final class CParser extends ParserBase {
 
     yyRepetition1 = yyStart;
     yyRepeated1   = false;
-    yyRepValue1   = Pair.empty();
+    yyRepStart1   = bufferStart();
+    yyRepEnd1   = yyRepStart1;
     while (true) {
 
       yyResult = pDeclarationListEntry(yyRepetition1);
@@ -459,17 +665,18 @@ public final class CParser extends ParserBase {
 
         yyRepetition1 = yyResult.index;
         yyRepeated1   = true;
-        yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+        yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
         continue;
       }
       break;
     }
 
     if (yyRepeated1) {
-      final Pair<Node> v$g$1 = yyRepValue1.reverse();
+      final int v$g$1 = yyRepStart1;
+      final int v$g$1$end = yyRepEnd1;
 
-      yyValue = GNode.createFromPair("DeclarationList", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      yyValue = bufferedNode("DeclarationList", v$g$1, v$g$1$end);
+      locate(yyValue, yyStart);
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
     }
@@ -535,7 +742,7 @@ public final class CParser extends ParserBase {
     if (yyResult.hasValue(";")) {
 
       yyValue = GNode.create("EmptyDefinition", false);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -634,7 +841,7 @@ public final class CParser extends ParserBase {
             if (yyResult.hasValue(";")) {
 
               yyValue = GNode.create("Declaration", v$g$1, v$g$2, l);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             } else {
@@ -663,10 +870,16 @@ public final class CParser extends ParserBase {
     throws IOException {
 
     CParserColumn yyColumn = (CParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fDeclarationSpecifiers) 
-      yyColumn.chunk1.fDeclarationSpecifiers = pDeclarationSpecifiers$1(yyStart);
-    return yyColumn.chunk1.fDeclarationSpecifiers;
+    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
+    if (null == yyColumn.chunk2.fDeclarationSpecifiers) {
+      yyColumn.chunk2.fDeclarationSpecifiers = 
+        pDeclarationSpecifiers$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(0, yyColumn.chunk2.fDeclarationSpecifiers);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(0, yyColumn.chunk2.fDeclarationSpecifiers);
+    }
+    return yyColumn.chunk2.fDeclarationSpecifiers;
   }
 
   /** Actually parse xtc.lang.C.DeclarationSpecifiers. */
@@ -685,7 +898,7 @@ public final class CParser extends ParserBase {
       final Pair<Node> v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.createFromPair("DeclarationSpecifiers", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -757,85 +970,161 @@ public final class CParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x7f;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <StorageClass>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pStorageClassSpecifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pStorageClassSpecifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <TypeSpecifier>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pTypeSpecifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
-
-      yyResult = pTypeSpecContext(yyResult.index);
+      yyResult = pTypeSpecifier(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-        return yyResult.createValue(yyValue, yyError);
+        yyResult = pTypeSpecContext(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative <TypeQualifier>.
+    if ((0 != (yyFirst & 0x4)) || (yyError.index < yyStart)) {
 
-    yyResult = pTypeQualifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pTypeQualifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 4.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("inline")) {
-      final String v$g$1 = "inline";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("inline")) {
+        final String v$g$1 = "inline";
 
-      yyValue = GNode.create("FunctionSpecifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("FunctionSpecifier", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 5.
+    if (0 != (yyFirst & 0x10)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__inline")) {
-      final String v$g$2 = "__inline";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__inline")) {
+        final String v$g$2 = "__inline";
 
-      yyValue = GNode.create("FunctionSpecifier", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("FunctionSpecifier", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 6.
+    if (0 != (yyFirst & 0x20)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__inline__")) {
-      final String v$g$3 = "__inline__";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__inline__")) {
+        final String v$g$3 = "__inline__";
 
-      yyValue = GNode.create("FunctionSpecifier", v$g$3);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("FunctionSpecifier", v$g$3);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Attribute>.
+    if ((0 != (yyFirst & 0x40)) || (yyError.index < yyStart)) {
 
-    yyResult = pAttributeSpecifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pAttributeSpecifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -858,7 +1147,8 @@ public final class CParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -870,7 +1160,8 @@ public final class CParser extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyBase   = yyRepetition1;
@@ -883,7 +1174,7 @@ public final class CParser extends ParserBase {
             final Node v$el$1 = yyResult.semanticValue();
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
         } else {
@@ -892,10 +1183,11 @@ public final class CParser extends ParserBase {
         break;
       }
       { // Start scope for v$g$2.
-        final Pair<Node> v$g$2 = yyRepValue1.reverse();
+        final int v$g$2 = yyRepStart1;
+        final int v$g$2$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("InitializedDeclaratorList", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("InitializedDeclaratorList", v$g$1, v$g$2, v$g$2$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$2.
@@ -993,7 +1285,7 @@ public final class CParser extends ParserBase {
               final Node v$g$5 = yyOpValue1;
 
               yyValue = GNode.create("InitializedDeclarator", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return new SemanticValue(yyValue, yyOption1, yyError);
             } // End scope for v$g$5.
@@ -1022,74 +1314,148 @@ public final class CParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x3f;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("auto")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("auto")) {
 
-      yyValue = GNode.create("AutoSpecifier", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("AutoSpecifier", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("extern")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("extern")) {
 
-      yyValue = GNode.create("ExternSpecifier", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("ExternSpecifier", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("register")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("register")) {
 
-      yyValue = GNode.create("RegisterSpecifier", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("RegisterSpecifier", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 4.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("static")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("static")) {
 
-      yyValue = GNode.create("StaticSpecifier", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("StaticSpecifier", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 5.
+    if (0 != (yyFirst & 0x10)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__thread")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__thread")) {
 
-      yyValue = GNode.create("ThreadSpecifier", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("ThreadSpecifier", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 6.
+    if (0 != (yyFirst & 0x20)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("typedef")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("typedef")) {
 
-      yyResult = pTypedefContext(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
+        yyResult = pTypedefContext(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
 
-        yyValue = GNode.create("TypedefSpecifier", false);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("TypedefSpecifier", false);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
@@ -1112,112 +1478,192 @@ public final class CParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x1ff;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("volatile")) {
-      final String v$g$1 = "volatile";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("volatile")) {
+        final String v$g$1 = "volatile";
 
-      yyValue = GNode.create("VolatileQualifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("VolatileQualifier", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__volatile")) {
-      final String v$g$2 = "__volatile";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__volatile")) {
+        final String v$g$2 = "__volatile";
 
-      yyValue = GNode.create("VolatileQualifier", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("VolatileQualifier", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__volatile__")) {
-      final String v$g$3 = "__volatile__";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__volatile__")) {
+        final String v$g$3 = "__volatile__";
 
-      yyValue = GNode.create("VolatileQualifier", v$g$3);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("VolatileQualifier", v$g$3);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 4.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("const")) {
-      final String v$g$1 = "const";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("const")) {
+        final String v$g$1 = "const";
 
-      yyValue = GNode.create("ConstantQualifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("ConstantQualifier", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 5.
+    if (0 != (yyFirst & 0x10)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__const")) {
-      final String v$g$2 = "__const";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__const")) {
+        final String v$g$2 = "__const";
 
-      yyValue = GNode.create("ConstantQualifier", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("ConstantQualifier", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 6.
+    if (0 != (yyFirst & 0x20)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__const__")) {
-      final String v$g$3 = "__const__";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__const__")) {
+        final String v$g$3 = "__const__";
 
-      yyValue = GNode.create("ConstantQualifier", v$g$3);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("ConstantQualifier", v$g$3);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
-    }
+        return yyResult.createValue(yyValue, yyError);
+      }
+    }
 
     // Alternative 7.
+    if (0 != (yyFirst & 0x40)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("restrict")) {
-      final String v$g$1 = "restrict";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("restrict")) {
+        final String v$g$1 = "restrict";
 
-      yyValue = GNode.create("RestrictQualifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("RestrictQualifier", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 8.
+    if (0 != (yyFirst & 0x80)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__restrict")) {
-      final String v$g$2 = "__restrict";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__restrict")) {
+        final String v$g$2 = "__restrict";
 
-      yyValue = GNode.create("RestrictQualifier", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("RestrictQualifier", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 9.
+    if (0 != (yyFirst & 0x100)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__restrict__")) {
-      final String v$g$3 = "__restrict__";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__restrict__")) {
+        final String v$g$3 = "__restrict__";
 
-      yyValue = GNode.create("RestrictQualifier", v$g$3);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("RestrictQualifier", v$g$3);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -1240,148 +1686,228 @@ public final class CParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x1ff;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Enumeration>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pEnumerationTypeSpecifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pEnumerationTypeSpecifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Structure>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pStructureTypeSpecifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pStructureTypeSpecifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Union>.
+    if ((0 != (yyFirst & 0x4)) || (yyError.index < yyStart)) {
 
-    yyResult = pUnionTypeSpecifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pUnionTypeSpecifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Floating>.
+    if ((0 != (yyFirst & 0x8)) || (yyError.index < yyStart)) {
 
-    yyResult = pFloatingPointTypeSpecifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pFloatingPointTypeSpecifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Integer>.
+    if ((0 != (yyFirst & 0x10)) || (yyError.index < yyStart)) {
 
-    yyResult = pIntegerTypeSpecifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pIntegerTypeSpecifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 6.
+    if ((0 != (yyFirst & 0x20)) || (yyError.index < yyStart)) {
 
-    yyResult = pIdentifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final String id = yyResult.semanticValue();
+      yyResult = pIdentifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final String id = yyResult.semanticValue();
 
-      if (yyState.isType(toText(id))) {
+        if (yyState.isType(toText(id))) {
 
-        yyValue = GNode.create("TypedefName", id);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("TypedefName", id);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 7.
+    if ((0 != (yyFirst & 0x40)) || (yyError.index < yyStart)) {
 
-    yyResult = pTypeofKeyword(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
+      yyResult = pTypeofKeyword(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
 
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue("(")) {
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue("(")) {
 
-        final int yyChoice1 = yyResult.index;
+          final int yyChoice1 = yyResult.index;
 
-        // Nested alternative 1.
+          // Nested alternative 1.
 
-        yyResult = pTypeName(yyChoice1);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$g$1 = yyResult.semanticValue();
+          yyResult = pTypeName(yyChoice1);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Node v$g$1 = yyResult.semanticValue();
 
-          yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue(")")) {
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue(")")) {
 
-            yyValue = GNode.create("TypeofSpecifier", v$g$1);
-            yyValue.setLocation(location(yyStart));
+              yyValue = GNode.create("TypeofSpecifier", v$g$1);
+              locate(yyValue, yyStart);
 
-            return yyResult.createValue(yyValue, yyError);
-          } else {
-            yyError = yyError.select("')' expected", yyBase);
+              return yyResult.createValue(yyValue, yyError);
+            } else {
+              yyError = yyError.select("')' expected", yyBase);
+            }
           }
-        }
 
-        // Nested alternative 2.
+          // Nested alternative 2.
 
-        yyResult = pCommaExpression(yyChoice1);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$g$2 = yyResult.semanticValue();
+          yyResult = pCommaExpression(yyChoice1);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Node v$g$2 = yyResult.semanticValue();
 
-          yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue(")")) {
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue(")")) {
 
-            yyValue = GNode.create("TypeofSpecifier", v$g$2);
-            yyValue.setLocation(location(yyStart));
+              yyValue = GNode.create("TypeofSpecifier", v$g$2);
+              locate(yyValue, yyStart);
 
-            return yyResult.createValue(yyValue, yyError);
-          } else {
-            yyError = yyError.select("')' expected", yyBase);
+              return yyResult.createValue(yyValue, yyError);
+            } else {
+              yyError = yyError.select("')' expected", yyBase);
+            }
           }
+        } else {
+          yyError = yyError.select("'(' expected", yyBase);
         }
-      } else {
-        yyError = yyError.select("'(' expected", yyBase);
       }
     }
 
     // Alternative 8.
+    if (0 != (yyFirst & 0x80)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("void")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("void")) {
 
-      yyValue = GNode.create("VoidTypeSpecifier", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("VoidTypeSpecifier", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 9.
+    if (0 != (yyFirst & 0x100)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__builtin_va_list")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__builtin_va_list")) {
 
-      yyValue = GNode.create("VarArgListSpecifier", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("VarArgListSpecifier", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -1484,7 +2010,7 @@ public final class CParser extends ParserBase {
                   final Node v$g$4 = cast(yyOpValue1);
 
                   yyValue = GNode.create("EnumerationTypeDefinition", v$g$1, v$g$2, v$g$3, v$g$4);
-                  yyValue.setLocation(location(yyStart));
+                  locate(yyValue, yyStart);
 
                   return new SemanticValue(yyValue, yyOption1, yyError);
                 } // End scope for v$g$4.
@@ -1505,7 +2031,7 @@ public final class CParser extends ParserBase {
           final String v$g$2 = yyResult.semanticValue();
 
           yyValue = GNode.create("EnumerationTypeReference", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -1530,7 +2056,8 @@ public final class CParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -1542,7 +2069,8 @@ public final class CParser extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyBase   = yyRepetition1;
@@ -1555,7 +2083,7 @@ public final class CParser extends ParserBase {
             final Node v$el$1 = yyResult.semanticValue();
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
         } else {
@@ -1564,10 +2092,11 @@ public final class CParser extends ParserBase {
         break;
       }
       { // Start scope for v$g$2.
-        final Pair<Node> v$g$2 = yyRepValue1.reverse();
+        final int v$g$2 = yyRepStart1;
+        final int v$g$2$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("EnumeratorList", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("EnumeratorList", v$g$1, v$g$2, v$g$2$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$2.
@@ -1625,7 +2154,7 @@ public final class CParser extends ParserBase {
         final Node v$g$1 = yyOpValue1;
 
         yyValue = GNode.create("Enumerator", id, v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyOption1, yyError);
       } // End scope for v$g$1.
@@ -1735,7 +2264,7 @@ public final class CParser extends ParserBase {
                           final Node v$g$4 = cast(yyOpValue1);
 
                           yyValue = GNode.create("StructureTypeDefinition", v$g$1, v$g$2, v$g$3, v$g$4);
-                          yyValue.setLocation(location(yyStart));
+                          locate(yyValue, yyStart);
 
                           return new SemanticValue(yyValue, yyOption1, yyError);
                         } // End scope for v$g$4.
@@ -1760,7 +2289,7 @@ public final class CParser extends ParserBase {
           final String v$g$2 = yyResult.semanticValue();
 
           yyValue = GNode.create("StructureTypeReference", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -1870,7 +2399,7 @@ public final class CParser extends ParserBase {
                           final Node v$g$4 = cast(yyOpValue1);
 
                           yyValue = GNode.create("UnionTypeDefinition", v$g$1, v$g$2, v$g$3, v$g$4);
-                          yyValue.setLocation(location(yyStart));
+                          locate(yyValue, yyStart);
 
                           return new SemanticValue(yyValue, yyOption1, yyError);
                         } // End scope for v$g$4.
@@ -1895,7 +2424,7 @@ public final class CParser extends ParserBase {
           final String v$g$2 = yyResult.semanticValue();
 
           yyValue = GNode.create("UnionTypeReference", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -1922,7 +2451,8 @@ public final class CParser extends ParserBase {
     Result     yyResult;
     int        yyRepetition1;
     boolean    yyRepeated1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -1930,7 +2460,8 @@ public final class CParser extends ParserBase {
 
     yyRepetition1 = yyStart;
     yyRepeated1   = false;
-    yyRepValue1   = Pair.empty();
+    yyRepStart1   = bufferStart();
+    yyRepEnd1   = yyRepStart1;
     while (true) {
 
       yyResult = pAnnotatedStructureDeclaration(yyRepetition1);
@@ -1940,26 +2471,29 @@ public final class CParser extends ParserBase {
 
         yyRepetition1 = yyResult.index;
         yyRepeated1   = true;
-        yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+        yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
         continue;
       }
       break;
     }
 
     if (yyRepeated1) {
-      final Pair<Node> v$g$1 = yyRepValue1.reverse();
+      final int v$g$1 = yyRepStart1;
+      final int v$g$1$end = yyRepEnd1;
 
       yyResult = pAnnotations(yyRepetition1);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
         final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("StructureDeclarationList", v$g$1.size() + 1).
-          addAll(v$g$1).add(v$g$2);
-        yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("StructureDeclarationList", (v$g$1$end - v$g$1) + 1);
+        addBuffered(yyValue, v$g$1, v$g$1$end);
+        yyValue.add(v$g$2);
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
+      releaseBuffer(v$g$1);
     }
 
     // Alternative <Empty>.
@@ -1972,7 +2506,7 @@ public final class CParser extends ParserBase {
         final Node v$g$3 = yyResult.semanticValue();
 
         yyValue = GNode.create("StructureDeclarationList", v$g$3);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -2106,7 +2640,7 @@ public final class CParser extends ParserBase {
             }
 
             yyValue = GNode.create("StructureDeclaration", v$g$1, v$g$2, v$g$3);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return new SemanticValue(yyValue, yyOption1, yyError);
           } else {
@@ -2134,10 +2668,16 @@ public final class CParser extends ParserBase {
     throws IOException {
 
     CParserColumn yyColumn = (CParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fSpecifierQualifierList) 
-      yyColumn.chunk1.fSpecifierQualifierList = pSpecifierQualifierList$1(yyStart);
-    return yyColumn.chunk1.fSpecifierQualifierList;
+    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
+    if (null == yyColumn.chunk2.fSpecifierQualifierList) {
+      yyColumn.chunk2.fSpecifierQualifierList = 
+        pSpecifierQualifierList$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(1, yyColumn.chunk2.fSpecifierQualifierList);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(1, yyColumn.chunk2.fSpecifierQualifierList);
+    }
+    return yyColumn.chunk2.fSpecifierQualifierList;
   }
 
   /** Actually parse xtc.lang.C.SpecifierQualifierList. */
@@ -2156,7 +2696,7 @@ public final class CParser extends ParserBase {
       final Pair<Node> v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.createFromPair("SpecifierQualifierList", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -2228,39 +2768,107 @@ public final class CParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
-    // Alternative <TypeSpecifier>.
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x7;
+      break;
 
-    yyResult = pTypeSpecifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+    default:
+      yyFirst = 0;
+    }
+
+    // Alternative <TypeSpecifier>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-      yyResult = pTypeSpecContext(yyResult.index);
+      yyResult = pTypeSpecifier(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-        return yyResult.createValue(yyValue, yyError);
+        yyResult = pTypeSpecContext(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative <TypeQualifier>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pTypeQualifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pTypeQualifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Attribute>.
+    if ((0 != (yyFirst & 0x4)) || (yyError.index < yyStart)) {
 
-    yyResult = pAttributeSpecifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pAttributeSpecifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -2323,7 +2931,8 @@ public final class CParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -2335,7 +2944,8 @@ public final class CParser extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyBase   = yyRepetition1;
@@ -2348,7 +2958,7 @@ public final class CParser extends ParserBase {
             final Node v$el$1 = yyResult.semanticValue();
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
         } else {
@@ -2357,10 +2967,11 @@ public final class CParser extends ParserBase {
         break;
       }
       { // Start scope for v$g$2.
-        final Pair<Node> v$g$2 = yyRepValue1.reverse();
+        final int v$g$2 = yyRepStart1;
+        final int v$g$2$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("StructureDeclaratorList", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("StructureDeclaratorList", v$g$1, v$g$2, v$g$2$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$2.
@@ -2387,78 +2998,168 @@ public final class CParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
-    // Alternative 1.
-
-    yyOption1  = yyStart;
-    yyOpValue1 = null;
-
-    yyResult = pAttributeSpecifierList(yyOption1);
-    yyError  = yyResult.select(yyError, yyOption1);
-    if (yyResult.hasValue()) {
-      final Node v$el$1 = yyResult.semanticValue();
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '[':
+    case ']':
+    case '^':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
 
-      yyOption1  = yyResult.index;
-      yyOpValue1 = v$el$1;
+    default:
+      yyFirst = 0;
     }
-    { // Start scope for v$g$1.
-      final Node v$g$1 = yyOpValue1;
 
+    // Alternative 1.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index <= yyStart)) {
+
+      yyOption1  = yyStart;
       yyOpValue1 = null;
 
-      yyResult = pDeclarator(yyOption1);
+      yyResult = pAttributeSpecifierList(yyOption1);
       yyError  = yyResult.select(yyError, yyOption1);
       if (yyResult.hasValue()) {
-        final Node v$el$2 = yyResult.semanticValue();
+        final Node v$el$1 = yyResult.semanticValue();
 
         yyOption1  = yyResult.index;
-        yyOpValue1 = v$el$2;
+        yyOpValue1 = v$el$1;
       }
-      { // Start scope for v$g$2.
-        final Node v$g$2 = yyOpValue1;
+      { // Start scope for v$g$1.
+        final Node v$g$1 = yyOpValue1;
 
-        yyBase   = yyOption1;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue(":")) {
+        yyOpValue1 = null;
 
-          yyResult = pConditionalExpression(yyResult.index);
-          yyError  = yyResult.select(yyError);
-          if (yyResult.hasValue()) {
-            final Node v$g$3 = yyResult.semanticValue();
+        yyResult = pDeclarator(yyOption1);
+        yyError  = yyResult.select(yyError, yyOption1);
+        if (yyResult.hasValue()) {
+          final Node v$el$2 = yyResult.semanticValue();
 
-            yyOption1  = yyResult.index;
-            yyOpValue1 = null;
+          yyOption1  = yyResult.index;
+          yyOpValue1 = v$el$2;
+        }
+        { // Start scope for v$g$2.
+          final Node v$g$2 = yyOpValue1;
 
-            yyResult = pAttributeSpecifierList(yyOption1);
-            yyError  = yyResult.select(yyError, yyOption1);
+          yyBase   = yyOption1;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue(":")) {
+
+            yyResult = pConditionalExpression(yyResult.index);
+            yyError  = yyResult.select(yyError);
             if (yyResult.hasValue()) {
-              final Node v$el$3 = yyResult.semanticValue();
+              final Node v$g$3 = yyResult.semanticValue();
 
               yyOption1  = yyResult.index;
-              yyOpValue1 = v$el$3;
-            }
-            { // Start scope for v$g$4.
-              final Node v$g$4 = yyOpValue1;
+              yyOpValue1 = null;
 
-              yyValue = GNode.create("BitField", v$g$1, v$g$2, v$g$3, v$g$4);
-              yyValue.setLocation(location(yyStart));
+              yyResult = pAttributeSpecifierList(yyOption1);
+              yyError  = yyResult.select(yyError, yyOption1);
+              if (yyResult.hasValue()) {
+                final Node v$el$3 = yyResult.semanticValue();
 
-              return new SemanticValue(yyValue, yyOption1, yyError);
-            } // End scope for v$g$4.
-          }
-        } else {
-          yyError = yyError.select("':' expected", yyBase);
-        }
-      } // End scope for v$g$2.
-    } // End scope for v$g$1.
+                yyOption1  = yyResult.index;
+                yyOpValue1 = v$el$3;
+              }
+              { // Start scope for v$g$4.
+                final Node v$g$4 = yyOpValue1;
+
+                yyValue = GNode.create("BitField", v$g$1, v$g$2, v$g$3, v$g$4);
+                locate(yyValue, yyStart);
+
+                return new SemanticValue(yyValue, yyOption1, yyError);
+              } // End scope for v$g$4.
+            }
+          } else {
+            yyError = yyError.select("':' expected", yyBase);
+          }
+        } // End scope for v$g$2.
+      } // End scope for v$g$1.
+    }
 
     // Alternative <Simple>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pAttributedDeclarator(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pAttributedDeclarator(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -2476,10 +3177,16 @@ public final class CParser extends ParserBase {
    */
   private Result pAttributedDeclarator(final int yyStart) throws IOException {
     CParserColumn yyColumn = (CParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fAttributedDeclarator) 
-      yyColumn.chunk1.fAttributedDeclarator = pAttributedDeclarator$1(yyStart);
-    return yyColumn.chunk1.fAttributedDeclarator;
+    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
+    if (null == yyColumn.chunk2.fAttributedDeclarator) {
+      yyColumn.chunk2.fAttributedDeclarator = 
+        pAttributedDeclarator$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(2, yyColumn.chunk2.fAttributedDeclarator);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(2, yyColumn.chunk2.fAttributedDeclarator);
+    }
+    return yyColumn.chunk2.fAttributedDeclarator;
   }
 
   /** Actually parse xtc.lang.C.AttributedDeclarator. */
@@ -2528,7 +3235,7 @@ public final class CParser extends ParserBase {
           final Node v$g$3 = yyOpValue1;
 
           yyValue = GNode.create("AttributedDeclarator", v$g$1, v$g$2, v$g$3);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyOption1, yyError);
         } // End scope for v$g$3.
@@ -2550,10 +3257,15 @@ public final class CParser extends ParserBase {
    */
   private Result pDeclarator(final int yyStart) throws IOException {
     CParserColumn yyColumn = (CParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fDeclarator) 
-      yyColumn.chunk1.fDeclarator = pDeclarator$1(yyStart);
-    return yyColumn.chunk1.fDeclarator;
+    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
+    if (null == yyColumn.chunk2.fDeclarator) {
+      yyColumn.chunk2.fDeclarator = pDeclarator$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(3, yyColumn.chunk2.fDeclarator);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(3, yyColumn.chunk2.fDeclarator);
+    }
+    return yyColumn.chunk2.fDeclarator;
   }
 
   /** Actually parse xtc.lang.C.Declarator. */
@@ -2562,24 +3274,117 @@ public final class CParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
+
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x2;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Pointer>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pPointerDeclarator(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pPointerDeclarator(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Direct>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pDirectDeclarator(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pDirectDeclarator(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -2613,7 +3418,7 @@ public final class CParser extends ParserBase {
         final Node v$g$2 = yyResult.semanticValue();
 
         yyValue = GNode.create("PointerDeclarator", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -2634,10 +3439,15 @@ public final class CParser extends ParserBase {
    */
   private Result pPointer(final int yyStart) throws IOException {
     CParserColumn yyColumn = (CParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fPointer) 
-      yyColumn.chunk1.fPointer = pPointer$1(yyStart);
-    return yyColumn.chunk1.fPointer;
+    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
+    if (null == yyColumn.chunk2.fPointer) {
+      yyColumn.chunk2.fPointer = pPointer$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(4, yyColumn.chunk2.fPointer);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(4, yyColumn.chunk2.fPointer);
+    }
+    return yyColumn.chunk2.fPointer;
   }
 
   /** Actually parse xtc.lang.C.Pointer. */
@@ -2673,7 +3483,7 @@ public final class CParser extends ParserBase {
           final Node v$g$2 = yyOpValue1;
 
           yyValue = GNode.create("Pointer", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyOption1, yyError);
         } // End scope for v$g$2.
@@ -2697,14 +3507,16 @@ public final class CParser extends ParserBase {
   private Result pTypeQualifierList(final int yyStart) throws IOException {
     Result     yyResult;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
     // Alternative 1.
 
     yyRepetition1 = yyStart;
-    yyRepValue1   = Pair.empty();
+    yyRepStart1   = bufferStart();
+    yyRepEnd1   = yyRepStart1;
     while (true) {
 
       yyResult = pTypeQualifierList$$Choice1(yyRepetition1);
@@ -2713,16 +3525,17 @@ public final class CParser extends ParserBase {
         final Node v$el$1 = yyResult.semanticValue();
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+        yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
         continue;
       }
       break;
     }
     { // Start scope for v$g$1.
-      final Pair<Node> v$g$1 = yyRepValue1.reverse();
+      final int v$g$1 = yyRepStart1;
+      final int v$g$1$end = yyRepEnd1;
 
-      yyValue = GNode.createFromPair("TypeQualifierList", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      yyValue = bufferedNode("TypeQualifierList", v$g$1, v$g$1$end);
+      locate(yyValue, yyStart);
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
     } // End scope for v$g$1.
@@ -2744,24 +3557,90 @@ public final class CParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pTypeQualifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pTypeQualifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 2.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pAttributeSpecifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pAttributeSpecifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -2785,77 +3664,170 @@ public final class CParser extends ParserBase {
     Node               yyValue;
     ParseError         yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x1;
+      break;
+
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x2;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <FullBase>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("(")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("(")) {
 
-      yyResult = pAttributedDeclarator(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$7 = yyResult.semanticValue();
+        yyResult = pAttributedDeclarator(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$7 = yyResult.semanticValue();
 
-        yyBase   = yyResult.index;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue(")")) {
+          yyBase   = yyResult.index;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue(")")) {
 
-          yyRepetition1 = yyResult.index;
-          yyRepValue1   = Pair.empty();
-          while (true) {
+            yyRepetition1 = yyResult.index;
+            yyRepValue1   = Pair.empty();
+            while (true) {
 
-            yyResult = pDirectDeclarator$$Tail1(yyRepetition1);
-            yyError  = yyResult.select(yyError, yyRepetition1);
-            if (yyResult.hasValue()) {
-              final Action<Node> v$8 = yyResult.semanticValue();
+              yyResult = pDirectDeclarator$$Tail1(yyRepetition1);
+              yyError  = yyResult.select(yyError, yyRepetition1);
+              if (yyResult.hasValue()) {
+                final Action<Node> v$8 = yyResult.semanticValue();
 
-              yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Action<Node>>(v$8, yyRepValue1);
-              continue;
+                yyRepetition1 = yyResult.index;
+                yyRepValue1   = new Pair<Action<Node>>(v$8, yyRepValue1);
+                continue;
+              }
+              break;
             }
-            break;
-          }
-          { // Start scope for v$9.
-            final Pair<Action<Node>> v$9 = yyRepValue1.reverse();
+            { // Start scope for v$9.
+              final Pair<Action<Node>> v$9 = yyRepValue1.reverse();
 
-            yyValue = apply(v$9, v$g$7, yyStart);
+              yyValue = apply(v$9, v$g$7, yyStart);
 
-            return new SemanticValue(yyValue, yyRepetition1, yyError);
-          } // End scope for v$9.
-        } else {
-          yyError = yyError.select("')' expected", yyBase);
+              return new SemanticValue(yyValue, yyRepetition1, yyError);
+            } // End scope for v$9.
+          } else {
+            yyError = yyError.select("')' expected", yyBase);
+          }
         }
       }
     }
 
     // Alternative <SimpleBase>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pSimpleDeclarator(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final Node v$g$10 = yyResult.semanticValue();
+      yyResult = pSimpleDeclarator(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final Node v$g$10 = yyResult.semanticValue();
 
-      yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
-      while (true) {
+        yyRepetition1 = yyResult.index;
+        yyRepValue1   = Pair.empty();
+        while (true) {
 
-        yyResult = pDirectDeclarator$$Tail1(yyRepetition1);
-        yyError  = yyResult.select(yyError, yyRepetition1);
-        if (yyResult.hasValue()) {
-          final Action<Node> v$11 = yyResult.semanticValue();
+          yyResult = pDirectDeclarator$$Tail1(yyRepetition1);
+          yyError  = yyResult.select(yyError, yyRepetition1);
+          if (yyResult.hasValue()) {
+            final Action<Node> v$11 = yyResult.semanticValue();
 
-          yyRepetition1 = yyResult.index;
-          yyRepValue1   = new Pair<Action<Node>>(v$11, yyRepValue1);
-          continue;
+            yyRepetition1 = yyResult.index;
+            yyRepValue1   = new Pair<Action<Node>>(v$11, yyRepValue1);
+            continue;
+          }
+          break;
         }
-        break;
-      }
-      { // Start scope for v$12.
-        final Pair<Action<Node>> v$12 = yyRepValue1.reverse();
+        { // Start scope for v$12.
+          final Pair<Action<Node>> v$12 = yyRepValue1.reverse();
 
-        yyValue = apply(v$12, v$g$10, yyStart);
+          yyValue = apply(v$12, v$g$10, yyStart);
 
-        return new SemanticValue(yyValue, yyRepetition1, yyError);
-      } // End scope for v$12.
+          return new SemanticValue(yyValue, yyRepetition1, yyError);
+        } // End scope for v$12.
+      }
     }
 
     // Done.
@@ -2882,144 +3854,181 @@ public final class CParser extends ParserBase {
     Action<Node> yyValue;
     ParseError   yyError = ParseError.DUMMY;
 
-    // Alternative 1.
-
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("(")) {
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
 
-      yyResult = pPushScope(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
+    default:
+      yyFirst = 0;
+    }
 
-        final int yyChoice1 = yyResult.index;
+    // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-        // Nested alternative 1.
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("(")) {
 
-        yyResult = pParameterTypeList(yyChoice1);
+        yyResult = pPushScope(yyResult.index);
         yyError  = yyResult.select(yyError);
         if (yyResult.hasValue()) {
-          final Node v$g$2 = yyResult.semanticValue();
 
-          yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue(")")) {
+          final int yyChoice1 = yyResult.index;
 
-            yyResult = pParameterContext(yyResult.index);
-            yyError  = yyResult.select(yyError);
-            if (yyResult.hasValue()) {
+          // Nested alternative 1.
 
-              yyValue = new Action<Node>() {
-                public Node run(Node v$1) {
-                  return GNode.create("FunctionDeclarator", v$1, v$g$2);
-                }};
+          yyResult = pParameterTypeList(yyChoice1);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Node v$g$2 = yyResult.semanticValue();
 
-              return yyResult.createValue(yyValue, yyError);
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue(")")) {
+
+              yyResult = pParameterContext(yyResult.index);
+              yyError  = yyResult.select(yyError);
+              if (yyResult.hasValue()) {
+
+                yyValue = new Action<Node>() {
+                  public Node run(Node v$1) {
+                    return GNode.create("FunctionDeclarator", v$1, v$g$2);
+                  }};
+
+                return yyResult.createValue(yyValue, yyError);
+              }
+            } else {
+              yyError = yyError.select("')' expected", yyBase);
             }
-          } else {
-            yyError = yyError.select("')' expected", yyBase);
           }
-        }
 
-        // Nested alternative 2.
+          // Nested alternative 2.
 
-        yyOption1  = yyChoice1;
-        yyOpValue1 = null;
+          yyOption1  = yyChoice1;
+          yyOpValue1 = null;
 
-        yyResult = pIdentifierList(yyOption1);
-        yyError  = yyResult.select(yyError, yyOption1);
-        if (yyResult.hasValue()) {
-          final Node v$el$1 = yyResult.semanticValue();
+          yyResult = pIdentifierList(yyOption1);
+          yyError  = yyResult.select(yyError, yyOption1);
+          if (yyResult.hasValue()) {
+            final Node v$el$1 = yyResult.semanticValue();
 
-          yyOption1  = yyResult.index;
-          yyOpValue1 = v$el$1;
-        }
-        { // Start scope for v$g$3.
-          final Node v$g$3 = yyOpValue1;
+            yyOption1  = yyResult.index;
+            yyOpValue1 = v$el$1;
+          }
+          { // Start scope for v$g$3.
+            final Node v$g$3 = yyOpValue1;
 
-          yyBase   = yyOption1;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue(")")) {
+            yyBase   = yyOption1;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue(")")) {
 
-            yyResult = pParameterContext(yyResult.index);
-            yyError  = yyResult.select(yyError);
-            if (yyResult.hasValue()) {
+              yyResult = pParameterContext(yyResult.index);
+              yyError  = yyResult.select(yyError);
+              if (yyResult.hasValue()) {
 
-              yyValue = new Action<Node>() {
-                public Node run(Node v$1) {
-                  return GNode.create("FunctionDeclarator", v$1, v$g$3);
-                }};
+                yyValue = new Action<Node>() {
+                  public Node run(Node v$1) {
+                    return GNode.create("FunctionDeclarator", v$1, v$g$3);
+                  }};
 
-              return yyResult.createValue(yyValue, yyError);
+                return yyResult.createValue(yyValue, yyError);
+              }
+            } else {
+              yyError = yyError.select("')' expected", yyBase);
             }
-          } else {
-            yyError = yyError.select("')' expected", yyBase);
-          }
-        } // End scope for v$g$3.
+          } // End scope for v$g$3.
+        }
       }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("[")) {
-
-      yyResult = pArrayQualifierList(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$4 = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("[")) {
 
-        final int yyChoice1 = yyResult.index;
+        yyResult = pArrayQualifierList(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$4 = yyResult.semanticValue();
 
-        // Nested alternative 1.
+          final int yyChoice1 = yyResult.index;
 
-        yyOption1  = yyChoice1;
-        yyOpValue1 = null;
+          // Nested alternative 1.
 
-        yyResult = pAssignmentExpression(yyOption1);
-        yyError  = yyResult.select(yyError, yyOption1);
-        if (yyResult.hasValue()) {
-          final Node v$el$2 = yyResult.semanticValue();
+          yyOption1  = yyChoice1;
+          yyOpValue1 = null;
 
-          yyOption1  = yyResult.index;
-          yyOpValue1 = v$el$2;
-        }
-        { // Start scope for v$g$5.
-          final Node v$g$5 = yyOpValue1;
+          yyResult = pAssignmentExpression(yyOption1);
+          yyError  = yyResult.select(yyError, yyOption1);
+          if (yyResult.hasValue()) {
+            final Node v$el$2 = yyResult.semanticValue();
 
-          yyBase   = yyOption1;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue("]")) {
+            yyOption1  = yyResult.index;
+            yyOpValue1 = v$el$2;
+          }
+          { // Start scope for v$g$5.
+            final Node v$g$5 = yyOpValue1;
 
-            yyValue = new Action<Node>() {
-              public Node run(Node v$1) {
-                return GNode.create("ArrayDeclarator", v$1, v$g$4, v$g$5);
-              }};
+            yyBase   = yyOption1;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue("]")) {
 
-            return yyResult.createValue(yyValue, yyError);
-          } else {
-            yyError = yyError.select("']' expected", yyBase);
-          }
-        } // End scope for v$g$5.
+              yyValue = new Action<Node>() {
+                public Node run(Node v$1) {
+                  return GNode.create("ArrayDeclarator", v$1, v$g$4, v$g$5);
+                }};
 
-        // Nested alternative 2.
+              return yyResult.createValue(yyValue, yyError);
+            } else {
+              yyError = yyError.select("']' expected", yyBase);
+            }
+          } // End scope for v$g$5.
 
-        yyResult = pVariableLength(yyChoice1);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$g$6 = yyResult.semanticValue();
+          // Nested alternative 2.
 
-          yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue("]")) {
+          yyResult = pVariableLength(yyChoice1);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Node v$g$6 = yyResult.semanticValue();
 
-            yyValue = new Action<Node>() {
-              public Node run(Node v$1) {
-                return GNode.create("ArrayDeclarator", v$1, v$g$4, v$g$6);
-              }};
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue("]")) {
 
-            return yyResult.createValue(yyValue, yyError);
-          } else {
-            yyError = yyError.select("']' expected", yyBase);
+              yyValue = new Action<Node>() {
+                public Node run(Node v$1) {
+                  return GNode.create("ArrayDeclarator", v$1, v$g$4, v$g$6);
+                }};
+
+              return yyResult.createValue(yyValue, yyError);
+            } else {
+              yyError = yyError.select("']' expected", yyBase);
+            }
           }
         }
       }
@@ -3041,10 +4050,15 @@ public final class CParser extends ParserBase {
    */
   private Result pVariableLength(final int yyStart) throws IOException {
     CParserColumn yyColumn = (CParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fVariableLength) 
-      yyColumn.chunk1.fVariableLength = pVariableLength$1(yyStart);
-    return yyColumn.chunk1.fVariableLength;
+    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
+    if (null == yyColumn.chunk4.fVariableLength) {
+      yyColumn.chunk4.fVariableLength = pVariableLength$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(5, yyColumn.chunk4.fVariableLength);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(5, yyColumn.chunk4.fVariableLength);
+    }
+    return yyColumn.chunk4.fVariableLength;
   }
 
   /** Actually parse xtc.lang.C.VariableLength. */
@@ -3059,7 +4073,7 @@ public final class CParser extends ParserBase {
     if (yyResult.hasValue("*")) {
 
       yyValue = GNode.create("VariableLength", false);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -3093,7 +4107,7 @@ public final class CParser extends ParserBase {
       yyState.bind(toText(id));
 
       yyValue = GNode.create("SimpleDeclarator", id);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -3113,10 +4127,15 @@ public final class CParser extends ParserBase {
    */
   private Result pParameterTypeList(final int yyStart) throws IOException {
     CParserColumn yyColumn = (CParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fParameterTypeList) 
-      yyColumn.chunk1.fParameterTypeList = pParameterTypeList$1(yyStart);
-    return yyColumn.chunk1.fParameterTypeList;
+    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
+    if (null == yyColumn.chunk2.fParameterTypeList) {
+      yyColumn.chunk2.fParameterTypeList = pParameterTypeList$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(6, yyColumn.chunk2.fParameterTypeList);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(6, yyColumn.chunk2.fParameterTypeList);
+    }
+    return yyColumn.chunk2.fParameterTypeList;
   }
 
   /** Actually parse xtc.lang.C.ParameterTypeList. */
@@ -3159,7 +4178,7 @@ public final class CParser extends ParserBase {
         final String v$g$2 = yyOpValue1;
 
         yyValue = GNode.create("ParameterTypeList", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyOption1, yyError);
       } // End scope for v$g$2.
@@ -3182,7 +4201,8 @@ public final class CParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -3194,7 +4214,8 @@ public final class CParser extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyBase   = yyRepetition1;
@@ -3207,7 +4228,7 @@ public final class CParser extends ParserBase {
             final Node v$el$1 = yyResult.semanticValue();
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
         } else {
@@ -3216,10 +4237,11 @@ public final class CParser extends ParserBase {
         break;
       }
       { // Start scope for v$g$2.
-        final Pair<Node> v$g$2 = yyRepValue1.reverse();
+        final int v$g$2 = yyRepStart1;
+        final int v$g$2$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("ParameterList", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("ParameterList", v$g$1, v$g$2, v$g$2$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$2.
@@ -3279,7 +4301,7 @@ public final class CParser extends ParserBase {
           final Node v$g$3 = yyOpValue1;
 
           yyValue = GNode.create("ParameterDeclaration", v$g$1, v$g$2, v$g$3);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           // Commit the state modification.
           yyState.commit();
@@ -3318,7 +4340,7 @@ public final class CParser extends ParserBase {
           final Node v$g$5 = yyOpValue1;
 
           yyValue = GNode.create("ParameterDeclaration", v$g$1, v$g$4, v$g$5);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           // Commit the state modification.
           yyState.commit();
@@ -3375,7 +4397,7 @@ public final class CParser extends ParserBase {
         final Node v$g$2 = yyResult.semanticValue();
 
         yyValue = GNode.create("AttributedAbstractDeclarator", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -3396,10 +4418,15 @@ public final class CParser extends ParserBase {
    */
   private Result pAbstractDeclarator(final int yyStart) throws IOException {
     CParserColumn yyColumn = (CParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fAbstractDeclarator) 
-      yyColumn.chunk1.fAbstractDeclarator = pAbstractDeclarator$1(yyStart);
-    return yyColumn.chunk1.fAbstractDeclarator;
+    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
+    if (null == yyColumn.chunk2.fAbstractDeclarator) {
+      yyColumn.chunk2.fAbstractDeclarator = pAbstractDeclarator$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(7, yyColumn.chunk2.fAbstractDeclarator);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(7, yyColumn.chunk2.fAbstractDeclarator);
+    }
+    return yyColumn.chunk2.fAbstractDeclarator;
   }
 
   /** Actually parse xtc.lang.C.AbstractDeclarator. */
@@ -3434,7 +4461,7 @@ public final class CParser extends ParserBase {
         if ((null != p) || (null != d)) {
 
           yyValue = GNode.create("AbstractDeclarator", p, d);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -3552,102 +4579,139 @@ public final class CParser extends ParserBase {
     Action<Node> yyValue;
     ParseError   yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("[")) {
-      final String v$g$2 = "[";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("[")) {
+        final String v$g$2 = "[";
 
-      final int yyChoice1 = yyResult.index;
+        final int yyChoice1 = yyResult.index;
 
-      // Nested alternative 1.
+        // Nested alternative 1.
 
-      yyOption1  = yyChoice1;
-      yyOpValue1 = null;
+        yyOption1  = yyChoice1;
+        yyOpValue1 = null;
 
-      yyResult = pAssignmentExpression(yyOption1);
-      yyError  = yyResult.select(yyError, yyOption1);
-      if (yyResult.hasValue()) {
-        final Node v$el$1 = yyResult.semanticValue();
+        yyResult = pAssignmentExpression(yyOption1);
+        yyError  = yyResult.select(yyError, yyOption1);
+        if (yyResult.hasValue()) {
+          final Node v$el$1 = yyResult.semanticValue();
 
-        yyOption1  = yyResult.index;
-        yyOpValue1 = v$el$1;
-      }
-      { // Start scope for v$g$3.
-        final Node v$g$3 = yyOpValue1;
+          yyOption1  = yyResult.index;
+          yyOpValue1 = v$el$1;
+        }
+        { // Start scope for v$g$3.
+          final Node v$g$3 = yyOpValue1;
 
-        yyBase   = yyOption1;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue("]")) {
+          yyBase   = yyOption1;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue("]")) {
 
-          yyValue = new Action<Node>() {
-            public Node run(Node v$1) {
-              return GNode.create("DirectAbstractDeclarator", v$1, v$g$2, v$g$3);
-            }};
+            yyValue = new Action<Node>() {
+              public Node run(Node v$1) {
+                return GNode.create("DirectAbstractDeclarator", v$1, v$g$2, v$g$3);
+              }};
 
-          return yyResult.createValue(yyValue, yyError);
-        } else {
-          yyError = yyError.select("']' expected", yyBase);
-        }
-      } // End scope for v$g$3.
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("']' expected", yyBase);
+          }
+        } // End scope for v$g$3.
 
-      // Nested alternative 2.
+        // Nested alternative 2.
 
-      yyResult = pVariableLength(yyChoice1);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$4 = yyResult.semanticValue();
+        yyResult = pVariableLength(yyChoice1);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$4 = yyResult.semanticValue();
 
-        yyBase   = yyResult.index;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue("]")) {
+          yyBase   = yyResult.index;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue("]")) {
 
-          yyValue = new Action<Node>() {
-            public Node run(Node v$1) {
-              return GNode.create("DirectAbstractDeclarator", v$1, v$g$2, v$g$4);
-            }};
+            yyValue = new Action<Node>() {
+              public Node run(Node v$1) {
+                return GNode.create("DirectAbstractDeclarator", v$1, v$g$2, v$g$4);
+              }};
 
-          return yyResult.createValue(yyValue, yyError);
-        } else {
-          yyError = yyError.select("']' expected", yyBase);
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("']' expected", yyBase);
+          }
         }
       }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("(")) {
-      final String v$g$5 = "(";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("(")) {
+        final String v$g$5 = "(";
 
-      yyOption1  = yyResult.index;
-      yyOpValue1 = null;
+        yyOption1  = yyResult.index;
+        yyOpValue1 = null;
 
-      yyResult = pParameterTypeList(yyOption1);
-      yyError  = yyResult.select(yyError, yyOption1);
-      if (yyResult.hasValue()) {
-        final Node v$el$2 = yyResult.semanticValue();
+        yyResult = pParameterTypeList(yyOption1);
+        yyError  = yyResult.select(yyError, yyOption1);
+        if (yyResult.hasValue()) {
+          final Node v$el$2 = yyResult.semanticValue();
 
-        yyOption1  = yyResult.index;
-        yyOpValue1 = v$el$2;
-      }
-      { // Start scope for v$g$6.
-        final Node v$g$6 = yyOpValue1;
+          yyOption1  = yyResult.index;
+          yyOpValue1 = v$el$2;
+        }
+        { // Start scope for v$g$6.
+          final Node v$g$6 = yyOpValue1;
 
-        yyBase   = yyOption1;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue(")")) {
+          yyBase   = yyOption1;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue(")")) {
 
-          yyValue = new Action<Node>() {
-            public Node run(Node v$1) {
-              return GNode.create("DirectAbstractDeclarator", v$1, v$g$5, v$g$6);
-            }};
+            yyValue = new Action<Node>() {
+              public Node run(Node v$1) {
+                return GNode.create("DirectAbstractDeclarator", v$1, v$g$5, v$g$6);
+              }};
 
-          return yyResult.createValue(yyValue, yyError);
-        } else {
-          yyError = yyError.select("')' expected", yyBase);
-        }
-      } // End scope for v$g$6.
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("')' expected", yyBase);
+          }
+        } // End scope for v$g$6.
+      }
     }
 
     // Done.
@@ -3665,12 +4729,13 @@ public final class CParser extends ParserBase {
    * @throws IOException Signals an I/O error.
    */
   private Result pIdentifierList(final int yyStart) throws IOException {
-    Result       yyResult;
-    int          yyBase;
-    int          yyRepetition1;
-    Pair<String> yyRepValue1;
-    Node         yyValue;
-    ParseError   yyError = ParseError.DUMMY;
+    Result     yyResult;
+    int        yyBase;
+    int        yyRepetition1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
+    Node       yyValue;
+    ParseError yyError = ParseError.DUMMY;
 
     // Alternative 1.
 
@@ -3682,7 +4747,8 @@ public final class CParser extends ParserBase {
       yyState.bind(toText(id1));
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyBase   = yyRepetition1;
@@ -3697,7 +4763,7 @@ public final class CParser extends ParserBase {
             yyState.bind(toText(id2));
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<String>(id2, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, id2);
             continue;
           }
         } else {
@@ -3706,10 +4772,11 @@ public final class CParser extends ParserBase {
         break;
       }
       { // Start scope for v$g$1.
-        final Pair<String> v$g$1 = yyRepValue1.reverse();
+        final int v$g$1 = yyRepStart1;
+        final int v$g$1$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("IdentifierList", id1, v$g$1);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("IdentifierList", id1, v$g$1, v$g$1$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$1.
@@ -3731,14 +4798,16 @@ public final class CParser extends ParserBase {
   private Result pArrayQualifierList(final int yyStart) throws IOException {
     Result     yyResult;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
     // Alternative 1.
 
     yyRepetition1 = yyStart;
-    yyRepValue1   = Pair.empty();
+    yyRepStart1   = bufferStart();
+    yyRepEnd1   = yyRepStart1;
     while (true) {
 
       yyResult = pArrayQualifierList$$Choice1(yyRepetition1);
@@ -3747,16 +4816,17 @@ public final class CParser extends ParserBase {
         final Node v$el$1 = yyResult.semanticValue();
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+        yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
         continue;
       }
       break;
     }
     { // Start scope for v$g$1.
-      final Pair<Node> v$g$1 = yyRepValue1.reverse();
+      final int v$g$1 = yyRepStart1;
+      final int v$g$1$end = yyRepEnd1;
 
-      yyValue = GNode.createFromPair("ArrayQualifierList", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      yyValue = bufferedNode("ArrayQualifierList", v$g$1, v$g$1$end);
+      locate(yyValue, yyStart);
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
     } // End scope for v$g$1.
@@ -3778,133 +4848,217 @@ public final class CParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x7ff;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("static")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("static")) {
 
-      yyValue = GNode.create("StaticSpecifier", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("StaticSpecifier", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("volatile")) {
-      final String v$g$1 = "volatile";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("volatile")) {
+        final String v$g$1 = "volatile";
 
-      yyValue = GNode.create("VolatileQualifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("VolatileQualifier", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__volatile")) {
-      final String v$g$2 = "__volatile";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__volatile")) {
+        final String v$g$2 = "__volatile";
 
-      yyValue = GNode.create("VolatileQualifier", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("VolatileQualifier", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 4.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__volatile__")) {
-      final String v$g$3 = "__volatile__";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__volatile__")) {
+        final String v$g$3 = "__volatile__";
 
-      yyValue = GNode.create("VolatileQualifier", v$g$3);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("VolatileQualifier", v$g$3);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 5.
+    if (0 != (yyFirst & 0x10)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("restrict")) {
-      final String v$g$1 = "restrict";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("restrict")) {
+        final String v$g$1 = "restrict";
 
-      yyValue = GNode.create("RestrictQualifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("RestrictQualifier", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 6.
+    if (0 != (yyFirst & 0x20)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__restrict")) {
-      final String v$g$2 = "__restrict";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__restrict")) {
+        final String v$g$2 = "__restrict";
 
-      yyValue = GNode.create("RestrictQualifier", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("RestrictQualifier", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 7.
+    if (0 != (yyFirst & 0x40)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__restrict__")) {
-      final String v$g$3 = "__restrict__";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__restrict__")) {
+        final String v$g$3 = "__restrict__";
 
-      yyValue = GNode.create("RestrictQualifier", v$g$3);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("RestrictQualifier", v$g$3);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 8.
+    if (0 != (yyFirst & 0x80)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("const")) {
-      final String v$g$1 = "const";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("const")) {
+        final String v$g$1 = "const";
 
-      yyValue = GNode.create("ConstantQualifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("ConstantQualifier", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 9.
+    if (0 != (yyFirst & 0x100)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__const")) {
-      final String v$g$2 = "__const";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__const")) {
+        final String v$g$2 = "__const";
 
-      yyValue = GNode.create("ConstantQualifier", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("ConstantQualifier", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 10.
+    if (0 != (yyFirst & 0x200)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__const__")) {
-      final String v$g$3 = "__const__";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__const__")) {
+        final String v$g$3 = "__const__";
 
-      yyValue = GNode.create("ConstantQualifier", v$g$3);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("ConstantQualifier", v$g$3);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 11.
+    if ((0 != (yyFirst & 0x400)) || (yyError.index < yyStart)) {
 
-    yyResult = pAttributeSpecifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pAttributeSpecifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -3928,50 +5082,120 @@ public final class CParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0xf;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("_Complex")) {
-      final String v$g$1 = "_Complex";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("_Complex")) {
+        final String v$g$1 = "_Complex";
 
-      yyValue = GNode.create("Complex", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("Complex", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__complex__")) {
-      final String v$g$2 = "__complex__";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__complex__")) {
+        final String v$g$2 = "__complex__";
 
-      yyValue = GNode.create("Complex", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("Complex", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("double")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("double")) {
 
-      yyValue = GNode.create("Double", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("Double", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 4.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("float")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("float")) {
 
-      yyValue = GNode.create("Float", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("Float", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -3993,106 +5217,186 @@ public final class CParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x1ff;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("long")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("long")) {
 
-      yyValue = GNode.create("Long", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("Long", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("int")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("int")) {
 
-      yyValue = GNode.create("Int", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("Int", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("short")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("short")) {
 
-      yyValue = GNode.create("Short", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("Short", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 4.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("char")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("char")) {
 
-      yyValue = GNode.create("Char", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("Char", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 5.
+    if (0 != (yyFirst & 0x10)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("_Bool")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("_Bool")) {
 
-      yyValue = GNode.create("Bool", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("Bool", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 6.
+    if (0 != (yyFirst & 0x20)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("unsigned")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("unsigned")) {
 
-      yyValue = GNode.create("Unsigned", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("Unsigned", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 7.
+    if (0 != (yyFirst & 0x40)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("signed")) {
-      final String v$g$1 = "signed";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("signed")) {
+        final String v$g$1 = "signed";
 
-      yyValue = GNode.create("Signed", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("Signed", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 8.
+    if (0 != (yyFirst & 0x80)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__signed")) {
-      final String v$g$2 = "__signed";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__signed")) {
+        final String v$g$2 = "__signed";
 
-      yyValue = GNode.create("Signed", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("Signed", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 9.
+    if (0 != (yyFirst & 0x100)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__signed__")) {
-      final String v$g$3 = "__signed__";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__signed__")) {
+        final String v$g$3 = "__signed__";
 
-      yyValue = GNode.create("Signed", v$g$3);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("Signed", v$g$3);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -4114,34 +5418,102 @@ public final class CParser extends ParserBase {
     Void       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x7;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("typeof")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("typeof")) {
 
-      yyValue = null;
+        yyValue = null;
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__typeof")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__typeof")) {
 
-      yyValue = null;
+        yyValue = null;
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__typeof__")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__typeof__")) {
 
-      yyValue = null;
+        yyValue = null;
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -4225,7 +5597,8 @@ public final class CParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -4237,7 +5610,8 @@ public final class CParser extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyBase   = yyRepetition1;
@@ -4250,7 +5624,7 @@ public final class CParser extends ParserBase {
             final Node v$el$1 = yyResult.semanticValue();
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
         } else {
@@ -4259,10 +5633,11 @@ public final class CParser extends ParserBase {
         break;
       }
       { // Start scope for v$g$2.
-        final Pair<Node> v$g$2 = yyRepValue1.reverse();
+        final int v$g$2 = yyRepStart1;
+        final int v$g$2$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("InitializerList", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("InitializerList", v$g$1, v$g$2, v$g$2$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$2.
@@ -4273,7 +5648,7 @@ public final class CParser extends ParserBase {
     if (GCC) {
 
       yyValue = GNode.create("InitializerList", false);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return new SemanticValue(yyValue, yyStart, yyError);
     }
@@ -4321,7 +5696,7 @@ public final class CParser extends ParserBase {
         final Node v$g$2 = yyResult.semanticValue();
 
         yyValue = GNode.create("InitializerListEntry", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -4345,7 +5720,8 @@ public final class CParser extends ParserBase {
     int        yyBase;
     int        yyRepetition1;
     boolean    yyRepeated1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -4353,7 +5729,8 @@ public final class CParser extends ParserBase {
 
     yyRepetition1 = yyStart;
     yyRepeated1   = false;
-    yyRepValue1   = Pair.empty();
+    yyRepStart1   = bufferStart();
+    yyRepEnd1   = yyRepStart1;
     while (true) {
 
       yyResult = pDesignator(yyRepetition1);
@@ -4363,26 +5740,28 @@ public final class CParser extends ParserBase {
 
         yyRepetition1 = yyResult.index;
         yyRepeated1   = true;
-        yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+        yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
         continue;
       }
       break;
     }
 
     if (yyRepeated1) {
-      final Pair<Node> v$g$1 = yyRepValue1.reverse();
+      final int v$g$1 = yyRepStart1;
+      final int v$g$1$end = yyRepEnd1;
 
       yyBase   = yyRepetition1;
       yyResult = pSymbol(yyBase);
       if (yyResult.hasValue("=")) {
 
-        yyValue = GNode.createFromPair("Designation", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("Designation", v$g$1, v$g$1$end);
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       } else {
         yyError = yyError.select("'=' expected", yyBase);
       }
+      releaseBuffer(v$g$1);
     }
 
     // Alternative 2.
@@ -4432,27 +5811,62 @@ public final class CParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Array>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("[")) {
-      final String v$g$1 = "[";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("[")) {
+        final String v$g$1 = "[";
 
-      yyResult = pConditionalExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$2 = yyResult.semanticValue();
+        yyResult = pConditionalExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$2 = yyResult.semanticValue();
 
-        yyBase   = yyResult.index;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue("]")) {
+          yyBase   = yyResult.index;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue("]")) {
 
-          yyValue = GNode.create("Designator", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+            yyValue = GNode.create("Designator", v$g$1, v$g$2);
+            locate(yyValue, yyStart);
 
-          return yyResult.createValue(yyValue, yyError);
-        } else {
-          yyError = yyError.select("']' expected", yyBase);
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("']' expected", yyBase);
+          }
         }
       }
     }
@@ -4484,7 +5898,7 @@ public final class CParser extends ParserBase {
               if (yyResult.hasValue("]")) {
 
                 yyValue = GNode.create("Designator", v$g$3, v$g$4, v$g$5);
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return yyResult.createValue(yyValue, yyError);
               } else {
@@ -4499,20 +5913,22 @@ public final class CParser extends ParserBase {
     }
 
     // Alternative <Structure>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(".")) {
-      final String v$g$6 = ".";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(".")) {
+        final String v$g$6 = ".";
 
-      yyResult = pPrimaryIdentifier(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$7 = yyResult.semanticValue();
+        yyResult = pPrimaryIdentifier(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$7 = yyResult.semanticValue();
 
-        yyValue = GNode.create("Designator", v$g$6, v$g$7);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("Designator", v$g$6, v$g$7);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
@@ -4558,7 +5974,7 @@ public final class CParser extends ParserBase {
         if (yyResult.hasValue("]")) {
 
           yyValue = GNode.create("ObsoleteArrayDesignation", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
@@ -4581,7 +5997,7 @@ public final class CParser extends ParserBase {
             if (yyResult.hasValue("]")) {
 
               yyValue = GNode.create("ObsoleteArrayDesignation", v$g$1, v$g$2, v$g$3);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             } else {
@@ -4628,7 +6044,7 @@ public final class CParser extends ParserBase {
       if (yyResult.hasValue(":")) {
 
         yyValue = GNode.create("ObsoleteFieldDesignation", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       } else {
@@ -4651,10 +6067,15 @@ public final class CParser extends ParserBase {
    */
   private Result pTypeName(final int yyStart) throws IOException {
     CParserColumn yyColumn = (CParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fTypeName) 
-      yyColumn.chunk1.fTypeName = pTypeName$1(yyStart);
-    return yyColumn.chunk1.fTypeName;
+    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
+    if (null == yyColumn.chunk2.fTypeName) {
+      yyColumn.chunk2.fTypeName = pTypeName$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(8, yyColumn.chunk2.fTypeName);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(8, yyColumn.chunk2.fTypeName);
+    }
+    return yyColumn.chunk2.fTypeName;
   }
 
   /** Actually parse xtc.lang.C.TypeName. */
@@ -4690,7 +6111,7 @@ public final class CParser extends ParserBase {
         final Node v$g$2 = yyOpValue1;
 
         yyValue = GNode.create("TypeName", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         // Commit the state modification.
         yyState.commit();
@@ -4719,10 +6140,16 @@ public final class CParser extends ParserBase {
     throws IOException {
 
     CParserColumn yyColumn = (CParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fAttributeSpecifierList) 
-      yyColumn.chunk1.fAttributeSpecifierList = pAttributeSpecifierList$1(yyStart);
-    return yyColumn.chunk1.fAttributeSpecifierList;
+    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
+    if (null == yyColumn.chunk2.fAttributeSpecifierList) {
+      yyColumn.chunk2.fAttributeSpecifierList = 
+        pAttributeSpecifierList$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(9, yyColumn.chunk2.fAttributeSpecifierList);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(9, yyColumn.chunk2.fAttributeSpecifierList);
+    }
+    return yyColumn.chunk2.fAttributeSpecifierList;
   }
 
   /** Actually parse xtc.lang.C.AttributeSpecifierList. */
@@ -4741,7 +6168,7 @@ public final class CParser extends ParserBase {
       final Pair<Node> v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.createFromPair("AttributeSpecifierList", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -4811,8 +6238,13 @@ public final class CParser extends ParserBase {
   private Result pAttributeSpecifier(final int yyStart) throws IOException {
     CParserColumn yyColumn = (CParserColumn)column(yyStart);
     if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fAttributeSpecifier) 
+    if (null == yyColumn.chunk2.fAttributeSpecifier) {
       yyColumn.chunk2.fAttributeSpecifier = pAttributeSpecifier$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(10, yyColumn.chunk2.fAttributeSpecifier);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(10, yyColumn.chunk2.fAttributeSpecifier);
+    }
     return yyColumn.chunk2.fAttributeSpecifier;
   }
 
@@ -4862,7 +6294,7 @@ public final class CParser extends ParserBase {
               if (yyResult.hasValue(")")) {
 
                 yyValue = GNode.create("AttributeSpecifier", v$g$1);
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return yyResult.createValue(yyValue, yyError);
               } else {
@@ -4898,24 +6330,90 @@ public final class CParser extends ParserBase {
     Void       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__attribute")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__attribute")) {
 
-      yyValue = null;
+        yyValue = null;
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__attribute__")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__attribute__")) {
 
-      yyValue = null;
+        yyValue = null;
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -4936,7 +6434,8 @@ public final class CParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -4948,7 +6447,8 @@ public final class CParser extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyBase   = yyRepetition1;
@@ -4961,7 +6461,7 @@ public final class CParser extends ParserBase {
             final Node v$el$1 = yyResult.semanticValue();
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
         } else {
@@ -4970,10 +6470,11 @@ public final class CParser extends ParserBase {
         break;
       }
       { // Start scope for v$g$2.
-        final Pair<Node> v$g$2 = yyRepValue1.reverse();
+        final int v$g$2 = yyRepStart1;
+        final int v$g$2$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("AttributeList", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("AttributeList", v$g$1, v$g$2, v$g$2$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$2.
@@ -5047,7 +6548,7 @@ public final class CParser extends ParserBase {
         final Node v$g$2 = yyOpValue1;
 
         yyValue = GNode.create("AttributeListEntry", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyOption1, yyError);
       } // End scope for v$g$2.
@@ -5068,10 +6569,15 @@ public final class CParser extends ParserBase {
    */
   private Result pStatement(final int yyStart) throws IOException {
     CParserColumn yyColumn = (CParserColumn)column(yyStart);
-    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fStatement) 
-      yyColumn.chunk2.fStatement = pStatement$1(yyStart);
-    return yyColumn.chunk2.fStatement;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fStatement) {
+      yyColumn.chunk3.fStatement = pStatement$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(11, yyColumn.chunk3.fStatement);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(11, yyColumn.chunk3.fStatement);
+    }
+    return yyColumn.chunk3.fStatement;
   }
 
   /** Actually parse xtc.lang.C.Statement. */
@@ -5083,6 +6589,95 @@ public final class CParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x801;
+      break;
+
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x7fe;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
 
     yyResult = pCommaExpression(yyStart);
@@ -5095,7 +6690,7 @@ public final class CParser extends ParserBase {
       if (yyResult.hasValue(";")) {
 
         yyValue = GNode.create("ExpressionStatement", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       } else {
@@ -5104,282 +6699,294 @@ public final class CParser extends ParserBase {
     }
 
     // Alternative <Compound>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pCompoundStatement(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pCompoundStatement(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("if")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("if")) {
 
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue("(")) {
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue("(")) {
 
-        yyResult = pCommaExpression(yyResult.index);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$g$1 = yyResult.semanticValue();
+          yyResult = pCommaExpression(yyResult.index);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Node v$g$1 = yyResult.semanticValue();
 
-          yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue(")")) {
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue(")")) {
 
-            yyResult = pStatement(yyResult.index);
-            yyError  = yyResult.select(yyError);
-            if (yyResult.hasValue()) {
-              final Node v$g$2 = yyResult.semanticValue();
+              yyResult = pStatement(yyResult.index);
+              yyError  = yyResult.select(yyError);
+              if (yyResult.hasValue()) {
+                final Node v$g$2 = yyResult.semanticValue();
 
-              final int yyChoice1 = yyResult.index;
+                final int yyChoice1 = yyResult.index;
 
-              // Nested alternative 1.
+                // Nested alternative 1.
 
-              yyBase   = yyChoice1;
-              yyResult = pKeyword(yyBase);
-              if (yyResult.hasValue("else")) {
+                yyBase   = yyChoice1;
+                yyResult = pKeyword(yyBase);
+                if (yyResult.hasValue("else")) {
 
-                yyResult = pStatement(yyResult.index);
-                yyError  = yyResult.select(yyError);
-                if (yyResult.hasValue()) {
-                  final Node v$g$3 = yyResult.semanticValue();
+                  yyResult = pStatement(yyResult.index);
+                  yyError  = yyResult.select(yyError);
+                  if (yyResult.hasValue()) {
+                    final Node v$g$3 = yyResult.semanticValue();
 
-                  yyValue = GNode.create("IfElseStatement", v$g$1, v$g$2, v$g$3);
-                  yyValue.setLocation(location(yyStart));
+                    yyValue = GNode.create("IfElseStatement", v$g$1, v$g$2, v$g$3);
+                    locate(yyValue, yyStart);
 
-                  return yyResult.createValue(yyValue, yyError);
+                    return yyResult.createValue(yyValue, yyError);
+                  }
+                } else {
+                  yyError = yyError.select("'else' expected", yyBase);
                 }
-              } else {
-                yyError = yyError.select("'else' expected", yyBase);
-              }
 
-              // Nested alternative 2.
+                // Nested alternative 2.
 
-              yyValue = GNode.create("IfStatement", v$g$1, v$g$2);
-              yyValue.setLocation(location(yyStart));
+                yyValue = GNode.create("IfStatement", v$g$1, v$g$2);
+                locate(yyValue, yyStart);
 
-              return new SemanticValue(yyValue, yyChoice1, yyError);
+                return new SemanticValue(yyValue, yyChoice1, yyError);
+              }
+            } else {
+              yyError = yyError.select("')' expected", yyBase);
             }
-          } else {
-            yyError = yyError.select("')' expected", yyBase);
           }
+        } else {
+          yyError = yyError.select("'(' expected", yyBase);
         }
-      } else {
-        yyError = yyError.select("'(' expected", yyBase);
       }
     }
 
     // Alternative 4.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("while")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("while")) {
 
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue("(")) {
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue("(")) {
 
-        yyResult = pCommaExpression(yyResult.index);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$g$1 = yyResult.semanticValue();
+          yyResult = pCommaExpression(yyResult.index);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Node v$g$1 = yyResult.semanticValue();
 
-          yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue(")")) {
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue(")")) {
 
-            yyResult = pStatement(yyResult.index);
-            yyError  = yyResult.select(yyError);
-            if (yyResult.hasValue()) {
-              final Node v$g$2 = yyResult.semanticValue();
+              yyResult = pStatement(yyResult.index);
+              yyError  = yyResult.select(yyError);
+              if (yyResult.hasValue()) {
+                final Node v$g$2 = yyResult.semanticValue();
 
-              yyValue = GNode.create("WhileStatement", v$g$1, v$g$2);
-              yyValue.setLocation(location(yyStart));
+                yyValue = GNode.create("WhileStatement", v$g$1, v$g$2);
+                locate(yyValue, yyStart);
 
-              return yyResult.createValue(yyValue, yyError);
+                return yyResult.createValue(yyValue, yyError);
+              }
+            } else {
+              yyError = yyError.select("')' expected", yyBase);
             }
-          } else {
-            yyError = yyError.select("')' expected", yyBase);
           }
+        } else {
+          yyError = yyError.select("'(' expected", yyBase);
         }
-      } else {
-        yyError = yyError.select("'(' expected", yyBase);
       }
     }
 
     // Alternative 5.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("do")) {
-
-      yyResult = pStatement(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("do")) {
 
-        yyBase   = yyResult.index;
-        yyResult = pKeyword(yyBase);
-        if (yyResult.hasValue("while")) {
+        yyResult = pStatement(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$1 = yyResult.semanticValue();
 
           yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue("(")) {
+          yyResult = pKeyword(yyBase);
+          if (yyResult.hasValue("while")) {
 
-            yyResult = pCommaExpression(yyResult.index);
-            yyError  = yyResult.select(yyError);
-            if (yyResult.hasValue()) {
-              final Node v$g$2 = yyResult.semanticValue();
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue("(")) {
 
-              yyBase   = yyResult.index;
-              yyResult = pSymbol(yyBase);
-              if (yyResult.hasValue(")")) {
+              yyResult = pCommaExpression(yyResult.index);
+              yyError  = yyResult.select(yyError);
+              if (yyResult.hasValue()) {
+                final Node v$g$2 = yyResult.semanticValue();
 
                 yyBase   = yyResult.index;
                 yyResult = pSymbol(yyBase);
-                if (yyResult.hasValue(";")) {
+                if (yyResult.hasValue(")")) {
 
-                  yyValue = GNode.create("DoStatement", v$g$1, v$g$2);
-                  yyValue.setLocation(location(yyStart));
+                  yyBase   = yyResult.index;
+                  yyResult = pSymbol(yyBase);
+                  if (yyResult.hasValue(";")) {
 
-                  return yyResult.createValue(yyValue, yyError);
+                    yyValue = GNode.create("DoStatement", v$g$1, v$g$2);
+                    locate(yyValue, yyStart);
+
+                    return yyResult.createValue(yyValue, yyError);
+                  } else {
+                    yyError = yyError.select("';' expected", yyBase);
+                  }
                 } else {
-                  yyError = yyError.select("';' expected", yyBase);
+                  yyError = yyError.select("')' expected", yyBase);
                 }
-              } else {
-                yyError = yyError.select("')' expected", yyBase);
               }
+            } else {
+              yyError = yyError.select("'(' expected", yyBase);
             }
           } else {
-            yyError = yyError.select("'(' expected", yyBase);
+            yyError = yyError.select("'while' expected", yyBase);
           }
-        } else {
-          yyError = yyError.select("'while' expected", yyBase);
         }
       }
     }
 
     // Alternative 6.
+    if (0 != (yyFirst & 0x10)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("for")) {
-
-      yyResult = pPushScope(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-
-        yyBase   = yyResult.index;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue("(")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("for")) {
 
-          yyResult = pInitialClause(yyResult.index);
-          yyError  = yyResult.select(yyError);
-          if (yyResult.hasValue()) {
-            final Node v$g$1 = yyResult.semanticValue();
+        yyResult = pPushScope(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
 
-            yyOption1  = yyResult.index;
-            yyOpValue1 = null;
+          yyBase   = yyResult.index;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue("(")) {
 
-            yyResult = pCommaExpression(yyOption1);
-            yyError  = yyResult.select(yyError, yyOption1);
+            yyResult = pInitialClause(yyResult.index);
+            yyError  = yyResult.select(yyError);
             if (yyResult.hasValue()) {
-              final Node v$el$1 = yyResult.semanticValue();
+              final Node v$g$1 = yyResult.semanticValue();
 
               yyOption1  = yyResult.index;
-              yyOpValue1 = v$el$1;
-            }
-            { // Start scope for v$g$2.
-              final Node v$g$2 = yyOpValue1;
+              yyOpValue1 = null;
 
-              yyBase   = yyOption1;
-              yyResult = pSymbol(yyBase);
-              if (yyResult.hasValue(";")) {
+              yyResult = pCommaExpression(yyOption1);
+              yyError  = yyResult.select(yyError, yyOption1);
+              if (yyResult.hasValue()) {
+                final Node v$el$1 = yyResult.semanticValue();
 
                 yyOption1  = yyResult.index;
-                yyOpValue1 = null;
+                yyOpValue1 = v$el$1;
+              }
+              { // Start scope for v$g$2.
+                final Node v$g$2 = yyOpValue1;
 
-                yyResult = pCommaExpression(yyOption1);
-                yyError  = yyResult.select(yyError, yyOption1);
-                if (yyResult.hasValue()) {
-                  final Node v$el$2 = yyResult.semanticValue();
+                yyBase   = yyOption1;
+                yyResult = pSymbol(yyBase);
+                if (yyResult.hasValue(";")) {
 
                   yyOption1  = yyResult.index;
-                  yyOpValue1 = v$el$2;
-                }
-                { // Start scope for v$g$3.
-                  final Node v$g$3 = yyOpValue1;
+                  yyOpValue1 = null;
 
-                  yyBase   = yyOption1;
-                  yyResult = pSymbol(yyBase);
-                  if (yyResult.hasValue(")")) {
+                  yyResult = pCommaExpression(yyOption1);
+                  yyError  = yyResult.select(yyError, yyOption1);
+                  if (yyResult.hasValue()) {
+                    final Node v$el$2 = yyResult.semanticValue();
 
-                    yyResult = pStatement(yyResult.index);
-                    yyError  = yyResult.select(yyError);
-                    if (yyResult.hasValue()) {
-                      final Node v$g$4 = yyResult.semanticValue();
+                    yyOption1  = yyResult.index;
+                    yyOpValue1 = v$el$2;
+                  }
+                  { // Start scope for v$g$3.
+                    final Node v$g$3 = yyOpValue1;
 
-                      yyResult = pPopScope(yyResult.index);
+                    yyBase   = yyOption1;
+                    yyResult = pSymbol(yyBase);
+                    if (yyResult.hasValue(")")) {
+
+                      yyResult = pStatement(yyResult.index);
                       yyError  = yyResult.select(yyError);
                       if (yyResult.hasValue()) {
+                        final Node v$g$4 = yyResult.semanticValue();
 
-                        yyValue = GNode.create("ForStatement", v$g$1, v$g$2, v$g$3, v$g$4);
-                        yyValue.setLocation(location(yyStart));
+                        yyResult = pPopScope(yyResult.index);
+                        yyError  = yyResult.select(yyError);
+                        if (yyResult.hasValue()) {
+
+                          yyValue = GNode.create("ForStatement", v$g$1, v$g$2, v$g$3, v$g$4);
+                          locate(yyValue, yyStart);
 
-                        return yyResult.createValue(yyValue, yyError);
+                          return yyResult.createValue(yyValue, yyError);
+                        }
                       }
+                    } else {
+                      yyError = yyError.select("')' expected", yyBase);
                     }
-                  } else {
-                    yyError = yyError.select("')' expected", yyBase);
-                  }
-                } // End scope for v$g$3.
-              } else {
-                yyError = yyError.select("';' expected", yyBase);
-              }
-            } // End scope for v$g$2.
+                  } // End scope for v$g$3.
+                } else {
+                  yyError = yyError.select("';' expected", yyBase);
+                }
+              } // End scope for v$g$2.
+            }
+          } else {
+            yyError = yyError.select("'(' expected", yyBase);
           }
-        } else {
-          yyError = yyError.select("'(' expected", yyBase);
         }
       }
     }
 
     // Alternative 7.
+    if (0 != (yyFirst & 0x20)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("switch")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("switch")) {
 
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue("(")) {
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue("(")) {
 
-        yyResult = pCommaExpression(yyResult.index);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$g$1 = yyResult.semanticValue();
+          yyResult = pCommaExpression(yyResult.index);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Node v$g$1 = yyResult.semanticValue();
 
-          yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue(")")) {
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue(")")) {
 
-            yyResult = pStatement(yyResult.index);
-            yyError  = yyResult.select(yyError);
-            if (yyResult.hasValue()) {
-              final Node v$g$2 = yyResult.semanticValue();
+              yyResult = pStatement(yyResult.index);
+              yyError  = yyResult.select(yyError);
+              if (yyResult.hasValue()) {
+                final Node v$g$2 = yyResult.semanticValue();
 
-              yyValue = GNode.create("SwitchStatement", v$g$1, v$g$2);
-              yyValue.setLocation(location(yyStart));
+                yyValue = GNode.create("SwitchStatement", v$g$1, v$g$2);
+                locate(yyValue, yyStart);
 
-              return yyResult.createValue(yyValue, yyError);
+                return yyResult.createValue(yyValue, yyError);
+              }
+            } else {
+              yyError = yyError.select("')' expected", yyBase);
             }
-          } else {
-            yyError = yyError.select("')' expected", yyBase);
           }
+        } else {
+          yyError = yyError.select("'(' expected", yyBase);
         }
-      } else {
-        yyError = yyError.select("'(' expected", yyBase);
       }
     }
 
@@ -5396,7 +7003,7 @@ public final class CParser extends ParserBase {
         final Node v$g$2 = yyResult.semanticValue();
 
         yyValue = GNode.create("LabeledStatement", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -5412,101 +7019,109 @@ public final class CParser extends ParserBase {
         final Node v$g$3 = yyResult.semanticValue();
 
         yyValue = GNode.create("LabeledStatement", v$g$3, null);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
     }
 
     // Alternative 10.
+    if (0 != (yyFirst & 0x40)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("break")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("break")) {
 
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue(";")) {
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue(";")) {
 
-        yyValue = GNode.create("BreakStatement", false);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("BreakStatement", false);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
-      } else {
-        yyError = yyError.select("';' expected", yyBase);
+          return yyResult.createValue(yyValue, yyError);
+        } else {
+          yyError = yyError.select("';' expected", yyBase);
+        }
       }
     }
 
     // Alternative 11.
+    if (0 != (yyFirst & 0x80)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("continue")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("continue")) {
 
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue(";")) {
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue(";")) {
 
-        yyValue = GNode.create("ContinueStatement", false);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("ContinueStatement", false);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
-      } else {
-        yyError = yyError.select("';' expected", yyBase);
+          return yyResult.createValue(yyValue, yyError);
+        } else {
+          yyError = yyError.select("';' expected", yyBase);
+        }
       }
     }
 
     // Alternative 12.
+    if (0 != (yyFirst & 0x100)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("return")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("return")) {
 
-      yyOption1  = yyResult.index;
-      yyOpValue1 = null;
+        yyOption1  = yyResult.index;
+        yyOpValue1 = null;
 
-      yyResult = pCommaExpression(yyOption1);
-      yyError  = yyResult.select(yyError, yyOption1);
-      if (yyResult.hasValue()) {
-        final Node v$el$1 = yyResult.semanticValue();
+        yyResult = pCommaExpression(yyOption1);
+        yyError  = yyResult.select(yyError, yyOption1);
+        if (yyResult.hasValue()) {
+          final Node v$el$1 = yyResult.semanticValue();
 
-        yyOption1  = yyResult.index;
-        yyOpValue1 = v$el$1;
-      }
-      { // Start scope for v$g$1.
-        final Node v$g$1 = yyOpValue1;
+          yyOption1  = yyResult.index;
+          yyOpValue1 = v$el$1;
+        }
+        { // Start scope for v$g$1.
+          final Node v$g$1 = yyOpValue1;
 
-        yyBase   = yyOption1;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue(";")) {
+          yyBase   = yyOption1;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue(";")) {
 
-          yyValue = GNode.create("ReturnStatement", v$g$1);
-          yyValue.setLocation(location(yyStart));
+            yyValue = GNode.create("ReturnStatement", v$g$1);
+            locate(yyValue, yyStart);
 
-          return yyResult.createValue(yyValue, yyError);
-        } else {
-          yyError = yyError.select("';' expected", yyBase);
-        }
-      } // End scope for v$g$1.
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("';' expected", yyBase);
+          }
+        } // End scope for v$g$1.
+      }
     }
 
     // Alternative <Direct>.
+    if (0 != (yyFirst & 0x200)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("goto")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("goto")) {
 
-      yyResult = pPrimaryIdentifier(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$2 = yyResult.semanticValue();
+        yyResult = pPrimaryIdentifier(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$2 = yyResult.semanticValue();
 
-        yyBase   = yyResult.index;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue(";")) {
+          yyBase   = yyResult.index;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue(";")) {
 
-          yyValue = GNode.create("GotoStatement", null, v$g$2);
-          yyValue.setLocation(location(yyStart));
+            yyValue = GNode.create("GotoStatement", null, v$g$2);
+            locate(yyValue, yyStart);
 
-          return yyResult.createValue(yyValue, yyError);
-        } else {
-          yyError = yyError.select("';' expected", yyBase);
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("';' expected", yyBase);
+          }
         }
       }
     }
@@ -5533,7 +7148,7 @@ public final class CParser extends ParserBase {
             if (yyResult.hasValue(";")) {
 
               yyValue = GNode.create("GotoStatement", v$g$3, v$g$4);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             } else {
@@ -5547,69 +7162,73 @@ public final class CParser extends ParserBase {
     }
 
     // Alternative 15.
+    if ((0 != (yyFirst & 0x400)) || (yyError.index < yyStart)) {
 
-    yyResult = pAsmKeyword(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-
-      yyOption1  = yyResult.index;
-      yyOpValue1 = null;
-
-      yyResult = pTypeQualifier(yyOption1);
-      yyError  = yyResult.select(yyError, yyOption1);
+      yyResult = pAsmKeyword(yyStart);
+      yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
-        final Node v$el$1 = yyResult.semanticValue();
 
         yyOption1  = yyResult.index;
-        yyOpValue1 = v$el$1;
-      }
-      { // Start scope for v$g$1.
-        final Node v$g$1 = yyOpValue1;
+        yyOpValue1 = null;
 
-        yyBase   = yyOption1;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue("(")) {
+        yyResult = pTypeQualifier(yyOption1);
+        yyError  = yyResult.select(yyError, yyOption1);
+        if (yyResult.hasValue()) {
+          final Node v$el$1 = yyResult.semanticValue();
 
-          yyResult = pAssemblyArgument(yyResult.index);
-          yyError  = yyResult.select(yyError);
-          if (yyResult.hasValue()) {
-            final Node v$g$2 = yyResult.semanticValue();
+          yyOption1  = yyResult.index;
+          yyOpValue1 = v$el$1;
+        }
+        { // Start scope for v$g$1.
+          final Node v$g$1 = yyOpValue1;
 
-            yyBase   = yyResult.index;
-            yyResult = pSymbol(yyBase);
-            if (yyResult.hasValue(")")) {
+          yyBase   = yyOption1;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue("(")) {
+
+            yyResult = pAssemblyArgument(yyResult.index);
+            yyError  = yyResult.select(yyError);
+            if (yyResult.hasValue()) {
+              final Node v$g$2 = yyResult.semanticValue();
 
               yyBase   = yyResult.index;
               yyResult = pSymbol(yyBase);
-              if (yyResult.hasValue(";")) {
-                final String v$g$3 = ";";
+              if (yyResult.hasValue(")")) {
+
+                yyBase   = yyResult.index;
+                yyResult = pSymbol(yyBase);
+                if (yyResult.hasValue(";")) {
+                  final String v$g$3 = ";";
 
-                yyValue = GNode.create("AssemblyStatement", v$g$1, v$g$2, v$g$3);
-                yyValue.setLocation(location(yyStart));
+                  yyValue = GNode.create("AssemblyStatement", v$g$1, v$g$2, v$g$3);
+                  locate(yyValue, yyStart);
 
-                return yyResult.createValue(yyValue, yyError);
+                  return yyResult.createValue(yyValue, yyError);
+                } else {
+                  yyError = yyError.select("';' expected", yyBase);
+                }
               } else {
-                yyError = yyError.select("';' expected", yyBase);
+                yyError = yyError.select("')' expected", yyBase);
               }
-            } else {
-              yyError = yyError.select("')' expected", yyBase);
             }
+          } else {
+            yyError = yyError.select("'(' expected", yyBase);
           }
-        } else {
-          yyError = yyError.select("'(' expected", yyBase);
-        }
-      } // End scope for v$g$1.
+        } // End scope for v$g$1.
+      }
     }
 
     // Alternative 16.
+    if (0 != (yyFirst & 0x800)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(";")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(";")) {
 
-      yyValue = GNode.create("EmptyStatement", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("EmptyStatement", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -5634,38 +7253,102 @@ public final class CParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
-    // Alternative <Label>.
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x7;
+      break;
 
-    yyResult = pIdentifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final String v$g$1 = yyResult.semanticValue();
+    default:
+      yyFirst = 0;
+    }
 
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue(":")) {
+    // Alternative <Label>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-        yyOption1  = yyResult.index;
-        yyOpValue1 = null;
+      yyResult = pIdentifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final String v$g$1 = yyResult.semanticValue();
 
-        yyResult = pAttributeSpecifierList(yyOption1);
-        yyError  = yyResult.select(yyError, yyOption1);
-        if (yyResult.hasValue()) {
-          final Node v$el$1 = yyResult.semanticValue();
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue(":")) {
 
           yyOption1  = yyResult.index;
-          yyOpValue1 = v$el$1;
-        }
-        { // Start scope for v$g$2.
-          final Node v$g$2 = yyOpValue1;
+          yyOpValue1 = null;
 
-          yyValue = GNode.create("NamedLabel", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          yyResult = pAttributeSpecifierList(yyOption1);
+          yyError  = yyResult.select(yyError, yyOption1);
+          if (yyResult.hasValue()) {
+            final Node v$el$1 = yyResult.semanticValue();
 
-          return new SemanticValue(yyValue, yyOption1, yyError);
-        } // End scope for v$g$2.
-      } else {
-        yyError = yyError.select("':' expected", yyBase);
+            yyOption1  = yyResult.index;
+            yyOpValue1 = v$el$1;
+          }
+          { // Start scope for v$g$2.
+            final Node v$g$2 = yyOpValue1;
+
+            yyValue = GNode.create("NamedLabel", v$g$1, v$g$2);
+            locate(yyValue, yyStart);
+
+            return new SemanticValue(yyValue, yyOption1, yyError);
+          } // End scope for v$g$2.
+        } else {
+          yyError = yyError.select("':' expected", yyBase);
+        }
       }
     }
 
@@ -5695,7 +7378,7 @@ public final class CParser extends ParserBase {
               if (yyResult.hasValue(":")) {
 
                 yyValue = GNode.create("CaseLabel", v$g$1, v$g$2);
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return yyResult.createValue(yyValue, yyError);
               } else {
@@ -5710,44 +7393,48 @@ public final class CParser extends ParserBase {
     }
 
     // Alternative <Simple>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("case")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("case")) {
 
-      yyResult = pConditionalExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$3 = yyResult.semanticValue();
+        yyResult = pConditionalExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$3 = yyResult.semanticValue();
 
-        yyBase   = yyResult.index;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue(":")) {
+          yyBase   = yyResult.index;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue(":")) {
 
-          yyValue = GNode.create("CaseLabel", v$g$3);
-          yyValue.setLocation(location(yyStart));
+            yyValue = GNode.create("CaseLabel", v$g$3);
+            locate(yyValue, yyStart);
 
-          return yyResult.createValue(yyValue, yyError);
-        } else {
-          yyError = yyError.select("':' expected", yyBase);
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("':' expected", yyBase);
+          }
         }
       }
     }
 
     // Alternative 4.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("default")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("default")) {
 
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue(":")) {
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue(":")) {
 
-        yyValue = GNode.create("DefaultLabel", false);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("DefaultLabel", false);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
-      } else {
-        yyError = yyError.select("':' expected", yyBase);
+          return yyResult.createValue(yyValue, yyError);
+        } else {
+          yyError = yyError.select("':' expected", yyBase);
+        }
       }
     }
 
@@ -5767,10 +7454,15 @@ public final class CParser extends ParserBase {
    */
   private Result pCompoundStatement(final int yyStart) throws IOException {
     CParserColumn yyColumn = (CParserColumn)column(yyStart);
-    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fCompoundStatement) 
-      yyColumn.chunk2.fCompoundStatement = pCompoundStatement$1(yyStart);
-    return yyColumn.chunk2.fCompoundStatement;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fCompoundStatement) {
+      yyColumn.chunk3.fCompoundStatement = pCompoundStatement$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(12, yyColumn.chunk3.fCompoundStatement);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(12, yyColumn.chunk3.fCompoundStatement);
+    }
+    return yyColumn.chunk3.fCompoundStatement;
   }
 
   /** Actually parse xtc.lang.C.CompoundStatement. */
@@ -5814,7 +7506,7 @@ public final class CParser extends ParserBase {
 
                   yyValue = GNode.create("CompoundStatement", v$g$1.size() + v$g$2.size() + 1).
                     addAll(v$g$1).addAll(v$g$2).add(v$g$3);
-                  yyValue.setLocation(location(yyStart));
+                  locate(yyValue, yyStart);
 
                   return yyResult.createValue(yyValue, yyError);
                 }
@@ -5886,12 +7578,13 @@ public final class CParser extends ParserBase {
   private Result pLocalLabelDeclaration(final int yyStart) 
     throws IOException {
 
-    Result       yyResult;
-    int          yyBase;
-    int          yyRepetition1;
-    Pair<String> yyRepValue1;
-    Node         yyValue;
-    ParseError   yyError = ParseError.DUMMY;
+    Result     yyResult;
+    int        yyBase;
+    int        yyRepetition1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
+    Node       yyValue;
+    ParseError yyError = ParseError.DUMMY;
 
     // Alternative 1.
 
@@ -5904,7 +7597,8 @@ public final class CParser extends ParserBase {
         final String v$g$1 = yyResult.semanticValue();
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyBase   = yyRepetition1;
@@ -5917,7 +7611,7 @@ public final class CParser extends ParserBase {
               final String v$el$1 = yyResult.semanticValue();
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<String>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
           } else {
@@ -5926,19 +7620,21 @@ public final class CParser extends ParserBase {
           break;
         }
         { // Start scope for v$g$2.
-          final Pair<String> v$g$2 = yyRepValue1.reverse();
+          final int v$g$2 = yyRepStart1;
+          final int v$g$2$end = yyRepEnd1;
 
           yyBase   = yyRepetition1;
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue(";")) {
 
-            yyValue = GNode.createFromPair("LocalLabelDeclaration", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
+            yyValue = bufferedNode("LocalLabelDeclaration", v$g$1, v$g$2, v$g$2$end);
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
             yyError = yyError.select("';' expected", yyBase);
           }
+          releaseBuffer(v$g$2);
         } // End scope for v$g$2.
       }
     }
@@ -6130,10 +7826,15 @@ public final class CParser extends ParserBase {
    */
   private Result pCommaExpression(final int yyStart) throws IOException {
     CParserColumn yyColumn = (CParserColumn)column(yyStart);
-    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fCommaExpression) 
-      yyColumn.chunk2.fCommaExpression = pCommaExpression$1(yyStart);
-    return yyColumn.chunk2.fCommaExpression;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fCommaExpression) {
+      yyColumn.chunk3.fCommaExpression = pCommaExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(13, yyColumn.chunk3.fCommaExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(13, yyColumn.chunk3.fCommaExpression);
+    }
+    return yyColumn.chunk3.fCommaExpression;
   }
 
   /** Actually parse xtc.lang.C.CommaExpression. */
@@ -6230,10 +7931,16 @@ public final class CParser extends ParserBase {
    */
   private Result pAssignmentExpression(final int yyStart) throws IOException {
     CParserColumn yyColumn = (CParserColumn)column(yyStart);
-    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fAssignmentExpression) 
-      yyColumn.chunk2.fAssignmentExpression = pAssignmentExpression$1(yyStart);
-    return yyColumn.chunk2.fAssignmentExpression;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fAssignmentExpression) {
+      yyColumn.chunk3.fAssignmentExpression = 
+        pAssignmentExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(14, yyColumn.chunk3.fAssignmentExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(14, yyColumn.chunk3.fAssignmentExpression);
+    }
+    return yyColumn.chunk3.fAssignmentExpression;
   }
 
   /** Actually parse xtc.lang.C.AssignmentExpression. */
@@ -6262,7 +7969,7 @@ public final class CParser extends ParserBase {
           final Node v$g$3 = yyResult.semanticValue();
 
           yyValue = GNode.create("AssignmentExpression", v$g$1, v$g$2, v$g$3);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -6297,103 +8004,158 @@ public final class CParser extends ParserBase {
     String     yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x7ff;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Equal>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("=")) {
-      yyValue = "=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("=")) {
+        yyValue = "=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <PlusEqual>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("+=")) {
-      yyValue = "+=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("+=")) {
+        yyValue = "+=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <MinusEqual>.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("-=")) {
-      yyValue = "-=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("-=")) {
+        yyValue = "-=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <TimesEqual>.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("*=")) {
-      yyValue = "*=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("*=")) {
+        yyValue = "*=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <OverEqual>.
+    if (0 != (yyFirst & 0x10)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("/=")) {
-      yyValue = "/=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("/=")) {
+        yyValue = "/=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <ModuloEqual>.
+    if (0 != (yyFirst & 0x20)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("%=")) {
-      yyValue = "%=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("%=")) {
+        yyValue = "%=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <LeftEqual>.
+    if (0 != (yyFirst & 0x40)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("<<=")) {
-      yyValue = "<<=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("<<=")) {
+        yyValue = "<<=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <RightEqual>.
+    if (0 != (yyFirst & 0x80)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(">>=")) {
-      yyValue = ">>=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(">>=")) {
+        yyValue = ">>=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <AndEqual>.
+    if (0 != (yyFirst & 0x100)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("&=")) {
-      yyValue = "&=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("&=")) {
+        yyValue = "&=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <XorEqual>.
+    if (0 != (yyFirst & 0x200)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("^=")) {
-      yyValue = "^=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("^=")) {
+        yyValue = "^=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <OrEqual>.
+    if (0 != (yyFirst & 0x400)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("|=")) {
-      yyValue = "|=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("|=")) {
+        yyValue = "|=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -6414,10 +8176,16 @@ public final class CParser extends ParserBase {
     throws IOException {
 
     CParserColumn yyColumn = (CParserColumn)column(yyStart);
-    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fConditionalExpression) 
-      yyColumn.chunk2.fConditionalExpression = pConditionalExpression$1(yyStart);
-    return yyColumn.chunk2.fConditionalExpression;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fConditionalExpression) {
+      yyColumn.chunk3.fConditionalExpression = 
+        pConditionalExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(15, yyColumn.chunk3.fConditionalExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(15, yyColumn.chunk3.fConditionalExpression);
+    }
+    return yyColumn.chunk3.fConditionalExpression;
   }
 
   /** Actually parse xtc.lang.C.ConditionalExpression. */
@@ -6455,7 +8223,7 @@ public final class CParser extends ParserBase {
               final Node v$g$3 = yyResult.semanticValue();
 
               yyValue = GNode.create("ConditionalExpression", v$g$1, v$g$2, v$g$3);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -6491,7 +8259,7 @@ public final class CParser extends ParserBase {
               final Node v$g$6 = yyResult.semanticValue();
 
               yyValue = GNode.create("ConditionalExpression", v$g$4, null, v$g$6);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -6530,10 +8298,15 @@ public final class CParser extends ParserBase {
    */
   private Result pLogicalOrExpression(final int yyStart) throws IOException {
     CParserColumn yyColumn = (CParserColumn)column(yyStart);
-    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fLogicalOrExpression) 
-      yyColumn.chunk2.fLogicalOrExpression = pLogicalOrExpression$1(yyStart);
-    return yyColumn.chunk2.fLogicalOrExpression;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fLogicalOrExpression) {
+      yyColumn.chunk3.fLogicalOrExpression = pLogicalOrExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(16, yyColumn.chunk3.fLogicalOrExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(16, yyColumn.chunk3.fLogicalOrExpression);
+    }
+    return yyColumn.chunk3.fLogicalOrExpression;
   }
 
   /** Actually parse xtc.lang.C.LogicalOrExpression. */
@@ -7091,22 +8864,59 @@ public final class CParser extends ParserBase {
     String     yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Equal>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("==")) {
-      yyValue = "==";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("==")) {
+        yyValue = "==";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <NotEqual>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("!=")) {
-      yyValue = "!=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("!=")) {
+        yyValue = "!=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -7220,40 +9030,81 @@ public final class CParser extends ParserBase {
     String     yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0xf;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <LessEqual>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("<=")) {
-      yyValue = "<=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("<=")) {
+        yyValue = "<=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Less>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("<")) {
-      yyValue = "<";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("<")) {
+        yyValue = "<";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <GreaterEqual>.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(">=")) {
-      yyValue = ">=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(">=")) {
+        yyValue = ">=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Greater>.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(">")) {
-      yyValue = ">";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(">")) {
+        yyValue = ">";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -7367,22 +9218,59 @@ public final class CParser extends ParserBase {
     String     yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Left>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("<<")) {
-      yyValue = "<<";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("<<")) {
+        yyValue = "<<";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Right>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(">>")) {
-      yyValue = ">>";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(">>")) {
+        yyValue = ">>";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -7496,22 +9384,59 @@ public final class CParser extends ParserBase {
     String     yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Plus>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("+")) {
-      yyValue = "+";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("+")) {
+        yyValue = "+";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Minus>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("-")) {
-      yyValue = "-";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("-")) {
+        yyValue = "-";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -7629,31 +9554,70 @@ public final class CParser extends ParserBase {
     String     yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x7;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Times>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("*")) {
-      yyValue = "*";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("*")) {
+        yyValue = "*";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Over>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("/")) {
-      yyValue = "/";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("/")) {
+        yyValue = "/";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Modulo>.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("%")) {
-      yyValue = "%";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("%")) {
+        yyValue = "%";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -7672,10 +9636,15 @@ public final class CParser extends ParserBase {
    */
   private Result pCastExpression(final int yyStart) throws IOException {
     CParserColumn yyColumn = (CParserColumn)column(yyStart);
-    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fCastExpression) 
-      yyColumn.chunk2.fCastExpression = pCastExpression$1(yyStart);
-    return yyColumn.chunk2.fCastExpression;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fCastExpression) {
+      yyColumn.chunk1.fCastExpression = pCastExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(17, yyColumn.chunk1.fCastExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(17, yyColumn.chunk1.fCastExpression);
+    }
+    return yyColumn.chunk1.fCastExpression;
   }
 
   /** Actually parse xtc.lang.C.CastExpression. */
@@ -7705,7 +9674,7 @@ public final class CParser extends ParserBase {
             final Node v$g$2 = yyResult.semanticValue();
 
             yyValue = GNode.create("CastExpression", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           }
@@ -7741,10 +9710,15 @@ public final class CParser extends ParserBase {
    */
   private Result pUnaryExpression(final int yyStart) throws IOException {
     CParserColumn yyColumn = (CParserColumn)column(yyStart);
-    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fUnaryExpression) 
-      yyColumn.chunk2.fUnaryExpression = pUnaryExpression$1(yyStart);
-    return yyColumn.chunk2.fUnaryExpression;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fUnaryExpression) {
+      yyColumn.chunk1.fUnaryExpression = pUnaryExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(18, yyColumn.chunk1.fUnaryExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(18, yyColumn.chunk1.fUnaryExpression);
+    }
+    return yyColumn.chunk1.fUnaryExpression;
   }
 
   /** Actually parse xtc.lang.C.UnaryExpression. */
@@ -7756,299 +9730,406 @@ public final class CParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0xff0;
+      break;
+
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0xf;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("sizeof")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("sizeof")) {
 
-      final int yyChoice1 = yyResult.index;
+        final int yyChoice1 = yyResult.index;
 
-      // Nested alternative 1.
+        // Nested alternative 1.
 
-      yyBase   = yyChoice1;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue("(")) {
+        yyBase   = yyChoice1;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue("(")) {
 
-        yyResult = pTypeName(yyResult.index);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$g$1 = yyResult.semanticValue();
+          yyResult = pTypeName(yyResult.index);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Node v$g$1 = yyResult.semanticValue();
 
-          yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue(")")) {
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue(")")) {
 
-            yyPredMatched = false;
+              yyPredMatched = false;
 
-            yyPredResult = pSymbol(yyResult.index);
-            if (yyPredResult.hasValue("{")) {
+              yyPredResult = pSymbol(yyResult.index);
+              if (yyPredResult.hasValue("{")) {
 
-              yyPredMatched = true;
-            }
+                yyPredMatched = true;
+              }
 
-            if (! yyPredMatched) {
+              if (! yyPredMatched) {
 
-              yyValue = GNode.create("SizeofExpression", v$g$1);
-              yyValue.setLocation(location(yyStart));
+                yyValue = GNode.create("SizeofExpression", v$g$1);
+                locate(yyValue, yyStart);
 
-              return yyResult.createValue(yyValue, yyError);
+                return yyResult.createValue(yyValue, yyError);
+              } else {
+                yyError = yyError.select("unary expression expected", yyStart);
+              }
             } else {
-              yyError = yyError.select("unary expression expected", yyStart);
+              yyError = yyError.select("')' expected", yyBase);
             }
-          } else {
-            yyError = yyError.select("')' expected", yyBase);
           }
+        } else {
+          yyError = yyError.select("'(' expected", yyBase);
         }
-      } else {
-        yyError = yyError.select("'(' expected", yyBase);
-      }
 
-      // Nested alternative 2.
+        // Nested alternative 2.
 
-      yyResult = pUnaryExpression(yyChoice1);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$2 = yyResult.semanticValue();
+        yyResult = pUnaryExpression(yyChoice1);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("SizeofExpression", v$g$2);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("SizeofExpression", v$g$2);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 2.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pAlignofKeyword(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
+      yyResult = pAlignofKeyword(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
 
-      final int yyChoice1 = yyResult.index;
+        final int yyChoice1 = yyResult.index;
 
-      // Nested alternative 1.
+        // Nested alternative 1.
 
-      yyBase   = yyChoice1;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue("(")) {
+        yyBase   = yyChoice1;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue("(")) {
 
-        yyResult = pTypeName(yyResult.index);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$g$1 = yyResult.semanticValue();
+          yyResult = pTypeName(yyResult.index);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Node v$g$1 = yyResult.semanticValue();
 
-          yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue(")")) {
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue(")")) {
 
-            yyPredMatched = false;
+              yyPredMatched = false;
 
-            yyPredResult = pSymbol(yyResult.index);
-            if (yyPredResult.hasValue("{")) {
+              yyPredResult = pSymbol(yyResult.index);
+              if (yyPredResult.hasValue("{")) {
 
-              yyPredMatched = true;
-            }
+                yyPredMatched = true;
+              }
 
-            if (! yyPredMatched) {
+              if (! yyPredMatched) {
 
-              yyValue = GNode.create("AlignofExpression", v$g$1);
-              yyValue.setLocation(location(yyStart));
+                yyValue = GNode.create("AlignofExpression", v$g$1);
+                locate(yyValue, yyStart);
 
-              return yyResult.createValue(yyValue, yyError);
+                return yyResult.createValue(yyValue, yyError);
+              } else {
+                yyError = yyError.select("unary expression expected", yyStart);
+              }
             } else {
-              yyError = yyError.select("unary expression expected", yyStart);
+              yyError = yyError.select("')' expected", yyBase);
             }
-          } else {
-            yyError = yyError.select("')' expected", yyBase);
           }
+        } else {
+          yyError = yyError.select("'(' expected", yyBase);
         }
-      } else {
-        yyError = yyError.select("'(' expected", yyBase);
-      }
 
-      // Nested alternative 2.
+        // Nested alternative 2.
 
-      yyResult = pUnaryExpression(yyChoice1);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$2 = yyResult.semanticValue();
+        yyResult = pUnaryExpression(yyChoice1);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("AlignofExpression", v$g$2);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("AlignofExpression", v$g$2);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__builtin_offsetof")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__builtin_offsetof")) {
 
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue("(")) {
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue("(")) {
 
-        yyResult = pTypeName(yyResult.index);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$g$1 = yyResult.semanticValue();
+          yyResult = pTypeName(yyResult.index);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Node v$g$1 = yyResult.semanticValue();
 
-          yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue(",")) {
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue(",")) {
 
-            yyResult = pPostfixExpression(yyResult.index);
-            yyError  = yyResult.select(yyError);
-            if (yyResult.hasValue()) {
-              final Node v$g$2 = yyResult.semanticValue();
+              yyResult = pPostfixExpression(yyResult.index);
+              yyError  = yyResult.select(yyError);
+              if (yyResult.hasValue()) {
+                final Node v$g$2 = yyResult.semanticValue();
 
-              yyBase   = yyResult.index;
-              yyResult = pSymbol(yyBase);
-              if (yyResult.hasValue(")")) {
+                yyBase   = yyResult.index;
+                yyResult = pSymbol(yyBase);
+                if (yyResult.hasValue(")")) {
 
-                yyValue = GNode.create("OffsetofExpression", v$g$1, v$g$2);
-                yyValue.setLocation(location(yyStart));
+                  yyValue = GNode.create("OffsetofExpression", v$g$1, v$g$2);
+                  locate(yyValue, yyStart);
 
-                return yyResult.createValue(yyValue, yyError);
-              } else {
-                yyError = yyError.select("')' expected", yyBase);
+                  return yyResult.createValue(yyValue, yyError);
+                } else {
+                  yyError = yyError.select("')' expected", yyBase);
+                }
               }
+            } else {
+              yyError = yyError.select("',' expected", yyBase);
             }
-          } else {
-            yyError = yyError.select("',' expected", yyBase);
           }
+        } else {
+          yyError = yyError.select("'(' expected", yyBase);
         }
-      } else {
-        yyError = yyError.select("'(' expected", yyBase);
       }
     }
 
     // Alternative 4.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__builtin_types_compatible_p")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__builtin_types_compatible_p")) {
 
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue("(")) {
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue("(")) {
 
-        yyResult = pTypeName(yyResult.index);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$g$1 = yyResult.semanticValue();
+          yyResult = pTypeName(yyResult.index);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Node v$g$1 = yyResult.semanticValue();
 
-          yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue(",")) {
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue(",")) {
 
-            yyResult = pTypeName(yyResult.index);
-            yyError  = yyResult.select(yyError);
-            if (yyResult.hasValue()) {
-              final Node v$g$2 = yyResult.semanticValue();
+              yyResult = pTypeName(yyResult.index);
+              yyError  = yyResult.select(yyError);
+              if (yyResult.hasValue()) {
+                final Node v$g$2 = yyResult.semanticValue();
 
-              yyBase   = yyResult.index;
-              yyResult = pSymbol(yyBase);
-              if (yyResult.hasValue(")")) {
+                yyBase   = yyResult.index;
+                yyResult = pSymbol(yyBase);
+                if (yyResult.hasValue(")")) {
 
-                yyValue = GNode.create("TypeCompatibilityExpression", v$g$1, v$g$2);
-                yyValue.setLocation(location(yyStart));
+                  yyValue = GNode.create("TypeCompatibilityExpression", v$g$1, v$g$2);
+                  locate(yyValue, yyStart);
 
-                return yyResult.createValue(yyValue, yyError);
-              } else {
-                yyError = yyError.select("')' expected", yyBase);
+                  return yyResult.createValue(yyValue, yyError);
+                } else {
+                  yyError = yyError.select("')' expected", yyBase);
+                }
               }
+            } else {
+              yyError = yyError.select("',' expected", yyBase);
             }
-          } else {
-            yyError = yyError.select("',' expected", yyBase);
           }
+        } else {
+          yyError = yyError.select("'(' expected", yyBase);
         }
-      } else {
-        yyError = yyError.select("'(' expected", yyBase);
       }
     }
 
     // Alternative 5.
+    if (0 != (yyFirst & 0x10)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("-")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("-")) {
 
-      yyResult = pCastExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
+        yyResult = pCastExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryMinusExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("UnaryMinusExpression", v$g$1);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 6.
+    if (0 != (yyFirst & 0x20)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("+")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("+")) {
 
-      yyResult = pCastExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
+        yyResult = pCastExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryPlusExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("UnaryPlusExpression", v$g$1);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 7.
+    if (0 != (yyFirst & 0x40)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("!")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("!")) {
 
-      yyResult = pCastExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
+        yyResult = pCastExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("LogicalNegationExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("LogicalNegationExpression", v$g$1);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 8.
+    if (0 != (yyFirst & 0x80)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("~")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("~")) {
 
-      yyResult = pCastExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
+        yyResult = pCastExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("BitwiseNegationExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("BitwiseNegationExpression", v$g$1);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 9.
+    if (0 != (yyFirst & 0x100)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("&")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("&")) {
 
-      yyResult = pCastExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
+        yyResult = pCastExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("AddressExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("AddressExpression", v$g$1);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
@@ -8065,7 +10146,7 @@ public final class CParser extends ParserBase {
           final String v$g$1 = yyResult.semanticValue();
 
           yyValue = GNode.create("LabelAddressExpression", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -8073,53 +10154,59 @@ public final class CParser extends ParserBase {
     }
 
     // Alternative 11.
+    if (0 != (yyFirst & 0x200)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("*")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("*")) {
 
-      yyResult = pCastExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
+        yyResult = pCastExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("IndirectionExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("IndirectionExpression", v$g$1);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 12.
+    if (0 != (yyFirst & 0x400)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("++")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("++")) {
 
-      yyResult = pUnaryExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
+        yyResult = pUnaryExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("PreincrementExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("PreincrementExpression", v$g$1);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 13.
+    if (0 != (yyFirst & 0x800)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("--")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("--")) {
 
-      yyResult = pUnaryExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
+        yyResult = pUnaryExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("PredecrementExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("PredecrementExpression", v$g$1);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
@@ -8136,7 +10223,7 @@ public final class CParser extends ParserBase {
           final Node v$g$1 = yyResult.semanticValue();
 
           yyValue = GNode.create("ExtensionExpression", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -8172,24 +10259,90 @@ public final class CParser extends ParserBase {
     Void       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__alignof__")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__alignof__")) {
 
-      yyValue = null;
+        yyValue = null;
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__alignof")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__alignof")) {
 
-      yyValue = null;
+        yyValue = null;
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -8298,129 +10451,174 @@ public final class CParser extends ParserBase {
     Action<Node> yyValue;
     ParseError   yyError = ParseError.DUMMY;
 
-    // Alternative 1.
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3f;
+      break;
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("[")) {
+    default:
+      yyFirst = 0;
+    }
 
-      yyResult = pCommaExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$2 = yyResult.semanticValue();
+    // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-        yyBase   = yyResult.index;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue("]")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("[")) {
 
-          yyValue = new Action<Node>() {
-            public Node run(Node v$1) {
-              return GNode.create("SubscriptExpression", v$1, v$g$2);
-            }};
+        yyResult = pCommaExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$2 = yyResult.semanticValue();
+
+          yyBase   = yyResult.index;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue("]")) {
 
-          return yyResult.createValue(yyValue, yyError);
-        } else {
-          yyError = yyError.select("']' expected", yyBase);
+            yyValue = new Action<Node>() {
+              public Node run(Node v$1) {
+                return GNode.create("SubscriptExpression", v$1, v$g$2);
+              }};
+
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("']' expected", yyBase);
+          }
         }
       }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(".")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(".")) {
 
-      yyResult = pIdentifier(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final String v$g$3 = yyResult.semanticValue();
+        yyResult = pIdentifier(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final String v$g$3 = yyResult.semanticValue();
 
-        yyValue = new Action<Node>() {
-          public Node run(Node v$1) {
-            return GNode.create("DirectComponentSelection", v$1, v$g$3);
-          }};
+          yyValue = new Action<Node>() {
+            public Node run(Node v$1) {
+              return GNode.create("DirectComponentSelection", v$1, v$g$3);
+            }};
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("->")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("->")) {
 
-      yyResult = pIdentifier(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final String v$g$4 = yyResult.semanticValue();
+        yyResult = pIdentifier(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final String v$g$4 = yyResult.semanticValue();
 
-        yyValue = new Action<Node>() {
-          public Node run(Node v$1) {
-            return GNode.create("IndirectComponentSelection", v$1, v$g$4);
-          }};
+          yyValue = new Action<Node>() {
+            public Node run(Node v$1) {
+              return GNode.create("IndirectComponentSelection", v$1, v$g$4);
+            }};
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 4.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("(")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("(")) {
 
-      yyOption1  = yyResult.index;
-      yyOpValue1 = null;
+        yyOption1  = yyResult.index;
+        yyOpValue1 = null;
 
-      yyResult = pExpressionList(yyOption1);
-      yyError  = yyResult.select(yyError, yyOption1);
-      if (yyResult.hasValue()) {
-        final Node v$el$1 = yyResult.semanticValue();
+        yyResult = pExpressionList(yyOption1);
+        yyError  = yyResult.select(yyError, yyOption1);
+        if (yyResult.hasValue()) {
+          final Node v$el$1 = yyResult.semanticValue();
 
-        yyOption1  = yyResult.index;
-        yyOpValue1 = v$el$1;
-      }
-      { // Start scope for v$g$5.
-        final Node v$g$5 = yyOpValue1;
+          yyOption1  = yyResult.index;
+          yyOpValue1 = v$el$1;
+        }
+        { // Start scope for v$g$5.
+          final Node v$g$5 = yyOpValue1;
 
-        yyBase   = yyOption1;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue(")")) {
+          yyBase   = yyOption1;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue(")")) {
 
-          yyValue = new Action<Node>() {
-            public Node run(Node v$1) {
-              return GNode.create("FunctionCall", v$1, v$g$5);
-            }};
+            yyValue = new Action<Node>() {
+              public Node run(Node v$1) {
+                return GNode.create("FunctionCall", v$1, v$g$5);
+              }};
 
-          return yyResult.createValue(yyValue, yyError);
-        } else {
-          yyError = yyError.select("')' expected", yyBase);
-        }
-      } // End scope for v$g$5.
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("')' expected", yyBase);
+          }
+        } // End scope for v$g$5.
+      }
     }
 
     // Alternative 5.
+    if (0 != (yyFirst & 0x10)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("++")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("++")) {
 
-      yyValue = new Action<Node>() {
-        public Node run(Node v$1) {
-          return GNode.create("PostincrementExpression", v$1);
-        }};
+        yyValue = new Action<Node>() {
+          public Node run(Node v$1) {
+            return GNode.create("PostincrementExpression", v$1);
+          }};
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 6.
+    if (0 != (yyFirst & 0x20)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("--")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("--")) {
 
-      yyValue = new Action<Node>() {
-        public Node run(Node v$1) {
-          return GNode.create("PostdecrementExpression", v$1);
-        }};
+        yyValue = new Action<Node>() {
+          public Node run(Node v$1) {
+            return GNode.create("PostdecrementExpression", v$1);
+          }};
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -8439,10 +10637,15 @@ public final class CParser extends ParserBase {
    */
   private Result pExpressionList(final int yyStart) throws IOException {
     CParserColumn yyColumn = (CParserColumn)column(yyStart);
-    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fExpressionList) 
-      yyColumn.chunk2.fExpressionList = pExpressionList$1(yyStart);
-    return yyColumn.chunk2.fExpressionList;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fExpressionList) {
+      yyColumn.chunk3.fExpressionList = pExpressionList$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(19, yyColumn.chunk3.fExpressionList);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(19, yyColumn.chunk3.fExpressionList);
+    }
+    return yyColumn.chunk3.fExpressionList;
   }
 
   /** Actually parse xtc.lang.C.ExpressionList. */
@@ -8464,7 +10667,7 @@ public final class CParser extends ParserBase {
         final Pair<Node> v$g$2 = yyResult.semanticValue();
 
         yyValue = GNode.createFromPair("ExpressionList", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -8487,10 +10690,16 @@ public final class CParser extends ParserBase {
     throws IOException {
 
     CParserColumn yyColumn = (CParserColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fExpressionList$$Star1) 
-      yyColumn.chunk3.fExpressionList$$Star1 = pExpressionList$$Star1$1(yyStart);
-    return yyColumn.chunk3.fExpressionList$$Star1;
+    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
+    if (null == yyColumn.chunk4.fExpressionList$$Star1) {
+      yyColumn.chunk4.fExpressionList$$Star1 = 
+        pExpressionList$$Star1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(20, yyColumn.chunk4.fExpressionList$$Star1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(20, yyColumn.chunk4.fExpressionList$$Star1);
+    }
+    return yyColumn.chunk4.fExpressionList$$Star1;
   }
 
   /** Actually parse xtc.lang.C.ExpressionList$$Star1. */
@@ -8585,7 +10794,7 @@ public final class CParser extends ParserBase {
               if (yyResult.hasValue("}")) {
 
                 yyValue = GNode.create("CompoundLiteral", v$g$1, v$g$2);
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return yyResult.createValue(yyValue, yyError);
               } else {
@@ -8621,27 +10830,141 @@ public final class CParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x8;
+      break;
+
+    case '\"':
+    case '\'':
+    case '0':
+    case '1':
+    case '2':
+    case '3':
+    case '4':
+    case '5':
+    case '6':
+    case '7':
+    case '8':
+    case '9':
+      yyFirst = 0x1;
+      break;
+
+    case '.':
+      yyFirst = 0x9;
+      break;
+
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x6;
+      break;
+
+    case 'L':
+      yyFirst = 0x7;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Constant>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pConstant(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pConstant(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 2.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pIdentifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final String v$g$1 = yyResult.semanticValue();
+      yyResult = pIdentifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final String v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("PrimaryIdentifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("PrimaryIdentifier", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 3.
@@ -8661,7 +10984,7 @@ public final class CParser extends ParserBase {
           if (yyResult.hasValue(")")) {
 
             yyValue = GNode.create("StatementAsExpression", v$g$1);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
@@ -8672,66 +10995,70 @@ public final class CParser extends ParserBase {
     }
 
     // Alternative 4.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__builtin_va_arg")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__builtin_va_arg")) {
 
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue("(")) {
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue("(")) {
 
-        yyResult = pAssignmentExpression(yyResult.index);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$g$1 = yyResult.semanticValue();
+          yyResult = pAssignmentExpression(yyResult.index);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Node v$g$1 = yyResult.semanticValue();
 
-          yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue(",")) {
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue(",")) {
 
-            yyResult = pTypeName(yyResult.index);
-            yyError  = yyResult.select(yyError);
-            if (yyResult.hasValue()) {
-              final Node v$g$2 = yyResult.semanticValue();
+              yyResult = pTypeName(yyResult.index);
+              yyError  = yyResult.select(yyError);
+              if (yyResult.hasValue()) {
+                final Node v$g$2 = yyResult.semanticValue();
 
-              yyBase   = yyResult.index;
-              yyResult = pSymbol(yyBase);
-              if (yyResult.hasValue(")")) {
+                yyBase   = yyResult.index;
+                yyResult = pSymbol(yyBase);
+                if (yyResult.hasValue(")")) {
 
-                yyValue = GNode.create("VariableArgumentAccess", v$g$1, v$g$2);
-                yyValue.setLocation(location(yyStart));
+                  yyValue = GNode.create("VariableArgumentAccess", v$g$1, v$g$2);
+                  locate(yyValue, yyStart);
 
-                return yyResult.createValue(yyValue, yyError);
-              } else {
-                yyError = yyError.select("')' expected", yyBase);
+                  return yyResult.createValue(yyValue, yyError);
+                } else {
+                  yyError = yyError.select("')' expected", yyBase);
+                }
               }
+            } else {
+              yyError = yyError.select("',' expected", yyBase);
             }
-          } else {
-            yyError = yyError.select("',' expected", yyBase);
           }
+        } else {
+          yyError = yyError.select("'(' expected", yyBase);
         }
-      } else {
-        yyError = yyError.select("'(' expected", yyBase);
       }
     }
 
     // Alternative <ParenthesizedExpression>.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("(")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("(")) {
 
-      yyResult = pCommaExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        yyValue = yyResult.semanticValue();
+        yyResult = pCommaExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          yyValue = yyResult.semanticValue();
 
-        yyBase   = yyResult.index;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue(")")) {
+          yyBase   = yyResult.index;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue(")")) {
 
-          return yyResult.createValue(yyValue, yyError);
-        } else {
-          yyError = yyError.select("')' expected", yyBase);
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("')' expected", yyBase);
+          }
         }
       }
     }
@@ -8763,7 +11090,7 @@ public final class CParser extends ParserBase {
       final String v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.create("PrimaryIdentifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -8799,7 +11126,7 @@ public final class CParser extends ParserBase {
       if (yyResult.hasValue(";")) {
 
         yyValue = GNode.create("AssemblyDefinition", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       } else {
@@ -8825,8 +11152,14 @@ public final class CParser extends ParserBase {
 
     CParserColumn yyColumn = (CParserColumn)column(yyStart);
     if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fSimpleAssemblyExpression) 
-      yyColumn.chunk3.fSimpleAssemblyExpression = pSimpleAssemblyExpression$1(yyStart);
+    if (null == yyColumn.chunk3.fSimpleAssemblyExpression) {
+      yyColumn.chunk3.fSimpleAssemblyExpression = 
+        pSimpleAssemblyExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(21, yyColumn.chunk3.fSimpleAssemblyExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(21, yyColumn.chunk3.fSimpleAssemblyExpression);
+    }
     return yyColumn.chunk3.fSimpleAssemblyExpression;
   }
 
@@ -8859,7 +11192,7 @@ public final class CParser extends ParserBase {
           if (yyResult.hasValue(")")) {
 
             yyValue = GNode.create("SimpleAssemblyExpression", v$g$1);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
@@ -8957,7 +11290,7 @@ public final class CParser extends ParserBase {
                   final Node v$g$4 = yyResult.semanticValue();
 
                   yyValue = GNode.create("AssemblyArgument", v$g$1, v$g$2, v$g$3, v$g$4);
-                  yyValue.setLocation(location(yyStart));
+                  locate(yyValue, yyStart);
 
                   return yyResult.createValue(yyValue, yyError);
                 }
@@ -8968,7 +11301,7 @@ public final class CParser extends ParserBase {
               // Nested alternative 2.
 
               yyValue = GNode.create("AssemblyArgument", v$g$1, v$g$2, v$g$3);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return new SemanticValue(yyValue, yyChoice3, yyError);
             } // End scope for v$g$3.
@@ -8979,7 +11312,7 @@ public final class CParser extends ParserBase {
           // Nested alternative 2.
 
           yyValue = GNode.create("AssemblyArgument", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyChoice2, yyError);
         } // End scope for v$g$2.
@@ -8990,7 +11323,7 @@ public final class CParser extends ParserBase {
       // Nested alternative 2.
 
       yyValue = GNode.create("AssemblyArgument", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return new SemanticValue(yyValue, yyChoice1, yyError);
     }
@@ -9010,10 +11343,15 @@ public final class CParser extends ParserBase {
    */
   private Result pAssemblyOperands(final int yyStart) throws IOException {
     CParserColumn yyColumn = (CParserColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fAssemblyOperands) 
-      yyColumn.chunk3.fAssemblyOperands = pAssemblyOperands$1(yyStart);
-    return yyColumn.chunk3.fAssemblyOperands;
+    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
+    if (null == yyColumn.chunk4.fAssemblyOperands) {
+      yyColumn.chunk4.fAssemblyOperands = pAssemblyOperands$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(22, yyColumn.chunk4.fAssemblyOperands);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(22, yyColumn.chunk4.fAssemblyOperands);
+    }
+    return yyColumn.chunk4.fAssemblyOperands;
   }
 
   /** Actually parse xtc.lang.C.AssemblyOperands. */
@@ -9035,7 +11373,7 @@ public final class CParser extends ParserBase {
         final Pair<Node> v$g$2 = yyResult.semanticValue();
 
         yyValue = GNode.createFromPair("AssemblyOperands", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -9058,10 +11396,16 @@ public final class CParser extends ParserBase {
     throws IOException {
 
     CParserColumn yyColumn = (CParserColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fAssemblyOperands$$Star1) 
-      yyColumn.chunk3.fAssemblyOperands$$Star1 = pAssemblyOperands$$Star1$1(yyStart);
-    return yyColumn.chunk3.fAssemblyOperands$$Star1;
+    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
+    if (null == yyColumn.chunk4.fAssemblyOperands$$Star1) {
+      yyColumn.chunk4.fAssemblyOperands$$Star1 = 
+        pAssemblyOperands$$Star1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(23, yyColumn.chunk4.fAssemblyOperands$$Star1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(23, yyColumn.chunk4.fAssemblyOperands$$Star1);
+    }
+    return yyColumn.chunk4.fAssemblyOperands$$Star1;
   }
 
   /** Actually parse xtc.lang.C.AssemblyOperands$$Star1. */
@@ -9113,8 +11457,13 @@ public final class CParser extends ParserBase {
   private Result pAssemblyOperand(final int yyStart) throws IOException {
     CParserColumn yyColumn = (CParserColumn)column(yyStart);
     if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fAssemblyOperand) 
+    if (null == yyColumn.chunk3.fAssemblyOperand) {
       yyColumn.chunk3.fAssemblyOperand = pAssemblyOperand$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(24, yyColumn.chunk3.fAssemblyOperand);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(24, yyColumn.chunk3.fAssemblyOperand);
+    }
     return yyColumn.chunk3.fAssemblyOperand;
   }
 
@@ -9176,7 +11525,7 @@ public final class CParser extends ParserBase {
             if (yyResult.hasValue(")")) {
 
               yyValue = GNode.create("AssemblyOperand", v$g$1, v$g$2, v$g$3);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             } else {
@@ -9206,7 +11555,8 @@ public final class CParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -9218,7 +11568,8 @@ public final class CParser extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyBase   = yyRepetition1;
@@ -9231,7 +11582,7 @@ public final class CParser extends ParserBase {
             final Node v$el$1 = yyResult.semanticValue();
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
         } else {
@@ -9240,10 +11591,11 @@ public final class CParser extends ParserBase {
         break;
       }
       { // Start scope for v$g$2.
-        final Pair<Node> v$g$2 = yyRepValue1.reverse();
+        final int v$g$2 = yyRepStart1;
+        final int v$g$2$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("AssemblyClobbers", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("AssemblyClobbers", v$g$1, v$g$2, v$g$2$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$2.
@@ -9265,8 +11617,13 @@ public final class CParser extends ParserBase {
   private Result pAsmKeyword(final int yyStart) throws IOException {
     CParserColumn yyColumn = (CParserColumn)column(yyStart);
     if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fAsmKeyword) 
+    if (null == yyColumn.chunk3.fAsmKeyword) {
       yyColumn.chunk3.fAsmKeyword = pAsmKeyword$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(25, yyColumn.chunk3.fAsmKeyword);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(25, yyColumn.chunk3.fAsmKeyword);
+    }
     return yyColumn.chunk3.fAsmKeyword;
   }
 
@@ -9276,34 +11633,102 @@ public final class CParser extends ParserBase {
     Void       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x7;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("asm")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("asm")) {
 
-      yyValue = null;
+        yyValue = null;
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__asm")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__asm")) {
 
-      yyValue = null;
+        yyValue = null;
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__asm__")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__asm__")) {
 
-      yyValue = null;
+        yyValue = null;
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -9325,54 +11750,97 @@ public final class CParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
-    // Alternative 1.
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '\"':
+      yyFirst = 0x8;
+      break;
+
+    case '\'':
+      yyFirst = 0x4;
+      break;
+
+    case '.':
+      yyFirst = 0x1;
+      break;
+
+    case '0':
+    case '1':
+    case '2':
+    case '3':
+    case '4':
+    case '5':
+    case '6':
+    case '7':
+    case '8':
+    case '9':
+      yyFirst = 0x3;
+      break;
+
+    case 'L':
+      yyFirst = 0xc;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
 
-    yyResult = pFloatingConstant(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+    // Alternative 1.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-      yyResult = pSpacing(yyResult.index);
+      yyResult = pFloatingConstant(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-        return yyResult.createValue(yyValue, yyError);
+        yyResult = pSpacing(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 2.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pIntegerConstant(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
-
-      yyResult = pSpacing(yyResult.index);
+      yyResult = pIntegerConstant(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-        return yyResult.createValue(yyValue, yyError);
+        yyResult = pSpacing(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 3.
+    if ((0 != (yyFirst & 0x4)) || (yyError.index < yyStart)) {
 
-    yyResult = pCharacterConstant(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pCharacterConstant(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 4.
+    if ((0 != (yyFirst & 0x8)) || (yyError.index < yyStart)) {
 
-    yyResult = pStringConstant(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pStringConstant(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -9393,43 +11861,71 @@ public final class CParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '0':
+      yyFirst = 0x3;
+      break;
+
+    case '1':
+    case '2':
+    case '3':
+    case '4':
+    case '5':
+    case '6':
+    case '7':
+    case '8':
+    case '9':
+      yyFirst = 0x4;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Hex>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pHexConstant(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final String v$g$1 = yyResult.semanticValue();
+      yyResult = pHexConstant(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final String v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerConstant", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("IntegerConstant", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Octal>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pOctalConstant(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final String v$g$2 = yyResult.semanticValue();
+      yyResult = pOctalConstant(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final String v$g$2 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerConstant", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("IntegerConstant", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Decimal>.
+    if ((0 != (yyFirst & 0x4)) || (yyError.index < yyStart)) {
 
-    yyResult = pDecimalConstant(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final String v$g$3 = yyResult.semanticValue();
+      yyResult = pDecimalConstant(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final String v$g$3 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerConstant", v$g$3);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("IntegerConstant", v$g$3);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -9471,35 +11967,7 @@ public final class CParser extends ParserBase {
       case '8':
       case '9':
         {
-          yyRepetition1 = yyIndex;
-          while (true) {
-
-            yyC = character(yyRepetition1);
-            if (-1 != yyC) {
-              yyIndex = yyRepetition1 + 1;
-
-              switch (yyC) {
-              case '0':
-              case '1':
-              case '2':
-              case '3':
-              case '4':
-              case '5':
-              case '6':
-              case '7':
-              case '8':
-              case '9':
-                {
-                  yyRepetition1 = yyIndex;
-                  continue;
-                }
-
-              default:
-                /* No match. */
-              }
-            }
-            break;
-          }
+          yyRepetition1 = scan(yyIndex, 0x3ff000000000000L, 0x0L, false);
 
           yyOption1  = yyRepetition1;
 
@@ -9685,33 +12153,7 @@ public final class CParser extends ParserBase {
     if ('0' == yyC) {
       yyIndex = yyStart + 1;
 
-      yyRepetition1 = yyIndex;
-      while (true) {
-
-        yyC = character(yyRepetition1);
-        if (-1 != yyC) {
-          yyIndex = yyRepetition1 + 1;
-
-          switch (yyC) {
-          case '0':
-          case '1':
-          case '2':
-          case '3':
-          case '4':
-          case '5':
-          case '6':
-          case '7':
-            {
-              yyRepetition1 = yyIndex;
-              continue;
-            }
-
-          default:
-            /* No match. */
-          }
-        }
-        break;
-      }
+      yyRepetition1 = scan(yyIndex, 0xff000000000000L, 0x0L, false);
 
       yyOption1  = yyRepetition1;
 
@@ -9748,156 +12190,176 @@ public final class CParser extends ParserBase {
     Void       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'L':
+    case 'l':
+      yyFirst = 0x3;
+      break;
+
+    case 'U':
+    case 'u':
+      yyFirst = 0x2;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pLongLongSuffix(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
+      yyResult = pLongLongSuffix(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
 
-      final int yyChoice1 = yyResult.index;
+        final int yyChoice1 = yyResult.index;
 
-      // Nested alternative 1.
+        // Nested alternative 1.
 
-      yyC = character(yyChoice1);
-      if (-1 != yyC) {
-        yyIndex = yyChoice1 + 1;
+        yyC = character(yyChoice1);
+        if (-1 != yyC) {
+          yyIndex = yyChoice1 + 1;
 
-        switch (yyC) {
-        case 'U':
-        case 'u':
-          {
-            yyValue = null;
+          switch (yyC) {
+          case 'U':
+          case 'u':
+            {
+              yyValue = null;
 
-            return new SemanticValue(yyValue, yyIndex, yyError);
-          }
+              return new SemanticValue(yyValue, yyIndex, yyError);
+            }
 
-        default:
-          /* No match. */
+          default:
+            /* No match. */
+          }
         }
-      }
 
-      // Nested alternative 2.
+        // Nested alternative 2.
 
-      yyValue = null;
+        yyValue = null;
 
-      return new SemanticValue(yyValue, yyChoice1, yyError);
+        return new SemanticValue(yyValue, yyChoice1, yyError);
+      }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyC = character(yyStart);
-    if (-1 != yyC) {
-      yyIndex = yyStart + 1;
+      yyC = character(yyStart);
+      if (-1 != yyC) {
+        yyIndex = yyStart + 1;
 
-      switch (yyC) {
-      case 'L':
-      case 'l':
-        {
-          final int yyChoice1 = yyIndex;
+        switch (yyC) {
+        case 'L':
+        case 'l':
+          {
+            final int yyChoice1 = yyIndex;
 
-          // Nested alternative 1.
+            // Nested alternative 1.
 
-          yyC = character(yyChoice1);
-          if (-1 != yyC) {
-            yyIndex = yyChoice1 + 1;
+            yyC = character(yyChoice1);
+            if (-1 != yyC) {
+              yyIndex = yyChoice1 + 1;
 
-            switch (yyC) {
-            case 'U':
-            case 'u':
-              {
-                yyValue = null;
+              switch (yyC) {
+              case 'U':
+              case 'u':
+                {
+                  yyValue = null;
 
-                return new SemanticValue(yyValue, yyIndex, yyError);
-              }
+                  return new SemanticValue(yyValue, yyIndex, yyError);
+                }
 
-            default:
-              /* No match. */
+              default:
+                /* No match. */
+              }
             }
-          }
 
-          // Nested alternative 2.
+            // Nested alternative 2.
 
-          yyValue = null;
+            yyValue = null;
 
-          return new SemanticValue(yyValue, yyChoice1, yyError);
-        }
+            return new SemanticValue(yyValue, yyChoice1, yyError);
+          }
 
-      case 'U':
-      case 'u':
-        {
-          final int yyChoice1 = yyIndex;
+        case 'U':
+        case 'u':
+          {
+            final int yyChoice1 = yyIndex;
 
-          // Nested alternative 1.
+            // Nested alternative 1.
 
-          yyC = character(yyChoice1);
-          if (-1 != yyC) {
-            yyIndex = yyChoice1 + 1;
+            yyC = character(yyChoice1);
+            if (-1 != yyC) {
+              yyIndex = yyChoice1 + 1;
 
-            switch (yyC) {
-            case 'l':
-              {
-                yyC = character(yyIndex);
-                if (-1 != yyC) {
-                  yyIndex = yyIndex + 1;
-                  if ('l' == yyC) {
+              switch (yyC) {
+              case 'l':
+                {
+                  yyC = character(yyIndex);
+                  if (-1 != yyC) {
+                    yyIndex = yyIndex + 1;
+                    if ('l' == yyC) {
 
-                    yyValue = null;
+                      yyValue = null;
 
-                    return new SemanticValue(yyValue, yyIndex, yyError);
+                      return new SemanticValue(yyValue, yyIndex, yyError);
+                    }
                   }
                 }
-              }
-              break;
+                break;
 
-            case 'L':
-              {
-                yyC = character(yyIndex);
-                if (-1 != yyC) {
-                  yyIndex = yyIndex + 1;
-                  if ('L' == yyC) {
+              case 'L':
+                {
+                  yyC = character(yyIndex);
+                  if (-1 != yyC) {
+                    yyIndex = yyIndex + 1;
+                    if ('L' == yyC) {
 
-                    yyValue = null;
+                      yyValue = null;
 
-                    return new SemanticValue(yyValue, yyIndex, yyError);
+                      return new SemanticValue(yyValue, yyIndex, yyError);
+                    }
                   }
                 }
-              }
-              break;
+                break;
 
-            default:
-              /* No match. */
+              default:
+                /* No match. */
+              }
             }
-          }
 
-          // Nested alternative 2.
+            // Nested alternative 2.
 
-          yyC = character(yyChoice1);
-          if (-1 != yyC) {
-            yyIndex = yyChoice1 + 1;
+            yyC = character(yyChoice1);
+            if (-1 != yyC) {
+              yyIndex = yyChoice1 + 1;
 
-            switch (yyC) {
-            case 'L':
-            case 'l':
-              {
-                yyValue = null;
+              switch (yyC) {
+              case 'L':
+              case 'l':
+                {
+                  yyValue = null;
 
-                return new SemanticValue(yyValue, yyIndex, yyError);
-              }
+                  return new SemanticValue(yyValue, yyIndex, yyError);
+                }
 
-            default:
-              /* No match. */
+              default:
+                /* No match. */
+              }
             }
-          }
 
-          // Nested alternative 3.
+            // Nested alternative 3.
 
-          yyValue = null;
+            yyValue = null;
 
-          return new SemanticValue(yyValue, yyChoice1, yyError);
-        }
+            return new SemanticValue(yyValue, yyChoice1, yyError);
+          }
 
-      default:
-        /* No match. */
+        default:
+          /* No match. */
+        }
       }
     }
 
@@ -9982,30 +12444,57 @@ public final class CParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '.':
+    case '1':
+    case '2':
+    case '3':
+    case '4':
+    case '5':
+    case '6':
+    case '7':
+    case '8':
+    case '9':
+      yyFirst = 0x1;
+      break;
+
+    case '0':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Decimal>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pDecimalFloatingConstant(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final String v$g$1 = yyResult.semanticValue();
+      yyResult = pDecimalFloatingConstant(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final String v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("FloatingConstant", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("FloatingConstant", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Hex>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pHexFloatingConstant(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final String v$g$2 = yyResult.semanticValue();
+      yyResult = pHexFloatingConstant(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final String v$g$2 = yyResult.semanticValue();
 
-      yyValue = GNode.create("FloatingConstant", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("FloatingConstant", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -10033,47 +12522,117 @@ public final class CParser extends ParserBase {
     String     yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '.':
+      yyFirst = 0x2;
+      break;
+
+    case '0':
+    case '1':
+    case '2':
+    case '3':
+    case '4':
+    case '5':
+    case '6':
+    case '7':
+    case '8':
+    case '9':
+      yyFirst = 0x5;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index <= yyStart)) {
 
-    yyRepetition1 = yyStart;
-    yyRepeated1   = false;
-    while (true) {
+      yyRepetition1 = yyStart;
+      yyRepeated1   = false;
+      while (true) {
 
-      yyC = character(yyRepetition1);
-      if (-1 != yyC) {
-        yyIndex = yyRepetition1 + 1;
+        yyC = character(yyRepetition1);
+        if (-1 != yyC) {
+          yyIndex = yyRepetition1 + 1;
 
-        switch (yyC) {
-        case '0':
-        case '1':
-        case '2':
-        case '3':
-        case '4':
-        case '5':
-        case '6':
-        case '7':
-        case '8':
-        case '9':
-          {
-            yyRepetition1 = yyIndex;
-            yyRepeated1   = true;
-            continue;
+          switch (yyC) {
+          case '0':
+          case '1':
+          case '2':
+          case '3':
+          case '4':
+          case '5':
+          case '6':
+          case '7':
+          case '8':
+          case '9':
+            {
+              yyRepetition1 = yyIndex;
+              yyRepeated1   = true;
+              continue;
+            }
+
+          default:
+            /* No match. */
           }
+        }
+        break;
+      }
 
-        default:
-          /* No match. */
+      if (yyRepeated1) {
+
+        yyC = character(yyRepetition1);
+        if ('.' == yyC) {
+          yyIndex = yyRepetition1 + 1;
+
+          yyRepetition1 = scan(yyIndex, 0x3ff000000000000L, 0x0L, false);
+
+          yyOption1  = yyRepetition1;
+
+          yyResult = pExponent(yyOption1);
+          yyError  = yyResult.select(yyError, yyOption1);
+          if (yyResult.hasValue()) {
+
+            yyOption1  = yyResult.index;
+          }
+
+
+          yyC = character(yyOption1);
+          if (-1 != yyC) {
+            yyIndex = yyOption1 + 1;
+
+            switch (yyC) {
+            case 'F':
+            case 'L':
+            case 'f':
+            case 'l':
+              {
+                yyOption1  = yyIndex;
+              }
+              break;
+
+            default:
+              /* No match. */
+            }
+          }
+
+          yyValue = difference(yyStart, yyOption1);
+
+          return new SemanticValue(yyValue, yyOption1, yyError);
         }
       }
-      break;
     }
 
-    if (yyRepeated1) {
+    // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-      yyC = character(yyRepetition1);
+      yyC = character(yyStart);
       if ('.' == yyC) {
-        yyIndex = yyRepetition1 + 1;
+        yyIndex = yyStart + 1;
 
         yyRepetition1 = yyIndex;
+        yyRepeated1   = false;
         while (true) {
 
           yyC = character(yyRepetition1);
@@ -10093,6 +12652,7 @@ public final class CParser extends ParserBase {
             case '9':
               {
                 yyRepetition1 = yyIndex;
+                yyRepeated1   = true;
                 continue;
               }
 
@@ -10103,48 +12663,48 @@ public final class CParser extends ParserBase {
           break;
         }
 
-        yyOption1  = yyRepetition1;
+        if (yyRepeated1) {
 
-        yyResult = pExponent(yyOption1);
-        yyError  = yyResult.select(yyError, yyOption1);
-        if (yyResult.hasValue()) {
+          yyOption1  = yyRepetition1;
 
-          yyOption1  = yyResult.index;
-        }
+          yyResult = pExponent(yyOption1);
+          yyError  = yyResult.select(yyError, yyOption1);
+          if (yyResult.hasValue()) {
 
+            yyOption1  = yyResult.index;
+          }
 
-        yyC = character(yyOption1);
-        if (-1 != yyC) {
-          yyIndex = yyOption1 + 1;
 
-          switch (yyC) {
-          case 'F':
-          case 'L':
-          case 'f':
-          case 'l':
-            {
-              yyOption1  = yyIndex;
-            }
-            break;
+          yyC = character(yyOption1);
+          if (-1 != yyC) {
+            yyIndex = yyOption1 + 1;
 
-          default:
-            /* No match. */
+            switch (yyC) {
+            case 'F':
+            case 'L':
+            case 'f':
+            case 'l':
+              {
+                yyOption1  = yyIndex;
+              }
+              break;
+
+            default:
+              /* No match. */
+            }
           }
-        }
 
-        yyValue = difference(yyStart, yyOption1);
+          yyValue = difference(yyStart, yyOption1);
 
-        return new SemanticValue(yyValue, yyOption1, yyError);
+          return new SemanticValue(yyValue, yyOption1, yyError);
+        }
       }
     }
 
-    // Alternative 2.
-
-    yyC = character(yyStart);
-    if ('.' == yyC) {
-      yyIndex = yyStart + 1;
+    // Alternative 3.
+    if ((0 != (yyFirst & 0x4)) || (yyError.index <= yyStart)) {
 
-      yyRepetition1 = yyIndex;
+      yyRepetition1 = yyStart;
       yyRepeated1   = false;
       while (true) {
 
@@ -10176,107 +12736,37 @@ public final class CParser extends ParserBase {
         break;
       }
 
-      if (yyRepeated1) {
-
-        yyOption1  = yyRepetition1;
-
-        yyResult = pExponent(yyOption1);
-        yyError  = yyResult.select(yyError, yyOption1);
-        if (yyResult.hasValue()) {
-
-          yyOption1  = yyResult.index;
-        }
-
-
-        yyC = character(yyOption1);
-        if (-1 != yyC) {
-          yyIndex = yyOption1 + 1;
-
-          switch (yyC) {
-          case 'F':
-          case 'L':
-          case 'f':
-          case 'l':
-            {
-              yyOption1  = yyIndex;
-            }
-            break;
-
-          default:
-            /* No match. */
-          }
-        }
-
-        yyValue = difference(yyStart, yyOption1);
-
-        return new SemanticValue(yyValue, yyOption1, yyError);
-      }
-    }
-
-    // Alternative 3.
-
-    yyRepetition1 = yyStart;
-    yyRepeated1   = false;
-    while (true) {
-
-      yyC = character(yyRepetition1);
-      if (-1 != yyC) {
-        yyIndex = yyRepetition1 + 1;
-
-        switch (yyC) {
-        case '0':
-        case '1':
-        case '2':
-        case '3':
-        case '4':
-        case '5':
-        case '6':
-        case '7':
-        case '8':
-        case '9':
-          {
-            yyRepetition1 = yyIndex;
-            yyRepeated1   = true;
-            continue;
-          }
-
-        default:
-          /* No match. */
-        }
-      }
-      break;
-    }
-
-    if (yyRepeated1) {
+      if (yyRepeated1) {
 
-      yyResult = pExponent(yyRepetition1);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
+        yyResult = pExponent(yyRepetition1);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
 
-        yyOption1  = yyResult.index;
+          yyOption1  = yyResult.index;
 
-        yyC = character(yyOption1);
-        if (-1 != yyC) {
-          yyIndex = yyOption1 + 1;
+          yyC = character(yyOption1);
+          if (-1 != yyC) {
+            yyIndex = yyOption1 + 1;
 
-          switch (yyC) {
-          case 'F':
-          case 'L':
-          case 'f':
-          case 'l':
-            {
-              yyOption1  = yyIndex;
-            }
-            break;
+            switch (yyC) {
+            case 'F':
+            case 'L':
+            case 'f':
+            case 'l':
+              {
+                yyOption1  = yyIndex;
+              }
+              break;
 
-          default:
-            /* No match. */
+            default:
+              /* No match. */
+            }
           }
-        }
 
-        yyValue = difference(yyStart, yyOption1);
+          yyValue = difference(yyStart, yyOption1);
 
-        return new SemanticValue(yyValue, yyOption1, yyError);
+          return new SemanticValue(yyValue, yyOption1, yyError);
+        }
       }
     }
 
@@ -10364,47 +12854,7 @@ public final class CParser extends ParserBase {
         if ('.' == yyC) {
           yyIndex = yyRepetition1 + 1;
 
-          yyRepetition1 = yyIndex;
-          while (true) {
-
-            yyC = character(yyRepetition1);
-            if (-1 != yyC) {
-              yyIndex = yyRepetition1 + 1;
-
-              switch (yyC) {
-              case '0':
-              case '1':
-              case '2':
-              case '3':
-              case '4':
-              case '5':
-              case '6':
-              case '7':
-              case '8':
-              case '9':
-              case 'A':
-              case 'B':
-              case 'C':
-              case 'D':
-              case 'E':
-              case 'F':
-              case 'a':
-              case 'b':
-              case 'c':
-              case 'd':
-              case 'e':
-              case 'f':
-                {
-                  yyRepetition1 = yyIndex;
-                  continue;
-                }
-
-              default:
-                /* No match. */
-              }
-            }
-            break;
-          }
+          yyRepetition1 = scan(yyIndex, 0x3ff000000000000L, 0x7e0000007eL, false);
 
           yyResult = pBinaryExponent(yyRepetition1);
           yyError  = yyResult.select(yyError);
@@ -10618,10 +13068,15 @@ public final class CParser extends ParserBase {
    */
   private Result pExponent(final int yyStart) throws IOException {
     CParserColumn yyColumn = (CParserColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fExponent) 
-      yyColumn.chunk3.fExponent = pExponent$1(yyStart);
-    return yyColumn.chunk3.fExponent;
+    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
+    if (null == yyColumn.chunk4.fExponent) {
+      yyColumn.chunk4.fExponent = pExponent$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(26, yyColumn.chunk4.fExponent);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(26, yyColumn.chunk4.fExponent);
+    }
+    return yyColumn.chunk4.fExponent;
   }
 
   /** Actually parse xtc.lang.CConstant.Exponent. */
@@ -10696,10 +13151,15 @@ public final class CParser extends ParserBase {
    */
   private Result p$$Shared2(final int yyStart) throws IOException {
     CParserColumn yyColumn = (CParserColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.f$$Shared2) 
-      yyColumn.chunk3.f$$Shared2 = p$$Shared2$1(yyStart);
-    return yyColumn.chunk3.f$$Shared2;
+    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
+    if (null == yyColumn.chunk4.f$$Shared2) {
+      yyColumn.chunk4.f$$Shared2 = p$$Shared2$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(27, yyColumn.chunk4.f$$Shared2);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(27, yyColumn.chunk4.f$$Shared2);
+    }
+    return yyColumn.chunk4.f$$Shared2;
   }
 
   /** Actually parse xtc.lang.C.$$Shared2. */
@@ -10769,10 +13229,15 @@ public final class CParser extends ParserBase {
    */
   private Result pBinaryExponent(final int yyStart) throws IOException {
     CParserColumn yyColumn = (CParserColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fBinaryExponent) 
-      yyColumn.chunk3.fBinaryExponent = pBinaryExponent$1(yyStart);
-    return yyColumn.chunk3.fBinaryExponent;
+    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
+    if (null == yyColumn.chunk4.fBinaryExponent) {
+      yyColumn.chunk4.fBinaryExponent = pBinaryExponent$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(28, yyColumn.chunk4.fBinaryExponent);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(28, yyColumn.chunk4.fBinaryExponent);
+    }
+    return yyColumn.chunk4.fBinaryExponent;
   }
 
   /** Actually parse xtc.lang.CConstant.BinaryExponent. */
@@ -10848,39 +13313,57 @@ public final class CParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
-    // Alternative 1.
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '\'':
+      yyFirst = 0x2;
+      break;
 
-    yyResult = pWideCharacterLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final String v$g$1 = yyResult.semanticValue();
+    case 'L':
+      yyFirst = 0x1;
+      break;
 
-      yyResult = pSpacing(yyResult.index);
+    default:
+      yyFirst = 0;
+    }
+
+    // Alternative 1.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
+
+      yyResult = pWideCharacterLiteral(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
+        final String v$g$1 = yyResult.semanticValue();
+
+        yyResult = pSpacing(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
 
-        yyValue = GNode.create("CharacterConstant", v$g$1);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("CharacterConstant", v$g$1);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 2.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pCharacterLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final String v$g$2 = yyResult.semanticValue();
-
-      yyResult = pSpacing(yyResult.index);
+      yyResult = pCharacterLiteral(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
+        final String v$g$2 = yyResult.semanticValue();
+
+        yyResult = pSpacing(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
 
-        yyValue = GNode.create("CharacterConstant", v$g$2);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("CharacterConstant", v$g$2);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
@@ -10936,10 +13419,15 @@ public final class CParser extends ParserBase {
    */
   private Result pCharacterLiteral(final int yyStart) throws IOException {
     CParserColumn yyColumn = (CParserColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fCharacterLiteral) 
-      yyColumn.chunk3.fCharacterLiteral = pCharacterLiteral$1(yyStart);
-    return yyColumn.chunk3.fCharacterLiteral;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fCharacterLiteral) {
+      yyColumn.chunk1.fCharacterLiteral = pCharacterLiteral$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(29, yyColumn.chunk1.fCharacterLiteral);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(29, yyColumn.chunk1.fCharacterLiteral);
+    }
+    return yyColumn.chunk1.fCharacterLiteral;
   }
 
   /** Actually parse xtc.lang.CConstant.CharacterLiteral. */
@@ -11122,10 +13610,15 @@ public final class CParser extends ParserBase {
    */
   private Result pStringConstant(final int yyStart) throws IOException {
     CParserColumn yyColumn = (CParserColumn)column(yyStart);
-    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.fStringConstant) 
-      yyColumn.chunk4.fStringConstant = pStringConstant$1(yyStart);
-    return yyColumn.chunk4.fStringConstant;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fStringConstant) {
+      yyColumn.chunk1.fStringConstant = pStringConstant$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(30, yyColumn.chunk1.fStringConstant);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(30, yyColumn.chunk1.fStringConstant);
+    }
+    return yyColumn.chunk1.fStringConstant;
   }
 
   /** Actually parse xtc.lang.CConstant.StringConstant. */
@@ -11142,7 +13635,7 @@ public final class CParser extends ParserBase {
       final Pair<String> v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.createFromPair("StringConstant", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -11167,33 +13660,51 @@ public final class CParser extends ParserBase {
     String     yyValue;
     ParseError yyError = ParseError.DUMMY;
 
-    // Alternative 1.
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '\"':
+      yyFirst = 0x2;
+      break;
 
-    yyResult = pWideStringLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+    case 'L':
+      yyFirst = 0x1;
+      break;
 
-      yyResult = pSpacing(yyResult.index);
+    default:
+      yyFirst = 0;
+    }
+
+    // Alternative 1.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
+
+      yyResult = pWideStringLiteral(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-        return yyResult.createValue(yyValue, yyError);
+        yyResult = pSpacing(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 2.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pStringLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
-
-      yyResult = pSpacing(yyResult.index);
+      yyResult = pStringLiteral(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-        return yyResult.createValue(yyValue, yyError);
+        yyResult = pSpacing(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
@@ -11214,10 +13725,16 @@ public final class CParser extends ParserBase {
     throws IOException {
 
     CParserColumn yyColumn = (CParserColumn)column(yyStart);
-    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.fStringConstant$$Plus1) 
-      yyColumn.chunk4.fStringConstant$$Plus1 = pStringConstant$$Plus1$1(yyStart);
-    return yyColumn.chunk4.fStringConstant$$Plus1;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fStringConstant$$Plus1) {
+      yyColumn.chunk1.fStringConstant$$Plus1 = 
+        pStringConstant$$Plus1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(31, yyColumn.chunk1.fStringConstant$$Plus1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(31, yyColumn.chunk1.fStringConstant$$Plus1);
+    }
+    return yyColumn.chunk1.fStringConstant$$Plus1;
   }
 
   /** Actually parse xtc.lang.C.StringConstant$$Plus1. */
@@ -11308,10 +13825,15 @@ public final class CParser extends ParserBase {
    */
   private Result pStringLiteral(final int yyStart) throws IOException {
     CParserColumn yyColumn = (CParserColumn)column(yyStart);
-    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.fStringLiteral) 
-      yyColumn.chunk4.fStringLiteral = pStringLiteral$1(yyStart);
-    return yyColumn.chunk4.fStringLiteral;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fStringLiteral) {
+      yyColumn.chunk1.fStringLiteral = pStringLiteral$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(32, yyColumn.chunk1.fStringLiteral);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(32, yyColumn.chunk1.fStringLiteral);
+    }
+    return yyColumn.chunk1.fStringLiteral;
   }
 
   /** Actually parse xtc.lang.CConstant.StringLiteral. */
@@ -11826,10 +14348,15 @@ public final class CParser extends ParserBase {
    */
   private Result pIdentifier(final int yyStart) throws IOException {
     CParserColumn yyColumn = (CParserColumn)column(yyStart);
-    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.fIdentifier) 
-      yyColumn.chunk4.fIdentifier = pIdentifier$1(yyStart);
-    return yyColumn.chunk4.fIdentifier;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fIdentifier) {
+      yyColumn.chunk1.fIdentifier = pIdentifier$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(33, yyColumn.chunk1.fIdentifier);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(33, yyColumn.chunk1.fIdentifier);
+    }
+    return yyColumn.chunk1.fIdentifier;
   }
 
   /** Actually parse xtc.lang.CIdentifier.Identifier. */
@@ -11867,10 +14394,15 @@ public final class CParser extends ParserBase {
    */
   private Result pKeyword(final int yyStart) throws IOException {
     CParserColumn yyColumn = (CParserColumn)column(yyStart);
-    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.fKeyword) 
-      yyColumn.chunk4.fKeyword = pKeyword$1(yyStart);
-    return yyColumn.chunk4.fKeyword;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fKeyword) {
+      yyColumn.chunk1.fKeyword = pKeyword$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(34, yyColumn.chunk1.fKeyword);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(34, yyColumn.chunk1.fKeyword);
+    }
+    return yyColumn.chunk1.fKeyword;
   }
 
   /** Actually parse xtc.lang.CIdentifier.Keyword. */
@@ -11908,10 +14440,14 @@ public final class CParser extends ParserBase {
    */
   private Result pWord(final int yyStart) throws IOException {
     CParserColumn yyColumn = (CParserColumn)column(yyStart);
-    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.fWord) 
-      yyColumn.chunk4.fWord = pWord$1(yyStart);
-    return yyColumn.chunk4.fWord;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fWord) {
+      yyColumn.chunk1.fWord = pWord$1(yyStart);
+      if (null != yyStatistics) yyStatistics.miss(35, yyColumn.chunk1.fWord);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(35, yyColumn.chunk1.fWord);
+    }
+    return yyColumn.chunk1.fWord;
   }
 
   /** Actually parse xtc.lang.CIdentifier.Word. */
@@ -11960,27 +14496,9 @@ public final class CParser extends ParserBase {
     yyC = character(yyStart);
     if (-1 != yyC) {
       yyIndex = yyStart + 1;
-      if ((('A' <= yyC) && (yyC <= 'Z')) ||
-          ('_' == yyC) ||
-          (('a' <= yyC) && (yyC <= 'z'))) {
-
-        yyRepetition1 = yyIndex;
-        while (true) {
-
-          yyC = character(yyRepetition1);
-          if (-1 != yyC) {
-            yyIndex = yyRepetition1 + 1;
-            if ((('0' <= yyC) && (yyC <= '9')) ||
-                (('A' <= yyC) && (yyC <= 'Z')) ||
-                ('_' == yyC) ||
-                (('a' <= yyC) && (yyC <= 'z'))) {
+      if ((yyC < 128) && (0 != (yyClass1[yyC >> 6] & (1L << yyC)))) {
 
-              yyRepetition1 = yyIndex;
-              continue;
-            }
-          }
-          break;
-        }
+        yyRepetition1 = scan(yyIndex, 0x3ff000000000000L, 0x7fffffe87fffffeL, false);
 
         yyValue = difference(yyStart, yyRepetition1);
 
@@ -12004,10 +14522,15 @@ public final class CParser extends ParserBase {
    */
   private Result pSymbol(final int yyStart) throws IOException {
     CParserColumn yyColumn = (CParserColumn)column(yyStart);
-    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.fSymbol) 
-      yyColumn.chunk4.fSymbol = pSymbol$1(yyStart);
-    return yyColumn.chunk4.fSymbol;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fSymbol) {
+      yyColumn.chunk1.fSymbol = pSymbol$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(36, yyColumn.chunk1.fSymbol);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(36, yyColumn.chunk1.fSymbol);
+    }
+    return yyColumn.chunk1.fSymbol;
   }
 
   /** Actually parse xtc.lang.CSymbol.Symbol. */
@@ -12708,28 +15231,7 @@ public final class CParser extends ParserBase {
 
               case '/':
                 {
-                  yyRepetition2 = yyIndex;
-                  while (true) {
-
-                    yyC = character(yyRepetition2);
-                    if (-1 != yyC) {
-                      yyIndex = yyRepetition2 + 1;
-
-                      switch (yyC) {
-                      case '\n':
-                      case '\r':
-                        /* No match. */
-                        break;
-
-                      default:
-                        {
-                          yyRepetition2 = yyIndex;
-                          continue;
-                        }
-                      }
-                    }
-                    break;
-                  }
+                  yyRepetition2 = scan(yyIndex, 0xffffffffffffdbffL, 0xffffffffffffffffL, true);
 
                   yyPredResult = pLineTerminator(yyRepetition2);
                   yyError      = yyPredResult.select(yyError);
@@ -13344,35 +15846,7 @@ public final class CParser extends ParserBase {
       case '8':
       case '9':
         {
-          yyRepetition1 = yyIndex;
-          while (true) {
-
-            yyC = character(yyRepetition1);
-            if (-1 != yyC) {
-              yyIndex = yyRepetition1 + 1;
-
-              switch (yyC) {
-              case '0':
-              case '1':
-              case '2':
-              case '3':
-              case '4':
-              case '5':
-              case '6':
-              case '7':
-              case '8':
-              case '9':
-                {
-                  yyRepetition1 = yyIndex;
-                  continue;
-                }
-
-              default:
-                /* No match. */
-              }
-            }
-            break;
-          }
+          yyRepetition1 = scan(yyIndex, 0x3ff000000000000L, 0x0L, false);
 
           yyValue = difference(yyStart, yyRepetition1);
 
@@ -13481,28 +15955,7 @@ public final class CParser extends ParserBase {
 
     // Alternative 1.
 
-    yyRepetition1 = yyStart;
-    while (true) {
-
-      yyC = character(yyRepetition1);
-      if (-1 != yyC) {
-        yyIndex = yyRepetition1 + 1;
-
-        switch (yyC) {
-        case '\n':
-        case '\r':
-          /* No match. */
-          break;
-
-        default:
-          {
-            yyRepetition1 = yyIndex;
-            continue;
-          }
-        }
-      }
-      break;
-    }
+    yyRepetition1 = scan(yyStart, 0xffffffffffffdbffL, 0xffffffffffffffffL, true);
 
     yyValue = difference(yyStart, yyRepetition1);
 
@@ -13689,6 +16142,11 @@ public final class CParser extends ParserBase {
 
   // =========================================================================
 
+  /** The bit map for a character class. */
+  private static final long[] yyClass1 = { 0x0L, 0x7fffffe87fffffeL };
+
+  // =========================================================================
+
   static {
     add(C_KEYWORDS, new String[] {
       "auto",       "break",      "case",       "char",
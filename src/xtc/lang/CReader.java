@@ -1,8 +1,8 @@
 // ===========================================================================
 // This file has been generated by
-// Rats! Parser Generator, version 2.1.0,
-// (C) 2004-2011 Robert Grimm,
-// on Monday, July 25, 2011 at 2:20:15 PM.
+// Rats! Parser Generator, version 2.3.1,
+// (C) 2004-2012 Robert Grimm,
+// on Sunday, October 18, 2026 at 7:30:42 PM.
 // Edit at your own risk.
 // ===========================================================================
 
@@ -33,7 +33,7 @@ import xtc.parser.ParseError;
  * Packrat parser for grammar <code>xtc.lang.C</code>.
  *
  * <p />This class has been generated by the <i>Rats!</i> parser
- * generator, version 2.1.0, (C) 2004-2011 Robert Grimm.
+ * generator, version 2.3.1, (C) 2004-2012 Robert Grimm.
  */
 public final class CReader extends ParserBase {
 
@@ -53,55 +53,104 @@ public final class CReader extends ParserBase {
 
   /** Chunk 1 of memoized results. */
   static final class Chunk1 {
+    Result fWord;
+    Result fKeyword;
+    Result fIdentifier;
+    Result fSymbol;
+    Result fStringLiteral;
+    Result fStringConstant$$Plus1;
+    Result fStringConstant;
+    Result fCharacterLiteral;
+    Result fUnaryExpression;
+    Result fCastExpression;
+
+    void clear() {
+      fWord = null;
+      fKeyword = null;
+      fIdentifier = null;
+      fSymbol = null;
+      fStringLiteral = null;
+      fStringConstant$$Plus1 = null;
+      fStringConstant = null;
+      fCharacterLiteral = null;
+      fUnaryExpression = null;
+      fCastExpression = null;
+    }
+  }
+
+  /** Chunk 2 of memoized results. */
+  static final class Chunk2 {
+    Result fAttributeSpecifier;
     Result fDeclarationSpecifiers;
     Result fSpecifierQualifierList;
-    Result fAttributedDeclarator;
-    Result fDeclarator;
+    Result fAttributeSpecifierList;
     Result fPointer;
-    Result fVariableLength;
+    Result fDeclarator;
+    Result fAttributedDeclarator;
     Result fParameterTypeList;
-    Result fAbstractDeclarator;
     Result fTypeName;
-    Result fAttributeSpecifierList;
+    Result fAbstractDeclarator;
+
+    void clear() {
+      fAttributeSpecifier = null;
+      fDeclarationSpecifiers = null;
+      fSpecifierQualifierList = null;
+      fAttributeSpecifierList = null;
+      fPointer = null;
+      fDeclarator = null;
+      fAttributedDeclarator = null;
+      fParameterTypeList = null;
+      fTypeName = null;
+      fAbstractDeclarator = null;
+    }
   }
 
-  /** Chunk 2 of memoized results. */
-  static final class Chunk2 {
-    Result fAttributeSpecifier;
-    Result fStatement;
-    Result fCompoundStatement;
-    Result fCommaExpression;
-    Result fAssignmentExpression;
-    Result fConditionalExpression;
+  /** Chunk 3 of memoized results. */
+  static final class Chunk3 {
     Result fLogicalOrExpression;
-    Result fCastExpression;
-    Result fUnaryExpression;
+    Result fConditionalExpression;
+    Result fAssignmentExpression;
+    Result fCommaExpression;
+    Result fAsmKeyword;
+    Result fCompoundStatement;
+    Result fStatement;
     Result fExpressionList;
+    Result fSimpleAssemblyExpression;
+    Result fAssemblyOperand;
+
+    void clear() {
+      fLogicalOrExpression = null;
+      fConditionalExpression = null;
+      fAssignmentExpression = null;
+      fCommaExpression = null;
+      fAsmKeyword = null;
+      fCompoundStatement = null;
+      fStatement = null;
+      fExpressionList = null;
+      fSimpleAssemblyExpression = null;
+      fAssemblyOperand = null;
+    }
   }
 
-  /** Chunk 3 of memoized results. */
-  static final class Chunk3 {
+  /** Chunk 4 of memoized results. */
+  static final class Chunk4 {
+    Result fVariableLength;
     Result fExpressionList$$Star1;
-    Result fSimpleAssemblyExpression;
     Result fAssemblyOperands;
     Result fAssemblyOperands$$Star1;
-    Result fAssemblyOperand;
-    Result fAsmKeyword;
     Result fExponent;
     Result f$$Shared2;
     Result fBinaryExponent;
-    Result fCharacterLiteral;
-  }
 
-  /** Chunk 4 of memoized results. */
-  static final class Chunk4 {
-    Result fStringConstant;
-    Result fStringConstant$$Plus1;
-    Result fStringLiteral;
-    Result fIdentifier;
-    Result fKeyword;
-    Result fWord;
-    Result fSymbol;
+    void clear() {
+      fVariableLength = null;
+      fExpressionList$$Star1 = null;
+      fAssemblyOperands = null;
+      fAssemblyOperands$$Star1 = null;
+      fExponent = null;
+      f$$Shared2 = null;
+      fBinaryExponent = null;
+    }
   }
 
   // =========================================================================
@@ -112,6 +161,14 @@ public final class CReader extends ParserBase {
     Chunk2 chunk2;
     Chunk3 chunk3;
     Chunk4 chunk4;
+
+    protected boolean clear() {
+      if (null != chunk1) chunk1.clear();
+      if (null != chunk2) chunk2.clear();
+      if (null != chunk3) chunk3.clear();
+      if (null != chunk4) chunk4.clear();
+      return true;
+    }
   }
 
   // =========================================================================
@@ -152,6 +209,53 @@ public final class CReader extends ParserBase {
 
   // =========================================================================
 
+  /** The names of the memoized productions. */
+  private static final String[] yyProductions = {
+    "xtc.lang.C.DeclarationSpecifiers",
+    "xtc.lang.C.SpecifierQualifierList",
+    "xtc.lang.C.AttributedDeclarator",
+    "xtc.lang.C.Declarator",
+    "xtc.lang.C.Pointer",
+    "xtc.lang.C.VariableLength",
+    "xtc.lang.C.ParameterTypeList",
+    "xtc.lang.C.AbstractDeclarator",
+    "xtc.lang.C.TypeName",
+    "xtc.lang.C.AttributeSpecifierList",
+    "xtc.lang.C.AttributeSpecifier",
+    "xtc.lang.C.Statement",
+    "xtc.lang.C.CompoundStatement",
+    "xtc.lang.C.CommaExpression",
+    "xtc.lang.C.AssignmentExpression",
+    "xtc.lang.C.ConditionalExpression",
+    "xtc.lang.C.LogicalOrExpression",
+    "xtc.lang.C.CastExpression",
+    "xtc.lang.C.UnaryExpression",
+    "xtc.lang.C.ExpressionList",
+    "xtc.lang.C.ExpressionList$$Star1",
+    "xtc.lang.C.SimpleAssemblyExpression",
+    "xtc.lang.C.AssemblyOperands",
+    "xtc.lang.C.AssemblyOperands$$Star1",
+    "xtc.lang.C.AssemblyOperand",
+    "xtc.lang.C.AsmKeyword",
+    "xtc.lang.CConstant.Exponent",
+    "xtc.lang.C.$$Shared2",
+    "xtc.lang.CConstant.BinaryExponent",
+    "xtc.lang.CConstant.CharacterLiteral",
+    "xtc.lang.CConstant.StringConstant",
+    "xtc.lang.C.StringConstant$$Plus1",
+    "xtc.lang.CConstant.StringLiteral",
+    "xtc.lang.CIdentifier.Identifier",
+    "xtc.lang.CIdentifier.Keyword",
+    "xtc.lang.CIdentifier.Word",
+    "xtc.lang.CSymbol.Symbol",
+  };
+
+  protected String[] productions() {
+    return yyProductions;
+  }
+
+  // =========================================================================
+
   /**
    * Parse nonterminal xtc.lang.C.TranslationUnit.
    *
@@ -199,14 +303,16 @@ public final class CReader extends ParserBase {
 
     Result     yyResult;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
     // Alternative <Unit>.
 
     yyRepetition1 = yyStart;
-    yyRepValue1   = Pair.empty();
+    yyRepStart1   = bufferStart();
+    yyRepEnd1   = yyRepStart1;
     while (true) {
 
       yyResult = pExternalDeclaration(yyRepetition1);
@@ -215,13 +321,14 @@ public final class CReader extends ParserBase {
         final Node v$el$1 = yyResult.semanticValue();
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+        yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
         continue;
       }
       break;
     }
     { // Start scope for v$g$1.
-      final Pair<Node> v$g$1 = yyRepValue1.reverse();
+      final int v$g$1 = yyRepStart1;
+      final int v$g$1$end = yyRepEnd1;
 
       yyResult = pAnnotations(yyRepetition1);
       yyError  = yyResult.select(yyError);
@@ -232,13 +339,15 @@ public final class CReader extends ParserBase {
         yyError  = yyResult.select(yyError);
         if (yyResult.hasValue()) {
 
-          yyValue = GNode.create("TranslationUnit", v$g$1.size() + 1).
-            addAll(v$g$1).add(v$g$2);
-          yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("TranslationUnit", (v$g$1$end - v$g$1) + 1);
+          addBuffered(yyValue, v$g$1, v$g$1$end);
+          yyValue.add(v$g$2);
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
       }
+      releaseBuffer(v$g$1);
     } // End scope for v$g$1.
 
     // Done.
@@ -260,7 +369,7 @@ public final class CReader extends ParserBase {
     ParseError yyError = ParseError.DUMMY;
 
     // Reset the global state object.
-    yyState.reset(column(yyStart).file);
+    yyState.reset(fileAt(yyStart));
 
     // Alternative 1.
 
@@ -273,7 +382,7 @@ public final class CReader extends ParserBase {
       if (yyResult.hasValue()) {
 
         yyValue = new TextToken(difference(yyStart, yyResult.index));
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -300,6 +409,95 @@ public final class CReader extends ParserBase {
     // Start a state modification.
     yyState.start();
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x5;
+      break;
+
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Declaration>.
 
     yyState.mark();
@@ -319,51 +517,57 @@ public final class CReader extends ParserBase {
     }
 
     // Alternative <Function>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pFunctionDefinition(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final Node fd = yyResult.semanticValue();
+      yyResult = pFunctionDefinition(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final Node fd = yyResult.semanticValue();
 
-      yyValue = yyState.annotate(fd);
+        yyValue = yyState.annotate(fd);
 
-      // Commit the state modification.
-      yyState.commit();
+        // Commit the state modification.
+        yyState.commit();
 
-      setLocation(yyValue, yyStart);
-      return yyResult.createValue(yyValue, yyError);
+        setLocation(yyValue, yyStart);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Assembly>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pAssemblyDefinition(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final Node a = yyResult.semanticValue();
+      yyResult = pAssemblyDefinition(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final Node a = yyResult.semanticValue();
 
-      yyValue = yyState.annotate(a);
+        yyValue = yyState.annotate(a);
 
-      // Commit the state modification.
-      yyState.commit();
+        // Commit the state modification.
+        yyState.commit();
 
-      setLocation(yyValue, yyStart);
-      return yyResult.createValue(yyValue, yyError);
+        setLocation(yyValue, yyStart);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Empty>.
+    if ((0 != (yyFirst & 0x4)) || (yyError.index < yyStart)) {
 
-    yyResult = pEmptyDefinition(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final Node e = yyResult.semanticValue();
+      yyResult = pEmptyDefinition(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final Node e = yyResult.semanticValue();
 
-      yyValue = yyState.annotate(e);
+        yyValue = yyState.annotate(e);
 
-      // Commit the state modification.
-      yyState.commit();
+        // Commit the state modification.
+        yyState.commit();
 
-      setLocation(yyValue, yyStart);
-      return yyResult.createValue(yyValue, yyError);
+        setLocation(yyValue, yyStart);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Abort the state modification.
@@ -451,7 +655,7 @@ public final class CReader extends ParserBase {
                 final Node v$g$5 = yyResult.semanticValue();
 
                 yyValue = GNode.create("FunctionDefinition", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return yyResult.createValue(yyValue, yyError);
               }
@@ -478,7 +682,8 @@ public final class CReader extends ParserBase {
     Result     yyResult;
     int        yyRepetition1;
     boolean    yyRepeated1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -486,7 +691,8 @@ public final class CReader extends ParserBase {
 
     yyRepetition1 = yyStart;
     yyRepeated1   = false;
-    yyRepValue1   = Pair.empty();
+    yyRepStart1   = bufferStart();
+    yyRepEnd1   = yyRepStart1;
     while (true) {
 
       yyResult = pDeclarationListEntry(yyRepetition1);
@@ -496,17 +702,18 @@ public final class CReader extends ParserBase {
 
         yyRepetition1 = yyResult.index;
         yyRepeated1   = true;
-        yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+        yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
         continue;
       }
       break;
     }
 
     if (yyRepeated1) {
-      final Pair<Node> v$g$1 = yyRepValue1.reverse();
+      final int v$g$1 = yyRepStart1;
+      final int v$g$1$end = yyRepEnd1;
 
-      yyValue = GNode.createFromPair("DeclarationList", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      yyValue = bufferedNode("DeclarationList", v$g$1, v$g$1$end);
+      locate(yyValue, yyStart);
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
     }
@@ -574,7 +781,7 @@ public final class CReader extends ParserBase {
       final Node v$pt$1 = yyResult.semanticValue();
 
       yyValue = GNode.create("EmptyDefinition", false);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
       yyValue = Formatting.after1(yyValue, v$pt$1);
 
       return yyResult.createValue(yyValue, yyError);
@@ -678,7 +885,7 @@ public final class CReader extends ParserBase {
               final Node v$g$3 = Formatting.after1(l, v$pt$1);
 
               yyValue = GNode.create("Declaration", v$g$1, v$g$2, v$g$3);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             } else {
@@ -707,10 +914,16 @@ public final class CReader extends ParserBase {
     throws IOException {
 
     CReaderColumn yyColumn = (CReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fDeclarationSpecifiers) 
-      yyColumn.chunk1.fDeclarationSpecifiers = pDeclarationSpecifiers$1(yyStart);
-    return yyColumn.chunk1.fDeclarationSpecifiers;
+    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
+    if (null == yyColumn.chunk2.fDeclarationSpecifiers) {
+      yyColumn.chunk2.fDeclarationSpecifiers = 
+        pDeclarationSpecifiers$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(0, yyColumn.chunk2.fDeclarationSpecifiers);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(0, yyColumn.chunk2.fDeclarationSpecifiers);
+    }
+    return yyColumn.chunk2.fDeclarationSpecifiers;
   }
 
   /** Actually parse xtc.lang.C.DeclarationSpecifiers. */
@@ -729,7 +942,7 @@ public final class CReader extends ParserBase {
       final Pair<Node> v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.createFromPair("DeclarationSpecifiers", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -801,88 +1014,164 @@ public final class CReader extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x7f;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <StorageClass>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pStorageClassSpecifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pStorageClassSpecifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <TypeSpecifier>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pTypeSpecifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
-
-      yyResult = pTypeSpecContext(yyResult.index);
+      yyResult = pTypeSpecifier(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-        return yyResult.createValue(yyValue, yyError);
+        yyResult = pTypeSpecContext(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative <TypeQualifier>.
+    if ((0 != (yyFirst & 0x4)) || (yyError.index < yyStart)) {
 
-    yyResult = pTypeQualifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pTypeQualifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 4.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("inline")) {
-      final Node v$g$1 = yyResult.semanticValue();
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("inline")) {
+        final Node v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("FunctionSpecifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("FunctionSpecifier", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 5.
+    if (0 != (yyFirst & 0x10)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("__inline")) {
-      final Node v$g$2 = yyResult.semanticValue();
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("__inline")) {
+        final Node v$g$2 = yyResult.semanticValue();
 
-      yyValue = GNode.create("FunctionSpecifier", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("FunctionSpecifier", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 6.
+    if (0 != (yyFirst & 0x20)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("__inline__")) {
-      final Node v$g$3 = yyResult.semanticValue();
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("__inline__")) {
+        final Node v$g$3 = yyResult.semanticValue();
 
-      yyValue = GNode.create("FunctionSpecifier", v$g$3);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("FunctionSpecifier", v$g$3);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Attribute>.
+    if ((0 != (yyFirst & 0x40)) || (yyError.index < yyStart)) {
 
-    yyResult = pAttributeSpecifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pAttributeSpecifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -905,7 +1194,8 @@ public final class CReader extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -917,7 +1207,8 @@ public final class CReader extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyBase   = yyRepetition1;
@@ -933,7 +1224,7 @@ public final class CReader extends ParserBase {
             final Node v$el$1 = Formatting.before1(v$pt$1, v$pt$2);
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
         } else {
@@ -942,10 +1233,11 @@ public final class CReader extends ParserBase {
         break;
       }
       { // Start scope for v$g$2.
-        final Pair<Node> v$g$2 = yyRepValue1.reverse();
+        final int v$g$2 = yyRepStart1;
+        final int v$g$2$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("InitializedDeclaratorList", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("InitializedDeclaratorList", v$g$1, v$g$2, v$g$2$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$2.
@@ -1046,7 +1338,7 @@ public final class CReader extends ParserBase {
               final Node v$g$5 = yyOpValue1;
 
               yyValue = GNode.create("InitializedDeclarator", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return new SemanticValue(yyValue, yyOption1, yyError);
             } // End scope for v$g$5.
@@ -1075,92 +1367,166 @@ public final class CReader extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x3f;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("auto")) {
-      final Node v$pt$1 = yyResult.semanticValue();
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("auto")) {
+        final Node v$pt$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("AutoSpecifier", false);
-      yyValue.setLocation(location(yyStart));
-      yyValue = Formatting.after1(yyValue, v$pt$1);
+        yyValue = GNode.create("AutoSpecifier", false);
+        locate(yyValue, yyStart);
+        yyValue = Formatting.after1(yyValue, v$pt$1);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("extern")) {
-      final Node v$pt$1 = yyResult.semanticValue();
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("extern")) {
+        final Node v$pt$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("ExternSpecifier", false);
-      yyValue.setLocation(location(yyStart));
-      yyValue = Formatting.after1(yyValue, v$pt$1);
+        yyValue = GNode.create("ExternSpecifier", false);
+        locate(yyValue, yyStart);
+        yyValue = Formatting.after1(yyValue, v$pt$1);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("register")) {
-      final Node v$pt$1 = yyResult.semanticValue();
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("register")) {
+        final Node v$pt$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("RegisterSpecifier", false);
-      yyValue.setLocation(location(yyStart));
-      yyValue = Formatting.after1(yyValue, v$pt$1);
+        yyValue = GNode.create("RegisterSpecifier", false);
+        locate(yyValue, yyStart);
+        yyValue = Formatting.after1(yyValue, v$pt$1);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 4.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("static")) {
-      final Node v$pt$1 = yyResult.semanticValue();
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("static")) {
+        final Node v$pt$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("StaticSpecifier", false);
-      yyValue.setLocation(location(yyStart));
-      yyValue = Formatting.after1(yyValue, v$pt$1);
+        yyValue = GNode.create("StaticSpecifier", false);
+        locate(yyValue, yyStart);
+        yyValue = Formatting.after1(yyValue, v$pt$1);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 5.
+    if (0 != (yyFirst & 0x10)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("__thread")) {
-      final Node v$pt$1 = yyResult.semanticValue();
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("__thread")) {
+        final Node v$pt$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("ThreadSpecifier", false);
-      yyValue.setLocation(location(yyStart));
-      yyValue = Formatting.after1(yyValue, v$pt$1);
+        yyValue = GNode.create("ThreadSpecifier", false);
+        locate(yyValue, yyStart);
+        yyValue = Formatting.after1(yyValue, v$pt$1);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 6.
+    if (0 != (yyFirst & 0x20)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("typedef")) {
-      final Node v$pt$1 = yyResult.semanticValue();
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("typedef")) {
+        final Node v$pt$1 = yyResult.semanticValue();
 
-      yyResult = pTypedefContext(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
+        yyResult = pTypedefContext(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
 
-        yyValue = GNode.create("TypedefSpecifier", false);
-        yyValue.setLocation(location(yyStart));
-        yyValue = Formatting.after1(yyValue, v$pt$1);
+          yyValue = GNode.create("TypedefSpecifier", false);
+          locate(yyValue, yyStart);
+          yyValue = Formatting.after1(yyValue, v$pt$1);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
@@ -1183,121 +1549,201 @@ public final class CReader extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x1ff;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("volatile")) {
-      final Node v$g$1 = yyResult.semanticValue();
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("volatile")) {
+        final Node v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("VolatileQualifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("VolatileQualifier", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("__volatile")) {
-      final Node v$g$2 = yyResult.semanticValue();
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("__volatile")) {
+        final Node v$g$2 = yyResult.semanticValue();
 
-      yyValue = GNode.create("VolatileQualifier", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("VolatileQualifier", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("__volatile__")) {
-      final Node v$g$3 = yyResult.semanticValue();
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("__volatile__")) {
+        final Node v$g$3 = yyResult.semanticValue();
 
-      yyValue = GNode.create("VolatileQualifier", v$g$3);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("VolatileQualifier", v$g$3);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 4.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("const")) {
-      final Node v$g$1 = yyResult.semanticValue();
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("const")) {
+        final Node v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("ConstantQualifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("ConstantQualifier", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 5.
+    if (0 != (yyFirst & 0x10)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("__const")) {
-      final Node v$g$2 = yyResult.semanticValue();
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("__const")) {
+        final Node v$g$2 = yyResult.semanticValue();
 
-      yyValue = GNode.create("ConstantQualifier", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("ConstantQualifier", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 6.
+    if (0 != (yyFirst & 0x20)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("__const__")) {
-      final Node v$g$3 = yyResult.semanticValue();
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("__const__")) {
+        final Node v$g$3 = yyResult.semanticValue();
 
-      yyValue = GNode.create("ConstantQualifier", v$g$3);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("ConstantQualifier", v$g$3);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 7.
+    if (0 != (yyFirst & 0x40)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("restrict")) {
-      final Node v$g$1 = yyResult.semanticValue();
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("restrict")) {
+        final Node v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("RestrictQualifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("RestrictQualifier", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 8.
+    if (0 != (yyFirst & 0x80)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("__restrict")) {
-      final Node v$g$2 = yyResult.semanticValue();
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("__restrict")) {
+        final Node v$g$2 = yyResult.semanticValue();
 
-      yyValue = GNode.create("RestrictQualifier", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("RestrictQualifier", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 9.
+    if (0 != (yyFirst & 0x100)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("__restrict__")) {
-      final Node v$g$3 = yyResult.semanticValue();
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("__restrict__")) {
+        final Node v$g$3 = yyResult.semanticValue();
 
-      yyValue = GNode.create("RestrictQualifier", v$g$3);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("RestrictQualifier", v$g$3);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -1320,165 +1766,245 @@ public final class CReader extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x1ff;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Enumeration>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pEnumerationTypeSpecifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pEnumerationTypeSpecifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Structure>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pStructureTypeSpecifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pStructureTypeSpecifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Union>.
+    if ((0 != (yyFirst & 0x4)) || (yyError.index < yyStart)) {
 
-    yyResult = pUnionTypeSpecifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pUnionTypeSpecifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Floating>.
+    if ((0 != (yyFirst & 0x8)) || (yyError.index < yyStart)) {
 
-    yyResult = pFloatingPointTypeSpecifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pFloatingPointTypeSpecifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Integer>.
+    if ((0 != (yyFirst & 0x10)) || (yyError.index < yyStart)) {
 
-    yyResult = pIntegerTypeSpecifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pIntegerTypeSpecifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 6.
+    if ((0 != (yyFirst & 0x20)) || (yyError.index < yyStart)) {
 
-    yyResult = pIdentifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final Node id = yyResult.semanticValue();
+      yyResult = pIdentifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final Node id = yyResult.semanticValue();
 
-      if (yyState.isType(toText(id))) {
+        if (yyState.isType(toText(id))) {
 
-        yyValue = GNode.create("TypedefName", id);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("TypedefName", id);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 7.
+    if ((0 != (yyFirst & 0x40)) || (yyError.index < yyStart)) {
 
-    yyResult = pTypeofKeyword(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final Node v$pt$1 = yyResult.semanticValue();
+      yyResult = pTypeofKeyword(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final Node v$pt$1 = yyResult.semanticValue();
 
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue() &&
-          ((Node)yyResult.semanticValue()).getTokenText().equals("(")) {
-        final Node v$pt$2 = yyResult.semanticValue();
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue() &&
+            ((Node)yyResult.semanticValue()).getTokenText().equals("(")) {
+          final Node v$pt$2 = yyResult.semanticValue();
 
-        final int yyChoice1 = yyResult.index;
+          final int yyChoice1 = yyResult.index;
 
-        // Nested alternative 1.
+          // Nested alternative 1.
 
-        yyResult = pTypeName(yyChoice1);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$pt$4 = yyResult.semanticValue();
+          yyResult = pTypeName(yyChoice1);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Node v$pt$4 = yyResult.semanticValue();
 
-          yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue() &&
-              ((Node)yyResult.semanticValue()).getTokenText().equals(")")) {
-            final Node v$pt$3 = yyResult.semanticValue();
-            final Node v$g$1 = Formatting.variable().
-              add(v$pt$1).add(v$pt$2).addNode(v$pt$4).add(v$pt$3);
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue() &&
+                ((Node)yyResult.semanticValue()).getTokenText().equals(")")) {
+              final Node v$pt$3 = yyResult.semanticValue();
+              final Node v$g$1 = Formatting.variable().
+                add(v$pt$1).add(v$pt$2).addNode(v$pt$4).add(v$pt$3);
 
-            yyValue = GNode.create("TypeofSpecifier", v$g$1);
-            yyValue.setLocation(location(yyStart));
+              yyValue = GNode.create("TypeofSpecifier", v$g$1);
+              locate(yyValue, yyStart);
 
-            return yyResult.createValue(yyValue, yyError);
-          } else {
-            yyError = yyError.select("')' expected", yyBase);
+              return yyResult.createValue(yyValue, yyError);
+            } else {
+              yyError = yyError.select("')' expected", yyBase);
+            }
           }
-        }
 
-        // Nested alternative 2.
+          // Nested alternative 2.
 
-        yyResult = pCommaExpression(yyChoice1);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$pt$6 = yyResult.semanticValue();
+          yyResult = pCommaExpression(yyChoice1);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Node v$pt$6 = yyResult.semanticValue();
 
-          yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue() &&
-              ((Node)yyResult.semanticValue()).getTokenText().equals(")")) {
-            final Node v$pt$5 = yyResult.semanticValue();
-            final Node v$g$2 = Formatting.variable().
-              add(v$pt$1).add(v$pt$2).addNode(v$pt$6).add(v$pt$5);
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue() &&
+                ((Node)yyResult.semanticValue()).getTokenText().equals(")")) {
+              final Node v$pt$5 = yyResult.semanticValue();
+              final Node v$g$2 = Formatting.variable().
+                add(v$pt$1).add(v$pt$2).addNode(v$pt$6).add(v$pt$5);
 
-            yyValue = GNode.create("TypeofSpecifier", v$g$2);
-            yyValue.setLocation(location(yyStart));
+              yyValue = GNode.create("TypeofSpecifier", v$g$2);
+              locate(yyValue, yyStart);
 
-            return yyResult.createValue(yyValue, yyError);
-          } else {
-            yyError = yyError.select("')' expected", yyBase);
+              return yyResult.createValue(yyValue, yyError);
+            } else {
+              yyError = yyError.select("')' expected", yyBase);
+            }
           }
+        } else {
+          yyError = yyError.select("'(' expected", yyBase);
         }
-      } else {
-        yyError = yyError.select("'(' expected", yyBase);
       }
     }
 
     // Alternative 8.
+    if (0 != (yyFirst & 0x80)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("void")) {
-      final Node v$pt$1 = yyResult.semanticValue();
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("void")) {
+        final Node v$pt$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("VoidTypeSpecifier", false);
-      yyValue.setLocation(location(yyStart));
-      yyValue = Formatting.after1(yyValue, v$pt$1);
+        yyValue = GNode.create("VoidTypeSpecifier", false);
+        locate(yyValue, yyStart);
+        yyValue = Formatting.after1(yyValue, v$pt$1);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 9.
+    if (0 != (yyFirst & 0x100)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("__builtin_va_list")) {
-      final Node v$pt$1 = yyResult.semanticValue();
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("__builtin_va_list")) {
+        final Node v$pt$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("VarArgListSpecifier", false);
-      yyValue.setLocation(location(yyStart));
-      yyValue = Formatting.after1(yyValue, v$pt$1);
+        yyValue = GNode.create("VarArgListSpecifier", false);
+        locate(yyValue, yyStart);
+        yyValue = Formatting.after1(yyValue, v$pt$1);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -1597,7 +2123,7 @@ public final class CReader extends ParserBase {
                     final Node v$g$4 = yyOpValue1;
 
                     yyValue = GNode.create("EnumerationTypeDefinition", v$g$1, v$g$2, v$g$3, v$g$4);
-                    yyValue.setLocation(location(yyStart));
+                    locate(yyValue, yyStart);
 
                     return new SemanticValue(yyValue, yyOption1, yyError);
                   } // End scope for v$g$4.
@@ -1619,7 +2145,7 @@ public final class CReader extends ParserBase {
           final Node v$g$2 = yyResult.semanticValue();
 
           yyValue = GNode.create("EnumerationTypeReference", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -1644,7 +2170,8 @@ public final class CReader extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -1656,7 +2183,8 @@ public final class CReader extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyBase   = yyRepetition1;
@@ -1672,7 +2200,7 @@ public final class CReader extends ParserBase {
             final Node v$el$1 = Formatting.before1(v$pt$1, v$pt$2);
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
         } else {
@@ -1681,10 +2209,11 @@ public final class CReader extends ParserBase {
         break;
       }
       { // Start scope for v$g$2.
-        final Pair<Node> v$g$2 = yyRepValue1.reverse();
+        final int v$g$2 = yyRepStart1;
+        final int v$g$2$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("EnumeratorList", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("EnumeratorList", v$g$1, v$g$2, v$g$2$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$2.
@@ -1745,7 +2274,7 @@ public final class CReader extends ParserBase {
         final Node v$g$1 = yyOpValue1;
 
         yyValue = GNode.create("Enumerator", id, v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyOption1, yyError);
       } // End scope for v$g$1.
@@ -1864,7 +2393,7 @@ public final class CReader extends ParserBase {
                           final Node v$g$4 = yyOpValue1;
 
                           yyValue = GNode.create("StructureTypeDefinition", v$g$1, v$g$2, v$g$3, v$g$4);
-                          yyValue.setLocation(location(yyStart));
+                          locate(yyValue, yyStart);
 
                           return new SemanticValue(yyValue, yyOption1, yyError);
                         } // End scope for v$g$4.
@@ -1889,7 +2418,7 @@ public final class CReader extends ParserBase {
           final Node v$g$2 = yyResult.semanticValue();
 
           yyValue = GNode.create("StructureTypeReference", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -2008,7 +2537,7 @@ public final class CReader extends ParserBase {
                           final Node v$g$4 = yyOpValue1;
 
                           yyValue = GNode.create("UnionTypeDefinition", v$g$1, v$g$2, v$g$3, v$g$4);
-                          yyValue.setLocation(location(yyStart));
+                          locate(yyValue, yyStart);
 
                           return new SemanticValue(yyValue, yyOption1, yyError);
                         } // End scope for v$g$4.
@@ -2033,7 +2562,7 @@ public final class CReader extends ParserBase {
           final Node v$g$2 = yyResult.semanticValue();
 
           yyValue = GNode.create("UnionTypeReference", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -2060,7 +2589,8 @@ public final class CReader extends ParserBase {
     Result     yyResult;
     int        yyRepetition1;
     boolean    yyRepeated1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -2068,7 +2598,8 @@ public final class CReader extends ParserBase {
 
     yyRepetition1 = yyStart;
     yyRepeated1   = false;
-    yyRepValue1   = Pair.empty();
+    yyRepStart1   = bufferStart();
+    yyRepEnd1   = yyRepStart1;
     while (true) {
 
       yyResult = pAnnotatedStructureDeclaration(yyRepetition1);
@@ -2078,26 +2609,29 @@ public final class CReader extends ParserBase {
 
         yyRepetition1 = yyResult.index;
         yyRepeated1   = true;
-        yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+        yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
         continue;
       }
       break;
     }
 
     if (yyRepeated1) {
-      final Pair<Node> v$g$1 = yyRepValue1.reverse();
+      final int v$g$1 = yyRepStart1;
+      final int v$g$1$end = yyRepEnd1;
 
       yyResult = pAnnotations(yyRepetition1);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
         final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("StructureDeclarationList", v$g$1.size() + 1).
-          addAll(v$g$1).add(v$g$2);
-        yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("StructureDeclarationList", (v$g$1$end - v$g$1) + 1);
+        addBuffered(yyValue, v$g$1, v$g$1$end);
+        yyValue.add(v$g$2);
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
+      releaseBuffer(v$g$1);
     }
 
     // Alternative <Empty>.
@@ -2110,7 +2644,7 @@ public final class CReader extends ParserBase {
         final Node v$g$3 = yyResult.semanticValue();
 
         yyValue = GNode.create("StructureDeclarationList", v$g$3);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -2260,7 +2794,7 @@ public final class CReader extends ParserBase {
                 addNode(v$pt$4).add(v$pt$2).add(v$pt$3);
 
               yyValue = GNode.create("StructureDeclaration", v$g$1, v$g$2, v$g$3);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return new SemanticValue(yyValue, yyOption1, yyError);
             } // End scope for v$pt$3.
@@ -2289,10 +2823,16 @@ public final class CReader extends ParserBase {
     throws IOException {
 
     CReaderColumn yyColumn = (CReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fSpecifierQualifierList) 
-      yyColumn.chunk1.fSpecifierQualifierList = pSpecifierQualifierList$1(yyStart);
-    return yyColumn.chunk1.fSpecifierQualifierList;
+    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
+    if (null == yyColumn.chunk2.fSpecifierQualifierList) {
+      yyColumn.chunk2.fSpecifierQualifierList = 
+        pSpecifierQualifierList$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(1, yyColumn.chunk2.fSpecifierQualifierList);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(1, yyColumn.chunk2.fSpecifierQualifierList);
+    }
+    return yyColumn.chunk2.fSpecifierQualifierList;
   }
 
   /** Actually parse xtc.lang.C.SpecifierQualifierList. */
@@ -2311,7 +2851,7 @@ public final class CReader extends ParserBase {
       final Pair<Node> v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.createFromPair("SpecifierQualifierList", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -2383,39 +2923,107 @@ public final class CReader extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
-    // Alternative <TypeSpecifier>.
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x7;
+      break;
 
-    yyResult = pTypeSpecifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+    default:
+      yyFirst = 0;
+    }
 
-      yyResult = pTypeSpecContext(yyResult.index);
+    // Alternative <TypeSpecifier>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
+
+      yyResult = pTypeSpecifier(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-        return yyResult.createValue(yyValue, yyError);
+        yyResult = pTypeSpecContext(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative <TypeQualifier>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pTypeQualifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pTypeQualifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Attribute>.
+    if ((0 != (yyFirst & 0x4)) || (yyError.index < yyStart)) {
 
-    yyResult = pAttributeSpecifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pAttributeSpecifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -2478,7 +3086,8 @@ public final class CReader extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -2490,7 +3099,8 @@ public final class CReader extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyBase   = yyRepetition1;
@@ -2506,7 +3116,7 @@ public final class CReader extends ParserBase {
             final Node v$el$1 = Formatting.before1(v$pt$1, v$pt$2);
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
         } else {
@@ -2515,10 +3125,11 @@ public final class CReader extends ParserBase {
         break;
       }
       { // Start scope for v$g$2.
-        final Pair<Node> v$g$2 = yyRepValue1.reverse();
+        final int v$g$2 = yyRepStart1;
+        final int v$g$2$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("StructureDeclaratorList", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("StructureDeclaratorList", v$g$1, v$g$2, v$g$2$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$2.
@@ -2545,81 +3156,171 @@ public final class CReader extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
-    // Alternative 1.
-
-    yyOption1  = yyStart;
-    yyOpValue1 = null;
-
-    yyResult = pAttributeSpecifierList(yyOption1);
-    yyError  = yyResult.select(yyError, yyOption1);
-    if (yyResult.hasValue()) {
-      final Node v$el$1 = yyResult.semanticValue();
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '[':
+    case ']':
+    case '^':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
 
-      yyOption1  = yyResult.index;
-      yyOpValue1 = v$el$1;
+    default:
+      yyFirst = 0;
     }
-    { // Start scope for v$g$1.
-      final Node v$g$1 = yyOpValue1;
 
+    // Alternative 1.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index <= yyStart)) {
+
+      yyOption1  = yyStart;
       yyOpValue1 = null;
 
-      yyResult = pDeclarator(yyOption1);
+      yyResult = pAttributeSpecifierList(yyOption1);
       yyError  = yyResult.select(yyError, yyOption1);
       if (yyResult.hasValue()) {
-        final Node v$el$2 = yyResult.semanticValue();
+        final Node v$el$1 = yyResult.semanticValue();
 
         yyOption1  = yyResult.index;
-        yyOpValue1 = v$el$2;
+        yyOpValue1 = v$el$1;
       }
-      { // Start scope for v$pt$2.
-        final Node v$pt$2 = yyOpValue1;
+      { // Start scope for v$g$1.
+        final Node v$g$1 = yyOpValue1;
 
-        yyBase   = yyOption1;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue() &&
-            ((Node)yyResult.semanticValue()).getTokenText().equals(":")) {
-          final Node v$pt$1 = yyResult.semanticValue();
-          final Node v$g$2 = Formatting.after1(v$pt$2, v$pt$1);
+        yyOpValue1 = null;
 
-          yyResult = pConditionalExpression(yyResult.index);
-          yyError  = yyResult.select(yyError);
-          if (yyResult.hasValue()) {
-            final Node v$g$3 = yyResult.semanticValue();
+        yyResult = pDeclarator(yyOption1);
+        yyError  = yyResult.select(yyError, yyOption1);
+        if (yyResult.hasValue()) {
+          final Node v$el$2 = yyResult.semanticValue();
 
-            yyOption1  = yyResult.index;
-            yyOpValue1 = null;
+          yyOption1  = yyResult.index;
+          yyOpValue1 = v$el$2;
+        }
+        { // Start scope for v$pt$2.
+          final Node v$pt$2 = yyOpValue1;
 
-            yyResult = pAttributeSpecifierList(yyOption1);
-            yyError  = yyResult.select(yyError, yyOption1);
+          yyBase   = yyOption1;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue() &&
+              ((Node)yyResult.semanticValue()).getTokenText().equals(":")) {
+            final Node v$pt$1 = yyResult.semanticValue();
+            final Node v$g$2 = Formatting.after1(v$pt$2, v$pt$1);
+
+            yyResult = pConditionalExpression(yyResult.index);
+            yyError  = yyResult.select(yyError);
             if (yyResult.hasValue()) {
-              final Node v$el$3 = yyResult.semanticValue();
+              final Node v$g$3 = yyResult.semanticValue();
 
               yyOption1  = yyResult.index;
-              yyOpValue1 = v$el$3;
-            }
-            { // Start scope for v$g$4.
-              final Node v$g$4 = yyOpValue1;
+              yyOpValue1 = null;
+
+              yyResult = pAttributeSpecifierList(yyOption1);
+              yyError  = yyResult.select(yyError, yyOption1);
+              if (yyResult.hasValue()) {
+                final Node v$el$3 = yyResult.semanticValue();
 
-              yyValue = GNode.create("BitField", v$g$1, v$g$2, v$g$3, v$g$4);
-              yyValue.setLocation(location(yyStart));
+                yyOption1  = yyResult.index;
+                yyOpValue1 = v$el$3;
+              }
+              { // Start scope for v$g$4.
+                final Node v$g$4 = yyOpValue1;
 
-              return new SemanticValue(yyValue, yyOption1, yyError);
-            } // End scope for v$g$4.
+                yyValue = GNode.create("BitField", v$g$1, v$g$2, v$g$3, v$g$4);
+                locate(yyValue, yyStart);
+
+                return new SemanticValue(yyValue, yyOption1, yyError);
+              } // End scope for v$g$4.
+            }
+          } else {
+            yyError = yyError.select("':' expected", yyBase);
           }
-        } else {
-          yyError = yyError.select("':' expected", yyBase);
-        }
-      } // End scope for v$pt$2.
-    } // End scope for v$g$1.
+        } // End scope for v$pt$2.
+      } // End scope for v$g$1.
+    }
 
     // Alternative <Simple>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pAttributedDeclarator(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pAttributedDeclarator(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -2637,10 +3338,16 @@ public final class CReader extends ParserBase {
    */
   private Result pAttributedDeclarator(final int yyStart) throws IOException {
     CReaderColumn yyColumn = (CReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fAttributedDeclarator) 
-      yyColumn.chunk1.fAttributedDeclarator = pAttributedDeclarator$1(yyStart);
-    return yyColumn.chunk1.fAttributedDeclarator;
+    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
+    if (null == yyColumn.chunk2.fAttributedDeclarator) {
+      yyColumn.chunk2.fAttributedDeclarator = 
+        pAttributedDeclarator$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(2, yyColumn.chunk2.fAttributedDeclarator);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(2, yyColumn.chunk2.fAttributedDeclarator);
+    }
+    return yyColumn.chunk2.fAttributedDeclarator;
   }
 
   /** Actually parse xtc.lang.C.AttributedDeclarator. */
@@ -2689,7 +3396,7 @@ public final class CReader extends ParserBase {
           final Node v$g$3 = yyOpValue1;
 
           yyValue = GNode.create("AttributedDeclarator", v$g$1, v$g$2, v$g$3);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyOption1, yyError);
         } // End scope for v$g$3.
@@ -2711,10 +3418,15 @@ public final class CReader extends ParserBase {
    */
   private Result pDeclarator(final int yyStart) throws IOException {
     CReaderColumn yyColumn = (CReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fDeclarator) 
-      yyColumn.chunk1.fDeclarator = pDeclarator$1(yyStart);
-    return yyColumn.chunk1.fDeclarator;
+    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
+    if (null == yyColumn.chunk2.fDeclarator) {
+      yyColumn.chunk2.fDeclarator = pDeclarator$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(3, yyColumn.chunk2.fDeclarator);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(3, yyColumn.chunk2.fDeclarator);
+    }
+    return yyColumn.chunk2.fDeclarator;
   }
 
   /** Actually parse xtc.lang.C.Declarator. */
@@ -2723,24 +3435,117 @@ public final class CReader extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
+
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x2;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Pointer>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pPointerDeclarator(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pPointerDeclarator(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Direct>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pDirectDeclarator(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pDirectDeclarator(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -2774,7 +3579,7 @@ public final class CReader extends ParserBase {
         final Node v$g$2 = yyResult.semanticValue();
 
         yyValue = GNode.create("PointerDeclarator", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -2795,10 +3600,15 @@ public final class CReader extends ParserBase {
    */
   private Result pPointer(final int yyStart) throws IOException {
     CReaderColumn yyColumn = (CReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fPointer) 
-      yyColumn.chunk1.fPointer = pPointer$1(yyStart);
-    return yyColumn.chunk1.fPointer;
+    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
+    if (null == yyColumn.chunk2.fPointer) {
+      yyColumn.chunk2.fPointer = pPointer$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(4, yyColumn.chunk2.fPointer);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(4, yyColumn.chunk2.fPointer);
+    }
+    return yyColumn.chunk2.fPointer;
   }
 
   /** Actually parse xtc.lang.C.Pointer. */
@@ -2837,7 +3647,7 @@ public final class CReader extends ParserBase {
           final Node v$g$2 = yyOpValue1;
 
           yyValue = GNode.create("Pointer", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyOption1, yyError);
         } // End scope for v$g$2.
@@ -2861,14 +3671,16 @@ public final class CReader extends ParserBase {
   private Result pTypeQualifierList(final int yyStart) throws IOException {
     Result     yyResult;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
     // Alternative 1.
 
     yyRepetition1 = yyStart;
-    yyRepValue1   = Pair.empty();
+    yyRepStart1   = bufferStart();
+    yyRepEnd1   = yyRepStart1;
     while (true) {
 
       yyResult = pTypeQualifierList$$Choice1(yyRepetition1);
@@ -2877,16 +3689,17 @@ public final class CReader extends ParserBase {
         final Node v$el$1 = yyResult.semanticValue();
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+        yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
         continue;
       }
       break;
     }
     { // Start scope for v$g$1.
-      final Pair<Node> v$g$1 = yyRepValue1.reverse();
+      final int v$g$1 = yyRepStart1;
+      final int v$g$1$end = yyRepEnd1;
 
-      yyValue = GNode.createFromPair("TypeQualifierList", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      yyValue = bufferedNode("TypeQualifierList", v$g$1, v$g$1$end);
+      locate(yyValue, yyStart);
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
     } // End scope for v$g$1.
@@ -2908,24 +3721,90 @@ public final class CReader extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pTypeQualifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pTypeQualifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 2.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pAttributeSpecifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pAttributeSpecifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -2949,83 +3828,176 @@ public final class CReader extends ParserBase {
     Node               yyValue;
     ParseError         yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x1;
+      break;
+
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x2;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <FullBase>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("(")) {
-      final Node v$pt$12 = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("(")) {
+        final Node v$pt$12 = yyResult.semanticValue();
 
-      yyResult = pAttributedDeclarator(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$pt$14 = yyResult.semanticValue();
+        yyResult = pAttributedDeclarator(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$pt$14 = yyResult.semanticValue();
 
-        yyBase   = yyResult.index;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue() &&
-            ((Node)yyResult.semanticValue()).getTokenText().equals(")")) {
-          final Node v$pt$13 = yyResult.semanticValue();
-          final Node v$g$7 = Formatting.round1(v$pt$12, v$pt$14, v$pt$13);
+          yyBase   = yyResult.index;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue() &&
+              ((Node)yyResult.semanticValue()).getTokenText().equals(")")) {
+            final Node v$pt$13 = yyResult.semanticValue();
+            final Node v$g$7 = Formatting.round1(v$pt$12, v$pt$14, v$pt$13);
 
-          yyRepetition1 = yyResult.index;
-          yyRepValue1   = Pair.empty();
-          while (true) {
+            yyRepetition1 = yyResult.index;
+            yyRepValue1   = Pair.empty();
+            while (true) {
 
-            yyResult = pDirectDeclarator$$Tail1(yyRepetition1);
-            yyError  = yyResult.select(yyError, yyRepetition1);
-            if (yyResult.hasValue()) {
-              final Action<Node> v$8 = yyResult.semanticValue();
+              yyResult = pDirectDeclarator$$Tail1(yyRepetition1);
+              yyError  = yyResult.select(yyError, yyRepetition1);
+              if (yyResult.hasValue()) {
+                final Action<Node> v$8 = yyResult.semanticValue();
 
-              yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Action<Node>>(v$8, yyRepValue1);
-              continue;
+                yyRepetition1 = yyResult.index;
+                yyRepValue1   = new Pair<Action<Node>>(v$8, yyRepValue1);
+                continue;
+              }
+              break;
             }
-            break;
-          }
-          { // Start scope for v$9.
-            final Pair<Action<Node>> v$9 = yyRepValue1.reverse();
+            { // Start scope for v$9.
+              final Pair<Action<Node>> v$9 = yyRepValue1.reverse();
 
-            yyValue = apply(v$9, v$g$7, yyStart);
+              yyValue = apply(v$9, v$g$7, yyStart);
 
-            return new SemanticValue(yyValue, yyRepetition1, yyError);
-          } // End scope for v$9.
-        } else {
-          yyError = yyError.select("')' expected", yyBase);
+              return new SemanticValue(yyValue, yyRepetition1, yyError);
+            } // End scope for v$9.
+          } else {
+            yyError = yyError.select("')' expected", yyBase);
+          }
         }
       }
     }
 
     // Alternative <SimpleBase>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pSimpleDeclarator(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final Node v$g$10 = yyResult.semanticValue();
+      yyResult = pSimpleDeclarator(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final Node v$g$10 = yyResult.semanticValue();
 
-      yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
-      while (true) {
+        yyRepetition1 = yyResult.index;
+        yyRepValue1   = Pair.empty();
+        while (true) {
 
-        yyResult = pDirectDeclarator$$Tail1(yyRepetition1);
-        yyError  = yyResult.select(yyError, yyRepetition1);
-        if (yyResult.hasValue()) {
-          final Action<Node> v$11 = yyResult.semanticValue();
+          yyResult = pDirectDeclarator$$Tail1(yyRepetition1);
+          yyError  = yyResult.select(yyError, yyRepetition1);
+          if (yyResult.hasValue()) {
+            final Action<Node> v$11 = yyResult.semanticValue();
 
-          yyRepetition1 = yyResult.index;
-          yyRepValue1   = new Pair<Action<Node>>(v$11, yyRepValue1);
-          continue;
+            yyRepetition1 = yyResult.index;
+            yyRepValue1   = new Pair<Action<Node>>(v$11, yyRepValue1);
+            continue;
+          }
+          break;
         }
-        break;
-      }
-      { // Start scope for v$12.
-        final Pair<Action<Node>> v$12 = yyRepValue1.reverse();
+        { // Start scope for v$12.
+          final Pair<Action<Node>> v$12 = yyRepValue1.reverse();
 
-        yyValue = apply(v$12, v$g$10, yyStart);
+          yyValue = apply(v$12, v$g$10, yyStart);
 
-        return new SemanticValue(yyValue, yyRepetition1, yyError);
-      } // End scope for v$12.
-    }
+          return new SemanticValue(yyValue, yyRepetition1, yyError);
+        } // End scope for v$12.
+      }
+    }
 
     // Done.
     yyError = yyError.select("direct declarator expected", yyStart);
@@ -3051,161 +4023,198 @@ public final class CReader extends ParserBase {
     Action<Node> yyValue;
     ParseError   yyError = ParseError.DUMMY;
 
-    // Alternative 1.
-
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("(")) {
-      final Node v$pt$1 = yyResult.semanticValue();
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
 
-      yyResult = pPushScope(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
+    default:
+      yyFirst = 0;
+    }
 
-        final int yyChoice1 = yyResult.index;
+    // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-        // Nested alternative 1.
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("(")) {
+        final Node v$pt$1 = yyResult.semanticValue();
 
-        yyResult = pParameterTypeList(yyChoice1);
+        yyResult = pPushScope(yyResult.index);
         yyError  = yyResult.select(yyError);
         if (yyResult.hasValue()) {
-          final Node v$pt$3 = yyResult.semanticValue();
 
-          yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue() &&
-              ((Node)yyResult.semanticValue()).getTokenText().equals(")")) {
-            final Node v$pt$2 = yyResult.semanticValue();
+          final int yyChoice1 = yyResult.index;
 
-            yyResult = pParameterContext(yyResult.index);
-            yyError  = yyResult.select(yyError);
-            if (yyResult.hasValue()) {
-              final Node v$g$2 = Formatting.round1(v$pt$1, v$pt$3, v$pt$2);
+          // Nested alternative 1.
 
-              yyValue = new Action<Node>() {
-                public Node run(Node v$1) {
-                  return GNode.create("FunctionDeclarator", v$1, v$g$2);
-                }};
+          yyResult = pParameterTypeList(yyChoice1);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Node v$pt$3 = yyResult.semanticValue();
 
-              return yyResult.createValue(yyValue, yyError);
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue() &&
+                ((Node)yyResult.semanticValue()).getTokenText().equals(")")) {
+              final Node v$pt$2 = yyResult.semanticValue();
+
+              yyResult = pParameterContext(yyResult.index);
+              yyError  = yyResult.select(yyError);
+              if (yyResult.hasValue()) {
+                final Node v$g$2 = Formatting.round1(v$pt$1, v$pt$3, v$pt$2);
+
+                yyValue = new Action<Node>() {
+                  public Node run(Node v$1) {
+                    return GNode.create("FunctionDeclarator", v$1, v$g$2);
+                  }};
+
+                return yyResult.createValue(yyValue, yyError);
+              }
+            } else {
+              yyError = yyError.select("')' expected", yyBase);
             }
-          } else {
-            yyError = yyError.select("')' expected", yyBase);
           }
-        }
 
-        // Nested alternative 2.
+          // Nested alternative 2.
 
-        yyOption1  = yyChoice1;
-        yyOpValue1 = null;
+          yyOption1  = yyChoice1;
+          yyOpValue1 = null;
 
-        yyResult = pIdentifierList(yyOption1);
-        yyError  = yyResult.select(yyError, yyOption1);
-        if (yyResult.hasValue()) {
-          final Node v$el$1 = yyResult.semanticValue();
+          yyResult = pIdentifierList(yyOption1);
+          yyError  = yyResult.select(yyError, yyOption1);
+          if (yyResult.hasValue()) {
+            final Node v$el$1 = yyResult.semanticValue();
 
-          yyOption1  = yyResult.index;
-          yyOpValue1 = v$el$1;
-        }
-        { // Start scope for v$pt$5.
-          final Node v$pt$5 = yyOpValue1;
+            yyOption1  = yyResult.index;
+            yyOpValue1 = v$el$1;
+          }
+          { // Start scope for v$pt$5.
+            final Node v$pt$5 = yyOpValue1;
 
-          yyBase   = yyOption1;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue() &&
-              ((Node)yyResult.semanticValue()).getTokenText().equals(")")) {
-            final Node v$pt$4 = yyResult.semanticValue();
+            yyBase   = yyOption1;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue() &&
+                ((Node)yyResult.semanticValue()).getTokenText().equals(")")) {
+              final Node v$pt$4 = yyResult.semanticValue();
 
-            yyResult = pParameterContext(yyResult.index);
-            yyError  = yyResult.select(yyError);
-            if (yyResult.hasValue()) {
-              final Node v$g$3 = Formatting.round1(v$pt$1, v$pt$5, v$pt$4);
+              yyResult = pParameterContext(yyResult.index);
+              yyError  = yyResult.select(yyError);
+              if (yyResult.hasValue()) {
+                final Node v$g$3 = Formatting.round1(v$pt$1, v$pt$5, v$pt$4);
 
-              yyValue = new Action<Node>() {
-                public Node run(Node v$1) {
-                  return GNode.create("FunctionDeclarator", v$1, v$g$3);
-                }};
+                yyValue = new Action<Node>() {
+                  public Node run(Node v$1) {
+                    return GNode.create("FunctionDeclarator", v$1, v$g$3);
+                  }};
 
-              return yyResult.createValue(yyValue, yyError);
+                return yyResult.createValue(yyValue, yyError);
+              }
+            } else {
+              yyError = yyError.select("')' expected", yyBase);
             }
-          } else {
-            yyError = yyError.select("')' expected", yyBase);
-          }
-        } // End scope for v$pt$5.
+          } // End scope for v$pt$5.
+        }
       }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("[")) {
-      final Node v$pt$6 = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("[")) {
+        final Node v$pt$6 = yyResult.semanticValue();
 
-      yyResult = pArrayQualifierList(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$pt$7 = yyResult.semanticValue();
-        final Node v$g$4 = Formatting.before1(v$pt$6, v$pt$7);
+        yyResult = pArrayQualifierList(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$pt$7 = yyResult.semanticValue();
+          final Node v$g$4 = Formatting.before1(v$pt$6, v$pt$7);
 
-        final int yyChoice1 = yyResult.index;
+          final int yyChoice1 = yyResult.index;
 
-        // Nested alternative 1.
+          // Nested alternative 1.
 
-        yyOption1  = yyChoice1;
-        yyOpValue1 = null;
+          yyOption1  = yyChoice1;
+          yyOpValue1 = null;
 
-        yyResult = pAssignmentExpression(yyOption1);
-        yyError  = yyResult.select(yyError, yyOption1);
-        if (yyResult.hasValue()) {
-          final Node v$el$2 = yyResult.semanticValue();
+          yyResult = pAssignmentExpression(yyOption1);
+          yyError  = yyResult.select(yyError, yyOption1);
+          if (yyResult.hasValue()) {
+            final Node v$el$2 = yyResult.semanticValue();
 
-          yyOption1  = yyResult.index;
-          yyOpValue1 = v$el$2;
-        }
-        { // Start scope for v$pt$9.
-          final Node v$pt$9 = yyOpValue1;
+            yyOption1  = yyResult.index;
+            yyOpValue1 = v$el$2;
+          }
+          { // Start scope for v$pt$9.
+            final Node v$pt$9 = yyOpValue1;
 
-          yyBase   = yyOption1;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue() &&
-              ((Node)yyResult.semanticValue()).getTokenText().equals("]")) {
-            final Node v$pt$8 = yyResult.semanticValue();
-            final Node v$g$5 = Formatting.after1(v$pt$9, v$pt$8);
+            yyBase   = yyOption1;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue() &&
+                ((Node)yyResult.semanticValue()).getTokenText().equals("]")) {
+              final Node v$pt$8 = yyResult.semanticValue();
+              final Node v$g$5 = Formatting.after1(v$pt$9, v$pt$8);
 
-            yyValue = new Action<Node>() {
-              public Node run(Node v$1) {
-                return GNode.create("ArrayDeclarator", v$1, v$g$4, v$g$5);
-              }};
+              yyValue = new Action<Node>() {
+                public Node run(Node v$1) {
+                  return GNode.create("ArrayDeclarator", v$1, v$g$4, v$g$5);
+                }};
 
-            return yyResult.createValue(yyValue, yyError);
-          } else {
-            yyError = yyError.select("']' expected", yyBase);
-          }
-        } // End scope for v$pt$9.
+              return yyResult.createValue(yyValue, yyError);
+            } else {
+              yyError = yyError.select("']' expected", yyBase);
+            }
+          } // End scope for v$pt$9.
 
-        // Nested alternative 2.
+          // Nested alternative 2.
 
-        yyResult = pVariableLength(yyChoice1);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$pt$11 = yyResult.semanticValue();
+          yyResult = pVariableLength(yyChoice1);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Node v$pt$11 = yyResult.semanticValue();
 
-          yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue() &&
-              ((Node)yyResult.semanticValue()).getTokenText().equals("]")) {
-            final Node v$pt$10 = yyResult.semanticValue();
-            final Node v$g$6 = Formatting.after1(v$pt$11, v$pt$10);
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue() &&
+                ((Node)yyResult.semanticValue()).getTokenText().equals("]")) {
+              final Node v$pt$10 = yyResult.semanticValue();
+              final Node v$g$6 = Formatting.after1(v$pt$11, v$pt$10);
 
-            yyValue = new Action<Node>() {
-              public Node run(Node v$1) {
-                return GNode.create("ArrayDeclarator", v$1, v$g$4, v$g$6);
-              }};
+              yyValue = new Action<Node>() {
+                public Node run(Node v$1) {
+                  return GNode.create("ArrayDeclarator", v$1, v$g$4, v$g$6);
+                }};
 
-            return yyResult.createValue(yyValue, yyError);
-          } else {
-            yyError = yyError.select("']' expected", yyBase);
+              return yyResult.createValue(yyValue, yyError);
+            } else {
+              yyError = yyError.select("']' expected", yyBase);
+            }
           }
         }
       }
@@ -3227,10 +4236,15 @@ public final class CReader extends ParserBase {
    */
   private Result pVariableLength(final int yyStart) throws IOException {
     CReaderColumn yyColumn = (CReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fVariableLength) 
-      yyColumn.chunk1.fVariableLength = pVariableLength$1(yyStart);
-    return yyColumn.chunk1.fVariableLength;
+    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
+    if (null == yyColumn.chunk4.fVariableLength) {
+      yyColumn.chunk4.fVariableLength = pVariableLength$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(5, yyColumn.chunk4.fVariableLength);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(5, yyColumn.chunk4.fVariableLength);
+    }
+    return yyColumn.chunk4.fVariableLength;
   }
 
   /** Actually parse xtc.lang.C.VariableLength. */
@@ -3247,7 +4261,7 @@ public final class CReader extends ParserBase {
       final Node v$pt$1 = yyResult.semanticValue();
 
       yyValue = GNode.create("VariableLength", false);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
       yyValue = Formatting.after1(yyValue, v$pt$1);
 
       return yyResult.createValue(yyValue, yyError);
@@ -3282,7 +4296,7 @@ public final class CReader extends ParserBase {
       yyState.bind(toText(id));
 
       yyValue = GNode.create("SimpleDeclarator", id);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -3302,10 +4316,15 @@ public final class CReader extends ParserBase {
    */
   private Result pParameterTypeList(final int yyStart) throws IOException {
     CReaderColumn yyColumn = (CReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fParameterTypeList) 
-      yyColumn.chunk1.fParameterTypeList = pParameterTypeList$1(yyStart);
-    return yyColumn.chunk1.fParameterTypeList;
+    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
+    if (null == yyColumn.chunk2.fParameterTypeList) {
+      yyColumn.chunk2.fParameterTypeList = pParameterTypeList$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(6, yyColumn.chunk2.fParameterTypeList);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(6, yyColumn.chunk2.fParameterTypeList);
+    }
+    return yyColumn.chunk2.fParameterTypeList;
   }
 
   /** Actually parse xtc.lang.C.ParameterTypeList. */
@@ -3352,7 +4371,7 @@ public final class CReader extends ParserBase {
         final Node v$g$2 = yyOpValue1;
 
         yyValue = GNode.create("ParameterTypeList", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyOption1, yyError);
       } // End scope for v$g$2.
@@ -3375,7 +4394,8 @@ public final class CReader extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -3387,7 +4407,8 @@ public final class CReader extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyBase   = yyRepetition1;
@@ -3403,7 +4424,7 @@ public final class CReader extends ParserBase {
             final Node v$el$1 = Formatting.before1(v$pt$1, v$pt$2);
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
         } else {
@@ -3412,10 +4433,11 @@ public final class CReader extends ParserBase {
         break;
       }
       { // Start scope for v$g$2.
-        final Pair<Node> v$g$2 = yyRepValue1.reverse();
+        final int v$g$2 = yyRepStart1;
+        final int v$g$2$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("ParameterList", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("ParameterList", v$g$1, v$g$2, v$g$2$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$2.
@@ -3475,7 +4497,7 @@ public final class CReader extends ParserBase {
           final Node v$g$3 = yyOpValue1;
 
           yyValue = GNode.create("ParameterDeclaration", v$g$1, v$g$2, v$g$3);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           // Commit the state modification.
           yyState.commit();
@@ -3514,7 +4536,7 @@ public final class CReader extends ParserBase {
           final Node v$g$5 = yyOpValue1;
 
           yyValue = GNode.create("ParameterDeclaration", v$g$1, v$g$4, v$g$5);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           // Commit the state modification.
           yyState.commit();
@@ -3571,7 +4593,7 @@ public final class CReader extends ParserBase {
         final Node v$g$2 = yyResult.semanticValue();
 
         yyValue = GNode.create("AttributedAbstractDeclarator", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -3592,10 +4614,15 @@ public final class CReader extends ParserBase {
    */
   private Result pAbstractDeclarator(final int yyStart) throws IOException {
     CReaderColumn yyColumn = (CReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fAbstractDeclarator) 
-      yyColumn.chunk1.fAbstractDeclarator = pAbstractDeclarator$1(yyStart);
-    return yyColumn.chunk1.fAbstractDeclarator;
+    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
+    if (null == yyColumn.chunk2.fAbstractDeclarator) {
+      yyColumn.chunk2.fAbstractDeclarator = pAbstractDeclarator$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(7, yyColumn.chunk2.fAbstractDeclarator);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(7, yyColumn.chunk2.fAbstractDeclarator);
+    }
+    return yyColumn.chunk2.fAbstractDeclarator;
   }
 
   /** Actually parse xtc.lang.C.AbstractDeclarator. */
@@ -3630,7 +4657,7 @@ public final class CReader extends ParserBase {
         if ((null != p) || (null != d)) {
 
           yyValue = GNode.create("AbstractDeclarator", p, d);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -3753,113 +4780,150 @@ public final class CReader extends ParserBase {
     Action<Node> yyValue;
     ParseError   yyError = ParseError.DUMMY;
 
-    // Alternative 1.
-
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("[")) {
-      final Node v$g$2 = yyResult.semanticValue();
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
 
-      final int yyChoice1 = yyResult.index;
+    default:
+      yyFirst = 0;
+    }
 
-      // Nested alternative 1.
+    // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-      yyOption1  = yyChoice1;
-      yyOpValue1 = null;
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("[")) {
+        final Node v$g$2 = yyResult.semanticValue();
 
-      yyResult = pAssignmentExpression(yyOption1);
-      yyError  = yyResult.select(yyError, yyOption1);
-      if (yyResult.hasValue()) {
-        final Node v$el$1 = yyResult.semanticValue();
+        final int yyChoice1 = yyResult.index;
 
-        yyOption1  = yyResult.index;
-        yyOpValue1 = v$el$1;
-      }
-      { // Start scope for v$pt$2.
-        final Node v$pt$2 = yyOpValue1;
+        // Nested alternative 1.
 
-        yyBase   = yyOption1;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue() &&
-            ((Node)yyResult.semanticValue()).getTokenText().equals("]")) {
-          final Node v$pt$1 = yyResult.semanticValue();
-          final Node v$g$3 = Formatting.after1(v$pt$2, v$pt$1);
+        yyOption1  = yyChoice1;
+        yyOpValue1 = null;
 
-          yyValue = new Action<Node>() {
-            public Node run(Node v$1) {
-              return GNode.create("DirectAbstractDeclarator", v$1, v$g$2, v$g$3);
-            }};
+        yyResult = pAssignmentExpression(yyOption1);
+        yyError  = yyResult.select(yyError, yyOption1);
+        if (yyResult.hasValue()) {
+          final Node v$el$1 = yyResult.semanticValue();
 
-          return yyResult.createValue(yyValue, yyError);
-        } else {
-          yyError = yyError.select("']' expected", yyBase);
+          yyOption1  = yyResult.index;
+          yyOpValue1 = v$el$1;
         }
-      } // End scope for v$pt$2.
+        { // Start scope for v$pt$2.
+          final Node v$pt$2 = yyOpValue1;
 
-      // Nested alternative 2.
+          yyBase   = yyOption1;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue() &&
+              ((Node)yyResult.semanticValue()).getTokenText().equals("]")) {
+            final Node v$pt$1 = yyResult.semanticValue();
+            final Node v$g$3 = Formatting.after1(v$pt$2, v$pt$1);
 
-      yyResult = pVariableLength(yyChoice1);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$pt$4 = yyResult.semanticValue();
+            yyValue = new Action<Node>() {
+              public Node run(Node v$1) {
+                return GNode.create("DirectAbstractDeclarator", v$1, v$g$2, v$g$3);
+              }};
 
-        yyBase   = yyResult.index;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue() &&
-            ((Node)yyResult.semanticValue()).getTokenText().equals("]")) {
-          final Node v$pt$3 = yyResult.semanticValue();
-          final Node v$g$4 = Formatting.after1(v$pt$4, v$pt$3);
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("']' expected", yyBase);
+          }
+        } // End scope for v$pt$2.
 
-          yyValue = new Action<Node>() {
-            public Node run(Node v$1) {
-              return GNode.create("DirectAbstractDeclarator", v$1, v$g$2, v$g$4);
-            }};
+        // Nested alternative 2.
 
-          return yyResult.createValue(yyValue, yyError);
-        } else {
-          yyError = yyError.select("']' expected", yyBase);
+        yyResult = pVariableLength(yyChoice1);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$pt$4 = yyResult.semanticValue();
+
+          yyBase   = yyResult.index;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue() &&
+              ((Node)yyResult.semanticValue()).getTokenText().equals("]")) {
+            final Node v$pt$3 = yyResult.semanticValue();
+            final Node v$g$4 = Formatting.after1(v$pt$4, v$pt$3);
+
+            yyValue = new Action<Node>() {
+              public Node run(Node v$1) {
+                return GNode.create("DirectAbstractDeclarator", v$1, v$g$2, v$g$4);
+              }};
+
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("']' expected", yyBase);
+          }
         }
       }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("(")) {
-      final Node v$g$5 = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("(")) {
+        final Node v$g$5 = yyResult.semanticValue();
 
-      yyOption1  = yyResult.index;
-      yyOpValue1 = null;
+        yyOption1  = yyResult.index;
+        yyOpValue1 = null;
 
-      yyResult = pParameterTypeList(yyOption1);
-      yyError  = yyResult.select(yyError, yyOption1);
-      if (yyResult.hasValue()) {
-        final Node v$el$2 = yyResult.semanticValue();
+        yyResult = pParameterTypeList(yyOption1);
+        yyError  = yyResult.select(yyError, yyOption1);
+        if (yyResult.hasValue()) {
+          final Node v$el$2 = yyResult.semanticValue();
 
-        yyOption1  = yyResult.index;
-        yyOpValue1 = v$el$2;
-      }
-      { // Start scope for v$pt$6.
-        final Node v$pt$6 = yyOpValue1;
+          yyOption1  = yyResult.index;
+          yyOpValue1 = v$el$2;
+        }
+        { // Start scope for v$pt$6.
+          final Node v$pt$6 = yyOpValue1;
 
-        yyBase   = yyOption1;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue() &&
-            ((Node)yyResult.semanticValue()).getTokenText().equals(")")) {
-          final Node v$pt$5 = yyResult.semanticValue();
-          final Node v$g$6 = Formatting.after1(v$pt$6, v$pt$5);
+          yyBase   = yyOption1;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue() &&
+              ((Node)yyResult.semanticValue()).getTokenText().equals(")")) {
+            final Node v$pt$5 = yyResult.semanticValue();
+            final Node v$g$6 = Formatting.after1(v$pt$6, v$pt$5);
 
-          yyValue = new Action<Node>() {
-            public Node run(Node v$1) {
-              return GNode.create("DirectAbstractDeclarator", v$1, v$g$5, v$g$6);
-            }};
+            yyValue = new Action<Node>() {
+              public Node run(Node v$1) {
+                return GNode.create("DirectAbstractDeclarator", v$1, v$g$5, v$g$6);
+              }};
 
-          return yyResult.createValue(yyValue, yyError);
-        } else {
-          yyError = yyError.select("')' expected", yyBase);
-        }
-      } // End scope for v$pt$6.
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("')' expected", yyBase);
+          }
+        } // End scope for v$pt$6.
+      }
     }
 
     // Done.
@@ -3880,7 +4944,8 @@ public final class CReader extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -3894,7 +4959,8 @@ public final class CReader extends ParserBase {
       yyState.bind(toText(id1));
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyBase   = yyRepetition1;
@@ -3912,7 +4978,7 @@ public final class CReader extends ParserBase {
             final Node v$el$1 = Formatting.before1(v$pt$1, id2);
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
         } else {
@@ -3921,10 +4987,11 @@ public final class CReader extends ParserBase {
         break;
       }
       { // Start scope for v$g$1.
-        final Pair<Node> v$g$1 = yyRepValue1.reverse();
+        final int v$g$1 = yyRepStart1;
+        final int v$g$1$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("IdentifierList", id1, v$g$1);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("IdentifierList", id1, v$g$1, v$g$1$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$1.
@@ -3946,14 +5013,16 @@ public final class CReader extends ParserBase {
   private Result pArrayQualifierList(final int yyStart) throws IOException {
     Result     yyResult;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
     // Alternative 1.
 
     yyRepetition1 = yyStart;
-    yyRepValue1   = Pair.empty();
+    yyRepStart1   = bufferStart();
+    yyRepEnd1   = yyRepStart1;
     while (true) {
 
       yyResult = pArrayQualifierList$$Choice1(yyRepetition1);
@@ -3962,16 +5031,17 @@ public final class CReader extends ParserBase {
         final Node v$el$1 = yyResult.semanticValue();
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+        yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
         continue;
       }
       break;
     }
     { // Start scope for v$g$1.
-      final Pair<Node> v$g$1 = yyRepValue1.reverse();
+      final int v$g$1 = yyRepStart1;
+      final int v$g$1$end = yyRepEnd1;
 
-      yyValue = GNode.createFromPair("ArrayQualifierList", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      yyValue = bufferedNode("ArrayQualifierList", v$g$1, v$g$1$end);
+      locate(yyValue, yyStart);
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
     } // End scope for v$g$1.
@@ -3993,145 +5063,229 @@ public final class CReader extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x7ff;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("static")) {
-      final Node v$pt$1 = yyResult.semanticValue();
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("static")) {
+        final Node v$pt$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("StaticSpecifier", false);
-      yyValue.setLocation(location(yyStart));
-      yyValue = Formatting.after1(yyValue, v$pt$1);
+        yyValue = GNode.create("StaticSpecifier", false);
+        locate(yyValue, yyStart);
+        yyValue = Formatting.after1(yyValue, v$pt$1);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("volatile")) {
-      final Node v$g$1 = yyResult.semanticValue();
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("volatile")) {
+        final Node v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("VolatileQualifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("VolatileQualifier", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("__volatile")) {
-      final Node v$g$2 = yyResult.semanticValue();
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("__volatile")) {
+        final Node v$g$2 = yyResult.semanticValue();
 
-      yyValue = GNode.create("VolatileQualifier", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("VolatileQualifier", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 4.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("__volatile__")) {
-      final Node v$g$3 = yyResult.semanticValue();
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("__volatile__")) {
+        final Node v$g$3 = yyResult.semanticValue();
 
-      yyValue = GNode.create("VolatileQualifier", v$g$3);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("VolatileQualifier", v$g$3);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 5.
+    if (0 != (yyFirst & 0x10)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("restrict")) {
-      final Node v$g$1 = yyResult.semanticValue();
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("restrict")) {
+        final Node v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("RestrictQualifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("RestrictQualifier", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 6.
+    if (0 != (yyFirst & 0x20)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("__restrict")) {
-      final Node v$g$2 = yyResult.semanticValue();
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("__restrict")) {
+        final Node v$g$2 = yyResult.semanticValue();
 
-      yyValue = GNode.create("RestrictQualifier", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("RestrictQualifier", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 7.
+    if (0 != (yyFirst & 0x40)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("__restrict__")) {
-      final Node v$g$3 = yyResult.semanticValue();
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("__restrict__")) {
+        final Node v$g$3 = yyResult.semanticValue();
 
-      yyValue = GNode.create("RestrictQualifier", v$g$3);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("RestrictQualifier", v$g$3);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 8.
+    if (0 != (yyFirst & 0x80)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("const")) {
-      final Node v$g$1 = yyResult.semanticValue();
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("const")) {
+        final Node v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("ConstantQualifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("ConstantQualifier", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 9.
+    if (0 != (yyFirst & 0x100)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("__const")) {
-      final Node v$g$2 = yyResult.semanticValue();
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("__const")) {
+        final Node v$g$2 = yyResult.semanticValue();
 
-      yyValue = GNode.create("ConstantQualifier", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("ConstantQualifier", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 10.
+    if (0 != (yyFirst & 0x200)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("__const__")) {
-      final Node v$g$3 = yyResult.semanticValue();
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("__const__")) {
+        final Node v$g$3 = yyResult.semanticValue();
 
-      yyValue = GNode.create("ConstantQualifier", v$g$3);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("ConstantQualifier", v$g$3);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 11.
+    if ((0 != (yyFirst & 0x400)) || (yyError.index < yyStart)) {
 
-    yyResult = pAttributeSpecifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pAttributeSpecifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -4155,58 +5309,128 @@ public final class CReader extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0xf;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("_Complex")) {
-      final Node v$g$1 = yyResult.semanticValue();
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("_Complex")) {
+        final Node v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("Complex", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("Complex", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("__complex__")) {
-      final Node v$g$2 = yyResult.semanticValue();
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("__complex__")) {
+        final Node v$g$2 = yyResult.semanticValue();
 
-      yyValue = GNode.create("Complex", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("Complex", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("double")) {
-      final Node v$pt$1 = yyResult.semanticValue();
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("double")) {
+        final Node v$pt$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("Double", false);
-      yyValue.setLocation(location(yyStart));
-      yyValue = Formatting.after1(yyValue, v$pt$1);
+        yyValue = GNode.create("Double", false);
+        locate(yyValue, yyStart);
+        yyValue = Formatting.after1(yyValue, v$pt$1);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 4.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("float")) {
-      final Node v$pt$1 = yyResult.semanticValue();
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("float")) {
+        final Node v$pt$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("Float", false);
-      yyValue.setLocation(location(yyStart));
-      yyValue = Formatting.after1(yyValue, v$pt$1);
+        yyValue = GNode.create("Float", false);
+        locate(yyValue, yyStart);
+        yyValue = Formatting.after1(yyValue, v$pt$1);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -4228,127 +5452,207 @@ public final class CReader extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x1ff;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("long")) {
-      final Node v$pt$1 = yyResult.semanticValue();
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("long")) {
+        final Node v$pt$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("Long", false);
-      yyValue.setLocation(location(yyStart));
-      yyValue = Formatting.after1(yyValue, v$pt$1);
+        yyValue = GNode.create("Long", false);
+        locate(yyValue, yyStart);
+        yyValue = Formatting.after1(yyValue, v$pt$1);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("int")) {
-      final Node v$pt$1 = yyResult.semanticValue();
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("int")) {
+        final Node v$pt$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("Int", false);
-      yyValue.setLocation(location(yyStart));
-      yyValue = Formatting.after1(yyValue, v$pt$1);
+        yyValue = GNode.create("Int", false);
+        locate(yyValue, yyStart);
+        yyValue = Formatting.after1(yyValue, v$pt$1);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("short")) {
-      final Node v$pt$1 = yyResult.semanticValue();
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("short")) {
+        final Node v$pt$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("Short", false);
-      yyValue.setLocation(location(yyStart));
-      yyValue = Formatting.after1(yyValue, v$pt$1);
+        yyValue = GNode.create("Short", false);
+        locate(yyValue, yyStart);
+        yyValue = Formatting.after1(yyValue, v$pt$1);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 4.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("char")) {
-      final Node v$pt$1 = yyResult.semanticValue();
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("char")) {
+        final Node v$pt$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("Char", false);
-      yyValue.setLocation(location(yyStart));
-      yyValue = Formatting.after1(yyValue, v$pt$1);
+        yyValue = GNode.create("Char", false);
+        locate(yyValue, yyStart);
+        yyValue = Formatting.after1(yyValue, v$pt$1);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 5.
+    if (0 != (yyFirst & 0x10)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("_Bool")) {
-      final Node v$pt$1 = yyResult.semanticValue();
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("_Bool")) {
+        final Node v$pt$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("Bool", false);
-      yyValue.setLocation(location(yyStart));
-      yyValue = Formatting.after1(yyValue, v$pt$1);
+        yyValue = GNode.create("Bool", false);
+        locate(yyValue, yyStart);
+        yyValue = Formatting.after1(yyValue, v$pt$1);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 6.
+    if (0 != (yyFirst & 0x20)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("unsigned")) {
-      final Node v$pt$1 = yyResult.semanticValue();
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("unsigned")) {
+        final Node v$pt$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("Unsigned", false);
-      yyValue.setLocation(location(yyStart));
-      yyValue = Formatting.after1(yyValue, v$pt$1);
+        yyValue = GNode.create("Unsigned", false);
+        locate(yyValue, yyStart);
+        yyValue = Formatting.after1(yyValue, v$pt$1);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 7.
+    if (0 != (yyFirst & 0x40)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("signed")) {
-      final Node v$g$1 = yyResult.semanticValue();
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("signed")) {
+        final Node v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("Signed", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("Signed", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 8.
+    if (0 != (yyFirst & 0x80)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("__signed")) {
-      final Node v$g$2 = yyResult.semanticValue();
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("__signed")) {
+        final Node v$g$2 = yyResult.semanticValue();
 
-      yyValue = GNode.create("Signed", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("Signed", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 9.
+    if (0 != (yyFirst & 0x100)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("__signed__")) {
-      final Node v$g$3 = yyResult.semanticValue();
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("__signed__")) {
+        final Node v$g$3 = yyResult.semanticValue();
 
-      yyValue = GNode.create("Signed", v$g$3);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("Signed", v$g$3);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -4370,43 +5674,111 @@ public final class CReader extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x7;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("typeof")) {
-      final Node v$g$1 = yyResult.semanticValue();
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("typeof")) {
+        final Node v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("TypeofKeyword", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("TypeofKeyword", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("__typeof")) {
-      final Node v$g$2 = yyResult.semanticValue();
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("__typeof")) {
+        final Node v$g$2 = yyResult.semanticValue();
 
-      yyValue = GNode.create("TypeofKeyword", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("TypeofKeyword", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("__typeof__")) {
-      final Node v$g$3 = yyResult.semanticValue();
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("__typeof__")) {
+        final Node v$g$3 = yyResult.semanticValue();
 
-      yyValue = GNode.create("TypeofKeyword", v$g$3);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("TypeofKeyword", v$g$3);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -4504,7 +5876,8 @@ public final class CReader extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -4516,7 +5889,8 @@ public final class CReader extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyBase   = yyRepetition1;
@@ -4532,7 +5906,7 @@ public final class CReader extends ParserBase {
             final Node v$el$1 = Formatting.before1(v$pt$1, v$pt$2);
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
         } else {
@@ -4541,10 +5915,11 @@ public final class CReader extends ParserBase {
         break;
       }
       { // Start scope for v$g$2.
-        final Pair<Node> v$g$2 = yyRepValue1.reverse();
+        final int v$g$2 = yyRepStart1;
+        final int v$g$2$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("InitializerList", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("InitializerList", v$g$1, v$g$2, v$g$2$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$2.
@@ -4555,7 +5930,7 @@ public final class CReader extends ParserBase {
     if (GCC) {
 
       yyValue = GNode.create("InitializerList", false);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return new SemanticValue(yyValue, yyStart, yyError);
     }
@@ -4603,7 +5978,7 @@ public final class CReader extends ParserBase {
         final Node v$g$2 = yyResult.semanticValue();
 
         yyValue = GNode.create("InitializerListEntry", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -4693,7 +6068,8 @@ public final class CReader extends ParserBase {
     Result     yyResult;
     int        yyRepetition1;
     boolean    yyRepeated1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -4701,7 +6077,8 @@ public final class CReader extends ParserBase {
 
     yyRepetition1 = yyStart;
     yyRepeated1   = false;
-    yyRepValue1   = Pair.empty();
+    yyRepStart1   = bufferStart();
+    yyRepEnd1   = yyRepStart1;
     while (true) {
 
       yyResult = pDesignator(yyRepetition1);
@@ -4711,17 +6088,18 @@ public final class CReader extends ParserBase {
 
         yyRepetition1 = yyResult.index;
         yyRepeated1   = true;
-        yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+        yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
         continue;
       }
       break;
     }
 
     if (yyRepeated1) {
-      final Pair<Node> v$g$1 = yyRepValue1.reverse();
+      final int v$g$1 = yyRepStart1;
+      final int v$g$1$end = yyRepEnd1;
 
-      yyValue = GNode.createFromPair("Designation", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      yyValue = bufferedNode("Designation", v$g$1, v$g$1$end);
+      locate(yyValue, yyStart);
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
     }
@@ -4745,31 +6123,66 @@ public final class CReader extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Array>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("[")) {
-      final Node v$g$1 = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("[")) {
+        final Node v$g$1 = yyResult.semanticValue();
 
-      yyResult = pConditionalExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$pt$2 = yyResult.semanticValue();
+        yyResult = pConditionalExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$pt$2 = yyResult.semanticValue();
 
-        yyBase   = yyResult.index;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue() &&
-            ((Node)yyResult.semanticValue()).getTokenText().equals("]")) {
-          final Node v$pt$1 = yyResult.semanticValue();
-          final Node v$g$2 = Formatting.after1(v$pt$2, v$pt$1);
+          yyBase   = yyResult.index;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue() &&
+              ((Node)yyResult.semanticValue()).getTokenText().equals("]")) {
+            final Node v$pt$1 = yyResult.semanticValue();
+            final Node v$g$2 = Formatting.after1(v$pt$2, v$pt$1);
 
-          yyValue = GNode.create("Designator", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+            yyValue = GNode.create("Designator", v$g$1, v$g$2);
+            locate(yyValue, yyStart);
 
-          return yyResult.createValue(yyValue, yyError);
-        } else {
-          yyError = yyError.select("']' expected", yyBase);
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("']' expected", yyBase);
+          }
         }
       }
     }
@@ -4808,7 +6221,7 @@ public final class CReader extends ParserBase {
                 final Node v$g$5 = Formatting.after1(v$pt$6, v$pt$5);
 
                 yyValue = GNode.create("Designator", v$g$3, v$g$4, v$g$5);
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return yyResult.createValue(yyValue, yyError);
               } else {
@@ -4823,21 +6236,23 @@ public final class CReader extends ParserBase {
     }
 
     // Alternative <Structure>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals(".")) {
-      final Node v$g$6 = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals(".")) {
+        final Node v$g$6 = yyResult.semanticValue();
 
-      yyResult = pPrimaryIdentifier(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$7 = yyResult.semanticValue();
+        yyResult = pPrimaryIdentifier(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$7 = yyResult.semanticValue();
 
-        yyValue = GNode.create("Designator", v$g$6, v$g$7);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("Designator", v$g$6, v$g$7);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
@@ -4886,7 +6301,7 @@ public final class CReader extends ParserBase {
           final Node v$pt$1 = yyResult.semanticValue();
 
           yyValue = GNode.create("ObsoleteArrayDesignation", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
           yyValue = Formatting.after1(yyValue, v$pt$1);
 
           return yyResult.createValue(yyValue, yyError);
@@ -4915,7 +6330,7 @@ public final class CReader extends ParserBase {
               final Node v$g$3 = Formatting.round1(v$pt$2, v$pt$4, v$pt$3);
 
               yyValue = GNode.create("ObsoleteArrayDesignation", v$g$1, v$g$2, v$g$3);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             } else {
@@ -4965,7 +6380,7 @@ public final class CReader extends ParserBase {
         final Node v$g$1 = Formatting.after1(v$pt$2, v$pt$1);
 
         yyValue = GNode.create("ObsoleteFieldDesignation", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       } else {
@@ -4988,10 +6403,15 @@ public final class CReader extends ParserBase {
    */
   private Result pTypeName(final int yyStart) throws IOException {
     CReaderColumn yyColumn = (CReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fTypeName) 
-      yyColumn.chunk1.fTypeName = pTypeName$1(yyStart);
-    return yyColumn.chunk1.fTypeName;
+    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
+    if (null == yyColumn.chunk2.fTypeName) {
+      yyColumn.chunk2.fTypeName = pTypeName$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(8, yyColumn.chunk2.fTypeName);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(8, yyColumn.chunk2.fTypeName);
+    }
+    return yyColumn.chunk2.fTypeName;
   }
 
   /** Actually parse xtc.lang.C.TypeName. */
@@ -5027,7 +6447,7 @@ public final class CReader extends ParserBase {
         final Node v$g$2 = yyOpValue1;
 
         yyValue = GNode.create("TypeName", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         // Commit the state modification.
         yyState.commit();
@@ -5056,10 +6476,16 @@ public final class CReader extends ParserBase {
     throws IOException {
 
     CReaderColumn yyColumn = (CReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fAttributeSpecifierList) 
-      yyColumn.chunk1.fAttributeSpecifierList = pAttributeSpecifierList$1(yyStart);
-    return yyColumn.chunk1.fAttributeSpecifierList;
+    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
+    if (null == yyColumn.chunk2.fAttributeSpecifierList) {
+      yyColumn.chunk2.fAttributeSpecifierList = 
+        pAttributeSpecifierList$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(9, yyColumn.chunk2.fAttributeSpecifierList);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(9, yyColumn.chunk2.fAttributeSpecifierList);
+    }
+    return yyColumn.chunk2.fAttributeSpecifierList;
   }
 
   /** Actually parse xtc.lang.C.AttributeSpecifierList. */
@@ -5078,7 +6504,7 @@ public final class CReader extends ParserBase {
       final Pair<Node> v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.createFromPair("AttributeSpecifierList", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -5148,8 +6574,13 @@ public final class CReader extends ParserBase {
   private Result pAttributeSpecifier(final int yyStart) throws IOException {
     CReaderColumn yyColumn = (CReaderColumn)column(yyStart);
     if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fAttributeSpecifier) 
+    if (null == yyColumn.chunk2.fAttributeSpecifier) {
       yyColumn.chunk2.fAttributeSpecifier = pAttributeSpecifier$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(10, yyColumn.chunk2.fAttributeSpecifier);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(10, yyColumn.chunk2.fAttributeSpecifier);
+    }
     return yyColumn.chunk2.fAttributeSpecifier;
   }
 
@@ -5210,7 +6641,7 @@ public final class CReader extends ParserBase {
                   add(v$pt$1).add(v$pt$2).add(v$pt$3).addNode(v$pt$6).add(v$pt$4).add(v$pt$5);
 
                 yyValue = GNode.create("AttributeSpecifier", v$g$1);
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return yyResult.createValue(yyValue, yyError);
               } else {
@@ -5246,30 +6677,96 @@ public final class CReader extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("__attribute")) {
-      final Node v$g$1 = yyResult.semanticValue();
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("__attribute")) {
+        final Node v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("AttributeKeyword", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("AttributeKeyword", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("__attribute__")) {
-      final Node v$g$2 = yyResult.semanticValue();
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("__attribute__")) {
+        final Node v$g$2 = yyResult.semanticValue();
 
-      yyValue = GNode.create("AttributeKeyword", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("AttributeKeyword", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -5290,7 +6787,8 @@ public final class CReader extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -5302,7 +6800,8 @@ public final class CReader extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyBase   = yyRepetition1;
@@ -5318,7 +6817,7 @@ public final class CReader extends ParserBase {
             final Node v$el$1 = Formatting.before1(v$pt$1, v$pt$2);
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
         } else {
@@ -5327,10 +6826,11 @@ public final class CReader extends ParserBase {
         break;
       }
       { // Start scope for v$g$2.
-        final Pair<Node> v$g$2 = yyRepValue1.reverse();
+        final int v$g$2 = yyRepStart1;
+        final int v$g$2$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("AttributeList", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("AttributeList", v$g$1, v$g$2, v$g$2$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$2.
@@ -5409,7 +6909,7 @@ public final class CReader extends ParserBase {
         final Node v$g$2 = yyOpValue1;
 
         yyValue = GNode.create("AttributeListEntry", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyOption1, yyError);
       } // End scope for v$g$2.
@@ -5430,10 +6930,15 @@ public final class CReader extends ParserBase {
    */
   private Result pStatement(final int yyStart) throws IOException {
     CReaderColumn yyColumn = (CReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fStatement) 
-      yyColumn.chunk2.fStatement = pStatement$1(yyStart);
-    return yyColumn.chunk2.fStatement;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fStatement) {
+      yyColumn.chunk3.fStatement = pStatement$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(11, yyColumn.chunk3.fStatement);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(11, yyColumn.chunk3.fStatement);
+    }
+    return yyColumn.chunk3.fStatement;
   }
 
   /** Actually parse xtc.lang.C.Statement. */
@@ -5445,6 +6950,95 @@ public final class CReader extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x801;
+      break;
+
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x7fe;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
 
     yyResult = pCommaExpression(yyStart);
@@ -5460,7 +7054,7 @@ public final class CReader extends ParserBase {
         final Node v$g$1 = Formatting.after1(v$pt$2, v$pt$1);
 
         yyValue = GNode.create("ExpressionStatement", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       } else {
@@ -5469,341 +7063,353 @@ public final class CReader extends ParserBase {
     }
 
     // Alternative <Compound>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pCompoundStatement(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pCompoundStatement(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("if")) {
-      final Node v$pt$1 = yyResult.semanticValue();
-
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
+      yyResult = pKeyword(yyStart);
       if (yyResult.hasValue() &&
-          ((Node)yyResult.semanticValue()).getTokenText().equals("(")) {
-        final Node v$pt$2 = yyResult.semanticValue();
+          ((Node)yyResult.semanticValue()).getTokenText().equals("if")) {
+        final Node v$pt$1 = yyResult.semanticValue();
 
-        yyResult = pCommaExpression(yyResult.index);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$pt$4 = yyResult.semanticValue();
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue() &&
+            ((Node)yyResult.semanticValue()).getTokenText().equals("(")) {
+          final Node v$pt$2 = yyResult.semanticValue();
 
-          yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue() &&
-              ((Node)yyResult.semanticValue()).getTokenText().equals(")")) {
-            final Node v$pt$3 = yyResult.semanticValue();
-            final Node v$g$1 = Formatting.variable().
-              add(v$pt$1).add(v$pt$2).addNode(v$pt$4).add(v$pt$3);
+          yyResult = pCommaExpression(yyResult.index);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Node v$pt$4 = yyResult.semanticValue();
+
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue() &&
+                ((Node)yyResult.semanticValue()).getTokenText().equals(")")) {
+              final Node v$pt$3 = yyResult.semanticValue();
+              final Node v$g$1 = Formatting.variable().
+                add(v$pt$1).add(v$pt$2).addNode(v$pt$4).add(v$pt$3);
 
-            final int yyChoice1 = yyResult.index;
+              final int yyChoice1 = yyResult.index;
 
-            // Nested alternative 1.
+              // Nested alternative 1.
 
-            yyResult = pStatement(yyChoice1);
-            yyError  = yyResult.select(yyError);
-            if (yyResult.hasValue()) {
-              final Node v$pt$6 = yyResult.semanticValue();
+              yyResult = pStatement(yyChoice1);
+              yyError  = yyResult.select(yyError);
+              if (yyResult.hasValue()) {
+                final Node v$pt$6 = yyResult.semanticValue();
 
-              yyBase   = yyResult.index;
-              yyResult = pKeyword(yyBase);
-              if (yyResult.hasValue() &&
-                  ((Node)yyResult.semanticValue()).getTokenText().equals("else")) {
-                final Node v$pt$5 = yyResult.semanticValue();
-                final Node v$g$2 = Formatting.after1(v$pt$6, v$pt$5);
+                yyBase   = yyResult.index;
+                yyResult = pKeyword(yyBase);
+                if (yyResult.hasValue() &&
+                    ((Node)yyResult.semanticValue()).getTokenText().equals("else")) {
+                  final Node v$pt$5 = yyResult.semanticValue();
+                  final Node v$g$2 = Formatting.after1(v$pt$6, v$pt$5);
 
-                yyResult = pStatement(yyResult.index);
-                yyError  = yyResult.select(yyError);
-                if (yyResult.hasValue()) {
-                  final Node v$g$3 = yyResult.semanticValue();
+                  yyResult = pStatement(yyResult.index);
+                  yyError  = yyResult.select(yyError);
+                  if (yyResult.hasValue()) {
+                    final Node v$g$3 = yyResult.semanticValue();
 
-                  yyValue = GNode.create("IfElseStatement", v$g$1, v$g$2, v$g$3);
-                  yyValue.setLocation(location(yyStart));
+                    yyValue = GNode.create("IfElseStatement", v$g$1, v$g$2, v$g$3);
+                    locate(yyValue, yyStart);
 
-                  return yyResult.createValue(yyValue, yyError);
+                    return yyResult.createValue(yyValue, yyError);
+                  }
+                } else {
+                  yyError = yyError.select("'else' expected", yyBase);
                 }
-              } else {
-                yyError = yyError.select("'else' expected", yyBase);
               }
-            }
 
-            // Nested alternative 2.
+              // Nested alternative 2.
 
-            yyResult = pStatement(yyChoice1);
-            yyError  = yyResult.select(yyError);
-            if (yyResult.hasValue()) {
-              final Node v$g$2 = yyResult.semanticValue();
+              yyResult = pStatement(yyChoice1);
+              yyError  = yyResult.select(yyError);
+              if (yyResult.hasValue()) {
+                final Node v$g$2 = yyResult.semanticValue();
 
-              yyValue = GNode.create("IfStatement", v$g$1, v$g$2);
-              yyValue.setLocation(location(yyStart));
+                yyValue = GNode.create("IfStatement", v$g$1, v$g$2);
+                locate(yyValue, yyStart);
 
-              return yyResult.createValue(yyValue, yyError);
-            }
-          } else {
-            yyError = yyError.select("')' expected", yyBase);
+                return yyResult.createValue(yyValue, yyError);
+              }
+            } else {
+              yyError = yyError.select("')' expected", yyBase);
+            }
           }
+        } else {
+          yyError = yyError.select("'(' expected", yyBase);
         }
-      } else {
-        yyError = yyError.select("'(' expected", yyBase);
       }
     }
 
     // Alternative 4.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("while")) {
-      final Node v$pt$1 = yyResult.semanticValue();
-
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
+      yyResult = pKeyword(yyStart);
       if (yyResult.hasValue() &&
-          ((Node)yyResult.semanticValue()).getTokenText().equals("(")) {
-        final Node v$pt$2 = yyResult.semanticValue();
+          ((Node)yyResult.semanticValue()).getTokenText().equals("while")) {
+        final Node v$pt$1 = yyResult.semanticValue();
 
-        yyResult = pCommaExpression(yyResult.index);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$pt$4 = yyResult.semanticValue();
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue() &&
+            ((Node)yyResult.semanticValue()).getTokenText().equals("(")) {
+          final Node v$pt$2 = yyResult.semanticValue();
 
-          yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue() &&
-              ((Node)yyResult.semanticValue()).getTokenText().equals(")")) {
-            final Node v$pt$3 = yyResult.semanticValue();
-            final Node v$g$1 = Formatting.variable().
-              add(v$pt$1).add(v$pt$2).addNode(v$pt$4).add(v$pt$3);
+          yyResult = pCommaExpression(yyResult.index);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Node v$pt$4 = yyResult.semanticValue();
 
-            yyResult = pStatement(yyResult.index);
-            yyError  = yyResult.select(yyError);
-            if (yyResult.hasValue()) {
-              final Node v$g$2 = yyResult.semanticValue();
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue() &&
+                ((Node)yyResult.semanticValue()).getTokenText().equals(")")) {
+              final Node v$pt$3 = yyResult.semanticValue();
+              final Node v$g$1 = Formatting.variable().
+                add(v$pt$1).add(v$pt$2).addNode(v$pt$4).add(v$pt$3);
 
-              yyValue = GNode.create("WhileStatement", v$g$1, v$g$2);
-              yyValue.setLocation(location(yyStart));
+              yyResult = pStatement(yyResult.index);
+              yyError  = yyResult.select(yyError);
+              if (yyResult.hasValue()) {
+                final Node v$g$2 = yyResult.semanticValue();
 
-              return yyResult.createValue(yyValue, yyError);
+                yyValue = GNode.create("WhileStatement", v$g$1, v$g$2);
+                locate(yyValue, yyStart);
+
+                return yyResult.createValue(yyValue, yyError);
+              }
+            } else {
+              yyError = yyError.select("')' expected", yyBase);
             }
-          } else {
-            yyError = yyError.select("')' expected", yyBase);
           }
+        } else {
+          yyError = yyError.select("'(' expected", yyBase);
         }
-      } else {
-        yyError = yyError.select("'(' expected", yyBase);
       }
     }
 
     // Alternative 5.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("do")) {
-      final Node v$pt$1 = yyResult.semanticValue();
-
-      yyResult = pStatement(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$pt$4 = yyResult.semanticValue();
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("do")) {
+        final Node v$pt$1 = yyResult.semanticValue();
 
-        yyBase   = yyResult.index;
-        yyResult = pKeyword(yyBase);
-        if (yyResult.hasValue() &&
-            ((Node)yyResult.semanticValue()).getTokenText().equals("while")) {
-          final Node v$pt$2 = yyResult.semanticValue();
+        yyResult = pStatement(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$pt$4 = yyResult.semanticValue();
 
           yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
+          yyResult = pKeyword(yyBase);
           if (yyResult.hasValue() &&
-              ((Node)yyResult.semanticValue()).getTokenText().equals("(")) {
-            final Node v$pt$3 = yyResult.semanticValue();
-            final Node v$g$1 = Formatting.variable().
-              add(v$pt$1).addNode(v$pt$4).add(v$pt$2).add(v$pt$3);
+              ((Node)yyResult.semanticValue()).getTokenText().equals("while")) {
+            final Node v$pt$2 = yyResult.semanticValue();
 
-            yyResult = pCommaExpression(yyResult.index);
-            yyError  = yyResult.select(yyError);
-            if (yyResult.hasValue()) {
-              final Node v$pt$7 = yyResult.semanticValue();
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue() &&
+                ((Node)yyResult.semanticValue()).getTokenText().equals("(")) {
+              final Node v$pt$3 = yyResult.semanticValue();
+              final Node v$g$1 = Formatting.variable().
+                add(v$pt$1).addNode(v$pt$4).add(v$pt$2).add(v$pt$3);
 
-              yyBase   = yyResult.index;
-              yyResult = pSymbol(yyBase);
-              if (yyResult.hasValue() &&
-                  ((Node)yyResult.semanticValue()).getTokenText().equals(")")) {
-                final Node v$pt$5 = yyResult.semanticValue();
+              yyResult = pCommaExpression(yyResult.index);
+              yyError  = yyResult.select(yyError);
+              if (yyResult.hasValue()) {
+                final Node v$pt$7 = yyResult.semanticValue();
 
                 yyBase   = yyResult.index;
                 yyResult = pSymbol(yyBase);
                 if (yyResult.hasValue() &&
-                    ((Node)yyResult.semanticValue()).getTokenText().equals(";")) {
-                  final Node v$pt$6 = yyResult.semanticValue();
-                  final Node v$g$2 = Formatting.variable().
-                    addNode(v$pt$7).add(v$pt$5).add(v$pt$6);
+                    ((Node)yyResult.semanticValue()).getTokenText().equals(")")) {
+                  final Node v$pt$5 = yyResult.semanticValue();
+
+                  yyBase   = yyResult.index;
+                  yyResult = pSymbol(yyBase);
+                  if (yyResult.hasValue() &&
+                      ((Node)yyResult.semanticValue()).getTokenText().equals(";")) {
+                    final Node v$pt$6 = yyResult.semanticValue();
+                    final Node v$g$2 = Formatting.variable().
+                      addNode(v$pt$7).add(v$pt$5).add(v$pt$6);
 
-                  yyValue = GNode.create("DoStatement", v$g$1, v$g$2);
-                  yyValue.setLocation(location(yyStart));
+                    yyValue = GNode.create("DoStatement", v$g$1, v$g$2);
+                    locate(yyValue, yyStart);
 
-                  return yyResult.createValue(yyValue, yyError);
+                    return yyResult.createValue(yyValue, yyError);
+                  } else {
+                    yyError = yyError.select("';' expected", yyBase);
+                  }
                 } else {
-                  yyError = yyError.select("';' expected", yyBase);
+                  yyError = yyError.select("')' expected", yyBase);
                 }
-              } else {
-                yyError = yyError.select("')' expected", yyBase);
               }
+            } else {
+              yyError = yyError.select("'(' expected", yyBase);
             }
           } else {
-            yyError = yyError.select("'(' expected", yyBase);
+            yyError = yyError.select("'while' expected", yyBase);
           }
-        } else {
-          yyError = yyError.select("'while' expected", yyBase);
         }
       }
     }
 
     // Alternative 6.
+    if (0 != (yyFirst & 0x10)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("for")) {
-      final Node v$pt$1 = yyResult.semanticValue();
-
-      yyResult = pPushScope(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-
-        yyBase   = yyResult.index;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue() &&
-            ((Node)yyResult.semanticValue()).getTokenText().equals("(")) {
-          final Node v$pt$2 = yyResult.semanticValue();
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("for")) {
+        final Node v$pt$1 = yyResult.semanticValue();
 
-          yyResult = pInitialClause(yyResult.index);
-          yyError  = yyResult.select(yyError);
-          if (yyResult.hasValue()) {
-            final Node v$pt$3 = yyResult.semanticValue();
-            final Node v$g$1 = Formatting.variable().
-              add(v$pt$1).add(v$pt$2).addNode(v$pt$3);
+        yyResult = pPushScope(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
 
-            yyOption1  = yyResult.index;
-            yyOpValue1 = null;
+          yyBase   = yyResult.index;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue() &&
+              ((Node)yyResult.semanticValue()).getTokenText().equals("(")) {
+            final Node v$pt$2 = yyResult.semanticValue();
 
-            yyResult = pCommaExpression(yyOption1);
-            yyError  = yyResult.select(yyError, yyOption1);
+            yyResult = pInitialClause(yyResult.index);
+            yyError  = yyResult.select(yyError);
             if (yyResult.hasValue()) {
-              final Node v$el$1 = yyResult.semanticValue();
+              final Node v$pt$3 = yyResult.semanticValue();
+              final Node v$g$1 = Formatting.variable().
+                add(v$pt$1).add(v$pt$2).addNode(v$pt$3);
 
               yyOption1  = yyResult.index;
-              yyOpValue1 = v$el$1;
-            }
-            { // Start scope for v$pt$5.
-              final Node v$pt$5 = yyOpValue1;
+              yyOpValue1 = null;
 
-              yyBase   = yyOption1;
-              yyResult = pSymbol(yyBase);
-              if (yyResult.hasValue() &&
-                  ((Node)yyResult.semanticValue()).getTokenText().equals(";")) {
-                final Node v$pt$4 = yyResult.semanticValue();
-                final Node v$g$2 = Formatting.after1(v$pt$5, v$pt$4);
+              yyResult = pCommaExpression(yyOption1);
+              yyError  = yyResult.select(yyError, yyOption1);
+              if (yyResult.hasValue()) {
+                final Node v$el$1 = yyResult.semanticValue();
 
                 yyOption1  = yyResult.index;
-                yyOpValue1 = null;
+                yyOpValue1 = v$el$1;
+              }
+              { // Start scope for v$pt$5.
+                final Node v$pt$5 = yyOpValue1;
 
-                yyResult = pCommaExpression(yyOption1);
-                yyError  = yyResult.select(yyError, yyOption1);
-                if (yyResult.hasValue()) {
-                  final Node v$el$2 = yyResult.semanticValue();
+                yyBase   = yyOption1;
+                yyResult = pSymbol(yyBase);
+                if (yyResult.hasValue() &&
+                    ((Node)yyResult.semanticValue()).getTokenText().equals(";")) {
+                  final Node v$pt$4 = yyResult.semanticValue();
+                  final Node v$g$2 = Formatting.after1(v$pt$5, v$pt$4);
 
                   yyOption1  = yyResult.index;
-                  yyOpValue1 = v$el$2;
-                }
-                { // Start scope for v$pt$7.
-                  final Node v$pt$7 = yyOpValue1;
+                  yyOpValue1 = null;
 
-                  yyBase   = yyOption1;
-                  yyResult = pSymbol(yyBase);
-                  if (yyResult.hasValue() &&
-                      ((Node)yyResult.semanticValue()).getTokenText().equals(")")) {
-                    final Node v$pt$6 = yyResult.semanticValue();
-                    final Node v$g$3 = Formatting.after1(v$pt$7, v$pt$6);
+                  yyResult = pCommaExpression(yyOption1);
+                  yyError  = yyResult.select(yyError, yyOption1);
+                  if (yyResult.hasValue()) {
+                    final Node v$el$2 = yyResult.semanticValue();
 
-                    yyResult = pStatement(yyResult.index);
-                    yyError  = yyResult.select(yyError);
-                    if (yyResult.hasValue()) {
-                      final Node v$g$4 = yyResult.semanticValue();
+                    yyOption1  = yyResult.index;
+                    yyOpValue1 = v$el$2;
+                  }
+                  { // Start scope for v$pt$7.
+                    final Node v$pt$7 = yyOpValue1;
 
-                      yyResult = pPopScope(yyResult.index);
+                    yyBase   = yyOption1;
+                    yyResult = pSymbol(yyBase);
+                    if (yyResult.hasValue() &&
+                        ((Node)yyResult.semanticValue()).getTokenText().equals(")")) {
+                      final Node v$pt$6 = yyResult.semanticValue();
+                      final Node v$g$3 = Formatting.after1(v$pt$7, v$pt$6);
+
+                      yyResult = pStatement(yyResult.index);
                       yyError  = yyResult.select(yyError);
                       if (yyResult.hasValue()) {
+                        final Node v$g$4 = yyResult.semanticValue();
 
-                        yyValue = GNode.create("ForStatement", v$g$1, v$g$2, v$g$3, v$g$4);
-                        yyValue.setLocation(location(yyStart));
+                        yyResult = pPopScope(yyResult.index);
+                        yyError  = yyResult.select(yyError);
+                        if (yyResult.hasValue()) {
+
+                          yyValue = GNode.create("ForStatement", v$g$1, v$g$2, v$g$3, v$g$4);
+                          locate(yyValue, yyStart);
 
-                        return yyResult.createValue(yyValue, yyError);
+                          return yyResult.createValue(yyValue, yyError);
+                        }
                       }
+                    } else {
+                      yyError = yyError.select("')' expected", yyBase);
                     }
-                  } else {
-                    yyError = yyError.select("')' expected", yyBase);
-                  }
-                } // End scope for v$pt$7.
-              } else {
-                yyError = yyError.select("';' expected", yyBase);
-              }
-            } // End scope for v$pt$5.
+                  } // End scope for v$pt$7.
+                } else {
+                  yyError = yyError.select("';' expected", yyBase);
+                }
+              } // End scope for v$pt$5.
+            }
+          } else {
+            yyError = yyError.select("'(' expected", yyBase);
           }
-        } else {
-          yyError = yyError.select("'(' expected", yyBase);
         }
       }
     }
 
     // Alternative 7.
+    if (0 != (yyFirst & 0x20)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("switch")) {
-      final Node v$pt$1 = yyResult.semanticValue();
-
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
+      yyResult = pKeyword(yyStart);
       if (yyResult.hasValue() &&
-          ((Node)yyResult.semanticValue()).getTokenText().equals("(")) {
-        final Node v$pt$2 = yyResult.semanticValue();
+          ((Node)yyResult.semanticValue()).getTokenText().equals("switch")) {
+        final Node v$pt$1 = yyResult.semanticValue();
 
-        yyResult = pCommaExpression(yyResult.index);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$pt$4 = yyResult.semanticValue();
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue() &&
+            ((Node)yyResult.semanticValue()).getTokenText().equals("(")) {
+          final Node v$pt$2 = yyResult.semanticValue();
 
-          yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue() &&
-              ((Node)yyResult.semanticValue()).getTokenText().equals(")")) {
-            final Node v$pt$3 = yyResult.semanticValue();
-            final Node v$g$1 = Formatting.variable().
-              add(v$pt$1).add(v$pt$2).addNode(v$pt$4).add(v$pt$3);
+          yyResult = pCommaExpression(yyResult.index);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Node v$pt$4 = yyResult.semanticValue();
 
-            yyResult = pStatement(yyResult.index);
-            yyError  = yyResult.select(yyError);
-            if (yyResult.hasValue()) {
-              final Node v$g$2 = yyResult.semanticValue();
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue() &&
+                ((Node)yyResult.semanticValue()).getTokenText().equals(")")) {
+              final Node v$pt$3 = yyResult.semanticValue();
+              final Node v$g$1 = Formatting.variable().
+                add(v$pt$1).add(v$pt$2).addNode(v$pt$4).add(v$pt$3);
 
-              yyValue = GNode.create("SwitchStatement", v$g$1, v$g$2);
-              yyValue.setLocation(location(yyStart));
+              yyResult = pStatement(yyResult.index);
+              yyError  = yyResult.select(yyError);
+              if (yyResult.hasValue()) {
+                final Node v$g$2 = yyResult.semanticValue();
 
-              return yyResult.createValue(yyValue, yyError);
+                yyValue = GNode.create("SwitchStatement", v$g$1, v$g$2);
+                locate(yyValue, yyStart);
+
+                return yyResult.createValue(yyValue, yyError);
+              }
+            } else {
+              yyError = yyError.select("')' expected", yyBase);
             }
-          } else {
-            yyError = yyError.select("')' expected", yyBase);
           }
+        } else {
+          yyError = yyError.select("'(' expected", yyBase);
         }
-      } else {
-        yyError = yyError.select("'(' expected", yyBase);
       }
     }
 
@@ -5820,7 +7426,7 @@ public final class CReader extends ParserBase {
         final Node v$g$2 = yyResult.semanticValue();
 
         yyValue = GNode.create("LabeledStatement", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -5836,124 +7442,132 @@ public final class CReader extends ParserBase {
         final Node v$g$3 = yyResult.semanticValue();
 
         yyValue = GNode.create("LabeledStatement", v$g$3, null);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
     }
 
     // Alternative 10.
+    if (0 != (yyFirst & 0x40)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("break")) {
-      final Node v$pt$1 = yyResult.semanticValue();
-
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
+      yyResult = pKeyword(yyStart);
       if (yyResult.hasValue() &&
-          ((Node)yyResult.semanticValue()).getTokenText().equals(";")) {
-        final Node v$pt$2 = yyResult.semanticValue();
+          ((Node)yyResult.semanticValue()).getTokenText().equals("break")) {
+        final Node v$pt$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("BreakStatement", false);
-        yyValue.setLocation(location(yyStart));
-        yyValue = Formatting.variable().addNode(yyValue).
-          add(v$pt$1).add(v$pt$2);
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue() &&
+            ((Node)yyResult.semanticValue()).getTokenText().equals(";")) {
+          final Node v$pt$2 = yyResult.semanticValue();
 
-        return yyResult.createValue(yyValue, yyError);
-      } else {
-        yyError = yyError.select("';' expected", yyBase);
+          yyValue = GNode.create("BreakStatement", false);
+          locate(yyValue, yyStart);
+          yyValue = Formatting.variable().addNode(yyValue).
+            add(v$pt$1).add(v$pt$2);
+
+          return yyResult.createValue(yyValue, yyError);
+        } else {
+          yyError = yyError.select("';' expected", yyBase);
+        }
       }
     }
 
     // Alternative 11.
+    if (0 != (yyFirst & 0x80)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("continue")) {
-      final Node v$pt$1 = yyResult.semanticValue();
-
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
+      yyResult = pKeyword(yyStart);
       if (yyResult.hasValue() &&
-          ((Node)yyResult.semanticValue()).getTokenText().equals(";")) {
-        final Node v$pt$2 = yyResult.semanticValue();
+          ((Node)yyResult.semanticValue()).getTokenText().equals("continue")) {
+        final Node v$pt$1 = yyResult.semanticValue();
+
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue() &&
+            ((Node)yyResult.semanticValue()).getTokenText().equals(";")) {
+          final Node v$pt$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("ContinueStatement", false);
-        yyValue.setLocation(location(yyStart));
-        yyValue = Formatting.variable().addNode(yyValue).
-          add(v$pt$1).add(v$pt$2);
+          yyValue = GNode.create("ContinueStatement", false);
+          locate(yyValue, yyStart);
+          yyValue = Formatting.variable().addNode(yyValue).
+            add(v$pt$1).add(v$pt$2);
 
-        return yyResult.createValue(yyValue, yyError);
-      } else {
-        yyError = yyError.select("';' expected", yyBase);
+          return yyResult.createValue(yyValue, yyError);
+        } else {
+          yyError = yyError.select("';' expected", yyBase);
+        }
       }
     }
 
     // Alternative 12.
+    if (0 != (yyFirst & 0x100)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("return")) {
-      final Node v$pt$1 = yyResult.semanticValue();
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("return")) {
+        final Node v$pt$1 = yyResult.semanticValue();
 
-      yyOption1  = yyResult.index;
-      yyOpValue1 = null;
+        yyOption1  = yyResult.index;
+        yyOpValue1 = null;
 
-      yyResult = pCommaExpression(yyOption1);
-      yyError  = yyResult.select(yyError, yyOption1);
-      if (yyResult.hasValue()) {
-        final Node v$el$1 = yyResult.semanticValue();
+        yyResult = pCommaExpression(yyOption1);
+        yyError  = yyResult.select(yyError, yyOption1);
+        if (yyResult.hasValue()) {
+          final Node v$el$1 = yyResult.semanticValue();
 
-        yyOption1  = yyResult.index;
-        yyOpValue1 = v$el$1;
-      }
-      { // Start scope for v$pt$3.
-        final Node v$pt$3 = yyOpValue1;
+          yyOption1  = yyResult.index;
+          yyOpValue1 = v$el$1;
+        }
+        { // Start scope for v$pt$3.
+          final Node v$pt$3 = yyOpValue1;
 
-        yyBase   = yyOption1;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue() &&
-            ((Node)yyResult.semanticValue()).getTokenText().equals(";")) {
-          final Node v$pt$2 = yyResult.semanticValue();
-          final Node v$g$1 = Formatting.round1(v$pt$1, v$pt$3, v$pt$2);
+          yyBase   = yyOption1;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue() &&
+              ((Node)yyResult.semanticValue()).getTokenText().equals(";")) {
+            final Node v$pt$2 = yyResult.semanticValue();
+            final Node v$g$1 = Formatting.round1(v$pt$1, v$pt$3, v$pt$2);
 
-          yyValue = GNode.create("ReturnStatement", v$g$1);
-          yyValue.setLocation(location(yyStart));
+            yyValue = GNode.create("ReturnStatement", v$g$1);
+            locate(yyValue, yyStart);
 
-          return yyResult.createValue(yyValue, yyError);
-        } else {
-          yyError = yyError.select("';' expected", yyBase);
-        }
-      } // End scope for v$pt$3.
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("';' expected", yyBase);
+          }
+        } // End scope for v$pt$3.
+      }
     }
 
     // Alternative <Direct>.
+    if (0 != (yyFirst & 0x200)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("goto")) {
-      final Node v$pt$1 = yyResult.semanticValue();
-      final Node v$g$1 = Formatting.before1(v$pt$1, null);
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("goto")) {
+        final Node v$pt$1 = yyResult.semanticValue();
+        final Node v$g$1 = Formatting.before1(v$pt$1, null);
 
-      yyResult = pPrimaryIdentifier(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$pt$4 = yyResult.semanticValue();
+        yyResult = pPrimaryIdentifier(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$pt$4 = yyResult.semanticValue();
 
-        yyBase   = yyResult.index;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue() &&
-            ((Node)yyResult.semanticValue()).getTokenText().equals(";")) {
-          final Node v$pt$3 = yyResult.semanticValue();
-          final Node v$g$2 = Formatting.after1(v$pt$4, v$pt$3);
+          yyBase   = yyResult.index;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue() &&
+              ((Node)yyResult.semanticValue()).getTokenText().equals(";")) {
+            final Node v$pt$3 = yyResult.semanticValue();
+            final Node v$g$2 = Formatting.after1(v$pt$4, v$pt$3);
 
-          yyValue = GNode.create("GotoStatement", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+            yyValue = GNode.create("GotoStatement", v$g$1, v$g$2);
+            locate(yyValue, yyStart);
 
-          return yyResult.createValue(yyValue, yyError);
-        } else {
-          yyError = yyError.select("';' expected", yyBase);
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("';' expected", yyBase);
+          }
         }
       }
     }
@@ -5987,7 +7601,7 @@ public final class CReader extends ParserBase {
               final Node v$g$4 = Formatting.after1(v$pt$8, v$pt$7);
 
               yyValue = GNode.create("GotoStatement", v$g$3, v$g$4);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             } else {
@@ -6001,80 +7615,84 @@ public final class CReader extends ParserBase {
     }
 
     // Alternative 15.
+    if ((0 != (yyFirst & 0x400)) || (yyError.index < yyStart)) {
 
-    yyResult = pAsmKeyword(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final Node v$pt$1 = yyResult.semanticValue();
-
-      yyOption1  = yyResult.index;
-      yyOpValue1 = null;
-
-      yyResult = pTypeQualifier(yyOption1);
-      yyError  = yyResult.select(yyError, yyOption1);
+      yyResult = pAsmKeyword(yyStart);
+      yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
-        final Node v$el$1 = yyResult.semanticValue();
+        final Node v$pt$1 = yyResult.semanticValue();
 
         yyOption1  = yyResult.index;
-        yyOpValue1 = v$el$1;
-      }
-      { // Start scope for v$pt$3.
-        final Node v$pt$3 = yyOpValue1;
+        yyOpValue1 = null;
 
-        yyBase   = yyOption1;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue() &&
-            ((Node)yyResult.semanticValue()).getTokenText().equals("(")) {
-          final Node v$pt$2 = yyResult.semanticValue();
-          final Node v$g$1 = Formatting.round1(v$pt$1, v$pt$3, v$pt$2);
+        yyResult = pTypeQualifier(yyOption1);
+        yyError  = yyResult.select(yyError, yyOption1);
+        if (yyResult.hasValue()) {
+          final Node v$el$1 = yyResult.semanticValue();
 
-          yyResult = pAssemblyArgument(yyResult.index);
-          yyError  = yyResult.select(yyError);
-          if (yyResult.hasValue()) {
-            final Node v$pt$5 = yyResult.semanticValue();
+          yyOption1  = yyResult.index;
+          yyOpValue1 = v$el$1;
+        }
+        { // Start scope for v$pt$3.
+          final Node v$pt$3 = yyOpValue1;
 
-            yyBase   = yyResult.index;
-            yyResult = pSymbol(yyBase);
-            if (yyResult.hasValue() &&
-                ((Node)yyResult.semanticValue()).getTokenText().equals(")")) {
-              final Node v$pt$4 = yyResult.semanticValue();
-              final Node v$g$2 = Formatting.after1(v$pt$5, v$pt$4);
+          yyBase   = yyOption1;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue() &&
+              ((Node)yyResult.semanticValue()).getTokenText().equals("(")) {
+            final Node v$pt$2 = yyResult.semanticValue();
+            final Node v$g$1 = Formatting.round1(v$pt$1, v$pt$3, v$pt$2);
+
+            yyResult = pAssemblyArgument(yyResult.index);
+            yyError  = yyResult.select(yyError);
+            if (yyResult.hasValue()) {
+              final Node v$pt$5 = yyResult.semanticValue();
 
               yyBase   = yyResult.index;
               yyResult = pSymbol(yyBase);
               if (yyResult.hasValue() &&
-                  ((Node)yyResult.semanticValue()).getTokenText().equals(";")) {
-                final Node v$g$3 = yyResult.semanticValue();
+                  ((Node)yyResult.semanticValue()).getTokenText().equals(")")) {
+                final Node v$pt$4 = yyResult.semanticValue();
+                final Node v$g$2 = Formatting.after1(v$pt$5, v$pt$4);
 
-                yyValue = GNode.create("AssemblyStatement", v$g$1, v$g$2, v$g$3);
-                yyValue.setLocation(location(yyStart));
+                yyBase   = yyResult.index;
+                yyResult = pSymbol(yyBase);
+                if (yyResult.hasValue() &&
+                    ((Node)yyResult.semanticValue()).getTokenText().equals(";")) {
+                  final Node v$g$3 = yyResult.semanticValue();
 
-                return yyResult.createValue(yyValue, yyError);
+                  yyValue = GNode.create("AssemblyStatement", v$g$1, v$g$2, v$g$3);
+                  locate(yyValue, yyStart);
+
+                  return yyResult.createValue(yyValue, yyError);
+                } else {
+                  yyError = yyError.select("';' expected", yyBase);
+                }
               } else {
-                yyError = yyError.select("';' expected", yyBase);
+                yyError = yyError.select("')' expected", yyBase);
               }
-            } else {
-              yyError = yyError.select("')' expected", yyBase);
             }
+          } else {
+            yyError = yyError.select("'(' expected", yyBase);
           }
-        } else {
-          yyError = yyError.select("'(' expected", yyBase);
-        }
-      } // End scope for v$pt$3.
+        } // End scope for v$pt$3.
+      }
     }
 
     // Alternative 16.
+    if (0 != (yyFirst & 0x800)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals(";")) {
-      final Node v$pt$1 = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals(";")) {
+        final Node v$pt$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("EmptyStatement", false);
-      yyValue.setLocation(location(yyStart));
-      yyValue = Formatting.after1(yyValue, v$pt$1);
+        yyValue = GNode.create("EmptyStatement", false);
+        locate(yyValue, yyStart);
+        yyValue = Formatting.after1(yyValue, v$pt$1);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -6099,41 +7717,105 @@ public final class CReader extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
-    // Alternative <Label>.
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x7;
+      break;
 
-    yyResult = pIdentifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final Node v$pt$2 = yyResult.semanticValue();
+    default:
+      yyFirst = 0;
+    }
 
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue() &&
-          ((Node)yyResult.semanticValue()).getTokenText().equals(":")) {
-        final Node v$pt$1 = yyResult.semanticValue();
-        final Node v$g$1 = Formatting.after1(v$pt$2, v$pt$1);
+    // Alternative <Label>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-        yyOption1  = yyResult.index;
-        yyOpValue1 = null;
+      yyResult = pIdentifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final Node v$pt$2 = yyResult.semanticValue();
 
-        yyResult = pAttributeSpecifierList(yyOption1);
-        yyError  = yyResult.select(yyError, yyOption1);
-        if (yyResult.hasValue()) {
-          final Node v$el$1 = yyResult.semanticValue();
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue() &&
+            ((Node)yyResult.semanticValue()).getTokenText().equals(":")) {
+          final Node v$pt$1 = yyResult.semanticValue();
+          final Node v$g$1 = Formatting.after1(v$pt$2, v$pt$1);
 
           yyOption1  = yyResult.index;
-          yyOpValue1 = v$el$1;
-        }
-        { // Start scope for v$g$2.
-          final Node v$g$2 = yyOpValue1;
+          yyOpValue1 = null;
+
+          yyResult = pAttributeSpecifierList(yyOption1);
+          yyError  = yyResult.select(yyError, yyOption1);
+          if (yyResult.hasValue()) {
+            final Node v$el$1 = yyResult.semanticValue();
 
-          yyValue = GNode.create("NamedLabel", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+            yyOption1  = yyResult.index;
+            yyOpValue1 = v$el$1;
+          }
+          { // Start scope for v$g$2.
+            final Node v$g$2 = yyOpValue1;
 
-          return new SemanticValue(yyValue, yyOption1, yyError);
-        } // End scope for v$g$2.
-      } else {
-        yyError = yyError.select("':' expected", yyBase);
+            yyValue = GNode.create("NamedLabel", v$g$1, v$g$2);
+            locate(yyValue, yyStart);
+
+            return new SemanticValue(yyValue, yyOption1, yyError);
+          } // End scope for v$g$2.
+        } else {
+          yyError = yyError.select("':' expected", yyBase);
+        }
       }
     }
 
@@ -6171,7 +7853,7 @@ public final class CReader extends ParserBase {
                 final Node v$g$2 = Formatting.after1(v$pt$5, v$pt$4);
 
                 yyValue = GNode.create("CaseLabel", v$g$1, v$g$2);
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return yyResult.createValue(yyValue, yyError);
               } else {
@@ -6186,55 +7868,59 @@ public final class CReader extends ParserBase {
     }
 
     // Alternative <Simple>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("case")) {
-      final Node v$pt$6 = yyResult.semanticValue();
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("case")) {
+        final Node v$pt$6 = yyResult.semanticValue();
 
-      yyResult = pConditionalExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$pt$8 = yyResult.semanticValue();
+        yyResult = pConditionalExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$pt$8 = yyResult.semanticValue();
 
-        yyBase   = yyResult.index;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue() &&
-            ((Node)yyResult.semanticValue()).getTokenText().equals(":")) {
-          final Node v$pt$7 = yyResult.semanticValue();
-          final Node v$g$3 = Formatting.round1(v$pt$6, v$pt$8, v$pt$7);
+          yyBase   = yyResult.index;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue() &&
+              ((Node)yyResult.semanticValue()).getTokenText().equals(":")) {
+            final Node v$pt$7 = yyResult.semanticValue();
+            final Node v$g$3 = Formatting.round1(v$pt$6, v$pt$8, v$pt$7);
 
-          yyValue = GNode.create("CaseLabel", v$g$3);
-          yyValue.setLocation(location(yyStart));
+            yyValue = GNode.create("CaseLabel", v$g$3);
+            locate(yyValue, yyStart);
 
-          return yyResult.createValue(yyValue, yyError);
-        } else {
-          yyError = yyError.select("':' expected", yyBase);
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("':' expected", yyBase);
+          }
         }
       }
     }
 
     // Alternative 4.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("default")) {
-      final Node v$pt$1 = yyResult.semanticValue();
-
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
+      yyResult = pKeyword(yyStart);
       if (yyResult.hasValue() &&
-          ((Node)yyResult.semanticValue()).getTokenText().equals(":")) {
-        final Node v$pt$2 = yyResult.semanticValue();
+          ((Node)yyResult.semanticValue()).getTokenText().equals("default")) {
+        final Node v$pt$1 = yyResult.semanticValue();
+
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue() &&
+            ((Node)yyResult.semanticValue()).getTokenText().equals(":")) {
+          final Node v$pt$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("DefaultLabel", false);
-        yyValue.setLocation(location(yyStart));
-        yyValue = Formatting.variable().addNode(yyValue).
-          add(v$pt$1).add(v$pt$2);
+          yyValue = GNode.create("DefaultLabel", false);
+          locate(yyValue, yyStart);
+          yyValue = Formatting.variable().addNode(yyValue).
+            add(v$pt$1).add(v$pt$2);
 
-        return yyResult.createValue(yyValue, yyError);
-      } else {
-        yyError = yyError.select("':' expected", yyBase);
+          return yyResult.createValue(yyValue, yyError);
+        } else {
+          yyError = yyError.select("':' expected", yyBase);
+        }
       }
     }
 
@@ -6254,10 +7940,15 @@ public final class CReader extends ParserBase {
    */
   private Result pCompoundStatement(final int yyStart) throws IOException {
     CReaderColumn yyColumn = (CReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fCompoundStatement) 
-      yyColumn.chunk2.fCompoundStatement = pCompoundStatement$1(yyStart);
-    return yyColumn.chunk2.fCompoundStatement;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fCompoundStatement) {
+      yyColumn.chunk3.fCompoundStatement = pCompoundStatement$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(12, yyColumn.chunk3.fCompoundStatement);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(12, yyColumn.chunk3.fCompoundStatement);
+    }
+    return yyColumn.chunk3.fCompoundStatement;
   }
 
   /** Actually parse xtc.lang.C.CompoundStatement. */
@@ -6340,7 +8031,7 @@ public final class CReader extends ParserBase {
 
               yyValue = GNode.create("CompoundStatement", v$g$1.size() + v$g$2.size() + 1).
                 addAll(v$g$1).addAll(v$g$2).add(v$g$3);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -6453,7 +8144,8 @@ public final class CReader extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -6471,7 +8163,8 @@ public final class CReader extends ParserBase {
         final Node v$g$1 = Formatting.before1(v$pt$3, v$pt$4);
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyBase   = yyRepetition1;
@@ -6487,7 +8180,7 @@ public final class CReader extends ParserBase {
               final Node v$el$1 = Formatting.before1(v$pt$1, v$pt$2);
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
           } else {
@@ -6496,10 +8189,11 @@ public final class CReader extends ParserBase {
           break;
         }
         { // Start scope for v$g$2.
-          final Pair<Node> v$g$2 = yyRepValue1.reverse();
+          final int v$g$2 = yyRepStart1;
+          final int v$g$2$end = yyRepEnd1;
 
-          yyValue = GNode.createFromPair("LocalLabelDeclaration", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          yyValue = bufferedNode("LocalLabelDeclaration", v$g$1, v$g$2, v$g$2$end);
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
         } // End scope for v$g$2.
@@ -6696,10 +8390,15 @@ public final class CReader extends ParserBase {
    */
   private Result pCommaExpression(final int yyStart) throws IOException {
     CReaderColumn yyColumn = (CReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fCommaExpression) 
-      yyColumn.chunk2.fCommaExpression = pCommaExpression$1(yyStart);
-    return yyColumn.chunk2.fCommaExpression;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fCommaExpression) {
+      yyColumn.chunk3.fCommaExpression = pCommaExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(13, yyColumn.chunk3.fCommaExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(13, yyColumn.chunk3.fCommaExpression);
+    }
+    return yyColumn.chunk3.fCommaExpression;
   }
 
   /** Actually parse xtc.lang.C.CommaExpression. */
@@ -6799,10 +8498,16 @@ public final class CReader extends ParserBase {
    */
   private Result pAssignmentExpression(final int yyStart) throws IOException {
     CReaderColumn yyColumn = (CReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fAssignmentExpression) 
-      yyColumn.chunk2.fAssignmentExpression = pAssignmentExpression$1(yyStart);
-    return yyColumn.chunk2.fAssignmentExpression;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fAssignmentExpression) {
+      yyColumn.chunk3.fAssignmentExpression = 
+        pAssignmentExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(14, yyColumn.chunk3.fAssignmentExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(14, yyColumn.chunk3.fAssignmentExpression);
+    }
+    return yyColumn.chunk3.fAssignmentExpression;
   }
 
   /** Actually parse xtc.lang.C.AssignmentExpression. */
@@ -6831,7 +8536,7 @@ public final class CReader extends ParserBase {
           final Node v$g$3 = yyResult.semanticValue();
 
           yyValue = GNode.create("AssignmentExpression", v$g$1, v$g$2, v$g$3);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -6866,114 +8571,169 @@ public final class CReader extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x7ff;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Equal>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("=")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("=")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <PlusEqual>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("+=")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("+=")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <MinusEqual>.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("-=")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("-=")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <TimesEqual>.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("*=")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("*=")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <OverEqual>.
+    if (0 != (yyFirst & 0x10)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("/=")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("/=")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <ModuloEqual>.
+    if (0 != (yyFirst & 0x20)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("%=")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("%=")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <LeftEqual>.
+    if (0 != (yyFirst & 0x40)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("<<=")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("<<=")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <RightEqual>.
+    if (0 != (yyFirst & 0x80)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals(">>=")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals(">>=")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <AndEqual>.
+    if (0 != (yyFirst & 0x100)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("&=")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("&=")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <XorEqual>.
+    if (0 != (yyFirst & 0x200)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("^=")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("^=")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <OrEqual>.
+    if (0 != (yyFirst & 0x400)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("|=")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("|=")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -6994,10 +8754,16 @@ public final class CReader extends ParserBase {
     throws IOException {
 
     CReaderColumn yyColumn = (CReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fConditionalExpression) 
-      yyColumn.chunk2.fConditionalExpression = pConditionalExpression$1(yyStart);
-    return yyColumn.chunk2.fConditionalExpression;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fConditionalExpression) {
+      yyColumn.chunk3.fConditionalExpression = 
+        pConditionalExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(15, yyColumn.chunk3.fConditionalExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(15, yyColumn.chunk3.fConditionalExpression);
+    }
+    return yyColumn.chunk3.fConditionalExpression;
   }
 
   /** Actually parse xtc.lang.C.ConditionalExpression. */
@@ -7041,7 +8807,7 @@ public final class CReader extends ParserBase {
               final Node v$g$3 = yyResult.semanticValue();
 
               yyValue = GNode.create("ConditionalExpression", v$g$1, v$g$2, v$g$3);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -7083,7 +8849,7 @@ public final class CReader extends ParserBase {
               final Node v$g$6 = yyResult.semanticValue();
 
               yyValue = GNode.create("ConditionalExpression", v$g$4, v$g$5, v$g$6);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -7122,10 +8888,15 @@ public final class CReader extends ParserBase {
    */
   private Result pLogicalOrExpression(final int yyStart) throws IOException {
     CReaderColumn yyColumn = (CReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fLogicalOrExpression) 
-      yyColumn.chunk2.fLogicalOrExpression = pLogicalOrExpression$1(yyStart);
-    return yyColumn.chunk2.fLogicalOrExpression;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fLogicalOrExpression) {
+      yyColumn.chunk3.fLogicalOrExpression = pLogicalOrExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(16, yyColumn.chunk3.fLogicalOrExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(16, yyColumn.chunk3.fLogicalOrExpression);
+    }
+    return yyColumn.chunk3.fLogicalOrExpression;
   }
 
   /** Actually parse xtc.lang.C.LogicalOrExpression. */
@@ -7698,24 +9469,61 @@ public final class CReader extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Equal>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("==")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("==")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <NotEqual>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("!=")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("!=")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -7829,44 +9637,85 @@ public final class CReader extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0xf;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <LessEqual>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("<=")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("<=")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Less>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("<")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("<")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <GreaterEqual>.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals(">=")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals(">=")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Greater>.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals(">")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals(">")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -7980,24 +9829,61 @@ public final class CReader extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Left>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("<<")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("<<")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Right>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals(">>")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals(">>")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -8111,24 +9997,61 @@ public final class CReader extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Plus>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("+")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("+")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Minus>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("-")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("-")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -8246,34 +10169,73 @@ public final class CReader extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x7;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Times>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("*")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("*")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Over>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("/")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("/")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Modulo>.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("%")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("%")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -8292,10 +10254,15 @@ public final class CReader extends ParserBase {
    */
   private Result pCastExpression(final int yyStart) throws IOException {
     CReaderColumn yyColumn = (CReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fCastExpression) 
-      yyColumn.chunk2.fCastExpression = pCastExpression$1(yyStart);
-    return yyColumn.chunk2.fCastExpression;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fCastExpression) {
+      yyColumn.chunk1.fCastExpression = pCastExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(17, yyColumn.chunk1.fCastExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(17, yyColumn.chunk1.fCastExpression);
+    }
+    return yyColumn.chunk1.fCastExpression;
   }
 
   /** Actually parse xtc.lang.C.CastExpression. */
@@ -8330,7 +10297,7 @@ public final class CReader extends ParserBase {
             final Node v$g$2 = yyResult.semanticValue();
 
             yyValue = GNode.create("CastExpression", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           }
@@ -8366,10 +10333,15 @@ public final class CReader extends ParserBase {
    */
   private Result pUnaryExpression(final int yyStart) throws IOException {
     CReaderColumn yyColumn = (CReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fUnaryExpression) 
-      yyColumn.chunk2.fUnaryExpression = pUnaryExpression$1(yyStart);
-    return yyColumn.chunk2.fUnaryExpression;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fUnaryExpression) {
+      yyColumn.chunk1.fUnaryExpression = pUnaryExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(18, yyColumn.chunk1.fUnaryExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(18, yyColumn.chunk1.fUnaryExpression);
+    }
+    return yyColumn.chunk1.fUnaryExpression;
   }
 
   /** Actually parse xtc.lang.C.UnaryExpression. */
@@ -8381,355 +10353,462 @@ public final class CReader extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
-    // Alternative 1.
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0xff0;
+      break;
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("sizeof")) {
-      final Node v$pt$1 = yyResult.semanticValue();
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0xf;
+      break;
 
-      final int yyChoice1 = yyResult.index;
+    default:
+      yyFirst = 0;
+    }
 
-      // Nested alternative 1.
+    // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-      yyBase   = yyChoice1;
-      yyResult = pSymbol(yyBase);
+      yyResult = pKeyword(yyStart);
       if (yyResult.hasValue() &&
-          ((Node)yyResult.semanticValue()).getTokenText().equals("(")) {
-        final Node v$pt$2 = yyResult.semanticValue();
+          ((Node)yyResult.semanticValue()).getTokenText().equals("sizeof")) {
+        final Node v$pt$1 = yyResult.semanticValue();
 
-        yyResult = pTypeName(yyResult.index);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$pt$4 = yyResult.semanticValue();
+        final int yyChoice1 = yyResult.index;
 
-          yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue() &&
-              ((Node)yyResult.semanticValue()).getTokenText().equals(")")) {
-            final Node v$pt$3 = yyResult.semanticValue();
+        // Nested alternative 1.
 
-            yyPredMatched = false;
+        yyBase   = yyChoice1;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue() &&
+            ((Node)yyResult.semanticValue()).getTokenText().equals("(")) {
+          final Node v$pt$2 = yyResult.semanticValue();
 
-            yyPredResult = pSymbol(yyResult.index);
-            if (yyPredResult.hasValue() &&
-                ((Node)yyPredResult.semanticValue()).getTokenText().equals("{")) {
+          yyResult = pTypeName(yyResult.index);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Node v$pt$4 = yyResult.semanticValue();
 
-              yyPredMatched = true;
-            }
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue() &&
+                ((Node)yyResult.semanticValue()).getTokenText().equals(")")) {
+              final Node v$pt$3 = yyResult.semanticValue();
 
-            if (! yyPredMatched) {
-              final Node v$g$1 = Formatting.variable().
-                add(v$pt$1).add(v$pt$2).addNode(v$pt$4).add(v$pt$3);
+              yyPredMatched = false;
 
-              yyValue = GNode.create("SizeofExpression", v$g$1);
-              yyValue.setLocation(location(yyStart));
+              yyPredResult = pSymbol(yyResult.index);
+              if (yyPredResult.hasValue() &&
+                  ((Node)yyPredResult.semanticValue()).getTokenText().equals("{")) {
 
-              return yyResult.createValue(yyValue, yyError);
+                yyPredMatched = true;
+              }
+
+              if (! yyPredMatched) {
+                final Node v$g$1 = Formatting.variable().
+                  add(v$pt$1).add(v$pt$2).addNode(v$pt$4).add(v$pt$3);
+
+                yyValue = GNode.create("SizeofExpression", v$g$1);
+                locate(yyValue, yyStart);
+
+                return yyResult.createValue(yyValue, yyError);
+              } else {
+                yyError = yyError.select("unary expression expected", yyStart);
+              }
             } else {
-              yyError = yyError.select("unary expression expected", yyStart);
+              yyError = yyError.select("')' expected", yyBase);
             }
-          } else {
-            yyError = yyError.select("')' expected", yyBase);
           }
+        } else {
+          yyError = yyError.select("'(' expected", yyBase);
         }
-      } else {
-        yyError = yyError.select("'(' expected", yyBase);
-      }
 
-      // Nested alternative 2.
+        // Nested alternative 2.
 
-      yyResult = pUnaryExpression(yyChoice1);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$pt$5 = yyResult.semanticValue();
-        final Node v$g$2 = Formatting.before1(v$pt$1, v$pt$5);
+        yyResult = pUnaryExpression(yyChoice1);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$pt$5 = yyResult.semanticValue();
+          final Node v$g$2 = Formatting.before1(v$pt$1, v$pt$5);
 
-        yyValue = GNode.create("SizeofExpression", v$g$2);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("SizeofExpression", v$g$2);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 2.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pAlignofKeyword(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final Node v$pt$1 = yyResult.semanticValue();
+      yyResult = pAlignofKeyword(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final Node v$pt$1 = yyResult.semanticValue();
 
-      final int yyChoice1 = yyResult.index;
+        final int yyChoice1 = yyResult.index;
 
-      // Nested alternative 1.
+        // Nested alternative 1.
 
-      yyBase   = yyChoice1;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue() &&
-          ((Node)yyResult.semanticValue()).getTokenText().equals("(")) {
-        final Node v$pt$2 = yyResult.semanticValue();
+        yyBase   = yyChoice1;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue() &&
+            ((Node)yyResult.semanticValue()).getTokenText().equals("(")) {
+          final Node v$pt$2 = yyResult.semanticValue();
 
-        yyResult = pTypeName(yyResult.index);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$pt$4 = yyResult.semanticValue();
+          yyResult = pTypeName(yyResult.index);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Node v$pt$4 = yyResult.semanticValue();
 
-          yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue() &&
-              ((Node)yyResult.semanticValue()).getTokenText().equals(")")) {
-            final Node v$pt$3 = yyResult.semanticValue();
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue() &&
+                ((Node)yyResult.semanticValue()).getTokenText().equals(")")) {
+              final Node v$pt$3 = yyResult.semanticValue();
 
-            yyPredMatched = false;
+              yyPredMatched = false;
 
-            yyPredResult = pSymbol(yyResult.index);
-            if (yyPredResult.hasValue() &&
-                ((Node)yyPredResult.semanticValue()).getTokenText().equals("{")) {
+              yyPredResult = pSymbol(yyResult.index);
+              if (yyPredResult.hasValue() &&
+                  ((Node)yyPredResult.semanticValue()).getTokenText().equals("{")) {
 
-              yyPredMatched = true;
-            }
+                yyPredMatched = true;
+              }
 
-            if (! yyPredMatched) {
-              final Node v$g$1 = Formatting.variable().
-                add(v$pt$1).add(v$pt$2).addNode(v$pt$4).add(v$pt$3);
+              if (! yyPredMatched) {
+                final Node v$g$1 = Formatting.variable().
+                  add(v$pt$1).add(v$pt$2).addNode(v$pt$4).add(v$pt$3);
 
-              yyValue = GNode.create("AlignofExpression", v$g$1);
-              yyValue.setLocation(location(yyStart));
+                yyValue = GNode.create("AlignofExpression", v$g$1);
+                locate(yyValue, yyStart);
 
-              return yyResult.createValue(yyValue, yyError);
+                return yyResult.createValue(yyValue, yyError);
+              } else {
+                yyError = yyError.select("unary expression expected", yyStart);
+              }
             } else {
-              yyError = yyError.select("unary expression expected", yyStart);
+              yyError = yyError.select("')' expected", yyBase);
             }
-          } else {
-            yyError = yyError.select("')' expected", yyBase);
           }
+        } else {
+          yyError = yyError.select("'(' expected", yyBase);
         }
-      } else {
-        yyError = yyError.select("'(' expected", yyBase);
-      }
 
-      // Nested alternative 2.
+        // Nested alternative 2.
 
-      yyResult = pUnaryExpression(yyChoice1);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$pt$5 = yyResult.semanticValue();
-        final Node v$g$2 = Formatting.before1(v$pt$1, v$pt$5);
+        yyResult = pUnaryExpression(yyChoice1);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$pt$5 = yyResult.semanticValue();
+          final Node v$g$2 = Formatting.before1(v$pt$1, v$pt$5);
 
-        yyValue = GNode.create("AlignofExpression", v$g$2);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("AlignofExpression", v$g$2);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("__builtin_offsetof")) {
-      final Node v$pt$1 = yyResult.semanticValue();
-
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
+      yyResult = pKeyword(yyStart);
       if (yyResult.hasValue() &&
-          ((Node)yyResult.semanticValue()).getTokenText().equals("(")) {
-        final Node v$pt$2 = yyResult.semanticValue();
+          ((Node)yyResult.semanticValue()).getTokenText().equals("__builtin_offsetof")) {
+        final Node v$pt$1 = yyResult.semanticValue();
 
-        yyResult = pTypeName(yyResult.index);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$pt$4 = yyResult.semanticValue();
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue() &&
+            ((Node)yyResult.semanticValue()).getTokenText().equals("(")) {
+          final Node v$pt$2 = yyResult.semanticValue();
 
-          yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue() &&
-              ((Node)yyResult.semanticValue()).getTokenText().equals(",")) {
-            final Node v$pt$3 = yyResult.semanticValue();
-            final Node v$g$1 = Formatting.variable().
-              add(v$pt$1).add(v$pt$2).addNode(v$pt$4).add(v$pt$3);
+          yyResult = pTypeName(yyResult.index);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Node v$pt$4 = yyResult.semanticValue();
 
-            yyResult = pPostfixExpression(yyResult.index);
-            yyError  = yyResult.select(yyError);
-            if (yyResult.hasValue()) {
-              final Node v$pt$6 = yyResult.semanticValue();
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue() &&
+                ((Node)yyResult.semanticValue()).getTokenText().equals(",")) {
+              final Node v$pt$3 = yyResult.semanticValue();
+              final Node v$g$1 = Formatting.variable().
+                add(v$pt$1).add(v$pt$2).addNode(v$pt$4).add(v$pt$3);
 
-              yyBase   = yyResult.index;
-              yyResult = pSymbol(yyBase);
-              if (yyResult.hasValue() &&
-                  ((Node)yyResult.semanticValue()).getTokenText().equals(")")) {
-                final Node v$pt$5 = yyResult.semanticValue();
-                final Node v$g$2 = Formatting.after1(v$pt$6, v$pt$5);
+              yyResult = pPostfixExpression(yyResult.index);
+              yyError  = yyResult.select(yyError);
+              if (yyResult.hasValue()) {
+                final Node v$pt$6 = yyResult.semanticValue();
 
-                yyValue = GNode.create("OffsetofExpression", v$g$1, v$g$2);
-                yyValue.setLocation(location(yyStart));
+                yyBase   = yyResult.index;
+                yyResult = pSymbol(yyBase);
+                if (yyResult.hasValue() &&
+                    ((Node)yyResult.semanticValue()).getTokenText().equals(")")) {
+                  final Node v$pt$5 = yyResult.semanticValue();
+                  final Node v$g$2 = Formatting.after1(v$pt$6, v$pt$5);
 
-                return yyResult.createValue(yyValue, yyError);
-              } else {
-                yyError = yyError.select("')' expected", yyBase);
+                  yyValue = GNode.create("OffsetofExpression", v$g$1, v$g$2);
+                  locate(yyValue, yyStart);
+
+                  return yyResult.createValue(yyValue, yyError);
+                } else {
+                  yyError = yyError.select("')' expected", yyBase);
+                }
               }
+            } else {
+              yyError = yyError.select("',' expected", yyBase);
             }
-          } else {
-            yyError = yyError.select("',' expected", yyBase);
           }
+        } else {
+          yyError = yyError.select("'(' expected", yyBase);
         }
-      } else {
-        yyError = yyError.select("'(' expected", yyBase);
       }
     }
 
     // Alternative 4.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("__builtin_types_compatible_p")) {
-      final Node v$pt$1 = yyResult.semanticValue();
-
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
+      yyResult = pKeyword(yyStart);
       if (yyResult.hasValue() &&
-          ((Node)yyResult.semanticValue()).getTokenText().equals("(")) {
-        final Node v$pt$2 = yyResult.semanticValue();
+          ((Node)yyResult.semanticValue()).getTokenText().equals("__builtin_types_compatible_p")) {
+        final Node v$pt$1 = yyResult.semanticValue();
 
-        yyResult = pTypeName(yyResult.index);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$pt$4 = yyResult.semanticValue();
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue() &&
+            ((Node)yyResult.semanticValue()).getTokenText().equals("(")) {
+          final Node v$pt$2 = yyResult.semanticValue();
 
-          yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue() &&
-              ((Node)yyResult.semanticValue()).getTokenText().equals(",")) {
-            final Node v$pt$3 = yyResult.semanticValue();
-            final Node v$g$1 = Formatting.variable().
-              add(v$pt$1).add(v$pt$2).addNode(v$pt$4).add(v$pt$3);
+          yyResult = pTypeName(yyResult.index);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Node v$pt$4 = yyResult.semanticValue();
 
-            yyResult = pTypeName(yyResult.index);
-            yyError  = yyResult.select(yyError);
-            if (yyResult.hasValue()) {
-              final Node v$pt$6 = yyResult.semanticValue();
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue() &&
+                ((Node)yyResult.semanticValue()).getTokenText().equals(",")) {
+              final Node v$pt$3 = yyResult.semanticValue();
+              final Node v$g$1 = Formatting.variable().
+                add(v$pt$1).add(v$pt$2).addNode(v$pt$4).add(v$pt$3);
 
-              yyBase   = yyResult.index;
-              yyResult = pSymbol(yyBase);
-              if (yyResult.hasValue() &&
-                  ((Node)yyResult.semanticValue()).getTokenText().equals(")")) {
-                final Node v$pt$5 = yyResult.semanticValue();
-                final Node v$g$2 = Formatting.after1(v$pt$6, v$pt$5);
+              yyResult = pTypeName(yyResult.index);
+              yyError  = yyResult.select(yyError);
+              if (yyResult.hasValue()) {
+                final Node v$pt$6 = yyResult.semanticValue();
 
-                yyValue = GNode.create("TypeCompatibilityExpression", v$g$1, v$g$2);
-                yyValue.setLocation(location(yyStart));
+                yyBase   = yyResult.index;
+                yyResult = pSymbol(yyBase);
+                if (yyResult.hasValue() &&
+                    ((Node)yyResult.semanticValue()).getTokenText().equals(")")) {
+                  final Node v$pt$5 = yyResult.semanticValue();
+                  final Node v$g$2 = Formatting.after1(v$pt$6, v$pt$5);
 
-                return yyResult.createValue(yyValue, yyError);
-              } else {
-                yyError = yyError.select("')' expected", yyBase);
+                  yyValue = GNode.create("TypeCompatibilityExpression", v$g$1, v$g$2);
+                  locate(yyValue, yyStart);
+
+                  return yyResult.createValue(yyValue, yyError);
+                } else {
+                  yyError = yyError.select("')' expected", yyBase);
+                }
               }
+            } else {
+              yyError = yyError.select("',' expected", yyBase);
             }
-          } else {
-            yyError = yyError.select("',' expected", yyBase);
           }
+        } else {
+          yyError = yyError.select("'(' expected", yyBase);
         }
-      } else {
-        yyError = yyError.select("'(' expected", yyBase);
       }
     }
 
     // Alternative 5.
+    if (0 != (yyFirst & 0x10)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("-")) {
-      final Node v$pt$1 = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("-")) {
+        final Node v$pt$1 = yyResult.semanticValue();
 
-      yyResult = pCastExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$pt$2 = yyResult.semanticValue();
-        final Node v$g$1 = Formatting.before1(v$pt$1, v$pt$2);
+        yyResult = pCastExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$pt$2 = yyResult.semanticValue();
+          final Node v$g$1 = Formatting.before1(v$pt$1, v$pt$2);
 
-        yyValue = GNode.create("UnaryMinusExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("UnaryMinusExpression", v$g$1);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 6.
+    if (0 != (yyFirst & 0x20)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("+")) {
-      final Node v$pt$1 = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("+")) {
+        final Node v$pt$1 = yyResult.semanticValue();
 
-      yyResult = pCastExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$pt$2 = yyResult.semanticValue();
-        final Node v$g$1 = Formatting.before1(v$pt$1, v$pt$2);
+        yyResult = pCastExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$pt$2 = yyResult.semanticValue();
+          final Node v$g$1 = Formatting.before1(v$pt$1, v$pt$2);
 
-        yyValue = GNode.create("UnaryPlusExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("UnaryPlusExpression", v$g$1);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 7.
+    if (0 != (yyFirst & 0x40)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("!")) {
-      final Node v$pt$1 = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("!")) {
+        final Node v$pt$1 = yyResult.semanticValue();
 
-      yyResult = pCastExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$pt$2 = yyResult.semanticValue();
-        final Node v$g$1 = Formatting.before1(v$pt$1, v$pt$2);
+        yyResult = pCastExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$pt$2 = yyResult.semanticValue();
+          final Node v$g$1 = Formatting.before1(v$pt$1, v$pt$2);
 
-        yyValue = GNode.create("LogicalNegationExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("LogicalNegationExpression", v$g$1);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 8.
+    if (0 != (yyFirst & 0x80)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("~")) {
-      final Node v$pt$1 = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("~")) {
+        final Node v$pt$1 = yyResult.semanticValue();
 
-      yyResult = pCastExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$pt$2 = yyResult.semanticValue();
-        final Node v$g$1 = Formatting.before1(v$pt$1, v$pt$2);
+        yyResult = pCastExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$pt$2 = yyResult.semanticValue();
+          final Node v$g$1 = Formatting.before1(v$pt$1, v$pt$2);
 
-        yyValue = GNode.create("BitwiseNegationExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("BitwiseNegationExpression", v$g$1);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 9.
+    if (0 != (yyFirst & 0x100)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("&")) {
-      final Node v$pt$1 = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("&")) {
+        final Node v$pt$1 = yyResult.semanticValue();
 
-      yyResult = pCastExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$pt$2 = yyResult.semanticValue();
-        final Node v$g$1 = Formatting.before1(v$pt$1, v$pt$2);
+        yyResult = pCastExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$pt$2 = yyResult.semanticValue();
+          final Node v$g$1 = Formatting.before1(v$pt$1, v$pt$2);
 
-        yyValue = GNode.create("AddressExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("AddressExpression", v$g$1);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
@@ -8749,7 +10828,7 @@ public final class CReader extends ParserBase {
           final Node v$g$1 = Formatting.before1(v$pt$1, v$pt$2);
 
           yyValue = GNode.create("LabelAddressExpression", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -8757,62 +10836,68 @@ public final class CReader extends ParserBase {
     }
 
     // Alternative 11.
+    if (0 != (yyFirst & 0x200)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("*")) {
-      final Node v$pt$1 = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("*")) {
+        final Node v$pt$1 = yyResult.semanticValue();
 
-      yyResult = pCastExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$pt$2 = yyResult.semanticValue();
-        final Node v$g$1 = Formatting.before1(v$pt$1, v$pt$2);
+        yyResult = pCastExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$pt$2 = yyResult.semanticValue();
+          final Node v$g$1 = Formatting.before1(v$pt$1, v$pt$2);
 
-        yyValue = GNode.create("IndirectionExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("IndirectionExpression", v$g$1);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 12.
+    if (0 != (yyFirst & 0x400)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("++")) {
-      final Node v$pt$1 = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("++")) {
+        final Node v$pt$1 = yyResult.semanticValue();
 
-      yyResult = pUnaryExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$pt$2 = yyResult.semanticValue();
-        final Node v$g$1 = Formatting.before1(v$pt$1, v$pt$2);
+        yyResult = pUnaryExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$pt$2 = yyResult.semanticValue();
+          final Node v$g$1 = Formatting.before1(v$pt$1, v$pt$2);
 
-        yyValue = GNode.create("PreincrementExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("PreincrementExpression", v$g$1);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 13.
+    if (0 != (yyFirst & 0x800)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("--")) {
-      final Node v$pt$1 = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("--")) {
+        final Node v$pt$1 = yyResult.semanticValue();
 
-      yyResult = pUnaryExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$pt$2 = yyResult.semanticValue();
-        final Node v$g$1 = Formatting.before1(v$pt$1, v$pt$2);
+        yyResult = pUnaryExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$pt$2 = yyResult.semanticValue();
+          final Node v$g$1 = Formatting.before1(v$pt$1, v$pt$2);
 
-        yyValue = GNode.create("PredecrementExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("PredecrementExpression", v$g$1);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
@@ -8832,7 +10917,7 @@ public final class CReader extends ParserBase {
           final Node v$g$1 = Formatting.before1(v$pt$1, v$pt$2);
 
           yyValue = GNode.create("ExtensionExpression", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -8868,30 +10953,96 @@ public final class CReader extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("__alignof__")) {
-      final Node v$g$1 = yyResult.semanticValue();
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("__alignof__")) {
+        final Node v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("AlignofKeyword", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("AlignofKeyword", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("__alignof")) {
-      final Node v$g$2 = yyResult.semanticValue();
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("__alignof")) {
+        final Node v$g$2 = yyResult.semanticValue();
 
-      yyValue = GNode.create("AlignofKeyword", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("AlignofKeyword", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -9000,153 +11151,198 @@ public final class CReader extends ParserBase {
     Action<Node> yyValue;
     ParseError   yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3f;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("[")) {
-      final Node v$pt$1 = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("[")) {
+        final Node v$pt$1 = yyResult.semanticValue();
 
-      yyResult = pCommaExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$pt$3 = yyResult.semanticValue();
+        yyResult = pCommaExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$pt$3 = yyResult.semanticValue();
 
-        yyBase   = yyResult.index;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue() &&
-            ((Node)yyResult.semanticValue()).getTokenText().equals("]")) {
-          final Node v$pt$2 = yyResult.semanticValue();
-          final Node v$g$2 = Formatting.round1(v$pt$1, v$pt$3, v$pt$2);
+          yyBase   = yyResult.index;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue() &&
+              ((Node)yyResult.semanticValue()).getTokenText().equals("]")) {
+            final Node v$pt$2 = yyResult.semanticValue();
+            final Node v$g$2 = Formatting.round1(v$pt$1, v$pt$3, v$pt$2);
 
-          yyValue = new Action<Node>() {
-            public Node run(Node v$1) {
-              return GNode.create("SubscriptExpression", v$1, v$g$2);
-            }};
+            yyValue = new Action<Node>() {
+              public Node run(Node v$1) {
+                return GNode.create("SubscriptExpression", v$1, v$g$2);
+              }};
 
-          return yyResult.createValue(yyValue, yyError);
-        } else {
-          yyError = yyError.select("']' expected", yyBase);
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("']' expected", yyBase);
+          }
         }
       }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals(".")) {
-      final Node v$pt$4 = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals(".")) {
+        final Node v$pt$4 = yyResult.semanticValue();
 
-      yyResult = pIdentifier(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$pt$5 = yyResult.semanticValue();
-        final Node v$g$3 = Formatting.before1(v$pt$4, v$pt$5);
+        yyResult = pIdentifier(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$pt$5 = yyResult.semanticValue();
+          final Node v$g$3 = Formatting.before1(v$pt$4, v$pt$5);
 
-        yyValue = new Action<Node>() {
-          public Node run(Node v$1) {
-            return GNode.create("DirectComponentSelection", v$1, v$g$3);
-          }};
+          yyValue = new Action<Node>() {
+            public Node run(Node v$1) {
+              return GNode.create("DirectComponentSelection", v$1, v$g$3);
+            }};
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("->")) {
-      final Node v$pt$6 = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("->")) {
+        final Node v$pt$6 = yyResult.semanticValue();
 
-      yyResult = pIdentifier(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$pt$7 = yyResult.semanticValue();
-        final Node v$g$4 = Formatting.before1(v$pt$6, v$pt$7);
+        yyResult = pIdentifier(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$pt$7 = yyResult.semanticValue();
+          final Node v$g$4 = Formatting.before1(v$pt$6, v$pt$7);
 
-        yyValue = new Action<Node>() {
-          public Node run(Node v$1) {
-            return GNode.create("IndirectComponentSelection", v$1, v$g$4);
-          }};
+          yyValue = new Action<Node>() {
+            public Node run(Node v$1) {
+              return GNode.create("IndirectComponentSelection", v$1, v$g$4);
+            }};
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 4.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("(")) {
-      final Node v$pt$8 = yyResult.semanticValue();
-
-      yyOption1  = yyResult.index;
-      yyOpValue1 = null;
-
-      yyResult = pExpressionList(yyOption1);
-      yyError  = yyResult.select(yyError, yyOption1);
-      if (yyResult.hasValue()) {
-        final Node v$el$1 = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("(")) {
+        final Node v$pt$8 = yyResult.semanticValue();
 
         yyOption1  = yyResult.index;
-        yyOpValue1 = v$el$1;
-      }
-      { // Start scope for v$pt$10.
-        final Node v$pt$10 = yyOpValue1;
-
-        yyBase   = yyOption1;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue() &&
-            ((Node)yyResult.semanticValue()).getTokenText().equals(")")) {
-          final Node v$pt$9 = yyResult.semanticValue();
-          final Node v$g$5 = Formatting.round1(v$pt$8, v$pt$10, v$pt$9);
+        yyOpValue1 = null;
 
-          yyValue = new Action<Node>() {
-            public Node run(Node v$1) {
-              return GNode.create("FunctionCall", v$1, v$g$5);
-            }};
+        yyResult = pExpressionList(yyOption1);
+        yyError  = yyResult.select(yyError, yyOption1);
+        if (yyResult.hasValue()) {
+          final Node v$el$1 = yyResult.semanticValue();
 
-          return yyResult.createValue(yyValue, yyError);
-        } else {
-          yyError = yyError.select("')' expected", yyBase);
+          yyOption1  = yyResult.index;
+          yyOpValue1 = v$el$1;
         }
-      } // End scope for v$pt$10.
+        { // Start scope for v$pt$10.
+          final Node v$pt$10 = yyOpValue1;
+
+          yyBase   = yyOption1;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue() &&
+              ((Node)yyResult.semanticValue()).getTokenText().equals(")")) {
+            final Node v$pt$9 = yyResult.semanticValue();
+            final Node v$g$5 = Formatting.round1(v$pt$8, v$pt$10, v$pt$9);
+
+            yyValue = new Action<Node>() {
+              public Node run(Node v$1) {
+                return GNode.create("FunctionCall", v$1, v$g$5);
+              }};
+
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("')' expected", yyBase);
+          }
+        } // End scope for v$pt$10.
+      }
     }
 
     // Alternative 5.
+    if (0 != (yyFirst & 0x10)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("++")) {
-      final Node v$pt$11 = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("++")) {
+        final Node v$pt$11 = yyResult.semanticValue();
 
-      yyValue = new Action<Node>() {
-        public Node run(Node v$1) {
-          Node yyValue = GNode.create("PostincrementExpression", v$1);
-          yyValue = Formatting.after1(yyValue, v$pt$11);
-          return yyValue;
-        }};
+        yyValue = new Action<Node>() {
+          public Node run(Node v$1) {
+            Node yyValue = GNode.create("PostincrementExpression", v$1);
+            yyValue = Formatting.after1(yyValue, v$pt$11);
+            return yyValue;
+          }};
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 6.
+    if (0 != (yyFirst & 0x20)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("--")) {
-      final Node v$pt$12 = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("--")) {
+        final Node v$pt$12 = yyResult.semanticValue();
 
-      yyValue = new Action<Node>() {
-        public Node run(Node v$1) {
-          Node yyValue = GNode.create("PostdecrementExpression", v$1);
-          yyValue = Formatting.after1(yyValue, v$pt$12);
-          return yyValue;
-        }};
+        yyValue = new Action<Node>() {
+          public Node run(Node v$1) {
+            Node yyValue = GNode.create("PostdecrementExpression", v$1);
+            yyValue = Formatting.after1(yyValue, v$pt$12);
+            return yyValue;
+          }};
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -9165,10 +11361,15 @@ public final class CReader extends ParserBase {
    */
   private Result pExpressionList(final int yyStart) throws IOException {
     CReaderColumn yyColumn = (CReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fExpressionList) 
-      yyColumn.chunk2.fExpressionList = pExpressionList$1(yyStart);
-    return yyColumn.chunk2.fExpressionList;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fExpressionList) {
+      yyColumn.chunk3.fExpressionList = pExpressionList$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(19, yyColumn.chunk3.fExpressionList);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(19, yyColumn.chunk3.fExpressionList);
+    }
+    return yyColumn.chunk3.fExpressionList;
   }
 
   /** Actually parse xtc.lang.C.ExpressionList. */
@@ -9190,7 +11391,7 @@ public final class CReader extends ParserBase {
         final Pair<Node> v$g$2 = yyResult.semanticValue();
 
         yyValue = GNode.createFromPair("ExpressionList", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -9213,10 +11414,16 @@ public final class CReader extends ParserBase {
     throws IOException {
 
     CReaderColumn yyColumn = (CReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fExpressionList$$Star1) 
-      yyColumn.chunk3.fExpressionList$$Star1 = pExpressionList$$Star1$1(yyStart);
-    return yyColumn.chunk3.fExpressionList$$Star1;
+    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
+    if (null == yyColumn.chunk4.fExpressionList$$Star1) {
+      yyColumn.chunk4.fExpressionList$$Star1 = 
+        pExpressionList$$Star1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(20, yyColumn.chunk4.fExpressionList$$Star1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(20, yyColumn.chunk4.fExpressionList$$Star1);
+    }
+    return yyColumn.chunk4.fExpressionList$$Star1;
   }
 
   /** Actually parse xtc.lang.C.ExpressionList$$Star1. */
@@ -9333,7 +11540,7 @@ public final class CReader extends ParserBase {
                     addNode(v$pt$7).add(v$pt$5).add(v$pt$6);
 
                   yyValue = GNode.create("CompoundLiteral", v$g$1, v$g$2);
-                  yyValue.setLocation(location(yyStart));
+                  locate(yyValue, yyStart);
 
                   return yyResult.createValue(yyValue, yyError);
                 } else {
@@ -9370,27 +11577,141 @@ public final class CReader extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x8;
+      break;
+
+    case '\"':
+    case '\'':
+    case '0':
+    case '1':
+    case '2':
+    case '3':
+    case '4':
+    case '5':
+    case '6':
+    case '7':
+    case '8':
+    case '9':
+      yyFirst = 0x1;
+      break;
+
+    case '.':
+      yyFirst = 0x9;
+      break;
+
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x6;
+      break;
+
+    case 'L':
+      yyFirst = 0x7;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Constant>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pConstant(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pConstant(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 2.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pIdentifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final Node v$g$1 = yyResult.semanticValue();
+      yyResult = pIdentifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final Node v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("PrimaryIdentifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("PrimaryIdentifier", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 3.
@@ -9415,7 +11736,7 @@ public final class CReader extends ParserBase {
             final Node v$g$1 = Formatting.round1(v$pt$1, v$pt$3, v$pt$2);
 
             yyValue = GNode.create("StatementAsExpression", v$g$1);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
@@ -9426,82 +11747,86 @@ public final class CReader extends ParserBase {
     }
 
     // Alternative 4.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("__builtin_va_arg")) {
-      final Node v$pt$1 = yyResult.semanticValue();
-
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
+      yyResult = pKeyword(yyStart);
       if (yyResult.hasValue() &&
-          ((Node)yyResult.semanticValue()).getTokenText().equals("(")) {
-        final Node v$pt$2 = yyResult.semanticValue();
+          ((Node)yyResult.semanticValue()).getTokenText().equals("__builtin_va_arg")) {
+        final Node v$pt$1 = yyResult.semanticValue();
 
-        yyResult = pAssignmentExpression(yyResult.index);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$pt$4 = yyResult.semanticValue();
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue() &&
+            ((Node)yyResult.semanticValue()).getTokenText().equals("(")) {
+          final Node v$pt$2 = yyResult.semanticValue();
 
-          yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue() &&
-              ((Node)yyResult.semanticValue()).getTokenText().equals(",")) {
-            final Node v$pt$3 = yyResult.semanticValue();
-            final Node v$g$1 = Formatting.variable().
-              add(v$pt$1).add(v$pt$2).addNode(v$pt$4).add(v$pt$3);
+          yyResult = pAssignmentExpression(yyResult.index);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Node v$pt$4 = yyResult.semanticValue();
 
-            yyResult = pTypeName(yyResult.index);
-            yyError  = yyResult.select(yyError);
-            if (yyResult.hasValue()) {
-              final Node v$pt$6 = yyResult.semanticValue();
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue() &&
+                ((Node)yyResult.semanticValue()).getTokenText().equals(",")) {
+              final Node v$pt$3 = yyResult.semanticValue();
+              final Node v$g$1 = Formatting.variable().
+                add(v$pt$1).add(v$pt$2).addNode(v$pt$4).add(v$pt$3);
 
-              yyBase   = yyResult.index;
-              yyResult = pSymbol(yyBase);
-              if (yyResult.hasValue() &&
-                  ((Node)yyResult.semanticValue()).getTokenText().equals(")")) {
-                final Node v$pt$5 = yyResult.semanticValue();
-                final Node v$g$2 = Formatting.after1(v$pt$6, v$pt$5);
+              yyResult = pTypeName(yyResult.index);
+              yyError  = yyResult.select(yyError);
+              if (yyResult.hasValue()) {
+                final Node v$pt$6 = yyResult.semanticValue();
 
-                yyValue = GNode.create("VariableArgumentAccess", v$g$1, v$g$2);
-                yyValue.setLocation(location(yyStart));
+                yyBase   = yyResult.index;
+                yyResult = pSymbol(yyBase);
+                if (yyResult.hasValue() &&
+                    ((Node)yyResult.semanticValue()).getTokenText().equals(")")) {
+                  final Node v$pt$5 = yyResult.semanticValue();
+                  final Node v$g$2 = Formatting.after1(v$pt$6, v$pt$5);
 
-                return yyResult.createValue(yyValue, yyError);
-              } else {
-                yyError = yyError.select("')' expected", yyBase);
+                  yyValue = GNode.create("VariableArgumentAccess", v$g$1, v$g$2);
+                  locate(yyValue, yyStart);
+
+                  return yyResult.createValue(yyValue, yyError);
+                } else {
+                  yyError = yyError.select("')' expected", yyBase);
+                }
               }
+            } else {
+              yyError = yyError.select("',' expected", yyBase);
             }
-          } else {
-            yyError = yyError.select("',' expected", yyBase);
           }
+        } else {
+          yyError = yyError.select("'(' expected", yyBase);
         }
-      } else {
-        yyError = yyError.select("'(' expected", yyBase);
       }
     }
 
     // Alternative <ParenthesizedExpression>.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("(")) {
-      final Node v$pt$1 = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("(")) {
+        final Node v$pt$1 = yyResult.semanticValue();
 
-      yyResult = pCommaExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$pt$3 = yyResult.semanticValue();
+        yyResult = pCommaExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$pt$3 = yyResult.semanticValue();
 
-        yyBase   = yyResult.index;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue() &&
-            ((Node)yyResult.semanticValue()).getTokenText().equals(")")) {
-          final Node v$pt$2 = yyResult.semanticValue();
-          yyValue = Formatting.round1(v$pt$1, v$pt$3, v$pt$2);
+          yyBase   = yyResult.index;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue() &&
+              ((Node)yyResult.semanticValue()).getTokenText().equals(")")) {
+            final Node v$pt$2 = yyResult.semanticValue();
+            yyValue = Formatting.round1(v$pt$1, v$pt$3, v$pt$2);
 
-          return yyResult.createValue(yyValue, yyError);
-        } else {
-          yyError = yyError.select("')' expected", yyBase);
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("')' expected", yyBase);
+          }
         }
       }
     }
@@ -9533,7 +11858,7 @@ public final class CReader extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.create("PrimaryIdentifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -9572,7 +11897,7 @@ public final class CReader extends ParserBase {
         final Node v$g$1 = Formatting.after1(v$pt$2, v$pt$1);
 
         yyValue = GNode.create("AssemblyDefinition", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       } else {
@@ -9598,8 +11923,14 @@ public final class CReader extends ParserBase {
 
     CReaderColumn yyColumn = (CReaderColumn)column(yyStart);
     if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fSimpleAssemblyExpression) 
-      yyColumn.chunk3.fSimpleAssemblyExpression = pSimpleAssemblyExpression$1(yyStart);
+    if (null == yyColumn.chunk3.fSimpleAssemblyExpression) {
+      yyColumn.chunk3.fSimpleAssemblyExpression = 
+        pSimpleAssemblyExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(21, yyColumn.chunk3.fSimpleAssemblyExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(21, yyColumn.chunk3.fSimpleAssemblyExpression);
+    }
     return yyColumn.chunk3.fSimpleAssemblyExpression;
   }
 
@@ -9639,7 +11970,7 @@ public final class CReader extends ParserBase {
               add(v$pt$1).add(v$pt$2).addNode(v$pt$4).add(v$pt$3);
 
             yyValue = GNode.create("SimpleAssemblyExpression", v$g$1);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
@@ -9746,7 +12077,7 @@ public final class CReader extends ParserBase {
                   final Node v$g$4 = Formatting.before1(v$pt$5, v$pt$6);
 
                   yyValue = GNode.create("AssemblyArgument", v$g$1, v$g$2, v$g$3, v$g$4);
-                  yyValue.setLocation(location(yyStart));
+                  locate(yyValue, yyStart);
 
                   return yyResult.createValue(yyValue, yyError);
                 }
@@ -9757,7 +12088,7 @@ public final class CReader extends ParserBase {
               // Nested alternative 2.
 
               yyValue = GNode.create("AssemblyArgument", v$g$1, v$g$2, v$g$3);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return new SemanticValue(yyValue, yyChoice3, yyError);
             } // End scope for v$pt$4.
@@ -9768,7 +12099,7 @@ public final class CReader extends ParserBase {
           // Nested alternative 2.
 
           yyValue = GNode.create("AssemblyArgument", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyChoice2, yyError);
         } // End scope for v$pt$2.
@@ -9779,7 +12110,7 @@ public final class CReader extends ParserBase {
       // Nested alternative 2.
 
       yyValue = GNode.create("AssemblyArgument", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return new SemanticValue(yyValue, yyChoice1, yyError);
     }
@@ -9799,10 +12130,15 @@ public final class CReader extends ParserBase {
    */
   private Result pAssemblyOperands(final int yyStart) throws IOException {
     CReaderColumn yyColumn = (CReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fAssemblyOperands) 
-      yyColumn.chunk3.fAssemblyOperands = pAssemblyOperands$1(yyStart);
-    return yyColumn.chunk3.fAssemblyOperands;
+    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
+    if (null == yyColumn.chunk4.fAssemblyOperands) {
+      yyColumn.chunk4.fAssemblyOperands = pAssemblyOperands$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(22, yyColumn.chunk4.fAssemblyOperands);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(22, yyColumn.chunk4.fAssemblyOperands);
+    }
+    return yyColumn.chunk4.fAssemblyOperands;
   }
 
   /** Actually parse xtc.lang.C.AssemblyOperands. */
@@ -9824,7 +12160,7 @@ public final class CReader extends ParserBase {
         final Pair<Node> v$g$2 = yyResult.semanticValue();
 
         yyValue = GNode.createFromPair("AssemblyOperands", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -9847,10 +12183,16 @@ public final class CReader extends ParserBase {
     throws IOException {
 
     CReaderColumn yyColumn = (CReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fAssemblyOperands$$Star1) 
-      yyColumn.chunk3.fAssemblyOperands$$Star1 = pAssemblyOperands$$Star1$1(yyStart);
-    return yyColumn.chunk3.fAssemblyOperands$$Star1;
+    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
+    if (null == yyColumn.chunk4.fAssemblyOperands$$Star1) {
+      yyColumn.chunk4.fAssemblyOperands$$Star1 = 
+        pAssemblyOperands$$Star1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(23, yyColumn.chunk4.fAssemblyOperands$$Star1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(23, yyColumn.chunk4.fAssemblyOperands$$Star1);
+    }
+    return yyColumn.chunk4.fAssemblyOperands$$Star1;
   }
 
   /** Actually parse xtc.lang.C.AssemblyOperands$$Star1. */
@@ -9905,8 +12247,13 @@ public final class CReader extends ParserBase {
   private Result pAssemblyOperand(final int yyStart) throws IOException {
     CReaderColumn yyColumn = (CReaderColumn)column(yyStart);
     if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fAssemblyOperand) 
+    if (null == yyColumn.chunk3.fAssemblyOperand) {
       yyColumn.chunk3.fAssemblyOperand = pAssemblyOperand$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(24, yyColumn.chunk3.fAssemblyOperand);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(24, yyColumn.chunk3.fAssemblyOperand);
+    }
     return yyColumn.chunk3.fAssemblyOperand;
   }
 
@@ -9979,7 +12326,7 @@ public final class CReader extends ParserBase {
               final Node v$g$3 = Formatting.after1(v$pt$7, v$pt$6);
 
               yyValue = GNode.create("AssemblyOperand", v$g$1, v$g$2, v$g$3);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             } else {
@@ -10009,7 +12356,8 @@ public final class CReader extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -10021,7 +12369,8 @@ public final class CReader extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyBase   = yyRepetition1;
@@ -10037,7 +12386,7 @@ public final class CReader extends ParserBase {
             final Node v$el$1 = Formatting.before1(v$pt$1, v$pt$2);
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
         } else {
@@ -10046,10 +12395,11 @@ public final class CReader extends ParserBase {
         break;
       }
       { // Start scope for v$g$2.
-        final Pair<Node> v$g$2 = yyRepValue1.reverse();
+        final int v$g$2 = yyRepStart1;
+        final int v$g$2$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("AssemblyClobbers", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("AssemblyClobbers", v$g$1, v$g$2, v$g$2$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$2.
@@ -10071,8 +12421,13 @@ public final class CReader extends ParserBase {
   private Result pAsmKeyword(final int yyStart) throws IOException {
     CReaderColumn yyColumn = (CReaderColumn)column(yyStart);
     if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fAsmKeyword) 
+    if (null == yyColumn.chunk3.fAsmKeyword) {
       yyColumn.chunk3.fAsmKeyword = pAsmKeyword$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(25, yyColumn.chunk3.fAsmKeyword);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(25, yyColumn.chunk3.fAsmKeyword);
+    }
     return yyColumn.chunk3.fAsmKeyword;
   }
 
@@ -10082,43 +12437,111 @@ public final class CReader extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x7;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("asm")) {
-      final Node v$g$1 = yyResult.semanticValue();
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("asm")) {
+        final Node v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("AsmKeyword", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("AsmKeyword", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("__asm")) {
-      final Node v$g$2 = yyResult.semanticValue();
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("__asm")) {
+        final Node v$g$2 = yyResult.semanticValue();
 
-      yyValue = GNode.create("AsmKeyword", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("AsmKeyword", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("__asm__")) {
-      final Node v$g$3 = yyResult.semanticValue();
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("__asm__")) {
+        final Node v$g$3 = yyResult.semanticValue();
 
-      yyValue = GNode.create("AsmKeyword", v$g$3);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("AsmKeyword", v$g$3);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -10140,58 +12563,101 @@ public final class CReader extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
-    // Alternative 1.
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '\"':
+      yyFirst = 0x8;
+      break;
 
-    yyResult = pFloatingConstant(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final Node v$pt$2 = yyResult.semanticValue();
+    case '\'':
+      yyFirst = 0x4;
+      break;
 
-      yyResult = pSpacing(yyResult.index);
+    case '.':
+      yyFirst = 0x1;
+      break;
+
+    case '0':
+    case '1':
+    case '2':
+    case '3':
+    case '4':
+    case '5':
+    case '6':
+    case '7':
+    case '8':
+    case '9':
+      yyFirst = 0x3;
+      break;
+
+    case 'L':
+      yyFirst = 0xc;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
+    // Alternative 1.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
+
+      yyResult = pFloatingConstant(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
-        final Token v$pt$1 = yyResult.semanticValue();
-        yyValue = Formatting.after1(v$pt$2, v$pt$1);
+        final Node v$pt$2 = yyResult.semanticValue();
 
-        return yyResult.createValue(yyValue, yyError);
+        yyResult = pSpacing(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Token v$pt$1 = yyResult.semanticValue();
+          yyValue = Formatting.after1(v$pt$2, v$pt$1);
+
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 2.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pIntegerConstant(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final Node v$pt$4 = yyResult.semanticValue();
-
-      yyResult = pSpacing(yyResult.index);
+      yyResult = pIntegerConstant(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
-        final Token v$pt$3 = yyResult.semanticValue();
-        yyValue = Formatting.after1(v$pt$4, v$pt$3);
+        final Node v$pt$4 = yyResult.semanticValue();
+
+        yyResult = pSpacing(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Token v$pt$3 = yyResult.semanticValue();
+          yyValue = Formatting.after1(v$pt$4, v$pt$3);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 3.
+    if ((0 != (yyFirst & 0x4)) || (yyError.index < yyStart)) {
 
-    yyResult = pCharacterConstant(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pCharacterConstant(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 4.
+    if ((0 != (yyFirst & 0x8)) || (yyError.index < yyStart)) {
 
-    yyResult = pStringConstant(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pStringConstant(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -10212,43 +12678,71 @@ public final class CReader extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '0':
+      yyFirst = 0x3;
+      break;
+
+    case '1':
+    case '2':
+    case '3':
+    case '4':
+    case '5':
+    case '6':
+    case '7':
+    case '8':
+    case '9':
+      yyFirst = 0x4;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Hex>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pHexConstant(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final Token v$g$1 = yyResult.semanticValue();
+      yyResult = pHexConstant(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final Token v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerConstant", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("IntegerConstant", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Octal>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pOctalConstant(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final Token v$g$2 = yyResult.semanticValue();
+      yyResult = pOctalConstant(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final Token v$g$2 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerConstant", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("IntegerConstant", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Decimal>.
+    if ((0 != (yyFirst & 0x4)) || (yyError.index < yyStart)) {
 
-    yyResult = pDecimalConstant(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final Token v$g$3 = yyResult.semanticValue();
+      yyResult = pDecimalConstant(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final Token v$g$3 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerConstant", v$g$3);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("IntegerConstant", v$g$3);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -10290,35 +12784,7 @@ public final class CReader extends ParserBase {
       case '8':
       case '9':
         {
-          yyRepetition1 = yyIndex;
-          while (true) {
-
-            yyC = character(yyRepetition1);
-            if (-1 != yyC) {
-              yyIndex = yyRepetition1 + 1;
-
-              switch (yyC) {
-              case '0':
-              case '1':
-              case '2':
-              case '3':
-              case '4':
-              case '5':
-              case '6':
-              case '7':
-              case '8':
-              case '9':
-                {
-                  yyRepetition1 = yyIndex;
-                  continue;
-                }
-
-              default:
-                /* No match. */
-              }
-            }
-            break;
-          }
+          yyRepetition1 = scan(yyIndex, 0x3ff000000000000L, 0x0L, false);
 
           yyOption1  = yyRepetition1;
 
@@ -10330,7 +12796,7 @@ public final class CReader extends ParserBase {
           }
 
           yyValue = new TextToken(difference(yyStart, yyOption1));
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyOption1, yyError);
         }
@@ -10426,7 +12892,7 @@ public final class CReader extends ParserBase {
         }
 
         yyValue = new TextToken(difference(yyStart, yyOption1));
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyOption1, yyError);
       }
@@ -10506,33 +12972,7 @@ public final class CReader extends ParserBase {
     if ('0' == yyC) {
       yyIndex = yyStart + 1;
 
-      yyRepetition1 = yyIndex;
-      while (true) {
-
-        yyC = character(yyRepetition1);
-        if (-1 != yyC) {
-          yyIndex = yyRepetition1 + 1;
-
-          switch (yyC) {
-          case '0':
-          case '1':
-          case '2':
-          case '3':
-          case '4':
-          case '5':
-          case '6':
-          case '7':
-            {
-              yyRepetition1 = yyIndex;
-              continue;
-            }
-
-          default:
-            /* No match. */
-          }
-        }
-        break;
-      }
+      yyRepetition1 = scan(yyIndex, 0xff000000000000L, 0x0L, false);
 
       yyOption1  = yyRepetition1;
 
@@ -10544,7 +12984,7 @@ public final class CReader extends ParserBase {
       }
 
       yyValue = new TextToken(difference(yyStart, yyOption1));
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return new SemanticValue(yyValue, yyOption1, yyError);
     }
@@ -10570,156 +13010,176 @@ public final class CReader extends ParserBase {
     Void       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'L':
+    case 'l':
+      yyFirst = 0x3;
+      break;
+
+    case 'U':
+    case 'u':
+      yyFirst = 0x2;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pLongLongSuffix(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
+      yyResult = pLongLongSuffix(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
 
-      final int yyChoice1 = yyResult.index;
+        final int yyChoice1 = yyResult.index;
 
-      // Nested alternative 1.
+        // Nested alternative 1.
 
-      yyC = character(yyChoice1);
-      if (-1 != yyC) {
-        yyIndex = yyChoice1 + 1;
+        yyC = character(yyChoice1);
+        if (-1 != yyC) {
+          yyIndex = yyChoice1 + 1;
 
-        switch (yyC) {
-        case 'U':
-        case 'u':
-          {
-            yyValue = null;
+          switch (yyC) {
+          case 'U':
+          case 'u':
+            {
+              yyValue = null;
 
-            return new SemanticValue(yyValue, yyIndex, yyError);
-          }
+              return new SemanticValue(yyValue, yyIndex, yyError);
+            }
 
-        default:
-          /* No match. */
+          default:
+            /* No match. */
+          }
         }
-      }
 
-      // Nested alternative 2.
+        // Nested alternative 2.
 
-      yyValue = null;
+        yyValue = null;
 
-      return new SemanticValue(yyValue, yyChoice1, yyError);
+        return new SemanticValue(yyValue, yyChoice1, yyError);
+      }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyC = character(yyStart);
-    if (-1 != yyC) {
-      yyIndex = yyStart + 1;
+      yyC = character(yyStart);
+      if (-1 != yyC) {
+        yyIndex = yyStart + 1;
 
-      switch (yyC) {
-      case 'L':
-      case 'l':
-        {
-          final int yyChoice1 = yyIndex;
+        switch (yyC) {
+        case 'L':
+        case 'l':
+          {
+            final int yyChoice1 = yyIndex;
 
-          // Nested alternative 1.
+            // Nested alternative 1.
 
-          yyC = character(yyChoice1);
-          if (-1 != yyC) {
-            yyIndex = yyChoice1 + 1;
+            yyC = character(yyChoice1);
+            if (-1 != yyC) {
+              yyIndex = yyChoice1 + 1;
 
-            switch (yyC) {
-            case 'U':
-            case 'u':
-              {
-                yyValue = null;
+              switch (yyC) {
+              case 'U':
+              case 'u':
+                {
+                  yyValue = null;
 
-                return new SemanticValue(yyValue, yyIndex, yyError);
-              }
+                  return new SemanticValue(yyValue, yyIndex, yyError);
+                }
 
-            default:
-              /* No match. */
+              default:
+                /* No match. */
+              }
             }
-          }
 
-          // Nested alternative 2.
+            // Nested alternative 2.
 
-          yyValue = null;
+            yyValue = null;
 
-          return new SemanticValue(yyValue, yyChoice1, yyError);
-        }
+            return new SemanticValue(yyValue, yyChoice1, yyError);
+          }
 
-      case 'U':
-      case 'u':
-        {
-          final int yyChoice1 = yyIndex;
+        case 'U':
+        case 'u':
+          {
+            final int yyChoice1 = yyIndex;
 
-          // Nested alternative 1.
+            // Nested alternative 1.
 
-          yyC = character(yyChoice1);
-          if (-1 != yyC) {
-            yyIndex = yyChoice1 + 1;
+            yyC = character(yyChoice1);
+            if (-1 != yyC) {
+              yyIndex = yyChoice1 + 1;
 
-            switch (yyC) {
-            case 'l':
-              {
-                yyC = character(yyIndex);
-                if (-1 != yyC) {
-                  yyIndex = yyIndex + 1;
-                  if ('l' == yyC) {
+              switch (yyC) {
+              case 'l':
+                {
+                  yyC = character(yyIndex);
+                  if (-1 != yyC) {
+                    yyIndex = yyIndex + 1;
+                    if ('l' == yyC) {
 
-                    yyValue = null;
+                      yyValue = null;
 
-                    return new SemanticValue(yyValue, yyIndex, yyError);
+                      return new SemanticValue(yyValue, yyIndex, yyError);
+                    }
                   }
                 }
-              }
-              break;
+                break;
 
-            case 'L':
-              {
-                yyC = character(yyIndex);
-                if (-1 != yyC) {
-                  yyIndex = yyIndex + 1;
-                  if ('L' == yyC) {
+              case 'L':
+                {
+                  yyC = character(yyIndex);
+                  if (-1 != yyC) {
+                    yyIndex = yyIndex + 1;
+                    if ('L' == yyC) {
 
-                    yyValue = null;
+                      yyValue = null;
 
-                    return new SemanticValue(yyValue, yyIndex, yyError);
+                      return new SemanticValue(yyValue, yyIndex, yyError);
+                    }
                   }
                 }
-              }
-              break;
+                break;
 
-            default:
-              /* No match. */
+              default:
+                /* No match. */
+              }
             }
-          }
 
-          // Nested alternative 2.
+            // Nested alternative 2.
 
-          yyC = character(yyChoice1);
-          if (-1 != yyC) {
-            yyIndex = yyChoice1 + 1;
+            yyC = character(yyChoice1);
+            if (-1 != yyC) {
+              yyIndex = yyChoice1 + 1;
 
-            switch (yyC) {
-            case 'L':
-            case 'l':
-              {
-                yyValue = null;
+              switch (yyC) {
+              case 'L':
+              case 'l':
+                {
+                  yyValue = null;
 
-                return new SemanticValue(yyValue, yyIndex, yyError);
-              }
+                  return new SemanticValue(yyValue, yyIndex, yyError);
+                }
 
-            default:
-              /* No match. */
+              default:
+                /* No match. */
+              }
             }
-          }
 
-          // Nested alternative 3.
+            // Nested alternative 3.
 
-          yyValue = null;
+            yyValue = null;
 
-          return new SemanticValue(yyValue, yyChoice1, yyError);
-        }
+            return new SemanticValue(yyValue, yyChoice1, yyError);
+          }
 
-      default:
-        /* No match. */
+        default:
+          /* No match. */
+        }
       }
     }
 
@@ -10804,30 +13264,57 @@ public final class CReader extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '.':
+    case '1':
+    case '2':
+    case '3':
+    case '4':
+    case '5':
+    case '6':
+    case '7':
+    case '8':
+    case '9':
+      yyFirst = 0x1;
+      break;
+
+    case '0':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Decimal>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pDecimalFloatingConstant(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final Token v$g$1 = yyResult.semanticValue();
+      yyResult = pDecimalFloatingConstant(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final Token v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("FloatingConstant", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("FloatingConstant", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Hex>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pHexFloatingConstant(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final Token v$g$2 = yyResult.semanticValue();
+      yyResult = pHexFloatingConstant(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final Token v$g$2 = yyResult.semanticValue();
 
-      yyValue = GNode.create("FloatingConstant", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("FloatingConstant", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -10855,119 +13342,33 @@ public final class CReader extends ParserBase {
     Token      yyValue;
     ParseError yyError = ParseError.DUMMY;
 
-    // Alternative 1.
-
-    yyRepetition1 = yyStart;
-    yyRepeated1   = false;
-    while (true) {
-
-      yyC = character(yyRepetition1);
-      if (-1 != yyC) {
-        yyIndex = yyRepetition1 + 1;
-
-        switch (yyC) {
-        case '0':
-        case '1':
-        case '2':
-        case '3':
-        case '4':
-        case '5':
-        case '6':
-        case '7':
-        case '8':
-        case '9':
-          {
-            yyRepetition1 = yyIndex;
-            yyRepeated1   = true;
-            continue;
-          }
-
-        default:
-          /* No match. */
-        }
-      }
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '.':
+      yyFirst = 0x2;
       break;
-    }
-
-    if (yyRepeated1) {
-
-      yyC = character(yyRepetition1);
-      if ('.' == yyC) {
-        yyIndex = yyRepetition1 + 1;
 
-        yyRepetition1 = yyIndex;
-        while (true) {
-
-          yyC = character(yyRepetition1);
-          if (-1 != yyC) {
-            yyIndex = yyRepetition1 + 1;
-
-            switch (yyC) {
-            case '0':
-            case '1':
-            case '2':
-            case '3':
-            case '4':
-            case '5':
-            case '6':
-            case '7':
-            case '8':
-            case '9':
-              {
-                yyRepetition1 = yyIndex;
-                continue;
-              }
-
-            default:
-              /* No match. */
-            }
-          }
-          break;
-        }
-
-        yyOption1  = yyRepetition1;
-
-        yyResult = pExponent(yyOption1);
-        yyError  = yyResult.select(yyError, yyOption1);
-        if (yyResult.hasValue()) {
-
-          yyOption1  = yyResult.index;
-        }
-
-
-        yyC = character(yyOption1);
-        if (-1 != yyC) {
-          yyIndex = yyOption1 + 1;
-
-          switch (yyC) {
-          case 'F':
-          case 'L':
-          case 'f':
-          case 'l':
-            {
-              yyOption1  = yyIndex;
-            }
-            break;
-
-          default:
-            /* No match. */
-          }
-        }
-
-        yyValue = new TextToken(difference(yyStart, yyOption1));
-        yyValue.setLocation(location(yyStart));
+    case '0':
+    case '1':
+    case '2':
+    case '3':
+    case '4':
+    case '5':
+    case '6':
+    case '7':
+    case '8':
+    case '9':
+      yyFirst = 0x5;
+      break;
 
-        return new SemanticValue(yyValue, yyOption1, yyError);
-      }
+    default:
+      yyFirst = 0;
     }
 
-    // Alternative 2.
-
-    yyC = character(yyStart);
-    if ('.' == yyC) {
-      yyIndex = yyStart + 1;
+    // Alternative 1.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index <= yyStart)) {
 
-      yyRepetition1 = yyIndex;
+      yyRepetition1 = yyStart;
       yyRepeated1   = false;
       while (true) {
 
@@ -11001,107 +13402,194 @@ public final class CReader extends ParserBase {
 
       if (yyRepeated1) {
 
-        yyOption1  = yyRepetition1;
+        yyC = character(yyRepetition1);
+        if ('.' == yyC) {
+          yyIndex = yyRepetition1 + 1;
 
-        yyResult = pExponent(yyOption1);
-        yyError  = yyResult.select(yyError, yyOption1);
-        if (yyResult.hasValue()) {
+          yyRepetition1 = scan(yyIndex, 0x3ff000000000000L, 0x0L, false);
 
-          yyOption1  = yyResult.index;
-        }
+          yyOption1  = yyRepetition1;
 
+          yyResult = pExponent(yyOption1);
+          yyError  = yyResult.select(yyError, yyOption1);
+          if (yyResult.hasValue()) {
 
-        yyC = character(yyOption1);
-        if (-1 != yyC) {
-          yyIndex = yyOption1 + 1;
+            yyOption1  = yyResult.index;
+          }
 
-          switch (yyC) {
-          case 'F':
-          case 'L':
-          case 'f':
-          case 'l':
-            {
-              yyOption1  = yyIndex;
-            }
-            break;
 
-          default:
-            /* No match. */
+          yyC = character(yyOption1);
+          if (-1 != yyC) {
+            yyIndex = yyOption1 + 1;
+
+            switch (yyC) {
+            case 'F':
+            case 'L':
+            case 'f':
+            case 'l':
+              {
+                yyOption1  = yyIndex;
+              }
+              break;
+
+            default:
+              /* No match. */
+            }
           }
-        }
 
-        yyValue = new TextToken(difference(yyStart, yyOption1));
-        yyValue.setLocation(location(yyStart));
+          yyValue = new TextToken(difference(yyStart, yyOption1));
+          locate(yyValue, yyStart);
 
-        return new SemanticValue(yyValue, yyOption1, yyError);
+          return new SemanticValue(yyValue, yyOption1, yyError);
+        }
       }
     }
 
-    // Alternative 3.
+    // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyRepetition1 = yyStart;
-    yyRepeated1   = false;
-    while (true) {
+      yyC = character(yyStart);
+      if ('.' == yyC) {
+        yyIndex = yyStart + 1;
 
-      yyC = character(yyRepetition1);
-      if (-1 != yyC) {
-        yyIndex = yyRepetition1 + 1;
+        yyRepetition1 = yyIndex;
+        yyRepeated1   = false;
+        while (true) {
 
-        switch (yyC) {
-        case '0':
-        case '1':
-        case '2':
-        case '3':
-        case '4':
-        case '5':
-        case '6':
-        case '7':
-        case '8':
-        case '9':
-          {
-            yyRepetition1 = yyIndex;
-            yyRepeated1   = true;
-            continue;
+          yyC = character(yyRepetition1);
+          if (-1 != yyC) {
+            yyIndex = yyRepetition1 + 1;
+
+            switch (yyC) {
+            case '0':
+            case '1':
+            case '2':
+            case '3':
+            case '4':
+            case '5':
+            case '6':
+            case '7':
+            case '8':
+            case '9':
+              {
+                yyRepetition1 = yyIndex;
+                yyRepeated1   = true;
+                continue;
+              }
+
+            default:
+              /* No match. */
+            }
           }
+          break;
+        }
 
-        default:
-          /* No match. */
+        if (yyRepeated1) {
+
+          yyOption1  = yyRepetition1;
+
+          yyResult = pExponent(yyOption1);
+          yyError  = yyResult.select(yyError, yyOption1);
+          if (yyResult.hasValue()) {
+
+            yyOption1  = yyResult.index;
+          }
+
+
+          yyC = character(yyOption1);
+          if (-1 != yyC) {
+            yyIndex = yyOption1 + 1;
+
+            switch (yyC) {
+            case 'F':
+            case 'L':
+            case 'f':
+            case 'l':
+              {
+                yyOption1  = yyIndex;
+              }
+              break;
+
+            default:
+              /* No match. */
+            }
+          }
+
+          yyValue = new TextToken(difference(yyStart, yyOption1));
+          locate(yyValue, yyStart);
+
+          return new SemanticValue(yyValue, yyOption1, yyError);
         }
       }
-      break;
     }
 
-    if (yyRepeated1) {
-
-      yyResult = pExponent(yyRepetition1);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
+    // Alternative 3.
+    if ((0 != (yyFirst & 0x4)) || (yyError.index <= yyStart)) {
 
-        yyOption1  = yyResult.index;
+      yyRepetition1 = yyStart;
+      yyRepeated1   = false;
+      while (true) {
 
-        yyC = character(yyOption1);
+        yyC = character(yyRepetition1);
         if (-1 != yyC) {
-          yyIndex = yyOption1 + 1;
+          yyIndex = yyRepetition1 + 1;
 
           switch (yyC) {
-          case 'F':
-          case 'L':
-          case 'f':
-          case 'l':
+          case '0':
+          case '1':
+          case '2':
+          case '3':
+          case '4':
+          case '5':
+          case '6':
+          case '7':
+          case '8':
+          case '9':
             {
-              yyOption1  = yyIndex;
+              yyRepetition1 = yyIndex;
+              yyRepeated1   = true;
+              continue;
             }
-            break;
 
           default:
             /* No match. */
           }
         }
+        break;
+      }
 
-        yyValue = new TextToken(difference(yyStart, yyOption1));
-        yyValue.setLocation(location(yyStart));
+      if (yyRepeated1) {
 
-        return new SemanticValue(yyValue, yyOption1, yyError);
+        yyResult = pExponent(yyRepetition1);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+
+          yyOption1  = yyResult.index;
+
+          yyC = character(yyOption1);
+          if (-1 != yyC) {
+            yyIndex = yyOption1 + 1;
+
+            switch (yyC) {
+            case 'F':
+            case 'L':
+            case 'f':
+            case 'l':
+              {
+                yyOption1  = yyIndex;
+              }
+              break;
+
+            default:
+              /* No match. */
+            }
+          }
+
+          yyValue = new TextToken(difference(yyStart, yyOption1));
+          locate(yyValue, yyStart);
+
+          return new SemanticValue(yyValue, yyOption1, yyError);
+        }
       }
     }
 
@@ -11189,47 +13677,7 @@ public final class CReader extends ParserBase {
         if ('.' == yyC) {
           yyIndex = yyRepetition1 + 1;
 
-          yyRepetition1 = yyIndex;
-          while (true) {
-
-            yyC = character(yyRepetition1);
-            if (-1 != yyC) {
-              yyIndex = yyRepetition1 + 1;
-
-              switch (yyC) {
-              case '0':
-              case '1':
-              case '2':
-              case '3':
-              case '4':
-              case '5':
-              case '6':
-              case '7':
-              case '8':
-              case '9':
-              case 'A':
-              case 'B':
-              case 'C':
-              case 'D':
-              case 'E':
-              case 'F':
-              case 'a':
-              case 'b':
-              case 'c':
-              case 'd':
-              case 'e':
-              case 'f':
-                {
-                  yyRepetition1 = yyIndex;
-                  continue;
-                }
-
-              default:
-                /* No match. */
-              }
-            }
-            break;
-          }
+          yyRepetition1 = scan(yyIndex, 0x3ff000000000000L, 0x7e0000007eL, false);
 
           yyResult = pBinaryExponent(yyRepetition1);
           yyError  = yyResult.select(yyError);
@@ -11257,7 +13705,7 @@ public final class CReader extends ParserBase {
             }
 
             yyValue = new TextToken(difference(yyStart, yyOption1));
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return new SemanticValue(yyValue, yyOption1, yyError);
           }
@@ -11342,7 +13790,7 @@ public final class CReader extends ParserBase {
             }
 
             yyValue = new TextToken(difference(yyStart, yyOption1));
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return new SemanticValue(yyValue, yyOption1, yyError);
           }
@@ -11423,7 +13871,7 @@ public final class CReader extends ParserBase {
           }
 
           yyValue = new TextToken(difference(yyStart, yyOption1));
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyOption1, yyError);
         }
@@ -11446,10 +13894,15 @@ public final class CReader extends ParserBase {
    */
   private Result pExponent(final int yyStart) throws IOException {
     CReaderColumn yyColumn = (CReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fExponent) 
-      yyColumn.chunk3.fExponent = pExponent$1(yyStart);
-    return yyColumn.chunk3.fExponent;
+    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
+    if (null == yyColumn.chunk4.fExponent) {
+      yyColumn.chunk4.fExponent = pExponent$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(26, yyColumn.chunk4.fExponent);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(26, yyColumn.chunk4.fExponent);
+    }
+    return yyColumn.chunk4.fExponent;
   }
 
   /** Actually parse xtc.lang.CConstant.Exponent. */
@@ -11524,10 +13977,15 @@ public final class CReader extends ParserBase {
    */
   private Result p$$Shared2(final int yyStart) throws IOException {
     CReaderColumn yyColumn = (CReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.f$$Shared2) 
-      yyColumn.chunk3.f$$Shared2 = p$$Shared2$1(yyStart);
-    return yyColumn.chunk3.f$$Shared2;
+    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
+    if (null == yyColumn.chunk4.f$$Shared2) {
+      yyColumn.chunk4.f$$Shared2 = p$$Shared2$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(27, yyColumn.chunk4.f$$Shared2);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(27, yyColumn.chunk4.f$$Shared2);
+    }
+    return yyColumn.chunk4.f$$Shared2;
   }
 
   /** Actually parse xtc.lang.C.$$Shared2. */
@@ -11597,10 +14055,15 @@ public final class CReader extends ParserBase {
    */
   private Result pBinaryExponent(final int yyStart) throws IOException {
     CReaderColumn yyColumn = (CReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fBinaryExponent) 
-      yyColumn.chunk3.fBinaryExponent = pBinaryExponent$1(yyStart);
-    return yyColumn.chunk3.fBinaryExponent;
+    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
+    if (null == yyColumn.chunk4.fBinaryExponent) {
+      yyColumn.chunk4.fBinaryExponent = pBinaryExponent$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(28, yyColumn.chunk4.fBinaryExponent);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(28, yyColumn.chunk4.fBinaryExponent);
+    }
+    return yyColumn.chunk4.fBinaryExponent;
   }
 
   /** Actually parse xtc.lang.CConstant.BinaryExponent. */
@@ -11676,43 +14139,61 @@ public final class CReader extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
-    // Alternative 1.
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '\'':
+      yyFirst = 0x2;
+      break;
 
-    yyResult = pWideCharacterLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final Token v$pt$2 = yyResult.semanticValue();
+    case 'L':
+      yyFirst = 0x1;
+      break;
 
-      yyResult = pSpacing(yyResult.index);
+    default:
+      yyFirst = 0;
+    }
+
+    // Alternative 1.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
+
+      yyResult = pWideCharacterLiteral(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
-        final Token v$pt$1 = yyResult.semanticValue();
-        final Node v$g$1 = Formatting.after1(v$pt$2, v$pt$1);
+        final Token v$pt$2 = yyResult.semanticValue();
+
+        yyResult = pSpacing(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Token v$pt$1 = yyResult.semanticValue();
+          final Node v$g$1 = Formatting.after1(v$pt$2, v$pt$1);
 
-        yyValue = GNode.create("CharacterConstant", v$g$1);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("CharacterConstant", v$g$1);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 2.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pCharacterLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final Token v$pt$4 = yyResult.semanticValue();
-
-      yyResult = pSpacing(yyResult.index);
+      yyResult = pCharacterLiteral(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
-        final Token v$pt$3 = yyResult.semanticValue();
-        final Node v$g$2 = Formatting.after1(v$pt$4, v$pt$3);
+        final Token v$pt$4 = yyResult.semanticValue();
+
+        yyResult = pSpacing(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Token v$pt$3 = yyResult.semanticValue();
+          final Node v$g$2 = Formatting.after1(v$pt$4, v$pt$3);
 
-        yyValue = GNode.create("CharacterConstant", v$g$2);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("CharacterConstant", v$g$2);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
@@ -11747,7 +14228,7 @@ public final class CReader extends ParserBase {
       if (yyResult.hasValue()) {
 
         yyValue = new TextToken(difference(yyStart, yyResult.index));
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -11769,10 +14250,15 @@ public final class CReader extends ParserBase {
    */
   private Result pCharacterLiteral(final int yyStart) throws IOException {
     CReaderColumn yyColumn = (CReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fCharacterLiteral) 
-      yyColumn.chunk3.fCharacterLiteral = pCharacterLiteral$1(yyStart);
-    return yyColumn.chunk3.fCharacterLiteral;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fCharacterLiteral) {
+      yyColumn.chunk1.fCharacterLiteral = pCharacterLiteral$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(29, yyColumn.chunk1.fCharacterLiteral);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(29, yyColumn.chunk1.fCharacterLiteral);
+    }
+    return yyColumn.chunk1.fCharacterLiteral;
   }
 
   /** Actually parse xtc.lang.CConstant.CharacterLiteral. */
@@ -11798,7 +14284,7 @@ public final class CReader extends ParserBase {
           yyIndex = yyResult.index + 1;
 
           yyValue = new TextToken(difference(yyStart, yyIndex));
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyIndex, yyError);
         }
@@ -11956,10 +14442,15 @@ public final class CReader extends ParserBase {
    */
   private Result pStringConstant(final int yyStart) throws IOException {
     CReaderColumn yyColumn = (CReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.fStringConstant) 
-      yyColumn.chunk4.fStringConstant = pStringConstant$1(yyStart);
-    return yyColumn.chunk4.fStringConstant;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fStringConstant) {
+      yyColumn.chunk1.fStringConstant = pStringConstant$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(30, yyColumn.chunk1.fStringConstant);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(30, yyColumn.chunk1.fStringConstant);
+    }
+    return yyColumn.chunk1.fStringConstant;
   }
 
   /** Actually parse xtc.lang.CConstant.StringConstant. */
@@ -11976,7 +14467,7 @@ public final class CReader extends ParserBase {
       final Pair<Node> v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.createFromPair("StringConstant", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -12001,37 +14492,55 @@ public final class CReader extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
-    // Alternative 1.
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '\"':
+      yyFirst = 0x2;
+      break;
 
-    yyResult = pWideStringLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final Token v$pt$2 = yyResult.semanticValue();
+    case 'L':
+      yyFirst = 0x1;
+      break;
 
-      yyResult = pSpacing(yyResult.index);
+    default:
+      yyFirst = 0;
+    }
+
+    // Alternative 1.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
+
+      yyResult = pWideStringLiteral(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
-        final Token v$pt$1 = yyResult.semanticValue();
-        yyValue = Formatting.after1(v$pt$2, v$pt$1);
+        final Token v$pt$2 = yyResult.semanticValue();
 
-        return yyResult.createValue(yyValue, yyError);
+        yyResult = pSpacing(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Token v$pt$1 = yyResult.semanticValue();
+          yyValue = Formatting.after1(v$pt$2, v$pt$1);
+
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 2.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pStringLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final Token v$pt$4 = yyResult.semanticValue();
-
-      yyResult = pSpacing(yyResult.index);
+      yyResult = pStringLiteral(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
-        final Token v$pt$3 = yyResult.semanticValue();
-        yyValue = Formatting.after1(v$pt$4, v$pt$3);
+        final Token v$pt$4 = yyResult.semanticValue();
 
-        return yyResult.createValue(yyValue, yyError);
+        yyResult = pSpacing(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Token v$pt$3 = yyResult.semanticValue();
+          yyValue = Formatting.after1(v$pt$4, v$pt$3);
+
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
@@ -12052,10 +14561,16 @@ public final class CReader extends ParserBase {
     throws IOException {
 
     CReaderColumn yyColumn = (CReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.fStringConstant$$Plus1) 
-      yyColumn.chunk4.fStringConstant$$Plus1 = pStringConstant$$Plus1$1(yyStart);
-    return yyColumn.chunk4.fStringConstant$$Plus1;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fStringConstant$$Plus1) {
+      yyColumn.chunk1.fStringConstant$$Plus1 = 
+        pStringConstant$$Plus1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(31, yyColumn.chunk1.fStringConstant$$Plus1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(31, yyColumn.chunk1.fStringConstant$$Plus1);
+    }
+    return yyColumn.chunk1.fStringConstant$$Plus1;
   }
 
   /** Actually parse xtc.lang.C.StringConstant$$Plus1. */
@@ -12125,7 +14640,7 @@ public final class CReader extends ParserBase {
       if (yyResult.hasValue()) {
 
         yyValue = new TextToken(difference(yyStart, yyResult.index));
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -12147,10 +14662,15 @@ public final class CReader extends ParserBase {
    */
   private Result pStringLiteral(final int yyStart) throws IOException {
     CReaderColumn yyColumn = (CReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.fStringLiteral) 
-      yyColumn.chunk4.fStringLiteral = pStringLiteral$1(yyStart);
-    return yyColumn.chunk4.fStringLiteral;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fStringLiteral) {
+      yyColumn.chunk1.fStringLiteral = pStringLiteral$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(32, yyColumn.chunk1.fStringLiteral);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(32, yyColumn.chunk1.fStringLiteral);
+    }
+    return yyColumn.chunk1.fStringLiteral;
   }
 
   /** Actually parse xtc.lang.CConstant.StringLiteral. */
@@ -12176,7 +14696,7 @@ public final class CReader extends ParserBase {
           yyIndex = yyResult.index + 1;
 
           yyValue = new TextToken(difference(yyStart, yyIndex));
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyIndex, yyError);
         }
@@ -12666,10 +15186,15 @@ public final class CReader extends ParserBase {
    */
   private Result pIdentifier(final int yyStart) throws IOException {
     CReaderColumn yyColumn = (CReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.fIdentifier) 
-      yyColumn.chunk4.fIdentifier = pIdentifier$1(yyStart);
-    return yyColumn.chunk4.fIdentifier;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fIdentifier) {
+      yyColumn.chunk1.fIdentifier = pIdentifier$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(33, yyColumn.chunk1.fIdentifier);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(33, yyColumn.chunk1.fIdentifier);
+    }
+    return yyColumn.chunk1.fIdentifier;
   }
 
   /** Actually parse xtc.lang.CIdentifier.Identifier. */
@@ -12707,10 +15232,15 @@ public final class CReader extends ParserBase {
    */
   private Result pKeyword(final int yyStart) throws IOException {
     CReaderColumn yyColumn = (CReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.fKeyword) 
-      yyColumn.chunk4.fKeyword = pKeyword$1(yyStart);
-    return yyColumn.chunk4.fKeyword;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fKeyword) {
+      yyColumn.chunk1.fKeyword = pKeyword$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(34, yyColumn.chunk1.fKeyword);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(34, yyColumn.chunk1.fKeyword);
+    }
+    return yyColumn.chunk1.fKeyword;
   }
 
   /** Actually parse xtc.lang.CIdentifier.Keyword. */
@@ -12748,10 +15278,14 @@ public final class CReader extends ParserBase {
    */
   private Result pWord(final int yyStart) throws IOException {
     CReaderColumn yyColumn = (CReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.fWord) 
-      yyColumn.chunk4.fWord = pWord$1(yyStart);
-    return yyColumn.chunk4.fWord;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fWord) {
+      yyColumn.chunk1.fWord = pWord$1(yyStart);
+      if (null != yyStatistics) yyStatistics.miss(35, yyColumn.chunk1.fWord);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(35, yyColumn.chunk1.fWord);
+    }
+    return yyColumn.chunk1.fWord;
   }
 
   /** Actually parse xtc.lang.CIdentifier.Word. */
@@ -12802,30 +15336,12 @@ public final class CReader extends ParserBase {
     yyC = character(yyStart);
     if (-1 != yyC) {
       yyIndex = yyStart + 1;
-      if ((('A' <= yyC) && (yyC <= 'Z')) ||
-          ('_' == yyC) ||
-          (('a' <= yyC) && (yyC <= 'z'))) {
-
-        yyRepetition1 = yyIndex;
-        while (true) {
-
-          yyC = character(yyRepetition1);
-          if (-1 != yyC) {
-            yyIndex = yyRepetition1 + 1;
-            if ((('0' <= yyC) && (yyC <= '9')) ||
-                (('A' <= yyC) && (yyC <= 'Z')) ||
-                ('_' == yyC) ||
-                (('a' <= yyC) && (yyC <= 'z'))) {
+      if ((yyC < 128) && (0 != (yyClass1[yyC >> 6] & (1L << yyC)))) {
 
-              yyRepetition1 = yyIndex;
-              continue;
-            }
-          }
-          break;
-        }
+        yyRepetition1 = scan(yyIndex, 0x3ff000000000000L, 0x7fffffe87fffffeL, false);
 
         yyValue = new TextToken(difference(yyStart, yyRepetition1));
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       }
@@ -12847,10 +15363,15 @@ public final class CReader extends ParserBase {
    */
   private Result pSymbol(final int yyStart) throws IOException {
     CReaderColumn yyColumn = (CReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.fSymbol) 
-      yyColumn.chunk4.fSymbol = pSymbol$1(yyStart);
-    return yyColumn.chunk4.fSymbol;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fSymbol) {
+      yyColumn.chunk1.fSymbol = pSymbol$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(36, yyColumn.chunk1.fSymbol);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(36, yyColumn.chunk1.fSymbol);
+    }
+    return yyColumn.chunk1.fSymbol;
   }
 
   /** Actually parse xtc.lang.CSymbol.Symbol. */
@@ -12925,7 +15446,7 @@ public final class CReader extends ParserBase {
                   if ('=' == yyC) {
 
                     yyValue = new TextToken(">>=");
-                    yyValue.setLocation(location(yyStart));
+                    locate(yyValue, yyStart);
 
                     return new SemanticValue(yyValue, yyIndex, yyError);
                   }
@@ -12934,7 +15455,7 @@ public final class CReader extends ParserBase {
                 // Nested alternative 2.
 
                 yyValue = new TextToken(">>");
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return new SemanticValue(yyValue, yyChoice2, yyError);
               }
@@ -12942,7 +15463,7 @@ public final class CReader extends ParserBase {
             case '=':
               {
                 yyValue = new TextToken(">=");
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return new SemanticValue(yyValue, yyIndex, yyError);
               }
@@ -12955,7 +15476,7 @@ public final class CReader extends ParserBase {
           // Nested alternative 2.
 
           yyValue = new TextToken(">");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyChoice1, yyError);
         }
@@ -12983,7 +15504,7 @@ public final class CReader extends ParserBase {
                   if ('=' == yyC) {
 
                     yyValue = new TextToken("<<=");
-                    yyValue.setLocation(location(yyStart));
+                    locate(yyValue, yyStart);
 
                     return new SemanticValue(yyValue, yyIndex, yyError);
                   }
@@ -12992,7 +15513,7 @@ public final class CReader extends ParserBase {
                 // Nested alternative 2.
 
                 yyValue = new TextToken("<<");
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return new SemanticValue(yyValue, yyChoice2, yyError);
               }
@@ -13000,7 +15521,7 @@ public final class CReader extends ParserBase {
             case '=':
               {
                 yyValue = new TextToken("<=");
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return new SemanticValue(yyValue, yyIndex, yyError);
               }
@@ -13013,7 +15534,7 @@ public final class CReader extends ParserBase {
           // Nested alternative 2.
 
           yyValue = new TextToken("<");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyChoice1, yyError);
         }
@@ -13035,7 +15556,7 @@ public final class CReader extends ParserBase {
                 if ('.' == yyC) {
 
                   yyValue = new TextToken("...");
-                  yyValue.setLocation(location(yyStart));
+                  locate(yyValue, yyStart);
 
                   return new SemanticValue(yyValue, yyIndex, yyError);
                 }
@@ -13046,7 +15567,7 @@ public final class CReader extends ParserBase {
           // Nested alternative 2.
 
           yyValue = new TextToken(".");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyChoice1, yyError);
         }
@@ -13065,7 +15586,7 @@ public final class CReader extends ParserBase {
             case '=':
               {
                 yyValue = new TextToken("+=");
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return new SemanticValue(yyValue, yyIndex, yyError);
               }
@@ -13073,7 +15594,7 @@ public final class CReader extends ParserBase {
             case '+':
               {
                 yyValue = new TextToken("++");
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return new SemanticValue(yyValue, yyIndex, yyError);
               }
@@ -13086,7 +15607,7 @@ public final class CReader extends ParserBase {
           // Nested alternative 2.
 
           yyValue = new TextToken("+");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyChoice1, yyError);
         }
@@ -13105,7 +15626,7 @@ public final class CReader extends ParserBase {
             case '=':
               {
                 yyValue = new TextToken("-=");
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return new SemanticValue(yyValue, yyIndex, yyError);
               }
@@ -13113,7 +15634,7 @@ public final class CReader extends ParserBase {
             case '-':
               {
                 yyValue = new TextToken("--");
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return new SemanticValue(yyValue, yyIndex, yyError);
               }
@@ -13121,7 +15642,7 @@ public final class CReader extends ParserBase {
             case '>':
               {
                 yyValue = new TextToken("->");
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return new SemanticValue(yyValue, yyIndex, yyError);
               }
@@ -13134,7 +15655,7 @@ public final class CReader extends ParserBase {
           // Nested alternative 2.
 
           yyValue = new TextToken("-");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyChoice1, yyError);
         }
@@ -13151,7 +15672,7 @@ public final class CReader extends ParserBase {
             if ('=' == yyC) {
 
               yyValue = new TextToken("*=");
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return new SemanticValue(yyValue, yyIndex, yyError);
             }
@@ -13160,7 +15681,7 @@ public final class CReader extends ParserBase {
           // Nested alternative 2.
 
           yyValue = new TextToken("*");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyChoice1, yyError);
         }
@@ -13177,7 +15698,7 @@ public final class CReader extends ParserBase {
             if ('=' == yyC) {
 
               yyValue = new TextToken("/=");
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return new SemanticValue(yyValue, yyIndex, yyError);
             }
@@ -13186,7 +15707,7 @@ public final class CReader extends ParserBase {
           // Nested alternative 2.
 
           yyValue = new TextToken("/");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyChoice1, yyError);
         }
@@ -13203,7 +15724,7 @@ public final class CReader extends ParserBase {
             if ('=' == yyC) {
 
               yyValue = new TextToken("%=");
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return new SemanticValue(yyValue, yyIndex, yyError);
             }
@@ -13212,7 +15733,7 @@ public final class CReader extends ParserBase {
           // Nested alternative 2.
 
           yyValue = new TextToken("%");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyChoice1, yyError);
         }
@@ -13231,7 +15752,7 @@ public final class CReader extends ParserBase {
             case '=':
               {
                 yyValue = new TextToken("&=");
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return new SemanticValue(yyValue, yyIndex, yyError);
               }
@@ -13239,7 +15760,7 @@ public final class CReader extends ParserBase {
             case '&':
               {
                 yyValue = new TextToken("&&");
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return new SemanticValue(yyValue, yyIndex, yyError);
               }
@@ -13252,7 +15773,7 @@ public final class CReader extends ParserBase {
           // Nested alternative 2.
 
           yyValue = new TextToken("&");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyChoice1, yyError);
         }
@@ -13269,7 +15790,7 @@ public final class CReader extends ParserBase {
             if ('=' == yyC) {
 
               yyValue = new TextToken("^=");
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return new SemanticValue(yyValue, yyIndex, yyError);
             }
@@ -13278,7 +15799,7 @@ public final class CReader extends ParserBase {
           // Nested alternative 2.
 
           yyValue = new TextToken("^");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyChoice1, yyError);
         }
@@ -13297,7 +15818,7 @@ public final class CReader extends ParserBase {
             case '=':
               {
                 yyValue = new TextToken("|=");
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return new SemanticValue(yyValue, yyIndex, yyError);
               }
@@ -13305,7 +15826,7 @@ public final class CReader extends ParserBase {
             case '|':
               {
                 yyValue = new TextToken("||");
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return new SemanticValue(yyValue, yyIndex, yyError);
               }
@@ -13318,7 +15839,7 @@ public final class CReader extends ParserBase {
           // Nested alternative 2.
 
           yyValue = new TextToken("|");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyChoice1, yyError);
         }
@@ -13335,7 +15856,7 @@ public final class CReader extends ParserBase {
             if ('=' == yyC) {
 
               yyValue = new TextToken("==");
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return new SemanticValue(yyValue, yyIndex, yyError);
             }
@@ -13344,7 +15865,7 @@ public final class CReader extends ParserBase {
           // Nested alternative 2.
 
           yyValue = new TextToken("=");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyChoice1, yyError);
         }
@@ -13361,7 +15882,7 @@ public final class CReader extends ParserBase {
             if ('=' == yyC) {
 
               yyValue = new TextToken("!=");
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return new SemanticValue(yyValue, yyIndex, yyError);
             }
@@ -13370,7 +15891,7 @@ public final class CReader extends ParserBase {
           // Nested alternative 2.
 
           yyValue = new TextToken("!");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyChoice1, yyError);
         }
@@ -13378,7 +15899,7 @@ public final class CReader extends ParserBase {
       case ';':
         {
           yyValue = new TextToken(";");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyIndex, yyError);
         }
@@ -13386,7 +15907,7 @@ public final class CReader extends ParserBase {
       case ':':
         {
           yyValue = new TextToken(":");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyIndex, yyError);
         }
@@ -13394,7 +15915,7 @@ public final class CReader extends ParserBase {
       case ',':
         {
           yyValue = new TextToken(",");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyIndex, yyError);
         }
@@ -13402,7 +15923,7 @@ public final class CReader extends ParserBase {
       case '{':
         {
           yyValue = new TextToken("{");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyIndex, yyError);
         }
@@ -13410,7 +15931,7 @@ public final class CReader extends ParserBase {
       case '}':
         {
           yyValue = new TextToken("}");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyIndex, yyError);
         }
@@ -13418,7 +15939,7 @@ public final class CReader extends ParserBase {
       case '(':
         {
           yyValue = new TextToken("(");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyIndex, yyError);
         }
@@ -13426,7 +15947,7 @@ public final class CReader extends ParserBase {
       case ')':
         {
           yyValue = new TextToken(")");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyIndex, yyError);
         }
@@ -13434,7 +15955,7 @@ public final class CReader extends ParserBase {
       case '[':
         {
           yyValue = new TextToken("[");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyIndex, yyError);
         }
@@ -13442,7 +15963,7 @@ public final class CReader extends ParserBase {
       case ']':
         {
           yyValue = new TextToken("]");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyIndex, yyError);
         }
@@ -13450,7 +15971,7 @@ public final class CReader extends ParserBase {
       case '~':
         {
           yyValue = new TextToken("~");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyIndex, yyError);
         }
@@ -13458,7 +15979,7 @@ public final class CReader extends ParserBase {
       case '?':
         {
           yyValue = new TextToken("?");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyIndex, yyError);
         }
@@ -13599,28 +16120,7 @@ public final class CReader extends ParserBase {
 
               case '/':
                 {
-                  yyRepetition2 = yyIndex;
-                  while (true) {
-
-                    yyC = character(yyRepetition2);
-                    if (-1 != yyC) {
-                      yyIndex = yyRepetition2 + 1;
-
-                      switch (yyC) {
-                      case '\n':
-                      case '\r':
-                        /* No match. */
-                        break;
-
-                      default:
-                        {
-                          yyRepetition2 = yyIndex;
-                          continue;
-                        }
-                      }
-                    }
-                    break;
-                  }
+                  yyRepetition2 = scan(yyIndex, 0xffffffffffffdbffL, 0xffffffffffffffffL, true);
 
                   yyPredResult = pLineTerminator(yyRepetition2);
                   yyError      = yyPredResult.select(yyError);
@@ -13690,7 +16190,7 @@ public final class CReader extends ParserBase {
     }
 
     yyValue = new TextToken(difference(yyStart, yyRepetition1));
-    yyValue.setLocation(location(yyStart));
+    locate(yyValue, yyStart);
 
     return new SemanticValue(yyValue, yyRepetition1, yyError);
   }
@@ -14236,35 +16736,7 @@ public final class CReader extends ParserBase {
       case '8':
       case '9':
         {
-          yyRepetition1 = yyIndex;
-          while (true) {
-
-            yyC = character(yyRepetition1);
-            if (-1 != yyC) {
-              yyIndex = yyRepetition1 + 1;
-
-              switch (yyC) {
-              case '0':
-              case '1':
-              case '2':
-              case '3':
-              case '4':
-              case '5':
-              case '6':
-              case '7':
-              case '8':
-              case '9':
-                {
-                  yyRepetition1 = yyIndex;
-                  continue;
-                }
-
-              default:
-                /* No match. */
-              }
-            }
-            break;
-          }
+          yyRepetition1 = scan(yyIndex, 0x3ff000000000000L, 0x0L, false);
 
           yyValue = difference(yyStart, yyRepetition1);
 
@@ -14373,28 +16845,7 @@ public final class CReader extends ParserBase {
 
     // Alternative 1.
 
-    yyRepetition1 = yyStart;
-    while (true) {
-
-      yyC = character(yyRepetition1);
-      if (-1 != yyC) {
-        yyIndex = yyRepetition1 + 1;
-
-        switch (yyC) {
-        case '\n':
-        case '\r':
-          /* No match. */
-          break;
-
-        default:
-          {
-            yyRepetition1 = yyIndex;
-            continue;
-          }
-        }
-      }
-      break;
-    }
+    yyRepetition1 = scan(yyStart, 0xffffffffffffdbffL, 0xffffffffffffffffL, true);
 
     yyValue = difference(yyStart, yyRepetition1);
 
@@ -14581,6 +17032,11 @@ public final class CReader extends ParserBase {
 
   // =========================================================================
 
+  /** The bit map for a character class. */
+  private static final long[] yyClass1 = { 0x0L, 0x7fffffe87fffffeL };
+
+  // =========================================================================
+
   static {
     add(C_KEYWORDS, new String[] {
       "auto",       "break",      "case",       "char",
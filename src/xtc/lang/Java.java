@@ -196,50 +196,43 @@ public class Java extends Tool {
 
   public Node parse(Reader in, File file) throws IOException, ParseException {
     if (runtime.test("optionJava7") && runtime.test("optionParseTree")) {
-      JavaSevenReader parser =
-        new JavaSevenReader(in, file.toString(), (int)file.length());
+      JavaSevenReader parser = getParser(JavaSevenReader.class, in, file);
       Result         result = parser.pCompilationUnit(0);
       printMemoInfo(parser, file);
       return (Node)parser.value(result);
       
     } else if (runtime.test("optionJava7") && runtime.test("optionAST")) {
-      JavaSevenParser parser =
-        new JavaSevenParser(in, file.toString(), (int)file.length());
+      JavaSevenParser parser = getParser(JavaSevenParser.class, in, file);
       Result         result = parser.pCompilationUnit(0);
       printMemoInfo(parser, file);
       return (Node)parser.value(result);
       
     } else if (runtime.test("optionJava5") && runtime.test("optionParseTree")) {
-      JavaFiveReader parser =
-        new JavaFiveReader(in, file.toString(), (int)file.length());
+      JavaFiveReader parser = getParser(JavaFiveReader.class, in, file);
       Result         result = parser.pCompilationUnit(0);
       printMemoInfo(parser, file);
       return (Node)parser.value(result);
       
     } else if (runtime.test("optionJava5") && runtime.test("optionAST")) {
-      JavaFiveParser parser =
-        new JavaFiveParser(in, file.toString(), (int)file.length());
+      JavaFiveParser parser = getParser(JavaFiveParser.class, in, file);
       Result         result = parser.pCompilationUnit(0);
       printMemoInfo(parser, file);
       return (Node)parser.value(result);
       
     } else if (runtime.test("optionParseTree")) {
-      JavaReader parser =
-        new JavaReader(in, file.toString(), (int)file.length());
+      JavaReader parser = getParser(JavaReader.class, in, file);
       Result     result = parser.pCompilationUnit(0);
       printMemoInfo(parser, file);
       return (Node)parser.value(result);
       
     } else if (runtime.test("optionAST")) {
-      JavaParser parser =
-        new JavaParser(in, file.toString(), (int)file.length());
+      JavaParser parser = getParser(JavaParser.class, in, file);
       Result     result = parser.pCompilationUnit(0);
       printMemoInfo(parser, file);
       return (Node)parser.value(result);
       
     } else {
-      JavaRecognizer parser =
-        new JavaRecognizer(in, file.toString(), (int)file.length());
+      JavaRecognizer parser = getParser(JavaRecognizer.class, in, file);
       Result         result = parser.pCompilationUnit(0);
       printMemoInfo(parser, file);
       return (Node)parser.value(result);
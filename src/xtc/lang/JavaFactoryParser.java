@@ -1,8 +1,8 @@
 // ===========================================================================
 // This file has been generated by
-// Rats! Parser Generator, version 2.1.0,
-// (C) 2004-2011 Robert Grimm,
-// on Friday, August 5, 2011 at 9:37:42 AM.
+// Rats! Parser Generator, version 2.3.1,
+// (C) 2004-2012 Robert Grimm,
+// on Sunday, October 18, 2026 at 7:30:44 PM.
 // Edit at your own risk.
 // ===========================================================================
 
@@ -30,7 +30,7 @@ import xtc.parser.ParseError;
  * Packrat parser for grammar <code>xtc.lang.JavaFactory</code>.
  *
  * <p />This class has been generated by the <i>Rats!</i> parser
- * generator, version 2.1.0, (C) 2004-2011 Robert Grimm.
+ * generator, version 2.3.1, (C) 2004-2012 Robert Grimm.
  */
 public final class JavaFactoryParser extends ParserBase {
 
@@ -41,57 +41,108 @@ public final class JavaFactoryParser extends ParserBase {
 
   /** Chunk 1 of memoized results. */
   static final class Chunk1 {
+    Result fWord;
+    Result fIdentifier;
+    Result fTypeInstantiation;
+    Result fQualifiedIdentifier;
+    Result fPrimitiveType;
+    Result fTypeName;
+    Result fType;
+    Result fSymbol;
+    Result fResultType;
+    Result fJavaPattern$NodeVariable;
+
+    void clear() {
+      fWord = null;
+      fIdentifier = null;
+      fTypeInstantiation = null;
+      fQualifiedIdentifier = null;
+      fPrimitiveType = null;
+      fTypeName = null;
+      fType = null;
+      fSymbol = null;
+      fResultType = null;
+      fJavaPattern$NodeVariable = null;
+    }
+  }
+
+  /** Chunk 2 of memoized results. */
+  static final class Chunk2 {
+    Result fTypeArguments;
+    Result fRelationalExpression;
+    Result fLogicalOrExpression;
+    Result fConditionalExpression;
+    Result fExpression;
     Result fModifiers;
+    Result fBlock;
+    Result fNodeListVariable;
+    Result fBlock$$Star1;
+    Result fVariableInitializer;
+
+    void clear() {
+      fTypeArguments = null;
+      fRelationalExpression = null;
+      fLogicalOrExpression = null;
+      fConditionalExpression = null;
+      fExpression = null;
+      fModifiers = null;
+      fBlock = null;
+      fNodeListVariable = null;
+      fBlock$$Star1 = null;
+      fVariableInitializer = null;
+    }
+  }
+
+  /** Chunk 3 of memoized results. */
+  static final class Chunk3 {
+    Result fDimensions$$Plus1;
+    Result fDimensions;
     Result fFormalParameters;
     Result fFormalParameters$$Star1;
     Result fDeclarators;
     Result fDeclarators$$Star1;
     Result fImplementation;
     Result fImplementation$$Star1;
-    Result fBlock;
-    Result fBlock$$Star1;
     Result fParExpression;
+    Result fCatchClause;
+
+    void clear() {
+      fDimensions$$Plus1 = null;
+      fDimensions = null;
+      fFormalParameters = null;
+      fFormalParameters$$Star1 = null;
+      fDeclarators = null;
+      fDeclarators$$Star1 = null;
+      fImplementation = null;
+      fImplementation$$Star1 = null;
+      fParExpression = null;
+      fCatchClause = null;
+    }
   }
 
-  /** Chunk 2 of memoized results. */
-  static final class Chunk2 {
-    Result fCatchClause;
-    Result fExpression;
-    Result fConditionalExpression;
-    Result fLogicalOrExpression;
-    Result fRelationalExpression;
-    Result fVariableInitializer;
+  /** Chunk 4 of memoized results. */
+  static final class Chunk4 {
     Result fElementValuePair;
     Result fElementValue;
     Result fResource;
-    Result fJavaPattern$NodeVariable;
-  }
-
-  /** Chunk 3 of memoized results. */
-  static final class Chunk3 {
-    Result fNodeListVariable;
-    Result fResultType;
-    Result fType;
-    Result fTypeName;
-    Result fPrimitiveType;
-    Result fDimensions;
-    Result fDimensions$$Plus1;
     Result fTypeParameters;
     Result fTypeParameters$$Star1;
     Result fTypeParameter;
-  }
-
-  /** Chunk 4 of memoized results. */
-  static final class Chunk4 {
-    Result fTypeArguments;
     Result fTypeArguments$$Star1;
     Result fTypeArgument;
-    Result fTypeInstantiation;
-    Result fQualifiedIdentifier;
     Result fQualifiedIdentifier$$Star1;
-    Result fIdentifier;
-    Result fWord;
-    Result fSymbol;
+
+    void clear() {
+      fElementValuePair = null;
+      fElementValue = null;
+      fResource = null;
+      fTypeParameters = null;
+      fTypeParameters$$Star1 = null;
+      fTypeParameter = null;
+      fTypeArguments$$Star1 = null;
+      fTypeArgument = null;
+      fQualifiedIdentifier$$Star1 = null;
+    }
   }
 
   // =========================================================================
@@ -102,6 +153,14 @@ public final class JavaFactoryParser extends ParserBase {
     Chunk2 chunk2;
     Chunk3 chunk3;
     Chunk4 chunk4;
+
+    protected boolean clear() {
+      if (null != chunk1) chunk1.clear();
+      if (null != chunk2) chunk2.clear();
+      if (null != chunk3) chunk3.clear();
+      if (null != chunk4) chunk4.clear();
+      return true;
+    }
   }
 
   // =========================================================================
@@ -135,6 +194,55 @@ public final class JavaFactoryParser extends ParserBase {
 
   // =========================================================================
 
+  /** The names of the memoized productions. */
+  private static final String[] yyProductions = {
+    "xtc.lang.JavaPattern.Modifiers",
+    "xtc.lang.JavaPattern.FormalParameters",
+    "xtc.lang.JavaFactory.FormalParameters$$Star1",
+    "xtc.lang.JavaPattern.Declarators",
+    "xtc.lang.JavaFactory.Declarators$$Star1",
+    "xtc.lang.JavaPattern.Implementation",
+    "xtc.lang.JavaFactory.Implementation$$Star1",
+    "xtc.lang.JavaPattern.Block",
+    "xtc.lang.JavaFactory.Block$$Star1",
+    "xtc.lang.JavaPattern.ParExpression",
+    "xtc.lang.JavaPattern.CatchClause",
+    "xtc.lang.JavaPattern.Expression",
+    "xtc.lang.JavaPattern.ConditionalExpression",
+    "xtc.lang.JavaPattern.LogicalOrExpression",
+    "xtc.lang.JavaPattern.RelationalExpression",
+    "xtc.lang.JavaPattern.VariableInitializer",
+    "xtc.lang.JavaPattern.ElementValuePair",
+    "xtc.lang.JavaPattern.ElementValue",
+    "xtc.lang.JavaPattern.Resource",
+    "xtc.lang.JavaPattern.NodeVariable",
+    "xtc.lang.JavaPattern.NodeListVariable",
+    "xtc.lang.JavaTypePattern.ResultType",
+    "xtc.lang.JavaTypePattern.Type",
+    "xtc.lang.JavaTypePattern.TypeName",
+    "xtc.lang.JavaTypePattern.PrimitiveType",
+    "xtc.lang.JavaTypePattern.Dimensions",
+    "xtc.lang.JavaFactory.Dimensions$$Plus1",
+    "xtc.lang.JavaTypePattern.TypeParameters",
+    "xtc.lang.JavaFactory.TypeParameters$$Star1",
+    "xtc.lang.JavaTypePattern.TypeParameter",
+    "xtc.lang.JavaTypePattern.TypeArguments",
+    "xtc.lang.JavaFactory.TypeArguments$$Star1",
+    "xtc.lang.JavaTypePattern.TypeArgument",
+    "xtc.lang.JavaTypePattern.TypeInstantiation",
+    "xtc.lang.JavaFiveIdentifier.QualifiedIdentifier",
+    "xtc.lang.JavaFactory.QualifiedIdentifier$$Star1",
+    "xtc.lang.JavaFiveIdentifier.Identifier",
+    "xtc.lang.JavaFiveIdentifier.Word",
+    "xtc.lang.JavaFiveSymbol.Symbol",
+  };
+
+  protected String[] productions() {
+    return yyProductions;
+  }
+
+  // =========================================================================
+
   /**
    * Parse nonterminal xtc.lang.JavaFactory.Factory.
    *
@@ -181,7 +289,7 @@ public final class JavaFactoryParser extends ParserBase {
                 if (yyResult.hasValue()) {
 
                   yyValue = GNode.create("Factory", v$g$1, v$g$2);
-                  yyValue.setLocation(location(yyStart));
+                  locate(yyValue, yyStart);
 
                   return yyResult.createValue(yyValue, yyError);
                 }
@@ -215,7 +323,8 @@ public final class JavaFactoryParser extends ParserBase {
     Result     yyResult;
     int        yyRepetition1;
     boolean    yyRepeated1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -223,7 +332,8 @@ public final class JavaFactoryParser extends ParserBase {
 
     yyRepetition1 = yyStart;
     yyRepeated1   = false;
-    yyRepValue1   = Pair.empty();
+    yyRepStart1   = bufferStart();
+    yyRepEnd1   = yyRepStart1;
     while (true) {
 
       yyResult = pMethod(yyRepetition1);
@@ -233,17 +343,18 @@ public final class JavaFactoryParser extends ParserBase {
 
         yyRepetition1 = yyResult.index;
         yyRepeated1   = true;
-        yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+        yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
         continue;
       }
       break;
     }
 
     if (yyRepeated1) {
-      final Pair<Node> v$g$1 = yyRepValue1.reverse();
+      final int v$g$1 = yyRepStart1;
+      final int v$g$1$end = yyRepEnd1;
 
-      yyValue = GNode.createFromPair("Methods", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      yyValue = bufferedNode("Methods", v$g$1, v$g$1$end);
+      locate(yyValue, yyStart);
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
     }
@@ -288,7 +399,7 @@ public final class JavaFactoryParser extends ParserBase {
           if (yyResult.hasValue("}")) {
 
             yyValue = GNode.create("Method", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
@@ -366,7 +477,7 @@ public final class JavaFactoryParser extends ParserBase {
             if (yyResult.hasValue(";")) {
 
               yyValue = GNode.create("ImportDeclaration", v$g$1, v$g$2, v$g$3);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             } else {
@@ -467,10 +578,15 @@ public final class JavaFactoryParser extends ParserBase {
    */
   private Result pModifiers(final int yyStart) throws IOException {
     JavaFactoryParserColumn yyColumn = (JavaFactoryParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fModifiers) 
-      yyColumn.chunk1.fModifiers = pModifiers$1(yyStart);
-    return yyColumn.chunk1.fModifiers;
+    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
+    if (null == yyColumn.chunk2.fModifiers) {
+      yyColumn.chunk2.fModifiers = pModifiers$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(0, yyColumn.chunk2.fModifiers);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(0, yyColumn.chunk2.fModifiers);
+    }
+    return yyColumn.chunk2.fModifiers;
   }
 
   /** Actually parse xtc.lang.JavaPattern.Modifiers. */
@@ -487,7 +603,7 @@ public final class JavaFactoryParser extends ParserBase {
       final Pair<Node> v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.createFromPair("Modifiers", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -567,7 +683,7 @@ public final class JavaFactoryParser extends ParserBase {
       final String v$g$1 = "public";
 
       yyValue = GNode.create("Modifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -579,7 +695,7 @@ public final class JavaFactoryParser extends ParserBase {
       final String v$g$2 = "protected";
 
       yyValue = GNode.create("Modifier", v$g$2);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -591,7 +707,7 @@ public final class JavaFactoryParser extends ParserBase {
       final String v$g$3 = "private";
 
       yyValue = GNode.create("Modifier", v$g$3);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -603,7 +719,7 @@ public final class JavaFactoryParser extends ParserBase {
       final String v$g$4 = "static";
 
       yyValue = GNode.create("Modifier", v$g$4);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -615,7 +731,7 @@ public final class JavaFactoryParser extends ParserBase {
       final String v$g$5 = "abstract";
 
       yyValue = GNode.create("Modifier", v$g$5);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -627,7 +743,7 @@ public final class JavaFactoryParser extends ParserBase {
       final String v$g$6 = "final";
 
       yyValue = GNode.create("Modifier", v$g$6);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -639,7 +755,7 @@ public final class JavaFactoryParser extends ParserBase {
       final String v$g$7 = "native";
 
       yyValue = GNode.create("Modifier", v$g$7);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -651,7 +767,7 @@ public final class JavaFactoryParser extends ParserBase {
       final String v$g$8 = "synchronized";
 
       yyValue = GNode.create("Modifier", v$g$8);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -663,7 +779,7 @@ public final class JavaFactoryParser extends ParserBase {
       final String v$g$9 = "transient";
 
       yyValue = GNode.create("Modifier", v$g$9);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -675,7 +791,7 @@ public final class JavaFactoryParser extends ParserBase {
       final String v$g$10 = "volatile";
 
       yyValue = GNode.create("Modifier", v$g$10);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -687,7 +803,7 @@ public final class JavaFactoryParser extends ParserBase {
       final String v$g$11 = "strictfp";
 
       yyValue = GNode.create("Modifier", v$g$11);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -762,7 +878,7 @@ public final class JavaFactoryParser extends ParserBase {
               final Node v$g$5 = cast(yyOpValue1);
 
               yyValue = GNode.create("FormalParameter", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return new SemanticValue(yyValue, yyOption1, yyError);
             } // End scope for v$g$5.
@@ -787,14 +903,16 @@ public final class JavaFactoryParser extends ParserBase {
   private Result pVariableModifiers(final int yyStart) throws IOException {
     Result     yyResult;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
     // Alternative <Modifiers>.
 
     yyRepetition1 = yyStart;
-    yyRepValue1   = Pair.empty();
+    yyRepStart1   = bufferStart();
+    yyRepEnd1   = yyRepStart1;
     while (true) {
 
       yyResult = pVariableModifier(yyRepetition1);
@@ -803,16 +921,17 @@ public final class JavaFactoryParser extends ParserBase {
         final Node v$el$1 = yyResult.semanticValue();
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+        yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
         continue;
       }
       break;
     }
     { // Start scope for v$g$1.
-      final Pair<Node> v$g$1 = yyRepValue1.reverse();
+      final int v$g$1 = yyRepStart1;
+      final int v$g$1$end = yyRepEnd1;
 
-      yyValue = GNode.createFromPair("Modifiers", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      yyValue = bufferedNode("Modifiers", v$g$1, v$g$1$end);
+      locate(yyValue, yyStart);
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
     } // End scope for v$g$1.
@@ -839,7 +958,7 @@ public final class JavaFactoryParser extends ParserBase {
       final String v$g$1 = "final";
 
       yyValue = GNode.create("Modifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -860,10 +979,15 @@ public final class JavaFactoryParser extends ParserBase {
    */
   private Result pFormalParameters(final int yyStart) throws IOException {
     JavaFactoryParserColumn yyColumn = (JavaFactoryParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fFormalParameters) 
-      yyColumn.chunk1.fFormalParameters = pFormalParameters$1(yyStart);
-    return yyColumn.chunk1.fFormalParameters;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fFormalParameters) {
+      yyColumn.chunk3.fFormalParameters = pFormalParameters$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(1, yyColumn.chunk3.fFormalParameters);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(1, yyColumn.chunk3.fFormalParameters);
+    }
+    return yyColumn.chunk3.fFormalParameters;
   }
 
   /** Actually parse xtc.lang.JavaPattern.FormalParameters. */
@@ -897,7 +1021,7 @@ public final class JavaFactoryParser extends ParserBase {
           if (yyResult.hasValue(")")) {
 
             yyValue = GNode.createFromPair("FormalParameters", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
@@ -913,7 +1037,7 @@ public final class JavaFactoryParser extends ParserBase {
       if (yyResult.hasValue(")")) {
 
         yyValue = GNode.create("FormalParameters", false);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       } else {
@@ -939,10 +1063,16 @@ public final class JavaFactoryParser extends ParserBase {
     throws IOException {
 
     JavaFactoryParserColumn yyColumn = (JavaFactoryParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fFormalParameters$$Star1) 
-      yyColumn.chunk1.fFormalParameters$$Star1 = pFormalParameters$$Star1$1(yyStart);
-    return yyColumn.chunk1.fFormalParameters$$Star1;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fFormalParameters$$Star1) {
+      yyColumn.chunk3.fFormalParameters$$Star1 = 
+        pFormalParameters$$Star1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(2, yyColumn.chunk3.fFormalParameters$$Star1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(2, yyColumn.chunk3.fFormalParameters$$Star1);
+    }
+    return yyColumn.chunk3.fFormalParameters$$Star1;
   }
 
   /** Actually parse xtc.lang.JavaFactory.FormalParameters$$Star1. */
@@ -1041,7 +1171,7 @@ public final class JavaFactoryParser extends ParserBase {
           final Node v$g$3 = yyOpValue1;
 
           yyValue = GNode.create("Declarator", v$g$1, v$g$2, v$g$3);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyOption1, yyError);
         } // End scope for v$g$3.
@@ -1063,10 +1193,15 @@ public final class JavaFactoryParser extends ParserBase {
    */
   private Result pDeclarators(final int yyStart) throws IOException {
     JavaFactoryParserColumn yyColumn = (JavaFactoryParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fDeclarators) 
-      yyColumn.chunk1.fDeclarators = pDeclarators$1(yyStart);
-    return yyColumn.chunk1.fDeclarators;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fDeclarators) {
+      yyColumn.chunk3.fDeclarators = pDeclarators$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(3, yyColumn.chunk3.fDeclarators);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(3, yyColumn.chunk3.fDeclarators);
+    }
+    return yyColumn.chunk3.fDeclarators;
   }
 
   /** Actually parse xtc.lang.JavaPattern.Declarators. */
@@ -1088,7 +1223,7 @@ public final class JavaFactoryParser extends ParserBase {
         final Pair<Node> v$g$2 = yyResult.semanticValue();
 
         yyValue = GNode.createFromPair("Declarators", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -1109,10 +1244,15 @@ public final class JavaFactoryParser extends ParserBase {
    */
   private Result pDeclarators$$Star1(final int yyStart) throws IOException {
     JavaFactoryParserColumn yyColumn = (JavaFactoryParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fDeclarators$$Star1) 
-      yyColumn.chunk1.fDeclarators$$Star1 = pDeclarators$$Star1$1(yyStart);
-    return yyColumn.chunk1.fDeclarators$$Star1;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fDeclarators$$Star1) {
+      yyColumn.chunk3.fDeclarators$$Star1 = pDeclarators$$Star1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(4, yyColumn.chunk3.fDeclarators$$Star1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(4, yyColumn.chunk3.fDeclarators$$Star1);
+    }
+    return yyColumn.chunk3.fDeclarators$$Star1;
   }
 
   /** Actually parse xtc.lang.JavaFactory.Declarators$$Star1. */
@@ -1163,7 +1303,8 @@ public final class JavaFactoryParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -1173,7 +1314,8 @@ public final class JavaFactoryParser extends ParserBase {
     if (yyResult.hasValue("{")) {
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyResult = pDeclaration(yyRepetition1);
@@ -1182,25 +1324,27 @@ public final class JavaFactoryParser extends ParserBase {
           final Node v$el$1 = yyResult.semanticValue();
 
           yyRepetition1 = yyResult.index;
-          yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+          yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
           continue;
         }
         break;
       }
       { // Start scope for v$g$1.
-        final Pair<Node> v$g$1 = yyRepValue1.reverse();
+        final int v$g$1 = yyRepStart1;
+        final int v$g$1$end = yyRepEnd1;
 
         yyBase   = yyRepetition1;
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue("}")) {
 
-          yyValue = GNode.createFromPair("ClassBody", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          yyValue = bufferedNode("ClassBody", v$g$1, v$g$1$end);
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
           yyError = yyError.select("'}' expected", yyBase);
         }
+        releaseBuffer(v$g$1);
       } // End scope for v$g$1.
     }
 
@@ -1226,6 +1370,44 @@ public final class JavaFactoryParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '@':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x1;
+      break;
+
+    case '#':
+      yyFirst = 0x6;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
 
     yyResult = pModifiers(yyStart);
@@ -1252,7 +1434,7 @@ public final class JavaFactoryParser extends ParserBase {
           if (yyResult.hasValue(";")) {
 
             yyValue = GNode.create("FieldDeclaration", v$g$1, v$g$2, v$g$3);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
@@ -1333,7 +1515,7 @@ public final class JavaFactoryParser extends ParserBase {
                     final Node v$g$8 = yyResult.semanticValue();
 
                     yyValue = GNode.create("MethodDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6, v$g$7, v$g$8);
-                    yyValue.setLocation(location(yyStart));
+                    locate(yyValue, yyStart);
 
                     return yyResult.createValue(yyValue, yyError);
                   }
@@ -1345,7 +1527,7 @@ public final class JavaFactoryParser extends ParserBase {
                   if (yyResult.hasValue(";")) {
 
                     yyValue = GNode.create("MethodDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6, v$g$7, null);
-                    yyValue.setLocation(location(yyStart));
+                    locate(yyValue, yyStart);
 
                     return yyResult.createValue(yyValue, yyError);
                   } else {
@@ -1389,7 +1571,7 @@ public final class JavaFactoryParser extends ParserBase {
                 final Node v$g$6 = yyResult.semanticValue();
 
                 yyValue = GNode.create("ConstructorDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6);
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return yyResult.createValue(yyValue, yyError);
               }
@@ -1455,7 +1637,7 @@ public final class JavaFactoryParser extends ParserBase {
                   final Node v$g$6 = yyResult.semanticValue();
 
                   yyValue = GNode.create("ClassDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6);
-                  yyValue.setLocation(location(yyStart));
+                  locate(yyValue, yyStart);
 
                   return yyResult.createValue(yyValue, yyError);
                 }
@@ -1511,7 +1693,7 @@ public final class JavaFactoryParser extends ParserBase {
                 final Node v$g$5 = yyResult.semanticValue();
 
                 yyValue = GNode.create("InterfaceDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return yyResult.createValue(yyValue, yyError);
               }
@@ -1543,7 +1725,7 @@ public final class JavaFactoryParser extends ParserBase {
               final Node v$g$3 = yyResult.semanticValue();
 
               yyValue = GNode.create("AnnotationDeclaration", v$g$1, v$g$2, v$g$3);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -1626,7 +1808,7 @@ public final class JavaFactoryParser extends ParserBase {
                   if (yyResult.hasValue("}")) {
 
                     yyValue = GNode.create("EnumDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
-                    yyValue.setLocation(location(yyStart));
+                    locate(yyValue, yyStart);
 
                     return yyResult.createValue(yyValue, yyError);
                   } else {
@@ -1668,41 +1850,47 @@ public final class JavaFactoryParser extends ParserBase {
         final Node v$g$2 = yyResult.semanticValue();
 
         yyValue = GNode.create("BlockDeclaration", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
     } // End scope for v$g$1.
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(";")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(";")) {
 
-      yyValue = GNode.create("EmptyDeclaration", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("EmptyDeclaration", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <ListPattern>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pNodeListVariable(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pNodeListVariable(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Pattern>.
+    if ((0 != (yyFirst & 0x4)) || (yyError.index < yyStart)) {
 
-    yyResult = pJavaPattern$NodeVariable(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pJavaPattern$NodeVariable(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -1723,7 +1911,8 @@ public final class JavaFactoryParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -1738,7 +1927,8 @@ public final class JavaFactoryParser extends ParserBase {
         final Node v$g$1 = yyResult.semanticValue();
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyBase   = yyRepetition1;
@@ -1751,7 +1941,7 @@ public final class JavaFactoryParser extends ParserBase {
               final Node v$el$1 = yyResult.semanticValue();
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
           } else {
@@ -1760,10 +1950,11 @@ public final class JavaFactoryParser extends ParserBase {
           break;
         }
         { // Start scope for v$g$2.
-          final Pair<Node> v$g$2 = yyRepValue1.reverse();
+          final int v$g$2 = yyRepStart1;
+          final int v$g$2$end = yyRepEnd1;
 
-          yyValue = GNode.createFromPair("ThrowsClause", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          yyValue = bufferedNode("ThrowsClause", v$g$1, v$g$2, v$g$2$end);
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
         } // End scope for v$g$2.
@@ -1788,7 +1979,8 @@ public final class JavaFactoryParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -1803,7 +1995,8 @@ public final class JavaFactoryParser extends ParserBase {
         final Node v$g$1 = yyResult.semanticValue();
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyBase   = yyRepetition1;
@@ -1816,7 +2009,7 @@ public final class JavaFactoryParser extends ParserBase {
               final Node v$el$1 = yyResult.semanticValue();
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
           } else {
@@ -1825,10 +2018,11 @@ public final class JavaFactoryParser extends ParserBase {
           break;
         }
         { // Start scope for v$g$2.
-          final Pair<Node> v$g$2 = yyRepValue1.reverse();
+          final int v$g$2 = yyRepStart1;
+          final int v$g$2$end = yyRepEnd1;
 
-          yyValue = GNode.createFromPair("Extension", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          yyValue = bufferedNode("Extension", v$g$1, v$g$2, v$g$2$end);
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
         } // End scope for v$g$2.
@@ -1851,10 +2045,15 @@ public final class JavaFactoryParser extends ParserBase {
    */
   private Result pImplementation(final int yyStart) throws IOException {
     JavaFactoryParserColumn yyColumn = (JavaFactoryParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fImplementation) 
-      yyColumn.chunk1.fImplementation = pImplementation$1(yyStart);
-    return yyColumn.chunk1.fImplementation;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fImplementation) {
+      yyColumn.chunk3.fImplementation = pImplementation$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(5, yyColumn.chunk3.fImplementation);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(5, yyColumn.chunk3.fImplementation);
+    }
+    return yyColumn.chunk3.fImplementation;
   }
 
   /** Actually parse xtc.lang.JavaPattern.Implementation. */
@@ -1879,7 +2078,7 @@ public final class JavaFactoryParser extends ParserBase {
           final Pair<Node> v$g$2 = yyResult.semanticValue();
 
           yyValue = GNode.createFromPair("Implementation", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -1904,10 +2103,16 @@ public final class JavaFactoryParser extends ParserBase {
     throws IOException {
 
     JavaFactoryParserColumn yyColumn = (JavaFactoryParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fImplementation$$Star1) 
-      yyColumn.chunk1.fImplementation$$Star1 = pImplementation$$Star1$1(yyStart);
-    return yyColumn.chunk1.fImplementation$$Star1;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fImplementation$$Star1) {
+      yyColumn.chunk3.fImplementation$$Star1 = 
+        pImplementation$$Star1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(6, yyColumn.chunk3.fImplementation$$Star1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(6, yyColumn.chunk3.fImplementation$$Star1);
+    }
+    return yyColumn.chunk3.fImplementation$$Star1;
   }
 
   /** Actually parse xtc.lang.JavaFactory.Implementation$$Star1. */
@@ -1958,10 +2163,14 @@ public final class JavaFactoryParser extends ParserBase {
    */
   private Result pBlock(final int yyStart) throws IOException {
     JavaFactoryParserColumn yyColumn = (JavaFactoryParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fBlock) 
-      yyColumn.chunk1.fBlock = pBlock$1(yyStart);
-    return yyColumn.chunk1.fBlock;
+    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
+    if (null == yyColumn.chunk2.fBlock) {
+      yyColumn.chunk2.fBlock = pBlock$1(yyStart);
+      if (null != yyStatistics) yyStatistics.miss(7, yyColumn.chunk2.fBlock);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(7, yyColumn.chunk2.fBlock);
+    }
+    return yyColumn.chunk2.fBlock;
   }
 
   /** Actually parse xtc.lang.JavaPattern.Block. */
@@ -1986,7 +2195,7 @@ public final class JavaFactoryParser extends ParserBase {
         if (yyResult.hasValue("}")) {
 
           yyValue = GNode.createFromPair("Block", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
@@ -2011,10 +2220,15 @@ public final class JavaFactoryParser extends ParserBase {
    */
   private Result pBlock$$Star1(final int yyStart) throws IOException {
     JavaFactoryParserColumn yyColumn = (JavaFactoryParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fBlock$$Star1) 
-      yyColumn.chunk1.fBlock$$Star1 = pBlock$$Star1$1(yyStart);
-    return yyColumn.chunk1.fBlock$$Star1;
+    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
+    if (null == yyColumn.chunk2.fBlock$$Star1) {
+      yyColumn.chunk2.fBlock$$Star1 = pBlock$$Star1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(8, yyColumn.chunk2.fBlock$$Star1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(8, yyColumn.chunk2.fBlock$$Star1);
+    }
+    return yyColumn.chunk2.fBlock$$Star1;
   }
 
   /** Actually parse xtc.lang.JavaFactory.Block$$Star1. */
@@ -2064,6 +2278,16 @@ public final class JavaFactoryParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '#':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Declaration>.
 
     yyResult = pInBlockDeclaration(yyStart);
@@ -2085,23 +2309,27 @@ public final class JavaFactoryParser extends ParserBase {
     }
 
     // Alternative <ListPattern>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pNodeListVariable(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pNodeListVariable(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Pattern>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pJavaPattern$NodeVariable(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pJavaPattern$NodeVariable(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -2201,7 +2429,7 @@ public final class JavaFactoryParser extends ParserBase {
                   final Node v$g$6 = yyResult.semanticValue();
 
                   yyValue = GNode.create("ClassDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6);
-                  yyValue.setLocation(location(yyStart));
+                  locate(yyValue, yyStart);
 
                   return yyResult.createValue(yyValue, yyError);
                 }
@@ -2257,7 +2485,7 @@ public final class JavaFactoryParser extends ParserBase {
                 final Node v$g$5 = yyResult.semanticValue();
 
                 yyValue = GNode.create("InterfaceDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return yyResult.createValue(yyValue, yyError);
               }
@@ -2310,7 +2538,7 @@ public final class JavaFactoryParser extends ParserBase {
           if (yyResult.hasValue(";")) {
 
             yyValue = GNode.create("FieldDeclaration", v$g$1, v$g$2, v$g$3);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
@@ -2338,20 +2566,57 @@ public final class JavaFactoryParser extends ParserBase {
     int        yyBase;
     int        yyRepetition1;
     boolean    yyRepeated1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     int        yyOption1;
     Object     yyOpValue1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '@':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Block>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pBlock(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pBlock(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 2.
@@ -2383,7 +2648,7 @@ public final class JavaFactoryParser extends ParserBase {
               final Node v$g$3 = yyResult.semanticValue();
 
               yyValue = GNode.create("ConditionalStatement", v$g$1, v$g$2, v$g$3);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -2394,7 +2659,7 @@ public final class JavaFactoryParser extends ParserBase {
           // Nested alternative 2.
 
           yyValue = GNode.create("ConditionalStatement", v$g$1, v$g$2, null);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyChoice1, yyError);
         }
@@ -2425,7 +2690,7 @@ public final class JavaFactoryParser extends ParserBase {
               final Node v$g$2 = yyResult.semanticValue();
 
               yyValue = GNode.create("ForStatement", v$g$1, v$g$2);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -2454,7 +2719,7 @@ public final class JavaFactoryParser extends ParserBase {
           final Node v$g$2 = yyResult.semanticValue();
 
           yyValue = GNode.create("WhileStatement", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -2485,7 +2750,7 @@ public final class JavaFactoryParser extends ParserBase {
             if (yyResult.hasValue(";")) {
 
               yyValue = GNode.create("DoWhileStatement", v$g$1, v$g$2);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             } else {
@@ -2527,7 +2792,8 @@ public final class JavaFactoryParser extends ParserBase {
           // Nested alternative 1.
 
           yyRepetition1 = yyChoice1;
-          yyRepValue1   = Pair.empty();
+          yyRepStart1   = bufferStart();
+          yyRepEnd1   = yyRepStart1;
           while (true) {
 
             yyResult = pCatchClause(yyRepetition1);
@@ -2536,13 +2802,14 @@ public final class JavaFactoryParser extends ParserBase {
               final Node v$el$2 = yyResult.semanticValue();
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$2, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$2);
               continue;
             }
             break;
           }
           { // Start scope for v$g$3.
-            final Pair<Node> v$g$3 = yyRepValue1.reverse();
+            final int v$g$3 = yyRepStart1;
+            final int v$g$3$end = yyRepEnd1;
 
             yyBase   = yyRepetition1;
             yyResult = pWord(yyBase);
@@ -2553,22 +2820,26 @@ public final class JavaFactoryParser extends ParserBase {
               if (yyResult.hasValue()) {
                 final Node v$g$4 = yyResult.semanticValue();
 
-                yyValue = GNode.create("TryCatchFinallyStatement", v$g$3.size() + 3).
-                  add(v$g$1).add(v$g$2).addAll(v$g$3).add(v$g$4);
-                yyValue.setLocation(location(yyStart));
+                yyValue = GNode.create("TryCatchFinallyStatement", (v$g$3$end - v$g$3) + 3).
+                  add(v$g$1).add(v$g$2);
+                addBuffered(yyValue, v$g$3, v$g$3$end);
+                yyValue.add(v$g$4);
+                locate(yyValue, yyStart);
 
                 return yyResult.createValue(yyValue, yyError);
               }
             } else {
               yyError = yyError.select("'finally' expected", yyBase);
             }
+            releaseBuffer(v$g$3);
           } // End scope for v$g$3.
 
           // Nested alternative 2.
 
           yyRepetition1 = yyChoice1;
           yyRepeated1   = false;
-          yyRepValue1   = Pair.empty();
+          yyRepStart1   = bufferStart();
+          yyRepEnd1   = yyRepStart1;
           while (true) {
 
             yyResult = pCatchClause(yyRepetition1);
@@ -2578,18 +2849,21 @@ public final class JavaFactoryParser extends ParserBase {
 
               yyRepetition1 = yyResult.index;
               yyRepeated1   = true;
-              yyRepValue1   = new Pair<Node>(v$el$3, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$3);
               continue;
             }
             break;
           }
 
           if (yyRepeated1) {
-            final Pair<Node> v$g$5 = yyRepValue1.reverse();
+            final int v$g$5 = yyRepStart1;
+            final int v$g$5$end = yyRepEnd1;
 
-            yyValue = GNode.create("TryCatchFinallyStatement", v$g$5.size() + 3).
-              add(v$g$1).add(v$g$2).addAll(v$g$5).add(null);
-            yyValue.setLocation(location(yyStart));
+            yyValue = GNode.create("TryCatchFinallyStatement", (v$g$5$end - v$g$5) + 3).
+              add(v$g$1).add(v$g$2);
+            addBuffered(yyValue, v$g$5, v$g$5$end);
+            yyValue.add(null);
+            locate(yyValue, yyStart);
 
             return new SemanticValue(yyValue, yyRepetition1, yyError);
           }
@@ -2612,7 +2886,8 @@ public final class JavaFactoryParser extends ParserBase {
         if (yyResult.hasValue("{")) {
 
           yyRepetition1 = yyResult.index;
-          yyRepValue1   = Pair.empty();
+          yyRepStart1   = bufferStart();
+          yyRepEnd1   = yyRepStart1;
           while (true) {
 
             yyResult = pSwitchClause(yyRepetition1);
@@ -2621,25 +2896,27 @@ public final class JavaFactoryParser extends ParserBase {
               final Node v$el$1 = yyResult.semanticValue();
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
             break;
           }
           { // Start scope for v$g$2.
-            final Pair<Node> v$g$2 = yyRepValue1.reverse();
+            final int v$g$2 = yyRepStart1;
+            final int v$g$2$end = yyRepEnd1;
 
             yyBase   = yyRepetition1;
             yyResult = pSymbol(yyBase);
             if (yyResult.hasValue("}")) {
 
-              yyValue = GNode.createFromPair("SwitchStatement", v$g$1, v$g$2);
-              yyValue.setLocation(location(yyStart));
+              yyValue = bufferedNode("SwitchStatement", v$g$1, v$g$2, v$g$2$end);
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             } else {
               yyError = yyError.select("'}' expected", yyBase);
             }
+            releaseBuffer(v$g$2);
           } // End scope for v$g$2.
         } else {
           yyError = yyError.select("'{' expected", yyBase);
@@ -2663,7 +2940,7 @@ public final class JavaFactoryParser extends ParserBase {
           final Node v$g$2 = yyResult.semanticValue();
 
           yyValue = GNode.create("SynchronizedStatement", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -2694,7 +2971,7 @@ public final class JavaFactoryParser extends ParserBase {
         if (yyResult.hasValue(";")) {
 
           yyValue = GNode.create("ReturnStatement", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
@@ -2718,7 +2995,7 @@ public final class JavaFactoryParser extends ParserBase {
         if (yyResult.hasValue(";")) {
 
           yyValue = GNode.create("ThrowStatement", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
@@ -2751,7 +3028,7 @@ public final class JavaFactoryParser extends ParserBase {
         if (yyResult.hasValue(";")) {
 
           yyValue = GNode.create("BreakStatement", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
@@ -2784,7 +3061,7 @@ public final class JavaFactoryParser extends ParserBase {
         if (yyResult.hasValue(";")) {
 
           yyValue = GNode.create("ContinueStatement", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
@@ -2810,7 +3087,7 @@ public final class JavaFactoryParser extends ParserBase {
           final Node v$g$2 = yyResult.semanticValue();
 
           yyValue = GNode.create("LabeledStatement", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -2831,7 +3108,7 @@ public final class JavaFactoryParser extends ParserBase {
       if (yyResult.hasValue(";")) {
 
         yyValue = GNode.create("ExpressionStatement", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       } else {
@@ -2875,7 +3152,7 @@ public final class JavaFactoryParser extends ParserBase {
           if (yyResult.hasValue(";")) {
 
             yyValue = GNode.create("AssertStatement", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
@@ -2886,14 +3163,16 @@ public final class JavaFactoryParser extends ParserBase {
     }
 
     // Alternative 16.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(";")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(";")) {
 
-      yyValue = GNode.create("EmptyStatement", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("EmptyStatement", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -2949,7 +3228,7 @@ public final class JavaFactoryParser extends ParserBase {
               final Node v$g$4 = yyResult.semanticValue();
 
               yyValue = GNode.create("EnhancedForControl", v$g$1, v$g$2, v$g$3, v$g$4);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -3002,7 +3281,7 @@ public final class JavaFactoryParser extends ParserBase {
                   final Node v$g$5 = yyOpValue1;
 
                   yyValue = GNode.create("BasicForControl", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
-                  yyValue.setLocation(location(yyStart));
+                  locate(yyValue, yyStart);
 
                   return new SemanticValue(yyValue, yyOption1, yyError);
                 } // End scope for v$g$5.
@@ -3070,7 +3349,7 @@ public final class JavaFactoryParser extends ParserBase {
               final Node v$g$10 = yyOpValue1;
 
               yyValue = GNode.create("BasicForControl", null, null, v$g$8, v$g$9, v$g$10);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return new SemanticValue(yyValue, yyOption1, yyError);
             } // End scope for v$g$10.
@@ -3098,10 +3377,15 @@ public final class JavaFactoryParser extends ParserBase {
    */
   private Result pParExpression(final int yyStart) throws IOException {
     JavaFactoryParserColumn yyColumn = (JavaFactoryParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fParExpression) 
-      yyColumn.chunk1.fParExpression = pParExpression$1(yyStart);
-    return yyColumn.chunk1.fParExpression;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fParExpression) {
+      yyColumn.chunk3.fParExpression = pParExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(9, yyColumn.chunk3.fParExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(9, yyColumn.chunk3.fParExpression);
+    }
+    return yyColumn.chunk3.fParExpression;
   }
 
   /** Actually parse xtc.lang.JavaPattern.ParExpression. */
@@ -3148,10 +3432,15 @@ public final class JavaFactoryParser extends ParserBase {
    */
   private Result pCatchClause(final int yyStart) throws IOException {
     JavaFactoryParserColumn yyColumn = (JavaFactoryParserColumn)column(yyStart);
-    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fCatchClause) 
-      yyColumn.chunk2.fCatchClause = pCatchClause$1(yyStart);
-    return yyColumn.chunk2.fCatchClause;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fCatchClause) {
+      yyColumn.chunk3.fCatchClause = pCatchClause$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(10, yyColumn.chunk3.fCatchClause);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(10, yyColumn.chunk3.fCatchClause);
+    }
+    return yyColumn.chunk3.fCatchClause;
   }
 
   /** Actually parse xtc.lang.JavaPattern.CatchClause. */
@@ -3185,7 +3474,7 @@ public final class JavaFactoryParser extends ParserBase {
               final Node v$g$2 = yyResult.semanticValue();
 
               yyValue = GNode.create("CatchClause", v$g$1, v$g$2);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -3216,7 +3505,8 @@ public final class JavaFactoryParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -3235,7 +3525,8 @@ public final class JavaFactoryParser extends ParserBase {
         if (yyResult.hasValue(":")) {
 
           yyRepetition1 = yyResult.index;
-          yyRepValue1   = Pair.empty();
+          yyRepStart1   = bufferStart();
+          yyRepEnd1   = yyRepStart1;
           while (true) {
 
             yyResult = pDeclarationOrStatement(yyRepetition1);
@@ -3244,16 +3535,17 @@ public final class JavaFactoryParser extends ParserBase {
               final Node v$el$1 = yyResult.semanticValue();
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
             break;
           }
           { // Start scope for v$g$2.
-            final Pair<Node> v$g$2 = yyRepValue1.reverse();
+            final int v$g$2 = yyRepStart1;
+            final int v$g$2$end = yyRepEnd1;
 
-            yyValue = GNode.createFromPair("CaseClause", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
+            yyValue = bufferedNode("CaseClause", v$g$1, v$g$2, v$g$2$end);
+            locate(yyValue, yyStart);
 
             return new SemanticValue(yyValue, yyRepetition1, yyError);
           } // End scope for v$g$2.
@@ -3273,7 +3565,8 @@ public final class JavaFactoryParser extends ParserBase {
       if (yyResult.hasValue(":")) {
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyResult = pDeclarationOrStatement(yyRepetition1);
@@ -3282,16 +3575,17 @@ public final class JavaFactoryParser extends ParserBase {
             final Node v$el$1 = yyResult.semanticValue();
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
           break;
         }
         { // Start scope for v$g$1.
-          final Pair<Node> v$g$1 = yyRepValue1.reverse();
+          final int v$g$1 = yyRepStart1;
+          final int v$g$1$end = yyRepEnd1;
 
-          yyValue = GNode.createFromPair("DefaultClause", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          yyValue = bufferedNode("DefaultClause", v$g$1, v$g$1$end);
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
         } // End scope for v$g$1.
@@ -3318,7 +3612,8 @@ public final class JavaFactoryParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -3330,7 +3625,8 @@ public final class JavaFactoryParser extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyBase   = yyRepetition1;
@@ -3343,7 +3639,7 @@ public final class JavaFactoryParser extends ParserBase {
             final Node v$el$1 = yyResult.semanticValue();
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
         } else {
@@ -3352,10 +3648,11 @@ public final class JavaFactoryParser extends ParserBase {
         break;
       }
       { // Start scope for v$g$2.
-        final Pair<Node> v$g$2 = yyRepValue1.reverse();
+        final int v$g$2 = yyRepStart1;
+        final int v$g$2$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("ExpressionList", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("ExpressionList", v$g$1, v$g$2, v$g$2$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$2.
@@ -3377,8 +3674,13 @@ public final class JavaFactoryParser extends ParserBase {
   private Result pExpression(final int yyStart) throws IOException {
     JavaFactoryParserColumn yyColumn = (JavaFactoryParserColumn)column(yyStart);
     if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fExpression) 
+    if (null == yyColumn.chunk2.fExpression) {
       yyColumn.chunk2.fExpression = pExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(11, yyColumn.chunk2.fExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(11, yyColumn.chunk2.fExpression);
+    }
     return yyColumn.chunk2.fExpression;
   }
 
@@ -3406,7 +3708,7 @@ public final class JavaFactoryParser extends ParserBase {
           final Node v$g$3 = yyResult.semanticValue();
 
           yyValue = GNode.create("Expression", v$g$1, v$g$2, v$g$3);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -3441,112 +3743,170 @@ public final class JavaFactoryParser extends ParserBase {
     String     yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '@':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0xfff;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Equal>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("=")) {
-      yyValue = "=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("=")) {
+        yyValue = "=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <PlusEqual>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("+=")) {
-      yyValue = "+=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("+=")) {
+        yyValue = "+=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <MinusEqual>.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("-=")) {
-      yyValue = "-=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("-=")) {
+        yyValue = "-=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <StarEqual>.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("*=")) {
-      yyValue = "*=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("*=")) {
+        yyValue = "*=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <SlashEqual>.
+    if (0 != (yyFirst & 0x10)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("/=")) {
-      yyValue = "/=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("/=")) {
+        yyValue = "/=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <AmpersandEqual>.
+    if (0 != (yyFirst & 0x20)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("&=")) {
-      yyValue = "&=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("&=")) {
+        yyValue = "&=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <BarEqual>.
+    if (0 != (yyFirst & 0x40)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("|=")) {
-      yyValue = "|=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("|=")) {
+        yyValue = "|=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <CaretEqual>.
+    if (0 != (yyFirst & 0x80)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("^=")) {
-      yyValue = "^=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("^=")) {
+        yyValue = "^=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <PercentEqual>.
+    if (0 != (yyFirst & 0x100)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("%=")) {
-      yyValue = "%=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("%=")) {
+        yyValue = "%=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <DoubleLessEqual>.
+    if (0 != (yyFirst & 0x200)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("<<=")) {
-      yyValue = "<<=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("<<=")) {
+        yyValue = "<<=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <DoubleGreaterEqual>.
+    if (0 != (yyFirst & 0x400)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(">>=")) {
-      yyValue = ">>=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(">>=")) {
+        yyValue = ">>=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <TripleGreaterEqual>.
+    if (0 != (yyFirst & 0x800)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(">>>=")) {
-      yyValue = ">>>=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(">>>=")) {
+        yyValue = ">>>=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -3568,8 +3928,14 @@ public final class JavaFactoryParser extends ParserBase {
 
     JavaFactoryParserColumn yyColumn = (JavaFactoryParserColumn)column(yyStart);
     if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fConditionalExpression) 
-      yyColumn.chunk2.fConditionalExpression = pConditionalExpression$1(yyStart);
+    if (null == yyColumn.chunk2.fConditionalExpression) {
+      yyColumn.chunk2.fConditionalExpression = 
+        pConditionalExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(12, yyColumn.chunk2.fConditionalExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(12, yyColumn.chunk2.fConditionalExpression);
+    }
     return yyColumn.chunk2.fConditionalExpression;
   }
 
@@ -3608,7 +3974,7 @@ public final class JavaFactoryParser extends ParserBase {
               final Node v$g$3 = yyResult.semanticValue();
 
               yyValue = GNode.create("ConditionalExpression", v$g$1, v$g$2, v$g$3);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -3647,8 +4013,13 @@ public final class JavaFactoryParser extends ParserBase {
   private Result pLogicalOrExpression(final int yyStart) throws IOException {
     JavaFactoryParserColumn yyColumn = (JavaFactoryParserColumn)column(yyStart);
     if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fLogicalOrExpression) 
+    if (null == yyColumn.chunk2.fLogicalOrExpression) {
       yyColumn.chunk2.fLogicalOrExpression = pLogicalOrExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(13, yyColumn.chunk2.fLogicalOrExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(13, yyColumn.chunk2.fLogicalOrExpression);
+    }
     return yyColumn.chunk2.fLogicalOrExpression;
   }
 
@@ -4213,22 +4584,60 @@ public final class JavaFactoryParser extends ParserBase {
     String     yyValue;
     ParseError yyError = ParseError.DUMMY;
 
-    // Alternative <Equal>.
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '@':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("==")) {
-      yyValue = "==";
+    default:
+      yyFirst = 0;
+    }
 
-      return yyResult.createValue(yyValue, yyError);
+    // Alternative <Equal>.
+    if (0 != (yyFirst & 0x1)) {
+
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("==")) {
+        yyValue = "==";
+
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <NotEqual>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("!=")) {
-      yyValue = "!=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("!=")) {
+        yyValue = "!=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -4268,7 +4677,7 @@ public final class JavaFactoryParser extends ParserBase {
           final Node v$g$2 = yyResult.semanticValue();
 
           yyValue = GNode.create("InstanceOfExpression", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -4303,8 +4712,14 @@ public final class JavaFactoryParser extends ParserBase {
   private Result pRelationalExpression(final int yyStart) throws IOException {
     JavaFactoryParserColumn yyColumn = (JavaFactoryParserColumn)column(yyStart);
     if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fRelationalExpression) 
-      yyColumn.chunk2.fRelationalExpression = pRelationalExpression$1(yyStart);
+    if (null == yyColumn.chunk2.fRelationalExpression) {
+      yyColumn.chunk2.fRelationalExpression = 
+        pRelationalExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(14, yyColumn.chunk2.fRelationalExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(14, yyColumn.chunk2.fRelationalExpression);
+    }
     return yyColumn.chunk2.fRelationalExpression;
   }
 
@@ -4409,40 +4824,82 @@ public final class JavaFactoryParser extends ParserBase {
     String     yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '@':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0xf;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Less>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("<")) {
-      yyValue = "<";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("<")) {
+        yyValue = "<";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Greater>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(">")) {
-      yyValue = ">";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(">")) {
+        yyValue = ">";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <LessEqual>.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("<=")) {
-      yyValue = "<=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("<=")) {
+        yyValue = "<=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <GreaterEqual>.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(">=")) {
-      yyValue = ">=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(">=")) {
+        yyValue = ">=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -4556,31 +5013,71 @@ public final class JavaFactoryParser extends ParserBase {
     String     yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '@':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x7;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Left>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("<<")) {
-      yyValue = "<<";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("<<")) {
+        yyValue = "<<";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Right>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(">>")) {
-      yyValue = ">>";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(">>")) {
+        yyValue = ">>";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <UnsignedRight>.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(">>>")) {
-      yyValue = ">>>";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(">>>")) {
+        yyValue = ">>>";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -4695,22 +5192,60 @@ public final class JavaFactoryParser extends ParserBase {
     String     yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '@':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Plus>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("+")) {
-      yyValue = "+";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("+")) {
+        yyValue = "+";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Minus>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("-")) {
-      yyValue = "-";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("-")) {
+        yyValue = "-";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -4829,31 +5364,71 @@ public final class JavaFactoryParser extends ParserBase {
     String     yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '@':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x7;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Times>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("*")) {
-      yyValue = "*";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("*")) {
+        yyValue = "*";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Over>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("/")) {
-      yyValue = "/";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("/")) {
+        yyValue = "/";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Modulo>.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("%")) {
-      yyValue = "%";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("%")) {
+        yyValue = "%";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -4875,75 +5450,117 @@ public final class JavaFactoryParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '@':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0xf;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Plus>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("+")) {
-      final String v$g$1 = "+";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("+")) {
+        final String v$g$1 = "+";
 
-      yyResult = pUnaryExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$2 = yyResult.semanticValue();
+        yyResult = pUnaryExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryExpression", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("UnaryExpression", v$g$1, v$g$2);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative <Minus>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("-")) {
-      final String v$g$3 = "-";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("-")) {
+        final String v$g$3 = "-";
 
-      yyResult = pUnaryExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$4 = yyResult.semanticValue();
+        yyResult = pUnaryExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$4 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryExpression", v$g$3, v$g$4);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("UnaryExpression", v$g$3, v$g$4);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative <Increment>.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("++")) {
-      final String v$g$5 = "++";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("++")) {
+        final String v$g$5 = "++";
 
-      yyResult = pUnaryExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$6 = yyResult.semanticValue();
+        yyResult = pUnaryExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$6 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryExpression", v$g$5, v$g$6);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("UnaryExpression", v$g$5, v$g$6);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative <Decrement>.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("--")) {
-      final String v$g$7 = "--";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("--")) {
+        final String v$g$7 = "--";
 
-      yyResult = pUnaryExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$8 = yyResult.semanticValue();
+        yyResult = pUnaryExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$8 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryExpression", v$g$7, v$g$8);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("UnaryExpression", v$g$7, v$g$8);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
@@ -4981,111 +5598,151 @@ public final class JavaFactoryParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '@':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x7;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("~")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("~")) {
 
-      yyResult = pUnaryExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
+        yyResult = pUnaryExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("BitwiseNegationExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("BitwiseNegationExpression", v$g$1);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("!")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("!")) {
 
-      yyResult = pUnaryExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
+        yyResult = pUnaryExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("LogicalNegationExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("LogicalNegationExpression", v$g$1);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("(")) {
-
-      final int yyChoice1 = yyResult.index;
-
-      // Nested alternative 1.
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("(")) {
 
-      yyResult = pPrimitiveType(yyChoice1);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
+        final int yyChoice1 = yyResult.index;
 
-        yyOption1  = yyResult.index;
-        yyOpValue1 = null;
+        // Nested alternative 1.
 
-        yyResult = pDimensions(yyOption1);
-        yyError  = yyResult.select(yyError, yyOption1);
+        yyResult = pPrimitiveType(yyChoice1);
+        yyError  = yyResult.select(yyError);
         if (yyResult.hasValue()) {
-          final Node v$el$1 = yyResult.semanticValue();
+          final Node v$g$1 = yyResult.semanticValue();
 
           yyOption1  = yyResult.index;
-          yyOpValue1 = v$el$1;
+          yyOpValue1 = null;
+
+          yyResult = pDimensions(yyOption1);
+          yyError  = yyResult.select(yyError, yyOption1);
+          if (yyResult.hasValue()) {
+            final Node v$el$1 = yyResult.semanticValue();
+
+            yyOption1  = yyResult.index;
+            yyOpValue1 = v$el$1;
+          }
+          { // Start scope for v$g$2.
+            final Node v$g$2 = yyOpValue1;
+
+            yyBase   = yyOption1;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue(")")) {
+
+              yyResult = pUnaryExpression(yyResult.index);
+              yyError  = yyResult.select(yyError);
+              if (yyResult.hasValue()) {
+                final Node v$g$3 = yyResult.semanticValue();
+
+                yyValue = GNode.create("BasicCastExpression", v$g$1, v$g$2, v$g$3);
+                locate(yyValue, yyStart);
+
+                return yyResult.createValue(yyValue, yyError);
+              }
+            } else {
+              yyError = yyError.select("')' expected", yyBase);
+            }
+          } // End scope for v$g$2.
         }
-        { // Start scope for v$g$2.
-          final Node v$g$2 = yyOpValue1;
 
-          yyBase   = yyOption1;
+        // Nested alternative 2.
+
+        yyResult = pType(yyChoice1);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$1 = yyResult.semanticValue();
+
+          yyBase   = yyResult.index;
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue(")")) {
 
-            yyResult = pUnaryExpression(yyResult.index);
+            yyResult = pUnaryExpressionNotPlusMinus(yyResult.index);
             yyError  = yyResult.select(yyError);
             if (yyResult.hasValue()) {
-              final Node v$g$3 = yyResult.semanticValue();
+              final Node v$g$2 = yyResult.semanticValue();
 
-              yyValue = GNode.create("BasicCastExpression", v$g$1, v$g$2, v$g$3);
-              yyValue.setLocation(location(yyStart));
+              yyValue = GNode.create("CastExpression", v$g$1, v$g$2);
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
           } else {
             yyError = yyError.select("')' expected", yyBase);
           }
-        } // End scope for v$g$2.
-      }
-
-      // Nested alternative 2.
-
-      yyResult = pType(yyChoice1);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
-
-        yyBase   = yyResult.index;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue(")")) {
-
-          yyResult = pUnaryExpressionNotPlusMinus(yyResult.index);
-          yyError  = yyResult.select(yyError);
-          if (yyResult.hasValue()) {
-            final Node v$g$2 = yyResult.semanticValue();
-
-            yyValue = GNode.create("CastExpression", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
-
-            return yyResult.createValue(yyValue, yyError);
-          }
-        } else {
-          yyError = yyError.select("')' expected", yyBase);
         }
       }
     }
@@ -5176,217 +5833,261 @@ public final class JavaFactoryParser extends ParserBase {
     Action<Node> yyValue;
     ParseError   yyError = ParseError.DUMMY;
 
-    // Alternative 1.
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '@':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x1f;
+      break;
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(".")) {
+    default:
+      yyFirst = 0;
+    }
 
-      final int yyChoice1 = yyResult.index;
+    // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-      // Nested alternative 1.
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(".")) {
 
-      yyOption1  = yyChoice1;
-      yyOpValue1 = null;
+        final int yyChoice1 = yyResult.index;
 
-      yyResult = pTypeArguments(yyOption1);
-      yyError  = yyResult.select(yyError, yyOption1);
-      if (yyResult.hasValue()) {
-        final Node v$el$1 = yyResult.semanticValue();
+        // Nested alternative 1.
 
-        yyOption1  = yyResult.index;
-        yyOpValue1 = v$el$1;
-      }
-      { // Start scope for v$g$2.
-        final Node v$g$2 = yyOpValue1;
+        yyOption1  = yyChoice1;
+        yyOpValue1 = null;
 
-        yyResult = pName(yyOption1);
-        yyError  = yyResult.select(yyError);
+        yyResult = pTypeArguments(yyOption1);
+        yyError  = yyResult.select(yyError, yyOption1);
         if (yyResult.hasValue()) {
-          final Object v$g$3 = yyResult.semanticValue();
+          final Node v$el$1 = yyResult.semanticValue();
+
+          yyOption1  = yyResult.index;
+          yyOpValue1 = v$el$1;
+        }
+        { // Start scope for v$g$2.
+          final Node v$g$2 = yyOpValue1;
+
+          yyResult = pName(yyOption1);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Object v$g$3 = yyResult.semanticValue();
+
+            yyResult = pArguments(yyResult.index);
+            yyError  = yyResult.select(yyError);
+            if (yyResult.hasValue()) {
+              final Node v$g$4 = yyResult.semanticValue();
+
+              yyValue = new Action<Node>() {
+                public Node run(Node v$1) {
+                  return GNode.create("CallExpression", v$1, v$g$2, v$g$3, v$g$4);
+                }};
+
+              return yyResult.createValue(yyValue, yyError);
+            }
+          }
+        } // End scope for v$g$2.
+
+        // Nested alternative 2.
+
+        yyBase   = yyChoice1;
+        yyResult = pWord(yyBase);
+        if (yyResult.hasValue("super")) {
+          final String v$g$6 = "super";
 
           yyResult = pArguments(yyResult.index);
           yyError  = yyResult.select(yyError);
           if (yyResult.hasValue()) {
-            final Node v$g$4 = yyResult.semanticValue();
+            final Node v$g$7 = yyResult.semanticValue();
 
             yyValue = new Action<Node>() {
               public Node run(Node v$1) {
-                return GNode.create("CallExpression", v$1, v$g$2, v$g$3, v$g$4);
+                return GNode.create("CallExpression", v$1, null, v$g$6, v$g$7);
               }};
 
             return yyResult.createValue(yyValue, yyError);
           }
+        } else {
+          yyError = yyError.select("'super' expected", yyBase);
         }
-      } // End scope for v$g$2.
 
-      // Nested alternative 2.
+        // Nested alternative 3.
 
-      yyBase   = yyChoice1;
-      yyResult = pWord(yyBase);
-      if (yyResult.hasValue("super")) {
-        final String v$g$6 = "super";
-
-        yyResult = pArguments(yyResult.index);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$g$7 = yyResult.semanticValue();
+        yyBase   = yyChoice1;
+        yyResult = pWord(yyBase);
+        if (yyResult.hasValue("super")) {
 
           yyValue = new Action<Node>() {
             public Node run(Node v$1) {
-              return GNode.create("CallExpression", v$1, null, v$g$6, v$g$7);
+              return GNode.create("SuperExpression", v$1);
             }};
 
           return yyResult.createValue(yyValue, yyError);
+        } else {
+          yyError = yyError.select("'super' expected", yyBase);
         }
-      } else {
-        yyError = yyError.select("'super' expected", yyBase);
-      }
-
-      // Nested alternative 3.
-
-      yyBase   = yyChoice1;
-      yyResult = pWord(yyBase);
-      if (yyResult.hasValue("super")) {
 
-        yyValue = new Action<Node>() {
-          public Node run(Node v$1) {
-            return GNode.create("SuperExpression", v$1);
-          }};
+        // Nested alternative 4.
 
-        return yyResult.createValue(yyValue, yyError);
-      } else {
-        yyError = yyError.select("'super' expected", yyBase);
-      }
-
-      // Nested alternative 4.
-
-      yyResult = pName(yyChoice1);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Object v$g$8 = yyResult.semanticValue();
+        yyResult = pName(yyChoice1);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Object v$g$8 = yyResult.semanticValue();
 
-        yyValue = new Action<Node>() {
-          public Node run(Node v$1) {
-            return GNode.create("SelectionExpression", v$1, v$g$8);
-          }};
+          yyValue = new Action<Node>() {
+            public Node run(Node v$1) {
+              return GNode.create("SelectionExpression", v$1, v$g$8);
+            }};
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("[")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("[")) {
 
-      yyResult = pExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$9 = yyResult.semanticValue();
+        yyResult = pExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$9 = yyResult.semanticValue();
 
-        yyBase   = yyResult.index;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue("]")) {
+          yyBase   = yyResult.index;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue("]")) {
 
-          yyValue = new Action<Node>() {
-            public Node run(Node v$1) {
-              return GNode.create("SubscriptExpression", v$1, v$g$9);
-            }};
+            yyValue = new Action<Node>() {
+              public Node run(Node v$1) {
+                return GNode.create("SubscriptExpression", v$1, v$g$9);
+              }};
 
-          return yyResult.createValue(yyValue, yyError);
-        } else {
-          yyError = yyError.select("']' expected", yyBase);
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("']' expected", yyBase);
+          }
         }
       }
     }
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("++")) {
-      final String v$g$10 = "++";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("++")) {
+        final String v$g$10 = "++";
 
-      yyValue = new Action<Node>() {
-        public Node run(Node v$1) {
-          return GNode.create("PostfixExpression", v$1, v$g$10);
-        }};
+        yyValue = new Action<Node>() {
+          public Node run(Node v$1) {
+            return GNode.create("PostfixExpression", v$1, v$g$10);
+          }};
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 4.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("--")) {
-      final String v$g$11 = "--";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("--")) {
+        final String v$g$11 = "--";
 
-      yyValue = new Action<Node>() {
-        public Node run(Node v$1) {
-          return GNode.create("PostfixExpression", v$1, v$g$11);
-        }};
+        yyValue = new Action<Node>() {
+          public Node run(Node v$1) {
+            return GNode.create("PostfixExpression", v$1, v$g$11);
+          }};
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 5.
+    if (0 != (yyFirst & 0x10)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(".")) {
-
-      yyBase   = yyResult.index;
-      yyResult = pWord(yyBase);
-      if (yyResult.hasValue("new")) {
-
-        yyOption1  = yyResult.index;
-        yyOpValue1 = null;
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(".")) {
 
-        yyResult = pTypeArguments(yyOption1);
-        yyError  = yyResult.select(yyError, yyOption1);
-        if (yyResult.hasValue()) {
-          final Node v$el$2 = yyResult.semanticValue();
+        yyBase   = yyResult.index;
+        yyResult = pWord(yyBase);
+        if (yyResult.hasValue("new")) {
 
           yyOption1  = yyResult.index;
-          yyOpValue1 = v$el$2;
-        }
-        { // Start scope for v$g$12.
-          final Node v$g$12 = yyOpValue1;
+          yyOpValue1 = null;
 
-          yyResult = pTypeName(yyOption1);
-          yyError  = yyResult.select(yyError);
+          yyResult = pTypeArguments(yyOption1);
+          yyError  = yyResult.select(yyError, yyOption1);
           if (yyResult.hasValue()) {
-            final Node v$g$13 = yyResult.semanticValue();
+            final Node v$el$2 = yyResult.semanticValue();
 
-            yyResult = pArguments(yyResult.index);
+            yyOption1  = yyResult.index;
+            yyOpValue1 = v$el$2;
+          }
+          { // Start scope for v$g$12.
+            final Node v$g$12 = yyOpValue1;
+
+            yyResult = pTypeName(yyOption1);
             yyError  = yyResult.select(yyError);
             if (yyResult.hasValue()) {
-              final Node v$g$14 = yyResult.semanticValue();
-
-              yyOption1  = yyResult.index;
-              yyOpValue1 = null;
+              final Node v$g$13 = yyResult.semanticValue();
 
-              yyResult = pClassBody(yyOption1);
-              yyError  = yyResult.select(yyError, yyOption1);
+              yyResult = pArguments(yyResult.index);
+              yyError  = yyResult.select(yyError);
               if (yyResult.hasValue()) {
-                final Node v$el$3 = yyResult.semanticValue();
+                final Node v$g$14 = yyResult.semanticValue();
 
                 yyOption1  = yyResult.index;
-                yyOpValue1 = v$el$3;
-              }
-              { // Start scope for v$g$15.
-                final Node v$g$15 = yyOpValue1;
+                yyOpValue1 = null;
+
+                yyResult = pClassBody(yyOption1);
+                yyError  = yyResult.select(yyError, yyOption1);
+                if (yyResult.hasValue()) {
+                  final Node v$el$3 = yyResult.semanticValue();
 
-                yyValue = new Action<Node>() {
-                  public Node run(Node v$1) {
-                    return GNode.create("NewClassExpression", v$1, v$g$12, v$g$13, v$g$14, v$g$15);
-                  }};
+                  yyOption1  = yyResult.index;
+                  yyOpValue1 = v$el$3;
+                }
+                { // Start scope for v$g$15.
+                  final Node v$g$15 = yyOpValue1;
+
+                  yyValue = new Action<Node>() {
+                    public Node run(Node v$1) {
+                      return GNode.create("NewClassExpression", v$1, v$g$12, v$g$13, v$g$14, v$g$15);
+                    }};
 
-                return new SemanticValue(yyValue, yyOption1, yyError);
-              } // End scope for v$g$15.
+                  return new SemanticValue(yyValue, yyOption1, yyError);
+                } // End scope for v$g$15.
+              }
             }
-          }
-        } // End scope for v$g$12.
-      } else {
-        yyError = yyError.select("'new' expected", yyBase);
+          } // End scope for v$g$12.
+        } else {
+          yyError = yyError.select("'new' expected", yyBase);
+        }
       }
     }
 
@@ -5412,6 +6113,44 @@ public final class JavaFactoryParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '@':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x1;
+      break;
+
+    case '#':
+      yyFirst = 0x2;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Literal>.
 
     yyResult = pLiteral(yyStart);
@@ -5449,7 +6188,7 @@ public final class JavaFactoryParser extends ParserBase {
           final Node v$g$4 = yyResult.semanticValue();
 
           yyValue = GNode.create("CallExpression", null, v$g$2, v$g$3, v$g$4);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -5472,7 +6211,7 @@ public final class JavaFactoryParser extends ParserBase {
         if (yyResult.hasValue("class")) {
 
           yyValue = GNode.create("ClassLiteralExpression", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
@@ -5495,7 +6234,7 @@ public final class JavaFactoryParser extends ParserBase {
         final Node v$g$4 = yyResult.semanticValue();
 
         yyValue = GNode.create("CallExpression", null, null, v$g$3, v$g$4);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -5529,7 +6268,7 @@ public final class JavaFactoryParser extends ParserBase {
       if (yyResult.hasValue("this")) {
 
         yyValue = GNode.create("ThisExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       } else {
@@ -5554,7 +6293,7 @@ public final class JavaFactoryParser extends ParserBase {
           final Node v$g$4 = yyResult.semanticValue();
 
           yyValue = GNode.create("CallExpression", null, null, v$g$3, v$g$4);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -5567,7 +6306,7 @@ public final class JavaFactoryParser extends ParserBase {
       if (yyResult.hasValue("super")) {
 
         yyValue = GNode.create("SuperExpression", null);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       } else {
@@ -5583,7 +6322,7 @@ public final class JavaFactoryParser extends ParserBase {
       final String v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.create("PrimaryIdentifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -5632,7 +6371,7 @@ public final class JavaFactoryParser extends ParserBase {
               final Node v$g$5 = yyOpValue1;
 
               yyValue = GNode.create("NewClassExpression", null, v$g$2, v$g$3, v$g$4, v$g$5);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return new SemanticValue(yyValue, yyOption1, yyError);
             } // End scope for v$g$5.
@@ -5675,7 +6414,7 @@ public final class JavaFactoryParser extends ParserBase {
             final Node v$g$3 = yyOpValue1;
 
             yyValue = GNode.create("NewArrayExpression", v$g$1, v$g$2, v$g$3, null);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return new SemanticValue(yyValue, yyOption1, yyError);
           } // End scope for v$g$3.
@@ -5703,7 +6442,7 @@ public final class JavaFactoryParser extends ParserBase {
             final Node v$g$7 = yyResult.semanticValue();
 
             yyValue = GNode.create("NewArrayExpression", v$g$1, null, v$g$6, v$g$7);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           }
@@ -5712,34 +6451,38 @@ public final class JavaFactoryParser extends ParserBase {
     }
 
     // Alternative <Nested>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("(")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("(")) {
 
-      yyResult = pExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        yyValue = yyResult.semanticValue();
+        yyResult = pExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          yyValue = yyResult.semanticValue();
 
-        yyBase   = yyResult.index;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue(")")) {
+          yyBase   = yyResult.index;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue(")")) {
 
-          return yyResult.createValue(yyValue, yyError);
-        } else {
-          yyError = yyError.select("')' expected", yyBase);
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("')' expected", yyBase);
+          }
         }
       }
     }
 
     // Alternative <Pattern>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pJavaPattern$NodeVariable(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pJavaPattern$NodeVariable(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -5760,7 +6503,8 @@ public final class JavaFactoryParser extends ParserBase {
     Result     yyResult;
     int        yyRepetition1;
     boolean    yyRepeated1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -5768,7 +6512,8 @@ public final class JavaFactoryParser extends ParserBase {
 
     yyRepetition1 = yyStart;
     yyRepeated1   = false;
-    yyRepValue1   = Pair.empty();
+    yyRepStart1   = bufferStart();
+    yyRepEnd1   = yyRepStart1;
     while (true) {
 
       yyResult = pConcreteDimension(yyRepetition1);
@@ -5778,17 +6523,18 @@ public final class JavaFactoryParser extends ParserBase {
 
         yyRepetition1 = yyResult.index;
         yyRepeated1   = true;
-        yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+        yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
         continue;
       }
       break;
     }
 
     if (yyRepeated1) {
-      final Pair<Node> v$g$1 = yyRepValue1.reverse();
+      final int v$g$1 = yyRepStart1;
+      final int v$g$1$end = yyRepEnd1;
 
-      yyValue = GNode.createFromPair("ConcreteDimensions", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      yyValue = bufferedNode("ConcreteDimensions", v$g$1, v$g$1$end);
+      locate(yyValue, yyStart);
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
     }
@@ -5851,7 +6597,8 @@ public final class JavaFactoryParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     int        yyOption1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
@@ -5871,7 +6618,8 @@ public final class JavaFactoryParser extends ParserBase {
         final Node v$g$1 = yyResult.semanticValue();
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyBase   = yyRepetition1;
@@ -5884,7 +6632,7 @@ public final class JavaFactoryParser extends ParserBase {
               final Node v$el$1 = yyResult.semanticValue();
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
           } else {
@@ -5893,7 +6641,8 @@ public final class JavaFactoryParser extends ParserBase {
           break;
         }
         { // Start scope for v$g$2.
-          final Pair<Node> v$g$2 = yyRepValue1.reverse();
+          final int v$g$2 = yyRepStart1;
+          final int v$g$2$end = yyRepEnd1;
 
           yyOption1  = yyRepetition1;
 
@@ -5910,13 +6659,14 @@ public final class JavaFactoryParser extends ParserBase {
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue("}")) {
 
-            yyValue = GNode.createFromPair("ArrayInitializer", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
+            yyValue = bufferedNode("ArrayInitializer", v$g$1, v$g$2, v$g$2$end);
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
             yyError = yyError.select("'}' expected", yyBase);
           }
+          releaseBuffer(v$g$2);
         } // End scope for v$g$2.
       }
 
@@ -5938,7 +6688,7 @@ public final class JavaFactoryParser extends ParserBase {
       if (yyResult.hasValue("}")) {
 
         yyValue = GNode.create("ArrayInitializer", false);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       } else {
@@ -5963,8 +6713,13 @@ public final class JavaFactoryParser extends ParserBase {
   private Result pVariableInitializer(final int yyStart) throws IOException {
     JavaFactoryParserColumn yyColumn = (JavaFactoryParserColumn)column(yyStart);
     if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fVariableInitializer) 
+    if (null == yyColumn.chunk2.fVariableInitializer) {
       yyColumn.chunk2.fVariableInitializer = pVariableInitializer$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(15, yyColumn.chunk2.fVariableInitializer);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(15, yyColumn.chunk2.fVariableInitializer);
+    }
     return yyColumn.chunk2.fVariableInitializer;
   }
 
@@ -6013,7 +6768,8 @@ public final class JavaFactoryParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -6036,7 +6792,7 @@ public final class JavaFactoryParser extends ParserBase {
         if (yyResult.hasValue(")")) {
 
           yyValue = GNode.create("Arguments", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
@@ -6052,7 +6808,8 @@ public final class JavaFactoryParser extends ParserBase {
         final Node v$g$2 = yyResult.semanticValue();
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyBase   = yyRepetition1;
@@ -6065,7 +6822,7 @@ public final class JavaFactoryParser extends ParserBase {
               final Node v$el$1 = yyResult.semanticValue();
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
           } else {
@@ -6074,19 +6831,21 @@ public final class JavaFactoryParser extends ParserBase {
           break;
         }
         { // Start scope for v$g$3.
-          final Pair<Node> v$g$3 = yyRepValue1.reverse();
+          final int v$g$3 = yyRepStart1;
+          final int v$g$3$end = yyRepEnd1;
 
           yyBase   = yyRepetition1;
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue(")")) {
 
-            yyValue = GNode.createFromPair("Arguments", v$g$2, v$g$3);
-            yyValue.setLocation(location(yyStart));
+            yyValue = bufferedNode("Arguments", v$g$2, v$g$3, v$g$3$end);
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
             yyError = yyError.select("')' expected", yyBase);
           }
+          releaseBuffer(v$g$3);
         } // End scope for v$g$3.
       }
 
@@ -6097,7 +6856,7 @@ public final class JavaFactoryParser extends ParserBase {
       if (yyResult.hasValue(")")) {
 
         yyValue = GNode.create("Arguments", false);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       } else {
@@ -6161,7 +6920,8 @@ public final class JavaFactoryParser extends ParserBase {
     Result     yyResult;
     int        yyRepetition1;
     boolean    yyRepeated1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -6169,7 +6929,8 @@ public final class JavaFactoryParser extends ParserBase {
 
     yyRepetition1 = yyStart;
     yyRepeated1   = false;
-    yyRepValue1   = Pair.empty();
+    yyRepStart1   = bufferStart();
+    yyRepEnd1   = yyRepStart1;
     while (true) {
 
       yyResult = pAnnotation(yyRepetition1);
@@ -6179,17 +6940,18 @@ public final class JavaFactoryParser extends ParserBase {
 
         yyRepetition1 = yyResult.index;
         yyRepeated1   = true;
-        yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+        yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
         continue;
       }
       break;
     }
 
     if (yyRepeated1) {
-      final Pair<Node> v$g$1 = yyRepValue1.reverse();
+      final int v$g$1 = yyRepStart1;
+      final int v$g$1$end = yyRepEnd1;
 
-      yyValue = GNode.createFromPair("Annotations", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      yyValue = bufferedNode("Annotations", v$g$1, v$g$1$end);
+      locate(yyValue, yyStart);
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
     }
@@ -6228,7 +6990,7 @@ public final class JavaFactoryParser extends ParserBase {
           final Node v$g$2 = yyResult.semanticValue();
 
           yyValue = GNode.create("Annotation", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -6329,7 +7091,8 @@ public final class JavaFactoryParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -6341,7 +7104,8 @@ public final class JavaFactoryParser extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyBase   = yyRepetition1;
@@ -6354,7 +7118,7 @@ public final class JavaFactoryParser extends ParserBase {
             final Node v$el$1 = yyResult.semanticValue();
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
         } else {
@@ -6363,10 +7127,11 @@ public final class JavaFactoryParser extends ParserBase {
         break;
       }
       { // Start scope for v$g$2.
-        final Pair<Node> v$g$2 = yyRepValue1.reverse();
+        final int v$g$2 = yyRepStart1;
+        final int v$g$2$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("ElementValuePairs", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("ElementValuePairs", v$g$1, v$g$2, v$g$2$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$2.
@@ -6387,10 +7152,15 @@ public final class JavaFactoryParser extends ParserBase {
    */
   private Result pElementValuePair(final int yyStart) throws IOException {
     JavaFactoryParserColumn yyColumn = (JavaFactoryParserColumn)column(yyStart);
-    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fElementValuePair) 
-      yyColumn.chunk2.fElementValuePair = pElementValuePair$1(yyStart);
-    return yyColumn.chunk2.fElementValuePair;
+    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
+    if (null == yyColumn.chunk4.fElementValuePair) {
+      yyColumn.chunk4.fElementValuePair = pElementValuePair$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(16, yyColumn.chunk4.fElementValuePair);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(16, yyColumn.chunk4.fElementValuePair);
+    }
+    return yyColumn.chunk4.fElementValuePair;
   }
 
   /** Actually parse xtc.lang.JavaPattern.ElementValuePair. */
@@ -6417,7 +7187,7 @@ public final class JavaFactoryParser extends ParserBase {
           final Node v$g$2 = yyResult.semanticValue();
 
           yyValue = GNode.create("ElementValuePair", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -6441,10 +7211,15 @@ public final class JavaFactoryParser extends ParserBase {
    */
   private Result pElementValue(final int yyStart) throws IOException {
     JavaFactoryParserColumn yyColumn = (JavaFactoryParserColumn)column(yyStart);
-    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fElementValue) 
-      yyColumn.chunk2.fElementValue = pElementValue$1(yyStart);
-    return yyColumn.chunk2.fElementValue;
+    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
+    if (null == yyColumn.chunk4.fElementValue) {
+      yyColumn.chunk4.fElementValue = pElementValue$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(17, yyColumn.chunk4.fElementValue);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(17, yyColumn.chunk4.fElementValue);
+    }
+    return yyColumn.chunk4.fElementValue;
   }
 
   /** Actually parse xtc.lang.JavaPattern.ElementValue. */
@@ -6453,6 +7228,40 @@ public final class JavaFactoryParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '@':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Expression>.
 
     yyResult = pExpression(yyStart);
@@ -6464,23 +7273,27 @@ public final class JavaFactoryParser extends ParserBase {
     }
 
     // Alternative <Annotation>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pAnnotation(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pAnnotation(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Array>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pElementArrayInitializer(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pElementArrayInitializer(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -6502,7 +7315,8 @@ public final class JavaFactoryParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     int        yyOption1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
@@ -6522,7 +7336,8 @@ public final class JavaFactoryParser extends ParserBase {
         final Node v$g$1 = yyResult.semanticValue();
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyBase   = yyRepetition1;
@@ -6535,7 +7350,7 @@ public final class JavaFactoryParser extends ParserBase {
               final Node v$el$1 = yyResult.semanticValue();
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
           } else {
@@ -6544,7 +7359,8 @@ public final class JavaFactoryParser extends ParserBase {
           break;
         }
         { // Start scope for v$g$2.
-          final Pair<Node> v$g$2 = yyRepValue1.reverse();
+          final int v$g$2 = yyRepStart1;
+          final int v$g$2$end = yyRepEnd1;
 
           yyOption1  = yyRepetition1;
 
@@ -6561,13 +7377,14 @@ public final class JavaFactoryParser extends ParserBase {
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue("}")) {
 
-            yyValue = GNode.createFromPair("ArrayInitializer", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
+            yyValue = bufferedNode("ArrayInitializer", v$g$1, v$g$2, v$g$2$end);
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
             yyError = yyError.select("'}' expected", yyBase);
           }
+          releaseBuffer(v$g$2);
         } // End scope for v$g$2.
       }
 
@@ -6589,7 +7406,7 @@ public final class JavaFactoryParser extends ParserBase {
       if (yyResult.hasValue("}")) {
 
         yyValue = GNode.create("ArrayInitializer", false);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       } else {
@@ -6615,7 +7432,8 @@ public final class JavaFactoryParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -6625,7 +7443,8 @@ public final class JavaFactoryParser extends ParserBase {
     if (yyResult.hasValue("{")) {
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyResult = pAnnotationElement(yyRepetition1);
@@ -6634,25 +7453,27 @@ public final class JavaFactoryParser extends ParserBase {
           final Node v$el$1 = yyResult.semanticValue();
 
           yyRepetition1 = yyResult.index;
-          yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+          yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
           continue;
         }
         break;
       }
       { // Start scope for v$g$1.
-        final Pair<Node> v$g$1 = yyRepValue1.reverse();
+        final int v$g$1 = yyRepStart1;
+        final int v$g$1$end = yyRepEnd1;
 
         yyBase   = yyRepetition1;
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue("}")) {
 
-          yyValue = GNode.createFromPair("ClassBody", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          yyValue = bufferedNode("ClassBody", v$g$1, v$g$1$end);
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
           yyError = yyError.select("'}' expected", yyBase);
         }
+        releaseBuffer(v$g$1);
       } // End scope for v$g$1.
     }
 
@@ -6730,7 +7551,7 @@ public final class JavaFactoryParser extends ParserBase {
                 if (yyResult.hasValue(";")) {
 
                   yyValue = GNode.create("AnnotationMethod", v$g$1, v$g$2, v$g$3, v$g$4);
-                  yyValue.setLocation(location(yyStart));
+                  locate(yyValue, yyStart);
 
                   return yyResult.createValue(yyValue, yyError);
                 } else {
@@ -6757,7 +7578,7 @@ public final class JavaFactoryParser extends ParserBase {
           if (yyResult.hasValue(";")) {
 
             yyValue = GNode.create("FieldDeclaration", v$g$1, v$g$2, v$g$3);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
@@ -6823,7 +7644,7 @@ public final class JavaFactoryParser extends ParserBase {
                   final Node v$g$6 = yyResult.semanticValue();
 
                   yyValue = GNode.create("ClassDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6);
-                  yyValue.setLocation(location(yyStart));
+                  locate(yyValue, yyStart);
 
                   return yyResult.createValue(yyValue, yyError);
                 }
@@ -6879,7 +7700,7 @@ public final class JavaFactoryParser extends ParserBase {
                 final Node v$g$5 = yyResult.semanticValue();
 
                 yyValue = GNode.create("InterfaceDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return yyResult.createValue(yyValue, yyError);
               }
@@ -6961,7 +7782,7 @@ public final class JavaFactoryParser extends ParserBase {
                   if (yyResult.hasValue("}")) {
 
                     yyValue = GNode.create("EnumDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
-                    yyValue.setLocation(location(yyStart));
+                    locate(yyValue, yyStart);
 
                     return yyResult.createValue(yyValue, yyError);
                   } else {
@@ -6999,7 +7820,7 @@ public final class JavaFactoryParser extends ParserBase {
               final Node v$g$3 = yyResult.semanticValue();
 
               yyValue = GNode.create("AnnotationDeclaration", v$g$1, v$g$2, v$g$3);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -7041,7 +7862,7 @@ public final class JavaFactoryParser extends ParserBase {
         final Node v$g$1 = yyResult.semanticValue();
 
         yyValue = GNode.create("DefaultValue", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -7065,7 +7886,8 @@ public final class JavaFactoryParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -7077,7 +7899,8 @@ public final class JavaFactoryParser extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyBase   = yyRepetition1;
@@ -7090,7 +7913,7 @@ public final class JavaFactoryParser extends ParserBase {
             final Node v$el$1 = yyResult.semanticValue();
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
         } else {
@@ -7099,10 +7922,11 @@ public final class JavaFactoryParser extends ParserBase {
         break;
       }
       { // Start scope for v$g$2.
-        final Pair<Node> v$g$2 = yyRepValue1.reverse();
+        final int v$g$2 = yyRepStart1;
+        final int v$g$2$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("EnumConstants", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("EnumConstants", v$g$1, v$g$2, v$g$2$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$2.
@@ -7116,7 +7940,7 @@ public final class JavaFactoryParser extends ParserBase {
       final Node v$g$3 = yyResult.semanticValue();
 
       yyValue = GNode.create("EnumConstants", v$g$3);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -7190,7 +8014,7 @@ public final class JavaFactoryParser extends ParserBase {
             final Node v$g$4 = yyOpValue1;
 
             yyValue = GNode.create("EnumConstant", v$g$1, v$g$2, v$g$3, v$g$4);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return new SemanticValue(yyValue, yyOption1, yyError);
           } // End scope for v$g$4.
@@ -7214,7 +8038,8 @@ public final class JavaFactoryParser extends ParserBase {
   private Result pEnumMembers(final int yyStart) throws IOException {
     Result     yyResult;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -7224,7 +8049,8 @@ public final class JavaFactoryParser extends ParserBase {
     if (yyResult.hasValue(";")) {
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyResult = pDeclaration(yyRepetition1);
@@ -7233,16 +8059,17 @@ public final class JavaFactoryParser extends ParserBase {
           final Node v$el$1 = yyResult.semanticValue();
 
           yyRepetition1 = yyResult.index;
-          yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+          yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
           continue;
         }
         break;
       }
       { // Start scope for v$g$1.
-        final Pair<Node> v$g$1 = yyRepValue1.reverse();
+        final int v$g$1 = yyRepStart1;
+        final int v$g$1$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("EnumMembers", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("EnumMembers", v$g$1, v$g$1$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$1.
@@ -7268,7 +8095,8 @@ public final class JavaFactoryParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     int        yyOption1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
@@ -7284,7 +8112,8 @@ public final class JavaFactoryParser extends ParserBase {
         final Node v$g$1 = yyResult.semanticValue();
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyBase   = yyRepetition1;
@@ -7297,7 +8126,7 @@ public final class JavaFactoryParser extends ParserBase {
               final Node v$el$1 = yyResult.semanticValue();
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
           } else {
@@ -7306,7 +8135,8 @@ public final class JavaFactoryParser extends ParserBase {
           break;
         }
         { // Start scope for v$g$2.
-          final Pair<Node> v$g$2 = yyRepValue1.reverse();
+          final int v$g$2 = yyRepStart1;
+          final int v$g$2$end = yyRepEnd1;
 
           yyOption1  = yyRepetition1;
 
@@ -7323,13 +8153,14 @@ public final class JavaFactoryParser extends ParserBase {
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue(")")) {
 
-            yyValue = GNode.createFromPair("ResourceSpecification", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
+            yyValue = bufferedNode("ResourceSpecification", v$g$1, v$g$2, v$g$2$end);
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
             yyError = yyError.select("')' expected", yyBase);
           }
+          releaseBuffer(v$g$2);
         } // End scope for v$g$2.
       }
     }
@@ -7350,10 +8181,15 @@ public final class JavaFactoryParser extends ParserBase {
    */
   private Result pResource(final int yyStart) throws IOException {
     JavaFactoryParserColumn yyColumn = (JavaFactoryParserColumn)column(yyStart);
-    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fResource) 
-      yyColumn.chunk2.fResource = pResource$1(yyStart);
-    return yyColumn.chunk2.fResource;
+    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
+    if (null == yyColumn.chunk4.fResource) {
+      yyColumn.chunk4.fResource = pResource$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(18, yyColumn.chunk4.fResource);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(18, yyColumn.chunk4.fResource);
+    }
+    return yyColumn.chunk4.fResource;
   }
 
   /** Actually parse xtc.lang.JavaPattern.Resource. */
@@ -7380,7 +8216,7 @@ public final class JavaFactoryParser extends ParserBase {
           final Node v$g$3 = yyResult.semanticValue();
 
           yyValue = GNode.create("FieldDeclaration", v$g$1, v$g$2, v$g$3);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -7413,7 +8249,7 @@ public final class JavaFactoryParser extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.create("Declarators", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -7454,7 +8290,7 @@ public final class JavaFactoryParser extends ParserBase {
           final Node v$g$3 = yyResult.semanticValue();
 
           yyValue = GNode.create("Declarator", v$g$1, null, v$g$3);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -7480,7 +8316,8 @@ public final class JavaFactoryParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -7497,7 +8334,8 @@ public final class JavaFactoryParser extends ParserBase {
         final Node v$g$2 = yyResult.semanticValue();
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyBase   = yyRepetition1;
@@ -7510,7 +8348,7 @@ public final class JavaFactoryParser extends ParserBase {
               final Node v$el$1 = yyResult.semanticValue();
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
           } else {
@@ -7519,19 +8357,23 @@ public final class JavaFactoryParser extends ParserBase {
           break;
         }
         { // Start scope for v$g$3.
-          final Pair<Node> v$g$3 = yyRepValue1.reverse();
+          final int v$g$3 = yyRepStart1;
+          final int v$g$3$end = yyRepEnd1;
 
           yyResult = pIdentifier(yyRepetition1);
           yyError  = yyResult.select(yyError);
           if (yyResult.hasValue()) {
             final String v$g$5 = yyResult.semanticValue();
 
-            yyValue = GNode.create("FormalParameter", v$g$3.size() + 5).
-              add(v$g$1).add(v$g$2).addAll(v$g$3).add(null).add(v$g$5).add(null);
-            yyValue.setLocation(location(yyStart));
+            yyValue = GNode.create("FormalParameter", (v$g$3$end - v$g$3) + 5).
+              add(v$g$1).add(v$g$2);
+            addBuffered(yyValue, v$g$3, v$g$3$end);
+            yyValue.add(null).add(v$g$5).add(null);
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           }
+          releaseBuffer(v$g$3);
         } // End scope for v$g$3.
       }
     }
@@ -7593,7 +8435,7 @@ public final class JavaFactoryParser extends ParserBase {
           if (yyResult.hasValue(";")) {
 
             yyValue = GNode.create("FieldDeclaration", v$g$1, v$g$2, v$g$3);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
@@ -7674,7 +8516,7 @@ public final class JavaFactoryParser extends ParserBase {
                     final Node v$g$8 = yyResult.semanticValue();
 
                     yyValue = GNode.create("MethodDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6, v$g$7, v$g$8);
-                    yyValue.setLocation(location(yyStart));
+                    locate(yyValue, yyStart);
 
                     return yyResult.createValue(yyValue, yyError);
                   }
@@ -7686,7 +8528,7 @@ public final class JavaFactoryParser extends ParserBase {
                   if (yyResult.hasValue(";")) {
 
                     yyValue = GNode.create("MethodDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6, v$g$7, null);
-                    yyValue.setLocation(location(yyStart));
+                    locate(yyValue, yyStart);
 
                     return yyResult.createValue(yyValue, yyError);
                   } else {
@@ -7730,7 +8572,7 @@ public final class JavaFactoryParser extends ParserBase {
                 final Node v$g$6 = yyResult.semanticValue();
 
                 yyValue = GNode.create("ConstructorDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6);
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return yyResult.createValue(yyValue, yyError);
               }
@@ -7796,7 +8638,7 @@ public final class JavaFactoryParser extends ParserBase {
                   final Node v$g$6 = yyResult.semanticValue();
 
                   yyValue = GNode.create("ClassDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6);
-                  yyValue.setLocation(location(yyStart));
+                  locate(yyValue, yyStart);
 
                   return yyResult.createValue(yyValue, yyError);
                 }
@@ -7852,7 +8694,7 @@ public final class JavaFactoryParser extends ParserBase {
                 final Node v$g$5 = yyResult.semanticValue();
 
                 yyValue = GNode.create("InterfaceDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return yyResult.createValue(yyValue, yyError);
               }
@@ -7905,10 +8747,16 @@ public final class JavaFactoryParser extends ParserBase {
     throws IOException {
 
     JavaFactoryParserColumn yyColumn = (JavaFactoryParserColumn)column(yyStart);
-    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fJavaPattern$NodeVariable) 
-      yyColumn.chunk2.fJavaPattern$NodeVariable = pJavaPattern$NodeVariable$1(yyStart);
-    return yyColumn.chunk2.fJavaPattern$NodeVariable;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fJavaPattern$NodeVariable) {
+      yyColumn.chunk1.fJavaPattern$NodeVariable = 
+        pJavaPattern$NodeVariable$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(19, yyColumn.chunk1.fJavaPattern$NodeVariable);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(19, yyColumn.chunk1.fJavaPattern$NodeVariable);
+    }
+    return yyColumn.chunk1.fJavaPattern$NodeVariable;
   }
 
   /** Actually parse xtc.lang.JavaPattern.NodeVariable. */
@@ -7933,7 +8781,7 @@ public final class JavaFactoryParser extends ParserBase {
         final String v$g$1 = yyResult.semanticValue();
 
         yyValue = GNode.create("NodeVariable", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -7974,7 +8822,7 @@ public final class JavaFactoryParser extends ParserBase {
         final String v$g$1 = yyResult.semanticValue();
 
         yyValue = GNode.create("StringVariable", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -7996,10 +8844,15 @@ public final class JavaFactoryParser extends ParserBase {
    */
   private Result pNodeListVariable(final int yyStart) throws IOException {
     JavaFactoryParserColumn yyColumn = (JavaFactoryParserColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fNodeListVariable) 
-      yyColumn.chunk3.fNodeListVariable = pNodeListVariable$1(yyStart);
-    return yyColumn.chunk3.fNodeListVariable;
+    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
+    if (null == yyColumn.chunk2.fNodeListVariable) {
+      yyColumn.chunk2.fNodeListVariable = pNodeListVariable$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(20, yyColumn.chunk2.fNodeListVariable);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(20, yyColumn.chunk2.fNodeListVariable);
+    }
+    return yyColumn.chunk2.fNodeListVariable;
   }
 
   /** Actually parse xtc.lang.JavaPattern.NodeListVariable. */
@@ -8034,7 +8887,7 @@ public final class JavaFactoryParser extends ParserBase {
             if (yyResult.hasValue()) {
 
               yyValue = GNode.create("NodeListVariable", v$g$1);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -8059,10 +8912,15 @@ public final class JavaFactoryParser extends ParserBase {
    */
   private Result pResultType(final int yyStart) throws IOException {
     JavaFactoryParserColumn yyColumn = (JavaFactoryParserColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fResultType) 
-      yyColumn.chunk3.fResultType = pResultType$1(yyStart);
-    return yyColumn.chunk3.fResultType;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fResultType) {
+      yyColumn.chunk1.fResultType = pResultType$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(21, yyColumn.chunk1.fResultType);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(21, yyColumn.chunk1.fResultType);
+    }
+    return yyColumn.chunk1.fResultType;
   }
 
   /** Actually parse xtc.lang.JavaTypePattern.ResultType. */
@@ -8115,7 +8973,7 @@ public final class JavaFactoryParser extends ParserBase {
     if (yyResult.hasValue("void")) {
 
       yyValue = GNode.create("VoidType", false);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -8136,10 +8994,14 @@ public final class JavaFactoryParser extends ParserBase {
    */
   private Result pType(final int yyStart) throws IOException {
     JavaFactoryParserColumn yyColumn = (JavaFactoryParserColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fType) 
-      yyColumn.chunk3.fType = pType$1(yyStart);
-    return yyColumn.chunk3.fType;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fType) {
+      yyColumn.chunk1.fType = pType$1(yyStart);
+      if (null != yyStatistics) yyStatistics.miss(22, yyColumn.chunk1.fType);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(22, yyColumn.chunk1.fType);
+    }
+    return yyColumn.chunk1.fType;
   }
 
   /** Actually parse xtc.lang.JavaTypePattern.Type. */
@@ -8172,7 +9034,7 @@ public final class JavaFactoryParser extends ParserBase {
         final Node v$g$2 = yyOpValue1;
 
         yyValue = GNode.create("Type", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyOption1, yyError);
       } // End scope for v$g$2.
@@ -8193,10 +9055,15 @@ public final class JavaFactoryParser extends ParserBase {
    */
   private Result pTypeName(final int yyStart) throws IOException {
     JavaFactoryParserColumn yyColumn = (JavaFactoryParserColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fTypeName) 
-      yyColumn.chunk3.fTypeName = pTypeName$1(yyStart);
-    return yyColumn.chunk3.fTypeName;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fTypeName) {
+      yyColumn.chunk1.fTypeName = pTypeName$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(23, yyColumn.chunk1.fTypeName);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(23, yyColumn.chunk1.fTypeName);
+    }
+    return yyColumn.chunk1.fTypeName;
   }
 
   /** Actually parse xtc.lang.JavaTypePattern.TypeName. */
@@ -8240,10 +9107,15 @@ public final class JavaFactoryParser extends ParserBase {
    */
   private Result pPrimitiveType(final int yyStart) throws IOException {
     JavaFactoryParserColumn yyColumn = (JavaFactoryParserColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fPrimitiveType) 
-      yyColumn.chunk3.fPrimitiveType = pPrimitiveType$1(yyStart);
-    return yyColumn.chunk3.fPrimitiveType;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fPrimitiveType) {
+      yyColumn.chunk1.fPrimitiveType = pPrimitiveType$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(24, yyColumn.chunk1.fPrimitiveType);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(24, yyColumn.chunk1.fPrimitiveType);
+    }
+    return yyColumn.chunk1.fPrimitiveType;
   }
 
   /** Actually parse xtc.lang.JavaTypePattern.PrimitiveType. */
@@ -8259,7 +9131,7 @@ public final class JavaFactoryParser extends ParserBase {
       final String v$g$1 = "byte";
 
       yyValue = GNode.create("PrimitiveType", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -8271,7 +9143,7 @@ public final class JavaFactoryParser extends ParserBase {
       final String v$g$2 = "short";
 
       yyValue = GNode.create("PrimitiveType", v$g$2);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -8283,7 +9155,7 @@ public final class JavaFactoryParser extends ParserBase {
       final String v$g$3 = "char";
 
       yyValue = GNode.create("PrimitiveType", v$g$3);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -8295,7 +9167,7 @@ public final class JavaFactoryParser extends ParserBase {
       final String v$g$4 = "int";
 
       yyValue = GNode.create("PrimitiveType", v$g$4);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -8307,7 +9179,7 @@ public final class JavaFactoryParser extends ParserBase {
       final String v$g$5 = "long";
 
       yyValue = GNode.create("PrimitiveType", v$g$5);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -8319,7 +9191,7 @@ public final class JavaFactoryParser extends ParserBase {
       final String v$g$6 = "float";
 
       yyValue = GNode.create("PrimitiveType", v$g$6);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -8331,7 +9203,7 @@ public final class JavaFactoryParser extends ParserBase {
       final String v$g$7 = "double";
 
       yyValue = GNode.create("PrimitiveType", v$g$7);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -8343,7 +9215,7 @@ public final class JavaFactoryParser extends ParserBase {
       final String v$g$8 = "boolean";
 
       yyValue = GNode.create("PrimitiveType", v$g$8);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -8428,8 +9300,13 @@ public final class JavaFactoryParser extends ParserBase {
   private Result pDimensions(final int yyStart) throws IOException {
     JavaFactoryParserColumn yyColumn = (JavaFactoryParserColumn)column(yyStart);
     if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fDimensions) 
+    if (null == yyColumn.chunk3.fDimensions) {
       yyColumn.chunk3.fDimensions = pDimensions$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(25, yyColumn.chunk3.fDimensions);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(25, yyColumn.chunk3.fDimensions);
+    }
     return yyColumn.chunk3.fDimensions;
   }
 
@@ -8447,7 +9324,7 @@ public final class JavaFactoryParser extends ParserBase {
       final Pair<String> v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.createFromPair("Dimensions", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -8468,8 +9345,13 @@ public final class JavaFactoryParser extends ParserBase {
   private Result pDimensions$$Plus1(final int yyStart) throws IOException {
     JavaFactoryParserColumn yyColumn = (JavaFactoryParserColumn)column(yyStart);
     if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fDimensions$$Plus1) 
+    if (null == yyColumn.chunk3.fDimensions$$Plus1) {
       yyColumn.chunk3.fDimensions$$Plus1 = pDimensions$$Plus1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(26, yyColumn.chunk3.fDimensions$$Plus1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(26, yyColumn.chunk3.fDimensions$$Plus1);
+    }
     return yyColumn.chunk3.fDimensions$$Plus1;
   }
 
@@ -8530,10 +9412,15 @@ public final class JavaFactoryParser extends ParserBase {
    */
   private Result pTypeParameters(final int yyStart) throws IOException {
     JavaFactoryParserColumn yyColumn = (JavaFactoryParserColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fTypeParameters) 
-      yyColumn.chunk3.fTypeParameters = pTypeParameters$1(yyStart);
-    return yyColumn.chunk3.fTypeParameters;
+    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
+    if (null == yyColumn.chunk4.fTypeParameters) {
+      yyColumn.chunk4.fTypeParameters = pTypeParameters$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(27, yyColumn.chunk4.fTypeParameters);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(27, yyColumn.chunk4.fTypeParameters);
+    }
+    return yyColumn.chunk4.fTypeParameters;
   }
 
   /** Actually parse xtc.lang.JavaTypePattern.TypeParameters. */
@@ -8575,7 +9462,7 @@ public final class JavaFactoryParser extends ParserBase {
               if (yyResult.hasValue()) {
 
                 yyValue = GNode.createFromPair("TypeParameters", v$g$1, v$g$2);
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return yyResult.createValue(yyValue, yyError);
               }
@@ -8605,10 +9492,16 @@ public final class JavaFactoryParser extends ParserBase {
     throws IOException {
 
     JavaFactoryParserColumn yyColumn = (JavaFactoryParserColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fTypeParameters$$Star1) 
-      yyColumn.chunk3.fTypeParameters$$Star1 = pTypeParameters$$Star1$1(yyStart);
-    return yyColumn.chunk3.fTypeParameters$$Star1;
+    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
+    if (null == yyColumn.chunk4.fTypeParameters$$Star1) {
+      yyColumn.chunk4.fTypeParameters$$Star1 = 
+        pTypeParameters$$Star1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(28, yyColumn.chunk4.fTypeParameters$$Star1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(28, yyColumn.chunk4.fTypeParameters$$Star1);
+    }
+    return yyColumn.chunk4.fTypeParameters$$Star1;
   }
 
   /** Actually parse xtc.lang.JavaFactory.TypeParameters$$Star1. */
@@ -8659,10 +9552,15 @@ public final class JavaFactoryParser extends ParserBase {
    */
   private Result pTypeParameter(final int yyStart) throws IOException {
     JavaFactoryParserColumn yyColumn = (JavaFactoryParserColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fTypeParameter) 
-      yyColumn.chunk3.fTypeParameter = pTypeParameter$1(yyStart);
-    return yyColumn.chunk3.fTypeParameter;
+    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
+    if (null == yyColumn.chunk4.fTypeParameter) {
+      yyColumn.chunk4.fTypeParameter = pTypeParameter$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(29, yyColumn.chunk4.fTypeParameter);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(29, yyColumn.chunk4.fTypeParameter);
+    }
+    return yyColumn.chunk4.fTypeParameter;
   }
 
   /** Actually parse xtc.lang.JavaTypePattern.TypeParameter. */
@@ -8703,7 +9601,7 @@ public final class JavaFactoryParser extends ParserBase {
         final Node v$g$2 = yyOpValue1;
 
         yyValue = GNode.create("TypeParameter", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyOption1, yyError);
       } // End scope for v$g$2.
@@ -8717,7 +9615,7 @@ public final class JavaFactoryParser extends ParserBase {
       final Node v$g$3 = yyResult.semanticValue();
 
       yyValue = GNode.create("TypeParameter", v$g$3, null);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -8739,7 +9637,8 @@ public final class JavaFactoryParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -8751,7 +9650,8 @@ public final class JavaFactoryParser extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyBase   = yyRepetition1;
@@ -8764,7 +9664,7 @@ public final class JavaFactoryParser extends ParserBase {
             final Node v$el$1 = yyResult.semanticValue();
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
         } else {
@@ -8773,10 +9673,11 @@ public final class JavaFactoryParser extends ParserBase {
         break;
       }
       { // Start scope for v$g$2.
-        final Pair<Node> v$g$2 = yyRepValue1.reverse();
+        final int v$g$2 = yyRepStart1;
+        final int v$g$2$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("Bound", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("Bound", v$g$1, v$g$2, v$g$2$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$2.
@@ -8797,10 +9698,15 @@ public final class JavaFactoryParser extends ParserBase {
    */
   private Result pTypeArguments(final int yyStart) throws IOException {
     JavaFactoryParserColumn yyColumn = (JavaFactoryParserColumn)column(yyStart);
-    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.fTypeArguments) 
-      yyColumn.chunk4.fTypeArguments = pTypeArguments$1(yyStart);
-    return yyColumn.chunk4.fTypeArguments;
+    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
+    if (null == yyColumn.chunk2.fTypeArguments) {
+      yyColumn.chunk2.fTypeArguments = pTypeArguments$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(30, yyColumn.chunk2.fTypeArguments);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(30, yyColumn.chunk2.fTypeArguments);
+    }
+    return yyColumn.chunk2.fTypeArguments;
   }
 
   /** Actually parse xtc.lang.JavaTypePattern.TypeArguments. */
@@ -8842,7 +9748,7 @@ public final class JavaFactoryParser extends ParserBase {
               if (yyResult.hasValue()) {
 
                 yyValue = GNode.createFromPair("TypeArguments", v$g$1, v$g$2);
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return yyResult.createValue(yyValue, yyError);
               }
@@ -8871,8 +9777,14 @@ public final class JavaFactoryParser extends ParserBase {
   private Result pTypeArguments$$Star1(final int yyStart) throws IOException {
     JavaFactoryParserColumn yyColumn = (JavaFactoryParserColumn)column(yyStart);
     if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.fTypeArguments$$Star1) 
-      yyColumn.chunk4.fTypeArguments$$Star1 = pTypeArguments$$Star1$1(yyStart);
+    if (null == yyColumn.chunk4.fTypeArguments$$Star1) {
+      yyColumn.chunk4.fTypeArguments$$Star1 = 
+        pTypeArguments$$Star1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(31, yyColumn.chunk4.fTypeArguments$$Star1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(31, yyColumn.chunk4.fTypeArguments$$Star1);
+    }
     return yyColumn.chunk4.fTypeArguments$$Star1;
   }
 
@@ -8925,8 +9837,13 @@ public final class JavaFactoryParser extends ParserBase {
   private Result pTypeArgument(final int yyStart) throws IOException {
     JavaFactoryParserColumn yyColumn = (JavaFactoryParserColumn)column(yyStart);
     if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.fTypeArgument) 
+    if (null == yyColumn.chunk4.fTypeArgument) {
       yyColumn.chunk4.fTypeArgument = pTypeArgument$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(32, yyColumn.chunk4.fTypeArgument);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(32, yyColumn.chunk4.fTypeArgument);
+    }
     return yyColumn.chunk4.fTypeArgument;
   }
 
@@ -8996,7 +9913,7 @@ public final class JavaFactoryParser extends ParserBase {
         final Node v$g$1 = yyOpValue1;
 
         yyValue = GNode.create("Wildcard", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyOption1, yyError);
       } // End scope for v$g$1.
@@ -9033,7 +9950,7 @@ public final class JavaFactoryParser extends ParserBase {
         final Node v$g$2 = yyResult.semanticValue();
 
         yyValue = GNode.create("WildcardBound", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -9051,7 +9968,7 @@ public final class JavaFactoryParser extends ParserBase {
         final Node v$g$4 = yyResult.semanticValue();
 
         yyValue = GNode.create("WildcardBound", v$g$3, v$g$4);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -9075,7 +9992,8 @@ public final class JavaFactoryParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -9087,7 +10005,8 @@ public final class JavaFactoryParser extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyBase   = yyRepetition1;
@@ -9100,7 +10019,7 @@ public final class JavaFactoryParser extends ParserBase {
             final Node v$el$1 = yyResult.semanticValue();
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
         } else {
@@ -9109,10 +10028,11 @@ public final class JavaFactoryParser extends ParserBase {
         break;
       }
       { // Start scope for v$g$2.
-        final Pair<Node> v$g$2 = yyRepValue1.reverse();
+        final int v$g$2 = yyRepStart1;
+        final int v$g$2$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("InstantiatedType", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("InstantiatedType", v$g$1, v$g$2, v$g$2$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$2.
@@ -9133,10 +10053,15 @@ public final class JavaFactoryParser extends ParserBase {
    */
   private Result pTypeInstantiation(final int yyStart) throws IOException {
     JavaFactoryParserColumn yyColumn = (JavaFactoryParserColumn)column(yyStart);
-    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.fTypeInstantiation) 
-      yyColumn.chunk4.fTypeInstantiation = pTypeInstantiation$1(yyStart);
-    return yyColumn.chunk4.fTypeInstantiation;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fTypeInstantiation) {
+      yyColumn.chunk1.fTypeInstantiation = pTypeInstantiation$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(33, yyColumn.chunk1.fTypeInstantiation);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(33, yyColumn.chunk1.fTypeInstantiation);
+    }
+    return yyColumn.chunk1.fTypeInstantiation;
   }
 
   /** Actually parse xtc.lang.JavaTypePattern.TypeInstantiation. */
@@ -9169,7 +10094,7 @@ public final class JavaFactoryParser extends ParserBase {
         final Node v$g$2 = yyOpValue1;
 
         yyValue = GNode.create("TypeInstantiation", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyOption1, yyError);
       } // End scope for v$g$2.
@@ -9209,7 +10134,7 @@ public final class JavaFactoryParser extends ParserBase {
         final String v$g$1 = yyResult.semanticValue();
 
         yyValue = GNode.create("NodeVariable", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -9250,7 +10175,7 @@ public final class JavaFactoryParser extends ParserBase {
         final String v$g$1 = yyResult.semanticValue();
 
         yyValue = GNode.create("StringVariable", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -9275,63 +10200,102 @@ public final class JavaFactoryParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
-    // Alternative <FloatingPoint>.
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '\"':
+      yyFirst = 0x8;
+      break;
 
-    yyResult = pFloatingPointLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+    case '\'':
+      yyFirst = 0x4;
+      break;
 
-      yyResult = pSpacing(yyResult.index);
+    case '.':
+      yyFirst = 0x1;
+      break;
+
+    case '0':
+    case '1':
+    case '2':
+    case '3':
+    case '4':
+    case '5':
+    case '6':
+    case '7':
+    case '8':
+    case '9':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
+    // Alternative <FloatingPoint>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
+
+      yyResult = pFloatingPointLiteral(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-        return yyResult.createValue(yyValue, yyError);
+        yyResult = pSpacing(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative <Integer>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pIntegerLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
-
-      yyResult = pSpacing(yyResult.index);
+      yyResult = pIntegerLiteral(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-        return yyResult.createValue(yyValue, yyError);
+        yyResult = pSpacing(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative <Character>.
+    if ((0 != (yyFirst & 0x4)) || (yyError.index < yyStart)) {
 
-    yyResult = pCharacterLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
-
-      yyResult = pSpacing(yyResult.index);
+      yyResult = pCharacterLiteral(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-        return yyResult.createValue(yyValue, yyError);
+        yyResult = pSpacing(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative <String>.
+    if ((0 != (yyFirst & 0x8)) || (yyError.index < yyStart)) {
 
-    yyResult = pStringLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
-
-      yyResult = pSpacing(yyResult.index);
+      yyResult = pStringLiteral(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-        return yyResult.createValue(yyValue, yyError);
+        yyResult = pSpacing(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
@@ -9342,7 +10306,7 @@ public final class JavaFactoryParser extends ParserBase {
       final String v$g$1 = "true";
 
       yyValue = GNode.create("BooleanLiteral", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -9354,7 +10318,7 @@ public final class JavaFactoryParser extends ParserBase {
       final String v$g$2 = "false";
 
       yyValue = GNode.create("BooleanLiteral", v$g$2);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -9365,7 +10329,7 @@ public final class JavaFactoryParser extends ParserBase {
     if (yyResult.hasValue("null")) {
 
       yyValue = GNode.create("NullLiteral", false);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -9389,56 +10353,86 @@ public final class JavaFactoryParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '0':
+      yyFirst = 0xf;
+      break;
+
+    case '1':
+    case '2':
+    case '3':
+    case '4':
+    case '5':
+    case '6':
+    case '7':
+    case '8':
+    case '9':
+      yyFirst = 0x8;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Hex>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pHexLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final String v$g$1 = yyResult.semanticValue();
+      yyResult = pHexLiteral(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final String v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerLiteral", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("IntegerLiteral", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Binary>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pBinaryLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final String v$g$2 = yyResult.semanticValue();
+      yyResult = pBinaryLiteral(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final String v$g$2 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerLiteral", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("IntegerLiteral", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Octal>.
+    if ((0 != (yyFirst & 0x4)) || (yyError.index < yyStart)) {
 
-    yyResult = pOctalLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final String v$g$3 = yyResult.semanticValue();
+      yyResult = pOctalLiteral(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final String v$g$3 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerLiteral", v$g$3);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("IntegerLiteral", v$g$3);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Decimal>.
+    if ((0 != (yyFirst & 0x8)) || (yyError.index < yyStart)) {
 
-    yyResult = pDecimalLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final String v$g$4 = yyResult.semanticValue();
+      yyResult = pDecimalLiteral(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final String v$g$4 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerLiteral", v$g$4);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("IntegerLiteral", v$g$4);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -9929,17 +10923,11 @@ public final class JavaFactoryParser extends ParserBase {
             yyC = character(yyRepetition1);
             if (-1 != yyC) {
               yyIndex = yyRepetition1 + 1;
-              if ((('0' <= yyC) && (yyC <= '9')) ||
-                  (('A' <= yyC) && (yyC <= 'F')) ||
-                  ('_' == yyC) ||
-                  (('a' <= yyC) && (yyC <= 'f'))) {
+              if ((yyC < 128) && (0 != (yyClass1[yyC >> 6] & (1L << yyC)))) {
 
                 yyC = character(yyIndex);
                 if (-1 != yyC) {
-                  if ((('0' <= yyC) && (yyC <= '9')) ||
-                      (('A' <= yyC) && (yyC <= 'F')) ||
-                      ('_' == yyC) ||
-                      (('a' <= yyC) && (yyC <= 'f'))) {
+                  if ((yyC < 128) && (0 != (yyClass1[yyC >> 6] & (1L << yyC)))) {
 
                     yyRepetition1 = yyIndex;
                     continue;
@@ -10295,7 +11283,7 @@ public final class JavaFactoryParser extends ParserBase {
       final String v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.create("FloatingPointLiteral", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -10321,119 +11309,182 @@ public final class JavaFactoryParser extends ParserBase {
     String     yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '.':
+      yyFirst = 0x2;
+      break;
+
+    case '0':
+    case '1':
+    case '2':
+    case '3':
+    case '4':
+    case '5':
+    case '6':
+    case '7':
+    case '8':
+    case '9':
+      yyFirst = 0x5;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pDigits(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
+      yyResult = pDigits(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
 
-      yyC = character(yyResult.index);
-      if ('.' == yyC) {
-        yyIndex = yyResult.index + 1;
+        yyC = character(yyResult.index);
+        if ('.' == yyC) {
+          yyIndex = yyResult.index + 1;
 
-        yyOption1  = yyIndex;
+          yyOption1  = yyIndex;
 
-        yyResult = pDigits(yyOption1);
-        yyError  = yyResult.select(yyError, yyOption1);
-        if (yyResult.hasValue()) {
+          yyResult = pDigits(yyOption1);
+          yyError  = yyResult.select(yyError, yyOption1);
+          if (yyResult.hasValue()) {
 
-          yyOption1  = yyResult.index;
-        }
+            yyOption1  = yyResult.index;
+          }
 
 
-        yyResult = pExponent(yyOption1);
-        yyError  = yyResult.select(yyError, yyOption1);
-        if (yyResult.hasValue()) {
+          yyResult = pExponent(yyOption1);
+          yyError  = yyResult.select(yyError, yyOption1);
+          if (yyResult.hasValue()) {
 
-          yyOption1  = yyResult.index;
-        }
+            yyOption1  = yyResult.index;
+          }
 
 
-        yyC = character(yyOption1);
-        if (-1 != yyC) {
-          yyIndex = yyOption1 + 1;
+          yyC = character(yyOption1);
+          if (-1 != yyC) {
+            yyIndex = yyOption1 + 1;
 
-          switch (yyC) {
-          case 'D':
-          case 'F':
-          case 'd':
-          case 'f':
-            {
-              yyOption1  = yyIndex;
-            }
-            break;
+            switch (yyC) {
+            case 'D':
+            case 'F':
+            case 'd':
+            case 'f':
+              {
+                yyOption1  = yyIndex;
+              }
+              break;
 
-          default:
-            /* No match. */
+            default:
+              /* No match. */
+            }
           }
-        }
 
-        yyValue = difference(yyStart, yyOption1);
+          yyValue = difference(yyStart, yyOption1);
 
-        return new SemanticValue(yyValue, yyOption1, yyError);
+          return new SemanticValue(yyValue, yyOption1, yyError);
+        }
       }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyC = character(yyStart);
-    if ('.' == yyC) {
-      yyIndex = yyStart + 1;
-
-      yyResult = pDigits(yyIndex);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-
-        yyOption1  = yyResult.index;
+      yyC = character(yyStart);
+      if ('.' == yyC) {
+        yyIndex = yyStart + 1;
 
-        yyResult = pExponent(yyOption1);
-        yyError  = yyResult.select(yyError, yyOption1);
+        yyResult = pDigits(yyIndex);
+        yyError  = yyResult.select(yyError);
         if (yyResult.hasValue()) {
 
           yyOption1  = yyResult.index;
-        }
 
+          yyResult = pExponent(yyOption1);
+          yyError  = yyResult.select(yyError, yyOption1);
+          if (yyResult.hasValue()) {
 
-        yyC = character(yyOption1);
-        if (-1 != yyC) {
-          yyIndex = yyOption1 + 1;
+            yyOption1  = yyResult.index;
+          }
 
-          switch (yyC) {
-          case 'D':
-          case 'F':
-          case 'd':
-          case 'f':
-            {
-              yyOption1  = yyIndex;
-            }
-            break;
 
-          default:
-            /* No match. */
+          yyC = character(yyOption1);
+          if (-1 != yyC) {
+            yyIndex = yyOption1 + 1;
+
+            switch (yyC) {
+            case 'D':
+            case 'F':
+            case 'd':
+            case 'f':
+              {
+                yyOption1  = yyIndex;
+              }
+              break;
+
+            default:
+              /* No match. */
+            }
           }
-        }
 
-        yyValue = difference(yyStart, yyOption1);
+          yyValue = difference(yyStart, yyOption1);
 
-        return new SemanticValue(yyValue, yyOption1, yyError);
+          return new SemanticValue(yyValue, yyOption1, yyError);
+        }
       }
     }
 
     // Alternative 3.
+    if ((0 != (yyFirst & 0x4)) || (yyError.index < yyStart)) {
 
-    yyResult = pDigits(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
+      yyResult = pDigits(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
 
-      final int yyChoice1 = yyResult.index;
+        final int yyChoice1 = yyResult.index;
 
-      // Nested alternative 1.
+        // Nested alternative 1.
 
-      yyResult = pExponent(yyChoice1);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
+        yyResult = pExponent(yyChoice1);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
 
-        yyOption1  = yyResult.index;
+          yyOption1  = yyResult.index;
+
+          yyC = character(yyOption1);
+          if (-1 != yyC) {
+            yyIndex = yyOption1 + 1;
+
+            switch (yyC) {
+            case 'D':
+            case 'F':
+            case 'd':
+            case 'f':
+              {
+                yyOption1  = yyIndex;
+              }
+              break;
+
+            default:
+              /* No match. */
+            }
+          }
+
+          yyValue = difference(yyStart, yyOption1);
+
+          return new SemanticValue(yyValue, yyOption1, yyError);
+        }
+
+        // Nested alternative 2.
+
+        yyOption1  = yyChoice1;
+
+        yyResult = pExponent(yyOption1);
+        yyError  = yyResult.select(yyError, yyOption1);
+        if (yyResult.hasValue()) {
+
+          yyOption1  = yyResult.index;
+        }
 
         yyC = character(yyOption1);
         if (-1 != yyC) {
@@ -10445,49 +11496,15 @@ public final class JavaFactoryParser extends ParserBase {
           case 'd':
           case 'f':
             {
-              yyOption1  = yyIndex;
+              yyValue = difference(yyStart, yyIndex);
+
+              return new SemanticValue(yyValue, yyIndex, yyError);
             }
-            break;
 
           default:
             /* No match. */
           }
         }
-
-        yyValue = difference(yyStart, yyOption1);
-
-        return new SemanticValue(yyValue, yyOption1, yyError);
-      }
-
-      // Nested alternative 2.
-
-      yyOption1  = yyChoice1;
-
-      yyResult = pExponent(yyOption1);
-      yyError  = yyResult.select(yyError, yyOption1);
-      if (yyResult.hasValue()) {
-
-        yyOption1  = yyResult.index;
-      }
-
-      yyC = character(yyOption1);
-      if (-1 != yyC) {
-        yyIndex = yyOption1 + 1;
-
-        switch (yyC) {
-        case 'D':
-        case 'F':
-        case 'd':
-        case 'f':
-          {
-            yyValue = difference(yyStart, yyIndex);
-
-            return new SemanticValue(yyValue, yyIndex, yyError);
-          }
-
-        default:
-          /* No match. */
-        }
       }
     }
 
@@ -10585,7 +11602,7 @@ public final class JavaFactoryParser extends ParserBase {
       final String v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.create("CharacterLiteral", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -10616,7 +11633,7 @@ public final class JavaFactoryParser extends ParserBase {
       final String v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.create("StringLiteral", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -11615,10 +12632,15 @@ public final class JavaFactoryParser extends ParserBase {
    */
   private Result pQualifiedIdentifier(final int yyStart) throws IOException {
     JavaFactoryParserColumn yyColumn = (JavaFactoryParserColumn)column(yyStart);
-    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.fQualifiedIdentifier) 
-      yyColumn.chunk4.fQualifiedIdentifier = pQualifiedIdentifier$1(yyStart);
-    return yyColumn.chunk4.fQualifiedIdentifier;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fQualifiedIdentifier) {
+      yyColumn.chunk1.fQualifiedIdentifier = pQualifiedIdentifier$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(34, yyColumn.chunk1.fQualifiedIdentifier);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(34, yyColumn.chunk1.fQualifiedIdentifier);
+    }
+    return yyColumn.chunk1.fQualifiedIdentifier;
   }
 
   /** Actually parse xtc.lang.JavaFiveIdentifier.QualifiedIdentifier. */
@@ -11642,7 +12664,7 @@ public final class JavaFactoryParser extends ParserBase {
         final Pair<String> v$g$2 = yyResult.semanticValue();
 
         yyValue = GNode.createFromPair("QualifiedIdentifier", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -11667,8 +12689,14 @@ public final class JavaFactoryParser extends ParserBase {
 
     JavaFactoryParserColumn yyColumn = (JavaFactoryParserColumn)column(yyStart);
     if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.fQualifiedIdentifier$$Star1) 
-      yyColumn.chunk4.fQualifiedIdentifier$$Star1 = pQualifiedIdentifier$$Star1$1(yyStart);
+    if (null == yyColumn.chunk4.fQualifiedIdentifier$$Star1) {
+      yyColumn.chunk4.fQualifiedIdentifier$$Star1 = 
+        pQualifiedIdentifier$$Star1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(35, yyColumn.chunk4.fQualifiedIdentifier$$Star1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(35, yyColumn.chunk4.fQualifiedIdentifier$$Star1);
+    }
     return yyColumn.chunk4.fQualifiedIdentifier$$Star1;
   }
 
@@ -11720,10 +12748,15 @@ public final class JavaFactoryParser extends ParserBase {
    */
   private Result pIdentifier(final int yyStart) throws IOException {
     JavaFactoryParserColumn yyColumn = (JavaFactoryParserColumn)column(yyStart);
-    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.fIdentifier) 
-      yyColumn.chunk4.fIdentifier = pIdentifier$1(yyStart);
-    return yyColumn.chunk4.fIdentifier;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fIdentifier) {
+      yyColumn.chunk1.fIdentifier = pIdentifier$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(36, yyColumn.chunk1.fIdentifier);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(36, yyColumn.chunk1.fIdentifier);
+    }
+    return yyColumn.chunk1.fIdentifier;
   }
 
   /** Actually parse xtc.lang.JavaFiveIdentifier.Identifier. */
@@ -11761,10 +12794,14 @@ public final class JavaFactoryParser extends ParserBase {
    */
   private Result pWord(final int yyStart) throws IOException {
     JavaFactoryParserColumn yyColumn = (JavaFactoryParserColumn)column(yyStart);
-    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.fWord) 
-      yyColumn.chunk4.fWord = pWord$1(yyStart);
-    return yyColumn.chunk4.fWord;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fWord) {
+      yyColumn.chunk1.fWord = pWord$1(yyStart);
+      if (null != yyStatistics) yyStatistics.miss(37, yyColumn.chunk1.fWord);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(37, yyColumn.chunk1.fWord);
+    }
+    return yyColumn.chunk1.fWord;
   }
 
   /** Actually parse xtc.lang.JavaFiveIdentifier.Word. */
@@ -11856,10 +12893,15 @@ public final class JavaFactoryParser extends ParserBase {
    */
   private Result pSymbol(final int yyStart) throws IOException {
     JavaFactoryParserColumn yyColumn = (JavaFactoryParserColumn)column(yyStart);
-    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.fSymbol) 
-      yyColumn.chunk4.fSymbol = pSymbol$1(yyStart);
-    return yyColumn.chunk4.fSymbol;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fSymbol) {
+      yyColumn.chunk1.fSymbol = pSymbol$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(38, yyColumn.chunk1.fSymbol);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(38, yyColumn.chunk1.fSymbol);
+    }
+    return yyColumn.chunk1.fSymbol;
   }
 
   /** Actually parse xtc.lang.JavaFiveSymbol.Symbol. */
@@ -12615,28 +13657,7 @@ public final class JavaFactoryParser extends ParserBase {
 
               case '/':
                 {
-                  yyRepetition2 = yyIndex;
-                  while (true) {
-
-                    yyC = character(yyRepetition2);
-                    if (-1 != yyC) {
-                      yyIndex = yyRepetition2 + 1;
-
-                      switch (yyC) {
-                      case '\n':
-                      case '\r':
-                        /* No match. */
-                        break;
-
-                      default:
-                        {
-                          yyRepetition2 = yyIndex;
-                          continue;
-                        }
-                      }
-                    }
-                    break;
-                  }
+                  yyRepetition2 = scan(yyIndex, 0xffffffffffffdbffL, 0xffffffffffffffffL, true);
 
                   final int yyChoice2 = yyRepetition2;
 
@@ -12749,6 +13770,11 @@ public final class JavaFactoryParser extends ParserBase {
 
   // =========================================================================
 
+  /** The bit map for a character class. */
+  private static final long[] yyClass1 = { 0x3ff000000000000L, 0x7e8000007eL };
+
+  // =========================================================================
+
   static {
     add(JAVA_KEYWORDS, new String[] {
       "abstract",  "continue",  "for",         "new",        "switch",
@@ -1,8 +1,8 @@
 // ===========================================================================
 // This file has been generated by
-// Rats! Parser Generator, version 2.1.0,
-// (C) 2004-2011 Robert Grimm,
-// on Thursday, August 4, 2011 at 5:33:13 PM.
+// Rats! Parser Generator, version 2.3.1,
+// (C) 2004-2012 Robert Grimm,
+// on Sunday, October 18, 2026 at 7:30:37 PM.
 // Edit at your own risk.
 // ===========================================================================
 
@@ -30,7 +30,7 @@ import xtc.parser.ParseError;
  * Packrat parser for grammar <code>xtc.lang.JavaFive</code>.
  *
  * <p />This class has been generated by the <i>Rats!</i> parser
- * generator, version 2.1.0, (C) 2004-2011 Robert Grimm.
+ * generator, version 2.3.1, (C) 2004-2012 Robert Grimm.
  */
 public final class JavaFiveParser extends ParserBase {
 
@@ -41,56 +41,106 @@ public final class JavaFiveParser extends ParserBase {
 
   /** Chunk 1 of memoized results. */
   static final class Chunk1 {
-    Result fModifiers;
-    Result fFormalParameters;
-    Result fFormalParameters$$Star1;
-    Result fDeclarators;
-    Result fDeclarators$$Star1;
-    Result fImplementation;
-    Result fImplementation$$Star1;
-    Result fBlock;
-    Result fBlock$$Star1;
-    Result fParExpression;
+    Result fSymbol;
+    Result fWord;
+    Result fIdentifier;
+    Result fTypeInstantiation;
+    Result fQualifiedIdentifier;
+    Result fPrimitiveType;
+    Result fTypeName;
+    Result fType;
+    Result fResultType;
+    Result fTypeArguments;
+
+    void clear() {
+      fSymbol = null;
+      fWord = null;
+      fIdentifier = null;
+      fTypeInstantiation = null;
+      fQualifiedIdentifier = null;
+      fPrimitiveType = null;
+      fTypeName = null;
+      fType = null;
+      fResultType = null;
+      fTypeArguments = null;
+    }
   }
 
   /** Chunk 2 of memoized results. */
   static final class Chunk2 {
-    Result fCatchClause;
-    Result fExpression;
-    Result fConditionalExpression;
-    Result fLogicalOrExpression;
     Result fRelationalExpression;
+    Result fLogicalOrExpression;
+    Result fConditionalExpression;
+    Result fExpression;
+    Result fModifiers;
+    Result fBlock;
+    Result fBlock$$Star1;
     Result fVariableInitializer;
-    Result fAnnotations;
-    Result fAnnotations$$Plus1;
-    Result fElementValuePair;
     Result fElementValue;
+    Result fAnnotations$$Plus1;
+
+    void clear() {
+      fRelationalExpression = null;
+      fLogicalOrExpression = null;
+      fConditionalExpression = null;
+      fExpression = null;
+      fModifiers = null;
+      fBlock = null;
+      fBlock$$Star1 = null;
+      fVariableInitializer = null;
+      fElementValue = null;
+      fAnnotations$$Plus1 = null;
+    }
   }
 
   /** Chunk 3 of memoized results. */
   static final class Chunk3 {
-    Result fResultType;
-    Result fType;
-    Result fTypeName;
-    Result fPrimitiveType;
-    Result fDimensions;
     Result fDimensions$$Plus1;
-    Result fTypeParameters;
-    Result fTypeParameters$$Star1;
-    Result fTypeParameter;
-    Result fTypeArguments;
+    Result fDimensions;
+    Result fFormalParameters;
+    Result fFormalParameters$$Star1;
+    Result fDeclarators;
+    Result fDeclarators$$Star1;
+    Result fImplementation;
+    Result fImplementation$$Star1;
+    Result fParExpression;
+    Result fCatchClause;
+
+    void clear() {
+      fDimensions$$Plus1 = null;
+      fDimensions = null;
+      fFormalParameters = null;
+      fFormalParameters$$Star1 = null;
+      fDeclarators = null;
+      fDeclarators$$Star1 = null;
+      fImplementation = null;
+      fImplementation$$Star1 = null;
+      fParExpression = null;
+      fCatchClause = null;
+    }
   }
 
   /** Chunk 4 of memoized results. */
   static final class Chunk4 {
+    Result fAnnotations;
+    Result fElementValuePair;
+    Result fTypeParameters;
+    Result fTypeParameters$$Star1;
+    Result fTypeParameter;
     Result fTypeArguments$$Star1;
     Result fTypeArgument;
-    Result fTypeInstantiation;
-    Result fQualifiedIdentifier;
     Result fQualifiedIdentifier$$Star1;
-    Result fIdentifier;
-    Result fWord;
-    Result fSymbol;
+
+    void clear() {
+      fAnnotations = null;
+      fElementValuePair = null;
+      fTypeParameters = null;
+      fTypeParameters$$Star1 = null;
+      fTypeParameter = null;
+      fTypeArguments$$Star1 = null;
+      fTypeArgument = null;
+      fQualifiedIdentifier$$Star1 = null;
+    }
   }
 
   // =========================================================================
@@ -101,6 +151,14 @@ public final class JavaFiveParser extends ParserBase {
     Chunk2 chunk2;
     Chunk3 chunk3;
     Chunk4 chunk4;
+
+    protected boolean clear() {
+      if (null != chunk1) chunk1.clear();
+      if (null != chunk2) chunk2.clear();
+      if (null != chunk3) chunk3.clear();
+      if (null != chunk4) chunk4.clear();
+      return true;
+    }
   }
 
   // =========================================================================
@@ -134,6 +192,54 @@ public final class JavaFiveParser extends ParserBase {
 
   // =========================================================================
 
+  /** The names of the memoized productions. */
+  private static final String[] yyProductions = {
+    "xtc.lang.JavaFive.Modifiers",
+    "xtc.lang.JavaFive.FormalParameters",
+    "xtc.lang.JavaFive.FormalParameters$$Star1",
+    "xtc.lang.JavaFive.Declarators",
+    "xtc.lang.JavaFive.Declarators$$Star1",
+    "xtc.lang.JavaFive.Implementation",
+    "xtc.lang.JavaFive.Implementation$$Star1",
+    "xtc.lang.JavaFive.Block",
+    "xtc.lang.JavaFive.Block$$Star1",
+    "xtc.lang.JavaFive.ParExpression",
+    "xtc.lang.JavaFive.CatchClause",
+    "xtc.lang.JavaFive.Expression",
+    "xtc.lang.JavaFive.ConditionalExpression",
+    "xtc.lang.JavaFive.LogicalOrExpression",
+    "xtc.lang.JavaFive.RelationalExpression",
+    "xtc.lang.JavaFive.VariableInitializer",
+    "xtc.lang.JavaFive.Annotations",
+    "xtc.lang.JavaFive.Annotations$$Plus1",
+    "xtc.lang.JavaFive.ElementValuePair",
+    "xtc.lang.JavaFive.ElementValue",
+    "xtc.lang.JavaFiveType.ResultType",
+    "xtc.lang.JavaFiveType.Type",
+    "xtc.lang.JavaFiveType.TypeName",
+    "xtc.lang.JavaFiveType.PrimitiveType",
+    "xtc.lang.JavaFiveType.Dimensions",
+    "xtc.lang.JavaFive.Dimensions$$Plus1",
+    "xtc.lang.JavaFiveType.TypeParameters",
+    "xtc.lang.JavaFive.TypeParameters$$Star1",
+    "xtc.lang.JavaFiveType.TypeParameter",
+    "xtc.lang.JavaFiveType.TypeArguments",
+    "xtc.lang.JavaFive.TypeArguments$$Star1",
+    "xtc.lang.JavaFiveType.TypeArgument",
+    "xtc.lang.JavaFiveType.TypeInstantiation",
+    "xtc.lang.JavaFiveIdentifier.QualifiedIdentifier",
+    "xtc.lang.JavaFive.QualifiedIdentifier$$Star1",
+    "xtc.lang.JavaFiveIdentifier.Identifier",
+    "xtc.lang.JavaFiveIdentifier.Word",
+    "xtc.lang.JavaFiveSymbol.Symbol",
+  };
+
+  protected String[] productions() {
+    return yyProductions;
+  }
+
+  // =========================================================================
+
   /**
    * Parse nonterminal xtc.lang.JavaFive.CompilationUnit.
    *
@@ -146,7 +252,8 @@ public final class JavaFiveParser extends ParserBase {
     int        yyIndex;
     Result     yyResult;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     int        yyOption1;
     Node       yyOpValue1;
     Node       yyValue;
@@ -173,7 +280,8 @@ public final class JavaFiveParser extends ParserBase {
         final Node v$g$1 = yyOpValue1;
 
         yyRepetition1 = yyOption1;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyResult = pImportDeclaration(yyRepetition1);
@@ -182,15 +290,17 @@ public final class JavaFiveParser extends ParserBase {
             final Node v$el$2 = yyResult.semanticValue();
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$2, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$2);
             continue;
           }
           break;
         }
         { // Start scope for v$g$2.
-          final Pair<Node> v$g$2 = yyRepValue1.reverse();
+          final int v$g$2 = yyRepStart1;
+          final int v$g$2$end = yyRepEnd1;
 
-          yyRepValue1   = Pair.empty();
+          yyRepStart1   = bufferStart();
+          yyRepEnd1   = yyRepStart1;
           while (true) {
 
             yyResult = pDeclaration(yyRepetition1);
@@ -199,13 +309,14 @@ public final class JavaFiveParser extends ParserBase {
               final Node v$el$3 = yyResult.semanticValue();
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$3, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$3);
               continue;
             }
             break;
           }
           { // Start scope for v$g$3.
-            final Pair<Node> v$g$3 = yyRepValue1.reverse();
+            final int v$g$3 = yyRepStart1;
+            final int v$g$3$end = yyRepEnd1;
 
             yyOption1  = yyRepetition1;
 
@@ -220,13 +331,17 @@ public final class JavaFiveParser extends ParserBase {
             yyError  = yyResult.select(yyError);
             if (yyResult.hasValue()) {
 
-              yyValue = GNode.create("CompilationUnit", v$g$2.size() + v$g$3.size() + 1).
-                add(v$g$1).addAll(v$g$2).addAll(v$g$3);
-              yyValue.setLocation(location(yyStart));
+              yyValue = GNode.create("CompilationUnit", (v$g$2$end - v$g$2) + (v$g$3$end - v$g$3) + 1).
+                add(v$g$1);
+              addBuffered(yyValue, v$g$2, v$g$2$end);
+              addBuffered(yyValue, v$g$3, v$g$3$end);
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
+            releaseBuffer(v$g$3);
           } // End scope for v$g$3.
+          releaseBuffer(v$g$2);
         } // End scope for v$g$2.
       } // End scope for v$g$1.
     }
@@ -283,7 +398,7 @@ public final class JavaFiveParser extends ParserBase {
           if (yyResult.hasValue(";")) {
 
             yyValue = GNode.create("PackageDeclaration", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
@@ -361,7 +476,7 @@ public final class JavaFiveParser extends ParserBase {
             if (yyResult.hasValue(";")) {
 
               yyValue = GNode.create("ImportDeclaration", v$g$1, v$g$2, v$g$3);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             } else {
@@ -424,10 +539,15 @@ public final class JavaFiveParser extends ParserBase {
    */
   private Result pModifiers(final int yyStart) throws IOException {
     JavaFiveParserColumn yyColumn = (JavaFiveParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fModifiers) 
-      yyColumn.chunk1.fModifiers = pModifiers$1(yyStart);
-    return yyColumn.chunk1.fModifiers;
+    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
+    if (null == yyColumn.chunk2.fModifiers) {
+      yyColumn.chunk2.fModifiers = pModifiers$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(0, yyColumn.chunk2.fModifiers);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(0, yyColumn.chunk2.fModifiers);
+    }
+    return yyColumn.chunk2.fModifiers;
   }
 
   /** Actually parse xtc.lang.JavaFive.Modifiers. */
@@ -444,7 +564,7 @@ public final class JavaFiveParser extends ParserBase {
       final Pair<Node> v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.createFromPair("Modifiers", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -524,7 +644,7 @@ public final class JavaFiveParser extends ParserBase {
       final String v$g$1 = "public";
 
       yyValue = GNode.create("Modifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -536,7 +656,7 @@ public final class JavaFiveParser extends ParserBase {
       final String v$g$2 = "protected";
 
       yyValue = GNode.create("Modifier", v$g$2);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -548,7 +668,7 @@ public final class JavaFiveParser extends ParserBase {
       final String v$g$3 = "private";
 
       yyValue = GNode.create("Modifier", v$g$3);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -560,7 +680,7 @@ public final class JavaFiveParser extends ParserBase {
       final String v$g$4 = "static";
 
       yyValue = GNode.create("Modifier", v$g$4);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -572,7 +692,7 @@ public final class JavaFiveParser extends ParserBase {
       final String v$g$5 = "abstract";
 
       yyValue = GNode.create("Modifier", v$g$5);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -584,7 +704,7 @@ public final class JavaFiveParser extends ParserBase {
       final String v$g$6 = "final";
 
       yyValue = GNode.create("Modifier", v$g$6);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -596,7 +716,7 @@ public final class JavaFiveParser extends ParserBase {
       final String v$g$7 = "native";
 
       yyValue = GNode.create("Modifier", v$g$7);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -608,7 +728,7 @@ public final class JavaFiveParser extends ParserBase {
       final String v$g$8 = "synchronized";
 
       yyValue = GNode.create("Modifier", v$g$8);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -620,7 +740,7 @@ public final class JavaFiveParser extends ParserBase {
       final String v$g$9 = "transient";
 
       yyValue = GNode.create("Modifier", v$g$9);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -632,7 +752,7 @@ public final class JavaFiveParser extends ParserBase {
       final String v$g$10 = "volatile";
 
       yyValue = GNode.create("Modifier", v$g$10);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -644,7 +764,7 @@ public final class JavaFiveParser extends ParserBase {
       final String v$g$11 = "strictfp";
 
       yyValue = GNode.create("Modifier", v$g$11);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -719,7 +839,7 @@ public final class JavaFiveParser extends ParserBase {
               final Node v$g$5 = cast(yyOpValue1);
 
               yyValue = GNode.create("FormalParameter", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return new SemanticValue(yyValue, yyOption1, yyError);
             } // End scope for v$g$5.
@@ -744,14 +864,16 @@ public final class JavaFiveParser extends ParserBase {
   private Result pVariableModifiers(final int yyStart) throws IOException {
     Result     yyResult;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
     // Alternative <Modifiers>.
 
     yyRepetition1 = yyStart;
-    yyRepValue1   = Pair.empty();
+    yyRepStart1   = bufferStart();
+    yyRepEnd1   = yyRepStart1;
     while (true) {
 
       yyResult = pVariableModifier(yyRepetition1);
@@ -760,16 +882,17 @@ public final class JavaFiveParser extends ParserBase {
         final Node v$el$1 = yyResult.semanticValue();
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+        yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
         continue;
       }
       break;
     }
     { // Start scope for v$g$1.
-      final Pair<Node> v$g$1 = yyRepValue1.reverse();
+      final int v$g$1 = yyRepStart1;
+      final int v$g$1$end = yyRepEnd1;
 
-      yyValue = GNode.createFromPair("Modifiers", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      yyValue = bufferedNode("Modifiers", v$g$1, v$g$1$end);
+      locate(yyValue, yyStart);
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
     } // End scope for v$g$1.
@@ -796,7 +919,7 @@ public final class JavaFiveParser extends ParserBase {
       final String v$g$1 = "final";
 
       yyValue = GNode.create("Modifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -817,10 +940,15 @@ public final class JavaFiveParser extends ParserBase {
    */
   private Result pFormalParameters(final int yyStart) throws IOException {
     JavaFiveParserColumn yyColumn = (JavaFiveParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fFormalParameters) 
-      yyColumn.chunk1.fFormalParameters = pFormalParameters$1(yyStart);
-    return yyColumn.chunk1.fFormalParameters;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fFormalParameters) {
+      yyColumn.chunk3.fFormalParameters = pFormalParameters$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(1, yyColumn.chunk3.fFormalParameters);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(1, yyColumn.chunk3.fFormalParameters);
+    }
+    return yyColumn.chunk3.fFormalParameters;
   }
 
   /** Actually parse xtc.lang.JavaFive.FormalParameters. */
@@ -854,7 +982,7 @@ public final class JavaFiveParser extends ParserBase {
           if (yyResult.hasValue(")")) {
 
             yyValue = GNode.createFromPair("FormalParameters", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
@@ -870,7 +998,7 @@ public final class JavaFiveParser extends ParserBase {
       if (yyResult.hasValue(")")) {
 
         yyValue = GNode.create("FormalParameters", false);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       } else {
@@ -896,10 +1024,16 @@ public final class JavaFiveParser extends ParserBase {
     throws IOException {
 
     JavaFiveParserColumn yyColumn = (JavaFiveParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fFormalParameters$$Star1) 
-      yyColumn.chunk1.fFormalParameters$$Star1 = pFormalParameters$$Star1$1(yyStart);
-    return yyColumn.chunk1.fFormalParameters$$Star1;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fFormalParameters$$Star1) {
+      yyColumn.chunk3.fFormalParameters$$Star1 = 
+        pFormalParameters$$Star1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(2, yyColumn.chunk3.fFormalParameters$$Star1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(2, yyColumn.chunk3.fFormalParameters$$Star1);
+    }
+    return yyColumn.chunk3.fFormalParameters$$Star1;
   }
 
   /** Actually parse xtc.lang.JavaFive.FormalParameters$$Star1. */
@@ -998,7 +1132,7 @@ public final class JavaFiveParser extends ParserBase {
           final Node v$g$3 = yyOpValue1;
 
           yyValue = GNode.create("Declarator", v$g$1, v$g$2, v$g$3);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyOption1, yyError);
         } // End scope for v$g$3.
@@ -1020,10 +1154,15 @@ public final class JavaFiveParser extends ParserBase {
    */
   private Result pDeclarators(final int yyStart) throws IOException {
     JavaFiveParserColumn yyColumn = (JavaFiveParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fDeclarators) 
-      yyColumn.chunk1.fDeclarators = pDeclarators$1(yyStart);
-    return yyColumn.chunk1.fDeclarators;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fDeclarators) {
+      yyColumn.chunk3.fDeclarators = pDeclarators$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(3, yyColumn.chunk3.fDeclarators);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(3, yyColumn.chunk3.fDeclarators);
+    }
+    return yyColumn.chunk3.fDeclarators;
   }
 
   /** Actually parse xtc.lang.JavaFive.Declarators. */
@@ -1045,7 +1184,7 @@ public final class JavaFiveParser extends ParserBase {
         final Pair<Node> v$g$2 = yyResult.semanticValue();
 
         yyValue = GNode.createFromPair("Declarators", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -1066,10 +1205,15 @@ public final class JavaFiveParser extends ParserBase {
    */
   private Result pDeclarators$$Star1(final int yyStart) throws IOException {
     JavaFiveParserColumn yyColumn = (JavaFiveParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fDeclarators$$Star1) 
-      yyColumn.chunk1.fDeclarators$$Star1 = pDeclarators$$Star1$1(yyStart);
-    return yyColumn.chunk1.fDeclarators$$Star1;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fDeclarators$$Star1) {
+      yyColumn.chunk3.fDeclarators$$Star1 = pDeclarators$$Star1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(4, yyColumn.chunk3.fDeclarators$$Star1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(4, yyColumn.chunk3.fDeclarators$$Star1);
+    }
+    return yyColumn.chunk3.fDeclarators$$Star1;
   }
 
   /** Actually parse xtc.lang.JavaFive.Declarators$$Star1. */
@@ -1120,7 +1264,8 @@ public final class JavaFiveParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -1130,7 +1275,8 @@ public final class JavaFiveParser extends ParserBase {
     if (yyResult.hasValue("{")) {
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyResult = pDeclaration(yyRepetition1);
@@ -1139,25 +1285,27 @@ public final class JavaFiveParser extends ParserBase {
           final Node v$el$1 = yyResult.semanticValue();
 
           yyRepetition1 = yyResult.index;
-          yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+          yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
           continue;
         }
         break;
       }
       { // Start scope for v$g$1.
-        final Pair<Node> v$g$1 = yyRepValue1.reverse();
+        final int v$g$1 = yyRepStart1;
+        final int v$g$1$end = yyRepEnd1;
 
         yyBase   = yyRepetition1;
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue("}")) {
 
-          yyValue = GNode.createFromPair("ClassBody", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          yyValue = bufferedNode("ClassBody", v$g$1, v$g$1$end);
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
           yyError = yyError.select("'}' expected", yyBase);
         }
+        releaseBuffer(v$g$1);
       } // End scope for v$g$1.
     }
 
@@ -1209,7 +1357,7 @@ public final class JavaFiveParser extends ParserBase {
           if (yyResult.hasValue(";")) {
 
             yyValue = GNode.create("FieldDeclaration", v$g$1, v$g$2, v$g$3);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
@@ -1290,7 +1438,7 @@ public final class JavaFiveParser extends ParserBase {
                     final Node v$g$8 = yyResult.semanticValue();
 
                     yyValue = GNode.create("MethodDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6, v$g$7, v$g$8);
-                    yyValue.setLocation(location(yyStart));
+                    locate(yyValue, yyStart);
 
                     return yyResult.createValue(yyValue, yyError);
                   }
@@ -1302,7 +1450,7 @@ public final class JavaFiveParser extends ParserBase {
                   if (yyResult.hasValue(";")) {
 
                     yyValue = GNode.create("MethodDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6, v$g$7, null);
-                    yyValue.setLocation(location(yyStart));
+                    locate(yyValue, yyStart);
 
                     return yyResult.createValue(yyValue, yyError);
                   } else {
@@ -1346,7 +1494,7 @@ public final class JavaFiveParser extends ParserBase {
                 final Node v$g$6 = yyResult.semanticValue();
 
                 yyValue = GNode.create("ConstructorDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6);
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return yyResult.createValue(yyValue, yyError);
               }
@@ -1412,7 +1560,7 @@ public final class JavaFiveParser extends ParserBase {
                   final Node v$g$6 = yyResult.semanticValue();
 
                   yyValue = GNode.create("ClassDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6);
-                  yyValue.setLocation(location(yyStart));
+                  locate(yyValue, yyStart);
 
                   return yyResult.createValue(yyValue, yyError);
                 }
@@ -1468,7 +1616,7 @@ public final class JavaFiveParser extends ParserBase {
                 final Node v$g$5 = yyResult.semanticValue();
 
                 yyValue = GNode.create("InterfaceDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return yyResult.createValue(yyValue, yyError);
               }
@@ -1500,7 +1648,7 @@ public final class JavaFiveParser extends ParserBase {
               final Node v$g$3 = yyResult.semanticValue();
 
               yyValue = GNode.create("AnnotationDeclaration", v$g$1, v$g$2, v$g$3);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -1583,7 +1731,7 @@ public final class JavaFiveParser extends ParserBase {
                   if (yyResult.hasValue("}")) {
 
                     yyValue = GNode.create("EnumDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
-                    yyValue.setLocation(location(yyStart));
+                    locate(yyValue, yyStart);
 
                     return yyResult.createValue(yyValue, yyError);
                   } else {
@@ -1625,7 +1773,7 @@ public final class JavaFiveParser extends ParserBase {
         final Node v$g$2 = yyResult.semanticValue();
 
         yyValue = GNode.create("BlockDeclaration", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -1637,7 +1785,7 @@ public final class JavaFiveParser extends ParserBase {
     if (yyResult.hasValue(";")) {
 
       yyValue = GNode.create("EmptyDeclaration", false);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -1660,7 +1808,8 @@ public final class JavaFiveParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -1675,7 +1824,8 @@ public final class JavaFiveParser extends ParserBase {
         final Node v$g$1 = yyResult.semanticValue();
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyBase   = yyRepetition1;
@@ -1688,7 +1838,7 @@ public final class JavaFiveParser extends ParserBase {
               final Node v$el$1 = yyResult.semanticValue();
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
           } else {
@@ -1697,10 +1847,11 @@ public final class JavaFiveParser extends ParserBase {
           break;
         }
         { // Start scope for v$g$2.
-          final Pair<Node> v$g$2 = yyRepValue1.reverse();
+          final int v$g$2 = yyRepStart1;
+          final int v$g$2$end = yyRepEnd1;
 
-          yyValue = GNode.createFromPair("ThrowsClause", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          yyValue = bufferedNode("ThrowsClause", v$g$1, v$g$2, v$g$2$end);
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
         } // End scope for v$g$2.
@@ -1725,7 +1876,8 @@ public final class JavaFiveParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -1740,7 +1892,8 @@ public final class JavaFiveParser extends ParserBase {
         final Node v$g$1 = yyResult.semanticValue();
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyBase   = yyRepetition1;
@@ -1753,7 +1906,7 @@ public final class JavaFiveParser extends ParserBase {
               final Node v$el$1 = yyResult.semanticValue();
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
           } else {
@@ -1762,10 +1915,11 @@ public final class JavaFiveParser extends ParserBase {
           break;
         }
         { // Start scope for v$g$2.
-          final Pair<Node> v$g$2 = yyRepValue1.reverse();
+          final int v$g$2 = yyRepStart1;
+          final int v$g$2$end = yyRepEnd1;
 
-          yyValue = GNode.createFromPair("Extension", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          yyValue = bufferedNode("Extension", v$g$1, v$g$2, v$g$2$end);
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
         } // End scope for v$g$2.
@@ -1788,10 +1942,15 @@ public final class JavaFiveParser extends ParserBase {
    */
   private Result pImplementation(final int yyStart) throws IOException {
     JavaFiveParserColumn yyColumn = (JavaFiveParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fImplementation) 
-      yyColumn.chunk1.fImplementation = pImplementation$1(yyStart);
-    return yyColumn.chunk1.fImplementation;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fImplementation) {
+      yyColumn.chunk3.fImplementation = pImplementation$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(5, yyColumn.chunk3.fImplementation);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(5, yyColumn.chunk3.fImplementation);
+    }
+    return yyColumn.chunk3.fImplementation;
   }
 
   /** Actually parse xtc.lang.JavaFive.Implementation. */
@@ -1816,7 +1975,7 @@ public final class JavaFiveParser extends ParserBase {
           final Pair<Node> v$g$2 = yyResult.semanticValue();
 
           yyValue = GNode.createFromPair("Implementation", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -1841,10 +2000,16 @@ public final class JavaFiveParser extends ParserBase {
     throws IOException {
 
     JavaFiveParserColumn yyColumn = (JavaFiveParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fImplementation$$Star1) 
-      yyColumn.chunk1.fImplementation$$Star1 = pImplementation$$Star1$1(yyStart);
-    return yyColumn.chunk1.fImplementation$$Star1;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fImplementation$$Star1) {
+      yyColumn.chunk3.fImplementation$$Star1 = 
+        pImplementation$$Star1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(6, yyColumn.chunk3.fImplementation$$Star1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(6, yyColumn.chunk3.fImplementation$$Star1);
+    }
+    return yyColumn.chunk3.fImplementation$$Star1;
   }
 
   /** Actually parse xtc.lang.JavaFive.Implementation$$Star1. */
@@ -1895,10 +2060,14 @@ public final class JavaFiveParser extends ParserBase {
    */
   private Result pBlock(final int yyStart) throws IOException {
     JavaFiveParserColumn yyColumn = (JavaFiveParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fBlock) 
-      yyColumn.chunk1.fBlock = pBlock$1(yyStart);
-    return yyColumn.chunk1.fBlock;
+    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
+    if (null == yyColumn.chunk2.fBlock) {
+      yyColumn.chunk2.fBlock = pBlock$1(yyStart);
+      if (null != yyStatistics) yyStatistics.miss(7, yyColumn.chunk2.fBlock);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(7, yyColumn.chunk2.fBlock);
+    }
+    return yyColumn.chunk2.fBlock;
   }
 
   /** Actually parse xtc.lang.JavaFive.Block. */
@@ -1923,7 +2092,7 @@ public final class JavaFiveParser extends ParserBase {
         if (yyResult.hasValue("}")) {
 
           yyValue = GNode.createFromPair("Block", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
@@ -1948,10 +2117,15 @@ public final class JavaFiveParser extends ParserBase {
    */
   private Result pBlock$$Star1(final int yyStart) throws IOException {
     JavaFiveParserColumn yyColumn = (JavaFiveParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fBlock$$Star1) 
-      yyColumn.chunk1.fBlock$$Star1 = pBlock$$Star1$1(yyStart);
-    return yyColumn.chunk1.fBlock$$Star1;
+    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
+    if (null == yyColumn.chunk2.fBlock$$Star1) {
+      yyColumn.chunk2.fBlock$$Star1 = pBlock$$Star1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(8, yyColumn.chunk2.fBlock$$Star1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(8, yyColumn.chunk2.fBlock$$Star1);
+    }
+    return yyColumn.chunk2.fBlock$$Star1;
   }
 
   /** Actually parse xtc.lang.JavaFive.Block$$Star1. */
@@ -2118,7 +2292,7 @@ public final class JavaFiveParser extends ParserBase {
                   final Node v$g$6 = yyResult.semanticValue();
 
                   yyValue = GNode.create("ClassDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6);
-                  yyValue.setLocation(location(yyStart));
+                  locate(yyValue, yyStart);
 
                   return yyResult.createValue(yyValue, yyError);
                 }
@@ -2174,7 +2348,7 @@ public final class JavaFiveParser extends ParserBase {
                 final Node v$g$5 = yyResult.semanticValue();
 
                 yyValue = GNode.create("InterfaceDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return yyResult.createValue(yyValue, yyError);
               }
@@ -2227,7 +2401,7 @@ public final class JavaFiveParser extends ParserBase {
           if (yyResult.hasValue(";")) {
 
             yyValue = GNode.create("FieldDeclaration", v$g$1, v$g$2, v$g$3);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
@@ -2255,20 +2429,57 @@ public final class JavaFiveParser extends ParserBase {
     int        yyBase;
     int        yyRepetition1;
     boolean    yyRepeated1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     int        yyOption1;
     Object     yyOpValue1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '@':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Block>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pBlock(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pBlock(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 2.
@@ -2300,7 +2511,7 @@ public final class JavaFiveParser extends ParserBase {
               final Node v$g$3 = yyResult.semanticValue();
 
               yyValue = GNode.create("ConditionalStatement", v$g$1, v$g$2, v$g$3);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -2311,7 +2522,7 @@ public final class JavaFiveParser extends ParserBase {
           // Nested alternative 2.
 
           yyValue = GNode.create("ConditionalStatement", v$g$1, v$g$2, null);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyChoice1, yyError);
         }
@@ -2342,7 +2553,7 @@ public final class JavaFiveParser extends ParserBase {
               final Node v$g$2 = yyResult.semanticValue();
 
               yyValue = GNode.create("ForStatement", v$g$1, v$g$2);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -2371,7 +2582,7 @@ public final class JavaFiveParser extends ParserBase {
           final Node v$g$2 = yyResult.semanticValue();
 
           yyValue = GNode.create("WhileStatement", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -2402,7 +2613,7 @@ public final class JavaFiveParser extends ParserBase {
             if (yyResult.hasValue(";")) {
 
               yyValue = GNode.create("DoWhileStatement", v$g$1, v$g$2);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             } else {
@@ -2430,7 +2641,8 @@ public final class JavaFiveParser extends ParserBase {
         // Nested alternative 1.
 
         yyRepetition1 = yyChoice1;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyResult = pCatchClause(yyRepetition1);
@@ -2439,13 +2651,14 @@ public final class JavaFiveParser extends ParserBase {
             final Node v$el$1 = yyResult.semanticValue();
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
           break;
         }
         { // Start scope for v$g$3.
-          final Pair<Node> v$g$3 = yyRepValue1.reverse();
+          final int v$g$3 = yyRepStart1;
+          final int v$g$3$end = yyRepEnd1;
 
           yyBase   = yyRepetition1;
           yyResult = pWord(yyBase);
@@ -2456,22 +2669,26 @@ public final class JavaFiveParser extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$4 = yyResult.semanticValue();
 
-              yyValue = GNode.create("TryCatchFinallyStatement", v$g$3.size() + 3).
-                add(null).add(v$g$2).addAll(v$g$3).add(v$g$4);
-              yyValue.setLocation(location(yyStart));
+              yyValue = GNode.create("TryCatchFinallyStatement", (v$g$3$end - v$g$3) + 3).
+                add(null).add(v$g$2);
+              addBuffered(yyValue, v$g$3, v$g$3$end);
+              yyValue.add(v$g$4);
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
           } else {
             yyError = yyError.select("'finally' expected", yyBase);
           }
+          releaseBuffer(v$g$3);
         } // End scope for v$g$3.
 
         // Nested alternative 2.
 
         yyRepetition1 = yyChoice1;
         yyRepeated1   = false;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyResult = pCatchClause(yyRepetition1);
@@ -2481,18 +2698,21 @@ public final class JavaFiveParser extends ParserBase {
 
             yyRepetition1 = yyResult.index;
             yyRepeated1   = true;
-            yyRepValue1   = new Pair<Node>(v$el$2, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$2);
             continue;
           }
           break;
         }
 
         if (yyRepeated1) {
-          final Pair<Node> v$g$5 = yyRepValue1.reverse();
+          final int v$g$5 = yyRepStart1;
+          final int v$g$5$end = yyRepEnd1;
 
-          yyValue = GNode.create("TryCatchFinallyStatement", v$g$5.size() + 3).
-            add(null).add(v$g$2).addAll(v$g$5).add(null);
-          yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("TryCatchFinallyStatement", (v$g$5$end - v$g$5) + 3).
+            add(null).add(v$g$2);
+          addBuffered(yyValue, v$g$5, v$g$5$end);
+          yyValue.add(null);
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
         }
@@ -2514,7 +2734,8 @@ public final class JavaFiveParser extends ParserBase {
         if (yyResult.hasValue("{")) {
 
           yyRepetition1 = yyResult.index;
-          yyRepValue1   = Pair.empty();
+          yyRepStart1   = bufferStart();
+          yyRepEnd1   = yyRepStart1;
           while (true) {
 
             yyResult = pSwitchClause(yyRepetition1);
@@ -2523,25 +2744,27 @@ public final class JavaFiveParser extends ParserBase {
               final Node v$el$1 = yyResult.semanticValue();
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
             break;
           }
           { // Start scope for v$g$2.
-            final Pair<Node> v$g$2 = yyRepValue1.reverse();
+            final int v$g$2 = yyRepStart1;
+            final int v$g$2$end = yyRepEnd1;
 
             yyBase   = yyRepetition1;
             yyResult = pSymbol(yyBase);
             if (yyResult.hasValue("}")) {
 
-              yyValue = GNode.createFromPair("SwitchStatement", v$g$1, v$g$2);
-              yyValue.setLocation(location(yyStart));
+              yyValue = bufferedNode("SwitchStatement", v$g$1, v$g$2, v$g$2$end);
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             } else {
               yyError = yyError.select("'}' expected", yyBase);
             }
+            releaseBuffer(v$g$2);
           } // End scope for v$g$2.
         } else {
           yyError = yyError.select("'{' expected", yyBase);
@@ -2565,7 +2788,7 @@ public final class JavaFiveParser extends ParserBase {
           final Node v$g$2 = yyResult.semanticValue();
 
           yyValue = GNode.create("SynchronizedStatement", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -2596,7 +2819,7 @@ public final class JavaFiveParser extends ParserBase {
         if (yyResult.hasValue(";")) {
 
           yyValue = GNode.create("ReturnStatement", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
@@ -2620,7 +2843,7 @@ public final class JavaFiveParser extends ParserBase {
         if (yyResult.hasValue(";")) {
 
           yyValue = GNode.create("ThrowStatement", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
@@ -2653,7 +2876,7 @@ public final class JavaFiveParser extends ParserBase {
         if (yyResult.hasValue(";")) {
 
           yyValue = GNode.create("BreakStatement", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
@@ -2686,7 +2909,7 @@ public final class JavaFiveParser extends ParserBase {
         if (yyResult.hasValue(";")) {
 
           yyValue = GNode.create("ContinueStatement", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
@@ -2712,7 +2935,7 @@ public final class JavaFiveParser extends ParserBase {
           final Node v$g$2 = yyResult.semanticValue();
 
           yyValue = GNode.create("LabeledStatement", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -2733,7 +2956,7 @@ public final class JavaFiveParser extends ParserBase {
       if (yyResult.hasValue(";")) {
 
         yyValue = GNode.create("ExpressionStatement", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       } else {
@@ -2777,7 +3000,7 @@ public final class JavaFiveParser extends ParserBase {
           if (yyResult.hasValue(";")) {
 
             yyValue = GNode.create("AssertStatement", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
@@ -2788,14 +3011,16 @@ public final class JavaFiveParser extends ParserBase {
     }
 
     // Alternative 16.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(";")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(";")) {
 
-      yyValue = GNode.create("EmptyStatement", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("EmptyStatement", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -2851,7 +3076,7 @@ public final class JavaFiveParser extends ParserBase {
               final Node v$g$4 = yyResult.semanticValue();
 
               yyValue = GNode.create("EnhancedForControl", v$g$1, v$g$2, v$g$3, v$g$4);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -2904,7 +3129,7 @@ public final class JavaFiveParser extends ParserBase {
                   final Node v$g$5 = yyOpValue1;
 
                   yyValue = GNode.create("BasicForControl", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
-                  yyValue.setLocation(location(yyStart));
+                  locate(yyValue, yyStart);
 
                   return new SemanticValue(yyValue, yyOption1, yyError);
                 } // End scope for v$g$5.
@@ -2972,7 +3197,7 @@ public final class JavaFiveParser extends ParserBase {
               final Node v$g$10 = yyOpValue1;
 
               yyValue = GNode.create("BasicForControl", null, null, v$g$8, v$g$9, v$g$10);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return new SemanticValue(yyValue, yyOption1, yyError);
             } // End scope for v$g$10.
@@ -3000,10 +3225,15 @@ public final class JavaFiveParser extends ParserBase {
    */
   private Result pParExpression(final int yyStart) throws IOException {
     JavaFiveParserColumn yyColumn = (JavaFiveParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fParExpression) 
-      yyColumn.chunk1.fParExpression = pParExpression$1(yyStart);
-    return yyColumn.chunk1.fParExpression;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fParExpression) {
+      yyColumn.chunk3.fParExpression = pParExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(9, yyColumn.chunk3.fParExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(9, yyColumn.chunk3.fParExpression);
+    }
+    return yyColumn.chunk3.fParExpression;
   }
 
   /** Actually parse xtc.lang.JavaFive.ParExpression. */
@@ -3050,10 +3280,15 @@ public final class JavaFiveParser extends ParserBase {
    */
   private Result pCatchClause(final int yyStart) throws IOException {
     JavaFiveParserColumn yyColumn = (JavaFiveParserColumn)column(yyStart);
-    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fCatchClause) 
-      yyColumn.chunk2.fCatchClause = pCatchClause$1(yyStart);
-    return yyColumn.chunk2.fCatchClause;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fCatchClause) {
+      yyColumn.chunk3.fCatchClause = pCatchClause$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(10, yyColumn.chunk3.fCatchClause);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(10, yyColumn.chunk3.fCatchClause);
+    }
+    return yyColumn.chunk3.fCatchClause;
   }
 
   /** Actually parse xtc.lang.JavaFive.CatchClause. */
@@ -3087,7 +3322,7 @@ public final class JavaFiveParser extends ParserBase {
               final Node v$g$2 = yyResult.semanticValue();
 
               yyValue = GNode.create("CatchClause", v$g$1, v$g$2);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -3118,7 +3353,8 @@ public final class JavaFiveParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -3137,7 +3373,8 @@ public final class JavaFiveParser extends ParserBase {
         if (yyResult.hasValue(":")) {
 
           yyRepetition1 = yyResult.index;
-          yyRepValue1   = Pair.empty();
+          yyRepStart1   = bufferStart();
+          yyRepEnd1   = yyRepStart1;
           while (true) {
 
             yyResult = pDeclarationOrStatement(yyRepetition1);
@@ -3146,16 +3383,17 @@ public final class JavaFiveParser extends ParserBase {
               final Node v$el$1 = yyResult.semanticValue();
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
             break;
           }
           { // Start scope for v$g$2.
-            final Pair<Node> v$g$2 = yyRepValue1.reverse();
+            final int v$g$2 = yyRepStart1;
+            final int v$g$2$end = yyRepEnd1;
 
-            yyValue = GNode.createFromPair("CaseClause", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
+            yyValue = bufferedNode("CaseClause", v$g$1, v$g$2, v$g$2$end);
+            locate(yyValue, yyStart);
 
             return new SemanticValue(yyValue, yyRepetition1, yyError);
           } // End scope for v$g$2.
@@ -3175,7 +3413,8 @@ public final class JavaFiveParser extends ParserBase {
       if (yyResult.hasValue(":")) {
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyResult = pDeclarationOrStatement(yyRepetition1);
@@ -3184,16 +3423,17 @@ public final class JavaFiveParser extends ParserBase {
             final Node v$el$1 = yyResult.semanticValue();
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
           break;
         }
         { // Start scope for v$g$1.
-          final Pair<Node> v$g$1 = yyRepValue1.reverse();
+          final int v$g$1 = yyRepStart1;
+          final int v$g$1$end = yyRepEnd1;
 
-          yyValue = GNode.createFromPair("DefaultClause", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          yyValue = bufferedNode("DefaultClause", v$g$1, v$g$1$end);
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
         } // End scope for v$g$1.
@@ -3220,7 +3460,8 @@ public final class JavaFiveParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -3232,7 +3473,8 @@ public final class JavaFiveParser extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyBase   = yyRepetition1;
@@ -3245,7 +3487,7 @@ public final class JavaFiveParser extends ParserBase {
             final Node v$el$1 = yyResult.semanticValue();
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
         } else {
@@ -3254,10 +3496,11 @@ public final class JavaFiveParser extends ParserBase {
         break;
       }
       { // Start scope for v$g$2.
-        final Pair<Node> v$g$2 = yyRepValue1.reverse();
+        final int v$g$2 = yyRepStart1;
+        final int v$g$2$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("ExpressionList", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("ExpressionList", v$g$1, v$g$2, v$g$2$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$2.
@@ -3279,8 +3522,13 @@ public final class JavaFiveParser extends ParserBase {
   private Result pExpression(final int yyStart) throws IOException {
     JavaFiveParserColumn yyColumn = (JavaFiveParserColumn)column(yyStart);
     if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fExpression) 
+    if (null == yyColumn.chunk2.fExpression) {
       yyColumn.chunk2.fExpression = pExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(11, yyColumn.chunk2.fExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(11, yyColumn.chunk2.fExpression);
+    }
     return yyColumn.chunk2.fExpression;
   }
 
@@ -3308,7 +3556,7 @@ public final class JavaFiveParser extends ParserBase {
           final Node v$g$3 = yyResult.semanticValue();
 
           yyValue = GNode.create("Expression", v$g$1, v$g$2, v$g$3);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -3343,112 +3591,170 @@ public final class JavaFiveParser extends ParserBase {
     String     yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '@':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0xfff;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Equal>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("=")) {
-      yyValue = "=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("=")) {
+        yyValue = "=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <PlusEqual>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("+=")) {
-      yyValue = "+=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("+=")) {
+        yyValue = "+=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <MinusEqual>.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("-=")) {
-      yyValue = "-=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("-=")) {
+        yyValue = "-=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <StarEqual>.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("*=")) {
-      yyValue = "*=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("*=")) {
+        yyValue = "*=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <SlashEqual>.
+    if (0 != (yyFirst & 0x10)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("/=")) {
-      yyValue = "/=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("/=")) {
+        yyValue = "/=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <AmpersandEqual>.
+    if (0 != (yyFirst & 0x20)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("&=")) {
-      yyValue = "&=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("&=")) {
+        yyValue = "&=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <BarEqual>.
+    if (0 != (yyFirst & 0x40)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("|=")) {
-      yyValue = "|=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("|=")) {
+        yyValue = "|=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <CaretEqual>.
+    if (0 != (yyFirst & 0x80)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("^=")) {
-      yyValue = "^=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("^=")) {
+        yyValue = "^=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <PercentEqual>.
+    if (0 != (yyFirst & 0x100)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("%=")) {
-      yyValue = "%=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("%=")) {
+        yyValue = "%=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <DoubleLessEqual>.
+    if (0 != (yyFirst & 0x200)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("<<=")) {
-      yyValue = "<<=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("<<=")) {
+        yyValue = "<<=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <DoubleGreaterEqual>.
+    if (0 != (yyFirst & 0x400)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(">>=")) {
-      yyValue = ">>=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(">>=")) {
+        yyValue = ">>=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <TripleGreaterEqual>.
+    if (0 != (yyFirst & 0x800)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(">>>=")) {
-      yyValue = ">>>=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(">>>=")) {
+        yyValue = ">>>=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -3470,8 +3776,14 @@ public final class JavaFiveParser extends ParserBase {
 
     JavaFiveParserColumn yyColumn = (JavaFiveParserColumn)column(yyStart);
     if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fConditionalExpression) 
-      yyColumn.chunk2.fConditionalExpression = pConditionalExpression$1(yyStart);
+    if (null == yyColumn.chunk2.fConditionalExpression) {
+      yyColumn.chunk2.fConditionalExpression = 
+        pConditionalExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(12, yyColumn.chunk2.fConditionalExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(12, yyColumn.chunk2.fConditionalExpression);
+    }
     return yyColumn.chunk2.fConditionalExpression;
   }
 
@@ -3510,7 +3822,7 @@ public final class JavaFiveParser extends ParserBase {
               final Node v$g$3 = yyResult.semanticValue();
 
               yyValue = GNode.create("ConditionalExpression", v$g$1, v$g$2, v$g$3);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -3549,8 +3861,13 @@ public final class JavaFiveParser extends ParserBase {
   private Result pLogicalOrExpression(final int yyStart) throws IOException {
     JavaFiveParserColumn yyColumn = (JavaFiveParserColumn)column(yyStart);
     if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fLogicalOrExpression) 
+    if (null == yyColumn.chunk2.fLogicalOrExpression) {
       yyColumn.chunk2.fLogicalOrExpression = pLogicalOrExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(13, yyColumn.chunk2.fLogicalOrExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(13, yyColumn.chunk2.fLogicalOrExpression);
+    }
     return yyColumn.chunk2.fLogicalOrExpression;
   }
 
@@ -4112,22 +4429,60 @@ public final class JavaFiveParser extends ParserBase {
     String     yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '@':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Equal>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("==")) {
-      yyValue = "==";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("==")) {
+        yyValue = "==";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <NotEqual>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("!=")) {
-      yyValue = "!=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("!=")) {
+        yyValue = "!=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -4167,7 +4522,7 @@ public final class JavaFiveParser extends ParserBase {
           final Node v$g$2 = yyResult.semanticValue();
 
           yyValue = GNode.create("InstanceOfExpression", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -4202,8 +4557,14 @@ public final class JavaFiveParser extends ParserBase {
   private Result pRelationalExpression(final int yyStart) throws IOException {
     JavaFiveParserColumn yyColumn = (JavaFiveParserColumn)column(yyStart);
     if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fRelationalExpression) 
-      yyColumn.chunk2.fRelationalExpression = pRelationalExpression$1(yyStart);
+    if (null == yyColumn.chunk2.fRelationalExpression) {
+      yyColumn.chunk2.fRelationalExpression = 
+        pRelationalExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(14, yyColumn.chunk2.fRelationalExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(14, yyColumn.chunk2.fRelationalExpression);
+    }
     return yyColumn.chunk2.fRelationalExpression;
   }
 
@@ -4308,40 +4669,82 @@ public final class JavaFiveParser extends ParserBase {
     String     yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '@':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0xf;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Less>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("<")) {
-      yyValue = "<";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("<")) {
+        yyValue = "<";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Greater>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(">")) {
-      yyValue = ">";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(">")) {
+        yyValue = ">";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <LessEqual>.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("<=")) {
-      yyValue = "<=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("<=")) {
+        yyValue = "<=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <GreaterEqual>.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(">=")) {
-      yyValue = ">=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(">=")) {
+        yyValue = ">=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -4455,31 +4858,71 @@ public final class JavaFiveParser extends ParserBase {
     String     yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '@':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x7;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Left>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("<<")) {
-      yyValue = "<<";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("<<")) {
+        yyValue = "<<";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Right>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(">>")) {
-      yyValue = ">>";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(">>")) {
+        yyValue = ">>";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <UnsignedRight>.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(">>>")) {
-      yyValue = ">>>";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(">>>")) {
+        yyValue = ">>>";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -4593,22 +5036,60 @@ public final class JavaFiveParser extends ParserBase {
     String     yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '@':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Plus>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("+")) {
-      yyValue = "+";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("+")) {
+        yyValue = "+";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Minus>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("-")) {
-      yyValue = "-";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("-")) {
+        yyValue = "-";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -4727,31 +5208,71 @@ public final class JavaFiveParser extends ParserBase {
     String     yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '@':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x7;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Times>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("*")) {
-      yyValue = "*";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("*")) {
+        yyValue = "*";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Over>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("/")) {
-      yyValue = "/";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("/")) {
+        yyValue = "/";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Modulo>.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("%")) {
-      yyValue = "%";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("%")) {
+        yyValue = "%";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -4773,75 +5294,117 @@ public final class JavaFiveParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '@':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0xf;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Plus>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("+")) {
-      final String v$g$1 = "+";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("+")) {
+        final String v$g$1 = "+";
 
-      yyResult = pUnaryExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$2 = yyResult.semanticValue();
+        yyResult = pUnaryExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryExpression", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("UnaryExpression", v$g$1, v$g$2);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative <Minus>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("-")) {
-      final String v$g$3 = "-";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("-")) {
+        final String v$g$3 = "-";
 
-      yyResult = pUnaryExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$4 = yyResult.semanticValue();
+        yyResult = pUnaryExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$4 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryExpression", v$g$3, v$g$4);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("UnaryExpression", v$g$3, v$g$4);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative <Increment>.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("++")) {
-      final String v$g$5 = "++";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("++")) {
+        final String v$g$5 = "++";
 
-      yyResult = pUnaryExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$6 = yyResult.semanticValue();
+        yyResult = pUnaryExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$6 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryExpression", v$g$5, v$g$6);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("UnaryExpression", v$g$5, v$g$6);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative <Decrement>.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("--")) {
-      final String v$g$7 = "--";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("--")) {
+        final String v$g$7 = "--";
 
-      yyResult = pUnaryExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$8 = yyResult.semanticValue();
+        yyResult = pUnaryExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$8 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryExpression", v$g$7, v$g$8);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("UnaryExpression", v$g$7, v$g$8);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
@@ -4879,111 +5442,151 @@ public final class JavaFiveParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '@':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x7;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("~")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("~")) {
 
-      yyResult = pUnaryExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
+        yyResult = pUnaryExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("BitwiseNegationExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("BitwiseNegationExpression", v$g$1);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("!")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("!")) {
 
-      yyResult = pUnaryExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
+        yyResult = pUnaryExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("LogicalNegationExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("LogicalNegationExpression", v$g$1);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("(")) {
-
-      final int yyChoice1 = yyResult.index;
-
-      // Nested alternative 1.
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("(")) {
 
-      yyResult = pPrimitiveType(yyChoice1);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
+        final int yyChoice1 = yyResult.index;
 
-        yyOption1  = yyResult.index;
-        yyOpValue1 = null;
+        // Nested alternative 1.
 
-        yyResult = pDimensions(yyOption1);
-        yyError  = yyResult.select(yyError, yyOption1);
+        yyResult = pPrimitiveType(yyChoice1);
+        yyError  = yyResult.select(yyError);
         if (yyResult.hasValue()) {
-          final Node v$el$1 = yyResult.semanticValue();
+          final Node v$g$1 = yyResult.semanticValue();
 
           yyOption1  = yyResult.index;
-          yyOpValue1 = v$el$1;
+          yyOpValue1 = null;
+
+          yyResult = pDimensions(yyOption1);
+          yyError  = yyResult.select(yyError, yyOption1);
+          if (yyResult.hasValue()) {
+            final Node v$el$1 = yyResult.semanticValue();
+
+            yyOption1  = yyResult.index;
+            yyOpValue1 = v$el$1;
+          }
+          { // Start scope for v$g$2.
+            final Node v$g$2 = yyOpValue1;
+
+            yyBase   = yyOption1;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue(")")) {
+
+              yyResult = pUnaryExpression(yyResult.index);
+              yyError  = yyResult.select(yyError);
+              if (yyResult.hasValue()) {
+                final Node v$g$3 = yyResult.semanticValue();
+
+                yyValue = GNode.create("BasicCastExpression", v$g$1, v$g$2, v$g$3);
+                locate(yyValue, yyStart);
+
+                return yyResult.createValue(yyValue, yyError);
+              }
+            } else {
+              yyError = yyError.select("')' expected", yyBase);
+            }
+          } // End scope for v$g$2.
         }
-        { // Start scope for v$g$2.
-          final Node v$g$2 = yyOpValue1;
 
-          yyBase   = yyOption1;
+        // Nested alternative 2.
+
+        yyResult = pType(yyChoice1);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$1 = yyResult.semanticValue();
+
+          yyBase   = yyResult.index;
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue(")")) {
 
-            yyResult = pUnaryExpression(yyResult.index);
+            yyResult = pUnaryExpressionNotPlusMinus(yyResult.index);
             yyError  = yyResult.select(yyError);
             if (yyResult.hasValue()) {
-              final Node v$g$3 = yyResult.semanticValue();
+              final Node v$g$2 = yyResult.semanticValue();
 
-              yyValue = GNode.create("BasicCastExpression", v$g$1, v$g$2, v$g$3);
-              yyValue.setLocation(location(yyStart));
+              yyValue = GNode.create("CastExpression", v$g$1, v$g$2);
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
           } else {
             yyError = yyError.select("')' expected", yyBase);
           }
-        } // End scope for v$g$2.
-      }
-
-      // Nested alternative 2.
-
-      yyResult = pType(yyChoice1);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
-
-        yyBase   = yyResult.index;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue(")")) {
-
-          yyResult = pUnaryExpressionNotPlusMinus(yyResult.index);
-          yyError  = yyResult.select(yyError);
-          if (yyResult.hasValue()) {
-            final Node v$g$2 = yyResult.semanticValue();
-
-            yyValue = GNode.create("CastExpression", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
-
-            return yyResult.createValue(yyValue, yyError);
-          }
-        } else {
-          yyError = yyError.select("')' expected", yyBase);
         }
       }
     }
@@ -5073,217 +5676,261 @@ public final class JavaFiveParser extends ParserBase {
     Action<Node> yyValue;
     ParseError   yyError = ParseError.DUMMY;
 
-    // Alternative 1.
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '@':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x1f;
+      break;
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(".")) {
+    default:
+      yyFirst = 0;
+    }
 
-      final int yyChoice1 = yyResult.index;
+    // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-      // Nested alternative 1.
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(".")) {
 
-      yyOption1  = yyChoice1;
-      yyOpValue1 = null;
+        final int yyChoice1 = yyResult.index;
 
-      yyResult = pTypeArguments(yyOption1);
-      yyError  = yyResult.select(yyError, yyOption1);
-      if (yyResult.hasValue()) {
-        final Node v$el$1 = yyResult.semanticValue();
+        // Nested alternative 1.
 
-        yyOption1  = yyResult.index;
-        yyOpValue1 = v$el$1;
-      }
-      { // Start scope for v$g$2.
-        final Node v$g$2 = yyOpValue1;
+        yyOption1  = yyChoice1;
+        yyOpValue1 = null;
 
-        yyResult = pIdentifier(yyOption1);
-        yyError  = yyResult.select(yyError);
+        yyResult = pTypeArguments(yyOption1);
+        yyError  = yyResult.select(yyError, yyOption1);
         if (yyResult.hasValue()) {
-          final String v$g$3 = yyResult.semanticValue();
+          final Node v$el$1 = yyResult.semanticValue();
+
+          yyOption1  = yyResult.index;
+          yyOpValue1 = v$el$1;
+        }
+        { // Start scope for v$g$2.
+          final Node v$g$2 = yyOpValue1;
+
+          yyResult = pIdentifier(yyOption1);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final String v$g$3 = yyResult.semanticValue();
+
+            yyResult = pArguments(yyResult.index);
+            yyError  = yyResult.select(yyError);
+            if (yyResult.hasValue()) {
+              final Node v$g$4 = yyResult.semanticValue();
+
+              yyValue = new Action<Node>() {
+                public Node run(Node v$1) {
+                  return GNode.create("CallExpression", v$1, v$g$2, v$g$3, v$g$4);
+                }};
+
+              return yyResult.createValue(yyValue, yyError);
+            }
+          }
+        } // End scope for v$g$2.
+
+        // Nested alternative 2.
+
+        yyBase   = yyChoice1;
+        yyResult = pWord(yyBase);
+        if (yyResult.hasValue("super")) {
+          final String v$g$6 = "super";
 
           yyResult = pArguments(yyResult.index);
           yyError  = yyResult.select(yyError);
           if (yyResult.hasValue()) {
-            final Node v$g$4 = yyResult.semanticValue();
+            final Node v$g$7 = yyResult.semanticValue();
 
             yyValue = new Action<Node>() {
               public Node run(Node v$1) {
-                return GNode.create("CallExpression", v$1, v$g$2, v$g$3, v$g$4);
+                return GNode.create("CallExpression", v$1, null, v$g$6, v$g$7);
               }};
 
             return yyResult.createValue(yyValue, yyError);
           }
+        } else {
+          yyError = yyError.select("'super' expected", yyBase);
         }
-      } // End scope for v$g$2.
-
-      // Nested alternative 2.
 
-      yyBase   = yyChoice1;
-      yyResult = pWord(yyBase);
-      if (yyResult.hasValue("super")) {
-        final String v$g$6 = "super";
+        // Nested alternative 3.
 
-        yyResult = pArguments(yyResult.index);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$g$7 = yyResult.semanticValue();
+        yyBase   = yyChoice1;
+        yyResult = pWord(yyBase);
+        if (yyResult.hasValue("super")) {
 
           yyValue = new Action<Node>() {
             public Node run(Node v$1) {
-              return GNode.create("CallExpression", v$1, null, v$g$6, v$g$7);
+              return GNode.create("SuperExpression", v$1);
             }};
 
           return yyResult.createValue(yyValue, yyError);
+        } else {
+          yyError = yyError.select("'super' expected", yyBase);
         }
-      } else {
-        yyError = yyError.select("'super' expected", yyBase);
-      }
-
-      // Nested alternative 3.
-
-      yyBase   = yyChoice1;
-      yyResult = pWord(yyBase);
-      if (yyResult.hasValue("super")) {
-
-        yyValue = new Action<Node>() {
-          public Node run(Node v$1) {
-            return GNode.create("SuperExpression", v$1);
-          }};
-
-        return yyResult.createValue(yyValue, yyError);
-      } else {
-        yyError = yyError.select("'super' expected", yyBase);
-      }
 
-      // Nested alternative 4.
+        // Nested alternative 4.
 
-      yyResult = pIdentifier(yyChoice1);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final String v$g$8 = yyResult.semanticValue();
+        yyResult = pIdentifier(yyChoice1);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final String v$g$8 = yyResult.semanticValue();
 
-        yyValue = new Action<Node>() {
-          public Node run(Node v$1) {
-            return GNode.create("SelectionExpression", v$1, v$g$8);
-          }};
+          yyValue = new Action<Node>() {
+            public Node run(Node v$1) {
+              return GNode.create("SelectionExpression", v$1, v$g$8);
+            }};
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("[")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("[")) {
 
-      yyResult = pExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$9 = yyResult.semanticValue();
+        yyResult = pExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$9 = yyResult.semanticValue();
 
-        yyBase   = yyResult.index;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue("]")) {
+          yyBase   = yyResult.index;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue("]")) {
 
-          yyValue = new Action<Node>() {
-            public Node run(Node v$1) {
-              return GNode.create("SubscriptExpression", v$1, v$g$9);
-            }};
+            yyValue = new Action<Node>() {
+              public Node run(Node v$1) {
+                return GNode.create("SubscriptExpression", v$1, v$g$9);
+              }};
 
-          return yyResult.createValue(yyValue, yyError);
-        } else {
-          yyError = yyError.select("']' expected", yyBase);
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("']' expected", yyBase);
+          }
         }
       }
     }
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("++")) {
-      final String v$g$10 = "++";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("++")) {
+        final String v$g$10 = "++";
 
-      yyValue = new Action<Node>() {
-        public Node run(Node v$1) {
-          return GNode.create("PostfixExpression", v$1, v$g$10);
-        }};
+        yyValue = new Action<Node>() {
+          public Node run(Node v$1) {
+            return GNode.create("PostfixExpression", v$1, v$g$10);
+          }};
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 4.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("--")) {
-      final String v$g$11 = "--";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("--")) {
+        final String v$g$11 = "--";
 
-      yyValue = new Action<Node>() {
-        public Node run(Node v$1) {
-          return GNode.create("PostfixExpression", v$1, v$g$11);
-        }};
+        yyValue = new Action<Node>() {
+          public Node run(Node v$1) {
+            return GNode.create("PostfixExpression", v$1, v$g$11);
+          }};
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 5.
+    if (0 != (yyFirst & 0x10)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(".")) {
-
-      yyBase   = yyResult.index;
-      yyResult = pWord(yyBase);
-      if (yyResult.hasValue("new")) {
-
-        yyOption1  = yyResult.index;
-        yyOpValue1 = null;
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(".")) {
 
-        yyResult = pTypeArguments(yyOption1);
-        yyError  = yyResult.select(yyError, yyOption1);
-        if (yyResult.hasValue()) {
-          final Node v$el$2 = yyResult.semanticValue();
+        yyBase   = yyResult.index;
+        yyResult = pWord(yyBase);
+        if (yyResult.hasValue("new")) {
 
           yyOption1  = yyResult.index;
-          yyOpValue1 = v$el$2;
-        }
-        { // Start scope for v$g$12.
-          final Node v$g$12 = yyOpValue1;
+          yyOpValue1 = null;
 
-          yyResult = pTypeName(yyOption1);
-          yyError  = yyResult.select(yyError);
+          yyResult = pTypeArguments(yyOption1);
+          yyError  = yyResult.select(yyError, yyOption1);
           if (yyResult.hasValue()) {
-            final Node v$g$13 = yyResult.semanticValue();
+            final Node v$el$2 = yyResult.semanticValue();
 
-            yyResult = pArguments(yyResult.index);
+            yyOption1  = yyResult.index;
+            yyOpValue1 = v$el$2;
+          }
+          { // Start scope for v$g$12.
+            final Node v$g$12 = yyOpValue1;
+
+            yyResult = pTypeName(yyOption1);
             yyError  = yyResult.select(yyError);
             if (yyResult.hasValue()) {
-              final Node v$g$14 = yyResult.semanticValue();
-
-              yyOption1  = yyResult.index;
-              yyOpValue1 = null;
+              final Node v$g$13 = yyResult.semanticValue();
 
-              yyResult = pClassBody(yyOption1);
-              yyError  = yyResult.select(yyError, yyOption1);
+              yyResult = pArguments(yyResult.index);
+              yyError  = yyResult.select(yyError);
               if (yyResult.hasValue()) {
-                final Node v$el$3 = yyResult.semanticValue();
+                final Node v$g$14 = yyResult.semanticValue();
 
                 yyOption1  = yyResult.index;
-                yyOpValue1 = v$el$3;
-              }
-              { // Start scope for v$g$15.
-                final Node v$g$15 = yyOpValue1;
+                yyOpValue1 = null;
+
+                yyResult = pClassBody(yyOption1);
+                yyError  = yyResult.select(yyError, yyOption1);
+                if (yyResult.hasValue()) {
+                  final Node v$el$3 = yyResult.semanticValue();
+
+                  yyOption1  = yyResult.index;
+                  yyOpValue1 = v$el$3;
+                }
+                { // Start scope for v$g$15.
+                  final Node v$g$15 = yyOpValue1;
 
-                yyValue = new Action<Node>() {
-                  public Node run(Node v$1) {
-                    return GNode.create("NewClassExpression", v$1, v$g$12, v$g$13, v$g$14, v$g$15);
-                  }};
+                  yyValue = new Action<Node>() {
+                    public Node run(Node v$1) {
+                      return GNode.create("NewClassExpression", v$1, v$g$12, v$g$13, v$g$14, v$g$15);
+                    }};
 
-                return new SemanticValue(yyValue, yyOption1, yyError);
-              } // End scope for v$g$15.
+                  return new SemanticValue(yyValue, yyOption1, yyError);
+                } // End scope for v$g$15.
+              }
             }
-          }
-        } // End scope for v$g$12.
-      } else {
-        yyError = yyError.select("'new' expected", yyBase);
+          } // End scope for v$g$12.
+        } else {
+          yyError = yyError.select("'new' expected", yyBase);
+        }
       }
     }
 
@@ -5346,7 +5993,7 @@ public final class JavaFiveParser extends ParserBase {
           final Node v$g$4 = yyResult.semanticValue();
 
           yyValue = GNode.create("CallExpression", null, v$g$2, v$g$3, v$g$4);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -5369,7 +6016,7 @@ public final class JavaFiveParser extends ParserBase {
         if (yyResult.hasValue("class")) {
 
           yyValue = GNode.create("ClassLiteralExpression", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
@@ -5392,7 +6039,7 @@ public final class JavaFiveParser extends ParserBase {
         final Node v$g$4 = yyResult.semanticValue();
 
         yyValue = GNode.create("CallExpression", null, null, v$g$3, v$g$4);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -5426,7 +6073,7 @@ public final class JavaFiveParser extends ParserBase {
       if (yyResult.hasValue("this")) {
 
         yyValue = GNode.create("ThisExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       } else {
@@ -5451,7 +6098,7 @@ public final class JavaFiveParser extends ParserBase {
           final Node v$g$4 = yyResult.semanticValue();
 
           yyValue = GNode.create("CallExpression", null, null, v$g$3, v$g$4);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -5464,7 +6111,7 @@ public final class JavaFiveParser extends ParserBase {
       if (yyResult.hasValue("super")) {
 
         yyValue = GNode.create("SuperExpression", null);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       } else {
@@ -5480,7 +6127,7 @@ public final class JavaFiveParser extends ParserBase {
       final String v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.create("PrimaryIdentifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -5529,7 +6176,7 @@ public final class JavaFiveParser extends ParserBase {
               final Node v$g$5 = yyOpValue1;
 
               yyValue = GNode.create("NewClassExpression", null, v$g$2, v$g$3, v$g$4, v$g$5);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return new SemanticValue(yyValue, yyOption1, yyError);
             } // End scope for v$g$5.
@@ -5572,7 +6219,7 @@ public final class JavaFiveParser extends ParserBase {
             final Node v$g$3 = yyOpValue1;
 
             yyValue = GNode.create("NewArrayExpression", v$g$1, v$g$2, v$g$3, null);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return new SemanticValue(yyValue, yyOption1, yyError);
           } // End scope for v$g$3.
@@ -5600,7 +6247,7 @@ public final class JavaFiveParser extends ParserBase {
             final Node v$g$7 = yyResult.semanticValue();
 
             yyValue = GNode.create("NewArrayExpression", v$g$1, null, v$g$6, v$g$7);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           }
@@ -5647,7 +6294,8 @@ public final class JavaFiveParser extends ParserBase {
     Result     yyResult;
     int        yyRepetition1;
     boolean    yyRepeated1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -5655,7 +6303,8 @@ public final class JavaFiveParser extends ParserBase {
 
     yyRepetition1 = yyStart;
     yyRepeated1   = false;
-    yyRepValue1   = Pair.empty();
+    yyRepStart1   = bufferStart();
+    yyRepEnd1   = yyRepStart1;
     while (true) {
 
       yyResult = pConcreteDimension(yyRepetition1);
@@ -5665,17 +6314,18 @@ public final class JavaFiveParser extends ParserBase {
 
         yyRepetition1 = yyResult.index;
         yyRepeated1   = true;
-        yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+        yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
         continue;
       }
       break;
     }
 
     if (yyRepeated1) {
-      final Pair<Node> v$g$1 = yyRepValue1.reverse();
+      final int v$g$1 = yyRepStart1;
+      final int v$g$1$end = yyRepEnd1;
 
-      yyValue = GNode.createFromPair("ConcreteDimensions", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      yyValue = bufferedNode("ConcreteDimensions", v$g$1, v$g$1$end);
+      locate(yyValue, yyStart);
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
     }
@@ -5738,7 +6388,8 @@ public final class JavaFiveParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     int        yyOption1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
@@ -5758,7 +6409,8 @@ public final class JavaFiveParser extends ParserBase {
         final Node v$g$1 = yyResult.semanticValue();
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyBase   = yyRepetition1;
@@ -5771,7 +6423,7 @@ public final class JavaFiveParser extends ParserBase {
               final Node v$el$1 = yyResult.semanticValue();
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
           } else {
@@ -5780,7 +6432,8 @@ public final class JavaFiveParser extends ParserBase {
           break;
         }
         { // Start scope for v$g$2.
-          final Pair<Node> v$g$2 = yyRepValue1.reverse();
+          final int v$g$2 = yyRepStart1;
+          final int v$g$2$end = yyRepEnd1;
 
           yyOption1  = yyRepetition1;
 
@@ -5797,13 +6450,14 @@ public final class JavaFiveParser extends ParserBase {
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue("}")) {
 
-            yyValue = GNode.createFromPair("ArrayInitializer", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
+            yyValue = bufferedNode("ArrayInitializer", v$g$1, v$g$2, v$g$2$end);
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
             yyError = yyError.select("'}' expected", yyBase);
           }
+          releaseBuffer(v$g$2);
         } // End scope for v$g$2.
       }
 
@@ -5825,7 +6479,7 @@ public final class JavaFiveParser extends ParserBase {
       if (yyResult.hasValue("}")) {
 
         yyValue = GNode.create("ArrayInitializer", false);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       } else {
@@ -5850,8 +6504,13 @@ public final class JavaFiveParser extends ParserBase {
   private Result pVariableInitializer(final int yyStart) throws IOException {
     JavaFiveParserColumn yyColumn = (JavaFiveParserColumn)column(yyStart);
     if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fVariableInitializer) 
+    if (null == yyColumn.chunk2.fVariableInitializer) {
       yyColumn.chunk2.fVariableInitializer = pVariableInitializer$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(15, yyColumn.chunk2.fVariableInitializer);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(15, yyColumn.chunk2.fVariableInitializer);
+    }
     return yyColumn.chunk2.fVariableInitializer;
   }
 
@@ -5900,7 +6559,8 @@ public final class JavaFiveParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -5919,7 +6579,8 @@ public final class JavaFiveParser extends ParserBase {
         final Node v$g$1 = yyResult.semanticValue();
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyBase   = yyRepetition1;
@@ -5932,7 +6593,7 @@ public final class JavaFiveParser extends ParserBase {
               final Node v$el$1 = yyResult.semanticValue();
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
           } else {
@@ -5941,19 +6602,21 @@ public final class JavaFiveParser extends ParserBase {
           break;
         }
         { // Start scope for v$g$2.
-          final Pair<Node> v$g$2 = yyRepValue1.reverse();
+          final int v$g$2 = yyRepStart1;
+          final int v$g$2$end = yyRepEnd1;
 
           yyBase   = yyRepetition1;
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue(")")) {
 
-            yyValue = GNode.createFromPair("Arguments", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
+            yyValue = bufferedNode("Arguments", v$g$1, v$g$2, v$g$2$end);
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
             yyError = yyError.select("')' expected", yyBase);
           }
+          releaseBuffer(v$g$2);
         } // End scope for v$g$2.
       }
 
@@ -5964,7 +6627,7 @@ public final class JavaFiveParser extends ParserBase {
       if (yyResult.hasValue(")")) {
 
         yyValue = GNode.create("Arguments", false);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       } else {
@@ -6026,10 +6689,15 @@ public final class JavaFiveParser extends ParserBase {
    */
   private Result pAnnotations(final int yyStart) throws IOException {
     JavaFiveParserColumn yyColumn = (JavaFiveParserColumn)column(yyStart);
-    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fAnnotations) 
-      yyColumn.chunk2.fAnnotations = pAnnotations$1(yyStart);
-    return yyColumn.chunk2.fAnnotations;
+    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
+    if (null == yyColumn.chunk4.fAnnotations) {
+      yyColumn.chunk4.fAnnotations = pAnnotations$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(16, yyColumn.chunk4.fAnnotations);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(16, yyColumn.chunk4.fAnnotations);
+    }
+    return yyColumn.chunk4.fAnnotations;
   }
 
   /** Actually parse xtc.lang.JavaFive.Annotations. */
@@ -6046,7 +6714,7 @@ public final class JavaFiveParser extends ParserBase {
       final Pair<Node> v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.createFromPair("Annotations", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -6067,8 +6735,13 @@ public final class JavaFiveParser extends ParserBase {
   private Result pAnnotations$$Plus1(final int yyStart) throws IOException {
     JavaFiveParserColumn yyColumn = (JavaFiveParserColumn)column(yyStart);
     if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fAnnotations$$Plus1) 
+    if (null == yyColumn.chunk2.fAnnotations$$Plus1) {
       yyColumn.chunk2.fAnnotations$$Plus1 = pAnnotations$$Plus1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(17, yyColumn.chunk2.fAnnotations$$Plus1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(17, yyColumn.chunk2.fAnnotations$$Plus1);
+    }
     return yyColumn.chunk2.fAnnotations$$Plus1;
   }
 
@@ -6140,7 +6813,7 @@ public final class JavaFiveParser extends ParserBase {
           final Node v$g$2 = yyResult.semanticValue();
 
           yyValue = GNode.create("Annotation", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -6241,7 +6914,8 @@ public final class JavaFiveParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -6253,7 +6927,8 @@ public final class JavaFiveParser extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyBase   = yyRepetition1;
@@ -6266,7 +6941,7 @@ public final class JavaFiveParser extends ParserBase {
             final Node v$el$1 = yyResult.semanticValue();
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
         } else {
@@ -6275,10 +6950,11 @@ public final class JavaFiveParser extends ParserBase {
         break;
       }
       { // Start scope for v$g$2.
-        final Pair<Node> v$g$2 = yyRepValue1.reverse();
+        final int v$g$2 = yyRepStart1;
+        final int v$g$2$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("ElementValuePairs", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("ElementValuePairs", v$g$1, v$g$2, v$g$2$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$2.
@@ -6299,10 +6975,15 @@ public final class JavaFiveParser extends ParserBase {
    */
   private Result pElementValuePair(final int yyStart) throws IOException {
     JavaFiveParserColumn yyColumn = (JavaFiveParserColumn)column(yyStart);
-    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fElementValuePair) 
-      yyColumn.chunk2.fElementValuePair = pElementValuePair$1(yyStart);
-    return yyColumn.chunk2.fElementValuePair;
+    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
+    if (null == yyColumn.chunk4.fElementValuePair) {
+      yyColumn.chunk4.fElementValuePair = pElementValuePair$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(18, yyColumn.chunk4.fElementValuePair);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(18, yyColumn.chunk4.fElementValuePair);
+    }
+    return yyColumn.chunk4.fElementValuePair;
   }
 
   /** Actually parse xtc.lang.JavaFive.ElementValuePair. */
@@ -6329,7 +7010,7 @@ public final class JavaFiveParser extends ParserBase {
           final Node v$g$2 = yyResult.semanticValue();
 
           yyValue = GNode.create("ElementValuePair", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -6354,8 +7035,13 @@ public final class JavaFiveParser extends ParserBase {
   private Result pElementValue(final int yyStart) throws IOException {
     JavaFiveParserColumn yyColumn = (JavaFiveParserColumn)column(yyStart);
     if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fElementValue) 
+    if (null == yyColumn.chunk2.fElementValue) {
       yyColumn.chunk2.fElementValue = pElementValue$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(19, yyColumn.chunk2.fElementValue);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(19, yyColumn.chunk2.fElementValue);
+    }
     return yyColumn.chunk2.fElementValue;
   }
 
@@ -6365,6 +7051,40 @@ public final class JavaFiveParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '@':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Expression>.
 
     yyResult = pExpression(yyStart);
@@ -6376,23 +7096,27 @@ public final class JavaFiveParser extends ParserBase {
     }
 
     // Alternative <Annotation>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pAnnotation(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pAnnotation(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Array>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pElementArrayInitializer(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pElementArrayInitializer(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -6414,7 +7138,8 @@ public final class JavaFiveParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     int        yyOption1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
@@ -6434,7 +7159,8 @@ public final class JavaFiveParser extends ParserBase {
         final Node v$g$1 = yyResult.semanticValue();
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyBase   = yyRepetition1;
@@ -6447,7 +7173,7 @@ public final class JavaFiveParser extends ParserBase {
               final Node v$el$1 = yyResult.semanticValue();
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
           } else {
@@ -6456,7 +7182,8 @@ public final class JavaFiveParser extends ParserBase {
           break;
         }
         { // Start scope for v$g$2.
-          final Pair<Node> v$g$2 = yyRepValue1.reverse();
+          final int v$g$2 = yyRepStart1;
+          final int v$g$2$end = yyRepEnd1;
 
           yyOption1  = yyRepetition1;
 
@@ -6473,13 +7200,14 @@ public final class JavaFiveParser extends ParserBase {
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue("}")) {
 
-            yyValue = GNode.createFromPair("ArrayInitializer", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
+            yyValue = bufferedNode("ArrayInitializer", v$g$1, v$g$2, v$g$2$end);
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
             yyError = yyError.select("'}' expected", yyBase);
           }
+          releaseBuffer(v$g$2);
         } // End scope for v$g$2.
       }
 
@@ -6501,7 +7229,7 @@ public final class JavaFiveParser extends ParserBase {
       if (yyResult.hasValue("}")) {
 
         yyValue = GNode.create("ArrayInitializer", false);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       } else {
@@ -6527,7 +7255,8 @@ public final class JavaFiveParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -6537,7 +7266,8 @@ public final class JavaFiveParser extends ParserBase {
     if (yyResult.hasValue("{")) {
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyResult = pAnnotationElement(yyRepetition1);
@@ -6546,25 +7276,27 @@ public final class JavaFiveParser extends ParserBase {
           final Node v$el$1 = yyResult.semanticValue();
 
           yyRepetition1 = yyResult.index;
-          yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+          yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
           continue;
         }
         break;
       }
       { // Start scope for v$g$1.
-        final Pair<Node> v$g$1 = yyRepValue1.reverse();
+        final int v$g$1 = yyRepStart1;
+        final int v$g$1$end = yyRepEnd1;
 
         yyBase   = yyRepetition1;
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue("}")) {
 
-          yyValue = GNode.createFromPair("ClassBody", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          yyValue = bufferedNode("ClassBody", v$g$1, v$g$1$end);
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
           yyError = yyError.select("'}' expected", yyBase);
         }
+        releaseBuffer(v$g$1);
       } // End scope for v$g$1.
     }
 
@@ -6642,7 +7374,7 @@ public final class JavaFiveParser extends ParserBase {
                 if (yyResult.hasValue(";")) {
 
                   yyValue = GNode.create("AnnotationMethod", v$g$1, v$g$2, v$g$3, v$g$4);
-                  yyValue.setLocation(location(yyStart));
+                  locate(yyValue, yyStart);
 
                   return yyResult.createValue(yyValue, yyError);
                 } else {
@@ -6669,7 +7401,7 @@ public final class JavaFiveParser extends ParserBase {
           if (yyResult.hasValue(";")) {
 
             yyValue = GNode.create("FieldDeclaration", v$g$1, v$g$2, v$g$3);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
@@ -6735,7 +7467,7 @@ public final class JavaFiveParser extends ParserBase {
                   final Node v$g$6 = yyResult.semanticValue();
 
                   yyValue = GNode.create("ClassDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6);
-                  yyValue.setLocation(location(yyStart));
+                  locate(yyValue, yyStart);
 
                   return yyResult.createValue(yyValue, yyError);
                 }
@@ -6791,7 +7523,7 @@ public final class JavaFiveParser extends ParserBase {
                 final Node v$g$5 = yyResult.semanticValue();
 
                 yyValue = GNode.create("InterfaceDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return yyResult.createValue(yyValue, yyError);
               }
@@ -6873,7 +7605,7 @@ public final class JavaFiveParser extends ParserBase {
                   if (yyResult.hasValue("}")) {
 
                     yyValue = GNode.create("EnumDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
-                    yyValue.setLocation(location(yyStart));
+                    locate(yyValue, yyStart);
 
                     return yyResult.createValue(yyValue, yyError);
                   } else {
@@ -6911,7 +7643,7 @@ public final class JavaFiveParser extends ParserBase {
               final Node v$g$3 = yyResult.semanticValue();
 
               yyValue = GNode.create("AnnotationDeclaration", v$g$1, v$g$2, v$g$3);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -6953,7 +7685,7 @@ public final class JavaFiveParser extends ParserBase {
         final Node v$g$1 = yyResult.semanticValue();
 
         yyValue = GNode.create("DefaultValue", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -6977,7 +7709,8 @@ public final class JavaFiveParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -6989,7 +7722,8 @@ public final class JavaFiveParser extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyBase   = yyRepetition1;
@@ -7002,7 +7736,7 @@ public final class JavaFiveParser extends ParserBase {
             final Node v$el$1 = yyResult.semanticValue();
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
         } else {
@@ -7011,10 +7745,11 @@ public final class JavaFiveParser extends ParserBase {
         break;
       }
       { // Start scope for v$g$2.
-        final Pair<Node> v$g$2 = yyRepValue1.reverse();
+        final int v$g$2 = yyRepStart1;
+        final int v$g$2$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("EnumConstants", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("EnumConstants", v$g$1, v$g$2, v$g$2$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$2.
@@ -7089,7 +7824,7 @@ public final class JavaFiveParser extends ParserBase {
             final Node v$g$4 = yyOpValue1;
 
             yyValue = GNode.create("EnumConstant", v$g$1, v$g$2, v$g$3, v$g$4);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return new SemanticValue(yyValue, yyOption1, yyError);
           } // End scope for v$g$4.
@@ -7113,7 +7848,8 @@ public final class JavaFiveParser extends ParserBase {
   private Result pEnumMembers(final int yyStart) throws IOException {
     Result     yyResult;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -7123,7 +7859,8 @@ public final class JavaFiveParser extends ParserBase {
     if (yyResult.hasValue(";")) {
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyResult = pDeclaration(yyRepetition1);
@@ -7132,16 +7869,17 @@ public final class JavaFiveParser extends ParserBase {
           final Node v$el$1 = yyResult.semanticValue();
 
           yyRepetition1 = yyResult.index;
-          yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+          yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
           continue;
         }
         break;
       }
       { // Start scope for v$g$1.
-        final Pair<Node> v$g$1 = yyRepValue1.reverse();
+        final int v$g$1 = yyRepStart1;
+        final int v$g$1$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("EnumMembers", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("EnumMembers", v$g$1, v$g$1$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$1.
@@ -7163,10 +7901,15 @@ public final class JavaFiveParser extends ParserBase {
    */
   private Result pResultType(final int yyStart) throws IOException {
     JavaFiveParserColumn yyColumn = (JavaFiveParserColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fResultType) 
-      yyColumn.chunk3.fResultType = pResultType$1(yyStart);
-    return yyColumn.chunk3.fResultType;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fResultType) {
+      yyColumn.chunk1.fResultType = pResultType$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(20, yyColumn.chunk1.fResultType);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(20, yyColumn.chunk1.fResultType);
+    }
+    return yyColumn.chunk1.fResultType;
   }
 
   /** Actually parse xtc.lang.JavaFiveType.ResultType. */
@@ -7219,7 +7962,7 @@ public final class JavaFiveParser extends ParserBase {
     if (yyResult.hasValue("void")) {
 
       yyValue = GNode.create("VoidType", false);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -7240,10 +7983,14 @@ public final class JavaFiveParser extends ParserBase {
    */
   private Result pType(final int yyStart) throws IOException {
     JavaFiveParserColumn yyColumn = (JavaFiveParserColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fType) 
-      yyColumn.chunk3.fType = pType$1(yyStart);
-    return yyColumn.chunk3.fType;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fType) {
+      yyColumn.chunk1.fType = pType$1(yyStart);
+      if (null != yyStatistics) yyStatistics.miss(21, yyColumn.chunk1.fType);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(21, yyColumn.chunk1.fType);
+    }
+    return yyColumn.chunk1.fType;
   }
 
   /** Actually parse xtc.lang.JavaFiveType.Type. */
@@ -7276,7 +8023,7 @@ public final class JavaFiveParser extends ParserBase {
         final Node v$g$2 = yyOpValue1;
 
         yyValue = GNode.create("Type", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyOption1, yyError);
       } // End scope for v$g$2.
@@ -7297,10 +8044,15 @@ public final class JavaFiveParser extends ParserBase {
    */
   private Result pTypeName(final int yyStart) throws IOException {
     JavaFiveParserColumn yyColumn = (JavaFiveParserColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fTypeName) 
-      yyColumn.chunk3.fTypeName = pTypeName$1(yyStart);
-    return yyColumn.chunk3.fTypeName;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fTypeName) {
+      yyColumn.chunk1.fTypeName = pTypeName$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(22, yyColumn.chunk1.fTypeName);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(22, yyColumn.chunk1.fTypeName);
+    }
+    return yyColumn.chunk1.fTypeName;
   }
 
   /** Actually parse xtc.lang.JavaFiveType.TypeName. */
@@ -7344,10 +8096,15 @@ public final class JavaFiveParser extends ParserBase {
    */
   private Result pPrimitiveType(final int yyStart) throws IOException {
     JavaFiveParserColumn yyColumn = (JavaFiveParserColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fPrimitiveType) 
-      yyColumn.chunk3.fPrimitiveType = pPrimitiveType$1(yyStart);
-    return yyColumn.chunk3.fPrimitiveType;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fPrimitiveType) {
+      yyColumn.chunk1.fPrimitiveType = pPrimitiveType$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(23, yyColumn.chunk1.fPrimitiveType);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(23, yyColumn.chunk1.fPrimitiveType);
+    }
+    return yyColumn.chunk1.fPrimitiveType;
   }
 
   /** Actually parse xtc.lang.JavaFiveType.PrimitiveType. */
@@ -7363,7 +8120,7 @@ public final class JavaFiveParser extends ParserBase {
       final String v$g$1 = "byte";
 
       yyValue = GNode.create("PrimitiveType", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -7375,7 +8132,7 @@ public final class JavaFiveParser extends ParserBase {
       final String v$g$2 = "short";
 
       yyValue = GNode.create("PrimitiveType", v$g$2);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -7387,7 +8144,7 @@ public final class JavaFiveParser extends ParserBase {
       final String v$g$3 = "char";
 
       yyValue = GNode.create("PrimitiveType", v$g$3);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -7399,7 +8156,7 @@ public final class JavaFiveParser extends ParserBase {
       final String v$g$4 = "int";
 
       yyValue = GNode.create("PrimitiveType", v$g$4);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -7411,7 +8168,7 @@ public final class JavaFiveParser extends ParserBase {
       final String v$g$5 = "long";
 
       yyValue = GNode.create("PrimitiveType", v$g$5);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -7423,7 +8180,7 @@ public final class JavaFiveParser extends ParserBase {
       final String v$g$6 = "float";
 
       yyValue = GNode.create("PrimitiveType", v$g$6);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -7435,7 +8192,7 @@ public final class JavaFiveParser extends ParserBase {
       final String v$g$7 = "double";
 
       yyValue = GNode.create("PrimitiveType", v$g$7);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -7447,7 +8204,7 @@ public final class JavaFiveParser extends ParserBase {
       final String v$g$8 = "boolean";
 
       yyValue = GNode.create("PrimitiveType", v$g$8);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -7522,8 +8279,13 @@ public final class JavaFiveParser extends ParserBase {
   private Result pDimensions(final int yyStart) throws IOException {
     JavaFiveParserColumn yyColumn = (JavaFiveParserColumn)column(yyStart);
     if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fDimensions) 
+    if (null == yyColumn.chunk3.fDimensions) {
       yyColumn.chunk3.fDimensions = pDimensions$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(24, yyColumn.chunk3.fDimensions);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(24, yyColumn.chunk3.fDimensions);
+    }
     return yyColumn.chunk3.fDimensions;
   }
 
@@ -7541,7 +8303,7 @@ public final class JavaFiveParser extends ParserBase {
       final Pair<String> v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.createFromPair("Dimensions", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -7562,8 +8324,13 @@ public final class JavaFiveParser extends ParserBase {
   private Result pDimensions$$Plus1(final int yyStart) throws IOException {
     JavaFiveParserColumn yyColumn = (JavaFiveParserColumn)column(yyStart);
     if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fDimensions$$Plus1) 
+    if (null == yyColumn.chunk3.fDimensions$$Plus1) {
       yyColumn.chunk3.fDimensions$$Plus1 = pDimensions$$Plus1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(25, yyColumn.chunk3.fDimensions$$Plus1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(25, yyColumn.chunk3.fDimensions$$Plus1);
+    }
     return yyColumn.chunk3.fDimensions$$Plus1;
   }
 
@@ -7624,10 +8391,15 @@ public final class JavaFiveParser extends ParserBase {
    */
   private Result pTypeParameters(final int yyStart) throws IOException {
     JavaFiveParserColumn yyColumn = (JavaFiveParserColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fTypeParameters) 
-      yyColumn.chunk3.fTypeParameters = pTypeParameters$1(yyStart);
-    return yyColumn.chunk3.fTypeParameters;
+    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
+    if (null == yyColumn.chunk4.fTypeParameters) {
+      yyColumn.chunk4.fTypeParameters = pTypeParameters$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(26, yyColumn.chunk4.fTypeParameters);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(26, yyColumn.chunk4.fTypeParameters);
+    }
+    return yyColumn.chunk4.fTypeParameters;
   }
 
   /** Actually parse xtc.lang.JavaFiveType.TypeParameters. */
@@ -7669,7 +8441,7 @@ public final class JavaFiveParser extends ParserBase {
               if (yyResult.hasValue()) {
 
                 yyValue = GNode.createFromPair("TypeParameters", v$g$1, v$g$2);
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return yyResult.createValue(yyValue, yyError);
               }
@@ -7699,10 +8471,16 @@ public final class JavaFiveParser extends ParserBase {
     throws IOException {
 
     JavaFiveParserColumn yyColumn = (JavaFiveParserColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fTypeParameters$$Star1) 
-      yyColumn.chunk3.fTypeParameters$$Star1 = pTypeParameters$$Star1$1(yyStart);
-    return yyColumn.chunk3.fTypeParameters$$Star1;
+    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
+    if (null == yyColumn.chunk4.fTypeParameters$$Star1) {
+      yyColumn.chunk4.fTypeParameters$$Star1 = 
+        pTypeParameters$$Star1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(27, yyColumn.chunk4.fTypeParameters$$Star1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(27, yyColumn.chunk4.fTypeParameters$$Star1);
+    }
+    return yyColumn.chunk4.fTypeParameters$$Star1;
   }
 
   /** Actually parse xtc.lang.JavaFive.TypeParameters$$Star1. */
@@ -7753,10 +8531,15 @@ public final class JavaFiveParser extends ParserBase {
    */
   private Result pTypeParameter(final int yyStart) throws IOException {
     JavaFiveParserColumn yyColumn = (JavaFiveParserColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fTypeParameter) 
-      yyColumn.chunk3.fTypeParameter = pTypeParameter$1(yyStart);
-    return yyColumn.chunk3.fTypeParameter;
+    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
+    if (null == yyColumn.chunk4.fTypeParameter) {
+      yyColumn.chunk4.fTypeParameter = pTypeParameter$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(28, yyColumn.chunk4.fTypeParameter);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(28, yyColumn.chunk4.fTypeParameter);
+    }
+    return yyColumn.chunk4.fTypeParameter;
   }
 
   /** Actually parse xtc.lang.JavaFiveType.TypeParameter. */
@@ -7797,7 +8580,7 @@ public final class JavaFiveParser extends ParserBase {
         final Node v$g$2 = yyOpValue1;
 
         yyValue = GNode.create("TypeParameter", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyOption1, yyError);
       } // End scope for v$g$2.
@@ -7820,7 +8603,8 @@ public final class JavaFiveParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -7832,7 +8616,8 @@ public final class JavaFiveParser extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyBase   = yyRepetition1;
@@ -7845,7 +8630,7 @@ public final class JavaFiveParser extends ParserBase {
             final Node v$el$1 = yyResult.semanticValue();
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
         } else {
@@ -7854,10 +8639,11 @@ public final class JavaFiveParser extends ParserBase {
         break;
       }
       { // Start scope for v$g$2.
-        final Pair<Node> v$g$2 = yyRepValue1.reverse();
+        final int v$g$2 = yyRepStart1;
+        final int v$g$2$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("Bound", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("Bound", v$g$1, v$g$2, v$g$2$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$2.
@@ -7878,10 +8664,15 @@ public final class JavaFiveParser extends ParserBase {
    */
   private Result pTypeArguments(final int yyStart) throws IOException {
     JavaFiveParserColumn yyColumn = (JavaFiveParserColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fTypeArguments) 
-      yyColumn.chunk3.fTypeArguments = pTypeArguments$1(yyStart);
-    return yyColumn.chunk3.fTypeArguments;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fTypeArguments) {
+      yyColumn.chunk1.fTypeArguments = pTypeArguments$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(29, yyColumn.chunk1.fTypeArguments);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(29, yyColumn.chunk1.fTypeArguments);
+    }
+    return yyColumn.chunk1.fTypeArguments;
   }
 
   /** Actually parse xtc.lang.JavaFiveType.TypeArguments. */
@@ -7923,7 +8714,7 @@ public final class JavaFiveParser extends ParserBase {
               if (yyResult.hasValue()) {
 
                 yyValue = GNode.createFromPair("TypeArguments", v$g$1, v$g$2);
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return yyResult.createValue(yyValue, yyError);
               }
@@ -7952,8 +8743,14 @@ public final class JavaFiveParser extends ParserBase {
   private Result pTypeArguments$$Star1(final int yyStart) throws IOException {
     JavaFiveParserColumn yyColumn = (JavaFiveParserColumn)column(yyStart);
     if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.fTypeArguments$$Star1) 
-      yyColumn.chunk4.fTypeArguments$$Star1 = pTypeArguments$$Star1$1(yyStart);
+    if (null == yyColumn.chunk4.fTypeArguments$$Star1) {
+      yyColumn.chunk4.fTypeArguments$$Star1 = 
+        pTypeArguments$$Star1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(30, yyColumn.chunk4.fTypeArguments$$Star1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(30, yyColumn.chunk4.fTypeArguments$$Star1);
+    }
     return yyColumn.chunk4.fTypeArguments$$Star1;
   }
 
@@ -8006,8 +8803,13 @@ public final class JavaFiveParser extends ParserBase {
   private Result pTypeArgument(final int yyStart) throws IOException {
     JavaFiveParserColumn yyColumn = (JavaFiveParserColumn)column(yyStart);
     if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.fTypeArgument) 
+    if (null == yyColumn.chunk4.fTypeArgument) {
       yyColumn.chunk4.fTypeArgument = pTypeArgument$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(31, yyColumn.chunk4.fTypeArgument);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(31, yyColumn.chunk4.fTypeArgument);
+    }
     return yyColumn.chunk4.fTypeArgument;
   }
 
@@ -8077,7 +8879,7 @@ public final class JavaFiveParser extends ParserBase {
         final Node v$g$1 = yyOpValue1;
 
         yyValue = GNode.create("Wildcard", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyOption1, yyError);
       } // End scope for v$g$1.
@@ -8114,7 +8916,7 @@ public final class JavaFiveParser extends ParserBase {
         final Node v$g$2 = yyResult.semanticValue();
 
         yyValue = GNode.create("WildcardBound", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -8132,7 +8934,7 @@ public final class JavaFiveParser extends ParserBase {
         final Node v$g$4 = yyResult.semanticValue();
 
         yyValue = GNode.create("WildcardBound", v$g$3, v$g$4);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -8156,7 +8958,8 @@ public final class JavaFiveParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -8168,7 +8971,8 @@ public final class JavaFiveParser extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyBase   = yyRepetition1;
@@ -8181,7 +8985,7 @@ public final class JavaFiveParser extends ParserBase {
             final Node v$el$1 = yyResult.semanticValue();
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
         } else {
@@ -8190,10 +8994,11 @@ public final class JavaFiveParser extends ParserBase {
         break;
       }
       { // Start scope for v$g$2.
-        final Pair<Node> v$g$2 = yyRepValue1.reverse();
+        final int v$g$2 = yyRepStart1;
+        final int v$g$2$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("InstantiatedType", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("InstantiatedType", v$g$1, v$g$2, v$g$2$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$2.
@@ -8214,10 +9019,15 @@ public final class JavaFiveParser extends ParserBase {
    */
   private Result pTypeInstantiation(final int yyStart) throws IOException {
     JavaFiveParserColumn yyColumn = (JavaFiveParserColumn)column(yyStart);
-    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.fTypeInstantiation) 
-      yyColumn.chunk4.fTypeInstantiation = pTypeInstantiation$1(yyStart);
-    return yyColumn.chunk4.fTypeInstantiation;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fTypeInstantiation) {
+      yyColumn.chunk1.fTypeInstantiation = pTypeInstantiation$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(32, yyColumn.chunk1.fTypeInstantiation);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(32, yyColumn.chunk1.fTypeInstantiation);
+    }
+    return yyColumn.chunk1.fTypeInstantiation;
   }
 
   /** Actually parse xtc.lang.JavaFiveType.TypeInstantiation. */
@@ -8250,7 +9060,7 @@ public final class JavaFiveParser extends ParserBase {
         final Node v$g$2 = yyOpValue1;
 
         yyValue = GNode.create("TypeInstantiation", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyOption1, yyError);
       } // End scope for v$g$2.
@@ -8274,63 +9084,102 @@ public final class JavaFiveParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
-    // Alternative <FloatingPoint>.
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '\"':
+      yyFirst = 0x8;
+      break;
 
-    yyResult = pFloatingPointLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+    case '\'':
+      yyFirst = 0x4;
+      break;
 
-      yyResult = pSpacing(yyResult.index);
+    case '.':
+      yyFirst = 0x1;
+      break;
+
+    case '0':
+    case '1':
+    case '2':
+    case '3':
+    case '4':
+    case '5':
+    case '6':
+    case '7':
+    case '8':
+    case '9':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
+    // Alternative <FloatingPoint>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
+
+      yyResult = pFloatingPointLiteral(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-        return yyResult.createValue(yyValue, yyError);
+        yyResult = pSpacing(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative <Integer>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pIntegerLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
-
-      yyResult = pSpacing(yyResult.index);
+      yyResult = pIntegerLiteral(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-        return yyResult.createValue(yyValue, yyError);
+        yyResult = pSpacing(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative <Character>.
+    if ((0 != (yyFirst & 0x4)) || (yyError.index < yyStart)) {
 
-    yyResult = pCharacterLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
-
-      yyResult = pSpacing(yyResult.index);
+      yyResult = pCharacterLiteral(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-        return yyResult.createValue(yyValue, yyError);
+        yyResult = pSpacing(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative <String>.
+    if ((0 != (yyFirst & 0x8)) || (yyError.index < yyStart)) {
 
-    yyResult = pStringLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
-
-      yyResult = pSpacing(yyResult.index);
+      yyResult = pStringLiteral(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
+
+        yyResult = pSpacing(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
@@ -8341,7 +9190,7 @@ public final class JavaFiveParser extends ParserBase {
       final String v$g$1 = "true";
 
       yyValue = GNode.create("BooleanLiteral", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -8353,7 +9202,7 @@ public final class JavaFiveParser extends ParserBase {
       final String v$g$2 = "false";
 
       yyValue = GNode.create("BooleanLiteral", v$g$2);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -8364,7 +9213,7 @@ public final class JavaFiveParser extends ParserBase {
     if (yyResult.hasValue("null")) {
 
       yyValue = GNode.create("NullLiteral", false);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -8388,43 +9237,71 @@ public final class JavaFiveParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '0':
+      yyFirst = 0x7;
+      break;
+
+    case '1':
+    case '2':
+    case '3':
+    case '4':
+    case '5':
+    case '6':
+    case '7':
+    case '8':
+    case '9':
+      yyFirst = 0x4;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Hex>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pHexLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final String v$g$1 = yyResult.semanticValue();
+      yyResult = pHexLiteral(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final String v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerLiteral", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("IntegerLiteral", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Octal>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pOctalLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final String v$g$2 = yyResult.semanticValue();
+      yyResult = pOctalLiteral(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final String v$g$2 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerLiteral", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("IntegerLiteral", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Decimal>.
+    if ((0 != (yyFirst & 0x4)) || (yyError.index < yyStart)) {
 
-    yyResult = pDecimalLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final String v$g$3 = yyResult.semanticValue();
+      yyResult = pDecimalLiteral(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final String v$g$3 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerLiteral", v$g$3);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("IntegerLiteral", v$g$3);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -8962,7 +9839,7 @@ public final class JavaFiveParser extends ParserBase {
       final String v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.create("FloatingPointLiteral", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -8988,119 +9865,182 @@ public final class JavaFiveParser extends ParserBase {
     String     yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '.':
+      yyFirst = 0x2;
+      break;
+
+    case '0':
+    case '1':
+    case '2':
+    case '3':
+    case '4':
+    case '5':
+    case '6':
+    case '7':
+    case '8':
+    case '9':
+      yyFirst = 0x5;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pDigits(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
+      yyResult = pDigits(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
 
-      yyC = character(yyResult.index);
-      if ('.' == yyC) {
-        yyIndex = yyResult.index + 1;
+        yyC = character(yyResult.index);
+        if ('.' == yyC) {
+          yyIndex = yyResult.index + 1;
 
-        yyOption1  = yyIndex;
+          yyOption1  = yyIndex;
 
-        yyResult = pDigits(yyOption1);
-        yyError  = yyResult.select(yyError, yyOption1);
-        if (yyResult.hasValue()) {
+          yyResult = pDigits(yyOption1);
+          yyError  = yyResult.select(yyError, yyOption1);
+          if (yyResult.hasValue()) {
 
-          yyOption1  = yyResult.index;
-        }
+            yyOption1  = yyResult.index;
+          }
 
 
-        yyResult = pExponent(yyOption1);
-        yyError  = yyResult.select(yyError, yyOption1);
-        if (yyResult.hasValue()) {
+          yyResult = pExponent(yyOption1);
+          yyError  = yyResult.select(yyError, yyOption1);
+          if (yyResult.hasValue()) {
 
-          yyOption1  = yyResult.index;
-        }
+            yyOption1  = yyResult.index;
+          }
 
 
-        yyC = character(yyOption1);
-        if (-1 != yyC) {
-          yyIndex = yyOption1 + 1;
+          yyC = character(yyOption1);
+          if (-1 != yyC) {
+            yyIndex = yyOption1 + 1;
 
-          switch (yyC) {
-          case 'D':
-          case 'F':
-          case 'd':
-          case 'f':
-            {
-              yyOption1  = yyIndex;
-            }
-            break;
+            switch (yyC) {
+            case 'D':
+            case 'F':
+            case 'd':
+            case 'f':
+              {
+                yyOption1  = yyIndex;
+              }
+              break;
 
-          default:
-            /* No match. */
+            default:
+              /* No match. */
+            }
           }
-        }
 
-        yyValue = difference(yyStart, yyOption1);
+          yyValue = difference(yyStart, yyOption1);
 
-        return new SemanticValue(yyValue, yyOption1, yyError);
+          return new SemanticValue(yyValue, yyOption1, yyError);
+        }
       }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyC = character(yyStart);
-    if ('.' == yyC) {
-      yyIndex = yyStart + 1;
-
-      yyResult = pDigits(yyIndex);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-
-        yyOption1  = yyResult.index;
+      yyC = character(yyStart);
+      if ('.' == yyC) {
+        yyIndex = yyStart + 1;
 
-        yyResult = pExponent(yyOption1);
-        yyError  = yyResult.select(yyError, yyOption1);
+        yyResult = pDigits(yyIndex);
+        yyError  = yyResult.select(yyError);
         if (yyResult.hasValue()) {
 
           yyOption1  = yyResult.index;
-        }
 
+          yyResult = pExponent(yyOption1);
+          yyError  = yyResult.select(yyError, yyOption1);
+          if (yyResult.hasValue()) {
 
-        yyC = character(yyOption1);
-        if (-1 != yyC) {
-          yyIndex = yyOption1 + 1;
+            yyOption1  = yyResult.index;
+          }
 
-          switch (yyC) {
-          case 'D':
-          case 'F':
-          case 'd':
-          case 'f':
-            {
-              yyOption1  = yyIndex;
-            }
-            break;
 
-          default:
-            /* No match. */
+          yyC = character(yyOption1);
+          if (-1 != yyC) {
+            yyIndex = yyOption1 + 1;
+
+            switch (yyC) {
+            case 'D':
+            case 'F':
+            case 'd':
+            case 'f':
+              {
+                yyOption1  = yyIndex;
+              }
+              break;
+
+            default:
+              /* No match. */
+            }
           }
-        }
 
-        yyValue = difference(yyStart, yyOption1);
+          yyValue = difference(yyStart, yyOption1);
 
-        return new SemanticValue(yyValue, yyOption1, yyError);
+          return new SemanticValue(yyValue, yyOption1, yyError);
+        }
       }
     }
 
     // Alternative 3.
+    if ((0 != (yyFirst & 0x4)) || (yyError.index < yyStart)) {
 
-    yyResult = pDigits(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
+      yyResult = pDigits(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
 
-      final int yyChoice1 = yyResult.index;
+        final int yyChoice1 = yyResult.index;
 
-      // Nested alternative 1.
+        // Nested alternative 1.
 
-      yyResult = pExponent(yyChoice1);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
+        yyResult = pExponent(yyChoice1);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
 
-        yyOption1  = yyResult.index;
+          yyOption1  = yyResult.index;
+
+          yyC = character(yyOption1);
+          if (-1 != yyC) {
+            yyIndex = yyOption1 + 1;
+
+            switch (yyC) {
+            case 'D':
+            case 'F':
+            case 'd':
+            case 'f':
+              {
+                yyOption1  = yyIndex;
+              }
+              break;
+
+            default:
+              /* No match. */
+            }
+          }
+
+          yyValue = difference(yyStart, yyOption1);
+
+          return new SemanticValue(yyValue, yyOption1, yyError);
+        }
+
+        // Nested alternative 2.
+
+        yyOption1  = yyChoice1;
+
+        yyResult = pExponent(yyOption1);
+        yyError  = yyResult.select(yyError, yyOption1);
+        if (yyResult.hasValue()) {
+
+          yyOption1  = yyResult.index;
+        }
 
         yyC = character(yyOption1);
         if (-1 != yyC) {
@@ -9112,49 +10052,15 @@ public final class JavaFiveParser extends ParserBase {
           case 'd':
           case 'f':
             {
-              yyOption1  = yyIndex;
+              yyValue = difference(yyStart, yyIndex);
+
+              return new SemanticValue(yyValue, yyIndex, yyError);
             }
-            break;
 
           default:
             /* No match. */
           }
         }
-
-        yyValue = difference(yyStart, yyOption1);
-
-        return new SemanticValue(yyValue, yyOption1, yyError);
-      }
-
-      // Nested alternative 2.
-
-      yyOption1  = yyChoice1;
-
-      yyResult = pExponent(yyOption1);
-      yyError  = yyResult.select(yyError, yyOption1);
-      if (yyResult.hasValue()) {
-
-        yyOption1  = yyResult.index;
-      }
-
-      yyC = character(yyOption1);
-      if (-1 != yyC) {
-        yyIndex = yyOption1 + 1;
-
-        switch (yyC) {
-        case 'D':
-        case 'F':
-        case 'd':
-        case 'f':
-          {
-            yyValue = difference(yyStart, yyIndex);
-
-            return new SemanticValue(yyValue, yyIndex, yyError);
-          }
-
-        default:
-          /* No match. */
-        }
       }
     }
 
@@ -9252,7 +10158,7 @@ public final class JavaFiveParser extends ParserBase {
       final String v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.create("CharacterLiteral", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -9283,7 +10189,7 @@ public final class JavaFiveParser extends ParserBase {
       final String v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.create("StringLiteral", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -10081,10 +10987,15 @@ public final class JavaFiveParser extends ParserBase {
    */
   private Result pQualifiedIdentifier(final int yyStart) throws IOException {
     JavaFiveParserColumn yyColumn = (JavaFiveParserColumn)column(yyStart);
-    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.fQualifiedIdentifier) 
-      yyColumn.chunk4.fQualifiedIdentifier = pQualifiedIdentifier$1(yyStart);
-    return yyColumn.chunk4.fQualifiedIdentifier;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fQualifiedIdentifier) {
+      yyColumn.chunk1.fQualifiedIdentifier = pQualifiedIdentifier$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(33, yyColumn.chunk1.fQualifiedIdentifier);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(33, yyColumn.chunk1.fQualifiedIdentifier);
+    }
+    return yyColumn.chunk1.fQualifiedIdentifier;
   }
 
   /** Actually parse xtc.lang.JavaFiveIdentifier.QualifiedIdentifier. */
@@ -10108,7 +11019,7 @@ public final class JavaFiveParser extends ParserBase {
         final Pair<String> v$g$2 = yyResult.semanticValue();
 
         yyValue = GNode.createFromPair("QualifiedIdentifier", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -10132,8 +11043,14 @@ public final class JavaFiveParser extends ParserBase {
 
     JavaFiveParserColumn yyColumn = (JavaFiveParserColumn)column(yyStart);
     if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.fQualifiedIdentifier$$Star1) 
-      yyColumn.chunk4.fQualifiedIdentifier$$Star1 = pQualifiedIdentifier$$Star1$1(yyStart);
+    if (null == yyColumn.chunk4.fQualifiedIdentifier$$Star1) {
+      yyColumn.chunk4.fQualifiedIdentifier$$Star1 = 
+        pQualifiedIdentifier$$Star1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(34, yyColumn.chunk4.fQualifiedIdentifier$$Star1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(34, yyColumn.chunk4.fQualifiedIdentifier$$Star1);
+    }
     return yyColumn.chunk4.fQualifiedIdentifier$$Star1;
   }
 
@@ -10185,10 +11102,15 @@ public final class JavaFiveParser extends ParserBase {
    */
   private Result pIdentifier(final int yyStart) throws IOException {
     JavaFiveParserColumn yyColumn = (JavaFiveParserColumn)column(yyStart);
-    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.fIdentifier) 
-      yyColumn.chunk4.fIdentifier = pIdentifier$1(yyStart);
-    return yyColumn.chunk4.fIdentifier;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fIdentifier) {
+      yyColumn.chunk1.fIdentifier = pIdentifier$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(35, yyColumn.chunk1.fIdentifier);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(35, yyColumn.chunk1.fIdentifier);
+    }
+    return yyColumn.chunk1.fIdentifier;
   }
 
   /** Actually parse xtc.lang.JavaFiveIdentifier.Identifier. */
@@ -10226,10 +11148,14 @@ public final class JavaFiveParser extends ParserBase {
    */
   private Result pWord(final int yyStart) throws IOException {
     JavaFiveParserColumn yyColumn = (JavaFiveParserColumn)column(yyStart);
-    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.fWord) 
-      yyColumn.chunk4.fWord = pWord$1(yyStart);
-    return yyColumn.chunk4.fWord;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fWord) {
+      yyColumn.chunk1.fWord = pWord$1(yyStart);
+      if (null != yyStatistics) yyStatistics.miss(36, yyColumn.chunk1.fWord);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(36, yyColumn.chunk1.fWord);
+    }
+    return yyColumn.chunk1.fWord;
   }
 
   /** Actually parse xtc.lang.JavaFiveIdentifier.Word. */
@@ -10321,10 +11247,15 @@ public final class JavaFiveParser extends ParserBase {
    */
   private Result pSymbol(final int yyStart) throws IOException {
     JavaFiveParserColumn yyColumn = (JavaFiveParserColumn)column(yyStart);
-    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.fSymbol) 
-      yyColumn.chunk4.fSymbol = pSymbol$1(yyStart);
-    return yyColumn.chunk4.fSymbol;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fSymbol) {
+      yyColumn.chunk1.fSymbol = pSymbol$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(37, yyColumn.chunk1.fSymbol);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(37, yyColumn.chunk1.fSymbol);
+    }
+    return yyColumn.chunk1.fSymbol;
   }
 
   /** Actually parse xtc.lang.JavaFiveSymbol.Symbol. */
@@ -11080,28 +12011,7 @@ public final class JavaFiveParser extends ParserBase {
 
               case '/':
                 {
-                  yyRepetition2 = yyIndex;
-                  while (true) {
-
-                    yyC = character(yyRepetition2);
-                    if (-1 != yyC) {
-                      yyIndex = yyRepetition2 + 1;
-
-                      switch (yyC) {
-                      case '\n':
-                      case '\r':
-                        /* No match. */
-                        break;
-
-                      default:
-                        {
-                          yyRepetition2 = yyIndex;
-                          continue;
-                        }
-                      }
-                    }
-                    break;
-                  }
+                  yyRepetition2 = scan(yyIndex, 0xffffffffffffdbffL, 0xffffffffffffffffL, true);
 
                   final int yyChoice2 = yyRepetition2;
 
@@ -1,8 +1,8 @@
 // ===========================================================================
 // This file has been generated by
-// Rats! Parser Generator, version 2.1.0,
-// (C) 2004-2011 Robert Grimm,
-// on Thursday, August 4, 2011 at 5:33:14 PM.
+// Rats! Parser Generator, version 2.3.1,
+// (C) 2004-2012 Robert Grimm,
+// on Sunday, October 18, 2026 at 7:30:38 PM.
 // Edit at your own risk.
 // ===========================================================================
 
@@ -33,7 +33,7 @@ import xtc.parser.ParseError;
  * Packrat parser for grammar <code>xtc.lang.JavaFive</code>.
  *
  * <p />This class has been generated by the <i>Rats!</i> parser
- * generator, version 2.1.0, (C) 2004-2011 Robert Grimm.
+ * generator, version 2.3.1, (C) 2004-2012 Robert Grimm.
  */
 public final class JavaFiveReader extends ParserBase {
 
@@ -44,52 +44,98 @@ public final class JavaFiveReader extends ParserBase {
 
   /** Chunk 1 of memoized results. */
   static final class Chunk1 {
-    Result fModifiers;
-    Result fFormalParameters;
-    Result fDeclarators;
-    Result fDeclarators$$Star1;
-    Result fImplementation;
-    Result fImplementation$$Star1;
-    Result fBlock;
-    Result fParExpression;
-    Result fCatchClause;
-    Result fExpression;
+    Result fWord;
+    Result fIdentifier;
+    Result fTypeInstantiation;
+    Result fQualifiedIdentifier;
+    Result fPrimitiveType;
+    Result fTypeName;
+    Result fType;
+    Result fSymbol;
+    Result fResultType;
+    Result fTypeArguments;
+
+    void clear() {
+      fWord = null;
+      fIdentifier = null;
+      fTypeInstantiation = null;
+      fQualifiedIdentifier = null;
+      fPrimitiveType = null;
+      fTypeName = null;
+      fType = null;
+      fSymbol = null;
+      fResultType = null;
+      fTypeArguments = null;
+    }
   }
 
   /** Chunk 2 of memoized results. */
   static final class Chunk2 {
-    Result fConditionalExpression;
-    Result fLogicalOrExpression;
     Result fRelationalExpression;
+    Result fLogicalOrExpression;
+    Result fConditionalExpression;
+    Result fExpression;
     Result fVariableInitializer;
-    Result fAnnotations;
-    Result fAnnotations$$Plus1;
-    Result fElementValuePair;
     Result fElementValue;
-    Result fResultType;
-    Result fType;
+    Result fAnnotations$$Plus1;
+    Result fAnnotations;
+    Result fDimensions$$Plus1;
+    Result fDimensions;
+
+    void clear() {
+      fRelationalExpression = null;
+      fLogicalOrExpression = null;
+      fConditionalExpression = null;
+      fExpression = null;
+      fVariableInitializer = null;
+      fElementValue = null;
+      fAnnotations$$Plus1 = null;
+      fAnnotations = null;
+      fDimensions$$Plus1 = null;
+      fDimensions = null;
+    }
   }
 
   /** Chunk 3 of memoized results. */
   static final class Chunk3 {
-    Result fTypeName;
-    Result fPrimitiveType;
-    Result fDimensions;
-    Result fDimensions$$Plus1;
-    Result fTypeParameters;
-    Result fTypeParameter;
-    Result fTypeArguments;
-    Result fTypeArgument;
-    Result fTypeInstantiation;
-    Result fQualifiedIdentifier;
+    Result fModifiers;
+    Result fFormalParameters;
+    Result fDeclarators;
+    Result fDeclarators$$Star1;
+    Result fImplementation;
+    Result fImplementation$$Star1;
+    Result fBlock;
+    Result fParExpression;
+    Result fCatchClause;
+    Result fElementValuePair;
+
+    void clear() {
+      fModifiers = null;
+      fFormalParameters = null;
+      fDeclarators = null;
+      fDeclarators$$Star1 = null;
+      fImplementation = null;
+      fImplementation$$Star1 = null;
+      fBlock = null;
+      fParExpression = null;
+      fCatchClause = null;
+      fElementValuePair = null;
+    }
   }
 
   /** Chunk 4 of memoized results. */
   static final class Chunk4 {
+    Result fTypeParameters;
+    Result fTypeParameter;
+    Result fTypeArgument;
     Result fQualifiedIdentifier$$Star1;
-    Result fIdentifier;
-    Result fWord;
-    Result fSymbol;
+
+    void clear() {
+      fTypeParameters = null;
+      fTypeParameter = null;
+      fTypeArgument = null;
+      fQualifiedIdentifier$$Star1 = null;
+    }
   }
 
   // =========================================================================
@@ -100,6 +146,14 @@ public final class JavaFiveReader extends ParserBase {
     Chunk2 chunk2;
     Chunk3 chunk3;
     Chunk4 chunk4;
+
+    protected boolean clear() {
+      if (null != chunk1) chunk1.clear();
+      if (null != chunk2) chunk2.clear();
+      if (null != chunk3) chunk3.clear();
+      if (null != chunk4) chunk4.clear();
+      return true;
+    }
   }
 
   // =========================================================================
@@ -133,6 +187,50 @@ public final class JavaFiveReader extends ParserBase {
 
   // =========================================================================
 
+  /** The names of the memoized productions. */
+  private static final String[] yyProductions = {
+    "xtc.lang.JavaFive.Modifiers",
+    "xtc.lang.JavaFive.FormalParameters",
+    "xtc.lang.JavaFive.Declarators",
+    "xtc.lang.JavaFive.Declarators$$Star1",
+    "xtc.lang.JavaFive.Implementation",
+    "xtc.lang.JavaFive.Implementation$$Star1",
+    "xtc.lang.JavaFive.Block",
+    "xtc.lang.JavaFive.ParExpression",
+    "xtc.lang.JavaFive.CatchClause",
+    "xtc.lang.JavaFive.Expression",
+    "xtc.lang.JavaFive.ConditionalExpression",
+    "xtc.lang.JavaFive.LogicalOrExpression",
+    "xtc.lang.JavaFive.RelationalExpression",
+    "xtc.lang.JavaFive.VariableInitializer",
+    "xtc.lang.JavaFive.Annotations",
+    "xtc.lang.JavaFive.Annotations$$Plus1",
+    "xtc.lang.JavaFive.ElementValuePair",
+    "xtc.lang.JavaFive.ElementValue",
+    "xtc.lang.JavaFiveType.ResultType",
+    "xtc.lang.JavaFiveType.Type",
+    "xtc.lang.JavaFiveType.TypeName",
+    "xtc.lang.JavaFiveType.PrimitiveType",
+    "xtc.lang.JavaFiveType.Dimensions",
+    "xtc.lang.JavaFive.Dimensions$$Plus1",
+    "xtc.lang.JavaFiveType.TypeParameters",
+    "xtc.lang.JavaFiveType.TypeParameter",
+    "xtc.lang.JavaFiveType.TypeArguments",
+    "xtc.lang.JavaFiveType.TypeArgument",
+    "xtc.lang.JavaFiveType.TypeInstantiation",
+    "xtc.lang.JavaFiveIdentifier.QualifiedIdentifier",
+    "xtc.lang.JavaFive.QualifiedIdentifier$$Star1",
+    "xtc.lang.JavaFiveIdentifier.Identifier",
+    "xtc.lang.JavaFiveIdentifier.Word",
+    "xtc.lang.JavaFiveSymbol.Symbol",
+  };
+
+  protected String[] productions() {
+    return yyProductions;
+  }
+
+  // =========================================================================
+
   /**
    * Parse nonterminal xtc.lang.JavaFive.CompilationUnit.
    *
@@ -199,7 +297,8 @@ public final class JavaFiveReader extends ParserBase {
 
     Result     yyResult;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     int        yyOption1;
     Node       yyOpValue1;
     Node       yyValue;
@@ -228,7 +327,8 @@ public final class JavaFiveReader extends ParserBase {
         final Node v$g$1 = Formatting.before1(v$pt$1, v$pt$2);
 
         yyRepetition1 = yyOption1;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyResult = pImportDeclaration(yyRepetition1);
@@ -237,15 +337,17 @@ public final class JavaFiveReader extends ParserBase {
             final Node v$el$2 = yyResult.semanticValue();
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$2, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$2);
             continue;
           }
           break;
         }
         { // Start scope for v$g$2.
-          final Pair<Node> v$g$2 = yyRepValue1.reverse();
+          final int v$g$2 = yyRepStart1;
+          final int v$g$2$end = yyRepEnd1;
 
-          yyRepValue1   = Pair.empty();
+          yyRepStart1   = bufferStart();
+          yyRepEnd1   = yyRepStart1;
           while (true) {
 
             yyResult = pDeclaration(yyRepetition1);
@@ -254,17 +356,20 @@ public final class JavaFiveReader extends ParserBase {
               final Node v$el$3 = yyResult.semanticValue();
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$3, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$3);
               continue;
             }
             break;
           }
           { // Start scope for v$g$3.
-            final Pair<Node> v$g$3 = yyRepValue1.reverse();
+            final int v$g$3 = yyRepStart1;
+            final int v$g$3$end = yyRepEnd1;
 
-            yyValue = GNode.create("CompilationUnit", v$g$2.size() + v$g$3.size() + 1).
-              add(v$g$1).addAll(v$g$2).addAll(v$g$3);
-            yyValue.setLocation(location(yyStart));
+            yyValue = GNode.create("CompilationUnit", (v$g$2$end - v$g$2) + (v$g$3$end - v$g$3) + 1).
+              add(v$g$1);
+            addBuffered(yyValue, v$g$2, v$g$2$end);
+            addBuffered(yyValue, v$g$3, v$g$3$end);
+            locate(yyValue, yyStart);
 
             return new SemanticValue(yyValue, yyRepetition1, yyError);
           } // End scope for v$g$3.
@@ -329,7 +434,7 @@ public final class JavaFiveReader extends ParserBase {
             final Node v$g$2 = Formatting.after1(v$pt$4, v$pt$3);
 
             yyValue = GNode.create("PackageDeclaration", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
@@ -414,7 +519,7 @@ public final class JavaFiveReader extends ParserBase {
               final Node v$g$3 = Formatting.after1(v$pt$4, v$pt$3);
 
               yyValue = GNode.create("ImportDeclaration", v$g$1, v$g$2, v$g$3);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             } else {
@@ -481,10 +586,15 @@ public final class JavaFiveReader extends ParserBase {
    */
   private Result pModifiers(final int yyStart) throws IOException {
     JavaFiveReaderColumn yyColumn = (JavaFiveReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fModifiers) 
-      yyColumn.chunk1.fModifiers = pModifiers$1(yyStart);
-    return yyColumn.chunk1.fModifiers;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fModifiers) {
+      yyColumn.chunk3.fModifiers = pModifiers$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(0, yyColumn.chunk3.fModifiers);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(0, yyColumn.chunk3.fModifiers);
+    }
+    return yyColumn.chunk3.fModifiers;
   }
 
   /** Actually parse xtc.lang.JavaFive.Modifiers. */
@@ -501,7 +611,7 @@ public final class JavaFiveReader extends ParserBase {
       final Pair<Node> v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.createFromPair("Modifiers", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -582,7 +692,7 @@ public final class JavaFiveReader extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.create("Modifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -595,7 +705,7 @@ public final class JavaFiveReader extends ParserBase {
       final Node v$g$2 = yyResult.semanticValue();
 
       yyValue = GNode.create("Modifier", v$g$2);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -608,7 +718,7 @@ public final class JavaFiveReader extends ParserBase {
       final Node v$g$3 = yyResult.semanticValue();
 
       yyValue = GNode.create("Modifier", v$g$3);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -621,7 +731,7 @@ public final class JavaFiveReader extends ParserBase {
       final Node v$g$4 = yyResult.semanticValue();
 
       yyValue = GNode.create("Modifier", v$g$4);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -634,7 +744,7 @@ public final class JavaFiveReader extends ParserBase {
       final Node v$g$5 = yyResult.semanticValue();
 
       yyValue = GNode.create("Modifier", v$g$5);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -647,7 +757,7 @@ public final class JavaFiveReader extends ParserBase {
       final Node v$g$6 = yyResult.semanticValue();
 
       yyValue = GNode.create("Modifier", v$g$6);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -660,7 +770,7 @@ public final class JavaFiveReader extends ParserBase {
       final Node v$g$7 = yyResult.semanticValue();
 
       yyValue = GNode.create("Modifier", v$g$7);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -673,7 +783,7 @@ public final class JavaFiveReader extends ParserBase {
       final Node v$g$8 = yyResult.semanticValue();
 
       yyValue = GNode.create("Modifier", v$g$8);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -686,7 +796,7 @@ public final class JavaFiveReader extends ParserBase {
       final Node v$g$9 = yyResult.semanticValue();
 
       yyValue = GNode.create("Modifier", v$g$9);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -699,7 +809,7 @@ public final class JavaFiveReader extends ParserBase {
       final Node v$g$10 = yyResult.semanticValue();
 
       yyValue = GNode.create("Modifier", v$g$10);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -712,7 +822,7 @@ public final class JavaFiveReader extends ParserBase {
       final Node v$g$11 = yyResult.semanticValue();
 
       yyValue = GNode.create("Modifier", v$g$11);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -788,7 +898,7 @@ public final class JavaFiveReader extends ParserBase {
               final Node v$g$5 = yyOpValue1;
 
               yyValue = GNode.create("FormalParameter", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return new SemanticValue(yyValue, yyOption1, yyError);
             } // End scope for v$g$5.
@@ -813,14 +923,16 @@ public final class JavaFiveReader extends ParserBase {
   private Result pVariableModifiers(final int yyStart) throws IOException {
     Result     yyResult;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
     // Alternative <Modifiers>.
 
     yyRepetition1 = yyStart;
-    yyRepValue1   = Pair.empty();
+    yyRepStart1   = bufferStart();
+    yyRepEnd1   = yyRepStart1;
     while (true) {
 
       yyResult = pVariableModifier(yyRepetition1);
@@ -829,16 +941,17 @@ public final class JavaFiveReader extends ParserBase {
         final Node v$el$1 = yyResult.semanticValue();
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+        yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
         continue;
       }
       break;
     }
     { // Start scope for v$g$1.
-      final Pair<Node> v$g$1 = yyRepValue1.reverse();
+      final int v$g$1 = yyRepStart1;
+      final int v$g$1$end = yyRepEnd1;
 
-      yyValue = GNode.createFromPair("Modifiers", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      yyValue = bufferedNode("Modifiers", v$g$1, v$g$1$end);
+      locate(yyValue, yyStart);
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
     } // End scope for v$g$1.
@@ -866,7 +979,7 @@ public final class JavaFiveReader extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.create("Modifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -887,10 +1000,15 @@ public final class JavaFiveReader extends ParserBase {
    */
   private Result pFormalParameters(final int yyStart) throws IOException {
     JavaFiveReaderColumn yyColumn = (JavaFiveReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fFormalParameters) 
-      yyColumn.chunk1.fFormalParameters = pFormalParameters$1(yyStart);
-    return yyColumn.chunk1.fFormalParameters;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fFormalParameters) {
+      yyColumn.chunk3.fFormalParameters = pFormalParameters$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(1, yyColumn.chunk3.fFormalParameters);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(1, yyColumn.chunk3.fFormalParameters);
+    }
+    return yyColumn.chunk3.fFormalParameters;
   }
 
   /** Actually parse xtc.lang.JavaFive.FormalParameters. */
@@ -900,47 +1018,85 @@ public final class JavaFiveReader extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '@':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pFormalParameters$$Split1(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final Node v$pt$1 = yyResult.semanticValue();
+      yyResult = pFormalParameters$$Split1(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final Node v$pt$1 = yyResult.semanticValue();
 
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue() &&
-          ((Node)yyResult.semanticValue()).getTokenText().equals(")")) {
-        final Node v$pt$2 = yyResult.semanticValue();
-        yyValue = Formatting.after1(v$pt$1, v$pt$2);
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue() &&
+            ((Node)yyResult.semanticValue()).getTokenText().equals(")")) {
+          final Node v$pt$2 = yyResult.semanticValue();
+          yyValue = Formatting.after1(v$pt$1, v$pt$2);
 
-        return yyResult.createValue(yyValue, yyError);
-      } else {
-        yyError = yyError.select("')' expected", yyBase);
+          return yyResult.createValue(yyValue, yyError);
+        } else {
+          yyError = yyError.select("')' expected", yyBase);
+        }
       }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("(")) {
-      final Node v$pt$3 = yyResult.semanticValue();
-
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
+      yyResult = pSymbol(yyStart);
       if (yyResult.hasValue() &&
-          ((Node)yyResult.semanticValue()).getTokenText().equals(")")) {
-        final Node v$pt$4 = yyResult.semanticValue();
+          ((Node)yyResult.semanticValue()).getTokenText().equals("(")) {
+        final Node v$pt$3 = yyResult.semanticValue();
 
-        yyValue = GNode.create("FormalParameters", false);
-        yyValue.setLocation(location(yyStart));
-        yyValue = Formatting.variable().addNode(yyValue).
-          add(v$pt$3).add(v$pt$4);
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue() &&
+            ((Node)yyResult.semanticValue()).getTokenText().equals(")")) {
+          final Node v$pt$4 = yyResult.semanticValue();
 
-        return yyResult.createValue(yyValue, yyError);
-      } else {
-        yyError = yyError.select("')' expected", yyBase);
+          yyValue = GNode.create("FormalParameters", false);
+          locate(yyValue, yyStart);
+          yyValue = Formatting.variable().addNode(yyValue).
+            add(v$pt$3).add(v$pt$4);
+
+          return yyResult.createValue(yyValue, yyError);
+        } else {
+          yyError = yyError.select("')' expected", yyBase);
+        }
       }
     }
 
@@ -964,7 +1120,8 @@ public final class JavaFiveReader extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -982,7 +1139,8 @@ public final class JavaFiveReader extends ParserBase {
         final Node v$g$1 = Formatting.before1(v$pt$3, v$pt$4);
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyBase   = yyRepetition1;
@@ -998,7 +1156,7 @@ public final class JavaFiveReader extends ParserBase {
               final Node v$el$1 = Formatting.before1(v$pt$1, v$pt$2);
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
           } else {
@@ -1007,10 +1165,11 @@ public final class JavaFiveReader extends ParserBase {
           break;
         }
         { // Start scope for v$g$2.
-          final Pair<Node> v$g$2 = yyRepValue1.reverse();
+          final int v$g$2 = yyRepStart1;
+          final int v$g$2$end = yyRepEnd1;
 
-          yyValue = GNode.createFromPair("FormalParameters", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          yyValue = bufferedNode("FormalParameters", v$g$1, v$g$2, v$g$2$end);
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
         } // End scope for v$g$2.
@@ -1084,7 +1243,7 @@ public final class JavaFiveReader extends ParserBase {
           final Node v$g$3 = yyOpValue1;
 
           yyValue = GNode.create("Declarator", v$g$1, v$g$2, v$g$3);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyOption1, yyError);
         } // End scope for v$g$3.
@@ -1106,10 +1265,15 @@ public final class JavaFiveReader extends ParserBase {
    */
   private Result pDeclarators(final int yyStart) throws IOException {
     JavaFiveReaderColumn yyColumn = (JavaFiveReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fDeclarators) 
-      yyColumn.chunk1.fDeclarators = pDeclarators$1(yyStart);
-    return yyColumn.chunk1.fDeclarators;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fDeclarators) {
+      yyColumn.chunk3.fDeclarators = pDeclarators$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(2, yyColumn.chunk3.fDeclarators);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(2, yyColumn.chunk3.fDeclarators);
+    }
+    return yyColumn.chunk3.fDeclarators;
   }
 
   /** Actually parse xtc.lang.JavaFive.Declarators. */
@@ -1131,7 +1295,7 @@ public final class JavaFiveReader extends ParserBase {
         final Pair<Node> v$g$2 = yyResult.semanticValue();
 
         yyValue = GNode.createFromPair("Declarators", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -1152,10 +1316,15 @@ public final class JavaFiveReader extends ParserBase {
    */
   private Result pDeclarators$$Star1(final int yyStart) throws IOException {
     JavaFiveReaderColumn yyColumn = (JavaFiveReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fDeclarators$$Star1) 
-      yyColumn.chunk1.fDeclarators$$Star1 = pDeclarators$$Star1$1(yyStart);
-    return yyColumn.chunk1.fDeclarators$$Star1;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fDeclarators$$Star1) {
+      yyColumn.chunk3.fDeclarators$$Star1 = pDeclarators$$Star1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(3, yyColumn.chunk3.fDeclarators$$Star1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(3, yyColumn.chunk3.fDeclarators$$Star1);
+    }
+    return yyColumn.chunk3.fDeclarators$$Star1;
   }
 
   /** Actually parse xtc.lang.JavaFive.Declarators$$Star1. */
@@ -1254,14 +1423,16 @@ public final class JavaFiveReader extends ParserBase {
   private Result pClassBody$$Split1(final int yyStart) throws IOException {
     Result     yyResult;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
     // Alternative <Body>.
 
     yyRepetition1 = yyStart;
-    yyRepValue1   = Pair.empty();
+    yyRepStart1   = bufferStart();
+    yyRepEnd1   = yyRepStart1;
     while (true) {
 
       yyResult = pDeclaration(yyRepetition1);
@@ -1270,16 +1441,17 @@ public final class JavaFiveReader extends ParserBase {
         final Node v$el$1 = yyResult.semanticValue();
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+        yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
         continue;
       }
       break;
     }
     { // Start scope for v$g$1.
-      final Pair<Node> v$g$1 = yyRepValue1.reverse();
+      final int v$g$1 = yyRepStart1;
+      final int v$g$1$end = yyRepEnd1;
 
-      yyValue = GNode.createFromPair("ClassBody", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      yyValue = bufferedNode("ClassBody", v$g$1, v$g$1$end);
+      locate(yyValue, yyStart);
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
     } // End scope for v$g$1.
@@ -1331,7 +1503,7 @@ public final class JavaFiveReader extends ParserBase {
             final Node v$g$3 = Formatting.after1(v$pt$2, v$pt$1);
 
             yyValue = GNode.create("FieldDeclaration", v$g$1, v$g$2, v$g$3);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
@@ -1412,7 +1584,7 @@ public final class JavaFiveReader extends ParserBase {
                     final Node v$g$8 = yyResult.semanticValue();
 
                     yyValue = GNode.create("MethodDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6, v$g$7, v$g$8);
-                    yyValue.setLocation(location(yyStart));
+                    locate(yyValue, yyStart);
 
                     return yyResult.createValue(yyValue, yyError);
                   }
@@ -1427,7 +1599,7 @@ public final class JavaFiveReader extends ParserBase {
                     final Node v$g$9 = Formatting.after1(null, v$pt$1);
 
                     yyValue = GNode.create("MethodDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6, v$g$7, v$g$9);
-                    yyValue.setLocation(location(yyStart));
+                    locate(yyValue, yyStart);
 
                     return yyResult.createValue(yyValue, yyError);
                   } else {
@@ -1471,7 +1643,7 @@ public final class JavaFiveReader extends ParserBase {
                 final Node v$g$6 = yyResult.semanticValue();
 
                 yyValue = GNode.create("ConstructorDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6);
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return yyResult.createValue(yyValue, yyError);
               }
@@ -1550,7 +1722,7 @@ public final class JavaFiveReader extends ParserBase {
                   final Node v$g$6 = yyResult.semanticValue();
 
                   yyValue = GNode.create("ClassDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6);
-                  yyValue.setLocation(location(yyStart));
+                  locate(yyValue, yyStart);
 
                   return yyResult.createValue(yyValue, yyError);
                 }
@@ -1609,7 +1781,7 @@ public final class JavaFiveReader extends ParserBase {
                 final Node v$g$5 = yyResult.semanticValue();
 
                 yyValue = GNode.create("InterfaceDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return yyResult.createValue(yyValue, yyError);
               }
@@ -1653,7 +1825,7 @@ public final class JavaFiveReader extends ParserBase {
               final Node v$g$3 = yyResult.semanticValue();
 
               yyValue = GNode.create("AnnotationDeclaration", v$g$1, v$g$2, v$g$3);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -1758,7 +1930,7 @@ public final class JavaFiveReader extends ParserBase {
                       final Node v$g$5 = Formatting.after1(v$pt$8, v$pt$7);
 
                       yyValue = GNode.create("EnumDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
-                      yyValue.setLocation(location(yyStart));
+                      locate(yyValue, yyStart);
 
                       return yyResult.createValue(yyValue, yyError);
                     } else {
@@ -1802,7 +1974,7 @@ public final class JavaFiveReader extends ParserBase {
         final Node v$g$2 = yyResult.semanticValue();
 
         yyValue = GNode.create("BlockDeclaration", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -1816,7 +1988,7 @@ public final class JavaFiveReader extends ParserBase {
       final Node v$pt$1 = yyResult.semanticValue();
 
       yyValue = GNode.create("EmptyDeclaration", false);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
       yyValue = Formatting.after1(yyValue, v$pt$1);
 
       return yyResult.createValue(yyValue, yyError);
@@ -1840,7 +2012,8 @@ public final class JavaFiveReader extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -1858,7 +2031,8 @@ public final class JavaFiveReader extends ParserBase {
         final Node v$g$1 = Formatting.before1(v$pt$3, v$pt$4);
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyBase   = yyRepetition1;
@@ -1874,7 +2048,7 @@ public final class JavaFiveReader extends ParserBase {
               final Node v$el$1 = Formatting.before1(v$pt$1, v$pt$2);
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
           } else {
@@ -1883,10 +2057,11 @@ public final class JavaFiveReader extends ParserBase {
           break;
         }
         { // Start scope for v$g$2.
-          final Pair<Node> v$g$2 = yyRepValue1.reverse();
+          final int v$g$2 = yyRepStart1;
+          final int v$g$2$end = yyRepEnd1;
 
-          yyValue = GNode.createFromPair("ThrowsClause", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          yyValue = bufferedNode("ThrowsClause", v$g$1, v$g$2, v$g$2$end);
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
         } // End scope for v$g$2.
@@ -1911,7 +2086,8 @@ public final class JavaFiveReader extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -1929,7 +2105,8 @@ public final class JavaFiveReader extends ParserBase {
         final Node v$g$1 = Formatting.before1(v$pt$3, v$pt$4);
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyBase   = yyRepetition1;
@@ -1945,7 +2122,7 @@ public final class JavaFiveReader extends ParserBase {
               final Node v$el$1 = Formatting.before1(v$pt$1, v$pt$2);
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
           } else {
@@ -1954,10 +2131,11 @@ public final class JavaFiveReader extends ParserBase {
           break;
         }
         { // Start scope for v$g$2.
-          final Pair<Node> v$g$2 = yyRepValue1.reverse();
+          final int v$g$2 = yyRepStart1;
+          final int v$g$2$end = yyRepEnd1;
 
-          yyValue = GNode.createFromPair("Extension", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          yyValue = bufferedNode("Extension", v$g$1, v$g$2, v$g$2$end);
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
         } // End scope for v$g$2.
@@ -1980,10 +2158,15 @@ public final class JavaFiveReader extends ParserBase {
    */
   private Result pImplementation(final int yyStart) throws IOException {
     JavaFiveReaderColumn yyColumn = (JavaFiveReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fImplementation) 
-      yyColumn.chunk1.fImplementation = pImplementation$1(yyStart);
-    return yyColumn.chunk1.fImplementation;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fImplementation) {
+      yyColumn.chunk3.fImplementation = pImplementation$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(4, yyColumn.chunk3.fImplementation);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(4, yyColumn.chunk3.fImplementation);
+    }
+    return yyColumn.chunk3.fImplementation;
   }
 
   /** Actually parse xtc.lang.JavaFive.Implementation. */
@@ -2011,7 +2194,7 @@ public final class JavaFiveReader extends ParserBase {
           final Pair<Node> v$g$2 = yyResult.semanticValue();
 
           yyValue = GNode.createFromPair("Implementation", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -2036,10 +2219,16 @@ public final class JavaFiveReader extends ParserBase {
     throws IOException {
 
     JavaFiveReaderColumn yyColumn = (JavaFiveReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fImplementation$$Star1) 
-      yyColumn.chunk1.fImplementation$$Star1 = pImplementation$$Star1$1(yyStart);
-    return yyColumn.chunk1.fImplementation$$Star1;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fImplementation$$Star1) {
+      yyColumn.chunk3.fImplementation$$Star1 = 
+        pImplementation$$Star1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(5, yyColumn.chunk3.fImplementation$$Star1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(5, yyColumn.chunk3.fImplementation$$Star1);
+    }
+    return yyColumn.chunk3.fImplementation$$Star1;
   }
 
   /** Actually parse xtc.lang.JavaFive.Implementation$$Star1. */
@@ -2093,10 +2282,14 @@ public final class JavaFiveReader extends ParserBase {
    */
   private Result pBlock(final int yyStart) throws IOException {
     JavaFiveReaderColumn yyColumn = (JavaFiveReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fBlock) 
-      yyColumn.chunk1.fBlock = pBlock$1(yyStart);
-    return yyColumn.chunk1.fBlock;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fBlock) {
+      yyColumn.chunk3.fBlock = pBlock$1(yyStart);
+      if (null != yyStatistics) yyStatistics.miss(6, yyColumn.chunk3.fBlock);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(6, yyColumn.chunk3.fBlock);
+    }
+    return yyColumn.chunk3.fBlock;
   }
 
   /** Actually parse xtc.lang.JavaFive.Block. */
@@ -2149,14 +2342,16 @@ public final class JavaFiveReader extends ParserBase {
   private Result pBlock$$Split1(final int yyStart) throws IOException {
     Result     yyResult;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
     // Alternative <Block>.
 
     yyRepetition1 = yyStart;
-    yyRepValue1   = Pair.empty();
+    yyRepStart1   = bufferStart();
+    yyRepEnd1   = yyRepStart1;
     while (true) {
 
       yyResult = pDeclarationOrStatement(yyRepetition1);
@@ -2165,16 +2360,17 @@ public final class JavaFiveReader extends ParserBase {
         final Node v$el$1 = yyResult.semanticValue();
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+        yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
         continue;
       }
       break;
     }
     { // Start scope for v$g$1.
-      final Pair<Node> v$g$1 = yyRepValue1.reverse();
+      final int v$g$1 = yyRepStart1;
+      final int v$g$1$end = yyRepEnd1;
 
-      yyValue = GNode.createFromPair("Block", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      yyValue = bufferedNode("Block", v$g$1, v$g$1$end);
+      locate(yyValue, yyStart);
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
     } // End scope for v$g$1.
@@ -2316,7 +2512,7 @@ public final class JavaFiveReader extends ParserBase {
                   final Node v$g$6 = yyResult.semanticValue();
 
                   yyValue = GNode.create("ClassDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6);
-                  yyValue.setLocation(location(yyStart));
+                  locate(yyValue, yyStart);
 
                   return yyResult.createValue(yyValue, yyError);
                 }
@@ -2375,7 +2571,7 @@ public final class JavaFiveReader extends ParserBase {
                 final Node v$g$5 = yyResult.semanticValue();
 
                 yyValue = GNode.create("InterfaceDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return yyResult.createValue(yyValue, yyError);
               }
@@ -2431,7 +2627,7 @@ public final class JavaFiveReader extends ParserBase {
             final Node v$g$3 = Formatting.after1(v$pt$2, v$pt$1);
 
             yyValue = GNode.create("FieldDeclaration", v$g$1, v$g$2, v$g$3);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
@@ -2459,20 +2655,57 @@ public final class JavaFiveReader extends ParserBase {
     int        yyBase;
     int        yyRepetition1;
     boolean    yyRepeated1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     int        yyOption1;
     Node       yyOpValue1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '@':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Block>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pBlock(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pBlock(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 2.
@@ -2510,7 +2743,7 @@ public final class JavaFiveReader extends ParserBase {
               final Node v$g$3 = Formatting.before1(v$pt$3, v$pt$4);
 
               yyValue = GNode.create("ConditionalStatement", v$g$1, v$g$2, v$g$3);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -2521,7 +2754,7 @@ public final class JavaFiveReader extends ParserBase {
           // Nested alternative 2.
 
           yyValue = GNode.create("ConditionalStatement", v$g$1, v$g$2, null);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyChoice1, yyError);
         }
@@ -2560,7 +2793,7 @@ public final class JavaFiveReader extends ParserBase {
               final Node v$g$2 = yyResult.semanticValue();
 
               yyValue = GNode.create("ForStatement", v$g$1, v$g$2);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -2592,7 +2825,7 @@ public final class JavaFiveReader extends ParserBase {
           final Node v$g$2 = yyResult.semanticValue();
 
           yyValue = GNode.create("WhileStatement", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -2631,7 +2864,7 @@ public final class JavaFiveReader extends ParserBase {
               final Node v$g$2 = Formatting.after1(v$pt$5, v$pt$4);
 
               yyValue = GNode.create("DoWhileStatement", v$g$1, v$g$2);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             } else {
@@ -2662,7 +2895,8 @@ public final class JavaFiveReader extends ParserBase {
         // Nested alternative 1.
 
         yyRepetition1 = yyChoice1;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyResult = pCatchClause(yyRepetition1);
@@ -2671,13 +2905,14 @@ public final class JavaFiveReader extends ParserBase {
             final Node v$el$1 = yyResult.semanticValue();
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
           break;
         }
         { // Start scope for v$g$3.
-          final Pair<Node> v$g$3 = yyRepValue1.reverse();
+          final int v$g$3 = yyRepStart1;
+          final int v$g$3$end = yyRepEnd1;
 
           yyBase   = yyRepetition1;
           yyResult = pWord(yyBase);
@@ -2691,22 +2926,26 @@ public final class JavaFiveReader extends ParserBase {
               final Node v$pt$4 = yyResult.semanticValue();
               final Node v$g$4 = Formatting.before1(v$pt$3, v$pt$4);
 
-              yyValue = GNode.create("TryCatchFinallyStatement", v$g$3.size() + 3).
-                add(v$g$1).add(v$g$2).addAll(v$g$3).add(v$g$4);
-              yyValue.setLocation(location(yyStart));
+              yyValue = GNode.create("TryCatchFinallyStatement", (v$g$3$end - v$g$3) + 3).
+                add(v$g$1).add(v$g$2);
+              addBuffered(yyValue, v$g$3, v$g$3$end);
+              yyValue.add(v$g$4);
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
           } else {
             yyError = yyError.select("'finally' expected", yyBase);
           }
+          releaseBuffer(v$g$3);
         } // End scope for v$g$3.
 
         // Nested alternative 2.
 
         yyRepetition1 = yyChoice1;
         yyRepeated1   = false;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyResult = pCatchClause(yyRepetition1);
@@ -2716,18 +2955,21 @@ public final class JavaFiveReader extends ParserBase {
 
             yyRepetition1 = yyResult.index;
             yyRepeated1   = true;
-            yyRepValue1   = new Pair<Node>(v$el$2, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$2);
             continue;
           }
           break;
         }
 
         if (yyRepeated1) {
-          final Pair<Node> v$g$5 = yyRepValue1.reverse();
+          final int v$g$5 = yyRepStart1;
+          final int v$g$5$end = yyRepEnd1;
 
-          yyValue = GNode.create("TryCatchFinallyStatement", v$g$5.size() + 3).
-            add(v$g$1).add(v$g$2).addAll(v$g$5).add(null);
-          yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("TryCatchFinallyStatement", (v$g$5$end - v$g$5) + 3).
+            add(v$g$1).add(v$g$2);
+          addBuffered(yyValue, v$g$5, v$g$5$end);
+          yyValue.add(null);
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
         }
@@ -2773,7 +3015,7 @@ public final class JavaFiveReader extends ParserBase {
           final Node v$g$2 = yyResult.semanticValue();
 
           yyValue = GNode.create("SynchronizedStatement", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -2809,7 +3051,7 @@ public final class JavaFiveReader extends ParserBase {
           final Node v$g$1 = Formatting.round1(v$pt$1, v$pt$3, v$pt$2);
 
           yyValue = GNode.create("ReturnStatement", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
@@ -2838,7 +3080,7 @@ public final class JavaFiveReader extends ParserBase {
           final Node v$g$1 = Formatting.round1(v$pt$1, v$pt$3, v$pt$2);
 
           yyValue = GNode.create("ThrowStatement", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
@@ -2876,7 +3118,7 @@ public final class JavaFiveReader extends ParserBase {
           final Node v$g$1 = Formatting.round1(v$pt$1, v$pt$3, v$pt$2);
 
           yyValue = GNode.create("BreakStatement", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
@@ -2914,7 +3156,7 @@ public final class JavaFiveReader extends ParserBase {
           final Node v$g$1 = Formatting.round1(v$pt$1, v$pt$3, v$pt$2);
 
           yyValue = GNode.create("ContinueStatement", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
@@ -2943,7 +3185,7 @@ public final class JavaFiveReader extends ParserBase {
           final Node v$g$2 = yyResult.semanticValue();
 
           yyValue = GNode.create("LabeledStatement", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -2967,7 +3209,7 @@ public final class JavaFiveReader extends ParserBase {
         final Node v$g$1 = Formatting.after1(v$pt$2, v$pt$1);
 
         yyValue = GNode.create("ExpressionStatement", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       } else {
@@ -3020,7 +3262,7 @@ public final class JavaFiveReader extends ParserBase {
             final Node v$g$2 = Formatting.after1(v$pt$6, v$pt$5);
 
             yyValue = GNode.create("AssertStatement", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
@@ -3031,17 +3273,19 @@ public final class JavaFiveReader extends ParserBase {
     }
 
     // Alternative 16.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals(";")) {
-      final Node v$pt$1 = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals(";")) {
+        final Node v$pt$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("EmptyStatement", false);
-      yyValue.setLocation(location(yyStart));
-      yyValue = Formatting.after1(yyValue, v$pt$1);
+        yyValue = GNode.create("EmptyStatement", false);
+        locate(yyValue, yyStart);
+        yyValue = Formatting.after1(yyValue, v$pt$1);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -3100,7 +3344,7 @@ public final class JavaFiveReader extends ParserBase {
               final Node v$g$4 = yyResult.semanticValue();
 
               yyValue = GNode.create("EnhancedForControl", v$g$1, v$g$2, v$g$3, v$g$4);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -3159,7 +3403,7 @@ public final class JavaFiveReader extends ParserBase {
                   final Node v$g$5 = yyOpValue1;
 
                   yyValue = GNode.create("BasicForControl", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
-                  yyValue.setLocation(location(yyStart));
+                  locate(yyValue, yyStart);
 
                   return new SemanticValue(yyValue, yyOption1, yyError);
                 } // End scope for v$g$5.
@@ -3233,7 +3477,7 @@ public final class JavaFiveReader extends ParserBase {
               final Node v$g$10 = yyOpValue1;
 
               yyValue = GNode.create("BasicForControl", null, null, v$g$8, v$g$9, v$g$10);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return new SemanticValue(yyValue, yyOption1, yyError);
             } // End scope for v$g$10.
@@ -3261,10 +3505,15 @@ public final class JavaFiveReader extends ParserBase {
    */
   private Result pParExpression(final int yyStart) throws IOException {
     JavaFiveReaderColumn yyColumn = (JavaFiveReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fParExpression) 
-      yyColumn.chunk1.fParExpression = pParExpression$1(yyStart);
-    return yyColumn.chunk1.fParExpression;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fParExpression) {
+      yyColumn.chunk3.fParExpression = pParExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(7, yyColumn.chunk3.fParExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(7, yyColumn.chunk3.fParExpression);
+    }
+    return yyColumn.chunk3.fParExpression;
   }
 
   /** Actually parse xtc.lang.JavaFive.ParExpression. */
@@ -3316,10 +3565,15 @@ public final class JavaFiveReader extends ParserBase {
    */
   private Result pCatchClause(final int yyStart) throws IOException {
     JavaFiveReaderColumn yyColumn = (JavaFiveReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fCatchClause) 
-      yyColumn.chunk1.fCatchClause = pCatchClause$1(yyStart);
-    return yyColumn.chunk1.fCatchClause;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fCatchClause) {
+      yyColumn.chunk3.fCatchClause = pCatchClause$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(8, yyColumn.chunk3.fCatchClause);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(8, yyColumn.chunk3.fCatchClause);
+    }
+    return yyColumn.chunk3.fCatchClause;
   }
 
   /** Actually parse xtc.lang.JavaFive.CatchClause. */
@@ -3361,7 +3615,7 @@ public final class JavaFiveReader extends ParserBase {
               final Node v$g$2 = yyResult.semanticValue();
 
               yyValue = GNode.create("CatchClause", v$g$1, v$g$2);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -3394,7 +3648,8 @@ public final class JavaFiveReader extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -3418,7 +3673,8 @@ public final class JavaFiveReader extends ParserBase {
           final Node v$g$1 = Formatting.round1(v$pt$1, v$pt$3, v$pt$2);
 
           yyRepetition1 = yyResult.index;
-          yyRepValue1   = Pair.empty();
+          yyRepStart1   = bufferStart();
+          yyRepEnd1   = yyRepStart1;
           while (true) {
 
             yyResult = pSwitchClause(yyRepetition1);
@@ -3427,16 +3683,17 @@ public final class JavaFiveReader extends ParserBase {
               final Node v$el$1 = yyResult.semanticValue();
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
             break;
           }
           { // Start scope for v$g$2.
-            final Pair<Node> v$g$2 = yyRepValue1.reverse();
+            final int v$g$2 = yyRepStart1;
+            final int v$g$2$end = yyRepEnd1;
 
-            yyValue = GNode.createFromPair("SwitchStatement", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
+            yyValue = bufferedNode("SwitchStatement", v$g$1, v$g$2, v$g$2$end);
+            locate(yyValue, yyStart);
 
             return new SemanticValue(yyValue, yyRepetition1, yyError);
           } // End scope for v$g$2.
@@ -3464,7 +3721,8 @@ public final class JavaFiveReader extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -3488,7 +3746,8 @@ public final class JavaFiveReader extends ParserBase {
           final Node v$g$1 = Formatting.round1(v$pt$1, v$pt$3, v$pt$2);
 
           yyRepetition1 = yyResult.index;
-          yyRepValue1   = Pair.empty();
+          yyRepStart1   = bufferStart();
+          yyRepEnd1   = yyRepStart1;
           while (true) {
 
             yyResult = pDeclarationOrStatement(yyRepetition1);
@@ -3497,16 +3756,17 @@ public final class JavaFiveReader extends ParserBase {
               final Node v$el$1 = yyResult.semanticValue();
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
             break;
           }
           { // Start scope for v$g$2.
-            final Pair<Node> v$g$2 = yyRepValue1.reverse();
+            final int v$g$2 = yyRepStart1;
+            final int v$g$2$end = yyRepEnd1;
 
-            yyValue = GNode.createFromPair("CaseClause", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
+            yyValue = bufferedNode("CaseClause", v$g$1, v$g$2, v$g$2$end);
+            locate(yyValue, yyStart);
 
             return new SemanticValue(yyValue, yyRepetition1, yyError);
           } // End scope for v$g$2.
@@ -3562,14 +3822,16 @@ public final class JavaFiveReader extends ParserBase {
 
     Result     yyResult;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
     // Alternative 1.
 
     yyRepetition1 = yyStart;
-    yyRepValue1   = Pair.empty();
+    yyRepStart1   = bufferStart();
+    yyRepEnd1   = yyRepStart1;
     while (true) {
 
       yyResult = pDeclarationOrStatement(yyRepetition1);
@@ -3578,16 +3840,17 @@ public final class JavaFiveReader extends ParserBase {
         final Node v$el$1 = yyResult.semanticValue();
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+        yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
         continue;
       }
       break;
     }
     { // Start scope for v$g$1.
-      final Pair<Node> v$g$1 = yyRepValue1.reverse();
+      final int v$g$1 = yyRepStart1;
+      final int v$g$1$end = yyRepEnd1;
 
-      yyValue = GNode.createFromPair("DefaultClause", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      yyValue = bufferedNode("DefaultClause", v$g$1, v$g$1$end);
+      locate(yyValue, yyStart);
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
     } // End scope for v$g$1.
@@ -3606,7 +3869,8 @@ public final class JavaFiveReader extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -3618,7 +3882,8 @@ public final class JavaFiveReader extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyBase   = yyRepetition1;
@@ -3634,7 +3899,7 @@ public final class JavaFiveReader extends ParserBase {
             final Node v$el$1 = Formatting.before1(v$pt$1, v$pt$2);
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
         } else {
@@ -3643,10 +3908,11 @@ public final class JavaFiveReader extends ParserBase {
         break;
       }
       { // Start scope for v$g$2.
-        final Pair<Node> v$g$2 = yyRepValue1.reverse();
+        final int v$g$2 = yyRepStart1;
+        final int v$g$2$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("ExpressionList", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("ExpressionList", v$g$1, v$g$2, v$g$2$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$2.
@@ -3667,10 +3933,15 @@ public final class JavaFiveReader extends ParserBase {
    */
   private Result pExpression(final int yyStart) throws IOException {
     JavaFiveReaderColumn yyColumn = (JavaFiveReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fExpression) 
-      yyColumn.chunk1.fExpression = pExpression$1(yyStart);
-    return yyColumn.chunk1.fExpression;
+    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
+    if (null == yyColumn.chunk2.fExpression) {
+      yyColumn.chunk2.fExpression = pExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(9, yyColumn.chunk2.fExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(9, yyColumn.chunk2.fExpression);
+    }
+    return yyColumn.chunk2.fExpression;
   }
 
   /** Actually parse xtc.lang.JavaFive.Expression. */
@@ -3697,7 +3968,7 @@ public final class JavaFiveReader extends ParserBase {
           final Node v$g$3 = yyResult.semanticValue();
 
           yyValue = GNode.create("Expression", v$g$1, v$g$2, v$g$3);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -3732,124 +4003,182 @@ public final class JavaFiveReader extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '@':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0xfff;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Equal>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("=")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("=")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <PlusEqual>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("+=")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("+=")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <MinusEqual>.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("-=")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("-=")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <StarEqual>.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("*=")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("*=")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <SlashEqual>.
+    if (0 != (yyFirst & 0x10)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("/=")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("/=")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <AmpersandEqual>.
+    if (0 != (yyFirst & 0x20)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("&=")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("&=")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <BarEqual>.
+    if (0 != (yyFirst & 0x40)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("|=")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("|=")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <CaretEqual>.
+    if (0 != (yyFirst & 0x80)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("^=")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("^=")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <PercentEqual>.
+    if (0 != (yyFirst & 0x100)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("%=")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("%=")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <DoubleLessEqual>.
+    if (0 != (yyFirst & 0x200)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("<<=")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("<<=")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <DoubleGreaterEqual>.
+    if (0 != (yyFirst & 0x400)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals(">>=")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals(">>=")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <TripleGreaterEqual>.
+    if (0 != (yyFirst & 0x800)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals(">>>=")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals(">>>=")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -3871,8 +4200,14 @@ public final class JavaFiveReader extends ParserBase {
 
     JavaFiveReaderColumn yyColumn = (JavaFiveReaderColumn)column(yyStart);
     if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fConditionalExpression) 
-      yyColumn.chunk2.fConditionalExpression = pConditionalExpression$1(yyStart);
+    if (null == yyColumn.chunk2.fConditionalExpression) {
+      yyColumn.chunk2.fConditionalExpression = 
+        pConditionalExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(10, yyColumn.chunk2.fConditionalExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(10, yyColumn.chunk2.fConditionalExpression);
+    }
     return yyColumn.chunk2.fConditionalExpression;
   }
 
@@ -3917,7 +4252,7 @@ public final class JavaFiveReader extends ParserBase {
               final Node v$g$3 = yyResult.semanticValue();
 
               yyValue = GNode.create("ConditionalExpression", v$g$1, v$g$2, v$g$3);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -3956,8 +4291,13 @@ public final class JavaFiveReader extends ParserBase {
   private Result pLogicalOrExpression(final int yyStart) throws IOException {
     JavaFiveReaderColumn yyColumn = (JavaFiveReaderColumn)column(yyStart);
     if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fLogicalOrExpression) 
+    if (null == yyColumn.chunk2.fLogicalOrExpression) {
       yyColumn.chunk2.fLogicalOrExpression = pLogicalOrExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(11, yyColumn.chunk2.fLogicalOrExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(11, yyColumn.chunk2.fLogicalOrExpression);
+    }
     return yyColumn.chunk2.fLogicalOrExpression;
   }
 
@@ -4534,24 +4874,62 @@ public final class JavaFiveReader extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '@':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Equal>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("==")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("==")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <NotEqual>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("!=")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("!=")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -4594,7 +4972,7 @@ public final class JavaFiveReader extends ParserBase {
           final Node v$g$2 = yyResult.semanticValue();
 
           yyValue = GNode.create("InstanceOfExpression", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -4629,8 +5007,14 @@ public final class JavaFiveReader extends ParserBase {
   private Result pRelationalExpression(final int yyStart) throws IOException {
     JavaFiveReaderColumn yyColumn = (JavaFiveReaderColumn)column(yyStart);
     if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fRelationalExpression) 
-      yyColumn.chunk2.fRelationalExpression = pRelationalExpression$1(yyStart);
+    if (null == yyColumn.chunk2.fRelationalExpression) {
+      yyColumn.chunk2.fRelationalExpression = 
+        pRelationalExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(12, yyColumn.chunk2.fRelationalExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(12, yyColumn.chunk2.fRelationalExpression);
+    }
     return yyColumn.chunk2.fRelationalExpression;
   }
 
@@ -4735,44 +5119,86 @@ public final class JavaFiveReader extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '@':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0xf;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Less>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("<")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("<")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Greater>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals(">")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals(">")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <LessEqual>.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("<=")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("<=")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <GreaterEqual>.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals(">=")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals(">=")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -4886,34 +5312,74 @@ public final class JavaFiveReader extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '@':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x7;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Left>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("<<")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("<<")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Right>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals(">>")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals(">>")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <UnsignedRight>.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals(">>>")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals(">>>")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -5027,24 +5493,62 @@ public final class JavaFiveReader extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '@':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Plus>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("+")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("+")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Minus>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("-")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("-")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -5163,34 +5667,74 @@ public final class JavaFiveReader extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '@':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x7;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Times>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("*")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("*")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Over>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("/")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("/")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Modulo>.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("%")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("%")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -5212,79 +5756,121 @@ public final class JavaFiveReader extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '@':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0xf;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Plus>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("+")) {
-      final Node v$g$1 = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("+")) {
+        final Node v$g$1 = yyResult.semanticValue();
 
-      yyResult = pUnaryExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$2 = yyResult.semanticValue();
+        yyResult = pUnaryExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryExpression", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("UnaryExpression", v$g$1, v$g$2);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative <Minus>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("-")) {
-      final Node v$g$3 = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("-")) {
+        final Node v$g$3 = yyResult.semanticValue();
 
-      yyResult = pUnaryExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$4 = yyResult.semanticValue();
+        yyResult = pUnaryExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$4 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryExpression", v$g$3, v$g$4);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("UnaryExpression", v$g$3, v$g$4);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative <Increment>.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("++")) {
-      final Node v$g$5 = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("++")) {
+        final Node v$g$5 = yyResult.semanticValue();
 
-      yyResult = pUnaryExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$6 = yyResult.semanticValue();
+        yyResult = pUnaryExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$6 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryExpression", v$g$5, v$g$6);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("UnaryExpression", v$g$5, v$g$6);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative <Decrement>.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("--")) {
-      final Node v$g$7 = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("--")) {
+        final Node v$g$7 = yyResult.semanticValue();
 
-      yyResult = pUnaryExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$8 = yyResult.semanticValue();
+        yyResult = pUnaryExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$8 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryExpression", v$g$7, v$g$8);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("UnaryExpression", v$g$7, v$g$8);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
@@ -5322,126 +5908,166 @@ public final class JavaFiveReader extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '@':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x7;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("~")) {
-      final Node v$pt$1 = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("~")) {
+        final Node v$pt$1 = yyResult.semanticValue();
 
-      yyResult = pUnaryExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$pt$2 = yyResult.semanticValue();
-        final Node v$g$1 = Formatting.before1(v$pt$1, v$pt$2);
+        yyResult = pUnaryExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$pt$2 = yyResult.semanticValue();
+          final Node v$g$1 = Formatting.before1(v$pt$1, v$pt$2);
 
-        yyValue = GNode.create("BitwiseNegationExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("BitwiseNegationExpression", v$g$1);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("!")) {
-      final Node v$pt$1 = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("!")) {
+        final Node v$pt$1 = yyResult.semanticValue();
 
-      yyResult = pUnaryExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$pt$2 = yyResult.semanticValue();
-        final Node v$g$1 = Formatting.before1(v$pt$1, v$pt$2);
+        yyResult = pUnaryExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$pt$2 = yyResult.semanticValue();
+          final Node v$g$1 = Formatting.before1(v$pt$1, v$pt$2);
 
-        yyValue = GNode.create("LogicalNegationExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("LogicalNegationExpression", v$g$1);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("(")) {
-      final Node v$pt$1 = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("(")) {
+        final Node v$pt$1 = yyResult.semanticValue();
 
-      final int yyChoice1 = yyResult.index;
+        final int yyChoice1 = yyResult.index;
 
-      // Nested alternative 1.
-
-      yyResult = pPrimitiveType(yyChoice1);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$pt$2 = yyResult.semanticValue();
-        final Node v$g$1 = Formatting.before1(v$pt$1, v$pt$2);
-
-        yyOption1  = yyResult.index;
-        yyOpValue1 = null;
+        // Nested alternative 1.
 
-        yyResult = pDimensions(yyOption1);
-        yyError  = yyResult.select(yyError, yyOption1);
+        yyResult = pPrimitiveType(yyChoice1);
+        yyError  = yyResult.select(yyError);
         if (yyResult.hasValue()) {
-          final Node v$el$1 = yyResult.semanticValue();
+          final Node v$pt$2 = yyResult.semanticValue();
+          final Node v$g$1 = Formatting.before1(v$pt$1, v$pt$2);
 
           yyOption1  = yyResult.index;
-          yyOpValue1 = v$el$1;
+          yyOpValue1 = null;
+
+          yyResult = pDimensions(yyOption1);
+          yyError  = yyResult.select(yyError, yyOption1);
+          if (yyResult.hasValue()) {
+            final Node v$el$1 = yyResult.semanticValue();
+
+            yyOption1  = yyResult.index;
+            yyOpValue1 = v$el$1;
+          }
+          { // Start scope for v$pt$4.
+            final Node v$pt$4 = yyOpValue1;
+
+            yyBase   = yyOption1;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue() &&
+                ((Node)yyResult.semanticValue()).getTokenText().equals(")")) {
+              final Node v$pt$3 = yyResult.semanticValue();
+              final Node v$g$2 = Formatting.after1(v$pt$4, v$pt$3);
+
+              yyResult = pUnaryExpression(yyResult.index);
+              yyError  = yyResult.select(yyError);
+              if (yyResult.hasValue()) {
+                final Node v$g$3 = yyResult.semanticValue();
+
+                yyValue = GNode.create("BasicCastExpression", v$g$1, v$g$2, v$g$3);
+                locate(yyValue, yyStart);
+
+                return yyResult.createValue(yyValue, yyError);
+              }
+            } else {
+              yyError = yyError.select("')' expected", yyBase);
+            }
+          } // End scope for v$pt$4.
         }
-        { // Start scope for v$pt$4.
-          final Node v$pt$4 = yyOpValue1;
 
-          yyBase   = yyOption1;
+        // Nested alternative 2.
+
+        yyResult = pType(yyChoice1);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$pt$3 = yyResult.semanticValue();
+
+          yyBase   = yyResult.index;
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue() &&
               ((Node)yyResult.semanticValue()).getTokenText().equals(")")) {
-            final Node v$pt$3 = yyResult.semanticValue();
-            final Node v$g$2 = Formatting.after1(v$pt$4, v$pt$3);
+            final Node v$pt$2 = yyResult.semanticValue();
+            final Node v$g$1 = Formatting.round1(v$pt$1, v$pt$3, v$pt$2);
 
-            yyResult = pUnaryExpression(yyResult.index);
+            yyResult = pUnaryExpressionNotPlusMinus(yyResult.index);
             yyError  = yyResult.select(yyError);
             if (yyResult.hasValue()) {
-              final Node v$g$3 = yyResult.semanticValue();
+              final Node v$g$2 = yyResult.semanticValue();
 
-              yyValue = GNode.create("BasicCastExpression", v$g$1, v$g$2, v$g$3);
-              yyValue.setLocation(location(yyStart));
+              yyValue = GNode.create("CastExpression", v$g$1, v$g$2);
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
           } else {
             yyError = yyError.select("')' expected", yyBase);
           }
-        } // End scope for v$pt$4.
-      }
-
-      // Nested alternative 2.
-
-      yyResult = pType(yyChoice1);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$pt$3 = yyResult.semanticValue();
-
-        yyBase   = yyResult.index;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue() &&
-            ((Node)yyResult.semanticValue()).getTokenText().equals(")")) {
-          final Node v$pt$2 = yyResult.semanticValue();
-          final Node v$g$1 = Formatting.round1(v$pt$1, v$pt$3, v$pt$2);
-
-          yyResult = pUnaryExpressionNotPlusMinus(yyResult.index);
-          yyError  = yyResult.select(yyError);
-          if (yyResult.hasValue()) {
-            final Node v$g$2 = yyResult.semanticValue();
-
-            yyValue = GNode.create("CastExpression", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
-
-            return yyResult.createValue(yyValue, yyError);
-          }
-        } else {
-          yyError = yyError.select("')' expected", yyBase);
         }
       }
     }
@@ -5531,241 +6157,285 @@ public final class JavaFiveReader extends ParserBase {
     Action<Node> yyValue;
     ParseError   yyError = ParseError.DUMMY;
 
-    // Alternative 1.
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '@':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x1f;
+      break;
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals(".")) {
-      final Node v$pt$1 = yyResult.semanticValue();
+    default:
+      yyFirst = 0;
+    }
 
-      final int yyChoice1 = yyResult.index;
+    // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-      // Nested alternative 1.
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals(".")) {
+        final Node v$pt$1 = yyResult.semanticValue();
 
-      yyOption1  = yyChoice1;
-      yyOpValue1 = null;
+        final int yyChoice1 = yyResult.index;
 
-      yyResult = pTypeArguments(yyOption1);
-      yyError  = yyResult.select(yyError, yyOption1);
-      if (yyResult.hasValue()) {
-        final Node v$el$1 = yyResult.semanticValue();
+        // Nested alternative 1.
 
-        yyOption1  = yyResult.index;
-        yyOpValue1 = v$el$1;
-      }
-      { // Start scope for v$pt$2.
-        final Node v$pt$2 = yyOpValue1;
-        final Node v$g$2 = Formatting.before1(v$pt$1, v$pt$2);
+        yyOption1  = yyChoice1;
+        yyOpValue1 = null;
 
-        yyResult = pIdentifier(yyOption1);
-        yyError  = yyResult.select(yyError);
+        yyResult = pTypeArguments(yyOption1);
+        yyError  = yyResult.select(yyError, yyOption1);
         if (yyResult.hasValue()) {
-          final Node v$g$3 = yyResult.semanticValue();
+          final Node v$el$1 = yyResult.semanticValue();
+
+          yyOption1  = yyResult.index;
+          yyOpValue1 = v$el$1;
+        }
+        { // Start scope for v$pt$2.
+          final Node v$pt$2 = yyOpValue1;
+          final Node v$g$2 = Formatting.before1(v$pt$1, v$pt$2);
+
+          yyResult = pIdentifier(yyOption1);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Node v$g$3 = yyResult.semanticValue();
+
+            yyResult = pArguments(yyResult.index);
+            yyError  = yyResult.select(yyError);
+            if (yyResult.hasValue()) {
+              final Node v$g$4 = yyResult.semanticValue();
+
+              yyValue = new Action<Node>() {
+                public Node run(Node v$1) {
+                  return GNode.create("CallExpression", v$1, v$g$2, v$g$3, v$g$4);
+                }};
+
+              return yyResult.createValue(yyValue, yyError);
+            }
+          }
+        } // End scope for v$pt$2.
+
+        // Nested alternative 2.
+        final Node v$g$5 = Formatting.before1(v$pt$1, null);
+
+        yyBase   = yyChoice1;
+        yyResult = pWord(yyBase);
+        if (yyResult.hasValue() &&
+            ((Node)yyResult.semanticValue()).getTokenText().equals("super")) {
+          final Node v$g$6 = yyResult.semanticValue();
 
           yyResult = pArguments(yyResult.index);
           yyError  = yyResult.select(yyError);
           if (yyResult.hasValue()) {
-            final Node v$g$4 = yyResult.semanticValue();
+            final Node v$g$7 = yyResult.semanticValue();
 
             yyValue = new Action<Node>() {
               public Node run(Node v$1) {
-                return GNode.create("CallExpression", v$1, v$g$2, v$g$3, v$g$4);
+                return GNode.create("CallExpression", v$1, v$g$5, v$g$6, v$g$7);
               }};
 
             return yyResult.createValue(yyValue, yyError);
           }
+        } else {
+          yyError = yyError.select("'super' expected", yyBase);
         }
-      } // End scope for v$pt$2.
-
-      // Nested alternative 2.
-      final Node v$g$5 = Formatting.before1(v$pt$1, null);
 
-      yyBase   = yyChoice1;
-      yyResult = pWord(yyBase);
-      if (yyResult.hasValue() &&
-          ((Node)yyResult.semanticValue()).getTokenText().equals("super")) {
-        final Node v$g$6 = yyResult.semanticValue();
+        // Nested alternative 3.
 
-        yyResult = pArguments(yyResult.index);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$g$7 = yyResult.semanticValue();
+        yyBase   = yyChoice1;
+        yyResult = pWord(yyBase);
+        if (yyResult.hasValue() &&
+            ((Node)yyResult.semanticValue()).getTokenText().equals("super")) {
+          final Node v$pt$4 = yyResult.semanticValue();
 
           yyValue = new Action<Node>() {
             public Node run(Node v$1) {
-              return GNode.create("CallExpression", v$1, v$g$5, v$g$6, v$g$7);
+              Node yyValue = GNode.create("SuperExpression", v$1);
+              yyValue = Formatting.variable().addNode(yyValue).
+                add(v$pt$1).add(v$pt$4);
+              return yyValue;
             }};
 
           return yyResult.createValue(yyValue, yyError);
+        } else {
+          yyError = yyError.select("'super' expected", yyBase);
         }
-      } else {
-        yyError = yyError.select("'super' expected", yyBase);
-      }
-
-      // Nested alternative 3.
 
-      yyBase   = yyChoice1;
-      yyResult = pWord(yyBase);
-      if (yyResult.hasValue() &&
-          ((Node)yyResult.semanticValue()).getTokenText().equals("super")) {
-        final Node v$pt$4 = yyResult.semanticValue();
+        // Nested alternative 4.
 
-        yyValue = new Action<Node>() {
-          public Node run(Node v$1) {
-            Node yyValue = GNode.create("SuperExpression", v$1);
-            yyValue = Formatting.variable().addNode(yyValue).
-              add(v$pt$1).add(v$pt$4);
-            return yyValue;
-          }};
-
-        return yyResult.createValue(yyValue, yyError);
-      } else {
-        yyError = yyError.select("'super' expected", yyBase);
-      }
-
-      // Nested alternative 4.
-
-      yyResult = pIdentifier(yyChoice1);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$pt$5 = yyResult.semanticValue();
-        final Node v$g$8 = Formatting.before1(v$pt$1, v$pt$5);
+        yyResult = pIdentifier(yyChoice1);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$pt$5 = yyResult.semanticValue();
+          final Node v$g$8 = Formatting.before1(v$pt$1, v$pt$5);
 
-        yyValue = new Action<Node>() {
-          public Node run(Node v$1) {
-            return GNode.create("SelectionExpression", v$1, v$g$8);
-          }};
+          yyValue = new Action<Node>() {
+            public Node run(Node v$1) {
+              return GNode.create("SelectionExpression", v$1, v$g$8);
+            }};
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("[")) {
-      final Node v$pt$6 = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("[")) {
+        final Node v$pt$6 = yyResult.semanticValue();
 
-      yyResult = pExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$pt$8 = yyResult.semanticValue();
+        yyResult = pExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$pt$8 = yyResult.semanticValue();
 
-        yyBase   = yyResult.index;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue() &&
-            ((Node)yyResult.semanticValue()).getTokenText().equals("]")) {
-          final Node v$pt$7 = yyResult.semanticValue();
-          final Node v$g$9 = Formatting.round1(v$pt$6, v$pt$8, v$pt$7);
+          yyBase   = yyResult.index;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue() &&
+              ((Node)yyResult.semanticValue()).getTokenText().equals("]")) {
+            final Node v$pt$7 = yyResult.semanticValue();
+            final Node v$g$9 = Formatting.round1(v$pt$6, v$pt$8, v$pt$7);
 
-          yyValue = new Action<Node>() {
-            public Node run(Node v$1) {
-              return GNode.create("SubscriptExpression", v$1, v$g$9);
-            }};
+            yyValue = new Action<Node>() {
+              public Node run(Node v$1) {
+                return GNode.create("SubscriptExpression", v$1, v$g$9);
+              }};
 
-          return yyResult.createValue(yyValue, yyError);
-        } else {
-          yyError = yyError.select("']' expected", yyBase);
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("']' expected", yyBase);
+          }
         }
       }
     }
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("++")) {
-      final Node v$g$10 = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("++")) {
+        final Node v$g$10 = yyResult.semanticValue();
 
-      yyValue = new Action<Node>() {
-        public Node run(Node v$1) {
-          return GNode.create("PostfixExpression", v$1, v$g$10);
-        }};
+        yyValue = new Action<Node>() {
+          public Node run(Node v$1) {
+            return GNode.create("PostfixExpression", v$1, v$g$10);
+          }};
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 4.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("--")) {
-      final Node v$g$11 = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("--")) {
+        final Node v$g$11 = yyResult.semanticValue();
 
-      yyValue = new Action<Node>() {
-        public Node run(Node v$1) {
-          return GNode.create("PostfixExpression", v$1, v$g$11);
-        }};
+        yyValue = new Action<Node>() {
+          public Node run(Node v$1) {
+            return GNode.create("PostfixExpression", v$1, v$g$11);
+          }};
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 5.
+    if (0 != (yyFirst & 0x10)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals(".")) {
-      final Node v$pt$9 = yyResult.semanticValue();
-
-      yyBase   = yyResult.index;
-      yyResult = pWord(yyBase);
+      yyResult = pSymbol(yyStart);
       if (yyResult.hasValue() &&
-          ((Node)yyResult.semanticValue()).getTokenText().equals("new")) {
-        final Node v$pt$10 = yyResult.semanticValue();
-
-        yyOption1  = yyResult.index;
-        yyOpValue1 = null;
+          ((Node)yyResult.semanticValue()).getTokenText().equals(".")) {
+        final Node v$pt$9 = yyResult.semanticValue();
 
-        yyResult = pTypeArguments(yyOption1);
-        yyError  = yyResult.select(yyError, yyOption1);
-        if (yyResult.hasValue()) {
-          final Node v$el$2 = yyResult.semanticValue();
+        yyBase   = yyResult.index;
+        yyResult = pWord(yyBase);
+        if (yyResult.hasValue() &&
+            ((Node)yyResult.semanticValue()).getTokenText().equals("new")) {
+          final Node v$pt$10 = yyResult.semanticValue();
 
           yyOption1  = yyResult.index;
-          yyOpValue1 = v$el$2;
-        }
-        { // Start scope for v$pt$11.
-          final Node v$pt$11 = yyOpValue1;
-          final Node v$g$12 = Formatting.variable().
-            add(v$pt$9).add(v$pt$10).addNode(v$pt$11);
+          yyOpValue1 = null;
 
-          yyResult = pTypeName(yyOption1);
-          yyError  = yyResult.select(yyError);
+          yyResult = pTypeArguments(yyOption1);
+          yyError  = yyResult.select(yyError, yyOption1);
           if (yyResult.hasValue()) {
-            final Node v$g$13 = yyResult.semanticValue();
+            final Node v$el$2 = yyResult.semanticValue();
 
-            yyResult = pArguments(yyResult.index);
+            yyOption1  = yyResult.index;
+            yyOpValue1 = v$el$2;
+          }
+          { // Start scope for v$pt$11.
+            final Node v$pt$11 = yyOpValue1;
+            final Node v$g$12 = Formatting.variable().
+              add(v$pt$9).add(v$pt$10).addNode(v$pt$11);
+
+            yyResult = pTypeName(yyOption1);
             yyError  = yyResult.select(yyError);
             if (yyResult.hasValue()) {
-              final Node v$g$14 = yyResult.semanticValue();
-
-              yyOption1  = yyResult.index;
-              yyOpValue1 = null;
+              final Node v$g$13 = yyResult.semanticValue();
 
-              yyResult = pClassBody(yyOption1);
-              yyError  = yyResult.select(yyError, yyOption1);
+              yyResult = pArguments(yyResult.index);
+              yyError  = yyResult.select(yyError);
               if (yyResult.hasValue()) {
-                final Node v$el$3 = yyResult.semanticValue();
+                final Node v$g$14 = yyResult.semanticValue();
 
                 yyOption1  = yyResult.index;
-                yyOpValue1 = v$el$3;
-              }
-              { // Start scope for v$g$15.
-                final Node v$g$15 = yyOpValue1;
+                yyOpValue1 = null;
+
+                yyResult = pClassBody(yyOption1);
+                yyError  = yyResult.select(yyError, yyOption1);
+                if (yyResult.hasValue()) {
+                  final Node v$el$3 = yyResult.semanticValue();
+
+                  yyOption1  = yyResult.index;
+                  yyOpValue1 = v$el$3;
+                }
+                { // Start scope for v$g$15.
+                  final Node v$g$15 = yyOpValue1;
 
-                yyValue = new Action<Node>() {
-                  public Node run(Node v$1) {
-                    return GNode.create("NewClassExpression", v$1, v$g$12, v$g$13, v$g$14, v$g$15);
-                  }};
+                  yyValue = new Action<Node>() {
+                    public Node run(Node v$1) {
+                      return GNode.create("NewClassExpression", v$1, v$g$12, v$g$13, v$g$14, v$g$15);
+                    }};
 
-                return new SemanticValue(yyValue, yyOption1, yyError);
-              } // End scope for v$g$15.
+                  return new SemanticValue(yyValue, yyOption1, yyError);
+                } // End scope for v$g$15.
+              }
             }
-          }
-        } // End scope for v$pt$11.
-      } else {
-        yyError = yyError.select("'new' expected", yyBase);
+          } // End scope for v$pt$11.
+        } else {
+          yyError = yyError.select("'new' expected", yyBase);
+        }
       }
     }
 
@@ -5828,7 +6498,7 @@ public final class JavaFiveReader extends ParserBase {
           final Node v$g$4 = yyResult.semanticValue();
 
           yyValue = GNode.create("CallExpression", null, v$g$2, v$g$3, v$g$4);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -5857,7 +6527,7 @@ public final class JavaFiveReader extends ParserBase {
             addNode(v$pt$3).add(v$pt$1).add(v$pt$2);
 
           yyValue = GNode.create("ClassLiteralExpression", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
@@ -5881,7 +6551,7 @@ public final class JavaFiveReader extends ParserBase {
         final Node v$g$4 = yyResult.semanticValue();
 
         yyValue = GNode.create("CallExpression", null, null, v$g$3, v$g$4);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -5921,7 +6591,7 @@ public final class JavaFiveReader extends ParserBase {
         final Node v$g$1 = Formatting.after1(v$pt$4, v$pt$3);
 
         yyValue = GNode.create("ThisExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       } else {
@@ -5942,7 +6612,7 @@ public final class JavaFiveReader extends ParserBase {
         final Node v$g$4 = yyResult.semanticValue();
 
         yyValue = GNode.create("CallExpression", null, null, v$g$3, v$g$4);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -5957,7 +6627,7 @@ public final class JavaFiveReader extends ParserBase {
       final Node v$g$1 = Formatting.after1(null, v$pt$1);
 
       yyValue = GNode.create("SuperExpression", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -5970,7 +6640,7 @@ public final class JavaFiveReader extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.create("PrimaryIdentifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -6022,7 +6692,7 @@ public final class JavaFiveReader extends ParserBase {
               final Node v$g$5 = yyOpValue1;
 
               yyValue = GNode.create("NewClassExpression", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return new SemanticValue(yyValue, yyOption1, yyError);
             } // End scope for v$g$5.
@@ -6068,7 +6738,7 @@ public final class JavaFiveReader extends ParserBase {
             final Node v$g$3 = yyOpValue1;
 
             yyValue = GNode.create("NewArrayExpression", v$g$1, v$g$2, v$g$3, null);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return new SemanticValue(yyValue, yyOption1, yyError);
           } // End scope for v$g$3.
@@ -6096,7 +6766,7 @@ public final class JavaFiveReader extends ParserBase {
             final Node v$g$7 = yyResult.semanticValue();
 
             yyValue = GNode.create("NewArrayExpression", v$g$1, null, v$g$6, v$g$7);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           }
@@ -6148,7 +6818,8 @@ public final class JavaFiveReader extends ParserBase {
     Result     yyResult;
     int        yyRepetition1;
     boolean    yyRepeated1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -6156,7 +6827,8 @@ public final class JavaFiveReader extends ParserBase {
 
     yyRepetition1 = yyStart;
     yyRepeated1   = false;
-    yyRepValue1   = Pair.empty();
+    yyRepStart1   = bufferStart();
+    yyRepEnd1   = yyRepStart1;
     while (true) {
 
       yyResult = pConcreteDimension(yyRepetition1);
@@ -6166,17 +6838,18 @@ public final class JavaFiveReader extends ParserBase {
 
         yyRepetition1 = yyResult.index;
         yyRepeated1   = true;
-        yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+        yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
         continue;
       }
       break;
     }
 
     if (yyRepeated1) {
-      final Pair<Node> v$g$1 = yyRepValue1.reverse();
+      final int v$g$1 = yyRepStart1;
+      final int v$g$1$end = yyRepEnd1;
 
-      yyValue = GNode.createFromPair("ConcreteDimensions", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      yyValue = bufferedNode("ConcreteDimensions", v$g$1, v$g$1$end);
+      locate(yyValue, yyStart);
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
     }
@@ -6248,85 +6921,123 @@ public final class JavaFiveReader extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
-    // Alternative 1.
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '@':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
 
-    yyResult = pArrayInitializer$$Split1(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final Node v$pt$1 = yyResult.semanticValue();
+    default:
+      yyFirst = 0;
+    }
 
-      yyOption1  = yyResult.index;
-      yyOpValue1 = null;
+    // Alternative 1.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-      yyBase   = yyOption1;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue() &&
-          ((Node)yyResult.semanticValue()).getTokenText().equals(",")) {
-        final Node v$el$1 = yyResult.semanticValue();
+      yyResult = pArrayInitializer$$Split1(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final Node v$pt$1 = yyResult.semanticValue();
 
         yyOption1  = yyResult.index;
-        yyOpValue1 = v$el$1;
-      } else {
-        yyError = yyError.select("',' expected", yyBase);
-      }
-      { // Start scope for v$pt$2.
-        final Node v$pt$2 = yyOpValue1;
+        yyOpValue1 = null;
 
         yyBase   = yyOption1;
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue() &&
-            ((Node)yyResult.semanticValue()).getTokenText().equals("}")) {
-          final Node v$pt$3 = yyResult.semanticValue();
-          yyValue = Formatting.variable().
-            addNode(v$pt$1).add(v$pt$2).add(v$pt$3);
+            ((Node)yyResult.semanticValue()).getTokenText().equals(",")) {
+          final Node v$el$1 = yyResult.semanticValue();
 
-          return yyResult.createValue(yyValue, yyError);
+          yyOption1  = yyResult.index;
+          yyOpValue1 = v$el$1;
         } else {
-          yyError = yyError.select("'}' expected", yyBase);
+          yyError = yyError.select("',' expected", yyBase);
         }
-      } // End scope for v$pt$2.
-    }
+        { // Start scope for v$pt$2.
+          final Node v$pt$2 = yyOpValue1;
 
-    // Alternative 2.
+          yyBase   = yyOption1;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue() &&
+              ((Node)yyResult.semanticValue()).getTokenText().equals("}")) {
+            final Node v$pt$3 = yyResult.semanticValue();
+            yyValue = Formatting.variable().
+              addNode(v$pt$1).add(v$pt$2).add(v$pt$3);
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("{")) {
-      final Node v$pt$4 = yyResult.semanticValue();
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("'}' expected", yyBase);
+          }
+        } // End scope for v$pt$2.
+      }
+    }
 
-      yyOption1  = yyResult.index;
-      yyOpValue1 = null;
+    // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-      yyBase   = yyOption1;
-      yyResult = pSymbol(yyBase);
+      yyResult = pSymbol(yyStart);
       if (yyResult.hasValue() &&
-          ((Node)yyResult.semanticValue()).getTokenText().equals(",")) {
-        final Node v$el$2 = yyResult.semanticValue();
+          ((Node)yyResult.semanticValue()).getTokenText().equals("{")) {
+        final Node v$pt$4 = yyResult.semanticValue();
 
         yyOption1  = yyResult.index;
-        yyOpValue1 = v$el$2;
-      } else {
-        yyError = yyError.select("',' expected", yyBase);
-      }
-      { // Start scope for v$pt$5.
-        final Node v$pt$5 = yyOpValue1;
+        yyOpValue1 = null;
 
         yyBase   = yyOption1;
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue() &&
-            ((Node)yyResult.semanticValue()).getTokenText().equals("}")) {
-          final Node v$pt$6 = yyResult.semanticValue();
-
-          yyValue = GNode.create("ArrayInitializer", false);
-          yyValue.setLocation(location(yyStart));
-          yyValue = Formatting.variable().addNode(yyValue).
-            add(v$pt$4).add(v$pt$5).add(v$pt$6);
+            ((Node)yyResult.semanticValue()).getTokenText().equals(",")) {
+          final Node v$el$2 = yyResult.semanticValue();
 
-          return yyResult.createValue(yyValue, yyError);
+          yyOption1  = yyResult.index;
+          yyOpValue1 = v$el$2;
         } else {
-          yyError = yyError.select("'}' expected", yyBase);
+          yyError = yyError.select("',' expected", yyBase);
         }
-      } // End scope for v$pt$5.
+        { // Start scope for v$pt$5.
+          final Node v$pt$5 = yyOpValue1;
+
+          yyBase   = yyOption1;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue() &&
+              ((Node)yyResult.semanticValue()).getTokenText().equals("}")) {
+            final Node v$pt$6 = yyResult.semanticValue();
+
+            yyValue = GNode.create("ArrayInitializer", false);
+            locate(yyValue, yyStart);
+            yyValue = Formatting.variable().addNode(yyValue).
+              add(v$pt$4).add(v$pt$5).add(v$pt$6);
+
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("'}' expected", yyBase);
+          }
+        } // End scope for v$pt$5.
+      }
     }
 
     // Done.
@@ -6349,7 +7060,8 @@ public final class JavaFiveReader extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -6367,7 +7079,8 @@ public final class JavaFiveReader extends ParserBase {
         final Node v$g$1 = Formatting.before1(v$pt$3, v$pt$4);
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyBase   = yyRepetition1;
@@ -6383,7 +7096,7 @@ public final class JavaFiveReader extends ParserBase {
               final Node v$el$1 = Formatting.before1(v$pt$1, v$pt$2);
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
           } else {
@@ -6392,10 +7105,11 @@ public final class JavaFiveReader extends ParserBase {
           break;
         }
         { // Start scope for v$g$2.
-          final Pair<Node> v$g$2 = yyRepValue1.reverse();
+          final int v$g$2 = yyRepStart1;
+          final int v$g$2$end = yyRepEnd1;
 
-          yyValue = GNode.createFromPair("ArrayInitializer", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          yyValue = bufferedNode("ArrayInitializer", v$g$1, v$g$2, v$g$2$end);
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
         } // End scope for v$g$2.
@@ -6419,8 +7133,13 @@ public final class JavaFiveReader extends ParserBase {
   private Result pVariableInitializer(final int yyStart) throws IOException {
     JavaFiveReaderColumn yyColumn = (JavaFiveReaderColumn)column(yyStart);
     if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fVariableInitializer) 
+    if (null == yyColumn.chunk2.fVariableInitializer) {
       yyColumn.chunk2.fVariableInitializer = pVariableInitializer$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(13, yyColumn.chunk2.fVariableInitializer);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(13, yyColumn.chunk2.fVariableInitializer);
+    }
     return yyColumn.chunk2.fVariableInitializer;
   }
 
@@ -6471,47 +7190,85 @@ public final class JavaFiveReader extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '@':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pArguments$$Split1(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final Node v$pt$1 = yyResult.semanticValue();
+      yyResult = pArguments$$Split1(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final Node v$pt$1 = yyResult.semanticValue();
 
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue() &&
-          ((Node)yyResult.semanticValue()).getTokenText().equals(")")) {
-        final Node v$pt$2 = yyResult.semanticValue();
-        yyValue = Formatting.after1(v$pt$1, v$pt$2);
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue() &&
+            ((Node)yyResult.semanticValue()).getTokenText().equals(")")) {
+          final Node v$pt$2 = yyResult.semanticValue();
+          yyValue = Formatting.after1(v$pt$1, v$pt$2);
 
-        return yyResult.createValue(yyValue, yyError);
-      } else {
-        yyError = yyError.select("')' expected", yyBase);
+          return yyResult.createValue(yyValue, yyError);
+        } else {
+          yyError = yyError.select("')' expected", yyBase);
+        }
       }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("(")) {
-      final Node v$pt$3 = yyResult.semanticValue();
-
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
+      yyResult = pSymbol(yyStart);
       if (yyResult.hasValue() &&
-          ((Node)yyResult.semanticValue()).getTokenText().equals(")")) {
-        final Node v$pt$4 = yyResult.semanticValue();
+          ((Node)yyResult.semanticValue()).getTokenText().equals("(")) {
+        final Node v$pt$3 = yyResult.semanticValue();
+
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue() &&
+            ((Node)yyResult.semanticValue()).getTokenText().equals(")")) {
+          final Node v$pt$4 = yyResult.semanticValue();
 
-        yyValue = GNode.create("Arguments", false);
-        yyValue.setLocation(location(yyStart));
-        yyValue = Formatting.variable().addNode(yyValue).
-          add(v$pt$3).add(v$pt$4);
+          yyValue = GNode.create("Arguments", false);
+          locate(yyValue, yyStart);
+          yyValue = Formatting.variable().addNode(yyValue).
+            add(v$pt$3).add(v$pt$4);
 
-        return yyResult.createValue(yyValue, yyError);
-      } else {
-        yyError = yyError.select("')' expected", yyBase);
+          return yyResult.createValue(yyValue, yyError);
+        } else {
+          yyError = yyError.select("')' expected", yyBase);
+        }
       }
     }
 
@@ -6533,7 +7290,8 @@ public final class JavaFiveReader extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -6551,7 +7309,8 @@ public final class JavaFiveReader extends ParserBase {
         final Node v$g$1 = Formatting.before1(v$pt$3, v$pt$4);
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyBase   = yyRepetition1;
@@ -6567,7 +7326,7 @@ public final class JavaFiveReader extends ParserBase {
               final Node v$el$1 = Formatting.before1(v$pt$1, v$pt$2);
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
           } else {
@@ -6576,10 +7335,11 @@ public final class JavaFiveReader extends ParserBase {
           break;
         }
         { // Start scope for v$g$2.
-          final Pair<Node> v$g$2 = yyRepValue1.reverse();
+          final int v$g$2 = yyRepStart1;
+          final int v$g$2$end = yyRepEnd1;
 
-          yyValue = GNode.createFromPair("Arguments", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          yyValue = bufferedNode("Arguments", v$g$1, v$g$2, v$g$2$end);
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
         } // End scope for v$g$2.
@@ -6641,8 +7401,13 @@ public final class JavaFiveReader extends ParserBase {
   private Result pAnnotations(final int yyStart) throws IOException {
     JavaFiveReaderColumn yyColumn = (JavaFiveReaderColumn)column(yyStart);
     if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fAnnotations) 
+    if (null == yyColumn.chunk2.fAnnotations) {
       yyColumn.chunk2.fAnnotations = pAnnotations$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(14, yyColumn.chunk2.fAnnotations);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(14, yyColumn.chunk2.fAnnotations);
+    }
     return yyColumn.chunk2.fAnnotations;
   }
 
@@ -6660,7 +7425,7 @@ public final class JavaFiveReader extends ParserBase {
       final Pair<Node> v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.createFromPair("Annotations", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -6681,8 +7446,13 @@ public final class JavaFiveReader extends ParserBase {
   private Result pAnnotations$$Plus1(final int yyStart) throws IOException {
     JavaFiveReaderColumn yyColumn = (JavaFiveReaderColumn)column(yyStart);
     if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fAnnotations$$Plus1) 
+    if (null == yyColumn.chunk2.fAnnotations$$Plus1) {
       yyColumn.chunk2.fAnnotations$$Plus1 = pAnnotations$$Plus1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(15, yyColumn.chunk2.fAnnotations$$Plus1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(15, yyColumn.chunk2.fAnnotations$$Plus1);
+    }
     return yyColumn.chunk2.fAnnotations$$Plus1;
   }
 
@@ -6757,7 +7527,7 @@ public final class JavaFiveReader extends ParserBase {
           final Node v$g$2 = yyResult.semanticValue();
 
           yyValue = GNode.create("Annotation", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -6866,7 +7636,8 @@ public final class JavaFiveReader extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -6878,7 +7649,8 @@ public final class JavaFiveReader extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyBase   = yyRepetition1;
@@ -6894,7 +7666,7 @@ public final class JavaFiveReader extends ParserBase {
             final Node v$el$1 = Formatting.before1(v$pt$1, v$pt$2);
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
         } else {
@@ -6903,10 +7675,11 @@ public final class JavaFiveReader extends ParserBase {
         break;
       }
       { // Start scope for v$g$2.
-        final Pair<Node> v$g$2 = yyRepValue1.reverse();
+        final int v$g$2 = yyRepStart1;
+        final int v$g$2$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("ElementValuePairs", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("ElementValuePairs", v$g$1, v$g$2, v$g$2$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$2.
@@ -6927,10 +7700,15 @@ public final class JavaFiveReader extends ParserBase {
    */
   private Result pElementValuePair(final int yyStart) throws IOException {
     JavaFiveReaderColumn yyColumn = (JavaFiveReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fElementValuePair) 
-      yyColumn.chunk2.fElementValuePair = pElementValuePair$1(yyStart);
-    return yyColumn.chunk2.fElementValuePair;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fElementValuePair) {
+      yyColumn.chunk3.fElementValuePair = pElementValuePair$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(16, yyColumn.chunk3.fElementValuePair);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(16, yyColumn.chunk3.fElementValuePair);
+    }
+    return yyColumn.chunk3.fElementValuePair;
   }
 
   /** Actually parse xtc.lang.JavaFive.ElementValuePair. */
@@ -6960,7 +7738,7 @@ public final class JavaFiveReader extends ParserBase {
           final Node v$g$2 = yyResult.semanticValue();
 
           yyValue = GNode.create("ElementValuePair", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -6985,8 +7763,13 @@ public final class JavaFiveReader extends ParserBase {
   private Result pElementValue(final int yyStart) throws IOException {
     JavaFiveReaderColumn yyColumn = (JavaFiveReaderColumn)column(yyStart);
     if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fElementValue) 
+    if (null == yyColumn.chunk2.fElementValue) {
       yyColumn.chunk2.fElementValue = pElementValue$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(17, yyColumn.chunk2.fElementValue);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(17, yyColumn.chunk2.fElementValue);
+    }
     return yyColumn.chunk2.fElementValue;
   }
 
@@ -6996,6 +7779,40 @@ public final class JavaFiveReader extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '@':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Expression>.
 
     yyResult = pExpression(yyStart);
@@ -7007,23 +7824,27 @@ public final class JavaFiveReader extends ParserBase {
     }
 
     // Alternative <Annotation>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pAnnotation(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pAnnotation(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Array>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pElementArrayInitializer(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pElementArrayInitializer(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -7049,85 +7870,123 @@ public final class JavaFiveReader extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
-    // Alternative 1.
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '@':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
 
-    yyResult = pElementArrayInitializer$$Split1(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final Node v$pt$1 = yyResult.semanticValue();
+    default:
+      yyFirst = 0;
+    }
 
-      yyOption1  = yyResult.index;
-      yyOpValue1 = null;
+    // Alternative 1.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-      yyBase   = yyOption1;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue() &&
-          ((Node)yyResult.semanticValue()).getTokenText().equals(",")) {
-        final Node v$el$1 = yyResult.semanticValue();
+      yyResult = pElementArrayInitializer$$Split1(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final Node v$pt$1 = yyResult.semanticValue();
 
         yyOption1  = yyResult.index;
-        yyOpValue1 = v$el$1;
-      } else {
-        yyError = yyError.select("',' expected", yyBase);
-      }
-      { // Start scope for v$pt$2.
-        final Node v$pt$2 = yyOpValue1;
+        yyOpValue1 = null;
 
         yyBase   = yyOption1;
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue() &&
-            ((Node)yyResult.semanticValue()).getTokenText().equals("}")) {
-          final Node v$pt$3 = yyResult.semanticValue();
-          yyValue = Formatting.variable().
-            addNode(v$pt$1).add(v$pt$2).add(v$pt$3);
+            ((Node)yyResult.semanticValue()).getTokenText().equals(",")) {
+          final Node v$el$1 = yyResult.semanticValue();
 
-          return yyResult.createValue(yyValue, yyError);
+          yyOption1  = yyResult.index;
+          yyOpValue1 = v$el$1;
         } else {
-          yyError = yyError.select("'}' expected", yyBase);
+          yyError = yyError.select("',' expected", yyBase);
         }
-      } // End scope for v$pt$2.
-    }
+        { // Start scope for v$pt$2.
+          final Node v$pt$2 = yyOpValue1;
 
-    // Alternative 2.
+          yyBase   = yyOption1;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue() &&
+              ((Node)yyResult.semanticValue()).getTokenText().equals("}")) {
+            final Node v$pt$3 = yyResult.semanticValue();
+            yyValue = Formatting.variable().
+              addNode(v$pt$1).add(v$pt$2).add(v$pt$3);
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("{")) {
-      final Node v$pt$4 = yyResult.semanticValue();
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("'}' expected", yyBase);
+          }
+        } // End scope for v$pt$2.
+      }
+    }
 
-      yyOption1  = yyResult.index;
-      yyOpValue1 = null;
+    // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-      yyBase   = yyOption1;
-      yyResult = pSymbol(yyBase);
+      yyResult = pSymbol(yyStart);
       if (yyResult.hasValue() &&
-          ((Node)yyResult.semanticValue()).getTokenText().equals(",")) {
-        final Node v$el$2 = yyResult.semanticValue();
+          ((Node)yyResult.semanticValue()).getTokenText().equals("{")) {
+        final Node v$pt$4 = yyResult.semanticValue();
 
         yyOption1  = yyResult.index;
-        yyOpValue1 = v$el$2;
-      } else {
-        yyError = yyError.select("',' expected", yyBase);
-      }
-      { // Start scope for v$pt$5.
-        final Node v$pt$5 = yyOpValue1;
+        yyOpValue1 = null;
 
         yyBase   = yyOption1;
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue() &&
-            ((Node)yyResult.semanticValue()).getTokenText().equals("}")) {
-          final Node v$pt$6 = yyResult.semanticValue();
-
-          yyValue = GNode.create("ArrayInitializer", false);
-          yyValue.setLocation(location(yyStart));
-          yyValue = Formatting.variable().addNode(yyValue).
-            add(v$pt$4).add(v$pt$5).add(v$pt$6);
+            ((Node)yyResult.semanticValue()).getTokenText().equals(",")) {
+          final Node v$el$2 = yyResult.semanticValue();
 
-          return yyResult.createValue(yyValue, yyError);
+          yyOption1  = yyResult.index;
+          yyOpValue1 = v$el$2;
         } else {
-          yyError = yyError.select("'}' expected", yyBase);
+          yyError = yyError.select("',' expected", yyBase);
         }
-      } // End scope for v$pt$5.
+        { // Start scope for v$pt$5.
+          final Node v$pt$5 = yyOpValue1;
+
+          yyBase   = yyOption1;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue() &&
+              ((Node)yyResult.semanticValue()).getTokenText().equals("}")) {
+            final Node v$pt$6 = yyResult.semanticValue();
+
+            yyValue = GNode.create("ArrayInitializer", false);
+            locate(yyValue, yyStart);
+            yyValue = Formatting.variable().addNode(yyValue).
+              add(v$pt$4).add(v$pt$5).add(v$pt$6);
+
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("'}' expected", yyBase);
+          }
+        } // End scope for v$pt$5.
+      }
     }
 
     // Done.
@@ -7151,7 +8010,8 @@ public final class JavaFiveReader extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -7169,7 +8029,8 @@ public final class JavaFiveReader extends ParserBase {
         final Node v$g$1 = Formatting.before1(v$pt$3, v$pt$4);
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyBase   = yyRepetition1;
@@ -7185,7 +8046,7 @@ public final class JavaFiveReader extends ParserBase {
               final Node v$el$1 = Formatting.before1(v$pt$1, v$pt$2);
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
           } else {
@@ -7194,10 +8055,11 @@ public final class JavaFiveReader extends ParserBase {
           break;
         }
         { // Start scope for v$g$2.
-          final Pair<Node> v$g$2 = yyRepValue1.reverse();
+          final int v$g$2 = yyRepStart1;
+          final int v$g$2$end = yyRepEnd1;
 
-          yyValue = GNode.createFromPair("ArrayInitializer", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          yyValue = bufferedNode("ArrayInitializer", v$g$1, v$g$2, v$g$2$end);
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
         } // End scope for v$g$2.
@@ -7269,14 +8131,16 @@ public final class JavaFiveReader extends ParserBase {
 
     Result     yyResult;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
     // Alternative <Body>.
 
     yyRepetition1 = yyStart;
-    yyRepValue1   = Pair.empty();
+    yyRepStart1   = bufferStart();
+    yyRepEnd1   = yyRepStart1;
     while (true) {
 
       yyResult = pAnnotationElement(yyRepetition1);
@@ -7285,16 +8149,17 @@ public final class JavaFiveReader extends ParserBase {
         final Node v$el$1 = yyResult.semanticValue();
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+        yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
         continue;
       }
       break;
     }
     { // Start scope for v$g$1.
-      final Pair<Node> v$g$1 = yyRepValue1.reverse();
+      final int v$g$1 = yyRepStart1;
+      final int v$g$1$end = yyRepEnd1;
 
-      yyValue = GNode.createFromPair("ClassBody", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      yyValue = bufferedNode("ClassBody", v$g$1, v$g$1$end);
+      locate(yyValue, yyStart);
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
     } // End scope for v$g$1.
@@ -7374,7 +8239,7 @@ public final class JavaFiveReader extends ParserBase {
                   final Node v$g$4 = Formatting.after1(v$pt$5, v$pt$4);
 
                   yyValue = GNode.create("AnnotationMethod", v$g$1, v$g$2, v$g$3, v$g$4);
-                  yyValue.setLocation(location(yyStart));
+                  locate(yyValue, yyStart);
 
                   return yyResult.createValue(yyValue, yyError);
                 } else {
@@ -7404,7 +8269,7 @@ public final class JavaFiveReader extends ParserBase {
             final Node v$g$3 = Formatting.after1(v$pt$2, v$pt$1);
 
             yyValue = GNode.create("FieldDeclaration", v$g$1, v$g$2, v$g$3);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
@@ -7483,7 +8348,7 @@ public final class JavaFiveReader extends ParserBase {
                   final Node v$g$6 = yyResult.semanticValue();
 
                   yyValue = GNode.create("ClassDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6);
-                  yyValue.setLocation(location(yyStart));
+                  locate(yyValue, yyStart);
 
                   return yyResult.createValue(yyValue, yyError);
                 }
@@ -7542,7 +8407,7 @@ public final class JavaFiveReader extends ParserBase {
                 final Node v$g$5 = yyResult.semanticValue();
 
                 yyValue = GNode.create("InterfaceDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return yyResult.createValue(yyValue, yyError);
               }
@@ -7640,7 +8505,7 @@ public final class JavaFiveReader extends ParserBase {
                       final Node v$g$5 = Formatting.after1(v$pt$8, v$pt$7);
 
                       yyValue = GNode.create("EnumDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
-                      yyValue.setLocation(location(yyStart));
+                      locate(yyValue, yyStart);
 
                       return yyResult.createValue(yyValue, yyError);
                     } else {
@@ -7691,7 +8556,7 @@ public final class JavaFiveReader extends ParserBase {
               final Node v$g$3 = yyResult.semanticValue();
 
               yyValue = GNode.create("AnnotationDeclaration", v$g$1, v$g$2, v$g$3);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -7736,7 +8601,7 @@ public final class JavaFiveReader extends ParserBase {
         final Node v$g$1 = Formatting.before1(v$pt$1, v$pt$2);
 
         yyValue = GNode.create("DefaultValue", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -7760,7 +8625,8 @@ public final class JavaFiveReader extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -7772,7 +8638,8 @@ public final class JavaFiveReader extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyBase   = yyRepetition1;
@@ -7788,7 +8655,7 @@ public final class JavaFiveReader extends ParserBase {
             final Node v$el$1 = Formatting.before1(v$pt$1, v$pt$2);
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
         } else {
@@ -7797,10 +8664,11 @@ public final class JavaFiveReader extends ParserBase {
         break;
       }
       { // Start scope for v$g$2.
-        final Pair<Node> v$g$2 = yyRepValue1.reverse();
+        final int v$g$2 = yyRepStart1;
+        final int v$g$2$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("EnumConstants", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("EnumConstants", v$g$1, v$g$2, v$g$2$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$2.
@@ -7875,7 +8743,7 @@ public final class JavaFiveReader extends ParserBase {
             final Node v$g$4 = yyOpValue1;
 
             yyValue = GNode.create("EnumConstant", v$g$1, v$g$2, v$g$3, v$g$4);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return new SemanticValue(yyValue, yyOption1, yyError);
           } // End scope for v$g$4.
@@ -7935,14 +8803,16 @@ public final class JavaFiveReader extends ParserBase {
   private Result pEnumMembers$$Split1(final int yyStart) throws IOException {
     Result     yyResult;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
     // Alternative 1.
 
     yyRepetition1 = yyStart;
-    yyRepValue1   = Pair.empty();
+    yyRepStart1   = bufferStart();
+    yyRepEnd1   = yyRepStart1;
     while (true) {
 
       yyResult = pDeclaration(yyRepetition1);
@@ -7951,16 +8821,17 @@ public final class JavaFiveReader extends ParserBase {
         final Node v$el$1 = yyResult.semanticValue();
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+        yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
         continue;
       }
       break;
     }
     { // Start scope for v$g$1.
-      final Pair<Node> v$g$1 = yyRepValue1.reverse();
+      final int v$g$1 = yyRepStart1;
+      final int v$g$1$end = yyRepEnd1;
 
-      yyValue = GNode.createFromPair("EnumMembers", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      yyValue = bufferedNode("EnumMembers", v$g$1, v$g$1$end);
+      locate(yyValue, yyStart);
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
     } // End scope for v$g$1.
@@ -7977,10 +8848,15 @@ public final class JavaFiveReader extends ParserBase {
    */
   private Result pResultType(final int yyStart) throws IOException {
     JavaFiveReaderColumn yyColumn = (JavaFiveReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fResultType) 
-      yyColumn.chunk2.fResultType = pResultType$1(yyStart);
-    return yyColumn.chunk2.fResultType;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fResultType) {
+      yyColumn.chunk1.fResultType = pResultType$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(18, yyColumn.chunk1.fResultType);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(18, yyColumn.chunk1.fResultType);
+    }
+    return yyColumn.chunk1.fResultType;
   }
 
   /** Actually parse xtc.lang.JavaFiveType.ResultType. */
@@ -8035,7 +8911,7 @@ public final class JavaFiveReader extends ParserBase {
       final Node v$pt$1 = yyResult.semanticValue();
 
       yyValue = GNode.create("VoidType", false);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
       yyValue = Formatting.after1(yyValue, v$pt$1);
 
       return yyResult.createValue(yyValue, yyError);
@@ -8057,10 +8933,14 @@ public final class JavaFiveReader extends ParserBase {
    */
   private Result pType(final int yyStart) throws IOException {
     JavaFiveReaderColumn yyColumn = (JavaFiveReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fType) 
-      yyColumn.chunk2.fType = pType$1(yyStart);
-    return yyColumn.chunk2.fType;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fType) {
+      yyColumn.chunk1.fType = pType$1(yyStart);
+      if (null != yyStatistics) yyStatistics.miss(19, yyColumn.chunk1.fType);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(19, yyColumn.chunk1.fType);
+    }
+    return yyColumn.chunk1.fType;
   }
 
   /** Actually parse xtc.lang.JavaFiveType.Type. */
@@ -8093,7 +8973,7 @@ public final class JavaFiveReader extends ParserBase {
         final Node v$g$2 = yyOpValue1;
 
         yyValue = GNode.create("Type", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyOption1, yyError);
       } // End scope for v$g$2.
@@ -8114,10 +8994,15 @@ public final class JavaFiveReader extends ParserBase {
    */
   private Result pTypeName(final int yyStart) throws IOException {
     JavaFiveReaderColumn yyColumn = (JavaFiveReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fTypeName) 
-      yyColumn.chunk3.fTypeName = pTypeName$1(yyStart);
-    return yyColumn.chunk3.fTypeName;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fTypeName) {
+      yyColumn.chunk1.fTypeName = pTypeName$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(20, yyColumn.chunk1.fTypeName);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(20, yyColumn.chunk1.fTypeName);
+    }
+    return yyColumn.chunk1.fTypeName;
   }
 
   /** Actually parse xtc.lang.JavaFiveType.TypeName. */
@@ -8161,10 +9046,15 @@ public final class JavaFiveReader extends ParserBase {
    */
   private Result pPrimitiveType(final int yyStart) throws IOException {
     JavaFiveReaderColumn yyColumn = (JavaFiveReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fPrimitiveType) 
-      yyColumn.chunk3.fPrimitiveType = pPrimitiveType$1(yyStart);
-    return yyColumn.chunk3.fPrimitiveType;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fPrimitiveType) {
+      yyColumn.chunk1.fPrimitiveType = pPrimitiveType$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(21, yyColumn.chunk1.fPrimitiveType);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(21, yyColumn.chunk1.fPrimitiveType);
+    }
+    return yyColumn.chunk1.fPrimitiveType;
   }
 
   /** Actually parse xtc.lang.JavaFiveType.PrimitiveType. */
@@ -8181,7 +9071,7 @@ public final class JavaFiveReader extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.create("PrimitiveType", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -8194,7 +9084,7 @@ public final class JavaFiveReader extends ParserBase {
       final Node v$g$2 = yyResult.semanticValue();
 
       yyValue = GNode.create("PrimitiveType", v$g$2);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -8207,7 +9097,7 @@ public final class JavaFiveReader extends ParserBase {
       final Node v$g$3 = yyResult.semanticValue();
 
       yyValue = GNode.create("PrimitiveType", v$g$3);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -8220,7 +9110,7 @@ public final class JavaFiveReader extends ParserBase {
       final Node v$g$4 = yyResult.semanticValue();
 
       yyValue = GNode.create("PrimitiveType", v$g$4);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -8233,7 +9123,7 @@ public final class JavaFiveReader extends ParserBase {
       final Node v$g$5 = yyResult.semanticValue();
 
       yyValue = GNode.create("PrimitiveType", v$g$5);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -8246,7 +9136,7 @@ public final class JavaFiveReader extends ParserBase {
       final Node v$g$6 = yyResult.semanticValue();
 
       yyValue = GNode.create("PrimitiveType", v$g$6);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -8259,7 +9149,7 @@ public final class JavaFiveReader extends ParserBase {
       final Node v$g$7 = yyResult.semanticValue();
 
       yyValue = GNode.create("PrimitiveType", v$g$7);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -8272,7 +9162,7 @@ public final class JavaFiveReader extends ParserBase {
       final Node v$g$8 = yyResult.semanticValue();
 
       yyValue = GNode.create("PrimitiveType", v$g$8);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -8346,10 +9236,15 @@ public final class JavaFiveReader extends ParserBase {
    */
   private Result pDimensions(final int yyStart) throws IOException {
     JavaFiveReaderColumn yyColumn = (JavaFiveReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fDimensions) 
-      yyColumn.chunk3.fDimensions = pDimensions$1(yyStart);
-    return yyColumn.chunk3.fDimensions;
+    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
+    if (null == yyColumn.chunk2.fDimensions) {
+      yyColumn.chunk2.fDimensions = pDimensions$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(22, yyColumn.chunk2.fDimensions);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(22, yyColumn.chunk2.fDimensions);
+    }
+    return yyColumn.chunk2.fDimensions;
   }
 
   /** Actually parse xtc.lang.JavaFiveType.Dimensions. */
@@ -8366,7 +9261,7 @@ public final class JavaFiveReader extends ParserBase {
       final Pair<Node> v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.createFromPair("Dimensions", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -8386,10 +9281,15 @@ public final class JavaFiveReader extends ParserBase {
    */
   private Result pDimensions$$Plus1(final int yyStart) throws IOException {
     JavaFiveReaderColumn yyColumn = (JavaFiveReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fDimensions$$Plus1) 
-      yyColumn.chunk3.fDimensions$$Plus1 = pDimensions$$Plus1$1(yyStart);
-    return yyColumn.chunk3.fDimensions$$Plus1;
+    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
+    if (null == yyColumn.chunk2.fDimensions$$Plus1) {
+      yyColumn.chunk2.fDimensions$$Plus1 = pDimensions$$Plus1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(23, yyColumn.chunk2.fDimensions$$Plus1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(23, yyColumn.chunk2.fDimensions$$Plus1);
+    }
+    return yyColumn.chunk2.fDimensions$$Plus1;
   }
 
   /** Actually parse xtc.lang.JavaFive.Dimensions$$Plus1. */
@@ -8453,10 +9353,15 @@ public final class JavaFiveReader extends ParserBase {
    */
   private Result pTypeParameters(final int yyStart) throws IOException {
     JavaFiveReaderColumn yyColumn = (JavaFiveReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fTypeParameters) 
-      yyColumn.chunk3.fTypeParameters = pTypeParameters$1(yyStart);
-    return yyColumn.chunk3.fTypeParameters;
+    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
+    if (null == yyColumn.chunk4.fTypeParameters) {
+      yyColumn.chunk4.fTypeParameters = pTypeParameters$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(24, yyColumn.chunk4.fTypeParameters);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(24, yyColumn.chunk4.fTypeParameters);
+    }
+    return yyColumn.chunk4.fTypeParameters;
   }
 
   /** Actually parse xtc.lang.JavaFiveType.TypeParameters. */
@@ -8516,7 +9421,8 @@ public final class JavaFiveReader extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -8540,7 +9446,8 @@ public final class JavaFiveReader extends ParserBase {
             add(v$pt$3).add(v$pt$4).addNode(v$pt$5);
 
           yyRepetition1 = yyResult.index;
-          yyRepValue1   = Pair.empty();
+          yyRepStart1   = bufferStart();
+          yyRepEnd1   = yyRepStart1;
           while (true) {
 
             yyBase   = yyRepetition1;
@@ -8556,7 +9463,7 @@ public final class JavaFiveReader extends ParserBase {
                 final Node v$el$1 = Formatting.before1(v$pt$1, v$pt$2);
 
                 yyRepetition1 = yyResult.index;
-                yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+                yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
                 continue;
               }
             } else {
@@ -8565,10 +9472,11 @@ public final class JavaFiveReader extends ParserBase {
             break;
           }
           { // Start scope for v$g$2.
-            final Pair<Node> v$g$2 = yyRepValue1.reverse();
+            final int v$g$2 = yyRepStart1;
+            final int v$g$2$end = yyRepEnd1;
 
-            yyValue = GNode.createFromPair("TypeParameters", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
+            yyValue = bufferedNode("TypeParameters", v$g$1, v$g$2, v$g$2$end);
+            locate(yyValue, yyStart);
 
             return new SemanticValue(yyValue, yyRepetition1, yyError);
           } // End scope for v$g$2.
@@ -8592,10 +9500,15 @@ public final class JavaFiveReader extends ParserBase {
    */
   private Result pTypeParameter(final int yyStart) throws IOException {
     JavaFiveReaderColumn yyColumn = (JavaFiveReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fTypeParameter) 
-      yyColumn.chunk3.fTypeParameter = pTypeParameter$1(yyStart);
-    return yyColumn.chunk3.fTypeParameter;
+    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
+    if (null == yyColumn.chunk4.fTypeParameter) {
+      yyColumn.chunk4.fTypeParameter = pTypeParameter$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(25, yyColumn.chunk4.fTypeParameter);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(25, yyColumn.chunk4.fTypeParameter);
+    }
+    return yyColumn.chunk4.fTypeParameter;
   }
 
   /** Actually parse xtc.lang.JavaFiveType.TypeParameter. */
@@ -8639,7 +9552,7 @@ public final class JavaFiveReader extends ParserBase {
         final Node v$g$2 = yyOpValue1;
 
         yyValue = GNode.create("TypeParameter", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyOption1, yyError);
       } // End scope for v$g$2.
@@ -8662,7 +9575,8 @@ public final class JavaFiveReader extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -8674,7 +9588,8 @@ public final class JavaFiveReader extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyBase   = yyRepetition1;
@@ -8690,7 +9605,7 @@ public final class JavaFiveReader extends ParserBase {
             final Node v$el$1 = Formatting.before1(v$pt$1, v$pt$2);
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
         } else {
@@ -8699,10 +9614,11 @@ public final class JavaFiveReader extends ParserBase {
         break;
       }
       { // Start scope for v$g$2.
-        final Pair<Node> v$g$2 = yyRepValue1.reverse();
+        final int v$g$2 = yyRepStart1;
+        final int v$g$2$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("Bound", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("Bound", v$g$1, v$g$2, v$g$2$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$2.
@@ -8723,10 +9639,15 @@ public final class JavaFiveReader extends ParserBase {
    */
   private Result pTypeArguments(final int yyStart) throws IOException {
     JavaFiveReaderColumn yyColumn = (JavaFiveReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fTypeArguments) 
-      yyColumn.chunk3.fTypeArguments = pTypeArguments$1(yyStart);
-    return yyColumn.chunk3.fTypeArguments;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fTypeArguments) {
+      yyColumn.chunk1.fTypeArguments = pTypeArguments$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(26, yyColumn.chunk1.fTypeArguments);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(26, yyColumn.chunk1.fTypeArguments);
+    }
+    return yyColumn.chunk1.fTypeArguments;
   }
 
   /** Actually parse xtc.lang.JavaFiveType.TypeArguments. */
@@ -8786,7 +9707,8 @@ public final class JavaFiveReader extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -8810,7 +9732,8 @@ public final class JavaFiveReader extends ParserBase {
             add(v$pt$3).add(v$pt$4).addNode(v$pt$5);
 
           yyRepetition1 = yyResult.index;
-          yyRepValue1   = Pair.empty();
+          yyRepStart1   = bufferStart();
+          yyRepEnd1   = yyRepStart1;
           while (true) {
 
             yyBase   = yyRepetition1;
@@ -8826,7 +9749,7 @@ public final class JavaFiveReader extends ParserBase {
                 final Node v$el$1 = Formatting.before1(v$pt$1, v$pt$2);
 
                 yyRepetition1 = yyResult.index;
-                yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+                yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
                 continue;
               }
             } else {
@@ -8835,10 +9758,11 @@ public final class JavaFiveReader extends ParserBase {
             break;
           }
           { // Start scope for v$g$2.
-            final Pair<Node> v$g$2 = yyRepValue1.reverse();
+            final int v$g$2 = yyRepStart1;
+            final int v$g$2$end = yyRepEnd1;
 
-            yyValue = GNode.createFromPair("TypeArguments", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
+            yyValue = bufferedNode("TypeArguments", v$g$1, v$g$2, v$g$2$end);
+            locate(yyValue, yyStart);
 
             return new SemanticValue(yyValue, yyRepetition1, yyError);
           } // End scope for v$g$2.
@@ -8862,10 +9786,15 @@ public final class JavaFiveReader extends ParserBase {
    */
   private Result pTypeArgument(final int yyStart) throws IOException {
     JavaFiveReaderColumn yyColumn = (JavaFiveReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fTypeArgument) 
-      yyColumn.chunk3.fTypeArgument = pTypeArgument$1(yyStart);
-    return yyColumn.chunk3.fTypeArgument;
+    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
+    if (null == yyColumn.chunk4.fTypeArgument) {
+      yyColumn.chunk4.fTypeArgument = pTypeArgument$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(27, yyColumn.chunk4.fTypeArgument);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(27, yyColumn.chunk4.fTypeArgument);
+    }
+    return yyColumn.chunk4.fTypeArgument;
   }
 
   /** Actually parse xtc.lang.JavaFiveType.TypeArgument. */
@@ -8937,7 +9866,7 @@ public final class JavaFiveReader extends ParserBase {
         final Node v$g$1 = Formatting.before1(v$pt$1, v$pt$2);
 
         yyValue = GNode.create("Wildcard", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyOption1, yyError);
       } // End scope for v$pt$2.
@@ -8975,7 +9904,7 @@ public final class JavaFiveReader extends ParserBase {
         final Node v$g$2 = yyResult.semanticValue();
 
         yyValue = GNode.create("WildcardBound", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -8994,7 +9923,7 @@ public final class JavaFiveReader extends ParserBase {
         final Node v$g$4 = yyResult.semanticValue();
 
         yyValue = GNode.create("WildcardBound", v$g$3, v$g$4);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -9018,7 +9947,8 @@ public final class JavaFiveReader extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -9030,7 +9960,8 @@ public final class JavaFiveReader extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyBase   = yyRepetition1;
@@ -9046,7 +9977,7 @@ public final class JavaFiveReader extends ParserBase {
             final Node v$el$1 = Formatting.before1(v$pt$1, v$pt$2);
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
         } else {
@@ -9055,10 +9986,11 @@ public final class JavaFiveReader extends ParserBase {
         break;
       }
       { // Start scope for v$g$2.
-        final Pair<Node> v$g$2 = yyRepValue1.reverse();
+        final int v$g$2 = yyRepStart1;
+        final int v$g$2$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("InstantiatedType", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("InstantiatedType", v$g$1, v$g$2, v$g$2$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$2.
@@ -9079,10 +10011,15 @@ public final class JavaFiveReader extends ParserBase {
    */
   private Result pTypeInstantiation(final int yyStart) throws IOException {
     JavaFiveReaderColumn yyColumn = (JavaFiveReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fTypeInstantiation) 
-      yyColumn.chunk3.fTypeInstantiation = pTypeInstantiation$1(yyStart);
-    return yyColumn.chunk3.fTypeInstantiation;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fTypeInstantiation) {
+      yyColumn.chunk1.fTypeInstantiation = pTypeInstantiation$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(28, yyColumn.chunk1.fTypeInstantiation);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(28, yyColumn.chunk1.fTypeInstantiation);
+    }
+    return yyColumn.chunk1.fTypeInstantiation;
   }
 
   /** Actually parse xtc.lang.JavaFiveType.TypeInstantiation. */
@@ -9115,7 +10052,7 @@ public final class JavaFiveReader extends ParserBase {
         final Node v$g$2 = yyOpValue1;
 
         yyValue = GNode.create("TypeInstantiation", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyOption1, yyError);
       } // End scope for v$g$2.
@@ -9139,71 +10076,110 @@ public final class JavaFiveReader extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
-    // Alternative <FloatingPoint>.
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '\"':
+      yyFirst = 0x8;
+      break;
 
-    yyResult = pFloatingPointLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final Node v$pt$2 = yyResult.semanticValue();
+    case '\'':
+      yyFirst = 0x4;
+      break;
 
-      yyResult = pSpacing(yyResult.index);
+    case '.':
+      yyFirst = 0x1;
+      break;
+
+    case '0':
+    case '1':
+    case '2':
+    case '3':
+    case '4':
+    case '5':
+    case '6':
+    case '7':
+    case '8':
+    case '9':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
+    // Alternative <FloatingPoint>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
+
+      yyResult = pFloatingPointLiteral(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
-        final Token v$pt$1 = yyResult.semanticValue();
-        yyValue = Formatting.after1(v$pt$2, v$pt$1);
+        final Node v$pt$2 = yyResult.semanticValue();
 
-        return yyResult.createValue(yyValue, yyError);
+        yyResult = pSpacing(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Token v$pt$1 = yyResult.semanticValue();
+          yyValue = Formatting.after1(v$pt$2, v$pt$1);
+
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative <Integer>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pIntegerLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final Node v$pt$4 = yyResult.semanticValue();
-
-      yyResult = pSpacing(yyResult.index);
+      yyResult = pIntegerLiteral(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
-        final Token v$pt$3 = yyResult.semanticValue();
-        yyValue = Formatting.after1(v$pt$4, v$pt$3);
+        final Node v$pt$4 = yyResult.semanticValue();
 
-        return yyResult.createValue(yyValue, yyError);
+        yyResult = pSpacing(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Token v$pt$3 = yyResult.semanticValue();
+          yyValue = Formatting.after1(v$pt$4, v$pt$3);
+
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative <Character>.
+    if ((0 != (yyFirst & 0x4)) || (yyError.index < yyStart)) {
 
-    yyResult = pCharacterLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final Node v$pt$6 = yyResult.semanticValue();
-
-      yyResult = pSpacing(yyResult.index);
+      yyResult = pCharacterLiteral(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
-        final Token v$pt$5 = yyResult.semanticValue();
-        yyValue = Formatting.after1(v$pt$6, v$pt$5);
+        final Node v$pt$6 = yyResult.semanticValue();
 
-        return yyResult.createValue(yyValue, yyError);
+        yyResult = pSpacing(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Token v$pt$5 = yyResult.semanticValue();
+          yyValue = Formatting.after1(v$pt$6, v$pt$5);
+
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative <String>.
+    if ((0 != (yyFirst & 0x8)) || (yyError.index < yyStart)) {
 
-    yyResult = pStringLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final Node v$pt$8 = yyResult.semanticValue();
-
-      yyResult = pSpacing(yyResult.index);
+      yyResult = pStringLiteral(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
-        final Token v$pt$7 = yyResult.semanticValue();
-        yyValue = Formatting.after1(v$pt$8, v$pt$7);
+        final Node v$pt$8 = yyResult.semanticValue();
 
-        return yyResult.createValue(yyValue, yyError);
+        yyResult = pSpacing(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Token v$pt$7 = yyResult.semanticValue();
+          yyValue = Formatting.after1(v$pt$8, v$pt$7);
+
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
@@ -9215,7 +10191,7 @@ public final class JavaFiveReader extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.create("BooleanLiteral", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -9228,7 +10204,7 @@ public final class JavaFiveReader extends ParserBase {
       final Node v$g$2 = yyResult.semanticValue();
 
       yyValue = GNode.create("BooleanLiteral", v$g$2);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -9241,7 +10217,7 @@ public final class JavaFiveReader extends ParserBase {
       final Node v$pt$1 = yyResult.semanticValue();
 
       yyValue = GNode.create("NullLiteral", false);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
       yyValue = Formatting.after1(yyValue, v$pt$1);
 
       return yyResult.createValue(yyValue, yyError);
@@ -9266,43 +10242,71 @@ public final class JavaFiveReader extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '0':
+      yyFirst = 0x7;
+      break;
+
+    case '1':
+    case '2':
+    case '3':
+    case '4':
+    case '5':
+    case '6':
+    case '7':
+    case '8':
+    case '9':
+      yyFirst = 0x4;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Hex>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pHexLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final Token v$g$1 = yyResult.semanticValue();
+      yyResult = pHexLiteral(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final Token v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerLiteral", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("IntegerLiteral", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Octal>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pOctalLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final Token v$g$2 = yyResult.semanticValue();
+      yyResult = pOctalLiteral(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final Token v$g$2 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerLiteral", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("IntegerLiteral", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Decimal>.
+    if ((0 != (yyFirst & 0x4)) || (yyError.index < yyStart)) {
 
-    yyResult = pDecimalLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final Token v$g$3 = yyResult.semanticValue();
+      yyResult = pDecimalLiteral(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final Token v$g$3 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerLiteral", v$g$3);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("IntegerLiteral", v$g$3);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -9352,7 +10356,7 @@ public final class JavaFiveReader extends ParserBase {
       }
 
       yyValue = new TextToken(difference(yyStart, yyOption1));
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return new SemanticValue(yyValue, yyOption1, yyError);
     }
@@ -9405,7 +10409,7 @@ public final class JavaFiveReader extends ParserBase {
       }
 
       yyValue = new TextToken(difference(yyStart, yyOption1));
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return new SemanticValue(yyValue, yyOption1, yyError);
     }
@@ -9458,7 +10462,7 @@ public final class JavaFiveReader extends ParserBase {
       }
 
       yyValue = new TextToken(difference(yyStart, yyOption1));
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return new SemanticValue(yyValue, yyOption1, yyError);
     }
@@ -9843,7 +10847,7 @@ public final class JavaFiveReader extends ParserBase {
       final Token v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.create("FloatingPointLiteral", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -9869,121 +10873,185 @@ public final class JavaFiveReader extends ParserBase {
     Token      yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '.':
+      yyFirst = 0x2;
+      break;
+
+    case '0':
+    case '1':
+    case '2':
+    case '3':
+    case '4':
+    case '5':
+    case '6':
+    case '7':
+    case '8':
+    case '9':
+      yyFirst = 0x5;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pDigits(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
+      yyResult = pDigits(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
 
-      yyC = character(yyResult.index);
-      if ('.' == yyC) {
-        yyIndex = yyResult.index + 1;
+        yyC = character(yyResult.index);
+        if ('.' == yyC) {
+          yyIndex = yyResult.index + 1;
 
-        yyOption1  = yyIndex;
+          yyOption1  = yyIndex;
 
-        yyResult = pDigits(yyOption1);
-        yyError  = yyResult.select(yyError, yyOption1);
-        if (yyResult.hasValue()) {
+          yyResult = pDigits(yyOption1);
+          yyError  = yyResult.select(yyError, yyOption1);
+          if (yyResult.hasValue()) {
 
-          yyOption1  = yyResult.index;
-        }
+            yyOption1  = yyResult.index;
+          }
 
 
-        yyResult = pExponent(yyOption1);
-        yyError  = yyResult.select(yyError, yyOption1);
-        if (yyResult.hasValue()) {
+          yyResult = pExponent(yyOption1);
+          yyError  = yyResult.select(yyError, yyOption1);
+          if (yyResult.hasValue()) {
 
-          yyOption1  = yyResult.index;
-        }
+            yyOption1  = yyResult.index;
+          }
 
 
-        yyC = character(yyOption1);
-        if (-1 != yyC) {
-          yyIndex = yyOption1 + 1;
+          yyC = character(yyOption1);
+          if (-1 != yyC) {
+            yyIndex = yyOption1 + 1;
 
-          switch (yyC) {
-          case 'D':
-          case 'F':
-          case 'd':
-          case 'f':
-            {
-              yyOption1  = yyIndex;
-            }
-            break;
+            switch (yyC) {
+            case 'D':
+            case 'F':
+            case 'd':
+            case 'f':
+              {
+                yyOption1  = yyIndex;
+              }
+              break;
 
-          default:
-            /* No match. */
+            default:
+              /* No match. */
+            }
           }
-        }
 
-        yyValue = new TextToken(difference(yyStart, yyOption1));
-        yyValue.setLocation(location(yyStart));
+          yyValue = new TextToken(difference(yyStart, yyOption1));
+          locate(yyValue, yyStart);
 
-        return new SemanticValue(yyValue, yyOption1, yyError);
+          return new SemanticValue(yyValue, yyOption1, yyError);
+        }
       }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyC = character(yyStart);
-    if ('.' == yyC) {
-      yyIndex = yyStart + 1;
-
-      yyResult = pDigits(yyIndex);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-
-        yyOption1  = yyResult.index;
+      yyC = character(yyStart);
+      if ('.' == yyC) {
+        yyIndex = yyStart + 1;
 
-        yyResult = pExponent(yyOption1);
-        yyError  = yyResult.select(yyError, yyOption1);
+        yyResult = pDigits(yyIndex);
+        yyError  = yyResult.select(yyError);
         if (yyResult.hasValue()) {
 
           yyOption1  = yyResult.index;
-        }
 
+          yyResult = pExponent(yyOption1);
+          yyError  = yyResult.select(yyError, yyOption1);
+          if (yyResult.hasValue()) {
 
-        yyC = character(yyOption1);
-        if (-1 != yyC) {
-          yyIndex = yyOption1 + 1;
+            yyOption1  = yyResult.index;
+          }
 
-          switch (yyC) {
-          case 'D':
-          case 'F':
-          case 'd':
-          case 'f':
-            {
-              yyOption1  = yyIndex;
-            }
-            break;
 
-          default:
-            /* No match. */
+          yyC = character(yyOption1);
+          if (-1 != yyC) {
+            yyIndex = yyOption1 + 1;
+
+            switch (yyC) {
+            case 'D':
+            case 'F':
+            case 'd':
+            case 'f':
+              {
+                yyOption1  = yyIndex;
+              }
+              break;
+
+            default:
+              /* No match. */
+            }
           }
-        }
 
-        yyValue = new TextToken(difference(yyStart, yyOption1));
-        yyValue.setLocation(location(yyStart));
+          yyValue = new TextToken(difference(yyStart, yyOption1));
+          locate(yyValue, yyStart);
 
-        return new SemanticValue(yyValue, yyOption1, yyError);
+          return new SemanticValue(yyValue, yyOption1, yyError);
+        }
       }
     }
 
     // Alternative 3.
+    if ((0 != (yyFirst & 0x4)) || (yyError.index < yyStart)) {
 
-    yyResult = pDigits(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
+      yyResult = pDigits(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
 
-      final int yyChoice1 = yyResult.index;
+        final int yyChoice1 = yyResult.index;
 
-      // Nested alternative 1.
+        // Nested alternative 1.
 
-      yyResult = pExponent(yyChoice1);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
+        yyResult = pExponent(yyChoice1);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
 
-        yyOption1  = yyResult.index;
+          yyOption1  = yyResult.index;
+
+          yyC = character(yyOption1);
+          if (-1 != yyC) {
+            yyIndex = yyOption1 + 1;
+
+            switch (yyC) {
+            case 'D':
+            case 'F':
+            case 'd':
+            case 'f':
+              {
+                yyOption1  = yyIndex;
+              }
+              break;
+
+            default:
+              /* No match. */
+            }
+          }
+
+          yyValue = new TextToken(difference(yyStart, yyOption1));
+          locate(yyValue, yyStart);
+
+          return new SemanticValue(yyValue, yyOption1, yyError);
+        }
+
+        // Nested alternative 2.
+
+        yyOption1  = yyChoice1;
+
+        yyResult = pExponent(yyOption1);
+        yyError  = yyResult.select(yyError, yyOption1);
+        if (yyResult.hasValue()) {
+
+          yyOption1  = yyResult.index;
+        }
 
         yyC = character(yyOption1);
         if (-1 != yyC) {
@@ -9995,51 +11063,16 @@ public final class JavaFiveReader extends ParserBase {
           case 'd':
           case 'f':
             {
-              yyOption1  = yyIndex;
+              yyValue = new TextToken(difference(yyStart, yyIndex));
+              locate(yyValue, yyStart);
+
+              return new SemanticValue(yyValue, yyIndex, yyError);
             }
-            break;
 
           default:
             /* No match. */
           }
         }
-
-        yyValue = new TextToken(difference(yyStart, yyOption1));
-        yyValue.setLocation(location(yyStart));
-
-        return new SemanticValue(yyValue, yyOption1, yyError);
-      }
-
-      // Nested alternative 2.
-
-      yyOption1  = yyChoice1;
-
-      yyResult = pExponent(yyOption1);
-      yyError  = yyResult.select(yyError, yyOption1);
-      if (yyResult.hasValue()) {
-
-        yyOption1  = yyResult.index;
-      }
-
-      yyC = character(yyOption1);
-      if (-1 != yyC) {
-        yyIndex = yyOption1 + 1;
-
-        switch (yyC) {
-        case 'D':
-        case 'F':
-        case 'd':
-        case 'f':
-          {
-            yyValue = new TextToken(difference(yyStart, yyIndex));
-            yyValue.setLocation(location(yyStart));
-
-            return new SemanticValue(yyValue, yyIndex, yyError);
-          }
-
-        default:
-          /* No match. */
-        }
       }
     }
 
@@ -10137,7 +11170,7 @@ public final class JavaFiveReader extends ParserBase {
       final Token v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.create("CharacterLiteral", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -10168,7 +11201,7 @@ public final class JavaFiveReader extends ParserBase {
       final Token v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.create("StringLiteral", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -10208,7 +11241,7 @@ public final class JavaFiveReader extends ParserBase {
           yyIndex = yyResult.index + 1;
 
           yyValue = new TextToken(difference(yyStart, yyIndex));
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyIndex, yyError);
         }
@@ -10946,7 +11979,7 @@ public final class JavaFiveReader extends ParserBase {
         yyIndex = yyRepetition1 + 1;
 
         yyValue = new TextToken(difference(yyStart, yyIndex));
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyIndex, yyError);
       }
@@ -10968,10 +12001,15 @@ public final class JavaFiveReader extends ParserBase {
    */
   private Result pQualifiedIdentifier(final int yyStart) throws IOException {
     JavaFiveReaderColumn yyColumn = (JavaFiveReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fQualifiedIdentifier) 
-      yyColumn.chunk3.fQualifiedIdentifier = pQualifiedIdentifier$1(yyStart);
-    return yyColumn.chunk3.fQualifiedIdentifier;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fQualifiedIdentifier) {
+      yyColumn.chunk1.fQualifiedIdentifier = pQualifiedIdentifier$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(29, yyColumn.chunk1.fQualifiedIdentifier);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(29, yyColumn.chunk1.fQualifiedIdentifier);
+    }
+    return yyColumn.chunk1.fQualifiedIdentifier;
   }
 
   /** Actually parse xtc.lang.JavaFiveIdentifier.QualifiedIdentifier. */
@@ -10995,7 +12033,7 @@ public final class JavaFiveReader extends ParserBase {
         final Pair<Node> v$g$2 = yyResult.semanticValue();
 
         yyValue = GNode.createFromPair("QualifiedIdentifier", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -11019,8 +12057,14 @@ public final class JavaFiveReader extends ParserBase {
 
     JavaFiveReaderColumn yyColumn = (JavaFiveReaderColumn)column(yyStart);
     if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.fQualifiedIdentifier$$Star1) 
-      yyColumn.chunk4.fQualifiedIdentifier$$Star1 = pQualifiedIdentifier$$Star1$1(yyStart);
+    if (null == yyColumn.chunk4.fQualifiedIdentifier$$Star1) {
+      yyColumn.chunk4.fQualifiedIdentifier$$Star1 = 
+        pQualifiedIdentifier$$Star1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(30, yyColumn.chunk4.fQualifiedIdentifier$$Star1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(30, yyColumn.chunk4.fQualifiedIdentifier$$Star1);
+    }
     return yyColumn.chunk4.fQualifiedIdentifier$$Star1;
   }
 
@@ -11075,10 +12119,15 @@ public final class JavaFiveReader extends ParserBase {
    */
   private Result pIdentifier(final int yyStart) throws IOException {
     JavaFiveReaderColumn yyColumn = (JavaFiveReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.fIdentifier) 
-      yyColumn.chunk4.fIdentifier = pIdentifier$1(yyStart);
-    return yyColumn.chunk4.fIdentifier;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fIdentifier) {
+      yyColumn.chunk1.fIdentifier = pIdentifier$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(31, yyColumn.chunk1.fIdentifier);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(31, yyColumn.chunk1.fIdentifier);
+    }
+    return yyColumn.chunk1.fIdentifier;
   }
 
   /** Actually parse xtc.lang.JavaFiveIdentifier.Identifier. */
@@ -11116,10 +12165,14 @@ public final class JavaFiveReader extends ParserBase {
    */
   private Result pWord(final int yyStart) throws IOException {
     JavaFiveReaderColumn yyColumn = (JavaFiveReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.fWord) 
-      yyColumn.chunk4.fWord = pWord$1(yyStart);
-    return yyColumn.chunk4.fWord;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fWord) {
+      yyColumn.chunk1.fWord = pWord$1(yyStart);
+      if (null != yyStatistics) yyStatistics.miss(32, yyColumn.chunk1.fWord);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(32, yyColumn.chunk1.fWord);
+    }
+    return yyColumn.chunk1.fWord;
   }
 
   /** Actually parse xtc.lang.JavaFiveIdentifier.Word. */
@@ -11192,7 +12245,7 @@ public final class JavaFiveReader extends ParserBase {
         }
 
         yyValue = new TextToken(difference(yyStart, yyRepetition1));
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       }
@@ -11214,10 +12267,15 @@ public final class JavaFiveReader extends ParserBase {
    */
   private Result pSymbol(final int yyStart) throws IOException {
     JavaFiveReaderColumn yyColumn = (JavaFiveReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.fSymbol) 
-      yyColumn.chunk4.fSymbol = pSymbol$1(yyStart);
-    return yyColumn.chunk4.fSymbol;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fSymbol) {
+      yyColumn.chunk1.fSymbol = pSymbol$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(33, yyColumn.chunk1.fSymbol);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(33, yyColumn.chunk1.fSymbol);
+    }
+    return yyColumn.chunk1.fSymbol;
   }
 
   /** Actually parse xtc.lang.JavaFiveSymbol.Symbol. */
@@ -11303,7 +12361,7 @@ public final class JavaFiveReader extends ParserBase {
                         if ('=' == yyC) {
 
                           yyValue = new TextToken(">>>=");
-                          yyValue.setLocation(location(yyStart));
+                          locate(yyValue, yyStart);
 
                           return new SemanticValue(yyValue, yyIndex, yyError);
                         }
@@ -11312,7 +12370,7 @@ public final class JavaFiveReader extends ParserBase {
                       // Nested alternative 2.
 
                       yyValue = new TextToken(">>>");
-                      yyValue.setLocation(location(yyStart));
+                      locate(yyValue, yyStart);
 
                       return new SemanticValue(yyValue, yyChoice3, yyError);
                     }
@@ -11320,7 +12378,7 @@ public final class JavaFiveReader extends ParserBase {
                   case '=':
                     {
                       yyValue = new TextToken(">>=");
-                      yyValue.setLocation(location(yyStart));
+                      locate(yyValue, yyStart);
 
                       return new SemanticValue(yyValue, yyIndex, yyError);
                     }
@@ -11333,7 +12391,7 @@ public final class JavaFiveReader extends ParserBase {
                 // Nested alternative 2.
 
                 yyValue = new TextToken(">>");
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return new SemanticValue(yyValue, yyChoice2, yyError);
               }
@@ -11341,7 +12399,7 @@ public final class JavaFiveReader extends ParserBase {
             case '=':
               {
                 yyValue = new TextToken(">=");
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return new SemanticValue(yyValue, yyIndex, yyError);
               }
@@ -11354,7 +12412,7 @@ public final class JavaFiveReader extends ParserBase {
           // Nested alternative 2.
 
           yyValue = new TextToken(">");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyChoice1, yyError);
         }
@@ -11382,7 +12440,7 @@ public final class JavaFiveReader extends ParserBase {
                   if ('=' == yyC) {
 
                     yyValue = new TextToken("<<=");
-                    yyValue.setLocation(location(yyStart));
+                    locate(yyValue, yyStart);
 
                     return new SemanticValue(yyValue, yyIndex, yyError);
                   }
@@ -11391,7 +12449,7 @@ public final class JavaFiveReader extends ParserBase {
                 // Nested alternative 2.
 
                 yyValue = new TextToken("<<");
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return new SemanticValue(yyValue, yyChoice2, yyError);
               }
@@ -11399,7 +12457,7 @@ public final class JavaFiveReader extends ParserBase {
             case '=':
               {
                 yyValue = new TextToken("<=");
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return new SemanticValue(yyValue, yyIndex, yyError);
               }
@@ -11412,7 +12470,7 @@ public final class JavaFiveReader extends ParserBase {
           // Nested alternative 2.
 
           yyValue = new TextToken("<");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyChoice1, yyError);
         }
@@ -11434,7 +12492,7 @@ public final class JavaFiveReader extends ParserBase {
                 if ('.' == yyC) {
 
                   yyValue = new TextToken("...");
-                  yyValue.setLocation(location(yyStart));
+                  locate(yyValue, yyStart);
 
                   return new SemanticValue(yyValue, yyIndex, yyError);
                 }
@@ -11445,7 +12503,7 @@ public final class JavaFiveReader extends ParserBase {
           // Nested alternative 2.
 
           yyValue = new TextToken(".");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyChoice1, yyError);
         }
@@ -11464,7 +12522,7 @@ public final class JavaFiveReader extends ParserBase {
             case '=':
               {
                 yyValue = new TextToken("+=");
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return new SemanticValue(yyValue, yyIndex, yyError);
               }
@@ -11472,7 +12530,7 @@ public final class JavaFiveReader extends ParserBase {
             case '+':
               {
                 yyValue = new TextToken("++");
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return new SemanticValue(yyValue, yyIndex, yyError);
               }
@@ -11485,7 +12543,7 @@ public final class JavaFiveReader extends ParserBase {
           // Nested alternative 2.
 
           yyValue = new TextToken("+");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyChoice1, yyError);
         }
@@ -11504,7 +12562,7 @@ public final class JavaFiveReader extends ParserBase {
             case '=':
               {
                 yyValue = new TextToken("-=");
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return new SemanticValue(yyValue, yyIndex, yyError);
               }
@@ -11512,7 +12570,7 @@ public final class JavaFiveReader extends ParserBase {
             case '-':
               {
                 yyValue = new TextToken("--");
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return new SemanticValue(yyValue, yyIndex, yyError);
               }
@@ -11525,7 +12583,7 @@ public final class JavaFiveReader extends ParserBase {
           // Nested alternative 2.
 
           yyValue = new TextToken("-");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyChoice1, yyError);
         }
@@ -11542,7 +12600,7 @@ public final class JavaFiveReader extends ParserBase {
             if ('=' == yyC) {
 
               yyValue = new TextToken("*=");
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return new SemanticValue(yyValue, yyIndex, yyError);
             }
@@ -11551,7 +12609,7 @@ public final class JavaFiveReader extends ParserBase {
           // Nested alternative 2.
 
           yyValue = new TextToken("*");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyChoice1, yyError);
         }
@@ -11568,7 +12626,7 @@ public final class JavaFiveReader extends ParserBase {
             if ('=' == yyC) {
 
               yyValue = new TextToken("/=");
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return new SemanticValue(yyValue, yyIndex, yyError);
             }
@@ -11577,7 +12635,7 @@ public final class JavaFiveReader extends ParserBase {
           // Nested alternative 2.
 
           yyValue = new TextToken("/");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyChoice1, yyError);
         }
@@ -11594,7 +12652,7 @@ public final class JavaFiveReader extends ParserBase {
             if ('=' == yyC) {
 
               yyValue = new TextToken("%=");
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return new SemanticValue(yyValue, yyIndex, yyError);
             }
@@ -11603,7 +12661,7 @@ public final class JavaFiveReader extends ParserBase {
           // Nested alternative 2.
 
           yyValue = new TextToken("%");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyChoice1, yyError);
         }
@@ -11622,7 +12680,7 @@ public final class JavaFiveReader extends ParserBase {
             case '=':
               {
                 yyValue = new TextToken("&=");
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return new SemanticValue(yyValue, yyIndex, yyError);
               }
@@ -11630,7 +12688,7 @@ public final class JavaFiveReader extends ParserBase {
             case '&':
               {
                 yyValue = new TextToken("&&");
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return new SemanticValue(yyValue, yyIndex, yyError);
               }
@@ -11643,7 +12701,7 @@ public final class JavaFiveReader extends ParserBase {
           // Nested alternative 2.
 
           yyValue = new TextToken("&");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyChoice1, yyError);
         }
@@ -11660,7 +12718,7 @@ public final class JavaFiveReader extends ParserBase {
             if ('=' == yyC) {
 
               yyValue = new TextToken("^=");
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return new SemanticValue(yyValue, yyIndex, yyError);
             }
@@ -11669,7 +12727,7 @@ public final class JavaFiveReader extends ParserBase {
           // Nested alternative 2.
 
           yyValue = new TextToken("^");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyChoice1, yyError);
         }
@@ -11688,7 +12746,7 @@ public final class JavaFiveReader extends ParserBase {
             case '=':
               {
                 yyValue = new TextToken("|=");
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return new SemanticValue(yyValue, yyIndex, yyError);
               }
@@ -11696,7 +12754,7 @@ public final class JavaFiveReader extends ParserBase {
             case '|':
               {
                 yyValue = new TextToken("||");
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return new SemanticValue(yyValue, yyIndex, yyError);
               }
@@ -11709,7 +12767,7 @@ public final class JavaFiveReader extends ParserBase {
           // Nested alternative 2.
 
           yyValue = new TextToken("|");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyChoice1, yyError);
         }
@@ -11726,7 +12784,7 @@ public final class JavaFiveReader extends ParserBase {
             if ('=' == yyC) {
 
               yyValue = new TextToken("==");
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return new SemanticValue(yyValue, yyIndex, yyError);
             }
@@ -11735,7 +12793,7 @@ public final class JavaFiveReader extends ParserBase {
           // Nested alternative 2.
 
           yyValue = new TextToken("=");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyChoice1, yyError);
         }
@@ -11752,7 +12810,7 @@ public final class JavaFiveReader extends ParserBase {
             if ('=' == yyC) {
 
               yyValue = new TextToken("!=");
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return new SemanticValue(yyValue, yyIndex, yyError);
             }
@@ -11761,7 +12819,7 @@ public final class JavaFiveReader extends ParserBase {
           // Nested alternative 2.
 
           yyValue = new TextToken("!");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyChoice1, yyError);
         }
@@ -11769,7 +12827,7 @@ public final class JavaFiveReader extends ParserBase {
       case ';':
         {
           yyValue = new TextToken(";");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyIndex, yyError);
         }
@@ -11777,7 +12835,7 @@ public final class JavaFiveReader extends ParserBase {
       case ':':
         {
           yyValue = new TextToken(":");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyIndex, yyError);
         }
@@ -11785,7 +12843,7 @@ public final class JavaFiveReader extends ParserBase {
       case ',':
         {
           yyValue = new TextToken(",");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyIndex, yyError);
         }
@@ -11793,7 +12851,7 @@ public final class JavaFiveReader extends ParserBase {
       case '{':
         {
           yyValue = new TextToken("{");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyIndex, yyError);
         }
@@ -11801,7 +12859,7 @@ public final class JavaFiveReader extends ParserBase {
       case '}':
         {
           yyValue = new TextToken("}");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyIndex, yyError);
         }
@@ -11809,7 +12867,7 @@ public final class JavaFiveReader extends ParserBase {
       case '(':
         {
           yyValue = new TextToken("(");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyIndex, yyError);
         }
@@ -11817,7 +12875,7 @@ public final class JavaFiveReader extends ParserBase {
       case ')':
         {
           yyValue = new TextToken(")");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyIndex, yyError);
         }
@@ -11825,7 +12883,7 @@ public final class JavaFiveReader extends ParserBase {
       case '[':
         {
           yyValue = new TextToken("[");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyIndex, yyError);
         }
@@ -11833,7 +12891,7 @@ public final class JavaFiveReader extends ParserBase {
       case ']':
         {
           yyValue = new TextToken("]");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyIndex, yyError);
         }
@@ -11841,7 +12899,7 @@ public final class JavaFiveReader extends ParserBase {
       case '~':
         {
           yyValue = new TextToken("~");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyIndex, yyError);
         }
@@ -11849,7 +12907,7 @@ public final class JavaFiveReader extends ParserBase {
       case '@':
         {
           yyValue = new TextToken("@");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyIndex, yyError);
         }
@@ -11857,7 +12915,7 @@ public final class JavaFiveReader extends ParserBase {
       case '?':
         {
           yyValue = new TextToken("?");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyIndex, yyError);
         }
@@ -12023,28 +13081,7 @@ public final class JavaFiveReader extends ParserBase {
 
               case '/':
                 {
-                  yyRepetition2 = yyIndex;
-                  while (true) {
-
-                    yyC = character(yyRepetition2);
-                    if (-1 != yyC) {
-                      yyIndex = yyRepetition2 + 1;
-
-                      switch (yyC) {
-                      case '\n':
-                      case '\r':
-                        /* No match. */
-                        break;
-
-                      default:
-                        {
-                          yyRepetition2 = yyIndex;
-                          continue;
-                        }
-                      }
-                    }
-                    break;
-                  }
+                  yyRepetition2 = scan(yyIndex, 0xffffffffffffdbffL, 0xffffffffffffffffL, true);
 
                   final int yyChoice2 = yyRepetition2;
 
@@ -12113,7 +13150,7 @@ public final class JavaFiveReader extends ParserBase {
     }
 
     yyValue = new TextToken(difference(yyStart, yyRepetition1));
-    yyValue.setLocation(location(yyStart));
+    locate(yyValue, yyStart);
 
     return new SemanticValue(yyValue, yyRepetition1, yyError);
   }
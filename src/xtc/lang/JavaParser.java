@@ -1,8 +1,8 @@
 // ===========================================================================
 // This file has been generated by
-// Rats! Parser Generator, version 2.1.0,
-// (C) 2004-2011 Robert Grimm,
-// on Thursday, August 4, 2011 at 5:33:12 PM.
+// Rats! Parser Generator, version 2.3.1,
+// (C) 2004-2012 Robert Grimm,
+// on Sunday, October 18, 2026 at 7:30:35 PM.
 // Edit at your own risk.
 // ===========================================================================
 
@@ -30,7 +30,7 @@ import xtc.parser.ParseError;
  * Packrat parser for grammar <code>xtc.lang.Java</code>.
  *
  * <p />This class has been generated by the <i>Rats!</i> parser
- * generator, version 2.1.0, (C) 2004-2011 Robert Grimm.
+ * generator, version 2.3.1, (C) 2004-2012 Robert Grimm.
  */
 public final class JavaParser extends ParserBase {
 
@@ -41,39 +41,73 @@ public final class JavaParser extends ParserBase {
 
   /** Chunk 1 of memoized results. */
   static final class Chunk1 {
-    Result fModifiers;
-    Result fFormalParameters;
-    Result fFormalParameters$$Star1;
-    Result fDeclarators;
-    Result fDeclarators$$Star1;
-    Result fBlock;
-    Result fBlock$$Star1;
-    Result fParExpression;
-    Result fCatchClause;
-    Result fExpression;
+    Result fWord;
+    Result fIdentifier;
+    Result fQualifiedIdentifier;
+    Result fPrimitiveType;
+    Result fTypeName;
+    Result fType;
+    Result fResultType;
+    Result fSymbol;
+    Result fRelationalExpression;
+    Result fLogicalOrExpression;
+
+    void clear() {
+      fWord = null;
+      fIdentifier = null;
+      fQualifiedIdentifier = null;
+      fPrimitiveType = null;
+      fTypeName = null;
+      fType = null;
+      fResultType = null;
+      fSymbol = null;
+      fRelationalExpression = null;
+      fLogicalOrExpression = null;
+    }
   }
 
   /** Chunk 2 of memoized results. */
   static final class Chunk2 {
     Result fConditionalExpression;
-    Result fLogicalOrExpression;
-    Result fRelationalExpression;
+    Result fExpression;
+    Result fModifiers;
+    Result fBlock;
+    Result fBlock$$Star1;
     Result fVariableInitializer;
-    Result fResultType;
-    Result fType;
-    Result fTypeName;
-    Result fPrimitiveType;
-    Result fDimensions;
     Result fDimensions$$Plus1;
+    Result fDimensions;
+    Result fFormalParameters;
+    Result fFormalParameters$$Star1;
+
+    void clear() {
+      fConditionalExpression = null;
+      fExpression = null;
+      fModifiers = null;
+      fBlock = null;
+      fBlock$$Star1 = null;
+      fVariableInitializer = null;
+      fDimensions$$Plus1 = null;
+      fDimensions = null;
+      fFormalParameters = null;
+      fFormalParameters$$Star1 = null;
+    }
   }
 
   /** Chunk 3 of memoized results. */
   static final class Chunk3 {
-    Result fQualifiedIdentifier;
+    Result fDeclarators;
+    Result fDeclarators$$Star1;
+    Result fParExpression;
+    Result fCatchClause;
     Result fQualifiedIdentifier$$Star1;
-    Result fIdentifier;
-    Result fWord;
-    Result fSymbol;
+
+    void clear() {
+      fDeclarators = null;
+      fDeclarators$$Star1 = null;
+      fParExpression = null;
+      fCatchClause = null;
+      fQualifiedIdentifier$$Star1 = null;
+    }
   }
 
   // =========================================================================
@@ -83,6 +117,13 @@ public final class JavaParser extends ParserBase {
     Chunk1 chunk1;
     Chunk2 chunk2;
     Chunk3 chunk3;
+
+    protected boolean clear() {
+      if (null != chunk1) chunk1.clear();
+      if (null != chunk2) chunk2.clear();
+      if (null != chunk3) chunk3.clear();
+      return true;
+    }
   }
 
   // =========================================================================
@@ -116,6 +157,41 @@ public final class JavaParser extends ParserBase {
 
   // =========================================================================
 
+  /** The names of the memoized productions. */
+  private static final String[] yyProductions = {
+    "xtc.lang.Java.Modifiers",
+    "xtc.lang.Java.FormalParameters",
+    "xtc.lang.Java.FormalParameters$$Star1",
+    "xtc.lang.Java.Declarators",
+    "xtc.lang.Java.Declarators$$Star1",
+    "xtc.lang.Java.Block",
+    "xtc.lang.Java.Block$$Star1",
+    "xtc.lang.Java.ParExpression",
+    "xtc.lang.Java.CatchClause",
+    "xtc.lang.Java.Expression",
+    "xtc.lang.Java.ConditionalExpression",
+    "xtc.lang.Java.LogicalOrExpression",
+    "xtc.lang.Java.RelationalExpression",
+    "xtc.lang.Java.VariableInitializer",
+    "xtc.lang.JavaType.ResultType",
+    "xtc.lang.JavaType.Type",
+    "xtc.lang.JavaType.TypeName",
+    "xtc.lang.JavaType.PrimitiveType",
+    "xtc.lang.JavaType.Dimensions",
+    "xtc.lang.Java.Dimensions$$Plus1",
+    "xtc.lang.JavaIdentifier.QualifiedIdentifier",
+    "xtc.lang.Java.QualifiedIdentifier$$Star1",
+    "xtc.lang.JavaIdentifier.Identifier",
+    "xtc.lang.JavaIdentifier.Word",
+    "xtc.lang.JavaSymbol.Symbol",
+  };
+
+  protected String[] productions() {
+    return yyProductions;
+  }
+
+  // =========================================================================
+
   /**
    * Parse nonterminal xtc.lang.Java.CompilationUnit.
    *
@@ -128,7 +204,8 @@ public final class JavaParser extends ParserBase {
     int        yyIndex;
     Result     yyResult;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     int        yyOption1;
     Node       yyOpValue1;
     Node       yyValue;
@@ -155,7 +232,8 @@ public final class JavaParser extends ParserBase {
         final Node v$g$1 = yyOpValue1;
 
         yyRepetition1 = yyOption1;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyResult = pImportDeclaration(yyRepetition1);
@@ -164,15 +242,17 @@ public final class JavaParser extends ParserBase {
             final Node v$el$2 = yyResult.semanticValue();
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$2, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$2);
             continue;
           }
           break;
         }
         { // Start scope for v$g$2.
-          final Pair<Node> v$g$2 = yyRepValue1.reverse();
+          final int v$g$2 = yyRepStart1;
+          final int v$g$2$end = yyRepEnd1;
 
-          yyRepValue1   = Pair.empty();
+          yyRepStart1   = bufferStart();
+          yyRepEnd1   = yyRepStart1;
           while (true) {
 
             yyResult = pDeclaration(yyRepetition1);
@@ -181,13 +261,14 @@ public final class JavaParser extends ParserBase {
               final Node v$el$3 = yyResult.semanticValue();
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$3, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$3);
               continue;
             }
             break;
           }
           { // Start scope for v$g$3.
-            final Pair<Node> v$g$3 = yyRepValue1.reverse();
+            final int v$g$3 = yyRepStart1;
+            final int v$g$3$end = yyRepEnd1;
 
             yyOption1  = yyRepetition1;
 
@@ -202,13 +283,17 @@ public final class JavaParser extends ParserBase {
             yyError  = yyResult.select(yyError);
             if (yyResult.hasValue()) {
 
-              yyValue = GNode.create("CompilationUnit", v$g$2.size() + v$g$3.size() + 1).
-                add(v$g$1).addAll(v$g$2).addAll(v$g$3);
-              yyValue.setLocation(location(yyStart));
+              yyValue = GNode.create("CompilationUnit", (v$g$2$end - v$g$2) + (v$g$3$end - v$g$3) + 1).
+                add(v$g$1);
+              addBuffered(yyValue, v$g$2, v$g$2$end);
+              addBuffered(yyValue, v$g$3, v$g$3$end);
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
+            releaseBuffer(v$g$3);
           } // End scope for v$g$3.
+          releaseBuffer(v$g$2);
         } // End scope for v$g$2.
       } // End scope for v$g$1.
     }
@@ -248,7 +333,7 @@ public final class JavaParser extends ParserBase {
         if (yyResult.hasValue(";")) {
 
           yyValue = GNode.create("PackageDeclaration", null, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
@@ -308,7 +393,7 @@ public final class JavaParser extends ParserBase {
           if (yyResult.hasValue(";")) {
 
             yyValue = GNode.create("ImportDeclaration", null, v$g$2, v$g$3);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
@@ -370,10 +455,15 @@ public final class JavaParser extends ParserBase {
    */
   private Result pModifiers(final int yyStart) throws IOException {
     JavaParserColumn yyColumn = (JavaParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fModifiers) 
-      yyColumn.chunk1.fModifiers = pModifiers$1(yyStart);
-    return yyColumn.chunk1.fModifiers;
+    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
+    if (null == yyColumn.chunk2.fModifiers) {
+      yyColumn.chunk2.fModifiers = pModifiers$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(0, yyColumn.chunk2.fModifiers);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(0, yyColumn.chunk2.fModifiers);
+    }
+    return yyColumn.chunk2.fModifiers;
   }
 
   /** Actually parse xtc.lang.Java.Modifiers. */
@@ -390,7 +480,7 @@ public final class JavaParser extends ParserBase {
       final Pair<Node> v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.createFromPair("Modifiers", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -460,7 +550,7 @@ public final class JavaParser extends ParserBase {
       final String v$g$1 = "public";
 
       yyValue = GNode.create("Modifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -472,7 +562,7 @@ public final class JavaParser extends ParserBase {
       final String v$g$2 = "protected";
 
       yyValue = GNode.create("Modifier", v$g$2);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -484,7 +574,7 @@ public final class JavaParser extends ParserBase {
       final String v$g$3 = "private";
 
       yyValue = GNode.create("Modifier", v$g$3);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -496,7 +586,7 @@ public final class JavaParser extends ParserBase {
       final String v$g$4 = "static";
 
       yyValue = GNode.create("Modifier", v$g$4);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -508,7 +598,7 @@ public final class JavaParser extends ParserBase {
       final String v$g$5 = "abstract";
 
       yyValue = GNode.create("Modifier", v$g$5);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -520,7 +610,7 @@ public final class JavaParser extends ParserBase {
       final String v$g$6 = "final";
 
       yyValue = GNode.create("Modifier", v$g$6);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -532,7 +622,7 @@ public final class JavaParser extends ParserBase {
       final String v$g$7 = "native";
 
       yyValue = GNode.create("Modifier", v$g$7);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -544,7 +634,7 @@ public final class JavaParser extends ParserBase {
       final String v$g$8 = "synchronized";
 
       yyValue = GNode.create("Modifier", v$g$8);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -556,7 +646,7 @@ public final class JavaParser extends ParserBase {
       final String v$g$9 = "transient";
 
       yyValue = GNode.create("Modifier", v$g$9);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -568,7 +658,7 @@ public final class JavaParser extends ParserBase {
       final String v$g$10 = "volatile";
 
       yyValue = GNode.create("Modifier", v$g$10);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -580,7 +670,7 @@ public final class JavaParser extends ParserBase {
       final String v$g$11 = "strictfp";
 
       yyValue = GNode.create("Modifier", v$g$11);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -638,7 +728,7 @@ public final class JavaParser extends ParserBase {
             final Node v$g$5 = yyOpValue1;
 
             yyValue = GNode.create("FormalParameter", v$g$1, v$g$2, null, v$g$4, v$g$5);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return new SemanticValue(yyValue, yyOption1, yyError);
           } // End scope for v$g$5.
@@ -672,7 +762,7 @@ public final class JavaParser extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.create("Modifiers", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -680,7 +770,7 @@ public final class JavaParser extends ParserBase {
     // Alternative <Nonfinal>.
 
     yyValue = GNode.create("Modifiers", false);
-    yyValue.setLocation(location(yyStart));
+    locate(yyValue, yyStart);
 
     return new SemanticValue(yyValue, yyStart, yyError);
   }
@@ -706,7 +796,7 @@ public final class JavaParser extends ParserBase {
       final String v$g$1 = "final";
 
       yyValue = GNode.create("Modifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -727,10 +817,15 @@ public final class JavaParser extends ParserBase {
    */
   private Result pFormalParameters(final int yyStart) throws IOException {
     JavaParserColumn yyColumn = (JavaParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fFormalParameters) 
-      yyColumn.chunk1.fFormalParameters = pFormalParameters$1(yyStart);
-    return yyColumn.chunk1.fFormalParameters;
+    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
+    if (null == yyColumn.chunk2.fFormalParameters) {
+      yyColumn.chunk2.fFormalParameters = pFormalParameters$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(1, yyColumn.chunk2.fFormalParameters);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(1, yyColumn.chunk2.fFormalParameters);
+    }
+    return yyColumn.chunk2.fFormalParameters;
   }
 
   /** Actually parse xtc.lang.Java.FormalParameters. */
@@ -764,7 +859,7 @@ public final class JavaParser extends ParserBase {
           if (yyResult.hasValue(")")) {
 
             yyValue = GNode.createFromPair("FormalParameters", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
@@ -780,7 +875,7 @@ public final class JavaParser extends ParserBase {
       if (yyResult.hasValue(")")) {
 
         yyValue = GNode.create("FormalParameters", false);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       } else {
@@ -806,10 +901,16 @@ public final class JavaParser extends ParserBase {
     throws IOException {
 
     JavaParserColumn yyColumn = (JavaParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fFormalParameters$$Star1) 
-      yyColumn.chunk1.fFormalParameters$$Star1 = pFormalParameters$$Star1$1(yyStart);
-    return yyColumn.chunk1.fFormalParameters$$Star1;
+    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
+    if (null == yyColumn.chunk2.fFormalParameters$$Star1) {
+      yyColumn.chunk2.fFormalParameters$$Star1 = 
+        pFormalParameters$$Star1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(2, yyColumn.chunk2.fFormalParameters$$Star1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(2, yyColumn.chunk2.fFormalParameters$$Star1);
+    }
+    return yyColumn.chunk2.fFormalParameters$$Star1;
   }
 
   /** Actually parse xtc.lang.Java.FormalParameters$$Star1. */
@@ -908,7 +1009,7 @@ public final class JavaParser extends ParserBase {
           final Node v$g$3 = yyOpValue1;
 
           yyValue = GNode.create("Declarator", v$g$1, v$g$2, v$g$3);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyOption1, yyError);
         } // End scope for v$g$3.
@@ -930,10 +1031,15 @@ public final class JavaParser extends ParserBase {
    */
   private Result pDeclarators(final int yyStart) throws IOException {
     JavaParserColumn yyColumn = (JavaParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fDeclarators) 
-      yyColumn.chunk1.fDeclarators = pDeclarators$1(yyStart);
-    return yyColumn.chunk1.fDeclarators;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fDeclarators) {
+      yyColumn.chunk3.fDeclarators = pDeclarators$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(3, yyColumn.chunk3.fDeclarators);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(3, yyColumn.chunk3.fDeclarators);
+    }
+    return yyColumn.chunk3.fDeclarators;
   }
 
   /** Actually parse xtc.lang.Java.Declarators. */
@@ -955,7 +1061,7 @@ public final class JavaParser extends ParserBase {
         final Pair<Node> v$g$2 = yyResult.semanticValue();
 
         yyValue = GNode.createFromPair("Declarators", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -976,10 +1082,15 @@ public final class JavaParser extends ParserBase {
    */
   private Result pDeclarators$$Star1(final int yyStart) throws IOException {
     JavaParserColumn yyColumn = (JavaParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fDeclarators$$Star1) 
-      yyColumn.chunk1.fDeclarators$$Star1 = pDeclarators$$Star1$1(yyStart);
-    return yyColumn.chunk1.fDeclarators$$Star1;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fDeclarators$$Star1) {
+      yyColumn.chunk3.fDeclarators$$Star1 = pDeclarators$$Star1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(4, yyColumn.chunk3.fDeclarators$$Star1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(4, yyColumn.chunk3.fDeclarators$$Star1);
+    }
+    return yyColumn.chunk3.fDeclarators$$Star1;
   }
 
   /** Actually parse xtc.lang.Java.Declarators$$Star1. */
@@ -1030,7 +1141,8 @@ public final class JavaParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -1040,7 +1152,8 @@ public final class JavaParser extends ParserBase {
     if (yyResult.hasValue("{")) {
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyResult = pDeclaration(yyRepetition1);
@@ -1049,25 +1162,27 @@ public final class JavaParser extends ParserBase {
           final Node v$el$1 = yyResult.semanticValue();
 
           yyRepetition1 = yyResult.index;
-          yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+          yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
           continue;
         }
         break;
       }
       { // Start scope for v$g$1.
-        final Pair<Node> v$g$1 = yyRepValue1.reverse();
+        final int v$g$1 = yyRepStart1;
+        final int v$g$1$end = yyRepEnd1;
 
         yyBase   = yyRepetition1;
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue("}")) {
 
-          yyValue = GNode.createFromPair("ClassBody", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          yyValue = bufferedNode("ClassBody", v$g$1, v$g$1$end);
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
           yyError = yyError.select("'}' expected", yyBase);
         }
+        releaseBuffer(v$g$1);
       } // End scope for v$g$1.
     }
 
@@ -1119,7 +1234,7 @@ public final class JavaParser extends ParserBase {
           if (yyResult.hasValue(";")) {
 
             yyValue = GNode.create("FieldDeclaration", v$g$1, v$g$2, v$g$3);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
@@ -1187,7 +1302,7 @@ public final class JavaParser extends ParserBase {
                     final Node v$g$8 = yyResult.semanticValue();
 
                     yyValue = GNode.create("MethodDeclaration", v$g$1, null, v$g$3, v$g$4, v$g$5, v$g$6, v$g$7, v$g$8);
-                    yyValue.setLocation(location(yyStart));
+                    locate(yyValue, yyStart);
 
                     return yyResult.createValue(yyValue, yyError);
                   }
@@ -1199,7 +1314,7 @@ public final class JavaParser extends ParserBase {
                   if (yyResult.hasValue(";")) {
 
                     yyValue = GNode.create("MethodDeclaration", v$g$1, null, v$g$3, v$g$4, v$g$5, v$g$6, v$g$7, null);
-                    yyValue.setLocation(location(yyStart));
+                    locate(yyValue, yyStart);
 
                     return yyResult.createValue(yyValue, yyError);
                   } else {
@@ -1243,7 +1358,7 @@ public final class JavaParser extends ParserBase {
                 final Node v$g$6 = yyResult.semanticValue();
 
                 yyValue = GNode.create("ConstructorDeclaration", v$g$1, null, v$g$3, v$g$4, v$g$5, v$g$6);
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return yyResult.createValue(yyValue, yyError);
               }
@@ -1296,7 +1411,7 @@ public final class JavaParser extends ParserBase {
                 final Node v$g$6 = yyResult.semanticValue();
 
                 yyValue = GNode.create("ClassDeclaration", v$g$1, v$g$2, null, v$g$4, v$g$5, v$g$6);
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return yyResult.createValue(yyValue, yyError);
               }
@@ -1338,7 +1453,7 @@ public final class JavaParser extends ParserBase {
               final Node v$g$5 = yyResult.semanticValue();
 
               yyValue = GNode.create("InterfaceDeclaration", v$g$1, v$g$2, null, v$g$4, v$g$5);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -1373,7 +1488,7 @@ public final class JavaParser extends ParserBase {
         final Node v$g$2 = yyResult.semanticValue();
 
         yyValue = GNode.create("BlockDeclaration", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -1385,7 +1500,7 @@ public final class JavaParser extends ParserBase {
     if (yyResult.hasValue(";")) {
 
       yyValue = GNode.create("EmptyDeclaration", false);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -1408,7 +1523,8 @@ public final class JavaParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -1423,7 +1539,8 @@ public final class JavaParser extends ParserBase {
         final Node v$g$1 = yyResult.semanticValue();
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyBase   = yyRepetition1;
@@ -1436,7 +1553,7 @@ public final class JavaParser extends ParserBase {
               final Node v$el$1 = yyResult.semanticValue();
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
           } else {
@@ -1445,10 +1562,11 @@ public final class JavaParser extends ParserBase {
           break;
         }
         { // Start scope for v$g$2.
-          final Pair<Node> v$g$2 = yyRepValue1.reverse();
+          final int v$g$2 = yyRepStart1;
+          final int v$g$2$end = yyRepEnd1;
 
-          yyValue = GNode.createFromPair("ThrowsClause", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          yyValue = bufferedNode("ThrowsClause", v$g$1, v$g$2, v$g$2$end);
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
         } // End scope for v$g$2.
@@ -1473,7 +1591,8 @@ public final class JavaParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -1488,7 +1607,8 @@ public final class JavaParser extends ParserBase {
         final Node v$g$1 = yyResult.semanticValue();
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyBase   = yyRepetition1;
@@ -1501,7 +1621,7 @@ public final class JavaParser extends ParserBase {
               final Node v$el$1 = yyResult.semanticValue();
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
           } else {
@@ -1510,10 +1630,11 @@ public final class JavaParser extends ParserBase {
           break;
         }
         { // Start scope for v$g$2.
-          final Pair<Node> v$g$2 = yyRepValue1.reverse();
+          final int v$g$2 = yyRepStart1;
+          final int v$g$2$end = yyRepEnd1;
 
-          yyValue = GNode.createFromPair("Extension", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          yyValue = bufferedNode("Extension", v$g$1, v$g$2, v$g$2$end);
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
         } // End scope for v$g$2.
@@ -1538,7 +1659,8 @@ public final class JavaParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -1553,7 +1675,8 @@ public final class JavaParser extends ParserBase {
         final Node v$g$1 = yyResult.semanticValue();
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyBase   = yyRepetition1;
@@ -1566,7 +1689,7 @@ public final class JavaParser extends ParserBase {
               final Node v$el$1 = yyResult.semanticValue();
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
           } else {
@@ -1575,10 +1698,11 @@ public final class JavaParser extends ParserBase {
           break;
         }
         { // Start scope for v$g$2.
-          final Pair<Node> v$g$2 = yyRepValue1.reverse();
+          final int v$g$2 = yyRepStart1;
+          final int v$g$2$end = yyRepEnd1;
 
-          yyValue = GNode.createFromPair("Implementation", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          yyValue = bufferedNode("Implementation", v$g$1, v$g$2, v$g$2$end);
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
         } // End scope for v$g$2.
@@ -1601,10 +1725,14 @@ public final class JavaParser extends ParserBase {
    */
   private Result pBlock(final int yyStart) throws IOException {
     JavaParserColumn yyColumn = (JavaParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fBlock) 
-      yyColumn.chunk1.fBlock = pBlock$1(yyStart);
-    return yyColumn.chunk1.fBlock;
+    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
+    if (null == yyColumn.chunk2.fBlock) {
+      yyColumn.chunk2.fBlock = pBlock$1(yyStart);
+      if (null != yyStatistics) yyStatistics.miss(5, yyColumn.chunk2.fBlock);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(5, yyColumn.chunk2.fBlock);
+    }
+    return yyColumn.chunk2.fBlock;
   }
 
   /** Actually parse xtc.lang.Java.Block. */
@@ -1629,7 +1757,7 @@ public final class JavaParser extends ParserBase {
         if (yyResult.hasValue("}")) {
 
           yyValue = GNode.createFromPair("Block", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
@@ -1654,10 +1782,15 @@ public final class JavaParser extends ParserBase {
    */
   private Result pBlock$$Star1(final int yyStart) throws IOException {
     JavaParserColumn yyColumn = (JavaParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fBlock$$Star1) 
-      yyColumn.chunk1.fBlock$$Star1 = pBlock$$Star1$1(yyStart);
-    return yyColumn.chunk1.fBlock$$Star1;
+    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
+    if (null == yyColumn.chunk2.fBlock$$Star1) {
+      yyColumn.chunk2.fBlock$$Star1 = pBlock$$Star1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(6, yyColumn.chunk2.fBlock$$Star1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(6, yyColumn.chunk2.fBlock$$Star1);
+    }
+    return yyColumn.chunk2.fBlock$$Star1;
   }
 
   /** Actually parse xtc.lang.Java.Block$$Star1. */
@@ -1811,7 +1944,7 @@ public final class JavaParser extends ParserBase {
                 final Node v$g$6 = yyResult.semanticValue();
 
                 yyValue = GNode.create("ClassDeclaration", v$g$1, v$g$2, null, v$g$4, v$g$5, v$g$6);
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return yyResult.createValue(yyValue, yyError);
               }
@@ -1853,7 +1986,7 @@ public final class JavaParser extends ParserBase {
               final Node v$g$5 = yyResult.semanticValue();
 
               yyValue = GNode.create("InterfaceDeclaration", v$g$1, v$g$2, null, v$g$4, v$g$5);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -1905,7 +2038,7 @@ public final class JavaParser extends ParserBase {
           if (yyResult.hasValue(";")) {
 
             yyValue = GNode.create("FieldDeclaration", v$g$1, v$g$2, v$g$3);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
@@ -1933,20 +2066,56 @@ public final class JavaParser extends ParserBase {
     int        yyBase;
     int        yyRepetition1;
     boolean    yyRepeated1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     int        yyOption1;
     Object     yyOpValue1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Block>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pBlock(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pBlock(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 2.
@@ -1978,7 +2147,7 @@ public final class JavaParser extends ParserBase {
               final Node v$g$3 = yyResult.semanticValue();
 
               yyValue = GNode.create("ConditionalStatement", v$g$1, v$g$2, v$g$3);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -1989,7 +2158,7 @@ public final class JavaParser extends ParserBase {
           // Nested alternative 2.
 
           yyValue = GNode.create("ConditionalStatement", v$g$1, v$g$2, null);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyChoice1, yyError);
         }
@@ -2020,7 +2189,7 @@ public final class JavaParser extends ParserBase {
               final Node v$g$2 = yyResult.semanticValue();
 
               yyValue = GNode.create("ForStatement", v$g$1, v$g$2);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -2049,7 +2218,7 @@ public final class JavaParser extends ParserBase {
           final Node v$g$2 = yyResult.semanticValue();
 
           yyValue = GNode.create("WhileStatement", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -2080,7 +2249,7 @@ public final class JavaParser extends ParserBase {
             if (yyResult.hasValue(";")) {
 
               yyValue = GNode.create("DoWhileStatement", v$g$1, v$g$2);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             } else {
@@ -2108,7 +2277,8 @@ public final class JavaParser extends ParserBase {
         // Nested alternative 1.
 
         yyRepetition1 = yyChoice1;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyResult = pCatchClause(yyRepetition1);
@@ -2117,13 +2287,14 @@ public final class JavaParser extends ParserBase {
             final Node v$el$1 = yyResult.semanticValue();
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
           break;
         }
         { // Start scope for v$g$3.
-          final Pair<Node> v$g$3 = yyRepValue1.reverse();
+          final int v$g$3 = yyRepStart1;
+          final int v$g$3$end = yyRepEnd1;
 
           yyBase   = yyRepetition1;
           yyResult = pWord(yyBase);
@@ -2134,22 +2305,26 @@ public final class JavaParser extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$4 = yyResult.semanticValue();
 
-              yyValue = GNode.create("TryCatchFinallyStatement", v$g$3.size() + 3).
-                add(null).add(v$g$2).addAll(v$g$3).add(v$g$4);
-              yyValue.setLocation(location(yyStart));
+              yyValue = GNode.create("TryCatchFinallyStatement", (v$g$3$end - v$g$3) + 3).
+                add(null).add(v$g$2);
+              addBuffered(yyValue, v$g$3, v$g$3$end);
+              yyValue.add(v$g$4);
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
           } else {
             yyError = yyError.select("'finally' expected", yyBase);
           }
+          releaseBuffer(v$g$3);
         } // End scope for v$g$3.
 
         // Nested alternative 2.
 
         yyRepetition1 = yyChoice1;
         yyRepeated1   = false;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyResult = pCatchClause(yyRepetition1);
@@ -2159,18 +2334,21 @@ public final class JavaParser extends ParserBase {
 
             yyRepetition1 = yyResult.index;
             yyRepeated1   = true;
-            yyRepValue1   = new Pair<Node>(v$el$2, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$2);
             continue;
           }
           break;
         }
 
         if (yyRepeated1) {
-          final Pair<Node> v$g$5 = yyRepValue1.reverse();
+          final int v$g$5 = yyRepStart1;
+          final int v$g$5$end = yyRepEnd1;
 
-          yyValue = GNode.create("TryCatchFinallyStatement", v$g$5.size() + 3).
-            add(null).add(v$g$2).addAll(v$g$5).add(null);
-          yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("TryCatchFinallyStatement", (v$g$5$end - v$g$5) + 3).
+            add(null).add(v$g$2);
+          addBuffered(yyValue, v$g$5, v$g$5$end);
+          yyValue.add(null);
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
         }
@@ -2192,7 +2370,8 @@ public final class JavaParser extends ParserBase {
         if (yyResult.hasValue("{")) {
 
           yyRepetition1 = yyResult.index;
-          yyRepValue1   = Pair.empty();
+          yyRepStart1   = bufferStart();
+          yyRepEnd1   = yyRepStart1;
           while (true) {
 
             yyResult = pSwitchClause(yyRepetition1);
@@ -2201,25 +2380,27 @@ public final class JavaParser extends ParserBase {
               final Node v$el$1 = yyResult.semanticValue();
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
             break;
           }
           { // Start scope for v$g$2.
-            final Pair<Node> v$g$2 = yyRepValue1.reverse();
+            final int v$g$2 = yyRepStart1;
+            final int v$g$2$end = yyRepEnd1;
 
             yyBase   = yyRepetition1;
             yyResult = pSymbol(yyBase);
             if (yyResult.hasValue("}")) {
 
-              yyValue = GNode.createFromPair("SwitchStatement", v$g$1, v$g$2);
-              yyValue.setLocation(location(yyStart));
+              yyValue = bufferedNode("SwitchStatement", v$g$1, v$g$2, v$g$2$end);
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             } else {
               yyError = yyError.select("'}' expected", yyBase);
             }
+            releaseBuffer(v$g$2);
           } // End scope for v$g$2.
         } else {
           yyError = yyError.select("'{' expected", yyBase);
@@ -2243,7 +2424,7 @@ public final class JavaParser extends ParserBase {
           final Node v$g$2 = yyResult.semanticValue();
 
           yyValue = GNode.create("SynchronizedStatement", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -2274,7 +2455,7 @@ public final class JavaParser extends ParserBase {
         if (yyResult.hasValue(";")) {
 
           yyValue = GNode.create("ReturnStatement", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
@@ -2298,7 +2479,7 @@ public final class JavaParser extends ParserBase {
         if (yyResult.hasValue(";")) {
 
           yyValue = GNode.create("ThrowStatement", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
@@ -2331,7 +2512,7 @@ public final class JavaParser extends ParserBase {
         if (yyResult.hasValue(";")) {
 
           yyValue = GNode.create("BreakStatement", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
@@ -2364,7 +2545,7 @@ public final class JavaParser extends ParserBase {
         if (yyResult.hasValue(";")) {
 
           yyValue = GNode.create("ContinueStatement", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
@@ -2390,7 +2571,7 @@ public final class JavaParser extends ParserBase {
           final Node v$g$2 = yyResult.semanticValue();
 
           yyValue = GNode.create("LabeledStatement", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -2411,7 +2592,7 @@ public final class JavaParser extends ParserBase {
       if (yyResult.hasValue(";")) {
 
         yyValue = GNode.create("ExpressionStatement", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       } else {
@@ -2455,7 +2636,7 @@ public final class JavaParser extends ParserBase {
           if (yyResult.hasValue(";")) {
 
             yyValue = GNode.create("AssertStatement", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
@@ -2466,14 +2647,16 @@ public final class JavaParser extends ParserBase {
     }
 
     // Alternative 16.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(";")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(";")) {
 
-      yyValue = GNode.create("EmptyStatement", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("EmptyStatement", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -2552,7 +2735,7 @@ public final class JavaParser extends ParserBase {
                   final Node v$g$5 = yyOpValue1;
 
                   yyValue = GNode.create("BasicForControl", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
-                  yyValue.setLocation(location(yyStart));
+                  locate(yyValue, yyStart);
 
                   return new SemanticValue(yyValue, yyOption1, yyError);
                 } // End scope for v$g$5.
@@ -2620,7 +2803,7 @@ public final class JavaParser extends ParserBase {
               final Node v$g$10 = yyOpValue1;
 
               yyValue = GNode.create("BasicForControl", null, null, v$g$8, v$g$9, v$g$10);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return new SemanticValue(yyValue, yyOption1, yyError);
             } // End scope for v$g$10.
@@ -2648,10 +2831,15 @@ public final class JavaParser extends ParserBase {
    */
   private Result pParExpression(final int yyStart) throws IOException {
     JavaParserColumn yyColumn = (JavaParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fParExpression) 
-      yyColumn.chunk1.fParExpression = pParExpression$1(yyStart);
-    return yyColumn.chunk1.fParExpression;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fParExpression) {
+      yyColumn.chunk3.fParExpression = pParExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(7, yyColumn.chunk3.fParExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(7, yyColumn.chunk3.fParExpression);
+    }
+    return yyColumn.chunk3.fParExpression;
   }
 
   /** Actually parse xtc.lang.Java.ParExpression. */
@@ -2698,10 +2886,15 @@ public final class JavaParser extends ParserBase {
    */
   private Result pCatchClause(final int yyStart) throws IOException {
     JavaParserColumn yyColumn = (JavaParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fCatchClause) 
-      yyColumn.chunk1.fCatchClause = pCatchClause$1(yyStart);
-    return yyColumn.chunk1.fCatchClause;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fCatchClause) {
+      yyColumn.chunk3.fCatchClause = pCatchClause$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(8, yyColumn.chunk3.fCatchClause);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(8, yyColumn.chunk3.fCatchClause);
+    }
+    return yyColumn.chunk3.fCatchClause;
   }
 
   /** Actually parse xtc.lang.Java.CatchClause. */
@@ -2735,7 +2928,7 @@ public final class JavaParser extends ParserBase {
               final Node v$g$2 = yyResult.semanticValue();
 
               yyValue = GNode.create("CatchClause", v$g$1, v$g$2);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -2766,7 +2959,8 @@ public final class JavaParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -2785,7 +2979,8 @@ public final class JavaParser extends ParserBase {
         if (yyResult.hasValue(":")) {
 
           yyRepetition1 = yyResult.index;
-          yyRepValue1   = Pair.empty();
+          yyRepStart1   = bufferStart();
+          yyRepEnd1   = yyRepStart1;
           while (true) {
 
             yyResult = pDeclarationOrStatement(yyRepetition1);
@@ -2794,16 +2989,17 @@ public final class JavaParser extends ParserBase {
               final Node v$el$1 = yyResult.semanticValue();
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
             break;
           }
           { // Start scope for v$g$2.
-            final Pair<Node> v$g$2 = yyRepValue1.reverse();
+            final int v$g$2 = yyRepStart1;
+            final int v$g$2$end = yyRepEnd1;
 
-            yyValue = GNode.createFromPair("CaseClause", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
+            yyValue = bufferedNode("CaseClause", v$g$1, v$g$2, v$g$2$end);
+            locate(yyValue, yyStart);
 
             return new SemanticValue(yyValue, yyRepetition1, yyError);
           } // End scope for v$g$2.
@@ -2823,7 +3019,8 @@ public final class JavaParser extends ParserBase {
       if (yyResult.hasValue(":")) {
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyResult = pDeclarationOrStatement(yyRepetition1);
@@ -2832,16 +3029,17 @@ public final class JavaParser extends ParserBase {
             final Node v$el$1 = yyResult.semanticValue();
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
           break;
         }
         { // Start scope for v$g$1.
-          final Pair<Node> v$g$1 = yyRepValue1.reverse();
+          final int v$g$1 = yyRepStart1;
+          final int v$g$1$end = yyRepEnd1;
 
-          yyValue = GNode.createFromPair("DefaultClause", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          yyValue = bufferedNode("DefaultClause", v$g$1, v$g$1$end);
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
         } // End scope for v$g$1.
@@ -2868,7 +3066,8 @@ public final class JavaParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -2880,7 +3079,8 @@ public final class JavaParser extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyBase   = yyRepetition1;
@@ -2893,7 +3093,7 @@ public final class JavaParser extends ParserBase {
             final Node v$el$1 = yyResult.semanticValue();
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
         } else {
@@ -2902,10 +3102,11 @@ public final class JavaParser extends ParserBase {
         break;
       }
       { // Start scope for v$g$2.
-        final Pair<Node> v$g$2 = yyRepValue1.reverse();
+        final int v$g$2 = yyRepStart1;
+        final int v$g$2$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("ExpressionList", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("ExpressionList", v$g$1, v$g$2, v$g$2$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$2.
@@ -2926,10 +3127,15 @@ public final class JavaParser extends ParserBase {
    */
   private Result pExpression(final int yyStart) throws IOException {
     JavaParserColumn yyColumn = (JavaParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fExpression) 
-      yyColumn.chunk1.fExpression = pExpression$1(yyStart);
-    return yyColumn.chunk1.fExpression;
+    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
+    if (null == yyColumn.chunk2.fExpression) {
+      yyColumn.chunk2.fExpression = pExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(9, yyColumn.chunk2.fExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(9, yyColumn.chunk2.fExpression);
+    }
+    return yyColumn.chunk2.fExpression;
   }
 
   /** Actually parse xtc.lang.Java.Expression. */
@@ -2956,7 +3162,7 @@ public final class JavaParser extends ParserBase {
           final Node v$g$3 = yyResult.semanticValue();
 
           yyValue = GNode.create("Expression", v$g$1, v$g$2, v$g$3);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -2991,112 +3197,169 @@ public final class JavaParser extends ParserBase {
     String     yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0xfff;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Equal>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("=")) {
-      yyValue = "=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("=")) {
+        yyValue = "=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <PlusEqual>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("+=")) {
-      yyValue = "+=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("+=")) {
+        yyValue = "+=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <MinusEqual>.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("-=")) {
-      yyValue = "-=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("-=")) {
+        yyValue = "-=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <StarEqual>.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("*=")) {
-      yyValue = "*=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("*=")) {
+        yyValue = "*=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <SlashEqual>.
+    if (0 != (yyFirst & 0x10)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("/=")) {
-      yyValue = "/=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("/=")) {
+        yyValue = "/=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <AmpersandEqual>.
+    if (0 != (yyFirst & 0x20)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("&=")) {
-      yyValue = "&=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("&=")) {
+        yyValue = "&=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <BarEqual>.
+    if (0 != (yyFirst & 0x40)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("|=")) {
-      yyValue = "|=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("|=")) {
+        yyValue = "|=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <CaretEqual>.
+    if (0 != (yyFirst & 0x80)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("^=")) {
-      yyValue = "^=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("^=")) {
+        yyValue = "^=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <PercentEqual>.
+    if (0 != (yyFirst & 0x100)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("%=")) {
-      yyValue = "%=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("%=")) {
+        yyValue = "%=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <DoubleLessEqual>.
+    if (0 != (yyFirst & 0x200)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("<<=")) {
-      yyValue = "<<=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("<<=")) {
+        yyValue = "<<=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <DoubleGreaterEqual>.
+    if (0 != (yyFirst & 0x400)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(">>=")) {
-      yyValue = ">>=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(">>=")) {
+        yyValue = ">>=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <TripleGreaterEqual>.
+    if (0 != (yyFirst & 0x800)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(">>>=")) {
-      yyValue = ">>>=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(">>>=")) {
+        yyValue = ">>>=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -3118,8 +3381,14 @@ public final class JavaParser extends ParserBase {
 
     JavaParserColumn yyColumn = (JavaParserColumn)column(yyStart);
     if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fConditionalExpression) 
-      yyColumn.chunk2.fConditionalExpression = pConditionalExpression$1(yyStart);
+    if (null == yyColumn.chunk2.fConditionalExpression) {
+      yyColumn.chunk2.fConditionalExpression = 
+        pConditionalExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(10, yyColumn.chunk2.fConditionalExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(10, yyColumn.chunk2.fConditionalExpression);
+    }
     return yyColumn.chunk2.fConditionalExpression;
   }
 
@@ -3158,7 +3427,7 @@ public final class JavaParser extends ParserBase {
               final Node v$g$3 = yyResult.semanticValue();
 
               yyValue = GNode.create("ConditionalExpression", v$g$1, v$g$2, v$g$3);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -3196,10 +3465,15 @@ public final class JavaParser extends ParserBase {
    */
   private Result pLogicalOrExpression(final int yyStart) throws IOException {
     JavaParserColumn yyColumn = (JavaParserColumn)column(yyStart);
-    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fLogicalOrExpression) 
-      yyColumn.chunk2.fLogicalOrExpression = pLogicalOrExpression$1(yyStart);
-    return yyColumn.chunk2.fLogicalOrExpression;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fLogicalOrExpression) {
+      yyColumn.chunk1.fLogicalOrExpression = pLogicalOrExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(11, yyColumn.chunk1.fLogicalOrExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(11, yyColumn.chunk1.fLogicalOrExpression);
+    }
+    return yyColumn.chunk1.fLogicalOrExpression;
   }
 
   /** Actually parse xtc.lang.Java.LogicalOrExpression. */
@@ -3757,22 +4031,59 @@ public final class JavaParser extends ParserBase {
     String     yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Equal>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("==")) {
-      yyValue = "==";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("==")) {
+        yyValue = "==";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <NotEqual>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("!=")) {
-      yyValue = "!=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("!=")) {
+        yyValue = "!=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -3812,7 +4123,7 @@ public final class JavaParser extends ParserBase {
           final Node v$g$2 = yyResult.semanticValue();
 
           yyValue = GNode.create("InstanceOfExpression", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -3846,10 +4157,16 @@ public final class JavaParser extends ParserBase {
    */
   private Result pRelationalExpression(final int yyStart) throws IOException {
     JavaParserColumn yyColumn = (JavaParserColumn)column(yyStart);
-    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fRelationalExpression) 
-      yyColumn.chunk2.fRelationalExpression = pRelationalExpression$1(yyStart);
-    return yyColumn.chunk2.fRelationalExpression;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fRelationalExpression) {
+      yyColumn.chunk1.fRelationalExpression = 
+        pRelationalExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(12, yyColumn.chunk1.fRelationalExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(12, yyColumn.chunk1.fRelationalExpression);
+    }
+    return yyColumn.chunk1.fRelationalExpression;
   }
 
   /** Actually parse xtc.lang.Java.RelationalExpression. */
@@ -3952,40 +4269,81 @@ public final class JavaParser extends ParserBase {
     String     yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0xf;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Less>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("<")) {
-      yyValue = "<";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("<")) {
+        yyValue = "<";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Greater>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(">")) {
-      yyValue = ">";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(">")) {
+        yyValue = ">";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <LessEqual>.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("<=")) {
-      yyValue = "<=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("<=")) {
+        yyValue = "<=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <GreaterEqual>.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(">=")) {
-      yyValue = ">=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(">=")) {
+        yyValue = ">=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -4099,31 +4457,70 @@ public final class JavaParser extends ParserBase {
     String     yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x7;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Left>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("<<")) {
-      yyValue = "<<";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("<<")) {
+        yyValue = "<<";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Right>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(">>")) {
-      yyValue = ">>";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(">>")) {
+        yyValue = ">>";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <UnsignedRight>.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(">>>")) {
-      yyValue = ">>>";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(">>>")) {
+        yyValue = ">>>";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -4237,22 +4634,59 @@ public final class JavaParser extends ParserBase {
     String     yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Plus>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("+")) {
-      yyValue = "+";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("+")) {
+        yyValue = "+";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Minus>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("-")) {
-      yyValue = "-";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("-")) {
+        yyValue = "-";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -4371,31 +4805,70 @@ public final class JavaParser extends ParserBase {
     String     yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x7;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Times>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("*")) {
-      yyValue = "*";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("*")) {
+        yyValue = "*";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Over>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("/")) {
-      yyValue = "/";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("/")) {
+        yyValue = "/";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Modulo>.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("%")) {
-      yyValue = "%";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("%")) {
+        yyValue = "%";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -4417,75 +4890,116 @@ public final class JavaParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0xf;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Plus>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("+")) {
-      final String v$g$1 = "+";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("+")) {
+        final String v$g$1 = "+";
 
-      yyResult = pUnaryExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$2 = yyResult.semanticValue();
+        yyResult = pUnaryExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryExpression", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("UnaryExpression", v$g$1, v$g$2);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative <Minus>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("-")) {
-      final String v$g$3 = "-";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("-")) {
+        final String v$g$3 = "-";
 
-      yyResult = pUnaryExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$4 = yyResult.semanticValue();
+        yyResult = pUnaryExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$4 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryExpression", v$g$3, v$g$4);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("UnaryExpression", v$g$3, v$g$4);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative <Increment>.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("++")) {
-      final String v$g$5 = "++";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("++")) {
+        final String v$g$5 = "++";
 
-      yyResult = pUnaryExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$6 = yyResult.semanticValue();
+        yyResult = pUnaryExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$6 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryExpression", v$g$5, v$g$6);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("UnaryExpression", v$g$5, v$g$6);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative <Decrement>.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("--")) {
-      final String v$g$7 = "--";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("--")) {
+        final String v$g$7 = "--";
 
-      yyResult = pUnaryExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$8 = yyResult.semanticValue();
+        yyResult = pUnaryExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$8 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryExpression", v$g$7, v$g$8);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("UnaryExpression", v$g$7, v$g$8);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
@@ -4523,111 +5037,150 @@ public final class JavaParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x7;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("~")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("~")) {
 
-      yyResult = pUnaryExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
+        yyResult = pUnaryExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("BitwiseNegationExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("BitwiseNegationExpression", v$g$1);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("!")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("!")) {
 
-      yyResult = pUnaryExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
+        yyResult = pUnaryExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("LogicalNegationExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("LogicalNegationExpression", v$g$1);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("(")) {
-
-      final int yyChoice1 = yyResult.index;
-
-      // Nested alternative 1.
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("(")) {
 
-      yyResult = pPrimitiveType(yyChoice1);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
+        final int yyChoice1 = yyResult.index;
 
-        yyOption1  = yyResult.index;
-        yyOpValue1 = null;
+        // Nested alternative 1.
 
-        yyResult = pDimensions(yyOption1);
-        yyError  = yyResult.select(yyError, yyOption1);
+        yyResult = pPrimitiveType(yyChoice1);
+        yyError  = yyResult.select(yyError);
         if (yyResult.hasValue()) {
-          final Node v$el$1 = yyResult.semanticValue();
+          final Node v$g$1 = yyResult.semanticValue();
 
           yyOption1  = yyResult.index;
-          yyOpValue1 = v$el$1;
+          yyOpValue1 = null;
+
+          yyResult = pDimensions(yyOption1);
+          yyError  = yyResult.select(yyError, yyOption1);
+          if (yyResult.hasValue()) {
+            final Node v$el$1 = yyResult.semanticValue();
+
+            yyOption1  = yyResult.index;
+            yyOpValue1 = v$el$1;
+          }
+          { // Start scope for v$g$2.
+            final Node v$g$2 = yyOpValue1;
+
+            yyBase   = yyOption1;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue(")")) {
+
+              yyResult = pUnaryExpression(yyResult.index);
+              yyError  = yyResult.select(yyError);
+              if (yyResult.hasValue()) {
+                final Node v$g$3 = yyResult.semanticValue();
+
+                yyValue = GNode.create("BasicCastExpression", v$g$1, v$g$2, v$g$3);
+                locate(yyValue, yyStart);
+
+                return yyResult.createValue(yyValue, yyError);
+              }
+            } else {
+              yyError = yyError.select("')' expected", yyBase);
+            }
+          } // End scope for v$g$2.
         }
-        { // Start scope for v$g$2.
-          final Node v$g$2 = yyOpValue1;
 
-          yyBase   = yyOption1;
+        // Nested alternative 2.
+
+        yyResult = pType(yyChoice1);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$1 = yyResult.semanticValue();
+
+          yyBase   = yyResult.index;
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue(")")) {
 
-            yyResult = pUnaryExpression(yyResult.index);
+            yyResult = pUnaryExpressionNotPlusMinus(yyResult.index);
             yyError  = yyResult.select(yyError);
             if (yyResult.hasValue()) {
-              final Node v$g$3 = yyResult.semanticValue();
+              final Node v$g$2 = yyResult.semanticValue();
 
-              yyValue = GNode.create("BasicCastExpression", v$g$1, v$g$2, v$g$3);
-              yyValue.setLocation(location(yyStart));
+              yyValue = GNode.create("CastExpression", v$g$1, v$g$2);
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
           } else {
             yyError = yyError.select("')' expected", yyBase);
           }
-        } // End scope for v$g$2.
-      }
-
-      // Nested alternative 2.
-
-      yyResult = pType(yyChoice1);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
-
-        yyBase   = yyResult.index;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue(")")) {
-
-          yyResult = pUnaryExpressionNotPlusMinus(yyResult.index);
-          yyError  = yyResult.select(yyError);
-          if (yyResult.hasValue()) {
-            final Node v$g$2 = yyResult.semanticValue();
-
-            yyValue = GNode.create("CastExpression", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
-
-            return yyResult.createValue(yyValue, yyError);
-          }
-        } else {
-          yyError = yyError.select("')' expected", yyBase);
         }
       }
     }
@@ -4717,193 +5270,236 @@ public final class JavaParser extends ParserBase {
     Action<Node> yyValue;
     ParseError   yyError = ParseError.DUMMY;
 
-    // Alternative 1.
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x1f;
+      break;
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(".")) {
+    default:
+      yyFirst = 0;
+    }
 
-      final int yyChoice1 = yyResult.index;
+    // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-      // Nested alternative 1.
-      { // Start scope for nested choice.
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(".")) {
 
-        final int yyChoice2 = yyChoice1;
+        final int yyChoice1 = yyResult.index;
 
         // Nested alternative 1.
+        { // Start scope for nested choice.
 
-        yyResult = pIdentifier(yyChoice2);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final String v$g$3 = yyResult.semanticValue();
+          final int yyChoice2 = yyChoice1;
+
+          // Nested alternative 1.
 
-          yyResult = pArguments(yyResult.index);
+          yyResult = pIdentifier(yyChoice2);
           yyError  = yyResult.select(yyError);
           if (yyResult.hasValue()) {
-            final Node v$g$4 = yyResult.semanticValue();
+            final String v$g$3 = yyResult.semanticValue();
 
-            yyValue = new Action<Node>() {
-              public Node run(Node v$1) {
-                return GNode.create("CallExpression", v$1, null, v$g$3, v$g$4);
-              }};
+            yyResult = pArguments(yyResult.index);
+            yyError  = yyResult.select(yyError);
+            if (yyResult.hasValue()) {
+              final Node v$g$4 = yyResult.semanticValue();
 
-            return yyResult.createValue(yyValue, yyError);
+              yyValue = new Action<Node>() {
+                public Node run(Node v$1) {
+                  return GNode.create("CallExpression", v$1, null, v$g$3, v$g$4);
+                }};
+
+              return yyResult.createValue(yyValue, yyError);
+            }
           }
-        }
 
-        // Nested alternative 2.
+          // Nested alternative 2.
 
-        yyBase   = yyChoice2;
-        yyResult = pWord(yyBase);
-        if (yyResult.hasValue("super")) {
-          final String v$g$5 = "super";
+          yyBase   = yyChoice2;
+          yyResult = pWord(yyBase);
+          if (yyResult.hasValue("super")) {
+            final String v$g$5 = "super";
 
-          yyResult = pArguments(yyResult.index);
-          yyError  = yyResult.select(yyError);
-          if (yyResult.hasValue()) {
-            final Node v$g$6 = yyResult.semanticValue();
+            yyResult = pArguments(yyResult.index);
+            yyError  = yyResult.select(yyError);
+            if (yyResult.hasValue()) {
+              final Node v$g$6 = yyResult.semanticValue();
 
-            yyValue = new Action<Node>() {
-              public Node run(Node v$1) {
-                return GNode.create("CallExpression", v$1, null, v$g$5, v$g$6);
-              }};
+              yyValue = new Action<Node>() {
+                public Node run(Node v$1) {
+                  return GNode.create("CallExpression", v$1, null, v$g$5, v$g$6);
+                }};
 
-            return yyResult.createValue(yyValue, yyError);
+              return yyResult.createValue(yyValue, yyError);
+            }
+          } else {
+            yyError = yyError.select("'super' expected", yyBase);
           }
-        } else {
-          yyError = yyError.select("'super' expected", yyBase);
-        }
-      } // End scope for nested choice.
+        } // End scope for nested choice.
 
-      // Nested alternative 2.
+        // Nested alternative 2.
 
-      yyBase   = yyChoice1;
-      yyResult = pWord(yyBase);
-      if (yyResult.hasValue("super")) {
+        yyBase   = yyChoice1;
+        yyResult = pWord(yyBase);
+        if (yyResult.hasValue("super")) {
 
-        yyValue = new Action<Node>() {
-          public Node run(Node v$1) {
-            return GNode.create("SuperExpression", v$1);
-          }};
+          yyValue = new Action<Node>() {
+            public Node run(Node v$1) {
+              return GNode.create("SuperExpression", v$1);
+            }};
 
-        return yyResult.createValue(yyValue, yyError);
-      } else {
-        yyError = yyError.select("'super' expected", yyBase);
-      }
+          return yyResult.createValue(yyValue, yyError);
+        } else {
+          yyError = yyError.select("'super' expected", yyBase);
+        }
 
-      // Nested alternative 3.
+        // Nested alternative 3.
 
-      yyResult = pIdentifier(yyChoice1);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final String v$g$7 = yyResult.semanticValue();
+        yyResult = pIdentifier(yyChoice1);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final String v$g$7 = yyResult.semanticValue();
 
-        yyValue = new Action<Node>() {
-          public Node run(Node v$1) {
-            return GNode.create("SelectionExpression", v$1, v$g$7);
-          }};
+          yyValue = new Action<Node>() {
+            public Node run(Node v$1) {
+              return GNode.create("SelectionExpression", v$1, v$g$7);
+            }};
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("[")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("[")) {
 
-      yyResult = pExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$8 = yyResult.semanticValue();
+        yyResult = pExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$8 = yyResult.semanticValue();
 
-        yyBase   = yyResult.index;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue("]")) {
+          yyBase   = yyResult.index;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue("]")) {
 
-          yyValue = new Action<Node>() {
-            public Node run(Node v$1) {
-              return GNode.create("SubscriptExpression", v$1, v$g$8);
-            }};
+            yyValue = new Action<Node>() {
+              public Node run(Node v$1) {
+                return GNode.create("SubscriptExpression", v$1, v$g$8);
+              }};
 
-          return yyResult.createValue(yyValue, yyError);
-        } else {
-          yyError = yyError.select("']' expected", yyBase);
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("']' expected", yyBase);
+          }
         }
       }
     }
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("++")) {
-      final String v$g$9 = "++";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("++")) {
+        final String v$g$9 = "++";
 
-      yyValue = new Action<Node>() {
-        public Node run(Node v$1) {
-          return GNode.create("PostfixExpression", v$1, v$g$9);
-        }};
+        yyValue = new Action<Node>() {
+          public Node run(Node v$1) {
+            return GNode.create("PostfixExpression", v$1, v$g$9);
+          }};
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 4.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("--")) {
-      final String v$g$10 = "--";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("--")) {
+        final String v$g$10 = "--";
 
-      yyValue = new Action<Node>() {
-        public Node run(Node v$1) {
-          return GNode.create("PostfixExpression", v$1, v$g$10);
-        }};
+        yyValue = new Action<Node>() {
+          public Node run(Node v$1) {
+            return GNode.create("PostfixExpression", v$1, v$g$10);
+          }};
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 5.
+    if (0 != (yyFirst & 0x10)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(".")) {
-
-      yyBase   = yyResult.index;
-      yyResult = pWord(yyBase);
-      if (yyResult.hasValue("new")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(".")) {
 
-        yyResult = pTypeName(yyResult.index);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$g$12 = yyResult.semanticValue();
+        yyBase   = yyResult.index;
+        yyResult = pWord(yyBase);
+        if (yyResult.hasValue("new")) {
 
-          yyResult = pArguments(yyResult.index);
+          yyResult = pTypeName(yyResult.index);
           yyError  = yyResult.select(yyError);
           if (yyResult.hasValue()) {
-            final Node v$g$13 = yyResult.semanticValue();
+            final Node v$g$12 = yyResult.semanticValue();
 
-            yyOption1  = yyResult.index;
-            yyOpValue1 = null;
-
-            yyResult = pClassBody(yyOption1);
-            yyError  = yyResult.select(yyError, yyOption1);
+            yyResult = pArguments(yyResult.index);
+            yyError  = yyResult.select(yyError);
             if (yyResult.hasValue()) {
-              final Node v$el$1 = yyResult.semanticValue();
+              final Node v$g$13 = yyResult.semanticValue();
 
               yyOption1  = yyResult.index;
-              yyOpValue1 = v$el$1;
-            }
-            { // Start scope for v$g$14.
-              final Node v$g$14 = yyOpValue1;
+              yyOpValue1 = null;
 
-              yyValue = new Action<Node>() {
-                public Node run(Node v$1) {
-                  return GNode.create("NewClassExpression", v$1, null, v$g$12, v$g$13, v$g$14);
-                }};
+              yyResult = pClassBody(yyOption1);
+              yyError  = yyResult.select(yyError, yyOption1);
+              if (yyResult.hasValue()) {
+                final Node v$el$1 = yyResult.semanticValue();
 
-              return new SemanticValue(yyValue, yyOption1, yyError);
-            } // End scope for v$g$14.
+                yyOption1  = yyResult.index;
+                yyOpValue1 = v$el$1;
+              }
+              { // Start scope for v$g$14.
+                final Node v$g$14 = yyOpValue1;
+
+                yyValue = new Action<Node>() {
+                  public Node run(Node v$1) {
+                    return GNode.create("NewClassExpression", v$1, null, v$g$12, v$g$13, v$g$14);
+                  }};
+
+                return new SemanticValue(yyValue, yyOption1, yyError);
+              } // End scope for v$g$14.
+            }
           }
+        } else {
+          yyError = yyError.select("'new' expected", yyBase);
         }
-      } else {
-        yyError = yyError.select("'new' expected", yyBase);
       }
     }
 
@@ -4952,7 +5548,7 @@ public final class JavaParser extends ParserBase {
         final Node v$g$4 = yyResult.semanticValue();
 
         yyValue = GNode.create("CallExpression", null, null, v$g$3, v$g$4);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -4974,7 +5570,7 @@ public final class JavaParser extends ParserBase {
         if (yyResult.hasValue("class")) {
 
           yyValue = GNode.create("ClassLiteralExpression", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
@@ -4997,7 +5593,7 @@ public final class JavaParser extends ParserBase {
         final Node v$g$4 = yyResult.semanticValue();
 
         yyValue = GNode.create("CallExpression", null, null, v$g$3, v$g$4);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -5031,7 +5627,7 @@ public final class JavaParser extends ParserBase {
       if (yyResult.hasValue("this")) {
 
         yyValue = GNode.create("ThisExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       } else {
@@ -5056,7 +5652,7 @@ public final class JavaParser extends ParserBase {
           final Node v$g$4 = yyResult.semanticValue();
 
           yyValue = GNode.create("CallExpression", null, null, v$g$3, v$g$4);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -5069,7 +5665,7 @@ public final class JavaParser extends ParserBase {
       if (yyResult.hasValue("super")) {
 
         yyValue = GNode.create("SuperExpression", null);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       } else {
@@ -5085,7 +5681,7 @@ public final class JavaParser extends ParserBase {
       final String v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.create("PrimaryIdentifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -5120,7 +5716,7 @@ public final class JavaParser extends ParserBase {
             final Node v$g$5 = yyOpValue1;
 
             yyValue = GNode.create("NewClassExpression", null, null, v$g$3, v$g$4, v$g$5);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return new SemanticValue(yyValue, yyOption1, yyError);
           } // End scope for v$g$5.
@@ -5162,7 +5758,7 @@ public final class JavaParser extends ParserBase {
             final Node v$g$3 = yyOpValue1;
 
             yyValue = GNode.create("NewArrayExpression", v$g$1, v$g$2, v$g$3, null);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return new SemanticValue(yyValue, yyOption1, yyError);
           } // End scope for v$g$3.
@@ -5190,7 +5786,7 @@ public final class JavaParser extends ParserBase {
             final Node v$g$7 = yyResult.semanticValue();
 
             yyValue = GNode.create("NewArrayExpression", v$g$1, null, v$g$6, v$g$7);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           }
@@ -5237,7 +5833,8 @@ public final class JavaParser extends ParserBase {
     Result     yyResult;
     int        yyRepetition1;
     boolean    yyRepeated1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -5245,7 +5842,8 @@ public final class JavaParser extends ParserBase {
 
     yyRepetition1 = yyStart;
     yyRepeated1   = false;
-    yyRepValue1   = Pair.empty();
+    yyRepStart1   = bufferStart();
+    yyRepEnd1   = yyRepStart1;
     while (true) {
 
       yyResult = pConcreteDimension(yyRepetition1);
@@ -5255,17 +5853,18 @@ public final class JavaParser extends ParserBase {
 
         yyRepetition1 = yyResult.index;
         yyRepeated1   = true;
-        yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+        yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
         continue;
       }
       break;
     }
 
     if (yyRepeated1) {
-      final Pair<Node> v$g$1 = yyRepValue1.reverse();
+      final int v$g$1 = yyRepStart1;
+      final int v$g$1$end = yyRepEnd1;
 
-      yyValue = GNode.createFromPair("ConcreteDimensions", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      yyValue = bufferedNode("ConcreteDimensions", v$g$1, v$g$1$end);
+      locate(yyValue, yyStart);
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
     }
@@ -5328,7 +5927,8 @@ public final class JavaParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     int        yyOption1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
@@ -5348,7 +5948,8 @@ public final class JavaParser extends ParserBase {
         final Node v$g$1 = yyResult.semanticValue();
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyBase   = yyRepetition1;
@@ -5361,7 +5962,7 @@ public final class JavaParser extends ParserBase {
               final Node v$el$1 = yyResult.semanticValue();
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
           } else {
@@ -5370,7 +5971,8 @@ public final class JavaParser extends ParserBase {
           break;
         }
         { // Start scope for v$g$2.
-          final Pair<Node> v$g$2 = yyRepValue1.reverse();
+          final int v$g$2 = yyRepStart1;
+          final int v$g$2$end = yyRepEnd1;
 
           yyOption1  = yyRepetition1;
 
@@ -5387,13 +5989,14 @@ public final class JavaParser extends ParserBase {
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue("}")) {
 
-            yyValue = GNode.createFromPair("ArrayInitializer", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
+            yyValue = bufferedNode("ArrayInitializer", v$g$1, v$g$2, v$g$2$end);
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
             yyError = yyError.select("'}' expected", yyBase);
           }
+          releaseBuffer(v$g$2);
         } // End scope for v$g$2.
       }
 
@@ -5415,7 +6018,7 @@ public final class JavaParser extends ParserBase {
       if (yyResult.hasValue("}")) {
 
         yyValue = GNode.create("ArrayInitializer", false);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       } else {
@@ -5440,8 +6043,13 @@ public final class JavaParser extends ParserBase {
   private Result pVariableInitializer(final int yyStart) throws IOException {
     JavaParserColumn yyColumn = (JavaParserColumn)column(yyStart);
     if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fVariableInitializer) 
+    if (null == yyColumn.chunk2.fVariableInitializer) {
       yyColumn.chunk2.fVariableInitializer = pVariableInitializer$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(13, yyColumn.chunk2.fVariableInitializer);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(13, yyColumn.chunk2.fVariableInitializer);
+    }
     return yyColumn.chunk2.fVariableInitializer;
   }
 
@@ -5490,7 +6098,8 @@ public final class JavaParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -5509,7 +6118,8 @@ public final class JavaParser extends ParserBase {
         final Node v$g$1 = yyResult.semanticValue();
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyBase   = yyRepetition1;
@@ -5522,7 +6132,7 @@ public final class JavaParser extends ParserBase {
               final Node v$el$1 = yyResult.semanticValue();
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
           } else {
@@ -5531,19 +6141,21 @@ public final class JavaParser extends ParserBase {
           break;
         }
         { // Start scope for v$g$2.
-          final Pair<Node> v$g$2 = yyRepValue1.reverse();
+          final int v$g$2 = yyRepStart1;
+          final int v$g$2$end = yyRepEnd1;
 
           yyBase   = yyRepetition1;
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue(")")) {
 
-            yyValue = GNode.createFromPair("Arguments", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
+            yyValue = bufferedNode("Arguments", v$g$1, v$g$2, v$g$2$end);
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
             yyError = yyError.select("')' expected", yyBase);
           }
+          releaseBuffer(v$g$2);
         } // End scope for v$g$2.
       }
 
@@ -5554,7 +6166,7 @@ public final class JavaParser extends ParserBase {
       if (yyResult.hasValue(")")) {
 
         yyValue = GNode.create("Arguments", false);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       } else {
@@ -5578,10 +6190,15 @@ public final class JavaParser extends ParserBase {
    */
   private Result pResultType(final int yyStart) throws IOException {
     JavaParserColumn yyColumn = (JavaParserColumn)column(yyStart);
-    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fResultType) 
-      yyColumn.chunk2.fResultType = pResultType$1(yyStart);
-    return yyColumn.chunk2.fResultType;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fResultType) {
+      yyColumn.chunk1.fResultType = pResultType$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(14, yyColumn.chunk1.fResultType);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(14, yyColumn.chunk1.fResultType);
+    }
+    return yyColumn.chunk1.fResultType;
   }
 
   /** Actually parse xtc.lang.JavaType.ResultType. */
@@ -5634,7 +6251,7 @@ public final class JavaParser extends ParserBase {
     if (yyResult.hasValue("void")) {
 
       yyValue = GNode.create("VoidType", false);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -5655,10 +6272,14 @@ public final class JavaParser extends ParserBase {
    */
   private Result pType(final int yyStart) throws IOException {
     JavaParserColumn yyColumn = (JavaParserColumn)column(yyStart);
-    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fType) 
-      yyColumn.chunk2.fType = pType$1(yyStart);
-    return yyColumn.chunk2.fType;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fType) {
+      yyColumn.chunk1.fType = pType$1(yyStart);
+      if (null != yyStatistics) yyStatistics.miss(15, yyColumn.chunk1.fType);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(15, yyColumn.chunk1.fType);
+    }
+    return yyColumn.chunk1.fType;
   }
 
   /** Actually parse xtc.lang.JavaType.Type. */
@@ -5691,7 +6312,7 @@ public final class JavaParser extends ParserBase {
         final Node v$g$2 = yyOpValue1;
 
         yyValue = GNode.create("Type", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyOption1, yyError);
       } // End scope for v$g$2.
@@ -5712,10 +6333,15 @@ public final class JavaParser extends ParserBase {
    */
   private Result pTypeName(final int yyStart) throws IOException {
     JavaParserColumn yyColumn = (JavaParserColumn)column(yyStart);
-    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fTypeName) 
-      yyColumn.chunk2.fTypeName = pTypeName$1(yyStart);
-    return yyColumn.chunk2.fTypeName;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fTypeName) {
+      yyColumn.chunk1.fTypeName = pTypeName$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(16, yyColumn.chunk1.fTypeName);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(16, yyColumn.chunk1.fTypeName);
+    }
+    return yyColumn.chunk1.fTypeName;
   }
 
   /** Actually parse xtc.lang.JavaType.TypeName. */
@@ -5759,10 +6385,15 @@ public final class JavaParser extends ParserBase {
    */
   private Result pPrimitiveType(final int yyStart) throws IOException {
     JavaParserColumn yyColumn = (JavaParserColumn)column(yyStart);
-    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fPrimitiveType) 
-      yyColumn.chunk2.fPrimitiveType = pPrimitiveType$1(yyStart);
-    return yyColumn.chunk2.fPrimitiveType;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fPrimitiveType) {
+      yyColumn.chunk1.fPrimitiveType = pPrimitiveType$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(17, yyColumn.chunk1.fPrimitiveType);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(17, yyColumn.chunk1.fPrimitiveType);
+    }
+    return yyColumn.chunk1.fPrimitiveType;
   }
 
   /** Actually parse xtc.lang.JavaType.PrimitiveType. */
@@ -5778,7 +6409,7 @@ public final class JavaParser extends ParserBase {
       final String v$g$1 = "byte";
 
       yyValue = GNode.create("PrimitiveType", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -5790,7 +6421,7 @@ public final class JavaParser extends ParserBase {
       final String v$g$2 = "short";
 
       yyValue = GNode.create("PrimitiveType", v$g$2);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -5802,7 +6433,7 @@ public final class JavaParser extends ParserBase {
       final String v$g$3 = "char";
 
       yyValue = GNode.create("PrimitiveType", v$g$3);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -5814,7 +6445,7 @@ public final class JavaParser extends ParserBase {
       final String v$g$4 = "int";
 
       yyValue = GNode.create("PrimitiveType", v$g$4);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -5826,7 +6457,7 @@ public final class JavaParser extends ParserBase {
       final String v$g$5 = "long";
 
       yyValue = GNode.create("PrimitiveType", v$g$5);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -5838,7 +6469,7 @@ public final class JavaParser extends ParserBase {
       final String v$g$6 = "float";
 
       yyValue = GNode.create("PrimitiveType", v$g$6);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -5850,7 +6481,7 @@ public final class JavaParser extends ParserBase {
       final String v$g$7 = "double";
 
       yyValue = GNode.create("PrimitiveType", v$g$7);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -5862,7 +6493,7 @@ public final class JavaParser extends ParserBase {
       final String v$g$8 = "boolean";
 
       yyValue = GNode.create("PrimitiveType", v$g$8);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -5884,8 +6515,13 @@ public final class JavaParser extends ParserBase {
   private Result pDimensions(final int yyStart) throws IOException {
     JavaParserColumn yyColumn = (JavaParserColumn)column(yyStart);
     if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fDimensions) 
+    if (null == yyColumn.chunk2.fDimensions) {
       yyColumn.chunk2.fDimensions = pDimensions$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(18, yyColumn.chunk2.fDimensions);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(18, yyColumn.chunk2.fDimensions);
+    }
     return yyColumn.chunk2.fDimensions;
   }
 
@@ -5903,7 +6539,7 @@ public final class JavaParser extends ParserBase {
       final Pair<String> v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.createFromPair("Dimensions", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -5924,8 +6560,13 @@ public final class JavaParser extends ParserBase {
   private Result pDimensions$$Plus1(final int yyStart) throws IOException {
     JavaParserColumn yyColumn = (JavaParserColumn)column(yyStart);
     if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fDimensions$$Plus1) 
+    if (null == yyColumn.chunk2.fDimensions$$Plus1) {
       yyColumn.chunk2.fDimensions$$Plus1 = pDimensions$$Plus1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(19, yyColumn.chunk2.fDimensions$$Plus1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(19, yyColumn.chunk2.fDimensions$$Plus1);
+    }
     return yyColumn.chunk2.fDimensions$$Plus1;
   }
 
@@ -5989,63 +6630,102 @@ public final class JavaParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
-    // Alternative <FloatingPoint>.
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '\"':
+      yyFirst = 0x8;
+      break;
 
-    yyResult = pFloatingPointLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+    case '\'':
+      yyFirst = 0x4;
+      break;
 
-      yyResult = pSpacing(yyResult.index);
+    case '.':
+      yyFirst = 0x1;
+      break;
+
+    case '0':
+    case '1':
+    case '2':
+    case '3':
+    case '4':
+    case '5':
+    case '6':
+    case '7':
+    case '8':
+    case '9':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
+    // Alternative <FloatingPoint>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
+
+      yyResult = pFloatingPointLiteral(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-        return yyResult.createValue(yyValue, yyError);
+        yyResult = pSpacing(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative <Integer>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pIntegerLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
-
-      yyResult = pSpacing(yyResult.index);
+      yyResult = pIntegerLiteral(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-        return yyResult.createValue(yyValue, yyError);
+        yyResult = pSpacing(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative <Character>.
+    if ((0 != (yyFirst & 0x4)) || (yyError.index < yyStart)) {
 
-    yyResult = pCharacterLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
-
-      yyResult = pSpacing(yyResult.index);
+      yyResult = pCharacterLiteral(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-        return yyResult.createValue(yyValue, yyError);
+        yyResult = pSpacing(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative <String>.
+    if ((0 != (yyFirst & 0x8)) || (yyError.index < yyStart)) {
 
-    yyResult = pStringLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
-
-      yyResult = pSpacing(yyResult.index);
+      yyResult = pStringLiteral(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
+
+        yyResult = pSpacing(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
@@ -6056,7 +6736,7 @@ public final class JavaParser extends ParserBase {
       final String v$g$1 = "true";
 
       yyValue = GNode.create("BooleanLiteral", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -6068,7 +6748,7 @@ public final class JavaParser extends ParserBase {
       final String v$g$2 = "false";
 
       yyValue = GNode.create("BooleanLiteral", v$g$2);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -6079,7 +6759,7 @@ public final class JavaParser extends ParserBase {
     if (yyResult.hasValue("null")) {
 
       yyValue = GNode.create("NullLiteral", false);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -6103,43 +6783,71 @@ public final class JavaParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '0':
+      yyFirst = 0x7;
+      break;
+
+    case '1':
+    case '2':
+    case '3':
+    case '4':
+    case '5':
+    case '6':
+    case '7':
+    case '8':
+    case '9':
+      yyFirst = 0x4;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Hex>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pHexLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final String v$g$1 = yyResult.semanticValue();
+      yyResult = pHexLiteral(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final String v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerLiteral", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("IntegerLiteral", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Octal>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pOctalLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final String v$g$2 = yyResult.semanticValue();
+      yyResult = pOctalLiteral(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final String v$g$2 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerLiteral", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("IntegerLiteral", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Decimal>.
+    if ((0 != (yyFirst & 0x4)) || (yyError.index < yyStart)) {
 
-    yyResult = pDecimalLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final String v$g$3 = yyResult.semanticValue();
+      yyResult = pDecimalLiteral(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final String v$g$3 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerLiteral", v$g$3);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("IntegerLiteral", v$g$3);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -6677,7 +7385,7 @@ public final class JavaParser extends ParserBase {
       final String v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.create("FloatingPointLiteral", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -6703,119 +7411,182 @@ public final class JavaParser extends ParserBase {
     String     yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '.':
+      yyFirst = 0x2;
+      break;
+
+    case '0':
+    case '1':
+    case '2':
+    case '3':
+    case '4':
+    case '5':
+    case '6':
+    case '7':
+    case '8':
+    case '9':
+      yyFirst = 0x5;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pDigits(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
+      yyResult = pDigits(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
 
-      yyC = character(yyResult.index);
-      if ('.' == yyC) {
-        yyIndex = yyResult.index + 1;
+        yyC = character(yyResult.index);
+        if ('.' == yyC) {
+          yyIndex = yyResult.index + 1;
 
-        yyOption1  = yyIndex;
+          yyOption1  = yyIndex;
 
-        yyResult = pDigits(yyOption1);
-        yyError  = yyResult.select(yyError, yyOption1);
-        if (yyResult.hasValue()) {
+          yyResult = pDigits(yyOption1);
+          yyError  = yyResult.select(yyError, yyOption1);
+          if (yyResult.hasValue()) {
 
-          yyOption1  = yyResult.index;
-        }
+            yyOption1  = yyResult.index;
+          }
 
 
-        yyResult = pExponent(yyOption1);
-        yyError  = yyResult.select(yyError, yyOption1);
-        if (yyResult.hasValue()) {
+          yyResult = pExponent(yyOption1);
+          yyError  = yyResult.select(yyError, yyOption1);
+          if (yyResult.hasValue()) {
 
-          yyOption1  = yyResult.index;
-        }
+            yyOption1  = yyResult.index;
+          }
 
 
-        yyC = character(yyOption1);
-        if (-1 != yyC) {
-          yyIndex = yyOption1 + 1;
+          yyC = character(yyOption1);
+          if (-1 != yyC) {
+            yyIndex = yyOption1 + 1;
 
-          switch (yyC) {
-          case 'D':
-          case 'F':
-          case 'd':
-          case 'f':
-            {
-              yyOption1  = yyIndex;
-            }
-            break;
+            switch (yyC) {
+            case 'D':
+            case 'F':
+            case 'd':
+            case 'f':
+              {
+                yyOption1  = yyIndex;
+              }
+              break;
 
-          default:
-            /* No match. */
+            default:
+              /* No match. */
+            }
           }
-        }
 
-        yyValue = difference(yyStart, yyOption1);
+          yyValue = difference(yyStart, yyOption1);
 
-        return new SemanticValue(yyValue, yyOption1, yyError);
+          return new SemanticValue(yyValue, yyOption1, yyError);
+        }
       }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyC = character(yyStart);
-    if ('.' == yyC) {
-      yyIndex = yyStart + 1;
-
-      yyResult = pDigits(yyIndex);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-
-        yyOption1  = yyResult.index;
+      yyC = character(yyStart);
+      if ('.' == yyC) {
+        yyIndex = yyStart + 1;
 
-        yyResult = pExponent(yyOption1);
-        yyError  = yyResult.select(yyError, yyOption1);
+        yyResult = pDigits(yyIndex);
+        yyError  = yyResult.select(yyError);
         if (yyResult.hasValue()) {
 
           yyOption1  = yyResult.index;
-        }
 
+          yyResult = pExponent(yyOption1);
+          yyError  = yyResult.select(yyError, yyOption1);
+          if (yyResult.hasValue()) {
 
-        yyC = character(yyOption1);
-        if (-1 != yyC) {
-          yyIndex = yyOption1 + 1;
+            yyOption1  = yyResult.index;
+          }
 
-          switch (yyC) {
-          case 'D':
-          case 'F':
-          case 'd':
-          case 'f':
-            {
-              yyOption1  = yyIndex;
-            }
-            break;
 
-          default:
-            /* No match. */
+          yyC = character(yyOption1);
+          if (-1 != yyC) {
+            yyIndex = yyOption1 + 1;
+
+            switch (yyC) {
+            case 'D':
+            case 'F':
+            case 'd':
+            case 'f':
+              {
+                yyOption1  = yyIndex;
+              }
+              break;
+
+            default:
+              /* No match. */
+            }
           }
-        }
 
-        yyValue = difference(yyStart, yyOption1);
+          yyValue = difference(yyStart, yyOption1);
 
-        return new SemanticValue(yyValue, yyOption1, yyError);
+          return new SemanticValue(yyValue, yyOption1, yyError);
+        }
       }
     }
 
     // Alternative 3.
+    if ((0 != (yyFirst & 0x4)) || (yyError.index < yyStart)) {
 
-    yyResult = pDigits(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
+      yyResult = pDigits(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
 
-      final int yyChoice1 = yyResult.index;
+        final int yyChoice1 = yyResult.index;
 
-      // Nested alternative 1.
+        // Nested alternative 1.
 
-      yyResult = pExponent(yyChoice1);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
+        yyResult = pExponent(yyChoice1);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
 
-        yyOption1  = yyResult.index;
+          yyOption1  = yyResult.index;
+
+          yyC = character(yyOption1);
+          if (-1 != yyC) {
+            yyIndex = yyOption1 + 1;
+
+            switch (yyC) {
+            case 'D':
+            case 'F':
+            case 'd':
+            case 'f':
+              {
+                yyOption1  = yyIndex;
+              }
+              break;
+
+            default:
+              /* No match. */
+            }
+          }
+
+          yyValue = difference(yyStart, yyOption1);
+
+          return new SemanticValue(yyValue, yyOption1, yyError);
+        }
+
+        // Nested alternative 2.
+
+        yyOption1  = yyChoice1;
+
+        yyResult = pExponent(yyOption1);
+        yyError  = yyResult.select(yyError, yyOption1);
+        if (yyResult.hasValue()) {
+
+          yyOption1  = yyResult.index;
+        }
 
         yyC = character(yyOption1);
         if (-1 != yyC) {
@@ -6827,49 +7598,15 @@ public final class JavaParser extends ParserBase {
           case 'd':
           case 'f':
             {
-              yyOption1  = yyIndex;
+              yyValue = difference(yyStart, yyIndex);
+
+              return new SemanticValue(yyValue, yyIndex, yyError);
             }
-            break;
 
           default:
             /* No match. */
           }
         }
-
-        yyValue = difference(yyStart, yyOption1);
-
-        return new SemanticValue(yyValue, yyOption1, yyError);
-      }
-
-      // Nested alternative 2.
-
-      yyOption1  = yyChoice1;
-
-      yyResult = pExponent(yyOption1);
-      yyError  = yyResult.select(yyError, yyOption1);
-      if (yyResult.hasValue()) {
-
-        yyOption1  = yyResult.index;
-      }
-
-      yyC = character(yyOption1);
-      if (-1 != yyC) {
-        yyIndex = yyOption1 + 1;
-
-        switch (yyC) {
-        case 'D':
-        case 'F':
-        case 'd':
-        case 'f':
-          {
-            yyValue = difference(yyStart, yyIndex);
-
-            return new SemanticValue(yyValue, yyIndex, yyError);
-          }
-
-        default:
-          /* No match. */
-        }
       }
     }
 
@@ -6967,7 +7704,7 @@ public final class JavaParser extends ParserBase {
       final String v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.create("CharacterLiteral", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -6998,7 +7735,7 @@ public final class JavaParser extends ParserBase {
       final String v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.create("StringLiteral", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -7796,10 +8533,15 @@ public final class JavaParser extends ParserBase {
    */
   private Result pQualifiedIdentifier(final int yyStart) throws IOException {
     JavaParserColumn yyColumn = (JavaParserColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fQualifiedIdentifier) 
-      yyColumn.chunk3.fQualifiedIdentifier = pQualifiedIdentifier$1(yyStart);
-    return yyColumn.chunk3.fQualifiedIdentifier;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fQualifiedIdentifier) {
+      yyColumn.chunk1.fQualifiedIdentifier = pQualifiedIdentifier$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(20, yyColumn.chunk1.fQualifiedIdentifier);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(20, yyColumn.chunk1.fQualifiedIdentifier);
+    }
+    return yyColumn.chunk1.fQualifiedIdentifier;
   }
 
   /** Actually parse xtc.lang.JavaIdentifier.QualifiedIdentifier. */
@@ -7823,7 +8565,7 @@ public final class JavaParser extends ParserBase {
         final Pair<String> v$g$2 = yyResult.semanticValue();
 
         yyValue = GNode.createFromPair("QualifiedIdentifier", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -7847,8 +8589,14 @@ public final class JavaParser extends ParserBase {
 
     JavaParserColumn yyColumn = (JavaParserColumn)column(yyStart);
     if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fQualifiedIdentifier$$Star1) 
-      yyColumn.chunk3.fQualifiedIdentifier$$Star1 = pQualifiedIdentifier$$Star1$1(yyStart);
+    if (null == yyColumn.chunk3.fQualifiedIdentifier$$Star1) {
+      yyColumn.chunk3.fQualifiedIdentifier$$Star1 = 
+        pQualifiedIdentifier$$Star1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(21, yyColumn.chunk3.fQualifiedIdentifier$$Star1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(21, yyColumn.chunk3.fQualifiedIdentifier$$Star1);
+    }
     return yyColumn.chunk3.fQualifiedIdentifier$$Star1;
   }
 
@@ -7900,10 +8648,15 @@ public final class JavaParser extends ParserBase {
    */
   private Result pIdentifier(final int yyStart) throws IOException {
     JavaParserColumn yyColumn = (JavaParserColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fIdentifier) 
-      yyColumn.chunk3.fIdentifier = pIdentifier$1(yyStart);
-    return yyColumn.chunk3.fIdentifier;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fIdentifier) {
+      yyColumn.chunk1.fIdentifier = pIdentifier$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(22, yyColumn.chunk1.fIdentifier);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(22, yyColumn.chunk1.fIdentifier);
+    }
+    return yyColumn.chunk1.fIdentifier;
   }
 
   /** Actually parse xtc.lang.JavaIdentifier.Identifier. */
@@ -7941,10 +8694,14 @@ public final class JavaParser extends ParserBase {
    */
   private Result pWord(final int yyStart) throws IOException {
     JavaParserColumn yyColumn = (JavaParserColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fWord) 
-      yyColumn.chunk3.fWord = pWord$1(yyStart);
-    return yyColumn.chunk3.fWord;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fWord) {
+      yyColumn.chunk1.fWord = pWord$1(yyStart);
+      if (null != yyStatistics) yyStatistics.miss(23, yyColumn.chunk1.fWord);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(23, yyColumn.chunk1.fWord);
+    }
+    return yyColumn.chunk1.fWord;
   }
 
   /** Actually parse xtc.lang.JavaIdentifier.Word. */
@@ -8036,10 +8793,15 @@ public final class JavaParser extends ParserBase {
    */
   private Result pSymbol(final int yyStart) throws IOException {
     JavaParserColumn yyColumn = (JavaParserColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fSymbol) 
-      yyColumn.chunk3.fSymbol = pSymbol$1(yyStart);
-    return yyColumn.chunk3.fSymbol;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fSymbol) {
+      yyColumn.chunk1.fSymbol = pSymbol$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(24, yyColumn.chunk1.fSymbol);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(24, yyColumn.chunk1.fSymbol);
+    }
+    return yyColumn.chunk1.fSymbol;
   }
 
   /** Actually parse xtc.lang.JavaSymbol.Symbol. */
@@ -8764,28 +9526,7 @@ public final class JavaParser extends ParserBase {
 
               case '/':
                 {
-                  yyRepetition2 = yyIndex;
-                  while (true) {
-
-                    yyC = character(yyRepetition2);
-                    if (-1 != yyC) {
-                      yyIndex = yyRepetition2 + 1;
-
-                      switch (yyC) {
-                      case '\n':
-                      case '\r':
-                        /* No match. */
-                        break;
-
-                      default:
-                        {
-                          yyRepetition2 = yyIndex;
-                          continue;
-                        }
-                      }
-                    }
-                    break;
-                  }
+                  yyRepetition2 = scan(yyIndex, 0xffffffffffffdbffL, 0xffffffffffffffffL, true);
 
                   final int yyChoice2 = yyRepetition2;
 
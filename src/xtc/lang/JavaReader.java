@@ -1,8 +1,8 @@
 // ===========================================================================
 // This file has been generated by
-// Rats! Parser Generator, version 2.1.0,
-// (C) 2004-2011 Robert Grimm,
-// on Thursday, August 4, 2011 at 5:33:13 PM.
+// Rats! Parser Generator, version 2.3.1,
+// (C) 2004-2012 Robert Grimm,
+// on Sunday, October 18, 2026 at 7:30:36 PM.
 // Edit at your own risk.
 // ===========================================================================
 
@@ -33,7 +33,7 @@ import xtc.parser.ParseError;
  * Packrat parser for grammar <code>xtc.lang.Java</code>.
  *
  * <p />This class has been generated by the <i>Rats!</i> parser
- * generator, version 2.1.0, (C) 2004-2011 Robert Grimm.
+ * generator, version 2.3.1, (C) 2004-2012 Robert Grimm.
  */
 public final class JavaReader extends ParserBase {
 
@@ -44,37 +44,69 @@ public final class JavaReader extends ParserBase {
 
   /** Chunk 1 of memoized results. */
   static final class Chunk1 {
-    Result fModifiers;
-    Result fFormalParameters;
-    Result fDeclarators;
-    Result fDeclarators$$Star1;
-    Result fBlock;
-    Result fParExpression;
-    Result fCatchClause;
-    Result fExpression;
-    Result fConditionalExpression;
+    Result fWord;
+    Result fIdentifier;
+    Result fQualifiedIdentifier;
+    Result fPrimitiveType;
+    Result fTypeName;
+    Result fType;
+    Result fResultType;
+    Result fSymbol;
+    Result fRelationalExpression;
     Result fLogicalOrExpression;
+
+    void clear() {
+      fWord = null;
+      fIdentifier = null;
+      fQualifiedIdentifier = null;
+      fPrimitiveType = null;
+      fTypeName = null;
+      fType = null;
+      fResultType = null;
+      fSymbol = null;
+      fRelationalExpression = null;
+      fLogicalOrExpression = null;
+    }
   }
 
   /** Chunk 2 of memoized results. */
   static final class Chunk2 {
-    Result fRelationalExpression;
+    Result fConditionalExpression;
+    Result fExpression;
     Result fVariableInitializer;
-    Result fResultType;
-    Result fType;
-    Result fTypeName;
-    Result fPrimitiveType;
-    Result fDimensions;
     Result fDimensions$$Plus1;
-    Result fQualifiedIdentifier;
-    Result fQualifiedIdentifier$$Star1;
+    Result fDimensions;
+    Result fModifiers;
+    Result fFormalParameters;
+    Result fDeclarators;
+    Result fDeclarators$$Star1;
+    Result fBlock;
+
+    void clear() {
+      fConditionalExpression = null;
+      fExpression = null;
+      fVariableInitializer = null;
+      fDimensions$$Plus1 = null;
+      fDimensions = null;
+      fModifiers = null;
+      fFormalParameters = null;
+      fDeclarators = null;
+      fDeclarators$$Star1 = null;
+      fBlock = null;
+    }
   }
 
   /** Chunk 3 of memoized results. */
   static final class Chunk3 {
-    Result fIdentifier;
-    Result fWord;
-    Result fSymbol;
+    Result fParExpression;
+    Result fCatchClause;
+    Result fQualifiedIdentifier$$Star1;
+
+    void clear() {
+      fParExpression = null;
+      fCatchClause = null;
+      fQualifiedIdentifier$$Star1 = null;
+    }
   }
 
   // =========================================================================
@@ -84,6 +116,13 @@ public final class JavaReader extends ParserBase {
     Chunk1 chunk1;
     Chunk2 chunk2;
     Chunk3 chunk3;
+
+    protected boolean clear() {
+      if (null != chunk1) chunk1.clear();
+      if (null != chunk2) chunk2.clear();
+      if (null != chunk3) chunk3.clear();
+      return true;
+    }
   }
 
   // =========================================================================
@@ -117,6 +156,39 @@ public final class JavaReader extends ParserBase {
 
   // =========================================================================
 
+  /** The names of the memoized productions. */
+  private static final String[] yyProductions = {
+    "xtc.lang.Java.Modifiers",
+    "xtc.lang.Java.FormalParameters",
+    "xtc.lang.Java.Declarators",
+    "xtc.lang.Java.Declarators$$Star1",
+    "xtc.lang.Java.Block",
+    "xtc.lang.Java.ParExpression",
+    "xtc.lang.Java.CatchClause",
+    "xtc.lang.Java.Expression",
+    "xtc.lang.Java.ConditionalExpression",
+    "xtc.lang.Java.LogicalOrExpression",
+    "xtc.lang.Java.RelationalExpression",
+    "xtc.lang.Java.VariableInitializer",
+    "xtc.lang.JavaType.ResultType",
+    "xtc.lang.JavaType.Type",
+    "xtc.lang.JavaType.TypeName",
+    "xtc.lang.JavaType.PrimitiveType",
+    "xtc.lang.JavaType.Dimensions",
+    "xtc.lang.Java.Dimensions$$Plus1",
+    "xtc.lang.JavaIdentifier.QualifiedIdentifier",
+    "xtc.lang.Java.QualifiedIdentifier$$Star1",
+    "xtc.lang.JavaIdentifier.Identifier",
+    "xtc.lang.JavaIdentifier.Word",
+    "xtc.lang.JavaSymbol.Symbol",
+  };
+
+  protected String[] productions() {
+    return yyProductions;
+  }
+
+  // =========================================================================
+
   /**
    * Parse nonterminal xtc.lang.Java.CompilationUnit.
    *
@@ -183,7 +255,8 @@ public final class JavaReader extends ParserBase {
 
     Result     yyResult;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     int        yyOption1;
     Node       yyOpValue1;
     Node       yyValue;
@@ -212,7 +285,8 @@ public final class JavaReader extends ParserBase {
         final Node v$g$1 = Formatting.before1(v$pt$1, v$pt$2);
 
         yyRepetition1 = yyOption1;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyResult = pImportDeclaration(yyRepetition1);
@@ -221,15 +295,17 @@ public final class JavaReader extends ParserBase {
             final Node v$el$2 = yyResult.semanticValue();
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$2, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$2);
             continue;
           }
           break;
         }
         { // Start scope for v$g$2.
-          final Pair<Node> v$g$2 = yyRepValue1.reverse();
+          final int v$g$2 = yyRepStart1;
+          final int v$g$2$end = yyRepEnd1;
 
-          yyRepValue1   = Pair.empty();
+          yyRepStart1   = bufferStart();
+          yyRepEnd1   = yyRepStart1;
           while (true) {
 
             yyResult = pDeclaration(yyRepetition1);
@@ -238,17 +314,20 @@ public final class JavaReader extends ParserBase {
               final Node v$el$3 = yyResult.semanticValue();
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$3, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$3);
               continue;
             }
             break;
           }
           { // Start scope for v$g$3.
-            final Pair<Node> v$g$3 = yyRepValue1.reverse();
+            final int v$g$3 = yyRepStart1;
+            final int v$g$3$end = yyRepEnd1;
 
-            yyValue = GNode.create("CompilationUnit", v$g$2.size() + v$g$3.size() + 1).
-              add(v$g$1).addAll(v$g$2).addAll(v$g$3);
-            yyValue.setLocation(location(yyStart));
+            yyValue = GNode.create("CompilationUnit", (v$g$2$end - v$g$2) + (v$g$3$end - v$g$3) + 1).
+              add(v$g$1);
+            addBuffered(yyValue, v$g$2, v$g$2$end);
+            addBuffered(yyValue, v$g$3, v$g$3$end);
+            locate(yyValue, yyStart);
 
             return new SemanticValue(yyValue, yyRepetition1, yyError);
           } // End scope for v$g$3.
@@ -296,7 +375,7 @@ public final class JavaReader extends ParserBase {
           final Node v$g$2 = Formatting.after1(v$pt$4, v$pt$3);
 
           yyValue = GNode.create("PackageDeclaration", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
@@ -362,7 +441,7 @@ public final class JavaReader extends ParserBase {
             final Node v$g$3 = Formatting.after1(v$pt$4, v$pt$3);
 
             yyValue = GNode.create("ImportDeclaration", v$g$1, v$g$2, v$g$3);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
@@ -428,10 +507,15 @@ public final class JavaReader extends ParserBase {
    */
   private Result pModifiers(final int yyStart) throws IOException {
     JavaReaderColumn yyColumn = (JavaReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fModifiers) 
-      yyColumn.chunk1.fModifiers = pModifiers$1(yyStart);
-    return yyColumn.chunk1.fModifiers;
+    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
+    if (null == yyColumn.chunk2.fModifiers) {
+      yyColumn.chunk2.fModifiers = pModifiers$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(0, yyColumn.chunk2.fModifiers);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(0, yyColumn.chunk2.fModifiers);
+    }
+    return yyColumn.chunk2.fModifiers;
   }
 
   /** Actually parse xtc.lang.Java.Modifiers. */
@@ -448,7 +532,7 @@ public final class JavaReader extends ParserBase {
       final Pair<Node> v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.createFromPair("Modifiers", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -519,7 +603,7 @@ public final class JavaReader extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.create("Modifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -532,7 +616,7 @@ public final class JavaReader extends ParserBase {
       final Node v$g$2 = yyResult.semanticValue();
 
       yyValue = GNode.create("Modifier", v$g$2);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -545,7 +629,7 @@ public final class JavaReader extends ParserBase {
       final Node v$g$3 = yyResult.semanticValue();
 
       yyValue = GNode.create("Modifier", v$g$3);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -558,7 +642,7 @@ public final class JavaReader extends ParserBase {
       final Node v$g$4 = yyResult.semanticValue();
 
       yyValue = GNode.create("Modifier", v$g$4);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -571,7 +655,7 @@ public final class JavaReader extends ParserBase {
       final Node v$g$5 = yyResult.semanticValue();
 
       yyValue = GNode.create("Modifier", v$g$5);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -584,7 +668,7 @@ public final class JavaReader extends ParserBase {
       final Node v$g$6 = yyResult.semanticValue();
 
       yyValue = GNode.create("Modifier", v$g$6);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -597,7 +681,7 @@ public final class JavaReader extends ParserBase {
       final Node v$g$7 = yyResult.semanticValue();
 
       yyValue = GNode.create("Modifier", v$g$7);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -610,7 +694,7 @@ public final class JavaReader extends ParserBase {
       final Node v$g$8 = yyResult.semanticValue();
 
       yyValue = GNode.create("Modifier", v$g$8);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -623,7 +707,7 @@ public final class JavaReader extends ParserBase {
       final Node v$g$9 = yyResult.semanticValue();
 
       yyValue = GNode.create("Modifier", v$g$9);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -636,7 +720,7 @@ public final class JavaReader extends ParserBase {
       final Node v$g$10 = yyResult.semanticValue();
 
       yyValue = GNode.create("Modifier", v$g$10);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -649,7 +733,7 @@ public final class JavaReader extends ParserBase {
       final Node v$g$11 = yyResult.semanticValue();
 
       yyValue = GNode.create("Modifier", v$g$11);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -707,7 +791,7 @@ public final class JavaReader extends ParserBase {
             final Node v$g$5 = yyOpValue1;
 
             yyValue = GNode.create("FormalParameter", v$g$1, v$g$2, null, v$g$4, v$g$5);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return new SemanticValue(yyValue, yyOption1, yyError);
           } // End scope for v$g$5.
@@ -741,7 +825,7 @@ public final class JavaReader extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.create("Modifiers", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -749,7 +833,7 @@ public final class JavaReader extends ParserBase {
     // Alternative <Nonfinal>.
 
     yyValue = GNode.create("Modifiers", false);
-    yyValue.setLocation(location(yyStart));
+    locate(yyValue, yyStart);
 
     return new SemanticValue(yyValue, yyStart, yyError);
   }
@@ -776,7 +860,7 @@ public final class JavaReader extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.create("Modifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -797,10 +881,15 @@ public final class JavaReader extends ParserBase {
    */
   private Result pFormalParameters(final int yyStart) throws IOException {
     JavaReaderColumn yyColumn = (JavaReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fFormalParameters) 
-      yyColumn.chunk1.fFormalParameters = pFormalParameters$1(yyStart);
-    return yyColumn.chunk1.fFormalParameters;
+    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
+    if (null == yyColumn.chunk2.fFormalParameters) {
+      yyColumn.chunk2.fFormalParameters = pFormalParameters$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(1, yyColumn.chunk2.fFormalParameters);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(1, yyColumn.chunk2.fFormalParameters);
+    }
+    return yyColumn.chunk2.fFormalParameters;
   }
 
   /** Actually parse xtc.lang.Java.FormalParameters. */
@@ -810,47 +899,84 @@ public final class JavaReader extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pFormalParameters$$Split1(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final Node v$pt$1 = yyResult.semanticValue();
+      yyResult = pFormalParameters$$Split1(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final Node v$pt$1 = yyResult.semanticValue();
 
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue() &&
-          ((Node)yyResult.semanticValue()).getTokenText().equals(")")) {
-        final Node v$pt$2 = yyResult.semanticValue();
-        yyValue = Formatting.after1(v$pt$1, v$pt$2);
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue() &&
+            ((Node)yyResult.semanticValue()).getTokenText().equals(")")) {
+          final Node v$pt$2 = yyResult.semanticValue();
+          yyValue = Formatting.after1(v$pt$1, v$pt$2);
 
-        return yyResult.createValue(yyValue, yyError);
-      } else {
-        yyError = yyError.select("')' expected", yyBase);
+          return yyResult.createValue(yyValue, yyError);
+        } else {
+          yyError = yyError.select("')' expected", yyBase);
+        }
       }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("(")) {
-      final Node v$pt$3 = yyResult.semanticValue();
-
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
+      yyResult = pSymbol(yyStart);
       if (yyResult.hasValue() &&
-          ((Node)yyResult.semanticValue()).getTokenText().equals(")")) {
-        final Node v$pt$4 = yyResult.semanticValue();
+          ((Node)yyResult.semanticValue()).getTokenText().equals("(")) {
+        final Node v$pt$3 = yyResult.semanticValue();
 
-        yyValue = GNode.create("FormalParameters", false);
-        yyValue.setLocation(location(yyStart));
-        yyValue = Formatting.variable().addNode(yyValue).
-          add(v$pt$3).add(v$pt$4);
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue() &&
+            ((Node)yyResult.semanticValue()).getTokenText().equals(")")) {
+          final Node v$pt$4 = yyResult.semanticValue();
 
-        return yyResult.createValue(yyValue, yyError);
-      } else {
-        yyError = yyError.select("')' expected", yyBase);
+          yyValue = GNode.create("FormalParameters", false);
+          locate(yyValue, yyStart);
+          yyValue = Formatting.variable().addNode(yyValue).
+            add(v$pt$3).add(v$pt$4);
+
+          return yyResult.createValue(yyValue, yyError);
+        } else {
+          yyError = yyError.select("')' expected", yyBase);
+        }
       }
     }
 
@@ -874,7 +1000,8 @@ public final class JavaReader extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -892,7 +1019,8 @@ public final class JavaReader extends ParserBase {
         final Node v$g$1 = Formatting.before1(v$pt$3, v$pt$4);
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyBase   = yyRepetition1;
@@ -908,7 +1036,7 @@ public final class JavaReader extends ParserBase {
               final Node v$el$1 = Formatting.before1(v$pt$1, v$pt$2);
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
           } else {
@@ -917,10 +1045,11 @@ public final class JavaReader extends ParserBase {
           break;
         }
         { // Start scope for v$g$2.
-          final Pair<Node> v$g$2 = yyRepValue1.reverse();
+          final int v$g$2 = yyRepStart1;
+          final int v$g$2$end = yyRepEnd1;
 
-          yyValue = GNode.createFromPair("FormalParameters", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          yyValue = bufferedNode("FormalParameters", v$g$1, v$g$2, v$g$2$end);
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
         } // End scope for v$g$2.
@@ -994,7 +1123,7 @@ public final class JavaReader extends ParserBase {
           final Node v$g$3 = yyOpValue1;
 
           yyValue = GNode.create("Declarator", v$g$1, v$g$2, v$g$3);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyOption1, yyError);
         } // End scope for v$g$3.
@@ -1016,10 +1145,15 @@ public final class JavaReader extends ParserBase {
    */
   private Result pDeclarators(final int yyStart) throws IOException {
     JavaReaderColumn yyColumn = (JavaReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fDeclarators) 
-      yyColumn.chunk1.fDeclarators = pDeclarators$1(yyStart);
-    return yyColumn.chunk1.fDeclarators;
+    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
+    if (null == yyColumn.chunk2.fDeclarators) {
+      yyColumn.chunk2.fDeclarators = pDeclarators$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(2, yyColumn.chunk2.fDeclarators);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(2, yyColumn.chunk2.fDeclarators);
+    }
+    return yyColumn.chunk2.fDeclarators;
   }
 
   /** Actually parse xtc.lang.Java.Declarators. */
@@ -1041,7 +1175,7 @@ public final class JavaReader extends ParserBase {
         final Pair<Node> v$g$2 = yyResult.semanticValue();
 
         yyValue = GNode.createFromPair("Declarators", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -1062,10 +1196,15 @@ public final class JavaReader extends ParserBase {
    */
   private Result pDeclarators$$Star1(final int yyStart) throws IOException {
     JavaReaderColumn yyColumn = (JavaReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fDeclarators$$Star1) 
-      yyColumn.chunk1.fDeclarators$$Star1 = pDeclarators$$Star1$1(yyStart);
-    return yyColumn.chunk1.fDeclarators$$Star1;
+    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
+    if (null == yyColumn.chunk2.fDeclarators$$Star1) {
+      yyColumn.chunk2.fDeclarators$$Star1 = pDeclarators$$Star1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(3, yyColumn.chunk2.fDeclarators$$Star1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(3, yyColumn.chunk2.fDeclarators$$Star1);
+    }
+    return yyColumn.chunk2.fDeclarators$$Star1;
   }
 
   /** Actually parse xtc.lang.Java.Declarators$$Star1. */
@@ -1164,14 +1303,16 @@ public final class JavaReader extends ParserBase {
   private Result pClassBody$$Split1(final int yyStart) throws IOException {
     Result     yyResult;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
     // Alternative <Body>.
 
     yyRepetition1 = yyStart;
-    yyRepValue1   = Pair.empty();
+    yyRepStart1   = bufferStart();
+    yyRepEnd1   = yyRepStart1;
     while (true) {
 
       yyResult = pDeclaration(yyRepetition1);
@@ -1180,16 +1321,17 @@ public final class JavaReader extends ParserBase {
         final Node v$el$1 = yyResult.semanticValue();
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+        yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
         continue;
       }
       break;
     }
     { // Start scope for v$g$1.
-      final Pair<Node> v$g$1 = yyRepValue1.reverse();
+      final int v$g$1 = yyRepStart1;
+      final int v$g$1$end = yyRepEnd1;
 
-      yyValue = GNode.createFromPair("ClassBody", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      yyValue = bufferedNode("ClassBody", v$g$1, v$g$1$end);
+      locate(yyValue, yyStart);
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
     } // End scope for v$g$1.
@@ -1241,7 +1383,7 @@ public final class JavaReader extends ParserBase {
             final Node v$g$3 = Formatting.after1(v$pt$2, v$pt$1);
 
             yyValue = GNode.create("FieldDeclaration", v$g$1, v$g$2, v$g$3);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
@@ -1309,7 +1451,7 @@ public final class JavaReader extends ParserBase {
                     final Node v$g$8 = yyResult.semanticValue();
 
                     yyValue = GNode.create("MethodDeclaration", v$g$1, null, v$g$3, v$g$4, v$g$5, v$g$6, v$g$7, v$g$8);
-                    yyValue.setLocation(location(yyStart));
+                    locate(yyValue, yyStart);
 
                     return yyResult.createValue(yyValue, yyError);
                   }
@@ -1324,7 +1466,7 @@ public final class JavaReader extends ParserBase {
                     final Node v$g$9 = Formatting.after1(null, v$pt$1);
 
                     yyValue = GNode.create("MethodDeclaration", v$g$1, null, v$g$3, v$g$4, v$g$5, v$g$6, v$g$7, v$g$9);
-                    yyValue.setLocation(location(yyStart));
+                    locate(yyValue, yyStart);
 
                     return yyResult.createValue(yyValue, yyError);
                   } else {
@@ -1368,7 +1510,7 @@ public final class JavaReader extends ParserBase {
                 final Node v$g$6 = yyResult.semanticValue();
 
                 yyValue = GNode.create("ConstructorDeclaration", v$g$1, null, v$g$3, v$g$4, v$g$5, v$g$6);
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return yyResult.createValue(yyValue, yyError);
               }
@@ -1434,7 +1576,7 @@ public final class JavaReader extends ParserBase {
                 final Node v$g$6 = yyResult.semanticValue();
 
                 yyValue = GNode.create("ClassDeclaration", v$g$1, v$g$2, null, v$g$4, v$g$5, v$g$6);
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return yyResult.createValue(yyValue, yyError);
               }
@@ -1479,7 +1621,7 @@ public final class JavaReader extends ParserBase {
               final Node v$g$5 = yyResult.semanticValue();
 
               yyValue = GNode.create("InterfaceDeclaration", v$g$1, v$g$2, null, v$g$4, v$g$5);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -1515,7 +1657,7 @@ public final class JavaReader extends ParserBase {
         final Node v$g$2 = yyResult.semanticValue();
 
         yyValue = GNode.create("BlockDeclaration", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -1529,7 +1671,7 @@ public final class JavaReader extends ParserBase {
       final Node v$pt$1 = yyResult.semanticValue();
 
       yyValue = GNode.create("EmptyDeclaration", false);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
       yyValue = Formatting.after1(yyValue, v$pt$1);
 
       return yyResult.createValue(yyValue, yyError);
@@ -1553,7 +1695,8 @@ public final class JavaReader extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -1571,7 +1714,8 @@ public final class JavaReader extends ParserBase {
         final Node v$g$1 = Formatting.before1(v$pt$3, v$pt$4);
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyBase   = yyRepetition1;
@@ -1587,7 +1731,7 @@ public final class JavaReader extends ParserBase {
               final Node v$el$1 = Formatting.before1(v$pt$1, v$pt$2);
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
           } else {
@@ -1596,10 +1740,11 @@ public final class JavaReader extends ParserBase {
           break;
         }
         { // Start scope for v$g$2.
-          final Pair<Node> v$g$2 = yyRepValue1.reverse();
+          final int v$g$2 = yyRepStart1;
+          final int v$g$2$end = yyRepEnd1;
 
-          yyValue = GNode.createFromPair("ThrowsClause", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          yyValue = bufferedNode("ThrowsClause", v$g$1, v$g$2, v$g$2$end);
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
         } // End scope for v$g$2.
@@ -1624,7 +1769,8 @@ public final class JavaReader extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -1642,7 +1788,8 @@ public final class JavaReader extends ParserBase {
         final Node v$g$1 = Formatting.before1(v$pt$3, v$pt$4);
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyBase   = yyRepetition1;
@@ -1658,7 +1805,7 @@ public final class JavaReader extends ParserBase {
               final Node v$el$1 = Formatting.before1(v$pt$1, v$pt$2);
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
           } else {
@@ -1667,10 +1814,11 @@ public final class JavaReader extends ParserBase {
           break;
         }
         { // Start scope for v$g$2.
-          final Pair<Node> v$g$2 = yyRepValue1.reverse();
+          final int v$g$2 = yyRepStart1;
+          final int v$g$2$end = yyRepEnd1;
 
-          yyValue = GNode.createFromPair("Extension", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          yyValue = bufferedNode("Extension", v$g$1, v$g$2, v$g$2$end);
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
         } // End scope for v$g$2.
@@ -1695,7 +1843,8 @@ public final class JavaReader extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -1713,7 +1862,8 @@ public final class JavaReader extends ParserBase {
         final Node v$g$1 = Formatting.before1(v$pt$3, v$pt$4);
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyBase   = yyRepetition1;
@@ -1729,7 +1879,7 @@ public final class JavaReader extends ParserBase {
               final Node v$el$1 = Formatting.before1(v$pt$1, v$pt$2);
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
           } else {
@@ -1738,10 +1888,11 @@ public final class JavaReader extends ParserBase {
           break;
         }
         { // Start scope for v$g$2.
-          final Pair<Node> v$g$2 = yyRepValue1.reverse();
+          final int v$g$2 = yyRepStart1;
+          final int v$g$2$end = yyRepEnd1;
 
-          yyValue = GNode.createFromPair("Implementation", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          yyValue = bufferedNode("Implementation", v$g$1, v$g$2, v$g$2$end);
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
         } // End scope for v$g$2.
@@ -1764,10 +1915,14 @@ public final class JavaReader extends ParserBase {
    */
   private Result pBlock(final int yyStart) throws IOException {
     JavaReaderColumn yyColumn = (JavaReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fBlock) 
-      yyColumn.chunk1.fBlock = pBlock$1(yyStart);
-    return yyColumn.chunk1.fBlock;
+    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
+    if (null == yyColumn.chunk2.fBlock) {
+      yyColumn.chunk2.fBlock = pBlock$1(yyStart);
+      if (null != yyStatistics) yyStatistics.miss(4, yyColumn.chunk2.fBlock);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(4, yyColumn.chunk2.fBlock);
+    }
+    return yyColumn.chunk2.fBlock;
   }
 
   /** Actually parse xtc.lang.Java.Block. */
@@ -1820,14 +1975,16 @@ public final class JavaReader extends ParserBase {
   private Result pBlock$$Split1(final int yyStart) throws IOException {
     Result     yyResult;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
     // Alternative <Block>.
 
     yyRepetition1 = yyStart;
-    yyRepValue1   = Pair.empty();
+    yyRepStart1   = bufferStart();
+    yyRepEnd1   = yyRepStart1;
     while (true) {
 
       yyResult = pDeclarationOrStatement(yyRepetition1);
@@ -1836,16 +1993,17 @@ public final class JavaReader extends ParserBase {
         final Node v$el$1 = yyResult.semanticValue();
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+        yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
         continue;
       }
       break;
     }
     { // Start scope for v$g$1.
-      final Pair<Node> v$g$1 = yyRepValue1.reverse();
+      final int v$g$1 = yyRepStart1;
+      final int v$g$1$end = yyRepEnd1;
 
-      yyValue = GNode.createFromPair("Block", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      yyValue = bufferedNode("Block", v$g$1, v$g$1$end);
+      locate(yyValue, yyStart);
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
     } // End scope for v$g$1.
@@ -1974,7 +2132,7 @@ public final class JavaReader extends ParserBase {
                 final Node v$g$6 = yyResult.semanticValue();
 
                 yyValue = GNode.create("ClassDeclaration", v$g$1, v$g$2, null, v$g$4, v$g$5, v$g$6);
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return yyResult.createValue(yyValue, yyError);
               }
@@ -2019,7 +2177,7 @@ public final class JavaReader extends ParserBase {
               final Node v$g$5 = yyResult.semanticValue();
 
               yyValue = GNode.create("InterfaceDeclaration", v$g$1, v$g$2, null, v$g$4, v$g$5);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -2074,7 +2232,7 @@ public final class JavaReader extends ParserBase {
             final Node v$g$3 = Formatting.after1(v$pt$2, v$pt$1);
 
             yyValue = GNode.create("FieldDeclaration", v$g$1, v$g$2, v$g$3);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
@@ -2102,20 +2260,56 @@ public final class JavaReader extends ParserBase {
     int        yyBase;
     int        yyRepetition1;
     boolean    yyRepeated1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     int        yyOption1;
     Node       yyOpValue1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Block>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pBlock(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pBlock(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 2.
@@ -2153,7 +2347,7 @@ public final class JavaReader extends ParserBase {
               final Node v$g$3 = Formatting.before1(v$pt$3, v$pt$4);
 
               yyValue = GNode.create("ConditionalStatement", v$g$1, v$g$2, v$g$3);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -2164,7 +2358,7 @@ public final class JavaReader extends ParserBase {
           // Nested alternative 2.
 
           yyValue = GNode.create("ConditionalStatement", v$g$1, v$g$2, null);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyChoice1, yyError);
         }
@@ -2203,7 +2397,7 @@ public final class JavaReader extends ParserBase {
               final Node v$g$2 = yyResult.semanticValue();
 
               yyValue = GNode.create("ForStatement", v$g$1, v$g$2);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -2235,7 +2429,7 @@ public final class JavaReader extends ParserBase {
           final Node v$g$2 = yyResult.semanticValue();
 
           yyValue = GNode.create("WhileStatement", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -2274,7 +2468,7 @@ public final class JavaReader extends ParserBase {
               final Node v$g$2 = Formatting.after1(v$pt$5, v$pt$4);
 
               yyValue = GNode.create("DoWhileStatement", v$g$1, v$g$2);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             } else {
@@ -2305,7 +2499,8 @@ public final class JavaReader extends ParserBase {
         // Nested alternative 1.
 
         yyRepetition1 = yyChoice1;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyResult = pCatchClause(yyRepetition1);
@@ -2314,13 +2509,14 @@ public final class JavaReader extends ParserBase {
             final Node v$el$1 = yyResult.semanticValue();
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
           break;
         }
         { // Start scope for v$g$3.
-          final Pair<Node> v$g$3 = yyRepValue1.reverse();
+          final int v$g$3 = yyRepStart1;
+          final int v$g$3$end = yyRepEnd1;
 
           yyBase   = yyRepetition1;
           yyResult = pWord(yyBase);
@@ -2334,22 +2530,26 @@ public final class JavaReader extends ParserBase {
               final Node v$pt$4 = yyResult.semanticValue();
               final Node v$g$4 = Formatting.before1(v$pt$3, v$pt$4);
 
-              yyValue = GNode.create("TryCatchFinallyStatement", v$g$3.size() + 3).
-                add(v$g$1).add(v$g$2).addAll(v$g$3).add(v$g$4);
-              yyValue.setLocation(location(yyStart));
+              yyValue = GNode.create("TryCatchFinallyStatement", (v$g$3$end - v$g$3) + 3).
+                add(v$g$1).add(v$g$2);
+              addBuffered(yyValue, v$g$3, v$g$3$end);
+              yyValue.add(v$g$4);
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
           } else {
             yyError = yyError.select("'finally' expected", yyBase);
           }
+          releaseBuffer(v$g$3);
         } // End scope for v$g$3.
 
         // Nested alternative 2.
 
         yyRepetition1 = yyChoice1;
         yyRepeated1   = false;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyResult = pCatchClause(yyRepetition1);
@@ -2359,18 +2559,21 @@ public final class JavaReader extends ParserBase {
 
             yyRepetition1 = yyResult.index;
             yyRepeated1   = true;
-            yyRepValue1   = new Pair<Node>(v$el$2, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$2);
             continue;
           }
           break;
         }
 
         if (yyRepeated1) {
-          final Pair<Node> v$g$5 = yyRepValue1.reverse();
+          final int v$g$5 = yyRepStart1;
+          final int v$g$5$end = yyRepEnd1;
 
-          yyValue = GNode.create("TryCatchFinallyStatement", v$g$5.size() + 3).
-            add(v$g$1).add(v$g$2).addAll(v$g$5).add(null);
-          yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("TryCatchFinallyStatement", (v$g$5$end - v$g$5) + 3).
+            add(v$g$1).add(v$g$2);
+          addBuffered(yyValue, v$g$5, v$g$5$end);
+          yyValue.add(null);
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
         }
@@ -2416,7 +2619,7 @@ public final class JavaReader extends ParserBase {
           final Node v$g$2 = yyResult.semanticValue();
 
           yyValue = GNode.create("SynchronizedStatement", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -2452,7 +2655,7 @@ public final class JavaReader extends ParserBase {
           final Node v$g$1 = Formatting.round1(v$pt$1, v$pt$3, v$pt$2);
 
           yyValue = GNode.create("ReturnStatement", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
@@ -2481,7 +2684,7 @@ public final class JavaReader extends ParserBase {
           final Node v$g$1 = Formatting.round1(v$pt$1, v$pt$3, v$pt$2);
 
           yyValue = GNode.create("ThrowStatement", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
@@ -2519,7 +2722,7 @@ public final class JavaReader extends ParserBase {
           final Node v$g$1 = Formatting.round1(v$pt$1, v$pt$3, v$pt$2);
 
           yyValue = GNode.create("BreakStatement", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
@@ -2557,7 +2760,7 @@ public final class JavaReader extends ParserBase {
           final Node v$g$1 = Formatting.round1(v$pt$1, v$pt$3, v$pt$2);
 
           yyValue = GNode.create("ContinueStatement", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
@@ -2586,7 +2789,7 @@ public final class JavaReader extends ParserBase {
           final Node v$g$2 = yyResult.semanticValue();
 
           yyValue = GNode.create("LabeledStatement", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -2610,7 +2813,7 @@ public final class JavaReader extends ParserBase {
         final Node v$g$1 = Formatting.after1(v$pt$2, v$pt$1);
 
         yyValue = GNode.create("ExpressionStatement", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       } else {
@@ -2663,7 +2866,7 @@ public final class JavaReader extends ParserBase {
             final Node v$g$2 = Formatting.after1(v$pt$6, v$pt$5);
 
             yyValue = GNode.create("AssertStatement", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
@@ -2674,17 +2877,19 @@ public final class JavaReader extends ParserBase {
     }
 
     // Alternative 16.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals(";")) {
-      final Node v$pt$1 = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals(";")) {
+        final Node v$pt$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("EmptyStatement", false);
-      yyValue.setLocation(location(yyStart));
-      yyValue = Formatting.after1(yyValue, v$pt$1);
+        yyValue = GNode.create("EmptyStatement", false);
+        locate(yyValue, yyStart);
+        yyValue = Formatting.after1(yyValue, v$pt$1);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -2769,7 +2974,7 @@ public final class JavaReader extends ParserBase {
                   final Node v$g$5 = yyOpValue1;
 
                   yyValue = GNode.create("BasicForControl", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
-                  yyValue.setLocation(location(yyStart));
+                  locate(yyValue, yyStart);
 
                   return new SemanticValue(yyValue, yyOption1, yyError);
                 } // End scope for v$g$5.
@@ -2843,7 +3048,7 @@ public final class JavaReader extends ParserBase {
               final Node v$g$10 = yyOpValue1;
 
               yyValue = GNode.create("BasicForControl", null, null, v$g$8, v$g$9, v$g$10);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return new SemanticValue(yyValue, yyOption1, yyError);
             } // End scope for v$g$10.
@@ -2871,10 +3076,15 @@ public final class JavaReader extends ParserBase {
    */
   private Result pParExpression(final int yyStart) throws IOException {
     JavaReaderColumn yyColumn = (JavaReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fParExpression) 
-      yyColumn.chunk1.fParExpression = pParExpression$1(yyStart);
-    return yyColumn.chunk1.fParExpression;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fParExpression) {
+      yyColumn.chunk3.fParExpression = pParExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(5, yyColumn.chunk3.fParExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(5, yyColumn.chunk3.fParExpression);
+    }
+    return yyColumn.chunk3.fParExpression;
   }
 
   /** Actually parse xtc.lang.Java.ParExpression. */
@@ -2926,10 +3136,15 @@ public final class JavaReader extends ParserBase {
    */
   private Result pCatchClause(final int yyStart) throws IOException {
     JavaReaderColumn yyColumn = (JavaReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fCatchClause) 
-      yyColumn.chunk1.fCatchClause = pCatchClause$1(yyStart);
-    return yyColumn.chunk1.fCatchClause;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fCatchClause) {
+      yyColumn.chunk3.fCatchClause = pCatchClause$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(6, yyColumn.chunk3.fCatchClause);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(6, yyColumn.chunk3.fCatchClause);
+    }
+    return yyColumn.chunk3.fCatchClause;
   }
 
   /** Actually parse xtc.lang.Java.CatchClause. */
@@ -2971,7 +3186,7 @@ public final class JavaReader extends ParserBase {
               final Node v$g$2 = yyResult.semanticValue();
 
               yyValue = GNode.create("CatchClause", v$g$1, v$g$2);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -3004,7 +3219,8 @@ public final class JavaReader extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -3028,7 +3244,8 @@ public final class JavaReader extends ParserBase {
           final Node v$g$1 = Formatting.round1(v$pt$1, v$pt$3, v$pt$2);
 
           yyRepetition1 = yyResult.index;
-          yyRepValue1   = Pair.empty();
+          yyRepStart1   = bufferStart();
+          yyRepEnd1   = yyRepStart1;
           while (true) {
 
             yyResult = pSwitchClause(yyRepetition1);
@@ -3037,16 +3254,17 @@ public final class JavaReader extends ParserBase {
               final Node v$el$1 = yyResult.semanticValue();
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
             break;
           }
           { // Start scope for v$g$2.
-            final Pair<Node> v$g$2 = yyRepValue1.reverse();
+            final int v$g$2 = yyRepStart1;
+            final int v$g$2$end = yyRepEnd1;
 
-            yyValue = GNode.createFromPair("SwitchStatement", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
+            yyValue = bufferedNode("SwitchStatement", v$g$1, v$g$2, v$g$2$end);
+            locate(yyValue, yyStart);
 
             return new SemanticValue(yyValue, yyRepetition1, yyError);
           } // End scope for v$g$2.
@@ -3074,7 +3292,8 @@ public final class JavaReader extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -3098,7 +3317,8 @@ public final class JavaReader extends ParserBase {
           final Node v$g$1 = Formatting.round1(v$pt$1, v$pt$3, v$pt$2);
 
           yyRepetition1 = yyResult.index;
-          yyRepValue1   = Pair.empty();
+          yyRepStart1   = bufferStart();
+          yyRepEnd1   = yyRepStart1;
           while (true) {
 
             yyResult = pDeclarationOrStatement(yyRepetition1);
@@ -3107,16 +3327,17 @@ public final class JavaReader extends ParserBase {
               final Node v$el$1 = yyResult.semanticValue();
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
             break;
           }
           { // Start scope for v$g$2.
-            final Pair<Node> v$g$2 = yyRepValue1.reverse();
+            final int v$g$2 = yyRepStart1;
+            final int v$g$2$end = yyRepEnd1;
 
-            yyValue = GNode.createFromPair("CaseClause", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
+            yyValue = bufferedNode("CaseClause", v$g$1, v$g$2, v$g$2$end);
+            locate(yyValue, yyStart);
 
             return new SemanticValue(yyValue, yyRepetition1, yyError);
           } // End scope for v$g$2.
@@ -3172,14 +3393,16 @@ public final class JavaReader extends ParserBase {
 
     Result     yyResult;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
     // Alternative 1.
 
     yyRepetition1 = yyStart;
-    yyRepValue1   = Pair.empty();
+    yyRepStart1   = bufferStart();
+    yyRepEnd1   = yyRepStart1;
     while (true) {
 
       yyResult = pDeclarationOrStatement(yyRepetition1);
@@ -3188,16 +3411,17 @@ public final class JavaReader extends ParserBase {
         final Node v$el$1 = yyResult.semanticValue();
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+        yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
         continue;
       }
       break;
     }
     { // Start scope for v$g$1.
-      final Pair<Node> v$g$1 = yyRepValue1.reverse();
+      final int v$g$1 = yyRepStart1;
+      final int v$g$1$end = yyRepEnd1;
 
-      yyValue = GNode.createFromPair("DefaultClause", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      yyValue = bufferedNode("DefaultClause", v$g$1, v$g$1$end);
+      locate(yyValue, yyStart);
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
     } // End scope for v$g$1.
@@ -3216,7 +3440,8 @@ public final class JavaReader extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -3228,7 +3453,8 @@ public final class JavaReader extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyBase   = yyRepetition1;
@@ -3244,7 +3470,7 @@ public final class JavaReader extends ParserBase {
             final Node v$el$1 = Formatting.before1(v$pt$1, v$pt$2);
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
         } else {
@@ -3253,10 +3479,11 @@ public final class JavaReader extends ParserBase {
         break;
       }
       { // Start scope for v$g$2.
-        final Pair<Node> v$g$2 = yyRepValue1.reverse();
+        final int v$g$2 = yyRepStart1;
+        final int v$g$2$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("ExpressionList", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("ExpressionList", v$g$1, v$g$2, v$g$2$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$2.
@@ -3277,10 +3504,15 @@ public final class JavaReader extends ParserBase {
    */
   private Result pExpression(final int yyStart) throws IOException {
     JavaReaderColumn yyColumn = (JavaReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fExpression) 
-      yyColumn.chunk1.fExpression = pExpression$1(yyStart);
-    return yyColumn.chunk1.fExpression;
+    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
+    if (null == yyColumn.chunk2.fExpression) {
+      yyColumn.chunk2.fExpression = pExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(7, yyColumn.chunk2.fExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(7, yyColumn.chunk2.fExpression);
+    }
+    return yyColumn.chunk2.fExpression;
   }
 
   /** Actually parse xtc.lang.Java.Expression. */
@@ -3307,7 +3539,7 @@ public final class JavaReader extends ParserBase {
           final Node v$g$3 = yyResult.semanticValue();
 
           yyValue = GNode.create("Expression", v$g$1, v$g$2, v$g$3);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -3342,124 +3574,181 @@ public final class JavaReader extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0xfff;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Equal>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("=")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("=")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <PlusEqual>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("+=")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("+=")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <MinusEqual>.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("-=")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("-=")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <StarEqual>.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("*=")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("*=")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <SlashEqual>.
+    if (0 != (yyFirst & 0x10)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("/=")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("/=")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <AmpersandEqual>.
+    if (0 != (yyFirst & 0x20)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("&=")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("&=")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <BarEqual>.
+    if (0 != (yyFirst & 0x40)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("|=")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("|=")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <CaretEqual>.
+    if (0 != (yyFirst & 0x80)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("^=")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("^=")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <PercentEqual>.
+    if (0 != (yyFirst & 0x100)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("%=")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("%=")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <DoubleLessEqual>.
+    if (0 != (yyFirst & 0x200)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("<<=")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("<<=")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <DoubleGreaterEqual>.
+    if (0 != (yyFirst & 0x400)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals(">>=")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals(">>=")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <TripleGreaterEqual>.
+    if (0 != (yyFirst & 0x800)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals(">>>=")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals(">>>=")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -3480,10 +3769,16 @@ public final class JavaReader extends ParserBase {
     throws IOException {
 
     JavaReaderColumn yyColumn = (JavaReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fConditionalExpression) 
-      yyColumn.chunk1.fConditionalExpression = pConditionalExpression$1(yyStart);
-    return yyColumn.chunk1.fConditionalExpression;
+    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
+    if (null == yyColumn.chunk2.fConditionalExpression) {
+      yyColumn.chunk2.fConditionalExpression = 
+        pConditionalExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(8, yyColumn.chunk2.fConditionalExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(8, yyColumn.chunk2.fConditionalExpression);
+    }
+    return yyColumn.chunk2.fConditionalExpression;
   }
 
   /** Actually parse xtc.lang.Java.ConditionalExpression. */
@@ -3527,7 +3822,7 @@ public final class JavaReader extends ParserBase {
               final Node v$g$3 = yyResult.semanticValue();
 
               yyValue = GNode.create("ConditionalExpression", v$g$1, v$g$2, v$g$3);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -3566,8 +3861,13 @@ public final class JavaReader extends ParserBase {
   private Result pLogicalOrExpression(final int yyStart) throws IOException {
     JavaReaderColumn yyColumn = (JavaReaderColumn)column(yyStart);
     if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fLogicalOrExpression) 
+    if (null == yyColumn.chunk1.fLogicalOrExpression) {
       yyColumn.chunk1.fLogicalOrExpression = pLogicalOrExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(9, yyColumn.chunk1.fLogicalOrExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(9, yyColumn.chunk1.fLogicalOrExpression);
+    }
     return yyColumn.chunk1.fLogicalOrExpression;
   }
 
@@ -4141,24 +4441,61 @@ public final class JavaReader extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Equal>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("==")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("==")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <NotEqual>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("!=")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("!=")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -4201,7 +4538,7 @@ public final class JavaReader extends ParserBase {
           final Node v$g$2 = yyResult.semanticValue();
 
           yyValue = GNode.create("InstanceOfExpression", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -4235,10 +4572,16 @@ public final class JavaReader extends ParserBase {
    */
   private Result pRelationalExpression(final int yyStart) throws IOException {
     JavaReaderColumn yyColumn = (JavaReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fRelationalExpression) 
-      yyColumn.chunk2.fRelationalExpression = pRelationalExpression$1(yyStart);
-    return yyColumn.chunk2.fRelationalExpression;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fRelationalExpression) {
+      yyColumn.chunk1.fRelationalExpression = 
+        pRelationalExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(10, yyColumn.chunk1.fRelationalExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(10, yyColumn.chunk1.fRelationalExpression);
+    }
+    return yyColumn.chunk1.fRelationalExpression;
   }
 
   /** Actually parse xtc.lang.Java.RelationalExpression. */
@@ -4341,44 +4684,85 @@ public final class JavaReader extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0xf;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Less>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("<")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("<")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Greater>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals(">")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals(">")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <LessEqual>.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("<=")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("<=")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <GreaterEqual>.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals(">=")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals(">=")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -4492,34 +4876,73 @@ public final class JavaReader extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x7;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Left>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("<<")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("<<")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Right>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals(">>")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals(">>")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <UnsignedRight>.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals(">>>")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals(">>>")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -4633,24 +5056,61 @@ public final class JavaReader extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Plus>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("+")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("+")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Minus>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("-")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("-")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -4769,34 +5229,73 @@ public final class JavaReader extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x7;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Times>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("*")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("*")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Over>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("/")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("/")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Modulo>.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("%")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("%")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -4818,79 +5317,120 @@ public final class JavaReader extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0xf;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Plus>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("+")) {
-      final Node v$g$1 = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("+")) {
+        final Node v$g$1 = yyResult.semanticValue();
 
-      yyResult = pUnaryExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$2 = yyResult.semanticValue();
+        yyResult = pUnaryExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryExpression", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("UnaryExpression", v$g$1, v$g$2);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative <Minus>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("-")) {
-      final Node v$g$3 = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("-")) {
+        final Node v$g$3 = yyResult.semanticValue();
 
-      yyResult = pUnaryExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$4 = yyResult.semanticValue();
+        yyResult = pUnaryExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$4 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryExpression", v$g$3, v$g$4);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("UnaryExpression", v$g$3, v$g$4);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative <Increment>.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("++")) {
-      final Node v$g$5 = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("++")) {
+        final Node v$g$5 = yyResult.semanticValue();
 
-      yyResult = pUnaryExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$6 = yyResult.semanticValue();
+        yyResult = pUnaryExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$6 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryExpression", v$g$5, v$g$6);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("UnaryExpression", v$g$5, v$g$6);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative <Decrement>.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("--")) {
-      final Node v$g$7 = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("--")) {
+        final Node v$g$7 = yyResult.semanticValue();
 
-      yyResult = pUnaryExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$8 = yyResult.semanticValue();
+        yyResult = pUnaryExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$8 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryExpression", v$g$7, v$g$8);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("UnaryExpression", v$g$7, v$g$8);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
@@ -4928,126 +5468,165 @@ public final class JavaReader extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x7;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("~")) {
-      final Node v$pt$1 = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("~")) {
+        final Node v$pt$1 = yyResult.semanticValue();
 
-      yyResult = pUnaryExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$pt$2 = yyResult.semanticValue();
-        final Node v$g$1 = Formatting.before1(v$pt$1, v$pt$2);
+        yyResult = pUnaryExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$pt$2 = yyResult.semanticValue();
+          final Node v$g$1 = Formatting.before1(v$pt$1, v$pt$2);
 
-        yyValue = GNode.create("BitwiseNegationExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("BitwiseNegationExpression", v$g$1);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("!")) {
-      final Node v$pt$1 = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("!")) {
+        final Node v$pt$1 = yyResult.semanticValue();
 
-      yyResult = pUnaryExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$pt$2 = yyResult.semanticValue();
-        final Node v$g$1 = Formatting.before1(v$pt$1, v$pt$2);
+        yyResult = pUnaryExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$pt$2 = yyResult.semanticValue();
+          final Node v$g$1 = Formatting.before1(v$pt$1, v$pt$2);
 
-        yyValue = GNode.create("LogicalNegationExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("LogicalNegationExpression", v$g$1);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("(")) {
-      final Node v$pt$1 = yyResult.semanticValue();
-
-      final int yyChoice1 = yyResult.index;
-
-      // Nested alternative 1.
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("(")) {
+        final Node v$pt$1 = yyResult.semanticValue();
 
-      yyResult = pPrimitiveType(yyChoice1);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$pt$2 = yyResult.semanticValue();
-        final Node v$g$1 = Formatting.before1(v$pt$1, v$pt$2);
+        final int yyChoice1 = yyResult.index;
 
-        yyOption1  = yyResult.index;
-        yyOpValue1 = null;
+        // Nested alternative 1.
 
-        yyResult = pDimensions(yyOption1);
-        yyError  = yyResult.select(yyError, yyOption1);
+        yyResult = pPrimitiveType(yyChoice1);
+        yyError  = yyResult.select(yyError);
         if (yyResult.hasValue()) {
-          final Node v$el$1 = yyResult.semanticValue();
+          final Node v$pt$2 = yyResult.semanticValue();
+          final Node v$g$1 = Formatting.before1(v$pt$1, v$pt$2);
 
           yyOption1  = yyResult.index;
-          yyOpValue1 = v$el$1;
-        }
-        { // Start scope for v$pt$4.
-          final Node v$pt$4 = yyOpValue1;
-
-          yyBase   = yyOption1;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue() &&
-              ((Node)yyResult.semanticValue()).getTokenText().equals(")")) {
-            final Node v$pt$3 = yyResult.semanticValue();
-            final Node v$g$2 = Formatting.after1(v$pt$4, v$pt$3);
+          yyOpValue1 = null;
 
-            yyResult = pUnaryExpression(yyResult.index);
-            yyError  = yyResult.select(yyError);
-            if (yyResult.hasValue()) {
-              final Node v$g$3 = yyResult.semanticValue();
+          yyResult = pDimensions(yyOption1);
+          yyError  = yyResult.select(yyError, yyOption1);
+          if (yyResult.hasValue()) {
+            final Node v$el$1 = yyResult.semanticValue();
+
+            yyOption1  = yyResult.index;
+            yyOpValue1 = v$el$1;
+          }
+          { // Start scope for v$pt$4.
+            final Node v$pt$4 = yyOpValue1;
 
-              yyValue = GNode.create("BasicCastExpression", v$g$1, v$g$2, v$g$3);
-              yyValue.setLocation(location(yyStart));
+            yyBase   = yyOption1;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue() &&
+                ((Node)yyResult.semanticValue()).getTokenText().equals(")")) {
+              final Node v$pt$3 = yyResult.semanticValue();
+              final Node v$g$2 = Formatting.after1(v$pt$4, v$pt$3);
 
-              return yyResult.createValue(yyValue, yyError);
+              yyResult = pUnaryExpression(yyResult.index);
+              yyError  = yyResult.select(yyError);
+              if (yyResult.hasValue()) {
+                final Node v$g$3 = yyResult.semanticValue();
+
+                yyValue = GNode.create("BasicCastExpression", v$g$1, v$g$2, v$g$3);
+                locate(yyValue, yyStart);
+
+                return yyResult.createValue(yyValue, yyError);
+              }
+            } else {
+              yyError = yyError.select("')' expected", yyBase);
             }
-          } else {
-            yyError = yyError.select("')' expected", yyBase);
-          }
-        } // End scope for v$pt$4.
-      }
+          } // End scope for v$pt$4.
+        }
 
-      // Nested alternative 2.
+        // Nested alternative 2.
 
-      yyResult = pType(yyChoice1);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$pt$3 = yyResult.semanticValue();
+        yyResult = pType(yyChoice1);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$pt$3 = yyResult.semanticValue();
 
-        yyBase   = yyResult.index;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue() &&
-            ((Node)yyResult.semanticValue()).getTokenText().equals(")")) {
-          final Node v$pt$2 = yyResult.semanticValue();
-          final Node v$g$1 = Formatting.round1(v$pt$1, v$pt$3, v$pt$2);
+          yyBase   = yyResult.index;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue() &&
+              ((Node)yyResult.semanticValue()).getTokenText().equals(")")) {
+            final Node v$pt$2 = yyResult.semanticValue();
+            final Node v$g$1 = Formatting.round1(v$pt$1, v$pt$3, v$pt$2);
 
-          yyResult = pUnaryExpressionNotPlusMinus(yyResult.index);
-          yyError  = yyResult.select(yyError);
-          if (yyResult.hasValue()) {
-            final Node v$g$2 = yyResult.semanticValue();
+            yyResult = pUnaryExpressionNotPlusMinus(yyResult.index);
+            yyError  = yyResult.select(yyError);
+            if (yyResult.hasValue()) {
+              final Node v$g$2 = yyResult.semanticValue();
 
-            yyValue = GNode.create("CastExpression", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
+              yyValue = GNode.create("CastExpression", v$g$1, v$g$2);
+              locate(yyValue, yyStart);
 
-            return yyResult.createValue(yyValue, yyError);
+              return yyResult.createValue(yyValue, yyError);
+            }
+          } else {
+            yyError = yyError.select("')' expected", yyBase);
           }
-        } else {
-          yyError = yyError.select("')' expected", yyBase);
         }
       }
     }
@@ -5137,216 +5716,259 @@ public final class JavaReader extends ParserBase {
     Action<Node> yyValue;
     ParseError   yyError = ParseError.DUMMY;
 
-    // Alternative 1.
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x1f;
+      break;
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals(".")) {
-      final Node v$pt$1 = yyResult.semanticValue();
+    default:
+      yyFirst = 0;
+    }
 
-      final int yyChoice1 = yyResult.index;
+    // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-      // Nested alternative 1.
-      final Node v$g$2 = Formatting.before1(v$pt$1, null);
-      { // Start scope for nested choice.
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals(".")) {
+        final Node v$pt$1 = yyResult.semanticValue();
 
-        final int yyChoice2 = yyChoice1;
+        final int yyChoice1 = yyResult.index;
 
         // Nested alternative 1.
+        final Node v$g$2 = Formatting.before1(v$pt$1, null);
+        { // Start scope for nested choice.
 
-        yyResult = pIdentifier(yyChoice2);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$g$3 = yyResult.semanticValue();
+          final int yyChoice2 = yyChoice1;
+
+          // Nested alternative 1.
 
-          yyResult = pArguments(yyResult.index);
+          yyResult = pIdentifier(yyChoice2);
           yyError  = yyResult.select(yyError);
           if (yyResult.hasValue()) {
-            final Node v$g$4 = yyResult.semanticValue();
+            final Node v$g$3 = yyResult.semanticValue();
 
-            yyValue = new Action<Node>() {
-              public Node run(Node v$1) {
-                return GNode.create("CallExpression", v$1, v$g$2, v$g$3, v$g$4);
-              }};
+            yyResult = pArguments(yyResult.index);
+            yyError  = yyResult.select(yyError);
+            if (yyResult.hasValue()) {
+              final Node v$g$4 = yyResult.semanticValue();
 
-            return yyResult.createValue(yyValue, yyError);
+              yyValue = new Action<Node>() {
+                public Node run(Node v$1) {
+                  return GNode.create("CallExpression", v$1, v$g$2, v$g$3, v$g$4);
+                }};
+
+              return yyResult.createValue(yyValue, yyError);
+            }
           }
-        }
+
+          // Nested alternative 2.
+
+          yyBase   = yyChoice2;
+          yyResult = pWord(yyBase);
+          if (yyResult.hasValue() &&
+              ((Node)yyResult.semanticValue()).getTokenText().equals("super")) {
+            final Node v$g$5 = yyResult.semanticValue();
+
+            yyResult = pArguments(yyResult.index);
+            yyError  = yyResult.select(yyError);
+            if (yyResult.hasValue()) {
+              final Node v$g$6 = yyResult.semanticValue();
+
+              yyValue = new Action<Node>() {
+                public Node run(Node v$1) {
+                  return GNode.create("CallExpression", v$1, v$g$2, v$g$5, v$g$6);
+                }};
+
+              return yyResult.createValue(yyValue, yyError);
+            }
+          } else {
+            yyError = yyError.select("'super' expected", yyBase);
+          }
+        } // End scope for nested choice.
 
         // Nested alternative 2.
 
-        yyBase   = yyChoice2;
+        yyBase   = yyChoice1;
         yyResult = pWord(yyBase);
         if (yyResult.hasValue() &&
             ((Node)yyResult.semanticValue()).getTokenText().equals("super")) {
-          final Node v$g$5 = yyResult.semanticValue();
-
-          yyResult = pArguments(yyResult.index);
-          yyError  = yyResult.select(yyError);
-          if (yyResult.hasValue()) {
-            final Node v$g$6 = yyResult.semanticValue();
+          final Node v$pt$3 = yyResult.semanticValue();
 
-            yyValue = new Action<Node>() {
-              public Node run(Node v$1) {
-                return GNode.create("CallExpression", v$1, v$g$2, v$g$5, v$g$6);
-              }};
+          yyValue = new Action<Node>() {
+            public Node run(Node v$1) {
+              Node yyValue = GNode.create("SuperExpression", v$1);
+              yyValue = Formatting.variable().addNode(yyValue).
+                add(v$pt$1).add(v$pt$3);
+              return yyValue;
+            }};
 
-            return yyResult.createValue(yyValue, yyError);
-          }
+          return yyResult.createValue(yyValue, yyError);
         } else {
           yyError = yyError.select("'super' expected", yyBase);
         }
-      } // End scope for nested choice.
-
-      // Nested alternative 2.
-
-      yyBase   = yyChoice1;
-      yyResult = pWord(yyBase);
-      if (yyResult.hasValue() &&
-          ((Node)yyResult.semanticValue()).getTokenText().equals("super")) {
-        final Node v$pt$3 = yyResult.semanticValue();
 
-        yyValue = new Action<Node>() {
-          public Node run(Node v$1) {
-            Node yyValue = GNode.create("SuperExpression", v$1);
-            yyValue = Formatting.variable().addNode(yyValue).
-              add(v$pt$1).add(v$pt$3);
-            return yyValue;
-          }};
+        // Nested alternative 3.
 
-        return yyResult.createValue(yyValue, yyError);
-      } else {
-        yyError = yyError.select("'super' expected", yyBase);
-      }
-
-      // Nested alternative 3.
-
-      yyResult = pIdentifier(yyChoice1);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$pt$4 = yyResult.semanticValue();
-        final Node v$g$7 = Formatting.before1(v$pt$1, v$pt$4);
+        yyResult = pIdentifier(yyChoice1);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$pt$4 = yyResult.semanticValue();
+          final Node v$g$7 = Formatting.before1(v$pt$1, v$pt$4);
 
-        yyValue = new Action<Node>() {
-          public Node run(Node v$1) {
-            return GNode.create("SelectionExpression", v$1, v$g$7);
-          }};
+          yyValue = new Action<Node>() {
+            public Node run(Node v$1) {
+              return GNode.create("SelectionExpression", v$1, v$g$7);
+            }};
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("[")) {
-      final Node v$pt$5 = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("[")) {
+        final Node v$pt$5 = yyResult.semanticValue();
 
-      yyResult = pExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$pt$7 = yyResult.semanticValue();
+        yyResult = pExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$pt$7 = yyResult.semanticValue();
 
-        yyBase   = yyResult.index;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue() &&
-            ((Node)yyResult.semanticValue()).getTokenText().equals("]")) {
-          final Node v$pt$6 = yyResult.semanticValue();
-          final Node v$g$8 = Formatting.round1(v$pt$5, v$pt$7, v$pt$6);
+          yyBase   = yyResult.index;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue() &&
+              ((Node)yyResult.semanticValue()).getTokenText().equals("]")) {
+            final Node v$pt$6 = yyResult.semanticValue();
+            final Node v$g$8 = Formatting.round1(v$pt$5, v$pt$7, v$pt$6);
 
-          yyValue = new Action<Node>() {
-            public Node run(Node v$1) {
-              return GNode.create("SubscriptExpression", v$1, v$g$8);
-            }};
+            yyValue = new Action<Node>() {
+              public Node run(Node v$1) {
+                return GNode.create("SubscriptExpression", v$1, v$g$8);
+              }};
 
-          return yyResult.createValue(yyValue, yyError);
-        } else {
-          yyError = yyError.select("']' expected", yyBase);
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("']' expected", yyBase);
+          }
         }
       }
     }
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("++")) {
-      final Node v$g$9 = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("++")) {
+        final Node v$g$9 = yyResult.semanticValue();
 
-      yyValue = new Action<Node>() {
-        public Node run(Node v$1) {
-          return GNode.create("PostfixExpression", v$1, v$g$9);
-        }};
+        yyValue = new Action<Node>() {
+          public Node run(Node v$1) {
+            return GNode.create("PostfixExpression", v$1, v$g$9);
+          }};
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 4.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("--")) {
-      final Node v$g$10 = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("--")) {
+        final Node v$g$10 = yyResult.semanticValue();
 
-      yyValue = new Action<Node>() {
-        public Node run(Node v$1) {
-          return GNode.create("PostfixExpression", v$1, v$g$10);
-        }};
+        yyValue = new Action<Node>() {
+          public Node run(Node v$1) {
+            return GNode.create("PostfixExpression", v$1, v$g$10);
+          }};
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 5.
+    if (0 != (yyFirst & 0x10)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals(".")) {
-      final Node v$pt$8 = yyResult.semanticValue();
-
-      yyBase   = yyResult.index;
-      yyResult = pWord(yyBase);
+      yyResult = pSymbol(yyStart);
       if (yyResult.hasValue() &&
-          ((Node)yyResult.semanticValue()).getTokenText().equals("new")) {
-        final Node v$pt$9 = yyResult.semanticValue();
-        final Node v$g$11 = Formatting.variable().
-          add(v$pt$8).add(v$pt$9).addNode(null);
+          ((Node)yyResult.semanticValue()).getTokenText().equals(".")) {
+        final Node v$pt$8 = yyResult.semanticValue();
 
-        yyResult = pTypeName(yyResult.index);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$g$12 = yyResult.semanticValue();
+        yyBase   = yyResult.index;
+        yyResult = pWord(yyBase);
+        if (yyResult.hasValue() &&
+            ((Node)yyResult.semanticValue()).getTokenText().equals("new")) {
+          final Node v$pt$9 = yyResult.semanticValue();
+          final Node v$g$11 = Formatting.variable().
+            add(v$pt$8).add(v$pt$9).addNode(null);
 
-          yyResult = pArguments(yyResult.index);
+          yyResult = pTypeName(yyResult.index);
           yyError  = yyResult.select(yyError);
           if (yyResult.hasValue()) {
-            final Node v$g$13 = yyResult.semanticValue();
-
-            yyOption1  = yyResult.index;
-            yyOpValue1 = null;
+            final Node v$g$12 = yyResult.semanticValue();
 
-            yyResult = pClassBody(yyOption1);
-            yyError  = yyResult.select(yyError, yyOption1);
+            yyResult = pArguments(yyResult.index);
+            yyError  = yyResult.select(yyError);
             if (yyResult.hasValue()) {
-              final Node v$el$1 = yyResult.semanticValue();
+              final Node v$g$13 = yyResult.semanticValue();
 
               yyOption1  = yyResult.index;
-              yyOpValue1 = v$el$1;
-            }
-            { // Start scope for v$g$14.
-              final Node v$g$14 = yyOpValue1;
+              yyOpValue1 = null;
 
-              yyValue = new Action<Node>() {
-                public Node run(Node v$1) {
-                  return GNode.create("NewClassExpression", v$1, v$g$11, v$g$12, v$g$13, v$g$14);
-                }};
+              yyResult = pClassBody(yyOption1);
+              yyError  = yyResult.select(yyError, yyOption1);
+              if (yyResult.hasValue()) {
+                final Node v$el$1 = yyResult.semanticValue();
 
-              return new SemanticValue(yyValue, yyOption1, yyError);
-            } // End scope for v$g$14.
+                yyOption1  = yyResult.index;
+                yyOpValue1 = v$el$1;
+              }
+              { // Start scope for v$g$14.
+                final Node v$g$14 = yyOpValue1;
+
+                yyValue = new Action<Node>() {
+                  public Node run(Node v$1) {
+                    return GNode.create("NewClassExpression", v$1, v$g$11, v$g$12, v$g$13, v$g$14);
+                  }};
+
+                return new SemanticValue(yyValue, yyOption1, yyError);
+              } // End scope for v$g$14.
+            }
           }
+        } else {
+          yyError = yyError.select("'new' expected", yyBase);
         }
-      } else {
-        yyError = yyError.select("'new' expected", yyBase);
       }
     }
 
@@ -5395,7 +6017,7 @@ public final class JavaReader extends ParserBase {
         final Node v$g$4 = yyResult.semanticValue();
 
         yyValue = GNode.create("CallExpression", null, null, v$g$3, v$g$4);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -5423,7 +6045,7 @@ public final class JavaReader extends ParserBase {
             addNode(v$pt$3).add(v$pt$1).add(v$pt$2);
 
           yyValue = GNode.create("ClassLiteralExpression", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
@@ -5447,7 +6069,7 @@ public final class JavaReader extends ParserBase {
         final Node v$g$4 = yyResult.semanticValue();
 
         yyValue = GNode.create("CallExpression", null, null, v$g$3, v$g$4);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -5487,7 +6109,7 @@ public final class JavaReader extends ParserBase {
         final Node v$g$1 = Formatting.after1(v$pt$4, v$pt$3);
 
         yyValue = GNode.create("ThisExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       } else {
@@ -5508,7 +6130,7 @@ public final class JavaReader extends ParserBase {
         final Node v$g$4 = yyResult.semanticValue();
 
         yyValue = GNode.create("CallExpression", null, null, v$g$3, v$g$4);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -5523,7 +6145,7 @@ public final class JavaReader extends ParserBase {
       final Node v$g$1 = Formatting.after1(null, v$pt$1);
 
       yyValue = GNode.create("SuperExpression", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -5536,7 +6158,7 @@ public final class JavaReader extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.create("PrimaryIdentifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -5574,7 +6196,7 @@ public final class JavaReader extends ParserBase {
             final Node v$g$5 = yyOpValue1;
 
             yyValue = GNode.create("NewClassExpression", v$g$1, null, v$g$3, v$g$4, v$g$5);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return new SemanticValue(yyValue, yyOption1, yyError);
           } // End scope for v$g$5.
@@ -5619,7 +6241,7 @@ public final class JavaReader extends ParserBase {
             final Node v$g$3 = yyOpValue1;
 
             yyValue = GNode.create("NewArrayExpression", v$g$1, v$g$2, v$g$3, null);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return new SemanticValue(yyValue, yyOption1, yyError);
           } // End scope for v$g$3.
@@ -5647,7 +6269,7 @@ public final class JavaReader extends ParserBase {
             final Node v$g$7 = yyResult.semanticValue();
 
             yyValue = GNode.create("NewArrayExpression", v$g$1, null, v$g$6, v$g$7);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           }
@@ -5699,7 +6321,8 @@ public final class JavaReader extends ParserBase {
     Result     yyResult;
     int        yyRepetition1;
     boolean    yyRepeated1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -5707,7 +6330,8 @@ public final class JavaReader extends ParserBase {
 
     yyRepetition1 = yyStart;
     yyRepeated1   = false;
-    yyRepValue1   = Pair.empty();
+    yyRepStart1   = bufferStart();
+    yyRepEnd1   = yyRepStart1;
     while (true) {
 
       yyResult = pConcreteDimension(yyRepetition1);
@@ -5717,17 +6341,18 @@ public final class JavaReader extends ParserBase {
 
         yyRepetition1 = yyResult.index;
         yyRepeated1   = true;
-        yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+        yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
         continue;
       }
       break;
     }
 
     if (yyRepeated1) {
-      final Pair<Node> v$g$1 = yyRepValue1.reverse();
+      final int v$g$1 = yyRepStart1;
+      final int v$g$1$end = yyRepEnd1;
 
-      yyValue = GNode.createFromPair("ConcreteDimensions", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      yyValue = bufferedNode("ConcreteDimensions", v$g$1, v$g$1$end);
+      locate(yyValue, yyStart);
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
     }
@@ -5799,85 +6424,122 @@ public final class JavaReader extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
-    // Alternative 1.
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
 
-    yyResult = pArrayInitializer$$Split1(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final Node v$pt$1 = yyResult.semanticValue();
+    default:
+      yyFirst = 0;
+    }
 
-      yyOption1  = yyResult.index;
-      yyOpValue1 = null;
+    // Alternative 1.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-      yyBase   = yyOption1;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue() &&
-          ((Node)yyResult.semanticValue()).getTokenText().equals(",")) {
-        final Node v$el$1 = yyResult.semanticValue();
+      yyResult = pArrayInitializer$$Split1(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final Node v$pt$1 = yyResult.semanticValue();
 
         yyOption1  = yyResult.index;
-        yyOpValue1 = v$el$1;
-      } else {
-        yyError = yyError.select("',' expected", yyBase);
-      }
-      { // Start scope for v$pt$2.
-        final Node v$pt$2 = yyOpValue1;
+        yyOpValue1 = null;
 
         yyBase   = yyOption1;
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue() &&
-            ((Node)yyResult.semanticValue()).getTokenText().equals("}")) {
-          final Node v$pt$3 = yyResult.semanticValue();
-          yyValue = Formatting.variable().
-            addNode(v$pt$1).add(v$pt$2).add(v$pt$3);
+            ((Node)yyResult.semanticValue()).getTokenText().equals(",")) {
+          final Node v$el$1 = yyResult.semanticValue();
 
-          return yyResult.createValue(yyValue, yyError);
+          yyOption1  = yyResult.index;
+          yyOpValue1 = v$el$1;
         } else {
-          yyError = yyError.select("'}' expected", yyBase);
+          yyError = yyError.select("',' expected", yyBase);
         }
-      } // End scope for v$pt$2.
-    }
+        { // Start scope for v$pt$2.
+          final Node v$pt$2 = yyOpValue1;
 
-    // Alternative 2.
+          yyBase   = yyOption1;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue() &&
+              ((Node)yyResult.semanticValue()).getTokenText().equals("}")) {
+            final Node v$pt$3 = yyResult.semanticValue();
+            yyValue = Formatting.variable().
+              addNode(v$pt$1).add(v$pt$2).add(v$pt$3);
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("{")) {
-      final Node v$pt$4 = yyResult.semanticValue();
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("'}' expected", yyBase);
+          }
+        } // End scope for v$pt$2.
+      }
+    }
 
-      yyOption1  = yyResult.index;
-      yyOpValue1 = null;
+    // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-      yyBase   = yyOption1;
-      yyResult = pSymbol(yyBase);
+      yyResult = pSymbol(yyStart);
       if (yyResult.hasValue() &&
-          ((Node)yyResult.semanticValue()).getTokenText().equals(",")) {
-        final Node v$el$2 = yyResult.semanticValue();
+          ((Node)yyResult.semanticValue()).getTokenText().equals("{")) {
+        final Node v$pt$4 = yyResult.semanticValue();
 
         yyOption1  = yyResult.index;
-        yyOpValue1 = v$el$2;
-      } else {
-        yyError = yyError.select("',' expected", yyBase);
-      }
-      { // Start scope for v$pt$5.
-        final Node v$pt$5 = yyOpValue1;
+        yyOpValue1 = null;
 
         yyBase   = yyOption1;
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue() &&
-            ((Node)yyResult.semanticValue()).getTokenText().equals("}")) {
-          final Node v$pt$6 = yyResult.semanticValue();
-
-          yyValue = GNode.create("ArrayInitializer", false);
-          yyValue.setLocation(location(yyStart));
-          yyValue = Formatting.variable().addNode(yyValue).
-            add(v$pt$4).add(v$pt$5).add(v$pt$6);
+            ((Node)yyResult.semanticValue()).getTokenText().equals(",")) {
+          final Node v$el$2 = yyResult.semanticValue();
 
-          return yyResult.createValue(yyValue, yyError);
+          yyOption1  = yyResult.index;
+          yyOpValue1 = v$el$2;
         } else {
-          yyError = yyError.select("'}' expected", yyBase);
+          yyError = yyError.select("',' expected", yyBase);
         }
-      } // End scope for v$pt$5.
+        { // Start scope for v$pt$5.
+          final Node v$pt$5 = yyOpValue1;
+
+          yyBase   = yyOption1;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue() &&
+              ((Node)yyResult.semanticValue()).getTokenText().equals("}")) {
+            final Node v$pt$6 = yyResult.semanticValue();
+
+            yyValue = GNode.create("ArrayInitializer", false);
+            locate(yyValue, yyStart);
+            yyValue = Formatting.variable().addNode(yyValue).
+              add(v$pt$4).add(v$pt$5).add(v$pt$6);
+
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("'}' expected", yyBase);
+          }
+        } // End scope for v$pt$5.
+      }
     }
 
     // Done.
@@ -5900,7 +6562,8 @@ public final class JavaReader extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -5918,7 +6581,8 @@ public final class JavaReader extends ParserBase {
         final Node v$g$1 = Formatting.before1(v$pt$3, v$pt$4);
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyBase   = yyRepetition1;
@@ -5934,7 +6598,7 @@ public final class JavaReader extends ParserBase {
               final Node v$el$1 = Formatting.before1(v$pt$1, v$pt$2);
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
           } else {
@@ -5943,10 +6607,11 @@ public final class JavaReader extends ParserBase {
           break;
         }
         { // Start scope for v$g$2.
-          final Pair<Node> v$g$2 = yyRepValue1.reverse();
+          final int v$g$2 = yyRepStart1;
+          final int v$g$2$end = yyRepEnd1;
 
-          yyValue = GNode.createFromPair("ArrayInitializer", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          yyValue = bufferedNode("ArrayInitializer", v$g$1, v$g$2, v$g$2$end);
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
         } // End scope for v$g$2.
@@ -5970,8 +6635,13 @@ public final class JavaReader extends ParserBase {
   private Result pVariableInitializer(final int yyStart) throws IOException {
     JavaReaderColumn yyColumn = (JavaReaderColumn)column(yyStart);
     if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fVariableInitializer) 
+    if (null == yyColumn.chunk2.fVariableInitializer) {
       yyColumn.chunk2.fVariableInitializer = pVariableInitializer$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(11, yyColumn.chunk2.fVariableInitializer);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(11, yyColumn.chunk2.fVariableInitializer);
+    }
     return yyColumn.chunk2.fVariableInitializer;
   }
 
@@ -6022,47 +6692,84 @@ public final class JavaReader extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pArguments$$Split1(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final Node v$pt$1 = yyResult.semanticValue();
+      yyResult = pArguments$$Split1(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final Node v$pt$1 = yyResult.semanticValue();
 
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue() &&
-          ((Node)yyResult.semanticValue()).getTokenText().equals(")")) {
-        final Node v$pt$2 = yyResult.semanticValue();
-        yyValue = Formatting.after1(v$pt$1, v$pt$2);
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue() &&
+            ((Node)yyResult.semanticValue()).getTokenText().equals(")")) {
+          final Node v$pt$2 = yyResult.semanticValue();
+          yyValue = Formatting.after1(v$pt$1, v$pt$2);
 
-        return yyResult.createValue(yyValue, yyError);
-      } else {
-        yyError = yyError.select("')' expected", yyBase);
+          return yyResult.createValue(yyValue, yyError);
+        } else {
+          yyError = yyError.select("')' expected", yyBase);
+        }
       }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("(")) {
-      final Node v$pt$3 = yyResult.semanticValue();
-
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
+      yyResult = pSymbol(yyStart);
       if (yyResult.hasValue() &&
-          ((Node)yyResult.semanticValue()).getTokenText().equals(")")) {
-        final Node v$pt$4 = yyResult.semanticValue();
+          ((Node)yyResult.semanticValue()).getTokenText().equals("(")) {
+        final Node v$pt$3 = yyResult.semanticValue();
+
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue() &&
+            ((Node)yyResult.semanticValue()).getTokenText().equals(")")) {
+          final Node v$pt$4 = yyResult.semanticValue();
 
-        yyValue = GNode.create("Arguments", false);
-        yyValue.setLocation(location(yyStart));
-        yyValue = Formatting.variable().addNode(yyValue).
-          add(v$pt$3).add(v$pt$4);
+          yyValue = GNode.create("Arguments", false);
+          locate(yyValue, yyStart);
+          yyValue = Formatting.variable().addNode(yyValue).
+            add(v$pt$3).add(v$pt$4);
 
-        return yyResult.createValue(yyValue, yyError);
-      } else {
-        yyError = yyError.select("')' expected", yyBase);
+          return yyResult.createValue(yyValue, yyError);
+        } else {
+          yyError = yyError.select("')' expected", yyBase);
+        }
       }
     }
 
@@ -6084,7 +6791,8 @@ public final class JavaReader extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -6102,7 +6810,8 @@ public final class JavaReader extends ParserBase {
         final Node v$g$1 = Formatting.before1(v$pt$3, v$pt$4);
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyBase   = yyRepetition1;
@@ -6118,7 +6827,7 @@ public final class JavaReader extends ParserBase {
               final Node v$el$1 = Formatting.before1(v$pt$1, v$pt$2);
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
           } else {
@@ -6127,10 +6836,11 @@ public final class JavaReader extends ParserBase {
           break;
         }
         { // Start scope for v$g$2.
-          final Pair<Node> v$g$2 = yyRepValue1.reverse();
+          final int v$g$2 = yyRepStart1;
+          final int v$g$2$end = yyRepEnd1;
 
-          yyValue = GNode.createFromPair("Arguments", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          yyValue = bufferedNode("Arguments", v$g$1, v$g$2, v$g$2$end);
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
         } // End scope for v$g$2.
@@ -6153,10 +6863,15 @@ public final class JavaReader extends ParserBase {
    */
   private Result pResultType(final int yyStart) throws IOException {
     JavaReaderColumn yyColumn = (JavaReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fResultType) 
-      yyColumn.chunk2.fResultType = pResultType$1(yyStart);
-    return yyColumn.chunk2.fResultType;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fResultType) {
+      yyColumn.chunk1.fResultType = pResultType$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(12, yyColumn.chunk1.fResultType);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(12, yyColumn.chunk1.fResultType);
+    }
+    return yyColumn.chunk1.fResultType;
   }
 
   /** Actually parse xtc.lang.JavaType.ResultType. */
@@ -6211,7 +6926,7 @@ public final class JavaReader extends ParserBase {
       final Node v$pt$1 = yyResult.semanticValue();
 
       yyValue = GNode.create("VoidType", false);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
       yyValue = Formatting.after1(yyValue, v$pt$1);
 
       return yyResult.createValue(yyValue, yyError);
@@ -6233,10 +6948,14 @@ public final class JavaReader extends ParserBase {
    */
   private Result pType(final int yyStart) throws IOException {
     JavaReaderColumn yyColumn = (JavaReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fType) 
-      yyColumn.chunk2.fType = pType$1(yyStart);
-    return yyColumn.chunk2.fType;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fType) {
+      yyColumn.chunk1.fType = pType$1(yyStart);
+      if (null != yyStatistics) yyStatistics.miss(13, yyColumn.chunk1.fType);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(13, yyColumn.chunk1.fType);
+    }
+    return yyColumn.chunk1.fType;
   }
 
   /** Actually parse xtc.lang.JavaType.Type. */
@@ -6269,7 +6988,7 @@ public final class JavaReader extends ParserBase {
         final Node v$g$2 = yyOpValue1;
 
         yyValue = GNode.create("Type", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyOption1, yyError);
       } // End scope for v$g$2.
@@ -6290,10 +7009,15 @@ public final class JavaReader extends ParserBase {
    */
   private Result pTypeName(final int yyStart) throws IOException {
     JavaReaderColumn yyColumn = (JavaReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fTypeName) 
-      yyColumn.chunk2.fTypeName = pTypeName$1(yyStart);
-    return yyColumn.chunk2.fTypeName;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fTypeName) {
+      yyColumn.chunk1.fTypeName = pTypeName$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(14, yyColumn.chunk1.fTypeName);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(14, yyColumn.chunk1.fTypeName);
+    }
+    return yyColumn.chunk1.fTypeName;
   }
 
   /** Actually parse xtc.lang.JavaType.TypeName. */
@@ -6337,10 +7061,15 @@ public final class JavaReader extends ParserBase {
    */
   private Result pPrimitiveType(final int yyStart) throws IOException {
     JavaReaderColumn yyColumn = (JavaReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fPrimitiveType) 
-      yyColumn.chunk2.fPrimitiveType = pPrimitiveType$1(yyStart);
-    return yyColumn.chunk2.fPrimitiveType;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fPrimitiveType) {
+      yyColumn.chunk1.fPrimitiveType = pPrimitiveType$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(15, yyColumn.chunk1.fPrimitiveType);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(15, yyColumn.chunk1.fPrimitiveType);
+    }
+    return yyColumn.chunk1.fPrimitiveType;
   }
 
   /** Actually parse xtc.lang.JavaType.PrimitiveType. */
@@ -6357,7 +7086,7 @@ public final class JavaReader extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.create("PrimitiveType", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -6370,7 +7099,7 @@ public final class JavaReader extends ParserBase {
       final Node v$g$2 = yyResult.semanticValue();
 
       yyValue = GNode.create("PrimitiveType", v$g$2);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -6383,7 +7112,7 @@ public final class JavaReader extends ParserBase {
       final Node v$g$3 = yyResult.semanticValue();
 
       yyValue = GNode.create("PrimitiveType", v$g$3);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -6396,7 +7125,7 @@ public final class JavaReader extends ParserBase {
       final Node v$g$4 = yyResult.semanticValue();
 
       yyValue = GNode.create("PrimitiveType", v$g$4);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -6409,7 +7138,7 @@ public final class JavaReader extends ParserBase {
       final Node v$g$5 = yyResult.semanticValue();
 
       yyValue = GNode.create("PrimitiveType", v$g$5);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -6422,7 +7151,7 @@ public final class JavaReader extends ParserBase {
       final Node v$g$6 = yyResult.semanticValue();
 
       yyValue = GNode.create("PrimitiveType", v$g$6);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -6435,7 +7164,7 @@ public final class JavaReader extends ParserBase {
       final Node v$g$7 = yyResult.semanticValue();
 
       yyValue = GNode.create("PrimitiveType", v$g$7);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -6448,7 +7177,7 @@ public final class JavaReader extends ParserBase {
       final Node v$g$8 = yyResult.semanticValue();
 
       yyValue = GNode.create("PrimitiveType", v$g$8);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -6470,8 +7199,13 @@ public final class JavaReader extends ParserBase {
   private Result pDimensions(final int yyStart) throws IOException {
     JavaReaderColumn yyColumn = (JavaReaderColumn)column(yyStart);
     if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fDimensions) 
+    if (null == yyColumn.chunk2.fDimensions) {
       yyColumn.chunk2.fDimensions = pDimensions$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(16, yyColumn.chunk2.fDimensions);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(16, yyColumn.chunk2.fDimensions);
+    }
     return yyColumn.chunk2.fDimensions;
   }
 
@@ -6489,7 +7223,7 @@ public final class JavaReader extends ParserBase {
       final Pair<Node> v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.createFromPair("Dimensions", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -6510,8 +7244,13 @@ public final class JavaReader extends ParserBase {
   private Result pDimensions$$Plus1(final int yyStart) throws IOException {
     JavaReaderColumn yyColumn = (JavaReaderColumn)column(yyStart);
     if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fDimensions$$Plus1) 
+    if (null == yyColumn.chunk2.fDimensions$$Plus1) {
       yyColumn.chunk2.fDimensions$$Plus1 = pDimensions$$Plus1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(17, yyColumn.chunk2.fDimensions$$Plus1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(17, yyColumn.chunk2.fDimensions$$Plus1);
+    }
     return yyColumn.chunk2.fDimensions$$Plus1;
   }
 
@@ -6579,71 +7318,110 @@ public final class JavaReader extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
-    // Alternative <FloatingPoint>.
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '\"':
+      yyFirst = 0x8;
+      break;
 
-    yyResult = pFloatingPointLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final Node v$pt$2 = yyResult.semanticValue();
+    case '\'':
+      yyFirst = 0x4;
+      break;
 
-      yyResult = pSpacing(yyResult.index);
+    case '.':
+      yyFirst = 0x1;
+      break;
+
+    case '0':
+    case '1':
+    case '2':
+    case '3':
+    case '4':
+    case '5':
+    case '6':
+    case '7':
+    case '8':
+    case '9':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
+    // Alternative <FloatingPoint>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
+
+      yyResult = pFloatingPointLiteral(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
-        final Token v$pt$1 = yyResult.semanticValue();
-        yyValue = Formatting.after1(v$pt$2, v$pt$1);
+        final Node v$pt$2 = yyResult.semanticValue();
 
-        return yyResult.createValue(yyValue, yyError);
+        yyResult = pSpacing(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Token v$pt$1 = yyResult.semanticValue();
+          yyValue = Formatting.after1(v$pt$2, v$pt$1);
+
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative <Integer>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pIntegerLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final Node v$pt$4 = yyResult.semanticValue();
-
-      yyResult = pSpacing(yyResult.index);
+      yyResult = pIntegerLiteral(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
-        final Token v$pt$3 = yyResult.semanticValue();
-        yyValue = Formatting.after1(v$pt$4, v$pt$3);
+        final Node v$pt$4 = yyResult.semanticValue();
 
-        return yyResult.createValue(yyValue, yyError);
+        yyResult = pSpacing(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Token v$pt$3 = yyResult.semanticValue();
+          yyValue = Formatting.after1(v$pt$4, v$pt$3);
+
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative <Character>.
+    if ((0 != (yyFirst & 0x4)) || (yyError.index < yyStart)) {
 
-    yyResult = pCharacterLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final Node v$pt$6 = yyResult.semanticValue();
-
-      yyResult = pSpacing(yyResult.index);
+      yyResult = pCharacterLiteral(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
-        final Token v$pt$5 = yyResult.semanticValue();
-        yyValue = Formatting.after1(v$pt$6, v$pt$5);
+        final Node v$pt$6 = yyResult.semanticValue();
 
-        return yyResult.createValue(yyValue, yyError);
+        yyResult = pSpacing(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Token v$pt$5 = yyResult.semanticValue();
+          yyValue = Formatting.after1(v$pt$6, v$pt$5);
+
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
-    // Alternative <String>.
-
-    yyResult = pStringLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final Node v$pt$8 = yyResult.semanticValue();
+    // Alternative <String>.
+    if ((0 != (yyFirst & 0x8)) || (yyError.index < yyStart)) {
 
-      yyResult = pSpacing(yyResult.index);
+      yyResult = pStringLiteral(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
-        final Token v$pt$7 = yyResult.semanticValue();
-        yyValue = Formatting.after1(v$pt$8, v$pt$7);
+        final Node v$pt$8 = yyResult.semanticValue();
 
-        return yyResult.createValue(yyValue, yyError);
+        yyResult = pSpacing(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Token v$pt$7 = yyResult.semanticValue();
+          yyValue = Formatting.after1(v$pt$8, v$pt$7);
+
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
@@ -6655,7 +7433,7 @@ public final class JavaReader extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.create("BooleanLiteral", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -6668,7 +7446,7 @@ public final class JavaReader extends ParserBase {
       final Node v$g$2 = yyResult.semanticValue();
 
       yyValue = GNode.create("BooleanLiteral", v$g$2);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -6681,7 +7459,7 @@ public final class JavaReader extends ParserBase {
       final Node v$pt$1 = yyResult.semanticValue();
 
       yyValue = GNode.create("NullLiteral", false);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
       yyValue = Formatting.after1(yyValue, v$pt$1);
 
       return yyResult.createValue(yyValue, yyError);
@@ -6706,43 +7484,71 @@ public final class JavaReader extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '0':
+      yyFirst = 0x7;
+      break;
+
+    case '1':
+    case '2':
+    case '3':
+    case '4':
+    case '5':
+    case '6':
+    case '7':
+    case '8':
+    case '9':
+      yyFirst = 0x4;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Hex>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pHexLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final Token v$g$1 = yyResult.semanticValue();
+      yyResult = pHexLiteral(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final Token v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerLiteral", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("IntegerLiteral", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Octal>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pOctalLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final Token v$g$2 = yyResult.semanticValue();
+      yyResult = pOctalLiteral(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final Token v$g$2 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerLiteral", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("IntegerLiteral", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Decimal>.
+    if ((0 != (yyFirst & 0x4)) || (yyError.index < yyStart)) {
 
-    yyResult = pDecimalLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final Token v$g$3 = yyResult.semanticValue();
+      yyResult = pDecimalLiteral(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final Token v$g$3 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerLiteral", v$g$3);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("IntegerLiteral", v$g$3);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -6792,7 +7598,7 @@ public final class JavaReader extends ParserBase {
       }
 
       yyValue = new TextToken(difference(yyStart, yyOption1));
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return new SemanticValue(yyValue, yyOption1, yyError);
     }
@@ -6845,7 +7651,7 @@ public final class JavaReader extends ParserBase {
       }
 
       yyValue = new TextToken(difference(yyStart, yyOption1));
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return new SemanticValue(yyValue, yyOption1, yyError);
     }
@@ -6898,7 +7704,7 @@ public final class JavaReader extends ParserBase {
       }
 
       yyValue = new TextToken(difference(yyStart, yyOption1));
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return new SemanticValue(yyValue, yyOption1, yyError);
     }
@@ -7283,7 +8089,7 @@ public final class JavaReader extends ParserBase {
       final Token v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.create("FloatingPointLiteral", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -7309,121 +8115,185 @@ public final class JavaReader extends ParserBase {
     Token      yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '.':
+      yyFirst = 0x2;
+      break;
+
+    case '0':
+    case '1':
+    case '2':
+    case '3':
+    case '4':
+    case '5':
+    case '6':
+    case '7':
+    case '8':
+    case '9':
+      yyFirst = 0x5;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pDigits(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
+      yyResult = pDigits(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
 
-      yyC = character(yyResult.index);
-      if ('.' == yyC) {
-        yyIndex = yyResult.index + 1;
+        yyC = character(yyResult.index);
+        if ('.' == yyC) {
+          yyIndex = yyResult.index + 1;
 
-        yyOption1  = yyIndex;
+          yyOption1  = yyIndex;
 
-        yyResult = pDigits(yyOption1);
-        yyError  = yyResult.select(yyError, yyOption1);
-        if (yyResult.hasValue()) {
+          yyResult = pDigits(yyOption1);
+          yyError  = yyResult.select(yyError, yyOption1);
+          if (yyResult.hasValue()) {
 
-          yyOption1  = yyResult.index;
-        }
+            yyOption1  = yyResult.index;
+          }
 
 
-        yyResult = pExponent(yyOption1);
-        yyError  = yyResult.select(yyError, yyOption1);
-        if (yyResult.hasValue()) {
+          yyResult = pExponent(yyOption1);
+          yyError  = yyResult.select(yyError, yyOption1);
+          if (yyResult.hasValue()) {
 
-          yyOption1  = yyResult.index;
-        }
+            yyOption1  = yyResult.index;
+          }
 
 
-        yyC = character(yyOption1);
-        if (-1 != yyC) {
-          yyIndex = yyOption1 + 1;
+          yyC = character(yyOption1);
+          if (-1 != yyC) {
+            yyIndex = yyOption1 + 1;
 
-          switch (yyC) {
-          case 'D':
-          case 'F':
-          case 'd':
-          case 'f':
-            {
-              yyOption1  = yyIndex;
-            }
-            break;
+            switch (yyC) {
+            case 'D':
+            case 'F':
+            case 'd':
+            case 'f':
+              {
+                yyOption1  = yyIndex;
+              }
+              break;
 
-          default:
-            /* No match. */
+            default:
+              /* No match. */
+            }
           }
-        }
 
-        yyValue = new TextToken(difference(yyStart, yyOption1));
-        yyValue.setLocation(location(yyStart));
+          yyValue = new TextToken(difference(yyStart, yyOption1));
+          locate(yyValue, yyStart);
 
-        return new SemanticValue(yyValue, yyOption1, yyError);
+          return new SemanticValue(yyValue, yyOption1, yyError);
+        }
       }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyC = character(yyStart);
-    if ('.' == yyC) {
-      yyIndex = yyStart + 1;
-
-      yyResult = pDigits(yyIndex);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-
-        yyOption1  = yyResult.index;
+      yyC = character(yyStart);
+      if ('.' == yyC) {
+        yyIndex = yyStart + 1;
 
-        yyResult = pExponent(yyOption1);
-        yyError  = yyResult.select(yyError, yyOption1);
+        yyResult = pDigits(yyIndex);
+        yyError  = yyResult.select(yyError);
         if (yyResult.hasValue()) {
 
           yyOption1  = yyResult.index;
-        }
 
+          yyResult = pExponent(yyOption1);
+          yyError  = yyResult.select(yyError, yyOption1);
+          if (yyResult.hasValue()) {
 
-        yyC = character(yyOption1);
-        if (-1 != yyC) {
-          yyIndex = yyOption1 + 1;
+            yyOption1  = yyResult.index;
+          }
 
-          switch (yyC) {
-          case 'D':
-          case 'F':
-          case 'd':
-          case 'f':
-            {
-              yyOption1  = yyIndex;
-            }
-            break;
 
-          default:
-            /* No match. */
+          yyC = character(yyOption1);
+          if (-1 != yyC) {
+            yyIndex = yyOption1 + 1;
+
+            switch (yyC) {
+            case 'D':
+            case 'F':
+            case 'd':
+            case 'f':
+              {
+                yyOption1  = yyIndex;
+              }
+              break;
+
+            default:
+              /* No match. */
+            }
           }
-        }
 
-        yyValue = new TextToken(difference(yyStart, yyOption1));
-        yyValue.setLocation(location(yyStart));
+          yyValue = new TextToken(difference(yyStart, yyOption1));
+          locate(yyValue, yyStart);
 
-        return new SemanticValue(yyValue, yyOption1, yyError);
+          return new SemanticValue(yyValue, yyOption1, yyError);
+        }
       }
     }
 
     // Alternative 3.
+    if ((0 != (yyFirst & 0x4)) || (yyError.index < yyStart)) {
 
-    yyResult = pDigits(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
+      yyResult = pDigits(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
 
-      final int yyChoice1 = yyResult.index;
+        final int yyChoice1 = yyResult.index;
 
-      // Nested alternative 1.
+        // Nested alternative 1.
 
-      yyResult = pExponent(yyChoice1);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
+        yyResult = pExponent(yyChoice1);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
 
-        yyOption1  = yyResult.index;
+          yyOption1  = yyResult.index;
+
+          yyC = character(yyOption1);
+          if (-1 != yyC) {
+            yyIndex = yyOption1 + 1;
+
+            switch (yyC) {
+            case 'D':
+            case 'F':
+            case 'd':
+            case 'f':
+              {
+                yyOption1  = yyIndex;
+              }
+              break;
+
+            default:
+              /* No match. */
+            }
+          }
+
+          yyValue = new TextToken(difference(yyStart, yyOption1));
+          locate(yyValue, yyStart);
+
+          return new SemanticValue(yyValue, yyOption1, yyError);
+        }
+
+        // Nested alternative 2.
+
+        yyOption1  = yyChoice1;
+
+        yyResult = pExponent(yyOption1);
+        yyError  = yyResult.select(yyError, yyOption1);
+        if (yyResult.hasValue()) {
+
+          yyOption1  = yyResult.index;
+        }
 
         yyC = character(yyOption1);
         if (-1 != yyC) {
@@ -7435,51 +8305,16 @@ public final class JavaReader extends ParserBase {
           case 'd':
           case 'f':
             {
-              yyOption1  = yyIndex;
+              yyValue = new TextToken(difference(yyStart, yyIndex));
+              locate(yyValue, yyStart);
+
+              return new SemanticValue(yyValue, yyIndex, yyError);
             }
-            break;
 
           default:
             /* No match. */
           }
         }
-
-        yyValue = new TextToken(difference(yyStart, yyOption1));
-        yyValue.setLocation(location(yyStart));
-
-        return new SemanticValue(yyValue, yyOption1, yyError);
-      }
-
-      // Nested alternative 2.
-
-      yyOption1  = yyChoice1;
-
-      yyResult = pExponent(yyOption1);
-      yyError  = yyResult.select(yyError, yyOption1);
-      if (yyResult.hasValue()) {
-
-        yyOption1  = yyResult.index;
-      }
-
-      yyC = character(yyOption1);
-      if (-1 != yyC) {
-        yyIndex = yyOption1 + 1;
-
-        switch (yyC) {
-        case 'D':
-        case 'F':
-        case 'd':
-        case 'f':
-          {
-            yyValue = new TextToken(difference(yyStart, yyIndex));
-            yyValue.setLocation(location(yyStart));
-
-            return new SemanticValue(yyValue, yyIndex, yyError);
-          }
-
-        default:
-          /* No match. */
-        }
       }
     }
 
@@ -7577,7 +8412,7 @@ public final class JavaReader extends ParserBase {
       final Token v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.create("CharacterLiteral", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -7608,7 +8443,7 @@ public final class JavaReader extends ParserBase {
       final Token v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.create("StringLiteral", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -7648,7 +8483,7 @@ public final class JavaReader extends ParserBase {
           yyIndex = yyResult.index + 1;
 
           yyValue = new TextToken(difference(yyStart, yyIndex));
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyIndex, yyError);
         }
@@ -8386,7 +9221,7 @@ public final class JavaReader extends ParserBase {
         yyIndex = yyRepetition1 + 1;
 
         yyValue = new TextToken(difference(yyStart, yyIndex));
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyIndex, yyError);
       }
@@ -8408,10 +9243,15 @@ public final class JavaReader extends ParserBase {
    */
   private Result pQualifiedIdentifier(final int yyStart) throws IOException {
     JavaReaderColumn yyColumn = (JavaReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fQualifiedIdentifier) 
-      yyColumn.chunk2.fQualifiedIdentifier = pQualifiedIdentifier$1(yyStart);
-    return yyColumn.chunk2.fQualifiedIdentifier;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fQualifiedIdentifier) {
+      yyColumn.chunk1.fQualifiedIdentifier = pQualifiedIdentifier$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(18, yyColumn.chunk1.fQualifiedIdentifier);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(18, yyColumn.chunk1.fQualifiedIdentifier);
+    }
+    return yyColumn.chunk1.fQualifiedIdentifier;
   }
 
   /** Actually parse xtc.lang.JavaIdentifier.QualifiedIdentifier. */
@@ -8435,7 +9275,7 @@ public final class JavaReader extends ParserBase {
         final Pair<Node> v$g$2 = yyResult.semanticValue();
 
         yyValue = GNode.createFromPair("QualifiedIdentifier", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -8458,10 +9298,16 @@ public final class JavaReader extends ParserBase {
     throws IOException {
 
     JavaReaderColumn yyColumn = (JavaReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fQualifiedIdentifier$$Star1) 
-      yyColumn.chunk2.fQualifiedIdentifier$$Star1 = pQualifiedIdentifier$$Star1$1(yyStart);
-    return yyColumn.chunk2.fQualifiedIdentifier$$Star1;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fQualifiedIdentifier$$Star1) {
+      yyColumn.chunk3.fQualifiedIdentifier$$Star1 = 
+        pQualifiedIdentifier$$Star1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(19, yyColumn.chunk3.fQualifiedIdentifier$$Star1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(19, yyColumn.chunk3.fQualifiedIdentifier$$Star1);
+    }
+    return yyColumn.chunk3.fQualifiedIdentifier$$Star1;
   }
 
   /** Actually parse xtc.lang.Java.QualifiedIdentifier$$Star1. */
@@ -8515,10 +9361,15 @@ public final class JavaReader extends ParserBase {
    */
   private Result pIdentifier(final int yyStart) throws IOException {
     JavaReaderColumn yyColumn = (JavaReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fIdentifier) 
-      yyColumn.chunk3.fIdentifier = pIdentifier$1(yyStart);
-    return yyColumn.chunk3.fIdentifier;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fIdentifier) {
+      yyColumn.chunk1.fIdentifier = pIdentifier$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(20, yyColumn.chunk1.fIdentifier);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(20, yyColumn.chunk1.fIdentifier);
+    }
+    return yyColumn.chunk1.fIdentifier;
   }
 
   /** Actually parse xtc.lang.JavaIdentifier.Identifier. */
@@ -8556,10 +9407,14 @@ public final class JavaReader extends ParserBase {
    */
   private Result pWord(final int yyStart) throws IOException {
     JavaReaderColumn yyColumn = (JavaReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fWord) 
-      yyColumn.chunk3.fWord = pWord$1(yyStart);
-    return yyColumn.chunk3.fWord;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fWord) {
+      yyColumn.chunk1.fWord = pWord$1(yyStart);
+      if (null != yyStatistics) yyStatistics.miss(21, yyColumn.chunk1.fWord);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(21, yyColumn.chunk1.fWord);
+    }
+    return yyColumn.chunk1.fWord;
   }
 
   /** Actually parse xtc.lang.JavaIdentifier.Word. */
@@ -8632,7 +9487,7 @@ public final class JavaReader extends ParserBase {
         }
 
         yyValue = new TextToken(difference(yyStart, yyRepetition1));
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       }
@@ -8654,10 +9509,15 @@ public final class JavaReader extends ParserBase {
    */
   private Result pSymbol(final int yyStart) throws IOException {
     JavaReaderColumn yyColumn = (JavaReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fSymbol) 
-      yyColumn.chunk3.fSymbol = pSymbol$1(yyStart);
-    return yyColumn.chunk3.fSymbol;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fSymbol) {
+      yyColumn.chunk1.fSymbol = pSymbol$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(22, yyColumn.chunk1.fSymbol);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(22, yyColumn.chunk1.fSymbol);
+    }
+    return yyColumn.chunk1.fSymbol;
   }
 
   /** Actually parse xtc.lang.JavaSymbol.Symbol. */
@@ -8743,7 +9603,7 @@ public final class JavaReader extends ParserBase {
                         if ('=' == yyC) {
 
                           yyValue = new TextToken(">>>=");
-                          yyValue.setLocation(location(yyStart));
+                          locate(yyValue, yyStart);
 
                           return new SemanticValue(yyValue, yyIndex, yyError);
                         }
@@ -8752,7 +9612,7 @@ public final class JavaReader extends ParserBase {
                       // Nested alternative 2.
 
                       yyValue = new TextToken(">>>");
-                      yyValue.setLocation(location(yyStart));
+                      locate(yyValue, yyStart);
 
                       return new SemanticValue(yyValue, yyChoice3, yyError);
                     }
@@ -8760,7 +9620,7 @@ public final class JavaReader extends ParserBase {
                   case '=':
                     {
                       yyValue = new TextToken(">>=");
-                      yyValue.setLocation(location(yyStart));
+                      locate(yyValue, yyStart);
 
                       return new SemanticValue(yyValue, yyIndex, yyError);
                     }
@@ -8773,7 +9633,7 @@ public final class JavaReader extends ParserBase {
                 // Nested alternative 2.
 
                 yyValue = new TextToken(">>");
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return new SemanticValue(yyValue, yyChoice2, yyError);
               }
@@ -8781,7 +9641,7 @@ public final class JavaReader extends ParserBase {
             case '=':
               {
                 yyValue = new TextToken(">=");
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return new SemanticValue(yyValue, yyIndex, yyError);
               }
@@ -8794,7 +9654,7 @@ public final class JavaReader extends ParserBase {
           // Nested alternative 2.
 
           yyValue = new TextToken(">");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyChoice1, yyError);
         }
@@ -8822,7 +9682,7 @@ public final class JavaReader extends ParserBase {
                   if ('=' == yyC) {
 
                     yyValue = new TextToken("<<=");
-                    yyValue.setLocation(location(yyStart));
+                    locate(yyValue, yyStart);
 
                     return new SemanticValue(yyValue, yyIndex, yyError);
                   }
@@ -8831,7 +9691,7 @@ public final class JavaReader extends ParserBase {
                 // Nested alternative 2.
 
                 yyValue = new TextToken("<<");
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return new SemanticValue(yyValue, yyChoice2, yyError);
               }
@@ -8839,7 +9699,7 @@ public final class JavaReader extends ParserBase {
             case '=':
               {
                 yyValue = new TextToken("<=");
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return new SemanticValue(yyValue, yyIndex, yyError);
               }
@@ -8852,7 +9712,7 @@ public final class JavaReader extends ParserBase {
           // Nested alternative 2.
 
           yyValue = new TextToken("<");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyChoice1, yyError);
         }
@@ -8871,7 +9731,7 @@ public final class JavaReader extends ParserBase {
             case '=':
               {
                 yyValue = new TextToken("+=");
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return new SemanticValue(yyValue, yyIndex, yyError);
               }
@@ -8879,7 +9739,7 @@ public final class JavaReader extends ParserBase {
             case '+':
               {
                 yyValue = new TextToken("++");
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return new SemanticValue(yyValue, yyIndex, yyError);
               }
@@ -8892,7 +9752,7 @@ public final class JavaReader extends ParserBase {
           // Nested alternative 2.
 
           yyValue = new TextToken("+");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyChoice1, yyError);
         }
@@ -8911,7 +9771,7 @@ public final class JavaReader extends ParserBase {
             case '=':
               {
                 yyValue = new TextToken("-=");
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return new SemanticValue(yyValue, yyIndex, yyError);
               }
@@ -8919,7 +9779,7 @@ public final class JavaReader extends ParserBase {
             case '-':
               {
                 yyValue = new TextToken("--");
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return new SemanticValue(yyValue, yyIndex, yyError);
               }
@@ -8932,7 +9792,7 @@ public final class JavaReader extends ParserBase {
           // Nested alternative 2.
 
           yyValue = new TextToken("-");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyChoice1, yyError);
         }
@@ -8949,7 +9809,7 @@ public final class JavaReader extends ParserBase {
             if ('=' == yyC) {
 
               yyValue = new TextToken("*=");
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return new SemanticValue(yyValue, yyIndex, yyError);
             }
@@ -8958,7 +9818,7 @@ public final class JavaReader extends ParserBase {
           // Nested alternative 2.
 
           yyValue = new TextToken("*");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyChoice1, yyError);
         }
@@ -8975,7 +9835,7 @@ public final class JavaReader extends ParserBase {
             if ('=' == yyC) {
 
               yyValue = new TextToken("/=");
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return new SemanticValue(yyValue, yyIndex, yyError);
             }
@@ -8984,7 +9844,7 @@ public final class JavaReader extends ParserBase {
           // Nested alternative 2.
 
           yyValue = new TextToken("/");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyChoice1, yyError);
         }
@@ -9001,7 +9861,7 @@ public final class JavaReader extends ParserBase {
             if ('=' == yyC) {
 
               yyValue = new TextToken("%=");
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return new SemanticValue(yyValue, yyIndex, yyError);
             }
@@ -9010,7 +9870,7 @@ public final class JavaReader extends ParserBase {
           // Nested alternative 2.
 
           yyValue = new TextToken("%");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyChoice1, yyError);
         }
@@ -9029,7 +9889,7 @@ public final class JavaReader extends ParserBase {
             case '=':
               {
                 yyValue = new TextToken("&=");
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return new SemanticValue(yyValue, yyIndex, yyError);
               }
@@ -9037,7 +9897,7 @@ public final class JavaReader extends ParserBase {
             case '&':
               {
                 yyValue = new TextToken("&&");
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return new SemanticValue(yyValue, yyIndex, yyError);
               }
@@ -9050,7 +9910,7 @@ public final class JavaReader extends ParserBase {
           // Nested alternative 2.
 
           yyValue = new TextToken("&");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyChoice1, yyError);
         }
@@ -9067,7 +9927,7 @@ public final class JavaReader extends ParserBase {
             if ('=' == yyC) {
 
               yyValue = new TextToken("^=");
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return new SemanticValue(yyValue, yyIndex, yyError);
             }
@@ -9076,7 +9936,7 @@ public final class JavaReader extends ParserBase {
           // Nested alternative 2.
 
           yyValue = new TextToken("^");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyChoice1, yyError);
         }
@@ -9095,7 +9955,7 @@ public final class JavaReader extends ParserBase {
             case '=':
               {
                 yyValue = new TextToken("|=");
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return new SemanticValue(yyValue, yyIndex, yyError);
               }
@@ -9103,7 +9963,7 @@ public final class JavaReader extends ParserBase {
             case '|':
               {
                 yyValue = new TextToken("||");
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return new SemanticValue(yyValue, yyIndex, yyError);
               }
@@ -9116,7 +9976,7 @@ public final class JavaReader extends ParserBase {
           // Nested alternative 2.
 
           yyValue = new TextToken("|");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyChoice1, yyError);
         }
@@ -9133,7 +9993,7 @@ public final class JavaReader extends ParserBase {
             if ('=' == yyC) {
 
               yyValue = new TextToken("==");
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return new SemanticValue(yyValue, yyIndex, yyError);
             }
@@ -9142,7 +10002,7 @@ public final class JavaReader extends ParserBase {
           // Nested alternative 2.
 
           yyValue = new TextToken("=");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyChoice1, yyError);
         }
@@ -9159,7 +10019,7 @@ public final class JavaReader extends ParserBase {
             if ('=' == yyC) {
 
               yyValue = new TextToken("!=");
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return new SemanticValue(yyValue, yyIndex, yyError);
             }
@@ -9168,7 +10028,7 @@ public final class JavaReader extends ParserBase {
           // Nested alternative 2.
 
           yyValue = new TextToken("!");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyChoice1, yyError);
         }
@@ -9176,7 +10036,7 @@ public final class JavaReader extends ParserBase {
       case ';':
         {
           yyValue = new TextToken(";");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyIndex, yyError);
         }
@@ -9184,7 +10044,7 @@ public final class JavaReader extends ParserBase {
       case ':':
         {
           yyValue = new TextToken(":");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyIndex, yyError);
         }
@@ -9192,7 +10052,7 @@ public final class JavaReader extends ParserBase {
       case ',':
         {
           yyValue = new TextToken(",");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyIndex, yyError);
         }
@@ -9200,7 +10060,7 @@ public final class JavaReader extends ParserBase {
       case '.':
         {
           yyValue = new TextToken(".");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyIndex, yyError);
         }
@@ -9208,7 +10068,7 @@ public final class JavaReader extends ParserBase {
       case '{':
         {
           yyValue = new TextToken("{");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyIndex, yyError);
         }
@@ -9216,7 +10076,7 @@ public final class JavaReader extends ParserBase {
       case '}':
         {
           yyValue = new TextToken("}");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyIndex, yyError);
         }
@@ -9224,7 +10084,7 @@ public final class JavaReader extends ParserBase {
       case '(':
         {
           yyValue = new TextToken("(");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyIndex, yyError);
         }
@@ -9232,7 +10092,7 @@ public final class JavaReader extends ParserBase {
       case ')':
         {
           yyValue = new TextToken(")");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyIndex, yyError);
         }
@@ -9240,7 +10100,7 @@ public final class JavaReader extends ParserBase {
       case '[':
         {
           yyValue = new TextToken("[");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyIndex, yyError);
         }
@@ -9248,7 +10108,7 @@ public final class JavaReader extends ParserBase {
       case ']':
         {
           yyValue = new TextToken("]");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyIndex, yyError);
         }
@@ -9256,7 +10116,7 @@ public final class JavaReader extends ParserBase {
       case '~':
         {
           yyValue = new TextToken("~");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyIndex, yyError);
         }
@@ -9264,7 +10124,7 @@ public final class JavaReader extends ParserBase {
       case '?':
         {
           yyValue = new TextToken("?");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyIndex, yyError);
         }
@@ -9430,28 +10290,7 @@ public final class JavaReader extends ParserBase {
 
               case '/':
                 {
-                  yyRepetition2 = yyIndex;
-                  while (true) {
-
-                    yyC = character(yyRepetition2);
-                    if (-1 != yyC) {
-                      yyIndex = yyRepetition2 + 1;
-
-                      switch (yyC) {
-                      case '\n':
-                      case '\r':
-                        /* No match. */
-                        break;
-
-                      default:
-                        {
-                          yyRepetition2 = yyIndex;
-                          continue;
-                        }
-                      }
-                    }
-                    break;
-                  }
+                  yyRepetition2 = scan(yyIndex, 0xffffffffffffdbffL, 0xffffffffffffffffL, true);
 
                   final int yyChoice2 = yyRepetition2;
 
@@ -9520,7 +10359,7 @@ public final class JavaReader extends ParserBase {
     }
 
     yyValue = new TextToken(difference(yyStart, yyRepetition1));
-    yyValue.setLocation(location(yyStart));
+    locate(yyValue, yyStart);
 
     return new SemanticValue(yyValue, yyRepetition1, yyError);
   }
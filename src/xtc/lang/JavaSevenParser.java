@@ -1,8 +1,8 @@
 // ===========================================================================
 // This file has been generated by
-// Rats! Parser Generator, version 2.1.0,
-// (C) 2004-2011 Robert Grimm,
-// on Friday, August 5, 2011 at 9:37:04 AM.
+// Rats! Parser Generator, version 2.3.1,
+// (C) 2004-2012 Robert Grimm,
+// on Sunday, October 18, 2026 at 7:30:39 PM.
 // Edit at your own risk.
 // ===========================================================================
 
@@ -30,7 +30,7 @@ import xtc.parser.ParseError;
  * Packrat parser for grammar <code>xtc.lang.JavaSeven</code>.
  *
  * <p />This class has been generated by the <i>Rats!</i> parser
- * generator, version 2.1.0, (C) 2004-2011 Robert Grimm.
+ * generator, version 2.3.1, (C) 2004-2012 Robert Grimm.
  */
 public final class JavaSevenParser extends ParserBase {
 
@@ -41,57 +41,108 @@ public final class JavaSevenParser extends ParserBase {
 
   /** Chunk 1 of memoized results. */
   static final class Chunk1 {
-    Result fModifiers;
-    Result fFormalParameters;
-    Result fFormalParameters$$Star1;
-    Result fDeclarators;
-    Result fDeclarators$$Star1;
-    Result fImplementation;
-    Result fImplementation$$Star1;
-    Result fBlock;
-    Result fBlock$$Star1;
-    Result fParExpression;
+    Result fSymbol;
+    Result fWord;
+    Result fIdentifier;
+    Result fTypeInstantiation;
+    Result fQualifiedIdentifier;
+    Result fPrimitiveType;
+    Result fTypeName;
+    Result fType;
+    Result fResultType;
+    Result fTypeArguments;
+
+    void clear() {
+      fSymbol = null;
+      fWord = null;
+      fIdentifier = null;
+      fTypeInstantiation = null;
+      fQualifiedIdentifier = null;
+      fPrimitiveType = null;
+      fTypeName = null;
+      fType = null;
+      fResultType = null;
+      fTypeArguments = null;
+    }
   }
 
   /** Chunk 2 of memoized results. */
   static final class Chunk2 {
-    Result fCatchClause;
-    Result fExpression;
-    Result fConditionalExpression;
-    Result fLogicalOrExpression;
     Result fRelationalExpression;
+    Result fLogicalOrExpression;
+    Result fConditionalExpression;
+    Result fExpression;
+    Result fModifiers;
+    Result fBlock;
+    Result fBlock$$Star1;
     Result fVariableInitializer;
-    Result fAnnotations;
-    Result fAnnotations$$Plus1;
-    Result fElementValuePair;
     Result fElementValue;
+    Result fAnnotations$$Plus1;
+
+    void clear() {
+      fRelationalExpression = null;
+      fLogicalOrExpression = null;
+      fConditionalExpression = null;
+      fExpression = null;
+      fModifiers = null;
+      fBlock = null;
+      fBlock$$Star1 = null;
+      fVariableInitializer = null;
+      fElementValue = null;
+      fAnnotations$$Plus1 = null;
+    }
   }
 
   /** Chunk 3 of memoized results. */
   static final class Chunk3 {
-    Result fResource;
-    Result fResultType;
-    Result fType;
-    Result fTypeName;
-    Result fPrimitiveType;
-    Result fDimensions;
     Result fDimensions$$Plus1;
-    Result fTypeParameters;
-    Result fTypeParameters$$Star1;
-    Result fTypeParameter;
+    Result fDimensions;
+    Result fFormalParameters;
+    Result fFormalParameters$$Star1;
+    Result fDeclarators;
+    Result fDeclarators$$Star1;
+    Result fImplementation;
+    Result fImplementation$$Star1;
+    Result fParExpression;
+    Result fCatchClause;
+
+    void clear() {
+      fDimensions$$Plus1 = null;
+      fDimensions = null;
+      fFormalParameters = null;
+      fFormalParameters$$Star1 = null;
+      fDeclarators = null;
+      fDeclarators$$Star1 = null;
+      fImplementation = null;
+      fImplementation$$Star1 = null;
+      fParExpression = null;
+      fCatchClause = null;
+    }
   }
 
   /** Chunk 4 of memoized results. */
   static final class Chunk4 {
-    Result fTypeArguments;
+    Result fAnnotations;
+    Result fElementValuePair;
+    Result fResource;
+    Result fTypeParameters;
+    Result fTypeParameters$$Star1;
+    Result fTypeParameter;
     Result fTypeArguments$$Star1;
     Result fTypeArgument;
-    Result fTypeInstantiation;
-    Result fQualifiedIdentifier;
     Result fQualifiedIdentifier$$Star1;
-    Result fIdentifier;
-    Result fWord;
-    Result fSymbol;
+
+    void clear() {
+      fAnnotations = null;
+      fElementValuePair = null;
+      fResource = null;
+      fTypeParameters = null;
+      fTypeParameters$$Star1 = null;
+      fTypeParameter = null;
+      fTypeArguments$$Star1 = null;
+      fTypeArgument = null;
+      fQualifiedIdentifier$$Star1 = null;
+    }
   }
 
   // =========================================================================
@@ -102,6 +153,14 @@ public final class JavaSevenParser extends ParserBase {
     Chunk2 chunk2;
     Chunk3 chunk3;
     Chunk4 chunk4;
+
+    protected boolean clear() {
+      if (null != chunk1) chunk1.clear();
+      if (null != chunk2) chunk2.clear();
+      if (null != chunk3) chunk3.clear();
+      if (null != chunk4) chunk4.clear();
+      return true;
+    }
   }
 
   // =========================================================================
@@ -135,6 +194,55 @@ public final class JavaSevenParser extends ParserBase {
 
   // =========================================================================
 
+  /** The names of the memoized productions. */
+  private static final String[] yyProductions = {
+    "xtc.lang.JavaSeven.Modifiers",
+    "xtc.lang.JavaSeven.FormalParameters",
+    "xtc.lang.JavaSeven.FormalParameters$$Star1",
+    "xtc.lang.JavaSeven.Declarators",
+    "xtc.lang.JavaSeven.Declarators$$Star1",
+    "xtc.lang.JavaSeven.Implementation",
+    "xtc.lang.JavaSeven.Implementation$$Star1",
+    "xtc.lang.JavaSeven.Block",
+    "xtc.lang.JavaSeven.Block$$Star1",
+    "xtc.lang.JavaSeven.ParExpression",
+    "xtc.lang.JavaSeven.CatchClause",
+    "xtc.lang.JavaSeven.Expression",
+    "xtc.lang.JavaSeven.ConditionalExpression",
+    "xtc.lang.JavaSeven.LogicalOrExpression",
+    "xtc.lang.JavaSeven.RelationalExpression",
+    "xtc.lang.JavaSeven.VariableInitializer",
+    "xtc.lang.JavaSeven.Annotations",
+    "xtc.lang.JavaSeven.Annotations$$Plus1",
+    "xtc.lang.JavaSeven.ElementValuePair",
+    "xtc.lang.JavaSeven.ElementValue",
+    "xtc.lang.JavaSeven.Resource",
+    "xtc.lang.JavaFiveType.ResultType",
+    "xtc.lang.JavaFiveType.Type",
+    "xtc.lang.JavaFiveType.TypeName",
+    "xtc.lang.JavaFiveType.PrimitiveType",
+    "xtc.lang.JavaFiveType.Dimensions",
+    "xtc.lang.JavaSeven.Dimensions$$Plus1",
+    "xtc.lang.JavaFiveType.TypeParameters",
+    "xtc.lang.JavaSeven.TypeParameters$$Star1",
+    "xtc.lang.JavaFiveType.TypeParameter",
+    "xtc.lang.JavaFiveType.TypeArguments",
+    "xtc.lang.JavaSeven.TypeArguments$$Star1",
+    "xtc.lang.JavaFiveType.TypeArgument",
+    "xtc.lang.JavaFiveType.TypeInstantiation",
+    "xtc.lang.JavaFiveIdentifier.QualifiedIdentifier",
+    "xtc.lang.JavaSeven.QualifiedIdentifier$$Star1",
+    "xtc.lang.JavaFiveIdentifier.Identifier",
+    "xtc.lang.JavaFiveIdentifier.Word",
+    "xtc.lang.JavaFiveSymbol.Symbol",
+  };
+
+  protected String[] productions() {
+    return yyProductions;
+  }
+
+  // =========================================================================
+
   /**
    * Parse nonterminal xtc.lang.JavaSeven.CompilationUnit.
    *
@@ -147,7 +255,8 @@ public final class JavaSevenParser extends ParserBase {
     int        yyIndex;
     Result     yyResult;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     int        yyOption1;
     Node       yyOpValue1;
     Node       yyValue;
@@ -174,7 +283,8 @@ public final class JavaSevenParser extends ParserBase {
         final Node v$g$1 = yyOpValue1;
 
         yyRepetition1 = yyOption1;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyResult = pImportDeclaration(yyRepetition1);
@@ -183,15 +293,17 @@ public final class JavaSevenParser extends ParserBase {
             final Node v$el$2 = yyResult.semanticValue();
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$2, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$2);
             continue;
           }
           break;
         }
         { // Start scope for v$g$2.
-          final Pair<Node> v$g$2 = yyRepValue1.reverse();
+          final int v$g$2 = yyRepStart1;
+          final int v$g$2$end = yyRepEnd1;
 
-          yyRepValue1   = Pair.empty();
+          yyRepStart1   = bufferStart();
+          yyRepEnd1   = yyRepStart1;
           while (true) {
 
             yyResult = pDeclaration(yyRepetition1);
@@ -200,13 +312,14 @@ public final class JavaSevenParser extends ParserBase {
               final Node v$el$3 = yyResult.semanticValue();
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$3, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$3);
               continue;
             }
             break;
           }
           { // Start scope for v$g$3.
-            final Pair<Node> v$g$3 = yyRepValue1.reverse();
+            final int v$g$3 = yyRepStart1;
+            final int v$g$3$end = yyRepEnd1;
 
             yyOption1  = yyRepetition1;
 
@@ -221,13 +334,17 @@ public final class JavaSevenParser extends ParserBase {
             yyError  = yyResult.select(yyError);
             if (yyResult.hasValue()) {
 
-              yyValue = GNode.create("CompilationUnit", v$g$2.size() + v$g$3.size() + 1).
-                add(v$g$1).addAll(v$g$2).addAll(v$g$3);
-              yyValue.setLocation(location(yyStart));
+              yyValue = GNode.create("CompilationUnit", (v$g$2$end - v$g$2) + (v$g$3$end - v$g$3) + 1).
+                add(v$g$1);
+              addBuffered(yyValue, v$g$2, v$g$2$end);
+              addBuffered(yyValue, v$g$3, v$g$3$end);
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
+            releaseBuffer(v$g$3);
           } // End scope for v$g$3.
+          releaseBuffer(v$g$2);
         } // End scope for v$g$2.
       } // End scope for v$g$1.
     }
@@ -284,7 +401,7 @@ public final class JavaSevenParser extends ParserBase {
           if (yyResult.hasValue(";")) {
 
             yyValue = GNode.create("PackageDeclaration", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
@@ -362,7 +479,7 @@ public final class JavaSevenParser extends ParserBase {
             if (yyResult.hasValue(";")) {
 
               yyValue = GNode.create("ImportDeclaration", v$g$1, v$g$2, v$g$3);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             } else {
@@ -425,10 +542,15 @@ public final class JavaSevenParser extends ParserBase {
    */
   private Result pModifiers(final int yyStart) throws IOException {
     JavaSevenParserColumn yyColumn = (JavaSevenParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fModifiers) 
-      yyColumn.chunk1.fModifiers = pModifiers$1(yyStart);
-    return yyColumn.chunk1.fModifiers;
+    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
+    if (null == yyColumn.chunk2.fModifiers) {
+      yyColumn.chunk2.fModifiers = pModifiers$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(0, yyColumn.chunk2.fModifiers);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(0, yyColumn.chunk2.fModifiers);
+    }
+    return yyColumn.chunk2.fModifiers;
   }
 
   /** Actually parse xtc.lang.JavaSeven.Modifiers. */
@@ -445,7 +567,7 @@ public final class JavaSevenParser extends ParserBase {
       final Pair<Node> v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.createFromPair("Modifiers", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -525,7 +647,7 @@ public final class JavaSevenParser extends ParserBase {
       final String v$g$1 = "public";
 
       yyValue = GNode.create("Modifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -537,7 +659,7 @@ public final class JavaSevenParser extends ParserBase {
       final String v$g$2 = "protected";
 
       yyValue = GNode.create("Modifier", v$g$2);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -549,7 +671,7 @@ public final class JavaSevenParser extends ParserBase {
       final String v$g$3 = "private";
 
       yyValue = GNode.create("Modifier", v$g$3);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -561,7 +683,7 @@ public final class JavaSevenParser extends ParserBase {
       final String v$g$4 = "static";
 
       yyValue = GNode.create("Modifier", v$g$4);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -573,7 +695,7 @@ public final class JavaSevenParser extends ParserBase {
       final String v$g$5 = "abstract";
 
       yyValue = GNode.create("Modifier", v$g$5);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -585,7 +707,7 @@ public final class JavaSevenParser extends ParserBase {
       final String v$g$6 = "final";
 
       yyValue = GNode.create("Modifier", v$g$6);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -597,7 +719,7 @@ public final class JavaSevenParser extends ParserBase {
       final String v$g$7 = "native";
 
       yyValue = GNode.create("Modifier", v$g$7);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -609,7 +731,7 @@ public final class JavaSevenParser extends ParserBase {
       final String v$g$8 = "synchronized";
 
       yyValue = GNode.create("Modifier", v$g$8);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -621,7 +743,7 @@ public final class JavaSevenParser extends ParserBase {
       final String v$g$9 = "transient";
 
       yyValue = GNode.create("Modifier", v$g$9);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -633,7 +755,7 @@ public final class JavaSevenParser extends ParserBase {
       final String v$g$10 = "volatile";
 
       yyValue = GNode.create("Modifier", v$g$10);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -645,7 +767,7 @@ public final class JavaSevenParser extends ParserBase {
       final String v$g$11 = "strictfp";
 
       yyValue = GNode.create("Modifier", v$g$11);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -720,7 +842,7 @@ public final class JavaSevenParser extends ParserBase {
               final Node v$g$5 = cast(yyOpValue1);
 
               yyValue = GNode.create("FormalParameter", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return new SemanticValue(yyValue, yyOption1, yyError);
             } // End scope for v$g$5.
@@ -745,14 +867,16 @@ public final class JavaSevenParser extends ParserBase {
   private Result pVariableModifiers(final int yyStart) throws IOException {
     Result     yyResult;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
     // Alternative <Modifiers>.
 
     yyRepetition1 = yyStart;
-    yyRepValue1   = Pair.empty();
+    yyRepStart1   = bufferStart();
+    yyRepEnd1   = yyRepStart1;
     while (true) {
 
       yyResult = pVariableModifier(yyRepetition1);
@@ -761,16 +885,17 @@ public final class JavaSevenParser extends ParserBase {
         final Node v$el$1 = yyResult.semanticValue();
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+        yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
         continue;
       }
       break;
     }
     { // Start scope for v$g$1.
-      final Pair<Node> v$g$1 = yyRepValue1.reverse();
+      final int v$g$1 = yyRepStart1;
+      final int v$g$1$end = yyRepEnd1;
 
-      yyValue = GNode.createFromPair("Modifiers", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      yyValue = bufferedNode("Modifiers", v$g$1, v$g$1$end);
+      locate(yyValue, yyStart);
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
     } // End scope for v$g$1.
@@ -797,7 +922,7 @@ public final class JavaSevenParser extends ParserBase {
       final String v$g$1 = "final";
 
       yyValue = GNode.create("Modifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -818,10 +943,15 @@ public final class JavaSevenParser extends ParserBase {
    */
   private Result pFormalParameters(final int yyStart) throws IOException {
     JavaSevenParserColumn yyColumn = (JavaSevenParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fFormalParameters) 
-      yyColumn.chunk1.fFormalParameters = pFormalParameters$1(yyStart);
-    return yyColumn.chunk1.fFormalParameters;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fFormalParameters) {
+      yyColumn.chunk3.fFormalParameters = pFormalParameters$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(1, yyColumn.chunk3.fFormalParameters);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(1, yyColumn.chunk3.fFormalParameters);
+    }
+    return yyColumn.chunk3.fFormalParameters;
   }
 
   /** Actually parse xtc.lang.JavaSeven.FormalParameters. */
@@ -855,7 +985,7 @@ public final class JavaSevenParser extends ParserBase {
           if (yyResult.hasValue(")")) {
 
             yyValue = GNode.createFromPair("FormalParameters", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
@@ -871,7 +1001,7 @@ public final class JavaSevenParser extends ParserBase {
       if (yyResult.hasValue(")")) {
 
         yyValue = GNode.create("FormalParameters", false);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       } else {
@@ -897,10 +1027,16 @@ public final class JavaSevenParser extends ParserBase {
     throws IOException {
 
     JavaSevenParserColumn yyColumn = (JavaSevenParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fFormalParameters$$Star1) 
-      yyColumn.chunk1.fFormalParameters$$Star1 = pFormalParameters$$Star1$1(yyStart);
-    return yyColumn.chunk1.fFormalParameters$$Star1;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fFormalParameters$$Star1) {
+      yyColumn.chunk3.fFormalParameters$$Star1 = 
+        pFormalParameters$$Star1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(2, yyColumn.chunk3.fFormalParameters$$Star1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(2, yyColumn.chunk3.fFormalParameters$$Star1);
+    }
+    return yyColumn.chunk3.fFormalParameters$$Star1;
   }
 
   /** Actually parse xtc.lang.JavaSeven.FormalParameters$$Star1. */
@@ -999,7 +1135,7 @@ public final class JavaSevenParser extends ParserBase {
           final Node v$g$3 = yyOpValue1;
 
           yyValue = GNode.create("Declarator", v$g$1, v$g$2, v$g$3);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyOption1, yyError);
         } // End scope for v$g$3.
@@ -1021,10 +1157,15 @@ public final class JavaSevenParser extends ParserBase {
    */
   private Result pDeclarators(final int yyStart) throws IOException {
     JavaSevenParserColumn yyColumn = (JavaSevenParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fDeclarators) 
-      yyColumn.chunk1.fDeclarators = pDeclarators$1(yyStart);
-    return yyColumn.chunk1.fDeclarators;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fDeclarators) {
+      yyColumn.chunk3.fDeclarators = pDeclarators$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(3, yyColumn.chunk3.fDeclarators);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(3, yyColumn.chunk3.fDeclarators);
+    }
+    return yyColumn.chunk3.fDeclarators;
   }
 
   /** Actually parse xtc.lang.JavaSeven.Declarators. */
@@ -1046,7 +1187,7 @@ public final class JavaSevenParser extends ParserBase {
         final Pair<Node> v$g$2 = yyResult.semanticValue();
 
         yyValue = GNode.createFromPair("Declarators", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -1067,10 +1208,15 @@ public final class JavaSevenParser extends ParserBase {
    */
   private Result pDeclarators$$Star1(final int yyStart) throws IOException {
     JavaSevenParserColumn yyColumn = (JavaSevenParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fDeclarators$$Star1) 
-      yyColumn.chunk1.fDeclarators$$Star1 = pDeclarators$$Star1$1(yyStart);
-    return yyColumn.chunk1.fDeclarators$$Star1;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fDeclarators$$Star1) {
+      yyColumn.chunk3.fDeclarators$$Star1 = pDeclarators$$Star1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(4, yyColumn.chunk3.fDeclarators$$Star1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(4, yyColumn.chunk3.fDeclarators$$Star1);
+    }
+    return yyColumn.chunk3.fDeclarators$$Star1;
   }
 
   /** Actually parse xtc.lang.JavaSeven.Declarators$$Star1. */
@@ -1121,7 +1267,8 @@ public final class JavaSevenParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -1131,7 +1278,8 @@ public final class JavaSevenParser extends ParserBase {
     if (yyResult.hasValue("{")) {
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyResult = pDeclaration(yyRepetition1);
@@ -1140,25 +1288,27 @@ public final class JavaSevenParser extends ParserBase {
           final Node v$el$1 = yyResult.semanticValue();
 
           yyRepetition1 = yyResult.index;
-          yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+          yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
           continue;
         }
         break;
       }
       { // Start scope for v$g$1.
-        final Pair<Node> v$g$1 = yyRepValue1.reverse();
+        final int v$g$1 = yyRepStart1;
+        final int v$g$1$end = yyRepEnd1;
 
         yyBase   = yyRepetition1;
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue("}")) {
 
-          yyValue = GNode.createFromPair("ClassBody", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          yyValue = bufferedNode("ClassBody", v$g$1, v$g$1$end);
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
           yyError = yyError.select("'}' expected", yyBase);
         }
+        releaseBuffer(v$g$1);
       } // End scope for v$g$1.
     }
 
@@ -1210,7 +1360,7 @@ public final class JavaSevenParser extends ParserBase {
           if (yyResult.hasValue(";")) {
 
             yyValue = GNode.create("FieldDeclaration", v$g$1, v$g$2, v$g$3);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
@@ -1291,7 +1441,7 @@ public final class JavaSevenParser extends ParserBase {
                     final Node v$g$8 = yyResult.semanticValue();
 
                     yyValue = GNode.create("MethodDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6, v$g$7, v$g$8);
-                    yyValue.setLocation(location(yyStart));
+                    locate(yyValue, yyStart);
 
                     return yyResult.createValue(yyValue, yyError);
                   }
@@ -1303,7 +1453,7 @@ public final class JavaSevenParser extends ParserBase {
                   if (yyResult.hasValue(";")) {
 
                     yyValue = GNode.create("MethodDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6, v$g$7, null);
-                    yyValue.setLocation(location(yyStart));
+                    locate(yyValue, yyStart);
 
                     return yyResult.createValue(yyValue, yyError);
                   } else {
@@ -1347,7 +1497,7 @@ public final class JavaSevenParser extends ParserBase {
                 final Node v$g$6 = yyResult.semanticValue();
 
                 yyValue = GNode.create("ConstructorDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6);
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return yyResult.createValue(yyValue, yyError);
               }
@@ -1413,7 +1563,7 @@ public final class JavaSevenParser extends ParserBase {
                   final Node v$g$6 = yyResult.semanticValue();
 
                   yyValue = GNode.create("ClassDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6);
-                  yyValue.setLocation(location(yyStart));
+                  locate(yyValue, yyStart);
 
                   return yyResult.createValue(yyValue, yyError);
                 }
@@ -1469,7 +1619,7 @@ public final class JavaSevenParser extends ParserBase {
                 final Node v$g$5 = yyResult.semanticValue();
 
                 yyValue = GNode.create("InterfaceDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return yyResult.createValue(yyValue, yyError);
               }
@@ -1501,7 +1651,7 @@ public final class JavaSevenParser extends ParserBase {
               final Node v$g$3 = yyResult.semanticValue();
 
               yyValue = GNode.create("AnnotationDeclaration", v$g$1, v$g$2, v$g$3);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -1584,7 +1734,7 @@ public final class JavaSevenParser extends ParserBase {
                   if (yyResult.hasValue("}")) {
 
                     yyValue = GNode.create("EnumDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
-                    yyValue.setLocation(location(yyStart));
+                    locate(yyValue, yyStart);
 
                     return yyResult.createValue(yyValue, yyError);
                   } else {
@@ -1626,7 +1776,7 @@ public final class JavaSevenParser extends ParserBase {
         final Node v$g$2 = yyResult.semanticValue();
 
         yyValue = GNode.create("BlockDeclaration", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -1638,7 +1788,7 @@ public final class JavaSevenParser extends ParserBase {
     if (yyResult.hasValue(";")) {
 
       yyValue = GNode.create("EmptyDeclaration", false);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -1661,7 +1811,8 @@ public final class JavaSevenParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -1676,7 +1827,8 @@ public final class JavaSevenParser extends ParserBase {
         final Node v$g$1 = yyResult.semanticValue();
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyBase   = yyRepetition1;
@@ -1689,7 +1841,7 @@ public final class JavaSevenParser extends ParserBase {
               final Node v$el$1 = yyResult.semanticValue();
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
           } else {
@@ -1698,10 +1850,11 @@ public final class JavaSevenParser extends ParserBase {
           break;
         }
         { // Start scope for v$g$2.
-          final Pair<Node> v$g$2 = yyRepValue1.reverse();
+          final int v$g$2 = yyRepStart1;
+          final int v$g$2$end = yyRepEnd1;
 
-          yyValue = GNode.createFromPair("ThrowsClause", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          yyValue = bufferedNode("ThrowsClause", v$g$1, v$g$2, v$g$2$end);
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
         } // End scope for v$g$2.
@@ -1726,7 +1879,8 @@ public final class JavaSevenParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -1741,7 +1895,8 @@ public final class JavaSevenParser extends ParserBase {
         final Node v$g$1 = yyResult.semanticValue();
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyBase   = yyRepetition1;
@@ -1754,7 +1909,7 @@ public final class JavaSevenParser extends ParserBase {
               final Node v$el$1 = yyResult.semanticValue();
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
           } else {
@@ -1763,10 +1918,11 @@ public final class JavaSevenParser extends ParserBase {
           break;
         }
         { // Start scope for v$g$2.
-          final Pair<Node> v$g$2 = yyRepValue1.reverse();
+          final int v$g$2 = yyRepStart1;
+          final int v$g$2$end = yyRepEnd1;
 
-          yyValue = GNode.createFromPair("Extension", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          yyValue = bufferedNode("Extension", v$g$1, v$g$2, v$g$2$end);
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
         } // End scope for v$g$2.
@@ -1789,10 +1945,15 @@ public final class JavaSevenParser extends ParserBase {
    */
   private Result pImplementation(final int yyStart) throws IOException {
     JavaSevenParserColumn yyColumn = (JavaSevenParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fImplementation) 
-      yyColumn.chunk1.fImplementation = pImplementation$1(yyStart);
-    return yyColumn.chunk1.fImplementation;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fImplementation) {
+      yyColumn.chunk3.fImplementation = pImplementation$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(5, yyColumn.chunk3.fImplementation);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(5, yyColumn.chunk3.fImplementation);
+    }
+    return yyColumn.chunk3.fImplementation;
   }
 
   /** Actually parse xtc.lang.JavaSeven.Implementation. */
@@ -1817,7 +1978,7 @@ public final class JavaSevenParser extends ParserBase {
           final Pair<Node> v$g$2 = yyResult.semanticValue();
 
           yyValue = GNode.createFromPair("Implementation", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -1842,10 +2003,16 @@ public final class JavaSevenParser extends ParserBase {
     throws IOException {
 
     JavaSevenParserColumn yyColumn = (JavaSevenParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fImplementation$$Star1) 
-      yyColumn.chunk1.fImplementation$$Star1 = pImplementation$$Star1$1(yyStart);
-    return yyColumn.chunk1.fImplementation$$Star1;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fImplementation$$Star1) {
+      yyColumn.chunk3.fImplementation$$Star1 = 
+        pImplementation$$Star1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(6, yyColumn.chunk3.fImplementation$$Star1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(6, yyColumn.chunk3.fImplementation$$Star1);
+    }
+    return yyColumn.chunk3.fImplementation$$Star1;
   }
 
   /** Actually parse xtc.lang.JavaSeven.Implementation$$Star1. */
@@ -1896,10 +2063,14 @@ public final class JavaSevenParser extends ParserBase {
    */
   private Result pBlock(final int yyStart) throws IOException {
     JavaSevenParserColumn yyColumn = (JavaSevenParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fBlock) 
-      yyColumn.chunk1.fBlock = pBlock$1(yyStart);
-    return yyColumn.chunk1.fBlock;
+    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
+    if (null == yyColumn.chunk2.fBlock) {
+      yyColumn.chunk2.fBlock = pBlock$1(yyStart);
+      if (null != yyStatistics) yyStatistics.miss(7, yyColumn.chunk2.fBlock);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(7, yyColumn.chunk2.fBlock);
+    }
+    return yyColumn.chunk2.fBlock;
   }
 
   /** Actually parse xtc.lang.JavaSeven.Block. */
@@ -1924,7 +2095,7 @@ public final class JavaSevenParser extends ParserBase {
         if (yyResult.hasValue("}")) {
 
           yyValue = GNode.createFromPair("Block", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
@@ -1949,10 +2120,15 @@ public final class JavaSevenParser extends ParserBase {
    */
   private Result pBlock$$Star1(final int yyStart) throws IOException {
     JavaSevenParserColumn yyColumn = (JavaSevenParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fBlock$$Star1) 
-      yyColumn.chunk1.fBlock$$Star1 = pBlock$$Star1$1(yyStart);
-    return yyColumn.chunk1.fBlock$$Star1;
+    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
+    if (null == yyColumn.chunk2.fBlock$$Star1) {
+      yyColumn.chunk2.fBlock$$Star1 = pBlock$$Star1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(8, yyColumn.chunk2.fBlock$$Star1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(8, yyColumn.chunk2.fBlock$$Star1);
+    }
+    return yyColumn.chunk2.fBlock$$Star1;
   }
 
   /** Actually parse xtc.lang.JavaSeven.Block$$Star1. */
@@ -2119,7 +2295,7 @@ public final class JavaSevenParser extends ParserBase {
                   final Node v$g$6 = yyResult.semanticValue();
 
                   yyValue = GNode.create("ClassDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6);
-                  yyValue.setLocation(location(yyStart));
+                  locate(yyValue, yyStart);
 
                   return yyResult.createValue(yyValue, yyError);
                 }
@@ -2175,7 +2351,7 @@ public final class JavaSevenParser extends ParserBase {
                 final Node v$g$5 = yyResult.semanticValue();
 
                 yyValue = GNode.create("InterfaceDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return yyResult.createValue(yyValue, yyError);
               }
@@ -2228,7 +2404,7 @@ public final class JavaSevenParser extends ParserBase {
           if (yyResult.hasValue(";")) {
 
             yyValue = GNode.create("FieldDeclaration", v$g$1, v$g$2, v$g$3);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
@@ -2256,20 +2432,57 @@ public final class JavaSevenParser extends ParserBase {
     int        yyBase;
     int        yyRepetition1;
     boolean    yyRepeated1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     int        yyOption1;
     Object     yyOpValue1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '@':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Block>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pBlock(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pBlock(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 2.
@@ -2301,7 +2514,7 @@ public final class JavaSevenParser extends ParserBase {
               final Node v$g$3 = yyResult.semanticValue();
 
               yyValue = GNode.create("ConditionalStatement", v$g$1, v$g$2, v$g$3);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -2312,7 +2525,7 @@ public final class JavaSevenParser extends ParserBase {
           // Nested alternative 2.
 
           yyValue = GNode.create("ConditionalStatement", v$g$1, v$g$2, null);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyChoice1, yyError);
         }
@@ -2343,7 +2556,7 @@ public final class JavaSevenParser extends ParserBase {
               final Node v$g$2 = yyResult.semanticValue();
 
               yyValue = GNode.create("ForStatement", v$g$1, v$g$2);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -2372,7 +2585,7 @@ public final class JavaSevenParser extends ParserBase {
           final Node v$g$2 = yyResult.semanticValue();
 
           yyValue = GNode.create("WhileStatement", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -2403,7 +2616,7 @@ public final class JavaSevenParser extends ParserBase {
             if (yyResult.hasValue(";")) {
 
               yyValue = GNode.create("DoWhileStatement", v$g$1, v$g$2);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             } else {
@@ -2445,7 +2658,8 @@ public final class JavaSevenParser extends ParserBase {
           // Nested alternative 1.
 
           yyRepetition1 = yyChoice1;
-          yyRepValue1   = Pair.empty();
+          yyRepStart1   = bufferStart();
+          yyRepEnd1   = yyRepStart1;
           while (true) {
 
             yyResult = pCatchClause(yyRepetition1);
@@ -2454,13 +2668,14 @@ public final class JavaSevenParser extends ParserBase {
               final Node v$el$2 = yyResult.semanticValue();
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$2, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$2);
               continue;
             }
             break;
           }
           { // Start scope for v$g$3.
-            final Pair<Node> v$g$3 = yyRepValue1.reverse();
+            final int v$g$3 = yyRepStart1;
+            final int v$g$3$end = yyRepEnd1;
 
             yyBase   = yyRepetition1;
             yyResult = pWord(yyBase);
@@ -2471,22 +2686,26 @@ public final class JavaSevenParser extends ParserBase {
               if (yyResult.hasValue()) {
                 final Node v$g$4 = yyResult.semanticValue();
 
-                yyValue = GNode.create("TryCatchFinallyStatement", v$g$3.size() + 3).
-                  add(v$g$1).add(v$g$2).addAll(v$g$3).add(v$g$4);
-                yyValue.setLocation(location(yyStart));
+                yyValue = GNode.create("TryCatchFinallyStatement", (v$g$3$end - v$g$3) + 3).
+                  add(v$g$1).add(v$g$2);
+                addBuffered(yyValue, v$g$3, v$g$3$end);
+                yyValue.add(v$g$4);
+                locate(yyValue, yyStart);
 
                 return yyResult.createValue(yyValue, yyError);
               }
             } else {
               yyError = yyError.select("'finally' expected", yyBase);
             }
+            releaseBuffer(v$g$3);
           } // End scope for v$g$3.
 
           // Nested alternative 2.
 
           yyRepetition1 = yyChoice1;
           yyRepeated1   = false;
-          yyRepValue1   = Pair.empty();
+          yyRepStart1   = bufferStart();
+          yyRepEnd1   = yyRepStart1;
           while (true) {
 
             yyResult = pCatchClause(yyRepetition1);
@@ -2496,18 +2715,21 @@ public final class JavaSevenParser extends ParserBase {
 
               yyRepetition1 = yyResult.index;
               yyRepeated1   = true;
-              yyRepValue1   = new Pair<Node>(v$el$3, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$3);
               continue;
             }
             break;
           }
 
           if (yyRepeated1) {
-            final Pair<Node> v$g$5 = yyRepValue1.reverse();
+            final int v$g$5 = yyRepStart1;
+            final int v$g$5$end = yyRepEnd1;
 
-            yyValue = GNode.create("TryCatchFinallyStatement", v$g$5.size() + 3).
-              add(v$g$1).add(v$g$2).addAll(v$g$5).add(null);
-            yyValue.setLocation(location(yyStart));
+            yyValue = GNode.create("TryCatchFinallyStatement", (v$g$5$end - v$g$5) + 3).
+              add(v$g$1).add(v$g$2);
+            addBuffered(yyValue, v$g$5, v$g$5$end);
+            yyValue.add(null);
+            locate(yyValue, yyStart);
 
             return new SemanticValue(yyValue, yyRepetition1, yyError);
           }
@@ -2530,7 +2752,8 @@ public final class JavaSevenParser extends ParserBase {
         if (yyResult.hasValue("{")) {
 
           yyRepetition1 = yyResult.index;
-          yyRepValue1   = Pair.empty();
+          yyRepStart1   = bufferStart();
+          yyRepEnd1   = yyRepStart1;
           while (true) {
 
             yyResult = pSwitchClause(yyRepetition1);
@@ -2539,25 +2762,27 @@ public final class JavaSevenParser extends ParserBase {
               final Node v$el$1 = yyResult.semanticValue();
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
             break;
           }
           { // Start scope for v$g$2.
-            final Pair<Node> v$g$2 = yyRepValue1.reverse();
+            final int v$g$2 = yyRepStart1;
+            final int v$g$2$end = yyRepEnd1;
 
             yyBase   = yyRepetition1;
             yyResult = pSymbol(yyBase);
             if (yyResult.hasValue("}")) {
 
-              yyValue = GNode.createFromPair("SwitchStatement", v$g$1, v$g$2);
-              yyValue.setLocation(location(yyStart));
+              yyValue = bufferedNode("SwitchStatement", v$g$1, v$g$2, v$g$2$end);
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             } else {
               yyError = yyError.select("'}' expected", yyBase);
             }
+            releaseBuffer(v$g$2);
           } // End scope for v$g$2.
         } else {
           yyError = yyError.select("'{' expected", yyBase);
@@ -2581,7 +2806,7 @@ public final class JavaSevenParser extends ParserBase {
           final Node v$g$2 = yyResult.semanticValue();
 
           yyValue = GNode.create("SynchronizedStatement", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -2612,7 +2837,7 @@ public final class JavaSevenParser extends ParserBase {
         if (yyResult.hasValue(";")) {
 
           yyValue = GNode.create("ReturnStatement", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
@@ -2636,7 +2861,7 @@ public final class JavaSevenParser extends ParserBase {
         if (yyResult.hasValue(";")) {
 
           yyValue = GNode.create("ThrowStatement", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
@@ -2669,7 +2894,7 @@ public final class JavaSevenParser extends ParserBase {
         if (yyResult.hasValue(";")) {
 
           yyValue = GNode.create("BreakStatement", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
@@ -2702,7 +2927,7 @@ public final class JavaSevenParser extends ParserBase {
         if (yyResult.hasValue(";")) {
 
           yyValue = GNode.create("ContinueStatement", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
@@ -2728,7 +2953,7 @@ public final class JavaSevenParser extends ParserBase {
           final Node v$g$2 = yyResult.semanticValue();
 
           yyValue = GNode.create("LabeledStatement", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -2749,7 +2974,7 @@ public final class JavaSevenParser extends ParserBase {
       if (yyResult.hasValue(";")) {
 
         yyValue = GNode.create("ExpressionStatement", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       } else {
@@ -2793,7 +3018,7 @@ public final class JavaSevenParser extends ParserBase {
           if (yyResult.hasValue(";")) {
 
             yyValue = GNode.create("AssertStatement", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
@@ -2804,14 +3029,16 @@ public final class JavaSevenParser extends ParserBase {
     }
 
     // Alternative 16.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(";")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(";")) {
 
-      yyValue = GNode.create("EmptyStatement", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("EmptyStatement", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -2867,7 +3094,7 @@ public final class JavaSevenParser extends ParserBase {
               final Node v$g$4 = yyResult.semanticValue();
 
               yyValue = GNode.create("EnhancedForControl", v$g$1, v$g$2, v$g$3, v$g$4);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -2920,7 +3147,7 @@ public final class JavaSevenParser extends ParserBase {
                   final Node v$g$5 = yyOpValue1;
 
                   yyValue = GNode.create("BasicForControl", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
-                  yyValue.setLocation(location(yyStart));
+                  locate(yyValue, yyStart);
 
                   return new SemanticValue(yyValue, yyOption1, yyError);
                 } // End scope for v$g$5.
@@ -2988,7 +3215,7 @@ public final class JavaSevenParser extends ParserBase {
               final Node v$g$10 = yyOpValue1;
 
               yyValue = GNode.create("BasicForControl", null, null, v$g$8, v$g$9, v$g$10);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return new SemanticValue(yyValue, yyOption1, yyError);
             } // End scope for v$g$10.
@@ -3016,10 +3243,15 @@ public final class JavaSevenParser extends ParserBase {
    */
   private Result pParExpression(final int yyStart) throws IOException {
     JavaSevenParserColumn yyColumn = (JavaSevenParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fParExpression) 
-      yyColumn.chunk1.fParExpression = pParExpression$1(yyStart);
-    return yyColumn.chunk1.fParExpression;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fParExpression) {
+      yyColumn.chunk3.fParExpression = pParExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(9, yyColumn.chunk3.fParExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(9, yyColumn.chunk3.fParExpression);
+    }
+    return yyColumn.chunk3.fParExpression;
   }
 
   /** Actually parse xtc.lang.JavaSeven.ParExpression. */
@@ -3066,10 +3298,15 @@ public final class JavaSevenParser extends ParserBase {
    */
   private Result pCatchClause(final int yyStart) throws IOException {
     JavaSevenParserColumn yyColumn = (JavaSevenParserColumn)column(yyStart);
-    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fCatchClause) 
-      yyColumn.chunk2.fCatchClause = pCatchClause$1(yyStart);
-    return yyColumn.chunk2.fCatchClause;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fCatchClause) {
+      yyColumn.chunk3.fCatchClause = pCatchClause$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(10, yyColumn.chunk3.fCatchClause);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(10, yyColumn.chunk3.fCatchClause);
+    }
+    return yyColumn.chunk3.fCatchClause;
   }
 
   /** Actually parse xtc.lang.JavaSeven.CatchClause. */
@@ -3103,7 +3340,7 @@ public final class JavaSevenParser extends ParserBase {
               final Node v$g$2 = yyResult.semanticValue();
 
               yyValue = GNode.create("CatchClause", v$g$1, v$g$2);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -3134,7 +3371,8 @@ public final class JavaSevenParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -3153,7 +3391,8 @@ public final class JavaSevenParser extends ParserBase {
         if (yyResult.hasValue(":")) {
 
           yyRepetition1 = yyResult.index;
-          yyRepValue1   = Pair.empty();
+          yyRepStart1   = bufferStart();
+          yyRepEnd1   = yyRepStart1;
           while (true) {
 
             yyResult = pDeclarationOrStatement(yyRepetition1);
@@ -3162,16 +3401,17 @@ public final class JavaSevenParser extends ParserBase {
               final Node v$el$1 = yyResult.semanticValue();
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
             break;
           }
           { // Start scope for v$g$2.
-            final Pair<Node> v$g$2 = yyRepValue1.reverse();
+            final int v$g$2 = yyRepStart1;
+            final int v$g$2$end = yyRepEnd1;
 
-            yyValue = GNode.createFromPair("CaseClause", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
+            yyValue = bufferedNode("CaseClause", v$g$1, v$g$2, v$g$2$end);
+            locate(yyValue, yyStart);
 
             return new SemanticValue(yyValue, yyRepetition1, yyError);
           } // End scope for v$g$2.
@@ -3191,7 +3431,8 @@ public final class JavaSevenParser extends ParserBase {
       if (yyResult.hasValue(":")) {
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyResult = pDeclarationOrStatement(yyRepetition1);
@@ -3200,16 +3441,17 @@ public final class JavaSevenParser extends ParserBase {
             final Node v$el$1 = yyResult.semanticValue();
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
           break;
         }
         { // Start scope for v$g$1.
-          final Pair<Node> v$g$1 = yyRepValue1.reverse();
+          final int v$g$1 = yyRepStart1;
+          final int v$g$1$end = yyRepEnd1;
 
-          yyValue = GNode.createFromPair("DefaultClause", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          yyValue = bufferedNode("DefaultClause", v$g$1, v$g$1$end);
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
         } // End scope for v$g$1.
@@ -3236,7 +3478,8 @@ public final class JavaSevenParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -3248,7 +3491,8 @@ public final class JavaSevenParser extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyBase   = yyRepetition1;
@@ -3261,7 +3505,7 @@ public final class JavaSevenParser extends ParserBase {
             final Node v$el$1 = yyResult.semanticValue();
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
         } else {
@@ -3270,10 +3514,11 @@ public final class JavaSevenParser extends ParserBase {
         break;
       }
       { // Start scope for v$g$2.
-        final Pair<Node> v$g$2 = yyRepValue1.reverse();
+        final int v$g$2 = yyRepStart1;
+        final int v$g$2$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("ExpressionList", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("ExpressionList", v$g$1, v$g$2, v$g$2$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$2.
@@ -3295,8 +3540,13 @@ public final class JavaSevenParser extends ParserBase {
   private Result pExpression(final int yyStart) throws IOException {
     JavaSevenParserColumn yyColumn = (JavaSevenParserColumn)column(yyStart);
     if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fExpression) 
+    if (null == yyColumn.chunk2.fExpression) {
       yyColumn.chunk2.fExpression = pExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(11, yyColumn.chunk2.fExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(11, yyColumn.chunk2.fExpression);
+    }
     return yyColumn.chunk2.fExpression;
   }
 
@@ -3324,7 +3574,7 @@ public final class JavaSevenParser extends ParserBase {
           final Node v$g$3 = yyResult.semanticValue();
 
           yyValue = GNode.create("Expression", v$g$1, v$g$2, v$g$3);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -3359,112 +3609,170 @@ public final class JavaSevenParser extends ParserBase {
     String     yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '@':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0xfff;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Equal>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("=")) {
-      yyValue = "=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("=")) {
+        yyValue = "=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <PlusEqual>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("+=")) {
-      yyValue = "+=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("+=")) {
+        yyValue = "+=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <MinusEqual>.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("-=")) {
-      yyValue = "-=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("-=")) {
+        yyValue = "-=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <StarEqual>.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("*=")) {
-      yyValue = "*=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("*=")) {
+        yyValue = "*=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <SlashEqual>.
+    if (0 != (yyFirst & 0x10)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("/=")) {
-      yyValue = "/=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("/=")) {
+        yyValue = "/=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <AmpersandEqual>.
+    if (0 != (yyFirst & 0x20)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("&=")) {
-      yyValue = "&=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("&=")) {
+        yyValue = "&=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <BarEqual>.
+    if (0 != (yyFirst & 0x40)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("|=")) {
-      yyValue = "|=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("|=")) {
+        yyValue = "|=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <CaretEqual>.
+    if (0 != (yyFirst & 0x80)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("^=")) {
-      yyValue = "^=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("^=")) {
+        yyValue = "^=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <PercentEqual>.
+    if (0 != (yyFirst & 0x100)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("%=")) {
-      yyValue = "%=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("%=")) {
+        yyValue = "%=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <DoubleLessEqual>.
+    if (0 != (yyFirst & 0x200)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("<<=")) {
-      yyValue = "<<=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("<<=")) {
+        yyValue = "<<=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <DoubleGreaterEqual>.
+    if (0 != (yyFirst & 0x400)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(">>=")) {
-      yyValue = ">>=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(">>=")) {
+        yyValue = ">>=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <TripleGreaterEqual>.
+    if (0 != (yyFirst & 0x800)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(">>>=")) {
-      yyValue = ">>>=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(">>>=")) {
+        yyValue = ">>>=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -3486,8 +3794,14 @@ public final class JavaSevenParser extends ParserBase {
 
     JavaSevenParserColumn yyColumn = (JavaSevenParserColumn)column(yyStart);
     if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fConditionalExpression) 
-      yyColumn.chunk2.fConditionalExpression = pConditionalExpression$1(yyStart);
+    if (null == yyColumn.chunk2.fConditionalExpression) {
+      yyColumn.chunk2.fConditionalExpression = 
+        pConditionalExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(12, yyColumn.chunk2.fConditionalExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(12, yyColumn.chunk2.fConditionalExpression);
+    }
     return yyColumn.chunk2.fConditionalExpression;
   }
 
@@ -3526,7 +3840,7 @@ public final class JavaSevenParser extends ParserBase {
               final Node v$g$3 = yyResult.semanticValue();
 
               yyValue = GNode.create("ConditionalExpression", v$g$1, v$g$2, v$g$3);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -3565,8 +3879,13 @@ public final class JavaSevenParser extends ParserBase {
   private Result pLogicalOrExpression(final int yyStart) throws IOException {
     JavaSevenParserColumn yyColumn = (JavaSevenParserColumn)column(yyStart);
     if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fLogicalOrExpression) 
+    if (null == yyColumn.chunk2.fLogicalOrExpression) {
       yyColumn.chunk2.fLogicalOrExpression = pLogicalOrExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(13, yyColumn.chunk2.fLogicalOrExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(13, yyColumn.chunk2.fLogicalOrExpression);
+    }
     return yyColumn.chunk2.fLogicalOrExpression;
   }
 
@@ -4130,22 +4449,60 @@ public final class JavaSevenParser extends ParserBase {
     String     yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '@':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Equal>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("==")) {
-      yyValue = "==";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("==")) {
+        yyValue = "==";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <NotEqual>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("!=")) {
-      yyValue = "!=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("!=")) {
+        yyValue = "!=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -4185,7 +4542,7 @@ public final class JavaSevenParser extends ParserBase {
           final Node v$g$2 = yyResult.semanticValue();
 
           yyValue = GNode.create("InstanceOfExpression", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -4220,8 +4577,14 @@ public final class JavaSevenParser extends ParserBase {
   private Result pRelationalExpression(final int yyStart) throws IOException {
     JavaSevenParserColumn yyColumn = (JavaSevenParserColumn)column(yyStart);
     if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fRelationalExpression) 
-      yyColumn.chunk2.fRelationalExpression = pRelationalExpression$1(yyStart);
+    if (null == yyColumn.chunk2.fRelationalExpression) {
+      yyColumn.chunk2.fRelationalExpression = 
+        pRelationalExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(14, yyColumn.chunk2.fRelationalExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(14, yyColumn.chunk2.fRelationalExpression);
+    }
     return yyColumn.chunk2.fRelationalExpression;
   }
 
@@ -4326,40 +4689,82 @@ public final class JavaSevenParser extends ParserBase {
     String     yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '@':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0xf;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Less>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("<")) {
-      yyValue = "<";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("<")) {
+        yyValue = "<";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Greater>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(">")) {
-      yyValue = ">";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(">")) {
+        yyValue = ">";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <LessEqual>.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("<=")) {
-      yyValue = "<=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("<=")) {
+        yyValue = "<=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <GreaterEqual>.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(">=")) {
-      yyValue = ">=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(">=")) {
+        yyValue = ">=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -4473,31 +4878,71 @@ public final class JavaSevenParser extends ParserBase {
     String     yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '@':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x7;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Left>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("<<")) {
-      yyValue = "<<";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("<<")) {
+        yyValue = "<<";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Right>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(">>")) {
-      yyValue = ">>";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(">>")) {
+        yyValue = ">>";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <UnsignedRight>.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(">>>")) {
-      yyValue = ">>>";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(">>>")) {
+        yyValue = ">>>";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -4611,22 +5056,60 @@ public final class JavaSevenParser extends ParserBase {
     String     yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '@':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Plus>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("+")) {
-      yyValue = "+";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("+")) {
+        yyValue = "+";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Minus>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("-")) {
-      yyValue = "-";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("-")) {
+        yyValue = "-";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -4745,31 +5228,71 @@ public final class JavaSevenParser extends ParserBase {
     String     yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '@':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x7;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Times>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("*")) {
-      yyValue = "*";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("*")) {
+        yyValue = "*";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Over>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("/")) {
-      yyValue = "/";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("/")) {
+        yyValue = "/";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Modulo>.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("%")) {
-      yyValue = "%";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("%")) {
+        yyValue = "%";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -4791,75 +5314,117 @@ public final class JavaSevenParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '@':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0xf;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Plus>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("+")) {
-      final String v$g$1 = "+";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("+")) {
+        final String v$g$1 = "+";
 
-      yyResult = pUnaryExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$2 = yyResult.semanticValue();
+        yyResult = pUnaryExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryExpression", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("UnaryExpression", v$g$1, v$g$2);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative <Minus>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("-")) {
-      final String v$g$3 = "-";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("-")) {
+        final String v$g$3 = "-";
 
-      yyResult = pUnaryExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$4 = yyResult.semanticValue();
+        yyResult = pUnaryExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$4 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryExpression", v$g$3, v$g$4);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("UnaryExpression", v$g$3, v$g$4);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative <Increment>.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("++")) {
-      final String v$g$5 = "++";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("++")) {
+        final String v$g$5 = "++";
 
-      yyResult = pUnaryExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$6 = yyResult.semanticValue();
+        yyResult = pUnaryExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$6 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryExpression", v$g$5, v$g$6);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("UnaryExpression", v$g$5, v$g$6);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative <Decrement>.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("--")) {
-      final String v$g$7 = "--";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("--")) {
+        final String v$g$7 = "--";
 
-      yyResult = pUnaryExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$8 = yyResult.semanticValue();
+        yyResult = pUnaryExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$8 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryExpression", v$g$7, v$g$8);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("UnaryExpression", v$g$7, v$g$8);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
@@ -4897,111 +5462,151 @@ public final class JavaSevenParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '@':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x7;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("~")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("~")) {
 
-      yyResult = pUnaryExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
+        yyResult = pUnaryExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("BitwiseNegationExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("BitwiseNegationExpression", v$g$1);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("!")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("!")) {
 
-      yyResult = pUnaryExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
+        yyResult = pUnaryExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("LogicalNegationExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("LogicalNegationExpression", v$g$1);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("(")) {
-
-      final int yyChoice1 = yyResult.index;
-
-      // Nested alternative 1.
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("(")) {
 
-      yyResult = pPrimitiveType(yyChoice1);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
+        final int yyChoice1 = yyResult.index;
 
-        yyOption1  = yyResult.index;
-        yyOpValue1 = null;
+        // Nested alternative 1.
 
-        yyResult = pDimensions(yyOption1);
-        yyError  = yyResult.select(yyError, yyOption1);
+        yyResult = pPrimitiveType(yyChoice1);
+        yyError  = yyResult.select(yyError);
         if (yyResult.hasValue()) {
-          final Node v$el$1 = yyResult.semanticValue();
+          final Node v$g$1 = yyResult.semanticValue();
 
           yyOption1  = yyResult.index;
-          yyOpValue1 = v$el$1;
+          yyOpValue1 = null;
+
+          yyResult = pDimensions(yyOption1);
+          yyError  = yyResult.select(yyError, yyOption1);
+          if (yyResult.hasValue()) {
+            final Node v$el$1 = yyResult.semanticValue();
+
+            yyOption1  = yyResult.index;
+            yyOpValue1 = v$el$1;
+          }
+          { // Start scope for v$g$2.
+            final Node v$g$2 = yyOpValue1;
+
+            yyBase   = yyOption1;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue(")")) {
+
+              yyResult = pUnaryExpression(yyResult.index);
+              yyError  = yyResult.select(yyError);
+              if (yyResult.hasValue()) {
+                final Node v$g$3 = yyResult.semanticValue();
+
+                yyValue = GNode.create("BasicCastExpression", v$g$1, v$g$2, v$g$3);
+                locate(yyValue, yyStart);
+
+                return yyResult.createValue(yyValue, yyError);
+              }
+            } else {
+              yyError = yyError.select("')' expected", yyBase);
+            }
+          } // End scope for v$g$2.
         }
-        { // Start scope for v$g$2.
-          final Node v$g$2 = yyOpValue1;
 
-          yyBase   = yyOption1;
+        // Nested alternative 2.
+
+        yyResult = pType(yyChoice1);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$1 = yyResult.semanticValue();
+
+          yyBase   = yyResult.index;
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue(")")) {
 
-            yyResult = pUnaryExpression(yyResult.index);
+            yyResult = pUnaryExpressionNotPlusMinus(yyResult.index);
             yyError  = yyResult.select(yyError);
             if (yyResult.hasValue()) {
-              final Node v$g$3 = yyResult.semanticValue();
+              final Node v$g$2 = yyResult.semanticValue();
 
-              yyValue = GNode.create("BasicCastExpression", v$g$1, v$g$2, v$g$3);
-              yyValue.setLocation(location(yyStart));
+              yyValue = GNode.create("CastExpression", v$g$1, v$g$2);
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
           } else {
             yyError = yyError.select("')' expected", yyBase);
           }
-        } // End scope for v$g$2.
-      }
-
-      // Nested alternative 2.
-
-      yyResult = pType(yyChoice1);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
-
-        yyBase   = yyResult.index;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue(")")) {
-
-          yyResult = pUnaryExpressionNotPlusMinus(yyResult.index);
-          yyError  = yyResult.select(yyError);
-          if (yyResult.hasValue()) {
-            final Node v$g$2 = yyResult.semanticValue();
-
-            yyValue = GNode.create("CastExpression", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
-
-            return yyResult.createValue(yyValue, yyError);
-          }
-        } else {
-          yyError = yyError.select("')' expected", yyBase);
         }
       }
     }
@@ -5091,217 +5696,261 @@ public final class JavaSevenParser extends ParserBase {
     Action<Node> yyValue;
     ParseError   yyError = ParseError.DUMMY;
 
-    // Alternative 1.
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '@':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x1f;
+      break;
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(".")) {
+    default:
+      yyFirst = 0;
+    }
 
-      final int yyChoice1 = yyResult.index;
+    // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-      // Nested alternative 1.
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(".")) {
 
-      yyOption1  = yyChoice1;
-      yyOpValue1 = null;
+        final int yyChoice1 = yyResult.index;
 
-      yyResult = pTypeArguments(yyOption1);
-      yyError  = yyResult.select(yyError, yyOption1);
-      if (yyResult.hasValue()) {
-        final Node v$el$1 = yyResult.semanticValue();
+        // Nested alternative 1.
 
-        yyOption1  = yyResult.index;
-        yyOpValue1 = v$el$1;
-      }
-      { // Start scope for v$g$2.
-        final Node v$g$2 = yyOpValue1;
+        yyOption1  = yyChoice1;
+        yyOpValue1 = null;
 
-        yyResult = pIdentifier(yyOption1);
-        yyError  = yyResult.select(yyError);
+        yyResult = pTypeArguments(yyOption1);
+        yyError  = yyResult.select(yyError, yyOption1);
         if (yyResult.hasValue()) {
-          final String v$g$3 = yyResult.semanticValue();
+          final Node v$el$1 = yyResult.semanticValue();
+
+          yyOption1  = yyResult.index;
+          yyOpValue1 = v$el$1;
+        }
+        { // Start scope for v$g$2.
+          final Node v$g$2 = yyOpValue1;
+
+          yyResult = pIdentifier(yyOption1);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final String v$g$3 = yyResult.semanticValue();
+
+            yyResult = pArguments(yyResult.index);
+            yyError  = yyResult.select(yyError);
+            if (yyResult.hasValue()) {
+              final Node v$g$4 = yyResult.semanticValue();
+
+              yyValue = new Action<Node>() {
+                public Node run(Node v$1) {
+                  return GNode.create("CallExpression", v$1, v$g$2, v$g$3, v$g$4);
+                }};
+
+              return yyResult.createValue(yyValue, yyError);
+            }
+          }
+        } // End scope for v$g$2.
+
+        // Nested alternative 2.
+
+        yyBase   = yyChoice1;
+        yyResult = pWord(yyBase);
+        if (yyResult.hasValue("super")) {
+          final String v$g$6 = "super";
 
           yyResult = pArguments(yyResult.index);
           yyError  = yyResult.select(yyError);
           if (yyResult.hasValue()) {
-            final Node v$g$4 = yyResult.semanticValue();
+            final Node v$g$7 = yyResult.semanticValue();
 
             yyValue = new Action<Node>() {
               public Node run(Node v$1) {
-                return GNode.create("CallExpression", v$1, v$g$2, v$g$3, v$g$4);
+                return GNode.create("CallExpression", v$1, null, v$g$6, v$g$7);
               }};
 
             return yyResult.createValue(yyValue, yyError);
           }
+        } else {
+          yyError = yyError.select("'super' expected", yyBase);
         }
-      } // End scope for v$g$2.
 
-      // Nested alternative 2.
-
-      yyBase   = yyChoice1;
-      yyResult = pWord(yyBase);
-      if (yyResult.hasValue("super")) {
-        final String v$g$6 = "super";
+        // Nested alternative 3.
 
-        yyResult = pArguments(yyResult.index);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$g$7 = yyResult.semanticValue();
+        yyBase   = yyChoice1;
+        yyResult = pWord(yyBase);
+        if (yyResult.hasValue("super")) {
 
           yyValue = new Action<Node>() {
             public Node run(Node v$1) {
-              return GNode.create("CallExpression", v$1, null, v$g$6, v$g$7);
+              return GNode.create("SuperExpression", v$1);
             }};
 
           return yyResult.createValue(yyValue, yyError);
+        } else {
+          yyError = yyError.select("'super' expected", yyBase);
         }
-      } else {
-        yyError = yyError.select("'super' expected", yyBase);
-      }
 
-      // Nested alternative 3.
+        // Nested alternative 4.
 
-      yyBase   = yyChoice1;
-      yyResult = pWord(yyBase);
-      if (yyResult.hasValue("super")) {
-
-        yyValue = new Action<Node>() {
-          public Node run(Node v$1) {
-            return GNode.create("SuperExpression", v$1);
-          }};
-
-        return yyResult.createValue(yyValue, yyError);
-      } else {
-        yyError = yyError.select("'super' expected", yyBase);
-      }
-
-      // Nested alternative 4.
-
-      yyResult = pIdentifier(yyChoice1);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final String v$g$8 = yyResult.semanticValue();
+        yyResult = pIdentifier(yyChoice1);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final String v$g$8 = yyResult.semanticValue();
 
-        yyValue = new Action<Node>() {
-          public Node run(Node v$1) {
-            return GNode.create("SelectionExpression", v$1, v$g$8);
-          }};
+          yyValue = new Action<Node>() {
+            public Node run(Node v$1) {
+              return GNode.create("SelectionExpression", v$1, v$g$8);
+            }};
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("[")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("[")) {
 
-      yyResult = pExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$9 = yyResult.semanticValue();
+        yyResult = pExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$9 = yyResult.semanticValue();
 
-        yyBase   = yyResult.index;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue("]")) {
+          yyBase   = yyResult.index;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue("]")) {
 
-          yyValue = new Action<Node>() {
-            public Node run(Node v$1) {
-              return GNode.create("SubscriptExpression", v$1, v$g$9);
-            }};
+            yyValue = new Action<Node>() {
+              public Node run(Node v$1) {
+                return GNode.create("SubscriptExpression", v$1, v$g$9);
+              }};
 
-          return yyResult.createValue(yyValue, yyError);
-        } else {
-          yyError = yyError.select("']' expected", yyBase);
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("']' expected", yyBase);
+          }
         }
       }
     }
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("++")) {
-      final String v$g$10 = "++";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("++")) {
+        final String v$g$10 = "++";
 
-      yyValue = new Action<Node>() {
-        public Node run(Node v$1) {
-          return GNode.create("PostfixExpression", v$1, v$g$10);
-        }};
+        yyValue = new Action<Node>() {
+          public Node run(Node v$1) {
+            return GNode.create("PostfixExpression", v$1, v$g$10);
+          }};
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 4.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("--")) {
-      final String v$g$11 = "--";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("--")) {
+        final String v$g$11 = "--";
 
-      yyValue = new Action<Node>() {
-        public Node run(Node v$1) {
-          return GNode.create("PostfixExpression", v$1, v$g$11);
-        }};
+        yyValue = new Action<Node>() {
+          public Node run(Node v$1) {
+            return GNode.create("PostfixExpression", v$1, v$g$11);
+          }};
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 5.
+    if (0 != (yyFirst & 0x10)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(".")) {
-
-      yyBase   = yyResult.index;
-      yyResult = pWord(yyBase);
-      if (yyResult.hasValue("new")) {
-
-        yyOption1  = yyResult.index;
-        yyOpValue1 = null;
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(".")) {
 
-        yyResult = pTypeArguments(yyOption1);
-        yyError  = yyResult.select(yyError, yyOption1);
-        if (yyResult.hasValue()) {
-          final Node v$el$2 = yyResult.semanticValue();
+        yyBase   = yyResult.index;
+        yyResult = pWord(yyBase);
+        if (yyResult.hasValue("new")) {
 
           yyOption1  = yyResult.index;
-          yyOpValue1 = v$el$2;
-        }
-        { // Start scope for v$g$12.
-          final Node v$g$12 = yyOpValue1;
+          yyOpValue1 = null;
 
-          yyResult = pTypeName(yyOption1);
-          yyError  = yyResult.select(yyError);
+          yyResult = pTypeArguments(yyOption1);
+          yyError  = yyResult.select(yyError, yyOption1);
           if (yyResult.hasValue()) {
-            final Node v$g$13 = yyResult.semanticValue();
+            final Node v$el$2 = yyResult.semanticValue();
 
-            yyResult = pArguments(yyResult.index);
+            yyOption1  = yyResult.index;
+            yyOpValue1 = v$el$2;
+          }
+          { // Start scope for v$g$12.
+            final Node v$g$12 = yyOpValue1;
+
+            yyResult = pTypeName(yyOption1);
             yyError  = yyResult.select(yyError);
             if (yyResult.hasValue()) {
-              final Node v$g$14 = yyResult.semanticValue();
-
-              yyOption1  = yyResult.index;
-              yyOpValue1 = null;
+              final Node v$g$13 = yyResult.semanticValue();
 
-              yyResult = pClassBody(yyOption1);
-              yyError  = yyResult.select(yyError, yyOption1);
+              yyResult = pArguments(yyResult.index);
+              yyError  = yyResult.select(yyError);
               if (yyResult.hasValue()) {
-                final Node v$el$3 = yyResult.semanticValue();
+                final Node v$g$14 = yyResult.semanticValue();
 
                 yyOption1  = yyResult.index;
-                yyOpValue1 = v$el$3;
-              }
-              { // Start scope for v$g$15.
-                final Node v$g$15 = yyOpValue1;
+                yyOpValue1 = null;
+
+                yyResult = pClassBody(yyOption1);
+                yyError  = yyResult.select(yyError, yyOption1);
+                if (yyResult.hasValue()) {
+                  final Node v$el$3 = yyResult.semanticValue();
+
+                  yyOption1  = yyResult.index;
+                  yyOpValue1 = v$el$3;
+                }
+                { // Start scope for v$g$15.
+                  final Node v$g$15 = yyOpValue1;
 
-                yyValue = new Action<Node>() {
-                  public Node run(Node v$1) {
-                    return GNode.create("NewClassExpression", v$1, v$g$12, v$g$13, v$g$14, v$g$15);
-                  }};
+                  yyValue = new Action<Node>() {
+                    public Node run(Node v$1) {
+                      return GNode.create("NewClassExpression", v$1, v$g$12, v$g$13, v$g$14, v$g$15);
+                    }};
 
-                return new SemanticValue(yyValue, yyOption1, yyError);
-              } // End scope for v$g$15.
+                  return new SemanticValue(yyValue, yyOption1, yyError);
+                } // End scope for v$g$15.
+              }
             }
-          }
-        } // End scope for v$g$12.
-      } else {
-        yyError = yyError.select("'new' expected", yyBase);
+          } // End scope for v$g$12.
+        } else {
+          yyError = yyError.select("'new' expected", yyBase);
+        }
       }
     }
 
@@ -5364,7 +6013,7 @@ public final class JavaSevenParser extends ParserBase {
           final Node v$g$4 = yyResult.semanticValue();
 
           yyValue = GNode.create("CallExpression", null, v$g$2, v$g$3, v$g$4);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -5387,7 +6036,7 @@ public final class JavaSevenParser extends ParserBase {
         if (yyResult.hasValue("class")) {
 
           yyValue = GNode.create("ClassLiteralExpression", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
@@ -5410,7 +6059,7 @@ public final class JavaSevenParser extends ParserBase {
         final Node v$g$4 = yyResult.semanticValue();
 
         yyValue = GNode.create("CallExpression", null, null, v$g$3, v$g$4);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -5444,7 +6093,7 @@ public final class JavaSevenParser extends ParserBase {
       if (yyResult.hasValue("this")) {
 
         yyValue = GNode.create("ThisExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       } else {
@@ -5469,7 +6118,7 @@ public final class JavaSevenParser extends ParserBase {
           final Node v$g$4 = yyResult.semanticValue();
 
           yyValue = GNode.create("CallExpression", null, null, v$g$3, v$g$4);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -5482,7 +6131,7 @@ public final class JavaSevenParser extends ParserBase {
       if (yyResult.hasValue("super")) {
 
         yyValue = GNode.create("SuperExpression", null);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       } else {
@@ -5498,7 +6147,7 @@ public final class JavaSevenParser extends ParserBase {
       final String v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.create("PrimaryIdentifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -5547,7 +6196,7 @@ public final class JavaSevenParser extends ParserBase {
               final Node v$g$5 = yyOpValue1;
 
               yyValue = GNode.create("NewClassExpression", null, v$g$2, v$g$3, v$g$4, v$g$5);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return new SemanticValue(yyValue, yyOption1, yyError);
             } // End scope for v$g$5.
@@ -5590,7 +6239,7 @@ public final class JavaSevenParser extends ParserBase {
             final Node v$g$3 = yyOpValue1;
 
             yyValue = GNode.create("NewArrayExpression", v$g$1, v$g$2, v$g$3, null);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return new SemanticValue(yyValue, yyOption1, yyError);
           } // End scope for v$g$3.
@@ -5618,7 +6267,7 @@ public final class JavaSevenParser extends ParserBase {
             final Node v$g$7 = yyResult.semanticValue();
 
             yyValue = GNode.create("NewArrayExpression", v$g$1, null, v$g$6, v$g$7);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           }
@@ -5665,7 +6314,8 @@ public final class JavaSevenParser extends ParserBase {
     Result     yyResult;
     int        yyRepetition1;
     boolean    yyRepeated1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -5673,7 +6323,8 @@ public final class JavaSevenParser extends ParserBase {
 
     yyRepetition1 = yyStart;
     yyRepeated1   = false;
-    yyRepValue1   = Pair.empty();
+    yyRepStart1   = bufferStart();
+    yyRepEnd1   = yyRepStart1;
     while (true) {
 
       yyResult = pConcreteDimension(yyRepetition1);
@@ -5683,17 +6334,18 @@ public final class JavaSevenParser extends ParserBase {
 
         yyRepetition1 = yyResult.index;
         yyRepeated1   = true;
-        yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+        yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
         continue;
       }
       break;
     }
 
     if (yyRepeated1) {
-      final Pair<Node> v$g$1 = yyRepValue1.reverse();
+      final int v$g$1 = yyRepStart1;
+      final int v$g$1$end = yyRepEnd1;
 
-      yyValue = GNode.createFromPair("ConcreteDimensions", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      yyValue = bufferedNode("ConcreteDimensions", v$g$1, v$g$1$end);
+      locate(yyValue, yyStart);
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
     }
@@ -5756,7 +6408,8 @@ public final class JavaSevenParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     int        yyOption1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
@@ -5776,7 +6429,8 @@ public final class JavaSevenParser extends ParserBase {
         final Node v$g$1 = yyResult.semanticValue();
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyBase   = yyRepetition1;
@@ -5789,7 +6443,7 @@ public final class JavaSevenParser extends ParserBase {
               final Node v$el$1 = yyResult.semanticValue();
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
           } else {
@@ -5798,7 +6452,8 @@ public final class JavaSevenParser extends ParserBase {
           break;
         }
         { // Start scope for v$g$2.
-          final Pair<Node> v$g$2 = yyRepValue1.reverse();
+          final int v$g$2 = yyRepStart1;
+          final int v$g$2$end = yyRepEnd1;
 
           yyOption1  = yyRepetition1;
 
@@ -5815,13 +6470,14 @@ public final class JavaSevenParser extends ParserBase {
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue("}")) {
 
-            yyValue = GNode.createFromPair("ArrayInitializer", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
+            yyValue = bufferedNode("ArrayInitializer", v$g$1, v$g$2, v$g$2$end);
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
             yyError = yyError.select("'}' expected", yyBase);
           }
+          releaseBuffer(v$g$2);
         } // End scope for v$g$2.
       }
 
@@ -5843,7 +6499,7 @@ public final class JavaSevenParser extends ParserBase {
       if (yyResult.hasValue("}")) {
 
         yyValue = GNode.create("ArrayInitializer", false);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       } else {
@@ -5868,8 +6524,13 @@ public final class JavaSevenParser extends ParserBase {
   private Result pVariableInitializer(final int yyStart) throws IOException {
     JavaSevenParserColumn yyColumn = (JavaSevenParserColumn)column(yyStart);
     if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fVariableInitializer) 
+    if (null == yyColumn.chunk2.fVariableInitializer) {
       yyColumn.chunk2.fVariableInitializer = pVariableInitializer$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(15, yyColumn.chunk2.fVariableInitializer);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(15, yyColumn.chunk2.fVariableInitializer);
+    }
     return yyColumn.chunk2.fVariableInitializer;
   }
 
@@ -5918,7 +6579,8 @@ public final class JavaSevenParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -5937,7 +6599,8 @@ public final class JavaSevenParser extends ParserBase {
         final Node v$g$1 = yyResult.semanticValue();
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyBase   = yyRepetition1;
@@ -5950,7 +6613,7 @@ public final class JavaSevenParser extends ParserBase {
               final Node v$el$1 = yyResult.semanticValue();
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
           } else {
@@ -5959,19 +6622,21 @@ public final class JavaSevenParser extends ParserBase {
           break;
         }
         { // Start scope for v$g$2.
-          final Pair<Node> v$g$2 = yyRepValue1.reverse();
+          final int v$g$2 = yyRepStart1;
+          final int v$g$2$end = yyRepEnd1;
 
           yyBase   = yyRepetition1;
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue(")")) {
 
-            yyValue = GNode.createFromPair("Arguments", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
+            yyValue = bufferedNode("Arguments", v$g$1, v$g$2, v$g$2$end);
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
             yyError = yyError.select("')' expected", yyBase);
           }
+          releaseBuffer(v$g$2);
         } // End scope for v$g$2.
       }
 
@@ -5982,7 +6647,7 @@ public final class JavaSevenParser extends ParserBase {
       if (yyResult.hasValue(")")) {
 
         yyValue = GNode.create("Arguments", false);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       } else {
@@ -6044,10 +6709,15 @@ public final class JavaSevenParser extends ParserBase {
    */
   private Result pAnnotations(final int yyStart) throws IOException {
     JavaSevenParserColumn yyColumn = (JavaSevenParserColumn)column(yyStart);
-    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fAnnotations) 
-      yyColumn.chunk2.fAnnotations = pAnnotations$1(yyStart);
-    return yyColumn.chunk2.fAnnotations;
+    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
+    if (null == yyColumn.chunk4.fAnnotations) {
+      yyColumn.chunk4.fAnnotations = pAnnotations$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(16, yyColumn.chunk4.fAnnotations);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(16, yyColumn.chunk4.fAnnotations);
+    }
+    return yyColumn.chunk4.fAnnotations;
   }
 
   /** Actually parse xtc.lang.JavaSeven.Annotations. */
@@ -6064,7 +6734,7 @@ public final class JavaSevenParser extends ParserBase {
       final Pair<Node> v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.createFromPair("Annotations", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -6085,8 +6755,13 @@ public final class JavaSevenParser extends ParserBase {
   private Result pAnnotations$$Plus1(final int yyStart) throws IOException {
     JavaSevenParserColumn yyColumn = (JavaSevenParserColumn)column(yyStart);
     if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fAnnotations$$Plus1) 
+    if (null == yyColumn.chunk2.fAnnotations$$Plus1) {
       yyColumn.chunk2.fAnnotations$$Plus1 = pAnnotations$$Plus1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(17, yyColumn.chunk2.fAnnotations$$Plus1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(17, yyColumn.chunk2.fAnnotations$$Plus1);
+    }
     return yyColumn.chunk2.fAnnotations$$Plus1;
   }
 
@@ -6158,7 +6833,7 @@ public final class JavaSevenParser extends ParserBase {
           final Node v$g$2 = yyResult.semanticValue();
 
           yyValue = GNode.create("Annotation", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -6259,7 +6934,8 @@ public final class JavaSevenParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -6271,7 +6947,8 @@ public final class JavaSevenParser extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyBase   = yyRepetition1;
@@ -6284,7 +6961,7 @@ public final class JavaSevenParser extends ParserBase {
             final Node v$el$1 = yyResult.semanticValue();
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
         } else {
@@ -6293,10 +6970,11 @@ public final class JavaSevenParser extends ParserBase {
         break;
       }
       { // Start scope for v$g$2.
-        final Pair<Node> v$g$2 = yyRepValue1.reverse();
+        final int v$g$2 = yyRepStart1;
+        final int v$g$2$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("ElementValuePairs", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("ElementValuePairs", v$g$1, v$g$2, v$g$2$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$2.
@@ -6317,10 +6995,15 @@ public final class JavaSevenParser extends ParserBase {
    */
   private Result pElementValuePair(final int yyStart) throws IOException {
     JavaSevenParserColumn yyColumn = (JavaSevenParserColumn)column(yyStart);
-    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fElementValuePair) 
-      yyColumn.chunk2.fElementValuePair = pElementValuePair$1(yyStart);
-    return yyColumn.chunk2.fElementValuePair;
+    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
+    if (null == yyColumn.chunk4.fElementValuePair) {
+      yyColumn.chunk4.fElementValuePair = pElementValuePair$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(18, yyColumn.chunk4.fElementValuePair);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(18, yyColumn.chunk4.fElementValuePair);
+    }
+    return yyColumn.chunk4.fElementValuePair;
   }
 
   /** Actually parse xtc.lang.JavaSeven.ElementValuePair. */
@@ -6347,7 +7030,7 @@ public final class JavaSevenParser extends ParserBase {
           final Node v$g$2 = yyResult.semanticValue();
 
           yyValue = GNode.create("ElementValuePair", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -6372,8 +7055,13 @@ public final class JavaSevenParser extends ParserBase {
   private Result pElementValue(final int yyStart) throws IOException {
     JavaSevenParserColumn yyColumn = (JavaSevenParserColumn)column(yyStart);
     if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fElementValue) 
+    if (null == yyColumn.chunk2.fElementValue) {
       yyColumn.chunk2.fElementValue = pElementValue$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(19, yyColumn.chunk2.fElementValue);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(19, yyColumn.chunk2.fElementValue);
+    }
     return yyColumn.chunk2.fElementValue;
   }
 
@@ -6383,6 +7071,40 @@ public final class JavaSevenParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '@':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Expression>.
 
     yyResult = pExpression(yyStart);
@@ -6394,23 +7116,27 @@ public final class JavaSevenParser extends ParserBase {
     }
 
     // Alternative <Annotation>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pAnnotation(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pAnnotation(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Array>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pElementArrayInitializer(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pElementArrayInitializer(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -6432,7 +7158,8 @@ public final class JavaSevenParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     int        yyOption1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
@@ -6452,7 +7179,8 @@ public final class JavaSevenParser extends ParserBase {
         final Node v$g$1 = yyResult.semanticValue();
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyBase   = yyRepetition1;
@@ -6465,7 +7193,7 @@ public final class JavaSevenParser extends ParserBase {
               final Node v$el$1 = yyResult.semanticValue();
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
           } else {
@@ -6474,7 +7202,8 @@ public final class JavaSevenParser extends ParserBase {
           break;
         }
         { // Start scope for v$g$2.
-          final Pair<Node> v$g$2 = yyRepValue1.reverse();
+          final int v$g$2 = yyRepStart1;
+          final int v$g$2$end = yyRepEnd1;
 
           yyOption1  = yyRepetition1;
 
@@ -6491,13 +7220,14 @@ public final class JavaSevenParser extends ParserBase {
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue("}")) {
 
-            yyValue = GNode.createFromPair("ArrayInitializer", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
+            yyValue = bufferedNode("ArrayInitializer", v$g$1, v$g$2, v$g$2$end);
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
             yyError = yyError.select("'}' expected", yyBase);
           }
+          releaseBuffer(v$g$2);
         } // End scope for v$g$2.
       }
 
@@ -6519,7 +7249,7 @@ public final class JavaSevenParser extends ParserBase {
       if (yyResult.hasValue("}")) {
 
         yyValue = GNode.create("ArrayInitializer", false);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       } else {
@@ -6545,7 +7275,8 @@ public final class JavaSevenParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -6555,7 +7286,8 @@ public final class JavaSevenParser extends ParserBase {
     if (yyResult.hasValue("{")) {
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyResult = pAnnotationElement(yyRepetition1);
@@ -6564,25 +7296,27 @@ public final class JavaSevenParser extends ParserBase {
           final Node v$el$1 = yyResult.semanticValue();
 
           yyRepetition1 = yyResult.index;
-          yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+          yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
           continue;
         }
         break;
       }
       { // Start scope for v$g$1.
-        final Pair<Node> v$g$1 = yyRepValue1.reverse();
+        final int v$g$1 = yyRepStart1;
+        final int v$g$1$end = yyRepEnd1;
 
         yyBase   = yyRepetition1;
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue("}")) {
 
-          yyValue = GNode.createFromPair("ClassBody", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          yyValue = bufferedNode("ClassBody", v$g$1, v$g$1$end);
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
           yyError = yyError.select("'}' expected", yyBase);
         }
+        releaseBuffer(v$g$1);
       } // End scope for v$g$1.
     }
 
@@ -6660,7 +7394,7 @@ public final class JavaSevenParser extends ParserBase {
                 if (yyResult.hasValue(";")) {
 
                   yyValue = GNode.create("AnnotationMethod", v$g$1, v$g$2, v$g$3, v$g$4);
-                  yyValue.setLocation(location(yyStart));
+                  locate(yyValue, yyStart);
 
                   return yyResult.createValue(yyValue, yyError);
                 } else {
@@ -6687,7 +7421,7 @@ public final class JavaSevenParser extends ParserBase {
           if (yyResult.hasValue(";")) {
 
             yyValue = GNode.create("FieldDeclaration", v$g$1, v$g$2, v$g$3);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
@@ -6753,7 +7487,7 @@ public final class JavaSevenParser extends ParserBase {
                   final Node v$g$6 = yyResult.semanticValue();
 
                   yyValue = GNode.create("ClassDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6);
-                  yyValue.setLocation(location(yyStart));
+                  locate(yyValue, yyStart);
 
                   return yyResult.createValue(yyValue, yyError);
                 }
@@ -6809,7 +7543,7 @@ public final class JavaSevenParser extends ParserBase {
                 final Node v$g$5 = yyResult.semanticValue();
 
                 yyValue = GNode.create("InterfaceDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return yyResult.createValue(yyValue, yyError);
               }
@@ -6891,7 +7625,7 @@ public final class JavaSevenParser extends ParserBase {
                   if (yyResult.hasValue("}")) {
 
                     yyValue = GNode.create("EnumDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
-                    yyValue.setLocation(location(yyStart));
+                    locate(yyValue, yyStart);
 
                     return yyResult.createValue(yyValue, yyError);
                   } else {
@@ -6929,7 +7663,7 @@ public final class JavaSevenParser extends ParserBase {
               final Node v$g$3 = yyResult.semanticValue();
 
               yyValue = GNode.create("AnnotationDeclaration", v$g$1, v$g$2, v$g$3);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -6971,7 +7705,7 @@ public final class JavaSevenParser extends ParserBase {
         final Node v$g$1 = yyResult.semanticValue();
 
         yyValue = GNode.create("DefaultValue", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -6995,7 +7729,8 @@ public final class JavaSevenParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -7007,7 +7742,8 @@ public final class JavaSevenParser extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyBase   = yyRepetition1;
@@ -7020,7 +7756,7 @@ public final class JavaSevenParser extends ParserBase {
             final Node v$el$1 = yyResult.semanticValue();
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
         } else {
@@ -7029,10 +7765,11 @@ public final class JavaSevenParser extends ParserBase {
         break;
       }
       { // Start scope for v$g$2.
-        final Pair<Node> v$g$2 = yyRepValue1.reverse();
+        final int v$g$2 = yyRepStart1;
+        final int v$g$2$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("EnumConstants", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("EnumConstants", v$g$1, v$g$2, v$g$2$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$2.
@@ -7107,7 +7844,7 @@ public final class JavaSevenParser extends ParserBase {
             final Node v$g$4 = yyOpValue1;
 
             yyValue = GNode.create("EnumConstant", v$g$1, v$g$2, v$g$3, v$g$4);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return new SemanticValue(yyValue, yyOption1, yyError);
           } // End scope for v$g$4.
@@ -7131,7 +7868,8 @@ public final class JavaSevenParser extends ParserBase {
   private Result pEnumMembers(final int yyStart) throws IOException {
     Result     yyResult;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -7141,7 +7879,8 @@ public final class JavaSevenParser extends ParserBase {
     if (yyResult.hasValue(";")) {
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyResult = pDeclaration(yyRepetition1);
@@ -7150,16 +7889,17 @@ public final class JavaSevenParser extends ParserBase {
           final Node v$el$1 = yyResult.semanticValue();
 
           yyRepetition1 = yyResult.index;
-          yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+          yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
           continue;
         }
         break;
       }
       { // Start scope for v$g$1.
-        final Pair<Node> v$g$1 = yyRepValue1.reverse();
+        final int v$g$1 = yyRepStart1;
+        final int v$g$1$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("EnumMembers", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("EnumMembers", v$g$1, v$g$1$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$1.
@@ -7185,7 +7925,8 @@ public final class JavaSevenParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     int        yyOption1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
@@ -7201,7 +7942,8 @@ public final class JavaSevenParser extends ParserBase {
         final Node v$g$1 = yyResult.semanticValue();
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyBase   = yyRepetition1;
@@ -7214,7 +7956,7 @@ public final class JavaSevenParser extends ParserBase {
               final Node v$el$1 = yyResult.semanticValue();
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
           } else {
@@ -7223,7 +7965,8 @@ public final class JavaSevenParser extends ParserBase {
           break;
         }
         { // Start scope for v$g$2.
-          final Pair<Node> v$g$2 = yyRepValue1.reverse();
+          final int v$g$2 = yyRepStart1;
+          final int v$g$2$end = yyRepEnd1;
 
           yyOption1  = yyRepetition1;
 
@@ -7240,13 +7983,14 @@ public final class JavaSevenParser extends ParserBase {
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue(")")) {
 
-            yyValue = GNode.createFromPair("ResourceSpecification", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
+            yyValue = bufferedNode("ResourceSpecification", v$g$1, v$g$2, v$g$2$end);
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
             yyError = yyError.select("')' expected", yyBase);
           }
+          releaseBuffer(v$g$2);
         } // End scope for v$g$2.
       }
     }
@@ -7267,10 +8011,15 @@ public final class JavaSevenParser extends ParserBase {
    */
   private Result pResource(final int yyStart) throws IOException {
     JavaSevenParserColumn yyColumn = (JavaSevenParserColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fResource) 
-      yyColumn.chunk3.fResource = pResource$1(yyStart);
-    return yyColumn.chunk3.fResource;
+    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
+    if (null == yyColumn.chunk4.fResource) {
+      yyColumn.chunk4.fResource = pResource$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(20, yyColumn.chunk4.fResource);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(20, yyColumn.chunk4.fResource);
+    }
+    return yyColumn.chunk4.fResource;
   }
 
   /** Actually parse xtc.lang.JavaSeven.Resource. */
@@ -7297,7 +8046,7 @@ public final class JavaSevenParser extends ParserBase {
           final Node v$g$3 = yyResult.semanticValue();
 
           yyValue = GNode.create("FieldDeclaration", v$g$1, v$g$2, v$g$3);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -7330,7 +8079,7 @@ public final class JavaSevenParser extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.create("Declarators", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -7371,7 +8120,7 @@ public final class JavaSevenParser extends ParserBase {
           final Node v$g$3 = yyResult.semanticValue();
 
           yyValue = GNode.create("Declarator", v$g$1, null, v$g$3);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -7397,7 +8146,8 @@ public final class JavaSevenParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -7414,7 +8164,8 @@ public final class JavaSevenParser extends ParserBase {
         final Node v$g$2 = yyResult.semanticValue();
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyBase   = yyRepetition1;
@@ -7427,7 +8178,7 @@ public final class JavaSevenParser extends ParserBase {
               final Node v$el$1 = yyResult.semanticValue();
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
           } else {
@@ -7436,19 +8187,23 @@ public final class JavaSevenParser extends ParserBase {
           break;
         }
         { // Start scope for v$g$3.
-          final Pair<Node> v$g$3 = yyRepValue1.reverse();
+          final int v$g$3 = yyRepStart1;
+          final int v$g$3$end = yyRepEnd1;
 
           yyResult = pIdentifier(yyRepetition1);
           yyError  = yyResult.select(yyError);
           if (yyResult.hasValue()) {
             final String v$g$5 = yyResult.semanticValue();
 
-            yyValue = GNode.create("FormalParameter", v$g$3.size() + 5).
-              add(v$g$1).add(v$g$2).addAll(v$g$3).add(null).add(v$g$5).add(null);
-            yyValue.setLocation(location(yyStart));
+            yyValue = GNode.create("FormalParameter", (v$g$3$end - v$g$3) + 5).
+              add(v$g$1).add(v$g$2);
+            addBuffered(yyValue, v$g$3, v$g$3$end);
+            yyValue.add(null).add(v$g$5).add(null);
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           }
+          releaseBuffer(v$g$3);
         } // End scope for v$g$3.
       }
     }
@@ -7468,10 +8223,15 @@ public final class JavaSevenParser extends ParserBase {
    */
   private Result pResultType(final int yyStart) throws IOException {
     JavaSevenParserColumn yyColumn = (JavaSevenParserColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fResultType) 
-      yyColumn.chunk3.fResultType = pResultType$1(yyStart);
-    return yyColumn.chunk3.fResultType;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fResultType) {
+      yyColumn.chunk1.fResultType = pResultType$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(21, yyColumn.chunk1.fResultType);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(21, yyColumn.chunk1.fResultType);
+    }
+    return yyColumn.chunk1.fResultType;
   }
 
   /** Actually parse xtc.lang.JavaFiveType.ResultType. */
@@ -7524,7 +8284,7 @@ public final class JavaSevenParser extends ParserBase {
     if (yyResult.hasValue("void")) {
 
       yyValue = GNode.create("VoidType", false);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -7545,10 +8305,14 @@ public final class JavaSevenParser extends ParserBase {
    */
   private Result pType(final int yyStart) throws IOException {
     JavaSevenParserColumn yyColumn = (JavaSevenParserColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fType) 
-      yyColumn.chunk3.fType = pType$1(yyStart);
-    return yyColumn.chunk3.fType;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fType) {
+      yyColumn.chunk1.fType = pType$1(yyStart);
+      if (null != yyStatistics) yyStatistics.miss(22, yyColumn.chunk1.fType);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(22, yyColumn.chunk1.fType);
+    }
+    return yyColumn.chunk1.fType;
   }
 
   /** Actually parse xtc.lang.JavaFiveType.Type. */
@@ -7581,7 +8345,7 @@ public final class JavaSevenParser extends ParserBase {
         final Node v$g$2 = yyOpValue1;
 
         yyValue = GNode.create("Type", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyOption1, yyError);
       } // End scope for v$g$2.
@@ -7602,10 +8366,15 @@ public final class JavaSevenParser extends ParserBase {
    */
   private Result pTypeName(final int yyStart) throws IOException {
     JavaSevenParserColumn yyColumn = (JavaSevenParserColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fTypeName) 
-      yyColumn.chunk3.fTypeName = pTypeName$1(yyStart);
-    return yyColumn.chunk3.fTypeName;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fTypeName) {
+      yyColumn.chunk1.fTypeName = pTypeName$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(23, yyColumn.chunk1.fTypeName);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(23, yyColumn.chunk1.fTypeName);
+    }
+    return yyColumn.chunk1.fTypeName;
   }
 
   /** Actually parse xtc.lang.JavaFiveType.TypeName. */
@@ -7649,10 +8418,15 @@ public final class JavaSevenParser extends ParserBase {
    */
   private Result pPrimitiveType(final int yyStart) throws IOException {
     JavaSevenParserColumn yyColumn = (JavaSevenParserColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fPrimitiveType) 
-      yyColumn.chunk3.fPrimitiveType = pPrimitiveType$1(yyStart);
-    return yyColumn.chunk3.fPrimitiveType;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fPrimitiveType) {
+      yyColumn.chunk1.fPrimitiveType = pPrimitiveType$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(24, yyColumn.chunk1.fPrimitiveType);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(24, yyColumn.chunk1.fPrimitiveType);
+    }
+    return yyColumn.chunk1.fPrimitiveType;
   }
 
   /** Actually parse xtc.lang.JavaFiveType.PrimitiveType. */
@@ -7668,7 +8442,7 @@ public final class JavaSevenParser extends ParserBase {
       final String v$g$1 = "byte";
 
       yyValue = GNode.create("PrimitiveType", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -7680,7 +8454,7 @@ public final class JavaSevenParser extends ParserBase {
       final String v$g$2 = "short";
 
       yyValue = GNode.create("PrimitiveType", v$g$2);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -7692,7 +8466,7 @@ public final class JavaSevenParser extends ParserBase {
       final String v$g$3 = "char";
 
       yyValue = GNode.create("PrimitiveType", v$g$3);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -7704,7 +8478,7 @@ public final class JavaSevenParser extends ParserBase {
       final String v$g$4 = "int";
 
       yyValue = GNode.create("PrimitiveType", v$g$4);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -7716,7 +8490,7 @@ public final class JavaSevenParser extends ParserBase {
       final String v$g$5 = "long";
 
       yyValue = GNode.create("PrimitiveType", v$g$5);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -7728,7 +8502,7 @@ public final class JavaSevenParser extends ParserBase {
       final String v$g$6 = "float";
 
       yyValue = GNode.create("PrimitiveType", v$g$6);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -7740,7 +8514,7 @@ public final class JavaSevenParser extends ParserBase {
       final String v$g$7 = "double";
 
       yyValue = GNode.create("PrimitiveType", v$g$7);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -7752,7 +8526,7 @@ public final class JavaSevenParser extends ParserBase {
       final String v$g$8 = "boolean";
 
       yyValue = GNode.create("PrimitiveType", v$g$8);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -7827,8 +8601,13 @@ public final class JavaSevenParser extends ParserBase {
   private Result pDimensions(final int yyStart) throws IOException {
     JavaSevenParserColumn yyColumn = (JavaSevenParserColumn)column(yyStart);
     if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fDimensions) 
+    if (null == yyColumn.chunk3.fDimensions) {
       yyColumn.chunk3.fDimensions = pDimensions$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(25, yyColumn.chunk3.fDimensions);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(25, yyColumn.chunk3.fDimensions);
+    }
     return yyColumn.chunk3.fDimensions;
   }
 
@@ -7846,7 +8625,7 @@ public final class JavaSevenParser extends ParserBase {
       final Pair<String> v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.createFromPair("Dimensions", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -7867,8 +8646,13 @@ public final class JavaSevenParser extends ParserBase {
   private Result pDimensions$$Plus1(final int yyStart) throws IOException {
     JavaSevenParserColumn yyColumn = (JavaSevenParserColumn)column(yyStart);
     if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fDimensions$$Plus1) 
+    if (null == yyColumn.chunk3.fDimensions$$Plus1) {
       yyColumn.chunk3.fDimensions$$Plus1 = pDimensions$$Plus1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(26, yyColumn.chunk3.fDimensions$$Plus1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(26, yyColumn.chunk3.fDimensions$$Plus1);
+    }
     return yyColumn.chunk3.fDimensions$$Plus1;
   }
 
@@ -7929,10 +8713,15 @@ public final class JavaSevenParser extends ParserBase {
    */
   private Result pTypeParameters(final int yyStart) throws IOException {
     JavaSevenParserColumn yyColumn = (JavaSevenParserColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fTypeParameters) 
-      yyColumn.chunk3.fTypeParameters = pTypeParameters$1(yyStart);
-    return yyColumn.chunk3.fTypeParameters;
+    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
+    if (null == yyColumn.chunk4.fTypeParameters) {
+      yyColumn.chunk4.fTypeParameters = pTypeParameters$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(27, yyColumn.chunk4.fTypeParameters);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(27, yyColumn.chunk4.fTypeParameters);
+    }
+    return yyColumn.chunk4.fTypeParameters;
   }
 
   /** Actually parse xtc.lang.JavaFiveType.TypeParameters. */
@@ -7974,7 +8763,7 @@ public final class JavaSevenParser extends ParserBase {
               if (yyResult.hasValue()) {
 
                 yyValue = GNode.createFromPair("TypeParameters", v$g$1, v$g$2);
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return yyResult.createValue(yyValue, yyError);
               }
@@ -8004,10 +8793,16 @@ public final class JavaSevenParser extends ParserBase {
     throws IOException {
 
     JavaSevenParserColumn yyColumn = (JavaSevenParserColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fTypeParameters$$Star1) 
-      yyColumn.chunk3.fTypeParameters$$Star1 = pTypeParameters$$Star1$1(yyStart);
-    return yyColumn.chunk3.fTypeParameters$$Star1;
+    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
+    if (null == yyColumn.chunk4.fTypeParameters$$Star1) {
+      yyColumn.chunk4.fTypeParameters$$Star1 = 
+        pTypeParameters$$Star1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(28, yyColumn.chunk4.fTypeParameters$$Star1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(28, yyColumn.chunk4.fTypeParameters$$Star1);
+    }
+    return yyColumn.chunk4.fTypeParameters$$Star1;
   }
 
   /** Actually parse xtc.lang.JavaSeven.TypeParameters$$Star1. */
@@ -8058,10 +8853,15 @@ public final class JavaSevenParser extends ParserBase {
    */
   private Result pTypeParameter(final int yyStart) throws IOException {
     JavaSevenParserColumn yyColumn = (JavaSevenParserColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fTypeParameter) 
-      yyColumn.chunk3.fTypeParameter = pTypeParameter$1(yyStart);
-    return yyColumn.chunk3.fTypeParameter;
+    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
+    if (null == yyColumn.chunk4.fTypeParameter) {
+      yyColumn.chunk4.fTypeParameter = pTypeParameter$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(29, yyColumn.chunk4.fTypeParameter);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(29, yyColumn.chunk4.fTypeParameter);
+    }
+    return yyColumn.chunk4.fTypeParameter;
   }
 
   /** Actually parse xtc.lang.JavaFiveType.TypeParameter. */
@@ -8102,7 +8902,7 @@ public final class JavaSevenParser extends ParserBase {
         final Node v$g$2 = yyOpValue1;
 
         yyValue = GNode.create("TypeParameter", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyOption1, yyError);
       } // End scope for v$g$2.
@@ -8125,7 +8925,8 @@ public final class JavaSevenParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -8137,7 +8938,8 @@ public final class JavaSevenParser extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyBase   = yyRepetition1;
@@ -8150,7 +8952,7 @@ public final class JavaSevenParser extends ParserBase {
             final Node v$el$1 = yyResult.semanticValue();
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
         } else {
@@ -8159,10 +8961,11 @@ public final class JavaSevenParser extends ParserBase {
         break;
       }
       { // Start scope for v$g$2.
-        final Pair<Node> v$g$2 = yyRepValue1.reverse();
+        final int v$g$2 = yyRepStart1;
+        final int v$g$2$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("Bound", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("Bound", v$g$1, v$g$2, v$g$2$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$2.
@@ -8183,10 +8986,15 @@ public final class JavaSevenParser extends ParserBase {
    */
   private Result pTypeArguments(final int yyStart) throws IOException {
     JavaSevenParserColumn yyColumn = (JavaSevenParserColumn)column(yyStart);
-    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.fTypeArguments) 
-      yyColumn.chunk4.fTypeArguments = pTypeArguments$1(yyStart);
-    return yyColumn.chunk4.fTypeArguments;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fTypeArguments) {
+      yyColumn.chunk1.fTypeArguments = pTypeArguments$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(30, yyColumn.chunk1.fTypeArguments);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(30, yyColumn.chunk1.fTypeArguments);
+    }
+    return yyColumn.chunk1.fTypeArguments;
   }
 
   /** Actually parse xtc.lang.JavaFiveType.TypeArguments. */
@@ -8228,7 +9036,7 @@ public final class JavaSevenParser extends ParserBase {
               if (yyResult.hasValue()) {
 
                 yyValue = GNode.createFromPair("TypeArguments", v$g$1, v$g$2);
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return yyResult.createValue(yyValue, yyError);
               }
@@ -8257,8 +9065,14 @@ public final class JavaSevenParser extends ParserBase {
   private Result pTypeArguments$$Star1(final int yyStart) throws IOException {
     JavaSevenParserColumn yyColumn = (JavaSevenParserColumn)column(yyStart);
     if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.fTypeArguments$$Star1) 
-      yyColumn.chunk4.fTypeArguments$$Star1 = pTypeArguments$$Star1$1(yyStart);
+    if (null == yyColumn.chunk4.fTypeArguments$$Star1) {
+      yyColumn.chunk4.fTypeArguments$$Star1 = 
+        pTypeArguments$$Star1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(31, yyColumn.chunk4.fTypeArguments$$Star1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(31, yyColumn.chunk4.fTypeArguments$$Star1);
+    }
     return yyColumn.chunk4.fTypeArguments$$Star1;
   }
 
@@ -8311,8 +9125,13 @@ public final class JavaSevenParser extends ParserBase {
   private Result pTypeArgument(final int yyStart) throws IOException {
     JavaSevenParserColumn yyColumn = (JavaSevenParserColumn)column(yyStart);
     if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.fTypeArgument) 
+    if (null == yyColumn.chunk4.fTypeArgument) {
       yyColumn.chunk4.fTypeArgument = pTypeArgument$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(32, yyColumn.chunk4.fTypeArgument);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(32, yyColumn.chunk4.fTypeArgument);
+    }
     return yyColumn.chunk4.fTypeArgument;
   }
 
@@ -8382,7 +9201,7 @@ public final class JavaSevenParser extends ParserBase {
         final Node v$g$1 = yyOpValue1;
 
         yyValue = GNode.create("Wildcard", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyOption1, yyError);
       } // End scope for v$g$1.
@@ -8419,7 +9238,7 @@ public final class JavaSevenParser extends ParserBase {
         final Node v$g$2 = yyResult.semanticValue();
 
         yyValue = GNode.create("WildcardBound", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -8437,7 +9256,7 @@ public final class JavaSevenParser extends ParserBase {
         final Node v$g$4 = yyResult.semanticValue();
 
         yyValue = GNode.create("WildcardBound", v$g$3, v$g$4);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -8461,7 +9280,8 @@ public final class JavaSevenParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -8473,7 +9293,8 @@ public final class JavaSevenParser extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyBase   = yyRepetition1;
@@ -8486,7 +9307,7 @@ public final class JavaSevenParser extends ParserBase {
             final Node v$el$1 = yyResult.semanticValue();
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
         } else {
@@ -8495,10 +9316,11 @@ public final class JavaSevenParser extends ParserBase {
         break;
       }
       { // Start scope for v$g$2.
-        final Pair<Node> v$g$2 = yyRepValue1.reverse();
+        final int v$g$2 = yyRepStart1;
+        final int v$g$2$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("InstantiatedType", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("InstantiatedType", v$g$1, v$g$2, v$g$2$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$2.
@@ -8519,10 +9341,15 @@ public final class JavaSevenParser extends ParserBase {
    */
   private Result pTypeInstantiation(final int yyStart) throws IOException {
     JavaSevenParserColumn yyColumn = (JavaSevenParserColumn)column(yyStart);
-    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.fTypeInstantiation) 
-      yyColumn.chunk4.fTypeInstantiation = pTypeInstantiation$1(yyStart);
-    return yyColumn.chunk4.fTypeInstantiation;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fTypeInstantiation) {
+      yyColumn.chunk1.fTypeInstantiation = pTypeInstantiation$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(33, yyColumn.chunk1.fTypeInstantiation);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(33, yyColumn.chunk1.fTypeInstantiation);
+    }
+    return yyColumn.chunk1.fTypeInstantiation;
   }
 
   /** Actually parse xtc.lang.JavaFiveType.TypeInstantiation. */
@@ -8555,7 +9382,7 @@ public final class JavaSevenParser extends ParserBase {
         final Node v$g$2 = yyOpValue1;
 
         yyValue = GNode.create("TypeInstantiation", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyOption1, yyError);
       } // End scope for v$g$2.
@@ -8579,63 +9406,102 @@ public final class JavaSevenParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
-    // Alternative <FloatingPoint>.
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '\"':
+      yyFirst = 0x8;
+      break;
 
-    yyResult = pFloatingPointLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+    case '\'':
+      yyFirst = 0x4;
+      break;
 
-      yyResult = pSpacing(yyResult.index);
+    case '.':
+      yyFirst = 0x1;
+      break;
+
+    case '0':
+    case '1':
+    case '2':
+    case '3':
+    case '4':
+    case '5':
+    case '6':
+    case '7':
+    case '8':
+    case '9':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
+    // Alternative <FloatingPoint>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
+
+      yyResult = pFloatingPointLiteral(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-        return yyResult.createValue(yyValue, yyError);
+        yyResult = pSpacing(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative <Integer>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pIntegerLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
-
-      yyResult = pSpacing(yyResult.index);
+      yyResult = pIntegerLiteral(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-        return yyResult.createValue(yyValue, yyError);
+        yyResult = pSpacing(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative <Character>.
+    if ((0 != (yyFirst & 0x4)) || (yyError.index < yyStart)) {
 
-    yyResult = pCharacterLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
-
-      yyResult = pSpacing(yyResult.index);
+      yyResult = pCharacterLiteral(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-        return yyResult.createValue(yyValue, yyError);
+        yyResult = pSpacing(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative <String>.
+    if ((0 != (yyFirst & 0x8)) || (yyError.index < yyStart)) {
 
-    yyResult = pStringLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
-
-      yyResult = pSpacing(yyResult.index);
+      yyResult = pStringLiteral(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-        return yyResult.createValue(yyValue, yyError);
+        yyResult = pSpacing(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
@@ -8646,7 +9512,7 @@ public final class JavaSevenParser extends ParserBase {
       final String v$g$1 = "true";
 
       yyValue = GNode.create("BooleanLiteral", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -8658,7 +9524,7 @@ public final class JavaSevenParser extends ParserBase {
       final String v$g$2 = "false";
 
       yyValue = GNode.create("BooleanLiteral", v$g$2);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -8669,7 +9535,7 @@ public final class JavaSevenParser extends ParserBase {
     if (yyResult.hasValue("null")) {
 
       yyValue = GNode.create("NullLiteral", false);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -8693,56 +9559,86 @@ public final class JavaSevenParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '0':
+      yyFirst = 0xf;
+      break;
+
+    case '1':
+    case '2':
+    case '3':
+    case '4':
+    case '5':
+    case '6':
+    case '7':
+    case '8':
+    case '9':
+      yyFirst = 0x8;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Hex>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pHexLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final String v$g$1 = yyResult.semanticValue();
+      yyResult = pHexLiteral(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final String v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerLiteral", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("IntegerLiteral", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Binary>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pBinaryLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final String v$g$2 = yyResult.semanticValue();
+      yyResult = pBinaryLiteral(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final String v$g$2 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerLiteral", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("IntegerLiteral", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Octal>.
+    if ((0 != (yyFirst & 0x4)) || (yyError.index < yyStart)) {
 
-    yyResult = pOctalLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final String v$g$3 = yyResult.semanticValue();
+      yyResult = pOctalLiteral(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final String v$g$3 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerLiteral", v$g$3);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("IntegerLiteral", v$g$3);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Decimal>.
+    if ((0 != (yyFirst & 0x8)) || (yyError.index < yyStart)) {
 
-    yyResult = pDecimalLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final String v$g$4 = yyResult.semanticValue();
+      yyResult = pDecimalLiteral(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final String v$g$4 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerLiteral", v$g$4);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("IntegerLiteral", v$g$4);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -9233,17 +10129,11 @@ public final class JavaSevenParser extends ParserBase {
             yyC = character(yyRepetition1);
             if (-1 != yyC) {
               yyIndex = yyRepetition1 + 1;
-              if ((('0' <= yyC) && (yyC <= '9')) ||
-                  (('A' <= yyC) && (yyC <= 'F')) ||
-                  ('_' == yyC) ||
-                  (('a' <= yyC) && (yyC <= 'f'))) {
+              if ((yyC < 128) && (0 != (yyClass1[yyC >> 6] & (1L << yyC)))) {
 
                 yyC = character(yyIndex);
                 if (-1 != yyC) {
-                  if ((('0' <= yyC) && (yyC <= '9')) ||
-                      (('A' <= yyC) && (yyC <= 'F')) ||
-                      ('_' == yyC) ||
-                      (('a' <= yyC) && (yyC <= 'f'))) {
+                  if ((yyC < 128) && (0 != (yyClass1[yyC >> 6] & (1L << yyC)))) {
 
                     yyRepetition1 = yyIndex;
                     continue;
@@ -9599,7 +10489,7 @@ public final class JavaSevenParser extends ParserBase {
       final String v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.create("FloatingPointLiteral", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -9625,119 +10515,182 @@ public final class JavaSevenParser extends ParserBase {
     String     yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '.':
+      yyFirst = 0x2;
+      break;
+
+    case '0':
+    case '1':
+    case '2':
+    case '3':
+    case '4':
+    case '5':
+    case '6':
+    case '7':
+    case '8':
+    case '9':
+      yyFirst = 0x5;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pDigits(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
+      yyResult = pDigits(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
 
-      yyC = character(yyResult.index);
-      if ('.' == yyC) {
-        yyIndex = yyResult.index + 1;
+        yyC = character(yyResult.index);
+        if ('.' == yyC) {
+          yyIndex = yyResult.index + 1;
 
-        yyOption1  = yyIndex;
+          yyOption1  = yyIndex;
 
-        yyResult = pDigits(yyOption1);
-        yyError  = yyResult.select(yyError, yyOption1);
-        if (yyResult.hasValue()) {
+          yyResult = pDigits(yyOption1);
+          yyError  = yyResult.select(yyError, yyOption1);
+          if (yyResult.hasValue()) {
 
-          yyOption1  = yyResult.index;
-        }
+            yyOption1  = yyResult.index;
+          }
 
 
-        yyResult = pExponent(yyOption1);
-        yyError  = yyResult.select(yyError, yyOption1);
-        if (yyResult.hasValue()) {
+          yyResult = pExponent(yyOption1);
+          yyError  = yyResult.select(yyError, yyOption1);
+          if (yyResult.hasValue()) {
 
-          yyOption1  = yyResult.index;
-        }
+            yyOption1  = yyResult.index;
+          }
 
 
-        yyC = character(yyOption1);
-        if (-1 != yyC) {
-          yyIndex = yyOption1 + 1;
+          yyC = character(yyOption1);
+          if (-1 != yyC) {
+            yyIndex = yyOption1 + 1;
 
-          switch (yyC) {
-          case 'D':
-          case 'F':
-          case 'd':
-          case 'f':
-            {
-              yyOption1  = yyIndex;
-            }
-            break;
+            switch (yyC) {
+            case 'D':
+            case 'F':
+            case 'd':
+            case 'f':
+              {
+                yyOption1  = yyIndex;
+              }
+              break;
 
-          default:
-            /* No match. */
+            default:
+              /* No match. */
+            }
           }
-        }
 
-        yyValue = difference(yyStart, yyOption1);
+          yyValue = difference(yyStart, yyOption1);
 
-        return new SemanticValue(yyValue, yyOption1, yyError);
+          return new SemanticValue(yyValue, yyOption1, yyError);
+        }
       }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyC = character(yyStart);
-    if ('.' == yyC) {
-      yyIndex = yyStart + 1;
-
-      yyResult = pDigits(yyIndex);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-
-        yyOption1  = yyResult.index;
+      yyC = character(yyStart);
+      if ('.' == yyC) {
+        yyIndex = yyStart + 1;
 
-        yyResult = pExponent(yyOption1);
-        yyError  = yyResult.select(yyError, yyOption1);
+        yyResult = pDigits(yyIndex);
+        yyError  = yyResult.select(yyError);
         if (yyResult.hasValue()) {
 
           yyOption1  = yyResult.index;
-        }
 
+          yyResult = pExponent(yyOption1);
+          yyError  = yyResult.select(yyError, yyOption1);
+          if (yyResult.hasValue()) {
 
-        yyC = character(yyOption1);
-        if (-1 != yyC) {
-          yyIndex = yyOption1 + 1;
+            yyOption1  = yyResult.index;
+          }
 
-          switch (yyC) {
-          case 'D':
-          case 'F':
-          case 'd':
-          case 'f':
-            {
-              yyOption1  = yyIndex;
-            }
-            break;
 
-          default:
-            /* No match. */
+          yyC = character(yyOption1);
+          if (-1 != yyC) {
+            yyIndex = yyOption1 + 1;
+
+            switch (yyC) {
+            case 'D':
+            case 'F':
+            case 'd':
+            case 'f':
+              {
+                yyOption1  = yyIndex;
+              }
+              break;
+
+            default:
+              /* No match. */
+            }
           }
-        }
 
-        yyValue = difference(yyStart, yyOption1);
+          yyValue = difference(yyStart, yyOption1);
 
-        return new SemanticValue(yyValue, yyOption1, yyError);
+          return new SemanticValue(yyValue, yyOption1, yyError);
+        }
       }
     }
 
     // Alternative 3.
+    if ((0 != (yyFirst & 0x4)) || (yyError.index < yyStart)) {
 
-    yyResult = pDigits(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
+      yyResult = pDigits(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
 
-      final int yyChoice1 = yyResult.index;
+        final int yyChoice1 = yyResult.index;
 
-      // Nested alternative 1.
+        // Nested alternative 1.
 
-      yyResult = pExponent(yyChoice1);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
+        yyResult = pExponent(yyChoice1);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
 
-        yyOption1  = yyResult.index;
+          yyOption1  = yyResult.index;
+
+          yyC = character(yyOption1);
+          if (-1 != yyC) {
+            yyIndex = yyOption1 + 1;
+
+            switch (yyC) {
+            case 'D':
+            case 'F':
+            case 'd':
+            case 'f':
+              {
+                yyOption1  = yyIndex;
+              }
+              break;
+
+            default:
+              /* No match. */
+            }
+          }
+
+          yyValue = difference(yyStart, yyOption1);
+
+          return new SemanticValue(yyValue, yyOption1, yyError);
+        }
+
+        // Nested alternative 2.
+
+        yyOption1  = yyChoice1;
+
+        yyResult = pExponent(yyOption1);
+        yyError  = yyResult.select(yyError, yyOption1);
+        if (yyResult.hasValue()) {
+
+          yyOption1  = yyResult.index;
+        }
 
         yyC = character(yyOption1);
         if (-1 != yyC) {
@@ -9749,49 +10702,15 @@ public final class JavaSevenParser extends ParserBase {
           case 'd':
           case 'f':
             {
-              yyOption1  = yyIndex;
+              yyValue = difference(yyStart, yyIndex);
+
+              return new SemanticValue(yyValue, yyIndex, yyError);
             }
-            break;
 
           default:
             /* No match. */
           }
         }
-
-        yyValue = difference(yyStart, yyOption1);
-
-        return new SemanticValue(yyValue, yyOption1, yyError);
-      }
-
-      // Nested alternative 2.
-
-      yyOption1  = yyChoice1;
-
-      yyResult = pExponent(yyOption1);
-      yyError  = yyResult.select(yyError, yyOption1);
-      if (yyResult.hasValue()) {
-
-        yyOption1  = yyResult.index;
-      }
-
-      yyC = character(yyOption1);
-      if (-1 != yyC) {
-        yyIndex = yyOption1 + 1;
-
-        switch (yyC) {
-        case 'D':
-        case 'F':
-        case 'd':
-        case 'f':
-          {
-            yyValue = difference(yyStart, yyIndex);
-
-            return new SemanticValue(yyValue, yyIndex, yyError);
-          }
-
-        default:
-          /* No match. */
-        }
       }
     }
 
@@ -9889,7 +10808,7 @@ public final class JavaSevenParser extends ParserBase {
       final String v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.create("CharacterLiteral", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -9920,7 +10839,7 @@ public final class JavaSevenParser extends ParserBase {
       final String v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.create("StringLiteral", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -10919,10 +11838,15 @@ public final class JavaSevenParser extends ParserBase {
    */
   private Result pQualifiedIdentifier(final int yyStart) throws IOException {
     JavaSevenParserColumn yyColumn = (JavaSevenParserColumn)column(yyStart);
-    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.fQualifiedIdentifier) 
-      yyColumn.chunk4.fQualifiedIdentifier = pQualifiedIdentifier$1(yyStart);
-    return yyColumn.chunk4.fQualifiedIdentifier;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fQualifiedIdentifier) {
+      yyColumn.chunk1.fQualifiedIdentifier = pQualifiedIdentifier$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(34, yyColumn.chunk1.fQualifiedIdentifier);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(34, yyColumn.chunk1.fQualifiedIdentifier);
+    }
+    return yyColumn.chunk1.fQualifiedIdentifier;
   }
 
   /** Actually parse xtc.lang.JavaFiveIdentifier.QualifiedIdentifier. */
@@ -10946,7 +11870,7 @@ public final class JavaSevenParser extends ParserBase {
         final Pair<String> v$g$2 = yyResult.semanticValue();
 
         yyValue = GNode.createFromPair("QualifiedIdentifier", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -10971,8 +11895,14 @@ public final class JavaSevenParser extends ParserBase {
 
     JavaSevenParserColumn yyColumn = (JavaSevenParserColumn)column(yyStart);
     if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.fQualifiedIdentifier$$Star1) 
-      yyColumn.chunk4.fQualifiedIdentifier$$Star1 = pQualifiedIdentifier$$Star1$1(yyStart);
+    if (null == yyColumn.chunk4.fQualifiedIdentifier$$Star1) {
+      yyColumn.chunk4.fQualifiedIdentifier$$Star1 = 
+        pQualifiedIdentifier$$Star1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(35, yyColumn.chunk4.fQualifiedIdentifier$$Star1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(35, yyColumn.chunk4.fQualifiedIdentifier$$Star1);
+    }
     return yyColumn.chunk4.fQualifiedIdentifier$$Star1;
   }
 
@@ -11024,10 +11954,15 @@ public final class JavaSevenParser extends ParserBase {
    */
   private Result pIdentifier(final int yyStart) throws IOException {
     JavaSevenParserColumn yyColumn = (JavaSevenParserColumn)column(yyStart);
-    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.fIdentifier) 
-      yyColumn.chunk4.fIdentifier = pIdentifier$1(yyStart);
-    return yyColumn.chunk4.fIdentifier;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fIdentifier) {
+      yyColumn.chunk1.fIdentifier = pIdentifier$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(36, yyColumn.chunk1.fIdentifier);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(36, yyColumn.chunk1.fIdentifier);
+    }
+    return yyColumn.chunk1.fIdentifier;
   }
 
   /** Actually parse xtc.lang.JavaFiveIdentifier.Identifier. */
@@ -11065,10 +12000,14 @@ public final class JavaSevenParser extends ParserBase {
    */
   private Result pWord(final int yyStart) throws IOException {
     JavaSevenParserColumn yyColumn = (JavaSevenParserColumn)column(yyStart);
-    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.fWord) 
-      yyColumn.chunk4.fWord = pWord$1(yyStart);
-    return yyColumn.chunk4.fWord;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fWord) {
+      yyColumn.chunk1.fWord = pWord$1(yyStart);
+      if (null != yyStatistics) yyStatistics.miss(37, yyColumn.chunk1.fWord);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(37, yyColumn.chunk1.fWord);
+    }
+    return yyColumn.chunk1.fWord;
   }
 
   /** Actually parse xtc.lang.JavaFiveIdentifier.Word. */
@@ -11160,10 +12099,15 @@ public final class JavaSevenParser extends ParserBase {
    */
   private Result pSymbol(final int yyStart) throws IOException {
     JavaSevenParserColumn yyColumn = (JavaSevenParserColumn)column(yyStart);
-    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.fSymbol) 
-      yyColumn.chunk4.fSymbol = pSymbol$1(yyStart);
-    return yyColumn.chunk4.fSymbol;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fSymbol) {
+      yyColumn.chunk1.fSymbol = pSymbol$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(38, yyColumn.chunk1.fSymbol);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(38, yyColumn.chunk1.fSymbol);
+    }
+    return yyColumn.chunk1.fSymbol;
   }
 
   /** Actually parse xtc.lang.JavaFiveSymbol.Symbol. */
@@ -11919,28 +12863,7 @@ public final class JavaSevenParser extends ParserBase {
 
               case '/':
                 {
-                  yyRepetition2 = yyIndex;
-                  while (true) {
-
-                    yyC = character(yyRepetition2);
-                    if (-1 != yyC) {
-                      yyIndex = yyRepetition2 + 1;
-
-                      switch (yyC) {
-                      case '\n':
-                      case '\r':
-                        /* No match. */
-                        break;
-
-                      default:
-                        {
-                          yyRepetition2 = yyIndex;
-                          continue;
-                        }
-                      }
-                    }
-                    break;
-                  }
+                  yyRepetition2 = scan(yyIndex, 0xffffffffffffdbffL, 0xffffffffffffffffL, true);
 
                   final int yyChoice2 = yyRepetition2;
 
@@ -12053,6 +12976,11 @@ public final class JavaSevenParser extends ParserBase {
 
   // =========================================================================
 
+  /** The bit map for a character class. */
+  private static final long[] yyClass1 = { 0x3ff000000000000L, 0x7e8000007eL };
+
+  // =========================================================================
+
   static {
     add(JAVA_KEYWORDS, new String[] {
       "abstract",  "continue",  "for",         "new",        "switch",
@@ -1,8 +1,8 @@
 // ===========================================================================
 // This file has been generated by
-// Rats! Parser Generator, version 2.1.0,
-// (C) 2004-2011 Robert Grimm,
-// on Friday, August 5, 2011 at 9:37:07 AM.
+// Rats! Parser Generator, version 2.3.1,
+// (C) 2004-2012 Robert Grimm,
+// on Sunday, October 18, 2026 at 7:30:40 PM.
 // Edit at your own risk.
 // ===========================================================================
 
@@ -33,7 +33,7 @@ import xtc.parser.ParseError;
  * Packrat parser for grammar <code>xtc.lang.JavaSeven</code>.
  *
  * <p />This class has been generated by the <i>Rats!</i> parser
- * generator, version 2.1.0, (C) 2004-2011 Robert Grimm.
+ * generator, version 2.3.1, (C) 2004-2012 Robert Grimm.
  */
 public final class JavaSevenReader extends ParserBase {
 
@@ -44,53 +44,100 @@ public final class JavaSevenReader extends ParserBase {
 
   /** Chunk 1 of memoized results. */
   static final class Chunk1 {
-    Result fModifiers;
-    Result fFormalParameters;
-    Result fDeclarators;
-    Result fDeclarators$$Star1;
-    Result fImplementation;
-    Result fImplementation$$Star1;
-    Result fBlock;
-    Result fParExpression;
-    Result fCatchClause;
-    Result fExpression;
+    Result fWord;
+    Result fIdentifier;
+    Result fTypeInstantiation;
+    Result fQualifiedIdentifier;
+    Result fPrimitiveType;
+    Result fTypeName;
+    Result fType;
+    Result fSymbol;
+    Result fResultType;
+    Result fTypeArguments;
+
+    void clear() {
+      fWord = null;
+      fIdentifier = null;
+      fTypeInstantiation = null;
+      fQualifiedIdentifier = null;
+      fPrimitiveType = null;
+      fTypeName = null;
+      fType = null;
+      fSymbol = null;
+      fResultType = null;
+      fTypeArguments = null;
+    }
   }
 
   /** Chunk 2 of memoized results. */
   static final class Chunk2 {
-    Result fConditionalExpression;
-    Result fLogicalOrExpression;
     Result fRelationalExpression;
+    Result fLogicalOrExpression;
+    Result fConditionalExpression;
+    Result fExpression;
     Result fVariableInitializer;
-    Result fAnnotations;
-    Result fAnnotations$$Plus1;
-    Result fElementValuePair;
     Result fElementValue;
-    Result fResource;
-    Result fResultType;
+    Result fAnnotations$$Plus1;
+    Result fAnnotations;
+    Result fDimensions$$Plus1;
+    Result fDimensions;
+
+    void clear() {
+      fRelationalExpression = null;
+      fLogicalOrExpression = null;
+      fConditionalExpression = null;
+      fExpression = null;
+      fVariableInitializer = null;
+      fElementValue = null;
+      fAnnotations$$Plus1 = null;
+      fAnnotations = null;
+      fDimensions$$Plus1 = null;
+      fDimensions = null;
+    }
   }
 
   /** Chunk 3 of memoized results. */
   static final class Chunk3 {
-    Result fType;
-    Result fTypeName;
-    Result fPrimitiveType;
-    Result fDimensions;
-    Result fDimensions$$Plus1;
-    Result fTypeParameters;
-    Result fTypeParameter;
-    Result fTypeArguments;
-    Result fTypeArgument;
-    Result fTypeInstantiation;
+    Result fModifiers;
+    Result fFormalParameters;
+    Result fDeclarators;
+    Result fDeclarators$$Star1;
+    Result fImplementation;
+    Result fImplementation$$Star1;
+    Result fBlock;
+    Result fParExpression;
+    Result fCatchClause;
+    Result fElementValuePair;
+
+    void clear() {
+      fModifiers = null;
+      fFormalParameters = null;
+      fDeclarators = null;
+      fDeclarators$$Star1 = null;
+      fImplementation = null;
+      fImplementation$$Star1 = null;
+      fBlock = null;
+      fParExpression = null;
+      fCatchClause = null;
+      fElementValuePair = null;
+    }
   }
 
   /** Chunk 4 of memoized results. */
   static final class Chunk4 {
-    Result fQualifiedIdentifier;
+    Result fResource;
+    Result fTypeParameters;
+    Result fTypeParameter;
+    Result fTypeArgument;
     Result fQualifiedIdentifier$$Star1;
-    Result fIdentifier;
-    Result fWord;
-    Result fSymbol;
+
+    void clear() {
+      fResource = null;
+      fTypeParameters = null;
+      fTypeParameter = null;
+      fTypeArgument = null;
+      fQualifiedIdentifier$$Star1 = null;
+    }
   }
 
   // =========================================================================
@@ -101,6 +148,14 @@ public final class JavaSevenReader extends ParserBase {
     Chunk2 chunk2;
     Chunk3 chunk3;
     Chunk4 chunk4;
+
+    protected boolean clear() {
+      if (null != chunk1) chunk1.clear();
+      if (null != chunk2) chunk2.clear();
+      if (null != chunk3) chunk3.clear();
+      if (null != chunk4) chunk4.clear();
+      return true;
+    }
   }
 
   // =========================================================================
@@ -134,6 +189,51 @@ public final class JavaSevenReader extends ParserBase {
 
   // =========================================================================
 
+  /** The names of the memoized productions. */
+  private static final String[] yyProductions = {
+    "xtc.lang.JavaSeven.Modifiers",
+    "xtc.lang.JavaSeven.FormalParameters",
+    "xtc.lang.JavaSeven.Declarators",
+    "xtc.lang.JavaSeven.Declarators$$Star1",
+    "xtc.lang.JavaSeven.Implementation",
+    "xtc.lang.JavaSeven.Implementation$$Star1",
+    "xtc.lang.JavaSeven.Block",
+    "xtc.lang.JavaSeven.ParExpression",
+    "xtc.lang.JavaSeven.CatchClause",
+    "xtc.lang.JavaSeven.Expression",
+    "xtc.lang.JavaSeven.ConditionalExpression",
+    "xtc.lang.JavaSeven.LogicalOrExpression",
+    "xtc.lang.JavaSeven.RelationalExpression",
+    "xtc.lang.JavaSeven.VariableInitializer",
+    "xtc.lang.JavaSeven.Annotations",
+    "xtc.lang.JavaSeven.Annotations$$Plus1",
+    "xtc.lang.JavaSeven.ElementValuePair",
+    "xtc.lang.JavaSeven.ElementValue",
+    "xtc.lang.JavaSeven.Resource",
+    "xtc.lang.JavaFiveType.ResultType",
+    "xtc.lang.JavaFiveType.Type",
+    "xtc.lang.JavaFiveType.TypeName",
+    "xtc.lang.JavaFiveType.PrimitiveType",
+    "xtc.lang.JavaFiveType.Dimensions",
+    "xtc.lang.JavaSeven.Dimensions$$Plus1",
+    "xtc.lang.JavaFiveType.TypeParameters",
+    "xtc.lang.JavaFiveType.TypeParameter",
+    "xtc.lang.JavaFiveType.TypeArguments",
+    "xtc.lang.JavaFiveType.TypeArgument",
+    "xtc.lang.JavaFiveType.TypeInstantiation",
+    "xtc.lang.JavaFiveIdentifier.QualifiedIdentifier",
+    "xtc.lang.JavaSeven.QualifiedIdentifier$$Star1",
+    "xtc.lang.JavaFiveIdentifier.Identifier",
+    "xtc.lang.JavaFiveIdentifier.Word",
+    "xtc.lang.JavaFiveSymbol.Symbol",
+  };
+
+  protected String[] productions() {
+    return yyProductions;
+  }
+
+  // =========================================================================
+
   /**
    * Parse nonterminal xtc.lang.JavaSeven.CompilationUnit.
    *
@@ -200,7 +300,8 @@ public final class JavaSevenReader extends ParserBase {
 
     Result     yyResult;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     int        yyOption1;
     Node       yyOpValue1;
     Node       yyValue;
@@ -229,7 +330,8 @@ public final class JavaSevenReader extends ParserBase {
         final Node v$g$1 = Formatting.before1(v$pt$1, v$pt$2);
 
         yyRepetition1 = yyOption1;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyResult = pImportDeclaration(yyRepetition1);
@@ -238,15 +340,17 @@ public final class JavaSevenReader extends ParserBase {
             final Node v$el$2 = yyResult.semanticValue();
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$2, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$2);
             continue;
           }
           break;
         }
         { // Start scope for v$g$2.
-          final Pair<Node> v$g$2 = yyRepValue1.reverse();
+          final int v$g$2 = yyRepStart1;
+          final int v$g$2$end = yyRepEnd1;
 
-          yyRepValue1   = Pair.empty();
+          yyRepStart1   = bufferStart();
+          yyRepEnd1   = yyRepStart1;
           while (true) {
 
             yyResult = pDeclaration(yyRepetition1);
@@ -255,17 +359,20 @@ public final class JavaSevenReader extends ParserBase {
               final Node v$el$3 = yyResult.semanticValue();
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$3, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$3);
               continue;
             }
             break;
           }
           { // Start scope for v$g$3.
-            final Pair<Node> v$g$3 = yyRepValue1.reverse();
+            final int v$g$3 = yyRepStart1;
+            final int v$g$3$end = yyRepEnd1;
 
-            yyValue = GNode.create("CompilationUnit", v$g$2.size() + v$g$3.size() + 1).
-              add(v$g$1).addAll(v$g$2).addAll(v$g$3);
-            yyValue.setLocation(location(yyStart));
+            yyValue = GNode.create("CompilationUnit", (v$g$2$end - v$g$2) + (v$g$3$end - v$g$3) + 1).
+              add(v$g$1);
+            addBuffered(yyValue, v$g$2, v$g$2$end);
+            addBuffered(yyValue, v$g$3, v$g$3$end);
+            locate(yyValue, yyStart);
 
             return new SemanticValue(yyValue, yyRepetition1, yyError);
           } // End scope for v$g$3.
@@ -330,7 +437,7 @@ public final class JavaSevenReader extends ParserBase {
             final Node v$g$2 = Formatting.after1(v$pt$4, v$pt$3);
 
             yyValue = GNode.create("PackageDeclaration", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
@@ -415,7 +522,7 @@ public final class JavaSevenReader extends ParserBase {
               final Node v$g$3 = Formatting.after1(v$pt$4, v$pt$3);
 
               yyValue = GNode.create("ImportDeclaration", v$g$1, v$g$2, v$g$3);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             } else {
@@ -482,10 +589,15 @@ public final class JavaSevenReader extends ParserBase {
    */
   private Result pModifiers(final int yyStart) throws IOException {
     JavaSevenReaderColumn yyColumn = (JavaSevenReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fModifiers) 
-      yyColumn.chunk1.fModifiers = pModifiers$1(yyStart);
-    return yyColumn.chunk1.fModifiers;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fModifiers) {
+      yyColumn.chunk3.fModifiers = pModifiers$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(0, yyColumn.chunk3.fModifiers);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(0, yyColumn.chunk3.fModifiers);
+    }
+    return yyColumn.chunk3.fModifiers;
   }
 
   /** Actually parse xtc.lang.JavaSeven.Modifiers. */
@@ -502,7 +614,7 @@ public final class JavaSevenReader extends ParserBase {
       final Pair<Node> v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.createFromPair("Modifiers", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -583,7 +695,7 @@ public final class JavaSevenReader extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.create("Modifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -596,7 +708,7 @@ public final class JavaSevenReader extends ParserBase {
       final Node v$g$2 = yyResult.semanticValue();
 
       yyValue = GNode.create("Modifier", v$g$2);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -609,7 +721,7 @@ public final class JavaSevenReader extends ParserBase {
       final Node v$g$3 = yyResult.semanticValue();
 
       yyValue = GNode.create("Modifier", v$g$3);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -622,7 +734,7 @@ public final class JavaSevenReader extends ParserBase {
       final Node v$g$4 = yyResult.semanticValue();
 
       yyValue = GNode.create("Modifier", v$g$4);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -635,7 +747,7 @@ public final class JavaSevenReader extends ParserBase {
       final Node v$g$5 = yyResult.semanticValue();
 
       yyValue = GNode.create("Modifier", v$g$5);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -648,7 +760,7 @@ public final class JavaSevenReader extends ParserBase {
       final Node v$g$6 = yyResult.semanticValue();
 
       yyValue = GNode.create("Modifier", v$g$6);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -661,7 +773,7 @@ public final class JavaSevenReader extends ParserBase {
       final Node v$g$7 = yyResult.semanticValue();
 
       yyValue = GNode.create("Modifier", v$g$7);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -674,7 +786,7 @@ public final class JavaSevenReader extends ParserBase {
       final Node v$g$8 = yyResult.semanticValue();
 
       yyValue = GNode.create("Modifier", v$g$8);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -687,7 +799,7 @@ public final class JavaSevenReader extends ParserBase {
       final Node v$g$9 = yyResult.semanticValue();
 
       yyValue = GNode.create("Modifier", v$g$9);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -700,7 +812,7 @@ public final class JavaSevenReader extends ParserBase {
       final Node v$g$10 = yyResult.semanticValue();
 
       yyValue = GNode.create("Modifier", v$g$10);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -713,7 +825,7 @@ public final class JavaSevenReader extends ParserBase {
       final Node v$g$11 = yyResult.semanticValue();
 
       yyValue = GNode.create("Modifier", v$g$11);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -789,7 +901,7 @@ public final class JavaSevenReader extends ParserBase {
               final Node v$g$5 = yyOpValue1;
 
               yyValue = GNode.create("FormalParameter", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return new SemanticValue(yyValue, yyOption1, yyError);
             } // End scope for v$g$5.
@@ -814,14 +926,16 @@ public final class JavaSevenReader extends ParserBase {
   private Result pVariableModifiers(final int yyStart) throws IOException {
     Result     yyResult;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
     // Alternative <Modifiers>.
 
     yyRepetition1 = yyStart;
-    yyRepValue1   = Pair.empty();
+    yyRepStart1   = bufferStart();
+    yyRepEnd1   = yyRepStart1;
     while (true) {
 
       yyResult = pVariableModifier(yyRepetition1);
@@ -830,16 +944,17 @@ public final class JavaSevenReader extends ParserBase {
         final Node v$el$1 = yyResult.semanticValue();
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+        yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
         continue;
       }
       break;
     }
     { // Start scope for v$g$1.
-      final Pair<Node> v$g$1 = yyRepValue1.reverse();
+      final int v$g$1 = yyRepStart1;
+      final int v$g$1$end = yyRepEnd1;
 
-      yyValue = GNode.createFromPair("Modifiers", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      yyValue = bufferedNode("Modifiers", v$g$1, v$g$1$end);
+      locate(yyValue, yyStart);
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
     } // End scope for v$g$1.
@@ -867,7 +982,7 @@ public final class JavaSevenReader extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.create("Modifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -888,10 +1003,15 @@ public final class JavaSevenReader extends ParserBase {
    */
   private Result pFormalParameters(final int yyStart) throws IOException {
     JavaSevenReaderColumn yyColumn = (JavaSevenReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fFormalParameters) 
-      yyColumn.chunk1.fFormalParameters = pFormalParameters$1(yyStart);
-    return yyColumn.chunk1.fFormalParameters;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fFormalParameters) {
+      yyColumn.chunk3.fFormalParameters = pFormalParameters$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(1, yyColumn.chunk3.fFormalParameters);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(1, yyColumn.chunk3.fFormalParameters);
+    }
+    return yyColumn.chunk3.fFormalParameters;
   }
 
   /** Actually parse xtc.lang.JavaSeven.FormalParameters. */
@@ -901,47 +1021,85 @@ public final class JavaSevenReader extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '@':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pFormalParameters$$Split1(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final Node v$pt$1 = yyResult.semanticValue();
+      yyResult = pFormalParameters$$Split1(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final Node v$pt$1 = yyResult.semanticValue();
 
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue() &&
-          ((Node)yyResult.semanticValue()).getTokenText().equals(")")) {
-        final Node v$pt$2 = yyResult.semanticValue();
-        yyValue = Formatting.after1(v$pt$1, v$pt$2);
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue() &&
+            ((Node)yyResult.semanticValue()).getTokenText().equals(")")) {
+          final Node v$pt$2 = yyResult.semanticValue();
+          yyValue = Formatting.after1(v$pt$1, v$pt$2);
 
-        return yyResult.createValue(yyValue, yyError);
-      } else {
-        yyError = yyError.select("')' expected", yyBase);
+          return yyResult.createValue(yyValue, yyError);
+        } else {
+          yyError = yyError.select("')' expected", yyBase);
+        }
       }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("(")) {
-      final Node v$pt$3 = yyResult.semanticValue();
-
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
+      yyResult = pSymbol(yyStart);
       if (yyResult.hasValue() &&
-          ((Node)yyResult.semanticValue()).getTokenText().equals(")")) {
-        final Node v$pt$4 = yyResult.semanticValue();
+          ((Node)yyResult.semanticValue()).getTokenText().equals("(")) {
+        final Node v$pt$3 = yyResult.semanticValue();
+
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue() &&
+            ((Node)yyResult.semanticValue()).getTokenText().equals(")")) {
+          final Node v$pt$4 = yyResult.semanticValue();
 
-        yyValue = GNode.create("FormalParameters", false);
-        yyValue.setLocation(location(yyStart));
-        yyValue = Formatting.variable().addNode(yyValue).
-          add(v$pt$3).add(v$pt$4);
+          yyValue = GNode.create("FormalParameters", false);
+          locate(yyValue, yyStart);
+          yyValue = Formatting.variable().addNode(yyValue).
+            add(v$pt$3).add(v$pt$4);
 
-        return yyResult.createValue(yyValue, yyError);
-      } else {
-        yyError = yyError.select("')' expected", yyBase);
+          return yyResult.createValue(yyValue, yyError);
+        } else {
+          yyError = yyError.select("')' expected", yyBase);
+        }
       }
     }
 
@@ -965,7 +1123,8 @@ public final class JavaSevenReader extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -983,7 +1142,8 @@ public final class JavaSevenReader extends ParserBase {
         final Node v$g$1 = Formatting.before1(v$pt$3, v$pt$4);
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyBase   = yyRepetition1;
@@ -999,7 +1159,7 @@ public final class JavaSevenReader extends ParserBase {
               final Node v$el$1 = Formatting.before1(v$pt$1, v$pt$2);
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
           } else {
@@ -1008,10 +1168,11 @@ public final class JavaSevenReader extends ParserBase {
           break;
         }
         { // Start scope for v$g$2.
-          final Pair<Node> v$g$2 = yyRepValue1.reverse();
+          final int v$g$2 = yyRepStart1;
+          final int v$g$2$end = yyRepEnd1;
 
-          yyValue = GNode.createFromPair("FormalParameters", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          yyValue = bufferedNode("FormalParameters", v$g$1, v$g$2, v$g$2$end);
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
         } // End scope for v$g$2.
@@ -1085,7 +1246,7 @@ public final class JavaSevenReader extends ParserBase {
           final Node v$g$3 = yyOpValue1;
 
           yyValue = GNode.create("Declarator", v$g$1, v$g$2, v$g$3);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyOption1, yyError);
         } // End scope for v$g$3.
@@ -1107,10 +1268,15 @@ public final class JavaSevenReader extends ParserBase {
    */
   private Result pDeclarators(final int yyStart) throws IOException {
     JavaSevenReaderColumn yyColumn = (JavaSevenReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fDeclarators) 
-      yyColumn.chunk1.fDeclarators = pDeclarators$1(yyStart);
-    return yyColumn.chunk1.fDeclarators;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fDeclarators) {
+      yyColumn.chunk3.fDeclarators = pDeclarators$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(2, yyColumn.chunk3.fDeclarators);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(2, yyColumn.chunk3.fDeclarators);
+    }
+    return yyColumn.chunk3.fDeclarators;
   }
 
   /** Actually parse xtc.lang.JavaSeven.Declarators. */
@@ -1132,7 +1298,7 @@ public final class JavaSevenReader extends ParserBase {
         final Pair<Node> v$g$2 = yyResult.semanticValue();
 
         yyValue = GNode.createFromPair("Declarators", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -1153,10 +1319,15 @@ public final class JavaSevenReader extends ParserBase {
    */
   private Result pDeclarators$$Star1(final int yyStart) throws IOException {
     JavaSevenReaderColumn yyColumn = (JavaSevenReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fDeclarators$$Star1) 
-      yyColumn.chunk1.fDeclarators$$Star1 = pDeclarators$$Star1$1(yyStart);
-    return yyColumn.chunk1.fDeclarators$$Star1;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fDeclarators$$Star1) {
+      yyColumn.chunk3.fDeclarators$$Star1 = pDeclarators$$Star1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(3, yyColumn.chunk3.fDeclarators$$Star1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(3, yyColumn.chunk3.fDeclarators$$Star1);
+    }
+    return yyColumn.chunk3.fDeclarators$$Star1;
   }
 
   /** Actually parse xtc.lang.JavaSeven.Declarators$$Star1. */
@@ -1255,14 +1426,16 @@ public final class JavaSevenReader extends ParserBase {
   private Result pClassBody$$Split1(final int yyStart) throws IOException {
     Result     yyResult;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
     // Alternative <Body>.
 
     yyRepetition1 = yyStart;
-    yyRepValue1   = Pair.empty();
+    yyRepStart1   = bufferStart();
+    yyRepEnd1   = yyRepStart1;
     while (true) {
 
       yyResult = pDeclaration(yyRepetition1);
@@ -1271,16 +1444,17 @@ public final class JavaSevenReader extends ParserBase {
         final Node v$el$1 = yyResult.semanticValue();
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+        yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
         continue;
       }
       break;
     }
     { // Start scope for v$g$1.
-      final Pair<Node> v$g$1 = yyRepValue1.reverse();
+      final int v$g$1 = yyRepStart1;
+      final int v$g$1$end = yyRepEnd1;
 
-      yyValue = GNode.createFromPair("ClassBody", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      yyValue = bufferedNode("ClassBody", v$g$1, v$g$1$end);
+      locate(yyValue, yyStart);
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
     } // End scope for v$g$1.
@@ -1332,7 +1506,7 @@ public final class JavaSevenReader extends ParserBase {
             final Node v$g$3 = Formatting.after1(v$pt$2, v$pt$1);
 
             yyValue = GNode.create("FieldDeclaration", v$g$1, v$g$2, v$g$3);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
@@ -1413,7 +1587,7 @@ public final class JavaSevenReader extends ParserBase {
                     final Node v$g$8 = yyResult.semanticValue();
 
                     yyValue = GNode.create("MethodDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6, v$g$7, v$g$8);
-                    yyValue.setLocation(location(yyStart));
+                    locate(yyValue, yyStart);
 
                     return yyResult.createValue(yyValue, yyError);
                   }
@@ -1428,7 +1602,7 @@ public final class JavaSevenReader extends ParserBase {
                     final Node v$g$9 = Formatting.after1(null, v$pt$1);
 
                     yyValue = GNode.create("MethodDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6, v$g$7, v$g$9);
-                    yyValue.setLocation(location(yyStart));
+                    locate(yyValue, yyStart);
 
                     return yyResult.createValue(yyValue, yyError);
                   } else {
@@ -1472,7 +1646,7 @@ public final class JavaSevenReader extends ParserBase {
                 final Node v$g$6 = yyResult.semanticValue();
 
                 yyValue = GNode.create("ConstructorDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6);
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return yyResult.createValue(yyValue, yyError);
               }
@@ -1551,7 +1725,7 @@ public final class JavaSevenReader extends ParserBase {
                   final Node v$g$6 = yyResult.semanticValue();
 
                   yyValue = GNode.create("ClassDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6);
-                  yyValue.setLocation(location(yyStart));
+                  locate(yyValue, yyStart);
 
                   return yyResult.createValue(yyValue, yyError);
                 }
@@ -1610,7 +1784,7 @@ public final class JavaSevenReader extends ParserBase {
                 final Node v$g$5 = yyResult.semanticValue();
 
                 yyValue = GNode.create("InterfaceDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return yyResult.createValue(yyValue, yyError);
               }
@@ -1654,7 +1828,7 @@ public final class JavaSevenReader extends ParserBase {
               final Node v$g$3 = yyResult.semanticValue();
 
               yyValue = GNode.create("AnnotationDeclaration", v$g$1, v$g$2, v$g$3);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -1759,7 +1933,7 @@ public final class JavaSevenReader extends ParserBase {
                       final Node v$g$5 = Formatting.after1(v$pt$8, v$pt$7);
 
                       yyValue = GNode.create("EnumDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
-                      yyValue.setLocation(location(yyStart));
+                      locate(yyValue, yyStart);
 
                       return yyResult.createValue(yyValue, yyError);
                     } else {
@@ -1803,7 +1977,7 @@ public final class JavaSevenReader extends ParserBase {
         final Node v$g$2 = yyResult.semanticValue();
 
         yyValue = GNode.create("BlockDeclaration", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -1817,7 +1991,7 @@ public final class JavaSevenReader extends ParserBase {
       final Node v$pt$1 = yyResult.semanticValue();
 
       yyValue = GNode.create("EmptyDeclaration", false);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
       yyValue = Formatting.after1(yyValue, v$pt$1);
 
       return yyResult.createValue(yyValue, yyError);
@@ -1841,7 +2015,8 @@ public final class JavaSevenReader extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -1859,7 +2034,8 @@ public final class JavaSevenReader extends ParserBase {
         final Node v$g$1 = Formatting.before1(v$pt$3, v$pt$4);
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyBase   = yyRepetition1;
@@ -1875,7 +2051,7 @@ public final class JavaSevenReader extends ParserBase {
               final Node v$el$1 = Formatting.before1(v$pt$1, v$pt$2);
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
           } else {
@@ -1884,10 +2060,11 @@ public final class JavaSevenReader extends ParserBase {
           break;
         }
         { // Start scope for v$g$2.
-          final Pair<Node> v$g$2 = yyRepValue1.reverse();
+          final int v$g$2 = yyRepStart1;
+          final int v$g$2$end = yyRepEnd1;
 
-          yyValue = GNode.createFromPair("ThrowsClause", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          yyValue = bufferedNode("ThrowsClause", v$g$1, v$g$2, v$g$2$end);
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
         } // End scope for v$g$2.
@@ -1912,7 +2089,8 @@ public final class JavaSevenReader extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -1930,7 +2108,8 @@ public final class JavaSevenReader extends ParserBase {
         final Node v$g$1 = Formatting.before1(v$pt$3, v$pt$4);
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyBase   = yyRepetition1;
@@ -1946,7 +2125,7 @@ public final class JavaSevenReader extends ParserBase {
               final Node v$el$1 = Formatting.before1(v$pt$1, v$pt$2);
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
           } else {
@@ -1955,10 +2134,11 @@ public final class JavaSevenReader extends ParserBase {
           break;
         }
         { // Start scope for v$g$2.
-          final Pair<Node> v$g$2 = yyRepValue1.reverse();
+          final int v$g$2 = yyRepStart1;
+          final int v$g$2$end = yyRepEnd1;
 
-          yyValue = GNode.createFromPair("Extension", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          yyValue = bufferedNode("Extension", v$g$1, v$g$2, v$g$2$end);
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
         } // End scope for v$g$2.
@@ -1981,10 +2161,15 @@ public final class JavaSevenReader extends ParserBase {
    */
   private Result pImplementation(final int yyStart) throws IOException {
     JavaSevenReaderColumn yyColumn = (JavaSevenReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fImplementation) 
-      yyColumn.chunk1.fImplementation = pImplementation$1(yyStart);
-    return yyColumn.chunk1.fImplementation;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fImplementation) {
+      yyColumn.chunk3.fImplementation = pImplementation$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(4, yyColumn.chunk3.fImplementation);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(4, yyColumn.chunk3.fImplementation);
+    }
+    return yyColumn.chunk3.fImplementation;
   }
 
   /** Actually parse xtc.lang.JavaSeven.Implementation. */
@@ -2012,7 +2197,7 @@ public final class JavaSevenReader extends ParserBase {
           final Pair<Node> v$g$2 = yyResult.semanticValue();
 
           yyValue = GNode.createFromPair("Implementation", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -2037,10 +2222,16 @@ public final class JavaSevenReader extends ParserBase {
     throws IOException {
 
     JavaSevenReaderColumn yyColumn = (JavaSevenReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fImplementation$$Star1) 
-      yyColumn.chunk1.fImplementation$$Star1 = pImplementation$$Star1$1(yyStart);
-    return yyColumn.chunk1.fImplementation$$Star1;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fImplementation$$Star1) {
+      yyColumn.chunk3.fImplementation$$Star1 = 
+        pImplementation$$Star1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(5, yyColumn.chunk3.fImplementation$$Star1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(5, yyColumn.chunk3.fImplementation$$Star1);
+    }
+    return yyColumn.chunk3.fImplementation$$Star1;
   }
 
   /** Actually parse xtc.lang.JavaSeven.Implementation$$Star1. */
@@ -2094,10 +2285,14 @@ public final class JavaSevenReader extends ParserBase {
    */
   private Result pBlock(final int yyStart) throws IOException {
     JavaSevenReaderColumn yyColumn = (JavaSevenReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fBlock) 
-      yyColumn.chunk1.fBlock = pBlock$1(yyStart);
-    return yyColumn.chunk1.fBlock;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fBlock) {
+      yyColumn.chunk3.fBlock = pBlock$1(yyStart);
+      if (null != yyStatistics) yyStatistics.miss(6, yyColumn.chunk3.fBlock);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(6, yyColumn.chunk3.fBlock);
+    }
+    return yyColumn.chunk3.fBlock;
   }
 
   /** Actually parse xtc.lang.JavaSeven.Block. */
@@ -2150,14 +2345,16 @@ public final class JavaSevenReader extends ParserBase {
   private Result pBlock$$Split1(final int yyStart) throws IOException {
     Result     yyResult;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
     // Alternative <Block>.
 
     yyRepetition1 = yyStart;
-    yyRepValue1   = Pair.empty();
+    yyRepStart1   = bufferStart();
+    yyRepEnd1   = yyRepStart1;
     while (true) {
 
       yyResult = pDeclarationOrStatement(yyRepetition1);
@@ -2166,16 +2363,17 @@ public final class JavaSevenReader extends ParserBase {
         final Node v$el$1 = yyResult.semanticValue();
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+        yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
         continue;
       }
       break;
     }
     { // Start scope for v$g$1.
-      final Pair<Node> v$g$1 = yyRepValue1.reverse();
+      final int v$g$1 = yyRepStart1;
+      final int v$g$1$end = yyRepEnd1;
 
-      yyValue = GNode.createFromPair("Block", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      yyValue = bufferedNode("Block", v$g$1, v$g$1$end);
+      locate(yyValue, yyStart);
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
     } // End scope for v$g$1.
@@ -2317,7 +2515,7 @@ public final class JavaSevenReader extends ParserBase {
                   final Node v$g$6 = yyResult.semanticValue();
 
                   yyValue = GNode.create("ClassDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6);
-                  yyValue.setLocation(location(yyStart));
+                  locate(yyValue, yyStart);
 
                   return yyResult.createValue(yyValue, yyError);
                 }
@@ -2376,7 +2574,7 @@ public final class JavaSevenReader extends ParserBase {
                 final Node v$g$5 = yyResult.semanticValue();
 
                 yyValue = GNode.create("InterfaceDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return yyResult.createValue(yyValue, yyError);
               }
@@ -2432,7 +2630,7 @@ public final class JavaSevenReader extends ParserBase {
             final Node v$g$3 = Formatting.after1(v$pt$2, v$pt$1);
 
             yyValue = GNode.create("FieldDeclaration", v$g$1, v$g$2, v$g$3);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
@@ -2460,20 +2658,57 @@ public final class JavaSevenReader extends ParserBase {
     int        yyBase;
     int        yyRepetition1;
     boolean    yyRepeated1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     int        yyOption1;
     Node       yyOpValue1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '@':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Block>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pBlock(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pBlock(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 2.
@@ -2511,7 +2746,7 @@ public final class JavaSevenReader extends ParserBase {
               final Node v$g$3 = Formatting.before1(v$pt$3, v$pt$4);
 
               yyValue = GNode.create("ConditionalStatement", v$g$1, v$g$2, v$g$3);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -2522,7 +2757,7 @@ public final class JavaSevenReader extends ParserBase {
           // Nested alternative 2.
 
           yyValue = GNode.create("ConditionalStatement", v$g$1, v$g$2, null);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyChoice1, yyError);
         }
@@ -2561,7 +2796,7 @@ public final class JavaSevenReader extends ParserBase {
               final Node v$g$2 = yyResult.semanticValue();
 
               yyValue = GNode.create("ForStatement", v$g$1, v$g$2);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -2593,7 +2828,7 @@ public final class JavaSevenReader extends ParserBase {
           final Node v$g$2 = yyResult.semanticValue();
 
           yyValue = GNode.create("WhileStatement", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -2632,7 +2867,7 @@ public final class JavaSevenReader extends ParserBase {
               final Node v$g$2 = Formatting.after1(v$pt$5, v$pt$4);
 
               yyValue = GNode.create("DoWhileStatement", v$g$1, v$g$2);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             } else {
@@ -2677,7 +2912,8 @@ public final class JavaSevenReader extends ParserBase {
           // Nested alternative 1.
 
           yyRepetition1 = yyChoice1;
-          yyRepValue1   = Pair.empty();
+          yyRepStart1   = bufferStart();
+          yyRepEnd1   = yyRepStart1;
           while (true) {
 
             yyResult = pCatchClause(yyRepetition1);
@@ -2686,13 +2922,14 @@ public final class JavaSevenReader extends ParserBase {
               final Node v$el$2 = yyResult.semanticValue();
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$2, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$2);
               continue;
             }
             break;
           }
           { // Start scope for v$g$3.
-            final Pair<Node> v$g$3 = yyRepValue1.reverse();
+            final int v$g$3 = yyRepStart1;
+            final int v$g$3$end = yyRepEnd1;
 
             yyBase   = yyRepetition1;
             yyResult = pWord(yyBase);
@@ -2706,22 +2943,26 @@ public final class JavaSevenReader extends ParserBase {
                 final Node v$pt$4 = yyResult.semanticValue();
                 final Node v$g$4 = Formatting.before1(v$pt$3, v$pt$4);
 
-                yyValue = GNode.create("TryCatchFinallyStatement", v$g$3.size() + 3).
-                  add(v$g$1).add(v$g$2).addAll(v$g$3).add(v$g$4);
-                yyValue.setLocation(location(yyStart));
+                yyValue = GNode.create("TryCatchFinallyStatement", (v$g$3$end - v$g$3) + 3).
+                  add(v$g$1).add(v$g$2);
+                addBuffered(yyValue, v$g$3, v$g$3$end);
+                yyValue.add(v$g$4);
+                locate(yyValue, yyStart);
 
                 return yyResult.createValue(yyValue, yyError);
               }
             } else {
               yyError = yyError.select("'finally' expected", yyBase);
             }
+            releaseBuffer(v$g$3);
           } // End scope for v$g$3.
 
           // Nested alternative 2.
 
           yyRepetition1 = yyChoice1;
           yyRepeated1   = false;
-          yyRepValue1   = Pair.empty();
+          yyRepStart1   = bufferStart();
+          yyRepEnd1   = yyRepStart1;
           while (true) {
 
             yyResult = pCatchClause(yyRepetition1);
@@ -2731,18 +2972,21 @@ public final class JavaSevenReader extends ParserBase {
 
               yyRepetition1 = yyResult.index;
               yyRepeated1   = true;
-              yyRepValue1   = new Pair<Node>(v$el$3, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$3);
               continue;
             }
             break;
           }
 
           if (yyRepeated1) {
-            final Pair<Node> v$g$5 = yyRepValue1.reverse();
+            final int v$g$5 = yyRepStart1;
+            final int v$g$5$end = yyRepEnd1;
 
-            yyValue = GNode.create("TryCatchFinallyStatement", v$g$5.size() + 3).
-              add(v$g$1).add(v$g$2).addAll(v$g$5).add(null);
-            yyValue.setLocation(location(yyStart));
+            yyValue = GNode.create("TryCatchFinallyStatement", (v$g$5$end - v$g$5) + 3).
+              add(v$g$1).add(v$g$2);
+            addBuffered(yyValue, v$g$5, v$g$5$end);
+            yyValue.add(null);
+            locate(yyValue, yyStart);
 
             return new SemanticValue(yyValue, yyRepetition1, yyError);
           }
@@ -2789,7 +3033,7 @@ public final class JavaSevenReader extends ParserBase {
           final Node v$g$2 = yyResult.semanticValue();
 
           yyValue = GNode.create("SynchronizedStatement", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -2825,7 +3069,7 @@ public final class JavaSevenReader extends ParserBase {
           final Node v$g$1 = Formatting.round1(v$pt$1, v$pt$3, v$pt$2);
 
           yyValue = GNode.create("ReturnStatement", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
@@ -2854,7 +3098,7 @@ public final class JavaSevenReader extends ParserBase {
           final Node v$g$1 = Formatting.round1(v$pt$1, v$pt$3, v$pt$2);
 
           yyValue = GNode.create("ThrowStatement", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
@@ -2892,7 +3136,7 @@ public final class JavaSevenReader extends ParserBase {
           final Node v$g$1 = Formatting.round1(v$pt$1, v$pt$3, v$pt$2);
 
           yyValue = GNode.create("BreakStatement", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
@@ -2930,7 +3174,7 @@ public final class JavaSevenReader extends ParserBase {
           final Node v$g$1 = Formatting.round1(v$pt$1, v$pt$3, v$pt$2);
 
           yyValue = GNode.create("ContinueStatement", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
@@ -2959,7 +3203,7 @@ public final class JavaSevenReader extends ParserBase {
           final Node v$g$2 = yyResult.semanticValue();
 
           yyValue = GNode.create("LabeledStatement", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -2983,7 +3227,7 @@ public final class JavaSevenReader extends ParserBase {
         final Node v$g$1 = Formatting.after1(v$pt$2, v$pt$1);
 
         yyValue = GNode.create("ExpressionStatement", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       } else {
@@ -3036,7 +3280,7 @@ public final class JavaSevenReader extends ParserBase {
             final Node v$g$2 = Formatting.after1(v$pt$6, v$pt$5);
 
             yyValue = GNode.create("AssertStatement", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
@@ -3047,17 +3291,19 @@ public final class JavaSevenReader extends ParserBase {
     }
 
     // Alternative 16.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals(";")) {
-      final Node v$pt$1 = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals(";")) {
+        final Node v$pt$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("EmptyStatement", false);
-      yyValue.setLocation(location(yyStart));
-      yyValue = Formatting.after1(yyValue, v$pt$1);
+        yyValue = GNode.create("EmptyStatement", false);
+        locate(yyValue, yyStart);
+        yyValue = Formatting.after1(yyValue, v$pt$1);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -3116,7 +3362,7 @@ public final class JavaSevenReader extends ParserBase {
               final Node v$g$4 = yyResult.semanticValue();
 
               yyValue = GNode.create("EnhancedForControl", v$g$1, v$g$2, v$g$3, v$g$4);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -3175,7 +3421,7 @@ public final class JavaSevenReader extends ParserBase {
                   final Node v$g$5 = yyOpValue1;
 
                   yyValue = GNode.create("BasicForControl", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
-                  yyValue.setLocation(location(yyStart));
+                  locate(yyValue, yyStart);
 
                   return new SemanticValue(yyValue, yyOption1, yyError);
                 } // End scope for v$g$5.
@@ -3249,7 +3495,7 @@ public final class JavaSevenReader extends ParserBase {
               final Node v$g$10 = yyOpValue1;
 
               yyValue = GNode.create("BasicForControl", null, null, v$g$8, v$g$9, v$g$10);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return new SemanticValue(yyValue, yyOption1, yyError);
             } // End scope for v$g$10.
@@ -3277,10 +3523,15 @@ public final class JavaSevenReader extends ParserBase {
    */
   private Result pParExpression(final int yyStart) throws IOException {
     JavaSevenReaderColumn yyColumn = (JavaSevenReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fParExpression) 
-      yyColumn.chunk1.fParExpression = pParExpression$1(yyStart);
-    return yyColumn.chunk1.fParExpression;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fParExpression) {
+      yyColumn.chunk3.fParExpression = pParExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(7, yyColumn.chunk3.fParExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(7, yyColumn.chunk3.fParExpression);
+    }
+    return yyColumn.chunk3.fParExpression;
   }
 
   /** Actually parse xtc.lang.JavaSeven.ParExpression. */
@@ -3332,10 +3583,15 @@ public final class JavaSevenReader extends ParserBase {
    */
   private Result pCatchClause(final int yyStart) throws IOException {
     JavaSevenReaderColumn yyColumn = (JavaSevenReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fCatchClause) 
-      yyColumn.chunk1.fCatchClause = pCatchClause$1(yyStart);
-    return yyColumn.chunk1.fCatchClause;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fCatchClause) {
+      yyColumn.chunk3.fCatchClause = pCatchClause$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(8, yyColumn.chunk3.fCatchClause);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(8, yyColumn.chunk3.fCatchClause);
+    }
+    return yyColumn.chunk3.fCatchClause;
   }
 
   /** Actually parse xtc.lang.JavaSeven.CatchClause. */
@@ -3377,7 +3633,7 @@ public final class JavaSevenReader extends ParserBase {
               final Node v$g$2 = yyResult.semanticValue();
 
               yyValue = GNode.create("CatchClause", v$g$1, v$g$2);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -3410,7 +3666,8 @@ public final class JavaSevenReader extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -3434,7 +3691,8 @@ public final class JavaSevenReader extends ParserBase {
           final Node v$g$1 = Formatting.round1(v$pt$1, v$pt$3, v$pt$2);
 
           yyRepetition1 = yyResult.index;
-          yyRepValue1   = Pair.empty();
+          yyRepStart1   = bufferStart();
+          yyRepEnd1   = yyRepStart1;
           while (true) {
 
             yyResult = pSwitchClause(yyRepetition1);
@@ -3443,16 +3701,17 @@ public final class JavaSevenReader extends ParserBase {
               final Node v$el$1 = yyResult.semanticValue();
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
             break;
           }
           { // Start scope for v$g$2.
-            final Pair<Node> v$g$2 = yyRepValue1.reverse();
+            final int v$g$2 = yyRepStart1;
+            final int v$g$2$end = yyRepEnd1;
 
-            yyValue = GNode.createFromPair("SwitchStatement", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
+            yyValue = bufferedNode("SwitchStatement", v$g$1, v$g$2, v$g$2$end);
+            locate(yyValue, yyStart);
 
             return new SemanticValue(yyValue, yyRepetition1, yyError);
           } // End scope for v$g$2.
@@ -3480,7 +3739,8 @@ public final class JavaSevenReader extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -3504,7 +3764,8 @@ public final class JavaSevenReader extends ParserBase {
           final Node v$g$1 = Formatting.round1(v$pt$1, v$pt$3, v$pt$2);
 
           yyRepetition1 = yyResult.index;
-          yyRepValue1   = Pair.empty();
+          yyRepStart1   = bufferStart();
+          yyRepEnd1   = yyRepStart1;
           while (true) {
 
             yyResult = pDeclarationOrStatement(yyRepetition1);
@@ -3513,16 +3774,17 @@ public final class JavaSevenReader extends ParserBase {
               final Node v$el$1 = yyResult.semanticValue();
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
             break;
           }
           { // Start scope for v$g$2.
-            final Pair<Node> v$g$2 = yyRepValue1.reverse();
+            final int v$g$2 = yyRepStart1;
+            final int v$g$2$end = yyRepEnd1;
 
-            yyValue = GNode.createFromPair("CaseClause", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
+            yyValue = bufferedNode("CaseClause", v$g$1, v$g$2, v$g$2$end);
+            locate(yyValue, yyStart);
 
             return new SemanticValue(yyValue, yyRepetition1, yyError);
           } // End scope for v$g$2.
@@ -3578,14 +3840,16 @@ public final class JavaSevenReader extends ParserBase {
 
     Result     yyResult;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
     // Alternative 1.
 
     yyRepetition1 = yyStart;
-    yyRepValue1   = Pair.empty();
+    yyRepStart1   = bufferStart();
+    yyRepEnd1   = yyRepStart1;
     while (true) {
 
       yyResult = pDeclarationOrStatement(yyRepetition1);
@@ -3594,16 +3858,17 @@ public final class JavaSevenReader extends ParserBase {
         final Node v$el$1 = yyResult.semanticValue();
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+        yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
         continue;
       }
       break;
     }
     { // Start scope for v$g$1.
-      final Pair<Node> v$g$1 = yyRepValue1.reverse();
+      final int v$g$1 = yyRepStart1;
+      final int v$g$1$end = yyRepEnd1;
 
-      yyValue = GNode.createFromPair("DefaultClause", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      yyValue = bufferedNode("DefaultClause", v$g$1, v$g$1$end);
+      locate(yyValue, yyStart);
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
     } // End scope for v$g$1.
@@ -3622,7 +3887,8 @@ public final class JavaSevenReader extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -3634,7 +3900,8 @@ public final class JavaSevenReader extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyBase   = yyRepetition1;
@@ -3650,7 +3917,7 @@ public final class JavaSevenReader extends ParserBase {
             final Node v$el$1 = Formatting.before1(v$pt$1, v$pt$2);
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
         } else {
@@ -3659,10 +3926,11 @@ public final class JavaSevenReader extends ParserBase {
         break;
       }
       { // Start scope for v$g$2.
-        final Pair<Node> v$g$2 = yyRepValue1.reverse();
+        final int v$g$2 = yyRepStart1;
+        final int v$g$2$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("ExpressionList", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("ExpressionList", v$g$1, v$g$2, v$g$2$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$2.
@@ -3683,10 +3951,15 @@ public final class JavaSevenReader extends ParserBase {
    */
   private Result pExpression(final int yyStart) throws IOException {
     JavaSevenReaderColumn yyColumn = (JavaSevenReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fExpression) 
-      yyColumn.chunk1.fExpression = pExpression$1(yyStart);
-    return yyColumn.chunk1.fExpression;
+    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
+    if (null == yyColumn.chunk2.fExpression) {
+      yyColumn.chunk2.fExpression = pExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(9, yyColumn.chunk2.fExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(9, yyColumn.chunk2.fExpression);
+    }
+    return yyColumn.chunk2.fExpression;
   }
 
   /** Actually parse xtc.lang.JavaSeven.Expression. */
@@ -3713,7 +3986,7 @@ public final class JavaSevenReader extends ParserBase {
           final Node v$g$3 = yyResult.semanticValue();
 
           yyValue = GNode.create("Expression", v$g$1, v$g$2, v$g$3);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -3748,124 +4021,182 @@ public final class JavaSevenReader extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '@':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0xfff;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Equal>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("=")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("=")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <PlusEqual>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("+=")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("+=")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <MinusEqual>.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("-=")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("-=")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <StarEqual>.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("*=")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("*=")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <SlashEqual>.
+    if (0 != (yyFirst & 0x10)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("/=")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("/=")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <AmpersandEqual>.
+    if (0 != (yyFirst & 0x20)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("&=")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("&=")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <BarEqual>.
+    if (0 != (yyFirst & 0x40)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("|=")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("|=")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <CaretEqual>.
+    if (0 != (yyFirst & 0x80)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("^=")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("^=")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <PercentEqual>.
+    if (0 != (yyFirst & 0x100)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("%=")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("%=")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <DoubleLessEqual>.
+    if (0 != (yyFirst & 0x200)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("<<=")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("<<=")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <DoubleGreaterEqual>.
+    if (0 != (yyFirst & 0x400)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals(">>=")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals(">>=")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <TripleGreaterEqual>.
+    if (0 != (yyFirst & 0x800)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals(">>>=")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals(">>>=")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -3887,8 +4218,14 @@ public final class JavaSevenReader extends ParserBase {
 
     JavaSevenReaderColumn yyColumn = (JavaSevenReaderColumn)column(yyStart);
     if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fConditionalExpression) 
-      yyColumn.chunk2.fConditionalExpression = pConditionalExpression$1(yyStart);
+    if (null == yyColumn.chunk2.fConditionalExpression) {
+      yyColumn.chunk2.fConditionalExpression = 
+        pConditionalExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(10, yyColumn.chunk2.fConditionalExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(10, yyColumn.chunk2.fConditionalExpression);
+    }
     return yyColumn.chunk2.fConditionalExpression;
   }
 
@@ -3933,7 +4270,7 @@ public final class JavaSevenReader extends ParserBase {
               final Node v$g$3 = yyResult.semanticValue();
 
               yyValue = GNode.create("ConditionalExpression", v$g$1, v$g$2, v$g$3);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -3972,8 +4309,13 @@ public final class JavaSevenReader extends ParserBase {
   private Result pLogicalOrExpression(final int yyStart) throws IOException {
     JavaSevenReaderColumn yyColumn = (JavaSevenReaderColumn)column(yyStart);
     if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fLogicalOrExpression) 
+    if (null == yyColumn.chunk2.fLogicalOrExpression) {
       yyColumn.chunk2.fLogicalOrExpression = pLogicalOrExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(11, yyColumn.chunk2.fLogicalOrExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(11, yyColumn.chunk2.fLogicalOrExpression);
+    }
     return yyColumn.chunk2.fLogicalOrExpression;
   }
 
@@ -4552,24 +4894,62 @@ public final class JavaSevenReader extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '@':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Equal>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("==")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("==")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <NotEqual>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("!=")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("!=")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -4612,7 +4992,7 @@ public final class JavaSevenReader extends ParserBase {
           final Node v$g$2 = yyResult.semanticValue();
 
           yyValue = GNode.create("InstanceOfExpression", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -4647,8 +5027,14 @@ public final class JavaSevenReader extends ParserBase {
   private Result pRelationalExpression(final int yyStart) throws IOException {
     JavaSevenReaderColumn yyColumn = (JavaSevenReaderColumn)column(yyStart);
     if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fRelationalExpression) 
-      yyColumn.chunk2.fRelationalExpression = pRelationalExpression$1(yyStart);
+    if (null == yyColumn.chunk2.fRelationalExpression) {
+      yyColumn.chunk2.fRelationalExpression = 
+        pRelationalExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(12, yyColumn.chunk2.fRelationalExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(12, yyColumn.chunk2.fRelationalExpression);
+    }
     return yyColumn.chunk2.fRelationalExpression;
   }
 
@@ -4753,44 +5139,86 @@ public final class JavaSevenReader extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '@':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0xf;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Less>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("<")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("<")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Greater>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals(">")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals(">")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <LessEqual>.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("<=")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("<=")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <GreaterEqual>.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals(">=")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals(">=")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -4904,34 +5332,74 @@ public final class JavaSevenReader extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '@':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x7;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Left>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("<<")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("<<")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Right>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals(">>")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals(">>")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <UnsignedRight>.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals(">>>")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals(">>>")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -5045,24 +5513,62 @@ public final class JavaSevenReader extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '@':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Plus>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("+")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("+")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Minus>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("-")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("-")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -5181,34 +5687,74 @@ public final class JavaSevenReader extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '@':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x7;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Times>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("*")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("*")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Over>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("/")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("/")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Modulo>.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("%")) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("%")) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -5230,79 +5776,121 @@ public final class JavaSevenReader extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '@':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0xf;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Plus>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("+")) {
-      final Node v$g$1 = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("+")) {
+        final Node v$g$1 = yyResult.semanticValue();
 
-      yyResult = pUnaryExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$2 = yyResult.semanticValue();
+        yyResult = pUnaryExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryExpression", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("UnaryExpression", v$g$1, v$g$2);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative <Minus>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("-")) {
-      final Node v$g$3 = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("-")) {
+        final Node v$g$3 = yyResult.semanticValue();
 
-      yyResult = pUnaryExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$4 = yyResult.semanticValue();
+        yyResult = pUnaryExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$4 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryExpression", v$g$3, v$g$4);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("UnaryExpression", v$g$3, v$g$4);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative <Increment>.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("++")) {
-      final Node v$g$5 = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("++")) {
+        final Node v$g$5 = yyResult.semanticValue();
 
-      yyResult = pUnaryExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$6 = yyResult.semanticValue();
+        yyResult = pUnaryExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$6 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryExpression", v$g$5, v$g$6);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("UnaryExpression", v$g$5, v$g$6);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative <Decrement>.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("--")) {
-      final Node v$g$7 = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("--")) {
+        final Node v$g$7 = yyResult.semanticValue();
 
-      yyResult = pUnaryExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$8 = yyResult.semanticValue();
+        yyResult = pUnaryExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$8 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryExpression", v$g$7, v$g$8);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("UnaryExpression", v$g$7, v$g$8);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
@@ -5340,126 +5928,166 @@ public final class JavaSevenReader extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '@':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x7;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("~")) {
-      final Node v$pt$1 = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("~")) {
+        final Node v$pt$1 = yyResult.semanticValue();
 
-      yyResult = pUnaryExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$pt$2 = yyResult.semanticValue();
-        final Node v$g$1 = Formatting.before1(v$pt$1, v$pt$2);
+        yyResult = pUnaryExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$pt$2 = yyResult.semanticValue();
+          final Node v$g$1 = Formatting.before1(v$pt$1, v$pt$2);
 
-        yyValue = GNode.create("BitwiseNegationExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("BitwiseNegationExpression", v$g$1);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("!")) {
-      final Node v$pt$1 = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("!")) {
+        final Node v$pt$1 = yyResult.semanticValue();
 
-      yyResult = pUnaryExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$pt$2 = yyResult.semanticValue();
-        final Node v$g$1 = Formatting.before1(v$pt$1, v$pt$2);
+        yyResult = pUnaryExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$pt$2 = yyResult.semanticValue();
+          final Node v$g$1 = Formatting.before1(v$pt$1, v$pt$2);
 
-        yyValue = GNode.create("LogicalNegationExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("LogicalNegationExpression", v$g$1);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("(")) {
-      final Node v$pt$1 = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("(")) {
+        final Node v$pt$1 = yyResult.semanticValue();
 
-      final int yyChoice1 = yyResult.index;
-
-      // Nested alternative 1.
-
-      yyResult = pPrimitiveType(yyChoice1);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$pt$2 = yyResult.semanticValue();
-        final Node v$g$1 = Formatting.before1(v$pt$1, v$pt$2);
+        final int yyChoice1 = yyResult.index;
 
-        yyOption1  = yyResult.index;
-        yyOpValue1 = null;
+        // Nested alternative 1.
 
-        yyResult = pDimensions(yyOption1);
-        yyError  = yyResult.select(yyError, yyOption1);
+        yyResult = pPrimitiveType(yyChoice1);
+        yyError  = yyResult.select(yyError);
         if (yyResult.hasValue()) {
-          final Node v$el$1 = yyResult.semanticValue();
+          final Node v$pt$2 = yyResult.semanticValue();
+          final Node v$g$1 = Formatting.before1(v$pt$1, v$pt$2);
 
           yyOption1  = yyResult.index;
-          yyOpValue1 = v$el$1;
+          yyOpValue1 = null;
+
+          yyResult = pDimensions(yyOption1);
+          yyError  = yyResult.select(yyError, yyOption1);
+          if (yyResult.hasValue()) {
+            final Node v$el$1 = yyResult.semanticValue();
+
+            yyOption1  = yyResult.index;
+            yyOpValue1 = v$el$1;
+          }
+          { // Start scope for v$pt$4.
+            final Node v$pt$4 = yyOpValue1;
+
+            yyBase   = yyOption1;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue() &&
+                ((Node)yyResult.semanticValue()).getTokenText().equals(")")) {
+              final Node v$pt$3 = yyResult.semanticValue();
+              final Node v$g$2 = Formatting.after1(v$pt$4, v$pt$3);
+
+              yyResult = pUnaryExpression(yyResult.index);
+              yyError  = yyResult.select(yyError);
+              if (yyResult.hasValue()) {
+                final Node v$g$3 = yyResult.semanticValue();
+
+                yyValue = GNode.create("BasicCastExpression", v$g$1, v$g$2, v$g$3);
+                locate(yyValue, yyStart);
+
+                return yyResult.createValue(yyValue, yyError);
+              }
+            } else {
+              yyError = yyError.select("')' expected", yyBase);
+            }
+          } // End scope for v$pt$4.
         }
-        { // Start scope for v$pt$4.
-          final Node v$pt$4 = yyOpValue1;
 
-          yyBase   = yyOption1;
+        // Nested alternative 2.
+
+        yyResult = pType(yyChoice1);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$pt$3 = yyResult.semanticValue();
+
+          yyBase   = yyResult.index;
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue() &&
               ((Node)yyResult.semanticValue()).getTokenText().equals(")")) {
-            final Node v$pt$3 = yyResult.semanticValue();
-            final Node v$g$2 = Formatting.after1(v$pt$4, v$pt$3);
+            final Node v$pt$2 = yyResult.semanticValue();
+            final Node v$g$1 = Formatting.round1(v$pt$1, v$pt$3, v$pt$2);
 
-            yyResult = pUnaryExpression(yyResult.index);
+            yyResult = pUnaryExpressionNotPlusMinus(yyResult.index);
             yyError  = yyResult.select(yyError);
             if (yyResult.hasValue()) {
-              final Node v$g$3 = yyResult.semanticValue();
+              final Node v$g$2 = yyResult.semanticValue();
 
-              yyValue = GNode.create("BasicCastExpression", v$g$1, v$g$2, v$g$3);
-              yyValue.setLocation(location(yyStart));
+              yyValue = GNode.create("CastExpression", v$g$1, v$g$2);
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
           } else {
             yyError = yyError.select("')' expected", yyBase);
           }
-        } // End scope for v$pt$4.
-      }
-
-      // Nested alternative 2.
-
-      yyResult = pType(yyChoice1);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$pt$3 = yyResult.semanticValue();
-
-        yyBase   = yyResult.index;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue() &&
-            ((Node)yyResult.semanticValue()).getTokenText().equals(")")) {
-          final Node v$pt$2 = yyResult.semanticValue();
-          final Node v$g$1 = Formatting.round1(v$pt$1, v$pt$3, v$pt$2);
-
-          yyResult = pUnaryExpressionNotPlusMinus(yyResult.index);
-          yyError  = yyResult.select(yyError);
-          if (yyResult.hasValue()) {
-            final Node v$g$2 = yyResult.semanticValue();
-
-            yyValue = GNode.create("CastExpression", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
-
-            return yyResult.createValue(yyValue, yyError);
-          }
-        } else {
-          yyError = yyError.select("')' expected", yyBase);
         }
       }
     }
@@ -5549,241 +6177,285 @@ public final class JavaSevenReader extends ParserBase {
     Action<Node> yyValue;
     ParseError   yyError = ParseError.DUMMY;
 
-    // Alternative 1.
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '@':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x1f;
+      break;
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals(".")) {
-      final Node v$pt$1 = yyResult.semanticValue();
+    default:
+      yyFirst = 0;
+    }
 
-      final int yyChoice1 = yyResult.index;
+    // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-      // Nested alternative 1.
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals(".")) {
+        final Node v$pt$1 = yyResult.semanticValue();
 
-      yyOption1  = yyChoice1;
-      yyOpValue1 = null;
+        final int yyChoice1 = yyResult.index;
 
-      yyResult = pTypeArguments(yyOption1);
-      yyError  = yyResult.select(yyError, yyOption1);
-      if (yyResult.hasValue()) {
-        final Node v$el$1 = yyResult.semanticValue();
+        // Nested alternative 1.
 
-        yyOption1  = yyResult.index;
-        yyOpValue1 = v$el$1;
-      }
-      { // Start scope for v$pt$2.
-        final Node v$pt$2 = yyOpValue1;
-        final Node v$g$2 = Formatting.before1(v$pt$1, v$pt$2);
+        yyOption1  = yyChoice1;
+        yyOpValue1 = null;
 
-        yyResult = pIdentifier(yyOption1);
-        yyError  = yyResult.select(yyError);
+        yyResult = pTypeArguments(yyOption1);
+        yyError  = yyResult.select(yyError, yyOption1);
         if (yyResult.hasValue()) {
-          final Node v$g$3 = yyResult.semanticValue();
+          final Node v$el$1 = yyResult.semanticValue();
+
+          yyOption1  = yyResult.index;
+          yyOpValue1 = v$el$1;
+        }
+        { // Start scope for v$pt$2.
+          final Node v$pt$2 = yyOpValue1;
+          final Node v$g$2 = Formatting.before1(v$pt$1, v$pt$2);
+
+          yyResult = pIdentifier(yyOption1);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Node v$g$3 = yyResult.semanticValue();
+
+            yyResult = pArguments(yyResult.index);
+            yyError  = yyResult.select(yyError);
+            if (yyResult.hasValue()) {
+              final Node v$g$4 = yyResult.semanticValue();
+
+              yyValue = new Action<Node>() {
+                public Node run(Node v$1) {
+                  return GNode.create("CallExpression", v$1, v$g$2, v$g$3, v$g$4);
+                }};
+
+              return yyResult.createValue(yyValue, yyError);
+            }
+          }
+        } // End scope for v$pt$2.
+
+        // Nested alternative 2.
+        final Node v$g$5 = Formatting.before1(v$pt$1, null);
+
+        yyBase   = yyChoice1;
+        yyResult = pWord(yyBase);
+        if (yyResult.hasValue() &&
+            ((Node)yyResult.semanticValue()).getTokenText().equals("super")) {
+          final Node v$g$6 = yyResult.semanticValue();
 
           yyResult = pArguments(yyResult.index);
           yyError  = yyResult.select(yyError);
           if (yyResult.hasValue()) {
-            final Node v$g$4 = yyResult.semanticValue();
+            final Node v$g$7 = yyResult.semanticValue();
 
             yyValue = new Action<Node>() {
               public Node run(Node v$1) {
-                return GNode.create("CallExpression", v$1, v$g$2, v$g$3, v$g$4);
+                return GNode.create("CallExpression", v$1, v$g$5, v$g$6, v$g$7);
               }};
 
             return yyResult.createValue(yyValue, yyError);
           }
+        } else {
+          yyError = yyError.select("'super' expected", yyBase);
         }
-      } // End scope for v$pt$2.
 
-      // Nested alternative 2.
-      final Node v$g$5 = Formatting.before1(v$pt$1, null);
-
-      yyBase   = yyChoice1;
-      yyResult = pWord(yyBase);
-      if (yyResult.hasValue() &&
-          ((Node)yyResult.semanticValue()).getTokenText().equals("super")) {
-        final Node v$g$6 = yyResult.semanticValue();
+        // Nested alternative 3.
 
-        yyResult = pArguments(yyResult.index);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$g$7 = yyResult.semanticValue();
+        yyBase   = yyChoice1;
+        yyResult = pWord(yyBase);
+        if (yyResult.hasValue() &&
+            ((Node)yyResult.semanticValue()).getTokenText().equals("super")) {
+          final Node v$pt$4 = yyResult.semanticValue();
 
           yyValue = new Action<Node>() {
             public Node run(Node v$1) {
-              return GNode.create("CallExpression", v$1, v$g$5, v$g$6, v$g$7);
+              Node yyValue = GNode.create("SuperExpression", v$1);
+              yyValue = Formatting.variable().addNode(yyValue).
+                add(v$pt$1).add(v$pt$4);
+              return yyValue;
             }};
 
           return yyResult.createValue(yyValue, yyError);
+        } else {
+          yyError = yyError.select("'super' expected", yyBase);
         }
-      } else {
-        yyError = yyError.select("'super' expected", yyBase);
-      }
 
-      // Nested alternative 3.
+        // Nested alternative 4.
 
-      yyBase   = yyChoice1;
-      yyResult = pWord(yyBase);
-      if (yyResult.hasValue() &&
-          ((Node)yyResult.semanticValue()).getTokenText().equals("super")) {
-        final Node v$pt$4 = yyResult.semanticValue();
-
-        yyValue = new Action<Node>() {
-          public Node run(Node v$1) {
-            Node yyValue = GNode.create("SuperExpression", v$1);
-            yyValue = Formatting.variable().addNode(yyValue).
-              add(v$pt$1).add(v$pt$4);
-            return yyValue;
-          }};
-
-        return yyResult.createValue(yyValue, yyError);
-      } else {
-        yyError = yyError.select("'super' expected", yyBase);
-      }
-
-      // Nested alternative 4.
-
-      yyResult = pIdentifier(yyChoice1);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$pt$5 = yyResult.semanticValue();
-        final Node v$g$8 = Formatting.before1(v$pt$1, v$pt$5);
+        yyResult = pIdentifier(yyChoice1);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$pt$5 = yyResult.semanticValue();
+          final Node v$g$8 = Formatting.before1(v$pt$1, v$pt$5);
 
-        yyValue = new Action<Node>() {
-          public Node run(Node v$1) {
-            return GNode.create("SelectionExpression", v$1, v$g$8);
-          }};
+          yyValue = new Action<Node>() {
+            public Node run(Node v$1) {
+              return GNode.create("SelectionExpression", v$1, v$g$8);
+            }};
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("[")) {
-      final Node v$pt$6 = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("[")) {
+        final Node v$pt$6 = yyResult.semanticValue();
 
-      yyResult = pExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$pt$8 = yyResult.semanticValue();
+        yyResult = pExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$pt$8 = yyResult.semanticValue();
 
-        yyBase   = yyResult.index;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue() &&
-            ((Node)yyResult.semanticValue()).getTokenText().equals("]")) {
-          final Node v$pt$7 = yyResult.semanticValue();
-          final Node v$g$9 = Formatting.round1(v$pt$6, v$pt$8, v$pt$7);
+          yyBase   = yyResult.index;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue() &&
+              ((Node)yyResult.semanticValue()).getTokenText().equals("]")) {
+            final Node v$pt$7 = yyResult.semanticValue();
+            final Node v$g$9 = Formatting.round1(v$pt$6, v$pt$8, v$pt$7);
 
-          yyValue = new Action<Node>() {
-            public Node run(Node v$1) {
-              return GNode.create("SubscriptExpression", v$1, v$g$9);
-            }};
+            yyValue = new Action<Node>() {
+              public Node run(Node v$1) {
+                return GNode.create("SubscriptExpression", v$1, v$g$9);
+              }};
 
-          return yyResult.createValue(yyValue, yyError);
-        } else {
-          yyError = yyError.select("']' expected", yyBase);
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("']' expected", yyBase);
+          }
         }
       }
     }
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("++")) {
-      final Node v$g$10 = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("++")) {
+        final Node v$g$10 = yyResult.semanticValue();
 
-      yyValue = new Action<Node>() {
-        public Node run(Node v$1) {
-          return GNode.create("PostfixExpression", v$1, v$g$10);
-        }};
+        yyValue = new Action<Node>() {
+          public Node run(Node v$1) {
+            return GNode.create("PostfixExpression", v$1, v$g$10);
+          }};
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 4.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("--")) {
-      final Node v$g$11 = yyResult.semanticValue();
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue() &&
+          ((Node)yyResult.semanticValue()).getTokenText().equals("--")) {
+        final Node v$g$11 = yyResult.semanticValue();
 
-      yyValue = new Action<Node>() {
-        public Node run(Node v$1) {
-          return GNode.create("PostfixExpression", v$1, v$g$11);
-        }};
+        yyValue = new Action<Node>() {
+          public Node run(Node v$1) {
+            return GNode.create("PostfixExpression", v$1, v$g$11);
+          }};
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 5.
+    if (0 != (yyFirst & 0x10)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals(".")) {
-      final Node v$pt$9 = yyResult.semanticValue();
-
-      yyBase   = yyResult.index;
-      yyResult = pWord(yyBase);
+      yyResult = pSymbol(yyStart);
       if (yyResult.hasValue() &&
-          ((Node)yyResult.semanticValue()).getTokenText().equals("new")) {
-        final Node v$pt$10 = yyResult.semanticValue();
-
-        yyOption1  = yyResult.index;
-        yyOpValue1 = null;
+          ((Node)yyResult.semanticValue()).getTokenText().equals(".")) {
+        final Node v$pt$9 = yyResult.semanticValue();
 
-        yyResult = pTypeArguments(yyOption1);
-        yyError  = yyResult.select(yyError, yyOption1);
-        if (yyResult.hasValue()) {
-          final Node v$el$2 = yyResult.semanticValue();
+        yyBase   = yyResult.index;
+        yyResult = pWord(yyBase);
+        if (yyResult.hasValue() &&
+            ((Node)yyResult.semanticValue()).getTokenText().equals("new")) {
+          final Node v$pt$10 = yyResult.semanticValue();
 
           yyOption1  = yyResult.index;
-          yyOpValue1 = v$el$2;
-        }
-        { // Start scope for v$pt$11.
-          final Node v$pt$11 = yyOpValue1;
-          final Node v$g$12 = Formatting.variable().
-            add(v$pt$9).add(v$pt$10).addNode(v$pt$11);
+          yyOpValue1 = null;
 
-          yyResult = pTypeName(yyOption1);
-          yyError  = yyResult.select(yyError);
+          yyResult = pTypeArguments(yyOption1);
+          yyError  = yyResult.select(yyError, yyOption1);
           if (yyResult.hasValue()) {
-            final Node v$g$13 = yyResult.semanticValue();
+            final Node v$el$2 = yyResult.semanticValue();
 
-            yyResult = pArguments(yyResult.index);
+            yyOption1  = yyResult.index;
+            yyOpValue1 = v$el$2;
+          }
+          { // Start scope for v$pt$11.
+            final Node v$pt$11 = yyOpValue1;
+            final Node v$g$12 = Formatting.variable().
+              add(v$pt$9).add(v$pt$10).addNode(v$pt$11);
+
+            yyResult = pTypeName(yyOption1);
             yyError  = yyResult.select(yyError);
             if (yyResult.hasValue()) {
-              final Node v$g$14 = yyResult.semanticValue();
-
-              yyOption1  = yyResult.index;
-              yyOpValue1 = null;
+              final Node v$g$13 = yyResult.semanticValue();
 
-              yyResult = pClassBody(yyOption1);
-              yyError  = yyResult.select(yyError, yyOption1);
+              yyResult = pArguments(yyResult.index);
+              yyError  = yyResult.select(yyError);
               if (yyResult.hasValue()) {
-                final Node v$el$3 = yyResult.semanticValue();
+                final Node v$g$14 = yyResult.semanticValue();
 
                 yyOption1  = yyResult.index;
-                yyOpValue1 = v$el$3;
-              }
-              { // Start scope for v$g$15.
-                final Node v$g$15 = yyOpValue1;
+                yyOpValue1 = null;
 
-                yyValue = new Action<Node>() {
-                  public Node run(Node v$1) {
-                    return GNode.create("NewClassExpression", v$1, v$g$12, v$g$13, v$g$14, v$g$15);
-                  }};
+                yyResult = pClassBody(yyOption1);
+                yyError  = yyResult.select(yyError, yyOption1);
+                if (yyResult.hasValue()) {
+                  final Node v$el$3 = yyResult.semanticValue();
 
-                return new SemanticValue(yyValue, yyOption1, yyError);
-              } // End scope for v$g$15.
+                  yyOption1  = yyResult.index;
+                  yyOpValue1 = v$el$3;
+                }
+                { // Start scope for v$g$15.
+                  final Node v$g$15 = yyOpValue1;
+
+                  yyValue = new Action<Node>() {
+                    public Node run(Node v$1) {
+                      return GNode.create("NewClassExpression", v$1, v$g$12, v$g$13, v$g$14, v$g$15);
+                    }};
+
+                  return new SemanticValue(yyValue, yyOption1, yyError);
+                } // End scope for v$g$15.
+              }
             }
-          }
-        } // End scope for v$pt$11.
-      } else {
-        yyError = yyError.select("'new' expected", yyBase);
+          } // End scope for v$pt$11.
+        } else {
+          yyError = yyError.select("'new' expected", yyBase);
+        }
       }
     }
 
@@ -5846,7 +6518,7 @@ public final class JavaSevenReader extends ParserBase {
           final Node v$g$4 = yyResult.semanticValue();
 
           yyValue = GNode.create("CallExpression", null, v$g$2, v$g$3, v$g$4);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -5875,7 +6547,7 @@ public final class JavaSevenReader extends ParserBase {
             addNode(v$pt$3).add(v$pt$1).add(v$pt$2);
 
           yyValue = GNode.create("ClassLiteralExpression", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
@@ -5899,7 +6571,7 @@ public final class JavaSevenReader extends ParserBase {
         final Node v$g$4 = yyResult.semanticValue();
 
         yyValue = GNode.create("CallExpression", null, null, v$g$3, v$g$4);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -5939,7 +6611,7 @@ public final class JavaSevenReader extends ParserBase {
         final Node v$g$1 = Formatting.after1(v$pt$4, v$pt$3);
 
         yyValue = GNode.create("ThisExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       } else {
@@ -5960,7 +6632,7 @@ public final class JavaSevenReader extends ParserBase {
         final Node v$g$4 = yyResult.semanticValue();
 
         yyValue = GNode.create("CallExpression", null, null, v$g$3, v$g$4);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -5975,7 +6647,7 @@ public final class JavaSevenReader extends ParserBase {
       final Node v$g$1 = Formatting.after1(null, v$pt$1);
 
       yyValue = GNode.create("SuperExpression", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -5988,7 +6660,7 @@ public final class JavaSevenReader extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.create("PrimaryIdentifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -6040,7 +6712,7 @@ public final class JavaSevenReader extends ParserBase {
               final Node v$g$5 = yyOpValue1;
 
               yyValue = GNode.create("NewClassExpression", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return new SemanticValue(yyValue, yyOption1, yyError);
             } // End scope for v$g$5.
@@ -6086,7 +6758,7 @@ public final class JavaSevenReader extends ParserBase {
             final Node v$g$3 = yyOpValue1;
 
             yyValue = GNode.create("NewArrayExpression", v$g$1, v$g$2, v$g$3, null);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return new SemanticValue(yyValue, yyOption1, yyError);
           } // End scope for v$g$3.
@@ -6114,7 +6786,7 @@ public final class JavaSevenReader extends ParserBase {
             final Node v$g$7 = yyResult.semanticValue();
 
             yyValue = GNode.create("NewArrayExpression", v$g$1, null, v$g$6, v$g$7);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           }
@@ -6166,7 +6838,8 @@ public final class JavaSevenReader extends ParserBase {
     Result     yyResult;
     int        yyRepetition1;
     boolean    yyRepeated1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -6174,7 +6847,8 @@ public final class JavaSevenReader extends ParserBase {
 
     yyRepetition1 = yyStart;
     yyRepeated1   = false;
-    yyRepValue1   = Pair.empty();
+    yyRepStart1   = bufferStart();
+    yyRepEnd1   = yyRepStart1;
     while (true) {
 
       yyResult = pConcreteDimension(yyRepetition1);
@@ -6184,17 +6858,18 @@ public final class JavaSevenReader extends ParserBase {
 
         yyRepetition1 = yyResult.index;
         yyRepeated1   = true;
-        yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+        yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
         continue;
       }
       break;
     }
 
     if (yyRepeated1) {
-      final Pair<Node> v$g$1 = yyRepValue1.reverse();
+      final int v$g$1 = yyRepStart1;
+      final int v$g$1$end = yyRepEnd1;
 
-      yyValue = GNode.createFromPair("ConcreteDimensions", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      yyValue = bufferedNode("ConcreteDimensions", v$g$1, v$g$1$end);
+      locate(yyValue, yyStart);
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
     }
@@ -6266,85 +6941,123 @@ public final class JavaSevenReader extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
-    // Alternative 1.
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '@':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
 
-    yyResult = pArrayInitializer$$Split1(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final Node v$pt$1 = yyResult.semanticValue();
+    default:
+      yyFirst = 0;
+    }
 
-      yyOption1  = yyResult.index;
-      yyOpValue1 = null;
+    // Alternative 1.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-      yyBase   = yyOption1;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue() &&
-          ((Node)yyResult.semanticValue()).getTokenText().equals(",")) {
-        final Node v$el$1 = yyResult.semanticValue();
+      yyResult = pArrayInitializer$$Split1(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final Node v$pt$1 = yyResult.semanticValue();
 
         yyOption1  = yyResult.index;
-        yyOpValue1 = v$el$1;
-      } else {
-        yyError = yyError.select("',' expected", yyBase);
-      }
-      { // Start scope for v$pt$2.
-        final Node v$pt$2 = yyOpValue1;
+        yyOpValue1 = null;
 
         yyBase   = yyOption1;
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue() &&
-            ((Node)yyResult.semanticValue()).getTokenText().equals("}")) {
-          final Node v$pt$3 = yyResult.semanticValue();
-          yyValue = Formatting.variable().
-            addNode(v$pt$1).add(v$pt$2).add(v$pt$3);
+            ((Node)yyResult.semanticValue()).getTokenText().equals(",")) {
+          final Node v$el$1 = yyResult.semanticValue();
 
-          return yyResult.createValue(yyValue, yyError);
+          yyOption1  = yyResult.index;
+          yyOpValue1 = v$el$1;
         } else {
-          yyError = yyError.select("'}' expected", yyBase);
+          yyError = yyError.select("',' expected", yyBase);
         }
-      } // End scope for v$pt$2.
-    }
+        { // Start scope for v$pt$2.
+          final Node v$pt$2 = yyOpValue1;
 
-    // Alternative 2.
+          yyBase   = yyOption1;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue() &&
+              ((Node)yyResult.semanticValue()).getTokenText().equals("}")) {
+            final Node v$pt$3 = yyResult.semanticValue();
+            yyValue = Formatting.variable().
+              addNode(v$pt$1).add(v$pt$2).add(v$pt$3);
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("{")) {
-      final Node v$pt$4 = yyResult.semanticValue();
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("'}' expected", yyBase);
+          }
+        } // End scope for v$pt$2.
+      }
+    }
 
-      yyOption1  = yyResult.index;
-      yyOpValue1 = null;
+    // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-      yyBase   = yyOption1;
-      yyResult = pSymbol(yyBase);
+      yyResult = pSymbol(yyStart);
       if (yyResult.hasValue() &&
-          ((Node)yyResult.semanticValue()).getTokenText().equals(",")) {
-        final Node v$el$2 = yyResult.semanticValue();
+          ((Node)yyResult.semanticValue()).getTokenText().equals("{")) {
+        final Node v$pt$4 = yyResult.semanticValue();
 
         yyOption1  = yyResult.index;
-        yyOpValue1 = v$el$2;
-      } else {
-        yyError = yyError.select("',' expected", yyBase);
-      }
-      { // Start scope for v$pt$5.
-        final Node v$pt$5 = yyOpValue1;
+        yyOpValue1 = null;
 
         yyBase   = yyOption1;
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue() &&
-            ((Node)yyResult.semanticValue()).getTokenText().equals("}")) {
-          final Node v$pt$6 = yyResult.semanticValue();
-
-          yyValue = GNode.create("ArrayInitializer", false);
-          yyValue.setLocation(location(yyStart));
-          yyValue = Formatting.variable().addNode(yyValue).
-            add(v$pt$4).add(v$pt$5).add(v$pt$6);
+            ((Node)yyResult.semanticValue()).getTokenText().equals(",")) {
+          final Node v$el$2 = yyResult.semanticValue();
 
-          return yyResult.createValue(yyValue, yyError);
+          yyOption1  = yyResult.index;
+          yyOpValue1 = v$el$2;
         } else {
-          yyError = yyError.select("'}' expected", yyBase);
+          yyError = yyError.select("',' expected", yyBase);
         }
-      } // End scope for v$pt$5.
+        { // Start scope for v$pt$5.
+          final Node v$pt$5 = yyOpValue1;
+
+          yyBase   = yyOption1;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue() &&
+              ((Node)yyResult.semanticValue()).getTokenText().equals("}")) {
+            final Node v$pt$6 = yyResult.semanticValue();
+
+            yyValue = GNode.create("ArrayInitializer", false);
+            locate(yyValue, yyStart);
+            yyValue = Formatting.variable().addNode(yyValue).
+              add(v$pt$4).add(v$pt$5).add(v$pt$6);
+
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("'}' expected", yyBase);
+          }
+        } // End scope for v$pt$5.
+      }
     }
 
     // Done.
@@ -6367,7 +7080,8 @@ public final class JavaSevenReader extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -6385,7 +7099,8 @@ public final class JavaSevenReader extends ParserBase {
         final Node v$g$1 = Formatting.before1(v$pt$3, v$pt$4);
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyBase   = yyRepetition1;
@@ -6401,7 +7116,7 @@ public final class JavaSevenReader extends ParserBase {
               final Node v$el$1 = Formatting.before1(v$pt$1, v$pt$2);
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
           } else {
@@ -6410,10 +7125,11 @@ public final class JavaSevenReader extends ParserBase {
           break;
         }
         { // Start scope for v$g$2.
-          final Pair<Node> v$g$2 = yyRepValue1.reverse();
+          final int v$g$2 = yyRepStart1;
+          final int v$g$2$end = yyRepEnd1;
 
-          yyValue = GNode.createFromPair("ArrayInitializer", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          yyValue = bufferedNode("ArrayInitializer", v$g$1, v$g$2, v$g$2$end);
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
         } // End scope for v$g$2.
@@ -6437,8 +7153,13 @@ public final class JavaSevenReader extends ParserBase {
   private Result pVariableInitializer(final int yyStart) throws IOException {
     JavaSevenReaderColumn yyColumn = (JavaSevenReaderColumn)column(yyStart);
     if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fVariableInitializer) 
+    if (null == yyColumn.chunk2.fVariableInitializer) {
       yyColumn.chunk2.fVariableInitializer = pVariableInitializer$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(13, yyColumn.chunk2.fVariableInitializer);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(13, yyColumn.chunk2.fVariableInitializer);
+    }
     return yyColumn.chunk2.fVariableInitializer;
   }
 
@@ -6489,47 +7210,85 @@ public final class JavaSevenReader extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
-    // Alternative 1.
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '@':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
 
-    yyResult = pArguments$$Split1(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final Node v$pt$1 = yyResult.semanticValue();
+    default:
+      yyFirst = 0;
+    }
 
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue() &&
-          ((Node)yyResult.semanticValue()).getTokenText().equals(")")) {
-        final Node v$pt$2 = yyResult.semanticValue();
-        yyValue = Formatting.after1(v$pt$1, v$pt$2);
+    // Alternative 1.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-        return yyResult.createValue(yyValue, yyError);
-      } else {
-        yyError = yyError.select("')' expected", yyBase);
+      yyResult = pArguments$$Split1(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final Node v$pt$1 = yyResult.semanticValue();
+
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue() &&
+            ((Node)yyResult.semanticValue()).getTokenText().equals(")")) {
+          final Node v$pt$2 = yyResult.semanticValue();
+          yyValue = Formatting.after1(v$pt$1, v$pt$2);
+
+          return yyResult.createValue(yyValue, yyError);
+        } else {
+          yyError = yyError.select("')' expected", yyBase);
+        }
       }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("(")) {
-      final Node v$pt$3 = yyResult.semanticValue();
-
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
+      yyResult = pSymbol(yyStart);
       if (yyResult.hasValue() &&
-          ((Node)yyResult.semanticValue()).getTokenText().equals(")")) {
-        final Node v$pt$4 = yyResult.semanticValue();
+          ((Node)yyResult.semanticValue()).getTokenText().equals("(")) {
+        final Node v$pt$3 = yyResult.semanticValue();
+
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue() &&
+            ((Node)yyResult.semanticValue()).getTokenText().equals(")")) {
+          final Node v$pt$4 = yyResult.semanticValue();
 
-        yyValue = GNode.create("Arguments", false);
-        yyValue.setLocation(location(yyStart));
-        yyValue = Formatting.variable().addNode(yyValue).
-          add(v$pt$3).add(v$pt$4);
+          yyValue = GNode.create("Arguments", false);
+          locate(yyValue, yyStart);
+          yyValue = Formatting.variable().addNode(yyValue).
+            add(v$pt$3).add(v$pt$4);
 
-        return yyResult.createValue(yyValue, yyError);
-      } else {
-        yyError = yyError.select("')' expected", yyBase);
+          return yyResult.createValue(yyValue, yyError);
+        } else {
+          yyError = yyError.select("')' expected", yyBase);
+        }
       }
     }
 
@@ -6551,7 +7310,8 @@ public final class JavaSevenReader extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -6569,7 +7329,8 @@ public final class JavaSevenReader extends ParserBase {
         final Node v$g$1 = Formatting.before1(v$pt$3, v$pt$4);
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyBase   = yyRepetition1;
@@ -6585,7 +7346,7 @@ public final class JavaSevenReader extends ParserBase {
               final Node v$el$1 = Formatting.before1(v$pt$1, v$pt$2);
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
           } else {
@@ -6594,10 +7355,11 @@ public final class JavaSevenReader extends ParserBase {
           break;
         }
         { // Start scope for v$g$2.
-          final Pair<Node> v$g$2 = yyRepValue1.reverse();
+          final int v$g$2 = yyRepStart1;
+          final int v$g$2$end = yyRepEnd1;
 
-          yyValue = GNode.createFromPair("Arguments", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          yyValue = bufferedNode("Arguments", v$g$1, v$g$2, v$g$2$end);
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
         } // End scope for v$g$2.
@@ -6659,8 +7421,13 @@ public final class JavaSevenReader extends ParserBase {
   private Result pAnnotations(final int yyStart) throws IOException {
     JavaSevenReaderColumn yyColumn = (JavaSevenReaderColumn)column(yyStart);
     if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fAnnotations) 
+    if (null == yyColumn.chunk2.fAnnotations) {
       yyColumn.chunk2.fAnnotations = pAnnotations$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(14, yyColumn.chunk2.fAnnotations);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(14, yyColumn.chunk2.fAnnotations);
+    }
     return yyColumn.chunk2.fAnnotations;
   }
 
@@ -6678,7 +7445,7 @@ public final class JavaSevenReader extends ParserBase {
       final Pair<Node> v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.createFromPair("Annotations", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -6699,8 +7466,13 @@ public final class JavaSevenReader extends ParserBase {
   private Result pAnnotations$$Plus1(final int yyStart) throws IOException {
     JavaSevenReaderColumn yyColumn = (JavaSevenReaderColumn)column(yyStart);
     if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fAnnotations$$Plus1) 
+    if (null == yyColumn.chunk2.fAnnotations$$Plus1) {
       yyColumn.chunk2.fAnnotations$$Plus1 = pAnnotations$$Plus1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(15, yyColumn.chunk2.fAnnotations$$Plus1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(15, yyColumn.chunk2.fAnnotations$$Plus1);
+    }
     return yyColumn.chunk2.fAnnotations$$Plus1;
   }
 
@@ -6775,7 +7547,7 @@ public final class JavaSevenReader extends ParserBase {
           final Node v$g$2 = yyResult.semanticValue();
 
           yyValue = GNode.create("Annotation", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -6884,7 +7656,8 @@ public final class JavaSevenReader extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -6896,7 +7669,8 @@ public final class JavaSevenReader extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyBase   = yyRepetition1;
@@ -6912,7 +7686,7 @@ public final class JavaSevenReader extends ParserBase {
             final Node v$el$1 = Formatting.before1(v$pt$1, v$pt$2);
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
         } else {
@@ -6921,10 +7695,11 @@ public final class JavaSevenReader extends ParserBase {
         break;
       }
       { // Start scope for v$g$2.
-        final Pair<Node> v$g$2 = yyRepValue1.reverse();
+        final int v$g$2 = yyRepStart1;
+        final int v$g$2$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("ElementValuePairs", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("ElementValuePairs", v$g$1, v$g$2, v$g$2$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$2.
@@ -6945,10 +7720,15 @@ public final class JavaSevenReader extends ParserBase {
    */
   private Result pElementValuePair(final int yyStart) throws IOException {
     JavaSevenReaderColumn yyColumn = (JavaSevenReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fElementValuePair) 
-      yyColumn.chunk2.fElementValuePair = pElementValuePair$1(yyStart);
-    return yyColumn.chunk2.fElementValuePair;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fElementValuePair) {
+      yyColumn.chunk3.fElementValuePair = pElementValuePair$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(16, yyColumn.chunk3.fElementValuePair);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(16, yyColumn.chunk3.fElementValuePair);
+    }
+    return yyColumn.chunk3.fElementValuePair;
   }
 
   /** Actually parse xtc.lang.JavaSeven.ElementValuePair. */
@@ -6978,7 +7758,7 @@ public final class JavaSevenReader extends ParserBase {
           final Node v$g$2 = yyResult.semanticValue();
 
           yyValue = GNode.create("ElementValuePair", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -7003,8 +7783,13 @@ public final class JavaSevenReader extends ParserBase {
   private Result pElementValue(final int yyStart) throws IOException {
     JavaSevenReaderColumn yyColumn = (JavaSevenReaderColumn)column(yyStart);
     if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fElementValue) 
+    if (null == yyColumn.chunk2.fElementValue) {
       yyColumn.chunk2.fElementValue = pElementValue$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(17, yyColumn.chunk2.fElementValue);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(17, yyColumn.chunk2.fElementValue);
+    }
     return yyColumn.chunk2.fElementValue;
   }
 
@@ -7014,6 +7799,40 @@ public final class JavaSevenReader extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '@':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Expression>.
 
     yyResult = pExpression(yyStart);
@@ -7025,23 +7844,27 @@ public final class JavaSevenReader extends ParserBase {
     }
 
     // Alternative <Annotation>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pAnnotation(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pAnnotation(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Array>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pElementArrayInitializer(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pElementArrayInitializer(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -7067,85 +7890,123 @@ public final class JavaSevenReader extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
-    // Alternative 1.
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '@':
+    case '[':
+    case ']':
+    case '^':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
 
-    yyResult = pElementArrayInitializer$$Split1(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final Node v$pt$1 = yyResult.semanticValue();
+    default:
+      yyFirst = 0;
+    }
 
-      yyOption1  = yyResult.index;
-      yyOpValue1 = null;
+    // Alternative 1.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-      yyBase   = yyOption1;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue() &&
-          ((Node)yyResult.semanticValue()).getTokenText().equals(",")) {
-        final Node v$el$1 = yyResult.semanticValue();
+      yyResult = pElementArrayInitializer$$Split1(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final Node v$pt$1 = yyResult.semanticValue();
 
         yyOption1  = yyResult.index;
-        yyOpValue1 = v$el$1;
-      } else {
-        yyError = yyError.select("',' expected", yyBase);
-      }
-      { // Start scope for v$pt$2.
-        final Node v$pt$2 = yyOpValue1;
+        yyOpValue1 = null;
 
         yyBase   = yyOption1;
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue() &&
-            ((Node)yyResult.semanticValue()).getTokenText().equals("}")) {
-          final Node v$pt$3 = yyResult.semanticValue();
-          yyValue = Formatting.variable().
-            addNode(v$pt$1).add(v$pt$2).add(v$pt$3);
+            ((Node)yyResult.semanticValue()).getTokenText().equals(",")) {
+          final Node v$el$1 = yyResult.semanticValue();
 
-          return yyResult.createValue(yyValue, yyError);
+          yyOption1  = yyResult.index;
+          yyOpValue1 = v$el$1;
         } else {
-          yyError = yyError.select("'}' expected", yyBase);
+          yyError = yyError.select("',' expected", yyBase);
         }
-      } // End scope for v$pt$2.
-    }
+        { // Start scope for v$pt$2.
+          final Node v$pt$2 = yyOpValue1;
 
-    // Alternative 2.
+          yyBase   = yyOption1;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue() &&
+              ((Node)yyResult.semanticValue()).getTokenText().equals("}")) {
+            final Node v$pt$3 = yyResult.semanticValue();
+            yyValue = Formatting.variable().
+              addNode(v$pt$1).add(v$pt$2).add(v$pt$3);
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue() &&
-        ((Node)yyResult.semanticValue()).getTokenText().equals("{")) {
-      final Node v$pt$4 = yyResult.semanticValue();
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("'}' expected", yyBase);
+          }
+        } // End scope for v$pt$2.
+      }
+    }
 
-      yyOption1  = yyResult.index;
-      yyOpValue1 = null;
+    // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-      yyBase   = yyOption1;
-      yyResult = pSymbol(yyBase);
+      yyResult = pSymbol(yyStart);
       if (yyResult.hasValue() &&
-          ((Node)yyResult.semanticValue()).getTokenText().equals(",")) {
-        final Node v$el$2 = yyResult.semanticValue();
+          ((Node)yyResult.semanticValue()).getTokenText().equals("{")) {
+        final Node v$pt$4 = yyResult.semanticValue();
 
         yyOption1  = yyResult.index;
-        yyOpValue1 = v$el$2;
-      } else {
-        yyError = yyError.select("',' expected", yyBase);
-      }
-      { // Start scope for v$pt$5.
-        final Node v$pt$5 = yyOpValue1;
+        yyOpValue1 = null;
 
         yyBase   = yyOption1;
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue() &&
-            ((Node)yyResult.semanticValue()).getTokenText().equals("}")) {
-          final Node v$pt$6 = yyResult.semanticValue();
-
-          yyValue = GNode.create("ArrayInitializer", false);
-          yyValue.setLocation(location(yyStart));
-          yyValue = Formatting.variable().addNode(yyValue).
-            add(v$pt$4).add(v$pt$5).add(v$pt$6);
+            ((Node)yyResult.semanticValue()).getTokenText().equals(",")) {
+          final Node v$el$2 = yyResult.semanticValue();
 
-          return yyResult.createValue(yyValue, yyError);
+          yyOption1  = yyResult.index;
+          yyOpValue1 = v$el$2;
         } else {
-          yyError = yyError.select("'}' expected", yyBase);
+          yyError = yyError.select("',' expected", yyBase);
         }
-      } // End scope for v$pt$5.
+        { // Start scope for v$pt$5.
+          final Node v$pt$5 = yyOpValue1;
+
+          yyBase   = yyOption1;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue() &&
+              ((Node)yyResult.semanticValue()).getTokenText().equals("}")) {
+            final Node v$pt$6 = yyResult.semanticValue();
+
+            yyValue = GNode.create("ArrayInitializer", false);
+            locate(yyValue, yyStart);
+            yyValue = Formatting.variable().addNode(yyValue).
+              add(v$pt$4).add(v$pt$5).add(v$pt$6);
+
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("'}' expected", yyBase);
+          }
+        } // End scope for v$pt$5.
+      }
     }
 
     // Done.
@@ -7169,7 +8030,8 @@ public final class JavaSevenReader extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -7187,7 +8049,8 @@ public final class JavaSevenReader extends ParserBase {
         final Node v$g$1 = Formatting.before1(v$pt$3, v$pt$4);
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyBase   = yyRepetition1;
@@ -7203,7 +8066,7 @@ public final class JavaSevenReader extends ParserBase {
               final Node v$el$1 = Formatting.before1(v$pt$1, v$pt$2);
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
           } else {
@@ -7212,10 +8075,11 @@ public final class JavaSevenReader extends ParserBase {
           break;
         }
         { // Start scope for v$g$2.
-          final Pair<Node> v$g$2 = yyRepValue1.reverse();
+          final int v$g$2 = yyRepStart1;
+          final int v$g$2$end = yyRepEnd1;
 
-          yyValue = GNode.createFromPair("ArrayInitializer", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          yyValue = bufferedNode("ArrayInitializer", v$g$1, v$g$2, v$g$2$end);
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
         } // End scope for v$g$2.
@@ -7287,14 +8151,16 @@ public final class JavaSevenReader extends ParserBase {
 
     Result     yyResult;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
     // Alternative <Body>.
 
     yyRepetition1 = yyStart;
-    yyRepValue1   = Pair.empty();
+    yyRepStart1   = bufferStart();
+    yyRepEnd1   = yyRepStart1;
     while (true) {
 
       yyResult = pAnnotationElement(yyRepetition1);
@@ -7303,16 +8169,17 @@ public final class JavaSevenReader extends ParserBase {
         final Node v$el$1 = yyResult.semanticValue();
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+        yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
         continue;
       }
       break;
     }
     { // Start scope for v$g$1.
-      final Pair<Node> v$g$1 = yyRepValue1.reverse();
+      final int v$g$1 = yyRepStart1;
+      final int v$g$1$end = yyRepEnd1;
 
-      yyValue = GNode.createFromPair("ClassBody", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      yyValue = bufferedNode("ClassBody", v$g$1, v$g$1$end);
+      locate(yyValue, yyStart);
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
     } // End scope for v$g$1.
@@ -7392,7 +8259,7 @@ public final class JavaSevenReader extends ParserBase {
                   final Node v$g$4 = Formatting.after1(v$pt$5, v$pt$4);
 
                   yyValue = GNode.create("AnnotationMethod", v$g$1, v$g$2, v$g$3, v$g$4);
-                  yyValue.setLocation(location(yyStart));
+                  locate(yyValue, yyStart);
 
                   return yyResult.createValue(yyValue, yyError);
                 } else {
@@ -7422,7 +8289,7 @@ public final class JavaSevenReader extends ParserBase {
             final Node v$g$3 = Formatting.after1(v$pt$2, v$pt$1);
 
             yyValue = GNode.create("FieldDeclaration", v$g$1, v$g$2, v$g$3);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
@@ -7501,7 +8368,7 @@ public final class JavaSevenReader extends ParserBase {
                   final Node v$g$6 = yyResult.semanticValue();
 
                   yyValue = GNode.create("ClassDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6);
-                  yyValue.setLocation(location(yyStart));
+                  locate(yyValue, yyStart);
 
                   return yyResult.createValue(yyValue, yyError);
                 }
@@ -7560,7 +8427,7 @@ public final class JavaSevenReader extends ParserBase {
                 final Node v$g$5 = yyResult.semanticValue();
 
                 yyValue = GNode.create("InterfaceDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return yyResult.createValue(yyValue, yyError);
               }
@@ -7658,7 +8525,7 @@ public final class JavaSevenReader extends ParserBase {
                       final Node v$g$5 = Formatting.after1(v$pt$8, v$pt$7);
 
                       yyValue = GNode.create("EnumDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
-                      yyValue.setLocation(location(yyStart));
+                      locate(yyValue, yyStart);
 
                       return yyResult.createValue(yyValue, yyError);
                     } else {
@@ -7709,7 +8576,7 @@ public final class JavaSevenReader extends ParserBase {
               final Node v$g$3 = yyResult.semanticValue();
 
               yyValue = GNode.create("AnnotationDeclaration", v$g$1, v$g$2, v$g$3);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -7754,7 +8621,7 @@ public final class JavaSevenReader extends ParserBase {
         final Node v$g$1 = Formatting.before1(v$pt$1, v$pt$2);
 
         yyValue = GNode.create("DefaultValue", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -7778,7 +8645,8 @@ public final class JavaSevenReader extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -7790,7 +8658,8 @@ public final class JavaSevenReader extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyBase   = yyRepetition1;
@@ -7806,7 +8675,7 @@ public final class JavaSevenReader extends ParserBase {
             final Node v$el$1 = Formatting.before1(v$pt$1, v$pt$2);
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
         } else {
@@ -7815,10 +8684,11 @@ public final class JavaSevenReader extends ParserBase {
         break;
       }
       { // Start scope for v$g$2.
-        final Pair<Node> v$g$2 = yyRepValue1.reverse();
+        final int v$g$2 = yyRepStart1;
+        final int v$g$2$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("EnumConstants", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("EnumConstants", v$g$1, v$g$2, v$g$2$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$2.
@@ -7893,7 +8763,7 @@ public final class JavaSevenReader extends ParserBase {
             final Node v$g$4 = yyOpValue1;
 
             yyValue = GNode.create("EnumConstant", v$g$1, v$g$2, v$g$3, v$g$4);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return new SemanticValue(yyValue, yyOption1, yyError);
           } // End scope for v$g$4.
@@ -7953,14 +8823,16 @@ public final class JavaSevenReader extends ParserBase {
   private Result pEnumMembers$$Split1(final int yyStart) throws IOException {
     Result     yyResult;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
     // Alternative 1.
 
     yyRepetition1 = yyStart;
-    yyRepValue1   = Pair.empty();
+    yyRepStart1   = bufferStart();
+    yyRepEnd1   = yyRepStart1;
     while (true) {
 
       yyResult = pDeclaration(yyRepetition1);
@@ -7969,16 +8841,17 @@ public final class JavaSevenReader extends ParserBase {
         final Node v$el$1 = yyResult.semanticValue();
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+        yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
         continue;
       }
       break;
     }
     { // Start scope for v$g$1.
-      final Pair<Node> v$g$1 = yyRepValue1.reverse();
+      final int v$g$1 = yyRepStart1;
+      final int v$g$1$end = yyRepEnd1;
 
-      yyValue = GNode.createFromPair("EnumMembers", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      yyValue = bufferedNode("EnumMembers", v$g$1, v$g$1$end);
+      locate(yyValue, yyStart);
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
     } // End scope for v$g$1.
@@ -8062,7 +8935,8 @@ public final class JavaSevenReader extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -8080,7 +8954,8 @@ public final class JavaSevenReader extends ParserBase {
         final Node v$g$1 = Formatting.before1(v$pt$3, v$pt$4);
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyBase   = yyRepetition1;
@@ -8096,7 +8971,7 @@ public final class JavaSevenReader extends ParserBase {
               final Node v$el$1 = Formatting.before1(v$pt$1, v$pt$2);
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
           } else {
@@ -8105,10 +8980,11 @@ public final class JavaSevenReader extends ParserBase {
           break;
         }
         { // Start scope for v$g$2.
-          final Pair<Node> v$g$2 = yyRepValue1.reverse();
+          final int v$g$2 = yyRepStart1;
+          final int v$g$2$end = yyRepEnd1;
 
-          yyValue = GNode.createFromPair("ResourceSpecification", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          yyValue = bufferedNode("ResourceSpecification", v$g$1, v$g$2, v$g$2$end);
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
         } // End scope for v$g$2.
@@ -8131,10 +9007,15 @@ public final class JavaSevenReader extends ParserBase {
    */
   private Result pResource(final int yyStart) throws IOException {
     JavaSevenReaderColumn yyColumn = (JavaSevenReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fResource) 
-      yyColumn.chunk2.fResource = pResource$1(yyStart);
-    return yyColumn.chunk2.fResource;
+    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
+    if (null == yyColumn.chunk4.fResource) {
+      yyColumn.chunk4.fResource = pResource$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(18, yyColumn.chunk4.fResource);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(18, yyColumn.chunk4.fResource);
+    }
+    return yyColumn.chunk4.fResource;
   }
 
   /** Actually parse xtc.lang.JavaSeven.Resource. */
@@ -8161,7 +9042,7 @@ public final class JavaSevenReader extends ParserBase {
           final Node v$g$3 = yyResult.semanticValue();
 
           yyValue = GNode.create("FieldDeclaration", v$g$1, v$g$2, v$g$3);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -8194,7 +9075,7 @@ public final class JavaSevenReader extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.create("Declarators", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -8238,7 +9119,7 @@ public final class JavaSevenReader extends ParserBase {
           final Node v$g$3 = yyResult.semanticValue();
 
           yyValue = GNode.create("Declarator", v$g$1, v$g$2, v$g$3);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -8264,7 +9145,8 @@ public final class JavaSevenReader extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -8281,7 +9163,8 @@ public final class JavaSevenReader extends ParserBase {
         final Node v$g$2 = yyResult.semanticValue();
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyBase   = yyRepetition1;
@@ -8297,7 +9180,7 @@ public final class JavaSevenReader extends ParserBase {
               final Node v$el$1 = Formatting.before1(v$pt$1, v$pt$2);
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
           } else {
@@ -8306,19 +9189,23 @@ public final class JavaSevenReader extends ParserBase {
           break;
         }
         { // Start scope for v$g$3.
-          final Pair<Node> v$g$3 = yyRepValue1.reverse();
+          final int v$g$3 = yyRepStart1;
+          final int v$g$3$end = yyRepEnd1;
 
           yyResult = pIdentifier(yyRepetition1);
           yyError  = yyResult.select(yyError);
           if (yyResult.hasValue()) {
             final Node v$g$5 = yyResult.semanticValue();
 
-            yyValue = GNode.create("FormalParameter", v$g$3.size() + 5).
-              add(v$g$1).add(v$g$2).addAll(v$g$3).add(null).add(v$g$5).add(null);
-            yyValue.setLocation(location(yyStart));
+            yyValue = GNode.create("FormalParameter", (v$g$3$end - v$g$3) + 5).
+              add(v$g$1).add(v$g$2);
+            addBuffered(yyValue, v$g$3, v$g$3$end);
+            yyValue.add(null).add(v$g$5).add(null);
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           }
+          releaseBuffer(v$g$3);
         } // End scope for v$g$3.
       }
     }
@@ -8338,10 +9225,15 @@ public final class JavaSevenReader extends ParserBase {
    */
   private Result pResultType(final int yyStart) throws IOException {
     JavaSevenReaderColumn yyColumn = (JavaSevenReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fResultType) 
-      yyColumn.chunk2.fResultType = pResultType$1(yyStart);
-    return yyColumn.chunk2.fResultType;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fResultType) {
+      yyColumn.chunk1.fResultType = pResultType$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(19, yyColumn.chunk1.fResultType);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(19, yyColumn.chunk1.fResultType);
+    }
+    return yyColumn.chunk1.fResultType;
   }
 
   /** Actually parse xtc.lang.JavaFiveType.ResultType. */
@@ -8396,7 +9288,7 @@ public final class JavaSevenReader extends ParserBase {
       final Node v$pt$1 = yyResult.semanticValue();
 
       yyValue = GNode.create("VoidType", false);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
       yyValue = Formatting.after1(yyValue, v$pt$1);
 
       return yyResult.createValue(yyValue, yyError);
@@ -8418,10 +9310,14 @@ public final class JavaSevenReader extends ParserBase {
    */
   private Result pType(final int yyStart) throws IOException {
     JavaSevenReaderColumn yyColumn = (JavaSevenReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fType) 
-      yyColumn.chunk3.fType = pType$1(yyStart);
-    return yyColumn.chunk3.fType;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fType) {
+      yyColumn.chunk1.fType = pType$1(yyStart);
+      if (null != yyStatistics) yyStatistics.miss(20, yyColumn.chunk1.fType);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(20, yyColumn.chunk1.fType);
+    }
+    return yyColumn.chunk1.fType;
   }
 
   /** Actually parse xtc.lang.JavaFiveType.Type. */
@@ -8454,7 +9350,7 @@ public final class JavaSevenReader extends ParserBase {
         final Node v$g$2 = yyOpValue1;
 
         yyValue = GNode.create("Type", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyOption1, yyError);
       } // End scope for v$g$2.
@@ -8475,10 +9371,15 @@ public final class JavaSevenReader extends ParserBase {
    */
   private Result pTypeName(final int yyStart) throws IOException {
     JavaSevenReaderColumn yyColumn = (JavaSevenReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fTypeName) 
-      yyColumn.chunk3.fTypeName = pTypeName$1(yyStart);
-    return yyColumn.chunk3.fTypeName;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fTypeName) {
+      yyColumn.chunk1.fTypeName = pTypeName$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(21, yyColumn.chunk1.fTypeName);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(21, yyColumn.chunk1.fTypeName);
+    }
+    return yyColumn.chunk1.fTypeName;
   }
 
   /** Actually parse xtc.lang.JavaFiveType.TypeName. */
@@ -8522,10 +9423,15 @@ public final class JavaSevenReader extends ParserBase {
    */
   private Result pPrimitiveType(final int yyStart) throws IOException {
     JavaSevenReaderColumn yyColumn = (JavaSevenReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fPrimitiveType) 
-      yyColumn.chunk3.fPrimitiveType = pPrimitiveType$1(yyStart);
-    return yyColumn.chunk3.fPrimitiveType;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fPrimitiveType) {
+      yyColumn.chunk1.fPrimitiveType = pPrimitiveType$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(22, yyColumn.chunk1.fPrimitiveType);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(22, yyColumn.chunk1.fPrimitiveType);
+    }
+    return yyColumn.chunk1.fPrimitiveType;
   }
 
   /** Actually parse xtc.lang.JavaFiveType.PrimitiveType. */
@@ -8542,7 +9448,7 @@ public final class JavaSevenReader extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.create("PrimitiveType", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -8555,7 +9461,7 @@ public final class JavaSevenReader extends ParserBase {
       final Node v$g$2 = yyResult.semanticValue();
 
       yyValue = GNode.create("PrimitiveType", v$g$2);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -8568,7 +9474,7 @@ public final class JavaSevenReader extends ParserBase {
       final Node v$g$3 = yyResult.semanticValue();
 
       yyValue = GNode.create("PrimitiveType", v$g$3);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -8581,7 +9487,7 @@ public final class JavaSevenReader extends ParserBase {
       final Node v$g$4 = yyResult.semanticValue();
 
       yyValue = GNode.create("PrimitiveType", v$g$4);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -8594,7 +9500,7 @@ public final class JavaSevenReader extends ParserBase {
       final Node v$g$5 = yyResult.semanticValue();
 
       yyValue = GNode.create("PrimitiveType", v$g$5);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -8607,7 +9513,7 @@ public final class JavaSevenReader extends ParserBase {
       final Node v$g$6 = yyResult.semanticValue();
 
       yyValue = GNode.create("PrimitiveType", v$g$6);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -8620,7 +9526,7 @@ public final class JavaSevenReader extends ParserBase {
       final Node v$g$7 = yyResult.semanticValue();
 
       yyValue = GNode.create("PrimitiveType", v$g$7);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -8633,7 +9539,7 @@ public final class JavaSevenReader extends ParserBase {
       final Node v$g$8 = yyResult.semanticValue();
 
       yyValue = GNode.create("PrimitiveType", v$g$8);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -8707,10 +9613,15 @@ public final class JavaSevenReader extends ParserBase {
    */
   private Result pDimensions(final int yyStart) throws IOException {
     JavaSevenReaderColumn yyColumn = (JavaSevenReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fDimensions) 
-      yyColumn.chunk3.fDimensions = pDimensions$1(yyStart);
-    return yyColumn.chunk3.fDimensions;
+    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
+    if (null == yyColumn.chunk2.fDimensions) {
+      yyColumn.chunk2.fDimensions = pDimensions$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(23, yyColumn.chunk2.fDimensions);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(23, yyColumn.chunk2.fDimensions);
+    }
+    return yyColumn.chunk2.fDimensions;
   }
 
   /** Actually parse xtc.lang.JavaFiveType.Dimensions. */
@@ -8727,7 +9638,7 @@ public final class JavaSevenReader extends ParserBase {
       final Pair<Node> v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.createFromPair("Dimensions", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -8747,10 +9658,15 @@ public final class JavaSevenReader extends ParserBase {
    */
   private Result pDimensions$$Plus1(final int yyStart) throws IOException {
     JavaSevenReaderColumn yyColumn = (JavaSevenReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fDimensions$$Plus1) 
-      yyColumn.chunk3.fDimensions$$Plus1 = pDimensions$$Plus1$1(yyStart);
-    return yyColumn.chunk3.fDimensions$$Plus1;
+    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
+    if (null == yyColumn.chunk2.fDimensions$$Plus1) {
+      yyColumn.chunk2.fDimensions$$Plus1 = pDimensions$$Plus1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(24, yyColumn.chunk2.fDimensions$$Plus1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(24, yyColumn.chunk2.fDimensions$$Plus1);
+    }
+    return yyColumn.chunk2.fDimensions$$Plus1;
   }
 
   /** Actually parse xtc.lang.JavaSeven.Dimensions$$Plus1. */
@@ -8814,10 +9730,15 @@ public final class JavaSevenReader extends ParserBase {
    */
   private Result pTypeParameters(final int yyStart) throws IOException {
     JavaSevenReaderColumn yyColumn = (JavaSevenReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fTypeParameters) 
-      yyColumn.chunk3.fTypeParameters = pTypeParameters$1(yyStart);
-    return yyColumn.chunk3.fTypeParameters;
+    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
+    if (null == yyColumn.chunk4.fTypeParameters) {
+      yyColumn.chunk4.fTypeParameters = pTypeParameters$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(25, yyColumn.chunk4.fTypeParameters);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(25, yyColumn.chunk4.fTypeParameters);
+    }
+    return yyColumn.chunk4.fTypeParameters;
   }
 
   /** Actually parse xtc.lang.JavaFiveType.TypeParameters. */
@@ -8877,7 +9798,8 @@ public final class JavaSevenReader extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -8901,7 +9823,8 @@ public final class JavaSevenReader extends ParserBase {
             add(v$pt$3).add(v$pt$4).addNode(v$pt$5);
 
           yyRepetition1 = yyResult.index;
-          yyRepValue1   = Pair.empty();
+          yyRepStart1   = bufferStart();
+          yyRepEnd1   = yyRepStart1;
           while (true) {
 
             yyBase   = yyRepetition1;
@@ -8917,7 +9840,7 @@ public final class JavaSevenReader extends ParserBase {
                 final Node v$el$1 = Formatting.before1(v$pt$1, v$pt$2);
 
                 yyRepetition1 = yyResult.index;
-                yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+                yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
                 continue;
               }
             } else {
@@ -8926,10 +9849,11 @@ public final class JavaSevenReader extends ParserBase {
             break;
           }
           { // Start scope for v$g$2.
-            final Pair<Node> v$g$2 = yyRepValue1.reverse();
+            final int v$g$2 = yyRepStart1;
+            final int v$g$2$end = yyRepEnd1;
 
-            yyValue = GNode.createFromPair("TypeParameters", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
+            yyValue = bufferedNode("TypeParameters", v$g$1, v$g$2, v$g$2$end);
+            locate(yyValue, yyStart);
 
             return new SemanticValue(yyValue, yyRepetition1, yyError);
           } // End scope for v$g$2.
@@ -8953,10 +9877,15 @@ public final class JavaSevenReader extends ParserBase {
    */
   private Result pTypeParameter(final int yyStart) throws IOException {
     JavaSevenReaderColumn yyColumn = (JavaSevenReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fTypeParameter) 
-      yyColumn.chunk3.fTypeParameter = pTypeParameter$1(yyStart);
-    return yyColumn.chunk3.fTypeParameter;
+    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
+    if (null == yyColumn.chunk4.fTypeParameter) {
+      yyColumn.chunk4.fTypeParameter = pTypeParameter$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(26, yyColumn.chunk4.fTypeParameter);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(26, yyColumn.chunk4.fTypeParameter);
+    }
+    return yyColumn.chunk4.fTypeParameter;
   }
 
   /** Actually parse xtc.lang.JavaFiveType.TypeParameter. */
@@ -9000,7 +9929,7 @@ public final class JavaSevenReader extends ParserBase {
         final Node v$g$2 = yyOpValue1;
 
         yyValue = GNode.create("TypeParameter", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyOption1, yyError);
       } // End scope for v$g$2.
@@ -9023,7 +9952,8 @@ public final class JavaSevenReader extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -9035,7 +9965,8 @@ public final class JavaSevenReader extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyBase   = yyRepetition1;
@@ -9051,7 +9982,7 @@ public final class JavaSevenReader extends ParserBase {
             final Node v$el$1 = Formatting.before1(v$pt$1, v$pt$2);
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
         } else {
@@ -9060,10 +9991,11 @@ public final class JavaSevenReader extends ParserBase {
         break;
       }
       { // Start scope for v$g$2.
-        final Pair<Node> v$g$2 = yyRepValue1.reverse();
+        final int v$g$2 = yyRepStart1;
+        final int v$g$2$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("Bound", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("Bound", v$g$1, v$g$2, v$g$2$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$2.
@@ -9084,10 +10016,15 @@ public final class JavaSevenReader extends ParserBase {
    */
   private Result pTypeArguments(final int yyStart) throws IOException {
     JavaSevenReaderColumn yyColumn = (JavaSevenReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fTypeArguments) 
-      yyColumn.chunk3.fTypeArguments = pTypeArguments$1(yyStart);
-    return yyColumn.chunk3.fTypeArguments;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fTypeArguments) {
+      yyColumn.chunk1.fTypeArguments = pTypeArguments$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(27, yyColumn.chunk1.fTypeArguments);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(27, yyColumn.chunk1.fTypeArguments);
+    }
+    return yyColumn.chunk1.fTypeArguments;
   }
 
   /** Actually parse xtc.lang.JavaFiveType.TypeArguments. */
@@ -9147,7 +10084,8 @@ public final class JavaSevenReader extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -9171,7 +10109,8 @@ public final class JavaSevenReader extends ParserBase {
             add(v$pt$3).add(v$pt$4).addNode(v$pt$5);
 
           yyRepetition1 = yyResult.index;
-          yyRepValue1   = Pair.empty();
+          yyRepStart1   = bufferStart();
+          yyRepEnd1   = yyRepStart1;
           while (true) {
 
             yyBase   = yyRepetition1;
@@ -9187,7 +10126,7 @@ public final class JavaSevenReader extends ParserBase {
                 final Node v$el$1 = Formatting.before1(v$pt$1, v$pt$2);
 
                 yyRepetition1 = yyResult.index;
-                yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+                yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
                 continue;
               }
             } else {
@@ -9196,10 +10135,11 @@ public final class JavaSevenReader extends ParserBase {
             break;
           }
           { // Start scope for v$g$2.
-            final Pair<Node> v$g$2 = yyRepValue1.reverse();
+            final int v$g$2 = yyRepStart1;
+            final int v$g$2$end = yyRepEnd1;
 
-            yyValue = GNode.createFromPair("TypeArguments", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
+            yyValue = bufferedNode("TypeArguments", v$g$1, v$g$2, v$g$2$end);
+            locate(yyValue, yyStart);
 
             return new SemanticValue(yyValue, yyRepetition1, yyError);
           } // End scope for v$g$2.
@@ -9223,10 +10163,15 @@ public final class JavaSevenReader extends ParserBase {
    */
   private Result pTypeArgument(final int yyStart) throws IOException {
     JavaSevenReaderColumn yyColumn = (JavaSevenReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fTypeArgument) 
-      yyColumn.chunk3.fTypeArgument = pTypeArgument$1(yyStart);
-    return yyColumn.chunk3.fTypeArgument;
+    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
+    if (null == yyColumn.chunk4.fTypeArgument) {
+      yyColumn.chunk4.fTypeArgument = pTypeArgument$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(28, yyColumn.chunk4.fTypeArgument);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(28, yyColumn.chunk4.fTypeArgument);
+    }
+    return yyColumn.chunk4.fTypeArgument;
   }
 
   /** Actually parse xtc.lang.JavaFiveType.TypeArgument. */
@@ -9298,7 +10243,7 @@ public final class JavaSevenReader extends ParserBase {
         final Node v$g$1 = Formatting.before1(v$pt$1, v$pt$2);
 
         yyValue = GNode.create("Wildcard", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyOption1, yyError);
       } // End scope for v$pt$2.
@@ -9336,7 +10281,7 @@ public final class JavaSevenReader extends ParserBase {
         final Node v$g$2 = yyResult.semanticValue();
 
         yyValue = GNode.create("WildcardBound", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -9355,7 +10300,7 @@ public final class JavaSevenReader extends ParserBase {
         final Node v$g$4 = yyResult.semanticValue();
 
         yyValue = GNode.create("WildcardBound", v$g$3, v$g$4);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -9379,7 +10324,8 @@ public final class JavaSevenReader extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -9391,7 +10337,8 @@ public final class JavaSevenReader extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyBase   = yyRepetition1;
@@ -9407,7 +10354,7 @@ public final class JavaSevenReader extends ParserBase {
             final Node v$el$1 = Formatting.before1(v$pt$1, v$pt$2);
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
         } else {
@@ -9416,10 +10363,11 @@ public final class JavaSevenReader extends ParserBase {
         break;
       }
       { // Start scope for v$g$2.
-        final Pair<Node> v$g$2 = yyRepValue1.reverse();
+        final int v$g$2 = yyRepStart1;
+        final int v$g$2$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("InstantiatedType", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("InstantiatedType", v$g$1, v$g$2, v$g$2$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$2.
@@ -9440,10 +10388,15 @@ public final class JavaSevenReader extends ParserBase {
    */
   private Result pTypeInstantiation(final int yyStart) throws IOException {
     JavaSevenReaderColumn yyColumn = (JavaSevenReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fTypeInstantiation) 
-      yyColumn.chunk3.fTypeInstantiation = pTypeInstantiation$1(yyStart);
-    return yyColumn.chunk3.fTypeInstantiation;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fTypeInstantiation) {
+      yyColumn.chunk1.fTypeInstantiation = pTypeInstantiation$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(29, yyColumn.chunk1.fTypeInstantiation);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(29, yyColumn.chunk1.fTypeInstantiation);
+    }
+    return yyColumn.chunk1.fTypeInstantiation;
   }
 
   /** Actually parse xtc.lang.JavaFiveType.TypeInstantiation. */
@@ -9476,7 +10429,7 @@ public final class JavaSevenReader extends ParserBase {
         final Node v$g$2 = yyOpValue1;
 
         yyValue = GNode.create("TypeInstantiation", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyOption1, yyError);
       } // End scope for v$g$2.
@@ -9500,71 +10453,110 @@ public final class JavaSevenReader extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
-    // Alternative <FloatingPoint>.
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '\"':
+      yyFirst = 0x8;
+      break;
 
-    yyResult = pFloatingPointLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final Node v$pt$2 = yyResult.semanticValue();
+    case '\'':
+      yyFirst = 0x4;
+      break;
 
-      yyResult = pSpacing(yyResult.index);
+    case '.':
+      yyFirst = 0x1;
+      break;
+
+    case '0':
+    case '1':
+    case '2':
+    case '3':
+    case '4':
+    case '5':
+    case '6':
+    case '7':
+    case '8':
+    case '9':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
+    // Alternative <FloatingPoint>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
+
+      yyResult = pFloatingPointLiteral(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
-        final Token v$pt$1 = yyResult.semanticValue();
-        yyValue = Formatting.after1(v$pt$2, v$pt$1);
+        final Node v$pt$2 = yyResult.semanticValue();
 
-        return yyResult.createValue(yyValue, yyError);
+        yyResult = pSpacing(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Token v$pt$1 = yyResult.semanticValue();
+          yyValue = Formatting.after1(v$pt$2, v$pt$1);
+
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative <Integer>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pIntegerLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final Node v$pt$4 = yyResult.semanticValue();
-
-      yyResult = pSpacing(yyResult.index);
+      yyResult = pIntegerLiteral(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
-        final Token v$pt$3 = yyResult.semanticValue();
-        yyValue = Formatting.after1(v$pt$4, v$pt$3);
+        final Node v$pt$4 = yyResult.semanticValue();
 
-        return yyResult.createValue(yyValue, yyError);
+        yyResult = pSpacing(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Token v$pt$3 = yyResult.semanticValue();
+          yyValue = Formatting.after1(v$pt$4, v$pt$3);
+
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative <Character>.
+    if ((0 != (yyFirst & 0x4)) || (yyError.index < yyStart)) {
 
-    yyResult = pCharacterLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final Node v$pt$6 = yyResult.semanticValue();
-
-      yyResult = pSpacing(yyResult.index);
+      yyResult = pCharacterLiteral(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
-        final Token v$pt$5 = yyResult.semanticValue();
-        yyValue = Formatting.after1(v$pt$6, v$pt$5);
+        final Node v$pt$6 = yyResult.semanticValue();
 
-        return yyResult.createValue(yyValue, yyError);
+        yyResult = pSpacing(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Token v$pt$5 = yyResult.semanticValue();
+          yyValue = Formatting.after1(v$pt$6, v$pt$5);
+
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative <String>.
+    if ((0 != (yyFirst & 0x8)) || (yyError.index < yyStart)) {
 
-    yyResult = pStringLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final Node v$pt$8 = yyResult.semanticValue();
-
-      yyResult = pSpacing(yyResult.index);
+      yyResult = pStringLiteral(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
-        final Token v$pt$7 = yyResult.semanticValue();
-        yyValue = Formatting.after1(v$pt$8, v$pt$7);
+        final Node v$pt$8 = yyResult.semanticValue();
 
-        return yyResult.createValue(yyValue, yyError);
+        yyResult = pSpacing(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Token v$pt$7 = yyResult.semanticValue();
+          yyValue = Formatting.after1(v$pt$8, v$pt$7);
+
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
@@ -9576,7 +10568,7 @@ public final class JavaSevenReader extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.create("BooleanLiteral", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -9589,7 +10581,7 @@ public final class JavaSevenReader extends ParserBase {
       final Node v$g$2 = yyResult.semanticValue();
 
       yyValue = GNode.create("BooleanLiteral", v$g$2);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -9602,7 +10594,7 @@ public final class JavaSevenReader extends ParserBase {
       final Node v$pt$1 = yyResult.semanticValue();
 
       yyValue = GNode.create("NullLiteral", false);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
       yyValue = Formatting.after1(yyValue, v$pt$1);
 
       return yyResult.createValue(yyValue, yyError);
@@ -9627,56 +10619,86 @@ public final class JavaSevenReader extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
-    // Alternative <Hex>.
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '0':
+      yyFirst = 0xf;
+      break;
 
-    yyResult = pHexLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final Token v$g$1 = yyResult.semanticValue();
+    case '1':
+    case '2':
+    case '3':
+    case '4':
+    case '5':
+    case '6':
+    case '7':
+    case '8':
+    case '9':
+      yyFirst = 0x8;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
+    // Alternative <Hex>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-      yyValue = GNode.create("IntegerLiteral", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      yyResult = pHexLiteral(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final Token v$g$1 = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        yyValue = GNode.create("IntegerLiteral", v$g$1);
+        locate(yyValue, yyStart);
+
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Binary>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pBinaryLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final Token v$g$2 = yyResult.semanticValue();
+      yyResult = pBinaryLiteral(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final Token v$g$2 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerLiteral", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("IntegerLiteral", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Octal>.
+    if ((0 != (yyFirst & 0x4)) || (yyError.index < yyStart)) {
 
-    yyResult = pOctalLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final Token v$g$3 = yyResult.semanticValue();
+      yyResult = pOctalLiteral(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final Token v$g$3 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerLiteral", v$g$3);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("IntegerLiteral", v$g$3);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Decimal>.
+    if ((0 != (yyFirst & 0x8)) || (yyError.index < yyStart)) {
 
-    yyResult = pDecimalLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final Token v$g$4 = yyResult.semanticValue();
+      yyResult = pDecimalLiteral(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final Token v$g$4 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerLiteral", v$g$4);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("IntegerLiteral", v$g$4);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -9726,7 +10748,7 @@ public final class JavaSevenReader extends ParserBase {
       }
 
       yyValue = new TextToken(difference(yyStart, yyOption1));
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return new SemanticValue(yyValue, yyOption1, yyError);
     }
@@ -9779,7 +10801,7 @@ public final class JavaSevenReader extends ParserBase {
       }
 
       yyValue = new TextToken(difference(yyStart, yyOption1));
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return new SemanticValue(yyValue, yyOption1, yyError);
     }
@@ -9832,7 +10854,7 @@ public final class JavaSevenReader extends ParserBase {
       }
 
       yyValue = new TextToken(difference(yyStart, yyOption1));
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return new SemanticValue(yyValue, yyOption1, yyError);
     }
@@ -10170,17 +11192,11 @@ public final class JavaSevenReader extends ParserBase {
             yyC = character(yyRepetition1);
             if (-1 != yyC) {
               yyIndex = yyRepetition1 + 1;
-              if ((('0' <= yyC) && (yyC <= '9')) ||
-                  (('A' <= yyC) && (yyC <= 'F')) ||
-                  ('_' == yyC) ||
-                  (('a' <= yyC) && (yyC <= 'f'))) {
+              if ((yyC < 128) && (0 != (yyClass1[yyC >> 6] & (1L << yyC)))) {
 
                 yyC = character(yyIndex);
                 if (-1 != yyC) {
-                  if ((('0' <= yyC) && (yyC <= '9')) ||
-                      (('A' <= yyC) && (yyC <= 'F')) ||
-                      ('_' == yyC) ||
-                      (('a' <= yyC) && (yyC <= 'f'))) {
+                  if ((yyC < 128) && (0 != (yyClass1[yyC >> 6] & (1L << yyC)))) {
 
                     yyRepetition1 = yyIndex;
                     continue;
@@ -10536,7 +11552,7 @@ public final class JavaSevenReader extends ParserBase {
       final Token v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.create("FloatingPointLiteral", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -10562,121 +11578,185 @@ public final class JavaSevenReader extends ParserBase {
     Token      yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '.':
+      yyFirst = 0x2;
+      break;
+
+    case '0':
+    case '1':
+    case '2':
+    case '3':
+    case '4':
+    case '5':
+    case '6':
+    case '7':
+    case '8':
+    case '9':
+      yyFirst = 0x5;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pDigits(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
+      yyResult = pDigits(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
 
-      yyC = character(yyResult.index);
-      if ('.' == yyC) {
-        yyIndex = yyResult.index + 1;
+        yyC = character(yyResult.index);
+        if ('.' == yyC) {
+          yyIndex = yyResult.index + 1;
 
-        yyOption1  = yyIndex;
+          yyOption1  = yyIndex;
 
-        yyResult = pDigits(yyOption1);
-        yyError  = yyResult.select(yyError, yyOption1);
-        if (yyResult.hasValue()) {
+          yyResult = pDigits(yyOption1);
+          yyError  = yyResult.select(yyError, yyOption1);
+          if (yyResult.hasValue()) {
 
-          yyOption1  = yyResult.index;
-        }
+            yyOption1  = yyResult.index;
+          }
 
 
-        yyResult = pExponent(yyOption1);
-        yyError  = yyResult.select(yyError, yyOption1);
-        if (yyResult.hasValue()) {
+          yyResult = pExponent(yyOption1);
+          yyError  = yyResult.select(yyError, yyOption1);
+          if (yyResult.hasValue()) {
 
-          yyOption1  = yyResult.index;
-        }
+            yyOption1  = yyResult.index;
+          }
 
 
-        yyC = character(yyOption1);
-        if (-1 != yyC) {
-          yyIndex = yyOption1 + 1;
+          yyC = character(yyOption1);
+          if (-1 != yyC) {
+            yyIndex = yyOption1 + 1;
 
-          switch (yyC) {
-          case 'D':
-          case 'F':
-          case 'd':
-          case 'f':
-            {
-              yyOption1  = yyIndex;
-            }
-            break;
+            switch (yyC) {
+            case 'D':
+            case 'F':
+            case 'd':
+            case 'f':
+              {
+                yyOption1  = yyIndex;
+              }
+              break;
 
-          default:
-            /* No match. */
+            default:
+              /* No match. */
+            }
           }
-        }
 
-        yyValue = new TextToken(difference(yyStart, yyOption1));
-        yyValue.setLocation(location(yyStart));
+          yyValue = new TextToken(difference(yyStart, yyOption1));
+          locate(yyValue, yyStart);
 
-        return new SemanticValue(yyValue, yyOption1, yyError);
+          return new SemanticValue(yyValue, yyOption1, yyError);
+        }
       }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyC = character(yyStart);
-    if ('.' == yyC) {
-      yyIndex = yyStart + 1;
-
-      yyResult = pDigits(yyIndex);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-
-        yyOption1  = yyResult.index;
+      yyC = character(yyStart);
+      if ('.' == yyC) {
+        yyIndex = yyStart + 1;
 
-        yyResult = pExponent(yyOption1);
-        yyError  = yyResult.select(yyError, yyOption1);
+        yyResult = pDigits(yyIndex);
+        yyError  = yyResult.select(yyError);
         if (yyResult.hasValue()) {
 
           yyOption1  = yyResult.index;
-        }
 
+          yyResult = pExponent(yyOption1);
+          yyError  = yyResult.select(yyError, yyOption1);
+          if (yyResult.hasValue()) {
 
-        yyC = character(yyOption1);
-        if (-1 != yyC) {
-          yyIndex = yyOption1 + 1;
+            yyOption1  = yyResult.index;
+          }
 
-          switch (yyC) {
-          case 'D':
-          case 'F':
-          case 'd':
-          case 'f':
-            {
-              yyOption1  = yyIndex;
-            }
-            break;
 
-          default:
-            /* No match. */
+          yyC = character(yyOption1);
+          if (-1 != yyC) {
+            yyIndex = yyOption1 + 1;
+
+            switch (yyC) {
+            case 'D':
+            case 'F':
+            case 'd':
+            case 'f':
+              {
+                yyOption1  = yyIndex;
+              }
+              break;
+
+            default:
+              /* No match. */
+            }
           }
-        }
 
-        yyValue = new TextToken(difference(yyStart, yyOption1));
-        yyValue.setLocation(location(yyStart));
+          yyValue = new TextToken(difference(yyStart, yyOption1));
+          locate(yyValue, yyStart);
 
-        return new SemanticValue(yyValue, yyOption1, yyError);
+          return new SemanticValue(yyValue, yyOption1, yyError);
+        }
       }
     }
 
     // Alternative 3.
+    if ((0 != (yyFirst & 0x4)) || (yyError.index < yyStart)) {
 
-    yyResult = pDigits(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
+      yyResult = pDigits(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
 
-      final int yyChoice1 = yyResult.index;
+        final int yyChoice1 = yyResult.index;
 
-      // Nested alternative 1.
+        // Nested alternative 1.
 
-      yyResult = pExponent(yyChoice1);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
+        yyResult = pExponent(yyChoice1);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
 
-        yyOption1  = yyResult.index;
+          yyOption1  = yyResult.index;
+
+          yyC = character(yyOption1);
+          if (-1 != yyC) {
+            yyIndex = yyOption1 + 1;
+
+            switch (yyC) {
+            case 'D':
+            case 'F':
+            case 'd':
+            case 'f':
+              {
+                yyOption1  = yyIndex;
+              }
+              break;
+
+            default:
+              /* No match. */
+            }
+          }
+
+          yyValue = new TextToken(difference(yyStart, yyOption1));
+          locate(yyValue, yyStart);
+
+          return new SemanticValue(yyValue, yyOption1, yyError);
+        }
+
+        // Nested alternative 2.
+
+        yyOption1  = yyChoice1;
+
+        yyResult = pExponent(yyOption1);
+        yyError  = yyResult.select(yyError, yyOption1);
+        if (yyResult.hasValue()) {
+
+          yyOption1  = yyResult.index;
+        }
 
         yyC = character(yyOption1);
         if (-1 != yyC) {
@@ -10688,51 +11768,16 @@ public final class JavaSevenReader extends ParserBase {
           case 'd':
           case 'f':
             {
-              yyOption1  = yyIndex;
+              yyValue = new TextToken(difference(yyStart, yyIndex));
+              locate(yyValue, yyStart);
+
+              return new SemanticValue(yyValue, yyIndex, yyError);
             }
-            break;
 
           default:
             /* No match. */
           }
         }
-
-        yyValue = new TextToken(difference(yyStart, yyOption1));
-        yyValue.setLocation(location(yyStart));
-
-        return new SemanticValue(yyValue, yyOption1, yyError);
-      }
-
-      // Nested alternative 2.
-
-      yyOption1  = yyChoice1;
-
-      yyResult = pExponent(yyOption1);
-      yyError  = yyResult.select(yyError, yyOption1);
-      if (yyResult.hasValue()) {
-
-        yyOption1  = yyResult.index;
-      }
-
-      yyC = character(yyOption1);
-      if (-1 != yyC) {
-        yyIndex = yyOption1 + 1;
-
-        switch (yyC) {
-        case 'D':
-        case 'F':
-        case 'd':
-        case 'f':
-          {
-            yyValue = new TextToken(difference(yyStart, yyIndex));
-            yyValue.setLocation(location(yyStart));
-
-            return new SemanticValue(yyValue, yyIndex, yyError);
-          }
-
-        default:
-          /* No match. */
-        }
       }
     }
 
@@ -10830,7 +11875,7 @@ public final class JavaSevenReader extends ParserBase {
       final Token v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.create("CharacterLiteral", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -10861,7 +11906,7 @@ public final class JavaSevenReader extends ParserBase {
       final Token v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.create("StringLiteral", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -10901,7 +11946,7 @@ public final class JavaSevenReader extends ParserBase {
           yyIndex = yyResult.index + 1;
 
           yyValue = new TextToken(difference(yyStart, yyIndex));
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyIndex, yyError);
         }
@@ -11640,7 +12685,7 @@ public final class JavaSevenReader extends ParserBase {
         yyIndex = yyRepetition1 + 1;
 
         yyValue = new TextToken(difference(yyStart, yyIndex));
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyIndex, yyError);
       }
@@ -11694,7 +12739,7 @@ public final class JavaSevenReader extends ParserBase {
       }
 
       yyValue = new TextToken(difference(yyStart, yyOption1));
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return new SemanticValue(yyValue, yyOption1, yyError);
     }
@@ -11863,10 +12908,15 @@ public final class JavaSevenReader extends ParserBase {
    */
   private Result pQualifiedIdentifier(final int yyStart) throws IOException {
     JavaSevenReaderColumn yyColumn = (JavaSevenReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.fQualifiedIdentifier) 
-      yyColumn.chunk4.fQualifiedIdentifier = pQualifiedIdentifier$1(yyStart);
-    return yyColumn.chunk4.fQualifiedIdentifier;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fQualifiedIdentifier) {
+      yyColumn.chunk1.fQualifiedIdentifier = pQualifiedIdentifier$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(30, yyColumn.chunk1.fQualifiedIdentifier);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(30, yyColumn.chunk1.fQualifiedIdentifier);
+    }
+    return yyColumn.chunk1.fQualifiedIdentifier;
   }
 
   /** Actually parse xtc.lang.JavaFiveIdentifier.QualifiedIdentifier. */
@@ -11890,7 +12940,7 @@ public final class JavaSevenReader extends ParserBase {
         final Pair<Node> v$g$2 = yyResult.semanticValue();
 
         yyValue = GNode.createFromPair("QualifiedIdentifier", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -11915,8 +12965,14 @@ public final class JavaSevenReader extends ParserBase {
 
     JavaSevenReaderColumn yyColumn = (JavaSevenReaderColumn)column(yyStart);
     if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.fQualifiedIdentifier$$Star1) 
-      yyColumn.chunk4.fQualifiedIdentifier$$Star1 = pQualifiedIdentifier$$Star1$1(yyStart);
+    if (null == yyColumn.chunk4.fQualifiedIdentifier$$Star1) {
+      yyColumn.chunk4.fQualifiedIdentifier$$Star1 = 
+        pQualifiedIdentifier$$Star1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(31, yyColumn.chunk4.fQualifiedIdentifier$$Star1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(31, yyColumn.chunk4.fQualifiedIdentifier$$Star1);
+    }
     return yyColumn.chunk4.fQualifiedIdentifier$$Star1;
   }
 
@@ -11971,10 +13027,15 @@ public final class JavaSevenReader extends ParserBase {
    */
   private Result pIdentifier(final int yyStart) throws IOException {
     JavaSevenReaderColumn yyColumn = (JavaSevenReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.fIdentifier) 
-      yyColumn.chunk4.fIdentifier = pIdentifier$1(yyStart);
-    return yyColumn.chunk4.fIdentifier;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fIdentifier) {
+      yyColumn.chunk1.fIdentifier = pIdentifier$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(32, yyColumn.chunk1.fIdentifier);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(32, yyColumn.chunk1.fIdentifier);
+    }
+    return yyColumn.chunk1.fIdentifier;
   }
 
   /** Actually parse xtc.lang.JavaFiveIdentifier.Identifier. */
@@ -12012,10 +13073,14 @@ public final class JavaSevenReader extends ParserBase {
    */
   private Result pWord(final int yyStart) throws IOException {
     JavaSevenReaderColumn yyColumn = (JavaSevenReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.fWord) 
-      yyColumn.chunk4.fWord = pWord$1(yyStart);
-    return yyColumn.chunk4.fWord;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fWord) {
+      yyColumn.chunk1.fWord = pWord$1(yyStart);
+      if (null != yyStatistics) yyStatistics.miss(33, yyColumn.chunk1.fWord);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(33, yyColumn.chunk1.fWord);
+    }
+    return yyColumn.chunk1.fWord;
   }
 
   /** Actually parse xtc.lang.JavaFiveIdentifier.Word. */
@@ -12088,7 +13153,7 @@ public final class JavaSevenReader extends ParserBase {
         }
 
         yyValue = new TextToken(difference(yyStart, yyRepetition1));
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       }
@@ -12110,10 +13175,15 @@ public final class JavaSevenReader extends ParserBase {
    */
   private Result pSymbol(final int yyStart) throws IOException {
     JavaSevenReaderColumn yyColumn = (JavaSevenReaderColumn)column(yyStart);
-    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.fSymbol) 
-      yyColumn.chunk4.fSymbol = pSymbol$1(yyStart);
-    return yyColumn.chunk4.fSymbol;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fSymbol) {
+      yyColumn.chunk1.fSymbol = pSymbol$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(34, yyColumn.chunk1.fSymbol);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(34, yyColumn.chunk1.fSymbol);
+    }
+    return yyColumn.chunk1.fSymbol;
   }
 
   /** Actually parse xtc.lang.JavaFiveSymbol.Symbol. */
@@ -12199,7 +13269,7 @@ public final class JavaSevenReader extends ParserBase {
                         if ('=' == yyC) {
 
                           yyValue = new TextToken(">>>=");
-                          yyValue.setLocation(location(yyStart));
+                          locate(yyValue, yyStart);
 
                           return new SemanticValue(yyValue, yyIndex, yyError);
                         }
@@ -12208,7 +13278,7 @@ public final class JavaSevenReader extends ParserBase {
                       // Nested alternative 2.
 
                       yyValue = new TextToken(">>>");
-                      yyValue.setLocation(location(yyStart));
+                      locate(yyValue, yyStart);
 
                       return new SemanticValue(yyValue, yyChoice3, yyError);
                     }
@@ -12216,7 +13286,7 @@ public final class JavaSevenReader extends ParserBase {
                   case '=':
                     {
                       yyValue = new TextToken(">>=");
-                      yyValue.setLocation(location(yyStart));
+                      locate(yyValue, yyStart);
 
                       return new SemanticValue(yyValue, yyIndex, yyError);
                     }
@@ -12229,7 +13299,7 @@ public final class JavaSevenReader extends ParserBase {
                 // Nested alternative 2.
 
                 yyValue = new TextToken(">>");
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return new SemanticValue(yyValue, yyChoice2, yyError);
               }
@@ -12237,7 +13307,7 @@ public final class JavaSevenReader extends ParserBase {
             case '=':
               {
                 yyValue = new TextToken(">=");
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return new SemanticValue(yyValue, yyIndex, yyError);
               }
@@ -12250,7 +13320,7 @@ public final class JavaSevenReader extends ParserBase {
           // Nested alternative 2.
 
           yyValue = new TextToken(">");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyChoice1, yyError);
         }
@@ -12278,7 +13348,7 @@ public final class JavaSevenReader extends ParserBase {
                   if ('=' == yyC) {
 
                     yyValue = new TextToken("<<=");
-                    yyValue.setLocation(location(yyStart));
+                    locate(yyValue, yyStart);
 
                     return new SemanticValue(yyValue, yyIndex, yyError);
                   }
@@ -12287,7 +13357,7 @@ public final class JavaSevenReader extends ParserBase {
                 // Nested alternative 2.
 
                 yyValue = new TextToken("<<");
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return new SemanticValue(yyValue, yyChoice2, yyError);
               }
@@ -12295,7 +13365,7 @@ public final class JavaSevenReader extends ParserBase {
             case '=':
               {
                 yyValue = new TextToken("<=");
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return new SemanticValue(yyValue, yyIndex, yyError);
               }
@@ -12308,7 +13378,7 @@ public final class JavaSevenReader extends ParserBase {
           // Nested alternative 2.
 
           yyValue = new TextToken("<");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyChoice1, yyError);
         }
@@ -12330,7 +13400,7 @@ public final class JavaSevenReader extends ParserBase {
                 if ('.' == yyC) {
 
                   yyValue = new TextToken("...");
-                  yyValue.setLocation(location(yyStart));
+                  locate(yyValue, yyStart);
 
                   return new SemanticValue(yyValue, yyIndex, yyError);
                 }
@@ -12341,7 +13411,7 @@ public final class JavaSevenReader extends ParserBase {
           // Nested alternative 2.
 
           yyValue = new TextToken(".");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyChoice1, yyError);
         }
@@ -12360,7 +13430,7 @@ public final class JavaSevenReader extends ParserBase {
             case '=':
               {
                 yyValue = new TextToken("+=");
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return new SemanticValue(yyValue, yyIndex, yyError);
               }
@@ -12368,7 +13438,7 @@ public final class JavaSevenReader extends ParserBase {
             case '+':
               {
                 yyValue = new TextToken("++");
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return new SemanticValue(yyValue, yyIndex, yyError);
               }
@@ -12381,7 +13451,7 @@ public final class JavaSevenReader extends ParserBase {
           // Nested alternative 2.
 
           yyValue = new TextToken("+");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyChoice1, yyError);
         }
@@ -12400,7 +13470,7 @@ public final class JavaSevenReader extends ParserBase {
             case '=':
               {
                 yyValue = new TextToken("-=");
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return new SemanticValue(yyValue, yyIndex, yyError);
               }
@@ -12408,7 +13478,7 @@ public final class JavaSevenReader extends ParserBase {
             case '-':
               {
                 yyValue = new TextToken("--");
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return new SemanticValue(yyValue, yyIndex, yyError);
               }
@@ -12421,7 +13491,7 @@ public final class JavaSevenReader extends ParserBase {
           // Nested alternative 2.
 
           yyValue = new TextToken("-");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyChoice1, yyError);
         }
@@ -12438,7 +13508,7 @@ public final class JavaSevenReader extends ParserBase {
             if ('=' == yyC) {
 
               yyValue = new TextToken("*=");
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return new SemanticValue(yyValue, yyIndex, yyError);
             }
@@ -12447,7 +13517,7 @@ public final class JavaSevenReader extends ParserBase {
           // Nested alternative 2.
 
           yyValue = new TextToken("*");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyChoice1, yyError);
         }
@@ -12464,7 +13534,7 @@ public final class JavaSevenReader extends ParserBase {
             if ('=' == yyC) {
 
               yyValue = new TextToken("/=");
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return new SemanticValue(yyValue, yyIndex, yyError);
             }
@@ -12473,7 +13543,7 @@ public final class JavaSevenReader extends ParserBase {
           // Nested alternative 2.
 
           yyValue = new TextToken("/");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyChoice1, yyError);
         }
@@ -12490,7 +13560,7 @@ public final class JavaSevenReader extends ParserBase {
             if ('=' == yyC) {
 
               yyValue = new TextToken("%=");
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return new SemanticValue(yyValue, yyIndex, yyError);
             }
@@ -12499,7 +13569,7 @@ public final class JavaSevenReader extends ParserBase {
           // Nested alternative 2.
 
           yyValue = new TextToken("%");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyChoice1, yyError);
         }
@@ -12518,7 +13588,7 @@ public final class JavaSevenReader extends ParserBase {
             case '=':
               {
                 yyValue = new TextToken("&=");
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return new SemanticValue(yyValue, yyIndex, yyError);
               }
@@ -12526,7 +13596,7 @@ public final class JavaSevenReader extends ParserBase {
             case '&':
               {
                 yyValue = new TextToken("&&");
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return new SemanticValue(yyValue, yyIndex, yyError);
               }
@@ -12539,7 +13609,7 @@ public final class JavaSevenReader extends ParserBase {
           // Nested alternative 2.
 
           yyValue = new TextToken("&");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyChoice1, yyError);
         }
@@ -12556,7 +13626,7 @@ public final class JavaSevenReader extends ParserBase {
             if ('=' == yyC) {
 
               yyValue = new TextToken("^=");
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return new SemanticValue(yyValue, yyIndex, yyError);
             }
@@ -12565,7 +13635,7 @@ public final class JavaSevenReader extends ParserBase {
           // Nested alternative 2.
 
           yyValue = new TextToken("^");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyChoice1, yyError);
         }
@@ -12584,7 +13654,7 @@ public final class JavaSevenReader extends ParserBase {
             case '=':
               {
                 yyValue = new TextToken("|=");
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return new SemanticValue(yyValue, yyIndex, yyError);
               }
@@ -12592,7 +13662,7 @@ public final class JavaSevenReader extends ParserBase {
             case '|':
               {
                 yyValue = new TextToken("||");
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return new SemanticValue(yyValue, yyIndex, yyError);
               }
@@ -12605,7 +13675,7 @@ public final class JavaSevenReader extends ParserBase {
           // Nested alternative 2.
 
           yyValue = new TextToken("|");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyChoice1, yyError);
         }
@@ -12622,7 +13692,7 @@ public final class JavaSevenReader extends ParserBase {
             if ('=' == yyC) {
 
               yyValue = new TextToken("==");
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return new SemanticValue(yyValue, yyIndex, yyError);
             }
@@ -12631,7 +13701,7 @@ public final class JavaSevenReader extends ParserBase {
           // Nested alternative 2.
 
           yyValue = new TextToken("=");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyChoice1, yyError);
         }
@@ -12648,7 +13718,7 @@ public final class JavaSevenReader extends ParserBase {
             if ('=' == yyC) {
 
               yyValue = new TextToken("!=");
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return new SemanticValue(yyValue, yyIndex, yyError);
             }
@@ -12657,7 +13727,7 @@ public final class JavaSevenReader extends ParserBase {
           // Nested alternative 2.
 
           yyValue = new TextToken("!");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyChoice1, yyError);
         }
@@ -12665,7 +13735,7 @@ public final class JavaSevenReader extends ParserBase {
       case ';':
         {
           yyValue = new TextToken(";");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyIndex, yyError);
         }
@@ -12673,7 +13743,7 @@ public final class JavaSevenReader extends ParserBase {
       case ':':
         {
           yyValue = new TextToken(":");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyIndex, yyError);
         }
@@ -12681,7 +13751,7 @@ public final class JavaSevenReader extends ParserBase {
       case ',':
         {
           yyValue = new TextToken(",");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyIndex, yyError);
         }
@@ -12689,7 +13759,7 @@ public final class JavaSevenReader extends ParserBase {
       case '{':
         {
           yyValue = new TextToken("{");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyIndex, yyError);
         }
@@ -12697,7 +13767,7 @@ public final class JavaSevenReader extends ParserBase {
       case '}':
         {
           yyValue = new TextToken("}");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyIndex, yyError);
         }
@@ -12705,7 +13775,7 @@ public final class JavaSevenReader extends ParserBase {
       case '(':
         {
           yyValue = new TextToken("(");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyIndex, yyError);
         }
@@ -12713,7 +13783,7 @@ public final class JavaSevenReader extends ParserBase {
       case ')':
         {
           yyValue = new TextToken(")");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyIndex, yyError);
         }
@@ -12721,7 +13791,7 @@ public final class JavaSevenReader extends ParserBase {
       case '[':
         {
           yyValue = new TextToken("[");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyIndex, yyError);
         }
@@ -12729,7 +13799,7 @@ public final class JavaSevenReader extends ParserBase {
       case ']':
         {
           yyValue = new TextToken("]");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyIndex, yyError);
         }
@@ -12737,7 +13807,7 @@ public final class JavaSevenReader extends ParserBase {
       case '~':
         {
           yyValue = new TextToken("~");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyIndex, yyError);
         }
@@ -12745,7 +13815,7 @@ public final class JavaSevenReader extends ParserBase {
       case '@':
         {
           yyValue = new TextToken("@");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyIndex, yyError);
         }
@@ -12753,7 +13823,7 @@ public final class JavaSevenReader extends ParserBase {
       case '?':
         {
           yyValue = new TextToken("?");
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyIndex, yyError);
         }
@@ -12919,28 +13989,7 @@ public final class JavaSevenReader extends ParserBase {
 
               case '/':
                 {
-                  yyRepetition2 = yyIndex;
-                  while (true) {
-
-                    yyC = character(yyRepetition2);
-                    if (-1 != yyC) {
-                      yyIndex = yyRepetition2 + 1;
-
-                      switch (yyC) {
-                      case '\n':
-                      case '\r':
-                        /* No match. */
-                        break;
-
-                      default:
-                        {
-                          yyRepetition2 = yyIndex;
-                          continue;
-                        }
-                      }
-                    }
-                    break;
-                  }
+                  yyRepetition2 = scan(yyIndex, 0xffffffffffffdbffL, 0xffffffffffffffffL, true);
 
                   final int yyChoice2 = yyRepetition2;
 
@@ -13009,7 +14058,7 @@ public final class JavaSevenReader extends ParserBase {
     }
 
     yyValue = new TextToken(difference(yyStart, yyRepetition1));
-    yyValue.setLocation(location(yyStart));
+    locate(yyValue, yyStart);
 
     return new SemanticValue(yyValue, yyRepetition1, yyError);
   }
@@ -13054,6 +14103,11 @@ public final class JavaSevenReader extends ParserBase {
 
   // =========================================================================
 
+  /** The bit map for a character class. */
+  private static final long[] yyClass1 = { 0x3ff000000000000L, 0x7e8000007eL };
+
+  // =========================================================================
+
   static {
     add(JAVA_KEYWORDS, new String[] {
       "abstract",  "continue",  "for",         "new",        "switch",
@@ -1,8 +1,8 @@
 // ===========================================================================
 // This file has been generated by
-// Rats! Parser Generator, version 2.1.0,
-// (C) 2004-2011 Robert Grimm,
-// on Monday, July 25, 2011 at 2:20:16 PM.
+// Rats! Parser Generator, version 2.3.1,
+// (C) 2004-2012 Robert Grimm,
+// on Sunday, October 18, 2026 at 7:30:43 PM.
 // Edit at your own risk.
 // ===========================================================================
 
@@ -33,7 +33,7 @@ import xtc.parser.ParseError;
  * Packrat parser for grammar <code>xtc.lang.TypedLambda</code>.
  *
  * <p />This class has been generated by the <i>Rats!</i> parser
- * generator, version 2.1.0, (C) 2004-2011 Robert Grimm.
+ * generator, version 2.3.1, (C) 2004-2012 Robert Grimm.
  */
 public final class TypedLambdaParser extends ParserBase {
 
@@ -48,6 +48,17 @@ public final class TypedLambdaParser extends ParserBase {
     Result fBasicType;
     Result fOPEN;
     Result fCLOSE;
+
+    protected boolean clear() {
+      fApplication = null;
+      fBasicExpression = null;
+      fIdentifier = null;
+      fFunctionType = null;
+      fBasicType = null;
+      fOPEN = null;
+      fCLOSE = null;
+      return true;
+    }
   }
 
   // =========================================================================
@@ -81,6 +92,23 @@ public final class TypedLambdaParser extends ParserBase {
 
   // =========================================================================
 
+  /** The names of the memoized productions. */
+  private static final String[] yyProductions = {
+    "xtc.lang.TypedLambda.Application",
+    "xtc.lang.TypedLambda.BasicExpression",
+    "xtc.lang.TypedLambda.Identifier",
+    "xtc.lang.TypedLambda.FunctionType",
+    "xtc.lang.TypedLambda.BasicType",
+    "xtc.lang.TypedLambda.OPEN",
+    "xtc.lang.TypedLambda.CLOSE",
+  };
+
+  protected String[] productions() {
+    return yyProductions;
+  }
+
+  // =========================================================================
+
   /**
    * Parse nonterminal xtc.lang.TypedLambda.Expression.
    *
@@ -123,8 +151,12 @@ public final class TypedLambdaParser extends ParserBase {
    */
   private Result pApplication(final int yyStart) throws IOException {
     TypedLambdaParserColumn yyColumn = (TypedLambdaParserColumn)column(yyStart);
-    if (null == yyColumn.fApplication) 
+    if (null == yyColumn.fApplication) {
       yyColumn.fApplication = pApplication$1(yyStart);
+      if (null != yyStatistics) yyStatistics.miss(0, yyColumn.fApplication);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(0, yyColumn.fApplication);
+    }
     return yyColumn.fApplication;
   }
 
@@ -215,8 +247,13 @@ public final class TypedLambdaParser extends ParserBase {
    */
   private Result pBasicExpression(final int yyStart) throws IOException {
     TypedLambdaParserColumn yyColumn = (TypedLambdaParserColumn)column(yyStart);
-    if (null == yyColumn.fBasicExpression) 
+    if (null == yyColumn.fBasicExpression) {
       yyColumn.fBasicExpression = pBasicExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(1, yyColumn.fBasicExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(1, yyColumn.fBasicExpression);
+    }
     return yyColumn.fBasicExpression;
   }
 
@@ -226,62 +263,157 @@ public final class TypedLambdaParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '\"':
+      yyFirst = 0x8;
+      break;
+
+    case '(':
+      yyFirst = 0x10;
+      break;
+
+    case '1':
+    case '2':
+    case '3':
+    case '4':
+    case '5':
+    case '6':
+    case '7':
+    case '8':
+    case '9':
+      yyFirst = 0x4;
+      break;
+
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x2;
+      break;
+
+    case '\\':
+      yyFirst = 0x1;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Abstraction>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pAbstraction(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pAbstraction(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Identifier>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pIdentifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pIdentifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Integer>.
+    if ((0 != (yyFirst & 0x4)) || (yyError.index < yyStart)) {
 
-    yyResult = pIntegerConstant(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pIntegerConstant(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <String>.
+    if ((0 != (yyFirst & 0x8)) || (yyError.index < yyStart)) {
 
-    yyResult = pStringConstant(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pStringConstant(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Parenthesized>.
+    if ((0 != (yyFirst & 0x10)) || (yyError.index < yyStart)) {
 
-    yyResult = pOPEN(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-
-      yyResult = pApplication(yyResult.index);
+      yyResult = pOPEN(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
-        yyValue = yyResult.semanticValue();
 
-        yyResult = pCLOSE(yyResult.index);
+        yyResult = pApplication(yyResult.index);
         yyError  = yyResult.select(yyError);
         if (yyResult.hasValue()) {
+          yyValue = yyResult.semanticValue();
 
-          return yyResult.createValue(yyValue, yyError);
+          yyResult = pCLOSE(yyResult.index);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+
+            return yyResult.createValue(yyValue, yyError);
+          }
         }
       }
     }
@@ -334,7 +466,7 @@ public final class TypedLambdaParser extends ParserBase {
                 final Node v$g$3 = yyResult.semanticValue();
 
                 yyValue = GNode.create("Abstraction", v$g$1, v$g$2, v$g$3);
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return yyResult.createValue(yyValue, yyError);
               }
@@ -359,8 +491,12 @@ public final class TypedLambdaParser extends ParserBase {
    */
   private Result pIdentifier(final int yyStart) throws IOException {
     TypedLambdaParserColumn yyColumn = (TypedLambdaParserColumn)column(yyStart);
-    if (null == yyColumn.fIdentifier) 
+    if (null == yyColumn.fIdentifier) {
       yyColumn.fIdentifier = pIdentifier$1(yyStart);
+      if (null != yyStatistics) yyStatistics.miss(2, yyColumn.fIdentifier);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(2, yyColumn.fIdentifier);
+    }
     return yyColumn.fIdentifier;
   }
 
@@ -382,7 +518,7 @@ public final class TypedLambdaParser extends ParserBase {
       if (yyResult.hasValue()) {
 
         yyValue = GNode.create("Identifier", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -467,7 +603,7 @@ public final class TypedLambdaParser extends ParserBase {
       if (yyResult.hasValue()) {
 
         yyValue = GNode.create("IntegerConstant", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -510,35 +646,7 @@ public final class TypedLambdaParser extends ParserBase {
       case '8':
       case '9':
         {
-          yyRepetition1 = yyIndex;
-          while (true) {
-
-            yyC = character(yyRepetition1);
-            if (-1 != yyC) {
-              yyIndex = yyRepetition1 + 1;
-
-              switch (yyC) {
-              case '0':
-              case '1':
-              case '2':
-              case '3':
-              case '4':
-              case '5':
-              case '6':
-              case '7':
-              case '8':
-              case '9':
-                {
-                  yyRepetition1 = yyIndex;
-                  continue;
-                }
-
-              default:
-                /* No match. */
-              }
-            }
-            break;
-          }
+          yyRepetition1 = scan(yyIndex, 0x3ff000000000000L, 0x0L, false);
 
           yyValue = difference(yyStart, yyRepetition1);
 
@@ -581,7 +689,7 @@ public final class TypedLambdaParser extends ParserBase {
       if (yyResult.hasValue()) {
 
         yyValue = GNode.create("StringConstant", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -613,20 +721,7 @@ public final class TypedLambdaParser extends ParserBase {
     if ('\"' == yyC) {
       yyIndex = yyStart + 1;
 
-      yyRepetition1 = yyIndex;
-      while (true) {
-
-        yyC = character(yyRepetition1);
-        if (-1 != yyC) {
-          yyIndex = yyRepetition1 + 1;
-          if ('\"' != yyC) {
-
-            yyRepetition1 = yyIndex;
-            continue;
-          }
-        }
-        break;
-      }
+      yyRepetition1 = scan(yyIndex, 0xfffffffbffffffffL, 0xffffffffffffffffL, true);
 
       yyC = character(yyRepetition1);
       if ('\"' == yyC) {
@@ -654,8 +749,12 @@ public final class TypedLambdaParser extends ParserBase {
    */
   private Result pFunctionType(final int yyStart) throws IOException {
     TypedLambdaParserColumn yyColumn = (TypedLambdaParserColumn)column(yyStart);
-    if (null == yyColumn.fFunctionType) 
+    if (null == yyColumn.fFunctionType) {
       yyColumn.fFunctionType = pFunctionType$1(yyStart);
+      if (null != yyStatistics) yyStatistics.miss(3, yyColumn.fFunctionType);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(3, yyColumn.fFunctionType);
+    }
     return yyColumn.fFunctionType;
   }
 
@@ -665,38 +764,54 @@ public final class TypedLambdaParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
-    // Alternative <Recursion>.
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '(':
+    case 'i':
+    case 's':
+      yyFirst = 0x3;
+      break;
 
-    yyResult = pBasicType(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final Node v$g$1 = yyResult.semanticValue();
+    default:
+      yyFirst = 0;
+    }
 
-      yyResult = pARROW(yyResult.index);
+    // Alternative <Recursion>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
+
+      yyResult = pBasicType(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
+        final Node v$g$1 = yyResult.semanticValue();
 
-        yyResult = pFunctionType(yyResult.index);
+        yyResult = pARROW(yyResult.index);
         yyError  = yyResult.select(yyError);
         if (yyResult.hasValue()) {
-          final Node v$g$2 = yyResult.semanticValue();
 
-          yyValue = GNode.create("FunctionType", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          yyResult = pFunctionType(yyResult.index);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Node v$g$2 = yyResult.semanticValue();
 
-          return yyResult.createValue(yyValue, yyError);
+            yyValue = GNode.create("FunctionType", v$g$1, v$g$2);
+            locate(yyValue, yyStart);
+
+            return yyResult.createValue(yyValue, yyError);
+          }
         }
       }
     }
 
     // Alternative <Base>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pBasicType(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pBasicType(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -714,8 +829,12 @@ public final class TypedLambdaParser extends ParserBase {
    */
   private Result pBasicType(final int yyStart) throws IOException {
     TypedLambdaParserColumn yyColumn = (TypedLambdaParserColumn)column(yyStart);
-    if (null == yyColumn.fBasicType) 
+    if (null == yyColumn.fBasicType) {
       yyColumn.fBasicType = pBasicType$1(yyStart);
+      if (null != yyStatistics) yyStatistics.miss(4, yyColumn.fBasicType);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(4, yyColumn.fBasicType);
+    }
     return yyColumn.fBasicType;
   }
 
@@ -727,67 +846,89 @@ public final class TypedLambdaParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
-    // Alternative 1.
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '(':
+      yyFirst = 0x4;
+      break;
 
-    yyC = character(yyStart);
-    if ('i' == yyC) {
-      yyIndex = yyStart + 1;
+    case 'i':
+      yyFirst = 0x1;
+      break;
 
-      yyC = character(yyIndex);
-      if ('n' == yyC) {
-        yyIndex = yyIndex + 1;
+    case 's':
+      yyFirst = 0x2;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
+    // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
+
+      yyC = character(yyStart);
+      if ('i' == yyC) {
+        yyIndex = yyStart + 1;
 
         yyC = character(yyIndex);
-        if ('t' == yyC) {
+        if ('n' == yyC) {
           yyIndex = yyIndex + 1;
 
-          yyResult = pSpacing(yyIndex);
-          yyError  = yyResult.select(yyError);
-          if (yyResult.hasValue()) {
+          yyC = character(yyIndex);
+          if ('t' == yyC) {
+            yyIndex = yyIndex + 1;
+
+            yyResult = pSpacing(yyIndex);
+            yyError  = yyResult.select(yyError);
+            if (yyResult.hasValue()) {
 
-            yyValue = GNode.create("IntegerType", false);
-            yyValue.setLocation(location(yyStart));
+              yyValue = GNode.create("IntegerType", false);
+              locate(yyValue, yyStart);
 
-            return yyResult.createValue(yyValue, yyError);
+              return yyResult.createValue(yyValue, yyError);
+            }
           }
         }
       }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyC = character(yyStart);
-    if ('s' == yyC) {
-      yyIndex = yyStart + 1;
-
-      yyC = character(yyIndex);
-      if ('t' == yyC) {
-        yyIndex = yyIndex + 1;
+      yyC = character(yyStart);
+      if ('s' == yyC) {
+        yyIndex = yyStart + 1;
 
         yyC = character(yyIndex);
-        if ('r' == yyC) {
+        if ('t' == yyC) {
           yyIndex = yyIndex + 1;
 
           yyC = character(yyIndex);
-          if ('i' == yyC) {
+          if ('r' == yyC) {
             yyIndex = yyIndex + 1;
 
             yyC = character(yyIndex);
-            if ('n' == yyC) {
+            if ('i' == yyC) {
               yyIndex = yyIndex + 1;
 
               yyC = character(yyIndex);
-              if ('g' == yyC) {
+              if ('n' == yyC) {
                 yyIndex = yyIndex + 1;
 
-                yyResult = pSpacing(yyIndex);
-                yyError  = yyResult.select(yyError);
-                if (yyResult.hasValue()) {
+                yyC = character(yyIndex);
+                if ('g' == yyC) {
+                  yyIndex = yyIndex + 1;
+
+                  yyResult = pSpacing(yyIndex);
+                  yyError  = yyResult.select(yyError);
+                  if (yyResult.hasValue()) {
 
-                  yyValue = GNode.create("StringType", false);
-                  yyValue.setLocation(location(yyStart));
+                    yyValue = GNode.create("StringType", false);
+                    locate(yyValue, yyStart);
 
-                  return yyResult.createValue(yyValue, yyError);
+                    return yyResult.createValue(yyValue, yyError);
+                  }
                 }
               }
             }
@@ -797,21 +938,23 @@ public final class TypedLambdaParser extends ParserBase {
     }
 
     // Alternative <Parenthesized>.
+    if ((0 != (yyFirst & 0x4)) || (yyError.index < yyStart)) {
 
-    yyResult = pOPEN(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-
-      yyResult = pFunctionType(yyResult.index);
+      yyResult = pOPEN(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
-        yyValue = yyResult.semanticValue();
 
-        yyResult = pCLOSE(yyResult.index);
+        yyResult = pFunctionType(yyResult.index);
         yyError  = yyResult.select(yyError);
         if (yyResult.hasValue()) {
+          yyValue = yyResult.semanticValue();
 
-          return yyResult.createValue(yyValue, yyError);
+          yyResult = pCLOSE(yyResult.index);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+
+            return yyResult.createValue(yyValue, yyError);
+          }
         }
       }
     }
@@ -985,7 +1128,12 @@ public final class TypedLambdaParser extends ParserBase {
    */
   private Result pOPEN(final int yyStart) throws IOException {
     TypedLambdaParserColumn yyColumn = (TypedLambdaParserColumn)column(yyStart);
-    if (null == yyColumn.fOPEN) yyColumn.fOPEN = pOPEN$1(yyStart);
+    if (null == yyColumn.fOPEN) {
+      yyColumn.fOPEN = pOPEN$1(yyStart);
+      if (null != yyStatistics) yyStatistics.miss(5, yyColumn.fOPEN);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(5, yyColumn.fOPEN);
+    }
     return yyColumn.fOPEN;
   }
 
@@ -1029,7 +1177,12 @@ public final class TypedLambdaParser extends ParserBase {
    */
   private Result pCLOSE(final int yyStart) throws IOException {
     TypedLambdaParserColumn yyColumn = (TypedLambdaParserColumn)column(yyStart);
-    if (null == yyColumn.fCLOSE) yyColumn.fCLOSE = pCLOSE$1(yyStart);
+    if (null == yyColumn.fCLOSE) {
+      yyColumn.fCLOSE = pCLOSE$1(yyStart);
+      if (null != yyStatistics) yyStatistics.miss(6, yyColumn.fCLOSE);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(6, yyColumn.fCLOSE);
+    }
     return yyColumn.fCLOSE;
   }
 
@@ -1213,28 +1366,7 @@ public final class TypedLambdaParser extends ParserBase {
 
               case '/':
                 {
-                  yyRepetition2 = yyIndex;
-                  while (true) {
-
-                    yyC = character(yyRepetition2);
-                    if (-1 != yyC) {
-                      yyIndex = yyRepetition2 + 1;
-
-                      switch (yyC) {
-                      case '\n':
-                      case '\r':
-                        /* No match. */
-                        break;
-
-                      default:
-                        {
-                          yyRepetition2 = yyIndex;
-                          continue;
-                        }
-                      }
-                    }
-                    break;
-                  }
+                  yyRepetition2 = scan(yyIndex, 0xffffffffffffdbffL, 0xffffffffffffffffL, true);
 
                   final int yyChoice2 = yyRepetition2;
 
@@ -1,8 +1,8 @@
 // ===========================================================================
 // This file has been generated by
-// Rats! Parser Generator, version 2.1.0,
-// (C) 2004-2011 Robert Grimm,
-// on Monday, July 25, 2011 at 2:20:35 PM.
+// Rats! Parser Generator, version 2.3.1,
+// (C) 2004-2012 Robert Grimm,
+// on Sunday, October 18, 2026 at 7:30:50 PM.
 // Edit at your own risk.
 // ===========================================================================
 
@@ -32,7 +32,7 @@ import xtc.lang.CParserState;
  * Packrat parser for grammar <code>xtc.lang.blink.Command</code>.
  *
  * <p />This class has been generated by the <i>Rats!</i> parser
- * generator, version 2.1.0, (C) 2004-2011 Robert Grimm.
+ * generator, version 2.3.1, (C) 2004-2012 Robert Grimm.
  */
 public final class CommandParser extends ParserBase {
 
@@ -55,184 +55,353 @@ public final class CommandParser extends ParserBase {
 
   /** Chunk 1 of memoized results. */
   static final class Chunk1 {
-    Result fMetaVariable;
-    Result fUnambiguousCommand;
-    Result fRestOfLine;
-    Result fConstant;
-    Result fCConstant$Exponent;
-    Result f$$Shared27;
-    Result fBinaryExponent;
-    Result fCConstant$CharacterLiteral;
-    Result fCConstant$StringConstant;
+    Result fSymbol;
+    Result fCIdentifier$Word;
+    Result fKeyword;
+    Result fCIdentifier$Identifier;
+    Result f$$Shared25;
+    Result fCConstant$StringLiteral;
     Result fCConstant$StringConstant$$Plus1;
+    Result fCConstant$StringConstant;
+    Result fCConstant$CharacterLiteral;
+    Result fConstant;
+
+    void clear() {
+      fSymbol = null;
+      fCIdentifier$Word = null;
+      fKeyword = null;
+      fCIdentifier$Identifier = null;
+      f$$Shared25 = null;
+      fCConstant$StringLiteral = null;
+      fCConstant$StringConstant$$Plus1 = null;
+      fCConstant$StringConstant = null;
+      fCConstant$CharacterLiteral = null;
+      fConstant = null;
+    }
   }
 
   /** Chunk 2 of memoized results. */
   static final class Chunk2 {
-    Result fCConstant$StringLiteral;
-    Result fSymbol;
-    Result fCIdentifier$Identifier;
-    Result fKeyword;
-    Result fCIdentifier$Word;
-    Result fResultType;
-    Result fType;
-    Result fJavaType$TypeName;
+    Result fJavaIdentifier$Word;
+    Result fJavaIdentifier$Identifier;
+    Result fQualifiedIdentifier;
     Result fPrimitiveType;
-    Result fDimensions;
+    Result fJavaType$TypeName;
+    Result fType;
+    Result fResultType;
+    Result fIntegerLiteral;
+    Result fLiteral;
+    Result f$$Shared26;
+
+    void clear() {
+      fJavaIdentifier$Word = null;
+      fJavaIdentifier$Identifier = null;
+      fQualifiedIdentifier = null;
+      fPrimitiveType = null;
+      fJavaType$TypeName = null;
+      fType = null;
+      fResultType = null;
+      fIntegerLiteral = null;
+      fLiteral = null;
+      f$$Shared26 = null;
+    }
   }
 
   /** Chunk 3 of memoized results. */
   static final class Chunk3 {
-    Result fDimensions$$Plus1;
-    Result fLiteral;
-    Result fIntegerLiteral;
-    Result fQualifiedIdentifier;
-    Result fQualifiedIdentifier$$Star1;
-    Result fJavaIdentifier$Identifier;
-    Result fJavaIdentifier$Word;
+    Result f$$Shared10;
+    Result f$$Shared9;
+    Result fJeannieC$AttributeSpecifier;
+    Result fCommandC$AttributeSpecifier;
     Result fJeannieC$DeclarationSpecifiers;
-    Result fJeannieC$InitializedDeclaratorList;
-    Result fJeannieC$InitializedDeclaratorList$$Star1;
+    Result fCommandC$DeclarationSpecifiers;
+    Result f$$Shared17;
+    Result fMetaVariable;
+    Result fCommandC$UnaryExpression;
+    Result fCommandC$CastExpression;
+
+    void clear() {
+      f$$Shared10 = null;
+      f$$Shared9 = null;
+      fJeannieC$AttributeSpecifier = null;
+      fCommandC$AttributeSpecifier = null;
+      fJeannieC$DeclarationSpecifiers = null;
+      fCommandC$DeclarationSpecifiers = null;
+      f$$Shared17 = null;
+      fMetaVariable = null;
+      fCommandC$UnaryExpression = null;
+      fCommandC$CastExpression = null;
+    }
   }
 
   /** Chunk 4 of memoized results. */
   static final class Chunk4 {
-    Result fJeannieC$SpecifierQualifierList;
-    Result fJeannieC$AttributedDeclarator;
-    Result fJeannieC$Declarator;
-    Result fJeannieC$Pointer;
-    Result fJeannieC$VariableLength;
-    Result fJeannieC$ParameterTypeList;
-    Result fJeannieC$AbstractDeclarator;
-    Result f$$Shared9;
-    Result fJeannieC$TypeName;
-    Result fJeannieC$AttributeSpecifierList;
+    Result fJeannieC$UnaryExpression;
+    Result fJeannieC$CastExpression;
+    Result fJeannieC$LogicalOrExpression;
+    Result fJeannieC$ConditionalExpression;
+    Result fJeannieC$AssignmentExpression;
+    Result fJeannieC$CommaExpression;
+    Result f$$Shared18;
+    Result fJeannieC$CInCBlock;
+    Result fJeannieC$CompoundStatement;
+    Result fJeannieC$Statement;
+
+    void clear() {
+      fJeannieC$UnaryExpression = null;
+      fJeannieC$CastExpression = null;
+      fJeannieC$LogicalOrExpression = null;
+      fJeannieC$ConditionalExpression = null;
+      fJeannieC$AssignmentExpression = null;
+      fJeannieC$CommaExpression = null;
+      f$$Shared18 = null;
+      fJeannieC$CInCBlock = null;
+      fJeannieC$CompoundStatement = null;
+      fJeannieC$Statement = null;
+    }
   }
 
   /** Chunk 5 of memoized results. */
   static final class Chunk5 {
-    Result fJeannieC$AttributeSpecifier;
-    Result f$$Shared10;
-    Result fJeannieC$Statement;
-    Result fJeannieC$CompoundStatement;
-    Result fJeannieC$CommaExpression;
-    Result fJeannieC$AssignmentExpression;
-    Result f$$Shared11;
-    Result fJeannieC$ConditionalExpression;
-    Result fJeannieC$LogicalOrExpression;
-    Result f$$Shared12;
+    Result fCommandC$LogicalOrExpression;
+    Result fCommandC$ConditionalExpression;
+    Result fCommandC$AssignmentExpression;
+    Result fCommandC$CommaExpression;
+    Result fCommandC$CInCBlock;
+    Result fCommandC$CompoundStatement;
+    Result fCommandC$Statement;
+    Result fCommandC$CInCBlock$$Star2;
+    Result fCommandC$ExpressionList;
+    Result fJeannieJava$RelationalExpression;
+
+    void clear() {
+      fCommandC$LogicalOrExpression = null;
+      fCommandC$ConditionalExpression = null;
+      fCommandC$AssignmentExpression = null;
+      fCommandC$CommaExpression = null;
+      fCommandC$CInCBlock = null;
+      fCommandC$CompoundStatement = null;
+      fCommandC$Statement = null;
+      fCommandC$CInCBlock$$Star2 = null;
+      fCommandC$ExpressionList = null;
+      fJeannieJava$RelationalExpression = null;
+    }
   }
 
   /** Chunk 6 of memoized results. */
   static final class Chunk6 {
+    Result fJeannieC$Pointer;
+    Result fJeannieC$Declarator;
+    Result fJeannieC$AttributeSpecifierList;
+    Result fJeannieC$InitializedDeclaratorList;
+    Result fJeannieC$AttributedDeclarator;
+    Result fJeannieC$AbstractDeclarator;
+    Result fCommandC$Pointer;
+    Result fCommandC$Declarator;
+    Result fCommandC$AttributeSpecifierList;
+    Result fCommandC$InitializedDeclaratorList;
+
+    void clear() {
+      fJeannieC$Pointer = null;
+      fJeannieC$Declarator = null;
+      fJeannieC$AttributeSpecifierList = null;
+      fJeannieC$InitializedDeclaratorList = null;
+      fJeannieC$AttributedDeclarator = null;
+      fJeannieC$AbstractDeclarator = null;
+      fCommandC$Pointer = null;
+      fCommandC$Declarator = null;
+      fCommandC$AttributeSpecifierList = null;
+      fCommandC$InitializedDeclaratorList = null;
+    }
+  }
+
+  /** Chunk 7 of memoized results. */
+  static final class Chunk7 {
+    Result fJeannieJava$LogicalOrExpression;
+    Result fJeannieJava$ConditionalExpression;
+    Result fJeannieJava$Expression;
+    Result fJeannieJava$JavaInJavaBlock;
+    Result fJeannieJava$Block;
+    Result fJeannieJava$Modifiers;
+    Result fJeannieJava$JavaInJavaBlock$$Star1;
+    Result fJeannieJava$VariableInitializer;
+    Result fCommandJava$RelationalExpression;
+    Result fCommandJava$LogicalOrExpression;
+
+    void clear() {
+      fJeannieJava$LogicalOrExpression = null;
+      fJeannieJava$ConditionalExpression = null;
+      fJeannieJava$Expression = null;
+      fJeannieJava$JavaInJavaBlock = null;
+      fJeannieJava$Block = null;
+      fJeannieJava$Modifiers = null;
+      fJeannieJava$JavaInJavaBlock$$Star1 = null;
+      fJeannieJava$VariableInitializer = null;
+      fCommandJava$RelationalExpression = null;
+      fCommandJava$LogicalOrExpression = null;
+    }
+  }
+
+  /** Chunk 8 of memoized results. */
+  static final class Chunk8 {
+    Result fCommandJava$ConditionalExpression;
+    Result fCommandJava$Expression;
+    Result fCommandJava$VariableInitializer;
+    Result fDimensions$$Plus1;
+    Result fDimensions;
+    Result fJeannieC$SpecifierQualifierList;
+    Result fJeannieC$TypeName;
+    Result fJeannieC$AssemblyOperand;
+    Result fJeannieC$AssemblyOperands;
+    Result fCommandC$SpecifierQualifierList;
+
+    void clear() {
+      fCommandJava$ConditionalExpression = null;
+      fCommandJava$Expression = null;
+      fCommandJava$VariableInitializer = null;
+      fDimensions$$Plus1 = null;
+      fDimensions = null;
+      fJeannieC$SpecifierQualifierList = null;
+      fJeannieC$TypeName = null;
+      fJeannieC$AssemblyOperand = null;
+      fJeannieC$AssemblyOperands = null;
+      fCommandC$SpecifierQualifierList = null;
+    }
+  }
+
+  /** Chunk 9 of memoized results. */
+  static final class Chunk9 {
+    Result fCommandC$AssemblyOperand;
+    Result fCommandC$AssemblyOperands;
+    Result fUnambiguousCommand;
+    Result fRestOfLine;
+    Result fCConstant$Exponent;
+    Result f$$Shared27;
+    Result fBinaryExponent;
+    Result fQualifiedIdentifier$$Star1;
+    Result fJeannieC$InitializedDeclaratorList$$Star1;
+    Result fJeannieC$VariableLength;
+
+    void clear() {
+      fCommandC$AssemblyOperand = null;
+      fCommandC$AssemblyOperands = null;
+      fUnambiguousCommand = null;
+      fRestOfLine = null;
+      fCConstant$Exponent = null;
+      f$$Shared27 = null;
+      fBinaryExponent = null;
+      fQualifiedIdentifier$$Star1 = null;
+      fJeannieC$InitializedDeclaratorList$$Star1 = null;
+      fJeannieC$VariableLength = null;
+    }
+  }
+
+  /** Chunk 10 of memoized results. */
+  static final class Chunk10 {
+    Result fJeannieC$ParameterTypeList;
+    Result f$$Shared11;
+    Result f$$Shared12;
     Result f$$Shared13;
     Result f$$Shared14;
     Result f$$Shared15;
     Result f$$Shared16;
-    Result fJeannieC$CastExpression;
-    Result fJeannieC$UnaryExpression;
-    Result f$$Shared17;
     Result fJeannieC$ExpressionList;
     Result fJeannieC$ExpressionList$$Star1;
-    Result fJeannieC$AssemblyOperands;
+    Result fJeannieC$AssemblyOperands$$Star1;
+
+    void clear() {
+      fJeannieC$ParameterTypeList = null;
+      f$$Shared11 = null;
+      f$$Shared12 = null;
+      f$$Shared13 = null;
+      f$$Shared14 = null;
+      f$$Shared15 = null;
+      f$$Shared16 = null;
+      fJeannieC$ExpressionList = null;
+      fJeannieC$ExpressionList$$Star1 = null;
+      fJeannieC$AssemblyOperands$$Star1 = null;
+    }
   }
 
-  /** Chunk 7 of memoized results. */
-  static final class Chunk7 {
-    Result fJeannieC$AssemblyOperands$$Star1;
-    Result fJeannieC$AssemblyOperand;
-    Result f$$Shared18;
-    Result f$$Shared25;
-    Result fJeannieC$CInCBlock;
+  /** Chunk 11 of memoized results. */
+  static final class Chunk11 {
     Result fJeannieC$CInCBlock$$Star1;
     Result fJeannieC$CInCBlock$$Star2;
     Result fJeannieC$JavaThrows;
-    Result fCommandC$DeclarationSpecifiers;
-    Result fCommandC$InitializedDeclaratorList;
-  }
-
-  /** Chunk 8 of memoized results. */
-  static final class Chunk8 {
     Result fCommandC$InitializedDeclaratorList$$Star1;
-    Result fCommandC$SpecifierQualifierList;
     Result fCommandC$AttributedDeclarator;
-    Result fCommandC$Declarator;
-    Result fCommandC$Pointer;
     Result fCommandC$VariableLength;
     Result fCommandC$ParameterTypeList;
     Result fCommandC$AbstractDeclarator;
     Result fCommandC$TypeName;
-    Result fCommandC$AttributeSpecifierList;
-  }
+    Result fCommandC$ExpressionList$$Star1;
 
-  /** Chunk 9 of memoized results. */
-  static final class Chunk9 {
-    Result fCommandC$AttributeSpecifier;
-    Result fCommandC$Statement;
-    Result fCommandC$CompoundStatement;
-    Result fCommandC$CommaExpression;
-    Result fCommandC$AssignmentExpression;
-    Result fCommandC$ConditionalExpression;
-    Result fCommandC$LogicalOrExpression;
-    Result fCommandC$CastExpression;
-    Result fCommandC$UnaryExpression;
-    Result fCommandC$ExpressionList;
+    void clear() {
+      fJeannieC$CInCBlock$$Star1 = null;
+      fJeannieC$CInCBlock$$Star2 = null;
+      fJeannieC$JavaThrows = null;
+      fCommandC$InitializedDeclaratorList$$Star1 = null;
+      fCommandC$AttributedDeclarator = null;
+      fCommandC$VariableLength = null;
+      fCommandC$ParameterTypeList = null;
+      fCommandC$AbstractDeclarator = null;
+      fCommandC$TypeName = null;
+      fCommandC$ExpressionList$$Star1 = null;
+    }
   }
 
-  /** Chunk 10 of memoized results. */
-  static final class Chunk10 {
-    Result fCommandC$ExpressionList$$Star1;
-    Result fCommandC$AssemblyOperands;
+  /** Chunk 12 of memoized results. */
+  static final class Chunk12 {
     Result fCommandC$AssemblyOperands$$Star1;
-    Result fCommandC$AssemblyOperand;
-    Result fCommandC$CInCBlock;
     Result fCommandC$CInCBlock$$Star1;
-    Result fCommandC$CInCBlock$$Star2;
     Result fCommandC$JavaThrows;
-    Result fJeannieJava$Modifiers;
     Result fJeannieJava$FormalParameters;
-  }
-
-  /** Chunk 11 of memoized results. */
-  static final class Chunk11 {
     Result fJeannieJava$FormalParameters$$Star1;
     Result fJeannieJava$Declarators;
     Result fJeannieJava$Declarators$$Star1;
-    Result fJeannieJava$Block;
     Result fJeannieJava$ParExpression;
     Result fJeannieJava$CatchClause;
-    Result fJeannieJava$Expression;
     Result f$$Shared21;
-    Result fJeannieJava$ConditionalExpression;
-    Result fJeannieJava$LogicalOrExpression;
+
+    void clear() {
+      fCommandC$AssemblyOperands$$Star1 = null;
+      fCommandC$CInCBlock$$Star1 = null;
+      fCommandC$JavaThrows = null;
+      fJeannieJava$FormalParameters = null;
+      fJeannieJava$FormalParameters$$Star1 = null;
+      fJeannieJava$Declarators = null;
+      fJeannieJava$Declarators$$Star1 = null;
+      fJeannieJava$ParExpression = null;
+      fJeannieJava$CatchClause = null;
+      f$$Shared21 = null;
+    }
   }
 
-  /** Chunk 12 of memoized results. */
-  static final class Chunk12 {
-    Result fJeannieJava$RelationalExpression;
+  /** Chunk 13 of memoized results. */
+  static final class Chunk13 {
     Result f$$Shared22;
     Result f$$Shared23;
-    Result fJeannieJava$VariableInitializer;
-    Result f$$Shared26;
-    Result fJeannieJava$JavaInJavaBlock;
-    Result fJeannieJava$JavaInJavaBlock$$Star1;
     Result fCommandJava$Modifiers;
     Result fCommandJava$FormalParameters;
     Result fCommandJava$FormalParameters$$Star1;
-  }
-
-  /** Chunk 13 of memoized results. */
-  static final class Chunk13 {
     Result fCommandJava$Declarators;
     Result fCommandJava$Declarators$$Star1;
     Result fCommandJava$Block;
     Result fCommandJava$ParExpression;
     Result fCommandJava$CatchClause;
-    Result fCommandJava$Expression;
-    Result fCommandJava$ConditionalExpression;
-    Result fCommandJava$LogicalOrExpression;
-    Result fCommandJava$RelationalExpression;
-    Result fCommandJava$VariableInitializer;
+
+    void clear() {
+      f$$Shared22 = null;
+      f$$Shared23 = null;
+      fCommandJava$Modifiers = null;
+      fCommandJava$FormalParameters = null;
+      fCommandJava$FormalParameters$$Star1 = null;
+      fCommandJava$Declarators = null;
+      fCommandJava$Declarators$$Star1 = null;
+      fCommandJava$Block = null;
+      fCommandJava$ParExpression = null;
+      fCommandJava$CatchClause = null;
+    }
   }
 
   // =========================================================================
@@ -252,6 +421,23 @@ public final class CommandParser extends ParserBase {
     Chunk11 chunk11;
     Chunk12 chunk12;
     Chunk13 chunk13;
+
+    protected boolean clear() {
+      if (null != chunk1) chunk1.clear();
+      if (null != chunk2) chunk2.clear();
+      if (null != chunk3) chunk3.clear();
+      if (null != chunk4) chunk4.clear();
+      if (null != chunk5) chunk5.clear();
+      if (null != chunk6) chunk6.clear();
+      if (null != chunk7) chunk7.clear();
+      if (null != chunk8) chunk8.clear();
+      if (null != chunk9) chunk9.clear();
+      if (null != chunk10) chunk10.clear();
+      if (null != chunk11) chunk11.clear();
+      if (null != chunk12) chunk12.clear();
+      if (null != chunk13) chunk13.clear();
+      return true;
+    }
   }
 
   // =========================================================================
@@ -292,6 +478,146 @@ public final class CommandParser extends ParserBase {
 
   // =========================================================================
 
+  /** The names of the memoized productions. */
+  private static final String[] yyProductions = {
+    "xtc.lang.blink.Command.MetaVariable",
+    "xtc.lang.blink.Command.UnambiguousCommand",
+    "xtc.lang.blink.Command.RestOfLine",
+    "xtc.lang.CConstant.Constant",
+    "xtc.lang.CConstant.Exponent",
+    "xtc.lang.blink.Command.$$Shared27",
+    "xtc.lang.CConstant.BinaryExponent",
+    "xtc.lang.CConstant.CharacterLiteral",
+    "xtc.lang.CConstant.StringConstant",
+    "CConstant.StringConstant$$Plus1",
+    "xtc.lang.CConstant.StringLiteral",
+    "xtc.lang.jeannie.JeannieSymbol.Symbol",
+    "xtc.lang.CIdentifier.Identifier",
+    "xtc.lang.CIdentifier.Keyword",
+    "xtc.lang.CIdentifier.Word",
+    "xtc.lang.JavaType.ResultType",
+    "xtc.lang.JavaType.Type",
+    "xtc.lang.JavaType.TypeName",
+    "xtc.lang.JavaType.PrimitiveType",
+    "xtc.lang.JavaType.Dimensions",
+    "xtc.lang.blink.Command.Dimensions$$Plus1",
+    "xtc.lang.JavaConstant.Literal",
+    "xtc.lang.JavaConstant.IntegerLiteral",
+    "xtc.lang.JavaIdentifier.QualifiedIdentifier",
+    "xtc.lang.blink.Command.QualifiedIdentifier$$Star1",
+    "xtc.lang.JavaIdentifier.Identifier",
+    "xtc.lang.JavaIdentifier.Word",
+    "xtc.lang.jeannie.JeannieC.DeclarationSpecifiers",
+    "xtc.lang.jeannie.JeannieC.InitializedDeclaratorList",
+    "JeannieC.InitializedDeclaratorList$$Star1",
+    "xtc.lang.jeannie.JeannieC.SpecifierQualifierList",
+    "xtc.lang.jeannie.JeannieC.AttributedDeclarator",
+    "xtc.lang.jeannie.JeannieC.Declarator",
+    "xtc.lang.jeannie.JeannieC.Pointer",
+    "xtc.lang.jeannie.JeannieC.VariableLength",
+    "xtc.lang.jeannie.JeannieC.ParameterTypeList",
+    "xtc.lang.jeannie.JeannieC.AbstractDeclarator",
+    "xtc.lang.blink.Command.$$Shared9",
+    "xtc.lang.jeannie.JeannieC.TypeName",
+    "xtc.lang.jeannie.JeannieC.AttributeSpecifierList",
+    "xtc.lang.jeannie.JeannieC.AttributeSpecifier",
+    "xtc.lang.blink.Command.$$Shared10",
+    "xtc.lang.jeannie.JeannieC.Statement",
+    "xtc.lang.jeannie.JeannieC.CompoundStatement",
+    "xtc.lang.jeannie.JeannieC.CommaExpression",
+    "xtc.lang.jeannie.JeannieC.AssignmentExpression",
+    "xtc.lang.blink.Command.$$Shared11",
+    "xtc.lang.jeannie.JeannieC.ConditionalExpression",
+    "xtc.lang.jeannie.JeannieC.LogicalOrExpression",
+    "xtc.lang.blink.Command.$$Shared12",
+    "xtc.lang.blink.Command.$$Shared13",
+    "xtc.lang.blink.Command.$$Shared14",
+    "xtc.lang.blink.Command.$$Shared15",
+    "xtc.lang.blink.Command.$$Shared16",
+    "xtc.lang.jeannie.JeannieC.CastExpression",
+    "xtc.lang.jeannie.JeannieC.UnaryExpression",
+    "xtc.lang.blink.Command.$$Shared17",
+    "xtc.lang.jeannie.JeannieC.ExpressionList",
+    "JeannieC.ExpressionList$$Star1",
+    "xtc.lang.jeannie.JeannieC.AssemblyOperands",
+    "JeannieC.AssemblyOperands$$Star1",
+    "xtc.lang.jeannie.JeannieC.AssemblyOperand",
+    "xtc.lang.blink.Command.$$Shared18",
+    "xtc.lang.blink.Command.$$Shared25",
+    "xtc.lang.jeannie.JeannieC.CInCBlock",
+    "JeannieC.CInCBlock$$Star1",
+    "JeannieC.CInCBlock$$Star2",
+    "xtc.lang.jeannie.JeannieC.JavaThrows",
+    "xtc.lang.blink.CommandC.DeclarationSpecifiers",
+    "xtc.lang.blink.CommandC.InitializedDeclaratorList",
+    "CommandC.InitializedDeclaratorList$$Star1",
+    "xtc.lang.blink.CommandC.SpecifierQualifierList",
+    "xtc.lang.blink.CommandC.AttributedDeclarator",
+    "xtc.lang.blink.CommandC.Declarator",
+    "xtc.lang.blink.CommandC.Pointer",
+    "xtc.lang.blink.CommandC.VariableLength",
+    "xtc.lang.blink.CommandC.ParameterTypeList",
+    "xtc.lang.blink.CommandC.AbstractDeclarator",
+    "xtc.lang.blink.CommandC.TypeName",
+    "xtc.lang.blink.CommandC.AttributeSpecifierList",
+    "xtc.lang.blink.CommandC.AttributeSpecifier",
+    "xtc.lang.blink.CommandC.Statement",
+    "xtc.lang.blink.CommandC.CompoundStatement",
+    "xtc.lang.blink.CommandC.CommaExpression",
+    "xtc.lang.blink.CommandC.AssignmentExpression",
+    "xtc.lang.blink.CommandC.ConditionalExpression",
+    "xtc.lang.blink.CommandC.LogicalOrExpression",
+    "xtc.lang.blink.CommandC.CastExpression",
+    "xtc.lang.blink.CommandC.UnaryExpression",
+    "xtc.lang.blink.CommandC.ExpressionList",
+    "CommandC.ExpressionList$$Star1",
+    "xtc.lang.blink.CommandC.AssemblyOperands",
+    "CommandC.AssemblyOperands$$Star1",
+    "xtc.lang.blink.CommandC.AssemblyOperand",
+    "xtc.lang.blink.CommandC.CInCBlock",
+    "CommandC.CInCBlock$$Star1",
+    "CommandC.CInCBlock$$Star2",
+    "xtc.lang.blink.CommandC.JavaThrows",
+    "xtc.lang.jeannie.JeannieJava.Modifiers",
+    "xtc.lang.jeannie.JeannieJava.FormalParameters",
+    "JeannieJava.FormalParameters$$Star1",
+    "xtc.lang.jeannie.JeannieJava.Declarators",
+    "JeannieJava.Declarators$$Star1",
+    "xtc.lang.jeannie.JeannieJava.Block",
+    "xtc.lang.jeannie.JeannieJava.ParExpression",
+    "xtc.lang.jeannie.JeannieJava.CatchClause",
+    "xtc.lang.jeannie.JeannieJava.Expression",
+    "xtc.lang.blink.Command.$$Shared21",
+    "xtc.lang.jeannie.JeannieJava.ConditionalExpression",
+    "xtc.lang.jeannie.JeannieJava.LogicalOrExpression",
+    "xtc.lang.jeannie.JeannieJava.RelationalExpression",
+    "xtc.lang.blink.Command.$$Shared22",
+    "xtc.lang.blink.Command.$$Shared23",
+    "xtc.lang.jeannie.JeannieJava.VariableInitializer",
+    "xtc.lang.blink.Command.$$Shared26",
+    "xtc.lang.jeannie.JeannieJava.JavaInJavaBlock",
+    "JeannieJava.JavaInJavaBlock$$Star1",
+    "xtc.lang.blink.CommandJava.Modifiers",
+    "xtc.lang.blink.CommandJava.FormalParameters",
+    "CommandJava.FormalParameters$$Star1",
+    "xtc.lang.blink.CommandJava.Declarators",
+    "CommandJava.Declarators$$Star1",
+    "xtc.lang.blink.CommandJava.Block",
+    "xtc.lang.blink.CommandJava.ParExpression",
+    "xtc.lang.blink.CommandJava.CatchClause",
+    "xtc.lang.blink.CommandJava.Expression",
+    "xtc.lang.blink.CommandJava.ConditionalExpression",
+    "xtc.lang.blink.CommandJava.LogicalOrExpression",
+    "xtc.lang.blink.CommandJava.RelationalExpression",
+    "xtc.lang.blink.CommandJava.VariableInitializer",
+  };
+
+  protected String[] productions() {
+    return yyProductions;
+  }
+
+  // =========================================================================
+
   /**
    * Parse nonterminal xtc.lang.blink.Command.MetaVariable.
    *
@@ -301,10 +627,15 @@ public final class CommandParser extends ParserBase {
    */
   private Result pMetaVariable(final int yyStart) throws IOException {
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fMetaVariable) 
-      yyColumn.chunk1.fMetaVariable = pMetaVariable$1(yyStart);
-    return yyColumn.chunk1.fMetaVariable;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fMetaVariable) {
+      yyColumn.chunk3.fMetaVariable = pMetaVariable$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(0, yyColumn.chunk3.fMetaVariable);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(0, yyColumn.chunk3.fMetaVariable);
+    }
+    return yyColumn.chunk3.fMetaVariable;
   }
 
   /** Actually parse xtc.lang.blink.Command.MetaVariable. */
@@ -327,7 +658,7 @@ public final class CommandParser extends ParserBase {
         final String v$g$1 = yyResult.semanticValue();
 
         yyValue = GNode.create("MetaVariable", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -511,10 +842,15 @@ public final class CommandParser extends ParserBase {
    */
   private Result pUnambiguousCommand(final int yyStart) throws IOException {
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fUnambiguousCommand) 
-      yyColumn.chunk1.fUnambiguousCommand = pUnambiguousCommand$1(yyStart);
-    return yyColumn.chunk1.fUnambiguousCommand;
+    if (null == yyColumn.chunk9) yyColumn.chunk9 = new Chunk9();
+    if (null == yyColumn.chunk9.fUnambiguousCommand) {
+      yyColumn.chunk9.fUnambiguousCommand = pUnambiguousCommand$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(1, yyColumn.chunk9.fUnambiguousCommand);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(1, yyColumn.chunk9.fUnambiguousCommand);
+    }
+    return yyColumn.chunk9.fUnambiguousCommand;
   }
 
   /** Actually parse xtc.lang.blink.Command.UnambiguousCommand. */
@@ -820,7 +1156,7 @@ public final class CommandParser extends ParserBase {
               if (yyResult.hasValue()) {
 
                 yyValue = GNode.create("BreakClassCommand", v$g$1, v$g$2);
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return yyResult.createValue(yyValue, yyError);
               }
@@ -875,7 +1211,7 @@ public final class CommandParser extends ParserBase {
           if (yyResult.hasValue()) {
 
             yyValue = GNode.create("BreakClassMethodCommand", v$g$1);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           }
@@ -933,7 +1269,7 @@ public final class CommandParser extends ParserBase {
               if (yyResult.hasValue()) {
 
                 yyValue = GNode.create("BreakFileCommand", v$g$1, v$g$2);
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return yyResult.createValue(yyValue, yyError);
               }
@@ -979,7 +1315,7 @@ public final class CommandParser extends ParserBase {
         if (yyResult.hasValue()) {
 
           yyValue = GNode.create("BreakFunctionCommand", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -1021,11 +1357,7 @@ public final class CommandParser extends ParserBase {
       yyC = character(yyChoice1);
       if (-1 != yyC) {
         yyIndex = yyChoice1 + 1;
-        if (('$' == yyC) ||
-            (('.' <= yyC) && (yyC <= '9')) ||
-            (('A' <= yyC) && (yyC <= 'Z')) ||
-            ('_' == yyC) ||
-            (('a' <= yyC) && (yyC <= 'z'))) {
+        if ((yyC < 128) && (0 != (yyClass1[yyC >> 6] & (1L << yyC)))) {
 
           yyRepetition1 = yyIndex;
           yyRepeated1   = true;
@@ -1078,7 +1410,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("c2j")) {
 
       yyValue = GNode.create("C2jCommand", false);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -1108,7 +1440,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("continue")) {
 
       yyValue = GNode.create("ContinueCommand", false);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -1143,7 +1475,7 @@ public final class CommandParser extends ParserBase {
         final Node v$g$1 = yyResult.semanticValue();
 
         yyValue = GNode.create("DeleteCommand", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -1179,7 +1511,7 @@ public final class CommandParser extends ParserBase {
         final Node v$g$1 = yyResult.semanticValue();
 
         yyValue = GNode.create("DownCommand", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -1210,7 +1542,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("exit")) {
 
       yyValue = GNode.create("ExitCommand", false);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -1249,7 +1581,7 @@ public final class CommandParser extends ParserBase {
         if (yyResult.hasValue()) {
 
           yyValue = GNode.create("GdbCommand", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -1272,10 +1604,15 @@ public final class CommandParser extends ParserBase {
    */
   private Result pRestOfLine(final int yyStart) throws IOException {
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fRestOfLine) 
-      yyColumn.chunk1.fRestOfLine = pRestOfLine$1(yyStart);
-    return yyColumn.chunk1.fRestOfLine;
+    if (null == yyColumn.chunk9) yyColumn.chunk9 = new Chunk9();
+    if (null == yyColumn.chunk9.fRestOfLine) {
+      yyColumn.chunk9.fRestOfLine = pRestOfLine$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(2, yyColumn.chunk9.fRestOfLine);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(2, yyColumn.chunk9.fRestOfLine);
+    }
+    return yyColumn.chunk9.fRestOfLine;
   }
 
   /** Actually parse xtc.lang.blink.Command.RestOfLine. */
@@ -1339,7 +1676,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("help")) {
 
       yyValue = GNode.create("HelpCommand", false);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -1374,7 +1711,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue("break")) {
 
         yyValue = GNode.create("InfoBreakCommand", false);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       } else {
@@ -1412,7 +1749,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue("watch")) {
 
         yyValue = GNode.create("InfoWatchCommand", false);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       } else {
@@ -1445,7 +1782,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("initj")) {
 
       yyValue = GNode.create("InitJCommand", false);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -1475,7 +1812,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("j2c")) {
 
       yyValue = GNode.create("J2cCommand", false);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -1514,7 +1851,7 @@ public final class CommandParser extends ParserBase {
         if (yyResult.hasValue()) {
 
           yyValue = GNode.create("JdbCommand", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -1546,7 +1883,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("jret")) {
 
       yyValue = GNode.create("JRetCommand", false);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -1576,7 +1913,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("list")) {
 
       yyValue = GNode.create("ListCommand", false);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -1606,7 +1943,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("locals")) {
 
       yyValue = GNode.create("LocalsCommand", false);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -1636,7 +1973,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("next")) {
 
       yyValue = GNode.create("NextCommand", false);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -1666,7 +2003,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("run")) {
 
       yyValue = GNode.create("RunCommand", false);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -1709,7 +2046,7 @@ public final class CommandParser extends ParserBase {
           final Node v$g$1 = yyResult.semanticValue();
 
           yyValue = GNode.create("PrintCExpressionCommand", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -1755,7 +2092,7 @@ public final class CommandParser extends ParserBase {
           final Node v$g$1 = yyResult.semanticValue();
 
           yyValue = GNode.create("PrintJavaExpressionCommand", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -1788,7 +2125,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("stat")) {
 
       yyValue = GNode.create("StatCommand", false);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -1818,7 +2155,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("step")) {
 
       yyValue = GNode.create("StepCommand", false);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -1853,7 +2190,7 @@ public final class CommandParser extends ParserBase {
         final Node v$g$1 = yyResult.semanticValue();
 
         yyValue = GNode.create("UpCommand", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -1897,7 +2234,7 @@ public final class CommandParser extends ParserBase {
           final Node v$g$1 = yyResult.semanticValue();
 
           yyValue = GNode.create("WatchCExpressionCommand", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -1959,7 +2296,7 @@ public final class CommandParser extends ParserBase {
             final Node v$g$2 = yyResult.semanticValue();
 
             yyValue = GNode.create("WatchJavaFieldCommand", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           }
@@ -2021,34 +2358,46 @@ public final class CommandParser extends ParserBase {
     String     yyValue;
     ParseError yyError = ParseError.DUMMY;
 
-    // Alternative 1.
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'a':
+      yyFirst = 0x3;
+      break;
 
-    yyC = character(yyStart);
-    if ('a' == yyC) {
-      yyIndex = yyStart + 1;
+    default:
+      yyFirst = 0;
+    }
 
-      yyC = character(yyIndex);
-      if ('c' == yyC) {
-        yyIndex = yyIndex + 1;
+    // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
+
+      yyC = character(yyStart);
+      if ('a' == yyC) {
+        yyIndex = yyStart + 1;
 
         yyC = character(yyIndex);
         if ('c' == yyC) {
           yyIndex = yyIndex + 1;
 
           yyC = character(yyIndex);
-          if ('e' == yyC) {
+          if ('c' == yyC) {
             yyIndex = yyIndex + 1;
 
             yyC = character(yyIndex);
-            if ('s' == yyC) {
+            if ('e' == yyC) {
               yyIndex = yyIndex + 1;
 
               yyC = character(yyIndex);
               if ('s' == yyC) {
                 yyIndex = yyIndex + 1;
-                yyValue = "access";
 
-                return new SemanticValue(yyValue, yyIndex, yyError);
+                yyC = character(yyIndex);
+                if ('s' == yyC) {
+                  yyIndex = yyIndex + 1;
+                  yyValue = "access";
+
+                  return new SemanticValue(yyValue, yyIndex, yyError);
+                }
               }
             }
           }
@@ -2057,21 +2406,23 @@ public final class CommandParser extends ParserBase {
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyC = character(yyStart);
-    if ('a' == yyC) {
-      yyIndex = yyStart + 1;
-
-      yyC = character(yyIndex);
-      if ('l' == yyC) {
-        yyIndex = yyIndex + 1;
+      yyC = character(yyStart);
+      if ('a' == yyC) {
+        yyIndex = yyStart + 1;
 
         yyC = character(yyIndex);
         if ('l' == yyC) {
           yyIndex = yyIndex + 1;
-          yyValue = "all";
 
-          return new SemanticValue(yyValue, yyIndex, yyError);
+          yyC = character(yyIndex);
+          if ('l' == yyC) {
+            yyIndex = yyIndex + 1;
+            yyValue = "all";
+
+            return new SemanticValue(yyValue, yyIndex, yyError);
+          }
         }
       }
     }
@@ -2101,7 +2452,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("where")) {
 
       yyValue = GNode.create("WhereCommand", false);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -2123,8 +2474,13 @@ public final class CommandParser extends ParserBase {
   private Result pConstant(final int yyStart) throws IOException {
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
     if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fConstant) 
+    if (null == yyColumn.chunk1.fConstant) {
       yyColumn.chunk1.fConstant = pConstant$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(3, yyColumn.chunk1.fConstant);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(3, yyColumn.chunk1.fConstant);
+    }
     return yyColumn.chunk1.fConstant;
   }
 
@@ -2134,54 +2490,97 @@ public final class CommandParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
-    // Alternative 1.
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '\"':
+      yyFirst = 0x8;
+      break;
 
-    yyResult = pFloatingConstant(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+    case '\'':
+      yyFirst = 0x4;
+      break;
 
-      yyResult = pSpacing(yyResult.index);
+    case '.':
+      yyFirst = 0x1;
+      break;
+
+    case '0':
+    case '1':
+    case '2':
+    case '3':
+    case '4':
+    case '5':
+    case '6':
+    case '7':
+    case '8':
+    case '9':
+      yyFirst = 0x3;
+      break;
+
+    case 'L':
+      yyFirst = 0xc;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
+    // Alternative 1.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
+
+      yyResult = pFloatingConstant(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-        return yyResult.createValue(yyValue, yyError);
+        yyResult = pSpacing(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 2.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pIntegerConstant(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
-
-      yyResult = pSpacing(yyResult.index);
+      yyResult = pIntegerConstant(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-        return yyResult.createValue(yyValue, yyError);
+        yyResult = pSpacing(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 3.
+    if ((0 != (yyFirst & 0x4)) || (yyError.index < yyStart)) {
 
-    yyResult = pCConstant$CharacterConstant(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pCConstant$CharacterConstant(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 4.
+    if ((0 != (yyFirst & 0x8)) || (yyError.index < yyStart)) {
 
-    yyResult = pCConstant$StringConstant(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pCConstant$StringConstant(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -2202,43 +2601,71 @@ public final class CommandParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '0':
+      yyFirst = 0x3;
+      break;
+
+    case '1':
+    case '2':
+    case '3':
+    case '4':
+    case '5':
+    case '6':
+    case '7':
+    case '8':
+    case '9':
+      yyFirst = 0x4;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Hex>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pHexConstant(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final String v$g$1 = yyResult.semanticValue();
+      yyResult = pHexConstant(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final String v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerConstant", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("IntegerConstant", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Octal>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pOctalConstant(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final String v$g$2 = yyResult.semanticValue();
+      yyResult = pOctalConstant(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final String v$g$2 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerConstant", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("IntegerConstant", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Decimal>.
+    if ((0 != (yyFirst & 0x4)) || (yyError.index < yyStart)) {
 
-    yyResult = pDecimalConstant(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final String v$g$3 = yyResult.semanticValue();
+      yyResult = pDecimalConstant(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final String v$g$3 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerConstant", v$g$3);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("IntegerConstant", v$g$3);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -2280,35 +2707,7 @@ public final class CommandParser extends ParserBase {
       case '8':
       case '9':
         {
-          yyRepetition1 = yyIndex;
-          while (true) {
-
-            yyC = character(yyRepetition1);
-            if (-1 != yyC) {
-              yyIndex = yyRepetition1 + 1;
-
-              switch (yyC) {
-              case '0':
-              case '1':
-              case '2':
-              case '3':
-              case '4':
-              case '5':
-              case '6':
-              case '7':
-              case '8':
-              case '9':
-                {
-                  yyRepetition1 = yyIndex;
-                  continue;
-                }
-
-              default:
-                /* No match. */
-              }
-            }
-            break;
-          }
+          yyRepetition1 = scan(yyIndex, 0x3ff000000000000L, 0x0L, false);
 
           yyOption1  = yyRepetition1;
 
@@ -2494,33 +2893,7 @@ public final class CommandParser extends ParserBase {
     if ('0' == yyC) {
       yyIndex = yyStart + 1;
 
-      yyRepetition1 = yyIndex;
-      while (true) {
-
-        yyC = character(yyRepetition1);
-        if (-1 != yyC) {
-          yyIndex = yyRepetition1 + 1;
-
-          switch (yyC) {
-          case '0':
-          case '1':
-          case '2':
-          case '3':
-          case '4':
-          case '5':
-          case '6':
-          case '7':
-            {
-              yyRepetition1 = yyIndex;
-              continue;
-            }
-
-          default:
-            /* No match. */
-          }
-        }
-        break;
-      }
+      yyRepetition1 = scan(yyIndex, 0xff000000000000L, 0x0L, false);
 
       yyOption1  = yyRepetition1;
 
@@ -2557,156 +2930,176 @@ public final class CommandParser extends ParserBase {
     Void       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'L':
+    case 'l':
+      yyFirst = 0x3;
+      break;
+
+    case 'U':
+    case 'u':
+      yyFirst = 0x2;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pLongLongSuffix(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
+      yyResult = pLongLongSuffix(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
 
-      final int yyChoice1 = yyResult.index;
+        final int yyChoice1 = yyResult.index;
 
-      // Nested alternative 1.
+        // Nested alternative 1.
 
-      yyC = character(yyChoice1);
-      if (-1 != yyC) {
-        yyIndex = yyChoice1 + 1;
+        yyC = character(yyChoice1);
+        if (-1 != yyC) {
+          yyIndex = yyChoice1 + 1;
 
-        switch (yyC) {
-        case 'U':
-        case 'u':
-          {
-            yyValue = null;
+          switch (yyC) {
+          case 'U':
+          case 'u':
+            {
+              yyValue = null;
 
-            return new SemanticValue(yyValue, yyIndex, yyError);
-          }
+              return new SemanticValue(yyValue, yyIndex, yyError);
+            }
 
-        default:
-          /* No match. */
+          default:
+            /* No match. */
+          }
         }
-      }
 
-      // Nested alternative 2.
+        // Nested alternative 2.
 
-      yyValue = null;
+        yyValue = null;
 
-      return new SemanticValue(yyValue, yyChoice1, yyError);
+        return new SemanticValue(yyValue, yyChoice1, yyError);
+      }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyC = character(yyStart);
-    if (-1 != yyC) {
-      yyIndex = yyStart + 1;
+      yyC = character(yyStart);
+      if (-1 != yyC) {
+        yyIndex = yyStart + 1;
 
-      switch (yyC) {
-      case 'L':
-      case 'l':
-        {
-          final int yyChoice1 = yyIndex;
+        switch (yyC) {
+        case 'L':
+        case 'l':
+          {
+            final int yyChoice1 = yyIndex;
 
-          // Nested alternative 1.
+            // Nested alternative 1.
 
-          yyC = character(yyChoice1);
-          if (-1 != yyC) {
-            yyIndex = yyChoice1 + 1;
+            yyC = character(yyChoice1);
+            if (-1 != yyC) {
+              yyIndex = yyChoice1 + 1;
 
-            switch (yyC) {
-            case 'U':
-            case 'u':
-              {
-                yyValue = null;
+              switch (yyC) {
+              case 'U':
+              case 'u':
+                {
+                  yyValue = null;
 
-                return new SemanticValue(yyValue, yyIndex, yyError);
-              }
+                  return new SemanticValue(yyValue, yyIndex, yyError);
+                }
 
-            default:
-              /* No match. */
+              default:
+                /* No match. */
+              }
             }
-          }
 
-          // Nested alternative 2.
+            // Nested alternative 2.
 
-          yyValue = null;
+            yyValue = null;
 
-          return new SemanticValue(yyValue, yyChoice1, yyError);
-        }
+            return new SemanticValue(yyValue, yyChoice1, yyError);
+          }
 
-      case 'U':
-      case 'u':
-        {
-          final int yyChoice1 = yyIndex;
+        case 'U':
+        case 'u':
+          {
+            final int yyChoice1 = yyIndex;
 
-          // Nested alternative 1.
+            // Nested alternative 1.
 
-          yyC = character(yyChoice1);
-          if (-1 != yyC) {
-            yyIndex = yyChoice1 + 1;
+            yyC = character(yyChoice1);
+            if (-1 != yyC) {
+              yyIndex = yyChoice1 + 1;
 
-            switch (yyC) {
-            case 'l':
-              {
-                yyC = character(yyIndex);
-                if (-1 != yyC) {
-                  yyIndex = yyIndex + 1;
-                  if ('l' == yyC) {
+              switch (yyC) {
+              case 'l':
+                {
+                  yyC = character(yyIndex);
+                  if (-1 != yyC) {
+                    yyIndex = yyIndex + 1;
+                    if ('l' == yyC) {
 
-                    yyValue = null;
+                      yyValue = null;
 
-                    return new SemanticValue(yyValue, yyIndex, yyError);
+                      return new SemanticValue(yyValue, yyIndex, yyError);
+                    }
                   }
                 }
-              }
-              break;
+                break;
 
-            case 'L':
-              {
-                yyC = character(yyIndex);
-                if (-1 != yyC) {
-                  yyIndex = yyIndex + 1;
-                  if ('L' == yyC) {
+              case 'L':
+                {
+                  yyC = character(yyIndex);
+                  if (-1 != yyC) {
+                    yyIndex = yyIndex + 1;
+                    if ('L' == yyC) {
 
-                    yyValue = null;
+                      yyValue = null;
 
-                    return new SemanticValue(yyValue, yyIndex, yyError);
+                      return new SemanticValue(yyValue, yyIndex, yyError);
+                    }
                   }
                 }
-              }
-              break;
+                break;
 
-            default:
-              /* No match. */
+              default:
+                /* No match. */
+              }
             }
-          }
 
-          // Nested alternative 2.
+            // Nested alternative 2.
 
-          yyC = character(yyChoice1);
-          if (-1 != yyC) {
-            yyIndex = yyChoice1 + 1;
+            yyC = character(yyChoice1);
+            if (-1 != yyC) {
+              yyIndex = yyChoice1 + 1;
 
-            switch (yyC) {
-            case 'L':
-            case 'l':
-              {
-                yyValue = null;
+              switch (yyC) {
+              case 'L':
+              case 'l':
+                {
+                  yyValue = null;
 
-                return new SemanticValue(yyValue, yyIndex, yyError);
-              }
+                  return new SemanticValue(yyValue, yyIndex, yyError);
+                }
 
-            default:
-              /* No match. */
+              default:
+                /* No match. */
+              }
             }
-          }
 
-          // Nested alternative 3.
+            // Nested alternative 3.
 
-          yyValue = null;
+            yyValue = null;
 
-          return new SemanticValue(yyValue, yyChoice1, yyError);
-        }
+            return new SemanticValue(yyValue, yyChoice1, yyError);
+          }
 
-      default:
-        /* No match. */
+        default:
+          /* No match. */
+        }
       }
     }
 
@@ -2791,30 +3184,57 @@ public final class CommandParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '.':
+    case '1':
+    case '2':
+    case '3':
+    case '4':
+    case '5':
+    case '6':
+    case '7':
+    case '8':
+    case '9':
+      yyFirst = 0x1;
+      break;
+
+    case '0':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Decimal>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pDecimalFloatingConstant(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final String v$g$1 = yyResult.semanticValue();
+      yyResult = pDecimalFloatingConstant(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final String v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("FloatingConstant", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("FloatingConstant", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Hex>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pHexFloatingConstant(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final String v$g$2 = yyResult.semanticValue();
+      yyResult = pHexFloatingConstant(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final String v$g$2 = yyResult.semanticValue();
 
-      yyValue = GNode.create("FloatingConstant", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("FloatingConstant", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -2842,47 +3262,117 @@ public final class CommandParser extends ParserBase {
     String     yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '.':
+      yyFirst = 0x2;
+      break;
+
+    case '0':
+    case '1':
+    case '2':
+    case '3':
+    case '4':
+    case '5':
+    case '6':
+    case '7':
+    case '8':
+    case '9':
+      yyFirst = 0x5;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index <= yyStart)) {
 
-    yyRepetition1 = yyStart;
-    yyRepeated1   = false;
-    while (true) {
+      yyRepetition1 = yyStart;
+      yyRepeated1   = false;
+      while (true) {
 
-      yyC = character(yyRepetition1);
-      if (-1 != yyC) {
-        yyIndex = yyRepetition1 + 1;
+        yyC = character(yyRepetition1);
+        if (-1 != yyC) {
+          yyIndex = yyRepetition1 + 1;
 
-        switch (yyC) {
-        case '0':
-        case '1':
-        case '2':
-        case '3':
-        case '4':
-        case '5':
-        case '6':
-        case '7':
-        case '8':
-        case '9':
-          {
-            yyRepetition1 = yyIndex;
-            yyRepeated1   = true;
-            continue;
+          switch (yyC) {
+          case '0':
+          case '1':
+          case '2':
+          case '3':
+          case '4':
+          case '5':
+          case '6':
+          case '7':
+          case '8':
+          case '9':
+            {
+              yyRepetition1 = yyIndex;
+              yyRepeated1   = true;
+              continue;
+            }
+
+          default:
+            /* No match. */
           }
+        }
+        break;
+      }
 
-        default:
-          /* No match. */
+      if (yyRepeated1) {
+
+        yyC = character(yyRepetition1);
+        if ('.' == yyC) {
+          yyIndex = yyRepetition1 + 1;
+
+          yyRepetition1 = scan(yyIndex, 0x3ff000000000000L, 0x0L, false);
+
+          yyOption1  = yyRepetition1;
+
+          yyResult = pCConstant$Exponent(yyOption1);
+          yyError  = yyResult.select(yyError, yyOption1);
+          if (yyResult.hasValue()) {
+
+            yyOption1  = yyResult.index;
+          }
+
+
+          yyC = character(yyOption1);
+          if (-1 != yyC) {
+            yyIndex = yyOption1 + 1;
+
+            switch (yyC) {
+            case 'F':
+            case 'L':
+            case 'f':
+            case 'l':
+              {
+                yyOption1  = yyIndex;
+              }
+              break;
+
+            default:
+              /* No match. */
+            }
+          }
+
+          yyValue = difference(yyStart, yyOption1);
+
+          return new SemanticValue(yyValue, yyOption1, yyError);
         }
       }
-      break;
     }
 
-    if (yyRepeated1) {
+    // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-      yyC = character(yyRepetition1);
+      yyC = character(yyStart);
       if ('.' == yyC) {
-        yyIndex = yyRepetition1 + 1;
+        yyIndex = yyStart + 1;
 
         yyRepetition1 = yyIndex;
+        yyRepeated1   = false;
         while (true) {
 
           yyC = character(yyRepetition1);
@@ -2902,6 +3392,7 @@ public final class CommandParser extends ParserBase {
             case '9':
               {
                 yyRepetition1 = yyIndex;
+                yyRepeated1   = true;
                 continue;
               }
 
@@ -2912,48 +3403,48 @@ public final class CommandParser extends ParserBase {
           break;
         }
 
-        yyOption1  = yyRepetition1;
+        if (yyRepeated1) {
 
-        yyResult = pCConstant$Exponent(yyOption1);
-        yyError  = yyResult.select(yyError, yyOption1);
-        if (yyResult.hasValue()) {
+          yyOption1  = yyRepetition1;
 
-          yyOption1  = yyResult.index;
-        }
+          yyResult = pCConstant$Exponent(yyOption1);
+          yyError  = yyResult.select(yyError, yyOption1);
+          if (yyResult.hasValue()) {
 
+            yyOption1  = yyResult.index;
+          }
 
-        yyC = character(yyOption1);
-        if (-1 != yyC) {
-          yyIndex = yyOption1 + 1;
 
-          switch (yyC) {
-          case 'F':
-          case 'L':
-          case 'f':
-          case 'l':
-            {
-              yyOption1  = yyIndex;
-            }
-            break;
+          yyC = character(yyOption1);
+          if (-1 != yyC) {
+            yyIndex = yyOption1 + 1;
 
-          default:
-            /* No match. */
+            switch (yyC) {
+            case 'F':
+            case 'L':
+            case 'f':
+            case 'l':
+              {
+                yyOption1  = yyIndex;
+              }
+              break;
+
+            default:
+              /* No match. */
+            }
           }
-        }
 
-        yyValue = difference(yyStart, yyOption1);
+          yyValue = difference(yyStart, yyOption1);
 
-        return new SemanticValue(yyValue, yyOption1, yyError);
+          return new SemanticValue(yyValue, yyOption1, yyError);
+        }
       }
     }
 
-    // Alternative 2.
-
-    yyC = character(yyStart);
-    if ('.' == yyC) {
-      yyIndex = yyStart + 1;
+    // Alternative 3.
+    if ((0 != (yyFirst & 0x4)) || (yyError.index <= yyStart)) {
 
-      yyRepetition1 = yyIndex;
+      yyRepetition1 = yyStart;
       yyRepeated1   = false;
       while (true) {
 
@@ -2987,105 +3478,35 @@ public final class CommandParser extends ParserBase {
 
       if (yyRepeated1) {
 
-        yyOption1  = yyRepetition1;
-
-        yyResult = pCConstant$Exponent(yyOption1);
-        yyError  = yyResult.select(yyError, yyOption1);
+        yyResult = pCConstant$Exponent(yyRepetition1);
+        yyError  = yyResult.select(yyError);
         if (yyResult.hasValue()) {
 
           yyOption1  = yyResult.index;
-        }
 
+          yyC = character(yyOption1);
+          if (-1 != yyC) {
+            yyIndex = yyOption1 + 1;
 
-        yyC = character(yyOption1);
-        if (-1 != yyC) {
-          yyIndex = yyOption1 + 1;
+            switch (yyC) {
+            case 'F':
+            case 'L':
+            case 'f':
+            case 'l':
+              {
+                yyOption1  = yyIndex;
+              }
+              break;
 
-          switch (yyC) {
-          case 'F':
-          case 'L':
-          case 'f':
-          case 'l':
-            {
-              yyOption1  = yyIndex;
+            default:
+              /* No match. */
             }
-            break;
-
-          default:
-            /* No match. */
-          }
-        }
-
-        yyValue = difference(yyStart, yyOption1);
-
-        return new SemanticValue(yyValue, yyOption1, yyError);
-      }
-    }
-
-    // Alternative 3.
-
-    yyRepetition1 = yyStart;
-    yyRepeated1   = false;
-    while (true) {
-
-      yyC = character(yyRepetition1);
-      if (-1 != yyC) {
-        yyIndex = yyRepetition1 + 1;
-
-        switch (yyC) {
-        case '0':
-        case '1':
-        case '2':
-        case '3':
-        case '4':
-        case '5':
-        case '6':
-        case '7':
-        case '8':
-        case '9':
-          {
-            yyRepetition1 = yyIndex;
-            yyRepeated1   = true;
-            continue;
           }
 
-        default:
-          /* No match. */
-        }
-      }
-      break;
-    }
-
-    if (yyRepeated1) {
-
-      yyResult = pCConstant$Exponent(yyRepetition1);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-
-        yyOption1  = yyResult.index;
-
-        yyC = character(yyOption1);
-        if (-1 != yyC) {
-          yyIndex = yyOption1 + 1;
-
-          switch (yyC) {
-          case 'F':
-          case 'L':
-          case 'f':
-          case 'l':
-            {
-              yyOption1  = yyIndex;
-            }
-            break;
+          yyValue = difference(yyStart, yyOption1);
 
-          default:
-            /* No match. */
-          }
+          return new SemanticValue(yyValue, yyOption1, yyError);
         }
-
-        yyValue = difference(yyStart, yyOption1);
-
-        return new SemanticValue(yyValue, yyOption1, yyError);
       }
     }
 
@@ -3173,47 +3594,7 @@ public final class CommandParser extends ParserBase {
         if ('.' == yyC) {
           yyIndex = yyRepetition1 + 1;
 
-          yyRepetition1 = yyIndex;
-          while (true) {
-
-            yyC = character(yyRepetition1);
-            if (-1 != yyC) {
-              yyIndex = yyRepetition1 + 1;
-
-              switch (yyC) {
-              case '0':
-              case '1':
-              case '2':
-              case '3':
-              case '4':
-              case '5':
-              case '6':
-              case '7':
-              case '8':
-              case '9':
-              case 'A':
-              case 'B':
-              case 'C':
-              case 'D':
-              case 'E':
-              case 'F':
-              case 'a':
-              case 'b':
-              case 'c':
-              case 'd':
-              case 'e':
-              case 'f':
-                {
-                  yyRepetition1 = yyIndex;
-                  continue;
-                }
-
-              default:
-                /* No match. */
-              }
-            }
-            break;
-          }
+          yyRepetition1 = scan(yyIndex, 0x3ff000000000000L, 0x7e0000007eL, false);
 
           yyResult = pBinaryExponent(yyRepetition1);
           yyError  = yyResult.select(yyError);
@@ -3427,10 +3808,15 @@ public final class CommandParser extends ParserBase {
    */
   private Result pCConstant$Exponent(final int yyStart) throws IOException {
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fCConstant$Exponent) 
-      yyColumn.chunk1.fCConstant$Exponent = pCConstant$Exponent$1(yyStart);
-    return yyColumn.chunk1.fCConstant$Exponent;
+    if (null == yyColumn.chunk9) yyColumn.chunk9 = new Chunk9();
+    if (null == yyColumn.chunk9.fCConstant$Exponent) {
+      yyColumn.chunk9.fCConstant$Exponent = pCConstant$Exponent$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(4, yyColumn.chunk9.fCConstant$Exponent);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(4, yyColumn.chunk9.fCConstant$Exponent);
+    }
+    return yyColumn.chunk9.fCConstant$Exponent;
   }
 
   /** Actually parse xtc.lang.CConstant.Exponent. */
@@ -3506,10 +3892,15 @@ public final class CommandParser extends ParserBase {
    */
   private Result p$$Shared27(final int yyStart) throws IOException {
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.f$$Shared27) 
-      yyColumn.chunk1.f$$Shared27 = p$$Shared27$1(yyStart);
-    return yyColumn.chunk1.f$$Shared27;
+    if (null == yyColumn.chunk9) yyColumn.chunk9 = new Chunk9();
+    if (null == yyColumn.chunk9.f$$Shared27) {
+      yyColumn.chunk9.f$$Shared27 = p$$Shared27$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(5, yyColumn.chunk9.f$$Shared27);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(5, yyColumn.chunk9.f$$Shared27);
+    }
+    return yyColumn.chunk9.f$$Shared27;
   }
 
   /** Actually parse xtc.lang.blink.Command.$$Shared27. */
@@ -3579,10 +3970,15 @@ public final class CommandParser extends ParserBase {
    */
   private Result pBinaryExponent(final int yyStart) throws IOException {
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fBinaryExponent) 
-      yyColumn.chunk1.fBinaryExponent = pBinaryExponent$1(yyStart);
-    return yyColumn.chunk1.fBinaryExponent;
+    if (null == yyColumn.chunk9) yyColumn.chunk9 = new Chunk9();
+    if (null == yyColumn.chunk9.fBinaryExponent) {
+      yyColumn.chunk9.fBinaryExponent = pBinaryExponent$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(6, yyColumn.chunk9.fBinaryExponent);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(6, yyColumn.chunk9.fBinaryExponent);
+    }
+    return yyColumn.chunk9.fBinaryExponent;
   }
 
   /** Actually parse xtc.lang.CConstant.BinaryExponent. */
@@ -3660,39 +4056,57 @@ public final class CommandParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
-    // Alternative 1.
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '\'':
+      yyFirst = 0x2;
+      break;
 
-    yyResult = pWideCharacterLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final String v$g$1 = yyResult.semanticValue();
+    case 'L':
+      yyFirst = 0x1;
+      break;
 
-      yyResult = pSpacing(yyResult.index);
+    default:
+      yyFirst = 0;
+    }
+
+    // Alternative 1.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
+
+      yyResult = pWideCharacterLiteral(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
+        final String v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("CharacterConstant", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        yyResult = pSpacing(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
 
-        return yyResult.createValue(yyValue, yyError);
+          yyValue = GNode.create("CharacterConstant", v$g$1);
+          locate(yyValue, yyStart);
+
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 2.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pCConstant$CharacterLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final String v$g$2 = yyResult.semanticValue();
-
-      yyResult = pSpacing(yyResult.index);
+      yyResult = pCConstant$CharacterLiteral(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
+        final String v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("CharacterConstant", v$g$2);
-        yyValue.setLocation(location(yyStart));
+        yyResult = pSpacing(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
 
-        return yyResult.createValue(yyValue, yyError);
+          yyValue = GNode.create("CharacterConstant", v$g$2);
+          locate(yyValue, yyStart);
+
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
@@ -3751,8 +4165,14 @@ public final class CommandParser extends ParserBase {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
     if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fCConstant$CharacterLiteral) 
-      yyColumn.chunk1.fCConstant$CharacterLiteral = pCConstant$CharacterLiteral$1(yyStart);
+    if (null == yyColumn.chunk1.fCConstant$CharacterLiteral) {
+      yyColumn.chunk1.fCConstant$CharacterLiteral = 
+        pCConstant$CharacterLiteral$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(7, yyColumn.chunk1.fCConstant$CharacterLiteral);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(7, yyColumn.chunk1.fCConstant$CharacterLiteral);
+    }
     return yyColumn.chunk1.fCConstant$CharacterLiteral;
   }
 
@@ -3941,8 +4361,14 @@ public final class CommandParser extends ParserBase {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
     if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fCConstant$StringConstant) 
-      yyColumn.chunk1.fCConstant$StringConstant = pCConstant$StringConstant$1(yyStart);
+    if (null == yyColumn.chunk1.fCConstant$StringConstant) {
+      yyColumn.chunk1.fCConstant$StringConstant = 
+        pCConstant$StringConstant$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(8, yyColumn.chunk1.fCConstant$StringConstant);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(8, yyColumn.chunk1.fCConstant$StringConstant);
+    }
     return yyColumn.chunk1.fCConstant$StringConstant;
   }
 
@@ -3962,7 +4388,7 @@ public final class CommandParser extends ParserBase {
       final Pair<String> v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.createFromPair("StringConstant", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -3987,33 +4413,51 @@ public final class CommandParser extends ParserBase {
     String     yyValue;
     ParseError yyError = ParseError.DUMMY;
 
-    // Alternative 1.
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '\"':
+      yyFirst = 0x2;
+      break;
 
-    yyResult = pWideStringLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+    case 'L':
+      yyFirst = 0x1;
+      break;
 
-      yyResult = pSpacing(yyResult.index);
+    default:
+      yyFirst = 0;
+    }
+
+    // Alternative 1.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
+
+      yyResult = pWideStringLiteral(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-        return yyResult.createValue(yyValue, yyError);
+        yyResult = pSpacing(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 2.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pCConstant$StringLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
-
-      yyResult = pSpacing(yyResult.index);
+      yyResult = pCConstant$StringLiteral(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-        return yyResult.createValue(yyValue, yyError);
+        yyResult = pSpacing(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
@@ -4035,8 +4479,14 @@ public final class CommandParser extends ParserBase {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
     if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fCConstant$StringConstant$$Plus1) 
-      yyColumn.chunk1.fCConstant$StringConstant$$Plus1 = pCConstant$StringConstant$$Plus1$1(yyStart);
+    if (null == yyColumn.chunk1.fCConstant$StringConstant$$Plus1) {
+      yyColumn.chunk1.fCConstant$StringConstant$$Plus1 = 
+        pCConstant$StringConstant$$Plus1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(9, yyColumn.chunk1.fCConstant$StringConstant$$Plus1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(9, yyColumn.chunk1.fCConstant$StringConstant$$Plus1);
+    }
     return yyColumn.chunk1.fCConstant$StringConstant$$Plus1;
   }
 
@@ -4130,10 +4580,16 @@ public final class CommandParser extends ParserBase {
     throws IOException {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fCConstant$StringLiteral) 
-      yyColumn.chunk2.fCConstant$StringLiteral = pCConstant$StringLiteral$1(yyStart);
-    return yyColumn.chunk2.fCConstant$StringLiteral;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fCConstant$StringLiteral) {
+      yyColumn.chunk1.fCConstant$StringLiteral = 
+        pCConstant$StringLiteral$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(10, yyColumn.chunk1.fCConstant$StringLiteral);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(10, yyColumn.chunk1.fCConstant$StringLiteral);
+    }
+    return yyColumn.chunk1.fCConstant$StringLiteral;
   }
 
   /** Actually parse xtc.lang.CConstant.StringLiteral. */
@@ -4765,28 +5221,7 @@ public final class CommandParser extends ParserBase {
 
               case '/':
                 {
-                  yyRepetition2 = yyIndex;
-                  while (true) {
-
-                    yyC = character(yyRepetition2);
-                    if (-1 != yyC) {
-                      yyIndex = yyRepetition2 + 1;
-
-                      switch (yyC) {
-                      case '\n':
-                      case '\r':
-                        /* No match. */
-                        break;
-
-                      default:
-                        {
-                          yyRepetition2 = yyIndex;
-                          continue;
-                        }
-                      }
-                    }
-                    break;
-                  }
+                  yyRepetition2 = scan(yyIndex, 0xffffffffffffdbffL, 0xffffffffffffffffL, true);
 
                   yyPredResult = pLineTerminator(yyRepetition2);
                   yyError      = yyPredResult.select(yyError);
@@ -5363,35 +5798,7 @@ public final class CommandParser extends ParserBase {
       case '8':
       case '9':
         {
-          yyRepetition1 = yyIndex;
-          while (true) {
-
-            yyC = character(yyRepetition1);
-            if (-1 != yyC) {
-              yyIndex = yyRepetition1 + 1;
-
-              switch (yyC) {
-              case '0':
-              case '1':
-              case '2':
-              case '3':
-              case '4':
-              case '5':
-              case '6':
-              case '7':
-              case '8':
-              case '9':
-                {
-                  yyRepetition1 = yyIndex;
-                  continue;
-                }
-
-              default:
-                /* No match. */
-              }
-            }
-            break;
-          }
+          yyRepetition1 = scan(yyIndex, 0x3ff000000000000L, 0x0L, false);
 
           yyValue = difference(yyStart, yyRepetition1);
 
@@ -5500,28 +5907,7 @@ public final class CommandParser extends ParserBase {
 
     // Alternative 1.
 
-    yyRepetition1 = yyStart;
-    while (true) {
-
-      yyC = character(yyRepetition1);
-      if (-1 != yyC) {
-        yyIndex = yyRepetition1 + 1;
-
-        switch (yyC) {
-        case '\n':
-        case '\r':
-          /* No match. */
-          break;
-
-        default:
-          {
-            yyRepetition1 = yyIndex;
-            continue;
-          }
-        }
-      }
-      break;
-    }
+    yyRepetition1 = scan(yyStart, 0xffffffffffffdbffL, 0xffffffffffffffffL, true);
 
     yyValue = difference(yyStart, yyRepetition1);
 
@@ -5539,10 +5925,15 @@ public final class CommandParser extends ParserBase {
    */
   private Result pSymbol(final int yyStart) throws IOException {
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fSymbol) 
-      yyColumn.chunk2.fSymbol = pSymbol$1(yyStart);
-    return yyColumn.chunk2.fSymbol;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fSymbol) {
+      yyColumn.chunk1.fSymbol = pSymbol$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(11, yyColumn.chunk1.fSymbol);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(11, yyColumn.chunk1.fSymbol);
+    }
+    return yyColumn.chunk1.fSymbol;
   }
 
   /** Actually parse xtc.lang.jeannie.JeannieSymbol.Symbol. */
@@ -6167,10 +6558,16 @@ public final class CommandParser extends ParserBase {
     throws IOException {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fCIdentifier$Identifier) 
-      yyColumn.chunk2.fCIdentifier$Identifier = pCIdentifier$Identifier$1(yyStart);
-    return yyColumn.chunk2.fCIdentifier$Identifier;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fCIdentifier$Identifier) {
+      yyColumn.chunk1.fCIdentifier$Identifier = 
+        pCIdentifier$Identifier$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(12, yyColumn.chunk1.fCIdentifier$Identifier);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(12, yyColumn.chunk1.fCIdentifier$Identifier);
+    }
+    return yyColumn.chunk1.fCIdentifier$Identifier;
   }
 
   /** Actually parse xtc.lang.CIdentifier.Identifier. */
@@ -6210,10 +6607,15 @@ public final class CommandParser extends ParserBase {
    */
   private Result pKeyword(final int yyStart) throws IOException {
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fKeyword) 
-      yyColumn.chunk2.fKeyword = pKeyword$1(yyStart);
-    return yyColumn.chunk2.fKeyword;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fKeyword) {
+      yyColumn.chunk1.fKeyword = pKeyword$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(13, yyColumn.chunk1.fKeyword);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(13, yyColumn.chunk1.fKeyword);
+    }
+    return yyColumn.chunk1.fKeyword;
   }
 
   /** Actually parse xtc.lang.CIdentifier.Keyword. */
@@ -6251,10 +6653,15 @@ public final class CommandParser extends ParserBase {
    */
   private Result pCIdentifier$Word(final int yyStart) throws IOException {
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fCIdentifier$Word) 
-      yyColumn.chunk2.fCIdentifier$Word = pCIdentifier$Word$1(yyStart);
-    return yyColumn.chunk2.fCIdentifier$Word;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fCIdentifier$Word) {
+      yyColumn.chunk1.fCIdentifier$Word = pCIdentifier$Word$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(14, yyColumn.chunk1.fCIdentifier$Word);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(14, yyColumn.chunk1.fCIdentifier$Word);
+    }
+    return yyColumn.chunk1.fCIdentifier$Word;
   }
 
   /** Actually parse xtc.lang.CIdentifier.Word. */
@@ -6305,27 +6712,9 @@ public final class CommandParser extends ParserBase {
     yyC = character(yyStart);
     if (-1 != yyC) {
       yyIndex = yyStart + 1;
-      if ((('A' <= yyC) && (yyC <= 'Z')) ||
-          ('_' == yyC) ||
-          (('a' <= yyC) && (yyC <= 'z'))) {
-
-        yyRepetition1 = yyIndex;
-        while (true) {
-
-          yyC = character(yyRepetition1);
-          if (-1 != yyC) {
-            yyIndex = yyRepetition1 + 1;
-            if ((('0' <= yyC) && (yyC <= '9')) ||
-                (('A' <= yyC) && (yyC <= 'Z')) ||
-                ('_' == yyC) ||
-                (('a' <= yyC) && (yyC <= 'z'))) {
+      if ((yyC < 128) && (0 != (yyClass2[yyC >> 6] & (1L << yyC)))) {
 
-              yyRepetition1 = yyIndex;
-              continue;
-            }
-          }
-          break;
-        }
+        yyRepetition1 = scan(yyIndex, 0x3ff000000000000L, 0x7fffffe87fffffeL, false);
 
         yyValue = difference(yyStart, yyRepetition1);
 
@@ -6504,8 +6893,13 @@ public final class CommandParser extends ParserBase {
   private Result pResultType(final int yyStart) throws IOException {
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
     if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fResultType) 
+    if (null == yyColumn.chunk2.fResultType) {
       yyColumn.chunk2.fResultType = pResultType$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(15, yyColumn.chunk2.fResultType);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(15, yyColumn.chunk2.fResultType);
+    }
     return yyColumn.chunk2.fResultType;
   }
 
@@ -6559,7 +6953,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("void")) {
 
       yyValue = GNode.create("VoidType", false);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -6581,8 +6975,12 @@ public final class CommandParser extends ParserBase {
   private Result pType(final int yyStart) throws IOException {
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
     if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fType) 
+    if (null == yyColumn.chunk2.fType) {
       yyColumn.chunk2.fType = pType$1(yyStart);
+      if (null != yyStatistics) yyStatistics.miss(16, yyColumn.chunk2.fType);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(16, yyColumn.chunk2.fType);
+    }
     return yyColumn.chunk2.fType;
   }
 
@@ -6616,7 +7014,7 @@ public final class CommandParser extends ParserBase {
         final Node v$g$2 = yyOpValue1;
 
         yyValue = GNode.create("Type", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyOption1, yyError);
       } // End scope for v$g$2.
@@ -6638,8 +7036,13 @@ public final class CommandParser extends ParserBase {
   private Result pJavaType$TypeName(final int yyStart) throws IOException {
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
     if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fJavaType$TypeName) 
+    if (null == yyColumn.chunk2.fJavaType$TypeName) {
       yyColumn.chunk2.fJavaType$TypeName = pJavaType$TypeName$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(17, yyColumn.chunk2.fJavaType$TypeName);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(17, yyColumn.chunk2.fJavaType$TypeName);
+    }
     return yyColumn.chunk2.fJavaType$TypeName;
   }
 
@@ -6685,8 +7088,13 @@ public final class CommandParser extends ParserBase {
   private Result pPrimitiveType(final int yyStart) throws IOException {
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
     if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fPrimitiveType) 
+    if (null == yyColumn.chunk2.fPrimitiveType) {
       yyColumn.chunk2.fPrimitiveType = pPrimitiveType$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(18, yyColumn.chunk2.fPrimitiveType);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(18, yyColumn.chunk2.fPrimitiveType);
+    }
     return yyColumn.chunk2.fPrimitiveType;
   }
 
@@ -6703,7 +7111,7 @@ public final class CommandParser extends ParserBase {
       final String v$g$1 = "byte";
 
       yyValue = GNode.create("PrimitiveType", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -6715,7 +7123,7 @@ public final class CommandParser extends ParserBase {
       final String v$g$2 = "short";
 
       yyValue = GNode.create("PrimitiveType", v$g$2);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -6727,7 +7135,7 @@ public final class CommandParser extends ParserBase {
       final String v$g$3 = "char";
 
       yyValue = GNode.create("PrimitiveType", v$g$3);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -6739,7 +7147,7 @@ public final class CommandParser extends ParserBase {
       final String v$g$4 = "int";
 
       yyValue = GNode.create("PrimitiveType", v$g$4);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -6751,7 +7159,7 @@ public final class CommandParser extends ParserBase {
       final String v$g$5 = "long";
 
       yyValue = GNode.create("PrimitiveType", v$g$5);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -6763,7 +7171,7 @@ public final class CommandParser extends ParserBase {
       final String v$g$6 = "float";
 
       yyValue = GNode.create("PrimitiveType", v$g$6);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -6775,7 +7183,7 @@ public final class CommandParser extends ParserBase {
       final String v$g$7 = "double";
 
       yyValue = GNode.create("PrimitiveType", v$g$7);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -6787,7 +7195,7 @@ public final class CommandParser extends ParserBase {
       final String v$g$8 = "boolean";
 
       yyValue = GNode.create("PrimitiveType", v$g$8);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -6808,10 +7216,15 @@ public final class CommandParser extends ParserBase {
    */
   private Result pDimensions(final int yyStart) throws IOException {
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fDimensions) 
-      yyColumn.chunk2.fDimensions = pDimensions$1(yyStart);
-    return yyColumn.chunk2.fDimensions;
+    if (null == yyColumn.chunk8) yyColumn.chunk8 = new Chunk8();
+    if (null == yyColumn.chunk8.fDimensions) {
+      yyColumn.chunk8.fDimensions = pDimensions$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(19, yyColumn.chunk8.fDimensions);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(19, yyColumn.chunk8.fDimensions);
+    }
+    return yyColumn.chunk8.fDimensions;
   }
 
   /** Actually parse xtc.lang.JavaType.Dimensions. */
@@ -6828,7 +7241,7 @@ public final class CommandParser extends ParserBase {
       final Pair<String> v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.createFromPair("Dimensions", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -6848,10 +7261,15 @@ public final class CommandParser extends ParserBase {
    */
   private Result pDimensions$$Plus1(final int yyStart) throws IOException {
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fDimensions$$Plus1) 
-      yyColumn.chunk3.fDimensions$$Plus1 = pDimensions$$Plus1$1(yyStart);
-    return yyColumn.chunk3.fDimensions$$Plus1;
+    if (null == yyColumn.chunk8) yyColumn.chunk8 = new Chunk8();
+    if (null == yyColumn.chunk8.fDimensions$$Plus1) {
+      yyColumn.chunk8.fDimensions$$Plus1 = pDimensions$$Plus1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(20, yyColumn.chunk8.fDimensions$$Plus1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(20, yyColumn.chunk8.fDimensions$$Plus1);
+    }
+    return yyColumn.chunk8.fDimensions$$Plus1;
   }
 
   /** Actually parse xtc.lang.blink.Command.Dimensions$$Plus1. */
@@ -6911,10 +7329,15 @@ public final class CommandParser extends ParserBase {
    */
   private Result pLiteral(final int yyStart) throws IOException {
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fLiteral) 
-      yyColumn.chunk3.fLiteral = pLiteral$1(yyStart);
-    return yyColumn.chunk3.fLiteral;
+    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
+    if (null == yyColumn.chunk2.fLiteral) {
+      yyColumn.chunk2.fLiteral = pLiteral$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(21, yyColumn.chunk2.fLiteral);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(21, yyColumn.chunk2.fLiteral);
+    }
+    return yyColumn.chunk2.fLiteral;
   }
 
   /** Actually parse xtc.lang.JavaConstant.Literal. */
@@ -6923,97 +7346,136 @@ public final class CommandParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
-    // Alternative 1.
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '\"':
+      yyFirst = 0x8;
+      break;
 
-    yyResult = pFloatingPointLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+    case '\'':
+      yyFirst = 0x4;
+      break;
 
-      yyResult = pSpacing(yyResult.index);
+    case '.':
+      yyFirst = 0x1;
+      break;
+
+    case '0':
+    case '1':
+    case '2':
+    case '3':
+    case '4':
+    case '5':
+    case '6':
+    case '7':
+    case '8':
+    case '9':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
+    // Alternative <FloatingPoint>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
+
+      yyResult = pFloatingPointLiteral(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-        return yyResult.createValue(yyValue, yyError);
+        yyResult = pSpacing(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
-    // Alternative 2.
-
-    yyResult = pIntegerLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+    // Alternative <Integer>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-      yyResult = pSpacing(yyResult.index);
+      yyResult = pIntegerLiteral(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-        return yyResult.createValue(yyValue, yyError);
+        yyResult = pSpacing(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
-    // Alternative 3.
-
-    yyResult = pJavaConstant$CharacterLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+    // Alternative <Character>.
+    if ((0 != (yyFirst & 0x4)) || (yyError.index < yyStart)) {
 
-      yyResult = pSpacing(yyResult.index);
+      yyResult = pJavaConstant$CharacterLiteral(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-        return yyResult.createValue(yyValue, yyError);
+        yyResult = pSpacing(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
-    // Alternative 4.
-
-    yyResult = pJavaConstant$StringLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+    // Alternative <String>.
+    if ((0 != (yyFirst & 0x8)) || (yyError.index < yyStart)) {
 
-      yyResult = pSpacing(yyResult.index);
+      yyResult = pJavaConstant$StringLiteral(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-        return yyResult.createValue(yyValue, yyError);
+        yyResult = pSpacing(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
-    // Alternative 5.
+    // Alternative <True>.
 
     yyResult = pJavaIdentifier$Word(yyStart);
     if (yyResult.hasValue("true")) {
       final String v$g$1 = "true";
 
       yyValue = GNode.create("BooleanLiteral", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
 
-    // Alternative 6.
+    // Alternative <False>.
 
     yyResult = pJavaIdentifier$Word(yyStart);
     if (yyResult.hasValue("false")) {
       final String v$g$2 = "false";
 
       yyValue = GNode.create("BooleanLiteral", v$g$2);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
 
-    // Alternative 7.
+    // Alternative <Null>.
 
     yyResult = pJavaIdentifier$Word(yyStart);
     if (yyResult.hasValue("null")) {
 
       yyValue = GNode.create("NullLiteral", false);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -7034,10 +7496,15 @@ public final class CommandParser extends ParserBase {
    */
   private Result pIntegerLiteral(final int yyStart) throws IOException {
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fIntegerLiteral) 
-      yyColumn.chunk3.fIntegerLiteral = pIntegerLiteral$1(yyStart);
-    return yyColumn.chunk3.fIntegerLiteral;
+    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
+    if (null == yyColumn.chunk2.fIntegerLiteral) {
+      yyColumn.chunk2.fIntegerLiteral = pIntegerLiteral$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(22, yyColumn.chunk2.fIntegerLiteral);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(22, yyColumn.chunk2.fIntegerLiteral);
+    }
+    return yyColumn.chunk2.fIntegerLiteral;
   }
 
   /** Actually parse xtc.lang.JavaConstant.IntegerLiteral. */
@@ -7046,43 +7513,71 @@ public final class CommandParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '0':
+      yyFirst = 0x7;
+      break;
+
+    case '1':
+    case '2':
+    case '3':
+    case '4':
+    case '5':
+    case '6':
+    case '7':
+    case '8':
+    case '9':
+      yyFirst = 0x4;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Hex>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pHexLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final String v$g$1 = yyResult.semanticValue();
+      yyResult = pHexLiteral(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final String v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerLiteral", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("IntegerLiteral", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Octal>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pOctalLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final String v$g$2 = yyResult.semanticValue();
+      yyResult = pOctalLiteral(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final String v$g$2 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerLiteral", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("IntegerLiteral", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Decimal>.
+    if ((0 != (yyFirst & 0x4)) || (yyError.index < yyStart)) {
 
-    yyResult = pDecimalLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final String v$g$3 = yyResult.semanticValue();
+      yyResult = pDecimalLiteral(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final String v$g$3 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerLiteral", v$g$3);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("IntegerLiteral", v$g$3);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -7257,7 +7752,8 @@ public final class CommandParser extends ParserBase {
   private Result pDecimalNumeral(final int yyStart) throws IOException {
     int        yyC;
     int        yyIndex;
-    int        yyRepetition1;
+    Result     yyResult;
+    int        yyOption1;
     Void       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -7285,39 +7781,18 @@ public final class CommandParser extends ParserBase {
       case '8':
       case '9':
         {
-          yyRepetition1 = yyIndex;
-          while (true) {
-
-            yyC = character(yyRepetition1);
-            if (-1 != yyC) {
-              yyIndex = yyRepetition1 + 1;
+          yyOption1  = yyIndex;
 
-              switch (yyC) {
-              case '0':
-              case '1':
-              case '2':
-              case '3':
-              case '4':
-              case '5':
-              case '6':
-              case '7':
-              case '8':
-              case '9':
-                {
-                  yyRepetition1 = yyIndex;
-                  continue;
-                }
+          yyResult = pDigits(yyOption1);
+          yyError  = yyResult.select(yyError, yyOption1);
+          if (yyResult.hasValue()) {
 
-              default:
-                /* No match. */
-              }
-            }
-            break;
+            yyOption1  = yyResult.index;
           }
 
           yyValue = null;
 
-          return new SemanticValue(yyValue, yyRepetition1, yyError);
+          return new SemanticValue(yyValue, yyOption1, yyError);
         }
 
       default:
@@ -7333,13 +7808,13 @@ public final class CommandParser extends ParserBase {
   // =========================================================================
 
   /**
-   * Parse nonterminal xtc.lang.JavaConstant.HexNumeral.
+   * Parse nonterminal xtc.lang.JavaConstant.Digits.
    *
    * @param yyStart The index.
    * @return The result.
    * @throws IOException Signals an I/O error.
    */
-  private Result pHexNumeral(final int yyStart) throws IOException {
+  private Result pDigits(final int yyStart) throws IOException {
     int        yyC;
     int        yyIndex;
     int        yyRepetition1;
@@ -7349,6 +7824,68 @@ public final class CommandParser extends ParserBase {
 
     // Alternative 1.
 
+    yyRepetition1 = yyStart;
+    yyRepeated1   = false;
+    while (true) {
+
+      yyC = character(yyRepetition1);
+      if (-1 != yyC) {
+        yyIndex = yyRepetition1 + 1;
+
+        switch (yyC) {
+        case '0':
+        case '1':
+        case '2':
+        case '3':
+        case '4':
+        case '5':
+        case '6':
+        case '7':
+        case '8':
+        case '9':
+          {
+            yyRepetition1 = yyIndex;
+            yyRepeated1   = true;
+            continue;
+          }
+
+        default:
+          /* No match. */
+        }
+      }
+      break;
+    }
+
+    if (yyRepeated1) {
+
+      yyValue = null;
+
+      return new SemanticValue(yyValue, yyRepetition1, yyError);
+    }
+
+    // Done.
+    yyError = yyError.select("digits expected", yyStart);
+    return yyError;
+  }
+
+  // =========================================================================
+
+  /**
+   * Parse nonterminal xtc.lang.JavaConstant.HexNumeral.
+   *
+   * @param yyStart The index.
+   * @return The result.
+   * @throws IOException Signals an I/O error.
+   */
+  private Result pHexNumeral(final int yyStart) throws IOException {
+    int        yyC;
+    int        yyIndex;
+    Result     yyResult;
+    Void       yyValue;
+    ParseError yyError = ParseError.DUMMY;
+
+    // Alternative 1.
+
     yyC = character(yyStart);
     if ('0' == yyC) {
       yyIndex = yyStart + 1;
@@ -7361,55 +7898,13 @@ public final class CommandParser extends ParserBase {
         case 'X':
         case 'x':
           {
-            yyRepetition1 = yyIndex;
-            yyRepeated1   = false;
-            while (true) {
-
-              yyC = character(yyRepetition1);
-              if (-1 != yyC) {
-                yyIndex = yyRepetition1 + 1;
-
-                switch (yyC) {
-                case '0':
-                case '1':
-                case '2':
-                case '3':
-                case '4':
-                case '5':
-                case '6':
-                case '7':
-                case '8':
-                case '9':
-                case 'A':
-                case 'B':
-                case 'C':
-                case 'D':
-                case 'E':
-                case 'F':
-                case 'a':
-                case 'b':
-                case 'c':
-                case 'd':
-                case 'e':
-                case 'f':
-                  {
-                    yyRepetition1 = yyIndex;
-                    yyRepeated1   = true;
-                    continue;
-                  }
-
-                default:
-                  /* No match. */
-                }
-              }
-              break;
-            }
-
-            if (yyRepeated1) {
+            yyResult = pHexDigits(yyIndex);
+            yyError  = yyResult.select(yyError);
+            if (yyResult.hasValue()) {
 
               yyValue = null;
 
-              return new SemanticValue(yyValue, yyRepetition1, yyError);
+              return yyResult.createValue(yyValue, yyError);
             }
           }
           break;
@@ -7428,13 +7923,13 @@ public final class CommandParser extends ParserBase {
   // =========================================================================
 
   /**
-   * Parse nonterminal xtc.lang.JavaConstant.OctalNumeral.
+   * Parse nonterminal xtc.lang.JavaConstant.HexDigits.
    *
    * @param yyStart The index.
    * @return The result.
    * @throws IOException Signals an I/O error.
    */
-  private Result pOctalNumeral(final int yyStart) throws IOException {
+  private Result pHexDigits(final int yyStart) throws IOException {
     int        yyC;
     int        yyIndex;
     int        yyRepetition1;
@@ -7444,101 +7939,114 @@ public final class CommandParser extends ParserBase {
 
     // Alternative 1.
 
-    yyC = character(yyStart);
-    if ('0' == yyC) {
-      yyIndex = yyStart + 1;
-
-      yyRepetition1 = yyIndex;
-      yyRepeated1   = false;
-      while (true) {
-
-        yyC = character(yyRepetition1);
-        if (-1 != yyC) {
-          yyIndex = yyRepetition1 + 1;
+    yyRepetition1 = yyStart;
+    yyRepeated1   = false;
+    while (true) {
 
-          switch (yyC) {
-          case '0':
-          case '1':
-          case '2':
-          case '3':
-          case '4':
-          case '5':
-          case '6':
-          case '7':
-            {
-              yyRepetition1 = yyIndex;
-              yyRepeated1   = true;
-              continue;
-            }
+      yyC = character(yyRepetition1);
+      if (-1 != yyC) {
+        yyIndex = yyRepetition1 + 1;
 
-          default:
-            /* No match. */
+        switch (yyC) {
+        case '0':
+        case '1':
+        case '2':
+        case '3':
+        case '4':
+        case '5':
+        case '6':
+        case '7':
+        case '8':
+        case '9':
+        case 'A':
+        case 'B':
+        case 'C':
+        case 'D':
+        case 'E':
+        case 'F':
+        case 'a':
+        case 'b':
+        case 'c':
+        case 'd':
+        case 'e':
+        case 'f':
+          {
+            yyRepetition1 = yyIndex;
+            yyRepeated1   = true;
+            continue;
           }
+
+        default:
+          /* No match. */
         }
-        break;
       }
+      break;
+    }
 
-      if (yyRepeated1) {
+    if (yyRepeated1) {
 
-        yyValue = null;
+      yyValue = null;
 
-        return new SemanticValue(yyValue, yyRepetition1, yyError);
-      }
+      return new SemanticValue(yyValue, yyRepetition1, yyError);
     }
 
     // Done.
-    yyError = yyError.select("octal numeral expected", yyStart);
+    yyError = yyError.select("hex digits expected", yyStart);
     return yyError;
   }
 
   // =========================================================================
 
   /**
-   * Parse nonterminal xtc.lang.JavaConstant.FloatingPointLiteral.
+   * Parse nonterminal xtc.lang.JavaConstant.OctalNumeral.
    *
    * @param yyStart The index.
    * @return The result.
    * @throws IOException Signals an I/O error.
    */
-  private Result pFloatingPointLiteral(final int yyStart) throws IOException {
+  private Result pOctalNumeral(final int yyStart) throws IOException {
+    int        yyC;
+    int        yyIndex;
     Result     yyResult;
-    Node       yyValue;
+    Void       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
     // Alternative 1.
 
-    yyResult = pFloatingPointString(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final String v$g$1 = yyResult.semanticValue();
+    yyC = character(yyStart);
+    if ('0' == yyC) {
+      yyIndex = yyStart + 1;
 
-      yyValue = GNode.create("FloatingPointLiteral", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      yyResult = pOctalDigits(yyIndex);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
 
-      return yyResult.createValue(yyValue, yyError);
+        yyValue = null;
+
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
+    yyError = yyError.select("octal numeral expected", yyStart);
     return yyError;
   }
 
   // =========================================================================
 
   /**
-   * Parse nonterminal xtc.lang.JavaConstant.FloatingPointString.
+   * Parse nonterminal xtc.lang.JavaConstant.OctalDigits.
    *
    * @param yyStart The index.
    * @return The result.
    * @throws IOException Signals an I/O error.
    */
-  private Result pFloatingPointString(final int yyStart) throws IOException {
+  private Result pOctalDigits(final int yyStart) throws IOException {
     int        yyC;
     int        yyIndex;
-    Result     yyResult;
     int        yyRepetition1;
     boolean    yyRepeated1;
-    int        yyOption1;
-    String     yyValue;
+    Void       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
     // Alternative 1.
@@ -7560,8 +8068,6 @@ public final class CommandParser extends ParserBase {
         case '5':
         case '6':
         case '7':
-        case '8':
-        case '9':
           {
             yyRepetition1 = yyIndex;
             yyRepeated1   = true;
@@ -7577,195 +8083,240 @@ public final class CommandParser extends ParserBase {
 
     if (yyRepeated1) {
 
-      yyC = character(yyRepetition1);
-      if ('.' == yyC) {
-        yyIndex = yyRepetition1 + 1;
+      yyValue = null;
 
-        yyRepetition1 = yyIndex;
-        while (true) {
+      return new SemanticValue(yyValue, yyRepetition1, yyError);
+    }
 
-          yyC = character(yyRepetition1);
-          if (-1 != yyC) {
-            yyIndex = yyRepetition1 + 1;
+    // Done.
+    yyError = yyError.select("octal digits expected", yyStart);
+    return yyError;
+  }
 
-            switch (yyC) {
-            case '0':
-            case '1':
-            case '2':
-            case '3':
-            case '4':
-            case '5':
-            case '6':
-            case '7':
-            case '8':
-            case '9':
-              {
-                yyRepetition1 = yyIndex;
-                continue;
-              }
+  // =========================================================================
 
-            default:
-              /* No match. */
-            }
-          }
-          break;
-        }
+  /**
+   * Parse nonterminal xtc.lang.JavaConstant.FloatingPointLiteral.
+   *
+   * @param yyStart The index.
+   * @return The result.
+   * @throws IOException Signals an I/O error.
+   */
+  private Result pFloatingPointLiteral(final int yyStart) throws IOException {
+    Result     yyResult;
+    Node       yyValue;
+    ParseError yyError = ParseError.DUMMY;
 
-        yyOption1  = yyRepetition1;
+    // Alternative 1.
 
-        yyResult = pJavaConstant$Exponent(yyOption1);
-        yyError  = yyResult.select(yyError, yyOption1);
-        if (yyResult.hasValue()) {
+    yyResult = pFloatingPointString(yyStart);
+    yyError  = yyResult.select(yyError);
+    if (yyResult.hasValue()) {
+      final String v$g$1 = yyResult.semanticValue();
 
-          yyOption1  = yyResult.index;
-        }
+      yyValue = GNode.create("FloatingPointLiteral", v$g$1);
+      locate(yyValue, yyStart);
+
+      return yyResult.createValue(yyValue, yyError);
+    }
 
+    // Done.
+    return yyError;
+  }
 
-        yyC = character(yyOption1);
-        if (-1 != yyC) {
-          yyIndex = yyOption1 + 1;
+  // =========================================================================
 
-          switch (yyC) {
-          case 'D':
-          case 'F':
-          case 'd':
-          case 'f':
-            {
-              yyOption1  = yyIndex;
-            }
-            break;
+  /**
+   * Parse nonterminal xtc.lang.JavaConstant.FloatingPointString.
+   *
+   * @param yyStart The index.
+   * @return The result.
+   * @throws IOException Signals an I/O error.
+   */
+  private Result pFloatingPointString(final int yyStart) throws IOException {
+    int        yyC;
+    int        yyIndex;
+    Result     yyResult;
+    int        yyOption1;
+    String     yyValue;
+    ParseError yyError = ParseError.DUMMY;
 
-          default:
-            /* No match. */
-          }
-        }
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '.':
+      yyFirst = 0x2;
+      break;
 
-        yyValue = difference(yyStart, yyOption1);
+    case '0':
+    case '1':
+    case '2':
+    case '3':
+    case '4':
+    case '5':
+    case '6':
+    case '7':
+    case '8':
+    case '9':
+      yyFirst = 0x5;
+      break;
 
-        return new SemanticValue(yyValue, yyOption1, yyError);
-      }
+    default:
+      yyFirst = 0;
     }
 
-    // Alternative 2.
+    // Alternative 1.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyC = character(yyStart);
-    if ('.' == yyC) {
-      yyIndex = yyStart + 1;
+      yyResult = pDigits(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
 
-      yyRepetition1 = yyIndex;
-      yyRepeated1   = false;
-      while (true) {
+        yyC = character(yyResult.index);
+        if ('.' == yyC) {
+          yyIndex = yyResult.index + 1;
 
-        yyC = character(yyRepetition1);
-        if (-1 != yyC) {
-          yyIndex = yyRepetition1 + 1;
+          yyOption1  = yyIndex;
 
-          switch (yyC) {
-          case '0':
-          case '1':
-          case '2':
-          case '3':
-          case '4':
-          case '5':
-          case '6':
-          case '7':
-          case '8':
-          case '9':
-            {
-              yyRepetition1 = yyIndex;
-              yyRepeated1   = true;
-              continue;
-            }
+          yyResult = pDigits(yyOption1);
+          yyError  = yyResult.select(yyError, yyOption1);
+          if (yyResult.hasValue()) {
 
-          default:
-            /* No match. */
+            yyOption1  = yyResult.index;
           }
+
+
+          yyResult = pJavaConstant$Exponent(yyOption1);
+          yyError  = yyResult.select(yyError, yyOption1);
+          if (yyResult.hasValue()) {
+
+            yyOption1  = yyResult.index;
+          }
+
+
+          yyC = character(yyOption1);
+          if (-1 != yyC) {
+            yyIndex = yyOption1 + 1;
+
+            switch (yyC) {
+            case 'D':
+            case 'F':
+            case 'd':
+            case 'f':
+              {
+                yyOption1  = yyIndex;
+              }
+              break;
+
+            default:
+              /* No match. */
+            }
+          }
+
+          yyValue = difference(yyStart, yyOption1);
+
+          return new SemanticValue(yyValue, yyOption1, yyError);
         }
-        break;
       }
+    }
 
-      if (yyRepeated1) {
+    // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-        yyOption1  = yyRepetition1;
+      yyC = character(yyStart);
+      if ('.' == yyC) {
+        yyIndex = yyStart + 1;
 
-        yyResult = pJavaConstant$Exponent(yyOption1);
-        yyError  = yyResult.select(yyError, yyOption1);
+        yyResult = pDigits(yyIndex);
+        yyError  = yyResult.select(yyError);
         if (yyResult.hasValue()) {
 
           yyOption1  = yyResult.index;
-        }
 
+          yyResult = pJavaConstant$Exponent(yyOption1);
+          yyError  = yyResult.select(yyError, yyOption1);
+          if (yyResult.hasValue()) {
 
-        yyC = character(yyOption1);
-        if (-1 != yyC) {
-          yyIndex = yyOption1 + 1;
+            yyOption1  = yyResult.index;
+          }
 
-          switch (yyC) {
-          case 'D':
-          case 'F':
-          case 'd':
-          case 'f':
-            {
-              yyOption1  = yyIndex;
-            }
-            break;
 
-          default:
-            /* No match. */
+          yyC = character(yyOption1);
+          if (-1 != yyC) {
+            yyIndex = yyOption1 + 1;
+
+            switch (yyC) {
+            case 'D':
+            case 'F':
+            case 'd':
+            case 'f':
+              {
+                yyOption1  = yyIndex;
+              }
+              break;
+
+            default:
+              /* No match. */
+            }
           }
-        }
 
-        yyValue = difference(yyStart, yyOption1);
+          yyValue = difference(yyStart, yyOption1);
 
-        return new SemanticValue(yyValue, yyOption1, yyError);
+          return new SemanticValue(yyValue, yyOption1, yyError);
+        }
       }
     }
 
     // Alternative 3.
+    if ((0 != (yyFirst & 0x4)) || (yyError.index < yyStart)) {
 
-    yyRepetition1 = yyStart;
-    yyRepeated1   = false;
-    while (true) {
+      yyResult = pDigits(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
 
-      yyC = character(yyRepetition1);
-      if (-1 != yyC) {
-        yyIndex = yyRepetition1 + 1;
+        final int yyChoice1 = yyResult.index;
 
-        switch (yyC) {
-        case '0':
-        case '1':
-        case '2':
-        case '3':
-        case '4':
-        case '5':
-        case '6':
-        case '7':
-        case '8':
-        case '9':
-          {
-            yyRepetition1 = yyIndex;
-            yyRepeated1   = true;
-            continue;
+        // Nested alternative 1.
+
+        yyResult = pJavaConstant$Exponent(yyChoice1);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+
+          yyOption1  = yyResult.index;
+
+          yyC = character(yyOption1);
+          if (-1 != yyC) {
+            yyIndex = yyOption1 + 1;
+
+            switch (yyC) {
+            case 'D':
+            case 'F':
+            case 'd':
+            case 'f':
+              {
+                yyOption1  = yyIndex;
+              }
+              break;
+
+            default:
+              /* No match. */
+            }
           }
 
-        default:
-          /* No match. */
-        }
-      }
-      break;
-    }
+          yyValue = difference(yyStart, yyOption1);
 
-    if (yyRepeated1) {
+          return new SemanticValue(yyValue, yyOption1, yyError);
+        }
 
-      final int yyChoice1 = yyRepetition1;
+        // Nested alternative 2.
 
-      // Nested alternative 1.
+        yyOption1  = yyChoice1;
 
-      yyResult = pJavaConstant$Exponent(yyChoice1);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
+        yyResult = pJavaConstant$Exponent(yyOption1);
+        yyError  = yyResult.select(yyError, yyOption1);
+        if (yyResult.hasValue()) {
 
-        yyOption1  = yyResult.index;
+          yyOption1  = yyResult.index;
+        }
 
         yyC = character(yyOption1);
         if (-1 != yyC) {
@@ -7777,49 +8328,15 @@ public final class CommandParser extends ParserBase {
           case 'd':
           case 'f':
             {
-              yyOption1  = yyIndex;
+              yyValue = difference(yyStart, yyIndex);
+
+              return new SemanticValue(yyValue, yyIndex, yyError);
             }
-            break;
 
           default:
             /* No match. */
           }
         }
-
-        yyValue = difference(yyStart, yyOption1);
-
-        return new SemanticValue(yyValue, yyOption1, yyError);
-      }
-
-      // Nested alternative 2.
-
-      yyOption1  = yyChoice1;
-
-      yyResult = pJavaConstant$Exponent(yyOption1);
-      yyError  = yyResult.select(yyError, yyOption1);
-      if (yyResult.hasValue()) {
-
-        yyOption1  = yyResult.index;
-      }
-
-      yyC = character(yyOption1);
-      if (-1 != yyC) {
-        yyIndex = yyOption1 + 1;
-
-        switch (yyC) {
-        case 'D':
-        case 'F':
-        case 'd':
-        case 'f':
-          {
-            yyValue = difference(yyStart, yyIndex);
-
-            return new SemanticValue(yyValue, yyIndex, yyError);
-          }
-
-        default:
-          /* No match. */
-        }
       }
     }
 
@@ -7842,8 +8359,7 @@ public final class CommandParser extends ParserBase {
 
     int        yyC;
     int        yyIndex;
-    int        yyRepetition1;
-    boolean    yyRepeated1;
+    Result     yyResult;
     int        yyOption1;
     Void       yyValue;
     ParseError yyError = ParseError.DUMMY;
@@ -7877,43 +8393,13 @@ public final class CommandParser extends ParserBase {
             }
           }
 
-          yyRepetition1 = yyOption1;
-          yyRepeated1   = false;
-          while (true) {
-
-            yyC = character(yyRepetition1);
-            if (-1 != yyC) {
-              yyIndex = yyRepetition1 + 1;
-
-              switch (yyC) {
-              case '0':
-              case '1':
-              case '2':
-              case '3':
-              case '4':
-              case '5':
-              case '6':
-              case '7':
-              case '8':
-              case '9':
-                {
-                  yyRepetition1 = yyIndex;
-                  yyRepeated1   = true;
-                  continue;
-                }
-
-              default:
-                /* No match. */
-              }
-            }
-            break;
-          }
-
-          if (yyRepeated1) {
+          yyResult = pDigits(yyOption1);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
 
             yyValue = null;
 
-            return new SemanticValue(yyValue, yyRepetition1, yyError);
+            return yyResult.createValue(yyValue, yyError);
           }
         }
         break;
@@ -7952,7 +8438,7 @@ public final class CommandParser extends ParserBase {
       final String v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.create("CharacterLiteral", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -7985,7 +8471,7 @@ public final class CommandParser extends ParserBase {
       final String v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.create("StringLiteral", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -8787,10 +9273,15 @@ public final class CommandParser extends ParserBase {
    */
   private Result pQualifiedIdentifier(final int yyStart) throws IOException {
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fQualifiedIdentifier) 
-      yyColumn.chunk3.fQualifiedIdentifier = pQualifiedIdentifier$1(yyStart);
-    return yyColumn.chunk3.fQualifiedIdentifier;
+    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
+    if (null == yyColumn.chunk2.fQualifiedIdentifier) {
+      yyColumn.chunk2.fQualifiedIdentifier = pQualifiedIdentifier$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(23, yyColumn.chunk2.fQualifiedIdentifier);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(23, yyColumn.chunk2.fQualifiedIdentifier);
+    }
+    return yyColumn.chunk2.fQualifiedIdentifier;
   }
 
   /** Actually parse xtc.lang.JavaIdentifier.QualifiedIdentifier. */
@@ -8814,7 +9305,7 @@ public final class CommandParser extends ParserBase {
         final Pair<String> v$g$2 = yyResult.semanticValue();
 
         yyValue = GNode.createFromPair("QualifiedIdentifier", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -8838,10 +9329,16 @@ public final class CommandParser extends ParserBase {
     throws IOException {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fQualifiedIdentifier$$Star1) 
-      yyColumn.chunk3.fQualifiedIdentifier$$Star1 = pQualifiedIdentifier$$Star1$1(yyStart);
-    return yyColumn.chunk3.fQualifiedIdentifier$$Star1;
+    if (null == yyColumn.chunk9) yyColumn.chunk9 = new Chunk9();
+    if (null == yyColumn.chunk9.fQualifiedIdentifier$$Star1) {
+      yyColumn.chunk9.fQualifiedIdentifier$$Star1 = 
+        pQualifiedIdentifier$$Star1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(24, yyColumn.chunk9.fQualifiedIdentifier$$Star1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(24, yyColumn.chunk9.fQualifiedIdentifier$$Star1);
+    }
+    return yyColumn.chunk9.fQualifiedIdentifier$$Star1;
   }
 
   /** Actually parse xtc.lang.blink.Command.QualifiedIdentifier$$Star1. */
@@ -8894,10 +9391,16 @@ public final class CommandParser extends ParserBase {
     throws IOException {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fJavaIdentifier$Identifier) 
-      yyColumn.chunk3.fJavaIdentifier$Identifier = pJavaIdentifier$Identifier$1(yyStart);
-    return yyColumn.chunk3.fJavaIdentifier$Identifier;
+    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
+    if (null == yyColumn.chunk2.fJavaIdentifier$Identifier) {
+      yyColumn.chunk2.fJavaIdentifier$Identifier = 
+        pJavaIdentifier$Identifier$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(25, yyColumn.chunk2.fJavaIdentifier$Identifier);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(25, yyColumn.chunk2.fJavaIdentifier$Identifier);
+    }
+    return yyColumn.chunk2.fJavaIdentifier$Identifier;
   }
 
   /** Actually parse xtc.lang.JavaIdentifier.Identifier. */
@@ -8937,10 +9440,15 @@ public final class CommandParser extends ParserBase {
    */
   private Result pJavaIdentifier$Word(final int yyStart) throws IOException {
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fJavaIdentifier$Word) 
-      yyColumn.chunk3.fJavaIdentifier$Word = pJavaIdentifier$Word$1(yyStart);
-    return yyColumn.chunk3.fJavaIdentifier$Word;
+    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
+    if (null == yyColumn.chunk2.fJavaIdentifier$Word) {
+      yyColumn.chunk2.fJavaIdentifier$Word = pJavaIdentifier$Word$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(26, yyColumn.chunk2.fJavaIdentifier$Word);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(26, yyColumn.chunk2.fJavaIdentifier$Word);
+    }
+    return yyColumn.chunk2.fJavaIdentifier$Word;
   }
 
   /** Actually parse xtc.lang.JavaIdentifier.Word. */
@@ -9117,7 +9625,7 @@ public final class CommandParser extends ParserBase {
             if (yyResult.hasValue(";")) {
 
               yyValue = GNode.create("Declaration", v$g$1, v$g$2, l);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             } else {
@@ -9147,8 +9655,14 @@ public final class CommandParser extends ParserBase {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
     if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fJeannieC$DeclarationSpecifiers) 
-      yyColumn.chunk3.fJeannieC$DeclarationSpecifiers = pJeannieC$DeclarationSpecifiers$1(yyStart);
+    if (null == yyColumn.chunk3.fJeannieC$DeclarationSpecifiers) {
+      yyColumn.chunk3.fJeannieC$DeclarationSpecifiers = 
+        pJeannieC$DeclarationSpecifiers$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(27, yyColumn.chunk3.fJeannieC$DeclarationSpecifiers);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(27, yyColumn.chunk3.fJeannieC$DeclarationSpecifiers);
+    }
     return yyColumn.chunk3.fJeannieC$DeclarationSpecifiers;
   }
 
@@ -9168,7 +9682,7 @@ public final class CommandParser extends ParserBase {
       final Pair<Node> v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.createFromPair("DeclarationSpecifiers", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -9242,85 +9756,189 @@ public final class CommandParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '`':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x2;
+      break;
+
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x7f;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <StorageClass>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pJeannieC$StorageClassSpecifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pJeannieC$StorageClassSpecifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <TypeSpecifier>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pJeannieC$TypeSpecifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
-
-      yyResult = pTypeSpecContext(yyResult.index);
+      yyResult = pJeannieC$TypeSpecifier(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-        return yyResult.createValue(yyValue, yyError);
+        yyResult = pTypeSpecContext(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative <TypeQualifier>.
+    if ((0 != (yyFirst & 0x4)) || (yyError.index < yyStart)) {
 
-    yyResult = pJeannieC$TypeQualifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pJeannieC$TypeQualifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 4.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("inline")) {
-      final String v$g$1 = "inline";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("inline")) {
+        final String v$g$1 = "inline";
 
-      yyValue = GNode.create("FunctionSpecifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("FunctionSpecifier", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 5.
+    if (0 != (yyFirst & 0x10)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__inline")) {
-      final String v$g$2 = "__inline";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__inline")) {
+        final String v$g$2 = "__inline";
 
-      yyValue = GNode.create("FunctionSpecifier", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("FunctionSpecifier", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 6.
+    if (0 != (yyFirst & 0x20)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__inline__")) {
-      final String v$g$3 = "__inline__";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__inline__")) {
+        final String v$g$3 = "__inline__";
 
-      yyValue = GNode.create("FunctionSpecifier", v$g$3);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("FunctionSpecifier", v$g$3);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Attribute>.
+    if ((0 != (yyFirst & 0x40)) || (yyError.index < yyStart)) {
 
-    yyResult = pJeannieC$AttributeSpecifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pJeannieC$AttributeSpecifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -9341,10 +9959,16 @@ public final class CommandParser extends ParserBase {
     throws IOException {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fJeannieC$InitializedDeclaratorList) 
-      yyColumn.chunk3.fJeannieC$InitializedDeclaratorList = pJeannieC$InitializedDeclaratorList$1(yyStart);
-    return yyColumn.chunk3.fJeannieC$InitializedDeclaratorList;
+    if (null == yyColumn.chunk6) yyColumn.chunk6 = new Chunk6();
+    if (null == yyColumn.chunk6.fJeannieC$InitializedDeclaratorList) {
+      yyColumn.chunk6.fJeannieC$InitializedDeclaratorList = 
+        pJeannieC$InitializedDeclaratorList$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(28, yyColumn.chunk6.fJeannieC$InitializedDeclaratorList);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(28, yyColumn.chunk6.fJeannieC$InitializedDeclaratorList);
+    }
+    return yyColumn.chunk6.fJeannieC$InitializedDeclaratorList;
   }
 
   /** Actually parse xtc.lang.jeannie.JeannieC.InitializedDeclaratorList. */
@@ -9368,7 +9992,7 @@ public final class CommandParser extends ParserBase {
         final Pair<Node> v$g$2 = yyResult.semanticValue();
 
         yyValue = GNode.createFromPair("InitializedDeclaratorList", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -9391,10 +10015,16 @@ public final class CommandParser extends ParserBase {
     throws IOException {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fJeannieC$InitializedDeclaratorList$$Star1) 
-      yyColumn.chunk3.fJeannieC$InitializedDeclaratorList$$Star1 = pJeannieC$InitializedDeclaratorList$$Star1$1(yyStart);
-    return yyColumn.chunk3.fJeannieC$InitializedDeclaratorList$$Star1;
+    if (null == yyColumn.chunk9) yyColumn.chunk9 = new Chunk9();
+    if (null == yyColumn.chunk9.fJeannieC$InitializedDeclaratorList$$Star1) {
+      yyColumn.chunk9.fJeannieC$InitializedDeclaratorList$$Star1 = 
+        pJeannieC$InitializedDeclaratorList$$Star1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(29, yyColumn.chunk9.fJeannieC$InitializedDeclaratorList$$Star1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(29, yyColumn.chunk9.fJeannieC$InitializedDeclaratorList$$Star1);
+    }
+    return yyColumn.chunk9.fJeannieC$InitializedDeclaratorList$$Star1;
   }
 
   /** Actually parse JeannieC.InitializedDeclaratorList$$Star1. */
@@ -9522,7 +10152,7 @@ public final class CommandParser extends ParserBase {
               final Node v$g$5 = yyOpValue1;
 
               yyValue = GNode.create("InitializedDeclarator", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return new SemanticValue(yyValue, yyOption1, yyError);
             } // End scope for v$g$5.
@@ -9551,74 +10181,148 @@ public final class CommandParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x3f;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("auto")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("auto")) {
 
-      yyValue = GNode.create("AutoSpecifier", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("AutoSpecifier", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("extern")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("extern")) {
 
-      yyValue = GNode.create("ExternSpecifier", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("ExternSpecifier", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("register")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("register")) {
 
-      yyValue = GNode.create("RegisterSpecifier", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("RegisterSpecifier", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 4.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("static")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("static")) {
 
-      yyValue = GNode.create("StaticSpecifier", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("StaticSpecifier", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 5.
+    if (0 != (yyFirst & 0x10)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__thread")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__thread")) {
 
-      yyValue = GNode.create("ThreadSpecifier", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("ThreadSpecifier", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 6.
+    if (0 != (yyFirst & 0x20)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("typedef")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("typedef")) {
 
-      yyResult = pTypedefContext(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
+        yyResult = pTypedefContext(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
 
-        yyValue = GNode.create("TypedefSpecifier", false);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("TypedefSpecifier", false);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
@@ -9643,112 +10347,192 @@ public final class CommandParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x1ff;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("volatile")) {
-      final String v$g$1 = "volatile";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("volatile")) {
+        final String v$g$1 = "volatile";
 
-      yyValue = GNode.create("VolatileQualifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("VolatileQualifier", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__volatile")) {
-      final String v$g$2 = "__volatile";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__volatile")) {
+        final String v$g$2 = "__volatile";
 
-      yyValue = GNode.create("VolatileQualifier", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("VolatileQualifier", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__volatile__")) {
-      final String v$g$3 = "__volatile__";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__volatile__")) {
+        final String v$g$3 = "__volatile__";
 
-      yyValue = GNode.create("VolatileQualifier", v$g$3);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("VolatileQualifier", v$g$3);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 4.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("const")) {
-      final String v$g$1 = "const";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("const")) {
+        final String v$g$1 = "const";
 
-      yyValue = GNode.create("ConstantQualifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("ConstantQualifier", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 5.
+    if (0 != (yyFirst & 0x10)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__const")) {
-      final String v$g$2 = "__const";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__const")) {
+        final String v$g$2 = "__const";
 
-      yyValue = GNode.create("ConstantQualifier", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("ConstantQualifier", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 6.
+    if (0 != (yyFirst & 0x20)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__const__")) {
-      final String v$g$3 = "__const__";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__const__")) {
+        final String v$g$3 = "__const__";
 
-      yyValue = GNode.create("ConstantQualifier", v$g$3);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("ConstantQualifier", v$g$3);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 7.
+    if (0 != (yyFirst & 0x40)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("restrict")) {
-      final String v$g$1 = "restrict";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("restrict")) {
+        final String v$g$1 = "restrict";
 
-      yyValue = GNode.create("RestrictQualifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("RestrictQualifier", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 8.
+    if (0 != (yyFirst & 0x80)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__restrict")) {
-      final String v$g$2 = "__restrict";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__restrict")) {
+        final String v$g$2 = "__restrict";
 
-      yyValue = GNode.create("RestrictQualifier", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("RestrictQualifier", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 9.
+    if (0 != (yyFirst & 0x100)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__restrict__")) {
-      final String v$g$3 = "__restrict__";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__restrict__")) {
+        final String v$g$3 = "__restrict__";
 
-      yyValue = GNode.create("RestrictQualifier", v$g$3);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("RestrictQualifier", v$g$3);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -9773,158 +10557,268 @@ public final class CommandParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '`':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x20;
+      break;
+
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x3df;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Enumeration>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pJeannieC$EnumerationTypeSpecifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pJeannieC$EnumerationTypeSpecifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Structure>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pJeannieC$StructureTypeSpecifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pJeannieC$StructureTypeSpecifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Union>.
+    if ((0 != (yyFirst & 0x4)) || (yyError.index < yyStart)) {
 
-    yyResult = pJeannieC$UnionTypeSpecifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pJeannieC$UnionTypeSpecifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Floating>.
+    if ((0 != (yyFirst & 0x8)) || (yyError.index < yyStart)) {
 
-    yyResult = pJeannieC$FloatingPointTypeSpecifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pJeannieC$FloatingPointTypeSpecifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Integer>.
+    if ((0 != (yyFirst & 0x10)) || (yyError.index < yyStart)) {
 
-    yyResult = pJeannieC$IntegerTypeSpecifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pJeannieC$IntegerTypeSpecifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <JavaTyp>.
+    if ((0 != (yyFirst & 0x20)) || (yyError.index < yyStart)) {
 
-    yyResult = pJeannieC$JavaType(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pJeannieC$JavaType(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 7.
+    if ((0 != (yyFirst & 0x40)) || (yyError.index < yyStart)) {
 
-    yyResult = pCIdentifier$Identifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final String id = yyResult.semanticValue();
+      yyResult = pCIdentifier$Identifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final String id = yyResult.semanticValue();
 
-      if (yyState.isType(toText(id))) {
+        if (yyState.isType(toText(id))) {
 
-        yyValue = GNode.create("TypedefName", id);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("TypedefName", id);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 8.
+    if ((0 != (yyFirst & 0x80)) || (yyError.index < yyStart)) {
 
-    yyResult = p$$Shared9(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
+      yyResult = p$$Shared9(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
 
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue("(")) {
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue("(")) {
 
-        final int yyChoice1 = yyResult.index;
+          final int yyChoice1 = yyResult.index;
 
-        // Nested alternative 1.
+          // Nested alternative 1.
 
-        yyResult = pJeannieC$TypeName(yyChoice1);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$g$1 = yyResult.semanticValue();
+          yyResult = pJeannieC$TypeName(yyChoice1);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Node v$g$1 = yyResult.semanticValue();
 
-          yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue(")")) {
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue(")")) {
 
-            yyValue = GNode.create("TypeofSpecifier", v$g$1);
-            yyValue.setLocation(location(yyStart));
+              yyValue = GNode.create("TypeofSpecifier", v$g$1);
+              locate(yyValue, yyStart);
 
-            return yyResult.createValue(yyValue, yyError);
-          } else {
-            yyError = yyError.select("')' expected", yyBase);
+              return yyResult.createValue(yyValue, yyError);
+            } else {
+              yyError = yyError.select("')' expected", yyBase);
+            }
           }
-        }
 
-        // Nested alternative 2.
+          // Nested alternative 2.
 
-        yyResult = pJeannieC$CommaExpression(yyChoice1);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$g$2 = yyResult.semanticValue();
+          yyResult = pJeannieC$CommaExpression(yyChoice1);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Node v$g$2 = yyResult.semanticValue();
 
-          yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue(")")) {
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue(")")) {
 
-            yyValue = GNode.create("TypeofSpecifier", v$g$2);
-            yyValue.setLocation(location(yyStart));
+              yyValue = GNode.create("TypeofSpecifier", v$g$2);
+              locate(yyValue, yyStart);
 
-            return yyResult.createValue(yyValue, yyError);
-          } else {
-            yyError = yyError.select("')' expected", yyBase);
+              return yyResult.createValue(yyValue, yyError);
+            } else {
+              yyError = yyError.select("')' expected", yyBase);
+            }
           }
+        } else {
+          yyError = yyError.select("'(' expected", yyBase);
         }
-      } else {
-        yyError = yyError.select("'(' expected", yyBase);
       }
     }
 
     // Alternative 9.
+    if (0 != (yyFirst & 0x100)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("void")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("void")) {
 
-      yyValue = GNode.create("VoidTypeSpecifier", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("VoidTypeSpecifier", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 10.
+    if (0 != (yyFirst & 0x200)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__builtin_va_list")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__builtin_va_list")) {
 
-      yyValue = GNode.create("VarArgListSpecifier", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("VarArgListSpecifier", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -10027,7 +10921,7 @@ public final class CommandParser extends ParserBase {
                   final Node v$g$4 = cast(yyOpValue1);
 
                   yyValue = GNode.create("EnumerationTypeDefinition", v$g$1, v$g$2, v$g$3, v$g$4);
-                  yyValue.setLocation(location(yyStart));
+                  locate(yyValue, yyStart);
 
                   return new SemanticValue(yyValue, yyOption1, yyError);
                 } // End scope for v$g$4.
@@ -10048,7 +10942,7 @@ public final class CommandParser extends ParserBase {
           final String v$g$2 = yyResult.semanticValue();
 
           yyValue = GNode.create("EnumerationTypeReference", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -10075,7 +10969,8 @@ public final class CommandParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -10087,7 +10982,8 @@ public final class CommandParser extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyBase   = yyRepetition1;
@@ -10100,7 +10996,7 @@ public final class CommandParser extends ParserBase {
             final Node v$el$1 = yyResult.semanticValue();
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
         } else {
@@ -10109,10 +11005,11 @@ public final class CommandParser extends ParserBase {
         break;
       }
       { // Start scope for v$g$2.
-        final Pair<Node> v$g$2 = yyRepValue1.reverse();
+        final int v$g$2 = yyRepStart1;
+        final int v$g$2$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("EnumeratorList", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("EnumeratorList", v$g$1, v$g$2, v$g$2$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$2.
@@ -10170,7 +11067,7 @@ public final class CommandParser extends ParserBase {
         final Node v$g$1 = yyOpValue1;
 
         yyValue = GNode.create("Enumerator", id, v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyOption1, yyError);
       } // End scope for v$g$1.
@@ -10281,7 +11178,7 @@ public final class CommandParser extends ParserBase {
                           final Node v$g$4 = cast(yyOpValue1);
 
                           yyValue = GNode.create("StructureTypeDefinition", v$g$1, v$g$2, v$g$3, v$g$4);
-                          yyValue.setLocation(location(yyStart));
+                          locate(yyValue, yyStart);
 
                           return new SemanticValue(yyValue, yyOption1, yyError);
                         } // End scope for v$g$4.
@@ -10306,7 +11203,7 @@ public final class CommandParser extends ParserBase {
           final String v$g$2 = yyResult.semanticValue();
 
           yyValue = GNode.create("StructureTypeReference", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -10419,7 +11316,7 @@ public final class CommandParser extends ParserBase {
                           final Node v$g$4 = cast(yyOpValue1);
 
                           yyValue = GNode.create("UnionTypeDefinition", v$g$1, v$g$2, v$g$3, v$g$4);
-                          yyValue.setLocation(location(yyStart));
+                          locate(yyValue, yyStart);
 
                           return new SemanticValue(yyValue, yyOption1, yyError);
                         } // End scope for v$g$4.
@@ -10444,7 +11341,7 @@ public final class CommandParser extends ParserBase {
           final String v$g$2 = yyResult.semanticValue();
 
           yyValue = GNode.create("UnionTypeReference", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -10471,7 +11368,8 @@ public final class CommandParser extends ParserBase {
     Result     yyResult;
     int        yyRepetition1;
     boolean    yyRepeated1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -10479,7 +11377,8 @@ public final class CommandParser extends ParserBase {
 
     yyRepetition1 = yyStart;
     yyRepeated1   = false;
-    yyRepValue1   = Pair.empty();
+    yyRepStart1   = bufferStart();
+    yyRepEnd1   = yyRepStart1;
     while (true) {
 
       yyResult = pJeannieC$AnnotatedStructureDeclaration(yyRepetition1);
@@ -10489,26 +11388,29 @@ public final class CommandParser extends ParserBase {
 
         yyRepetition1 = yyResult.index;
         yyRepeated1   = true;
-        yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+        yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
         continue;
       }
       break;
     }
 
     if (yyRepeated1) {
-      final Pair<Node> v$g$1 = yyRepValue1.reverse();
+      final int v$g$1 = yyRepStart1;
+      final int v$g$1$end = yyRepEnd1;
 
       yyResult = p$$Shared6(yyRepetition1);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
         final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("StructureDeclarationList", v$g$1.size() + 1).
-          addAll(v$g$1).add(v$g$2);
-        yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("StructureDeclarationList", (v$g$1$end - v$g$1) + 1);
+        addBuffered(yyValue, v$g$1, v$g$1$end);
+        yyValue.add(v$g$2);
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
+      releaseBuffer(v$g$1);
     }
 
     // Alternative <Empty>.
@@ -10521,7 +11423,7 @@ public final class CommandParser extends ParserBase {
         final Node v$g$3 = yyResult.semanticValue();
 
         yyValue = GNode.create("StructureDeclarationList", v$g$3);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -10658,7 +11560,7 @@ public final class CommandParser extends ParserBase {
             }
 
             yyValue = GNode.create("StructureDeclaration", v$g$1, v$g$2, v$g$3);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return new SemanticValue(yyValue, yyOption1, yyError);
           } else {
@@ -10686,10 +11588,16 @@ public final class CommandParser extends ParserBase {
     throws IOException {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.fJeannieC$SpecifierQualifierList) 
-      yyColumn.chunk4.fJeannieC$SpecifierQualifierList = pJeannieC$SpecifierQualifierList$1(yyStart);
-    return yyColumn.chunk4.fJeannieC$SpecifierQualifierList;
+    if (null == yyColumn.chunk8) yyColumn.chunk8 = new Chunk8();
+    if (null == yyColumn.chunk8.fJeannieC$SpecifierQualifierList) {
+      yyColumn.chunk8.fJeannieC$SpecifierQualifierList = 
+        pJeannieC$SpecifierQualifierList$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(30, yyColumn.chunk8.fJeannieC$SpecifierQualifierList);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(30, yyColumn.chunk8.fJeannieC$SpecifierQualifierList);
+    }
+    return yyColumn.chunk8.fJeannieC$SpecifierQualifierList;
   }
 
   /** Actually parse xtc.lang.jeannie.JeannieC.SpecifierQualifierList. */
@@ -10708,7 +11616,7 @@ public final class CommandParser extends ParserBase {
       final Pair<Node> v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.createFromPair("SpecifierQualifierList", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -10782,39 +11690,135 @@ public final class CommandParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
-    // Alternative <TypeSpecifier>.
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '`':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x1;
+      break;
 
-    yyResult = pJeannieC$TypeSpecifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x7;
+      break;
 
-      yyResult = pTypeSpecContext(yyResult.index);
+    default:
+      yyFirst = 0;
+    }
+
+    // Alternative <TypeSpecifier>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
+
+      yyResult = pJeannieC$TypeSpecifier(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-        return yyResult.createValue(yyValue, yyError);
+        yyResult = pTypeSpecContext(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative <TypeQualifier>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pJeannieC$TypeQualifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pJeannieC$TypeQualifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Attribute>.
+    if ((0 != (yyFirst & 0x4)) || (yyError.index < yyStart)) {
 
-    yyResult = pJeannieC$AttributeSpecifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pJeannieC$AttributeSpecifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -10878,7 +11882,8 @@ public final class CommandParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -10890,7 +11895,8 @@ public final class CommandParser extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyBase   = yyRepetition1;
@@ -10903,7 +11909,7 @@ public final class CommandParser extends ParserBase {
             final Node v$el$1 = yyResult.semanticValue();
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
         } else {
@@ -10912,10 +11918,11 @@ public final class CommandParser extends ParserBase {
         break;
       }
       { // Start scope for v$g$2.
-        final Pair<Node> v$g$2 = yyRepValue1.reverse();
+        final int v$g$2 = yyRepStart1;
+        final int v$g$2$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("StructureDeclaratorList", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("StructureDeclaratorList", v$g$1, v$g$2, v$g$2$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$2.
@@ -10944,78 +11951,169 @@ public final class CommandParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
-    // Alternative 1.
-
-    yyOption1  = yyStart;
-    yyOpValue1 = null;
-
-    yyResult = pJeannieC$AttributeSpecifierList(yyOption1);
-    yyError  = yyResult.select(yyError, yyOption1);
-    if (yyResult.hasValue()) {
-      final Node v$el$1 = yyResult.semanticValue();
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '[':
+    case ']':
+    case '^':
+    case '_':
+    case '`':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
 
-      yyOption1  = yyResult.index;
-      yyOpValue1 = v$el$1;
+    default:
+      yyFirst = 0;
     }
-    { // Start scope for v$g$1.
-      final Node v$g$1 = yyOpValue1;
 
+    // Alternative 1.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index <= yyStart)) {
+
+      yyOption1  = yyStart;
       yyOpValue1 = null;
 
-      yyResult = pJeannieC$Declarator(yyOption1);
+      yyResult = pJeannieC$AttributeSpecifierList(yyOption1);
       yyError  = yyResult.select(yyError, yyOption1);
       if (yyResult.hasValue()) {
-        final Node v$el$2 = yyResult.semanticValue();
+        final Node v$el$1 = yyResult.semanticValue();
 
         yyOption1  = yyResult.index;
-        yyOpValue1 = v$el$2;
+        yyOpValue1 = v$el$1;
       }
-      { // Start scope for v$g$2.
-        final Node v$g$2 = yyOpValue1;
+      { // Start scope for v$g$1.
+        final Node v$g$1 = yyOpValue1;
 
-        yyBase   = yyOption1;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue(":")) {
+        yyOpValue1 = null;
 
-          yyResult = pJeannieC$ConditionalExpression(yyResult.index);
-          yyError  = yyResult.select(yyError);
-          if (yyResult.hasValue()) {
-            final Node v$g$3 = yyResult.semanticValue();
+        yyResult = pJeannieC$Declarator(yyOption1);
+        yyError  = yyResult.select(yyError, yyOption1);
+        if (yyResult.hasValue()) {
+          final Node v$el$2 = yyResult.semanticValue();
 
-            yyOption1  = yyResult.index;
-            yyOpValue1 = null;
+          yyOption1  = yyResult.index;
+          yyOpValue1 = v$el$2;
+        }
+        { // Start scope for v$g$2.
+          final Node v$g$2 = yyOpValue1;
 
-            yyResult = pJeannieC$AttributeSpecifierList(yyOption1);
-            yyError  = yyResult.select(yyError, yyOption1);
+          yyBase   = yyOption1;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue(":")) {
+
+            yyResult = pJeannieC$ConditionalExpression(yyResult.index);
+            yyError  = yyResult.select(yyError);
             if (yyResult.hasValue()) {
-              final Node v$el$3 = yyResult.semanticValue();
+              final Node v$g$3 = yyResult.semanticValue();
 
               yyOption1  = yyResult.index;
-              yyOpValue1 = v$el$3;
-            }
-            { // Start scope for v$g$4.
-              final Node v$g$4 = yyOpValue1;
+              yyOpValue1 = null;
 
-              yyValue = GNode.create("BitField", v$g$1, v$g$2, v$g$3, v$g$4);
-              yyValue.setLocation(location(yyStart));
+              yyResult = pJeannieC$AttributeSpecifierList(yyOption1);
+              yyError  = yyResult.select(yyError, yyOption1);
+              if (yyResult.hasValue()) {
+                final Node v$el$3 = yyResult.semanticValue();
 
-              return new SemanticValue(yyValue, yyOption1, yyError);
-            } // End scope for v$g$4.
+                yyOption1  = yyResult.index;
+                yyOpValue1 = v$el$3;
+              }
+              { // Start scope for v$g$4.
+                final Node v$g$4 = yyOpValue1;
+
+                yyValue = GNode.create("BitField", v$g$1, v$g$2, v$g$3, v$g$4);
+                locate(yyValue, yyStart);
+
+                return new SemanticValue(yyValue, yyOption1, yyError);
+              } // End scope for v$g$4.
+            }
+          } else {
+            yyError = yyError.select("':' expected", yyBase);
           }
-        } else {
-          yyError = yyError.select("':' expected", yyBase);
-        }
-      } // End scope for v$g$2.
-    } // End scope for v$g$1.
+        } // End scope for v$g$2.
+      } // End scope for v$g$1.
+    }
 
     // Alternative <Simple>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pJeannieC$AttributedDeclarator(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pJeannieC$AttributedDeclarator(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -11035,10 +12133,16 @@ public final class CommandParser extends ParserBase {
     throws IOException {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.fJeannieC$AttributedDeclarator) 
-      yyColumn.chunk4.fJeannieC$AttributedDeclarator = pJeannieC$AttributedDeclarator$1(yyStart);
-    return yyColumn.chunk4.fJeannieC$AttributedDeclarator;
+    if (null == yyColumn.chunk6) yyColumn.chunk6 = new Chunk6();
+    if (null == yyColumn.chunk6.fJeannieC$AttributedDeclarator) {
+      yyColumn.chunk6.fJeannieC$AttributedDeclarator = 
+        pJeannieC$AttributedDeclarator$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(31, yyColumn.chunk6.fJeannieC$AttributedDeclarator);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(31, yyColumn.chunk6.fJeannieC$AttributedDeclarator);
+    }
+    return yyColumn.chunk6.fJeannieC$AttributedDeclarator;
   }
 
   /** Actually parse xtc.lang.jeannie.JeannieC.AttributedDeclarator. */
@@ -11087,7 +12191,7 @@ public final class CommandParser extends ParserBase {
           final Node v$g$3 = yyOpValue1;
 
           yyValue = GNode.create("AttributedDeclarator", v$g$1, v$g$2, v$g$3);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyOption1, yyError);
         } // End scope for v$g$3.
@@ -11109,10 +12213,15 @@ public final class CommandParser extends ParserBase {
    */
   private Result pJeannieC$Declarator(final int yyStart) throws IOException {
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.fJeannieC$Declarator) 
-      yyColumn.chunk4.fJeannieC$Declarator = pJeannieC$Declarator$1(yyStart);
-    return yyColumn.chunk4.fJeannieC$Declarator;
+    if (null == yyColumn.chunk6) yyColumn.chunk6 = new Chunk6();
+    if (null == yyColumn.chunk6.fJeannieC$Declarator) {
+      yyColumn.chunk6.fJeannieC$Declarator = pJeannieC$Declarator$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(32, yyColumn.chunk6.fJeannieC$Declarator);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(32, yyColumn.chunk6.fJeannieC$Declarator);
+    }
+    return yyColumn.chunk6.fJeannieC$Declarator;
   }
 
   /** Actually parse xtc.lang.jeannie.JeannieC.Declarator. */
@@ -11123,24 +12232,118 @@ public final class CommandParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '`':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
+
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x2;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Pointer>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pJeannieC$PointerDeclarator(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pJeannieC$PointerDeclarator(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Direct>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pJeannieC$DirectDeclarator(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pJeannieC$DirectDeclarator(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -11176,7 +12379,7 @@ public final class CommandParser extends ParserBase {
         final Node v$g$2 = yyResult.semanticValue();
 
         yyValue = GNode.create("PointerDeclarator", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -11197,10 +12400,15 @@ public final class CommandParser extends ParserBase {
    */
   private Result pJeannieC$Pointer(final int yyStart) throws IOException {
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.fJeannieC$Pointer) 
-      yyColumn.chunk4.fJeannieC$Pointer = pJeannieC$Pointer$1(yyStart);
-    return yyColumn.chunk4.fJeannieC$Pointer;
+    if (null == yyColumn.chunk6) yyColumn.chunk6 = new Chunk6();
+    if (null == yyColumn.chunk6.fJeannieC$Pointer) {
+      yyColumn.chunk6.fJeannieC$Pointer = pJeannieC$Pointer$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(33, yyColumn.chunk6.fJeannieC$Pointer);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(33, yyColumn.chunk6.fJeannieC$Pointer);
+    }
+    return yyColumn.chunk6.fJeannieC$Pointer;
   }
 
   /** Actually parse xtc.lang.jeannie.JeannieC.Pointer. */
@@ -11236,7 +12444,7 @@ public final class CommandParser extends ParserBase {
           final Node v$g$2 = yyOpValue1;
 
           yyValue = GNode.create("Pointer", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyOption1, yyError);
         } // End scope for v$g$2.
@@ -11262,14 +12470,16 @@ public final class CommandParser extends ParserBase {
 
     Result     yyResult;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
     // Alternative 1.
 
     yyRepetition1 = yyStart;
-    yyRepValue1   = Pair.empty();
+    yyRepStart1   = bufferStart();
+    yyRepEnd1   = yyRepStart1;
     while (true) {
 
       yyResult = pJeannieC$TypeQualifierList$$Choice1(yyRepetition1);
@@ -11278,16 +12488,17 @@ public final class CommandParser extends ParserBase {
         final Node v$el$1 = yyResult.semanticValue();
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+        yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
         continue;
       }
       break;
     }
     { // Start scope for v$g$1.
-      final Pair<Node> v$g$1 = yyRepValue1.reverse();
+      final int v$g$1 = yyRepStart1;
+      final int v$g$1$end = yyRepEnd1;
 
-      yyValue = GNode.createFromPair("TypeQualifierList", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      yyValue = bufferedNode("TypeQualifierList", v$g$1, v$g$1$end);
+      locate(yyValue, yyStart);
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
     } // End scope for v$g$1.
@@ -11309,24 +12520,90 @@ public final class CommandParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pJeannieC$TypeQualifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pJeannieC$TypeQualifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 2.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pJeannieC$AttributeSpecifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pJeannieC$AttributeSpecifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -11352,77 +12629,171 @@ public final class CommandParser extends ParserBase {
     Node               yyValue;
     ParseError         yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '`':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x1;
+      break;
+
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x2;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <FullBase>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("(")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("(")) {
 
-      yyResult = pJeannieC$AttributedDeclarator(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$7 = yyResult.semanticValue();
+        yyResult = pJeannieC$AttributedDeclarator(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$7 = yyResult.semanticValue();
 
-        yyBase   = yyResult.index;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue(")")) {
+          yyBase   = yyResult.index;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue(")")) {
 
-          yyRepetition1 = yyResult.index;
-          yyRepValue1   = Pair.empty();
-          while (true) {
+            yyRepetition1 = yyResult.index;
+            yyRepValue1   = Pair.empty();
+            while (true) {
 
-            yyResult = pJeannieC$DirectDeclarator$$Tail1(yyRepetition1);
-            yyError  = yyResult.select(yyError, yyRepetition1);
-            if (yyResult.hasValue()) {
-              final Action<Node> v$8 = yyResult.semanticValue();
+              yyResult = pJeannieC$DirectDeclarator$$Tail1(yyRepetition1);
+              yyError  = yyResult.select(yyError, yyRepetition1);
+              if (yyResult.hasValue()) {
+                final Action<Node> v$8 = yyResult.semanticValue();
 
-              yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Action<Node>>(v$8, yyRepValue1);
-              continue;
+                yyRepetition1 = yyResult.index;
+                yyRepValue1   = new Pair<Action<Node>>(v$8, yyRepValue1);
+                continue;
+              }
+              break;
             }
-            break;
-          }
-          { // Start scope for v$9.
-            final Pair<Action<Node>> v$9 = yyRepValue1.reverse();
+            { // Start scope for v$9.
+              final Pair<Action<Node>> v$9 = yyRepValue1.reverse();
 
-            yyValue = apply(v$9, v$g$7, yyStart);
+              yyValue = apply(v$9, v$g$7, yyStart);
 
-            return new SemanticValue(yyValue, yyRepetition1, yyError);
-          } // End scope for v$9.
-        } else {
-          yyError = yyError.select("')' expected", yyBase);
+              return new SemanticValue(yyValue, yyRepetition1, yyError);
+            } // End scope for v$9.
+          } else {
+            yyError = yyError.select("')' expected", yyBase);
+          }
         }
       }
     }
 
     // Alternative <SimpleBase>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pJeannieC$SimpleDeclarator(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final Node v$g$10 = yyResult.semanticValue();
+      yyResult = pJeannieC$SimpleDeclarator(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final Node v$g$10 = yyResult.semanticValue();
 
-      yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
-      while (true) {
+        yyRepetition1 = yyResult.index;
+        yyRepValue1   = Pair.empty();
+        while (true) {
 
-        yyResult = pJeannieC$DirectDeclarator$$Tail1(yyRepetition1);
-        yyError  = yyResult.select(yyError, yyRepetition1);
-        if (yyResult.hasValue()) {
-          final Action<Node> v$11 = yyResult.semanticValue();
+          yyResult = pJeannieC$DirectDeclarator$$Tail1(yyRepetition1);
+          yyError  = yyResult.select(yyError, yyRepetition1);
+          if (yyResult.hasValue()) {
+            final Action<Node> v$11 = yyResult.semanticValue();
 
-          yyRepetition1 = yyResult.index;
-          yyRepValue1   = new Pair<Action<Node>>(v$11, yyRepValue1);
-          continue;
+            yyRepetition1 = yyResult.index;
+            yyRepValue1   = new Pair<Action<Node>>(v$11, yyRepValue1);
+            continue;
+          }
+          break;
         }
-        break;
-      }
-      { // Start scope for v$12.
-        final Pair<Action<Node>> v$12 = yyRepValue1.reverse();
+        { // Start scope for v$12.
+          final Pair<Action<Node>> v$12 = yyRepValue1.reverse();
 
-        yyValue = apply(v$12, v$g$10, yyStart);
+          yyValue = apply(v$12, v$g$10, yyStart);
 
-        return new SemanticValue(yyValue, yyRepetition1, yyError);
-      } // End scope for v$12.
+          return new SemanticValue(yyValue, yyRepetition1, yyError);
+        } // End scope for v$12.
+      }
     }
 
     // Done.
@@ -11449,156 +12820,194 @@ public final class CommandParser extends ParserBase {
     Action<Node> yyValue;
     ParseError   yyError = ParseError.DUMMY;
 
-    // Alternative 1.
-
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("(")) {
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '`':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
 
-      yyResult = pPushScope(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
+    default:
+      yyFirst = 0;
+    }
 
-        final int yyChoice1 = yyResult.index;
+    // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-        // Nested alternative 1.
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("(")) {
 
-        yyResult = pJeannieC$ParameterTypeList(yyChoice1);
+        yyResult = pPushScope(yyResult.index);
         yyError  = yyResult.select(yyError);
         if (yyResult.hasValue()) {
-          final Node v$g$2 = yyResult.semanticValue();
 
-          yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue(")")) {
+          final int yyChoice1 = yyResult.index;
 
-            yyResult = pParameterContext(yyResult.index);
-            yyError  = yyResult.select(yyError);
-            if (yyResult.hasValue()) {
+          // Nested alternative 1.
 
-              yyResult = pJeannieC$JavaThrows(yyResult.index);
+          yyResult = pJeannieC$ParameterTypeList(yyChoice1);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Node v$g$2 = yyResult.semanticValue();
+
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue(")")) {
+
+              yyResult = pParameterContext(yyResult.index);
               yyError  = yyResult.select(yyError);
               if (yyResult.hasValue()) {
-                final Node javaThrows = yyResult.semanticValue();
 
-                yyValue = new Action<Node>() {
-                  public Node run(Node v$1) {
-                    return GNode.create("FunctionDeclarator", v$1, v$g$2, javaThrows);
-                  }};
+                yyResult = pJeannieC$JavaThrows(yyResult.index);
+                yyError  = yyResult.select(yyError);
+                if (yyResult.hasValue()) {
+                  final Node javaThrows = yyResult.semanticValue();
 
-                return yyResult.createValue(yyValue, yyError);
+                  yyValue = new Action<Node>() {
+                    public Node run(Node v$1) {
+                      return GNode.create("FunctionDeclarator", v$1, v$g$2, javaThrows);
+                    }};
+
+                  return yyResult.createValue(yyValue, yyError);
+                }
               }
+            } else {
+              yyError = yyError.select("')' expected", yyBase);
             }
-          } else {
-            yyError = yyError.select("')' expected", yyBase);
           }
-        }
-
-        // Nested alternative 2.
 
-        yyOption1  = yyChoice1;
-        yyOpValue1 = null;
+          // Nested alternative 2.
 
-        yyResult = pJeannieC$IdentifierList(yyOption1);
-        yyError  = yyResult.select(yyError, yyOption1);
-        if (yyResult.hasValue()) {
-          final Node v$el$1 = yyResult.semanticValue();
+          yyOption1  = yyChoice1;
+          yyOpValue1 = null;
 
-          yyOption1  = yyResult.index;
-          yyOpValue1 = v$el$1;
-        }
-        { // Start scope for v$g$3.
-          final Node v$g$3 = yyOpValue1;
+          yyResult = pJeannieC$IdentifierList(yyOption1);
+          yyError  = yyResult.select(yyError, yyOption1);
+          if (yyResult.hasValue()) {
+            final Node v$el$1 = yyResult.semanticValue();
 
-          yyBase   = yyOption1;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue(")")) {
+            yyOption1  = yyResult.index;
+            yyOpValue1 = v$el$1;
+          }
+          { // Start scope for v$g$3.
+            final Node v$g$3 = yyOpValue1;
 
-            yyResult = pParameterContext(yyResult.index);
-            yyError  = yyResult.select(yyError);
-            if (yyResult.hasValue()) {
+            yyBase   = yyOption1;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue(")")) {
 
-              yyResult = pJeannieC$JavaThrows(yyResult.index);
+              yyResult = pParameterContext(yyResult.index);
               yyError  = yyResult.select(yyError);
               if (yyResult.hasValue()) {
-                final Node javaThrows = yyResult.semanticValue();
 
-                yyValue = new Action<Node>() {
-                  public Node run(Node v$1) {
-                    return GNode.create("FunctionDeclarator", v$1, v$g$3, javaThrows);
-                  }};
+                yyResult = pJeannieC$JavaThrows(yyResult.index);
+                yyError  = yyResult.select(yyError);
+                if (yyResult.hasValue()) {
+                  final Node javaThrows = yyResult.semanticValue();
 
-                return yyResult.createValue(yyValue, yyError);
+                  yyValue = new Action<Node>() {
+                    public Node run(Node v$1) {
+                      return GNode.create("FunctionDeclarator", v$1, v$g$3, javaThrows);
+                    }};
+
+                  return yyResult.createValue(yyValue, yyError);
+                }
               }
+            } else {
+              yyError = yyError.select("')' expected", yyBase);
             }
-          } else {
-            yyError = yyError.select("')' expected", yyBase);
-          }
-        } // End scope for v$g$3.
+          } // End scope for v$g$3.
+        }
       }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("[")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("[")) {
 
-      yyResult = pJeannieC$ArrayQualifierList(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$4 = yyResult.semanticValue();
+        yyResult = pJeannieC$ArrayQualifierList(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$4 = yyResult.semanticValue();
 
-        final int yyChoice1 = yyResult.index;
+          final int yyChoice1 = yyResult.index;
 
-        // Nested alternative 1.
+          // Nested alternative 1.
 
-        yyOption1  = yyChoice1;
-        yyOpValue1 = null;
+          yyOption1  = yyChoice1;
+          yyOpValue1 = null;
 
-        yyResult = pJeannieC$AssignmentExpression(yyOption1);
-        yyError  = yyResult.select(yyError, yyOption1);
-        if (yyResult.hasValue()) {
-          final Node v$el$2 = yyResult.semanticValue();
+          yyResult = pJeannieC$AssignmentExpression(yyOption1);
+          yyError  = yyResult.select(yyError, yyOption1);
+          if (yyResult.hasValue()) {
+            final Node v$el$2 = yyResult.semanticValue();
 
-          yyOption1  = yyResult.index;
-          yyOpValue1 = v$el$2;
-        }
-        { // Start scope for v$g$5.
-          final Node v$g$5 = yyOpValue1;
+            yyOption1  = yyResult.index;
+            yyOpValue1 = v$el$2;
+          }
+          { // Start scope for v$g$5.
+            final Node v$g$5 = yyOpValue1;
 
-          yyBase   = yyOption1;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue("]")) {
+            yyBase   = yyOption1;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue("]")) {
 
-            yyValue = new Action<Node>() {
-              public Node run(Node v$1) {
-                return GNode.create("ArrayDeclarator", v$1, v$g$4, v$g$5);
-              }};
+              yyValue = new Action<Node>() {
+                public Node run(Node v$1) {
+                  return GNode.create("ArrayDeclarator", v$1, v$g$4, v$g$5);
+                }};
 
-            return yyResult.createValue(yyValue, yyError);
-          } else {
-            yyError = yyError.select("']' expected", yyBase);
-          }
-        } // End scope for v$g$5.
+              return yyResult.createValue(yyValue, yyError);
+            } else {
+              yyError = yyError.select("']' expected", yyBase);
+            }
+          } // End scope for v$g$5.
 
-        // Nested alternative 2.
+          // Nested alternative 2.
 
-        yyResult = pJeannieC$VariableLength(yyChoice1);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$g$6 = yyResult.semanticValue();
+          yyResult = pJeannieC$VariableLength(yyChoice1);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Node v$g$6 = yyResult.semanticValue();
 
-          yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue("]")) {
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue("]")) {
 
-            yyValue = new Action<Node>() {
-              public Node run(Node v$1) {
-                return GNode.create("ArrayDeclarator", v$1, v$g$4, v$g$6);
-              }};
+              yyValue = new Action<Node>() {
+                public Node run(Node v$1) {
+                  return GNode.create("ArrayDeclarator", v$1, v$g$4, v$g$6);
+                }};
 
-            return yyResult.createValue(yyValue, yyError);
-          } else {
-            yyError = yyError.select("']' expected", yyBase);
+              return yyResult.createValue(yyValue, yyError);
+            } else {
+              yyError = yyError.select("']' expected", yyBase);
+            }
           }
         }
       }
@@ -11622,10 +13031,16 @@ public final class CommandParser extends ParserBase {
     throws IOException {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.fJeannieC$VariableLength) 
-      yyColumn.chunk4.fJeannieC$VariableLength = pJeannieC$VariableLength$1(yyStart);
-    return yyColumn.chunk4.fJeannieC$VariableLength;
+    if (null == yyColumn.chunk9) yyColumn.chunk9 = new Chunk9();
+    if (null == yyColumn.chunk9.fJeannieC$VariableLength) {
+      yyColumn.chunk9.fJeannieC$VariableLength = 
+        pJeannieC$VariableLength$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(34, yyColumn.chunk9.fJeannieC$VariableLength);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(34, yyColumn.chunk9.fJeannieC$VariableLength);
+    }
+    return yyColumn.chunk9.fJeannieC$VariableLength;
   }
 
   /** Actually parse xtc.lang.jeannie.JeannieC.VariableLength. */
@@ -11642,7 +13057,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("*")) {
 
       yyValue = GNode.create("VariableLength", false);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -11678,7 +13093,7 @@ public final class CommandParser extends ParserBase {
       yyState.bind(toText(id));
 
       yyValue = GNode.create("SimpleDeclarator", id);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -11700,10 +13115,16 @@ public final class CommandParser extends ParserBase {
     throws IOException {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.fJeannieC$ParameterTypeList) 
-      yyColumn.chunk4.fJeannieC$ParameterTypeList = pJeannieC$ParameterTypeList$1(yyStart);
-    return yyColumn.chunk4.fJeannieC$ParameterTypeList;
+    if (null == yyColumn.chunk10) yyColumn.chunk10 = new Chunk10();
+    if (null == yyColumn.chunk10.fJeannieC$ParameterTypeList) {
+      yyColumn.chunk10.fJeannieC$ParameterTypeList = 
+        pJeannieC$ParameterTypeList$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(35, yyColumn.chunk10.fJeannieC$ParameterTypeList);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(35, yyColumn.chunk10.fJeannieC$ParameterTypeList);
+    }
+    return yyColumn.chunk10.fJeannieC$ParameterTypeList;
   }
 
   /** Actually parse xtc.lang.jeannie.JeannieC.ParameterTypeList. */
@@ -11748,7 +13169,7 @@ public final class CommandParser extends ParserBase {
         final String v$g$2 = yyOpValue1;
 
         yyValue = GNode.create("ParameterTypeList", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyOption1, yyError);
       } // End scope for v$g$2.
@@ -11773,7 +13194,8 @@ public final class CommandParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -11785,7 +13207,8 @@ public final class CommandParser extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyBase   = yyRepetition1;
@@ -11798,7 +13221,7 @@ public final class CommandParser extends ParserBase {
             final Node v$el$1 = yyResult.semanticValue();
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
         } else {
@@ -11807,10 +13230,11 @@ public final class CommandParser extends ParserBase {
         break;
       }
       { // Start scope for v$g$2.
-        final Pair<Node> v$g$2 = yyRepValue1.reverse();
+        final int v$g$2 = yyRepStart1;
+        final int v$g$2$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("ParameterList", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("ParameterList", v$g$1, v$g$2, v$g$2$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$2.
@@ -11872,7 +13296,7 @@ public final class CommandParser extends ParserBase {
           final Node v$g$3 = yyOpValue1;
 
           yyValue = GNode.create("ParameterDeclaration", v$g$1, v$g$2, v$g$3);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           // Commit the state modification.
           yyState.commit();
@@ -11911,7 +13335,7 @@ public final class CommandParser extends ParserBase {
           final Node v$g$5 = yyOpValue1;
 
           yyValue = GNode.create("ParameterDeclaration", v$g$1, v$g$4, v$g$5);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           // Commit the state modification.
           yyState.commit();
@@ -11968,7 +13392,7 @@ public final class CommandParser extends ParserBase {
         final Node v$g$2 = yyResult.semanticValue();
 
         yyValue = GNode.create("AttributedAbstractDeclarator", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -11991,10 +13415,16 @@ public final class CommandParser extends ParserBase {
     throws IOException {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.fJeannieC$AbstractDeclarator) 
-      yyColumn.chunk4.fJeannieC$AbstractDeclarator = pJeannieC$AbstractDeclarator$1(yyStart);
-    return yyColumn.chunk4.fJeannieC$AbstractDeclarator;
+    if (null == yyColumn.chunk6) yyColumn.chunk6 = new Chunk6();
+    if (null == yyColumn.chunk6.fJeannieC$AbstractDeclarator) {
+      yyColumn.chunk6.fJeannieC$AbstractDeclarator = 
+        pJeannieC$AbstractDeclarator$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(36, yyColumn.chunk6.fJeannieC$AbstractDeclarator);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(36, yyColumn.chunk6.fJeannieC$AbstractDeclarator);
+    }
+    return yyColumn.chunk6.fJeannieC$AbstractDeclarator;
   }
 
   /** Actually parse xtc.lang.jeannie.JeannieC.AbstractDeclarator. */
@@ -12031,7 +13461,7 @@ public final class CommandParser extends ParserBase {
         if ((null != p) || (null != d)) {
 
           yyValue = GNode.create("AbstractDeclarator", p, d);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -12150,102 +13580,140 @@ public final class CommandParser extends ParserBase {
     Action<Node> yyValue;
     ParseError   yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '`':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("[")) {
-      final String v$g$2 = "[";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("[")) {
+        final String v$g$2 = "[";
 
-      final int yyChoice1 = yyResult.index;
+        final int yyChoice1 = yyResult.index;
 
-      // Nested alternative 1.
+        // Nested alternative 1.
 
-      yyOption1  = yyChoice1;
-      yyOpValue1 = null;
+        yyOption1  = yyChoice1;
+        yyOpValue1 = null;
 
-      yyResult = pJeannieC$AssignmentExpression(yyOption1);
-      yyError  = yyResult.select(yyError, yyOption1);
-      if (yyResult.hasValue()) {
-        final Node v$el$1 = yyResult.semanticValue();
+        yyResult = pJeannieC$AssignmentExpression(yyOption1);
+        yyError  = yyResult.select(yyError, yyOption1);
+        if (yyResult.hasValue()) {
+          final Node v$el$1 = yyResult.semanticValue();
 
-        yyOption1  = yyResult.index;
-        yyOpValue1 = v$el$1;
-      }
-      { // Start scope for v$g$3.
-        final Node v$g$3 = yyOpValue1;
+          yyOption1  = yyResult.index;
+          yyOpValue1 = v$el$1;
+        }
+        { // Start scope for v$g$3.
+          final Node v$g$3 = yyOpValue1;
 
-        yyBase   = yyOption1;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue("]")) {
+          yyBase   = yyOption1;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue("]")) {
 
-          yyValue = new Action<Node>() {
-            public Node run(Node v$1) {
-              return GNode.create("DirectAbstractDeclarator", v$1, v$g$2, v$g$3);
-            }};
+            yyValue = new Action<Node>() {
+              public Node run(Node v$1) {
+                return GNode.create("DirectAbstractDeclarator", v$1, v$g$2, v$g$3);
+              }};
 
-          return yyResult.createValue(yyValue, yyError);
-        } else {
-          yyError = yyError.select("']' expected", yyBase);
-        }
-      } // End scope for v$g$3.
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("']' expected", yyBase);
+          }
+        } // End scope for v$g$3.
 
-      // Nested alternative 2.
+        // Nested alternative 2.
 
-      yyResult = pJeannieC$VariableLength(yyChoice1);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$4 = yyResult.semanticValue();
+        yyResult = pJeannieC$VariableLength(yyChoice1);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$4 = yyResult.semanticValue();
 
-        yyBase   = yyResult.index;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue("]")) {
+          yyBase   = yyResult.index;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue("]")) {
 
-          yyValue = new Action<Node>() {
-            public Node run(Node v$1) {
-              return GNode.create("DirectAbstractDeclarator", v$1, v$g$2, v$g$4);
-            }};
+            yyValue = new Action<Node>() {
+              public Node run(Node v$1) {
+                return GNode.create("DirectAbstractDeclarator", v$1, v$g$2, v$g$4);
+              }};
 
-          return yyResult.createValue(yyValue, yyError);
-        } else {
-          yyError = yyError.select("']' expected", yyBase);
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("']' expected", yyBase);
+          }
         }
       }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("(")) {
-      final String v$g$5 = "(";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("(")) {
+        final String v$g$5 = "(";
 
-      yyOption1  = yyResult.index;
-      yyOpValue1 = null;
+        yyOption1  = yyResult.index;
+        yyOpValue1 = null;
 
-      yyResult = pJeannieC$ParameterTypeList(yyOption1);
-      yyError  = yyResult.select(yyError, yyOption1);
-      if (yyResult.hasValue()) {
-        final Node v$el$2 = yyResult.semanticValue();
+        yyResult = pJeannieC$ParameterTypeList(yyOption1);
+        yyError  = yyResult.select(yyError, yyOption1);
+        if (yyResult.hasValue()) {
+          final Node v$el$2 = yyResult.semanticValue();
 
-        yyOption1  = yyResult.index;
-        yyOpValue1 = v$el$2;
-      }
-      { // Start scope for v$g$6.
-        final Node v$g$6 = yyOpValue1;
+          yyOption1  = yyResult.index;
+          yyOpValue1 = v$el$2;
+        }
+        { // Start scope for v$g$6.
+          final Node v$g$6 = yyOpValue1;
 
-        yyBase   = yyOption1;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue(")")) {
+          yyBase   = yyOption1;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue(")")) {
 
-          yyValue = new Action<Node>() {
-            public Node run(Node v$1) {
-              return GNode.create("DirectAbstractDeclarator", v$1, v$g$5, v$g$6);
-            }};
+            yyValue = new Action<Node>() {
+              public Node run(Node v$1) {
+                return GNode.create("DirectAbstractDeclarator", v$1, v$g$5, v$g$6);
+              }};
 
-          return yyResult.createValue(yyValue, yyError);
-        } else {
-          yyError = yyError.select("')' expected", yyBase);
-        }
-      } // End scope for v$g$6.
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("')' expected", yyBase);
+          }
+        } // End scope for v$g$6.
+      }
     }
 
     // Done.
@@ -12265,12 +13733,13 @@ public final class CommandParser extends ParserBase {
   private Result pJeannieC$IdentifierList(final int yyStart) 
     throws IOException {
 
-    Result       yyResult;
-    int          yyBase;
-    int          yyRepetition1;
-    Pair<String> yyRepValue1;
-    Node         yyValue;
-    ParseError   yyError = ParseError.DUMMY;
+    Result     yyResult;
+    int        yyBase;
+    int        yyRepetition1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
+    Node       yyValue;
+    ParseError yyError = ParseError.DUMMY;
 
     // Alternative 1.
 
@@ -12282,7 +13751,8 @@ public final class CommandParser extends ParserBase {
       yyState.bind(toText(id1));
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyBase   = yyRepetition1;
@@ -12297,7 +13767,7 @@ public final class CommandParser extends ParserBase {
             yyState.bind(toText(id2));
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<String>(id2, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, id2);
             continue;
           }
         } else {
@@ -12306,10 +13776,11 @@ public final class CommandParser extends ParserBase {
         break;
       }
       { // Start scope for v$g$1.
-        final Pair<String> v$g$1 = yyRepValue1.reverse();
+        final int v$g$1 = yyRepStart1;
+        final int v$g$1$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("IdentifierList", id1, v$g$1);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("IdentifierList", id1, v$g$1, v$g$1$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$1.
@@ -12333,14 +13804,16 @@ public final class CommandParser extends ParserBase {
 
     Result     yyResult;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
     // Alternative 1.
 
     yyRepetition1 = yyStart;
-    yyRepValue1   = Pair.empty();
+    yyRepStart1   = bufferStart();
+    yyRepEnd1   = yyRepStart1;
     while (true) {
 
       yyResult = pJeannieC$ArrayQualifierList$$Choice1(yyRepetition1);
@@ -12349,16 +13822,17 @@ public final class CommandParser extends ParserBase {
         final Node v$el$1 = yyResult.semanticValue();
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+        yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
         continue;
       }
       break;
     }
     { // Start scope for v$g$1.
-      final Pair<Node> v$g$1 = yyRepValue1.reverse();
+      final int v$g$1 = yyRepStart1;
+      final int v$g$1$end = yyRepEnd1;
 
-      yyValue = GNode.createFromPair("ArrayQualifierList", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      yyValue = bufferedNode("ArrayQualifierList", v$g$1, v$g$1$end);
+      locate(yyValue, yyStart);
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
     } // End scope for v$g$1.
@@ -12380,133 +13854,217 @@ public final class CommandParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x7ff;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("static")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("static")) {
 
-      yyValue = GNode.create("StaticSpecifier", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("StaticSpecifier", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("volatile")) {
-      final String v$g$1 = "volatile";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("volatile")) {
+        final String v$g$1 = "volatile";
 
-      yyValue = GNode.create("VolatileQualifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("VolatileQualifier", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__volatile")) {
-      final String v$g$2 = "__volatile";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__volatile")) {
+        final String v$g$2 = "__volatile";
 
-      yyValue = GNode.create("VolatileQualifier", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("VolatileQualifier", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 4.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__volatile__")) {
-      final String v$g$3 = "__volatile__";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__volatile__")) {
+        final String v$g$3 = "__volatile__";
 
-      yyValue = GNode.create("VolatileQualifier", v$g$3);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("VolatileQualifier", v$g$3);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 5.
+    if (0 != (yyFirst & 0x10)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("restrict")) {
-      final String v$g$1 = "restrict";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("restrict")) {
+        final String v$g$1 = "restrict";
 
-      yyValue = GNode.create("RestrictQualifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("RestrictQualifier", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 6.
+    if (0 != (yyFirst & 0x20)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__restrict")) {
-      final String v$g$2 = "__restrict";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__restrict")) {
+        final String v$g$2 = "__restrict";
 
-      yyValue = GNode.create("RestrictQualifier", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("RestrictQualifier", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 7.
+    if (0 != (yyFirst & 0x40)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__restrict__")) {
-      final String v$g$3 = "__restrict__";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__restrict__")) {
+        final String v$g$3 = "__restrict__";
 
-      yyValue = GNode.create("RestrictQualifier", v$g$3);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("RestrictQualifier", v$g$3);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 8.
+    if (0 != (yyFirst & 0x80)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("const")) {
-      final String v$g$1 = "const";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("const")) {
+        final String v$g$1 = "const";
 
-      yyValue = GNode.create("ConstantQualifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("ConstantQualifier", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 9.
+    if (0 != (yyFirst & 0x100)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__const")) {
-      final String v$g$2 = "__const";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__const")) {
+        final String v$g$2 = "__const";
 
-      yyValue = GNode.create("ConstantQualifier", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("ConstantQualifier", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 10.
+    if (0 != (yyFirst & 0x200)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__const__")) {
-      final String v$g$3 = "__const__";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__const__")) {
+        final String v$g$3 = "__const__";
 
-      yyValue = GNode.create("ConstantQualifier", v$g$3);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("ConstantQualifier", v$g$3);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 11.
+    if ((0 != (yyFirst & 0x400)) || (yyError.index < yyStart)) {
 
-    yyResult = pJeannieC$AttributeSpecifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pJeannieC$AttributeSpecifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -12530,50 +14088,120 @@ public final class CommandParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0xf;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("_Complex")) {
-      final String v$g$1 = "_Complex";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("_Complex")) {
+        final String v$g$1 = "_Complex";
 
-      yyValue = GNode.create("Complex", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("Complex", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__complex__")) {
-      final String v$g$2 = "__complex__";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__complex__")) {
+        final String v$g$2 = "__complex__";
 
-      yyValue = GNode.create("Complex", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("Complex", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("double")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("double")) {
 
-      yyValue = GNode.create("Double", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("Double", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 4.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("float")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("float")) {
 
-      yyValue = GNode.create("Float", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("Float", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -12597,106 +14225,186 @@ public final class CommandParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x1ff;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("long")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("long")) {
 
-      yyValue = GNode.create("Long", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("Long", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("int")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("int")) {
 
-      yyValue = GNode.create("Int", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("Int", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("short")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("short")) {
 
-      yyValue = GNode.create("Short", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("Short", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 4.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("char")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("char")) {
 
-      yyValue = GNode.create("Char", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("Char", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 5.
+    if (0 != (yyFirst & 0x10)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("_Bool")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("_Bool")) {
 
-      yyValue = GNode.create("Bool", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("Bool", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 6.
+    if (0 != (yyFirst & 0x20)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("unsigned")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("unsigned")) {
 
-      yyValue = GNode.create("Unsigned", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("Unsigned", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 7.
+    if (0 != (yyFirst & 0x40)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("signed")) {
-      final String v$g$1 = "signed";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("signed")) {
+        final String v$g$1 = "signed";
 
-      yyValue = GNode.create("Signed", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("Signed", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 8.
+    if (0 != (yyFirst & 0x80)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__signed")) {
-      final String v$g$2 = "__signed";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__signed")) {
+        final String v$g$2 = "__signed";
 
-      yyValue = GNode.create("Signed", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("Signed", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 9.
+    if (0 != (yyFirst & 0x100)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__signed__")) {
-      final String v$g$3 = "__signed__";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__signed__")) {
+        final String v$g$3 = "__signed__";
 
-      yyValue = GNode.create("Signed", v$g$3);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("Signed", v$g$3);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -12718,10 +14426,15 @@ public final class CommandParser extends ParserBase {
    */
   private Result p$$Shared9(final int yyStart) throws IOException {
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.f$$Shared9) 
-      yyColumn.chunk4.f$$Shared9 = p$$Shared9$1(yyStart);
-    return yyColumn.chunk4.f$$Shared9;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.f$$Shared9) {
+      yyColumn.chunk3.f$$Shared9 = p$$Shared9$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(37, yyColumn.chunk3.f$$Shared9);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(37, yyColumn.chunk3.f$$Shared9);
+    }
+    return yyColumn.chunk3.f$$Shared9;
   }
 
   /** Actually parse xtc.lang.blink.Command.$$Shared9. */
@@ -12730,34 +14443,102 @@ public final class CommandParser extends ParserBase {
     Void       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x7;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("typeof")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("typeof")) {
 
-      yyValue = null;
+        yyValue = null;
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__typeof")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__typeof")) {
 
-      yyValue = null;
+        yyValue = null;
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__typeof__")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__typeof__")) {
 
-      yyValue = null;
+        yyValue = null;
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -12843,7 +14624,8 @@ public final class CommandParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -12855,7 +14637,8 @@ public final class CommandParser extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyBase   = yyRepetition1;
@@ -12868,7 +14651,7 @@ public final class CommandParser extends ParserBase {
             final Node v$el$1 = yyResult.semanticValue();
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
         } else {
@@ -12877,10 +14660,11 @@ public final class CommandParser extends ParserBase {
         break;
       }
       { // Start scope for v$g$2.
-        final Pair<Node> v$g$2 = yyRepValue1.reverse();
+        final int v$g$2 = yyRepStart1;
+        final int v$g$2$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("InitializerList", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("InitializerList", v$g$1, v$g$2, v$g$2$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$2.
@@ -12891,7 +14675,7 @@ public final class CommandParser extends ParserBase {
     if (GCC) {
 
       yyValue = GNode.create("InitializerList", false);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return new SemanticValue(yyValue, yyStart, yyError);
     }
@@ -12941,7 +14725,7 @@ public final class CommandParser extends ParserBase {
         final Node v$g$2 = yyResult.semanticValue();
 
         yyValue = GNode.create("InitializerListEntry", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -12965,7 +14749,8 @@ public final class CommandParser extends ParserBase {
     int        yyBase;
     int        yyRepetition1;
     boolean    yyRepeated1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -12973,7 +14758,8 @@ public final class CommandParser extends ParserBase {
 
     yyRepetition1 = yyStart;
     yyRepeated1   = false;
-    yyRepValue1   = Pair.empty();
+    yyRepStart1   = bufferStart();
+    yyRepEnd1   = yyRepStart1;
     while (true) {
 
       yyResult = pJeannieC$Designator(yyRepetition1);
@@ -12983,26 +14769,28 @@ public final class CommandParser extends ParserBase {
 
         yyRepetition1 = yyResult.index;
         yyRepeated1   = true;
-        yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+        yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
         continue;
       }
       break;
     }
 
     if (yyRepeated1) {
-      final Pair<Node> v$g$1 = yyRepValue1.reverse();
+      final int v$g$1 = yyRepStart1;
+      final int v$g$1$end = yyRepEnd1;
 
       yyBase   = yyRepetition1;
       yyResult = pSymbol(yyBase);
       if (yyResult.hasValue("=")) {
 
-        yyValue = GNode.createFromPair("Designation", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("Designation", v$g$1, v$g$1$end);
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       } else {
         yyError = yyError.select("'=' expected", yyBase);
       }
+      releaseBuffer(v$g$1);
     }
 
     // Alternative 2.
@@ -13052,27 +14840,63 @@ public final class CommandParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '`':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Array>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("[")) {
-      final String v$g$1 = "[";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("[")) {
+        final String v$g$1 = "[";
 
-      yyResult = pJeannieC$ConditionalExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$2 = yyResult.semanticValue();
+        yyResult = pJeannieC$ConditionalExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$2 = yyResult.semanticValue();
 
-        yyBase   = yyResult.index;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue("]")) {
+          yyBase   = yyResult.index;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue("]")) {
 
-          yyValue = GNode.create("Designator", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+            yyValue = GNode.create("Designator", v$g$1, v$g$2);
+            locate(yyValue, yyStart);
 
-          return yyResult.createValue(yyValue, yyError);
-        } else {
-          yyError = yyError.select("']' expected", yyBase);
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("']' expected", yyBase);
+          }
         }
       }
     }
@@ -13104,7 +14928,7 @@ public final class CommandParser extends ParserBase {
               if (yyResult.hasValue("]")) {
 
                 yyValue = GNode.create("Designator", v$g$3, v$g$4, v$g$5);
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return yyResult.createValue(yyValue, yyError);
               } else {
@@ -13119,20 +14943,22 @@ public final class CommandParser extends ParserBase {
     }
 
     // Alternative <Structure>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(".")) {
-      final String v$g$6 = ".";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(".")) {
+        final String v$g$6 = ".";
 
-      yyResult = pJeannieC$PrimaryIdentifier(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$7 = yyResult.semanticValue();
+        yyResult = pJeannieC$PrimaryIdentifier(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$7 = yyResult.semanticValue();
 
-        yyValue = GNode.create("Designator", v$g$6, v$g$7);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("Designator", v$g$6, v$g$7);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
@@ -13178,7 +15004,7 @@ public final class CommandParser extends ParserBase {
         if (yyResult.hasValue("]")) {
 
           yyValue = GNode.create("ObsoleteArrayDesignation", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
@@ -13201,7 +15027,7 @@ public final class CommandParser extends ParserBase {
             if (yyResult.hasValue("]")) {
 
               yyValue = GNode.create("ObsoleteArrayDesignation", v$g$1, v$g$2, v$g$3);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             } else {
@@ -13248,7 +15074,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue(":")) {
 
         yyValue = GNode.create("ObsoleteFieldDesignation", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       } else {
@@ -13271,10 +15097,15 @@ public final class CommandParser extends ParserBase {
    */
   private Result pJeannieC$TypeName(final int yyStart) throws IOException {
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.fJeannieC$TypeName) 
-      yyColumn.chunk4.fJeannieC$TypeName = pJeannieC$TypeName$1(yyStart);
-    return yyColumn.chunk4.fJeannieC$TypeName;
+    if (null == yyColumn.chunk8) yyColumn.chunk8 = new Chunk8();
+    if (null == yyColumn.chunk8.fJeannieC$TypeName) {
+      yyColumn.chunk8.fJeannieC$TypeName = pJeannieC$TypeName$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(38, yyColumn.chunk8.fJeannieC$TypeName);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(38, yyColumn.chunk8.fJeannieC$TypeName);
+    }
+    return yyColumn.chunk8.fJeannieC$TypeName;
   }
 
   /** Actually parse xtc.lang.jeannie.JeannieC.TypeName. */
@@ -13310,7 +15141,7 @@ public final class CommandParser extends ParserBase {
         final Node v$g$2 = yyOpValue1;
 
         yyValue = GNode.create("TypeName", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         // Commit the state modification.
         yyState.commit();
@@ -13339,10 +15170,16 @@ public final class CommandParser extends ParserBase {
     throws IOException {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.fJeannieC$AttributeSpecifierList) 
-      yyColumn.chunk4.fJeannieC$AttributeSpecifierList = pJeannieC$AttributeSpecifierList$1(yyStart);
-    return yyColumn.chunk4.fJeannieC$AttributeSpecifierList;
+    if (null == yyColumn.chunk6) yyColumn.chunk6 = new Chunk6();
+    if (null == yyColumn.chunk6.fJeannieC$AttributeSpecifierList) {
+      yyColumn.chunk6.fJeannieC$AttributeSpecifierList = 
+        pJeannieC$AttributeSpecifierList$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(39, yyColumn.chunk6.fJeannieC$AttributeSpecifierList);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(39, yyColumn.chunk6.fJeannieC$AttributeSpecifierList);
+    }
+    return yyColumn.chunk6.fJeannieC$AttributeSpecifierList;
   }
 
   /** Actually parse xtc.lang.jeannie.JeannieC.AttributeSpecifierList. */
@@ -13361,7 +15198,7 @@ public final class CommandParser extends ParserBase {
       final Pair<Node> v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.createFromPair("AttributeSpecifierList", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -13432,10 +15269,16 @@ public final class CommandParser extends ParserBase {
     throws IOException {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk5) yyColumn.chunk5 = new Chunk5();
-    if (null == yyColumn.chunk5.fJeannieC$AttributeSpecifier) 
-      yyColumn.chunk5.fJeannieC$AttributeSpecifier = pJeannieC$AttributeSpecifier$1(yyStart);
-    return yyColumn.chunk5.fJeannieC$AttributeSpecifier;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fJeannieC$AttributeSpecifier) {
+      yyColumn.chunk3.fJeannieC$AttributeSpecifier = 
+        pJeannieC$AttributeSpecifier$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(40, yyColumn.chunk3.fJeannieC$AttributeSpecifier);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(40, yyColumn.chunk3.fJeannieC$AttributeSpecifier);
+    }
+    return yyColumn.chunk3.fJeannieC$AttributeSpecifier;
   }
 
   /** Actually parse xtc.lang.jeannie.JeannieC.AttributeSpecifier. */
@@ -13486,7 +15329,7 @@ public final class CommandParser extends ParserBase {
               if (yyResult.hasValue(")")) {
 
                 yyValue = GNode.create("AttributeSpecifier", v$g$1);
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return yyResult.createValue(yyValue, yyError);
               } else {
@@ -13522,10 +15365,15 @@ public final class CommandParser extends ParserBase {
    */
   private Result p$$Shared10(final int yyStart) throws IOException {
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk5) yyColumn.chunk5 = new Chunk5();
-    if (null == yyColumn.chunk5.f$$Shared10) 
-      yyColumn.chunk5.f$$Shared10 = p$$Shared10$1(yyStart);
-    return yyColumn.chunk5.f$$Shared10;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.f$$Shared10) {
+      yyColumn.chunk3.f$$Shared10 = p$$Shared10$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(41, yyColumn.chunk3.f$$Shared10);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(41, yyColumn.chunk3.f$$Shared10);
+    }
+    return yyColumn.chunk3.f$$Shared10;
   }
 
   /** Actually parse xtc.lang.blink.Command.$$Shared10. */
@@ -13534,24 +15382,90 @@ public final class CommandParser extends ParserBase {
     Void       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__attribute")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__attribute")) {
 
-      yyValue = null;
+        yyValue = null;
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__attribute__")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__attribute__")) {
 
-      yyValue = null;
+        yyValue = null;
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -13574,7 +15488,8 @@ public final class CommandParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -13586,7 +15501,8 @@ public final class CommandParser extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyBase   = yyRepetition1;
@@ -13599,7 +15515,7 @@ public final class CommandParser extends ParserBase {
             final Node v$el$1 = yyResult.semanticValue();
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
         } else {
@@ -13608,10 +15524,11 @@ public final class CommandParser extends ParserBase {
         break;
       }
       { // Start scope for v$g$2.
-        final Pair<Node> v$g$2 = yyRepValue1.reverse();
+        final int v$g$2 = yyRepStart1;
+        final int v$g$2$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("AttributeList", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("AttributeList", v$g$1, v$g$2, v$g$2$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$2.
@@ -13687,7 +15604,7 @@ public final class CommandParser extends ParserBase {
         final Node v$g$2 = yyOpValue1;
 
         yyValue = GNode.create("AttributeListEntry", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyOption1, yyError);
       } // End scope for v$g$2.
@@ -13708,10 +15625,15 @@ public final class CommandParser extends ParserBase {
    */
   private Result pJeannieC$Statement(final int yyStart) throws IOException {
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk5) yyColumn.chunk5 = new Chunk5();
-    if (null == yyColumn.chunk5.fJeannieC$Statement) 
-      yyColumn.chunk5.fJeannieC$Statement = pJeannieC$Statement$1(yyStart);
-    return yyColumn.chunk5.fJeannieC$Statement;
+    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
+    if (null == yyColumn.chunk4.fJeannieC$Statement) {
+      yyColumn.chunk4.fJeannieC$Statement = pJeannieC$Statement$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(42, yyColumn.chunk4.fJeannieC$Statement);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(42, yyColumn.chunk4.fJeannieC$Statement);
+    }
+    return yyColumn.chunk4.fJeannieC$Statement;
   }
 
   /** Actually parse xtc.lang.jeannie.JeannieC.Statement. */
@@ -13723,6 +15645,96 @@ public final class CommandParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '`':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x8011;
+      break;
+
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x7fee;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
 
     yyResult = pJeannieC$CommaExpression(yyStart);
@@ -13735,7 +15747,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue(";")) {
 
         yyValue = GNode.create("ExpressionStatement", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       } else {
@@ -13744,322 +15756,342 @@ public final class CommandParser extends ParserBase {
     }
 
     // Alternative <JavaInCStatement>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pJeannieC$JavaInCStatement(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pJeannieC$JavaInCStatement(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Cancel>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pJeannieC$CancelStatement(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pJeannieC$CancelStatement(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Commit>.
+    if ((0 != (yyFirst & 0x4)) || (yyError.index < yyStart)) {
 
-    yyResult = pJeannieC$CommitStatement(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pJeannieC$CommitStatement(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <With>.
+    if ((0 != (yyFirst & 0x8)) || (yyError.index < yyStart)) {
 
-    yyResult = pJeannieC$WithStatement(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pJeannieC$WithStatement(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Compound>.
+    if ((0 != (yyFirst & 0x10)) || (yyError.index < yyStart)) {
 
-    yyResult = pJeannieC$CompoundStatement(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pJeannieC$CompoundStatement(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 7.
+    if (0 != (yyFirst & 0x20)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("if")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("if")) {
 
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue("(")) {
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue("(")) {
 
-        yyResult = pJeannieC$CommaExpression(yyResult.index);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$g$1 = yyResult.semanticValue();
+          yyResult = pJeannieC$CommaExpression(yyResult.index);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Node v$g$1 = yyResult.semanticValue();
 
-          yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue(")")) {
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue(")")) {
 
-            yyResult = pJeannieC$Statement(yyResult.index);
-            yyError  = yyResult.select(yyError);
-            if (yyResult.hasValue()) {
-              final Node v$g$2 = yyResult.semanticValue();
+              yyResult = pJeannieC$Statement(yyResult.index);
+              yyError  = yyResult.select(yyError);
+              if (yyResult.hasValue()) {
+                final Node v$g$2 = yyResult.semanticValue();
 
-              final int yyChoice1 = yyResult.index;
+                final int yyChoice1 = yyResult.index;
 
-              // Nested alternative 1.
+                // Nested alternative 1.
 
-              yyBase   = yyChoice1;
-              yyResult = pKeyword(yyBase);
-              if (yyResult.hasValue("else")) {
+                yyBase   = yyChoice1;
+                yyResult = pKeyword(yyBase);
+                if (yyResult.hasValue("else")) {
 
-                yyResult = pJeannieC$Statement(yyResult.index);
-                yyError  = yyResult.select(yyError);
-                if (yyResult.hasValue()) {
-                  final Node v$g$3 = yyResult.semanticValue();
+                  yyResult = pJeannieC$Statement(yyResult.index);
+                  yyError  = yyResult.select(yyError);
+                  if (yyResult.hasValue()) {
+                    final Node v$g$3 = yyResult.semanticValue();
 
-                  yyValue = GNode.create("IfElseStatement", v$g$1, v$g$2, v$g$3);
-                  yyValue.setLocation(location(yyStart));
+                    yyValue = GNode.create("IfElseStatement", v$g$1, v$g$2, v$g$3);
+                    locate(yyValue, yyStart);
 
-                  return yyResult.createValue(yyValue, yyError);
+                    return yyResult.createValue(yyValue, yyError);
+                  }
+                } else {
+                  yyError = yyError.select("'else' expected", yyBase);
                 }
-              } else {
-                yyError = yyError.select("'else' expected", yyBase);
-              }
 
-              // Nested alternative 2.
+                // Nested alternative 2.
 
-              yyValue = GNode.create("IfStatement", v$g$1, v$g$2);
-              yyValue.setLocation(location(yyStart));
+                yyValue = GNode.create("IfStatement", v$g$1, v$g$2);
+                locate(yyValue, yyStart);
 
-              return new SemanticValue(yyValue, yyChoice1, yyError);
+                return new SemanticValue(yyValue, yyChoice1, yyError);
+              }
+            } else {
+              yyError = yyError.select("')' expected", yyBase);
             }
-          } else {
-            yyError = yyError.select("')' expected", yyBase);
           }
+        } else {
+          yyError = yyError.select("'(' expected", yyBase);
         }
-      } else {
-        yyError = yyError.select("'(' expected", yyBase);
       }
     }
 
     // Alternative 8.
+    if (0 != (yyFirst & 0x40)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("while")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("while")) {
 
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue("(")) {
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue("(")) {
 
-        yyResult = pJeannieC$CommaExpression(yyResult.index);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$g$1 = yyResult.semanticValue();
+          yyResult = pJeannieC$CommaExpression(yyResult.index);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Node v$g$1 = yyResult.semanticValue();
 
-          yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue(")")) {
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue(")")) {
 
-            yyResult = pJeannieC$Statement(yyResult.index);
-            yyError  = yyResult.select(yyError);
-            if (yyResult.hasValue()) {
-              final Node v$g$2 = yyResult.semanticValue();
+              yyResult = pJeannieC$Statement(yyResult.index);
+              yyError  = yyResult.select(yyError);
+              if (yyResult.hasValue()) {
+                final Node v$g$2 = yyResult.semanticValue();
 
-              yyValue = GNode.create("WhileStatement", v$g$1, v$g$2);
-              yyValue.setLocation(location(yyStart));
+                yyValue = GNode.create("WhileStatement", v$g$1, v$g$2);
+                locate(yyValue, yyStart);
 
-              return yyResult.createValue(yyValue, yyError);
+                return yyResult.createValue(yyValue, yyError);
+              }
+            } else {
+              yyError = yyError.select("')' expected", yyBase);
             }
-          } else {
-            yyError = yyError.select("')' expected", yyBase);
           }
+        } else {
+          yyError = yyError.select("'(' expected", yyBase);
         }
-      } else {
-        yyError = yyError.select("'(' expected", yyBase);
       }
     }
 
     // Alternative 9.
+    if (0 != (yyFirst & 0x80)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("do")) {
-
-      yyResult = pJeannieC$Statement(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("do")) {
 
-        yyBase   = yyResult.index;
-        yyResult = pKeyword(yyBase);
-        if (yyResult.hasValue("while")) {
+        yyResult = pJeannieC$Statement(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$1 = yyResult.semanticValue();
 
           yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue("(")) {
+          yyResult = pKeyword(yyBase);
+          if (yyResult.hasValue("while")) {
 
-            yyResult = pJeannieC$CommaExpression(yyResult.index);
-            yyError  = yyResult.select(yyError);
-            if (yyResult.hasValue()) {
-              final Node v$g$2 = yyResult.semanticValue();
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue("(")) {
 
-              yyBase   = yyResult.index;
-              yyResult = pSymbol(yyBase);
-              if (yyResult.hasValue(")")) {
+              yyResult = pJeannieC$CommaExpression(yyResult.index);
+              yyError  = yyResult.select(yyError);
+              if (yyResult.hasValue()) {
+                final Node v$g$2 = yyResult.semanticValue();
 
                 yyBase   = yyResult.index;
                 yyResult = pSymbol(yyBase);
-                if (yyResult.hasValue(";")) {
+                if (yyResult.hasValue(")")) {
 
-                  yyValue = GNode.create("DoStatement", v$g$1, v$g$2);
-                  yyValue.setLocation(location(yyStart));
+                  yyBase   = yyResult.index;
+                  yyResult = pSymbol(yyBase);
+                  if (yyResult.hasValue(";")) {
 
-                  return yyResult.createValue(yyValue, yyError);
+                    yyValue = GNode.create("DoStatement", v$g$1, v$g$2);
+                    locate(yyValue, yyStart);
+
+                    return yyResult.createValue(yyValue, yyError);
+                  } else {
+                    yyError = yyError.select("';' expected", yyBase);
+                  }
                 } else {
-                  yyError = yyError.select("';' expected", yyBase);
+                  yyError = yyError.select("')' expected", yyBase);
                 }
-              } else {
-                yyError = yyError.select("')' expected", yyBase);
               }
+            } else {
+              yyError = yyError.select("'(' expected", yyBase);
             }
           } else {
-            yyError = yyError.select("'(' expected", yyBase);
+            yyError = yyError.select("'while' expected", yyBase);
           }
-        } else {
-          yyError = yyError.select("'while' expected", yyBase);
         }
       }
     }
 
     // Alternative 10.
+    if (0 != (yyFirst & 0x100)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("for")) {
-
-      yyResult = pPushScope(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-
-        yyBase   = yyResult.index;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue("(")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("for")) {
 
-          yyResult = pJeannieC$InitialClause(yyResult.index);
-          yyError  = yyResult.select(yyError);
-          if (yyResult.hasValue()) {
-            final Node v$g$1 = yyResult.semanticValue();
+        yyResult = pPushScope(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
 
-            yyOption1  = yyResult.index;
-            yyOpValue1 = null;
+          yyBase   = yyResult.index;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue("(")) {
 
-            yyResult = pJeannieC$CommaExpression(yyOption1);
-            yyError  = yyResult.select(yyError, yyOption1);
+            yyResult = pJeannieC$InitialClause(yyResult.index);
+            yyError  = yyResult.select(yyError);
             if (yyResult.hasValue()) {
-              final Node v$el$1 = yyResult.semanticValue();
+              final Node v$g$1 = yyResult.semanticValue();
 
               yyOption1  = yyResult.index;
-              yyOpValue1 = v$el$1;
-            }
-            { // Start scope for v$g$2.
-              final Node v$g$2 = yyOpValue1;
+              yyOpValue1 = null;
 
-              yyBase   = yyOption1;
-              yyResult = pSymbol(yyBase);
-              if (yyResult.hasValue(";")) {
+              yyResult = pJeannieC$CommaExpression(yyOption1);
+              yyError  = yyResult.select(yyError, yyOption1);
+              if (yyResult.hasValue()) {
+                final Node v$el$1 = yyResult.semanticValue();
 
                 yyOption1  = yyResult.index;
-                yyOpValue1 = null;
+                yyOpValue1 = v$el$1;
+              }
+              { // Start scope for v$g$2.
+                final Node v$g$2 = yyOpValue1;
 
-                yyResult = pJeannieC$CommaExpression(yyOption1);
-                yyError  = yyResult.select(yyError, yyOption1);
-                if (yyResult.hasValue()) {
-                  final Node v$el$2 = yyResult.semanticValue();
+                yyBase   = yyOption1;
+                yyResult = pSymbol(yyBase);
+                if (yyResult.hasValue(";")) {
 
                   yyOption1  = yyResult.index;
-                  yyOpValue1 = v$el$2;
-                }
-                { // Start scope for v$g$3.
-                  final Node v$g$3 = yyOpValue1;
+                  yyOpValue1 = null;
 
-                  yyBase   = yyOption1;
-                  yyResult = pSymbol(yyBase);
-                  if (yyResult.hasValue(")")) {
+                  yyResult = pJeannieC$CommaExpression(yyOption1);
+                  yyError  = yyResult.select(yyError, yyOption1);
+                  if (yyResult.hasValue()) {
+                    final Node v$el$2 = yyResult.semanticValue();
 
-                    yyResult = pJeannieC$Statement(yyResult.index);
-                    yyError  = yyResult.select(yyError);
-                    if (yyResult.hasValue()) {
-                      final Node v$g$4 = yyResult.semanticValue();
+                    yyOption1  = yyResult.index;
+                    yyOpValue1 = v$el$2;
+                  }
+                  { // Start scope for v$g$3.
+                    final Node v$g$3 = yyOpValue1;
 
-                      yyResult = pPopScope(yyResult.index);
+                    yyBase   = yyOption1;
+                    yyResult = pSymbol(yyBase);
+                    if (yyResult.hasValue(")")) {
+
+                      yyResult = pJeannieC$Statement(yyResult.index);
                       yyError  = yyResult.select(yyError);
                       if (yyResult.hasValue()) {
+                        final Node v$g$4 = yyResult.semanticValue();
+
+                        yyResult = pPopScope(yyResult.index);
+                        yyError  = yyResult.select(yyError);
+                        if (yyResult.hasValue()) {
 
-                        yyValue = GNode.create("ForStatement", v$g$1, v$g$2, v$g$3, v$g$4);
-                        yyValue.setLocation(location(yyStart));
+                          yyValue = GNode.create("ForStatement", v$g$1, v$g$2, v$g$3, v$g$4);
+                          locate(yyValue, yyStart);
 
-                        return yyResult.createValue(yyValue, yyError);
+                          return yyResult.createValue(yyValue, yyError);
+                        }
                       }
+                    } else {
+                      yyError = yyError.select("')' expected", yyBase);
                     }
-                  } else {
-                    yyError = yyError.select("')' expected", yyBase);
-                  }
-                } // End scope for v$g$3.
-              } else {
-                yyError = yyError.select("';' expected", yyBase);
-              }
-            } // End scope for v$g$2.
+                  } // End scope for v$g$3.
+                } else {
+                  yyError = yyError.select("';' expected", yyBase);
+                }
+              } // End scope for v$g$2.
+            }
+          } else {
+            yyError = yyError.select("'(' expected", yyBase);
           }
-        } else {
-          yyError = yyError.select("'(' expected", yyBase);
         }
       }
     }
 
     // Alternative 11.
+    if (0 != (yyFirst & 0x200)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("switch")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("switch")) {
 
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue("(")) {
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue("(")) {
 
-        yyResult = pJeannieC$CommaExpression(yyResult.index);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$g$1 = yyResult.semanticValue();
+          yyResult = pJeannieC$CommaExpression(yyResult.index);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Node v$g$1 = yyResult.semanticValue();
 
-          yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue(")")) {
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue(")")) {
 
-            yyResult = pJeannieC$Statement(yyResult.index);
-            yyError  = yyResult.select(yyError);
-            if (yyResult.hasValue()) {
-              final Node v$g$2 = yyResult.semanticValue();
+              yyResult = pJeannieC$Statement(yyResult.index);
+              yyError  = yyResult.select(yyError);
+              if (yyResult.hasValue()) {
+                final Node v$g$2 = yyResult.semanticValue();
 
-              yyValue = GNode.create("SwitchStatement", v$g$1, v$g$2);
-              yyValue.setLocation(location(yyStart));
+                yyValue = GNode.create("SwitchStatement", v$g$1, v$g$2);
+                locate(yyValue, yyStart);
 
-              return yyResult.createValue(yyValue, yyError);
+                return yyResult.createValue(yyValue, yyError);
+              }
+            } else {
+              yyError = yyError.select("')' expected", yyBase);
             }
-          } else {
-            yyError = yyError.select("')' expected", yyBase);
           }
+        } else {
+          yyError = yyError.select("'(' expected", yyBase);
         }
-      } else {
-        yyError = yyError.select("'(' expected", yyBase);
       }
     }
 
@@ -14076,7 +16108,7 @@ public final class CommandParser extends ParserBase {
         final Node v$g$2 = yyResult.semanticValue();
 
         yyValue = GNode.create("LabeledStatement", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -14092,101 +16124,109 @@ public final class CommandParser extends ParserBase {
         final Node v$g$3 = yyResult.semanticValue();
 
         yyValue = GNode.create("LabeledStatement", v$g$3, null);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
     }
 
     // Alternative 14.
+    if (0 != (yyFirst & 0x400)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("break")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("break")) {
 
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue(";")) {
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue(";")) {
 
-        yyValue = GNode.create("BreakStatement", false);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("BreakStatement", false);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
-      } else {
-        yyError = yyError.select("';' expected", yyBase);
+          return yyResult.createValue(yyValue, yyError);
+        } else {
+          yyError = yyError.select("';' expected", yyBase);
+        }
       }
     }
 
     // Alternative 15.
+    if (0 != (yyFirst & 0x800)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("continue")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("continue")) {
 
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue(";")) {
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue(";")) {
 
-        yyValue = GNode.create("ContinueStatement", false);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("ContinueStatement", false);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
-      } else {
-        yyError = yyError.select("';' expected", yyBase);
+          return yyResult.createValue(yyValue, yyError);
+        } else {
+          yyError = yyError.select("';' expected", yyBase);
+        }
       }
     }
 
     // Alternative 16.
+    if (0 != (yyFirst & 0x1000)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("return")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("return")) {
 
-      yyOption1  = yyResult.index;
-      yyOpValue1 = null;
+        yyOption1  = yyResult.index;
+        yyOpValue1 = null;
 
-      yyResult = pJeannieC$CommaExpression(yyOption1);
-      yyError  = yyResult.select(yyError, yyOption1);
-      if (yyResult.hasValue()) {
-        final Node v$el$1 = yyResult.semanticValue();
+        yyResult = pJeannieC$CommaExpression(yyOption1);
+        yyError  = yyResult.select(yyError, yyOption1);
+        if (yyResult.hasValue()) {
+          final Node v$el$1 = yyResult.semanticValue();
 
-        yyOption1  = yyResult.index;
-        yyOpValue1 = v$el$1;
-      }
-      { // Start scope for v$g$1.
-        final Node v$g$1 = yyOpValue1;
+          yyOption1  = yyResult.index;
+          yyOpValue1 = v$el$1;
+        }
+        { // Start scope for v$g$1.
+          final Node v$g$1 = yyOpValue1;
 
-        yyBase   = yyOption1;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue(";")) {
+          yyBase   = yyOption1;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue(";")) {
 
-          yyValue = GNode.create("ReturnStatement", v$g$1);
-          yyValue.setLocation(location(yyStart));
+            yyValue = GNode.create("ReturnStatement", v$g$1);
+            locate(yyValue, yyStart);
 
-          return yyResult.createValue(yyValue, yyError);
-        } else {
-          yyError = yyError.select("';' expected", yyBase);
-        }
-      } // End scope for v$g$1.
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("';' expected", yyBase);
+          }
+        } // End scope for v$g$1.
+      }
     }
 
     // Alternative <Direct>.
+    if (0 != (yyFirst & 0x2000)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("goto")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("goto")) {
 
-      yyResult = pJeannieC$PrimaryIdentifier(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$2 = yyResult.semanticValue();
+        yyResult = pJeannieC$PrimaryIdentifier(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$2 = yyResult.semanticValue();
 
-        yyBase   = yyResult.index;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue(";")) {
+          yyBase   = yyResult.index;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue(";")) {
 
-          yyValue = GNode.create("GotoStatement", null, v$g$2);
-          yyValue.setLocation(location(yyStart));
+            yyValue = GNode.create("GotoStatement", null, v$g$2);
+            locate(yyValue, yyStart);
 
-          return yyResult.createValue(yyValue, yyError);
-        } else {
-          yyError = yyError.select("';' expected", yyBase);
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("';' expected", yyBase);
+          }
         }
       }
     }
@@ -14213,7 +16253,7 @@ public final class CommandParser extends ParserBase {
             if (yyResult.hasValue(";")) {
 
               yyValue = GNode.create("GotoStatement", v$g$3, v$g$4);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             } else {
@@ -14227,69 +16267,73 @@ public final class CommandParser extends ParserBase {
     }
 
     // Alternative 19.
+    if ((0 != (yyFirst & 0x4000)) || (yyError.index < yyStart)) {
 
-    yyResult = p$$Shared18(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-
-      yyOption1  = yyResult.index;
-      yyOpValue1 = null;
-
-      yyResult = pJeannieC$TypeQualifier(yyOption1);
-      yyError  = yyResult.select(yyError, yyOption1);
+      yyResult = p$$Shared18(yyStart);
+      yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
-        final Node v$el$1 = yyResult.semanticValue();
 
         yyOption1  = yyResult.index;
-        yyOpValue1 = v$el$1;
-      }
-      { // Start scope for v$g$1.
-        final Node v$g$1 = yyOpValue1;
+        yyOpValue1 = null;
 
-        yyBase   = yyOption1;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue("(")) {
+        yyResult = pJeannieC$TypeQualifier(yyOption1);
+        yyError  = yyResult.select(yyError, yyOption1);
+        if (yyResult.hasValue()) {
+          final Node v$el$1 = yyResult.semanticValue();
 
-          yyResult = pJeannieC$AssemblyArgument(yyResult.index);
-          yyError  = yyResult.select(yyError);
-          if (yyResult.hasValue()) {
-            final Node v$g$2 = yyResult.semanticValue();
+          yyOption1  = yyResult.index;
+          yyOpValue1 = v$el$1;
+        }
+        { // Start scope for v$g$1.
+          final Node v$g$1 = yyOpValue1;
 
-            yyBase   = yyResult.index;
-            yyResult = pSymbol(yyBase);
-            if (yyResult.hasValue(")")) {
+          yyBase   = yyOption1;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue("(")) {
+
+            yyResult = pJeannieC$AssemblyArgument(yyResult.index);
+            yyError  = yyResult.select(yyError);
+            if (yyResult.hasValue()) {
+              final Node v$g$2 = yyResult.semanticValue();
 
               yyBase   = yyResult.index;
               yyResult = pSymbol(yyBase);
-              if (yyResult.hasValue(";")) {
-                final String v$g$3 = ";";
+              if (yyResult.hasValue(")")) {
+
+                yyBase   = yyResult.index;
+                yyResult = pSymbol(yyBase);
+                if (yyResult.hasValue(";")) {
+                  final String v$g$3 = ";";
 
-                yyValue = GNode.create("AssemblyStatement", v$g$1, v$g$2, v$g$3);
-                yyValue.setLocation(location(yyStart));
+                  yyValue = GNode.create("AssemblyStatement", v$g$1, v$g$2, v$g$3);
+                  locate(yyValue, yyStart);
 
-                return yyResult.createValue(yyValue, yyError);
+                  return yyResult.createValue(yyValue, yyError);
+                } else {
+                  yyError = yyError.select("';' expected", yyBase);
+                }
               } else {
-                yyError = yyError.select("';' expected", yyBase);
+                yyError = yyError.select("')' expected", yyBase);
               }
-            } else {
-              yyError = yyError.select("')' expected", yyBase);
             }
+          } else {
+            yyError = yyError.select("'(' expected", yyBase);
           }
-        } else {
-          yyError = yyError.select("'(' expected", yyBase);
-        }
-      } // End scope for v$g$1.
+        } // End scope for v$g$1.
+      }
     }
 
     // Alternative 20.
+    if (0 != (yyFirst & 0x8000)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(";")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(";")) {
 
-      yyValue = GNode.create("EmptyStatement", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("EmptyStatement", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -14314,38 +16358,102 @@ public final class CommandParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
-    // Alternative <Label>.
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x7;
+      break;
 
-    yyResult = pCIdentifier$Identifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final String v$g$1 = yyResult.semanticValue();
+    default:
+      yyFirst = 0;
+    }
 
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue(":")) {
+    // Alternative <Label>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-        yyOption1  = yyResult.index;
-        yyOpValue1 = null;
+      yyResult = pCIdentifier$Identifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final String v$g$1 = yyResult.semanticValue();
 
-        yyResult = pJeannieC$AttributeSpecifierList(yyOption1);
-        yyError  = yyResult.select(yyError, yyOption1);
-        if (yyResult.hasValue()) {
-          final Node v$el$1 = yyResult.semanticValue();
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue(":")) {
 
           yyOption1  = yyResult.index;
-          yyOpValue1 = v$el$1;
-        }
-        { // Start scope for v$g$2.
-          final Node v$g$2 = yyOpValue1;
+          yyOpValue1 = null;
 
-          yyValue = GNode.create("NamedLabel", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          yyResult = pJeannieC$AttributeSpecifierList(yyOption1);
+          yyError  = yyResult.select(yyError, yyOption1);
+          if (yyResult.hasValue()) {
+            final Node v$el$1 = yyResult.semanticValue();
 
-          return new SemanticValue(yyValue, yyOption1, yyError);
-        } // End scope for v$g$2.
-      } else {
-        yyError = yyError.select("':' expected", yyBase);
+            yyOption1  = yyResult.index;
+            yyOpValue1 = v$el$1;
+          }
+          { // Start scope for v$g$2.
+            final Node v$g$2 = yyOpValue1;
+
+            yyValue = GNode.create("NamedLabel", v$g$1, v$g$2);
+            locate(yyValue, yyStart);
+
+            return new SemanticValue(yyValue, yyOption1, yyError);
+          } // End scope for v$g$2.
+        } else {
+          yyError = yyError.select("':' expected", yyBase);
+        }
       }
     }
 
@@ -14375,7 +16483,7 @@ public final class CommandParser extends ParserBase {
               if (yyResult.hasValue(":")) {
 
                 yyValue = GNode.create("CaseLabel", v$g$1, v$g$2);
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return yyResult.createValue(yyValue, yyError);
               } else {
@@ -14390,44 +16498,48 @@ public final class CommandParser extends ParserBase {
     }
 
     // Alternative <Simple>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("case")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("case")) {
 
-      yyResult = pJeannieC$ConditionalExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$3 = yyResult.semanticValue();
+        yyResult = pJeannieC$ConditionalExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$3 = yyResult.semanticValue();
 
-        yyBase   = yyResult.index;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue(":")) {
+          yyBase   = yyResult.index;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue(":")) {
 
-          yyValue = GNode.create("CaseLabel", v$g$3);
-          yyValue.setLocation(location(yyStart));
+            yyValue = GNode.create("CaseLabel", v$g$3);
+            locate(yyValue, yyStart);
 
-          return yyResult.createValue(yyValue, yyError);
-        } else {
-          yyError = yyError.select("':' expected", yyBase);
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("':' expected", yyBase);
+          }
         }
       }
     }
 
     // Alternative 4.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("default")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("default")) {
 
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue(":")) {
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue(":")) {
 
-        yyValue = GNode.create("DefaultLabel", false);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("DefaultLabel", false);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
-      } else {
-        yyError = yyError.select("':' expected", yyBase);
+          return yyResult.createValue(yyValue, yyError);
+        } else {
+          yyError = yyError.select("':' expected", yyBase);
+        }
       }
     }
 
@@ -14449,10 +16561,16 @@ public final class CommandParser extends ParserBase {
     throws IOException {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk5) yyColumn.chunk5 = new Chunk5();
-    if (null == yyColumn.chunk5.fJeannieC$CompoundStatement) 
-      yyColumn.chunk5.fJeannieC$CompoundStatement = pJeannieC$CompoundStatement$1(yyStart);
-    return yyColumn.chunk5.fJeannieC$CompoundStatement;
+    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
+    if (null == yyColumn.chunk4.fJeannieC$CompoundStatement) {
+      yyColumn.chunk4.fJeannieC$CompoundStatement = 
+        pJeannieC$CompoundStatement$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(43, yyColumn.chunk4.fJeannieC$CompoundStatement);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(43, yyColumn.chunk4.fJeannieC$CompoundStatement);
+    }
+    return yyColumn.chunk4.fJeannieC$CompoundStatement;
   }
 
   /** Actually parse xtc.lang.jeannie.JeannieC.CompoundStatement. */
@@ -14463,24 +16581,62 @@ public final class CommandParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '`':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <CBlock>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pJeannieC$CInCBlock(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pJeannieC$CInCBlock(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <JavaBlock>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pJeannieC$JavaInCBlock(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pJeannieC$JavaInCBlock(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -14499,12 +16655,13 @@ public final class CommandParser extends ParserBase {
   private Result pJeannieC$LocalLabelDeclaration(final int yyStart) 
     throws IOException {
 
-    Result       yyResult;
-    int          yyBase;
-    int          yyRepetition1;
-    Pair<String> yyRepValue1;
-    Node         yyValue;
-    ParseError   yyError = ParseError.DUMMY;
+    Result     yyResult;
+    int        yyBase;
+    int        yyRepetition1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
+    Node       yyValue;
+    ParseError yyError = ParseError.DUMMY;
 
     // Alternative 1.
 
@@ -14517,7 +16674,8 @@ public final class CommandParser extends ParserBase {
         final String v$g$1 = yyResult.semanticValue();
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyBase   = yyRepetition1;
@@ -14530,7 +16688,7 @@ public final class CommandParser extends ParserBase {
               final String v$el$1 = yyResult.semanticValue();
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<String>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
           } else {
@@ -14539,19 +16697,21 @@ public final class CommandParser extends ParserBase {
           break;
         }
         { // Start scope for v$g$2.
-          final Pair<String> v$g$2 = yyRepValue1.reverse();
+          final int v$g$2 = yyRepStart1;
+          final int v$g$2$end = yyRepEnd1;
 
           yyBase   = yyRepetition1;
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue(";")) {
 
-            yyValue = GNode.createFromPair("LocalLabelDeclaration", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
+            yyValue = bufferedNode("LocalLabelDeclaration", v$g$1, v$g$2, v$g$2$end);
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
             yyError = yyError.select("';' expected", yyBase);
           }
+          releaseBuffer(v$g$2);
         } // End scope for v$g$2.
       }
     }
@@ -14705,10 +16865,16 @@ public final class CommandParser extends ParserBase {
     throws IOException {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk5) yyColumn.chunk5 = new Chunk5();
-    if (null == yyColumn.chunk5.fJeannieC$CommaExpression) 
-      yyColumn.chunk5.fJeannieC$CommaExpression = pJeannieC$CommaExpression$1(yyStart);
-    return yyColumn.chunk5.fJeannieC$CommaExpression;
+    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
+    if (null == yyColumn.chunk4.fJeannieC$CommaExpression) {
+      yyColumn.chunk4.fJeannieC$CommaExpression = 
+        pJeannieC$CommaExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(44, yyColumn.chunk4.fJeannieC$CommaExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(44, yyColumn.chunk4.fJeannieC$CommaExpression);
+    }
+    return yyColumn.chunk4.fJeannieC$CommaExpression;
   }
 
   /** Actually parse xtc.lang.jeannie.JeannieC.CommaExpression. */
@@ -14809,10 +16975,16 @@ public final class CommandParser extends ParserBase {
     throws IOException {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk5) yyColumn.chunk5 = new Chunk5();
-    if (null == yyColumn.chunk5.fJeannieC$AssignmentExpression) 
-      yyColumn.chunk5.fJeannieC$AssignmentExpression = pJeannieC$AssignmentExpression$1(yyStart);
-    return yyColumn.chunk5.fJeannieC$AssignmentExpression;
+    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
+    if (null == yyColumn.chunk4.fJeannieC$AssignmentExpression) {
+      yyColumn.chunk4.fJeannieC$AssignmentExpression = 
+        pJeannieC$AssignmentExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(45, yyColumn.chunk4.fJeannieC$AssignmentExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(45, yyColumn.chunk4.fJeannieC$AssignmentExpression);
+    }
+    return yyColumn.chunk4.fJeannieC$AssignmentExpression;
   }
 
   /** Actually parse xtc.lang.jeannie.JeannieC.AssignmentExpression. */
@@ -14841,7 +17013,7 @@ public final class CommandParser extends ParserBase {
           final Node v$g$3 = yyResult.semanticValue();
 
           yyValue = GNode.create("AssignmentExpression", v$g$1, v$g$2, v$g$3);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -14876,10 +17048,15 @@ public final class CommandParser extends ParserBase {
    */
   private Result p$$Shared11(final int yyStart) throws IOException {
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk5) yyColumn.chunk5 = new Chunk5();
-    if (null == yyColumn.chunk5.f$$Shared11) 
-      yyColumn.chunk5.f$$Shared11 = p$$Shared11$1(yyStart);
-    return yyColumn.chunk5.f$$Shared11;
+    if (null == yyColumn.chunk10) yyColumn.chunk10 = new Chunk10();
+    if (null == yyColumn.chunk10.f$$Shared11) {
+      yyColumn.chunk10.f$$Shared11 = p$$Shared11$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(46, yyColumn.chunk10.f$$Shared11);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(46, yyColumn.chunk10.f$$Shared11);
+    }
+    return yyColumn.chunk10.f$$Shared11;
   }
 
   /** Actually parse xtc.lang.blink.Command.$$Shared11. */
@@ -14888,103 +17065,159 @@ public final class CommandParser extends ParserBase {
     String     yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '`':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x7ff;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Equal>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("=")) {
-      yyValue = "=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("=")) {
+        yyValue = "=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <PlusEqual>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("+=")) {
-      yyValue = "+=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("+=")) {
+        yyValue = "+=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <MinusEqual>.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("-=")) {
-      yyValue = "-=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("-=")) {
+        yyValue = "-=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <TimesEqual>.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("*=")) {
-      yyValue = "*=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("*=")) {
+        yyValue = "*=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <OverEqual>.
+    if (0 != (yyFirst & 0x10)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("/=")) {
-      yyValue = "/=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("/=")) {
+        yyValue = "/=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <ModuloEqual>.
+    if (0 != (yyFirst & 0x20)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("%=")) {
-      yyValue = "%=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("%=")) {
+        yyValue = "%=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <LeftEqual>.
+    if (0 != (yyFirst & 0x40)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("<<=")) {
-      yyValue = "<<=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("<<=")) {
+        yyValue = "<<=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <RightEqual>.
+    if (0 != (yyFirst & 0x80)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(">>=")) {
-      yyValue = ">>=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(">>=")) {
+        yyValue = ">>=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <AndEqual>.
+    if (0 != (yyFirst & 0x100)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("&=")) {
-      yyValue = "&=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("&=")) {
+        yyValue = "&=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <XorEqual>.
+    if (0 != (yyFirst & 0x200)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("^=")) {
-      yyValue = "^=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("^=")) {
+        yyValue = "^=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <OrEqual>.
+    if (0 != (yyFirst & 0x400)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("|=")) {
-      yyValue = "|=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("|=")) {
+        yyValue = "|=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -15005,10 +17238,16 @@ public final class CommandParser extends ParserBase {
     throws IOException {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk5) yyColumn.chunk5 = new Chunk5();
-    if (null == yyColumn.chunk5.fJeannieC$ConditionalExpression) 
-      yyColumn.chunk5.fJeannieC$ConditionalExpression = pJeannieC$ConditionalExpression$1(yyStart);
-    return yyColumn.chunk5.fJeannieC$ConditionalExpression;
+    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
+    if (null == yyColumn.chunk4.fJeannieC$ConditionalExpression) {
+      yyColumn.chunk4.fJeannieC$ConditionalExpression = 
+        pJeannieC$ConditionalExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(47, yyColumn.chunk4.fJeannieC$ConditionalExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(47, yyColumn.chunk4.fJeannieC$ConditionalExpression);
+    }
+    return yyColumn.chunk4.fJeannieC$ConditionalExpression;
   }
 
   /** Actually parse xtc.lang.jeannie.JeannieC.ConditionalExpression. */
@@ -15046,7 +17285,7 @@ public final class CommandParser extends ParserBase {
               final Node v$g$3 = yyResult.semanticValue();
 
               yyValue = GNode.create("ConditionalExpression", v$g$1, v$g$2, v$g$3);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -15082,7 +17321,7 @@ public final class CommandParser extends ParserBase {
               final Node v$g$6 = yyResult.semanticValue();
 
               yyValue = GNode.create("ConditionalExpression", v$g$4, null, v$g$6);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -15123,10 +17362,16 @@ public final class CommandParser extends ParserBase {
     throws IOException {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk5) yyColumn.chunk5 = new Chunk5();
-    if (null == yyColumn.chunk5.fJeannieC$LogicalOrExpression) 
-      yyColumn.chunk5.fJeannieC$LogicalOrExpression = pJeannieC$LogicalOrExpression$1(yyStart);
-    return yyColumn.chunk5.fJeannieC$LogicalOrExpression;
+    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
+    if (null == yyColumn.chunk4.fJeannieC$LogicalOrExpression) {
+      yyColumn.chunk4.fJeannieC$LogicalOrExpression = 
+        pJeannieC$LogicalOrExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(48, yyColumn.chunk4.fJeannieC$LogicalOrExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(48, yyColumn.chunk4.fJeannieC$LogicalOrExpression);
+    }
+    return yyColumn.chunk4.fJeannieC$LogicalOrExpression;
   }
 
   /** Actually parse xtc.lang.jeannie.JeannieC.LogicalOrExpression. */
@@ -15696,10 +17941,15 @@ public final class CommandParser extends ParserBase {
    */
   private Result p$$Shared12(final int yyStart) throws IOException {
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk5) yyColumn.chunk5 = new Chunk5();
-    if (null == yyColumn.chunk5.f$$Shared12) 
-      yyColumn.chunk5.f$$Shared12 = p$$Shared12$1(yyStart);
-    return yyColumn.chunk5.f$$Shared12;
+    if (null == yyColumn.chunk10) yyColumn.chunk10 = new Chunk10();
+    if (null == yyColumn.chunk10.f$$Shared12) {
+      yyColumn.chunk10.f$$Shared12 = p$$Shared12$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(49, yyColumn.chunk10.f$$Shared12);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(49, yyColumn.chunk10.f$$Shared12);
+    }
+    return yyColumn.chunk10.f$$Shared12;
   }
 
   /** Actually parse xtc.lang.blink.Command.$$Shared12. */
@@ -15708,22 +17958,60 @@ public final class CommandParser extends ParserBase {
     String     yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '`':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Equal>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("==")) {
-      yyValue = "==";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("==")) {
+        yyValue = "==";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <NotEqual>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("!=")) {
-      yyValue = "!=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("!=")) {
+        yyValue = "!=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -15839,10 +18127,15 @@ public final class CommandParser extends ParserBase {
    */
   private Result p$$Shared13(final int yyStart) throws IOException {
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk6) yyColumn.chunk6 = new Chunk6();
-    if (null == yyColumn.chunk6.f$$Shared13) 
-      yyColumn.chunk6.f$$Shared13 = p$$Shared13$1(yyStart);
-    return yyColumn.chunk6.f$$Shared13;
+    if (null == yyColumn.chunk10) yyColumn.chunk10 = new Chunk10();
+    if (null == yyColumn.chunk10.f$$Shared13) {
+      yyColumn.chunk10.f$$Shared13 = p$$Shared13$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(50, yyColumn.chunk10.f$$Shared13);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(50, yyColumn.chunk10.f$$Shared13);
+    }
+    return yyColumn.chunk10.f$$Shared13;
   }
 
   /** Actually parse xtc.lang.blink.Command.$$Shared13. */
@@ -15851,40 +18144,82 @@ public final class CommandParser extends ParserBase {
     String     yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '`':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0xf;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <LessEqual>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("<=")) {
-      yyValue = "<=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("<=")) {
+        yyValue = "<=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Less>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("<")) {
-      yyValue = "<";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("<")) {
+        yyValue = "<";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <GreaterEqual>.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(">=")) {
-      yyValue = ">=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(">=")) {
+        yyValue = ">=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Greater>.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(">")) {
-      yyValue = ">";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(">")) {
+        yyValue = ">";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -16000,10 +18335,15 @@ public final class CommandParser extends ParserBase {
    */
   private Result p$$Shared14(final int yyStart) throws IOException {
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk6) yyColumn.chunk6 = new Chunk6();
-    if (null == yyColumn.chunk6.f$$Shared14) 
-      yyColumn.chunk6.f$$Shared14 = p$$Shared14$1(yyStart);
-    return yyColumn.chunk6.f$$Shared14;
+    if (null == yyColumn.chunk10) yyColumn.chunk10 = new Chunk10();
+    if (null == yyColumn.chunk10.f$$Shared14) {
+      yyColumn.chunk10.f$$Shared14 = p$$Shared14$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(51, yyColumn.chunk10.f$$Shared14);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(51, yyColumn.chunk10.f$$Shared14);
+    }
+    return yyColumn.chunk10.f$$Shared14;
   }
 
   /** Actually parse xtc.lang.blink.Command.$$Shared14. */
@@ -16012,22 +18352,60 @@ public final class CommandParser extends ParserBase {
     String     yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '`':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Left>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("<<")) {
-      yyValue = "<<";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("<<")) {
+        yyValue = "<<";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Right>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(">>")) {
-      yyValue = ">>";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(">>")) {
+        yyValue = ">>";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -16145,10 +18523,15 @@ public final class CommandParser extends ParserBase {
    */
   private Result p$$Shared15(final int yyStart) throws IOException {
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk6) yyColumn.chunk6 = new Chunk6();
-    if (null == yyColumn.chunk6.f$$Shared15) 
-      yyColumn.chunk6.f$$Shared15 = p$$Shared15$1(yyStart);
-    return yyColumn.chunk6.f$$Shared15;
+    if (null == yyColumn.chunk10) yyColumn.chunk10 = new Chunk10();
+    if (null == yyColumn.chunk10.f$$Shared15) {
+      yyColumn.chunk10.f$$Shared15 = p$$Shared15$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(52, yyColumn.chunk10.f$$Shared15);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(52, yyColumn.chunk10.f$$Shared15);
+    }
+    return yyColumn.chunk10.f$$Shared15;
   }
 
   /** Actually parse xtc.lang.blink.Command.$$Shared15. */
@@ -16157,22 +18540,60 @@ public final class CommandParser extends ParserBase {
     String     yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '`':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Plus>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("+")) {
-      yyValue = "+";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("+")) {
+        yyValue = "+";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Minus>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("-")) {
-      yyValue = "-";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("-")) {
+        yyValue = "-";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -16290,10 +18711,15 @@ public final class CommandParser extends ParserBase {
    */
   private Result p$$Shared16(final int yyStart) throws IOException {
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk6) yyColumn.chunk6 = new Chunk6();
-    if (null == yyColumn.chunk6.f$$Shared16) 
-      yyColumn.chunk6.f$$Shared16 = p$$Shared16$1(yyStart);
-    return yyColumn.chunk6.f$$Shared16;
+    if (null == yyColumn.chunk10) yyColumn.chunk10 = new Chunk10();
+    if (null == yyColumn.chunk10.f$$Shared16) {
+      yyColumn.chunk10.f$$Shared16 = p$$Shared16$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(53, yyColumn.chunk10.f$$Shared16);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(53, yyColumn.chunk10.f$$Shared16);
+    }
+    return yyColumn.chunk10.f$$Shared16;
   }
 
   /** Actually parse xtc.lang.blink.Command.$$Shared16. */
@@ -16302,31 +18728,71 @@ public final class CommandParser extends ParserBase {
     String     yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '`':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x7;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Times>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("*")) {
-      yyValue = "*";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("*")) {
+        yyValue = "*";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Over>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("/")) {
-      yyValue = "/";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("/")) {
+        yyValue = "/";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Modulo>.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("%")) {
-      yyValue = "%";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("%")) {
+        yyValue = "%";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -16347,10 +18813,16 @@ public final class CommandParser extends ParserBase {
     throws IOException {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk6) yyColumn.chunk6 = new Chunk6();
-    if (null == yyColumn.chunk6.fJeannieC$CastExpression) 
-      yyColumn.chunk6.fJeannieC$CastExpression = pJeannieC$CastExpression$1(yyStart);
-    return yyColumn.chunk6.fJeannieC$CastExpression;
+    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
+    if (null == yyColumn.chunk4.fJeannieC$CastExpression) {
+      yyColumn.chunk4.fJeannieC$CastExpression = 
+        pJeannieC$CastExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(54, yyColumn.chunk4.fJeannieC$CastExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(54, yyColumn.chunk4.fJeannieC$CastExpression);
+    }
+    return yyColumn.chunk4.fJeannieC$CastExpression;
   }
 
   /** Actually parse xtc.lang.jeannie.JeannieC.CastExpression. */
@@ -16382,7 +18854,7 @@ public final class CommandParser extends ParserBase {
             final Node v$g$2 = yyResult.semanticValue();
 
             yyValue = GNode.create("CastExpression", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           }
@@ -16420,10 +18892,16 @@ public final class CommandParser extends ParserBase {
     throws IOException {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk6) yyColumn.chunk6 = new Chunk6();
-    if (null == yyColumn.chunk6.fJeannieC$UnaryExpression) 
-      yyColumn.chunk6.fJeannieC$UnaryExpression = pJeannieC$UnaryExpression$1(yyStart);
-    return yyColumn.chunk6.fJeannieC$UnaryExpression;
+    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
+    if (null == yyColumn.chunk4.fJeannieC$UnaryExpression) {
+      yyColumn.chunk4.fJeannieC$UnaryExpression = 
+        pJeannieC$UnaryExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(55, yyColumn.chunk4.fJeannieC$UnaryExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(55, yyColumn.chunk4.fJeannieC$UnaryExpression);
+    }
+    return yyColumn.chunk4.fJeannieC$UnaryExpression;
   }
 
   /** Actually parse xtc.lang.jeannie.JeannieC.UnaryExpression. */
@@ -16437,309 +18915,419 @@ public final class CommandParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '`':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x1ff0;
+      break;
+
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0xf;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("sizeof")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("sizeof")) {
 
-      final int yyChoice1 = yyResult.index;
+        final int yyChoice1 = yyResult.index;
 
-      // Nested alternative 1.
+        // Nested alternative 1.
 
-      yyBase   = yyChoice1;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue("(")) {
+        yyBase   = yyChoice1;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue("(")) {
 
-        yyResult = pJeannieC$TypeName(yyResult.index);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$g$1 = yyResult.semanticValue();
+          yyResult = pJeannieC$TypeName(yyResult.index);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Node v$g$1 = yyResult.semanticValue();
 
-          yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue(")")) {
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue(")")) {
 
-            yyPredMatched = false;
+              yyPredMatched = false;
 
-            yyPredResult = pSymbol(yyResult.index);
-            if (yyPredResult.hasValue("{")) {
+              yyPredResult = pSymbol(yyResult.index);
+              if (yyPredResult.hasValue("{")) {
 
-              yyPredMatched = true;
-            }
+                yyPredMatched = true;
+              }
 
-            if (! yyPredMatched) {
+              if (! yyPredMatched) {
 
-              yyValue = GNode.create("SizeofExpression", v$g$1);
-              yyValue.setLocation(location(yyStart));
+                yyValue = GNode.create("SizeofExpression", v$g$1);
+                locate(yyValue, yyStart);
 
-              return yyResult.createValue(yyValue, yyError);
+                return yyResult.createValue(yyValue, yyError);
+              } else {
+                yyError = yyError.select("unary expression expected", yyStart);
+              }
             } else {
-              yyError = yyError.select("unary expression expected", yyStart);
+              yyError = yyError.select("')' expected", yyBase);
             }
-          } else {
-            yyError = yyError.select("')' expected", yyBase);
           }
+        } else {
+          yyError = yyError.select("'(' expected", yyBase);
         }
-      } else {
-        yyError = yyError.select("'(' expected", yyBase);
-      }
 
-      // Nested alternative 2.
+        // Nested alternative 2.
 
-      yyResult = pJeannieC$UnaryExpression(yyChoice1);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$2 = yyResult.semanticValue();
+        yyResult = pJeannieC$UnaryExpression(yyChoice1);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("SizeofExpression", v$g$2);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("SizeofExpression", v$g$2);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 2.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = p$$Shared17(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
+      yyResult = p$$Shared17(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
 
-      final int yyChoice1 = yyResult.index;
+        final int yyChoice1 = yyResult.index;
 
-      // Nested alternative 1.
+        // Nested alternative 1.
 
-      yyBase   = yyChoice1;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue("(")) {
+        yyBase   = yyChoice1;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue("(")) {
 
-        yyResult = pJeannieC$TypeName(yyResult.index);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$g$1 = yyResult.semanticValue();
+          yyResult = pJeannieC$TypeName(yyResult.index);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Node v$g$1 = yyResult.semanticValue();
 
-          yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue(")")) {
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue(")")) {
 
-            yyPredMatched = false;
+              yyPredMatched = false;
 
-            yyPredResult = pSymbol(yyResult.index);
-            if (yyPredResult.hasValue("{")) {
+              yyPredResult = pSymbol(yyResult.index);
+              if (yyPredResult.hasValue("{")) {
 
-              yyPredMatched = true;
-            }
+                yyPredMatched = true;
+              }
 
-            if (! yyPredMatched) {
+              if (! yyPredMatched) {
 
-              yyValue = GNode.create("AlignofExpression", v$g$1);
-              yyValue.setLocation(location(yyStart));
+                yyValue = GNode.create("AlignofExpression", v$g$1);
+                locate(yyValue, yyStart);
 
-              return yyResult.createValue(yyValue, yyError);
+                return yyResult.createValue(yyValue, yyError);
+              } else {
+                yyError = yyError.select("unary expression expected", yyStart);
+              }
             } else {
-              yyError = yyError.select("unary expression expected", yyStart);
+              yyError = yyError.select("')' expected", yyBase);
             }
-          } else {
-            yyError = yyError.select("')' expected", yyBase);
           }
+        } else {
+          yyError = yyError.select("'(' expected", yyBase);
         }
-      } else {
-        yyError = yyError.select("'(' expected", yyBase);
-      }
 
-      // Nested alternative 2.
+        // Nested alternative 2.
 
-      yyResult = pJeannieC$UnaryExpression(yyChoice1);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$2 = yyResult.semanticValue();
+        yyResult = pJeannieC$UnaryExpression(yyChoice1);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("AlignofExpression", v$g$2);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("AlignofExpression", v$g$2);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__builtin_offsetof")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__builtin_offsetof")) {
 
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue("(")) {
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue("(")) {
 
-        yyResult = pJeannieC$TypeName(yyResult.index);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$g$1 = yyResult.semanticValue();
+          yyResult = pJeannieC$TypeName(yyResult.index);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Node v$g$1 = yyResult.semanticValue();
 
-          yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue(",")) {
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue(",")) {
 
-            yyResult = pJeannieC$PostfixExpression(yyResult.index);
-            yyError  = yyResult.select(yyError);
-            if (yyResult.hasValue()) {
-              final Node v$g$2 = yyResult.semanticValue();
+              yyResult = pJeannieC$PostfixExpression(yyResult.index);
+              yyError  = yyResult.select(yyError);
+              if (yyResult.hasValue()) {
+                final Node v$g$2 = yyResult.semanticValue();
 
-              yyBase   = yyResult.index;
-              yyResult = pSymbol(yyBase);
-              if (yyResult.hasValue(")")) {
+                yyBase   = yyResult.index;
+                yyResult = pSymbol(yyBase);
+                if (yyResult.hasValue(")")) {
 
-                yyValue = GNode.create("OffsetofExpression", v$g$1, v$g$2);
-                yyValue.setLocation(location(yyStart));
+                  yyValue = GNode.create("OffsetofExpression", v$g$1, v$g$2);
+                  locate(yyValue, yyStart);
 
-                return yyResult.createValue(yyValue, yyError);
-              } else {
-                yyError = yyError.select("')' expected", yyBase);
+                  return yyResult.createValue(yyValue, yyError);
+                } else {
+                  yyError = yyError.select("')' expected", yyBase);
+                }
               }
+            } else {
+              yyError = yyError.select("',' expected", yyBase);
             }
-          } else {
-            yyError = yyError.select("',' expected", yyBase);
           }
+        } else {
+          yyError = yyError.select("'(' expected", yyBase);
         }
-      } else {
-        yyError = yyError.select("'(' expected", yyBase);
       }
     }
 
     // Alternative 4.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__builtin_types_compatible_p")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__builtin_types_compatible_p")) {
 
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue("(")) {
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue("(")) {
 
-        yyResult = pJeannieC$TypeName(yyResult.index);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$g$1 = yyResult.semanticValue();
+          yyResult = pJeannieC$TypeName(yyResult.index);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Node v$g$1 = yyResult.semanticValue();
 
-          yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue(",")) {
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue(",")) {
 
-            yyResult = pJeannieC$TypeName(yyResult.index);
-            yyError  = yyResult.select(yyError);
-            if (yyResult.hasValue()) {
-              final Node v$g$2 = yyResult.semanticValue();
+              yyResult = pJeannieC$TypeName(yyResult.index);
+              yyError  = yyResult.select(yyError);
+              if (yyResult.hasValue()) {
+                final Node v$g$2 = yyResult.semanticValue();
 
-              yyBase   = yyResult.index;
-              yyResult = pSymbol(yyBase);
-              if (yyResult.hasValue(")")) {
+                yyBase   = yyResult.index;
+                yyResult = pSymbol(yyBase);
+                if (yyResult.hasValue(")")) {
 
-                yyValue = GNode.create("TypeCompatibilityExpression", v$g$1, v$g$2);
-                yyValue.setLocation(location(yyStart));
+                  yyValue = GNode.create("TypeCompatibilityExpression", v$g$1, v$g$2);
+                  locate(yyValue, yyStart);
 
-                return yyResult.createValue(yyValue, yyError);
-              } else {
-                yyError = yyError.select("')' expected", yyBase);
+                  return yyResult.createValue(yyValue, yyError);
+                } else {
+                  yyError = yyError.select("')' expected", yyBase);
+                }
               }
+            } else {
+              yyError = yyError.select("',' expected", yyBase);
             }
-          } else {
-            yyError = yyError.select("',' expected", yyBase);
           }
+        } else {
+          yyError = yyError.select("'(' expected", yyBase);
         }
-      } else {
-        yyError = yyError.select("'(' expected", yyBase);
       }
     }
 
     // Alternative 5.
+    if (0 != (yyFirst & 0x10)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("-")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("-")) {
 
-      yyResult = pJeannieC$CastExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
+        yyResult = pJeannieC$CastExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryMinusExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("UnaryMinusExpression", v$g$1);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 6.
+    if (0 != (yyFirst & 0x20)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("+")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("+")) {
 
-      yyResult = pJeannieC$CastExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
+        yyResult = pJeannieC$CastExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryPlusExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("UnaryPlusExpression", v$g$1);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative <JavaInCExpression>.
+    if ((0 != (yyFirst & 0x40)) || (yyError.index < yyStart)) {
 
-    yyResult = pJeannieC$JavaInCExpression(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pJeannieC$JavaInCExpression(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 8.
+    if (0 != (yyFirst & 0x80)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("!")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("!")) {
 
-      yyResult = pJeannieC$CastExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
+        yyResult = pJeannieC$CastExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("LogicalNegationExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("LogicalNegationExpression", v$g$1);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 9.
+    if (0 != (yyFirst & 0x100)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("~")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("~")) {
 
-      yyResult = pJeannieC$CastExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
+        yyResult = pJeannieC$CastExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("BitwiseNegationExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("BitwiseNegationExpression", v$g$1);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 10.
+    if (0 != (yyFirst & 0x200)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("&")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("&")) {
 
-      yyResult = pJeannieC$CastExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
+        yyResult = pJeannieC$CastExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("AddressExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("AddressExpression", v$g$1);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
@@ -16756,7 +19344,7 @@ public final class CommandParser extends ParserBase {
           final String v$g$1 = yyResult.semanticValue();
 
           yyValue = GNode.create("LabelAddressExpression", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -16764,53 +19352,59 @@ public final class CommandParser extends ParserBase {
     }
 
     // Alternative 12.
+    if (0 != (yyFirst & 0x400)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("*")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("*")) {
 
-      yyResult = pJeannieC$CastExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
+        yyResult = pJeannieC$CastExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("IndirectionExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("IndirectionExpression", v$g$1);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 13.
+    if (0 != (yyFirst & 0x800)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("++")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("++")) {
 
-      yyResult = pJeannieC$UnaryExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
+        yyResult = pJeannieC$UnaryExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("PreincrementExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("PreincrementExpression", v$g$1);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 14.
+    if (0 != (yyFirst & 0x1000)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("--")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("--")) {
 
-      yyResult = pJeannieC$UnaryExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
+        yyResult = pJeannieC$UnaryExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("PredecrementExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("PredecrementExpression", v$g$1);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
@@ -16827,7 +19421,7 @@ public final class CommandParser extends ParserBase {
           final Node v$g$1 = yyResult.semanticValue();
 
           yyValue = GNode.create("ExtensionExpression", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -16863,10 +19457,15 @@ public final class CommandParser extends ParserBase {
    */
   private Result p$$Shared17(final int yyStart) throws IOException {
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk6) yyColumn.chunk6 = new Chunk6();
-    if (null == yyColumn.chunk6.f$$Shared17) 
-      yyColumn.chunk6.f$$Shared17 = p$$Shared17$1(yyStart);
-    return yyColumn.chunk6.f$$Shared17;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.f$$Shared17) {
+      yyColumn.chunk3.f$$Shared17 = p$$Shared17$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(56, yyColumn.chunk3.f$$Shared17);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(56, yyColumn.chunk3.f$$Shared17);
+    }
+    return yyColumn.chunk3.f$$Shared17;
   }
 
   /** Actually parse xtc.lang.blink.Command.$$Shared17. */
@@ -16875,24 +19474,90 @@ public final class CommandParser extends ParserBase {
     Void       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__alignof__")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__alignof__")) {
 
-      yyValue = null;
+        yyValue = null;
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__alignof")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__alignof")) {
 
-      yyValue = null;
+        yyValue = null;
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -17003,129 +19668,175 @@ public final class CommandParser extends ParserBase {
     Action<Node> yyValue;
     ParseError   yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '`':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3f;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("[")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("[")) {
 
-      yyResult = pJeannieC$CommaExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$2 = yyResult.semanticValue();
+        yyResult = pJeannieC$CommaExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$2 = yyResult.semanticValue();
 
-        yyBase   = yyResult.index;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue("]")) {
+          yyBase   = yyResult.index;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue("]")) {
 
-          yyValue = new Action<Node>() {
-            public Node run(Node v$1) {
-              return GNode.create("SubscriptExpression", v$1, v$g$2);
-            }};
+            yyValue = new Action<Node>() {
+              public Node run(Node v$1) {
+                return GNode.create("SubscriptExpression", v$1, v$g$2);
+              }};
 
-          return yyResult.createValue(yyValue, yyError);
-        } else {
-          yyError = yyError.select("']' expected", yyBase);
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("']' expected", yyBase);
+          }
         }
       }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(".")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(".")) {
 
-      yyResult = pCIdentifier$Identifier(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final String v$g$3 = yyResult.semanticValue();
+        yyResult = pCIdentifier$Identifier(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final String v$g$3 = yyResult.semanticValue();
 
-        yyValue = new Action<Node>() {
-          public Node run(Node v$1) {
-            return GNode.create("DirectComponentSelection", v$1, v$g$3);
-          }};
+          yyValue = new Action<Node>() {
+            public Node run(Node v$1) {
+              return GNode.create("DirectComponentSelection", v$1, v$g$3);
+            }};
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("->")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("->")) {
 
-      yyResult = pCIdentifier$Identifier(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final String v$g$4 = yyResult.semanticValue();
+        yyResult = pCIdentifier$Identifier(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final String v$g$4 = yyResult.semanticValue();
 
-        yyValue = new Action<Node>() {
-          public Node run(Node v$1) {
-            return GNode.create("IndirectComponentSelection", v$1, v$g$4);
-          }};
+          yyValue = new Action<Node>() {
+            public Node run(Node v$1) {
+              return GNode.create("IndirectComponentSelection", v$1, v$g$4);
+            }};
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 4.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("(")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("(")) {
 
-      yyOption1  = yyResult.index;
-      yyOpValue1 = null;
+        yyOption1  = yyResult.index;
+        yyOpValue1 = null;
 
-      yyResult = pJeannieC$ExpressionList(yyOption1);
-      yyError  = yyResult.select(yyError, yyOption1);
-      if (yyResult.hasValue()) {
-        final Node v$el$1 = yyResult.semanticValue();
+        yyResult = pJeannieC$ExpressionList(yyOption1);
+        yyError  = yyResult.select(yyError, yyOption1);
+        if (yyResult.hasValue()) {
+          final Node v$el$1 = yyResult.semanticValue();
 
-        yyOption1  = yyResult.index;
-        yyOpValue1 = v$el$1;
-      }
-      { // Start scope for v$g$5.
-        final Node v$g$5 = yyOpValue1;
+          yyOption1  = yyResult.index;
+          yyOpValue1 = v$el$1;
+        }
+        { // Start scope for v$g$5.
+          final Node v$g$5 = yyOpValue1;
 
-        yyBase   = yyOption1;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue(")")) {
+          yyBase   = yyOption1;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue(")")) {
 
-          yyValue = new Action<Node>() {
-            public Node run(Node v$1) {
-              return GNode.create("FunctionCall", v$1, v$g$5);
-            }};
+            yyValue = new Action<Node>() {
+              public Node run(Node v$1) {
+                return GNode.create("FunctionCall", v$1, v$g$5);
+              }};
 
-          return yyResult.createValue(yyValue, yyError);
-        } else {
-          yyError = yyError.select("')' expected", yyBase);
-        }
-      } // End scope for v$g$5.
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("')' expected", yyBase);
+          }
+        } // End scope for v$g$5.
+      }
     }
 
     // Alternative 5.
+    if (0 != (yyFirst & 0x10)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("++")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("++")) {
 
-      yyValue = new Action<Node>() {
-        public Node run(Node v$1) {
-          return GNode.create("PostincrementExpression", v$1);
-        }};
+        yyValue = new Action<Node>() {
+          public Node run(Node v$1) {
+            return GNode.create("PostincrementExpression", v$1);
+          }};
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 6.
+    if (0 != (yyFirst & 0x20)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("--")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("--")) {
 
-      yyValue = new Action<Node>() {
-        public Node run(Node v$1) {
-          return GNode.create("PostdecrementExpression", v$1);
-        }};
+        yyValue = new Action<Node>() {
+          public Node run(Node v$1) {
+            return GNode.create("PostdecrementExpression", v$1);
+          }};
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -17146,10 +19857,16 @@ public final class CommandParser extends ParserBase {
     throws IOException {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk6) yyColumn.chunk6 = new Chunk6();
-    if (null == yyColumn.chunk6.fJeannieC$ExpressionList) 
-      yyColumn.chunk6.fJeannieC$ExpressionList = pJeannieC$ExpressionList$1(yyStart);
-    return yyColumn.chunk6.fJeannieC$ExpressionList;
+    if (null == yyColumn.chunk10) yyColumn.chunk10 = new Chunk10();
+    if (null == yyColumn.chunk10.fJeannieC$ExpressionList) {
+      yyColumn.chunk10.fJeannieC$ExpressionList = 
+        pJeannieC$ExpressionList$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(57, yyColumn.chunk10.fJeannieC$ExpressionList);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(57, yyColumn.chunk10.fJeannieC$ExpressionList);
+    }
+    return yyColumn.chunk10.fJeannieC$ExpressionList;
   }
 
   /** Actually parse xtc.lang.jeannie.JeannieC.ExpressionList. */
@@ -17173,7 +19890,7 @@ public final class CommandParser extends ParserBase {
         final Pair<Node> v$g$2 = yyResult.semanticValue();
 
         yyValue = GNode.createFromPair("ExpressionList", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -17196,10 +19913,16 @@ public final class CommandParser extends ParserBase {
     throws IOException {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk6) yyColumn.chunk6 = new Chunk6();
-    if (null == yyColumn.chunk6.fJeannieC$ExpressionList$$Star1) 
-      yyColumn.chunk6.fJeannieC$ExpressionList$$Star1 = pJeannieC$ExpressionList$$Star1$1(yyStart);
-    return yyColumn.chunk6.fJeannieC$ExpressionList$$Star1;
+    if (null == yyColumn.chunk10) yyColumn.chunk10 = new Chunk10();
+    if (null == yyColumn.chunk10.fJeannieC$ExpressionList$$Star1) {
+      yyColumn.chunk10.fJeannieC$ExpressionList$$Star1 = 
+        pJeannieC$ExpressionList$$Star1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(58, yyColumn.chunk10.fJeannieC$ExpressionList$$Star1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(58, yyColumn.chunk10.fJeannieC$ExpressionList$$Star1);
+    }
+    return yyColumn.chunk10.fJeannieC$ExpressionList$$Star1;
   }
 
   /** Actually parse JeannieC.ExpressionList$$Star1. */
@@ -17296,7 +20019,7 @@ public final class CommandParser extends ParserBase {
               if (yyResult.hasValue("}")) {
 
                 yyValue = GNode.create("CompoundLiteral", v$g$1, v$g$2);
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return yyResult.createValue(yyValue, yyError);
               } else {
@@ -17334,27 +20057,142 @@ public final class CommandParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '`':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x8;
+      break;
+
+    case '\"':
+    case '\'':
+    case '0':
+    case '1':
+    case '2':
+    case '3':
+    case '4':
+    case '5':
+    case '6':
+    case '7':
+    case '8':
+    case '9':
+      yyFirst = 0x1;
+      break;
+
+    case '.':
+      yyFirst = 0x9;
+      break;
+
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x6;
+      break;
+
+    case 'L':
+      yyFirst = 0x7;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Constant>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pConstant(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pConstant(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 2.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pCIdentifier$Identifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final String v$g$1 = yyResult.semanticValue();
+      yyResult = pCIdentifier$Identifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final String v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("PrimaryIdentifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("PrimaryIdentifier", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 3.
@@ -17374,7 +20212,7 @@ public final class CommandParser extends ParserBase {
           if (yyResult.hasValue(")")) {
 
             yyValue = GNode.create("StatementAsExpression", v$g$1);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
@@ -17385,66 +20223,70 @@ public final class CommandParser extends ParserBase {
     }
 
     // Alternative 4.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__builtin_va_arg")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__builtin_va_arg")) {
 
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue("(")) {
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue("(")) {
 
-        yyResult = pJeannieC$AssignmentExpression(yyResult.index);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$g$1 = yyResult.semanticValue();
+          yyResult = pJeannieC$AssignmentExpression(yyResult.index);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Node v$g$1 = yyResult.semanticValue();
 
-          yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue(",")) {
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue(",")) {
 
-            yyResult = pJeannieC$TypeName(yyResult.index);
-            yyError  = yyResult.select(yyError);
-            if (yyResult.hasValue()) {
-              final Node v$g$2 = yyResult.semanticValue();
+              yyResult = pJeannieC$TypeName(yyResult.index);
+              yyError  = yyResult.select(yyError);
+              if (yyResult.hasValue()) {
+                final Node v$g$2 = yyResult.semanticValue();
 
-              yyBase   = yyResult.index;
-              yyResult = pSymbol(yyBase);
-              if (yyResult.hasValue(")")) {
+                yyBase   = yyResult.index;
+                yyResult = pSymbol(yyBase);
+                if (yyResult.hasValue(")")) {
 
-                yyValue = GNode.create("VariableArgumentAccess", v$g$1, v$g$2);
-                yyValue.setLocation(location(yyStart));
+                  yyValue = GNode.create("VariableArgumentAccess", v$g$1, v$g$2);
+                  locate(yyValue, yyStart);
 
-                return yyResult.createValue(yyValue, yyError);
-              } else {
-                yyError = yyError.select("')' expected", yyBase);
+                  return yyResult.createValue(yyValue, yyError);
+                } else {
+                  yyError = yyError.select("')' expected", yyBase);
+                }
               }
+            } else {
+              yyError = yyError.select("',' expected", yyBase);
             }
-          } else {
-            yyError = yyError.select("',' expected", yyBase);
           }
+        } else {
+          yyError = yyError.select("'(' expected", yyBase);
         }
-      } else {
-        yyError = yyError.select("'(' expected", yyBase);
       }
     }
 
     // Alternative <ParenthesizedExpression>.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("(")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("(")) {
 
-      yyResult = pJeannieC$CommaExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        yyValue = yyResult.semanticValue();
+        yyResult = pJeannieC$CommaExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          yyValue = yyResult.semanticValue();
 
-        yyBase   = yyResult.index;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue(")")) {
+          yyBase   = yyResult.index;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue(")")) {
 
-          return yyResult.createValue(yyValue, yyError);
-        } else {
-          yyError = yyError.select("')' expected", yyBase);
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("')' expected", yyBase);
+          }
         }
       }
     }
@@ -17478,7 +20320,7 @@ public final class CommandParser extends ParserBase {
       final String v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.create("PrimaryIdentifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -17524,7 +20366,7 @@ public final class CommandParser extends ParserBase {
           if (yyResult.hasValue(")")) {
 
             yyValue = GNode.create("SimpleAssemblyExpression", v$g$1);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
@@ -17624,7 +20466,7 @@ public final class CommandParser extends ParserBase {
                   final Node v$g$4 = yyResult.semanticValue();
 
                   yyValue = GNode.create("AssemblyArgument", v$g$1, v$g$2, v$g$3, v$g$4);
-                  yyValue.setLocation(location(yyStart));
+                  locate(yyValue, yyStart);
 
                   return yyResult.createValue(yyValue, yyError);
                 }
@@ -17635,7 +20477,7 @@ public final class CommandParser extends ParserBase {
               // Nested alternative 2.
 
               yyValue = GNode.create("AssemblyArgument", v$g$1, v$g$2, v$g$3);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return new SemanticValue(yyValue, yyChoice3, yyError);
             } // End scope for v$g$3.
@@ -17646,7 +20488,7 @@ public final class CommandParser extends ParserBase {
           // Nested alternative 2.
 
           yyValue = GNode.create("AssemblyArgument", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyChoice2, yyError);
         } // End scope for v$g$2.
@@ -17657,7 +20499,7 @@ public final class CommandParser extends ParserBase {
       // Nested alternative 2.
 
       yyValue = GNode.create("AssemblyArgument", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return new SemanticValue(yyValue, yyChoice1, yyError);
     }
@@ -17679,10 +20521,16 @@ public final class CommandParser extends ParserBase {
     throws IOException {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk6) yyColumn.chunk6 = new Chunk6();
-    if (null == yyColumn.chunk6.fJeannieC$AssemblyOperands) 
-      yyColumn.chunk6.fJeannieC$AssemblyOperands = pJeannieC$AssemblyOperands$1(yyStart);
-    return yyColumn.chunk6.fJeannieC$AssemblyOperands;
+    if (null == yyColumn.chunk8) yyColumn.chunk8 = new Chunk8();
+    if (null == yyColumn.chunk8.fJeannieC$AssemblyOperands) {
+      yyColumn.chunk8.fJeannieC$AssemblyOperands = 
+        pJeannieC$AssemblyOperands$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(59, yyColumn.chunk8.fJeannieC$AssemblyOperands);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(59, yyColumn.chunk8.fJeannieC$AssemblyOperands);
+    }
+    return yyColumn.chunk8.fJeannieC$AssemblyOperands;
   }
 
   /** Actually parse xtc.lang.jeannie.JeannieC.AssemblyOperands. */
@@ -17706,7 +20554,7 @@ public final class CommandParser extends ParserBase {
         final Pair<Node> v$g$2 = yyResult.semanticValue();
 
         yyValue = GNode.createFromPair("AssemblyOperands", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -17729,10 +20577,16 @@ public final class CommandParser extends ParserBase {
     throws IOException {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk7) yyColumn.chunk7 = new Chunk7();
-    if (null == yyColumn.chunk7.fJeannieC$AssemblyOperands$$Star1) 
-      yyColumn.chunk7.fJeannieC$AssemblyOperands$$Star1 = pJeannieC$AssemblyOperands$$Star1$1(yyStart);
-    return yyColumn.chunk7.fJeannieC$AssemblyOperands$$Star1;
+    if (null == yyColumn.chunk10) yyColumn.chunk10 = new Chunk10();
+    if (null == yyColumn.chunk10.fJeannieC$AssemblyOperands$$Star1) {
+      yyColumn.chunk10.fJeannieC$AssemblyOperands$$Star1 = 
+        pJeannieC$AssemblyOperands$$Star1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(60, yyColumn.chunk10.fJeannieC$AssemblyOperands$$Star1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(60, yyColumn.chunk10.fJeannieC$AssemblyOperands$$Star1);
+    }
+    return yyColumn.chunk10.fJeannieC$AssemblyOperands$$Star1;
   }
 
   /** Actually parse JeannieC.AssemblyOperands$$Star1. */
@@ -17785,10 +20639,16 @@ public final class CommandParser extends ParserBase {
     throws IOException {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk7) yyColumn.chunk7 = new Chunk7();
-    if (null == yyColumn.chunk7.fJeannieC$AssemblyOperand) 
-      yyColumn.chunk7.fJeannieC$AssemblyOperand = pJeannieC$AssemblyOperand$1(yyStart);
-    return yyColumn.chunk7.fJeannieC$AssemblyOperand;
+    if (null == yyColumn.chunk8) yyColumn.chunk8 = new Chunk8();
+    if (null == yyColumn.chunk8.fJeannieC$AssemblyOperand) {
+      yyColumn.chunk8.fJeannieC$AssemblyOperand = 
+        pJeannieC$AssemblyOperand$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(61, yyColumn.chunk8.fJeannieC$AssemblyOperand);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(61, yyColumn.chunk8.fJeannieC$AssemblyOperand);
+    }
+    return yyColumn.chunk8.fJeannieC$AssemblyOperand;
   }
 
   /** Actually parse xtc.lang.jeannie.JeannieC.AssemblyOperand. */
@@ -17851,7 +20711,7 @@ public final class CommandParser extends ParserBase {
             if (yyResult.hasValue(")")) {
 
               yyValue = GNode.create("AssemblyOperand", v$g$1, v$g$2, v$g$3);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             } else {
@@ -17883,7 +20743,8 @@ public final class CommandParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -17895,7 +20756,8 @@ public final class CommandParser extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyBase   = yyRepetition1;
@@ -17908,7 +20770,7 @@ public final class CommandParser extends ParserBase {
             final Node v$el$1 = yyResult.semanticValue();
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
         } else {
@@ -17917,10 +20779,11 @@ public final class CommandParser extends ParserBase {
         break;
       }
       { // Start scope for v$g$2.
-        final Pair<Node> v$g$2 = yyRepValue1.reverse();
+        final int v$g$2 = yyRepStart1;
+        final int v$g$2$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("AssemblyClobbers", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("AssemblyClobbers", v$g$1, v$g$2, v$g$2$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$2.
@@ -17944,10 +20807,15 @@ public final class CommandParser extends ParserBase {
    */
   private Result p$$Shared18(final int yyStart) throws IOException {
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk7) yyColumn.chunk7 = new Chunk7();
-    if (null == yyColumn.chunk7.f$$Shared18) 
-      yyColumn.chunk7.f$$Shared18 = p$$Shared18$1(yyStart);
-    return yyColumn.chunk7.f$$Shared18;
+    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
+    if (null == yyColumn.chunk4.f$$Shared18) {
+      yyColumn.chunk4.f$$Shared18 = p$$Shared18$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(62, yyColumn.chunk4.f$$Shared18);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(62, yyColumn.chunk4.f$$Shared18);
+    }
+    return yyColumn.chunk4.f$$Shared18;
   }
 
   /** Actually parse xtc.lang.blink.Command.$$Shared18. */
@@ -17956,34 +20824,102 @@ public final class CommandParser extends ParserBase {
     Void       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x7;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("asm")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("asm")) {
 
-      yyValue = null;
+        yyValue = null;
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__asm")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__asm")) {
 
-      yyValue = null;
+        yyValue = null;
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__asm__")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__asm__")) {
 
-      yyValue = null;
+        yyValue = null;
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -18040,7 +20976,7 @@ public final class CommandParser extends ParserBase {
                 if (yyResult.hasValue()) {
 
                   yyValue = GNode.create("WithStatement", v$g$1, v$g$2);
-                  yyValue.setLocation(location(yyStart));
+                  locate(yyValue, yyStart);
 
                   return yyResult.createValue(yyValue, yyError);
                 }
@@ -18142,7 +21078,7 @@ public final class CommandParser extends ParserBase {
         if (yyState.isValid(l)) {
 
           yyValue = GNode.create("Declaration", null, v$g$2, l);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyOption1, yyError);
         }
@@ -18186,7 +21122,7 @@ public final class CommandParser extends ParserBase {
         if (yyResult.hasValue(";")) {
 
           yyValue = GNode.create("CancelStatement", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
@@ -18232,7 +21168,7 @@ public final class CommandParser extends ParserBase {
         if (yyResult.hasValue(";")) {
 
           yyValue = GNode.create("CommitStatement", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
@@ -18259,10 +21195,15 @@ public final class CommandParser extends ParserBase {
    */
   private Result p$$Shared25(final int yyStart) throws IOException {
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk7) yyColumn.chunk7 = new Chunk7();
-    if (null == yyColumn.chunk7.f$$Shared25) 
-      yyColumn.chunk7.f$$Shared25 = p$$Shared25$1(yyStart);
-    return yyColumn.chunk7.f$$Shared25;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.f$$Shared25) {
+      yyColumn.chunk1.f$$Shared25 = p$$Shared25$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(63, yyColumn.chunk1.f$$Shared25);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(63, yyColumn.chunk1.f$$Shared25);
+    }
+    return yyColumn.chunk1.f$$Shared25;
   }
 
   /** Actually parse xtc.lang.blink.Command.$$Shared25. */
@@ -18351,10 +21292,15 @@ public final class CommandParser extends ParserBase {
    */
   private Result pJeannieC$CInCBlock(final int yyStart) throws IOException {
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk7) yyColumn.chunk7 = new Chunk7();
-    if (null == yyColumn.chunk7.fJeannieC$CInCBlock) 
-      yyColumn.chunk7.fJeannieC$CInCBlock = pJeannieC$CInCBlock$1(yyStart);
-    return yyColumn.chunk7.fJeannieC$CInCBlock;
+    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
+    if (null == yyColumn.chunk4.fJeannieC$CInCBlock) {
+      yyColumn.chunk4.fJeannieC$CInCBlock = pJeannieC$CInCBlock$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(64, yyColumn.chunk4.fJeannieC$CInCBlock);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(64, yyColumn.chunk4.fJeannieC$CInCBlock);
+    }
+    return yyColumn.chunk4.fJeannieC$CInCBlock;
   }
 
   /** Actually parse xtc.lang.jeannie.JeannieC.CInCBlock. */
@@ -18405,7 +21351,7 @@ public final class CommandParser extends ParserBase {
 
                     yyValue = GNode.create("CInCBlock", v$g$1.size() + v$g$2.size() + 1).
                       addAll(v$g$1).addAll(v$g$2).add(v$g$3);
-                    yyValue.setLocation(location(yyStart));
+                    locate(yyValue, yyStart);
 
                     return yyResult.createValue(yyValue, yyError);
                   }
@@ -18437,10 +21383,16 @@ public final class CommandParser extends ParserBase {
     throws IOException {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk7) yyColumn.chunk7 = new Chunk7();
-    if (null == yyColumn.chunk7.fJeannieC$CInCBlock$$Star1) 
-      yyColumn.chunk7.fJeannieC$CInCBlock$$Star1 = pJeannieC$CInCBlock$$Star1$1(yyStart);
-    return yyColumn.chunk7.fJeannieC$CInCBlock$$Star1;
+    if (null == yyColumn.chunk11) yyColumn.chunk11 = new Chunk11();
+    if (null == yyColumn.chunk11.fJeannieC$CInCBlock$$Star1) {
+      yyColumn.chunk11.fJeannieC$CInCBlock$$Star1 = 
+        pJeannieC$CInCBlock$$Star1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(65, yyColumn.chunk11.fJeannieC$CInCBlock$$Star1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(65, yyColumn.chunk11.fJeannieC$CInCBlock$$Star1);
+    }
+    return yyColumn.chunk11.fJeannieC$CInCBlock$$Star1;
   }
 
   /** Actually parse JeannieC.CInCBlock$$Star1. */
@@ -18489,10 +21441,16 @@ public final class CommandParser extends ParserBase {
     throws IOException {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk7) yyColumn.chunk7 = new Chunk7();
-    if (null == yyColumn.chunk7.fJeannieC$CInCBlock$$Star2) 
-      yyColumn.chunk7.fJeannieC$CInCBlock$$Star2 = pJeannieC$CInCBlock$$Star2$1(yyStart);
-    return yyColumn.chunk7.fJeannieC$CInCBlock$$Star2;
+    if (null == yyColumn.chunk11) yyColumn.chunk11 = new Chunk11();
+    if (null == yyColumn.chunk11.fJeannieC$CInCBlock$$Star2) {
+      yyColumn.chunk11.fJeannieC$CInCBlock$$Star2 = 
+        pJeannieC$CInCBlock$$Star2$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(66, yyColumn.chunk11.fJeannieC$CInCBlock$$Star2);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(66, yyColumn.chunk11.fJeannieC$CInCBlock$$Star2);
+    }
+    return yyColumn.chunk11.fJeannieC$CInCBlock$$Star2;
   }
 
   /** Actually parse JeannieC.CInCBlock$$Star2. */
@@ -18556,7 +21514,7 @@ public final class CommandParser extends ParserBase {
         final Node v$g$1 = yyResult.semanticValue();
 
         yyValue = GNode.create("JavaInCBlock", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -18594,7 +21552,7 @@ public final class CommandParser extends ParserBase {
         final Node v$g$1 = yyResult.semanticValue();
 
         yyValue = GNode.create("JavaInCExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -18636,7 +21594,7 @@ public final class CommandParser extends ParserBase {
         final Node v$g$1 = yyResult.semanticValue();
 
         yyValue = GNode.create("JavaInCStatement", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -18649,7 +21607,7 @@ public final class CommandParser extends ParserBase {
         final Node v$g$2 = yyResult.semanticValue();
 
         yyValue = GNode.create("JavaInCStatement", v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -18662,7 +21620,7 @@ public final class CommandParser extends ParserBase {
         final Node v$g$3 = yyResult.semanticValue();
 
         yyValue = GNode.create("JavaInCStatement", v$g$3);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -18683,10 +21641,15 @@ public final class CommandParser extends ParserBase {
    */
   private Result pJeannieC$JavaThrows(final int yyStart) throws IOException {
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk7) yyColumn.chunk7 = new Chunk7();
-    if (null == yyColumn.chunk7.fJeannieC$JavaThrows) 
-      yyColumn.chunk7.fJeannieC$JavaThrows = pJeannieC$JavaThrows$1(yyStart);
-    return yyColumn.chunk7.fJeannieC$JavaThrows;
+    if (null == yyColumn.chunk11) yyColumn.chunk11 = new Chunk11();
+    if (null == yyColumn.chunk11.fJeannieC$JavaThrows) {
+      yyColumn.chunk11.fJeannieC$JavaThrows = pJeannieC$JavaThrows$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(67, yyColumn.chunk11.fJeannieC$JavaThrows);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(67, yyColumn.chunk11.fJeannieC$JavaThrows);
+    }
+    return yyColumn.chunk11.fJeannieC$JavaThrows;
   }
 
   /** Actually parse xtc.lang.jeannie.JeannieC.JavaThrows. */
@@ -18721,7 +21684,7 @@ public final class CommandParser extends ParserBase {
       final Node v$g$1 = yyOpValue1;
 
       yyValue = GNode.create("JavaThrows", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return new SemanticValue(yyValue, yyOption1, yyError);
     } // End scope for v$g$1.
@@ -18753,7 +21716,7 @@ public final class CommandParser extends ParserBase {
         final Node v$g$1 = yyResult.semanticValue();
 
         yyValue = GNode.create("JavaType", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -18824,7 +21787,7 @@ public final class CommandParser extends ParserBase {
             if (yyResult.hasValue(";")) {
 
               yyValue = GNode.create("Declaration", v$g$1, v$g$2, l);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             } else {
@@ -18853,10 +21816,16 @@ public final class CommandParser extends ParserBase {
     throws IOException {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk7) yyColumn.chunk7 = new Chunk7();
-    if (null == yyColumn.chunk7.fCommandC$DeclarationSpecifiers) 
-      yyColumn.chunk7.fCommandC$DeclarationSpecifiers = pCommandC$DeclarationSpecifiers$1(yyStart);
-    return yyColumn.chunk7.fCommandC$DeclarationSpecifiers;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fCommandC$DeclarationSpecifiers) {
+      yyColumn.chunk3.fCommandC$DeclarationSpecifiers = 
+        pCommandC$DeclarationSpecifiers$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(68, yyColumn.chunk3.fCommandC$DeclarationSpecifiers);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(68, yyColumn.chunk3.fCommandC$DeclarationSpecifiers);
+    }
+    return yyColumn.chunk3.fCommandC$DeclarationSpecifiers;
   }
 
   /** Actually parse xtc.lang.blink.CommandC.DeclarationSpecifiers. */
@@ -18875,7 +21844,7 @@ public final class CommandParser extends ParserBase {
       final Pair<Node> v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.createFromPair("DeclarationSpecifiers", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -18949,85 +21918,189 @@ public final class CommandParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '`':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x2;
+      break;
+
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x7f;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <StorageClass>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pCommandC$StorageClassSpecifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pCommandC$StorageClassSpecifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <TypeSpecifier>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pCommandC$TypeSpecifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
-
-      yyResult = pTypeSpecContext(yyResult.index);
+      yyResult = pCommandC$TypeSpecifier(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-        return yyResult.createValue(yyValue, yyError);
+        yyResult = pTypeSpecContext(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative <TypeQualifier>.
+    if ((0 != (yyFirst & 0x4)) || (yyError.index < yyStart)) {
 
-    yyResult = pCommandC$TypeQualifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pCommandC$TypeQualifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 4.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("inline")) {
-      final String v$g$1 = "inline";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("inline")) {
+        final String v$g$1 = "inline";
 
-      yyValue = GNode.create("FunctionSpecifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("FunctionSpecifier", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 5.
+    if (0 != (yyFirst & 0x10)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__inline")) {
-      final String v$g$2 = "__inline";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__inline")) {
+        final String v$g$2 = "__inline";
 
-      yyValue = GNode.create("FunctionSpecifier", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("FunctionSpecifier", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 6.
+    if (0 != (yyFirst & 0x20)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__inline__")) {
-      final String v$g$3 = "__inline__";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__inline__")) {
+        final String v$g$3 = "__inline__";
 
-      yyValue = GNode.create("FunctionSpecifier", v$g$3);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("FunctionSpecifier", v$g$3);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Attribute>.
+    if ((0 != (yyFirst & 0x40)) || (yyError.index < yyStart)) {
 
-    yyResult = pCommandC$AttributeSpecifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pCommandC$AttributeSpecifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -19048,10 +22121,16 @@ public final class CommandParser extends ParserBase {
     throws IOException {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk7) yyColumn.chunk7 = new Chunk7();
-    if (null == yyColumn.chunk7.fCommandC$InitializedDeclaratorList) 
-      yyColumn.chunk7.fCommandC$InitializedDeclaratorList = pCommandC$InitializedDeclaratorList$1(yyStart);
-    return yyColumn.chunk7.fCommandC$InitializedDeclaratorList;
+    if (null == yyColumn.chunk6) yyColumn.chunk6 = new Chunk6();
+    if (null == yyColumn.chunk6.fCommandC$InitializedDeclaratorList) {
+      yyColumn.chunk6.fCommandC$InitializedDeclaratorList = 
+        pCommandC$InitializedDeclaratorList$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(69, yyColumn.chunk6.fCommandC$InitializedDeclaratorList);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(69, yyColumn.chunk6.fCommandC$InitializedDeclaratorList);
+    }
+    return yyColumn.chunk6.fCommandC$InitializedDeclaratorList;
   }
 
   /** Actually parse xtc.lang.blink.CommandC.InitializedDeclaratorList. */
@@ -19075,7 +22154,7 @@ public final class CommandParser extends ParserBase {
         final Pair<Node> v$g$2 = yyResult.semanticValue();
 
         yyValue = GNode.createFromPair("InitializedDeclaratorList", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -19098,10 +22177,16 @@ public final class CommandParser extends ParserBase {
     throws IOException {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk8) yyColumn.chunk8 = new Chunk8();
-    if (null == yyColumn.chunk8.fCommandC$InitializedDeclaratorList$$Star1) 
-      yyColumn.chunk8.fCommandC$InitializedDeclaratorList$$Star1 = pCommandC$InitializedDeclaratorList$$Star1$1(yyStart);
-    return yyColumn.chunk8.fCommandC$InitializedDeclaratorList$$Star1;
+    if (null == yyColumn.chunk11) yyColumn.chunk11 = new Chunk11();
+    if (null == yyColumn.chunk11.fCommandC$InitializedDeclaratorList$$Star1) {
+      yyColumn.chunk11.fCommandC$InitializedDeclaratorList$$Star1 = 
+        pCommandC$InitializedDeclaratorList$$Star1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(70, yyColumn.chunk11.fCommandC$InitializedDeclaratorList$$Star1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(70, yyColumn.chunk11.fCommandC$InitializedDeclaratorList$$Star1);
+    }
+    return yyColumn.chunk11.fCommandC$InitializedDeclaratorList$$Star1;
   }
 
   /** Actually parse CommandC.InitializedDeclaratorList$$Star1. */
@@ -19229,7 +22314,7 @@ public final class CommandParser extends ParserBase {
               final Node v$g$5 = yyOpValue1;
 
               yyValue = GNode.create("InitializedDeclarator", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return new SemanticValue(yyValue, yyOption1, yyError);
             } // End scope for v$g$5.
@@ -19258,74 +22343,148 @@ public final class CommandParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x3f;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("auto")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("auto")) {
 
-      yyValue = GNode.create("AutoSpecifier", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("AutoSpecifier", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("extern")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("extern")) {
 
-      yyValue = GNode.create("ExternSpecifier", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("ExternSpecifier", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("register")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("register")) {
 
-      yyValue = GNode.create("RegisterSpecifier", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("RegisterSpecifier", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 4.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("static")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("static")) {
 
-      yyValue = GNode.create("StaticSpecifier", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("StaticSpecifier", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 5.
+    if (0 != (yyFirst & 0x10)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__thread")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__thread")) {
 
-      yyValue = GNode.create("ThreadSpecifier", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("ThreadSpecifier", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 6.
+    if (0 != (yyFirst & 0x20)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("typedef")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("typedef")) {
 
-      yyResult = pTypedefContext(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
+        yyResult = pTypedefContext(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
 
-        yyValue = GNode.create("TypedefSpecifier", false);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("TypedefSpecifier", false);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
@@ -19350,112 +22509,192 @@ public final class CommandParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x1ff;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("volatile")) {
-      final String v$g$1 = "volatile";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("volatile")) {
+        final String v$g$1 = "volatile";
 
-      yyValue = GNode.create("VolatileQualifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("VolatileQualifier", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__volatile")) {
-      final String v$g$2 = "__volatile";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__volatile")) {
+        final String v$g$2 = "__volatile";
 
-      yyValue = GNode.create("VolatileQualifier", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("VolatileQualifier", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__volatile__")) {
-      final String v$g$3 = "__volatile__";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__volatile__")) {
+        final String v$g$3 = "__volatile__";
 
-      yyValue = GNode.create("VolatileQualifier", v$g$3);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("VolatileQualifier", v$g$3);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 4.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("const")) {
-      final String v$g$1 = "const";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("const")) {
+        final String v$g$1 = "const";
 
-      yyValue = GNode.create("ConstantQualifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("ConstantQualifier", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 5.
+    if (0 != (yyFirst & 0x10)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__const")) {
-      final String v$g$2 = "__const";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__const")) {
+        final String v$g$2 = "__const";
 
-      yyValue = GNode.create("ConstantQualifier", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("ConstantQualifier", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 6.
+    if (0 != (yyFirst & 0x20)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__const__")) {
-      final String v$g$3 = "__const__";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__const__")) {
+        final String v$g$3 = "__const__";
 
-      yyValue = GNode.create("ConstantQualifier", v$g$3);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("ConstantQualifier", v$g$3);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 7.
+    if (0 != (yyFirst & 0x40)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("restrict")) {
-      final String v$g$1 = "restrict";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("restrict")) {
+        final String v$g$1 = "restrict";
 
-      yyValue = GNode.create("RestrictQualifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("RestrictQualifier", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 8.
+    if (0 != (yyFirst & 0x80)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__restrict")) {
-      final String v$g$2 = "__restrict";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__restrict")) {
+        final String v$g$2 = "__restrict";
 
-      yyValue = GNode.create("RestrictQualifier", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("RestrictQualifier", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 9.
+    if (0 != (yyFirst & 0x100)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__restrict__")) {
-      final String v$g$3 = "__restrict__";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__restrict__")) {
+        final String v$g$3 = "__restrict__";
 
-      yyValue = GNode.create("RestrictQualifier", v$g$3);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("RestrictQualifier", v$g$3);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -19480,158 +22719,268 @@ public final class CommandParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '`':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x20;
+      break;
+
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x3df;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Enumeration>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pCommandC$EnumerationTypeSpecifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pCommandC$EnumerationTypeSpecifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Structure>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pCommandC$StructureTypeSpecifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pCommandC$StructureTypeSpecifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Union>.
+    if ((0 != (yyFirst & 0x4)) || (yyError.index < yyStart)) {
 
-    yyResult = pCommandC$UnionTypeSpecifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pCommandC$UnionTypeSpecifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Floating>.
+    if ((0 != (yyFirst & 0x8)) || (yyError.index < yyStart)) {
 
-    yyResult = pCommandC$FloatingPointTypeSpecifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pCommandC$FloatingPointTypeSpecifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Integer>.
+    if ((0 != (yyFirst & 0x10)) || (yyError.index < yyStart)) {
 
-    yyResult = pCommandC$IntegerTypeSpecifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pCommandC$IntegerTypeSpecifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <JavaTyp>.
+    if ((0 != (yyFirst & 0x20)) || (yyError.index < yyStart)) {
 
-    yyResult = pCommandC$JavaType(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pCommandC$JavaType(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 7.
+    if ((0 != (yyFirst & 0x40)) || (yyError.index < yyStart)) {
 
-    yyResult = pCIdentifier$Identifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final String id = yyResult.semanticValue();
+      yyResult = pCIdentifier$Identifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final String id = yyResult.semanticValue();
 
-      if (yyState.isType(toText(id))) {
+        if (yyState.isType(toText(id))) {
 
-        yyValue = GNode.create("TypedefName", id);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("TypedefName", id);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 8.
+    if ((0 != (yyFirst & 0x80)) || (yyError.index < yyStart)) {
 
-    yyResult = p$$Shared9(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
+      yyResult = p$$Shared9(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
 
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue("(")) {
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue("(")) {
 
-        final int yyChoice1 = yyResult.index;
+          final int yyChoice1 = yyResult.index;
 
-        // Nested alternative 1.
+          // Nested alternative 1.
 
-        yyResult = pCommandC$TypeName(yyChoice1);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$g$1 = yyResult.semanticValue();
+          yyResult = pCommandC$TypeName(yyChoice1);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Node v$g$1 = yyResult.semanticValue();
 
-          yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue(")")) {
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue(")")) {
 
-            yyValue = GNode.create("TypeofSpecifier", v$g$1);
-            yyValue.setLocation(location(yyStart));
+              yyValue = GNode.create("TypeofSpecifier", v$g$1);
+              locate(yyValue, yyStart);
 
-            return yyResult.createValue(yyValue, yyError);
-          } else {
-            yyError = yyError.select("')' expected", yyBase);
+              return yyResult.createValue(yyValue, yyError);
+            } else {
+              yyError = yyError.select("')' expected", yyBase);
+            }
           }
-        }
 
-        // Nested alternative 2.
+          // Nested alternative 2.
 
-        yyResult = pCommandC$CommaExpression(yyChoice1);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$g$2 = yyResult.semanticValue();
+          yyResult = pCommandC$CommaExpression(yyChoice1);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Node v$g$2 = yyResult.semanticValue();
 
-          yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue(")")) {
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue(")")) {
 
-            yyValue = GNode.create("TypeofSpecifier", v$g$2);
-            yyValue.setLocation(location(yyStart));
+              yyValue = GNode.create("TypeofSpecifier", v$g$2);
+              locate(yyValue, yyStart);
 
-            return yyResult.createValue(yyValue, yyError);
-          } else {
-            yyError = yyError.select("')' expected", yyBase);
+              return yyResult.createValue(yyValue, yyError);
+            } else {
+              yyError = yyError.select("')' expected", yyBase);
+            }
           }
+        } else {
+          yyError = yyError.select("'(' expected", yyBase);
         }
-      } else {
-        yyError = yyError.select("'(' expected", yyBase);
       }
     }
 
     // Alternative 9.
+    if (0 != (yyFirst & 0x100)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("void")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("void")) {
 
-      yyValue = GNode.create("VoidTypeSpecifier", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("VoidTypeSpecifier", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 10.
+    if (0 != (yyFirst & 0x200)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__builtin_va_list")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__builtin_va_list")) {
 
-      yyValue = GNode.create("VarArgListSpecifier", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("VarArgListSpecifier", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -19734,7 +23083,7 @@ public final class CommandParser extends ParserBase {
                   final Node v$g$4 = cast(yyOpValue1);
 
                   yyValue = GNode.create("EnumerationTypeDefinition", v$g$1, v$g$2, v$g$3, v$g$4);
-                  yyValue.setLocation(location(yyStart));
+                  locate(yyValue, yyStart);
 
                   return new SemanticValue(yyValue, yyOption1, yyError);
                 } // End scope for v$g$4.
@@ -19755,7 +23104,7 @@ public final class CommandParser extends ParserBase {
           final String v$g$2 = yyResult.semanticValue();
 
           yyValue = GNode.create("EnumerationTypeReference", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -19782,7 +23131,8 @@ public final class CommandParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -19794,7 +23144,8 @@ public final class CommandParser extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyBase   = yyRepetition1;
@@ -19807,7 +23158,7 @@ public final class CommandParser extends ParserBase {
             final Node v$el$1 = yyResult.semanticValue();
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
         } else {
@@ -19816,10 +23167,11 @@ public final class CommandParser extends ParserBase {
         break;
       }
       { // Start scope for v$g$2.
-        final Pair<Node> v$g$2 = yyRepValue1.reverse();
+        final int v$g$2 = yyRepStart1;
+        final int v$g$2$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("EnumeratorList", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("EnumeratorList", v$g$1, v$g$2, v$g$2$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$2.
@@ -19877,7 +23229,7 @@ public final class CommandParser extends ParserBase {
         final Node v$g$1 = yyOpValue1;
 
         yyValue = GNode.create("Enumerator", id, v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyOption1, yyError);
       } // End scope for v$g$1.
@@ -19988,7 +23340,7 @@ public final class CommandParser extends ParserBase {
                           final Node v$g$4 = cast(yyOpValue1);
 
                           yyValue = GNode.create("StructureTypeDefinition", v$g$1, v$g$2, v$g$3, v$g$4);
-                          yyValue.setLocation(location(yyStart));
+                          locate(yyValue, yyStart);
 
                           return new SemanticValue(yyValue, yyOption1, yyError);
                         } // End scope for v$g$4.
@@ -20013,7 +23365,7 @@ public final class CommandParser extends ParserBase {
           final String v$g$2 = yyResult.semanticValue();
 
           yyValue = GNode.create("StructureTypeReference", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -20126,7 +23478,7 @@ public final class CommandParser extends ParserBase {
                           final Node v$g$4 = cast(yyOpValue1);
 
                           yyValue = GNode.create("UnionTypeDefinition", v$g$1, v$g$2, v$g$3, v$g$4);
-                          yyValue.setLocation(location(yyStart));
+                          locate(yyValue, yyStart);
 
                           return new SemanticValue(yyValue, yyOption1, yyError);
                         } // End scope for v$g$4.
@@ -20151,7 +23503,7 @@ public final class CommandParser extends ParserBase {
           final String v$g$2 = yyResult.semanticValue();
 
           yyValue = GNode.create("UnionTypeReference", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -20178,7 +23530,8 @@ public final class CommandParser extends ParserBase {
     Result     yyResult;
     int        yyRepetition1;
     boolean    yyRepeated1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -20186,7 +23539,8 @@ public final class CommandParser extends ParserBase {
 
     yyRepetition1 = yyStart;
     yyRepeated1   = false;
-    yyRepValue1   = Pair.empty();
+    yyRepStart1   = bufferStart();
+    yyRepEnd1   = yyRepStart1;
     while (true) {
 
       yyResult = pCommandC$AnnotatedStructureDeclaration(yyRepetition1);
@@ -20196,26 +23550,29 @@ public final class CommandParser extends ParserBase {
 
         yyRepetition1 = yyResult.index;
         yyRepeated1   = true;
-        yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+        yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
         continue;
       }
       break;
     }
 
     if (yyRepeated1) {
-      final Pair<Node> v$g$1 = yyRepValue1.reverse();
+      final int v$g$1 = yyRepStart1;
+      final int v$g$1$end = yyRepEnd1;
 
       yyResult = p$$Shared6(yyRepetition1);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
         final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("StructureDeclarationList", v$g$1.size() + 1).
-          addAll(v$g$1).add(v$g$2);
-        yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("StructureDeclarationList", (v$g$1$end - v$g$1) + 1);
+        addBuffered(yyValue, v$g$1, v$g$1$end);
+        yyValue.add(v$g$2);
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
+      releaseBuffer(v$g$1);
     }
 
     // Alternative <Empty>.
@@ -20228,7 +23585,7 @@ public final class CommandParser extends ParserBase {
         final Node v$g$3 = yyResult.semanticValue();
 
         yyValue = GNode.create("StructureDeclarationList", v$g$3);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -20364,7 +23721,7 @@ public final class CommandParser extends ParserBase {
             }
 
             yyValue = GNode.create("StructureDeclaration", v$g$1, v$g$2, v$g$3);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return new SemanticValue(yyValue, yyOption1, yyError);
           } else {
@@ -20393,8 +23750,14 @@ public final class CommandParser extends ParserBase {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
     if (null == yyColumn.chunk8) yyColumn.chunk8 = new Chunk8();
-    if (null == yyColumn.chunk8.fCommandC$SpecifierQualifierList) 
-      yyColumn.chunk8.fCommandC$SpecifierQualifierList = pCommandC$SpecifierQualifierList$1(yyStart);
+    if (null == yyColumn.chunk8.fCommandC$SpecifierQualifierList) {
+      yyColumn.chunk8.fCommandC$SpecifierQualifierList = 
+        pCommandC$SpecifierQualifierList$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(71, yyColumn.chunk8.fCommandC$SpecifierQualifierList);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(71, yyColumn.chunk8.fCommandC$SpecifierQualifierList);
+    }
     return yyColumn.chunk8.fCommandC$SpecifierQualifierList;
   }
 
@@ -20414,7 +23777,7 @@ public final class CommandParser extends ParserBase {
       final Pair<Node> v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.createFromPair("SpecifierQualifierList", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -20488,39 +23851,135 @@ public final class CommandParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
-    // Alternative <TypeSpecifier>.
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '`':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x1;
+      break;
 
-    yyResult = pCommandC$TypeSpecifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x7;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
+    // Alternative <TypeSpecifier>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-      yyResult = pTypeSpecContext(yyResult.index);
+      yyResult = pCommandC$TypeSpecifier(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-        return yyResult.createValue(yyValue, yyError);
+        yyResult = pTypeSpecContext(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative <TypeQualifier>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pCommandC$TypeQualifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pCommandC$TypeQualifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Attribute>.
+    if ((0 != (yyFirst & 0x4)) || (yyError.index < yyStart)) {
 
-    yyResult = pCommandC$AttributeSpecifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pCommandC$AttributeSpecifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -20584,7 +24043,8 @@ public final class CommandParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -20596,7 +24056,8 @@ public final class CommandParser extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyBase   = yyRepetition1;
@@ -20609,7 +24070,7 @@ public final class CommandParser extends ParserBase {
             final Node v$el$1 = yyResult.semanticValue();
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
         } else {
@@ -20618,10 +24079,11 @@ public final class CommandParser extends ParserBase {
         break;
       }
       { // Start scope for v$g$2.
-        final Pair<Node> v$g$2 = yyRepValue1.reverse();
+        final int v$g$2 = yyRepStart1;
+        final int v$g$2$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("StructureDeclaratorList", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("StructureDeclaratorList", v$g$1, v$g$2, v$g$2$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$2.
@@ -20650,78 +24112,169 @@ public final class CommandParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
-    // Alternative 1.
-
-    yyOption1  = yyStart;
-    yyOpValue1 = null;
-
-    yyResult = pCommandC$AttributeSpecifierList(yyOption1);
-    yyError  = yyResult.select(yyError, yyOption1);
-    if (yyResult.hasValue()) {
-      final Node v$el$1 = yyResult.semanticValue();
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '[':
+    case ']':
+    case '^':
+    case '_':
+    case '`':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
 
-      yyOption1  = yyResult.index;
-      yyOpValue1 = v$el$1;
+    default:
+      yyFirst = 0;
     }
-    { // Start scope for v$g$1.
-      final Node v$g$1 = yyOpValue1;
 
+    // Alternative 1.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index <= yyStart)) {
+
+      yyOption1  = yyStart;
       yyOpValue1 = null;
 
-      yyResult = pCommandC$Declarator(yyOption1);
+      yyResult = pCommandC$AttributeSpecifierList(yyOption1);
       yyError  = yyResult.select(yyError, yyOption1);
       if (yyResult.hasValue()) {
-        final Node v$el$2 = yyResult.semanticValue();
+        final Node v$el$1 = yyResult.semanticValue();
 
         yyOption1  = yyResult.index;
-        yyOpValue1 = v$el$2;
+        yyOpValue1 = v$el$1;
       }
-      { // Start scope for v$g$2.
-        final Node v$g$2 = yyOpValue1;
+      { // Start scope for v$g$1.
+        final Node v$g$1 = yyOpValue1;
 
-        yyBase   = yyOption1;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue(":")) {
+        yyOpValue1 = null;
 
-          yyResult = pCommandC$ConditionalExpression(yyResult.index);
-          yyError  = yyResult.select(yyError);
-          if (yyResult.hasValue()) {
-            final Node v$g$3 = yyResult.semanticValue();
+        yyResult = pCommandC$Declarator(yyOption1);
+        yyError  = yyResult.select(yyError, yyOption1);
+        if (yyResult.hasValue()) {
+          final Node v$el$2 = yyResult.semanticValue();
 
-            yyOption1  = yyResult.index;
-            yyOpValue1 = null;
+          yyOption1  = yyResult.index;
+          yyOpValue1 = v$el$2;
+        }
+        { // Start scope for v$g$2.
+          final Node v$g$2 = yyOpValue1;
 
-            yyResult = pCommandC$AttributeSpecifierList(yyOption1);
-            yyError  = yyResult.select(yyError, yyOption1);
+          yyBase   = yyOption1;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue(":")) {
+
+            yyResult = pCommandC$ConditionalExpression(yyResult.index);
+            yyError  = yyResult.select(yyError);
             if (yyResult.hasValue()) {
-              final Node v$el$3 = yyResult.semanticValue();
+              final Node v$g$3 = yyResult.semanticValue();
 
               yyOption1  = yyResult.index;
-              yyOpValue1 = v$el$3;
-            }
-            { // Start scope for v$g$4.
-              final Node v$g$4 = yyOpValue1;
+              yyOpValue1 = null;
 
-              yyValue = GNode.create("BitField", v$g$1, v$g$2, v$g$3, v$g$4);
-              yyValue.setLocation(location(yyStart));
+              yyResult = pCommandC$AttributeSpecifierList(yyOption1);
+              yyError  = yyResult.select(yyError, yyOption1);
+              if (yyResult.hasValue()) {
+                final Node v$el$3 = yyResult.semanticValue();
 
-              return new SemanticValue(yyValue, yyOption1, yyError);
-            } // End scope for v$g$4.
+                yyOption1  = yyResult.index;
+                yyOpValue1 = v$el$3;
+              }
+              { // Start scope for v$g$4.
+                final Node v$g$4 = yyOpValue1;
+
+                yyValue = GNode.create("BitField", v$g$1, v$g$2, v$g$3, v$g$4);
+                locate(yyValue, yyStart);
+
+                return new SemanticValue(yyValue, yyOption1, yyError);
+              } // End scope for v$g$4.
+            }
+          } else {
+            yyError = yyError.select("':' expected", yyBase);
           }
-        } else {
-          yyError = yyError.select("':' expected", yyBase);
-        }
-      } // End scope for v$g$2.
-    } // End scope for v$g$1.
+        } // End scope for v$g$2.
+      } // End scope for v$g$1.
+    }
 
     // Alternative <Simple>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pCommandC$AttributedDeclarator(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pCommandC$AttributedDeclarator(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -20741,10 +24294,16 @@ public final class CommandParser extends ParserBase {
     throws IOException {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk8) yyColumn.chunk8 = new Chunk8();
-    if (null == yyColumn.chunk8.fCommandC$AttributedDeclarator) 
-      yyColumn.chunk8.fCommandC$AttributedDeclarator = pCommandC$AttributedDeclarator$1(yyStart);
-    return yyColumn.chunk8.fCommandC$AttributedDeclarator;
+    if (null == yyColumn.chunk11) yyColumn.chunk11 = new Chunk11();
+    if (null == yyColumn.chunk11.fCommandC$AttributedDeclarator) {
+      yyColumn.chunk11.fCommandC$AttributedDeclarator = 
+        pCommandC$AttributedDeclarator$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(72, yyColumn.chunk11.fCommandC$AttributedDeclarator);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(72, yyColumn.chunk11.fCommandC$AttributedDeclarator);
+    }
+    return yyColumn.chunk11.fCommandC$AttributedDeclarator;
   }
 
   /** Actually parse xtc.lang.blink.CommandC.AttributedDeclarator. */
@@ -20793,7 +24352,7 @@ public final class CommandParser extends ParserBase {
           final Node v$g$3 = yyOpValue1;
 
           yyValue = GNode.create("AttributedDeclarator", v$g$1, v$g$2, v$g$3);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyOption1, yyError);
         } // End scope for v$g$3.
@@ -20815,10 +24374,15 @@ public final class CommandParser extends ParserBase {
    */
   private Result pCommandC$Declarator(final int yyStart) throws IOException {
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk8) yyColumn.chunk8 = new Chunk8();
-    if (null == yyColumn.chunk8.fCommandC$Declarator) 
-      yyColumn.chunk8.fCommandC$Declarator = pCommandC$Declarator$1(yyStart);
-    return yyColumn.chunk8.fCommandC$Declarator;
+    if (null == yyColumn.chunk6) yyColumn.chunk6 = new Chunk6();
+    if (null == yyColumn.chunk6.fCommandC$Declarator) {
+      yyColumn.chunk6.fCommandC$Declarator = pCommandC$Declarator$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(73, yyColumn.chunk6.fCommandC$Declarator);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(73, yyColumn.chunk6.fCommandC$Declarator);
+    }
+    return yyColumn.chunk6.fCommandC$Declarator;
   }
 
   /** Actually parse xtc.lang.blink.CommandC.Declarator. */
@@ -20829,24 +24393,118 @@ public final class CommandParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '`':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
+
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x2;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Pointer>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pCommandC$PointerDeclarator(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pCommandC$PointerDeclarator(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Direct>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pCommandC$DirectDeclarator(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pCommandC$DirectDeclarator(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -20882,7 +24540,7 @@ public final class CommandParser extends ParserBase {
         final Node v$g$2 = yyResult.semanticValue();
 
         yyValue = GNode.create("PointerDeclarator", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -20903,10 +24561,15 @@ public final class CommandParser extends ParserBase {
    */
   private Result pCommandC$Pointer(final int yyStart) throws IOException {
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk8) yyColumn.chunk8 = new Chunk8();
-    if (null == yyColumn.chunk8.fCommandC$Pointer) 
-      yyColumn.chunk8.fCommandC$Pointer = pCommandC$Pointer$1(yyStart);
-    return yyColumn.chunk8.fCommandC$Pointer;
+    if (null == yyColumn.chunk6) yyColumn.chunk6 = new Chunk6();
+    if (null == yyColumn.chunk6.fCommandC$Pointer) {
+      yyColumn.chunk6.fCommandC$Pointer = pCommandC$Pointer$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(74, yyColumn.chunk6.fCommandC$Pointer);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(74, yyColumn.chunk6.fCommandC$Pointer);
+    }
+    return yyColumn.chunk6.fCommandC$Pointer;
   }
 
   /** Actually parse xtc.lang.blink.CommandC.Pointer. */
@@ -20942,7 +24605,7 @@ public final class CommandParser extends ParserBase {
           final Node v$g$2 = yyOpValue1;
 
           yyValue = GNode.create("Pointer", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyOption1, yyError);
         } // End scope for v$g$2.
@@ -20968,14 +24631,16 @@ public final class CommandParser extends ParserBase {
 
     Result     yyResult;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
     // Alternative 1.
 
     yyRepetition1 = yyStart;
-    yyRepValue1   = Pair.empty();
+    yyRepStart1   = bufferStart();
+    yyRepEnd1   = yyRepStart1;
     while (true) {
 
       yyResult = pCommandC$TypeQualifierList$$Choice1(yyRepetition1);
@@ -20984,16 +24649,17 @@ public final class CommandParser extends ParserBase {
         final Node v$el$1 = yyResult.semanticValue();
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+        yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
         continue;
       }
       break;
     }
     { // Start scope for v$g$1.
-      final Pair<Node> v$g$1 = yyRepValue1.reverse();
+      final int v$g$1 = yyRepStart1;
+      final int v$g$1$end = yyRepEnd1;
 
-      yyValue = GNode.createFromPair("TypeQualifierList", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      yyValue = bufferedNode("TypeQualifierList", v$g$1, v$g$1$end);
+      locate(yyValue, yyStart);
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
     } // End scope for v$g$1.
@@ -21015,24 +24681,90 @@ public final class CommandParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pCommandC$TypeQualifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pCommandC$TypeQualifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 2.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pCommandC$AttributeSpecifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pCommandC$AttributeSpecifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -21058,77 +24790,171 @@ public final class CommandParser extends ParserBase {
     Node               yyValue;
     ParseError         yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '`':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x1;
+      break;
+
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x2;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <FullBase>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("(")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("(")) {
 
-      yyResult = pCommandC$AttributedDeclarator(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$7 = yyResult.semanticValue();
+        yyResult = pCommandC$AttributedDeclarator(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$7 = yyResult.semanticValue();
 
-        yyBase   = yyResult.index;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue(")")) {
+          yyBase   = yyResult.index;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue(")")) {
 
-          yyRepetition1 = yyResult.index;
-          yyRepValue1   = Pair.empty();
-          while (true) {
+            yyRepetition1 = yyResult.index;
+            yyRepValue1   = Pair.empty();
+            while (true) {
 
-            yyResult = pCommandC$DirectDeclarator$$Tail1(yyRepetition1);
-            yyError  = yyResult.select(yyError, yyRepetition1);
-            if (yyResult.hasValue()) {
-              final Action<Node> v$8 = yyResult.semanticValue();
+              yyResult = pCommandC$DirectDeclarator$$Tail1(yyRepetition1);
+              yyError  = yyResult.select(yyError, yyRepetition1);
+              if (yyResult.hasValue()) {
+                final Action<Node> v$8 = yyResult.semanticValue();
 
-              yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Action<Node>>(v$8, yyRepValue1);
-              continue;
+                yyRepetition1 = yyResult.index;
+                yyRepValue1   = new Pair<Action<Node>>(v$8, yyRepValue1);
+                continue;
+              }
+              break;
             }
-            break;
-          }
-          { // Start scope for v$9.
-            final Pair<Action<Node>> v$9 = yyRepValue1.reverse();
+            { // Start scope for v$9.
+              final Pair<Action<Node>> v$9 = yyRepValue1.reverse();
 
-            yyValue = apply(v$9, v$g$7, yyStart);
+              yyValue = apply(v$9, v$g$7, yyStart);
 
-            return new SemanticValue(yyValue, yyRepetition1, yyError);
-          } // End scope for v$9.
-        } else {
-          yyError = yyError.select("')' expected", yyBase);
+              return new SemanticValue(yyValue, yyRepetition1, yyError);
+            } // End scope for v$9.
+          } else {
+            yyError = yyError.select("')' expected", yyBase);
+          }
         }
       }
     }
 
     // Alternative <SimpleBase>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pCommandC$SimpleDeclarator(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final Node v$g$10 = yyResult.semanticValue();
+      yyResult = pCommandC$SimpleDeclarator(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final Node v$g$10 = yyResult.semanticValue();
 
-      yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
-      while (true) {
+        yyRepetition1 = yyResult.index;
+        yyRepValue1   = Pair.empty();
+        while (true) {
 
-        yyResult = pCommandC$DirectDeclarator$$Tail1(yyRepetition1);
-        yyError  = yyResult.select(yyError, yyRepetition1);
-        if (yyResult.hasValue()) {
-          final Action<Node> v$11 = yyResult.semanticValue();
+          yyResult = pCommandC$DirectDeclarator$$Tail1(yyRepetition1);
+          yyError  = yyResult.select(yyError, yyRepetition1);
+          if (yyResult.hasValue()) {
+            final Action<Node> v$11 = yyResult.semanticValue();
 
-          yyRepetition1 = yyResult.index;
-          yyRepValue1   = new Pair<Action<Node>>(v$11, yyRepValue1);
-          continue;
+            yyRepetition1 = yyResult.index;
+            yyRepValue1   = new Pair<Action<Node>>(v$11, yyRepValue1);
+            continue;
+          }
+          break;
         }
-        break;
-      }
-      { // Start scope for v$12.
-        final Pair<Action<Node>> v$12 = yyRepValue1.reverse();
+        { // Start scope for v$12.
+          final Pair<Action<Node>> v$12 = yyRepValue1.reverse();
 
-        yyValue = apply(v$12, v$g$10, yyStart);
+          yyValue = apply(v$12, v$g$10, yyStart);
 
-        return new SemanticValue(yyValue, yyRepetition1, yyError);
-      } // End scope for v$12.
+          return new SemanticValue(yyValue, yyRepetition1, yyError);
+        } // End scope for v$12.
+      }
     }
 
     // Done.
@@ -21155,156 +24981,194 @@ public final class CommandParser extends ParserBase {
     Action<Node> yyValue;
     ParseError   yyError = ParseError.DUMMY;
 
-    // Alternative 1.
-
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("(")) {
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '`':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
 
-      yyResult = pPushScope(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
+    default:
+      yyFirst = 0;
+    }
 
-        final int yyChoice1 = yyResult.index;
+    // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-        // Nested alternative 1.
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("(")) {
 
-        yyResult = pCommandC$ParameterTypeList(yyChoice1);
+        yyResult = pPushScope(yyResult.index);
         yyError  = yyResult.select(yyError);
         if (yyResult.hasValue()) {
-          final Node v$g$2 = yyResult.semanticValue();
 
-          yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue(")")) {
+          final int yyChoice1 = yyResult.index;
 
-            yyResult = pParameterContext(yyResult.index);
-            yyError  = yyResult.select(yyError);
-            if (yyResult.hasValue()) {
+          // Nested alternative 1.
 
-              yyResult = pCommandC$JavaThrows(yyResult.index);
+          yyResult = pCommandC$ParameterTypeList(yyChoice1);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Node v$g$2 = yyResult.semanticValue();
+
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue(")")) {
+
+              yyResult = pParameterContext(yyResult.index);
               yyError  = yyResult.select(yyError);
               if (yyResult.hasValue()) {
-                final Node javaThrows = yyResult.semanticValue();
 
-                yyValue = new Action<Node>() {
-                  public Node run(Node v$1) {
-                    return GNode.create("FunctionDeclarator", v$1, v$g$2, javaThrows);
-                  }};
+                yyResult = pCommandC$JavaThrows(yyResult.index);
+                yyError  = yyResult.select(yyError);
+                if (yyResult.hasValue()) {
+                  final Node javaThrows = yyResult.semanticValue();
 
-                return yyResult.createValue(yyValue, yyError);
+                  yyValue = new Action<Node>() {
+                    public Node run(Node v$1) {
+                      return GNode.create("FunctionDeclarator", v$1, v$g$2, javaThrows);
+                    }};
+
+                  return yyResult.createValue(yyValue, yyError);
+                }
               }
+            } else {
+              yyError = yyError.select("')' expected", yyBase);
             }
-          } else {
-            yyError = yyError.select("')' expected", yyBase);
           }
-        }
-
-        // Nested alternative 2.
 
-        yyOption1  = yyChoice1;
-        yyOpValue1 = null;
+          // Nested alternative 2.
 
-        yyResult = pCommandC$IdentifierList(yyOption1);
-        yyError  = yyResult.select(yyError, yyOption1);
-        if (yyResult.hasValue()) {
-          final Node v$el$1 = yyResult.semanticValue();
+          yyOption1  = yyChoice1;
+          yyOpValue1 = null;
 
-          yyOption1  = yyResult.index;
-          yyOpValue1 = v$el$1;
-        }
-        { // Start scope for v$g$3.
-          final Node v$g$3 = yyOpValue1;
+          yyResult = pCommandC$IdentifierList(yyOption1);
+          yyError  = yyResult.select(yyError, yyOption1);
+          if (yyResult.hasValue()) {
+            final Node v$el$1 = yyResult.semanticValue();
 
-          yyBase   = yyOption1;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue(")")) {
+            yyOption1  = yyResult.index;
+            yyOpValue1 = v$el$1;
+          }
+          { // Start scope for v$g$3.
+            final Node v$g$3 = yyOpValue1;
 
-            yyResult = pParameterContext(yyResult.index);
-            yyError  = yyResult.select(yyError);
-            if (yyResult.hasValue()) {
+            yyBase   = yyOption1;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue(")")) {
 
-              yyResult = pCommandC$JavaThrows(yyResult.index);
+              yyResult = pParameterContext(yyResult.index);
               yyError  = yyResult.select(yyError);
               if (yyResult.hasValue()) {
-                final Node javaThrows = yyResult.semanticValue();
 
-                yyValue = new Action<Node>() {
-                  public Node run(Node v$1) {
-                    return GNode.create("FunctionDeclarator", v$1, v$g$3, javaThrows);
-                  }};
+                yyResult = pCommandC$JavaThrows(yyResult.index);
+                yyError  = yyResult.select(yyError);
+                if (yyResult.hasValue()) {
+                  final Node javaThrows = yyResult.semanticValue();
 
-                return yyResult.createValue(yyValue, yyError);
+                  yyValue = new Action<Node>() {
+                    public Node run(Node v$1) {
+                      return GNode.create("FunctionDeclarator", v$1, v$g$3, javaThrows);
+                    }};
+
+                  return yyResult.createValue(yyValue, yyError);
+                }
               }
+            } else {
+              yyError = yyError.select("')' expected", yyBase);
             }
-          } else {
-            yyError = yyError.select("')' expected", yyBase);
-          }
-        } // End scope for v$g$3.
+          } // End scope for v$g$3.
+        }
       }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("[")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("[")) {
 
-      yyResult = pCommandC$ArrayQualifierList(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$4 = yyResult.semanticValue();
+        yyResult = pCommandC$ArrayQualifierList(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$4 = yyResult.semanticValue();
 
-        final int yyChoice1 = yyResult.index;
+          final int yyChoice1 = yyResult.index;
 
-        // Nested alternative 1.
+          // Nested alternative 1.
 
-        yyOption1  = yyChoice1;
-        yyOpValue1 = null;
+          yyOption1  = yyChoice1;
+          yyOpValue1 = null;
 
-        yyResult = pCommandC$AssignmentExpression(yyOption1);
-        yyError  = yyResult.select(yyError, yyOption1);
-        if (yyResult.hasValue()) {
-          final Node v$el$2 = yyResult.semanticValue();
+          yyResult = pCommandC$AssignmentExpression(yyOption1);
+          yyError  = yyResult.select(yyError, yyOption1);
+          if (yyResult.hasValue()) {
+            final Node v$el$2 = yyResult.semanticValue();
 
-          yyOption1  = yyResult.index;
-          yyOpValue1 = v$el$2;
-        }
-        { // Start scope for v$g$5.
-          final Node v$g$5 = yyOpValue1;
+            yyOption1  = yyResult.index;
+            yyOpValue1 = v$el$2;
+          }
+          { // Start scope for v$g$5.
+            final Node v$g$5 = yyOpValue1;
 
-          yyBase   = yyOption1;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue("]")) {
+            yyBase   = yyOption1;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue("]")) {
 
-            yyValue = new Action<Node>() {
-              public Node run(Node v$1) {
-                return GNode.create("ArrayDeclarator", v$1, v$g$4, v$g$5);
-              }};
+              yyValue = new Action<Node>() {
+                public Node run(Node v$1) {
+                  return GNode.create("ArrayDeclarator", v$1, v$g$4, v$g$5);
+                }};
 
-            return yyResult.createValue(yyValue, yyError);
-          } else {
-            yyError = yyError.select("']' expected", yyBase);
-          }
-        } // End scope for v$g$5.
+              return yyResult.createValue(yyValue, yyError);
+            } else {
+              yyError = yyError.select("']' expected", yyBase);
+            }
+          } // End scope for v$g$5.
 
-        // Nested alternative 2.
+          // Nested alternative 2.
 
-        yyResult = pCommandC$VariableLength(yyChoice1);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$g$6 = yyResult.semanticValue();
+          yyResult = pCommandC$VariableLength(yyChoice1);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Node v$g$6 = yyResult.semanticValue();
 
-          yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue("]")) {
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue("]")) {
 
-            yyValue = new Action<Node>() {
-              public Node run(Node v$1) {
-                return GNode.create("ArrayDeclarator", v$1, v$g$4, v$g$6);
-              }};
+              yyValue = new Action<Node>() {
+                public Node run(Node v$1) {
+                  return GNode.create("ArrayDeclarator", v$1, v$g$4, v$g$6);
+                }};
 
-            return yyResult.createValue(yyValue, yyError);
-          } else {
-            yyError = yyError.select("']' expected", yyBase);
+              return yyResult.createValue(yyValue, yyError);
+            } else {
+              yyError = yyError.select("']' expected", yyBase);
+            }
           }
         }
       }
@@ -21328,10 +25192,16 @@ public final class CommandParser extends ParserBase {
     throws IOException {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk8) yyColumn.chunk8 = new Chunk8();
-    if (null == yyColumn.chunk8.fCommandC$VariableLength) 
-      yyColumn.chunk8.fCommandC$VariableLength = pCommandC$VariableLength$1(yyStart);
-    return yyColumn.chunk8.fCommandC$VariableLength;
+    if (null == yyColumn.chunk11) yyColumn.chunk11 = new Chunk11();
+    if (null == yyColumn.chunk11.fCommandC$VariableLength) {
+      yyColumn.chunk11.fCommandC$VariableLength = 
+        pCommandC$VariableLength$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(75, yyColumn.chunk11.fCommandC$VariableLength);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(75, yyColumn.chunk11.fCommandC$VariableLength);
+    }
+    return yyColumn.chunk11.fCommandC$VariableLength;
   }
 
   /** Actually parse xtc.lang.blink.CommandC.VariableLength. */
@@ -21348,7 +25218,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("*")) {
 
       yyValue = GNode.create("VariableLength", false);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -21384,7 +25254,7 @@ public final class CommandParser extends ParserBase {
       yyState.bind(toText(id));
 
       yyValue = GNode.create("SimpleDeclarator", id);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -21406,10 +25276,16 @@ public final class CommandParser extends ParserBase {
     throws IOException {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk8) yyColumn.chunk8 = new Chunk8();
-    if (null == yyColumn.chunk8.fCommandC$ParameterTypeList) 
-      yyColumn.chunk8.fCommandC$ParameterTypeList = pCommandC$ParameterTypeList$1(yyStart);
-    return yyColumn.chunk8.fCommandC$ParameterTypeList;
+    if (null == yyColumn.chunk11) yyColumn.chunk11 = new Chunk11();
+    if (null == yyColumn.chunk11.fCommandC$ParameterTypeList) {
+      yyColumn.chunk11.fCommandC$ParameterTypeList = 
+        pCommandC$ParameterTypeList$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(76, yyColumn.chunk11.fCommandC$ParameterTypeList);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(76, yyColumn.chunk11.fCommandC$ParameterTypeList);
+    }
+    return yyColumn.chunk11.fCommandC$ParameterTypeList;
   }
 
   /** Actually parse xtc.lang.blink.CommandC.ParameterTypeList. */
@@ -21454,7 +25330,7 @@ public final class CommandParser extends ParserBase {
         final String v$g$2 = yyOpValue1;
 
         yyValue = GNode.create("ParameterTypeList", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyOption1, yyError);
       } // End scope for v$g$2.
@@ -21479,7 +25355,8 @@ public final class CommandParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -21491,7 +25368,8 @@ public final class CommandParser extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyBase   = yyRepetition1;
@@ -21504,7 +25382,7 @@ public final class CommandParser extends ParserBase {
             final Node v$el$1 = yyResult.semanticValue();
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
         } else {
@@ -21513,10 +25391,11 @@ public final class CommandParser extends ParserBase {
         break;
       }
       { // Start scope for v$g$2.
-        final Pair<Node> v$g$2 = yyRepValue1.reverse();
+        final int v$g$2 = yyRepStart1;
+        final int v$g$2$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("ParameterList", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("ParameterList", v$g$1, v$g$2, v$g$2$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$2.
@@ -21578,7 +25457,7 @@ public final class CommandParser extends ParserBase {
           final Node v$g$3 = yyOpValue1;
 
           yyValue = GNode.create("ParameterDeclaration", v$g$1, v$g$2, v$g$3);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           // Commit the state modification.
           yyState.commit();
@@ -21617,7 +25496,7 @@ public final class CommandParser extends ParserBase {
           final Node v$g$5 = yyOpValue1;
 
           yyValue = GNode.create("ParameterDeclaration", v$g$1, v$g$4, v$g$5);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           // Commit the state modification.
           yyState.commit();
@@ -21674,7 +25553,7 @@ public final class CommandParser extends ParserBase {
         final Node v$g$2 = yyResult.semanticValue();
 
         yyValue = GNode.create("AttributedAbstractDeclarator", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -21697,10 +25576,16 @@ public final class CommandParser extends ParserBase {
     throws IOException {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk8) yyColumn.chunk8 = new Chunk8();
-    if (null == yyColumn.chunk8.fCommandC$AbstractDeclarator) 
-      yyColumn.chunk8.fCommandC$AbstractDeclarator = pCommandC$AbstractDeclarator$1(yyStart);
-    return yyColumn.chunk8.fCommandC$AbstractDeclarator;
+    if (null == yyColumn.chunk11) yyColumn.chunk11 = new Chunk11();
+    if (null == yyColumn.chunk11.fCommandC$AbstractDeclarator) {
+      yyColumn.chunk11.fCommandC$AbstractDeclarator = 
+        pCommandC$AbstractDeclarator$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(77, yyColumn.chunk11.fCommandC$AbstractDeclarator);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(77, yyColumn.chunk11.fCommandC$AbstractDeclarator);
+    }
+    return yyColumn.chunk11.fCommandC$AbstractDeclarator;
   }
 
   /** Actually parse xtc.lang.blink.CommandC.AbstractDeclarator. */
@@ -21737,7 +25622,7 @@ public final class CommandParser extends ParserBase {
         if ((null != p) || (null != d)) {
 
           yyValue = GNode.create("AbstractDeclarator", p, d);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -21856,102 +25741,140 @@ public final class CommandParser extends ParserBase {
     Action<Node> yyValue;
     ParseError   yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '`':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("[")) {
-      final String v$g$2 = "[";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("[")) {
+        final String v$g$2 = "[";
 
-      final int yyChoice1 = yyResult.index;
+        final int yyChoice1 = yyResult.index;
 
-      // Nested alternative 1.
+        // Nested alternative 1.
 
-      yyOption1  = yyChoice1;
-      yyOpValue1 = null;
+        yyOption1  = yyChoice1;
+        yyOpValue1 = null;
 
-      yyResult = pCommandC$AssignmentExpression(yyOption1);
-      yyError  = yyResult.select(yyError, yyOption1);
-      if (yyResult.hasValue()) {
-        final Node v$el$1 = yyResult.semanticValue();
+        yyResult = pCommandC$AssignmentExpression(yyOption1);
+        yyError  = yyResult.select(yyError, yyOption1);
+        if (yyResult.hasValue()) {
+          final Node v$el$1 = yyResult.semanticValue();
 
-        yyOption1  = yyResult.index;
-        yyOpValue1 = v$el$1;
-      }
-      { // Start scope for v$g$3.
-        final Node v$g$3 = yyOpValue1;
+          yyOption1  = yyResult.index;
+          yyOpValue1 = v$el$1;
+        }
+        { // Start scope for v$g$3.
+          final Node v$g$3 = yyOpValue1;
 
-        yyBase   = yyOption1;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue("]")) {
+          yyBase   = yyOption1;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue("]")) {
 
-          yyValue = new Action<Node>() {
-            public Node run(Node v$1) {
-              return GNode.create("DirectAbstractDeclarator", v$1, v$g$2, v$g$3);
-            }};
+            yyValue = new Action<Node>() {
+              public Node run(Node v$1) {
+                return GNode.create("DirectAbstractDeclarator", v$1, v$g$2, v$g$3);
+              }};
 
-          return yyResult.createValue(yyValue, yyError);
-        } else {
-          yyError = yyError.select("']' expected", yyBase);
-        }
-      } // End scope for v$g$3.
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("']' expected", yyBase);
+          }
+        } // End scope for v$g$3.
 
-      // Nested alternative 2.
+        // Nested alternative 2.
 
-      yyResult = pCommandC$VariableLength(yyChoice1);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$4 = yyResult.semanticValue();
+        yyResult = pCommandC$VariableLength(yyChoice1);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$4 = yyResult.semanticValue();
 
-        yyBase   = yyResult.index;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue("]")) {
+          yyBase   = yyResult.index;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue("]")) {
 
-          yyValue = new Action<Node>() {
-            public Node run(Node v$1) {
-              return GNode.create("DirectAbstractDeclarator", v$1, v$g$2, v$g$4);
-            }};
+            yyValue = new Action<Node>() {
+              public Node run(Node v$1) {
+                return GNode.create("DirectAbstractDeclarator", v$1, v$g$2, v$g$4);
+              }};
 
-          return yyResult.createValue(yyValue, yyError);
-        } else {
-          yyError = yyError.select("']' expected", yyBase);
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("']' expected", yyBase);
+          }
         }
       }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("(")) {
-      final String v$g$5 = "(";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("(")) {
+        final String v$g$5 = "(";
 
-      yyOption1  = yyResult.index;
-      yyOpValue1 = null;
+        yyOption1  = yyResult.index;
+        yyOpValue1 = null;
 
-      yyResult = pCommandC$ParameterTypeList(yyOption1);
-      yyError  = yyResult.select(yyError, yyOption1);
-      if (yyResult.hasValue()) {
-        final Node v$el$2 = yyResult.semanticValue();
+        yyResult = pCommandC$ParameterTypeList(yyOption1);
+        yyError  = yyResult.select(yyError, yyOption1);
+        if (yyResult.hasValue()) {
+          final Node v$el$2 = yyResult.semanticValue();
 
-        yyOption1  = yyResult.index;
-        yyOpValue1 = v$el$2;
-      }
-      { // Start scope for v$g$6.
-        final Node v$g$6 = yyOpValue1;
+          yyOption1  = yyResult.index;
+          yyOpValue1 = v$el$2;
+        }
+        { // Start scope for v$g$6.
+          final Node v$g$6 = yyOpValue1;
 
-        yyBase   = yyOption1;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue(")")) {
+          yyBase   = yyOption1;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue(")")) {
 
-          yyValue = new Action<Node>() {
-            public Node run(Node v$1) {
-              return GNode.create("DirectAbstractDeclarator", v$1, v$g$5, v$g$6);
-            }};
+            yyValue = new Action<Node>() {
+              public Node run(Node v$1) {
+                return GNode.create("DirectAbstractDeclarator", v$1, v$g$5, v$g$6);
+              }};
 
-          return yyResult.createValue(yyValue, yyError);
-        } else {
-          yyError = yyError.select("')' expected", yyBase);
-        }
-      } // End scope for v$g$6.
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("')' expected", yyBase);
+          }
+        } // End scope for v$g$6.
+      }
     }
 
     // Done.
@@ -21971,12 +25894,13 @@ public final class CommandParser extends ParserBase {
   private Result pCommandC$IdentifierList(final int yyStart) 
     throws IOException {
 
-    Result       yyResult;
-    int          yyBase;
-    int          yyRepetition1;
-    Pair<String> yyRepValue1;
-    Node         yyValue;
-    ParseError   yyError = ParseError.DUMMY;
+    Result     yyResult;
+    int        yyBase;
+    int        yyRepetition1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
+    Node       yyValue;
+    ParseError yyError = ParseError.DUMMY;
 
     // Alternative 1.
 
@@ -21988,7 +25912,8 @@ public final class CommandParser extends ParserBase {
       yyState.bind(toText(id1));
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyBase   = yyRepetition1;
@@ -22003,7 +25928,7 @@ public final class CommandParser extends ParserBase {
             yyState.bind(toText(id2));
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<String>(id2, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, id2);
             continue;
           }
         } else {
@@ -22012,10 +25937,11 @@ public final class CommandParser extends ParserBase {
         break;
       }
       { // Start scope for v$g$1.
-        final Pair<String> v$g$1 = yyRepValue1.reverse();
+        final int v$g$1 = yyRepStart1;
+        final int v$g$1$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("IdentifierList", id1, v$g$1);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("IdentifierList", id1, v$g$1, v$g$1$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$1.
@@ -22039,14 +25965,16 @@ public final class CommandParser extends ParserBase {
 
     Result     yyResult;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
     // Alternative 1.
 
     yyRepetition1 = yyStart;
-    yyRepValue1   = Pair.empty();
+    yyRepStart1   = bufferStart();
+    yyRepEnd1   = yyRepStart1;
     while (true) {
 
       yyResult = pCommandC$ArrayQualifierList$$Choice1(yyRepetition1);
@@ -22055,16 +25983,17 @@ public final class CommandParser extends ParserBase {
         final Node v$el$1 = yyResult.semanticValue();
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+        yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
         continue;
       }
       break;
     }
     { // Start scope for v$g$1.
-      final Pair<Node> v$g$1 = yyRepValue1.reverse();
+      final int v$g$1 = yyRepStart1;
+      final int v$g$1$end = yyRepEnd1;
 
-      yyValue = GNode.createFromPair("ArrayQualifierList", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      yyValue = bufferedNode("ArrayQualifierList", v$g$1, v$g$1$end);
+      locate(yyValue, yyStart);
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
     } // End scope for v$g$1.
@@ -22086,133 +26015,217 @@ public final class CommandParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x7ff;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("static")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("static")) {
 
-      yyValue = GNode.create("StaticSpecifier", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("StaticSpecifier", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("volatile")) {
-      final String v$g$1 = "volatile";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("volatile")) {
+        final String v$g$1 = "volatile";
 
-      yyValue = GNode.create("VolatileQualifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("VolatileQualifier", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__volatile")) {
-      final String v$g$2 = "__volatile";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__volatile")) {
+        final String v$g$2 = "__volatile";
 
-      yyValue = GNode.create("VolatileQualifier", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("VolatileQualifier", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 4.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__volatile__")) {
-      final String v$g$3 = "__volatile__";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__volatile__")) {
+        final String v$g$3 = "__volatile__";
 
-      yyValue = GNode.create("VolatileQualifier", v$g$3);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("VolatileQualifier", v$g$3);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 5.
+    if (0 != (yyFirst & 0x10)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("restrict")) {
-      final String v$g$1 = "restrict";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("restrict")) {
+        final String v$g$1 = "restrict";
 
-      yyValue = GNode.create("RestrictQualifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("RestrictQualifier", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 6.
+    if (0 != (yyFirst & 0x20)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__restrict")) {
-      final String v$g$2 = "__restrict";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__restrict")) {
+        final String v$g$2 = "__restrict";
 
-      yyValue = GNode.create("RestrictQualifier", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("RestrictQualifier", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 7.
+    if (0 != (yyFirst & 0x40)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__restrict__")) {
-      final String v$g$3 = "__restrict__";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__restrict__")) {
+        final String v$g$3 = "__restrict__";
 
-      yyValue = GNode.create("RestrictQualifier", v$g$3);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("RestrictQualifier", v$g$3);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 8.
+    if (0 != (yyFirst & 0x80)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("const")) {
-      final String v$g$1 = "const";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("const")) {
+        final String v$g$1 = "const";
 
-      yyValue = GNode.create("ConstantQualifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("ConstantQualifier", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 9.
+    if (0 != (yyFirst & 0x100)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__const")) {
-      final String v$g$2 = "__const";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__const")) {
+        final String v$g$2 = "__const";
 
-      yyValue = GNode.create("ConstantQualifier", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("ConstantQualifier", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 10.
+    if (0 != (yyFirst & 0x200)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__const__")) {
-      final String v$g$3 = "__const__";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__const__")) {
+        final String v$g$3 = "__const__";
 
-      yyValue = GNode.create("ConstantQualifier", v$g$3);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("ConstantQualifier", v$g$3);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 11.
+    if ((0 != (yyFirst & 0x400)) || (yyError.index < yyStart)) {
 
-    yyResult = pCommandC$AttributeSpecifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pCommandC$AttributeSpecifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -22236,50 +26249,120 @@ public final class CommandParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0xf;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("_Complex")) {
-      final String v$g$1 = "_Complex";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("_Complex")) {
+        final String v$g$1 = "_Complex";
 
-      yyValue = GNode.create("Complex", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("Complex", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__complex__")) {
-      final String v$g$2 = "__complex__";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__complex__")) {
+        final String v$g$2 = "__complex__";
 
-      yyValue = GNode.create("Complex", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("Complex", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("double")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("double")) {
 
-      yyValue = GNode.create("Double", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("Double", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 4.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("float")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("float")) {
 
-      yyValue = GNode.create("Float", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("Float", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -22303,106 +26386,186 @@ public final class CommandParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x1ff;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("long")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("long")) {
 
-      yyValue = GNode.create("Long", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("Long", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("int")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("int")) {
 
-      yyValue = GNode.create("Int", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("Int", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("short")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("short")) {
 
-      yyValue = GNode.create("Short", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("Short", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 4.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("char")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("char")) {
 
-      yyValue = GNode.create("Char", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("Char", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 5.
+    if (0 != (yyFirst & 0x10)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("_Bool")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("_Bool")) {
 
-      yyValue = GNode.create("Bool", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("Bool", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 6.
+    if (0 != (yyFirst & 0x20)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("unsigned")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("unsigned")) {
 
-      yyValue = GNode.create("Unsigned", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("Unsigned", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 7.
+    if (0 != (yyFirst & 0x40)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("signed")) {
-      final String v$g$1 = "signed";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("signed")) {
+        final String v$g$1 = "signed";
 
-      yyValue = GNode.create("Signed", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("Signed", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 8.
+    if (0 != (yyFirst & 0x80)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__signed")) {
-      final String v$g$2 = "__signed";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__signed")) {
+        final String v$g$2 = "__signed";
 
-      yyValue = GNode.create("Signed", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("Signed", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 9.
+    if (0 != (yyFirst & 0x100)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__signed__")) {
-      final String v$g$3 = "__signed__";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__signed__")) {
+        final String v$g$3 = "__signed__";
 
-      yyValue = GNode.create("Signed", v$g$3);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("Signed", v$g$3);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -22488,7 +26651,8 @@ public final class CommandParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -22500,7 +26664,8 @@ public final class CommandParser extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyBase   = yyRepetition1;
@@ -22513,7 +26678,7 @@ public final class CommandParser extends ParserBase {
             final Node v$el$1 = yyResult.semanticValue();
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
         } else {
@@ -22522,10 +26687,11 @@ public final class CommandParser extends ParserBase {
         break;
       }
       { // Start scope for v$g$2.
-        final Pair<Node> v$g$2 = yyRepValue1.reverse();
+        final int v$g$2 = yyRepStart1;
+        final int v$g$2$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("InitializerList", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("InitializerList", v$g$1, v$g$2, v$g$2$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$2.
@@ -22536,7 +26702,7 @@ public final class CommandParser extends ParserBase {
     if (GCC) {
 
       yyValue = GNode.create("InitializerList", false);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return new SemanticValue(yyValue, yyStart, yyError);
     }
@@ -22586,7 +26752,7 @@ public final class CommandParser extends ParserBase {
         final Node v$g$2 = yyResult.semanticValue();
 
         yyValue = GNode.create("InitializerListEntry", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -22610,7 +26776,8 @@ public final class CommandParser extends ParserBase {
     int        yyBase;
     int        yyRepetition1;
     boolean    yyRepeated1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -22618,7 +26785,8 @@ public final class CommandParser extends ParserBase {
 
     yyRepetition1 = yyStart;
     yyRepeated1   = false;
-    yyRepValue1   = Pair.empty();
+    yyRepStart1   = bufferStart();
+    yyRepEnd1   = yyRepStart1;
     while (true) {
 
       yyResult = pCommandC$Designator(yyRepetition1);
@@ -22628,26 +26796,28 @@ public final class CommandParser extends ParserBase {
 
         yyRepetition1 = yyResult.index;
         yyRepeated1   = true;
-        yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+        yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
         continue;
       }
       break;
     }
 
     if (yyRepeated1) {
-      final Pair<Node> v$g$1 = yyRepValue1.reverse();
+      final int v$g$1 = yyRepStart1;
+      final int v$g$1$end = yyRepEnd1;
 
       yyBase   = yyRepetition1;
       yyResult = pSymbol(yyBase);
       if (yyResult.hasValue("=")) {
 
-        yyValue = GNode.createFromPair("Designation", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("Designation", v$g$1, v$g$1$end);
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       } else {
         yyError = yyError.select("'=' expected", yyBase);
       }
+      releaseBuffer(v$g$1);
     }
 
     // Alternative 2.
@@ -22697,27 +26867,63 @@ public final class CommandParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '`':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Array>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("[")) {
-      final String v$g$1 = "[";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("[")) {
+        final String v$g$1 = "[";
 
-      yyResult = pCommandC$ConditionalExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$2 = yyResult.semanticValue();
+        yyResult = pCommandC$ConditionalExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$2 = yyResult.semanticValue();
 
-        yyBase   = yyResult.index;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue("]")) {
+          yyBase   = yyResult.index;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue("]")) {
 
-          yyValue = GNode.create("Designator", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+            yyValue = GNode.create("Designator", v$g$1, v$g$2);
+            locate(yyValue, yyStart);
 
-          return yyResult.createValue(yyValue, yyError);
-        } else {
-          yyError = yyError.select("']' expected", yyBase);
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("']' expected", yyBase);
+          }
         }
       }
     }
@@ -22749,7 +26955,7 @@ public final class CommandParser extends ParserBase {
               if (yyResult.hasValue("]")) {
 
                 yyValue = GNode.create("Designator", v$g$3, v$g$4, v$g$5);
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return yyResult.createValue(yyValue, yyError);
               } else {
@@ -22764,20 +26970,22 @@ public final class CommandParser extends ParserBase {
     }
 
     // Alternative <Structure>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(".")) {
-      final String v$g$6 = ".";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(".")) {
+        final String v$g$6 = ".";
 
-      yyResult = pCommandC$PrimaryIdentifier(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$7 = yyResult.semanticValue();
+        yyResult = pCommandC$PrimaryIdentifier(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$7 = yyResult.semanticValue();
 
-        yyValue = GNode.create("Designator", v$g$6, v$g$7);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("Designator", v$g$6, v$g$7);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
@@ -22823,7 +27031,7 @@ public final class CommandParser extends ParserBase {
         if (yyResult.hasValue("]")) {
 
           yyValue = GNode.create("ObsoleteArrayDesignation", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
@@ -22846,7 +27054,7 @@ public final class CommandParser extends ParserBase {
             if (yyResult.hasValue("]")) {
 
               yyValue = GNode.create("ObsoleteArrayDesignation", v$g$1, v$g$2, v$g$3);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             } else {
@@ -22893,7 +27101,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue(":")) {
 
         yyValue = GNode.create("ObsoleteFieldDesignation", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       } else {
@@ -22916,10 +27124,15 @@ public final class CommandParser extends ParserBase {
    */
   private Result pCommandC$TypeName(final int yyStart) throws IOException {
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk8) yyColumn.chunk8 = new Chunk8();
-    if (null == yyColumn.chunk8.fCommandC$TypeName) 
-      yyColumn.chunk8.fCommandC$TypeName = pCommandC$TypeName$1(yyStart);
-    return yyColumn.chunk8.fCommandC$TypeName;
+    if (null == yyColumn.chunk11) yyColumn.chunk11 = new Chunk11();
+    if (null == yyColumn.chunk11.fCommandC$TypeName) {
+      yyColumn.chunk11.fCommandC$TypeName = pCommandC$TypeName$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(78, yyColumn.chunk11.fCommandC$TypeName);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(78, yyColumn.chunk11.fCommandC$TypeName);
+    }
+    return yyColumn.chunk11.fCommandC$TypeName;
   }
 
   /** Actually parse xtc.lang.blink.CommandC.TypeName. */
@@ -22955,7 +27168,7 @@ public final class CommandParser extends ParserBase {
         final Node v$g$2 = yyOpValue1;
 
         yyValue = GNode.create("TypeName", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         // Commit the state modification.
         yyState.commit();
@@ -22984,10 +27197,16 @@ public final class CommandParser extends ParserBase {
     throws IOException {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk8) yyColumn.chunk8 = new Chunk8();
-    if (null == yyColumn.chunk8.fCommandC$AttributeSpecifierList) 
-      yyColumn.chunk8.fCommandC$AttributeSpecifierList = pCommandC$AttributeSpecifierList$1(yyStart);
-    return yyColumn.chunk8.fCommandC$AttributeSpecifierList;
+    if (null == yyColumn.chunk6) yyColumn.chunk6 = new Chunk6();
+    if (null == yyColumn.chunk6.fCommandC$AttributeSpecifierList) {
+      yyColumn.chunk6.fCommandC$AttributeSpecifierList = 
+        pCommandC$AttributeSpecifierList$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(79, yyColumn.chunk6.fCommandC$AttributeSpecifierList);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(79, yyColumn.chunk6.fCommandC$AttributeSpecifierList);
+    }
+    return yyColumn.chunk6.fCommandC$AttributeSpecifierList;
   }
 
   /** Actually parse xtc.lang.blink.CommandC.AttributeSpecifierList. */
@@ -23006,7 +27225,7 @@ public final class CommandParser extends ParserBase {
       final Pair<Node> v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.createFromPair("AttributeSpecifierList", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -23077,10 +27296,16 @@ public final class CommandParser extends ParserBase {
     throws IOException {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk9) yyColumn.chunk9 = new Chunk9();
-    if (null == yyColumn.chunk9.fCommandC$AttributeSpecifier) 
-      yyColumn.chunk9.fCommandC$AttributeSpecifier = pCommandC$AttributeSpecifier$1(yyStart);
-    return yyColumn.chunk9.fCommandC$AttributeSpecifier;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fCommandC$AttributeSpecifier) {
+      yyColumn.chunk3.fCommandC$AttributeSpecifier = 
+        pCommandC$AttributeSpecifier$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(80, yyColumn.chunk3.fCommandC$AttributeSpecifier);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(80, yyColumn.chunk3.fCommandC$AttributeSpecifier);
+    }
+    return yyColumn.chunk3.fCommandC$AttributeSpecifier;
   }
 
   /** Actually parse xtc.lang.blink.CommandC.AttributeSpecifier. */
@@ -23131,7 +27356,7 @@ public final class CommandParser extends ParserBase {
               if (yyResult.hasValue(")")) {
 
                 yyValue = GNode.create("AttributeSpecifier", v$g$1);
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return yyResult.createValue(yyValue, yyError);
               } else {
@@ -23168,7 +27393,8 @@ public final class CommandParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -23180,7 +27406,8 @@ public final class CommandParser extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyBase   = yyRepetition1;
@@ -23193,7 +27420,7 @@ public final class CommandParser extends ParserBase {
             final Node v$el$1 = yyResult.semanticValue();
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
         } else {
@@ -23202,10 +27429,11 @@ public final class CommandParser extends ParserBase {
         break;
       }
       { // Start scope for v$g$2.
-        final Pair<Node> v$g$2 = yyRepValue1.reverse();
+        final int v$g$2 = yyRepStart1;
+        final int v$g$2$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("AttributeList", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("AttributeList", v$g$1, v$g$2, v$g$2$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$2.
@@ -23281,7 +27509,7 @@ public final class CommandParser extends ParserBase {
         final Node v$g$2 = yyOpValue1;
 
         yyValue = GNode.create("AttributeListEntry", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyOption1, yyError);
       } // End scope for v$g$2.
@@ -23302,10 +27530,15 @@ public final class CommandParser extends ParserBase {
    */
   private Result pCommandC$Statement(final int yyStart) throws IOException {
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk9) yyColumn.chunk9 = new Chunk9();
-    if (null == yyColumn.chunk9.fCommandC$Statement) 
-      yyColumn.chunk9.fCommandC$Statement = pCommandC$Statement$1(yyStart);
-    return yyColumn.chunk9.fCommandC$Statement;
+    if (null == yyColumn.chunk5) yyColumn.chunk5 = new Chunk5();
+    if (null == yyColumn.chunk5.fCommandC$Statement) {
+      yyColumn.chunk5.fCommandC$Statement = pCommandC$Statement$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(81, yyColumn.chunk5.fCommandC$Statement);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(81, yyColumn.chunk5.fCommandC$Statement);
+    }
+    return yyColumn.chunk5.fCommandC$Statement;
   }
 
   /** Actually parse xtc.lang.blink.CommandC.Statement. */
@@ -23317,6 +27550,96 @@ public final class CommandParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '`':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x8011;
+      break;
+
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x7fee;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
 
     yyResult = pCommandC$CommaExpression(yyStart);
@@ -23329,7 +27652,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue(";")) {
 
         yyValue = GNode.create("ExpressionStatement", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       } else {
@@ -23338,322 +27661,342 @@ public final class CommandParser extends ParserBase {
     }
 
     // Alternative <JavaInCStatement>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pCommandC$JavaInCStatement(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pCommandC$JavaInCStatement(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Cancel>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pCommandC$CancelStatement(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pCommandC$CancelStatement(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Commit>.
+    if ((0 != (yyFirst & 0x4)) || (yyError.index < yyStart)) {
 
-    yyResult = pCommandC$CommitStatement(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pCommandC$CommitStatement(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <With>.
+    if ((0 != (yyFirst & 0x8)) || (yyError.index < yyStart)) {
 
-    yyResult = pCommandC$WithStatement(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pCommandC$WithStatement(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Compound>.
+    if ((0 != (yyFirst & 0x10)) || (yyError.index < yyStart)) {
 
-    yyResult = pCommandC$CompoundStatement(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pCommandC$CompoundStatement(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 7.
+    if (0 != (yyFirst & 0x20)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("if")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("if")) {
 
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue("(")) {
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue("(")) {
 
-        yyResult = pCommandC$CommaExpression(yyResult.index);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$g$1 = yyResult.semanticValue();
+          yyResult = pCommandC$CommaExpression(yyResult.index);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Node v$g$1 = yyResult.semanticValue();
 
-          yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue(")")) {
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue(")")) {
 
-            yyResult = pCommandC$Statement(yyResult.index);
-            yyError  = yyResult.select(yyError);
-            if (yyResult.hasValue()) {
-              final Node v$g$2 = yyResult.semanticValue();
+              yyResult = pCommandC$Statement(yyResult.index);
+              yyError  = yyResult.select(yyError);
+              if (yyResult.hasValue()) {
+                final Node v$g$2 = yyResult.semanticValue();
 
-              final int yyChoice1 = yyResult.index;
+                final int yyChoice1 = yyResult.index;
 
-              // Nested alternative 1.
+                // Nested alternative 1.
 
-              yyBase   = yyChoice1;
-              yyResult = pKeyword(yyBase);
-              if (yyResult.hasValue("else")) {
+                yyBase   = yyChoice1;
+                yyResult = pKeyword(yyBase);
+                if (yyResult.hasValue("else")) {
 
-                yyResult = pCommandC$Statement(yyResult.index);
-                yyError  = yyResult.select(yyError);
-                if (yyResult.hasValue()) {
-                  final Node v$g$3 = yyResult.semanticValue();
+                  yyResult = pCommandC$Statement(yyResult.index);
+                  yyError  = yyResult.select(yyError);
+                  if (yyResult.hasValue()) {
+                    final Node v$g$3 = yyResult.semanticValue();
 
-                  yyValue = GNode.create("IfElseStatement", v$g$1, v$g$2, v$g$3);
-                  yyValue.setLocation(location(yyStart));
+                    yyValue = GNode.create("IfElseStatement", v$g$1, v$g$2, v$g$3);
+                    locate(yyValue, yyStart);
 
-                  return yyResult.createValue(yyValue, yyError);
+                    return yyResult.createValue(yyValue, yyError);
+                  }
+                } else {
+                  yyError = yyError.select("'else' expected", yyBase);
                 }
-              } else {
-                yyError = yyError.select("'else' expected", yyBase);
-              }
 
-              // Nested alternative 2.
+                // Nested alternative 2.
 
-              yyValue = GNode.create("IfStatement", v$g$1, v$g$2);
-              yyValue.setLocation(location(yyStart));
+                yyValue = GNode.create("IfStatement", v$g$1, v$g$2);
+                locate(yyValue, yyStart);
 
-              return new SemanticValue(yyValue, yyChoice1, yyError);
+                return new SemanticValue(yyValue, yyChoice1, yyError);
+              }
+            } else {
+              yyError = yyError.select("')' expected", yyBase);
             }
-          } else {
-            yyError = yyError.select("')' expected", yyBase);
           }
+        } else {
+          yyError = yyError.select("'(' expected", yyBase);
         }
-      } else {
-        yyError = yyError.select("'(' expected", yyBase);
       }
     }
 
     // Alternative 8.
+    if (0 != (yyFirst & 0x40)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("while")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("while")) {
 
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue("(")) {
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue("(")) {
 
-        yyResult = pCommandC$CommaExpression(yyResult.index);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$g$1 = yyResult.semanticValue();
+          yyResult = pCommandC$CommaExpression(yyResult.index);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Node v$g$1 = yyResult.semanticValue();
 
-          yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue(")")) {
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue(")")) {
 
-            yyResult = pCommandC$Statement(yyResult.index);
-            yyError  = yyResult.select(yyError);
-            if (yyResult.hasValue()) {
-              final Node v$g$2 = yyResult.semanticValue();
+              yyResult = pCommandC$Statement(yyResult.index);
+              yyError  = yyResult.select(yyError);
+              if (yyResult.hasValue()) {
+                final Node v$g$2 = yyResult.semanticValue();
 
-              yyValue = GNode.create("WhileStatement", v$g$1, v$g$2);
-              yyValue.setLocation(location(yyStart));
+                yyValue = GNode.create("WhileStatement", v$g$1, v$g$2);
+                locate(yyValue, yyStart);
 
-              return yyResult.createValue(yyValue, yyError);
+                return yyResult.createValue(yyValue, yyError);
+              }
+            } else {
+              yyError = yyError.select("')' expected", yyBase);
             }
-          } else {
-            yyError = yyError.select("')' expected", yyBase);
           }
+        } else {
+          yyError = yyError.select("'(' expected", yyBase);
         }
-      } else {
-        yyError = yyError.select("'(' expected", yyBase);
       }
     }
 
     // Alternative 9.
+    if (0 != (yyFirst & 0x80)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("do")) {
-
-      yyResult = pCommandC$Statement(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("do")) {
 
-        yyBase   = yyResult.index;
-        yyResult = pKeyword(yyBase);
-        if (yyResult.hasValue("while")) {
+        yyResult = pCommandC$Statement(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$1 = yyResult.semanticValue();
 
           yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue("(")) {
+          yyResult = pKeyword(yyBase);
+          if (yyResult.hasValue("while")) {
 
-            yyResult = pCommandC$CommaExpression(yyResult.index);
-            yyError  = yyResult.select(yyError);
-            if (yyResult.hasValue()) {
-              final Node v$g$2 = yyResult.semanticValue();
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue("(")) {
 
-              yyBase   = yyResult.index;
-              yyResult = pSymbol(yyBase);
-              if (yyResult.hasValue(")")) {
+              yyResult = pCommandC$CommaExpression(yyResult.index);
+              yyError  = yyResult.select(yyError);
+              if (yyResult.hasValue()) {
+                final Node v$g$2 = yyResult.semanticValue();
 
                 yyBase   = yyResult.index;
                 yyResult = pSymbol(yyBase);
-                if (yyResult.hasValue(";")) {
+                if (yyResult.hasValue(")")) {
 
-                  yyValue = GNode.create("DoStatement", v$g$1, v$g$2);
-                  yyValue.setLocation(location(yyStart));
+                  yyBase   = yyResult.index;
+                  yyResult = pSymbol(yyBase);
+                  if (yyResult.hasValue(";")) {
 
-                  return yyResult.createValue(yyValue, yyError);
+                    yyValue = GNode.create("DoStatement", v$g$1, v$g$2);
+                    locate(yyValue, yyStart);
+
+                    return yyResult.createValue(yyValue, yyError);
+                  } else {
+                    yyError = yyError.select("';' expected", yyBase);
+                  }
                 } else {
-                  yyError = yyError.select("';' expected", yyBase);
+                  yyError = yyError.select("')' expected", yyBase);
                 }
-              } else {
-                yyError = yyError.select("')' expected", yyBase);
               }
+            } else {
+              yyError = yyError.select("'(' expected", yyBase);
             }
           } else {
-            yyError = yyError.select("'(' expected", yyBase);
+            yyError = yyError.select("'while' expected", yyBase);
           }
-        } else {
-          yyError = yyError.select("'while' expected", yyBase);
         }
       }
     }
 
     // Alternative 10.
+    if (0 != (yyFirst & 0x100)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("for")) {
-
-      yyResult = pPushScope(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-
-        yyBase   = yyResult.index;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue("(")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("for")) {
 
-          yyResult = pCommandC$InitialClause(yyResult.index);
-          yyError  = yyResult.select(yyError);
-          if (yyResult.hasValue()) {
-            final Node v$g$1 = yyResult.semanticValue();
+        yyResult = pPushScope(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
 
-            yyOption1  = yyResult.index;
-            yyOpValue1 = null;
+          yyBase   = yyResult.index;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue("(")) {
 
-            yyResult = pCommandC$CommaExpression(yyOption1);
-            yyError  = yyResult.select(yyError, yyOption1);
+            yyResult = pCommandC$InitialClause(yyResult.index);
+            yyError  = yyResult.select(yyError);
             if (yyResult.hasValue()) {
-              final Node v$el$1 = yyResult.semanticValue();
+              final Node v$g$1 = yyResult.semanticValue();
 
               yyOption1  = yyResult.index;
-              yyOpValue1 = v$el$1;
-            }
-            { // Start scope for v$g$2.
-              final Node v$g$2 = yyOpValue1;
+              yyOpValue1 = null;
 
-              yyBase   = yyOption1;
-              yyResult = pSymbol(yyBase);
-              if (yyResult.hasValue(";")) {
+              yyResult = pCommandC$CommaExpression(yyOption1);
+              yyError  = yyResult.select(yyError, yyOption1);
+              if (yyResult.hasValue()) {
+                final Node v$el$1 = yyResult.semanticValue();
 
                 yyOption1  = yyResult.index;
-                yyOpValue1 = null;
+                yyOpValue1 = v$el$1;
+              }
+              { // Start scope for v$g$2.
+                final Node v$g$2 = yyOpValue1;
 
-                yyResult = pCommandC$CommaExpression(yyOption1);
-                yyError  = yyResult.select(yyError, yyOption1);
-                if (yyResult.hasValue()) {
-                  final Node v$el$2 = yyResult.semanticValue();
+                yyBase   = yyOption1;
+                yyResult = pSymbol(yyBase);
+                if (yyResult.hasValue(";")) {
 
                   yyOption1  = yyResult.index;
-                  yyOpValue1 = v$el$2;
-                }
-                { // Start scope for v$g$3.
-                  final Node v$g$3 = yyOpValue1;
+                  yyOpValue1 = null;
 
-                  yyBase   = yyOption1;
-                  yyResult = pSymbol(yyBase);
-                  if (yyResult.hasValue(")")) {
+                  yyResult = pCommandC$CommaExpression(yyOption1);
+                  yyError  = yyResult.select(yyError, yyOption1);
+                  if (yyResult.hasValue()) {
+                    final Node v$el$2 = yyResult.semanticValue();
 
-                    yyResult = pCommandC$Statement(yyResult.index);
-                    yyError  = yyResult.select(yyError);
-                    if (yyResult.hasValue()) {
-                      final Node v$g$4 = yyResult.semanticValue();
+                    yyOption1  = yyResult.index;
+                    yyOpValue1 = v$el$2;
+                  }
+                  { // Start scope for v$g$3.
+                    final Node v$g$3 = yyOpValue1;
 
-                      yyResult = pPopScope(yyResult.index);
+                    yyBase   = yyOption1;
+                    yyResult = pSymbol(yyBase);
+                    if (yyResult.hasValue(")")) {
+
+                      yyResult = pCommandC$Statement(yyResult.index);
                       yyError  = yyResult.select(yyError);
                       if (yyResult.hasValue()) {
+                        final Node v$g$4 = yyResult.semanticValue();
 
-                        yyValue = GNode.create("ForStatement", v$g$1, v$g$2, v$g$3, v$g$4);
-                        yyValue.setLocation(location(yyStart));
+                        yyResult = pPopScope(yyResult.index);
+                        yyError  = yyResult.select(yyError);
+                        if (yyResult.hasValue()) {
+
+                          yyValue = GNode.create("ForStatement", v$g$1, v$g$2, v$g$3, v$g$4);
+                          locate(yyValue, yyStart);
 
-                        return yyResult.createValue(yyValue, yyError);
+                          return yyResult.createValue(yyValue, yyError);
+                        }
                       }
+                    } else {
+                      yyError = yyError.select("')' expected", yyBase);
                     }
-                  } else {
-                    yyError = yyError.select("')' expected", yyBase);
-                  }
-                } // End scope for v$g$3.
-              } else {
-                yyError = yyError.select("';' expected", yyBase);
-              }
-            } // End scope for v$g$2.
+                  } // End scope for v$g$3.
+                } else {
+                  yyError = yyError.select("';' expected", yyBase);
+                }
+              } // End scope for v$g$2.
+            }
+          } else {
+            yyError = yyError.select("'(' expected", yyBase);
           }
-        } else {
-          yyError = yyError.select("'(' expected", yyBase);
         }
       }
     }
 
     // Alternative 11.
+    if (0 != (yyFirst & 0x200)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("switch")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("switch")) {
 
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue("(")) {
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue("(")) {
 
-        yyResult = pCommandC$CommaExpression(yyResult.index);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$g$1 = yyResult.semanticValue();
+          yyResult = pCommandC$CommaExpression(yyResult.index);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Node v$g$1 = yyResult.semanticValue();
 
-          yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue(")")) {
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue(")")) {
 
-            yyResult = pCommandC$Statement(yyResult.index);
-            yyError  = yyResult.select(yyError);
-            if (yyResult.hasValue()) {
-              final Node v$g$2 = yyResult.semanticValue();
+              yyResult = pCommandC$Statement(yyResult.index);
+              yyError  = yyResult.select(yyError);
+              if (yyResult.hasValue()) {
+                final Node v$g$2 = yyResult.semanticValue();
 
-              yyValue = GNode.create("SwitchStatement", v$g$1, v$g$2);
-              yyValue.setLocation(location(yyStart));
+                yyValue = GNode.create("SwitchStatement", v$g$1, v$g$2);
+                locate(yyValue, yyStart);
 
-              return yyResult.createValue(yyValue, yyError);
+                return yyResult.createValue(yyValue, yyError);
+              }
+            } else {
+              yyError = yyError.select("')' expected", yyBase);
             }
-          } else {
-            yyError = yyError.select("')' expected", yyBase);
           }
+        } else {
+          yyError = yyError.select("'(' expected", yyBase);
         }
-      } else {
-        yyError = yyError.select("'(' expected", yyBase);
       }
     }
 
@@ -23670,7 +28013,7 @@ public final class CommandParser extends ParserBase {
         final Node v$g$2 = yyResult.semanticValue();
 
         yyValue = GNode.create("LabeledStatement", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -23686,101 +28029,109 @@ public final class CommandParser extends ParserBase {
         final Node v$g$3 = yyResult.semanticValue();
 
         yyValue = GNode.create("LabeledStatement", v$g$3, null);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
     }
 
     // Alternative 14.
+    if (0 != (yyFirst & 0x400)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("break")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("break")) {
 
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue(";")) {
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue(";")) {
 
-        yyValue = GNode.create("BreakStatement", false);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("BreakStatement", false);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
-      } else {
-        yyError = yyError.select("';' expected", yyBase);
+          return yyResult.createValue(yyValue, yyError);
+        } else {
+          yyError = yyError.select("';' expected", yyBase);
+        }
       }
     }
 
     // Alternative 15.
+    if (0 != (yyFirst & 0x800)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("continue")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("continue")) {
 
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue(";")) {
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue(";")) {
 
-        yyValue = GNode.create("ContinueStatement", false);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("ContinueStatement", false);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
-      } else {
-        yyError = yyError.select("';' expected", yyBase);
+          return yyResult.createValue(yyValue, yyError);
+        } else {
+          yyError = yyError.select("';' expected", yyBase);
+        }
       }
     }
 
     // Alternative 16.
+    if (0 != (yyFirst & 0x1000)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("return")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("return")) {
 
-      yyOption1  = yyResult.index;
-      yyOpValue1 = null;
+        yyOption1  = yyResult.index;
+        yyOpValue1 = null;
 
-      yyResult = pCommandC$CommaExpression(yyOption1);
-      yyError  = yyResult.select(yyError, yyOption1);
-      if (yyResult.hasValue()) {
-        final Node v$el$1 = yyResult.semanticValue();
+        yyResult = pCommandC$CommaExpression(yyOption1);
+        yyError  = yyResult.select(yyError, yyOption1);
+        if (yyResult.hasValue()) {
+          final Node v$el$1 = yyResult.semanticValue();
 
-        yyOption1  = yyResult.index;
-        yyOpValue1 = v$el$1;
-      }
-      { // Start scope for v$g$1.
-        final Node v$g$1 = yyOpValue1;
+          yyOption1  = yyResult.index;
+          yyOpValue1 = v$el$1;
+        }
+        { // Start scope for v$g$1.
+          final Node v$g$1 = yyOpValue1;
 
-        yyBase   = yyOption1;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue(";")) {
+          yyBase   = yyOption1;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue(";")) {
 
-          yyValue = GNode.create("ReturnStatement", v$g$1);
-          yyValue.setLocation(location(yyStart));
+            yyValue = GNode.create("ReturnStatement", v$g$1);
+            locate(yyValue, yyStart);
 
-          return yyResult.createValue(yyValue, yyError);
-        } else {
-          yyError = yyError.select("';' expected", yyBase);
-        }
-      } // End scope for v$g$1.
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("';' expected", yyBase);
+          }
+        } // End scope for v$g$1.
+      }
     }
 
     // Alternative <Direct>.
+    if (0 != (yyFirst & 0x2000)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("goto")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("goto")) {
 
-      yyResult = pCommandC$PrimaryIdentifier(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$2 = yyResult.semanticValue();
+        yyResult = pCommandC$PrimaryIdentifier(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$2 = yyResult.semanticValue();
 
-        yyBase   = yyResult.index;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue(";")) {
+          yyBase   = yyResult.index;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue(";")) {
 
-          yyValue = GNode.create("GotoStatement", null, v$g$2);
-          yyValue.setLocation(location(yyStart));
+            yyValue = GNode.create("GotoStatement", null, v$g$2);
+            locate(yyValue, yyStart);
 
-          return yyResult.createValue(yyValue, yyError);
-        } else {
-          yyError = yyError.select("';' expected", yyBase);
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("';' expected", yyBase);
+          }
         }
       }
     }
@@ -23807,7 +28158,7 @@ public final class CommandParser extends ParserBase {
             if (yyResult.hasValue(";")) {
 
               yyValue = GNode.create("GotoStatement", v$g$3, v$g$4);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             } else {
@@ -23821,69 +28172,73 @@ public final class CommandParser extends ParserBase {
     }
 
     // Alternative 19.
+    if ((0 != (yyFirst & 0x4000)) || (yyError.index < yyStart)) {
 
-    yyResult = p$$Shared18(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-
-      yyOption1  = yyResult.index;
-      yyOpValue1 = null;
-
-      yyResult = pCommandC$TypeQualifier(yyOption1);
-      yyError  = yyResult.select(yyError, yyOption1);
+      yyResult = p$$Shared18(yyStart);
+      yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
-        final Node v$el$1 = yyResult.semanticValue();
 
         yyOption1  = yyResult.index;
-        yyOpValue1 = v$el$1;
-      }
-      { // Start scope for v$g$1.
-        final Node v$g$1 = yyOpValue1;
+        yyOpValue1 = null;
 
-        yyBase   = yyOption1;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue("(")) {
+        yyResult = pCommandC$TypeQualifier(yyOption1);
+        yyError  = yyResult.select(yyError, yyOption1);
+        if (yyResult.hasValue()) {
+          final Node v$el$1 = yyResult.semanticValue();
 
-          yyResult = pCommandC$AssemblyArgument(yyResult.index);
-          yyError  = yyResult.select(yyError);
-          if (yyResult.hasValue()) {
-            final Node v$g$2 = yyResult.semanticValue();
+          yyOption1  = yyResult.index;
+          yyOpValue1 = v$el$1;
+        }
+        { // Start scope for v$g$1.
+          final Node v$g$1 = yyOpValue1;
 
-            yyBase   = yyResult.index;
-            yyResult = pSymbol(yyBase);
-            if (yyResult.hasValue(")")) {
+          yyBase   = yyOption1;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue("(")) {
+
+            yyResult = pCommandC$AssemblyArgument(yyResult.index);
+            yyError  = yyResult.select(yyError);
+            if (yyResult.hasValue()) {
+              final Node v$g$2 = yyResult.semanticValue();
 
               yyBase   = yyResult.index;
               yyResult = pSymbol(yyBase);
-              if (yyResult.hasValue(";")) {
-                final String v$g$3 = ";";
+              if (yyResult.hasValue(")")) {
 
-                yyValue = GNode.create("AssemblyStatement", v$g$1, v$g$2, v$g$3);
-                yyValue.setLocation(location(yyStart));
+                yyBase   = yyResult.index;
+                yyResult = pSymbol(yyBase);
+                if (yyResult.hasValue(";")) {
+                  final String v$g$3 = ";";
 
-                return yyResult.createValue(yyValue, yyError);
+                  yyValue = GNode.create("AssemblyStatement", v$g$1, v$g$2, v$g$3);
+                  locate(yyValue, yyStart);
+
+                  return yyResult.createValue(yyValue, yyError);
+                } else {
+                  yyError = yyError.select("';' expected", yyBase);
+                }
               } else {
-                yyError = yyError.select("';' expected", yyBase);
+                yyError = yyError.select("')' expected", yyBase);
               }
-            } else {
-              yyError = yyError.select("')' expected", yyBase);
             }
+          } else {
+            yyError = yyError.select("'(' expected", yyBase);
           }
-        } else {
-          yyError = yyError.select("'(' expected", yyBase);
-        }
-      } // End scope for v$g$1.
+        } // End scope for v$g$1.
+      }
     }
 
     // Alternative 20.
+    if (0 != (yyFirst & 0x8000)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(";")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(";")) {
 
-      yyValue = GNode.create("EmptyStatement", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("EmptyStatement", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -23908,38 +28263,102 @@ public final class CommandParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
-    // Alternative <Label>.
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x7;
+      break;
 
-    yyResult = pCIdentifier$Identifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final String v$g$1 = yyResult.semanticValue();
+    default:
+      yyFirst = 0;
+    }
 
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue(":")) {
+    // Alternative <Label>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-        yyOption1  = yyResult.index;
-        yyOpValue1 = null;
+      yyResult = pCIdentifier$Identifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final String v$g$1 = yyResult.semanticValue();
 
-        yyResult = pCommandC$AttributeSpecifierList(yyOption1);
-        yyError  = yyResult.select(yyError, yyOption1);
-        if (yyResult.hasValue()) {
-          final Node v$el$1 = yyResult.semanticValue();
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue(":")) {
 
           yyOption1  = yyResult.index;
-          yyOpValue1 = v$el$1;
-        }
-        { // Start scope for v$g$2.
-          final Node v$g$2 = yyOpValue1;
+          yyOpValue1 = null;
 
-          yyValue = GNode.create("NamedLabel", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          yyResult = pCommandC$AttributeSpecifierList(yyOption1);
+          yyError  = yyResult.select(yyError, yyOption1);
+          if (yyResult.hasValue()) {
+            final Node v$el$1 = yyResult.semanticValue();
 
-          return new SemanticValue(yyValue, yyOption1, yyError);
-        } // End scope for v$g$2.
-      } else {
-        yyError = yyError.select("':' expected", yyBase);
+            yyOption1  = yyResult.index;
+            yyOpValue1 = v$el$1;
+          }
+          { // Start scope for v$g$2.
+            final Node v$g$2 = yyOpValue1;
+
+            yyValue = GNode.create("NamedLabel", v$g$1, v$g$2);
+            locate(yyValue, yyStart);
+
+            return new SemanticValue(yyValue, yyOption1, yyError);
+          } // End scope for v$g$2.
+        } else {
+          yyError = yyError.select("':' expected", yyBase);
+        }
       }
     }
 
@@ -23969,7 +28388,7 @@ public final class CommandParser extends ParserBase {
               if (yyResult.hasValue(":")) {
 
                 yyValue = GNode.create("CaseLabel", v$g$1, v$g$2);
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return yyResult.createValue(yyValue, yyError);
               } else {
@@ -23984,44 +28403,48 @@ public final class CommandParser extends ParserBase {
     }
 
     // Alternative <Simple>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("case")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("case")) {
 
-      yyResult = pCommandC$ConditionalExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$3 = yyResult.semanticValue();
+        yyResult = pCommandC$ConditionalExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$3 = yyResult.semanticValue();
 
-        yyBase   = yyResult.index;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue(":")) {
+          yyBase   = yyResult.index;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue(":")) {
 
-          yyValue = GNode.create("CaseLabel", v$g$3);
-          yyValue.setLocation(location(yyStart));
+            yyValue = GNode.create("CaseLabel", v$g$3);
+            locate(yyValue, yyStart);
 
-          return yyResult.createValue(yyValue, yyError);
-        } else {
-          yyError = yyError.select("':' expected", yyBase);
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("':' expected", yyBase);
+          }
         }
       }
     }
 
     // Alternative 4.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("default")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("default")) {
 
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue(":")) {
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue(":")) {
 
-        yyValue = GNode.create("DefaultLabel", false);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("DefaultLabel", false);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
-      } else {
-        yyError = yyError.select("':' expected", yyBase);
+          return yyResult.createValue(yyValue, yyError);
+        } else {
+          yyError = yyError.select("':' expected", yyBase);
+        }
       }
     }
 
@@ -24043,10 +28466,16 @@ public final class CommandParser extends ParserBase {
     throws IOException {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk9) yyColumn.chunk9 = new Chunk9();
-    if (null == yyColumn.chunk9.fCommandC$CompoundStatement) 
-      yyColumn.chunk9.fCommandC$CompoundStatement = pCommandC$CompoundStatement$1(yyStart);
-    return yyColumn.chunk9.fCommandC$CompoundStatement;
+    if (null == yyColumn.chunk5) yyColumn.chunk5 = new Chunk5();
+    if (null == yyColumn.chunk5.fCommandC$CompoundStatement) {
+      yyColumn.chunk5.fCommandC$CompoundStatement = 
+        pCommandC$CompoundStatement$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(82, yyColumn.chunk5.fCommandC$CompoundStatement);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(82, yyColumn.chunk5.fCommandC$CompoundStatement);
+    }
+    return yyColumn.chunk5.fCommandC$CompoundStatement;
   }
 
   /** Actually parse xtc.lang.blink.CommandC.CompoundStatement. */
@@ -24057,24 +28486,62 @@ public final class CommandParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '`':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <CBlock>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pCommandC$CInCBlock(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pCommandC$CInCBlock(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <JavaBlock>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pCommandC$JavaInCBlock(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pCommandC$JavaInCBlock(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -24093,12 +28560,13 @@ public final class CommandParser extends ParserBase {
   private Result pCommandC$LocalLabelDeclaration(final int yyStart) 
     throws IOException {
 
-    Result       yyResult;
-    int          yyBase;
-    int          yyRepetition1;
-    Pair<String> yyRepValue1;
-    Node         yyValue;
-    ParseError   yyError = ParseError.DUMMY;
+    Result     yyResult;
+    int        yyBase;
+    int        yyRepetition1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
+    Node       yyValue;
+    ParseError yyError = ParseError.DUMMY;
 
     // Alternative 1.
 
@@ -24111,7 +28579,8 @@ public final class CommandParser extends ParserBase {
         final String v$g$1 = yyResult.semanticValue();
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyBase   = yyRepetition1;
@@ -24124,7 +28593,7 @@ public final class CommandParser extends ParserBase {
               final String v$el$1 = yyResult.semanticValue();
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<String>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
           } else {
@@ -24133,19 +28602,21 @@ public final class CommandParser extends ParserBase {
           break;
         }
         { // Start scope for v$g$2.
-          final Pair<String> v$g$2 = yyRepValue1.reverse();
+          final int v$g$2 = yyRepStart1;
+          final int v$g$2$end = yyRepEnd1;
 
           yyBase   = yyRepetition1;
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue(";")) {
 
-            yyValue = GNode.createFromPair("LocalLabelDeclaration", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
+            yyValue = bufferedNode("LocalLabelDeclaration", v$g$1, v$g$2, v$g$2$end);
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
             yyError = yyError.select("';' expected", yyBase);
           }
+          releaseBuffer(v$g$2);
         } // End scope for v$g$2.
       }
     }
@@ -24299,10 +28770,16 @@ public final class CommandParser extends ParserBase {
     throws IOException {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk9) yyColumn.chunk9 = new Chunk9();
-    if (null == yyColumn.chunk9.fCommandC$CommaExpression) 
-      yyColumn.chunk9.fCommandC$CommaExpression = pCommandC$CommaExpression$1(yyStart);
-    return yyColumn.chunk9.fCommandC$CommaExpression;
+    if (null == yyColumn.chunk5) yyColumn.chunk5 = new Chunk5();
+    if (null == yyColumn.chunk5.fCommandC$CommaExpression) {
+      yyColumn.chunk5.fCommandC$CommaExpression = 
+        pCommandC$CommaExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(83, yyColumn.chunk5.fCommandC$CommaExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(83, yyColumn.chunk5.fCommandC$CommaExpression);
+    }
+    return yyColumn.chunk5.fCommandC$CommaExpression;
   }
 
   /** Actually parse xtc.lang.blink.CommandC.CommaExpression. */
@@ -24403,10 +28880,16 @@ public final class CommandParser extends ParserBase {
     throws IOException {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk9) yyColumn.chunk9 = new Chunk9();
-    if (null == yyColumn.chunk9.fCommandC$AssignmentExpression) 
-      yyColumn.chunk9.fCommandC$AssignmentExpression = pCommandC$AssignmentExpression$1(yyStart);
-    return yyColumn.chunk9.fCommandC$AssignmentExpression;
+    if (null == yyColumn.chunk5) yyColumn.chunk5 = new Chunk5();
+    if (null == yyColumn.chunk5.fCommandC$AssignmentExpression) {
+      yyColumn.chunk5.fCommandC$AssignmentExpression = 
+        pCommandC$AssignmentExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(84, yyColumn.chunk5.fCommandC$AssignmentExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(84, yyColumn.chunk5.fCommandC$AssignmentExpression);
+    }
+    return yyColumn.chunk5.fCommandC$AssignmentExpression;
   }
 
   /** Actually parse xtc.lang.blink.CommandC.AssignmentExpression. */
@@ -24435,7 +28918,7 @@ public final class CommandParser extends ParserBase {
           final Node v$g$3 = yyResult.semanticValue();
 
           yyValue = GNode.create("AssignmentExpression", v$g$1, v$g$2, v$g$3);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -24469,10 +28952,16 @@ public final class CommandParser extends ParserBase {
     throws IOException {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk9) yyColumn.chunk9 = new Chunk9();
-    if (null == yyColumn.chunk9.fCommandC$ConditionalExpression) 
-      yyColumn.chunk9.fCommandC$ConditionalExpression = pCommandC$ConditionalExpression$1(yyStart);
-    return yyColumn.chunk9.fCommandC$ConditionalExpression;
+    if (null == yyColumn.chunk5) yyColumn.chunk5 = new Chunk5();
+    if (null == yyColumn.chunk5.fCommandC$ConditionalExpression) {
+      yyColumn.chunk5.fCommandC$ConditionalExpression = 
+        pCommandC$ConditionalExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(85, yyColumn.chunk5.fCommandC$ConditionalExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(85, yyColumn.chunk5.fCommandC$ConditionalExpression);
+    }
+    return yyColumn.chunk5.fCommandC$ConditionalExpression;
   }
 
   /** Actually parse xtc.lang.blink.CommandC.ConditionalExpression. */
@@ -24510,7 +28999,7 @@ public final class CommandParser extends ParserBase {
               final Node v$g$3 = yyResult.semanticValue();
 
               yyValue = GNode.create("ConditionalExpression", v$g$1, v$g$2, v$g$3);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -24546,7 +29035,7 @@ public final class CommandParser extends ParserBase {
               final Node v$g$6 = yyResult.semanticValue();
 
               yyValue = GNode.create("ConditionalExpression", v$g$4, null, v$g$6);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -24587,10 +29076,16 @@ public final class CommandParser extends ParserBase {
     throws IOException {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk9) yyColumn.chunk9 = new Chunk9();
-    if (null == yyColumn.chunk9.fCommandC$LogicalOrExpression) 
-      yyColumn.chunk9.fCommandC$LogicalOrExpression = pCommandC$LogicalOrExpression$1(yyStart);
-    return yyColumn.chunk9.fCommandC$LogicalOrExpression;
+    if (null == yyColumn.chunk5) yyColumn.chunk5 = new Chunk5();
+    if (null == yyColumn.chunk5.fCommandC$LogicalOrExpression) {
+      yyColumn.chunk5.fCommandC$LogicalOrExpression = 
+        pCommandC$LogicalOrExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(86, yyColumn.chunk5.fCommandC$LogicalOrExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(86, yyColumn.chunk5.fCommandC$LogicalOrExpression);
+    }
+    return yyColumn.chunk5.fCommandC$LogicalOrExpression;
   }
 
   /** Actually parse xtc.lang.blink.CommandC.LogicalOrExpression. */
@@ -25533,10 +30028,16 @@ public final class CommandParser extends ParserBase {
     throws IOException {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk9) yyColumn.chunk9 = new Chunk9();
-    if (null == yyColumn.chunk9.fCommandC$CastExpression) 
-      yyColumn.chunk9.fCommandC$CastExpression = pCommandC$CastExpression$1(yyStart);
-    return yyColumn.chunk9.fCommandC$CastExpression;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fCommandC$CastExpression) {
+      yyColumn.chunk3.fCommandC$CastExpression = 
+        pCommandC$CastExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(87, yyColumn.chunk3.fCommandC$CastExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(87, yyColumn.chunk3.fCommandC$CastExpression);
+    }
+    return yyColumn.chunk3.fCommandC$CastExpression;
   }
 
   /** Actually parse xtc.lang.blink.CommandC.CastExpression. */
@@ -25568,7 +30069,7 @@ public final class CommandParser extends ParserBase {
             final Node v$g$2 = yyResult.semanticValue();
 
             yyValue = GNode.create("CastExpression", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           }
@@ -25606,10 +30107,16 @@ public final class CommandParser extends ParserBase {
     throws IOException {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk9) yyColumn.chunk9 = new Chunk9();
-    if (null == yyColumn.chunk9.fCommandC$UnaryExpression) 
-      yyColumn.chunk9.fCommandC$UnaryExpression = pCommandC$UnaryExpression$1(yyStart);
-    return yyColumn.chunk9.fCommandC$UnaryExpression;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fCommandC$UnaryExpression) {
+      yyColumn.chunk3.fCommandC$UnaryExpression = 
+        pCommandC$UnaryExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(88, yyColumn.chunk3.fCommandC$UnaryExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(88, yyColumn.chunk3.fCommandC$UnaryExpression);
+    }
+    return yyColumn.chunk3.fCommandC$UnaryExpression;
   }
 
   /** Actually parse xtc.lang.blink.CommandC.UnaryExpression. */
@@ -25623,309 +30130,419 @@ public final class CommandParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '`':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x1ff0;
+      break;
+
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0xf;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("sizeof")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("sizeof")) {
 
-      final int yyChoice1 = yyResult.index;
+        final int yyChoice1 = yyResult.index;
 
-      // Nested alternative 1.
+        // Nested alternative 1.
 
-      yyBase   = yyChoice1;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue("(")) {
+        yyBase   = yyChoice1;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue("(")) {
 
-        yyResult = pCommandC$TypeName(yyResult.index);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$g$1 = yyResult.semanticValue();
+          yyResult = pCommandC$TypeName(yyResult.index);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Node v$g$1 = yyResult.semanticValue();
 
-          yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue(")")) {
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue(")")) {
 
-            yyPredMatched = false;
+              yyPredMatched = false;
 
-            yyPredResult = pSymbol(yyResult.index);
-            if (yyPredResult.hasValue("{")) {
+              yyPredResult = pSymbol(yyResult.index);
+              if (yyPredResult.hasValue("{")) {
 
-              yyPredMatched = true;
-            }
+                yyPredMatched = true;
+              }
 
-            if (! yyPredMatched) {
+              if (! yyPredMatched) {
 
-              yyValue = GNode.create("SizeofExpression", v$g$1);
-              yyValue.setLocation(location(yyStart));
+                yyValue = GNode.create("SizeofExpression", v$g$1);
+                locate(yyValue, yyStart);
 
-              return yyResult.createValue(yyValue, yyError);
+                return yyResult.createValue(yyValue, yyError);
+              } else {
+                yyError = yyError.select("unary expression expected", yyStart);
+              }
             } else {
-              yyError = yyError.select("unary expression expected", yyStart);
+              yyError = yyError.select("')' expected", yyBase);
             }
-          } else {
-            yyError = yyError.select("')' expected", yyBase);
           }
+        } else {
+          yyError = yyError.select("'(' expected", yyBase);
         }
-      } else {
-        yyError = yyError.select("'(' expected", yyBase);
-      }
 
-      // Nested alternative 2.
+        // Nested alternative 2.
 
-      yyResult = pCommandC$UnaryExpression(yyChoice1);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$2 = yyResult.semanticValue();
+        yyResult = pCommandC$UnaryExpression(yyChoice1);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("SizeofExpression", v$g$2);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("SizeofExpression", v$g$2);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 2.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = p$$Shared17(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
+      yyResult = p$$Shared17(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
 
-      final int yyChoice1 = yyResult.index;
+        final int yyChoice1 = yyResult.index;
 
-      // Nested alternative 1.
+        // Nested alternative 1.
 
-      yyBase   = yyChoice1;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue("(")) {
+        yyBase   = yyChoice1;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue("(")) {
 
-        yyResult = pCommandC$TypeName(yyResult.index);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$g$1 = yyResult.semanticValue();
+          yyResult = pCommandC$TypeName(yyResult.index);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Node v$g$1 = yyResult.semanticValue();
 
-          yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue(")")) {
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue(")")) {
 
-            yyPredMatched = false;
+              yyPredMatched = false;
 
-            yyPredResult = pSymbol(yyResult.index);
-            if (yyPredResult.hasValue("{")) {
+              yyPredResult = pSymbol(yyResult.index);
+              if (yyPredResult.hasValue("{")) {
 
-              yyPredMatched = true;
-            }
+                yyPredMatched = true;
+              }
 
-            if (! yyPredMatched) {
+              if (! yyPredMatched) {
 
-              yyValue = GNode.create("AlignofExpression", v$g$1);
-              yyValue.setLocation(location(yyStart));
+                yyValue = GNode.create("AlignofExpression", v$g$1);
+                locate(yyValue, yyStart);
 
-              return yyResult.createValue(yyValue, yyError);
+                return yyResult.createValue(yyValue, yyError);
+              } else {
+                yyError = yyError.select("unary expression expected", yyStart);
+              }
             } else {
-              yyError = yyError.select("unary expression expected", yyStart);
+              yyError = yyError.select("')' expected", yyBase);
             }
-          } else {
-            yyError = yyError.select("')' expected", yyBase);
           }
+        } else {
+          yyError = yyError.select("'(' expected", yyBase);
         }
-      } else {
-        yyError = yyError.select("'(' expected", yyBase);
-      }
 
-      // Nested alternative 2.
+        // Nested alternative 2.
 
-      yyResult = pCommandC$UnaryExpression(yyChoice1);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$2 = yyResult.semanticValue();
+        yyResult = pCommandC$UnaryExpression(yyChoice1);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("AlignofExpression", v$g$2);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("AlignofExpression", v$g$2);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__builtin_offsetof")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__builtin_offsetof")) {
 
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue("(")) {
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue("(")) {
 
-        yyResult = pCommandC$TypeName(yyResult.index);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$g$1 = yyResult.semanticValue();
+          yyResult = pCommandC$TypeName(yyResult.index);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Node v$g$1 = yyResult.semanticValue();
 
-          yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue(",")) {
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue(",")) {
 
-            yyResult = pCommandC$PostfixExpression(yyResult.index);
-            yyError  = yyResult.select(yyError);
-            if (yyResult.hasValue()) {
-              final Node v$g$2 = yyResult.semanticValue();
+              yyResult = pCommandC$PostfixExpression(yyResult.index);
+              yyError  = yyResult.select(yyError);
+              if (yyResult.hasValue()) {
+                final Node v$g$2 = yyResult.semanticValue();
 
-              yyBase   = yyResult.index;
-              yyResult = pSymbol(yyBase);
-              if (yyResult.hasValue(")")) {
+                yyBase   = yyResult.index;
+                yyResult = pSymbol(yyBase);
+                if (yyResult.hasValue(")")) {
 
-                yyValue = GNode.create("OffsetofExpression", v$g$1, v$g$2);
-                yyValue.setLocation(location(yyStart));
+                  yyValue = GNode.create("OffsetofExpression", v$g$1, v$g$2);
+                  locate(yyValue, yyStart);
 
-                return yyResult.createValue(yyValue, yyError);
-              } else {
-                yyError = yyError.select("')' expected", yyBase);
+                  return yyResult.createValue(yyValue, yyError);
+                } else {
+                  yyError = yyError.select("')' expected", yyBase);
+                }
               }
+            } else {
+              yyError = yyError.select("',' expected", yyBase);
             }
-          } else {
-            yyError = yyError.select("',' expected", yyBase);
           }
+        } else {
+          yyError = yyError.select("'(' expected", yyBase);
         }
-      } else {
-        yyError = yyError.select("'(' expected", yyBase);
       }
     }
 
     // Alternative 4.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__builtin_types_compatible_p")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__builtin_types_compatible_p")) {
 
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue("(")) {
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue("(")) {
 
-        yyResult = pCommandC$TypeName(yyResult.index);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$g$1 = yyResult.semanticValue();
+          yyResult = pCommandC$TypeName(yyResult.index);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Node v$g$1 = yyResult.semanticValue();
 
-          yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue(",")) {
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue(",")) {
 
-            yyResult = pCommandC$TypeName(yyResult.index);
-            yyError  = yyResult.select(yyError);
-            if (yyResult.hasValue()) {
-              final Node v$g$2 = yyResult.semanticValue();
+              yyResult = pCommandC$TypeName(yyResult.index);
+              yyError  = yyResult.select(yyError);
+              if (yyResult.hasValue()) {
+                final Node v$g$2 = yyResult.semanticValue();
 
-              yyBase   = yyResult.index;
-              yyResult = pSymbol(yyBase);
-              if (yyResult.hasValue(")")) {
+                yyBase   = yyResult.index;
+                yyResult = pSymbol(yyBase);
+                if (yyResult.hasValue(")")) {
 
-                yyValue = GNode.create("TypeCompatibilityExpression", v$g$1, v$g$2);
-                yyValue.setLocation(location(yyStart));
+                  yyValue = GNode.create("TypeCompatibilityExpression", v$g$1, v$g$2);
+                  locate(yyValue, yyStart);
 
-                return yyResult.createValue(yyValue, yyError);
-              } else {
-                yyError = yyError.select("')' expected", yyBase);
+                  return yyResult.createValue(yyValue, yyError);
+                } else {
+                  yyError = yyError.select("')' expected", yyBase);
+                }
               }
+            } else {
+              yyError = yyError.select("',' expected", yyBase);
             }
-          } else {
-            yyError = yyError.select("',' expected", yyBase);
           }
+        } else {
+          yyError = yyError.select("'(' expected", yyBase);
         }
-      } else {
-        yyError = yyError.select("'(' expected", yyBase);
       }
     }
 
     // Alternative 5.
+    if (0 != (yyFirst & 0x10)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("-")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("-")) {
 
-      yyResult = pCommandC$CastExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
+        yyResult = pCommandC$CastExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryMinusExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("UnaryMinusExpression", v$g$1);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 6.
+    if (0 != (yyFirst & 0x20)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("+")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("+")) {
 
-      yyResult = pCommandC$CastExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
+        yyResult = pCommandC$CastExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryPlusExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("UnaryPlusExpression", v$g$1);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative <JavaInCExpression>.
+    if ((0 != (yyFirst & 0x40)) || (yyError.index < yyStart)) {
 
-    yyResult = pCommandC$JavaInCExpression(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pCommandC$JavaInCExpression(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 8.
+    if (0 != (yyFirst & 0x80)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("!")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("!")) {
 
-      yyResult = pCommandC$CastExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
+        yyResult = pCommandC$CastExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("LogicalNegationExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("LogicalNegationExpression", v$g$1);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 9.
+    if (0 != (yyFirst & 0x100)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("~")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("~")) {
 
-      yyResult = pCommandC$CastExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
+        yyResult = pCommandC$CastExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("BitwiseNegationExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("BitwiseNegationExpression", v$g$1);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 10.
+    if (0 != (yyFirst & 0x200)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("&")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("&")) {
 
-      yyResult = pCommandC$CastExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
+        yyResult = pCommandC$CastExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("AddressExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("AddressExpression", v$g$1);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
@@ -25942,7 +30559,7 @@ public final class CommandParser extends ParserBase {
           final String v$g$1 = yyResult.semanticValue();
 
           yyValue = GNode.create("LabelAddressExpression", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -25950,53 +30567,59 @@ public final class CommandParser extends ParserBase {
     }
 
     // Alternative 12.
+    if (0 != (yyFirst & 0x400)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("*")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("*")) {
 
-      yyResult = pCommandC$CastExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
+        yyResult = pCommandC$CastExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("IndirectionExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("IndirectionExpression", v$g$1);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 13.
+    if (0 != (yyFirst & 0x800)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("++")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("++")) {
 
-      yyResult = pCommandC$UnaryExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
+        yyResult = pCommandC$UnaryExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("PreincrementExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("PreincrementExpression", v$g$1);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 14.
+    if (0 != (yyFirst & 0x1000)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("--")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("--")) {
 
-      yyResult = pCommandC$UnaryExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
+        yyResult = pCommandC$UnaryExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("PredecrementExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("PredecrementExpression", v$g$1);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
@@ -26013,7 +30636,7 @@ public final class CommandParser extends ParserBase {
           final Node v$g$1 = yyResult.semanticValue();
 
           yyValue = GNode.create("ExtensionExpression", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -26138,129 +30761,175 @@ public final class CommandParser extends ParserBase {
     Action<Node> yyValue;
     ParseError   yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '`':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3f;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("[")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("[")) {
 
-      yyResult = pCommandC$CommaExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$2 = yyResult.semanticValue();
+        yyResult = pCommandC$CommaExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$2 = yyResult.semanticValue();
 
-        yyBase   = yyResult.index;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue("]")) {
+          yyBase   = yyResult.index;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue("]")) {
 
-          yyValue = new Action<Node>() {
-            public Node run(Node v$1) {
-              return GNode.create("SubscriptExpression", v$1, v$g$2);
-            }};
+            yyValue = new Action<Node>() {
+              public Node run(Node v$1) {
+                return GNode.create("SubscriptExpression", v$1, v$g$2);
+              }};
 
-          return yyResult.createValue(yyValue, yyError);
-        } else {
-          yyError = yyError.select("']' expected", yyBase);
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("']' expected", yyBase);
+          }
         }
       }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(".")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(".")) {
 
-      yyResult = pCIdentifier$Identifier(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final String v$g$3 = yyResult.semanticValue();
+        yyResult = pCIdentifier$Identifier(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final String v$g$3 = yyResult.semanticValue();
 
-        yyValue = new Action<Node>() {
-          public Node run(Node v$1) {
-            return GNode.create("DirectComponentSelection", v$1, v$g$3);
-          }};
+          yyValue = new Action<Node>() {
+            public Node run(Node v$1) {
+              return GNode.create("DirectComponentSelection", v$1, v$g$3);
+            }};
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("->")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("->")) {
 
-      yyResult = pCIdentifier$Identifier(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final String v$g$4 = yyResult.semanticValue();
+        yyResult = pCIdentifier$Identifier(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final String v$g$4 = yyResult.semanticValue();
 
-        yyValue = new Action<Node>() {
-          public Node run(Node v$1) {
-            return GNode.create("IndirectComponentSelection", v$1, v$g$4);
-          }};
+          yyValue = new Action<Node>() {
+            public Node run(Node v$1) {
+              return GNode.create("IndirectComponentSelection", v$1, v$g$4);
+            }};
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 4.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("(")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("(")) {
 
-      yyOption1  = yyResult.index;
-      yyOpValue1 = null;
+        yyOption1  = yyResult.index;
+        yyOpValue1 = null;
 
-      yyResult = pCommandC$ExpressionList(yyOption1);
-      yyError  = yyResult.select(yyError, yyOption1);
-      if (yyResult.hasValue()) {
-        final Node v$el$1 = yyResult.semanticValue();
+        yyResult = pCommandC$ExpressionList(yyOption1);
+        yyError  = yyResult.select(yyError, yyOption1);
+        if (yyResult.hasValue()) {
+          final Node v$el$1 = yyResult.semanticValue();
 
-        yyOption1  = yyResult.index;
-        yyOpValue1 = v$el$1;
-      }
-      { // Start scope for v$g$5.
-        final Node v$g$5 = yyOpValue1;
+          yyOption1  = yyResult.index;
+          yyOpValue1 = v$el$1;
+        }
+        { // Start scope for v$g$5.
+          final Node v$g$5 = yyOpValue1;
 
-        yyBase   = yyOption1;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue(")")) {
+          yyBase   = yyOption1;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue(")")) {
 
-          yyValue = new Action<Node>() {
-            public Node run(Node v$1) {
-              return GNode.create("FunctionCall", v$1, v$g$5);
-            }};
+            yyValue = new Action<Node>() {
+              public Node run(Node v$1) {
+                return GNode.create("FunctionCall", v$1, v$g$5);
+              }};
 
-          return yyResult.createValue(yyValue, yyError);
-        } else {
-          yyError = yyError.select("')' expected", yyBase);
-        }
-      } // End scope for v$g$5.
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("')' expected", yyBase);
+          }
+        } // End scope for v$g$5.
+      }
     }
 
     // Alternative 5.
+    if (0 != (yyFirst & 0x10)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("++")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("++")) {
 
-      yyValue = new Action<Node>() {
-        public Node run(Node v$1) {
-          return GNode.create("PostincrementExpression", v$1);
-        }};
+        yyValue = new Action<Node>() {
+          public Node run(Node v$1) {
+            return GNode.create("PostincrementExpression", v$1);
+          }};
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 6.
+    if (0 != (yyFirst & 0x20)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("--")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("--")) {
 
-      yyValue = new Action<Node>() {
-        public Node run(Node v$1) {
-          return GNode.create("PostdecrementExpression", v$1);
-        }};
+        yyValue = new Action<Node>() {
+          public Node run(Node v$1) {
+            return GNode.create("PostdecrementExpression", v$1);
+          }};
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -26281,10 +30950,16 @@ public final class CommandParser extends ParserBase {
     throws IOException {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk9) yyColumn.chunk9 = new Chunk9();
-    if (null == yyColumn.chunk9.fCommandC$ExpressionList) 
-      yyColumn.chunk9.fCommandC$ExpressionList = pCommandC$ExpressionList$1(yyStart);
-    return yyColumn.chunk9.fCommandC$ExpressionList;
+    if (null == yyColumn.chunk5) yyColumn.chunk5 = new Chunk5();
+    if (null == yyColumn.chunk5.fCommandC$ExpressionList) {
+      yyColumn.chunk5.fCommandC$ExpressionList = 
+        pCommandC$ExpressionList$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(89, yyColumn.chunk5.fCommandC$ExpressionList);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(89, yyColumn.chunk5.fCommandC$ExpressionList);
+    }
+    return yyColumn.chunk5.fCommandC$ExpressionList;
   }
 
   /** Actually parse xtc.lang.blink.CommandC.ExpressionList. */
@@ -26308,7 +30983,7 @@ public final class CommandParser extends ParserBase {
         final Pair<Node> v$g$2 = yyResult.semanticValue();
 
         yyValue = GNode.createFromPair("ExpressionList", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -26331,10 +31006,16 @@ public final class CommandParser extends ParserBase {
     throws IOException {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk10) yyColumn.chunk10 = new Chunk10();
-    if (null == yyColumn.chunk10.fCommandC$ExpressionList$$Star1) 
-      yyColumn.chunk10.fCommandC$ExpressionList$$Star1 = pCommandC$ExpressionList$$Star1$1(yyStart);
-    return yyColumn.chunk10.fCommandC$ExpressionList$$Star1;
+    if (null == yyColumn.chunk11) yyColumn.chunk11 = new Chunk11();
+    if (null == yyColumn.chunk11.fCommandC$ExpressionList$$Star1) {
+      yyColumn.chunk11.fCommandC$ExpressionList$$Star1 = 
+        pCommandC$ExpressionList$$Star1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(90, yyColumn.chunk11.fCommandC$ExpressionList$$Star1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(90, yyColumn.chunk11.fCommandC$ExpressionList$$Star1);
+    }
+    return yyColumn.chunk11.fCommandC$ExpressionList$$Star1;
   }
 
   /** Actually parse CommandC.ExpressionList$$Star1. */
@@ -26431,7 +31112,7 @@ public final class CommandParser extends ParserBase {
               if (yyResult.hasValue("}")) {
 
                 yyValue = GNode.create("CompoundLiteral", v$g$1, v$g$2);
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return yyResult.createValue(yyValue, yyError);
               } else {
@@ -26469,37 +31150,158 @@ public final class CommandParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '`':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x10;
+      break;
+
+    case '\"':
+    case '\'':
+    case '0':
+    case '1':
+    case '2':
+    case '3':
+    case '4':
+    case '5':
+    case '6':
+    case '7':
+    case '8':
+    case '9':
+      yyFirst = 0x2;
+      break;
+
+    case '$':
+      yyFirst = 0x1;
+      break;
+
+    case '.':
+      yyFirst = 0x12;
+      break;
+
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0xc;
+      break;
+
+    case 'L':
+      yyFirst = 0xe;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Meta>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pMetaVariable(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pMetaVariable(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Constant>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pConstant(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pConstant(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 3.
+    if ((0 != (yyFirst & 0x4)) || (yyError.index < yyStart)) {
 
-    yyResult = pCIdentifier$Identifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final String v$g$1 = yyResult.semanticValue();
+      yyResult = pCIdentifier$Identifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final String v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("PrimaryIdentifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("PrimaryIdentifier", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 4.
@@ -26519,7 +31321,7 @@ public final class CommandParser extends ParserBase {
           if (yyResult.hasValue(")")) {
 
             yyValue = GNode.create("StatementAsExpression", v$g$1);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
@@ -26530,66 +31332,70 @@ public final class CommandParser extends ParserBase {
     }
 
     // Alternative 5.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__builtin_va_arg")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__builtin_va_arg")) {
 
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue("(")) {
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue("(")) {
 
-        yyResult = pCommandC$AssignmentExpression(yyResult.index);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$g$1 = yyResult.semanticValue();
+          yyResult = pCommandC$AssignmentExpression(yyResult.index);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Node v$g$1 = yyResult.semanticValue();
 
-          yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue(",")) {
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue(",")) {
 
-            yyResult = pCommandC$TypeName(yyResult.index);
-            yyError  = yyResult.select(yyError);
-            if (yyResult.hasValue()) {
-              final Node v$g$2 = yyResult.semanticValue();
+              yyResult = pCommandC$TypeName(yyResult.index);
+              yyError  = yyResult.select(yyError);
+              if (yyResult.hasValue()) {
+                final Node v$g$2 = yyResult.semanticValue();
 
-              yyBase   = yyResult.index;
-              yyResult = pSymbol(yyBase);
-              if (yyResult.hasValue(")")) {
+                yyBase   = yyResult.index;
+                yyResult = pSymbol(yyBase);
+                if (yyResult.hasValue(")")) {
 
-                yyValue = GNode.create("VariableArgumentAccess", v$g$1, v$g$2);
-                yyValue.setLocation(location(yyStart));
+                  yyValue = GNode.create("VariableArgumentAccess", v$g$1, v$g$2);
+                  locate(yyValue, yyStart);
 
-                return yyResult.createValue(yyValue, yyError);
-              } else {
-                yyError = yyError.select("')' expected", yyBase);
+                  return yyResult.createValue(yyValue, yyError);
+                } else {
+                  yyError = yyError.select("')' expected", yyBase);
+                }
               }
+            } else {
+              yyError = yyError.select("',' expected", yyBase);
             }
-          } else {
-            yyError = yyError.select("',' expected", yyBase);
           }
+        } else {
+          yyError = yyError.select("'(' expected", yyBase);
         }
-      } else {
-        yyError = yyError.select("'(' expected", yyBase);
       }
     }
 
     // Alternative <ParenthesizedExpression>.
+    if (0 != (yyFirst & 0x10)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("(")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("(")) {
 
-      yyResult = pCommandC$CommaExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        yyValue = yyResult.semanticValue();
+        yyResult = pCommandC$CommaExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          yyValue = yyResult.semanticValue();
 
-        yyBase   = yyResult.index;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue(")")) {
+          yyBase   = yyResult.index;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue(")")) {
 
-          return yyResult.createValue(yyValue, yyError);
-        } else {
-          yyError = yyError.select("')' expected", yyBase);
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("')' expected", yyBase);
+          }
         }
       }
     }
@@ -26623,7 +31429,7 @@ public final class CommandParser extends ParserBase {
       final String v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.create("PrimaryIdentifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -26669,7 +31475,7 @@ public final class CommandParser extends ParserBase {
           if (yyResult.hasValue(")")) {
 
             yyValue = GNode.create("SimpleAssemblyExpression", v$g$1);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
@@ -26769,7 +31575,7 @@ public final class CommandParser extends ParserBase {
                   final Node v$g$4 = yyResult.semanticValue();
 
                   yyValue = GNode.create("AssemblyArgument", v$g$1, v$g$2, v$g$3, v$g$4);
-                  yyValue.setLocation(location(yyStart));
+                  locate(yyValue, yyStart);
 
                   return yyResult.createValue(yyValue, yyError);
                 }
@@ -26780,7 +31586,7 @@ public final class CommandParser extends ParserBase {
               // Nested alternative 2.
 
               yyValue = GNode.create("AssemblyArgument", v$g$1, v$g$2, v$g$3);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return new SemanticValue(yyValue, yyChoice3, yyError);
             } // End scope for v$g$3.
@@ -26791,7 +31597,7 @@ public final class CommandParser extends ParserBase {
           // Nested alternative 2.
 
           yyValue = GNode.create("AssemblyArgument", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyChoice2, yyError);
         } // End scope for v$g$2.
@@ -26802,7 +31608,7 @@ public final class CommandParser extends ParserBase {
       // Nested alternative 2.
 
       yyValue = GNode.create("AssemblyArgument", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return new SemanticValue(yyValue, yyChoice1, yyError);
     }
@@ -26824,10 +31630,16 @@ public final class CommandParser extends ParserBase {
     throws IOException {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk10) yyColumn.chunk10 = new Chunk10();
-    if (null == yyColumn.chunk10.fCommandC$AssemblyOperands) 
-      yyColumn.chunk10.fCommandC$AssemblyOperands = pCommandC$AssemblyOperands$1(yyStart);
-    return yyColumn.chunk10.fCommandC$AssemblyOperands;
+    if (null == yyColumn.chunk9) yyColumn.chunk9 = new Chunk9();
+    if (null == yyColumn.chunk9.fCommandC$AssemblyOperands) {
+      yyColumn.chunk9.fCommandC$AssemblyOperands = 
+        pCommandC$AssemblyOperands$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(91, yyColumn.chunk9.fCommandC$AssemblyOperands);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(91, yyColumn.chunk9.fCommandC$AssemblyOperands);
+    }
+    return yyColumn.chunk9.fCommandC$AssemblyOperands;
   }
 
   /** Actually parse xtc.lang.blink.CommandC.AssemblyOperands. */
@@ -26851,7 +31663,7 @@ public final class CommandParser extends ParserBase {
         final Pair<Node> v$g$2 = yyResult.semanticValue();
 
         yyValue = GNode.createFromPair("AssemblyOperands", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -26874,10 +31686,16 @@ public final class CommandParser extends ParserBase {
     throws IOException {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk10) yyColumn.chunk10 = new Chunk10();
-    if (null == yyColumn.chunk10.fCommandC$AssemblyOperands$$Star1) 
-      yyColumn.chunk10.fCommandC$AssemblyOperands$$Star1 = pCommandC$AssemblyOperands$$Star1$1(yyStart);
-    return yyColumn.chunk10.fCommandC$AssemblyOperands$$Star1;
+    if (null == yyColumn.chunk12) yyColumn.chunk12 = new Chunk12();
+    if (null == yyColumn.chunk12.fCommandC$AssemblyOperands$$Star1) {
+      yyColumn.chunk12.fCommandC$AssemblyOperands$$Star1 = 
+        pCommandC$AssemblyOperands$$Star1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(92, yyColumn.chunk12.fCommandC$AssemblyOperands$$Star1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(92, yyColumn.chunk12.fCommandC$AssemblyOperands$$Star1);
+    }
+    return yyColumn.chunk12.fCommandC$AssemblyOperands$$Star1;
   }
 
   /** Actually parse CommandC.AssemblyOperands$$Star1. */
@@ -26930,10 +31748,16 @@ public final class CommandParser extends ParserBase {
     throws IOException {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk10) yyColumn.chunk10 = new Chunk10();
-    if (null == yyColumn.chunk10.fCommandC$AssemblyOperand) 
-      yyColumn.chunk10.fCommandC$AssemblyOperand = pCommandC$AssemblyOperand$1(yyStart);
-    return yyColumn.chunk10.fCommandC$AssemblyOperand;
+    if (null == yyColumn.chunk9) yyColumn.chunk9 = new Chunk9();
+    if (null == yyColumn.chunk9.fCommandC$AssemblyOperand) {
+      yyColumn.chunk9.fCommandC$AssemblyOperand = 
+        pCommandC$AssemblyOperand$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(93, yyColumn.chunk9.fCommandC$AssemblyOperand);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(93, yyColumn.chunk9.fCommandC$AssemblyOperand);
+    }
+    return yyColumn.chunk9.fCommandC$AssemblyOperand;
   }
 
   /** Actually parse xtc.lang.blink.CommandC.AssemblyOperand. */
@@ -26996,7 +31820,7 @@ public final class CommandParser extends ParserBase {
             if (yyResult.hasValue(")")) {
 
               yyValue = GNode.create("AssemblyOperand", v$g$1, v$g$2, v$g$3);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             } else {
@@ -27028,7 +31852,8 @@ public final class CommandParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -27040,7 +31865,8 @@ public final class CommandParser extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyBase   = yyRepetition1;
@@ -27053,7 +31879,7 @@ public final class CommandParser extends ParserBase {
             final Node v$el$1 = yyResult.semanticValue();
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
         } else {
@@ -27062,10 +31888,11 @@ public final class CommandParser extends ParserBase {
         break;
       }
       { // Start scope for v$g$2.
-        final Pair<Node> v$g$2 = yyRepValue1.reverse();
+        final int v$g$2 = yyRepStart1;
+        final int v$g$2$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("AssemblyClobbers", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("AssemblyClobbers", v$g$1, v$g$2, v$g$2$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$2.
@@ -27124,7 +31951,7 @@ public final class CommandParser extends ParserBase {
                 if (yyResult.hasValue()) {
 
                   yyValue = GNode.create("WithStatement", v$g$1, v$g$2);
-                  yyValue.setLocation(location(yyStart));
+                  locate(yyValue, yyStart);
 
                   return yyResult.createValue(yyValue, yyError);
                 }
@@ -27226,7 +32053,7 @@ public final class CommandParser extends ParserBase {
         if (yyState.isValid(l)) {
 
           yyValue = GNode.create("Declaration", null, v$g$2, l);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyOption1, yyError);
         }
@@ -27270,7 +32097,7 @@ public final class CommandParser extends ParserBase {
         if (yyResult.hasValue(";")) {
 
           yyValue = GNode.create("CancelStatement", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
@@ -27316,7 +32143,7 @@ public final class CommandParser extends ParserBase {
         if (yyResult.hasValue(";")) {
 
           yyValue = GNode.create("CommitStatement", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
@@ -27341,10 +32168,15 @@ public final class CommandParser extends ParserBase {
    */
   private Result pCommandC$CInCBlock(final int yyStart) throws IOException {
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk10) yyColumn.chunk10 = new Chunk10();
-    if (null == yyColumn.chunk10.fCommandC$CInCBlock) 
-      yyColumn.chunk10.fCommandC$CInCBlock = pCommandC$CInCBlock$1(yyStart);
-    return yyColumn.chunk10.fCommandC$CInCBlock;
+    if (null == yyColumn.chunk5) yyColumn.chunk5 = new Chunk5();
+    if (null == yyColumn.chunk5.fCommandC$CInCBlock) {
+      yyColumn.chunk5.fCommandC$CInCBlock = pCommandC$CInCBlock$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(94, yyColumn.chunk5.fCommandC$CInCBlock);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(94, yyColumn.chunk5.fCommandC$CInCBlock);
+    }
+    return yyColumn.chunk5.fCommandC$CInCBlock;
   }
 
   /** Actually parse xtc.lang.blink.CommandC.CInCBlock. */
@@ -27395,7 +32227,7 @@ public final class CommandParser extends ParserBase {
 
                     yyValue = GNode.create("CInCBlock", v$g$1.size() + v$g$2.size() + 1).
                       addAll(v$g$1).addAll(v$g$2).add(v$g$3);
-                    yyValue.setLocation(location(yyStart));
+                    locate(yyValue, yyStart);
 
                     return yyResult.createValue(yyValue, yyError);
                   }
@@ -27427,10 +32259,16 @@ public final class CommandParser extends ParserBase {
     throws IOException {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk10) yyColumn.chunk10 = new Chunk10();
-    if (null == yyColumn.chunk10.fCommandC$CInCBlock$$Star1) 
-      yyColumn.chunk10.fCommandC$CInCBlock$$Star1 = pCommandC$CInCBlock$$Star1$1(yyStart);
-    return yyColumn.chunk10.fCommandC$CInCBlock$$Star1;
+    if (null == yyColumn.chunk12) yyColumn.chunk12 = new Chunk12();
+    if (null == yyColumn.chunk12.fCommandC$CInCBlock$$Star1) {
+      yyColumn.chunk12.fCommandC$CInCBlock$$Star1 = 
+        pCommandC$CInCBlock$$Star1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(95, yyColumn.chunk12.fCommandC$CInCBlock$$Star1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(95, yyColumn.chunk12.fCommandC$CInCBlock$$Star1);
+    }
+    return yyColumn.chunk12.fCommandC$CInCBlock$$Star1;
   }
 
   /** Actually parse CommandC.CInCBlock$$Star1. */
@@ -27479,10 +32317,16 @@ public final class CommandParser extends ParserBase {
     throws IOException {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk10) yyColumn.chunk10 = new Chunk10();
-    if (null == yyColumn.chunk10.fCommandC$CInCBlock$$Star2) 
-      yyColumn.chunk10.fCommandC$CInCBlock$$Star2 = pCommandC$CInCBlock$$Star2$1(yyStart);
-    return yyColumn.chunk10.fCommandC$CInCBlock$$Star2;
+    if (null == yyColumn.chunk5) yyColumn.chunk5 = new Chunk5();
+    if (null == yyColumn.chunk5.fCommandC$CInCBlock$$Star2) {
+      yyColumn.chunk5.fCommandC$CInCBlock$$Star2 = 
+        pCommandC$CInCBlock$$Star2$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(96, yyColumn.chunk5.fCommandC$CInCBlock$$Star2);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(96, yyColumn.chunk5.fCommandC$CInCBlock$$Star2);
+    }
+    return yyColumn.chunk5.fCommandC$CInCBlock$$Star2;
   }
 
   /** Actually parse CommandC.CInCBlock$$Star2. */
@@ -27546,7 +32390,7 @@ public final class CommandParser extends ParserBase {
         final Node v$g$1 = yyResult.semanticValue();
 
         yyValue = GNode.create("JavaInCBlock", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -27584,7 +32428,7 @@ public final class CommandParser extends ParserBase {
         final Node v$g$1 = yyResult.semanticValue();
 
         yyValue = GNode.create("JavaInCExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -27626,7 +32470,7 @@ public final class CommandParser extends ParserBase {
         final Node v$g$1 = yyResult.semanticValue();
 
         yyValue = GNode.create("JavaInCStatement", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -27639,7 +32483,7 @@ public final class CommandParser extends ParserBase {
         final Node v$g$2 = yyResult.semanticValue();
 
         yyValue = GNode.create("JavaInCStatement", v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -27652,7 +32496,7 @@ public final class CommandParser extends ParserBase {
         final Node v$g$3 = yyResult.semanticValue();
 
         yyValue = GNode.create("JavaInCStatement", v$g$3);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -27673,10 +32517,15 @@ public final class CommandParser extends ParserBase {
    */
   private Result pCommandC$JavaThrows(final int yyStart) throws IOException {
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk10) yyColumn.chunk10 = new Chunk10();
-    if (null == yyColumn.chunk10.fCommandC$JavaThrows) 
-      yyColumn.chunk10.fCommandC$JavaThrows = pCommandC$JavaThrows$1(yyStart);
-    return yyColumn.chunk10.fCommandC$JavaThrows;
+    if (null == yyColumn.chunk12) yyColumn.chunk12 = new Chunk12();
+    if (null == yyColumn.chunk12.fCommandC$JavaThrows) {
+      yyColumn.chunk12.fCommandC$JavaThrows = pCommandC$JavaThrows$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(97, yyColumn.chunk12.fCommandC$JavaThrows);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(97, yyColumn.chunk12.fCommandC$JavaThrows);
+    }
+    return yyColumn.chunk12.fCommandC$JavaThrows;
   }
 
   /** Actually parse xtc.lang.blink.CommandC.JavaThrows. */
@@ -27711,7 +32560,7 @@ public final class CommandParser extends ParserBase {
       final Node v$g$1 = yyOpValue1;
 
       yyValue = GNode.create("JavaThrows", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return new SemanticValue(yyValue, yyOption1, yyError);
     } // End scope for v$g$1.
@@ -27743,7 +32592,7 @@ public final class CommandParser extends ParserBase {
         final Node v$g$1 = yyResult.semanticValue();
 
         yyValue = GNode.create("JavaType", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -27766,10 +32615,16 @@ public final class CommandParser extends ParserBase {
     throws IOException {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk10) yyColumn.chunk10 = new Chunk10();
-    if (null == yyColumn.chunk10.fJeannieJava$Modifiers) 
-      yyColumn.chunk10.fJeannieJava$Modifiers = pJeannieJava$Modifiers$1(yyStart);
-    return yyColumn.chunk10.fJeannieJava$Modifiers;
+    if (null == yyColumn.chunk7) yyColumn.chunk7 = new Chunk7();
+    if (null == yyColumn.chunk7.fJeannieJava$Modifiers) {
+      yyColumn.chunk7.fJeannieJava$Modifiers = 
+        pJeannieJava$Modifiers$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(98, yyColumn.chunk7.fJeannieJava$Modifiers);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(98, yyColumn.chunk7.fJeannieJava$Modifiers);
+    }
+    return yyColumn.chunk7.fJeannieJava$Modifiers;
   }
 
   /** Actually parse xtc.lang.jeannie.JeannieJava.Modifiers. */
@@ -27788,7 +32643,7 @@ public final class CommandParser extends ParserBase {
       final Pair<Node> v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.createFromPair("Modifiers", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -27860,7 +32715,7 @@ public final class CommandParser extends ParserBase {
       final String v$g$1 = "public";
 
       yyValue = GNode.create("Modifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -27872,7 +32727,7 @@ public final class CommandParser extends ParserBase {
       final String v$g$2 = "protected";
 
       yyValue = GNode.create("Modifier", v$g$2);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -27884,7 +32739,7 @@ public final class CommandParser extends ParserBase {
       final String v$g$3 = "private";
 
       yyValue = GNode.create("Modifier", v$g$3);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -27896,7 +32751,7 @@ public final class CommandParser extends ParserBase {
       final String v$g$4 = "static";
 
       yyValue = GNode.create("Modifier", v$g$4);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -27908,7 +32763,7 @@ public final class CommandParser extends ParserBase {
       final String v$g$5 = "abstract";
 
       yyValue = GNode.create("Modifier", v$g$5);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -27920,7 +32775,7 @@ public final class CommandParser extends ParserBase {
       final String v$g$6 = "final";
 
       yyValue = GNode.create("Modifier", v$g$6);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -27932,7 +32787,7 @@ public final class CommandParser extends ParserBase {
       final String v$g$7 = "native";
 
       yyValue = GNode.create("Modifier", v$g$7);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -27944,7 +32799,7 @@ public final class CommandParser extends ParserBase {
       final String v$g$8 = "synchronized";
 
       yyValue = GNode.create("Modifier", v$g$8);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -27956,7 +32811,7 @@ public final class CommandParser extends ParserBase {
       final String v$g$9 = "transient";
 
       yyValue = GNode.create("Modifier", v$g$9);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -27968,7 +32823,7 @@ public final class CommandParser extends ParserBase {
       final String v$g$10 = "volatile";
 
       yyValue = GNode.create("Modifier", v$g$10);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -27980,7 +32835,7 @@ public final class CommandParser extends ParserBase {
       final String v$g$11 = "strictfp";
 
       yyValue = GNode.create("Modifier", v$g$11);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -28040,7 +32895,7 @@ public final class CommandParser extends ParserBase {
             final Node v$g$5 = yyOpValue1;
 
             yyValue = GNode.create("FormalParameter", v$g$1, v$g$2, null, v$g$4, v$g$5);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return new SemanticValue(yyValue, yyOption1, yyError);
           } // End scope for v$g$5.
@@ -28076,7 +32931,7 @@ public final class CommandParser extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.create("Modifiers", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -28084,7 +32939,7 @@ public final class CommandParser extends ParserBase {
     // Alternative <Nonfinal>.
 
     yyValue = GNode.create("Modifiers", false);
-    yyValue.setLocation(location(yyStart));
+    locate(yyValue, yyStart);
 
     return new SemanticValue(yyValue, yyStart, yyError);
   }
@@ -28112,7 +32967,7 @@ public final class CommandParser extends ParserBase {
       final String v$g$1 = "final";
 
       yyValue = GNode.create("Modifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -28135,10 +32990,16 @@ public final class CommandParser extends ParserBase {
     throws IOException {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk10) yyColumn.chunk10 = new Chunk10();
-    if (null == yyColumn.chunk10.fJeannieJava$FormalParameters) 
-      yyColumn.chunk10.fJeannieJava$FormalParameters = pJeannieJava$FormalParameters$1(yyStart);
-    return yyColumn.chunk10.fJeannieJava$FormalParameters;
+    if (null == yyColumn.chunk12) yyColumn.chunk12 = new Chunk12();
+    if (null == yyColumn.chunk12.fJeannieJava$FormalParameters) {
+      yyColumn.chunk12.fJeannieJava$FormalParameters = 
+        pJeannieJava$FormalParameters$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(99, yyColumn.chunk12.fJeannieJava$FormalParameters);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(99, yyColumn.chunk12.fJeannieJava$FormalParameters);
+    }
+    return yyColumn.chunk12.fJeannieJava$FormalParameters;
   }
 
   /** Actually parse xtc.lang.jeannie.JeannieJava.FormalParameters. */
@@ -28174,7 +33035,7 @@ public final class CommandParser extends ParserBase {
           if (yyResult.hasValue(")")) {
 
             yyValue = GNode.createFromPair("FormalParameters", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
@@ -28190,7 +33051,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue(")")) {
 
         yyValue = GNode.create("FormalParameters", false);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       } else {
@@ -28216,10 +33077,16 @@ public final class CommandParser extends ParserBase {
     throws IOException {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk11) yyColumn.chunk11 = new Chunk11();
-    if (null == yyColumn.chunk11.fJeannieJava$FormalParameters$$Star1) 
-      yyColumn.chunk11.fJeannieJava$FormalParameters$$Star1 = pJeannieJava$FormalParameters$$Star1$1(yyStart);
-    return yyColumn.chunk11.fJeannieJava$FormalParameters$$Star1;
+    if (null == yyColumn.chunk12) yyColumn.chunk12 = new Chunk12();
+    if (null == yyColumn.chunk12.fJeannieJava$FormalParameters$$Star1) {
+      yyColumn.chunk12.fJeannieJava$FormalParameters$$Star1 = 
+        pJeannieJava$FormalParameters$$Star1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(100, yyColumn.chunk12.fJeannieJava$FormalParameters$$Star1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(100, yyColumn.chunk12.fJeannieJava$FormalParameters$$Star1);
+    }
+    return yyColumn.chunk12.fJeannieJava$FormalParameters$$Star1;
   }
 
   /** Actually parse JeannieJava.FormalParameters$$Star1. */
@@ -28320,7 +33187,7 @@ public final class CommandParser extends ParserBase {
           final Node v$g$3 = yyOpValue1;
 
           yyValue = GNode.create("Declarator", v$g$1, v$g$2, v$g$3);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyOption1, yyError);
         } // End scope for v$g$3.
@@ -28344,10 +33211,16 @@ public final class CommandParser extends ParserBase {
     throws IOException {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk11) yyColumn.chunk11 = new Chunk11();
-    if (null == yyColumn.chunk11.fJeannieJava$Declarators) 
-      yyColumn.chunk11.fJeannieJava$Declarators = pJeannieJava$Declarators$1(yyStart);
-    return yyColumn.chunk11.fJeannieJava$Declarators;
+    if (null == yyColumn.chunk12) yyColumn.chunk12 = new Chunk12();
+    if (null == yyColumn.chunk12.fJeannieJava$Declarators) {
+      yyColumn.chunk12.fJeannieJava$Declarators = 
+        pJeannieJava$Declarators$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(101, yyColumn.chunk12.fJeannieJava$Declarators);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(101, yyColumn.chunk12.fJeannieJava$Declarators);
+    }
+    return yyColumn.chunk12.fJeannieJava$Declarators;
   }
 
   /** Actually parse xtc.lang.jeannie.JeannieJava.Declarators. */
@@ -28371,7 +33244,7 @@ public final class CommandParser extends ParserBase {
         final Pair<Node> v$g$2 = yyResult.semanticValue();
 
         yyValue = GNode.createFromPair("Declarators", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -28394,10 +33267,16 @@ public final class CommandParser extends ParserBase {
     throws IOException {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk11) yyColumn.chunk11 = new Chunk11();
-    if (null == yyColumn.chunk11.fJeannieJava$Declarators$$Star1) 
-      yyColumn.chunk11.fJeannieJava$Declarators$$Star1 = pJeannieJava$Declarators$$Star1$1(yyStart);
-    return yyColumn.chunk11.fJeannieJava$Declarators$$Star1;
+    if (null == yyColumn.chunk12) yyColumn.chunk12 = new Chunk12();
+    if (null == yyColumn.chunk12.fJeannieJava$Declarators$$Star1) {
+      yyColumn.chunk12.fJeannieJava$Declarators$$Star1 = 
+        pJeannieJava$Declarators$$Star1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(102, yyColumn.chunk12.fJeannieJava$Declarators$$Star1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(102, yyColumn.chunk12.fJeannieJava$Declarators$$Star1);
+    }
+    return yyColumn.chunk12.fJeannieJava$Declarators$$Star1;
   }
 
   /** Actually parse JeannieJava.Declarators$$Star1. */
@@ -28452,7 +33331,8 @@ public final class CommandParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -28462,7 +33342,8 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("{")) {
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyResult = pJeannieJava$Declaration(yyRepetition1);
@@ -28471,25 +33352,27 @@ public final class CommandParser extends ParserBase {
           final Node v$el$1 = yyResult.semanticValue();
 
           yyRepetition1 = yyResult.index;
-          yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+          yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
           continue;
         }
         break;
       }
       { // Start scope for v$g$1.
-        final Pair<Node> v$g$1 = yyRepValue1.reverse();
+        final int v$g$1 = yyRepStart1;
+        final int v$g$1$end = yyRepEnd1;
 
         yyBase   = yyRepetition1;
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue("}")) {
 
-          yyValue = GNode.createFromPair("ClassBody", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          yyValue = bufferedNode("ClassBody", v$g$1, v$g$1$end);
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
           yyError = yyError.select("'}' expected", yyBase);
         }
+        releaseBuffer(v$g$1);
       } // End scope for v$g$1.
     }
 
@@ -28543,7 +33426,7 @@ public final class CommandParser extends ParserBase {
           if (yyResult.hasValue(";")) {
 
             yyValue = GNode.create("FieldDeclaration", v$g$1, v$g$2, v$g$3);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
@@ -28611,7 +33494,7 @@ public final class CommandParser extends ParserBase {
                     final Node v$g$8 = yyResult.semanticValue();
 
                     yyValue = GNode.create("MethodDeclaration", v$g$1, null, v$g$3, v$g$4, v$g$5, v$g$6, v$g$7, v$g$8);
-                    yyValue.setLocation(location(yyStart));
+                    locate(yyValue, yyStart);
 
                     return yyResult.createValue(yyValue, yyError);
                   }
@@ -28623,7 +33506,7 @@ public final class CommandParser extends ParserBase {
                   if (yyResult.hasValue(";")) {
 
                     yyValue = GNode.create("MethodDeclaration", v$g$1, null, v$g$3, v$g$4, v$g$5, v$g$6, v$g$7, null);
-                    yyValue.setLocation(location(yyStart));
+                    locate(yyValue, yyStart);
 
                     return yyResult.createValue(yyValue, yyError);
                   } else {
@@ -28667,7 +33550,7 @@ public final class CommandParser extends ParserBase {
                 final Node v$g$6 = yyResult.semanticValue();
 
                 yyValue = GNode.create("ConstructorDeclaration", v$g$1, null, v$g$3, v$g$4, v$g$5, v$g$6);
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return yyResult.createValue(yyValue, yyError);
               }
@@ -28720,7 +33603,7 @@ public final class CommandParser extends ParserBase {
                 final Node v$g$6 = yyResult.semanticValue();
 
                 yyValue = GNode.create("ClassDeclaration", v$g$1, v$g$2, null, v$g$4, v$g$5, v$g$6);
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return yyResult.createValue(yyValue, yyError);
               }
@@ -28762,7 +33645,7 @@ public final class CommandParser extends ParserBase {
               final Node v$g$5 = yyResult.semanticValue();
 
               yyValue = GNode.create("InterfaceDeclaration", v$g$1, v$g$2, null, v$g$4, v$g$5);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -28797,7 +33680,7 @@ public final class CommandParser extends ParserBase {
         final Node v$g$2 = yyResult.semanticValue();
 
         yyValue = GNode.create("BlockDeclaration", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -28809,7 +33692,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue(";")) {
 
       yyValue = GNode.create("EmptyDeclaration", false);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -28834,7 +33717,8 @@ public final class CommandParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -28849,7 +33733,8 @@ public final class CommandParser extends ParserBase {
         final Node v$g$1 = yyResult.semanticValue();
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyBase   = yyRepetition1;
@@ -28862,7 +33747,7 @@ public final class CommandParser extends ParserBase {
               final Node v$el$1 = yyResult.semanticValue();
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
           } else {
@@ -28871,10 +33756,11 @@ public final class CommandParser extends ParserBase {
           break;
         }
         { // Start scope for v$g$2.
-          final Pair<Node> v$g$2 = yyRepValue1.reverse();
+          final int v$g$2 = yyRepStart1;
+          final int v$g$2$end = yyRepEnd1;
 
-          yyValue = GNode.createFromPair("ThrowsClause", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          yyValue = bufferedNode("ThrowsClause", v$g$1, v$g$2, v$g$2$end);
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
         } // End scope for v$g$2.
@@ -28901,7 +33787,8 @@ public final class CommandParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -28916,7 +33803,8 @@ public final class CommandParser extends ParserBase {
         final Node v$g$1 = yyResult.semanticValue();
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyBase   = yyRepetition1;
@@ -28929,7 +33817,7 @@ public final class CommandParser extends ParserBase {
               final Node v$el$1 = yyResult.semanticValue();
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
           } else {
@@ -28938,10 +33826,11 @@ public final class CommandParser extends ParserBase {
           break;
         }
         { // Start scope for v$g$2.
-          final Pair<Node> v$g$2 = yyRepValue1.reverse();
+          final int v$g$2 = yyRepStart1;
+          final int v$g$2$end = yyRepEnd1;
 
-          yyValue = GNode.createFromPair("Extension", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          yyValue = bufferedNode("Extension", v$g$1, v$g$2, v$g$2$end);
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
         } // End scope for v$g$2.
@@ -28968,7 +33857,8 @@ public final class CommandParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -28983,7 +33873,8 @@ public final class CommandParser extends ParserBase {
         final Node v$g$1 = yyResult.semanticValue();
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyBase   = yyRepetition1;
@@ -28996,7 +33887,7 @@ public final class CommandParser extends ParserBase {
               final Node v$el$1 = yyResult.semanticValue();
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
           } else {
@@ -29005,10 +33896,11 @@ public final class CommandParser extends ParserBase {
           break;
         }
         { // Start scope for v$g$2.
-          final Pair<Node> v$g$2 = yyRepValue1.reverse();
+          final int v$g$2 = yyRepStart1;
+          final int v$g$2$end = yyRepEnd1;
 
-          yyValue = GNode.createFromPair("Implementation", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          yyValue = bufferedNode("Implementation", v$g$1, v$g$2, v$g$2$end);
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
         } // End scope for v$g$2.
@@ -29031,10 +33923,15 @@ public final class CommandParser extends ParserBase {
    */
   private Result pJeannieJava$Block(final int yyStart) throws IOException {
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk11) yyColumn.chunk11 = new Chunk11();
-    if (null == yyColumn.chunk11.fJeannieJava$Block) 
-      yyColumn.chunk11.fJeannieJava$Block = pJeannieJava$Block$1(yyStart);
-    return yyColumn.chunk11.fJeannieJava$Block;
+    if (null == yyColumn.chunk7) yyColumn.chunk7 = new Chunk7();
+    if (null == yyColumn.chunk7.fJeannieJava$Block) {
+      yyColumn.chunk7.fJeannieJava$Block = pJeannieJava$Block$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(103, yyColumn.chunk7.fJeannieJava$Block);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(103, yyColumn.chunk7.fJeannieJava$Block);
+    }
+    return yyColumn.chunk7.fJeannieJava$Block;
   }
 
   /** Actually parse xtc.lang.jeannie.JeannieJava.Block. */
@@ -29043,24 +33940,62 @@ public final class CommandParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '`':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <JavaBlock>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pJeannieJava$JavaInJavaBlock(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pJeannieJava$JavaInJavaBlock(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <CBlock>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pJeannieJava$CInJavaBlock(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pJeannieJava$CInJavaBlock(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -29189,7 +34124,7 @@ public final class CommandParser extends ParserBase {
                 final Node v$g$6 = yyResult.semanticValue();
 
                 yyValue = GNode.create("ClassDeclaration", v$g$1, v$g$2, null, v$g$4, v$g$5, v$g$6);
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return yyResult.createValue(yyValue, yyError);
               }
@@ -29231,7 +34166,7 @@ public final class CommandParser extends ParserBase {
               final Node v$g$5 = yyResult.semanticValue();
 
               yyValue = GNode.create("InterfaceDeclaration", v$g$1, v$g$2, null, v$g$4, v$g$5);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -29285,7 +34220,7 @@ public final class CommandParser extends ParserBase {
           if (yyResult.hasValue(";")) {
 
             yyValue = GNode.create("FieldDeclaration", v$g$1, v$g$2, v$g$3);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
@@ -29315,20 +34250,57 @@ public final class CommandParser extends ParserBase {
     int        yyBase;
     int        yyRepetition1;
     boolean    yyRepeated1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     int        yyOption1;
     Object     yyOpValue1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '`':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Block>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pJeannieJava$Block(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pJeannieJava$Block(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 2.
@@ -29360,7 +34332,7 @@ public final class CommandParser extends ParserBase {
               final Node v$g$3 = yyResult.semanticValue();
 
               yyValue = GNode.create("ConditionalStatement", v$g$1, v$g$2, v$g$3);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -29371,7 +34343,7 @@ public final class CommandParser extends ParserBase {
           // Nested alternative 2.
 
           yyValue = GNode.create("ConditionalStatement", v$g$1, v$g$2, null);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyChoice1, yyError);
         }
@@ -29402,7 +34374,7 @@ public final class CommandParser extends ParserBase {
               final Node v$g$2 = yyResult.semanticValue();
 
               yyValue = GNode.create("ForStatement", v$g$1, v$g$2);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -29431,7 +34403,7 @@ public final class CommandParser extends ParserBase {
           final Node v$g$2 = yyResult.semanticValue();
 
           yyValue = GNode.create("WhileStatement", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -29462,7 +34434,7 @@ public final class CommandParser extends ParserBase {
             if (yyResult.hasValue(";")) {
 
               yyValue = GNode.create("DoWhileStatement", v$g$1, v$g$2);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             } else {
@@ -29483,14 +34455,15 @@ public final class CommandParser extends ParserBase {
       yyResult = pJeannieJava$Block(yyResult.index);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
+        final Node v$g$2 = yyResult.semanticValue();
 
         final int yyChoice1 = yyResult.index;
 
         // Nested alternative 1.
 
         yyRepetition1 = yyChoice1;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyResult = pJeannieJava$CatchClause(yyRepetition1);
@@ -29499,13 +34472,14 @@ public final class CommandParser extends ParserBase {
             final Node v$el$1 = yyResult.semanticValue();
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
           break;
         }
-        { // Start scope for v$g$2.
-          final Pair<Node> v$g$2 = yyRepValue1.reverse();
+        { // Start scope for v$g$3.
+          final int v$g$3 = yyRepStart1;
+          final int v$g$3$end = yyRepEnd1;
 
           yyBase   = yyRepetition1;
           yyResult = pJavaIdentifier$Word(yyBase);
@@ -29514,24 +34488,28 @@ public final class CommandParser extends ParserBase {
             yyResult = pJeannieJava$Block(yyResult.index);
             yyError  = yyResult.select(yyError);
             if (yyResult.hasValue()) {
-              final Node v$g$3 = yyResult.semanticValue();
+              final Node v$g$4 = yyResult.semanticValue();
 
-              yyValue = GNode.create("TryCatchFinallyStatement", v$g$2.size() + 2).
-                add(v$g$1).addAll(v$g$2).add(v$g$3);
-              yyValue.setLocation(location(yyStart));
+              yyValue = GNode.create("TryCatchFinallyStatement", (v$g$3$end - v$g$3) + 3).
+                add(null).add(v$g$2);
+              addBuffered(yyValue, v$g$3, v$g$3$end);
+              yyValue.add(v$g$4);
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
           } else {
             yyError = yyError.select("'finally' expected", yyBase);
           }
-        } // End scope for v$g$2.
+          releaseBuffer(v$g$3);
+        } // End scope for v$g$3.
 
         // Nested alternative 2.
 
         yyRepetition1 = yyChoice1;
         yyRepeated1   = false;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyResult = pJeannieJava$CatchClause(yyRepetition1);
@@ -29541,18 +34519,21 @@ public final class CommandParser extends ParserBase {
 
             yyRepetition1 = yyResult.index;
             yyRepeated1   = true;
-            yyRepValue1   = new Pair<Node>(v$el$2, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$2);
             continue;
           }
           break;
         }
 
         if (yyRepeated1) {
-          final Pair<Node> v$g$4 = yyRepValue1.reverse();
+          final int v$g$5 = yyRepStart1;
+          final int v$g$5$end = yyRepEnd1;
 
-          yyValue = GNode.create("TryCatchFinallyStatement", v$g$4.size() + 2).
-            add(v$g$1).addAll(v$g$4).add(null);
-          yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("TryCatchFinallyStatement", (v$g$5$end - v$g$5) + 3).
+            add(null).add(v$g$2);
+          addBuffered(yyValue, v$g$5, v$g$5$end);
+          yyValue.add(null);
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
         }
@@ -29574,7 +34555,8 @@ public final class CommandParser extends ParserBase {
         if (yyResult.hasValue("{")) {
 
           yyRepetition1 = yyResult.index;
-          yyRepValue1   = Pair.empty();
+          yyRepStart1   = bufferStart();
+          yyRepEnd1   = yyRepStart1;
           while (true) {
 
             yyResult = pJeannieJava$SwitchClause(yyRepetition1);
@@ -29583,25 +34565,27 @@ public final class CommandParser extends ParserBase {
               final Node v$el$1 = yyResult.semanticValue();
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
             break;
           }
           { // Start scope for v$g$2.
-            final Pair<Node> v$g$2 = yyRepValue1.reverse();
+            final int v$g$2 = yyRepStart1;
+            final int v$g$2$end = yyRepEnd1;
 
             yyBase   = yyRepetition1;
             yyResult = pSymbol(yyBase);
             if (yyResult.hasValue("}")) {
 
-              yyValue = GNode.createFromPair("SwitchStatement", v$g$1, v$g$2);
-              yyValue.setLocation(location(yyStart));
+              yyValue = bufferedNode("SwitchStatement", v$g$1, v$g$2, v$g$2$end);
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             } else {
               yyError = yyError.select("'}' expected", yyBase);
             }
+            releaseBuffer(v$g$2);
           } // End scope for v$g$2.
         } else {
           yyError = yyError.select("'{' expected", yyBase);
@@ -29625,7 +34609,7 @@ public final class CommandParser extends ParserBase {
           final Node v$g$2 = yyResult.semanticValue();
 
           yyValue = GNode.create("SynchronizedStatement", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -29656,7 +34640,7 @@ public final class CommandParser extends ParserBase {
         if (yyResult.hasValue(";")) {
 
           yyValue = GNode.create("ReturnStatement", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
@@ -29680,7 +34664,7 @@ public final class CommandParser extends ParserBase {
         if (yyResult.hasValue(";")) {
 
           yyValue = GNode.create("ThrowStatement", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
@@ -29713,7 +34697,7 @@ public final class CommandParser extends ParserBase {
         if (yyResult.hasValue(";")) {
 
           yyValue = GNode.create("BreakStatement", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
@@ -29746,7 +34730,7 @@ public final class CommandParser extends ParserBase {
         if (yyResult.hasValue(";")) {
 
           yyValue = GNode.create("ContinueStatement", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
@@ -29772,7 +34756,7 @@ public final class CommandParser extends ParserBase {
           final Node v$g$2 = yyResult.semanticValue();
 
           yyValue = GNode.create("LabeledStatement", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -29793,7 +34777,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue(";")) {
 
         yyValue = GNode.create("ExpressionStatement", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       } else {
@@ -29837,7 +34821,7 @@ public final class CommandParser extends ParserBase {
           if (yyResult.hasValue(";")) {
 
             yyValue = GNode.create("AssertStatement", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
@@ -29848,14 +34832,16 @@ public final class CommandParser extends ParserBase {
     }
 
     // Alternative 16.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(";")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(";")) {
 
-      yyValue = GNode.create("EmptyStatement", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("EmptyStatement", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -29936,7 +34922,7 @@ public final class CommandParser extends ParserBase {
                   final Node v$g$5 = yyOpValue1;
 
                   yyValue = GNode.create("BasicForControl", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
-                  yyValue.setLocation(location(yyStart));
+                  locate(yyValue, yyStart);
 
                   return new SemanticValue(yyValue, yyOption1, yyError);
                 } // End scope for v$g$5.
@@ -30004,7 +34990,7 @@ public final class CommandParser extends ParserBase {
               final Node v$g$10 = yyOpValue1;
 
               yyValue = GNode.create("BasicForControl", null, null, v$g$8, v$g$9, v$g$10);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return new SemanticValue(yyValue, yyOption1, yyError);
             } // End scope for v$g$10.
@@ -30034,10 +35020,16 @@ public final class CommandParser extends ParserBase {
     throws IOException {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk11) yyColumn.chunk11 = new Chunk11();
-    if (null == yyColumn.chunk11.fJeannieJava$ParExpression) 
-      yyColumn.chunk11.fJeannieJava$ParExpression = pJeannieJava$ParExpression$1(yyStart);
-    return yyColumn.chunk11.fJeannieJava$ParExpression;
+    if (null == yyColumn.chunk12) yyColumn.chunk12 = new Chunk12();
+    if (null == yyColumn.chunk12.fJeannieJava$ParExpression) {
+      yyColumn.chunk12.fJeannieJava$ParExpression = 
+        pJeannieJava$ParExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(104, yyColumn.chunk12.fJeannieJava$ParExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(104, yyColumn.chunk12.fJeannieJava$ParExpression);
+    }
+    return yyColumn.chunk12.fJeannieJava$ParExpression;
   }
 
   /** Actually parse xtc.lang.jeannie.JeannieJava.ParExpression. */
@@ -30091,7 +35083,8 @@ public final class CommandParser extends ParserBase {
     int        yyBase;
     int        yyRepetition1;
     boolean    yyRepeated1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -30103,14 +35096,15 @@ public final class CommandParser extends ParserBase {
       yyResult = pJeannieJava$Block(yyResult.index);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
+        final Node v$g$2 = yyResult.semanticValue();
 
         final int yyChoice1 = yyResult.index;
 
         // Nested alternative 1.
 
         yyRepetition1 = yyChoice1;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyResult = pJeannieJava$CatchClause(yyRepetition1);
@@ -30119,13 +35113,14 @@ public final class CommandParser extends ParserBase {
             final Node v$el$1 = yyResult.semanticValue();
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
           break;
         }
-        { // Start scope for v$g$2.
-          final Pair<Node> v$g$2 = yyRepValue1.reverse();
+        { // Start scope for v$g$3.
+          final int v$g$3 = yyRepStart1;
+          final int v$g$3$end = yyRepEnd1;
 
           yyBase   = yyRepetition1;
           yyResult = pJavaIdentifier$Word(yyBase);
@@ -30134,24 +35129,28 @@ public final class CommandParser extends ParserBase {
             yyResult = pJeannieJava$Block(yyResult.index);
             yyError  = yyResult.select(yyError);
             if (yyResult.hasValue()) {
-              final Node v$g$3 = yyResult.semanticValue();
+              final Node v$g$4 = yyResult.semanticValue();
 
-              yyValue = GNode.create("TryCatchFinallyStatement", v$g$2.size() + 2).
-                add(v$g$1).addAll(v$g$2).add(v$g$3);
-              yyValue.setLocation(location(yyStart));
+              yyValue = GNode.create("TryCatchFinallyStatement", (v$g$3$end - v$g$3) + 3).
+                add(null).add(v$g$2);
+              addBuffered(yyValue, v$g$3, v$g$3$end);
+              yyValue.add(v$g$4);
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
           } else {
             yyError = yyError.select("'finally' expected", yyBase);
           }
-        } // End scope for v$g$2.
+          releaseBuffer(v$g$3);
+        } // End scope for v$g$3.
 
         // Nested alternative 2.
 
         yyRepetition1 = yyChoice1;
         yyRepeated1   = false;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyResult = pJeannieJava$CatchClause(yyRepetition1);
@@ -30161,18 +35160,21 @@ public final class CommandParser extends ParserBase {
 
             yyRepetition1 = yyResult.index;
             yyRepeated1   = true;
-            yyRepValue1   = new Pair<Node>(v$el$2, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$2);
             continue;
           }
           break;
         }
 
         if (yyRepeated1) {
-          final Pair<Node> v$g$4 = yyRepValue1.reverse();
+          final int v$g$5 = yyRepStart1;
+          final int v$g$5$end = yyRepEnd1;
 
-          yyValue = GNode.create("TryCatchFinallyStatement", v$g$4.size() + 2).
-            add(v$g$1).addAll(v$g$4).add(null);
-          yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("TryCatchFinallyStatement", (v$g$5$end - v$g$5) + 3).
+            add(null).add(v$g$2);
+          addBuffered(yyValue, v$g$5, v$g$5$end);
+          yyValue.add(null);
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
         }
@@ -30197,10 +35199,16 @@ public final class CommandParser extends ParserBase {
     throws IOException {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk11) yyColumn.chunk11 = new Chunk11();
-    if (null == yyColumn.chunk11.fJeannieJava$CatchClause) 
-      yyColumn.chunk11.fJeannieJava$CatchClause = pJeannieJava$CatchClause$1(yyStart);
-    return yyColumn.chunk11.fJeannieJava$CatchClause;
+    if (null == yyColumn.chunk12) yyColumn.chunk12 = new Chunk12();
+    if (null == yyColumn.chunk12.fJeannieJava$CatchClause) {
+      yyColumn.chunk12.fJeannieJava$CatchClause = 
+        pJeannieJava$CatchClause$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(105, yyColumn.chunk12.fJeannieJava$CatchClause);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(105, yyColumn.chunk12.fJeannieJava$CatchClause);
+    }
+    return yyColumn.chunk12.fJeannieJava$CatchClause;
   }
 
   /** Actually parse xtc.lang.jeannie.JeannieJava.CatchClause. */
@@ -30212,7 +35220,7 @@ public final class CommandParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
-    // Alternative 1.
+    // Alternative <Catch>.
 
     yyResult = pJavaIdentifier$Word(yyStart);
     if (yyResult.hasValue("catch")) {
@@ -30236,7 +35244,7 @@ public final class CommandParser extends ParserBase {
               final Node v$g$2 = yyResult.semanticValue();
 
               yyValue = GNode.create("CatchClause", v$g$1, v$g$2);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -30269,7 +35277,8 @@ public final class CommandParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -30288,7 +35297,8 @@ public final class CommandParser extends ParserBase {
         if (yyResult.hasValue(":")) {
 
           yyRepetition1 = yyResult.index;
-          yyRepValue1   = Pair.empty();
+          yyRepStart1   = bufferStart();
+          yyRepEnd1   = yyRepStart1;
           while (true) {
 
             yyResult = pJeannieJava$DeclarationOrStatement(yyRepetition1);
@@ -30297,16 +35307,17 @@ public final class CommandParser extends ParserBase {
               final Node v$el$1 = yyResult.semanticValue();
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
             break;
           }
           { // Start scope for v$g$2.
-            final Pair<Node> v$g$2 = yyRepValue1.reverse();
+            final int v$g$2 = yyRepStart1;
+            final int v$g$2$end = yyRepEnd1;
 
-            yyValue = GNode.createFromPair("CaseClause", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
+            yyValue = bufferedNode("CaseClause", v$g$1, v$g$2, v$g$2$end);
+            locate(yyValue, yyStart);
 
             return new SemanticValue(yyValue, yyRepetition1, yyError);
           } // End scope for v$g$2.
@@ -30326,7 +35337,8 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue(":")) {
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyResult = pJeannieJava$DeclarationOrStatement(yyRepetition1);
@@ -30335,16 +35347,17 @@ public final class CommandParser extends ParserBase {
             final Node v$el$1 = yyResult.semanticValue();
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
           break;
         }
         { // Start scope for v$g$1.
-          final Pair<Node> v$g$1 = yyRepValue1.reverse();
+          final int v$g$1 = yyRepStart1;
+          final int v$g$1$end = yyRepEnd1;
 
-          yyValue = GNode.createFromPair("DefaultClause", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          yyValue = bufferedNode("DefaultClause", v$g$1, v$g$1$end);
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
         } // End scope for v$g$1.
@@ -30390,7 +35403,7 @@ public final class CommandParser extends ParserBase {
           final Node v$g$2 = yyResult.semanticValue();
 
           yyValue = GNode.create("SynchronizedStatement", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -30434,7 +35447,7 @@ public final class CommandParser extends ParserBase {
         if (yyResult.hasValue(";")) {
 
           yyValue = GNode.create("ThrowStatement", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
@@ -30463,7 +35476,8 @@ public final class CommandParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -30475,7 +35489,8 @@ public final class CommandParser extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyBase   = yyRepetition1;
@@ -30488,7 +35503,7 @@ public final class CommandParser extends ParserBase {
             final Node v$el$1 = yyResult.semanticValue();
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
         } else {
@@ -30497,10 +35512,11 @@ public final class CommandParser extends ParserBase {
         break;
       }
       { // Start scope for v$g$2.
-        final Pair<Node> v$g$2 = yyRepValue1.reverse();
+        final int v$g$2 = yyRepStart1;
+        final int v$g$2$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("ExpressionList", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("ExpressionList", v$g$1, v$g$2, v$g$2$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$2.
@@ -30523,10 +35539,16 @@ public final class CommandParser extends ParserBase {
     throws IOException {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk11) yyColumn.chunk11 = new Chunk11();
-    if (null == yyColumn.chunk11.fJeannieJava$Expression) 
-      yyColumn.chunk11.fJeannieJava$Expression = pJeannieJava$Expression$1(yyStart);
-    return yyColumn.chunk11.fJeannieJava$Expression;
+    if (null == yyColumn.chunk7) yyColumn.chunk7 = new Chunk7();
+    if (null == yyColumn.chunk7.fJeannieJava$Expression) {
+      yyColumn.chunk7.fJeannieJava$Expression = 
+        pJeannieJava$Expression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(106, yyColumn.chunk7.fJeannieJava$Expression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(106, yyColumn.chunk7.fJeannieJava$Expression);
+    }
+    return yyColumn.chunk7.fJeannieJava$Expression;
   }
 
   /** Actually parse xtc.lang.jeannie.JeannieJava.Expression. */
@@ -30555,7 +35577,7 @@ public final class CommandParser extends ParserBase {
           final Node v$g$3 = yyResult.semanticValue();
 
           yyValue = GNode.create("Expression", v$g$1, v$g$2, v$g$3);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -30590,10 +35612,15 @@ public final class CommandParser extends ParserBase {
    */
   private Result p$$Shared21(final int yyStart) throws IOException {
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk11) yyColumn.chunk11 = new Chunk11();
-    if (null == yyColumn.chunk11.f$$Shared21) 
-      yyColumn.chunk11.f$$Shared21 = p$$Shared21$1(yyStart);
-    return yyColumn.chunk11.f$$Shared21;
+    if (null == yyColumn.chunk12) yyColumn.chunk12 = new Chunk12();
+    if (null == yyColumn.chunk12.f$$Shared21) {
+      yyColumn.chunk12.f$$Shared21 = p$$Shared21$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(107, yyColumn.chunk12.f$$Shared21);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(107, yyColumn.chunk12.f$$Shared21);
+    }
+    return yyColumn.chunk12.f$$Shared21;
   }
 
   /** Actually parse xtc.lang.blink.Command.$$Shared21. */
@@ -30602,112 +35629,170 @@ public final class CommandParser extends ParserBase {
     String     yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '`':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0xfff;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Equal>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("=")) {
-      yyValue = "=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("=")) {
+        yyValue = "=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <PlusEqual>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("+=")) {
-      yyValue = "+=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("+=")) {
+        yyValue = "+=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <MinusEqual>.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("-=")) {
-      yyValue = "-=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("-=")) {
+        yyValue = "-=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <StarEqual>.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("*=")) {
-      yyValue = "*=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("*=")) {
+        yyValue = "*=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <SlashEqual>.
+    if (0 != (yyFirst & 0x10)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("/=")) {
-      yyValue = "/=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("/=")) {
+        yyValue = "/=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <AmpersandEqual>.
+    if (0 != (yyFirst & 0x20)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("&=")) {
-      yyValue = "&=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("&=")) {
+        yyValue = "&=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <BarEqual>.
+    if (0 != (yyFirst & 0x40)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("|=")) {
-      yyValue = "|=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("|=")) {
+        yyValue = "|=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <CaretEqual>.
+    if (0 != (yyFirst & 0x80)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("^=")) {
-      yyValue = "^=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("^=")) {
+        yyValue = "^=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <PercentEqual>.
+    if (0 != (yyFirst & 0x100)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("%=")) {
-      yyValue = "%=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("%=")) {
+        yyValue = "%=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <DoubleLessEqual>.
+    if (0 != (yyFirst & 0x200)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("<<=")) {
-      yyValue = "<<=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("<<=")) {
+        yyValue = "<<=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <DoubleGreaterEqual>.
+    if (0 != (yyFirst & 0x400)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(">>=")) {
-      yyValue = ">>=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(">>=")) {
+        yyValue = ">>=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <TripleGreaterEqual>.
+    if (0 != (yyFirst & 0x800)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(">>>=")) {
-      yyValue = ">>>=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(">>>=")) {
+        yyValue = ">>>=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -30728,10 +35813,16 @@ public final class CommandParser extends ParserBase {
     throws IOException {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk11) yyColumn.chunk11 = new Chunk11();
-    if (null == yyColumn.chunk11.fJeannieJava$ConditionalExpression) 
-      yyColumn.chunk11.fJeannieJava$ConditionalExpression = pJeannieJava$ConditionalExpression$1(yyStart);
-    return yyColumn.chunk11.fJeannieJava$ConditionalExpression;
+    if (null == yyColumn.chunk7) yyColumn.chunk7 = new Chunk7();
+    if (null == yyColumn.chunk7.fJeannieJava$ConditionalExpression) {
+      yyColumn.chunk7.fJeannieJava$ConditionalExpression = 
+        pJeannieJava$ConditionalExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(108, yyColumn.chunk7.fJeannieJava$ConditionalExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(108, yyColumn.chunk7.fJeannieJava$ConditionalExpression);
+    }
+    return yyColumn.chunk7.fJeannieJava$ConditionalExpression;
   }
 
   /** Actually parse xtc.lang.jeannie.JeannieJava.ConditionalExpression. */
@@ -30769,7 +35860,7 @@ public final class CommandParser extends ParserBase {
               final Node v$g$3 = yyResult.semanticValue();
 
               yyValue = GNode.create("ConditionalExpression", v$g$1, v$g$2, v$g$3);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -30809,10 +35900,16 @@ public final class CommandParser extends ParserBase {
     throws IOException {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk11) yyColumn.chunk11 = new Chunk11();
-    if (null == yyColumn.chunk11.fJeannieJava$LogicalOrExpression) 
-      yyColumn.chunk11.fJeannieJava$LogicalOrExpression = pJeannieJava$LogicalOrExpression$1(yyStart);
-    return yyColumn.chunk11.fJeannieJava$LogicalOrExpression;
+    if (null == yyColumn.chunk7) yyColumn.chunk7 = new Chunk7();
+    if (null == yyColumn.chunk7.fJeannieJava$LogicalOrExpression) {
+      yyColumn.chunk7.fJeannieJava$LogicalOrExpression = 
+        pJeannieJava$LogicalOrExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(109, yyColumn.chunk7.fJeannieJava$LogicalOrExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(109, yyColumn.chunk7.fJeannieJava$LogicalOrExpression);
+    }
+    return yyColumn.chunk7.fJeannieJava$LogicalOrExpression;
   }
 
   /** Actually parse xtc.lang.jeannie.JeannieJava.LogicalOrExpression. */
@@ -31400,7 +36497,7 @@ public final class CommandParser extends ParserBase {
           final Node v$g$2 = yyResult.semanticValue();
 
           yyValue = GNode.create("InstanceOfExpression", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -31436,10 +36533,16 @@ public final class CommandParser extends ParserBase {
     throws IOException {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk12) yyColumn.chunk12 = new Chunk12();
-    if (null == yyColumn.chunk12.fJeannieJava$RelationalExpression) 
-      yyColumn.chunk12.fJeannieJava$RelationalExpression = pJeannieJava$RelationalExpression$1(yyStart);
-    return yyColumn.chunk12.fJeannieJava$RelationalExpression;
+    if (null == yyColumn.chunk5) yyColumn.chunk5 = new Chunk5();
+    if (null == yyColumn.chunk5.fJeannieJava$RelationalExpression) {
+      yyColumn.chunk5.fJeannieJava$RelationalExpression = 
+        pJeannieJava$RelationalExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(110, yyColumn.chunk5.fJeannieJava$RelationalExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(110, yyColumn.chunk5.fJeannieJava$RelationalExpression);
+    }
+    return yyColumn.chunk5.fJeannieJava$RelationalExpression;
   }
 
   /** Actually parse xtc.lang.jeannie.JeannieJava.RelationalExpression. */
@@ -31542,10 +36645,15 @@ public final class CommandParser extends ParserBase {
    */
   private Result p$$Shared22(final int yyStart) throws IOException {
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk12) yyColumn.chunk12 = new Chunk12();
-    if (null == yyColumn.chunk12.f$$Shared22) 
-      yyColumn.chunk12.f$$Shared22 = p$$Shared22$1(yyStart);
-    return yyColumn.chunk12.f$$Shared22;
+    if (null == yyColumn.chunk13) yyColumn.chunk13 = new Chunk13();
+    if (null == yyColumn.chunk13.f$$Shared22) {
+      yyColumn.chunk13.f$$Shared22 = p$$Shared22$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(111, yyColumn.chunk13.f$$Shared22);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(111, yyColumn.chunk13.f$$Shared22);
+    }
+    return yyColumn.chunk13.f$$Shared22;
   }
 
   /** Actually parse xtc.lang.blink.Command.$$Shared22. */
@@ -31554,40 +36662,82 @@ public final class CommandParser extends ParserBase {
     String     yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '`':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0xf;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Less>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("<")) {
-      yyValue = "<";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("<")) {
+        yyValue = "<";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Greater>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(">")) {
-      yyValue = ">";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(">")) {
+        yyValue = ">";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <LessEqual>.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("<=")) {
-      yyValue = "<=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("<=")) {
+        yyValue = "<=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <GreaterEqual>.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(">=")) {
-      yyValue = ">=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(">=")) {
+        yyValue = ">=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -31703,10 +36853,15 @@ public final class CommandParser extends ParserBase {
    */
   private Result p$$Shared23(final int yyStart) throws IOException {
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk12) yyColumn.chunk12 = new Chunk12();
-    if (null == yyColumn.chunk12.f$$Shared23) 
-      yyColumn.chunk12.f$$Shared23 = p$$Shared23$1(yyStart);
-    return yyColumn.chunk12.f$$Shared23;
+    if (null == yyColumn.chunk13) yyColumn.chunk13 = new Chunk13();
+    if (null == yyColumn.chunk13.f$$Shared23) {
+      yyColumn.chunk13.f$$Shared23 = p$$Shared23$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(112, yyColumn.chunk13.f$$Shared23);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(112, yyColumn.chunk13.f$$Shared23);
+    }
+    return yyColumn.chunk13.f$$Shared23;
   }
 
   /** Actually parse xtc.lang.blink.Command.$$Shared23. */
@@ -31715,31 +36870,71 @@ public final class CommandParser extends ParserBase {
     String     yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '`':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x7;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Left>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("<<")) {
-      yyValue = "<<";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("<<")) {
+        yyValue = "<<";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Right>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(">>")) {
-      yyValue = ">>";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(">>")) {
+        yyValue = ">>";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <UnsignedRight>.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(">>>")) {
-      yyValue = ">>>";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(">>>")) {
+        yyValue = ">>>";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -31952,75 +37147,117 @@ public final class CommandParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '`':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0xf;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Plus>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("+")) {
-      final String v$g$1 = "+";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("+")) {
+        final String v$g$1 = "+";
 
-      yyResult = pJeannieJava$UnaryExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$2 = yyResult.semanticValue();
+        yyResult = pJeannieJava$UnaryExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryExpression", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("UnaryExpression", v$g$1, v$g$2);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative <Minus>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("-")) {
-      final String v$g$3 = "-";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("-")) {
+        final String v$g$3 = "-";
 
-      yyResult = pJeannieJava$UnaryExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$4 = yyResult.semanticValue();
+        yyResult = pJeannieJava$UnaryExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$4 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryExpression", v$g$3, v$g$4);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("UnaryExpression", v$g$3, v$g$4);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative <Increment>.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("++")) {
-      final String v$g$5 = "++";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("++")) {
+        final String v$g$5 = "++";
 
-      yyResult = pJeannieJava$UnaryExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$6 = yyResult.semanticValue();
+        yyResult = pJeannieJava$UnaryExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$6 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryExpression", v$g$5, v$g$6);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("UnaryExpression", v$g$5, v$g$6);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative <Decrement>.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("--")) {
-      final String v$g$7 = "--";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("--")) {
+        final String v$g$7 = "--";
 
-      yyResult = pJeannieJava$UnaryExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$8 = yyResult.semanticValue();
+        yyResult = pJeannieJava$UnaryExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$8 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryExpression", v$g$7, v$g$8);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("UnaryExpression", v$g$7, v$g$8);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
@@ -32059,121 +37296,164 @@ public final class CommandParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '`':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0xf;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("~")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("~")) {
 
-      yyResult = pJeannieJava$UnaryExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
+        yyResult = pJeannieJava$UnaryExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("BitwiseNegationExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("BitwiseNegationExpression", v$g$1);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative <CInJavaExpression>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pJeannieJava$CInJavaExpression(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pJeannieJava$CInJavaExpression(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("!")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("!")) {
 
-      yyResult = pJeannieJava$UnaryExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
+        yyResult = pJeannieJava$UnaryExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("LogicalNegationExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("LogicalNegationExpression", v$g$1);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 4.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("(")) {
-
-      final int yyChoice1 = yyResult.index;
-
-      // Nested alternative 1.
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("(")) {
 
-      yyResult = pPrimitiveType(yyChoice1);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
+        final int yyChoice1 = yyResult.index;
 
-        yyOption1  = yyResult.index;
-        yyOpValue1 = null;
+        // Nested alternative 1.
 
-        yyResult = pDimensions(yyOption1);
-        yyError  = yyResult.select(yyError, yyOption1);
+        yyResult = pPrimitiveType(yyChoice1);
+        yyError  = yyResult.select(yyError);
         if (yyResult.hasValue()) {
-          final Node v$el$1 = yyResult.semanticValue();
+          final Node v$g$1 = yyResult.semanticValue();
 
           yyOption1  = yyResult.index;
-          yyOpValue1 = v$el$1;
+          yyOpValue1 = null;
+
+          yyResult = pDimensions(yyOption1);
+          yyError  = yyResult.select(yyError, yyOption1);
+          if (yyResult.hasValue()) {
+            final Node v$el$1 = yyResult.semanticValue();
+
+            yyOption1  = yyResult.index;
+            yyOpValue1 = v$el$1;
+          }
+          { // Start scope for v$g$2.
+            final Node v$g$2 = yyOpValue1;
+
+            yyBase   = yyOption1;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue(")")) {
+
+              yyResult = pJeannieJava$UnaryExpression(yyResult.index);
+              yyError  = yyResult.select(yyError);
+              if (yyResult.hasValue()) {
+                final Node v$g$3 = yyResult.semanticValue();
+
+                yyValue = GNode.create("BasicCastExpression", v$g$1, v$g$2, v$g$3);
+                locate(yyValue, yyStart);
+
+                return yyResult.createValue(yyValue, yyError);
+              }
+            } else {
+              yyError = yyError.select("')' expected", yyBase);
+            }
+          } // End scope for v$g$2.
         }
-        { // Start scope for v$g$2.
-          final Node v$g$2 = yyOpValue1;
 
-          yyBase   = yyOption1;
+        // Nested alternative 2.
+
+        yyResult = pType(yyChoice1);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$1 = yyResult.semanticValue();
+
+          yyBase   = yyResult.index;
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue(")")) {
 
-            yyResult = pJeannieJava$UnaryExpression(yyResult.index);
+            yyResult = 
+              pJeannieJava$UnaryExpressionNotPlusMinus(yyResult.index);
             yyError  = yyResult.select(yyError);
             if (yyResult.hasValue()) {
-              final Node v$g$3 = yyResult.semanticValue();
+              final Node v$g$2 = yyResult.semanticValue();
 
-              yyValue = GNode.create("BasicCastExpression", v$g$1, v$g$2, v$g$3);
-              yyValue.setLocation(location(yyStart));
+              yyValue = GNode.create("CastExpression", v$g$1, v$g$2);
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
           } else {
             yyError = yyError.select("')' expected", yyBase);
           }
-        } // End scope for v$g$2.
-      }
-
-      // Nested alternative 2.
-
-      yyResult = pType(yyChoice1);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
-
-        yyBase   = yyResult.index;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue(")")) {
-
-          yyResult = pJeannieJava$UnaryExpressionNotPlusMinus(yyResult.index);
-          yyError  = yyResult.select(yyError);
-          if (yyResult.hasValue()) {
-            final Node v$g$2 = yyResult.semanticValue();
-
-            yyValue = GNode.create("CastExpression", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
-
-            return yyResult.createValue(yyValue, yyError);
-          }
-        } else {
-          yyError = yyError.select("')' expected", yyBase);
         }
       }
     }
@@ -32265,193 +37545,237 @@ public final class CommandParser extends ParserBase {
     Action<Node> yyValue;
     ParseError   yyError = ParseError.DUMMY;
 
-    // Alternative 1.
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '`':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x1f;
+      break;
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(".")) {
+    default:
+      yyFirst = 0;
+    }
 
-      final int yyChoice1 = yyResult.index;
+    // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-      // Nested alternative 1.
-      { // Start scope for nested choice.
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(".")) {
 
-        final int yyChoice2 = yyChoice1;
+        final int yyChoice1 = yyResult.index;
 
         // Nested alternative 1.
+        { // Start scope for nested choice.
 
-        yyResult = pJavaIdentifier$Identifier(yyChoice2);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final String v$g$3 = yyResult.semanticValue();
+          final int yyChoice2 = yyChoice1;
 
-          yyResult = pJeannieJava$Arguments(yyResult.index);
+          // Nested alternative 1.
+
+          yyResult = pJavaIdentifier$Identifier(yyChoice2);
           yyError  = yyResult.select(yyError);
           if (yyResult.hasValue()) {
-            final Node v$g$4 = yyResult.semanticValue();
+            final String v$g$3 = yyResult.semanticValue();
 
-            yyValue = new Action<Node>() {
-              public Node run(Node v$1) {
-                return GNode.create("CallExpression", v$1, null, v$g$3, v$g$4);
-              }};
+            yyResult = pJeannieJava$Arguments(yyResult.index);
+            yyError  = yyResult.select(yyError);
+            if (yyResult.hasValue()) {
+              final Node v$g$4 = yyResult.semanticValue();
 
-            return yyResult.createValue(yyValue, yyError);
+              yyValue = new Action<Node>() {
+                public Node run(Node v$1) {
+                  return GNode.create("CallExpression", v$1, null, v$g$3, v$g$4);
+                }};
+
+              return yyResult.createValue(yyValue, yyError);
+            }
           }
-        }
 
-        // Nested alternative 2.
+          // Nested alternative 2.
 
-        yyBase   = yyChoice2;
-        yyResult = pJavaIdentifier$Word(yyBase);
-        if (yyResult.hasValue("super")) {
-          final String v$g$5 = "super";
+          yyBase   = yyChoice2;
+          yyResult = pJavaIdentifier$Word(yyBase);
+          if (yyResult.hasValue("super")) {
+            final String v$g$5 = "super";
 
-          yyResult = pJeannieJava$Arguments(yyResult.index);
-          yyError  = yyResult.select(yyError);
-          if (yyResult.hasValue()) {
-            final Node v$g$6 = yyResult.semanticValue();
+            yyResult = pJeannieJava$Arguments(yyResult.index);
+            yyError  = yyResult.select(yyError);
+            if (yyResult.hasValue()) {
+              final Node v$g$6 = yyResult.semanticValue();
 
-            yyValue = new Action<Node>() {
-              public Node run(Node v$1) {
-                return GNode.create("CallExpression", v$1, null, v$g$5, v$g$6);
-              }};
+              yyValue = new Action<Node>() {
+                public Node run(Node v$1) {
+                  return GNode.create("CallExpression", v$1, null, v$g$5, v$g$6);
+                }};
 
-            return yyResult.createValue(yyValue, yyError);
+              return yyResult.createValue(yyValue, yyError);
+            }
+          } else {
+            yyError = yyError.select("'super' expected", yyBase);
           }
-        } else {
-          yyError = yyError.select("'super' expected", yyBase);
-        }
-      } // End scope for nested choice.
+        } // End scope for nested choice.
 
-      // Nested alternative 2.
+        // Nested alternative 2.
 
-      yyBase   = yyChoice1;
-      yyResult = pJavaIdentifier$Word(yyBase);
-      if (yyResult.hasValue("super")) {
+        yyBase   = yyChoice1;
+        yyResult = pJavaIdentifier$Word(yyBase);
+        if (yyResult.hasValue("super")) {
 
-        yyValue = new Action<Node>() {
-          public Node run(Node v$1) {
-            return GNode.create("SuperExpression", v$1);
-          }};
+          yyValue = new Action<Node>() {
+            public Node run(Node v$1) {
+              return GNode.create("SuperExpression", v$1);
+            }};
 
-        return yyResult.createValue(yyValue, yyError);
-      } else {
-        yyError = yyError.select("'super' expected", yyBase);
-      }
+          return yyResult.createValue(yyValue, yyError);
+        } else {
+          yyError = yyError.select("'super' expected", yyBase);
+        }
 
-      // Nested alternative 3.
+        // Nested alternative 3.
 
-      yyResult = pJavaIdentifier$Identifier(yyChoice1);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final String v$g$7 = yyResult.semanticValue();
+        yyResult = pJavaIdentifier$Identifier(yyChoice1);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final String v$g$7 = yyResult.semanticValue();
 
-        yyValue = new Action<Node>() {
-          public Node run(Node v$1) {
-            return GNode.create("SelectionExpression", v$1, v$g$7);
-          }};
+          yyValue = new Action<Node>() {
+            public Node run(Node v$1) {
+              return GNode.create("SelectionExpression", v$1, v$g$7);
+            }};
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("[")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("[")) {
 
-      yyResult = pJeannieJava$Expression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$8 = yyResult.semanticValue();
+        yyResult = pJeannieJava$Expression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$8 = yyResult.semanticValue();
 
-        yyBase   = yyResult.index;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue("]")) {
+          yyBase   = yyResult.index;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue("]")) {
 
-          yyValue = new Action<Node>() {
-            public Node run(Node v$1) {
-              return GNode.create("SubscriptExpression", v$1, v$g$8);
-            }};
+            yyValue = new Action<Node>() {
+              public Node run(Node v$1) {
+                return GNode.create("SubscriptExpression", v$1, v$g$8);
+              }};
 
-          return yyResult.createValue(yyValue, yyError);
-        } else {
-          yyError = yyError.select("']' expected", yyBase);
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("']' expected", yyBase);
+          }
         }
       }
     }
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("++")) {
-      final String v$g$9 = "++";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("++")) {
+        final String v$g$9 = "++";
 
-      yyValue = new Action<Node>() {
-        public Node run(Node v$1) {
-          return GNode.create("PostfixExpression", v$1, v$g$9);
-        }};
+        yyValue = new Action<Node>() {
+          public Node run(Node v$1) {
+            return GNode.create("PostfixExpression", v$1, v$g$9);
+          }};
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 4.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("--")) {
-      final String v$g$10 = "--";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("--")) {
+        final String v$g$10 = "--";
 
-      yyValue = new Action<Node>() {
-        public Node run(Node v$1) {
-          return GNode.create("PostfixExpression", v$1, v$g$10);
-        }};
+        yyValue = new Action<Node>() {
+          public Node run(Node v$1) {
+            return GNode.create("PostfixExpression", v$1, v$g$10);
+          }};
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 5.
+    if (0 != (yyFirst & 0x10)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(".")) {
-
-      yyBase   = yyResult.index;
-      yyResult = pJavaIdentifier$Word(yyBase);
-      if (yyResult.hasValue("new")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(".")) {
 
-        yyResult = pJavaType$TypeName(yyResult.index);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$g$12 = yyResult.semanticValue();
+        yyBase   = yyResult.index;
+        yyResult = pJavaIdentifier$Word(yyBase);
+        if (yyResult.hasValue("new")) {
 
-          yyResult = pJeannieJava$Arguments(yyResult.index);
+          yyResult = pJavaType$TypeName(yyResult.index);
           yyError  = yyResult.select(yyError);
           if (yyResult.hasValue()) {
-            final Node v$g$13 = yyResult.semanticValue();
-
-            yyOption1  = yyResult.index;
-            yyOpValue1 = null;
+            final Node v$g$12 = yyResult.semanticValue();
 
-            yyResult = pJeannieJava$ClassBody(yyOption1);
-            yyError  = yyResult.select(yyError, yyOption1);
+            yyResult = pJeannieJava$Arguments(yyResult.index);
+            yyError  = yyResult.select(yyError);
             if (yyResult.hasValue()) {
-              final Node v$el$1 = yyResult.semanticValue();
+              final Node v$g$13 = yyResult.semanticValue();
 
               yyOption1  = yyResult.index;
-              yyOpValue1 = v$el$1;
-            }
-            { // Start scope for v$g$14.
-              final Node v$g$14 = yyOpValue1;
+              yyOpValue1 = null;
 
-              yyValue = new Action<Node>() {
-                public Node run(Node v$1) {
-                  return GNode.create("NewClassExpression", v$1, null, v$g$12, v$g$13, v$g$14);
-                }};
+              yyResult = pJeannieJava$ClassBody(yyOption1);
+              yyError  = yyResult.select(yyError, yyOption1);
+              if (yyResult.hasValue()) {
+                final Node v$el$1 = yyResult.semanticValue();
 
-              return new SemanticValue(yyValue, yyOption1, yyError);
-            } // End scope for v$g$14.
+                yyOption1  = yyResult.index;
+                yyOpValue1 = v$el$1;
+              }
+              { // Start scope for v$g$14.
+                final Node v$g$14 = yyOpValue1;
+
+                yyValue = new Action<Node>() {
+                  public Node run(Node v$1) {
+                    return GNode.create("NewClassExpression", v$1, null, v$g$12, v$g$13, v$g$14);
+                  }};
+
+                return new SemanticValue(yyValue, yyOption1, yyError);
+              } // End scope for v$g$14.
+            }
           }
+        } else {
+          yyError = yyError.select("'new' expected", yyBase);
         }
-      } else {
-        yyError = yyError.select("'new' expected", yyBase);
       }
     }
 
@@ -32502,7 +37826,7 @@ public final class CommandParser extends ParserBase {
         final Node v$g$4 = yyResult.semanticValue();
 
         yyValue = GNode.create("CallExpression", null, null, v$g$3, v$g$4);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -32524,7 +37848,7 @@ public final class CommandParser extends ParserBase {
         if (yyResult.hasValue("class")) {
 
           yyValue = GNode.create("ClassLiteralExpression", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
@@ -32547,7 +37871,7 @@ public final class CommandParser extends ParserBase {
         final Node v$g$4 = yyResult.semanticValue();
 
         yyValue = GNode.create("CallExpression", null, null, v$g$3, v$g$4);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -32581,7 +37905,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue("this")) {
 
         yyValue = GNode.create("ThisExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       } else {
@@ -32606,7 +37930,7 @@ public final class CommandParser extends ParserBase {
           final Node v$g$4 = yyResult.semanticValue();
 
           yyValue = GNode.create("CallExpression", null, null, v$g$3, v$g$4);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -32619,7 +37943,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue("super")) {
 
         yyValue = GNode.create("SuperExpression", null);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       } else {
@@ -32635,7 +37959,7 @@ public final class CommandParser extends ParserBase {
       final String v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.create("PrimaryIdentifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -32670,7 +37994,7 @@ public final class CommandParser extends ParserBase {
             final Node v$g$5 = yyOpValue1;
 
             yyValue = GNode.create("NewClassExpression", null, null, v$g$3, v$g$4, v$g$5);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return new SemanticValue(yyValue, yyOption1, yyError);
           } // End scope for v$g$5.
@@ -32712,7 +38036,7 @@ public final class CommandParser extends ParserBase {
             final Node v$g$3 = yyOpValue1;
 
             yyValue = GNode.create("NewArrayExpression", v$g$1, v$g$2, v$g$3, null);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return new SemanticValue(yyValue, yyOption1, yyError);
           } // End scope for v$g$3.
@@ -32740,7 +38064,7 @@ public final class CommandParser extends ParserBase {
             final Node v$g$7 = yyResult.semanticValue();
 
             yyValue = GNode.create("NewArrayExpression", v$g$1, null, v$g$6, v$g$7);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           }
@@ -32789,7 +38113,8 @@ public final class CommandParser extends ParserBase {
     Result     yyResult;
     int        yyRepetition1;
     boolean    yyRepeated1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -32797,7 +38122,8 @@ public final class CommandParser extends ParserBase {
 
     yyRepetition1 = yyStart;
     yyRepeated1   = false;
-    yyRepValue1   = Pair.empty();
+    yyRepStart1   = bufferStart();
+    yyRepEnd1   = yyRepStart1;
     while (true) {
 
       yyResult = pJeannieJava$ConcreteDimension(yyRepetition1);
@@ -32807,17 +38133,18 @@ public final class CommandParser extends ParserBase {
 
         yyRepetition1 = yyResult.index;
         yyRepeated1   = true;
-        yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+        yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
         continue;
       }
       break;
     }
 
     if (yyRepeated1) {
-      final Pair<Node> v$g$1 = yyRepValue1.reverse();
+      final int v$g$1 = yyRepStart1;
+      final int v$g$1$end = yyRepEnd1;
 
-      yyValue = GNode.createFromPair("ConcreteDimensions", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      yyValue = bufferedNode("ConcreteDimensions", v$g$1, v$g$1$end);
+      locate(yyValue, yyStart);
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
     }
@@ -32884,7 +38211,8 @@ public final class CommandParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     int        yyOption1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
@@ -32904,7 +38232,8 @@ public final class CommandParser extends ParserBase {
         final Node v$g$1 = yyResult.semanticValue();
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyBase   = yyRepetition1;
@@ -32917,7 +38246,7 @@ public final class CommandParser extends ParserBase {
               final Node v$el$1 = yyResult.semanticValue();
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
           } else {
@@ -32926,7 +38255,8 @@ public final class CommandParser extends ParserBase {
           break;
         }
         { // Start scope for v$g$2.
-          final Pair<Node> v$g$2 = yyRepValue1.reverse();
+          final int v$g$2 = yyRepStart1;
+          final int v$g$2$end = yyRepEnd1;
 
           yyOption1  = yyRepetition1;
 
@@ -32943,13 +38273,14 @@ public final class CommandParser extends ParserBase {
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue("}")) {
 
-            yyValue = GNode.createFromPair("ArrayInitializer", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
+            yyValue = bufferedNode("ArrayInitializer", v$g$1, v$g$2, v$g$2$end);
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
             yyError = yyError.select("'}' expected", yyBase);
           }
+          releaseBuffer(v$g$2);
         } // End scope for v$g$2.
       }
 
@@ -32971,7 +38302,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue("}")) {
 
         yyValue = GNode.create("ArrayInitializer", false);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       } else {
@@ -32997,10 +38328,16 @@ public final class CommandParser extends ParserBase {
     throws IOException {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk12) yyColumn.chunk12 = new Chunk12();
-    if (null == yyColumn.chunk12.fJeannieJava$VariableInitializer) 
-      yyColumn.chunk12.fJeannieJava$VariableInitializer = pJeannieJava$VariableInitializer$1(yyStart);
-    return yyColumn.chunk12.fJeannieJava$VariableInitializer;
+    if (null == yyColumn.chunk7) yyColumn.chunk7 = new Chunk7();
+    if (null == yyColumn.chunk7.fJeannieJava$VariableInitializer) {
+      yyColumn.chunk7.fJeannieJava$VariableInitializer = 
+        pJeannieJava$VariableInitializer$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(113, yyColumn.chunk7.fJeannieJava$VariableInitializer);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(113, yyColumn.chunk7.fJeannieJava$VariableInitializer);
+    }
+    return yyColumn.chunk7.fJeannieJava$VariableInitializer;
   }
 
   /** Actually parse xtc.lang.jeannie.JeannieJava.VariableInitializer. */
@@ -33050,7 +38387,8 @@ public final class CommandParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -33069,7 +38407,8 @@ public final class CommandParser extends ParserBase {
         final Node v$g$1 = yyResult.semanticValue();
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyBase   = yyRepetition1;
@@ -33082,7 +38421,7 @@ public final class CommandParser extends ParserBase {
               final Node v$el$1 = yyResult.semanticValue();
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
           } else {
@@ -33091,19 +38430,21 @@ public final class CommandParser extends ParserBase {
           break;
         }
         { // Start scope for v$g$2.
-          final Pair<Node> v$g$2 = yyRepValue1.reverse();
+          final int v$g$2 = yyRepStart1;
+          final int v$g$2$end = yyRepEnd1;
 
           yyBase   = yyRepetition1;
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue(")")) {
 
-            yyValue = GNode.createFromPair("Arguments", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
+            yyValue = bufferedNode("Arguments", v$g$1, v$g$2, v$g$2$end);
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
             yyError = yyError.select("')' expected", yyBase);
           }
+          releaseBuffer(v$g$2);
         } // End scope for v$g$2.
       }
 
@@ -33114,7 +38455,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue(")")) {
 
         yyValue = GNode.create("Arguments", false);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       } else {
@@ -33141,10 +38482,15 @@ public final class CommandParser extends ParserBase {
    */
   private Result p$$Shared26(final int yyStart) throws IOException {
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk12) yyColumn.chunk12 = new Chunk12();
-    if (null == yyColumn.chunk12.f$$Shared26) 
-      yyColumn.chunk12.f$$Shared26 = p$$Shared26$1(yyStart);
-    return yyColumn.chunk12.f$$Shared26;
+    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
+    if (null == yyColumn.chunk2.f$$Shared26) {
+      yyColumn.chunk2.f$$Shared26 = p$$Shared26$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(114, yyColumn.chunk2.f$$Shared26);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(114, yyColumn.chunk2.f$$Shared26);
+    }
+    return yyColumn.chunk2.f$$Shared26;
   }
 
   /** Actually parse xtc.lang.blink.Command.$$Shared26. */
@@ -33214,10 +38560,16 @@ public final class CommandParser extends ParserBase {
     throws IOException {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk12) yyColumn.chunk12 = new Chunk12();
-    if (null == yyColumn.chunk12.fJeannieJava$JavaInJavaBlock) 
-      yyColumn.chunk12.fJeannieJava$JavaInJavaBlock = pJeannieJava$JavaInJavaBlock$1(yyStart);
-    return yyColumn.chunk12.fJeannieJava$JavaInJavaBlock;
+    if (null == yyColumn.chunk7) yyColumn.chunk7 = new Chunk7();
+    if (null == yyColumn.chunk7.fJeannieJava$JavaInJavaBlock) {
+      yyColumn.chunk7.fJeannieJava$JavaInJavaBlock = 
+        pJeannieJava$JavaInJavaBlock$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(115, yyColumn.chunk7.fJeannieJava$JavaInJavaBlock);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(115, yyColumn.chunk7.fJeannieJava$JavaInJavaBlock);
+    }
+    return yyColumn.chunk7.fJeannieJava$JavaInJavaBlock;
   }
 
   /** Actually parse xtc.lang.jeannie.JeannieJava.JavaInJavaBlock. */
@@ -33244,7 +38596,7 @@ public final class CommandParser extends ParserBase {
         if (yyResult.hasValue("}")) {
 
           yyValue = GNode.createFromPair("JavaInJavaBlock", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
@@ -33271,10 +38623,16 @@ public final class CommandParser extends ParserBase {
     throws IOException {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk12) yyColumn.chunk12 = new Chunk12();
-    if (null == yyColumn.chunk12.fJeannieJava$JavaInJavaBlock$$Star1) 
-      yyColumn.chunk12.fJeannieJava$JavaInJavaBlock$$Star1 = pJeannieJava$JavaInJavaBlock$$Star1$1(yyStart);
-    return yyColumn.chunk12.fJeannieJava$JavaInJavaBlock$$Star1;
+    if (null == yyColumn.chunk7) yyColumn.chunk7 = new Chunk7();
+    if (null == yyColumn.chunk7.fJeannieJava$JavaInJavaBlock$$Star1) {
+      yyColumn.chunk7.fJeannieJava$JavaInJavaBlock$$Star1 = 
+        pJeannieJava$JavaInJavaBlock$$Star1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(116, yyColumn.chunk7.fJeannieJava$JavaInJavaBlock$$Star1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(116, yyColumn.chunk7.fJeannieJava$JavaInJavaBlock$$Star1);
+    }
+    return yyColumn.chunk7.fJeannieJava$JavaInJavaBlock$$Star1;
   }
 
   /** Actually parse JeannieJava.JavaInJavaBlock$$Star1. */
@@ -33338,7 +38696,7 @@ public final class CommandParser extends ParserBase {
         final Node v$g$1 = yyResult.semanticValue();
 
         yyValue = GNode.create("CInJavaBlock", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -33376,7 +38734,7 @@ public final class CommandParser extends ParserBase {
         final Node v$g$1 = yyResult.semanticValue();
 
         yyValue = GNode.create("CInJavaExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -33399,10 +38757,16 @@ public final class CommandParser extends ParserBase {
     throws IOException {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk12) yyColumn.chunk12 = new Chunk12();
-    if (null == yyColumn.chunk12.fCommandJava$Modifiers) 
-      yyColumn.chunk12.fCommandJava$Modifiers = pCommandJava$Modifiers$1(yyStart);
-    return yyColumn.chunk12.fCommandJava$Modifiers;
+    if (null == yyColumn.chunk13) yyColumn.chunk13 = new Chunk13();
+    if (null == yyColumn.chunk13.fCommandJava$Modifiers) {
+      yyColumn.chunk13.fCommandJava$Modifiers = 
+        pCommandJava$Modifiers$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(117, yyColumn.chunk13.fCommandJava$Modifiers);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(117, yyColumn.chunk13.fCommandJava$Modifiers);
+    }
+    return yyColumn.chunk13.fCommandJava$Modifiers;
   }
 
   /** Actually parse xtc.lang.blink.CommandJava.Modifiers. */
@@ -33421,7 +38785,7 @@ public final class CommandParser extends ParserBase {
       final Pair<Node> v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.createFromPair("Modifiers", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -33493,7 +38857,7 @@ public final class CommandParser extends ParserBase {
       final String v$g$1 = "public";
 
       yyValue = GNode.create("Modifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -33505,7 +38869,7 @@ public final class CommandParser extends ParserBase {
       final String v$g$2 = "protected";
 
       yyValue = GNode.create("Modifier", v$g$2);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -33517,7 +38881,7 @@ public final class CommandParser extends ParserBase {
       final String v$g$3 = "private";
 
       yyValue = GNode.create("Modifier", v$g$3);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -33529,7 +38893,7 @@ public final class CommandParser extends ParserBase {
       final String v$g$4 = "static";
 
       yyValue = GNode.create("Modifier", v$g$4);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -33541,7 +38905,7 @@ public final class CommandParser extends ParserBase {
       final String v$g$5 = "abstract";
 
       yyValue = GNode.create("Modifier", v$g$5);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -33553,7 +38917,7 @@ public final class CommandParser extends ParserBase {
       final String v$g$6 = "final";
 
       yyValue = GNode.create("Modifier", v$g$6);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -33565,7 +38929,7 @@ public final class CommandParser extends ParserBase {
       final String v$g$7 = "native";
 
       yyValue = GNode.create("Modifier", v$g$7);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -33577,7 +38941,7 @@ public final class CommandParser extends ParserBase {
       final String v$g$8 = "synchronized";
 
       yyValue = GNode.create("Modifier", v$g$8);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -33589,7 +38953,7 @@ public final class CommandParser extends ParserBase {
       final String v$g$9 = "transient";
 
       yyValue = GNode.create("Modifier", v$g$9);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -33601,7 +38965,7 @@ public final class CommandParser extends ParserBase {
       final String v$g$10 = "volatile";
 
       yyValue = GNode.create("Modifier", v$g$10);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -33613,7 +38977,7 @@ public final class CommandParser extends ParserBase {
       final String v$g$11 = "strictfp";
 
       yyValue = GNode.create("Modifier", v$g$11);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -33673,7 +39037,7 @@ public final class CommandParser extends ParserBase {
             final Node v$g$5 = yyOpValue1;
 
             yyValue = GNode.create("FormalParameter", v$g$1, v$g$2, null, v$g$4, v$g$5);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return new SemanticValue(yyValue, yyOption1, yyError);
           } // End scope for v$g$5.
@@ -33709,7 +39073,7 @@ public final class CommandParser extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.create("Modifiers", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -33717,7 +39081,7 @@ public final class CommandParser extends ParserBase {
     // Alternative <Nonfinal>.
 
     yyValue = GNode.create("Modifiers", false);
-    yyValue.setLocation(location(yyStart));
+    locate(yyValue, yyStart);
 
     return new SemanticValue(yyValue, yyStart, yyError);
   }
@@ -33745,7 +39109,7 @@ public final class CommandParser extends ParserBase {
       final String v$g$1 = "final";
 
       yyValue = GNode.create("Modifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -33768,10 +39132,16 @@ public final class CommandParser extends ParserBase {
     throws IOException {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk12) yyColumn.chunk12 = new Chunk12();
-    if (null == yyColumn.chunk12.fCommandJava$FormalParameters) 
-      yyColumn.chunk12.fCommandJava$FormalParameters = pCommandJava$FormalParameters$1(yyStart);
-    return yyColumn.chunk12.fCommandJava$FormalParameters;
+    if (null == yyColumn.chunk13) yyColumn.chunk13 = new Chunk13();
+    if (null == yyColumn.chunk13.fCommandJava$FormalParameters) {
+      yyColumn.chunk13.fCommandJava$FormalParameters = 
+        pCommandJava$FormalParameters$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(118, yyColumn.chunk13.fCommandJava$FormalParameters);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(118, yyColumn.chunk13.fCommandJava$FormalParameters);
+    }
+    return yyColumn.chunk13.fCommandJava$FormalParameters;
   }
 
   /** Actually parse xtc.lang.blink.CommandJava.FormalParameters. */
@@ -33807,7 +39177,7 @@ public final class CommandParser extends ParserBase {
           if (yyResult.hasValue(")")) {
 
             yyValue = GNode.createFromPair("FormalParameters", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
@@ -33823,7 +39193,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue(")")) {
 
         yyValue = GNode.create("FormalParameters", false);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       } else {
@@ -33849,10 +39219,16 @@ public final class CommandParser extends ParserBase {
     throws IOException {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk12) yyColumn.chunk12 = new Chunk12();
-    if (null == yyColumn.chunk12.fCommandJava$FormalParameters$$Star1) 
-      yyColumn.chunk12.fCommandJava$FormalParameters$$Star1 = pCommandJava$FormalParameters$$Star1$1(yyStart);
-    return yyColumn.chunk12.fCommandJava$FormalParameters$$Star1;
+    if (null == yyColumn.chunk13) yyColumn.chunk13 = new Chunk13();
+    if (null == yyColumn.chunk13.fCommandJava$FormalParameters$$Star1) {
+      yyColumn.chunk13.fCommandJava$FormalParameters$$Star1 = 
+        pCommandJava$FormalParameters$$Star1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(119, yyColumn.chunk13.fCommandJava$FormalParameters$$Star1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(119, yyColumn.chunk13.fCommandJava$FormalParameters$$Star1);
+    }
+    return yyColumn.chunk13.fCommandJava$FormalParameters$$Star1;
   }
 
   /** Actually parse CommandJava.FormalParameters$$Star1. */
@@ -33953,7 +39329,7 @@ public final class CommandParser extends ParserBase {
           final Node v$g$3 = yyOpValue1;
 
           yyValue = GNode.create("Declarator", v$g$1, v$g$2, v$g$3);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyOption1, yyError);
         } // End scope for v$g$3.
@@ -33978,8 +39354,14 @@ public final class CommandParser extends ParserBase {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
     if (null == yyColumn.chunk13) yyColumn.chunk13 = new Chunk13();
-    if (null == yyColumn.chunk13.fCommandJava$Declarators) 
-      yyColumn.chunk13.fCommandJava$Declarators = pCommandJava$Declarators$1(yyStart);
+    if (null == yyColumn.chunk13.fCommandJava$Declarators) {
+      yyColumn.chunk13.fCommandJava$Declarators = 
+        pCommandJava$Declarators$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(120, yyColumn.chunk13.fCommandJava$Declarators);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(120, yyColumn.chunk13.fCommandJava$Declarators);
+    }
     return yyColumn.chunk13.fCommandJava$Declarators;
   }
 
@@ -34004,7 +39386,7 @@ public final class CommandParser extends ParserBase {
         final Pair<Node> v$g$2 = yyResult.semanticValue();
 
         yyValue = GNode.createFromPair("Declarators", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -34028,8 +39410,14 @@ public final class CommandParser extends ParserBase {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
     if (null == yyColumn.chunk13) yyColumn.chunk13 = new Chunk13();
-    if (null == yyColumn.chunk13.fCommandJava$Declarators$$Star1) 
-      yyColumn.chunk13.fCommandJava$Declarators$$Star1 = pCommandJava$Declarators$$Star1$1(yyStart);
+    if (null == yyColumn.chunk13.fCommandJava$Declarators$$Star1) {
+      yyColumn.chunk13.fCommandJava$Declarators$$Star1 = 
+        pCommandJava$Declarators$$Star1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(121, yyColumn.chunk13.fCommandJava$Declarators$$Star1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(121, yyColumn.chunk13.fCommandJava$Declarators$$Star1);
+    }
     return yyColumn.chunk13.fCommandJava$Declarators$$Star1;
   }
 
@@ -34085,7 +39473,8 @@ public final class CommandParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -34095,7 +39484,8 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("{")) {
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyResult = pCommandJava$Declaration(yyRepetition1);
@@ -34104,25 +39494,27 @@ public final class CommandParser extends ParserBase {
           final Node v$el$1 = yyResult.semanticValue();
 
           yyRepetition1 = yyResult.index;
-          yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+          yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
           continue;
         }
         break;
       }
       { // Start scope for v$g$1.
-        final Pair<Node> v$g$1 = yyRepValue1.reverse();
+        final int v$g$1 = yyRepStart1;
+        final int v$g$1$end = yyRepEnd1;
 
         yyBase   = yyRepetition1;
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue("}")) {
 
-          yyValue = GNode.createFromPair("ClassBody", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          yyValue = bufferedNode("ClassBody", v$g$1, v$g$1$end);
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
           yyError = yyError.select("'}' expected", yyBase);
         }
+        releaseBuffer(v$g$1);
       } // End scope for v$g$1.
     }
 
@@ -34176,7 +39568,7 @@ public final class CommandParser extends ParserBase {
           if (yyResult.hasValue(";")) {
 
             yyValue = GNode.create("FieldDeclaration", v$g$1, v$g$2, v$g$3);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
@@ -34244,7 +39636,7 @@ public final class CommandParser extends ParserBase {
                     final Node v$g$8 = yyResult.semanticValue();
 
                     yyValue = GNode.create("MethodDeclaration", v$g$1, null, v$g$3, v$g$4, v$g$5, v$g$6, v$g$7, v$g$8);
-                    yyValue.setLocation(location(yyStart));
+                    locate(yyValue, yyStart);
 
                     return yyResult.createValue(yyValue, yyError);
                   }
@@ -34256,7 +39648,7 @@ public final class CommandParser extends ParserBase {
                   if (yyResult.hasValue(";")) {
 
                     yyValue = GNode.create("MethodDeclaration", v$g$1, null, v$g$3, v$g$4, v$g$5, v$g$6, v$g$7, null);
-                    yyValue.setLocation(location(yyStart));
+                    locate(yyValue, yyStart);
 
                     return yyResult.createValue(yyValue, yyError);
                   } else {
@@ -34300,7 +39692,7 @@ public final class CommandParser extends ParserBase {
                 final Node v$g$6 = yyResult.semanticValue();
 
                 yyValue = GNode.create("ConstructorDeclaration", v$g$1, null, v$g$3, v$g$4, v$g$5, v$g$6);
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return yyResult.createValue(yyValue, yyError);
               }
@@ -34353,7 +39745,7 @@ public final class CommandParser extends ParserBase {
                 final Node v$g$6 = yyResult.semanticValue();
 
                 yyValue = GNode.create("ClassDeclaration", v$g$1, v$g$2, null, v$g$4, v$g$5, v$g$6);
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return yyResult.createValue(yyValue, yyError);
               }
@@ -34395,7 +39787,7 @@ public final class CommandParser extends ParserBase {
               final Node v$g$5 = yyResult.semanticValue();
 
               yyValue = GNode.create("InterfaceDeclaration", v$g$1, v$g$2, null, v$g$4, v$g$5);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -34430,7 +39822,7 @@ public final class CommandParser extends ParserBase {
         final Node v$g$2 = yyResult.semanticValue();
 
         yyValue = GNode.create("BlockDeclaration", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -34442,7 +39834,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue(";")) {
 
       yyValue = GNode.create("EmptyDeclaration", false);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -34467,7 +39859,8 @@ public final class CommandParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -34482,7 +39875,8 @@ public final class CommandParser extends ParserBase {
         final Node v$g$1 = yyResult.semanticValue();
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyBase   = yyRepetition1;
@@ -34495,7 +39889,7 @@ public final class CommandParser extends ParserBase {
               final Node v$el$1 = yyResult.semanticValue();
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
           } else {
@@ -34504,10 +39898,11 @@ public final class CommandParser extends ParserBase {
           break;
         }
         { // Start scope for v$g$2.
-          final Pair<Node> v$g$2 = yyRepValue1.reverse();
+          final int v$g$2 = yyRepStart1;
+          final int v$g$2$end = yyRepEnd1;
 
-          yyValue = GNode.createFromPair("ThrowsClause", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          yyValue = bufferedNode("ThrowsClause", v$g$1, v$g$2, v$g$2$end);
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
         } // End scope for v$g$2.
@@ -34534,7 +39929,8 @@ public final class CommandParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -34549,7 +39945,8 @@ public final class CommandParser extends ParserBase {
         final Node v$g$1 = yyResult.semanticValue();
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyBase   = yyRepetition1;
@@ -34562,7 +39959,7 @@ public final class CommandParser extends ParserBase {
               final Node v$el$1 = yyResult.semanticValue();
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
           } else {
@@ -34571,10 +39968,11 @@ public final class CommandParser extends ParserBase {
           break;
         }
         { // Start scope for v$g$2.
-          final Pair<Node> v$g$2 = yyRepValue1.reverse();
+          final int v$g$2 = yyRepStart1;
+          final int v$g$2$end = yyRepEnd1;
 
-          yyValue = GNode.createFromPair("Extension", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          yyValue = bufferedNode("Extension", v$g$1, v$g$2, v$g$2$end);
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
         } // End scope for v$g$2.
@@ -34601,7 +39999,8 @@ public final class CommandParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -34616,7 +40015,8 @@ public final class CommandParser extends ParserBase {
         final Node v$g$1 = yyResult.semanticValue();
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyBase   = yyRepetition1;
@@ -34629,7 +40029,7 @@ public final class CommandParser extends ParserBase {
               final Node v$el$1 = yyResult.semanticValue();
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
           } else {
@@ -34638,10 +40038,11 @@ public final class CommandParser extends ParserBase {
           break;
         }
         { // Start scope for v$g$2.
-          final Pair<Node> v$g$2 = yyRepValue1.reverse();
+          final int v$g$2 = yyRepStart1;
+          final int v$g$2$end = yyRepEnd1;
 
-          yyValue = GNode.createFromPair("Implementation", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          yyValue = bufferedNode("Implementation", v$g$1, v$g$2, v$g$2$end);
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
         } // End scope for v$g$2.
@@ -34665,8 +40066,13 @@ public final class CommandParser extends ParserBase {
   private Result pCommandJava$Block(final int yyStart) throws IOException {
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
     if (null == yyColumn.chunk13) yyColumn.chunk13 = new Chunk13();
-    if (null == yyColumn.chunk13.fCommandJava$Block) 
+    if (null == yyColumn.chunk13.fCommandJava$Block) {
       yyColumn.chunk13.fCommandJava$Block = pCommandJava$Block$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(122, yyColumn.chunk13.fCommandJava$Block);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(122, yyColumn.chunk13.fCommandJava$Block);
+    }
     return yyColumn.chunk13.fCommandJava$Block;
   }
 
@@ -34676,24 +40082,62 @@ public final class CommandParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '`':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <JavaBlock>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pCommandJava$JavaInJavaBlock(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pCommandJava$JavaInJavaBlock(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <CBlock>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pCommandJava$CInJavaBlock(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pCommandJava$CInJavaBlock(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -34822,7 +40266,7 @@ public final class CommandParser extends ParserBase {
                 final Node v$g$6 = yyResult.semanticValue();
 
                 yyValue = GNode.create("ClassDeclaration", v$g$1, v$g$2, null, v$g$4, v$g$5, v$g$6);
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return yyResult.createValue(yyValue, yyError);
               }
@@ -34864,7 +40308,7 @@ public final class CommandParser extends ParserBase {
               final Node v$g$5 = yyResult.semanticValue();
 
               yyValue = GNode.create("InterfaceDeclaration", v$g$1, v$g$2, null, v$g$4, v$g$5);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -34918,7 +40362,7 @@ public final class CommandParser extends ParserBase {
           if (yyResult.hasValue(";")) {
 
             yyValue = GNode.create("FieldDeclaration", v$g$1, v$g$2, v$g$3);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
@@ -34948,20 +40392,57 @@ public final class CommandParser extends ParserBase {
     int        yyBase;
     int        yyRepetition1;
     boolean    yyRepeated1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     int        yyOption1;
     Object     yyOpValue1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '`':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Block>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pCommandJava$Block(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pCommandJava$Block(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 2.
@@ -34993,7 +40474,7 @@ public final class CommandParser extends ParserBase {
               final Node v$g$3 = yyResult.semanticValue();
 
               yyValue = GNode.create("ConditionalStatement", v$g$1, v$g$2, v$g$3);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -35004,7 +40485,7 @@ public final class CommandParser extends ParserBase {
           // Nested alternative 2.
 
           yyValue = GNode.create("ConditionalStatement", v$g$1, v$g$2, null);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyChoice1, yyError);
         }
@@ -35035,7 +40516,7 @@ public final class CommandParser extends ParserBase {
               final Node v$g$2 = yyResult.semanticValue();
 
               yyValue = GNode.create("ForStatement", v$g$1, v$g$2);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -35064,7 +40545,7 @@ public final class CommandParser extends ParserBase {
           final Node v$g$2 = yyResult.semanticValue();
 
           yyValue = GNode.create("WhileStatement", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -35095,7 +40576,7 @@ public final class CommandParser extends ParserBase {
             if (yyResult.hasValue(";")) {
 
               yyValue = GNode.create("DoWhileStatement", v$g$1, v$g$2);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             } else {
@@ -35116,14 +40597,15 @@ public final class CommandParser extends ParserBase {
       yyResult = pCommandJava$Block(yyResult.index);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
+        final Node v$g$2 = yyResult.semanticValue();
 
         final int yyChoice1 = yyResult.index;
 
         // Nested alternative 1.
 
         yyRepetition1 = yyChoice1;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyResult = pCommandJava$CatchClause(yyRepetition1);
@@ -35132,13 +40614,14 @@ public final class CommandParser extends ParserBase {
             final Node v$el$1 = yyResult.semanticValue();
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
           break;
         }
-        { // Start scope for v$g$2.
-          final Pair<Node> v$g$2 = yyRepValue1.reverse();
+        { // Start scope for v$g$3.
+          final int v$g$3 = yyRepStart1;
+          final int v$g$3$end = yyRepEnd1;
 
           yyBase   = yyRepetition1;
           yyResult = pJavaIdentifier$Word(yyBase);
@@ -35147,24 +40630,28 @@ public final class CommandParser extends ParserBase {
             yyResult = pCommandJava$Block(yyResult.index);
             yyError  = yyResult.select(yyError);
             if (yyResult.hasValue()) {
-              final Node v$g$3 = yyResult.semanticValue();
+              final Node v$g$4 = yyResult.semanticValue();
 
-              yyValue = GNode.create("TryCatchFinallyStatement", v$g$2.size() + 2).
-                add(v$g$1).addAll(v$g$2).add(v$g$3);
-              yyValue.setLocation(location(yyStart));
+              yyValue = GNode.create("TryCatchFinallyStatement", (v$g$3$end - v$g$3) + 3).
+                add(null).add(v$g$2);
+              addBuffered(yyValue, v$g$3, v$g$3$end);
+              yyValue.add(v$g$4);
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
           } else {
             yyError = yyError.select("'finally' expected", yyBase);
           }
-        } // End scope for v$g$2.
+          releaseBuffer(v$g$3);
+        } // End scope for v$g$3.
 
         // Nested alternative 2.
 
         yyRepetition1 = yyChoice1;
         yyRepeated1   = false;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyResult = pCommandJava$CatchClause(yyRepetition1);
@@ -35174,18 +40661,21 @@ public final class CommandParser extends ParserBase {
 
             yyRepetition1 = yyResult.index;
             yyRepeated1   = true;
-            yyRepValue1   = new Pair<Node>(v$el$2, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$2);
             continue;
           }
           break;
         }
 
         if (yyRepeated1) {
-          final Pair<Node> v$g$4 = yyRepValue1.reverse();
+          final int v$g$5 = yyRepStart1;
+          final int v$g$5$end = yyRepEnd1;
 
-          yyValue = GNode.create("TryCatchFinallyStatement", v$g$4.size() + 2).
-            add(v$g$1).addAll(v$g$4).add(null);
-          yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("TryCatchFinallyStatement", (v$g$5$end - v$g$5) + 3).
+            add(null).add(v$g$2);
+          addBuffered(yyValue, v$g$5, v$g$5$end);
+          yyValue.add(null);
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
         }
@@ -35207,7 +40697,8 @@ public final class CommandParser extends ParserBase {
         if (yyResult.hasValue("{")) {
 
           yyRepetition1 = yyResult.index;
-          yyRepValue1   = Pair.empty();
+          yyRepStart1   = bufferStart();
+          yyRepEnd1   = yyRepStart1;
           while (true) {
 
             yyResult = pCommandJava$SwitchClause(yyRepetition1);
@@ -35216,25 +40707,27 @@ public final class CommandParser extends ParserBase {
               final Node v$el$1 = yyResult.semanticValue();
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
             break;
           }
           { // Start scope for v$g$2.
-            final Pair<Node> v$g$2 = yyRepValue1.reverse();
+            final int v$g$2 = yyRepStart1;
+            final int v$g$2$end = yyRepEnd1;
 
             yyBase   = yyRepetition1;
             yyResult = pSymbol(yyBase);
             if (yyResult.hasValue("}")) {
 
-              yyValue = GNode.createFromPair("SwitchStatement", v$g$1, v$g$2);
-              yyValue.setLocation(location(yyStart));
+              yyValue = bufferedNode("SwitchStatement", v$g$1, v$g$2, v$g$2$end);
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             } else {
               yyError = yyError.select("'}' expected", yyBase);
             }
+            releaseBuffer(v$g$2);
           } // End scope for v$g$2.
         } else {
           yyError = yyError.select("'{' expected", yyBase);
@@ -35258,7 +40751,7 @@ public final class CommandParser extends ParserBase {
           final Node v$g$2 = yyResult.semanticValue();
 
           yyValue = GNode.create("SynchronizedStatement", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -35289,7 +40782,7 @@ public final class CommandParser extends ParserBase {
         if (yyResult.hasValue(";")) {
 
           yyValue = GNode.create("ReturnStatement", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
@@ -35313,7 +40806,7 @@ public final class CommandParser extends ParserBase {
         if (yyResult.hasValue(";")) {
 
           yyValue = GNode.create("ThrowStatement", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
@@ -35346,7 +40839,7 @@ public final class CommandParser extends ParserBase {
         if (yyResult.hasValue(";")) {
 
           yyValue = GNode.create("BreakStatement", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
@@ -35379,7 +40872,7 @@ public final class CommandParser extends ParserBase {
         if (yyResult.hasValue(";")) {
 
           yyValue = GNode.create("ContinueStatement", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
@@ -35405,7 +40898,7 @@ public final class CommandParser extends ParserBase {
           final Node v$g$2 = yyResult.semanticValue();
 
           yyValue = GNode.create("LabeledStatement", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -35426,7 +40919,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue(";")) {
 
         yyValue = GNode.create("ExpressionStatement", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       } else {
@@ -35470,7 +40963,7 @@ public final class CommandParser extends ParserBase {
           if (yyResult.hasValue(";")) {
 
             yyValue = GNode.create("AssertStatement", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
@@ -35481,14 +40974,16 @@ public final class CommandParser extends ParserBase {
     }
 
     // Alternative 16.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(";")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(";")) {
 
-      yyValue = GNode.create("EmptyStatement", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("EmptyStatement", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -35569,7 +41064,7 @@ public final class CommandParser extends ParserBase {
                   final Node v$g$5 = yyOpValue1;
 
                   yyValue = GNode.create("BasicForControl", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
-                  yyValue.setLocation(location(yyStart));
+                  locate(yyValue, yyStart);
 
                   return new SemanticValue(yyValue, yyOption1, yyError);
                 } // End scope for v$g$5.
@@ -35637,7 +41132,7 @@ public final class CommandParser extends ParserBase {
               final Node v$g$10 = yyOpValue1;
 
               yyValue = GNode.create("BasicForControl", null, null, v$g$8, v$g$9, v$g$10);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return new SemanticValue(yyValue, yyOption1, yyError);
             } // End scope for v$g$10.
@@ -35668,8 +41163,14 @@ public final class CommandParser extends ParserBase {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
     if (null == yyColumn.chunk13) yyColumn.chunk13 = new Chunk13();
-    if (null == yyColumn.chunk13.fCommandJava$ParExpression) 
-      yyColumn.chunk13.fCommandJava$ParExpression = pCommandJava$ParExpression$1(yyStart);
+    if (null == yyColumn.chunk13.fCommandJava$ParExpression) {
+      yyColumn.chunk13.fCommandJava$ParExpression = 
+        pCommandJava$ParExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(123, yyColumn.chunk13.fCommandJava$ParExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(123, yyColumn.chunk13.fCommandJava$ParExpression);
+    }
     return yyColumn.chunk13.fCommandJava$ParExpression;
   }
 
@@ -35722,8 +41223,14 @@ public final class CommandParser extends ParserBase {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
     if (null == yyColumn.chunk13) yyColumn.chunk13 = new Chunk13();
-    if (null == yyColumn.chunk13.fCommandJava$CatchClause) 
-      yyColumn.chunk13.fCommandJava$CatchClause = pCommandJava$CatchClause$1(yyStart);
+    if (null == yyColumn.chunk13.fCommandJava$CatchClause) {
+      yyColumn.chunk13.fCommandJava$CatchClause = 
+        pCommandJava$CatchClause$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(124, yyColumn.chunk13.fCommandJava$CatchClause);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(124, yyColumn.chunk13.fCommandJava$CatchClause);
+    }
     return yyColumn.chunk13.fCommandJava$CatchClause;
   }
 
@@ -35736,7 +41243,7 @@ public final class CommandParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
-    // Alternative 1.
+    // Alternative <Catch>.
 
     yyResult = pJavaIdentifier$Word(yyStart);
     if (yyResult.hasValue("catch")) {
@@ -35760,7 +41267,7 @@ public final class CommandParser extends ParserBase {
               final Node v$g$2 = yyResult.semanticValue();
 
               yyValue = GNode.create("CatchClause", v$g$1, v$g$2);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -35793,7 +41300,8 @@ public final class CommandParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -35812,7 +41320,8 @@ public final class CommandParser extends ParserBase {
         if (yyResult.hasValue(":")) {
 
           yyRepetition1 = yyResult.index;
-          yyRepValue1   = Pair.empty();
+          yyRepStart1   = bufferStart();
+          yyRepEnd1   = yyRepStart1;
           while (true) {
 
             yyResult = pCommandJava$DeclarationOrStatement(yyRepetition1);
@@ -35821,16 +41330,17 @@ public final class CommandParser extends ParserBase {
               final Node v$el$1 = yyResult.semanticValue();
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
             break;
           }
           { // Start scope for v$g$2.
-            final Pair<Node> v$g$2 = yyRepValue1.reverse();
+            final int v$g$2 = yyRepStart1;
+            final int v$g$2$end = yyRepEnd1;
 
-            yyValue = GNode.createFromPair("CaseClause", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
+            yyValue = bufferedNode("CaseClause", v$g$1, v$g$2, v$g$2$end);
+            locate(yyValue, yyStart);
 
             return new SemanticValue(yyValue, yyRepetition1, yyError);
           } // End scope for v$g$2.
@@ -35850,7 +41360,8 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue(":")) {
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyResult = pCommandJava$DeclarationOrStatement(yyRepetition1);
@@ -35859,16 +41370,17 @@ public final class CommandParser extends ParserBase {
             final Node v$el$1 = yyResult.semanticValue();
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
           break;
         }
         { // Start scope for v$g$1.
-          final Pair<Node> v$g$1 = yyRepValue1.reverse();
+          final int v$g$1 = yyRepStart1;
+          final int v$g$1$end = yyRepEnd1;
 
-          yyValue = GNode.createFromPair("DefaultClause", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          yyValue = bufferedNode("DefaultClause", v$g$1, v$g$1$end);
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
         } // End scope for v$g$1.
@@ -35897,7 +41409,8 @@ public final class CommandParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -35909,7 +41422,8 @@ public final class CommandParser extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyBase   = yyRepetition1;
@@ -35922,7 +41436,7 @@ public final class CommandParser extends ParserBase {
             final Node v$el$1 = yyResult.semanticValue();
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
         } else {
@@ -35931,10 +41445,11 @@ public final class CommandParser extends ParserBase {
         break;
       }
       { // Start scope for v$g$2.
-        final Pair<Node> v$g$2 = yyRepValue1.reverse();
+        final int v$g$2 = yyRepStart1;
+        final int v$g$2$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("ExpressionList", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("ExpressionList", v$g$1, v$g$2, v$g$2$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$2.
@@ -35957,10 +41472,16 @@ public final class CommandParser extends ParserBase {
     throws IOException {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk13) yyColumn.chunk13 = new Chunk13();
-    if (null == yyColumn.chunk13.fCommandJava$Expression) 
-      yyColumn.chunk13.fCommandJava$Expression = pCommandJava$Expression$1(yyStart);
-    return yyColumn.chunk13.fCommandJava$Expression;
+    if (null == yyColumn.chunk8) yyColumn.chunk8 = new Chunk8();
+    if (null == yyColumn.chunk8.fCommandJava$Expression) {
+      yyColumn.chunk8.fCommandJava$Expression = 
+        pCommandJava$Expression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(125, yyColumn.chunk8.fCommandJava$Expression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(125, yyColumn.chunk8.fCommandJava$Expression);
+    }
+    return yyColumn.chunk8.fCommandJava$Expression;
   }
 
   /** Actually parse xtc.lang.blink.CommandJava.Expression. */
@@ -35989,7 +41510,7 @@ public final class CommandParser extends ParserBase {
           final Node v$g$3 = yyResult.semanticValue();
 
           yyValue = GNode.create("Expression", v$g$1, v$g$2, v$g$3);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -36023,10 +41544,16 @@ public final class CommandParser extends ParserBase {
     throws IOException {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk13) yyColumn.chunk13 = new Chunk13();
-    if (null == yyColumn.chunk13.fCommandJava$ConditionalExpression) 
-      yyColumn.chunk13.fCommandJava$ConditionalExpression = pCommandJava$ConditionalExpression$1(yyStart);
-    return yyColumn.chunk13.fCommandJava$ConditionalExpression;
+    if (null == yyColumn.chunk8) yyColumn.chunk8 = new Chunk8();
+    if (null == yyColumn.chunk8.fCommandJava$ConditionalExpression) {
+      yyColumn.chunk8.fCommandJava$ConditionalExpression = 
+        pCommandJava$ConditionalExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(126, yyColumn.chunk8.fCommandJava$ConditionalExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(126, yyColumn.chunk8.fCommandJava$ConditionalExpression);
+    }
+    return yyColumn.chunk8.fCommandJava$ConditionalExpression;
   }
 
   /** Actually parse xtc.lang.blink.CommandJava.ConditionalExpression. */
@@ -36064,7 +41591,7 @@ public final class CommandParser extends ParserBase {
               final Node v$g$3 = yyResult.semanticValue();
 
               yyValue = GNode.create("ConditionalExpression", v$g$1, v$g$2, v$g$3);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -36104,10 +41631,16 @@ public final class CommandParser extends ParserBase {
     throws IOException {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk13) yyColumn.chunk13 = new Chunk13();
-    if (null == yyColumn.chunk13.fCommandJava$LogicalOrExpression) 
-      yyColumn.chunk13.fCommandJava$LogicalOrExpression = pCommandJava$LogicalOrExpression$1(yyStart);
-    return yyColumn.chunk13.fCommandJava$LogicalOrExpression;
+    if (null == yyColumn.chunk7) yyColumn.chunk7 = new Chunk7();
+    if (null == yyColumn.chunk7.fCommandJava$LogicalOrExpression) {
+      yyColumn.chunk7.fCommandJava$LogicalOrExpression = 
+        pCommandJava$LogicalOrExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(127, yyColumn.chunk7.fCommandJava$LogicalOrExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(127, yyColumn.chunk7.fCommandJava$LogicalOrExpression);
+    }
+    return yyColumn.chunk7.fCommandJava$LogicalOrExpression;
   }
 
   /** Actually parse xtc.lang.blink.CommandJava.LogicalOrExpression. */
@@ -36695,7 +42228,7 @@ public final class CommandParser extends ParserBase {
           final Node v$g$2 = yyResult.semanticValue();
 
           yyValue = GNode.create("InstanceOfExpression", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -36731,10 +42264,16 @@ public final class CommandParser extends ParserBase {
     throws IOException {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk13) yyColumn.chunk13 = new Chunk13();
-    if (null == yyColumn.chunk13.fCommandJava$RelationalExpression) 
-      yyColumn.chunk13.fCommandJava$RelationalExpression = pCommandJava$RelationalExpression$1(yyStart);
-    return yyColumn.chunk13.fCommandJava$RelationalExpression;
+    if (null == yyColumn.chunk7) yyColumn.chunk7 = new Chunk7();
+    if (null == yyColumn.chunk7.fCommandJava$RelationalExpression) {
+      yyColumn.chunk7.fCommandJava$RelationalExpression = 
+        pCommandJava$RelationalExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(128, yyColumn.chunk7.fCommandJava$RelationalExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(128, yyColumn.chunk7.fCommandJava$RelationalExpression);
+    }
+    return yyColumn.chunk7.fCommandJava$RelationalExpression;
   }
 
   /** Actually parse xtc.lang.blink.CommandJava.RelationalExpression. */
@@ -37122,75 +42661,117 @@ public final class CommandParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '`':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0xf;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Plus>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("+")) {
-      final String v$g$1 = "+";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("+")) {
+        final String v$g$1 = "+";
 
-      yyResult = pCommandJava$UnaryExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$2 = yyResult.semanticValue();
+        yyResult = pCommandJava$UnaryExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryExpression", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("UnaryExpression", v$g$1, v$g$2);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative <Minus>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("-")) {
-      final String v$g$3 = "-";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("-")) {
+        final String v$g$3 = "-";
 
-      yyResult = pCommandJava$UnaryExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$4 = yyResult.semanticValue();
+        yyResult = pCommandJava$UnaryExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$4 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryExpression", v$g$3, v$g$4);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("UnaryExpression", v$g$3, v$g$4);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative <Increment>.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("++")) {
-      final String v$g$5 = "++";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("++")) {
+        final String v$g$5 = "++";
 
-      yyResult = pCommandJava$UnaryExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$6 = yyResult.semanticValue();
+        yyResult = pCommandJava$UnaryExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$6 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryExpression", v$g$5, v$g$6);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("UnaryExpression", v$g$5, v$g$6);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative <Decrement>.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("--")) {
-      final String v$g$7 = "--";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("--")) {
+        final String v$g$7 = "--";
 
-      yyResult = pCommandJava$UnaryExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$8 = yyResult.semanticValue();
+        yyResult = pCommandJava$UnaryExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$8 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryExpression", v$g$7, v$g$8);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("UnaryExpression", v$g$7, v$g$8);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
@@ -37228,121 +42809,164 @@ public final class CommandParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '`':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0xf;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("~")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("~")) {
 
-      yyResult = pCommandJava$UnaryExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
+        yyResult = pCommandJava$UnaryExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("BitwiseNegationExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("BitwiseNegationExpression", v$g$1);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative <CInJavaExpression>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pCommandJava$CInJavaExpression(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pCommandJava$CInJavaExpression(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("!")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("!")) {
 
-      yyResult = pCommandJava$UnaryExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
+        yyResult = pCommandJava$UnaryExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("LogicalNegationExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("LogicalNegationExpression", v$g$1);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 4.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("(")) {
-
-      final int yyChoice1 = yyResult.index;
-
-      // Nested alternative 1.
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("(")) {
 
-      yyResult = pPrimitiveType(yyChoice1);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
+        final int yyChoice1 = yyResult.index;
 
-        yyOption1  = yyResult.index;
-        yyOpValue1 = null;
+        // Nested alternative 1.
 
-        yyResult = pDimensions(yyOption1);
-        yyError  = yyResult.select(yyError, yyOption1);
+        yyResult = pPrimitiveType(yyChoice1);
+        yyError  = yyResult.select(yyError);
         if (yyResult.hasValue()) {
-          final Node v$el$1 = yyResult.semanticValue();
+          final Node v$g$1 = yyResult.semanticValue();
 
           yyOption1  = yyResult.index;
-          yyOpValue1 = v$el$1;
+          yyOpValue1 = null;
+
+          yyResult = pDimensions(yyOption1);
+          yyError  = yyResult.select(yyError, yyOption1);
+          if (yyResult.hasValue()) {
+            final Node v$el$1 = yyResult.semanticValue();
+
+            yyOption1  = yyResult.index;
+            yyOpValue1 = v$el$1;
+          }
+          { // Start scope for v$g$2.
+            final Node v$g$2 = yyOpValue1;
+
+            yyBase   = yyOption1;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue(")")) {
+
+              yyResult = pCommandJava$UnaryExpression(yyResult.index);
+              yyError  = yyResult.select(yyError);
+              if (yyResult.hasValue()) {
+                final Node v$g$3 = yyResult.semanticValue();
+
+                yyValue = GNode.create("BasicCastExpression", v$g$1, v$g$2, v$g$3);
+                locate(yyValue, yyStart);
+
+                return yyResult.createValue(yyValue, yyError);
+              }
+            } else {
+              yyError = yyError.select("')' expected", yyBase);
+            }
+          } // End scope for v$g$2.
         }
-        { // Start scope for v$g$2.
-          final Node v$g$2 = yyOpValue1;
 
-          yyBase   = yyOption1;
+        // Nested alternative 2.
+
+        yyResult = pType(yyChoice1);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$1 = yyResult.semanticValue();
+
+          yyBase   = yyResult.index;
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue(")")) {
 
-            yyResult = pCommandJava$UnaryExpression(yyResult.index);
+            yyResult = 
+              pCommandJava$UnaryExpressionNotPlusMinus(yyResult.index);
             yyError  = yyResult.select(yyError);
             if (yyResult.hasValue()) {
-              final Node v$g$3 = yyResult.semanticValue();
+              final Node v$g$2 = yyResult.semanticValue();
 
-              yyValue = GNode.create("BasicCastExpression", v$g$1, v$g$2, v$g$3);
-              yyValue.setLocation(location(yyStart));
+              yyValue = GNode.create("CastExpression", v$g$1, v$g$2);
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
           } else {
             yyError = yyError.select("')' expected", yyBase);
           }
-        } // End scope for v$g$2.
-      }
-
-      // Nested alternative 2.
-
-      yyResult = pType(yyChoice1);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
-
-        yyBase   = yyResult.index;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue(")")) {
-
-          yyResult = pCommandJava$UnaryExpressionNotPlusMinus(yyResult.index);
-          yyError  = yyResult.select(yyError);
-          if (yyResult.hasValue()) {
-            final Node v$g$2 = yyResult.semanticValue();
-
-            yyValue = GNode.create("CastExpression", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
-
-            return yyResult.createValue(yyValue, yyError);
-          }
-        } else {
-          yyError = yyError.select("')' expected", yyBase);
         }
       }
     }
@@ -37434,193 +43058,237 @@ public final class CommandParser extends ParserBase {
     Action<Node> yyValue;
     ParseError   yyError = ParseError.DUMMY;
 
-    // Alternative 1.
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '`':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x1f;
+      break;
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(".")) {
+    default:
+      yyFirst = 0;
+    }
 
-      final int yyChoice1 = yyResult.index;
+    // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-      // Nested alternative 1.
-      { // Start scope for nested choice.
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(".")) {
 
-        final int yyChoice2 = yyChoice1;
+        final int yyChoice1 = yyResult.index;
 
         // Nested alternative 1.
+        { // Start scope for nested choice.
 
-        yyResult = pJavaIdentifier$Identifier(yyChoice2);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final String v$g$3 = yyResult.semanticValue();
+          final int yyChoice2 = yyChoice1;
 
-          yyResult = pCommandJava$Arguments(yyResult.index);
+          // Nested alternative 1.
+
+          yyResult = pJavaIdentifier$Identifier(yyChoice2);
           yyError  = yyResult.select(yyError);
           if (yyResult.hasValue()) {
-            final Node v$g$4 = yyResult.semanticValue();
+            final String v$g$3 = yyResult.semanticValue();
 
-            yyValue = new Action<Node>() {
-              public Node run(Node v$1) {
-                return GNode.create("CallExpression", v$1, null, v$g$3, v$g$4);
-              }};
+            yyResult = pCommandJava$Arguments(yyResult.index);
+            yyError  = yyResult.select(yyError);
+            if (yyResult.hasValue()) {
+              final Node v$g$4 = yyResult.semanticValue();
 
-            return yyResult.createValue(yyValue, yyError);
+              yyValue = new Action<Node>() {
+                public Node run(Node v$1) {
+                  return GNode.create("CallExpression", v$1, null, v$g$3, v$g$4);
+                }};
+
+              return yyResult.createValue(yyValue, yyError);
+            }
           }
-        }
 
-        // Nested alternative 2.
+          // Nested alternative 2.
 
-        yyBase   = yyChoice2;
-        yyResult = pJavaIdentifier$Word(yyBase);
-        if (yyResult.hasValue("super")) {
-          final String v$g$5 = "super";
+          yyBase   = yyChoice2;
+          yyResult = pJavaIdentifier$Word(yyBase);
+          if (yyResult.hasValue("super")) {
+            final String v$g$5 = "super";
 
-          yyResult = pCommandJava$Arguments(yyResult.index);
-          yyError  = yyResult.select(yyError);
-          if (yyResult.hasValue()) {
-            final Node v$g$6 = yyResult.semanticValue();
+            yyResult = pCommandJava$Arguments(yyResult.index);
+            yyError  = yyResult.select(yyError);
+            if (yyResult.hasValue()) {
+              final Node v$g$6 = yyResult.semanticValue();
 
-            yyValue = new Action<Node>() {
-              public Node run(Node v$1) {
-                return GNode.create("CallExpression", v$1, null, v$g$5, v$g$6);
-              }};
+              yyValue = new Action<Node>() {
+                public Node run(Node v$1) {
+                  return GNode.create("CallExpression", v$1, null, v$g$5, v$g$6);
+                }};
 
-            return yyResult.createValue(yyValue, yyError);
+              return yyResult.createValue(yyValue, yyError);
+            }
+          } else {
+            yyError = yyError.select("'super' expected", yyBase);
           }
-        } else {
-          yyError = yyError.select("'super' expected", yyBase);
-        }
-      } // End scope for nested choice.
+        } // End scope for nested choice.
 
-      // Nested alternative 2.
+        // Nested alternative 2.
 
-      yyBase   = yyChoice1;
-      yyResult = pJavaIdentifier$Word(yyBase);
-      if (yyResult.hasValue("super")) {
+        yyBase   = yyChoice1;
+        yyResult = pJavaIdentifier$Word(yyBase);
+        if (yyResult.hasValue("super")) {
 
-        yyValue = new Action<Node>() {
-          public Node run(Node v$1) {
-            return GNode.create("SuperExpression", v$1);
-          }};
+          yyValue = new Action<Node>() {
+            public Node run(Node v$1) {
+              return GNode.create("SuperExpression", v$1);
+            }};
 
-        return yyResult.createValue(yyValue, yyError);
-      } else {
-        yyError = yyError.select("'super' expected", yyBase);
-      }
+          return yyResult.createValue(yyValue, yyError);
+        } else {
+          yyError = yyError.select("'super' expected", yyBase);
+        }
 
-      // Nested alternative 3.
+        // Nested alternative 3.
 
-      yyResult = pJavaIdentifier$Identifier(yyChoice1);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final String v$g$7 = yyResult.semanticValue();
+        yyResult = pJavaIdentifier$Identifier(yyChoice1);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final String v$g$7 = yyResult.semanticValue();
 
-        yyValue = new Action<Node>() {
-          public Node run(Node v$1) {
-            return GNode.create("SelectionExpression", v$1, v$g$7);
-          }};
+          yyValue = new Action<Node>() {
+            public Node run(Node v$1) {
+              return GNode.create("SelectionExpression", v$1, v$g$7);
+            }};
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("[")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("[")) {
 
-      yyResult = pCommandJava$Expression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$8 = yyResult.semanticValue();
+        yyResult = pCommandJava$Expression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$8 = yyResult.semanticValue();
 
-        yyBase   = yyResult.index;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue("]")) {
+          yyBase   = yyResult.index;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue("]")) {
 
-          yyValue = new Action<Node>() {
-            public Node run(Node v$1) {
-              return GNode.create("SubscriptExpression", v$1, v$g$8);
-            }};
+            yyValue = new Action<Node>() {
+              public Node run(Node v$1) {
+                return GNode.create("SubscriptExpression", v$1, v$g$8);
+              }};
 
-          return yyResult.createValue(yyValue, yyError);
-        } else {
-          yyError = yyError.select("']' expected", yyBase);
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("']' expected", yyBase);
+          }
         }
       }
     }
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("++")) {
-      final String v$g$9 = "++";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("++")) {
+        final String v$g$9 = "++";
 
-      yyValue = new Action<Node>() {
-        public Node run(Node v$1) {
-          return GNode.create("PostfixExpression", v$1, v$g$9);
-        }};
+        yyValue = new Action<Node>() {
+          public Node run(Node v$1) {
+            return GNode.create("PostfixExpression", v$1, v$g$9);
+          }};
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 4.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("--")) {
-      final String v$g$10 = "--";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("--")) {
+        final String v$g$10 = "--";
 
-      yyValue = new Action<Node>() {
-        public Node run(Node v$1) {
-          return GNode.create("PostfixExpression", v$1, v$g$10);
-        }};
+        yyValue = new Action<Node>() {
+          public Node run(Node v$1) {
+            return GNode.create("PostfixExpression", v$1, v$g$10);
+          }};
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 5.
+    if (0 != (yyFirst & 0x10)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(".")) {
-
-      yyBase   = yyResult.index;
-      yyResult = pJavaIdentifier$Word(yyBase);
-      if (yyResult.hasValue("new")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(".")) {
 
-        yyResult = pJavaType$TypeName(yyResult.index);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$g$12 = yyResult.semanticValue();
+        yyBase   = yyResult.index;
+        yyResult = pJavaIdentifier$Word(yyBase);
+        if (yyResult.hasValue("new")) {
 
-          yyResult = pCommandJava$Arguments(yyResult.index);
+          yyResult = pJavaType$TypeName(yyResult.index);
           yyError  = yyResult.select(yyError);
           if (yyResult.hasValue()) {
-            final Node v$g$13 = yyResult.semanticValue();
-
-            yyOption1  = yyResult.index;
-            yyOpValue1 = null;
+            final Node v$g$12 = yyResult.semanticValue();
 
-            yyResult = pCommandJava$ClassBody(yyOption1);
-            yyError  = yyResult.select(yyError, yyOption1);
+            yyResult = pCommandJava$Arguments(yyResult.index);
+            yyError  = yyResult.select(yyError);
             if (yyResult.hasValue()) {
-              final Node v$el$1 = yyResult.semanticValue();
+              final Node v$g$13 = yyResult.semanticValue();
 
               yyOption1  = yyResult.index;
-              yyOpValue1 = v$el$1;
-            }
-            { // Start scope for v$g$14.
-              final Node v$g$14 = yyOpValue1;
+              yyOpValue1 = null;
 
-              yyValue = new Action<Node>() {
-                public Node run(Node v$1) {
-                  return GNode.create("NewClassExpression", v$1, null, v$g$12, v$g$13, v$g$14);
-                }};
+              yyResult = pCommandJava$ClassBody(yyOption1);
+              yyError  = yyResult.select(yyError, yyOption1);
+              if (yyResult.hasValue()) {
+                final Node v$el$1 = yyResult.semanticValue();
 
-              return new SemanticValue(yyValue, yyOption1, yyError);
-            } // End scope for v$g$14.
+                yyOption1  = yyResult.index;
+                yyOpValue1 = v$el$1;
+              }
+              { // Start scope for v$g$14.
+                final Node v$g$14 = yyOpValue1;
+
+                yyValue = new Action<Node>() {
+                  public Node run(Node v$1) {
+                    return GNode.create("NewClassExpression", v$1, null, v$g$12, v$g$13, v$g$14);
+                  }};
+
+                return new SemanticValue(yyValue, yyOption1, yyError);
+              } // End scope for v$g$14.
+            }
           }
+        } else {
+          yyError = yyError.select("'new' expected", yyBase);
         }
-      } else {
-        yyError = yyError.select("'new' expected", yyBase);
       }
     }
 
@@ -37648,14 +43316,54 @@ public final class CommandParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '`':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x2;
+      break;
+
+    case '$':
+      yyFirst = 0x1;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Meta>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pMetaVariable(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pMetaVariable(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Literal>.
@@ -37681,7 +43389,7 @@ public final class CommandParser extends ParserBase {
         final Node v$g$4 = yyResult.semanticValue();
 
         yyValue = GNode.create("CallExpression", null, null, v$g$3, v$g$4);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -37703,7 +43411,7 @@ public final class CommandParser extends ParserBase {
         if (yyResult.hasValue("class")) {
 
           yyValue = GNode.create("ClassLiteralExpression", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
@@ -37726,7 +43434,7 @@ public final class CommandParser extends ParserBase {
         final Node v$g$4 = yyResult.semanticValue();
 
         yyValue = GNode.create("CallExpression", null, null, v$g$3, v$g$4);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -37760,7 +43468,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue("this")) {
 
         yyValue = GNode.create("ThisExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       } else {
@@ -37785,7 +43493,7 @@ public final class CommandParser extends ParserBase {
           final Node v$g$4 = yyResult.semanticValue();
 
           yyValue = GNode.create("CallExpression", null, null, v$g$3, v$g$4);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -37798,7 +43506,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue("super")) {
 
         yyValue = GNode.create("SuperExpression", null);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       } else {
@@ -37814,7 +43522,7 @@ public final class CommandParser extends ParserBase {
       final String v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.create("PrimaryIdentifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -37849,7 +43557,7 @@ public final class CommandParser extends ParserBase {
             final Node v$g$5 = yyOpValue1;
 
             yyValue = GNode.create("NewClassExpression", null, null, v$g$3, v$g$4, v$g$5);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return new SemanticValue(yyValue, yyOption1, yyError);
           } // End scope for v$g$5.
@@ -37891,7 +43599,7 @@ public final class CommandParser extends ParserBase {
             final Node v$g$3 = yyOpValue1;
 
             yyValue = GNode.create("NewArrayExpression", v$g$1, v$g$2, v$g$3, null);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return new SemanticValue(yyValue, yyOption1, yyError);
           } // End scope for v$g$3.
@@ -37919,7 +43627,7 @@ public final class CommandParser extends ParserBase {
             final Node v$g$7 = yyResult.semanticValue();
 
             yyValue = GNode.create("NewArrayExpression", v$g$1, null, v$g$6, v$g$7);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           }
@@ -37928,22 +43636,24 @@ public final class CommandParser extends ParserBase {
     }
 
     // Alternative <Nested>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("(")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("(")) {
 
-      yyResult = pCommandJava$Expression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        yyValue = yyResult.semanticValue();
+        yyResult = pCommandJava$Expression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          yyValue = yyResult.semanticValue();
 
-        yyBase   = yyResult.index;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue(")")) {
+          yyBase   = yyResult.index;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue(")")) {
 
-          return yyResult.createValue(yyValue, yyError);
-        } else {
-          yyError = yyError.select("')' expected", yyBase);
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("')' expected", yyBase);
+          }
         }
       }
     }
@@ -37968,7 +43678,8 @@ public final class CommandParser extends ParserBase {
     Result     yyResult;
     int        yyRepetition1;
     boolean    yyRepeated1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -37976,7 +43687,8 @@ public final class CommandParser extends ParserBase {
 
     yyRepetition1 = yyStart;
     yyRepeated1   = false;
-    yyRepValue1   = Pair.empty();
+    yyRepStart1   = bufferStart();
+    yyRepEnd1   = yyRepStart1;
     while (true) {
 
       yyResult = pCommandJava$ConcreteDimension(yyRepetition1);
@@ -37986,17 +43698,18 @@ public final class CommandParser extends ParserBase {
 
         yyRepetition1 = yyResult.index;
         yyRepeated1   = true;
-        yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+        yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
         continue;
       }
       break;
     }
 
     if (yyRepeated1) {
-      final Pair<Node> v$g$1 = yyRepValue1.reverse();
+      final int v$g$1 = yyRepStart1;
+      final int v$g$1$end = yyRepEnd1;
 
-      yyValue = GNode.createFromPair("ConcreteDimensions", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      yyValue = bufferedNode("ConcreteDimensions", v$g$1, v$g$1$end);
+      locate(yyValue, yyStart);
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
     }
@@ -38063,7 +43776,8 @@ public final class CommandParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     int        yyOption1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
@@ -38083,7 +43797,8 @@ public final class CommandParser extends ParserBase {
         final Node v$g$1 = yyResult.semanticValue();
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyBase   = yyRepetition1;
@@ -38096,7 +43811,7 @@ public final class CommandParser extends ParserBase {
               final Node v$el$1 = yyResult.semanticValue();
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
           } else {
@@ -38105,7 +43820,8 @@ public final class CommandParser extends ParserBase {
           break;
         }
         { // Start scope for v$g$2.
-          final Pair<Node> v$g$2 = yyRepValue1.reverse();
+          final int v$g$2 = yyRepStart1;
+          final int v$g$2$end = yyRepEnd1;
 
           yyOption1  = yyRepetition1;
 
@@ -38122,13 +43838,14 @@ public final class CommandParser extends ParserBase {
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue("}")) {
 
-            yyValue = GNode.createFromPair("ArrayInitializer", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
+            yyValue = bufferedNode("ArrayInitializer", v$g$1, v$g$2, v$g$2$end);
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
             yyError = yyError.select("'}' expected", yyBase);
           }
+          releaseBuffer(v$g$2);
         } // End scope for v$g$2.
       }
 
@@ -38150,7 +43867,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue("}")) {
 
         yyValue = GNode.create("ArrayInitializer", false);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       } else {
@@ -38176,10 +43893,16 @@ public final class CommandParser extends ParserBase {
     throws IOException {
 
     CommandParserColumn yyColumn = (CommandParserColumn)column(yyStart);
-    if (null == yyColumn.chunk13) yyColumn.chunk13 = new Chunk13();
-    if (null == yyColumn.chunk13.fCommandJava$VariableInitializer) 
-      yyColumn.chunk13.fCommandJava$VariableInitializer = pCommandJava$VariableInitializer$1(yyStart);
-    return yyColumn.chunk13.fCommandJava$VariableInitializer;
+    if (null == yyColumn.chunk8) yyColumn.chunk8 = new Chunk8();
+    if (null == yyColumn.chunk8.fCommandJava$VariableInitializer) {
+      yyColumn.chunk8.fCommandJava$VariableInitializer = 
+        pCommandJava$VariableInitializer$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(129, yyColumn.chunk8.fCommandJava$VariableInitializer);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(129, yyColumn.chunk8.fCommandJava$VariableInitializer);
+    }
+    return yyColumn.chunk8.fCommandJava$VariableInitializer;
   }
 
   /** Actually parse xtc.lang.blink.CommandJava.VariableInitializer. */
@@ -38229,7 +43952,8 @@ public final class CommandParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -38248,7 +43972,8 @@ public final class CommandParser extends ParserBase {
         final Node v$g$1 = yyResult.semanticValue();
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyBase   = yyRepetition1;
@@ -38261,7 +43986,7 @@ public final class CommandParser extends ParserBase {
               final Node v$el$1 = yyResult.semanticValue();
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
           } else {
@@ -38270,19 +43995,21 @@ public final class CommandParser extends ParserBase {
           break;
         }
         { // Start scope for v$g$2.
-          final Pair<Node> v$g$2 = yyRepValue1.reverse();
+          final int v$g$2 = yyRepStart1;
+          final int v$g$2$end = yyRepEnd1;
 
           yyBase   = yyRepetition1;
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue(")")) {
 
-            yyValue = GNode.createFromPair("Arguments", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
+            yyValue = bufferedNode("Arguments", v$g$1, v$g$2, v$g$2$end);
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
             yyError = yyError.select("')' expected", yyBase);
           }
+          releaseBuffer(v$g$2);
         } // End scope for v$g$2.
       }
 
@@ -38293,7 +44020,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue(")")) {
 
         yyValue = GNode.create("Arguments", false);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       } else {
@@ -38321,7 +44048,8 @@ public final class CommandParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -38331,7 +44059,8 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("{")) {
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyResult = pCommandJava$DeclarationOrStatement(yyRepetition1);
@@ -38340,25 +44069,27 @@ public final class CommandParser extends ParserBase {
           final Node v$el$1 = yyResult.semanticValue();
 
           yyRepetition1 = yyResult.index;
-          yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+          yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
           continue;
         }
         break;
       }
       { // Start scope for v$g$1.
-        final Pair<Node> v$g$1 = yyRepValue1.reverse();
+        final int v$g$1 = yyRepStart1;
+        final int v$g$1$end = yyRepEnd1;
 
         yyBase   = yyRepetition1;
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue("}")) {
 
-          yyValue = GNode.createFromPair("JavaInJavaBlock", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          yyValue = bufferedNode("JavaInJavaBlock", v$g$1, v$g$1$end);
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
           yyError = yyError.select("'}' expected", yyBase);
         }
+        releaseBuffer(v$g$1);
       } // End scope for v$g$1.
     }
 
@@ -38395,7 +44126,7 @@ public final class CommandParser extends ParserBase {
         final Node v$g$1 = yyResult.semanticValue();
 
         yyValue = GNode.create("CInJavaBlock", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -38433,7 +44164,7 @@ public final class CommandParser extends ParserBase {
         final Node v$g$1 = yyResult.semanticValue();
 
         yyValue = GNode.create("CInJavaExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -38445,6 +44176,14 @@ public final class CommandParser extends ParserBase {
 
   // =========================================================================
 
+  /** The bit map for a character class. */
+  private static final long[] yyClass1 = { 0x3ffc01000000000L, 0x7fffffe87fffffeL };
+
+  /** The bit map for a character class. */
+  private static final long[] yyClass2 = { 0x0L, 0x7fffffe87fffffeL };
+
+  // =========================================================================
+
   static {
     add(JAVA_KEYWORDS, new String[] {
       "abstract",  "continue",  "for",         "new",        "switch",
@@ -1,8 +1,8 @@
 // ===========================================================================
 // This file has been generated by
-// Rats! Parser Generator, version 2.0.0,
-// (C) 2004-2011 Robert Grimm,
-// on Thursday, September 8, 2011 at 12:02:30 PM.
+// Rats! Parser Generator, version 2.3.1,
+// (C) 2004-2012 Robert Grimm,
+// on Sunday, October 18, 2026 at 7:30:46 PM.
 // Edit at your own risk.
 // ===========================================================================
 
@@ -36,7 +36,7 @@ import xtc.parser.ParseError;
  * Packrat parser for grammar <code>xtc.lang.cpp.Condition</code>.
  *
  * <p />This class has been generated by the <i>Rats!</i> parser
- * generator, version 2.1.0, (C) 2004-2011 Robert Grimm.
+ * generator, version 2.3.1, (C) 2004-2012 Robert Grimm.
  */
 public final class ConditionParser extends ParserBase {
 
@@ -59,6 +59,16 @@ public final class ConditionParser extends ParserBase {
     Result fLogicalOrExpression;
     Result fUnaryExpression;
     Result fSymbol;
+
+    protected boolean clear() {
+      fCondition$CharacterLiteral = null;
+      fConstantExpression = null;
+      fConditionalExpression = null;
+      fLogicalOrExpression = null;
+      fUnaryExpression = null;
+      fSymbol = null;
+      return true;
+    }
   }
 
   // =========================================================================
@@ -92,6 +102,22 @@ public final class ConditionParser extends ParserBase {
 
   // =========================================================================
 
+  /** The names of the memoized productions. */
+  private static final String[] yyProductions = {
+    "xtc.lang.cpp.Condition.CharacterLiteral",
+    "xtc.lang.cpp.Condition.ConstantExpression",
+    "xtc.lang.cpp.Condition.ConditionalExpression",
+    "xtc.lang.cpp.Condition.LogicalOrExpression",
+    "xtc.lang.cpp.Condition.UnaryExpression",
+    "xtc.lang.cpp.Symbol.Symbol",
+  };
+
+  protected String[] productions() {
+    return yyProductions;
+  }
+
+  // =========================================================================
+
   /**
    * Parse nonterminal xtc.lang.cpp.Condition.Constant.
    *
@@ -104,33 +130,61 @@ public final class ConditionParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
-    // Alternative 1.
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '\'':
+    case 'L':
+      yyFirst = 0x2;
+      break;
 
-    yyResult = pCondition$IntegerConstant(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+    case '0':
+    case '1':
+    case '2':
+    case '3':
+    case '4':
+    case '5':
+    case '6':
+    case '7':
+    case '8':
+    case '9':
+      yyFirst = 0x1;
+      break;
 
-      yyResult = pSpacing(yyResult.index);
+    default:
+      yyFirst = 0;
+    }
+
+    // Alternative 1.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
+
+      yyResult = pCondition$IntegerConstant(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-        return yyResult.createValue(yyValue, yyError);
+        yyResult = pSpacing(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 2.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pCondition$CharacterConstant(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
-
-      yyResult = pSpacing(yyResult.index);
+      yyResult = pCondition$CharacterConstant(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-        return yyResult.createValue(yyValue, yyError);
+        yyResult = pSpacing(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
@@ -154,43 +208,71 @@ public final class ConditionParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '0':
+      yyFirst = 0x3;
+      break;
+
+    case '1':
+    case '2':
+    case '3':
+    case '4':
+    case '5':
+    case '6':
+    case '7':
+    case '8':
+    case '9':
+      yyFirst = 0x4;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Hex>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pCondition$HexConstant(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final String v$g$1 = yyResult.semanticValue();
+      yyResult = pCondition$HexConstant(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final String v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerConstant", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("IntegerConstant", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Octal>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pCondition$OctalConstant(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final String v$g$2 = yyResult.semanticValue();
+      yyResult = pCondition$OctalConstant(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final String v$g$2 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerConstant", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("IntegerConstant", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Decimal>.
+    if ((0 != (yyFirst & 0x4)) || (yyError.index < yyStart)) {
 
-    yyResult = pCondition$DecimalConstant(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final String v$g$3 = yyResult.semanticValue();
+      yyResult = pCondition$DecimalConstant(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final String v$g$3 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerConstant", v$g$3);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("IntegerConstant", v$g$3);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -234,35 +316,7 @@ public final class ConditionParser extends ParserBase {
       case '8':
       case '9':
         {
-          yyRepetition1 = yyIndex;
-          while (true) {
-
-            yyC = character(yyRepetition1);
-            if (-1 != yyC) {
-              yyIndex = yyRepetition1 + 1;
-
-              switch (yyC) {
-              case '0':
-              case '1':
-              case '2':
-              case '3':
-              case '4':
-              case '5':
-              case '6':
-              case '7':
-              case '8':
-              case '9':
-                {
-                  yyRepetition1 = yyIndex;
-                  continue;
-                }
-
-              default:
-                /* No match. */
-              }
-            }
-            break;
-          }
+          yyRepetition1 = scan(yyIndex, 0x3ff000000000000L, 0x0L, false);
 
           yyOption1  = yyRepetition1;
 
@@ -452,33 +506,7 @@ public final class ConditionParser extends ParserBase {
     if ('0' == yyC) {
       yyIndex = yyStart + 1;
 
-      yyRepetition1 = yyIndex;
-      while (true) {
-
-        yyC = character(yyRepetition1);
-        if (-1 != yyC) {
-          yyIndex = yyRepetition1 + 1;
-
-          switch (yyC) {
-          case '0':
-          case '1':
-          case '2':
-          case '3':
-          case '4':
-          case '5':
-          case '6':
-          case '7':
-            {
-              yyRepetition1 = yyIndex;
-              continue;
-            }
-
-          default:
-            /* No match. */
-          }
-        }
-        break;
-      }
+      yyRepetition1 = scan(yyIndex, 0xff000000000000L, 0x0L, false);
 
       yyOption1  = yyRepetition1;
 
@@ -517,156 +545,176 @@ public final class ConditionParser extends ParserBase {
     Void       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'L':
+    case 'l':
+      yyFirst = 0x3;
+      break;
+
+    case 'U':
+    case 'u':
+      yyFirst = 0x2;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pCondition$LongLongSuffix(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
+      yyResult = pCondition$LongLongSuffix(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
 
-      final int yyChoice1 = yyResult.index;
+        final int yyChoice1 = yyResult.index;
 
-      // Nested alternative 1.
+        // Nested alternative 1.
 
-      yyC = character(yyChoice1);
-      if (-1 != yyC) {
-        yyIndex = yyChoice1 + 1;
+        yyC = character(yyChoice1);
+        if (-1 != yyC) {
+          yyIndex = yyChoice1 + 1;
 
-        switch (yyC) {
-        case 'U':
-        case 'u':
-          {
-            yyValue = null;
+          switch (yyC) {
+          case 'U':
+          case 'u':
+            {
+              yyValue = null;
 
-            return new SemanticValue(yyValue, yyIndex, yyError);
-          }
+              return new SemanticValue(yyValue, yyIndex, yyError);
+            }
 
-        default:
-          /* No match. */
+          default:
+            /* No match. */
+          }
         }
-      }
 
-      // Nested alternative 2.
+        // Nested alternative 2.
 
-      yyValue = null;
+        yyValue = null;
 
-      return new SemanticValue(yyValue, yyChoice1, yyError);
+        return new SemanticValue(yyValue, yyChoice1, yyError);
+      }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyC = character(yyStart);
-    if (-1 != yyC) {
-      yyIndex = yyStart + 1;
+      yyC = character(yyStart);
+      if (-1 != yyC) {
+        yyIndex = yyStart + 1;
 
-      switch (yyC) {
-      case 'L':
-      case 'l':
-        {
-          final int yyChoice1 = yyIndex;
+        switch (yyC) {
+        case 'L':
+        case 'l':
+          {
+            final int yyChoice1 = yyIndex;
 
-          // Nested alternative 1.
+            // Nested alternative 1.
 
-          yyC = character(yyChoice1);
-          if (-1 != yyC) {
-            yyIndex = yyChoice1 + 1;
+            yyC = character(yyChoice1);
+            if (-1 != yyC) {
+              yyIndex = yyChoice1 + 1;
 
-            switch (yyC) {
-            case 'U':
-            case 'u':
-              {
-                yyValue = null;
+              switch (yyC) {
+              case 'U':
+              case 'u':
+                {
+                  yyValue = null;
 
-                return new SemanticValue(yyValue, yyIndex, yyError);
-              }
+                  return new SemanticValue(yyValue, yyIndex, yyError);
+                }
 
-            default:
-              /* No match. */
+              default:
+                /* No match. */
+              }
             }
-          }
 
-          // Nested alternative 2.
+            // Nested alternative 2.
 
-          yyValue = null;
+            yyValue = null;
 
-          return new SemanticValue(yyValue, yyChoice1, yyError);
-        }
+            return new SemanticValue(yyValue, yyChoice1, yyError);
+          }
 
-      case 'U':
-      case 'u':
-        {
-          final int yyChoice1 = yyIndex;
+        case 'U':
+        case 'u':
+          {
+            final int yyChoice1 = yyIndex;
 
-          // Nested alternative 1.
+            // Nested alternative 1.
 
-          yyC = character(yyChoice1);
-          if (-1 != yyC) {
-            yyIndex = yyChoice1 + 1;
+            yyC = character(yyChoice1);
+            if (-1 != yyC) {
+              yyIndex = yyChoice1 + 1;
 
-            switch (yyC) {
-            case 'l':
-              {
-                yyC = character(yyIndex);
-                if (-1 != yyC) {
-                  yyIndex = yyIndex + 1;
-                  if ('l' == yyC) {
+              switch (yyC) {
+              case 'l':
+                {
+                  yyC = character(yyIndex);
+                  if (-1 != yyC) {
+                    yyIndex = yyIndex + 1;
+                    if ('l' == yyC) {
 
-                    yyValue = null;
+                      yyValue = null;
 
-                    return new SemanticValue(yyValue, yyIndex, yyError);
+                      return new SemanticValue(yyValue, yyIndex, yyError);
+                    }
                   }
                 }
-              }
-              break;
+                break;
 
-            case 'L':
-              {
-                yyC = character(yyIndex);
-                if (-1 != yyC) {
-                  yyIndex = yyIndex + 1;
-                  if ('L' == yyC) {
+              case 'L':
+                {
+                  yyC = character(yyIndex);
+                  if (-1 != yyC) {
+                    yyIndex = yyIndex + 1;
+                    if ('L' == yyC) {
 
-                    yyValue = null;
+                      yyValue = null;
 
-                    return new SemanticValue(yyValue, yyIndex, yyError);
+                      return new SemanticValue(yyValue, yyIndex, yyError);
+                    }
                   }
                 }
-              }
-              break;
+                break;
 
-            default:
-              /* No match. */
+              default:
+                /* No match. */
+              }
             }
-          }
 
-          // Nested alternative 2.
+            // Nested alternative 2.
 
-          yyC = character(yyChoice1);
-          if (-1 != yyC) {
-            yyIndex = yyChoice1 + 1;
+            yyC = character(yyChoice1);
+            if (-1 != yyC) {
+              yyIndex = yyChoice1 + 1;
 
-            switch (yyC) {
-            case 'L':
-            case 'l':
-              {
-                yyValue = null;
+              switch (yyC) {
+              case 'L':
+              case 'l':
+                {
+                  yyValue = null;
 
-                return new SemanticValue(yyValue, yyIndex, yyError);
-              }
+                  return new SemanticValue(yyValue, yyIndex, yyError);
+                }
 
-            default:
-              /* No match. */
+              default:
+                /* No match. */
+              }
             }
-          }
 
-          // Nested alternative 3.
+            // Nested alternative 3.
 
-          yyValue = null;
+            yyValue = null;
 
-          return new SemanticValue(yyValue, yyChoice1, yyError);
-        }
+            return new SemanticValue(yyValue, yyChoice1, yyError);
+          }
 
-      default:
-        /* No match. */
+        default:
+          /* No match. */
+        }
       }
     }
 
@@ -755,30 +803,48 @@ public final class ConditionParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '\'':
+      yyFirst = 0x2;
+      break;
+
+    case 'L':
+      yyFirst = 0x1;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pCondition$WideCharacterLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final String v$g$1 = yyResult.semanticValue();
+      yyResult = pCondition$WideCharacterLiteral(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final String v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("CharacterConstant", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("CharacterConstant", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 2.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pCondition$CharacterLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final String v$g$2 = yyResult.semanticValue();
+      yyResult = pCondition$CharacterLiteral(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final String v$g$2 = yyResult.semanticValue();
 
-      yyValue = GNode.create("CharacterConstant", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("CharacterConstant", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -837,8 +903,14 @@ public final class ConditionParser extends ParserBase {
     throws IOException {
 
     ConditionParserColumn yyColumn = (ConditionParserColumn)column(yyStart);
-    if (null == yyColumn.fCondition$CharacterLiteral) 
-      yyColumn.fCondition$CharacterLiteral = pCondition$CharacterLiteral$1(yyStart);
+    if (null == yyColumn.fCondition$CharacterLiteral) {
+      yyColumn.fCondition$CharacterLiteral = 
+        pCondition$CharacterLiteral$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(0, yyColumn.fCondition$CharacterLiteral);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(0, yyColumn.fCondition$CharacterLiteral);
+    }
     return yyColumn.fCondition$CharacterLiteral;
   }
 
@@ -1371,8 +1443,13 @@ public final class ConditionParser extends ParserBase {
    */
   public Result pConstantExpression(final int yyStart) throws IOException {
     ConditionParserColumn yyColumn = (ConditionParserColumn)column(yyStart);
-    if (null == yyColumn.fConstantExpression) 
+    if (null == yyColumn.fConstantExpression) {
       yyColumn.fConstantExpression = pConstantExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(1, yyColumn.fConstantExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(1, yyColumn.fConstantExpression);
+    }
     return yyColumn.fConstantExpression;
   }
 
@@ -1409,8 +1486,13 @@ public final class ConditionParser extends ParserBase {
     throws IOException {
 
     ConditionParserColumn yyColumn = (ConditionParserColumn)column(yyStart);
-    if (null == yyColumn.fConditionalExpression) 
+    if (null == yyColumn.fConditionalExpression) {
       yyColumn.fConditionalExpression = pConditionalExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(2, yyColumn.fConditionalExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(2, yyColumn.fConditionalExpression);
+    }
     return yyColumn.fConditionalExpression;
   }
 
@@ -1423,53 +1505,155 @@ public final class ConditionParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '#':
+    case '%':
+    case '&':
+    case '\'':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case '0':
+    case '1':
+    case '2':
+    case '3':
+    case '4':
+    case '5':
+    case '6':
+    case '7':
+    case '8':
+    case '9':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '[':
+    case ']':
+    case '^':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Conditional>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pLogicalOrExpression(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final Node v$g$1 = yyResult.semanticValue();
+      yyResult = pLogicalOrExpression(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final Node v$g$1 = yyResult.semanticValue();
 
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue("?")) {
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue("?")) {
 
-        yyResult = pConstantExpression(yyResult.index);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$g$2 = yyResult.semanticValue();
+          yyResult = pConstantExpression(yyResult.index);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Node v$g$2 = yyResult.semanticValue();
 
-          yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue(":")) {
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue(":")) {
 
-            yyResult = pConditionalExpression(yyResult.index);
-            yyError  = yyResult.select(yyError);
-            if (yyResult.hasValue()) {
-              final Node v$g$3 = yyResult.semanticValue();
+              yyResult = pConditionalExpression(yyResult.index);
+              yyError  = yyResult.select(yyError);
+              if (yyResult.hasValue()) {
+                final Node v$g$3 = yyResult.semanticValue();
 
-              yyValue = GNode.create("ConditionalExpression", v$g$1, v$g$2, v$g$3);
-              yyValue.setLocation(location(yyStart));
+                yyValue = GNode.create("ConditionalExpression", v$g$1, v$g$2, v$g$3);
+                locate(yyValue, yyStart);
 
-              return yyResult.createValue(yyValue, yyError);
+                return yyResult.createValue(yyValue, yyError);
+              }
+            } else {
+              yyError = yyError.select("':' expected", yyBase);
             }
-          } else {
-            yyError = yyError.select("':' expected", yyBase);
           }
+        } else {
+          yyError = yyError.select("'?' expected", yyBase);
         }
-      } else {
-        yyError = yyError.select("'?' expected", yyBase);
       }
     }
 
     // Alternative <Base>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pLogicalOrExpression(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pLogicalOrExpression(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -1487,8 +1671,13 @@ public final class ConditionParser extends ParserBase {
    */
   private Result pLogicalOrExpression(final int yyStart) throws IOException {
     ConditionParserColumn yyColumn = (ConditionParserColumn)column(yyStart);
-    if (null == yyColumn.fLogicalOrExpression) 
+    if (null == yyColumn.fLogicalOrExpression) {
       yyColumn.fLogicalOrExpression = pLogicalOrExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(3, yyColumn.fLogicalOrExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(3, yyColumn.fLogicalOrExpression);
+    }
     return yyColumn.fLogicalOrExpression;
   }
 
@@ -2053,22 +2242,61 @@ public final class ConditionParser extends ParserBase {
     String     yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '#':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case 'd':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Equal>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("==")) {
-      yyValue = "==";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("==")) {
+        yyValue = "==";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <NotEqual>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("!=")) {
-      yyValue = "!=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("!=")) {
+        yyValue = "!=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -2183,40 +2411,83 @@ public final class ConditionParser extends ParserBase {
     String     yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '#':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case 'd':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0xf;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <LessEqual>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("<=")) {
-      yyValue = "<=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("<=")) {
+        yyValue = "<=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Less>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("<")) {
-      yyValue = "<";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("<")) {
+        yyValue = "<";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <GreaterEqual>.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(">=")) {
-      yyValue = ">=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(">=")) {
+        yyValue = ">=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Greater>.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(">")) {
-      yyValue = ">";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(">")) {
+        yyValue = ">";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -2331,22 +2602,61 @@ public final class ConditionParser extends ParserBase {
     String     yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '#':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case 'd':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Left>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("<<")) {
-      yyValue = "<<";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("<<")) {
+        yyValue = "<<";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Right>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(">>")) {
-      yyValue = ">>";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(">>")) {
+        yyValue = ">>";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -2461,22 +2771,61 @@ public final class ConditionParser extends ParserBase {
     String     yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '#':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case 'd':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Plus>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("+")) {
-      yyValue = "+";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("+")) {
+        yyValue = "+";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Minus>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("-")) {
-      yyValue = "-";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("-")) {
+        yyValue = "-";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -2595,31 +2944,72 @@ public final class ConditionParser extends ParserBase {
     String     yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '#':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case 'd':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x7;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Times>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("*")) {
-      yyValue = "*";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("*")) {
+        yyValue = "*";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Over>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("/")) {
-      yyValue = "/";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("/")) {
+        yyValue = "/";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Modulo>.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("%")) {
-      yyValue = "%";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("%")) {
+        yyValue = "%";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -2638,8 +3028,13 @@ public final class ConditionParser extends ParserBase {
    */
   private Result pUnaryExpression(final int yyStart) throws IOException {
     ConditionParserColumn yyColumn = (ConditionParserColumn)column(yyStart);
-    if (null == yyColumn.fUnaryExpression) 
+    if (null == yyColumn.fUnaryExpression) {
       yyColumn.fUnaryExpression = pUnaryExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(4, yyColumn.fUnaryExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(4, yyColumn.fUnaryExpression);
+    }
     return yyColumn.fUnaryExpression;
   }
 
@@ -2650,130 +3045,243 @@ public final class ConditionParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '#':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case 'd':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3f;
+      break;
+
+    case '\'':
+    case '0':
+    case '1':
+    case '2':
+    case '3':
+    case '4':
+    case '5':
+    case '6':
+    case '7':
+    case '8':
+    case '9':
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x20;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("-")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("-")) {
 
-      yyResult = pUnaryExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
+        yyResult = pUnaryExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryMinusExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("UnaryMinusExpression", v$g$1);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("+")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("+")) {
 
-      yyResult = pUnaryExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
+        yyResult = pUnaryExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryPlusExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("UnaryPlusExpression", v$g$1);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("!")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("!")) {
 
-      yyResult = pUnaryExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
+        yyResult = pUnaryExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("LogicalNegationExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("LogicalNegationExpression", v$g$1);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 4.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("~")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("~")) {
 
-      yyResult = pUnaryExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
+        yyResult = pUnaryExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("BitwiseNegationExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("BitwiseNegationExpression", v$g$1);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 5.
+    if (0 != (yyFirst & 0x10)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("defined")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("defined")) {
 
-      final int yyChoice1 = yyResult.index;
+        final int yyChoice1 = yyResult.index;
 
-      // Nested alternative 1.
+        // Nested alternative 1.
 
-      yyBase   = yyChoice1;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue("(")) {
+        yyBase   = yyChoice1;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue("(")) {
 
-        yyResult = pPrimaryIdentifier(yyResult.index);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$g$1 = yyResult.semanticValue();
+          yyResult = pPrimaryIdentifier(yyResult.index);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Node v$g$1 = yyResult.semanticValue();
 
-          yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue(")")) {
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue(")")) {
 
-            yyValue = GNode.create("DefinedExpression", v$g$1);
-            yyValue.setLocation(location(yyStart));
+              yyValue = GNode.create("DefinedExpression", v$g$1);
+              locate(yyValue, yyStart);
 
-            return yyResult.createValue(yyValue, yyError);
-          } else {
-            yyError = yyError.select("')' expected", yyBase);
+              return yyResult.createValue(yyValue, yyError);
+            } else {
+              yyError = yyError.select("')' expected", yyBase);
+            }
           }
+        } else {
+          yyError = yyError.select("'(' expected", yyBase);
         }
-      } else {
-        yyError = yyError.select("'(' expected", yyBase);
-      }
 
-      // Nested alternative 2.
+        // Nested alternative 2.
 
-      yyResult = pPrimaryIdentifier(yyChoice1);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$2 = yyResult.semanticValue();
+        yyResult = pPrimaryIdentifier(yyChoice1);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("DefinedExpression", v$g$2);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("DefinedExpression", v$g$2);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative <Base>.
+    if ((0 != (yyFirst & 0x20)) || (yyError.index < yyStart)) {
 
-    yyResult = pPrimaryExpression(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pPrimaryExpression(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -2798,59 +3306,172 @@ public final class ConditionParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '#':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case 'd':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x6;
+      break;
+
+    case '\'':
+    case '0':
+    case '1':
+    case '2':
+    case '3':
+    case '4':
+    case '5':
+    case '6':
+    case '7':
+    case '8':
+    case '9':
+      yyFirst = 0x1;
+      break;
+
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x2;
+      break;
+
+    case 'L':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Constant>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pCondition$Constant(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pCondition$Constant(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 2.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index <= yyStart)) {
 
-    yyPredMatched = false;
+      yyPredMatched = false;
 
-    yyPredResult = pSymbol(yyStart);
-    if (yyPredResult.hasValue()) {
+      yyPredResult = pSymbol(yyStart);
+      if (yyPredResult.hasValue()) {
 
-      yyPredMatched = true;
-    }
+        yyPredMatched = true;
+      }
 
-    if (! yyPredMatched) {
+      if (! yyPredMatched) {
 
-      yyResult = pIdentifier(yyStart);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final String v$g$1 = yyResult.semanticValue();
+        yyResult = pIdentifier(yyStart);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final String v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("PrimaryIdentifier", v$g$1);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("PrimaryIdentifier", v$g$1);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
+      } else {
+        yyError = yyError.select("primary expression expected", yyStart);
       }
-    } else {
-      yyError = yyError.select("primary expression expected", yyStart);
     }
 
     // Alternative <ParenthesizedExpression>.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("(")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("(")) {
 
-      yyResult = pConstantExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        yyValue = yyResult.semanticValue();
+        yyResult = pConstantExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          yyValue = yyResult.semanticValue();
 
-        yyBase   = yyResult.index;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue(")")) {
+          yyBase   = yyResult.index;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue(")")) {
 
-          return yyResult.createValue(yyValue, yyError);
-        } else {
-          yyError = yyError.select("')' expected", yyBase);
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("')' expected", yyBase);
+          }
         }
       }
     }
@@ -2894,7 +3515,7 @@ public final class ConditionParser extends ParserBase {
         final String v$g$1 = yyResult.semanticValue();
 
         yyValue = GNode.create("PrimaryIdentifier", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -2917,7 +3538,12 @@ public final class ConditionParser extends ParserBase {
    */
   private Result pSymbol(final int yyStart) throws IOException {
     ConditionParserColumn yyColumn = (ConditionParserColumn)column(yyStart);
-    if (null == yyColumn.fSymbol) yyColumn.fSymbol = pSymbol$1(yyStart);
+    if (null == yyColumn.fSymbol) {
+      yyColumn.fSymbol = pSymbol$1(yyStart);
+      if (null != yyStatistics) yyStatistics.miss(5, yyColumn.fSymbol);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(5, yyColumn.fSymbol);
+    }
     return yyColumn.fSymbol;
   }
 
@@ -3616,27 +4242,9 @@ public final class ConditionParser extends ParserBase {
     yyC = character(yyStart);
     if (-1 != yyC) {
       yyIndex = yyStart + 1;
-      if ((('A' <= yyC) && (yyC <= 'Z')) ||
-          ('_' == yyC) ||
-          (('a' <= yyC) && (yyC <= 'z'))) {
-
-        yyRepetition1 = yyIndex;
-        while (true) {
+      if ((yyC < 128) && (0 != (yyClass1[yyC >> 6] & (1L << yyC)))) {
 
-          yyC = character(yyRepetition1);
-          if (-1 != yyC) {
-            yyIndex = yyRepetition1 + 1;
-            if ((('0' <= yyC) && (yyC <= '9')) ||
-                (('A' <= yyC) && (yyC <= 'Z')) ||
-                ('_' == yyC) ||
-                (('a' <= yyC) && (yyC <= 'z'))) {
-
-              yyRepetition1 = yyIndex;
-              continue;
-            }
-          }
-          break;
-        }
+        yyRepetition1 = scan(yyIndex, 0x3ff000000000000L, 0x7fffffe87fffffeL, false);
 
         yyValue = difference(yyStart, yyRepetition1);
 
@@ -3787,28 +4395,7 @@ public final class ConditionParser extends ParserBase {
 
               case '/':
                 {
-                  yyRepetition2 = yyIndex;
-                  while (true) {
-
-                    yyC = character(yyRepetition2);
-                    if (-1 != yyC) {
-                      yyIndex = yyRepetition2 + 1;
-
-                      switch (yyC) {
-                      case '\n':
-                      case '\r':
-                        /* No match. */
-                        break;
-
-                      default:
-                        {
-                          yyRepetition2 = yyIndex;
-                          continue;
-                        }
-                      }
-                    }
-                    break;
-                  }
+                  yyRepetition2 = scan(yyIndex, 0xffffffffffffdbffL, 0xffffffffffffffffL, true);
 
                   yyPredResult = pLineTerminator(yyRepetition2);
                   yyError      = yyPredResult.select(yyError);
@@ -3902,6 +4489,11 @@ public final class ConditionParser extends ParserBase {
 
   // =========================================================================
 
+  /** The bit map for a character class. */
+  private static final long[] yyClass1 = { 0x0L, 0x7fffffe87fffffeL };
+
+  // =========================================================================
+
   static {
     add(CPP_KEYWORDS, new String[] {
       "define", "elif", "else", "endif", "error", "warning", "if", "ifdef",
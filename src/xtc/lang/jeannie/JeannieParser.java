@@ -1,8 +1,8 @@
 // ===========================================================================
 // This file has been generated by
-// Rats! Parser Generator, version 2.1.0,
-// (C) 2004-2011 Robert Grimm,
-// on Thursday, August 4, 2011 at 12:11:53 PM.
+// Rats! Parser Generator, version 2.3.1,
+// (C) 2004-2012 Robert Grimm,
+// on Sunday, October 18, 2026 at 7:30:47 PM.
 // Edit at your own risk.
 // ===========================================================================
 
@@ -38,7 +38,7 @@ import xtc.lang.CParserState;
  * Packrat parser for grammar <code>xtc.lang.jeannie.Jeannie</code>.
  *
  * <p />This class has been generated by the <i>Rats!</i> parser
- * generator, version 2.1.0, (C) 2004-2011 Robert Grimm.
+ * generator, version 2.3.1, (C) 2004-2012 Robert Grimm.
  */
 public final class JeannieParser extends ParserBase {
 
@@ -61,108 +61,206 @@ public final class JeannieParser extends ParserBase {
 
   /** Chunk 1 of memoized results. */
   static final class Chunk1 {
-    Result fCConstant$Exponent;
-    Result f$$Shared10;
-    Result fBinaryExponent;
-    Result fCConstant$CharacterLiteral;
-    Result fCConstant$StringConstant;
-    Result fCConstant$StringConstant$$Plus1;
-    Result fCConstant$StringLiteral;
     Result fSymbol;
-    Result fCIdentifier$Identifier;
+    Result fCIdentifier$Word;
     Result fKeyword;
+    Result fCIdentifier$Identifier;
+    Result fJavaInC;
+    Result fCConstant$StringLiteral;
+    Result fCConstant$StringConstant$$Plus1;
+    Result fCConstant$StringConstant;
+    Result fCConstant$CharacterLiteral;
+    Result fJeannieC$UnaryExpression;
+
+    void clear() {
+      fSymbol = null;
+      fCIdentifier$Word = null;
+      fKeyword = null;
+      fCIdentifier$Identifier = null;
+      fJavaInC = null;
+      fCConstant$StringLiteral = null;
+      fCConstant$StringConstant$$Plus1 = null;
+      fCConstant$StringConstant = null;
+      fCConstant$CharacterLiteral = null;
+      fJeannieC$UnaryExpression = null;
+    }
   }
 
   /** Chunk 2 of memoized results. */
   static final class Chunk2 {
-    Result fCIdentifier$Word;
-    Result fResultType;
-    Result fType;
-    Result fJavaType$TypeName;
-    Result fPrimitiveType;
-    Result fDimensions;
-    Result fDimensions$$Plus1;
-    Result fQualifiedIdentifier;
-    Result fQualifiedIdentifier$$Star1;
+    Result fJavaIdentifier$Word;
     Result fJavaIdentifier$Identifier;
+    Result fQualifiedIdentifier;
+    Result fPrimitiveType;
+    Result fJavaType$TypeName;
+    Result fType;
+    Result fResultType;
+    Result fCInJava;
+    Result fJeannieJava$RelationalExpression;
+    Result fJeannieJava$LogicalOrExpression;
+
+    void clear() {
+      fJavaIdentifier$Word = null;
+      fJavaIdentifier$Identifier = null;
+      fQualifiedIdentifier = null;
+      fPrimitiveType = null;
+      fJavaType$TypeName = null;
+      fType = null;
+      fResultType = null;
+      fCInJava = null;
+      fJeannieJava$RelationalExpression = null;
+      fJeannieJava$LogicalOrExpression = null;
+    }
   }
 
   /** Chunk 3 of memoized results. */
   static final class Chunk3 {
-    Result fJavaIdentifier$Word;
-    Result fExternalDeclaration;
+    Result fAttributeSpecifier;
     Result fDeclarationSpecifiers;
-    Result fInitializedDeclaratorList;
-    Result fInitializedDeclaratorList$$Star1;
-    Result fSpecifierQualifierList;
-    Result fAttributedDeclarator;
-    Result fJeannieC$Declarator;
     Result fPointer;
-    Result fVariableLength;
+    Result fJeannieC$Declarator;
+    Result fAttributeSpecifierList;
+    Result fAsmKeyword;
+    Result fSimpleAssemblyExpression;
+    Result fExternalDeclaration;
+    Result fJeannieC$CastExpression;
+    Result fJeannieC$LogicalOrExpression;
+
+    void clear() {
+      fAttributeSpecifier = null;
+      fDeclarationSpecifiers = null;
+      fPointer = null;
+      fJeannieC$Declarator = null;
+      fAttributeSpecifierList = null;
+      fAsmKeyword = null;
+      fSimpleAssemblyExpression = null;
+      fExternalDeclaration = null;
+      fJeannieC$CastExpression = null;
+      fJeannieC$LogicalOrExpression = null;
+    }
   }
 
   /** Chunk 4 of memoized results. */
   static final class Chunk4 {
-    Result fParameterTypeList;
-    Result fAbstractDeclarator;
-    Result fJeannieC$TypeName;
-    Result fAttributeSpecifierList;
-    Result fAttributeSpecifier;
-    Result fJeannieC$Statement;
-    Result fCompoundStatement;
-    Result fCommaExpression;
-    Result fAssignmentExpression;
     Result fJeannieC$ConditionalExpression;
+    Result fAssignmentExpression;
+    Result fCommaExpression;
+    Result fCInCBlock;
+    Result fCompoundStatement;
+    Result fJeannieC$Statement;
+    Result fCInCBlock$$Star2;
+    Result fJeannieC$ExpressionList;
+    Result fJeannieJava$ConditionalExpression;
+    Result fJeannieJava$Expression;
+
+    void clear() {
+      fJeannieC$ConditionalExpression = null;
+      fAssignmentExpression = null;
+      fCommaExpression = null;
+      fCInCBlock = null;
+      fCompoundStatement = null;
+      fJeannieC$Statement = null;
+      fCInCBlock$$Star2 = null;
+      fJeannieC$ExpressionList = null;
+      fJeannieJava$ConditionalExpression = null;
+      fJeannieJava$Expression = null;
+    }
   }
 
   /** Chunk 5 of memoized results. */
   static final class Chunk5 {
-    Result fJeannieC$LogicalOrExpression;
-    Result f$$Shared7;
-    Result f$$Shared8;
-    Result f$$Shared9;
-    Result fJeannieC$CastExpression;
-    Result fJeannieC$UnaryExpression;
-    Result fJeannieC$ExpressionList;
-    Result fJeannieC$ExpressionList$$Star1;
-    Result fSimpleAssemblyExpression;
+    Result fJavaInJavaBlock;
+    Result fBlock;
+    Result fModifiers;
+    Result fJavaInJavaBlock$$Star1;
+    Result fDimensions$$Plus1;
+    Result fDimensions;
+    Result fSpecifierQualifierList;
+    Result fJeannieC$TypeName;
+    Result fAssemblyOperand;
     Result fAssemblyOperands;
+
+    void clear() {
+      fJavaInJavaBlock = null;
+      fBlock = null;
+      fModifiers = null;
+      fJavaInJavaBlock$$Star1 = null;
+      fDimensions$$Plus1 = null;
+      fDimensions = null;
+      fSpecifierQualifierList = null;
+      fJeannieC$TypeName = null;
+      fAssemblyOperand = null;
+      fAssemblyOperands = null;
+    }
   }
 
   /** Chunk 6 of memoized results. */
   static final class Chunk6 {
-    Result fAssemblyOperands$$Star1;
-    Result fAssemblyOperand;
-    Result fAsmKeyword;
-    Result fJavaInC;
-    Result fCInCBlock;
-    Result fCInCBlock$$Star1;
-    Result fCInCBlock$$Star2;
-    Result fJavaThrows;
-    Result fModifiers;
-    Result fFormalParameters;
+    Result fCConstant$Exponent;
+    Result f$$Shared10;
+    Result fBinaryExponent;
+    Result fQualifiedIdentifier$$Star1;
+    Result fInitializedDeclaratorList;
+    Result fInitializedDeclaratorList$$Star1;
+    Result fAttributedDeclarator;
+    Result fVariableLength;
+    Result fParameterTypeList;
+    Result fAbstractDeclarator;
+
+    void clear() {
+      fCConstant$Exponent = null;
+      f$$Shared10 = null;
+      fBinaryExponent = null;
+      fQualifiedIdentifier$$Star1 = null;
+      fInitializedDeclaratorList = null;
+      fInitializedDeclaratorList$$Star1 = null;
+      fAttributedDeclarator = null;
+      fVariableLength = null;
+      fParameterTypeList = null;
+      fAbstractDeclarator = null;
+    }
   }
 
   /** Chunk 7 of memoized results. */
   static final class Chunk7 {
+    Result f$$Shared7;
+    Result f$$Shared8;
+    Result f$$Shared9;
+    Result fJeannieC$ExpressionList$$Star1;
+    Result fAssemblyOperands$$Star1;
+    Result fCInCBlock$$Star1;
+    Result fJavaThrows;
+    Result fFormalParameters;
     Result fFormalParameters$$Star1;
     Result fDeclarators;
-    Result fDeclarators$$Star1;
-    Result fBlock;
-    Result fParExpression;
-    Result fCatchClause;
-    Result fJeannieJava$Expression;
-    Result fJeannieJava$ConditionalExpression;
-    Result fJeannieJava$LogicalOrExpression;
-    Result fJeannieJava$RelationalExpression;
+
+    void clear() {
+      f$$Shared7 = null;
+      f$$Shared8 = null;
+      f$$Shared9 = null;
+      fJeannieC$ExpressionList$$Star1 = null;
+      fAssemblyOperands$$Star1 = null;
+      fCInCBlock$$Star1 = null;
+      fJavaThrows = null;
+      fFormalParameters = null;
+      fFormalParameters$$Star1 = null;
+      fDeclarators = null;
+    }
   }
 
   /** Chunk 8 of memoized results. */
   static final class Chunk8 {
+    Result fDeclarators$$Star1;
+    Result fParExpression;
+    Result fCatchClause;
     Result fVariableInitializer;
-    Result fCInJava;
-    Result fJavaInJavaBlock;
-    Result fJavaInJavaBlock$$Star1;
+
+    void clear() {
+      fDeclarators$$Star1 = null;
+      fParExpression = null;
+      fCatchClause = null;
+      fVariableInitializer = null;
+    }
   }
 
   // =========================================================================
@@ -177,6 +275,18 @@ public final class JeannieParser extends ParserBase {
     Chunk6 chunk6;
     Chunk7 chunk7;
     Chunk8 chunk8;
+
+    protected boolean clear() {
+      if (null != chunk1) chunk1.clear();
+      if (null != chunk2) chunk2.clear();
+      if (null != chunk3) chunk3.clear();
+      if (null != chunk4) chunk4.clear();
+      if (null != chunk5) chunk5.clear();
+      if (null != chunk6) chunk6.clear();
+      if (null != chunk7) chunk7.clear();
+      if (null != chunk8) chunk8.clear();
+      return true;
+    }
   }
 
   // =========================================================================
@@ -217,6 +327,90 @@ public final class JeannieParser extends ParserBase {
 
   // =========================================================================
 
+  /** The names of the memoized productions. */
+  private static final String[] yyProductions = {
+    "xtc.lang.CConstant.Exponent",
+    "xtc.lang.jeannie.Jeannie.$$Shared10",
+    "xtc.lang.CConstant.BinaryExponent",
+    "xtc.lang.CConstant.CharacterLiteral",
+    "xtc.lang.CConstant.StringConstant",
+    "CConstant.StringConstant$$Plus1",
+    "xtc.lang.CConstant.StringLiteral",
+    "xtc.lang.jeannie.JeannieSymbol.Symbol",
+    "xtc.lang.CIdentifier.Identifier",
+    "xtc.lang.CIdentifier.Keyword",
+    "xtc.lang.CIdentifier.Word",
+    "xtc.lang.JavaType.ResultType",
+    "xtc.lang.JavaType.Type",
+    "xtc.lang.JavaType.TypeName",
+    "xtc.lang.JavaType.PrimitiveType",
+    "xtc.lang.JavaType.Dimensions",
+    "xtc.lang.jeannie.Jeannie.Dimensions$$Plus1",
+    "xtc.lang.JavaIdentifier.QualifiedIdentifier",
+    "xtc.lang.jeannie.Jeannie.QualifiedIdentifier$$Star1",
+    "xtc.lang.JavaIdentifier.Identifier",
+    "xtc.lang.JavaIdentifier.Word",
+    "xtc.lang.jeannie.JeannieC.ExternalDeclaration",
+    "xtc.lang.jeannie.JeannieC.DeclarationSpecifiers",
+    "xtc.lang.jeannie.JeannieC.InitializedDeclaratorList",
+    "xtc.lang.jeannie.Jeannie.InitializedDeclaratorList$$Star1",
+    "xtc.lang.jeannie.JeannieC.SpecifierQualifierList",
+    "xtc.lang.jeannie.JeannieC.AttributedDeclarator",
+    "xtc.lang.jeannie.JeannieC.Declarator",
+    "xtc.lang.jeannie.JeannieC.Pointer",
+    "xtc.lang.jeannie.JeannieC.VariableLength",
+    "xtc.lang.jeannie.JeannieC.ParameterTypeList",
+    "xtc.lang.jeannie.JeannieC.AbstractDeclarator",
+    "xtc.lang.jeannie.JeannieC.TypeName",
+    "xtc.lang.jeannie.JeannieC.AttributeSpecifierList",
+    "xtc.lang.jeannie.JeannieC.AttributeSpecifier",
+    "xtc.lang.jeannie.JeannieC.Statement",
+    "xtc.lang.jeannie.JeannieC.CompoundStatement",
+    "xtc.lang.jeannie.JeannieC.CommaExpression",
+    "xtc.lang.jeannie.JeannieC.AssignmentExpression",
+    "xtc.lang.jeannie.JeannieC.ConditionalExpression",
+    "xtc.lang.jeannie.JeannieC.LogicalOrExpression",
+    "xtc.lang.jeannie.Jeannie.$$Shared7",
+    "xtc.lang.jeannie.Jeannie.$$Shared8",
+    "xtc.lang.jeannie.Jeannie.$$Shared9",
+    "xtc.lang.jeannie.JeannieC.CastExpression",
+    "xtc.lang.jeannie.JeannieC.UnaryExpression",
+    "xtc.lang.jeannie.JeannieC.ExpressionList",
+    "JeannieC.ExpressionList$$Star1",
+    "xtc.lang.jeannie.JeannieC.SimpleAssemblyExpression",
+    "xtc.lang.jeannie.JeannieC.AssemblyOperands",
+    "xtc.lang.jeannie.Jeannie.AssemblyOperands$$Star1",
+    "xtc.lang.jeannie.JeannieC.AssemblyOperand",
+    "xtc.lang.jeannie.JeannieC.AsmKeyword",
+    "xtc.lang.jeannie.JeannieC.JavaInC",
+    "xtc.lang.jeannie.JeannieC.CInCBlock",
+    "xtc.lang.jeannie.Jeannie.CInCBlock$$Star1",
+    "xtc.lang.jeannie.Jeannie.CInCBlock$$Star2",
+    "xtc.lang.jeannie.JeannieC.JavaThrows",
+    "xtc.lang.jeannie.JeannieJava.Modifiers",
+    "xtc.lang.jeannie.JeannieJava.FormalParameters",
+    "xtc.lang.jeannie.Jeannie.FormalParameters$$Star1",
+    "xtc.lang.jeannie.JeannieJava.Declarators",
+    "xtc.lang.jeannie.Jeannie.Declarators$$Star1",
+    "xtc.lang.jeannie.JeannieJava.Block",
+    "xtc.lang.jeannie.JeannieJava.ParExpression",
+    "xtc.lang.jeannie.JeannieJava.CatchClause",
+    "xtc.lang.jeannie.JeannieJava.Expression",
+    "xtc.lang.jeannie.JeannieJava.ConditionalExpression",
+    "xtc.lang.jeannie.JeannieJava.LogicalOrExpression",
+    "xtc.lang.jeannie.JeannieJava.RelationalExpression",
+    "xtc.lang.jeannie.JeannieJava.VariableInitializer",
+    "xtc.lang.jeannie.JeannieJava.CInJava",
+    "xtc.lang.jeannie.JeannieJava.JavaInJavaBlock",
+    "xtc.lang.jeannie.Jeannie.JavaInJavaBlock$$Star1",
+  };
+
+  protected String[] productions() {
+    return yyProductions;
+  }
+
+  // =========================================================================
+
   /**
    * Parse nonterminal xtc.lang.jeannie.Jeannie.File.
    *
@@ -230,7 +424,7 @@ public final class JeannieParser extends ParserBase {
     ParseError yyError = ParseError.DUMMY;
 
     // Reset the global state object.
-    yyState.reset(column(yyStart).file);
+    yyState.reset(fileAt(yyStart));
 
     // Alternative <JavaFile>.
 
@@ -270,54 +464,97 @@ public final class JeannieParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
-    // Alternative 1.
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '\"':
+      yyFirst = 0x8;
+      break;
 
-    yyResult = pFloatingConstant(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+    case '\'':
+      yyFirst = 0x4;
+      break;
 
-      yyResult = pSpacing(yyResult.index);
+    case '.':
+      yyFirst = 0x1;
+      break;
+
+    case '0':
+    case '1':
+    case '2':
+    case '3':
+    case '4':
+    case '5':
+    case '6':
+    case '7':
+    case '8':
+    case '9':
+      yyFirst = 0x3;
+      break;
+
+    case 'L':
+      yyFirst = 0xc;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
+    // Alternative 1.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
+
+      yyResult = pFloatingConstant(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-        return yyResult.createValue(yyValue, yyError);
+        yyResult = pSpacing(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 2.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pIntegerConstant(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
-
-      yyResult = pSpacing(yyResult.index);
+      yyResult = pIntegerConstant(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-        return yyResult.createValue(yyValue, yyError);
+        yyResult = pSpacing(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 3.
+    if ((0 != (yyFirst & 0x4)) || (yyError.index < yyStart)) {
 
-    yyResult = pCConstant$CharacterConstant(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pCConstant$CharacterConstant(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 4.
+    if ((0 != (yyFirst & 0x8)) || (yyError.index < yyStart)) {
 
-    yyResult = pCConstant$StringConstant(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pCConstant$StringConstant(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -338,43 +575,71 @@ public final class JeannieParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '0':
+      yyFirst = 0x3;
+      break;
+
+    case '1':
+    case '2':
+    case '3':
+    case '4':
+    case '5':
+    case '6':
+    case '7':
+    case '8':
+    case '9':
+      yyFirst = 0x4;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Hex>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pHexConstant(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final String v$g$1 = yyResult.semanticValue();
+      yyResult = pHexConstant(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final String v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerConstant", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("IntegerConstant", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Octal>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pOctalConstant(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final String v$g$2 = yyResult.semanticValue();
+      yyResult = pOctalConstant(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final String v$g$2 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerConstant", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("IntegerConstant", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Decimal>.
+    if ((0 != (yyFirst & 0x4)) || (yyError.index < yyStart)) {
 
-    yyResult = pDecimalConstant(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final String v$g$3 = yyResult.semanticValue();
+      yyResult = pDecimalConstant(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final String v$g$3 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerConstant", v$g$3);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("IntegerConstant", v$g$3);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -416,37 +681,9 @@ public final class JeannieParser extends ParserBase {
       case '8':
       case '9':
         {
-          yyRepetition1 = yyIndex;
-          while (true) {
+          yyRepetition1 = scan(yyIndex, 0x3ff000000000000L, 0x0L, false);
 
-            yyC = character(yyRepetition1);
-            if (-1 != yyC) {
-              yyIndex = yyRepetition1 + 1;
-
-              switch (yyC) {
-              case '0':
-              case '1':
-              case '2':
-              case '3':
-              case '4':
-              case '5':
-              case '6':
-              case '7':
-              case '8':
-              case '9':
-                {
-                  yyRepetition1 = yyIndex;
-                  continue;
-                }
-
-              default:
-                /* No match. */
-              }
-            }
-            break;
-          }
-
-          yyOption1  = yyRepetition1;
+          yyOption1  = yyRepetition1;
 
           yyResult = pIntegerSuffix(yyOption1);
           yyError  = yyResult.select(yyError, yyOption1);
@@ -630,33 +867,7 @@ public final class JeannieParser extends ParserBase {
     if ('0' == yyC) {
       yyIndex = yyStart + 1;
 
-      yyRepetition1 = yyIndex;
-      while (true) {
-
-        yyC = character(yyRepetition1);
-        if (-1 != yyC) {
-          yyIndex = yyRepetition1 + 1;
-
-          switch (yyC) {
-          case '0':
-          case '1':
-          case '2':
-          case '3':
-          case '4':
-          case '5':
-          case '6':
-          case '7':
-            {
-              yyRepetition1 = yyIndex;
-              continue;
-            }
-
-          default:
-            /* No match. */
-          }
-        }
-        break;
-      }
+      yyRepetition1 = scan(yyIndex, 0xff000000000000L, 0x0L, false);
 
       yyOption1  = yyRepetition1;
 
@@ -693,156 +904,176 @@ public final class JeannieParser extends ParserBase {
     Void       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'L':
+    case 'l':
+      yyFirst = 0x3;
+      break;
+
+    case 'U':
+    case 'u':
+      yyFirst = 0x2;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pLongLongSuffix(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
+      yyResult = pLongLongSuffix(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
 
-      final int yyChoice1 = yyResult.index;
+        final int yyChoice1 = yyResult.index;
 
-      // Nested alternative 1.
+        // Nested alternative 1.
 
-      yyC = character(yyChoice1);
-      if (-1 != yyC) {
-        yyIndex = yyChoice1 + 1;
+        yyC = character(yyChoice1);
+        if (-1 != yyC) {
+          yyIndex = yyChoice1 + 1;
 
-        switch (yyC) {
-        case 'U':
-        case 'u':
-          {
-            yyValue = null;
+          switch (yyC) {
+          case 'U':
+          case 'u':
+            {
+              yyValue = null;
 
-            return new SemanticValue(yyValue, yyIndex, yyError);
-          }
+              return new SemanticValue(yyValue, yyIndex, yyError);
+            }
 
-        default:
-          /* No match. */
+          default:
+            /* No match. */
+          }
         }
-      }
 
-      // Nested alternative 2.
+        // Nested alternative 2.
 
-      yyValue = null;
+        yyValue = null;
 
-      return new SemanticValue(yyValue, yyChoice1, yyError);
+        return new SemanticValue(yyValue, yyChoice1, yyError);
+      }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyC = character(yyStart);
-    if (-1 != yyC) {
-      yyIndex = yyStart + 1;
+      yyC = character(yyStart);
+      if (-1 != yyC) {
+        yyIndex = yyStart + 1;
 
-      switch (yyC) {
-      case 'L':
-      case 'l':
-        {
-          final int yyChoice1 = yyIndex;
+        switch (yyC) {
+        case 'L':
+        case 'l':
+          {
+            final int yyChoice1 = yyIndex;
 
-          // Nested alternative 1.
+            // Nested alternative 1.
 
-          yyC = character(yyChoice1);
-          if (-1 != yyC) {
-            yyIndex = yyChoice1 + 1;
+            yyC = character(yyChoice1);
+            if (-1 != yyC) {
+              yyIndex = yyChoice1 + 1;
 
-            switch (yyC) {
-            case 'U':
-            case 'u':
-              {
-                yyValue = null;
+              switch (yyC) {
+              case 'U':
+              case 'u':
+                {
+                  yyValue = null;
 
-                return new SemanticValue(yyValue, yyIndex, yyError);
-              }
+                  return new SemanticValue(yyValue, yyIndex, yyError);
+                }
 
-            default:
-              /* No match. */
+              default:
+                /* No match. */
+              }
             }
-          }
 
-          // Nested alternative 2.
+            // Nested alternative 2.
 
-          yyValue = null;
+            yyValue = null;
 
-          return new SemanticValue(yyValue, yyChoice1, yyError);
-        }
+            return new SemanticValue(yyValue, yyChoice1, yyError);
+          }
 
-      case 'U':
-      case 'u':
-        {
-          final int yyChoice1 = yyIndex;
+        case 'U':
+        case 'u':
+          {
+            final int yyChoice1 = yyIndex;
 
-          // Nested alternative 1.
+            // Nested alternative 1.
 
-          yyC = character(yyChoice1);
-          if (-1 != yyC) {
-            yyIndex = yyChoice1 + 1;
+            yyC = character(yyChoice1);
+            if (-1 != yyC) {
+              yyIndex = yyChoice1 + 1;
 
-            switch (yyC) {
-            case 'l':
-              {
-                yyC = character(yyIndex);
-                if (-1 != yyC) {
-                  yyIndex = yyIndex + 1;
-                  if ('l' == yyC) {
+              switch (yyC) {
+              case 'l':
+                {
+                  yyC = character(yyIndex);
+                  if (-1 != yyC) {
+                    yyIndex = yyIndex + 1;
+                    if ('l' == yyC) {
 
-                    yyValue = null;
+                      yyValue = null;
 
-                    return new SemanticValue(yyValue, yyIndex, yyError);
+                      return new SemanticValue(yyValue, yyIndex, yyError);
+                    }
                   }
                 }
-              }
-              break;
+                break;
 
-            case 'L':
-              {
-                yyC = character(yyIndex);
-                if (-1 != yyC) {
-                  yyIndex = yyIndex + 1;
-                  if ('L' == yyC) {
+              case 'L':
+                {
+                  yyC = character(yyIndex);
+                  if (-1 != yyC) {
+                    yyIndex = yyIndex + 1;
+                    if ('L' == yyC) {
 
-                    yyValue = null;
+                      yyValue = null;
 
-                    return new SemanticValue(yyValue, yyIndex, yyError);
+                      return new SemanticValue(yyValue, yyIndex, yyError);
+                    }
                   }
                 }
-              }
-              break;
+                break;
 
-            default:
-              /* No match. */
+              default:
+                /* No match. */
+              }
             }
-          }
 
-          // Nested alternative 2.
+            // Nested alternative 2.
 
-          yyC = character(yyChoice1);
-          if (-1 != yyC) {
-            yyIndex = yyChoice1 + 1;
+            yyC = character(yyChoice1);
+            if (-1 != yyC) {
+              yyIndex = yyChoice1 + 1;
 
-            switch (yyC) {
-            case 'L':
-            case 'l':
-              {
-                yyValue = null;
+              switch (yyC) {
+              case 'L':
+              case 'l':
+                {
+                  yyValue = null;
 
-                return new SemanticValue(yyValue, yyIndex, yyError);
-              }
+                  return new SemanticValue(yyValue, yyIndex, yyError);
+                }
 
-            default:
-              /* No match. */
+              default:
+                /* No match. */
+              }
             }
-          }
 
-          // Nested alternative 3.
+            // Nested alternative 3.
 
-          yyValue = null;
+            yyValue = null;
 
-          return new SemanticValue(yyValue, yyChoice1, yyError);
-        }
+            return new SemanticValue(yyValue, yyChoice1, yyError);
+          }
 
-      default:
-        /* No match. */
+        default:
+          /* No match. */
+        }
       }
     }
 
@@ -927,30 +1158,57 @@ public final class JeannieParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '.':
+    case '1':
+    case '2':
+    case '3':
+    case '4':
+    case '5':
+    case '6':
+    case '7':
+    case '8':
+    case '9':
+      yyFirst = 0x1;
+      break;
+
+    case '0':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Decimal>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pDecimalFloatingConstant(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final String v$g$1 = yyResult.semanticValue();
+      yyResult = pDecimalFloatingConstant(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final String v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("FloatingConstant", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("FloatingConstant", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Hex>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pHexFloatingConstant(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final String v$g$2 = yyResult.semanticValue();
+      yyResult = pHexFloatingConstant(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final String v$g$2 = yyResult.semanticValue();
 
-      yyValue = GNode.create("FloatingConstant", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("FloatingConstant", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -978,47 +1236,117 @@ public final class JeannieParser extends ParserBase {
     String     yyValue;
     ParseError yyError = ParseError.DUMMY;
 
-    // Alternative 1.
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '.':
+      yyFirst = 0x2;
+      break;
 
-    yyRepetition1 = yyStart;
-    yyRepeated1   = false;
-    while (true) {
+    case '0':
+    case '1':
+    case '2':
+    case '3':
+    case '4':
+    case '5':
+    case '6':
+    case '7':
+    case '8':
+    case '9':
+      yyFirst = 0x5;
+      break;
 
-      yyC = character(yyRepetition1);
-      if (-1 != yyC) {
-        yyIndex = yyRepetition1 + 1;
+    default:
+      yyFirst = 0;
+    }
 
-        switch (yyC) {
-        case '0':
-        case '1':
-        case '2':
-        case '3':
-        case '4':
-        case '5':
-        case '6':
-        case '7':
-        case '8':
-        case '9':
-          {
-            yyRepetition1 = yyIndex;
-            yyRepeated1   = true;
-            continue;
+    // Alternative 1.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index <= yyStart)) {
+
+      yyRepetition1 = yyStart;
+      yyRepeated1   = false;
+      while (true) {
+
+        yyC = character(yyRepetition1);
+        if (-1 != yyC) {
+          yyIndex = yyRepetition1 + 1;
+
+          switch (yyC) {
+          case '0':
+          case '1':
+          case '2':
+          case '3':
+          case '4':
+          case '5':
+          case '6':
+          case '7':
+          case '8':
+          case '9':
+            {
+              yyRepetition1 = yyIndex;
+              yyRepeated1   = true;
+              continue;
+            }
+
+          default:
+            /* No match. */
           }
+        }
+        break;
+      }
 
-        default:
-          /* No match. */
+      if (yyRepeated1) {
+
+        yyC = character(yyRepetition1);
+        if ('.' == yyC) {
+          yyIndex = yyRepetition1 + 1;
+
+          yyRepetition1 = scan(yyIndex, 0x3ff000000000000L, 0x0L, false);
+
+          yyOption1  = yyRepetition1;
+
+          yyResult = pCConstant$Exponent(yyOption1);
+          yyError  = yyResult.select(yyError, yyOption1);
+          if (yyResult.hasValue()) {
+
+            yyOption1  = yyResult.index;
+          }
+
+
+          yyC = character(yyOption1);
+          if (-1 != yyC) {
+            yyIndex = yyOption1 + 1;
+
+            switch (yyC) {
+            case 'F':
+            case 'L':
+            case 'f':
+            case 'l':
+              {
+                yyOption1  = yyIndex;
+              }
+              break;
+
+            default:
+              /* No match. */
+            }
+          }
+
+          yyValue = difference(yyStart, yyOption1);
+
+          return new SemanticValue(yyValue, yyOption1, yyError);
         }
       }
-      break;
     }
 
-    if (yyRepeated1) {
+    // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-      yyC = character(yyRepetition1);
+      yyC = character(yyStart);
       if ('.' == yyC) {
-        yyIndex = yyRepetition1 + 1;
+        yyIndex = yyStart + 1;
 
         yyRepetition1 = yyIndex;
+        yyRepeated1   = false;
         while (true) {
 
           yyC = character(yyRepetition1);
@@ -1038,6 +1366,7 @@ public final class JeannieParser extends ParserBase {
             case '9':
               {
                 yyRepetition1 = yyIndex;
+                yyRepeated1   = true;
                 continue;
               }
 
@@ -1048,48 +1377,48 @@ public final class JeannieParser extends ParserBase {
           break;
         }
 
-        yyOption1  = yyRepetition1;
+        if (yyRepeated1) {
 
-        yyResult = pCConstant$Exponent(yyOption1);
-        yyError  = yyResult.select(yyError, yyOption1);
-        if (yyResult.hasValue()) {
+          yyOption1  = yyRepetition1;
 
-          yyOption1  = yyResult.index;
-        }
+          yyResult = pCConstant$Exponent(yyOption1);
+          yyError  = yyResult.select(yyError, yyOption1);
+          if (yyResult.hasValue()) {
 
+            yyOption1  = yyResult.index;
+          }
 
-        yyC = character(yyOption1);
-        if (-1 != yyC) {
-          yyIndex = yyOption1 + 1;
 
-          switch (yyC) {
-          case 'F':
-          case 'L':
-          case 'f':
-          case 'l':
-            {
-              yyOption1  = yyIndex;
-            }
-            break;
+          yyC = character(yyOption1);
+          if (-1 != yyC) {
+            yyIndex = yyOption1 + 1;
 
-          default:
-            /* No match. */
+            switch (yyC) {
+            case 'F':
+            case 'L':
+            case 'f':
+            case 'l':
+              {
+                yyOption1  = yyIndex;
+              }
+              break;
+
+            default:
+              /* No match. */
+            }
           }
-        }
 
-        yyValue = difference(yyStart, yyOption1);
+          yyValue = difference(yyStart, yyOption1);
 
-        return new SemanticValue(yyValue, yyOption1, yyError);
+          return new SemanticValue(yyValue, yyOption1, yyError);
+        }
       }
     }
 
-    // Alternative 2.
-
-    yyC = character(yyStart);
-    if ('.' == yyC) {
-      yyIndex = yyStart + 1;
+    // Alternative 3.
+    if ((0 != (yyFirst & 0x4)) || (yyError.index <= yyStart)) {
 
-      yyRepetition1 = yyIndex;
+      yyRepetition1 = yyStart;
       yyRepeated1   = false;
       while (true) {
 
@@ -1123,105 +1452,35 @@ public final class JeannieParser extends ParserBase {
 
       if (yyRepeated1) {
 
-        yyOption1  = yyRepetition1;
-
-        yyResult = pCConstant$Exponent(yyOption1);
-        yyError  = yyResult.select(yyError, yyOption1);
+        yyResult = pCConstant$Exponent(yyRepetition1);
+        yyError  = yyResult.select(yyError);
         if (yyResult.hasValue()) {
 
           yyOption1  = yyResult.index;
-        }
 
+          yyC = character(yyOption1);
+          if (-1 != yyC) {
+            yyIndex = yyOption1 + 1;
 
-        yyC = character(yyOption1);
-        if (-1 != yyC) {
-          yyIndex = yyOption1 + 1;
+            switch (yyC) {
+            case 'F':
+            case 'L':
+            case 'f':
+            case 'l':
+              {
+                yyOption1  = yyIndex;
+              }
+              break;
 
-          switch (yyC) {
-          case 'F':
-          case 'L':
-          case 'f':
-          case 'l':
-            {
-              yyOption1  = yyIndex;
+            default:
+              /* No match. */
             }
-            break;
-
-          default:
-            /* No match. */
-          }
-        }
-
-        yyValue = difference(yyStart, yyOption1);
-
-        return new SemanticValue(yyValue, yyOption1, yyError);
-      }
-    }
-
-    // Alternative 3.
-
-    yyRepetition1 = yyStart;
-    yyRepeated1   = false;
-    while (true) {
-
-      yyC = character(yyRepetition1);
-      if (-1 != yyC) {
-        yyIndex = yyRepetition1 + 1;
-
-        switch (yyC) {
-        case '0':
-        case '1':
-        case '2':
-        case '3':
-        case '4':
-        case '5':
-        case '6':
-        case '7':
-        case '8':
-        case '9':
-          {
-            yyRepetition1 = yyIndex;
-            yyRepeated1   = true;
-            continue;
           }
 
-        default:
-          /* No match. */
-        }
-      }
-      break;
-    }
-
-    if (yyRepeated1) {
-
-      yyResult = pCConstant$Exponent(yyRepetition1);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-
-        yyOption1  = yyResult.index;
-
-        yyC = character(yyOption1);
-        if (-1 != yyC) {
-          yyIndex = yyOption1 + 1;
-
-          switch (yyC) {
-          case 'F':
-          case 'L':
-          case 'f':
-          case 'l':
-            {
-              yyOption1  = yyIndex;
-            }
-            break;
+          yyValue = difference(yyStart, yyOption1);
 
-          default:
-            /* No match. */
-          }
+          return new SemanticValue(yyValue, yyOption1, yyError);
         }
-
-        yyValue = difference(yyStart, yyOption1);
-
-        return new SemanticValue(yyValue, yyOption1, yyError);
       }
     }
 
@@ -1309,57 +1568,17 @@ public final class JeannieParser extends ParserBase {
         if ('.' == yyC) {
           yyIndex = yyRepetition1 + 1;
 
-          yyRepetition1 = yyIndex;
-          while (true) {
+          yyRepetition1 = scan(yyIndex, 0x3ff000000000000L, 0x7e0000007eL, false);
 
-            yyC = character(yyRepetition1);
+          yyResult = pBinaryExponent(yyRepetition1);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+
+            yyOption1  = yyResult.index;
+
+            yyC = character(yyOption1);
             if (-1 != yyC) {
-              yyIndex = yyRepetition1 + 1;
-
-              switch (yyC) {
-              case '0':
-              case '1':
-              case '2':
-              case '3':
-              case '4':
-              case '5':
-              case '6':
-              case '7':
-              case '8':
-              case '9':
-              case 'A':
-              case 'B':
-              case 'C':
-              case 'D':
-              case 'E':
-              case 'F':
-              case 'a':
-              case 'b':
-              case 'c':
-              case 'd':
-              case 'e':
-              case 'f':
-                {
-                  yyRepetition1 = yyIndex;
-                  continue;
-                }
-
-              default:
-                /* No match. */
-              }
-            }
-            break;
-          }
-
-          yyResult = pBinaryExponent(yyRepetition1);
-          yyError  = yyResult.select(yyError);
-          if (yyResult.hasValue()) {
-
-            yyOption1  = yyResult.index;
-
-            yyC = character(yyOption1);
-            if (-1 != yyC) {
-              yyIndex = yyOption1 + 1;
+              yyIndex = yyOption1 + 1;
 
               switch (yyC) {
               case 'F':
@@ -1563,10 +1782,15 @@ public final class JeannieParser extends ParserBase {
    */
   private Result pCConstant$Exponent(final int yyStart) throws IOException {
     JeannieParserColumn yyColumn = (JeannieParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fCConstant$Exponent) 
-      yyColumn.chunk1.fCConstant$Exponent = pCConstant$Exponent$1(yyStart);
-    return yyColumn.chunk1.fCConstant$Exponent;
+    if (null == yyColumn.chunk6) yyColumn.chunk6 = new Chunk6();
+    if (null == yyColumn.chunk6.fCConstant$Exponent) {
+      yyColumn.chunk6.fCConstant$Exponent = pCConstant$Exponent$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(0, yyColumn.chunk6.fCConstant$Exponent);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(0, yyColumn.chunk6.fCConstant$Exponent);
+    }
+    return yyColumn.chunk6.fCConstant$Exponent;
   }
 
   /** Actually parse xtc.lang.CConstant.Exponent. */
@@ -1642,10 +1866,15 @@ public final class JeannieParser extends ParserBase {
    */
   private Result p$$Shared10(final int yyStart) throws IOException {
     JeannieParserColumn yyColumn = (JeannieParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.f$$Shared10) 
-      yyColumn.chunk1.f$$Shared10 = p$$Shared10$1(yyStart);
-    return yyColumn.chunk1.f$$Shared10;
+    if (null == yyColumn.chunk6) yyColumn.chunk6 = new Chunk6();
+    if (null == yyColumn.chunk6.f$$Shared10) {
+      yyColumn.chunk6.f$$Shared10 = p$$Shared10$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(1, yyColumn.chunk6.f$$Shared10);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(1, yyColumn.chunk6.f$$Shared10);
+    }
+    return yyColumn.chunk6.f$$Shared10;
   }
 
   /** Actually parse xtc.lang.jeannie.Jeannie.$$Shared10. */
@@ -1715,10 +1944,15 @@ public final class JeannieParser extends ParserBase {
    */
   private Result pBinaryExponent(final int yyStart) throws IOException {
     JeannieParserColumn yyColumn = (JeannieParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fBinaryExponent) 
-      yyColumn.chunk1.fBinaryExponent = pBinaryExponent$1(yyStart);
-    return yyColumn.chunk1.fBinaryExponent;
+    if (null == yyColumn.chunk6) yyColumn.chunk6 = new Chunk6();
+    if (null == yyColumn.chunk6.fBinaryExponent) {
+      yyColumn.chunk6.fBinaryExponent = pBinaryExponent$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(2, yyColumn.chunk6.fBinaryExponent);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(2, yyColumn.chunk6.fBinaryExponent);
+    }
+    return yyColumn.chunk6.fBinaryExponent;
   }
 
   /** Actually parse xtc.lang.CConstant.BinaryExponent. */
@@ -1796,39 +2030,57 @@ public final class JeannieParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
-    // Alternative 1.
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '\'':
+      yyFirst = 0x2;
+      break;
 
-    yyResult = pWideCharacterLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final String v$g$1 = yyResult.semanticValue();
+    case 'L':
+      yyFirst = 0x1;
+      break;
 
-      yyResult = pSpacing(yyResult.index);
+    default:
+      yyFirst = 0;
+    }
+
+    // Alternative 1.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
+
+      yyResult = pWideCharacterLiteral(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
+        final String v$g$1 = yyResult.semanticValue();
+
+        yyResult = pSpacing(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
 
-        yyValue = GNode.create("CharacterConstant", v$g$1);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("CharacterConstant", v$g$1);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 2.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pCConstant$CharacterLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final String v$g$2 = yyResult.semanticValue();
-
-      yyResult = pSpacing(yyResult.index);
+      yyResult = pCConstant$CharacterLiteral(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
+        final String v$g$2 = yyResult.semanticValue();
+
+        yyResult = pSpacing(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
 
-        yyValue = GNode.create("CharacterConstant", v$g$2);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("CharacterConstant", v$g$2);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
@@ -1887,8 +2139,14 @@ public final class JeannieParser extends ParserBase {
 
     JeannieParserColumn yyColumn = (JeannieParserColumn)column(yyStart);
     if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fCConstant$CharacterLiteral) 
-      yyColumn.chunk1.fCConstant$CharacterLiteral = pCConstant$CharacterLiteral$1(yyStart);
+    if (null == yyColumn.chunk1.fCConstant$CharacterLiteral) {
+      yyColumn.chunk1.fCConstant$CharacterLiteral = 
+        pCConstant$CharacterLiteral$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(3, yyColumn.chunk1.fCConstant$CharacterLiteral);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(3, yyColumn.chunk1.fCConstant$CharacterLiteral);
+    }
     return yyColumn.chunk1.fCConstant$CharacterLiteral;
   }
 
@@ -2077,8 +2335,14 @@ public final class JeannieParser extends ParserBase {
 
     JeannieParserColumn yyColumn = (JeannieParserColumn)column(yyStart);
     if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fCConstant$StringConstant) 
-      yyColumn.chunk1.fCConstant$StringConstant = pCConstant$StringConstant$1(yyStart);
+    if (null == yyColumn.chunk1.fCConstant$StringConstant) {
+      yyColumn.chunk1.fCConstant$StringConstant = 
+        pCConstant$StringConstant$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(4, yyColumn.chunk1.fCConstant$StringConstant);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(4, yyColumn.chunk1.fCConstant$StringConstant);
+    }
     return yyColumn.chunk1.fCConstant$StringConstant;
   }
 
@@ -2098,7 +2362,7 @@ public final class JeannieParser extends ParserBase {
       final Pair<String> v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.createFromPair("StringConstant", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -2123,33 +2387,51 @@ public final class JeannieParser extends ParserBase {
     String     yyValue;
     ParseError yyError = ParseError.DUMMY;
 
-    // Alternative 1.
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '\"':
+      yyFirst = 0x2;
+      break;
 
-    yyResult = pWideStringLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+    case 'L':
+      yyFirst = 0x1;
+      break;
 
-      yyResult = pSpacing(yyResult.index);
+    default:
+      yyFirst = 0;
+    }
+
+    // Alternative 1.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
+
+      yyResult = pWideStringLiteral(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-        return yyResult.createValue(yyValue, yyError);
+        yyResult = pSpacing(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 2.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pCConstant$StringLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
-
-      yyResult = pSpacing(yyResult.index);
+      yyResult = pCConstant$StringLiteral(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-        return yyResult.createValue(yyValue, yyError);
+        yyResult = pSpacing(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
@@ -2171,8 +2453,14 @@ public final class JeannieParser extends ParserBase {
 
     JeannieParserColumn yyColumn = (JeannieParserColumn)column(yyStart);
     if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fCConstant$StringConstant$$Plus1) 
-      yyColumn.chunk1.fCConstant$StringConstant$$Plus1 = pCConstant$StringConstant$$Plus1$1(yyStart);
+    if (null == yyColumn.chunk1.fCConstant$StringConstant$$Plus1) {
+      yyColumn.chunk1.fCConstant$StringConstant$$Plus1 = 
+        pCConstant$StringConstant$$Plus1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(5, yyColumn.chunk1.fCConstant$StringConstant$$Plus1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(5, yyColumn.chunk1.fCConstant$StringConstant$$Plus1);
+    }
     return yyColumn.chunk1.fCConstant$StringConstant$$Plus1;
   }
 
@@ -2267,8 +2555,14 @@ public final class JeannieParser extends ParserBase {
 
     JeannieParserColumn yyColumn = (JeannieParserColumn)column(yyStart);
     if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fCConstant$StringLiteral) 
-      yyColumn.chunk1.fCConstant$StringLiteral = pCConstant$StringLiteral$1(yyStart);
+    if (null == yyColumn.chunk1.fCConstant$StringLiteral) {
+      yyColumn.chunk1.fCConstant$StringLiteral = 
+        pCConstant$StringLiteral$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(6, yyColumn.chunk1.fCConstant$StringLiteral);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(6, yyColumn.chunk1.fCConstant$StringLiteral);
+    }
     return yyColumn.chunk1.fCConstant$StringLiteral;
   }
 
@@ -2901,28 +3195,7 @@ public final class JeannieParser extends ParserBase {
 
               case '/':
                 {
-                  yyRepetition2 = yyIndex;
-                  while (true) {
-
-                    yyC = character(yyRepetition2);
-                    if (-1 != yyC) {
-                      yyIndex = yyRepetition2 + 1;
-
-                      switch (yyC) {
-                      case '\n':
-                      case '\r':
-                        /* No match. */
-                        break;
-
-                      default:
-                        {
-                          yyRepetition2 = yyIndex;
-                          continue;
-                        }
-                      }
-                    }
-                    break;
-                  }
+                  yyRepetition2 = scan(yyIndex, 0xffffffffffffdbffL, 0xffffffffffffffffL, true);
 
                   yyPredResult = pLineTerminator(yyRepetition2);
                   yyError      = yyPredResult.select(yyError);
@@ -3537,35 +3810,7 @@ public final class JeannieParser extends ParserBase {
       case '8':
       case '9':
         {
-          yyRepetition1 = yyIndex;
-          while (true) {
-
-            yyC = character(yyRepetition1);
-            if (-1 != yyC) {
-              yyIndex = yyRepetition1 + 1;
-
-              switch (yyC) {
-              case '0':
-              case '1':
-              case '2':
-              case '3':
-              case '4':
-              case '5':
-              case '6':
-              case '7':
-              case '8':
-              case '9':
-                {
-                  yyRepetition1 = yyIndex;
-                  continue;
-                }
-
-              default:
-                /* No match. */
-              }
-            }
-            break;
-          }
+          yyRepetition1 = scan(yyIndex, 0x3ff000000000000L, 0x0L, false);
 
           yyValue = difference(yyStart, yyRepetition1);
 
@@ -3674,28 +3919,7 @@ public final class JeannieParser extends ParserBase {
 
     // Alternative 1.
 
-    yyRepetition1 = yyStart;
-    while (true) {
-
-      yyC = character(yyRepetition1);
-      if (-1 != yyC) {
-        yyIndex = yyRepetition1 + 1;
-
-        switch (yyC) {
-        case '\n':
-        case '\r':
-          /* No match. */
-          break;
-
-        default:
-          {
-            yyRepetition1 = yyIndex;
-            continue;
-          }
-        }
-      }
-      break;
-    }
+    yyRepetition1 = scan(yyStart, 0xffffffffffffdbffL, 0xffffffffffffffffL, true);
 
     yyValue = difference(yyStart, yyRepetition1);
 
@@ -3714,8 +3938,12 @@ public final class JeannieParser extends ParserBase {
   private Result pSymbol(final int yyStart) throws IOException {
     JeannieParserColumn yyColumn = (JeannieParserColumn)column(yyStart);
     if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fSymbol) 
+    if (null == yyColumn.chunk1.fSymbol) {
       yyColumn.chunk1.fSymbol = pSymbol$1(yyStart);
+      if (null != yyStatistics) yyStatistics.miss(7, yyColumn.chunk1.fSymbol);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(7, yyColumn.chunk1.fSymbol);
+    }
     return yyColumn.chunk1.fSymbol;
   }
 
@@ -4342,8 +4570,14 @@ public final class JeannieParser extends ParserBase {
 
     JeannieParserColumn yyColumn = (JeannieParserColumn)column(yyStart);
     if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fCIdentifier$Identifier) 
-      yyColumn.chunk1.fCIdentifier$Identifier = pCIdentifier$Identifier$1(yyStart);
+    if (null == yyColumn.chunk1.fCIdentifier$Identifier) {
+      yyColumn.chunk1.fCIdentifier$Identifier = 
+        pCIdentifier$Identifier$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(8, yyColumn.chunk1.fCIdentifier$Identifier);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(8, yyColumn.chunk1.fCIdentifier$Identifier);
+    }
     return yyColumn.chunk1.fCIdentifier$Identifier;
   }
 
@@ -4385,8 +4619,13 @@ public final class JeannieParser extends ParserBase {
   private Result pKeyword(final int yyStart) throws IOException {
     JeannieParserColumn yyColumn = (JeannieParserColumn)column(yyStart);
     if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fKeyword) 
+    if (null == yyColumn.chunk1.fKeyword) {
       yyColumn.chunk1.fKeyword = pKeyword$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(9, yyColumn.chunk1.fKeyword);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(9, yyColumn.chunk1.fKeyword);
+    }
     return yyColumn.chunk1.fKeyword;
   }
 
@@ -4425,10 +4664,15 @@ public final class JeannieParser extends ParserBase {
    */
   private Result pCIdentifier$Word(final int yyStart) throws IOException {
     JeannieParserColumn yyColumn = (JeannieParserColumn)column(yyStart);
-    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fCIdentifier$Word) 
-      yyColumn.chunk2.fCIdentifier$Word = pCIdentifier$Word$1(yyStart);
-    return yyColumn.chunk2.fCIdentifier$Word;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fCIdentifier$Word) {
+      yyColumn.chunk1.fCIdentifier$Word = pCIdentifier$Word$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(10, yyColumn.chunk1.fCIdentifier$Word);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(10, yyColumn.chunk1.fCIdentifier$Word);
+    }
+    return yyColumn.chunk1.fCIdentifier$Word;
   }
 
   /** Actually parse xtc.lang.CIdentifier.Word. */
@@ -4479,27 +4723,9 @@ public final class JeannieParser extends ParserBase {
     yyC = character(yyStart);
     if (-1 != yyC) {
       yyIndex = yyStart + 1;
-      if ((('A' <= yyC) && (yyC <= 'Z')) ||
-          ('_' == yyC) ||
-          (('a' <= yyC) && (yyC <= 'z'))) {
-
-        yyRepetition1 = yyIndex;
-        while (true) {
-
-          yyC = character(yyRepetition1);
-          if (-1 != yyC) {
-            yyIndex = yyRepetition1 + 1;
-            if ((('0' <= yyC) && (yyC <= '9')) ||
-                (('A' <= yyC) && (yyC <= 'Z')) ||
-                ('_' == yyC) ||
-                (('a' <= yyC) && (yyC <= 'z'))) {
+      if ((yyC < 128) && (0 != (yyClass1[yyC >> 6] & (1L << yyC)))) {
 
-              yyRepetition1 = yyIndex;
-              continue;
-            }
-          }
-          break;
-        }
+        yyRepetition1 = scan(yyIndex, 0x3ff000000000000L, 0x7fffffe87fffffeL, false);
 
         yyValue = difference(yyStart, yyRepetition1);
 
@@ -4702,8 +4928,13 @@ public final class JeannieParser extends ParserBase {
   private Result pResultType(final int yyStart) throws IOException {
     JeannieParserColumn yyColumn = (JeannieParserColumn)column(yyStart);
     if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fResultType) 
+    if (null == yyColumn.chunk2.fResultType) {
       yyColumn.chunk2.fResultType = pResultType$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(11, yyColumn.chunk2.fResultType);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(11, yyColumn.chunk2.fResultType);
+    }
     return yyColumn.chunk2.fResultType;
   }
 
@@ -4757,7 +4988,7 @@ public final class JeannieParser extends ParserBase {
     if (yyResult.hasValue("void")) {
 
       yyValue = GNode.create("VoidType", false);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -4779,8 +5010,12 @@ public final class JeannieParser extends ParserBase {
   private Result pType(final int yyStart) throws IOException {
     JeannieParserColumn yyColumn = (JeannieParserColumn)column(yyStart);
     if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fType) 
+    if (null == yyColumn.chunk2.fType) {
       yyColumn.chunk2.fType = pType$1(yyStart);
+      if (null != yyStatistics) yyStatistics.miss(12, yyColumn.chunk2.fType);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(12, yyColumn.chunk2.fType);
+    }
     return yyColumn.chunk2.fType;
   }
 
@@ -4814,7 +5049,7 @@ public final class JeannieParser extends ParserBase {
         final Node v$g$2 = yyOpValue1;
 
         yyValue = GNode.create("Type", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyOption1, yyError);
       } // End scope for v$g$2.
@@ -4836,8 +5071,13 @@ public final class JeannieParser extends ParserBase {
   private Result pJavaType$TypeName(final int yyStart) throws IOException {
     JeannieParserColumn yyColumn = (JeannieParserColumn)column(yyStart);
     if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fJavaType$TypeName) 
+    if (null == yyColumn.chunk2.fJavaType$TypeName) {
       yyColumn.chunk2.fJavaType$TypeName = pJavaType$TypeName$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(13, yyColumn.chunk2.fJavaType$TypeName);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(13, yyColumn.chunk2.fJavaType$TypeName);
+    }
     return yyColumn.chunk2.fJavaType$TypeName;
   }
 
@@ -4883,8 +5123,13 @@ public final class JeannieParser extends ParserBase {
   private Result pPrimitiveType(final int yyStart) throws IOException {
     JeannieParserColumn yyColumn = (JeannieParserColumn)column(yyStart);
     if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fPrimitiveType) 
+    if (null == yyColumn.chunk2.fPrimitiveType) {
       yyColumn.chunk2.fPrimitiveType = pPrimitiveType$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(14, yyColumn.chunk2.fPrimitiveType);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(14, yyColumn.chunk2.fPrimitiveType);
+    }
     return yyColumn.chunk2.fPrimitiveType;
   }
 
@@ -4901,7 +5146,7 @@ public final class JeannieParser extends ParserBase {
       final String v$g$1 = "byte";
 
       yyValue = GNode.create("PrimitiveType", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -4913,7 +5158,7 @@ public final class JeannieParser extends ParserBase {
       final String v$g$2 = "short";
 
       yyValue = GNode.create("PrimitiveType", v$g$2);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -4925,7 +5170,7 @@ public final class JeannieParser extends ParserBase {
       final String v$g$3 = "char";
 
       yyValue = GNode.create("PrimitiveType", v$g$3);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -4937,7 +5182,7 @@ public final class JeannieParser extends ParserBase {
       final String v$g$4 = "int";
 
       yyValue = GNode.create("PrimitiveType", v$g$4);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -4949,7 +5194,7 @@ public final class JeannieParser extends ParserBase {
       final String v$g$5 = "long";
 
       yyValue = GNode.create("PrimitiveType", v$g$5);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -4961,7 +5206,7 @@ public final class JeannieParser extends ParserBase {
       final String v$g$6 = "float";
 
       yyValue = GNode.create("PrimitiveType", v$g$6);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -4973,7 +5218,7 @@ public final class JeannieParser extends ParserBase {
       final String v$g$7 = "double";
 
       yyValue = GNode.create("PrimitiveType", v$g$7);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -4985,7 +5230,7 @@ public final class JeannieParser extends ParserBase {
       final String v$g$8 = "boolean";
 
       yyValue = GNode.create("PrimitiveType", v$g$8);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -5006,10 +5251,15 @@ public final class JeannieParser extends ParserBase {
    */
   private Result pDimensions(final int yyStart) throws IOException {
     JeannieParserColumn yyColumn = (JeannieParserColumn)column(yyStart);
-    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fDimensions) 
-      yyColumn.chunk2.fDimensions = pDimensions$1(yyStart);
-    return yyColumn.chunk2.fDimensions;
+    if (null == yyColumn.chunk5) yyColumn.chunk5 = new Chunk5();
+    if (null == yyColumn.chunk5.fDimensions) {
+      yyColumn.chunk5.fDimensions = pDimensions$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(15, yyColumn.chunk5.fDimensions);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(15, yyColumn.chunk5.fDimensions);
+    }
+    return yyColumn.chunk5.fDimensions;
   }
 
   /** Actually parse xtc.lang.JavaType.Dimensions. */
@@ -5026,7 +5276,7 @@ public final class JeannieParser extends ParserBase {
       final Pair<String> v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.createFromPair("Dimensions", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -5046,10 +5296,15 @@ public final class JeannieParser extends ParserBase {
    */
   private Result pDimensions$$Plus1(final int yyStart) throws IOException {
     JeannieParserColumn yyColumn = (JeannieParserColumn)column(yyStart);
-    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fDimensions$$Plus1) 
-      yyColumn.chunk2.fDimensions$$Plus1 = pDimensions$$Plus1$1(yyStart);
-    return yyColumn.chunk2.fDimensions$$Plus1;
+    if (null == yyColumn.chunk5) yyColumn.chunk5 = new Chunk5();
+    if (null == yyColumn.chunk5.fDimensions$$Plus1) {
+      yyColumn.chunk5.fDimensions$$Plus1 = pDimensions$$Plus1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(16, yyColumn.chunk5.fDimensions$$Plus1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(16, yyColumn.chunk5.fDimensions$$Plus1);
+    }
+    return yyColumn.chunk5.fDimensions$$Plus1;
   }
 
   /** Actually parse xtc.lang.jeannie.Jeannie.Dimensions$$Plus1. */
@@ -5112,63 +5367,102 @@ public final class JeannieParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
-    // Alternative <FloatingPoint>.
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '\"':
+      yyFirst = 0x8;
+      break;
 
-    yyResult = pFloatingPointLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+    case '\'':
+      yyFirst = 0x4;
+      break;
 
-      yyResult = pSpacing(yyResult.index);
+    case '.':
+      yyFirst = 0x1;
+      break;
+
+    case '0':
+    case '1':
+    case '2':
+    case '3':
+    case '4':
+    case '5':
+    case '6':
+    case '7':
+    case '8':
+    case '9':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
+    // Alternative <FloatingPoint>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
+
+      yyResult = pFloatingPointLiteral(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-        return yyResult.createValue(yyValue, yyError);
+        yyResult = pSpacing(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative <Integer>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pIntegerLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
-
-      yyResult = pSpacing(yyResult.index);
+      yyResult = pIntegerLiteral(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-        return yyResult.createValue(yyValue, yyError);
+        yyResult = pSpacing(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative <Character>.
+    if ((0 != (yyFirst & 0x4)) || (yyError.index < yyStart)) {
 
-    yyResult = pJavaConstant$CharacterLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
-
-      yyResult = pSpacing(yyResult.index);
+      yyResult = pJavaConstant$CharacterLiteral(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-        return yyResult.createValue(yyValue, yyError);
+        yyResult = pSpacing(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative <String>.
+    if ((0 != (yyFirst & 0x8)) || (yyError.index < yyStart)) {
 
-    yyResult = pJavaConstant$StringLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
-
-      yyResult = pSpacing(yyResult.index);
+      yyResult = pJavaConstant$StringLiteral(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-        return yyResult.createValue(yyValue, yyError);
+        yyResult = pSpacing(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
@@ -5179,7 +5473,7 @@ public final class JeannieParser extends ParserBase {
       final String v$g$1 = "true";
 
       yyValue = GNode.create("BooleanLiteral", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -5191,7 +5485,7 @@ public final class JeannieParser extends ParserBase {
       final String v$g$2 = "false";
 
       yyValue = GNode.create("BooleanLiteral", v$g$2);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -5202,7 +5496,7 @@ public final class JeannieParser extends ParserBase {
     if (yyResult.hasValue("null")) {
 
       yyValue = GNode.create("NullLiteral", false);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -5226,43 +5520,71 @@ public final class JeannieParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '0':
+      yyFirst = 0x7;
+      break;
+
+    case '1':
+    case '2':
+    case '3':
+    case '4':
+    case '5':
+    case '6':
+    case '7':
+    case '8':
+    case '9':
+      yyFirst = 0x4;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Hex>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pHexLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final String v$g$1 = yyResult.semanticValue();
+      yyResult = pHexLiteral(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final String v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerLiteral", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("IntegerLiteral", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Octal>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pOctalLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final String v$g$2 = yyResult.semanticValue();
+      yyResult = pOctalLiteral(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final String v$g$2 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerLiteral", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("IntegerLiteral", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Decimal>.
+    if ((0 != (yyFirst & 0x4)) || (yyError.index < yyStart)) {
 
-    yyResult = pDecimalLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final String v$g$3 = yyResult.semanticValue();
+      yyResult = pDecimalLiteral(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final String v$g$3 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerLiteral", v$g$3);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("IntegerLiteral", v$g$3);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -5437,7 +5759,8 @@ public final class JeannieParser extends ParserBase {
   private Result pDecimalNumeral(final int yyStart) throws IOException {
     int        yyC;
     int        yyIndex;
-    int        yyRepetition1;
+    Result     yyResult;
+    int        yyOption1;
     Void       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -5465,39 +5788,18 @@ public final class JeannieParser extends ParserBase {
       case '8':
       case '9':
         {
-          yyRepetition1 = yyIndex;
-          while (true) {
-
-            yyC = character(yyRepetition1);
-            if (-1 != yyC) {
-              yyIndex = yyRepetition1 + 1;
+          yyOption1  = yyIndex;
 
-              switch (yyC) {
-              case '0':
-              case '1':
-              case '2':
-              case '3':
-              case '4':
-              case '5':
-              case '6':
-              case '7':
-              case '8':
-              case '9':
-                {
-                  yyRepetition1 = yyIndex;
-                  continue;
-                }
+          yyResult = pDigits(yyOption1);
+          yyError  = yyResult.select(yyError, yyOption1);
+          if (yyResult.hasValue()) {
 
-              default:
-                /* No match. */
-              }
-            }
-            break;
+            yyOption1  = yyResult.index;
           }
 
           yyValue = null;
 
-          return new SemanticValue(yyValue, yyRepetition1, yyError);
+          return new SemanticValue(yyValue, yyOption1, yyError);
         }
 
       default:
@@ -5513,13 +5815,13 @@ public final class JeannieParser extends ParserBase {
   // =========================================================================
 
   /**
-   * Parse nonterminal xtc.lang.JavaConstant.HexNumeral.
+   * Parse nonterminal xtc.lang.JavaConstant.Digits.
    *
    * @param yyStart The index.
    * @return The result.
    * @throws IOException Signals an I/O error.
    */
-  private Result pHexNumeral(final int yyStart) throws IOException {
+  private Result pDigits(final int yyStart) throws IOException {
     int        yyC;
     int        yyIndex;
     int        yyRepetition1;
@@ -5529,96 +5831,63 @@ public final class JeannieParser extends ParserBase {
 
     // Alternative 1.
 
-    yyC = character(yyStart);
-    if ('0' == yyC) {
-      yyIndex = yyStart + 1;
+    yyRepetition1 = yyStart;
+    yyRepeated1   = false;
+    while (true) {
 
-      yyC = character(yyIndex);
+      yyC = character(yyRepetition1);
       if (-1 != yyC) {
-        yyIndex = yyIndex + 1;
+        yyIndex = yyRepetition1 + 1;
 
         switch (yyC) {
-        case 'X':
-        case 'x':
+        case '0':
+        case '1':
+        case '2':
+        case '3':
+        case '4':
+        case '5':
+        case '6':
+        case '7':
+        case '8':
+        case '9':
           {
             yyRepetition1 = yyIndex;
-            yyRepeated1   = false;
-            while (true) {
-
-              yyC = character(yyRepetition1);
-              if (-1 != yyC) {
-                yyIndex = yyRepetition1 + 1;
-
-                switch (yyC) {
-                case '0':
-                case '1':
-                case '2':
-                case '3':
-                case '4':
-                case '5':
-                case '6':
-                case '7':
-                case '8':
-                case '9':
-                case 'A':
-                case 'B':
-                case 'C':
-                case 'D':
-                case 'E':
-                case 'F':
-                case 'a':
-                case 'b':
-                case 'c':
-                case 'd':
-                case 'e':
-                case 'f':
-                  {
-                    yyRepetition1 = yyIndex;
-                    yyRepeated1   = true;
-                    continue;
-                  }
-
-                default:
-                  /* No match. */
-                }
-              }
-              break;
-            }
-
-            if (yyRepeated1) {
-
-              yyValue = null;
-
-              return new SemanticValue(yyValue, yyRepetition1, yyError);
-            }
+            yyRepeated1   = true;
+            continue;
           }
-          break;
 
         default:
           /* No match. */
         }
       }
+      break;
+    }
+
+    if (yyRepeated1) {
+
+      yyValue = null;
+
+      return new SemanticValue(yyValue, yyRepetition1, yyError);
     }
 
     // Done.
-    yyError = yyError.select("hex numeral expected", yyStart);
+    yyError = yyError.select("digits expected", yyStart);
     return yyError;
   }
 
   // =========================================================================
 
   /**
-   * Parse nonterminal xtc.lang.JavaConstant.OctalNumeral.
+   * Parse nonterminal xtc.lang.JavaConstant.HexNumeral.
    *
    * @param yyStart The index.
    * @return The result.
    * @throws IOException Signals an I/O error.
    */
-  private Result pOctalNumeral(final int yyStart) throws IOException {
+  private Result pHexNumeral(final int yyStart) throws IOException {
     int        yyC;
     int        yyIndex;
-    int        yyRepetition1;
-    boolean    yyRepeated1;
+    Result     yyResult;
     Void       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -5628,97 +5897,51 @@ public final class JeannieParser extends ParserBase {
     if ('0' == yyC) {
       yyIndex = yyStart + 1;
 
-      yyRepetition1 = yyIndex;
-      yyRepeated1   = false;
-      while (true) {
+      yyC = character(yyIndex);
+      if (-1 != yyC) {
+        yyIndex = yyIndex + 1;
 
-        yyC = character(yyRepetition1);
-        if (-1 != yyC) {
-          yyIndex = yyRepetition1 + 1;
+        switch (yyC) {
+        case 'X':
+        case 'x':
+          {
+            yyResult = pHexDigits(yyIndex);
+            yyError  = yyResult.select(yyError);
+            if (yyResult.hasValue()) {
 
-          switch (yyC) {
-          case '0':
-          case '1':
-          case '2':
-          case '3':
-          case '4':
-          case '5':
-          case '6':
-          case '7':
-            {
-              yyRepetition1 = yyIndex;
-              yyRepeated1   = true;
-              continue;
-            }
+              yyValue = null;
 
-          default:
-            /* No match. */
+              return yyResult.createValue(yyValue, yyError);
+            }
           }
-        }
-        break;
-      }
-
-      if (yyRepeated1) {
-
-        yyValue = null;
+          break;
 
-        return new SemanticValue(yyValue, yyRepetition1, yyError);
+        default:
+          /* No match. */
+        }
       }
     }
 
     // Done.
-    yyError = yyError.select("octal numeral expected", yyStart);
-    return yyError;
-  }
-
-  // =========================================================================
-
-  /**
-   * Parse nonterminal xtc.lang.JavaConstant.FloatingPointLiteral.
-   *
-   * @param yyStart The index.
-   * @return The result.
-   * @throws IOException Signals an I/O error.
-   */
-  private Result pFloatingPointLiteral(final int yyStart) throws IOException {
-    Result     yyResult;
-    Node       yyValue;
-    ParseError yyError = ParseError.DUMMY;
-
-    // Alternative 1.
-
-    yyResult = pFloatingPointString(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final String v$g$1 = yyResult.semanticValue();
-
-      yyValue = GNode.create("FloatingPointLiteral", v$g$1);
-      yyValue.setLocation(location(yyStart));
-
-      return yyResult.createValue(yyValue, yyError);
-    }
-
-    // Done.
+    yyError = yyError.select("hex numeral expected", yyStart);
     return yyError;
   }
 
   // =========================================================================
 
   /**
-   * Parse nonterminal xtc.lang.JavaConstant.FloatingPointString.
+   * Parse nonterminal xtc.lang.JavaConstant.HexDigits.
    *
    * @param yyStart The index.
    * @return The result.
    * @throws IOException Signals an I/O error.
    */
-  private Result pFloatingPointString(final int yyStart) throws IOException {
+  private Result pHexDigits(final int yyStart) throws IOException {
     int        yyC;
     int        yyIndex;
-    Result     yyResult;
     int        yyRepetition1;
     boolean    yyRepeated1;
-    int        yyOption1;
-    String     yyValue;
+    Void       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
     // Alternative 1.
@@ -5742,6 +5965,18 @@ public final class JeannieParser extends ParserBase {
         case '7':
         case '8':
         case '9':
+        case 'A':
+        case 'B':
+        case 'C':
+        case 'D':
+        case 'E':
+        case 'F':
+        case 'a':
+        case 'b':
+        case 'c':
+        case 'd':
+        case 'e':
+        case 'f':
           {
             yyRepetition1 = yyIndex;
             yyRepeated1   = true;
@@ -5757,151 +5992,71 @@ public final class JeannieParser extends ParserBase {
 
     if (yyRepeated1) {
 
-      yyC = character(yyRepetition1);
-      if ('.' == yyC) {
-        yyIndex = yyRepetition1 + 1;
+      yyValue = null;
 
-        yyRepetition1 = yyIndex;
-        while (true) {
+      return new SemanticValue(yyValue, yyRepetition1, yyError);
+    }
 
-          yyC = character(yyRepetition1);
-          if (-1 != yyC) {
-            yyIndex = yyRepetition1 + 1;
+    // Done.
+    yyError = yyError.select("hex digits expected", yyStart);
+    return yyError;
+  }
 
-            switch (yyC) {
-            case '0':
-            case '1':
-            case '2':
-            case '3':
-            case '4':
-            case '5':
-            case '6':
-            case '7':
-            case '8':
-            case '9':
-              {
-                yyRepetition1 = yyIndex;
-                continue;
-              }
-
-            default:
-              /* No match. */
-            }
-          }
-          break;
-        }
-
-        yyOption1  = yyRepetition1;
-
-        yyResult = pJavaConstant$Exponent(yyOption1);
-        yyError  = yyResult.select(yyError, yyOption1);
-        if (yyResult.hasValue()) {
-
-          yyOption1  = yyResult.index;
-        }
-
-
-        yyC = character(yyOption1);
-        if (-1 != yyC) {
-          yyIndex = yyOption1 + 1;
-
-          switch (yyC) {
-          case 'D':
-          case 'F':
-          case 'd':
-          case 'f':
-            {
-              yyOption1  = yyIndex;
-            }
-            break;
-
-          default:
-            /* No match. */
-          }
-        }
-
-        yyValue = difference(yyStart, yyOption1);
+  // =========================================================================
 
-        return new SemanticValue(yyValue, yyOption1, yyError);
-      }
-    }
+  /**
+   * Parse nonterminal xtc.lang.JavaConstant.OctalNumeral.
+   *
+   * @param yyStart The index.
+   * @return The result.
+   * @throws IOException Signals an I/O error.
+   */
+  private Result pOctalNumeral(final int yyStart) throws IOException {
+    int        yyC;
+    int        yyIndex;
+    Result     yyResult;
+    Void       yyValue;
+    ParseError yyError = ParseError.DUMMY;
 
-    // Alternative 2.
+    // Alternative 1.
 
     yyC = character(yyStart);
-    if ('.' == yyC) {
+    if ('0' == yyC) {
       yyIndex = yyStart + 1;
 
-      yyRepetition1 = yyIndex;
-      yyRepeated1   = false;
-      while (true) {
-
-        yyC = character(yyRepetition1);
-        if (-1 != yyC) {
-          yyIndex = yyRepetition1 + 1;
+      yyResult = pOctalDigits(yyIndex);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
 
-          switch (yyC) {
-          case '0':
-          case '1':
-          case '2':
-          case '3':
-          case '4':
-          case '5':
-          case '6':
-          case '7':
-          case '8':
-          case '9':
-            {
-              yyRepetition1 = yyIndex;
-              yyRepeated1   = true;
-              continue;
-            }
+        yyValue = null;
 
-          default:
-            /* No match. */
-          }
-        }
-        break;
+        return yyResult.createValue(yyValue, yyError);
       }
+    }
 
-      if (yyRepeated1) {
-
-        yyOption1  = yyRepetition1;
-
-        yyResult = pJavaConstant$Exponent(yyOption1);
-        yyError  = yyResult.select(yyError, yyOption1);
-        if (yyResult.hasValue()) {
-
-          yyOption1  = yyResult.index;
-        }
-
-
-        yyC = character(yyOption1);
-        if (-1 != yyC) {
-          yyIndex = yyOption1 + 1;
-
-          switch (yyC) {
-          case 'D':
-          case 'F':
-          case 'd':
-          case 'f':
-            {
-              yyOption1  = yyIndex;
-            }
-            break;
-
-          default:
-            /* No match. */
-          }
-        }
+    // Done.
+    yyError = yyError.select("octal numeral expected", yyStart);
+    return yyError;
+  }
 
-        yyValue = difference(yyStart, yyOption1);
+  // =========================================================================
 
-        return new SemanticValue(yyValue, yyOption1, yyError);
-      }
-    }
+  /**
+   * Parse nonterminal xtc.lang.JavaConstant.OctalDigits.
+   *
+   * @param yyStart The index.
+   * @return The result.
+   * @throws IOException Signals an I/O error.
+   */
+  private Result pOctalDigits(final int yyStart) throws IOException {
+    int        yyC;
+    int        yyIndex;
+    int        yyRepetition1;
+    boolean    yyRepeated1;
+    Void       yyValue;
+    ParseError yyError = ParseError.DUMMY;
 
-    // Alternative 3.
+    // Alternative 1.
 
     yyRepetition1 = yyStart;
     yyRepeated1   = false;
@@ -5920,8 +6075,6 @@ public final class JeannieParser extends ParserBase {
         case '5':
         case '6':
         case '7':
-        case '8':
-        case '9':
           {
             yyRepetition1 = yyIndex;
             yyRepeated1   = true;
@@ -5937,68 +6090,259 @@ public final class JeannieParser extends ParserBase {
 
     if (yyRepeated1) {
 
-      final int yyChoice1 = yyRepetition1;
+      yyValue = null;
 
-      // Nested alternative 1.
+      return new SemanticValue(yyValue, yyRepetition1, yyError);
+    }
+
+    // Done.
+    yyError = yyError.select("octal digits expected", yyStart);
+    return yyError;
+  }
+
+  // =========================================================================
 
-      yyResult = pJavaConstant$Exponent(yyChoice1);
+  /**
+   * Parse nonterminal xtc.lang.JavaConstant.FloatingPointLiteral.
+   *
+   * @param yyStart The index.
+   * @return The result.
+   * @throws IOException Signals an I/O error.
+   */
+  private Result pFloatingPointLiteral(final int yyStart) throws IOException {
+    Result     yyResult;
+    Node       yyValue;
+    ParseError yyError = ParseError.DUMMY;
+
+    // Alternative 1.
+
+    yyResult = pFloatingPointString(yyStart);
+    yyError  = yyResult.select(yyError);
+    if (yyResult.hasValue()) {
+      final String v$g$1 = yyResult.semanticValue();
+
+      yyValue = GNode.create("FloatingPointLiteral", v$g$1);
+      locate(yyValue, yyStart);
+
+      return yyResult.createValue(yyValue, yyError);
+    }
+
+    // Done.
+    return yyError;
+  }
+
+  // =========================================================================
+
+  /**
+   * Parse nonterminal xtc.lang.JavaConstant.FloatingPointString.
+   *
+   * @param yyStart The index.
+   * @return The result.
+   * @throws IOException Signals an I/O error.
+   */
+  private Result pFloatingPointString(final int yyStart) throws IOException {
+    int        yyC;
+    int        yyIndex;
+    Result     yyResult;
+    int        yyOption1;
+    String     yyValue;
+    ParseError yyError = ParseError.DUMMY;
+
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '.':
+      yyFirst = 0x2;
+      break;
+
+    case '0':
+    case '1':
+    case '2':
+    case '3':
+    case '4':
+    case '5':
+    case '6':
+    case '7':
+    case '8':
+    case '9':
+      yyFirst = 0x5;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
+    // Alternative 1.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
+
+      yyResult = pDigits(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
 
-        yyOption1  = yyResult.index;
+        yyC = character(yyResult.index);
+        if ('.' == yyC) {
+          yyIndex = yyResult.index + 1;
 
-        yyC = character(yyOption1);
-        if (-1 != yyC) {
-          yyIndex = yyOption1 + 1;
+          yyOption1  = yyIndex;
 
-          switch (yyC) {
-          case 'D':
-          case 'F':
-          case 'd':
-          case 'f':
-            {
-              yyOption1  = yyIndex;
-            }
-            break;
+          yyResult = pDigits(yyOption1);
+          yyError  = yyResult.select(yyError, yyOption1);
+          if (yyResult.hasValue()) {
 
-          default:
-            /* No match. */
+            yyOption1  = yyResult.index;
           }
-        }
 
-        yyValue = difference(yyStart, yyOption1);
 
-        return new SemanticValue(yyValue, yyOption1, yyError);
+          yyResult = pJavaConstant$Exponent(yyOption1);
+          yyError  = yyResult.select(yyError, yyOption1);
+          if (yyResult.hasValue()) {
+
+            yyOption1  = yyResult.index;
+          }
+
+
+          yyC = character(yyOption1);
+          if (-1 != yyC) {
+            yyIndex = yyOption1 + 1;
+
+            switch (yyC) {
+            case 'D':
+            case 'F':
+            case 'd':
+            case 'f':
+              {
+                yyOption1  = yyIndex;
+              }
+              break;
+
+            default:
+              /* No match. */
+            }
+          }
+
+          yyValue = difference(yyStart, yyOption1);
+
+          return new SemanticValue(yyValue, yyOption1, yyError);
+        }
       }
+    }
 
-      // Nested alternative 2.
+    // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-      yyOption1  = yyChoice1;
+      yyC = character(yyStart);
+      if ('.' == yyC) {
+        yyIndex = yyStart + 1;
 
-      yyResult = pJavaConstant$Exponent(yyOption1);
-      yyError  = yyResult.select(yyError, yyOption1);
-      if (yyResult.hasValue()) {
+        yyResult = pDigits(yyIndex);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
 
-        yyOption1  = yyResult.index;
+          yyOption1  = yyResult.index;
+
+          yyResult = pJavaConstant$Exponent(yyOption1);
+          yyError  = yyResult.select(yyError, yyOption1);
+          if (yyResult.hasValue()) {
+
+            yyOption1  = yyResult.index;
+          }
+
+
+          yyC = character(yyOption1);
+          if (-1 != yyC) {
+            yyIndex = yyOption1 + 1;
+
+            switch (yyC) {
+            case 'D':
+            case 'F':
+            case 'd':
+            case 'f':
+              {
+                yyOption1  = yyIndex;
+              }
+              break;
+
+            default:
+              /* No match. */
+            }
+          }
+
+          yyValue = difference(yyStart, yyOption1);
+
+          return new SemanticValue(yyValue, yyOption1, yyError);
+        }
       }
+    }
 
-      yyC = character(yyOption1);
-      if (-1 != yyC) {
-        yyIndex = yyOption1 + 1;
+    // Alternative 3.
+    if ((0 != (yyFirst & 0x4)) || (yyError.index < yyStart)) {
 
-        switch (yyC) {
-        case 'D':
-        case 'F':
-        case 'd':
-        case 'f':
-          {
-            yyValue = difference(yyStart, yyIndex);
+      yyResult = pDigits(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
 
-            return new SemanticValue(yyValue, yyIndex, yyError);
+        final int yyChoice1 = yyResult.index;
+
+        // Nested alternative 1.
+
+        yyResult = pJavaConstant$Exponent(yyChoice1);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+
+          yyOption1  = yyResult.index;
+
+          yyC = character(yyOption1);
+          if (-1 != yyC) {
+            yyIndex = yyOption1 + 1;
+
+            switch (yyC) {
+            case 'D':
+            case 'F':
+            case 'd':
+            case 'f':
+              {
+                yyOption1  = yyIndex;
+              }
+              break;
+
+            default:
+              /* No match. */
+            }
           }
 
-        default:
-          /* No match. */
+          yyValue = difference(yyStart, yyOption1);
+
+          return new SemanticValue(yyValue, yyOption1, yyError);
+        }
+
+        // Nested alternative 2.
+
+        yyOption1  = yyChoice1;
+
+        yyResult = pJavaConstant$Exponent(yyOption1);
+        yyError  = yyResult.select(yyError, yyOption1);
+        if (yyResult.hasValue()) {
+
+          yyOption1  = yyResult.index;
+        }
+
+        yyC = character(yyOption1);
+        if (-1 != yyC) {
+          yyIndex = yyOption1 + 1;
+
+          switch (yyC) {
+          case 'D':
+          case 'F':
+          case 'd':
+          case 'f':
+            {
+              yyValue = difference(yyStart, yyIndex);
+
+              return new SemanticValue(yyValue, yyIndex, yyError);
+            }
+
+          default:
+            /* No match. */
+          }
         }
       }
     }
@@ -6022,8 +6366,7 @@ public final class JeannieParser extends ParserBase {
 
     int        yyC;
     int        yyIndex;
-    int        yyRepetition1;
-    boolean    yyRepeated1;
+    Result     yyResult;
     int        yyOption1;
     Void       yyValue;
     ParseError yyError = ParseError.DUMMY;
@@ -6057,43 +6400,13 @@ public final class JeannieParser extends ParserBase {
             }
           }
 
-          yyRepetition1 = yyOption1;
-          yyRepeated1   = false;
-          while (true) {
-
-            yyC = character(yyRepetition1);
-            if (-1 != yyC) {
-              yyIndex = yyRepetition1 + 1;
-
-              switch (yyC) {
-              case '0':
-              case '1':
-              case '2':
-              case '3':
-              case '4':
-              case '5':
-              case '6':
-              case '7':
-              case '8':
-              case '9':
-                {
-                  yyRepetition1 = yyIndex;
-                  yyRepeated1   = true;
-                  continue;
-                }
-
-              default:
-                /* No match. */
-              }
-            }
-            break;
-          }
-
-          if (yyRepeated1) {
+          yyResult = pDigits(yyOption1);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
 
             yyValue = null;
 
-            return new SemanticValue(yyValue, yyRepetition1, yyError);
+            return yyResult.createValue(yyValue, yyError);
           }
         }
         break;
@@ -6132,7 +6445,7 @@ public final class JeannieParser extends ParserBase {
       final String v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.create("CharacterLiteral", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -6165,7 +6478,7 @@ public final class JeannieParser extends ParserBase {
       final String v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.create("StringLiteral", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -6968,8 +7281,13 @@ public final class JeannieParser extends ParserBase {
   private Result pQualifiedIdentifier(final int yyStart) throws IOException {
     JeannieParserColumn yyColumn = (JeannieParserColumn)column(yyStart);
     if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fQualifiedIdentifier) 
+    if (null == yyColumn.chunk2.fQualifiedIdentifier) {
       yyColumn.chunk2.fQualifiedIdentifier = pQualifiedIdentifier$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(17, yyColumn.chunk2.fQualifiedIdentifier);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(17, yyColumn.chunk2.fQualifiedIdentifier);
+    }
     return yyColumn.chunk2.fQualifiedIdentifier;
   }
 
@@ -6994,7 +7312,7 @@ public final class JeannieParser extends ParserBase {
         final Pair<String> v$g$2 = yyResult.semanticValue();
 
         yyValue = GNode.createFromPair("QualifiedIdentifier", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -7018,10 +7336,16 @@ public final class JeannieParser extends ParserBase {
     throws IOException {
 
     JeannieParserColumn yyColumn = (JeannieParserColumn)column(yyStart);
-    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fQualifiedIdentifier$$Star1) 
-      yyColumn.chunk2.fQualifiedIdentifier$$Star1 = pQualifiedIdentifier$$Star1$1(yyStart);
-    return yyColumn.chunk2.fQualifiedIdentifier$$Star1;
+    if (null == yyColumn.chunk6) yyColumn.chunk6 = new Chunk6();
+    if (null == yyColumn.chunk6.fQualifiedIdentifier$$Star1) {
+      yyColumn.chunk6.fQualifiedIdentifier$$Star1 = 
+        pQualifiedIdentifier$$Star1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(18, yyColumn.chunk6.fQualifiedIdentifier$$Star1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(18, yyColumn.chunk6.fQualifiedIdentifier$$Star1);
+    }
+    return yyColumn.chunk6.fQualifiedIdentifier$$Star1;
   }
 
   /** Actually parse xtc.lang.jeannie.Jeannie.QualifiedIdentifier$$Star1. */
@@ -7075,8 +7399,14 @@ public final class JeannieParser extends ParserBase {
 
     JeannieParserColumn yyColumn = (JeannieParserColumn)column(yyStart);
     if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fJavaIdentifier$Identifier) 
-      yyColumn.chunk2.fJavaIdentifier$Identifier = pJavaIdentifier$Identifier$1(yyStart);
+    if (null == yyColumn.chunk2.fJavaIdentifier$Identifier) {
+      yyColumn.chunk2.fJavaIdentifier$Identifier = 
+        pJavaIdentifier$Identifier$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(19, yyColumn.chunk2.fJavaIdentifier$Identifier);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(19, yyColumn.chunk2.fJavaIdentifier$Identifier);
+    }
     return yyColumn.chunk2.fJavaIdentifier$Identifier;
   }
 
@@ -7117,10 +7447,15 @@ public final class JeannieParser extends ParserBase {
    */
   private Result pJavaIdentifier$Word(final int yyStart) throws IOException {
     JeannieParserColumn yyColumn = (JeannieParserColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fJavaIdentifier$Word) 
-      yyColumn.chunk3.fJavaIdentifier$Word = pJavaIdentifier$Word$1(yyStart);
-    return yyColumn.chunk3.fJavaIdentifier$Word;
+    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
+    if (null == yyColumn.chunk2.fJavaIdentifier$Word) {
+      yyColumn.chunk2.fJavaIdentifier$Word = pJavaIdentifier$Word$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(20, yyColumn.chunk2.fJavaIdentifier$Word);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(20, yyColumn.chunk2.fJavaIdentifier$Word);
+    }
+    return yyColumn.chunk2.fJavaIdentifier$Word;
   }
 
   /** Actually parse xtc.lang.JavaIdentifier.Word. */
@@ -7217,7 +7552,8 @@ public final class JeannieParser extends ParserBase {
   private Result pTranslationUnit(final int yyStart) throws IOException {
     Result     yyResult;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     int        yyOption1;
     Node       yyOpValue1;
     Node       yyValue;
@@ -7248,7 +7584,8 @@ public final class JeannieParser extends ParserBase {
           final Node v$g$1 = yyOpValue1;
 
           yyRepetition1 = yyOption1;
-          yyRepValue1   = Pair.empty();
+          yyRepStart1   = bufferStart();
+          yyRepEnd1   = yyRepStart1;
           while (true) {
 
             yyResult = pExternalDeclaration(yyRepetition1);
@@ -7257,13 +7594,14 @@ public final class JeannieParser extends ParserBase {
               final Node v$el$2 = yyResult.semanticValue();
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$2, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$2);
               continue;
             }
             break;
           }
           { // Start scope for v$g$2.
-            final Pair<Node> v$g$2 = yyRepValue1.reverse();
+            final int v$g$2 = yyRepStart1;
+            final int v$g$2$end = yyRepEnd1;
 
             yyResult = pAnnotations(yyRepetition1);
             yyError  = yyResult.select(yyError);
@@ -7274,13 +7612,16 @@ public final class JeannieParser extends ParserBase {
               yyError  = yyResult.select(yyError);
               if (yyResult.hasValue()) {
 
-                yyValue = GNode.create("TranslationUnit", v$g$2.size() + 2).
-                  add(v$g$1).addAll(v$g$2).add(v$g$3);
-                yyValue.setLocation(location(yyStart));
+                yyValue = GNode.create("TranslationUnit", (v$g$2$end - v$g$2) + 2).
+                  add(v$g$1);
+                addBuffered(yyValue, v$g$2, v$g$2$end);
+                yyValue.add(v$g$3);
+                locate(yyValue, yyStart);
 
                 return yyResult.createValue(yyValue, yyError);
               }
             }
+            releaseBuffer(v$g$2);
           } // End scope for v$g$2.
         } // End scope for v$g$1.
       }
@@ -7305,7 +7646,7 @@ public final class JeannieParser extends ParserBase {
     ParseError yyError = ParseError.DUMMY;
 
     // Reset the global state object.
-    yyState.reset(column(yyStart).file);
+    yyState.reset(fileAt(yyStart));
 
     // Alternative 1.
 
@@ -7339,8 +7680,13 @@ public final class JeannieParser extends ParserBase {
   private Result pExternalDeclaration(final int yyStart) throws IOException {
     JeannieParserColumn yyColumn = (JeannieParserColumn)column(yyStart);
     if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fExternalDeclaration) 
+    if (null == yyColumn.chunk3.fExternalDeclaration) {
       yyColumn.chunk3.fExternalDeclaration = pExternalDeclaration$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(21, yyColumn.chunk3.fExternalDeclaration);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(21, yyColumn.chunk3.fExternalDeclaration);
+    }
     return yyColumn.chunk3.fExternalDeclaration;
   }
 
@@ -7355,6 +7701,96 @@ public final class JeannieParser extends ParserBase {
     // Start a state modification.
     yyState.start();
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '`':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x5;
+      break;
+
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Declaration>.
 
     yyState.mark();
@@ -7374,51 +7810,57 @@ public final class JeannieParser extends ParserBase {
     }
 
     // Alternative <Function>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pFunctionDefinition(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final Node fd = yyResult.semanticValue();
+      yyResult = pFunctionDefinition(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final Node fd = yyResult.semanticValue();
 
-      yyValue = yyState.annotate(fd);
+        yyValue = yyState.annotate(fd);
 
-      // Commit the state modification.
-      yyState.commit();
+        // Commit the state modification.
+        yyState.commit();
 
-      setLocation(yyValue, yyStart);
-      return yyResult.createValue(yyValue, yyError);
+        setLocation(yyValue, yyStart);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Assembly>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pAssemblyDefinition(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final Node a = yyResult.semanticValue();
+      yyResult = pAssemblyDefinition(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final Node a = yyResult.semanticValue();
 
-      yyValue = yyState.annotate(a);
+        yyValue = yyState.annotate(a);
 
-      // Commit the state modification.
-      yyState.commit();
+        // Commit the state modification.
+        yyState.commit();
 
-      setLocation(yyValue, yyStart);
-      return yyResult.createValue(yyValue, yyError);
+        setLocation(yyValue, yyStart);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Empty>.
+    if ((0 != (yyFirst & 0x4)) || (yyError.index < yyStart)) {
 
-    yyResult = pEmptyDefinition(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final Node e = yyResult.semanticValue();
+      yyResult = pEmptyDefinition(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final Node e = yyResult.semanticValue();
 
-      yyValue = yyState.annotate(e);
+        yyValue = yyState.annotate(e);
 
-      // Commit the state modification.
-      yyState.commit();
+        // Commit the state modification.
+        yyState.commit();
 
-      setLocation(yyValue, yyStart);
-      return yyResult.createValue(yyValue, yyError);
+        setLocation(yyValue, yyStart);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Abort the state modification.
@@ -7505,7 +7947,7 @@ public final class JeannieParser extends ParserBase {
                 final Node v$g$5 = yyResult.semanticValue();
 
                 yyValue = GNode.create("FunctionDefinition", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return yyResult.createValue(yyValue, yyError);
               }
@@ -7532,7 +7974,8 @@ public final class JeannieParser extends ParserBase {
     Result     yyResult;
     int        yyRepetition1;
     boolean    yyRepeated1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -7540,7 +7983,8 @@ public final class JeannieParser extends ParserBase {
 
     yyRepetition1 = yyStart;
     yyRepeated1   = false;
-    yyRepValue1   = Pair.empty();
+    yyRepStart1   = bufferStart();
+    yyRepEnd1   = yyRepStart1;
     while (true) {
 
       yyResult = pDeclarationListEntry(yyRepetition1);
@@ -7550,17 +7994,18 @@ public final class JeannieParser extends ParserBase {
 
         yyRepetition1 = yyResult.index;
         yyRepeated1   = true;
-        yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+        yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
         continue;
       }
       break;
     }
 
     if (yyRepeated1) {
-      final Pair<Node> v$g$1 = yyRepValue1.reverse();
+      final int v$g$1 = yyRepStart1;
+      final int v$g$1$end = yyRepEnd1;
 
-      yyValue = GNode.createFromPair("DeclarationList", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      yyValue = bufferedNode("DeclarationList", v$g$1, v$g$1$end);
+      locate(yyValue, yyStart);
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
     }
@@ -7626,7 +8071,7 @@ public final class JeannieParser extends ParserBase {
     if (yyResult.hasValue(";")) {
 
       yyValue = GNode.create("EmptyDefinition", false);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -7725,7 +8170,7 @@ public final class JeannieParser extends ParserBase {
             if (yyResult.hasValue(";")) {
 
               yyValue = GNode.create("Declaration", v$g$1, v$g$2, l);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             } else {
@@ -7755,8 +8200,14 @@ public final class JeannieParser extends ParserBase {
 
     JeannieParserColumn yyColumn = (JeannieParserColumn)column(yyStart);
     if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fDeclarationSpecifiers) 
-      yyColumn.chunk3.fDeclarationSpecifiers = pDeclarationSpecifiers$1(yyStart);
+    if (null == yyColumn.chunk3.fDeclarationSpecifiers) {
+      yyColumn.chunk3.fDeclarationSpecifiers = 
+        pDeclarationSpecifiers$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(22, yyColumn.chunk3.fDeclarationSpecifiers);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(22, yyColumn.chunk3.fDeclarationSpecifiers);
+    }
     return yyColumn.chunk3.fDeclarationSpecifiers;
   }
 
@@ -7776,7 +8227,7 @@ public final class JeannieParser extends ParserBase {
       final Pair<Node> v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.createFromPair("DeclarationSpecifiers", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -7848,85 +8299,189 @@ public final class JeannieParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
-    // Alternative <StorageClass>.
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '`':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x2;
+      break;
 
-    yyResult = pStorageClassSpecifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x7f;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
+    // Alternative <StorageClass>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-      return yyResult.createValue(yyValue, yyError);
+      yyResult = pStorageClassSpecifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
+
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <TypeSpecifier>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pTypeSpecifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
-
-      yyResult = pTypeSpecContext(yyResult.index);
+      yyResult = pTypeSpecifier(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-        return yyResult.createValue(yyValue, yyError);
+        yyResult = pTypeSpecContext(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative <TypeQualifier>.
+    if ((0 != (yyFirst & 0x4)) || (yyError.index < yyStart)) {
 
-    yyResult = pTypeQualifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pTypeQualifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 4.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("inline")) {
-      final String v$g$1 = "inline";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("inline")) {
+        final String v$g$1 = "inline";
 
-      yyValue = GNode.create("FunctionSpecifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("FunctionSpecifier", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 5.
+    if (0 != (yyFirst & 0x10)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__inline")) {
-      final String v$g$2 = "__inline";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__inline")) {
+        final String v$g$2 = "__inline";
 
-      yyValue = GNode.create("FunctionSpecifier", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("FunctionSpecifier", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 6.
+    if (0 != (yyFirst & 0x20)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__inline__")) {
-      final String v$g$3 = "__inline__";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__inline__")) {
+        final String v$g$3 = "__inline__";
 
-      yyValue = GNode.create("FunctionSpecifier", v$g$3);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("FunctionSpecifier", v$g$3);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Attribute>.
+    if ((0 != (yyFirst & 0x40)) || (yyError.index < yyStart)) {
 
-    yyResult = pAttributeSpecifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pAttributeSpecifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -7947,10 +8502,16 @@ public final class JeannieParser extends ParserBase {
     throws IOException {
 
     JeannieParserColumn yyColumn = (JeannieParserColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fInitializedDeclaratorList) 
-      yyColumn.chunk3.fInitializedDeclaratorList = pInitializedDeclaratorList$1(yyStart);
-    return yyColumn.chunk3.fInitializedDeclaratorList;
+    if (null == yyColumn.chunk6) yyColumn.chunk6 = new Chunk6();
+    if (null == yyColumn.chunk6.fInitializedDeclaratorList) {
+      yyColumn.chunk6.fInitializedDeclaratorList = 
+        pInitializedDeclaratorList$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(23, yyColumn.chunk6.fInitializedDeclaratorList);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(23, yyColumn.chunk6.fInitializedDeclaratorList);
+    }
+    return yyColumn.chunk6.fInitializedDeclaratorList;
   }
 
   /** Actually parse xtc.lang.jeannie.JeannieC.InitializedDeclaratorList. */
@@ -7974,7 +8535,7 @@ public final class JeannieParser extends ParserBase {
         final Pair<Node> v$g$2 = yyResult.semanticValue();
 
         yyValue = GNode.createFromPair("InitializedDeclaratorList", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -7998,10 +8559,16 @@ public final class JeannieParser extends ParserBase {
     throws IOException {
 
     JeannieParserColumn yyColumn = (JeannieParserColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fInitializedDeclaratorList$$Star1) 
-      yyColumn.chunk3.fInitializedDeclaratorList$$Star1 = pInitializedDeclaratorList$$Star1$1(yyStart);
-    return yyColumn.chunk3.fInitializedDeclaratorList$$Star1;
+    if (null == yyColumn.chunk6) yyColumn.chunk6 = new Chunk6();
+    if (null == yyColumn.chunk6.fInitializedDeclaratorList$$Star1) {
+      yyColumn.chunk6.fInitializedDeclaratorList$$Star1 = 
+        pInitializedDeclaratorList$$Star1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(24, yyColumn.chunk6.fInitializedDeclaratorList$$Star1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(24, yyColumn.chunk6.fInitializedDeclaratorList$$Star1);
+    }
+    return yyColumn.chunk6.fInitializedDeclaratorList$$Star1;
   }
 
   /** Actually parse xtc.lang.jeannie.Jeannie.InitializedDeclaratorList$$Star1. */
@@ -8129,7 +8696,7 @@ public final class JeannieParser extends ParserBase {
               final Node v$g$5 = yyOpValue1;
 
               yyValue = GNode.create("InitializedDeclarator", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return new SemanticValue(yyValue, yyOption1, yyError);
             } // End scope for v$g$5.
@@ -8158,74 +8725,148 @@ public final class JeannieParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x3f;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("auto")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("auto")) {
 
-      yyValue = GNode.create("AutoSpecifier", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("AutoSpecifier", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("extern")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("extern")) {
 
-      yyValue = GNode.create("ExternSpecifier", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("ExternSpecifier", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("register")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("register")) {
 
-      yyValue = GNode.create("RegisterSpecifier", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("RegisterSpecifier", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 4.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("static")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("static")) {
 
-      yyValue = GNode.create("StaticSpecifier", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("StaticSpecifier", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 5.
+    if (0 != (yyFirst & 0x10)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__thread")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__thread")) {
 
-      yyValue = GNode.create("ThreadSpecifier", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("ThreadSpecifier", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 6.
+    if (0 != (yyFirst & 0x20)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("typedef")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("typedef")) {
 
-      yyResult = pTypedefContext(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
+        yyResult = pTypedefContext(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
 
-        yyValue = GNode.create("TypedefSpecifier", false);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("TypedefSpecifier", false);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
@@ -8248,112 +8889,192 @@ public final class JeannieParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x1ff;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("volatile")) {
-      final String v$g$1 = "volatile";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("volatile")) {
+        final String v$g$1 = "volatile";
 
-      yyValue = GNode.create("VolatileQualifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("VolatileQualifier", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__volatile")) {
-      final String v$g$2 = "__volatile";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__volatile")) {
+        final String v$g$2 = "__volatile";
 
-      yyValue = GNode.create("VolatileQualifier", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("VolatileQualifier", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__volatile__")) {
-      final String v$g$3 = "__volatile__";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__volatile__")) {
+        final String v$g$3 = "__volatile__";
 
-      yyValue = GNode.create("VolatileQualifier", v$g$3);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("VolatileQualifier", v$g$3);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 4.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("const")) {
-      final String v$g$1 = "const";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("const")) {
+        final String v$g$1 = "const";
 
-      yyValue = GNode.create("ConstantQualifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("ConstantQualifier", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 5.
+    if (0 != (yyFirst & 0x10)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__const")) {
-      final String v$g$2 = "__const";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__const")) {
+        final String v$g$2 = "__const";
 
-      yyValue = GNode.create("ConstantQualifier", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("ConstantQualifier", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 6.
+    if (0 != (yyFirst & 0x20)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__const__")) {
-      final String v$g$3 = "__const__";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__const__")) {
+        final String v$g$3 = "__const__";
 
-      yyValue = GNode.create("ConstantQualifier", v$g$3);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("ConstantQualifier", v$g$3);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 7.
+    if (0 != (yyFirst & 0x40)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("restrict")) {
-      final String v$g$1 = "restrict";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("restrict")) {
+        final String v$g$1 = "restrict";
 
-      yyValue = GNode.create("RestrictQualifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("RestrictQualifier", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 8.
+    if (0 != (yyFirst & 0x80)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__restrict")) {
-      final String v$g$2 = "__restrict";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__restrict")) {
+        final String v$g$2 = "__restrict";
 
-      yyValue = GNode.create("RestrictQualifier", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("RestrictQualifier", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 9.
+    if (0 != (yyFirst & 0x100)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__restrict__")) {
-      final String v$g$3 = "__restrict__";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__restrict__")) {
+        final String v$g$3 = "__restrict__";
 
-      yyValue = GNode.create("RestrictQualifier", v$g$3);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("RestrictQualifier", v$g$3);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -8376,158 +9097,268 @@ public final class JeannieParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '`':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x20;
+      break;
+
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x3df;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Enumeration>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pEnumerationTypeSpecifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pEnumerationTypeSpecifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Structure>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pStructureTypeSpecifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pStructureTypeSpecifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Union>.
+    if ((0 != (yyFirst & 0x4)) || (yyError.index < yyStart)) {
 
-    yyResult = pUnionTypeSpecifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pUnionTypeSpecifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Floating>.
+    if ((0 != (yyFirst & 0x8)) || (yyError.index < yyStart)) {
 
-    yyResult = pFloatingPointTypeSpecifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pFloatingPointTypeSpecifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Integer>.
+    if ((0 != (yyFirst & 0x10)) || (yyError.index < yyStart)) {
 
-    yyResult = pIntegerTypeSpecifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pIntegerTypeSpecifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <JavaTyp>.
+    if ((0 != (yyFirst & 0x20)) || (yyError.index < yyStart)) {
 
-    yyResult = pJavaType(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pJavaType(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 7.
+    if ((0 != (yyFirst & 0x40)) || (yyError.index < yyStart)) {
 
-    yyResult = pCIdentifier$Identifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final String id = yyResult.semanticValue();
+      yyResult = pCIdentifier$Identifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final String id = yyResult.semanticValue();
 
-      if (yyState.isType(toText(id))) {
+        if (yyState.isType(toText(id))) {
 
-        yyValue = GNode.create("TypedefName", id);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("TypedefName", id);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 8.
+    if ((0 != (yyFirst & 0x80)) || (yyError.index < yyStart)) {
 
-    yyResult = pTypeofKeyword(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
+      yyResult = pTypeofKeyword(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
 
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue("(")) {
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue("(")) {
 
-        final int yyChoice1 = yyResult.index;
+          final int yyChoice1 = yyResult.index;
 
-        // Nested alternative 1.
+          // Nested alternative 1.
 
-        yyResult = pJeannieC$TypeName(yyChoice1);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$g$1 = yyResult.semanticValue();
+          yyResult = pJeannieC$TypeName(yyChoice1);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Node v$g$1 = yyResult.semanticValue();
 
-          yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue(")")) {
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue(")")) {
 
-            yyValue = GNode.create("TypeofSpecifier", v$g$1);
-            yyValue.setLocation(location(yyStart));
+              yyValue = GNode.create("TypeofSpecifier", v$g$1);
+              locate(yyValue, yyStart);
 
-            return yyResult.createValue(yyValue, yyError);
-          } else {
-            yyError = yyError.select("')' expected", yyBase);
+              return yyResult.createValue(yyValue, yyError);
+            } else {
+              yyError = yyError.select("')' expected", yyBase);
+            }
           }
-        }
-
-        // Nested alternative 2.
 
-        yyResult = pCommaExpression(yyChoice1);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$g$2 = yyResult.semanticValue();
+          // Nested alternative 2.
 
-          yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue(")")) {
+          yyResult = pCommaExpression(yyChoice1);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Node v$g$2 = yyResult.semanticValue();
+
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue(")")) {
 
-            yyValue = GNode.create("TypeofSpecifier", v$g$2);
-            yyValue.setLocation(location(yyStart));
+              yyValue = GNode.create("TypeofSpecifier", v$g$2);
+              locate(yyValue, yyStart);
 
-            return yyResult.createValue(yyValue, yyError);
-          } else {
-            yyError = yyError.select("')' expected", yyBase);
+              return yyResult.createValue(yyValue, yyError);
+            } else {
+              yyError = yyError.select("')' expected", yyBase);
+            }
           }
+        } else {
+          yyError = yyError.select("'(' expected", yyBase);
         }
-      } else {
-        yyError = yyError.select("'(' expected", yyBase);
       }
     }
 
     // Alternative 9.
+    if (0 != (yyFirst & 0x100)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("void")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("void")) {
 
-      yyValue = GNode.create("VoidTypeSpecifier", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("VoidTypeSpecifier", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 10.
+    if (0 != (yyFirst & 0x200)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__builtin_va_list")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__builtin_va_list")) {
 
-      yyValue = GNode.create("VarArgListSpecifier", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("VarArgListSpecifier", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -8630,7 +9461,7 @@ public final class JeannieParser extends ParserBase {
                   final Node v$g$4 = cast(yyOpValue1);
 
                   yyValue = GNode.create("EnumerationTypeDefinition", v$g$1, v$g$2, v$g$3, v$g$4);
-                  yyValue.setLocation(location(yyStart));
+                  locate(yyValue, yyStart);
 
                   return new SemanticValue(yyValue, yyOption1, yyError);
                 } // End scope for v$g$4.
@@ -8651,7 +9482,7 @@ public final class JeannieParser extends ParserBase {
           final String v$g$2 = yyResult.semanticValue();
 
           yyValue = GNode.create("EnumerationTypeReference", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -8676,7 +9507,8 @@ public final class JeannieParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -8688,7 +9520,8 @@ public final class JeannieParser extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyBase   = yyRepetition1;
@@ -8701,7 +9534,7 @@ public final class JeannieParser extends ParserBase {
             final Node v$el$1 = yyResult.semanticValue();
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
         } else {
@@ -8710,10 +9543,11 @@ public final class JeannieParser extends ParserBase {
         break;
       }
       { // Start scope for v$g$2.
-        final Pair<Node> v$g$2 = yyRepValue1.reverse();
+        final int v$g$2 = yyRepStart1;
+        final int v$g$2$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("EnumeratorList", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("EnumeratorList", v$g$1, v$g$2, v$g$2$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$2.
@@ -8771,7 +9605,7 @@ public final class JeannieParser extends ParserBase {
         final Node v$g$1 = yyOpValue1;
 
         yyValue = GNode.create("Enumerator", id, v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyOption1, yyError);
       } // End scope for v$g$1.
@@ -8881,7 +9715,7 @@ public final class JeannieParser extends ParserBase {
                           final Node v$g$4 = cast(yyOpValue1);
 
                           yyValue = GNode.create("StructureTypeDefinition", v$g$1, v$g$2, v$g$3, v$g$4);
-                          yyValue.setLocation(location(yyStart));
+                          locate(yyValue, yyStart);
 
                           return new SemanticValue(yyValue, yyOption1, yyError);
                         } // End scope for v$g$4.
@@ -8906,7 +9740,7 @@ public final class JeannieParser extends ParserBase {
           final String v$g$2 = yyResult.semanticValue();
 
           yyValue = GNode.create("StructureTypeReference", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -9016,7 +9850,7 @@ public final class JeannieParser extends ParserBase {
                           final Node v$g$4 = cast(yyOpValue1);
 
                           yyValue = GNode.create("UnionTypeDefinition", v$g$1, v$g$2, v$g$3, v$g$4);
-                          yyValue.setLocation(location(yyStart));
+                          locate(yyValue, yyStart);
 
                           return new SemanticValue(yyValue, yyOption1, yyError);
                         } // End scope for v$g$4.
@@ -9041,7 +9875,7 @@ public final class JeannieParser extends ParserBase {
           final String v$g$2 = yyResult.semanticValue();
 
           yyValue = GNode.create("UnionTypeReference", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -9068,7 +9902,8 @@ public final class JeannieParser extends ParserBase {
     Result     yyResult;
     int        yyRepetition1;
     boolean    yyRepeated1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -9076,7 +9911,8 @@ public final class JeannieParser extends ParserBase {
 
     yyRepetition1 = yyStart;
     yyRepeated1   = false;
-    yyRepValue1   = Pair.empty();
+    yyRepStart1   = bufferStart();
+    yyRepEnd1   = yyRepStart1;
     while (true) {
 
       yyResult = pAnnotatedStructureDeclaration(yyRepetition1);
@@ -9086,26 +9922,29 @@ public final class JeannieParser extends ParserBase {
 
         yyRepetition1 = yyResult.index;
         yyRepeated1   = true;
-        yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+        yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
         continue;
       }
       break;
     }
 
     if (yyRepeated1) {
-      final Pair<Node> v$g$1 = yyRepValue1.reverse();
+      final int v$g$1 = yyRepStart1;
+      final int v$g$1$end = yyRepEnd1;
 
       yyResult = pAnnotations(yyRepetition1);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
         final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("StructureDeclarationList", v$g$1.size() + 1).
-          addAll(v$g$1).add(v$g$2);
-        yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("StructureDeclarationList", (v$g$1$end - v$g$1) + 1);
+        addBuffered(yyValue, v$g$1, v$g$1$end);
+        yyValue.add(v$g$2);
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
+      releaseBuffer(v$g$1);
     }
 
     // Alternative <Empty>.
@@ -9118,7 +9957,7 @@ public final class JeannieParser extends ParserBase {
         final Node v$g$3 = yyResult.semanticValue();
 
         yyValue = GNode.create("StructureDeclarationList", v$g$3);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -9253,7 +10092,7 @@ public final class JeannieParser extends ParserBase {
             }
 
             yyValue = GNode.create("StructureDeclaration", v$g$1, v$g$2, v$g$3);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return new SemanticValue(yyValue, yyOption1, yyError);
           } else {
@@ -9281,10 +10120,16 @@ public final class JeannieParser extends ParserBase {
     throws IOException {
 
     JeannieParserColumn yyColumn = (JeannieParserColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fSpecifierQualifierList) 
-      yyColumn.chunk3.fSpecifierQualifierList = pSpecifierQualifierList$1(yyStart);
-    return yyColumn.chunk3.fSpecifierQualifierList;
+    if (null == yyColumn.chunk5) yyColumn.chunk5 = new Chunk5();
+    if (null == yyColumn.chunk5.fSpecifierQualifierList) {
+      yyColumn.chunk5.fSpecifierQualifierList = 
+        pSpecifierQualifierList$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(25, yyColumn.chunk5.fSpecifierQualifierList);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(25, yyColumn.chunk5.fSpecifierQualifierList);
+    }
+    return yyColumn.chunk5.fSpecifierQualifierList;
   }
 
   /** Actually parse xtc.lang.jeannie.JeannieC.SpecifierQualifierList. */
@@ -9303,7 +10148,7 @@ public final class JeannieParser extends ParserBase {
       final Pair<Node> v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.createFromPair("SpecifierQualifierList", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -9375,39 +10220,135 @@ public final class JeannieParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
-    // Alternative <TypeSpecifier>.
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '`':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x1;
+      break;
 
-    yyResult = pTypeSpecifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x7;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
 
-      yyResult = pTypeSpecContext(yyResult.index);
+    // Alternative <TypeSpecifier>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
+
+      yyResult = pTypeSpecifier(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-        return yyResult.createValue(yyValue, yyError);
+        yyResult = pTypeSpecContext(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative <TypeQualifier>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pTypeQualifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pTypeQualifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Attribute>.
+    if ((0 != (yyFirst & 0x4)) || (yyError.index < yyStart)) {
 
-    yyResult = pAttributeSpecifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pAttributeSpecifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -9471,7 +10412,8 @@ public final class JeannieParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -9483,7 +10425,8 @@ public final class JeannieParser extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyBase   = yyRepetition1;
@@ -9496,7 +10439,7 @@ public final class JeannieParser extends ParserBase {
             final Node v$el$1 = yyResult.semanticValue();
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
         } else {
@@ -9505,10 +10448,11 @@ public final class JeannieParser extends ParserBase {
         break;
       }
       { // Start scope for v$g$2.
-        final Pair<Node> v$g$2 = yyRepValue1.reverse();
+        final int v$g$2 = yyRepStart1;
+        final int v$g$2$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("StructureDeclaratorList", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("StructureDeclaratorList", v$g$1, v$g$2, v$g$2$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$2.
@@ -9535,78 +10479,169 @@ public final class JeannieParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
-    // Alternative 1.
-
-    yyOption1  = yyStart;
-    yyOpValue1 = null;
-
-    yyResult = pAttributeSpecifierList(yyOption1);
-    yyError  = yyResult.select(yyError, yyOption1);
-    if (yyResult.hasValue()) {
-      final Node v$el$1 = yyResult.semanticValue();
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '[':
+    case ']':
+    case '^':
+    case '_':
+    case '`':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
 
-      yyOption1  = yyResult.index;
-      yyOpValue1 = v$el$1;
+    default:
+      yyFirst = 0;
     }
-    { // Start scope for v$g$1.
-      final Node v$g$1 = yyOpValue1;
 
+    // Alternative 1.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index <= yyStart)) {
+
+      yyOption1  = yyStart;
       yyOpValue1 = null;
 
-      yyResult = pJeannieC$Declarator(yyOption1);
+      yyResult = pAttributeSpecifierList(yyOption1);
       yyError  = yyResult.select(yyError, yyOption1);
       if (yyResult.hasValue()) {
-        final Node v$el$2 = yyResult.semanticValue();
+        final Node v$el$1 = yyResult.semanticValue();
 
         yyOption1  = yyResult.index;
-        yyOpValue1 = v$el$2;
+        yyOpValue1 = v$el$1;
       }
-      { // Start scope for v$g$2.
-        final Node v$g$2 = yyOpValue1;
+      { // Start scope for v$g$1.
+        final Node v$g$1 = yyOpValue1;
 
-        yyBase   = yyOption1;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue(":")) {
+        yyOpValue1 = null;
 
-          yyResult = pJeannieC$ConditionalExpression(yyResult.index);
-          yyError  = yyResult.select(yyError);
-          if (yyResult.hasValue()) {
-            final Node v$g$3 = yyResult.semanticValue();
+        yyResult = pJeannieC$Declarator(yyOption1);
+        yyError  = yyResult.select(yyError, yyOption1);
+        if (yyResult.hasValue()) {
+          final Node v$el$2 = yyResult.semanticValue();
 
-            yyOption1  = yyResult.index;
-            yyOpValue1 = null;
+          yyOption1  = yyResult.index;
+          yyOpValue1 = v$el$2;
+        }
+        { // Start scope for v$g$2.
+          final Node v$g$2 = yyOpValue1;
 
-            yyResult = pAttributeSpecifierList(yyOption1);
-            yyError  = yyResult.select(yyError, yyOption1);
+          yyBase   = yyOption1;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue(":")) {
+
+            yyResult = pJeannieC$ConditionalExpression(yyResult.index);
+            yyError  = yyResult.select(yyError);
             if (yyResult.hasValue()) {
-              final Node v$el$3 = yyResult.semanticValue();
+              final Node v$g$3 = yyResult.semanticValue();
 
               yyOption1  = yyResult.index;
-              yyOpValue1 = v$el$3;
-            }
-            { // Start scope for v$g$4.
-              final Node v$g$4 = yyOpValue1;
+              yyOpValue1 = null;
 
-              yyValue = GNode.create("BitField", v$g$1, v$g$2, v$g$3, v$g$4);
-              yyValue.setLocation(location(yyStart));
+              yyResult = pAttributeSpecifierList(yyOption1);
+              yyError  = yyResult.select(yyError, yyOption1);
+              if (yyResult.hasValue()) {
+                final Node v$el$3 = yyResult.semanticValue();
 
-              return new SemanticValue(yyValue, yyOption1, yyError);
-            } // End scope for v$g$4.
+                yyOption1  = yyResult.index;
+                yyOpValue1 = v$el$3;
+              }
+              { // Start scope for v$g$4.
+                final Node v$g$4 = yyOpValue1;
+
+                yyValue = GNode.create("BitField", v$g$1, v$g$2, v$g$3, v$g$4);
+                locate(yyValue, yyStart);
+
+                return new SemanticValue(yyValue, yyOption1, yyError);
+              } // End scope for v$g$4.
+            }
+          } else {
+            yyError = yyError.select("':' expected", yyBase);
           }
-        } else {
-          yyError = yyError.select("':' expected", yyBase);
-        }
-      } // End scope for v$g$2.
-    } // End scope for v$g$1.
+        } // End scope for v$g$2.
+      } // End scope for v$g$1.
+    }
 
     // Alternative <Simple>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pAttributedDeclarator(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pAttributedDeclarator(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -9624,10 +10659,16 @@ public final class JeannieParser extends ParserBase {
    */
   private Result pAttributedDeclarator(final int yyStart) throws IOException {
     JeannieParserColumn yyColumn = (JeannieParserColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fAttributedDeclarator) 
-      yyColumn.chunk3.fAttributedDeclarator = pAttributedDeclarator$1(yyStart);
-    return yyColumn.chunk3.fAttributedDeclarator;
+    if (null == yyColumn.chunk6) yyColumn.chunk6 = new Chunk6();
+    if (null == yyColumn.chunk6.fAttributedDeclarator) {
+      yyColumn.chunk6.fAttributedDeclarator = 
+        pAttributedDeclarator$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(26, yyColumn.chunk6.fAttributedDeclarator);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(26, yyColumn.chunk6.fAttributedDeclarator);
+    }
+    return yyColumn.chunk6.fAttributedDeclarator;
   }
 
   /** Actually parse xtc.lang.jeannie.JeannieC.AttributedDeclarator. */
@@ -9676,7 +10717,7 @@ public final class JeannieParser extends ParserBase {
           final Node v$g$3 = yyOpValue1;
 
           yyValue = GNode.create("AttributedDeclarator", v$g$1, v$g$2, v$g$3);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyOption1, yyError);
         } // End scope for v$g$3.
@@ -9699,8 +10740,13 @@ public final class JeannieParser extends ParserBase {
   private Result pJeannieC$Declarator(final int yyStart) throws IOException {
     JeannieParserColumn yyColumn = (JeannieParserColumn)column(yyStart);
     if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fJeannieC$Declarator) 
+    if (null == yyColumn.chunk3.fJeannieC$Declarator) {
       yyColumn.chunk3.fJeannieC$Declarator = pJeannieC$Declarator$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(27, yyColumn.chunk3.fJeannieC$Declarator);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(27, yyColumn.chunk3.fJeannieC$Declarator);
+    }
     return yyColumn.chunk3.fJeannieC$Declarator;
   }
 
@@ -9712,24 +10758,118 @@ public final class JeannieParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '`':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
+
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x2;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Pointer>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pPointerDeclarator(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pPointerDeclarator(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Direct>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pDirectDeclarator(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pDirectDeclarator(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -9763,7 +10903,7 @@ public final class JeannieParser extends ParserBase {
         final Node v$g$2 = yyResult.semanticValue();
 
         yyValue = GNode.create("PointerDeclarator", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -9785,8 +10925,13 @@ public final class JeannieParser extends ParserBase {
   private Result pPointer(final int yyStart) throws IOException {
     JeannieParserColumn yyColumn = (JeannieParserColumn)column(yyStart);
     if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fPointer) 
+    if (null == yyColumn.chunk3.fPointer) {
       yyColumn.chunk3.fPointer = pPointer$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(28, yyColumn.chunk3.fPointer);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(28, yyColumn.chunk3.fPointer);
+    }
     return yyColumn.chunk3.fPointer;
   }
 
@@ -9823,7 +10968,7 @@ public final class JeannieParser extends ParserBase {
           final Node v$g$2 = yyOpValue1;
 
           yyValue = GNode.create("Pointer", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyOption1, yyError);
         } // End scope for v$g$2.
@@ -9847,14 +10992,16 @@ public final class JeannieParser extends ParserBase {
   private Result pTypeQualifierList(final int yyStart) throws IOException {
     Result     yyResult;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
     // Alternative 1.
 
     yyRepetition1 = yyStart;
-    yyRepValue1   = Pair.empty();
+    yyRepStart1   = bufferStart();
+    yyRepEnd1   = yyRepStart1;
     while (true) {
 
       yyResult = pTypeQualifierList$$Choice1(yyRepetition1);
@@ -9863,16 +11010,17 @@ public final class JeannieParser extends ParserBase {
         final Node v$el$1 = yyResult.semanticValue();
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+        yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
         continue;
       }
       break;
     }
     { // Start scope for v$g$1.
-      final Pair<Node> v$g$1 = yyRepValue1.reverse();
+      final int v$g$1 = yyRepStart1;
+      final int v$g$1$end = yyRepEnd1;
 
-      yyValue = GNode.createFromPair("TypeQualifierList", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      yyValue = bufferedNode("TypeQualifierList", v$g$1, v$g$1$end);
+      locate(yyValue, yyStart);
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
     } // End scope for v$g$1.
@@ -9895,24 +11043,90 @@ public final class JeannieParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pTypeQualifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pTypeQualifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 2.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pAttributeSpecifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pAttributeSpecifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -9936,77 +11150,171 @@ public final class JeannieParser extends ParserBase {
     Node               yyValue;
     ParseError         yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '`':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x1;
+      break;
+
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x2;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <FullBase>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("(")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("(")) {
 
-      yyResult = pAttributedDeclarator(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$7 = yyResult.semanticValue();
+        yyResult = pAttributedDeclarator(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$7 = yyResult.semanticValue();
 
-        yyBase   = yyResult.index;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue(")")) {
+          yyBase   = yyResult.index;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue(")")) {
 
-          yyRepetition1 = yyResult.index;
-          yyRepValue1   = Pair.empty();
-          while (true) {
+            yyRepetition1 = yyResult.index;
+            yyRepValue1   = Pair.empty();
+            while (true) {
 
-            yyResult = pDirectDeclarator$$Tail1(yyRepetition1);
-            yyError  = yyResult.select(yyError, yyRepetition1);
-            if (yyResult.hasValue()) {
-              final Action<Node> v$8 = yyResult.semanticValue();
+              yyResult = pDirectDeclarator$$Tail1(yyRepetition1);
+              yyError  = yyResult.select(yyError, yyRepetition1);
+              if (yyResult.hasValue()) {
+                final Action<Node> v$8 = yyResult.semanticValue();
 
-              yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Action<Node>>(v$8, yyRepValue1);
-              continue;
+                yyRepetition1 = yyResult.index;
+                yyRepValue1   = new Pair<Action<Node>>(v$8, yyRepValue1);
+                continue;
+              }
+              break;
             }
-            break;
-          }
-          { // Start scope for v$9.
-            final Pair<Action<Node>> v$9 = yyRepValue1.reverse();
+            { // Start scope for v$9.
+              final Pair<Action<Node>> v$9 = yyRepValue1.reverse();
 
-            yyValue = apply(v$9, v$g$7, yyStart);
+              yyValue = apply(v$9, v$g$7, yyStart);
 
-            return new SemanticValue(yyValue, yyRepetition1, yyError);
-          } // End scope for v$9.
-        } else {
-          yyError = yyError.select("')' expected", yyBase);
+              return new SemanticValue(yyValue, yyRepetition1, yyError);
+            } // End scope for v$9.
+          } else {
+            yyError = yyError.select("')' expected", yyBase);
+          }
         }
       }
     }
 
     // Alternative <SimpleBase>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pSimpleDeclarator(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final Node v$g$10 = yyResult.semanticValue();
+      yyResult = pSimpleDeclarator(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final Node v$g$10 = yyResult.semanticValue();
 
-      yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
-      while (true) {
+        yyRepetition1 = yyResult.index;
+        yyRepValue1   = Pair.empty();
+        while (true) {
 
-        yyResult = pDirectDeclarator$$Tail1(yyRepetition1);
-        yyError  = yyResult.select(yyError, yyRepetition1);
-        if (yyResult.hasValue()) {
-          final Action<Node> v$11 = yyResult.semanticValue();
+          yyResult = pDirectDeclarator$$Tail1(yyRepetition1);
+          yyError  = yyResult.select(yyError, yyRepetition1);
+          if (yyResult.hasValue()) {
+            final Action<Node> v$11 = yyResult.semanticValue();
 
-          yyRepetition1 = yyResult.index;
-          yyRepValue1   = new Pair<Action<Node>>(v$11, yyRepValue1);
-          continue;
+            yyRepetition1 = yyResult.index;
+            yyRepValue1   = new Pair<Action<Node>>(v$11, yyRepValue1);
+            continue;
+          }
+          break;
         }
-        break;
-      }
-      { // Start scope for v$12.
-        final Pair<Action<Node>> v$12 = yyRepValue1.reverse();
+        { // Start scope for v$12.
+          final Pair<Action<Node>> v$12 = yyRepValue1.reverse();
 
-        yyValue = apply(v$12, v$g$10, yyStart);
+          yyValue = apply(v$12, v$g$10, yyStart);
 
-        return new SemanticValue(yyValue, yyRepetition1, yyError);
-      } // End scope for v$12.
+          return new SemanticValue(yyValue, yyRepetition1, yyError);
+        } // End scope for v$12.
+      }
     }
 
     // Done.
@@ -10034,156 +11342,194 @@ public final class JeannieParser extends ParserBase {
     Action<Node> yyValue;
     ParseError   yyError = ParseError.DUMMY;
 
-    // Alternative 1.
-
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("(")) {
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '`':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
 
-      yyResult = pPushScope(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
+    default:
+      yyFirst = 0;
+    }
 
-        final int yyChoice1 = yyResult.index;
+    // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-        // Nested alternative 1.
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("(")) {
 
-        yyResult = pParameterTypeList(yyChoice1);
+        yyResult = pPushScope(yyResult.index);
         yyError  = yyResult.select(yyError);
         if (yyResult.hasValue()) {
-          final Node v$g$2 = yyResult.semanticValue();
 
-          yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue(")")) {
+          final int yyChoice1 = yyResult.index;
 
-            yyResult = pParameterContext(yyResult.index);
-            yyError  = yyResult.select(yyError);
-            if (yyResult.hasValue()) {
+          // Nested alternative 1.
+
+          yyResult = pParameterTypeList(yyChoice1);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Node v$g$2 = yyResult.semanticValue();
+
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue(")")) {
 
-              yyResult = pJavaThrows(yyResult.index);
+              yyResult = pParameterContext(yyResult.index);
               yyError  = yyResult.select(yyError);
               if (yyResult.hasValue()) {
-                final Node javaThrows = yyResult.semanticValue();
 
-                yyValue = new Action<Node>() {
-                  public Node run(Node v$1) {
-                    return GNode.create("FunctionDeclarator", v$1, v$g$2, javaThrows);
-                  }};
+                yyResult = pJavaThrows(yyResult.index);
+                yyError  = yyResult.select(yyError);
+                if (yyResult.hasValue()) {
+                  final Node javaThrows = yyResult.semanticValue();
 
-                return yyResult.createValue(yyValue, yyError);
+                  yyValue = new Action<Node>() {
+                    public Node run(Node v$1) {
+                      return GNode.create("FunctionDeclarator", v$1, v$g$2, javaThrows);
+                    }};
+
+                  return yyResult.createValue(yyValue, yyError);
+                }
               }
+            } else {
+              yyError = yyError.select("')' expected", yyBase);
             }
-          } else {
-            yyError = yyError.select("')' expected", yyBase);
           }
-        }
-
-        // Nested alternative 2.
 
-        yyOption1  = yyChoice1;
-        yyOpValue1 = null;
+          // Nested alternative 2.
 
-        yyResult = pIdentifierList(yyOption1);
-        yyError  = yyResult.select(yyError, yyOption1);
-        if (yyResult.hasValue()) {
-          final Node v$el$1 = yyResult.semanticValue();
+          yyOption1  = yyChoice1;
+          yyOpValue1 = null;
 
-          yyOption1  = yyResult.index;
-          yyOpValue1 = v$el$1;
-        }
-        { // Start scope for v$g$3.
-          final Node v$g$3 = yyOpValue1;
+          yyResult = pIdentifierList(yyOption1);
+          yyError  = yyResult.select(yyError, yyOption1);
+          if (yyResult.hasValue()) {
+            final Node v$el$1 = yyResult.semanticValue();
 
-          yyBase   = yyOption1;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue(")")) {
+            yyOption1  = yyResult.index;
+            yyOpValue1 = v$el$1;
+          }
+          { // Start scope for v$g$3.
+            final Node v$g$3 = yyOpValue1;
 
-            yyResult = pParameterContext(yyResult.index);
-            yyError  = yyResult.select(yyError);
-            if (yyResult.hasValue()) {
+            yyBase   = yyOption1;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue(")")) {
 
-              yyResult = pJavaThrows(yyResult.index);
+              yyResult = pParameterContext(yyResult.index);
               yyError  = yyResult.select(yyError);
               if (yyResult.hasValue()) {
-                final Node javaThrows = yyResult.semanticValue();
 
-                yyValue = new Action<Node>() {
-                  public Node run(Node v$1) {
-                    return GNode.create("FunctionDeclarator", v$1, v$g$3, javaThrows);
-                  }};
+                yyResult = pJavaThrows(yyResult.index);
+                yyError  = yyResult.select(yyError);
+                if (yyResult.hasValue()) {
+                  final Node javaThrows = yyResult.semanticValue();
 
-                return yyResult.createValue(yyValue, yyError);
+                  yyValue = new Action<Node>() {
+                    public Node run(Node v$1) {
+                      return GNode.create("FunctionDeclarator", v$1, v$g$3, javaThrows);
+                    }};
+
+                  return yyResult.createValue(yyValue, yyError);
+                }
               }
+            } else {
+              yyError = yyError.select("')' expected", yyBase);
             }
-          } else {
-            yyError = yyError.select("')' expected", yyBase);
-          }
-        } // End scope for v$g$3.
+          } // End scope for v$g$3.
+        }
       }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("[")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("[")) {
 
-      yyResult = pArrayQualifierList(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$4 = yyResult.semanticValue();
+        yyResult = pArrayQualifierList(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$4 = yyResult.semanticValue();
 
-        final int yyChoice1 = yyResult.index;
+          final int yyChoice1 = yyResult.index;
 
-        // Nested alternative 1.
+          // Nested alternative 1.
 
-        yyOption1  = yyChoice1;
-        yyOpValue1 = null;
+          yyOption1  = yyChoice1;
+          yyOpValue1 = null;
 
-        yyResult = pAssignmentExpression(yyOption1);
-        yyError  = yyResult.select(yyError, yyOption1);
-        if (yyResult.hasValue()) {
-          final Node v$el$2 = yyResult.semanticValue();
+          yyResult = pAssignmentExpression(yyOption1);
+          yyError  = yyResult.select(yyError, yyOption1);
+          if (yyResult.hasValue()) {
+            final Node v$el$2 = yyResult.semanticValue();
 
-          yyOption1  = yyResult.index;
-          yyOpValue1 = v$el$2;
-        }
-        { // Start scope for v$g$5.
-          final Node v$g$5 = yyOpValue1;
+            yyOption1  = yyResult.index;
+            yyOpValue1 = v$el$2;
+          }
+          { // Start scope for v$g$5.
+            final Node v$g$5 = yyOpValue1;
 
-          yyBase   = yyOption1;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue("]")) {
+            yyBase   = yyOption1;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue("]")) {
 
-            yyValue = new Action<Node>() {
-              public Node run(Node v$1) {
-                return GNode.create("ArrayDeclarator", v$1, v$g$4, v$g$5);
-              }};
+              yyValue = new Action<Node>() {
+                public Node run(Node v$1) {
+                  return GNode.create("ArrayDeclarator", v$1, v$g$4, v$g$5);
+                }};
 
-            return yyResult.createValue(yyValue, yyError);
-          } else {
-            yyError = yyError.select("']' expected", yyBase);
-          }
-        } // End scope for v$g$5.
+              return yyResult.createValue(yyValue, yyError);
+            } else {
+              yyError = yyError.select("']' expected", yyBase);
+            }
+          } // End scope for v$g$5.
 
-        // Nested alternative 2.
+          // Nested alternative 2.
 
-        yyResult = pVariableLength(yyChoice1);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$g$6 = yyResult.semanticValue();
+          yyResult = pVariableLength(yyChoice1);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Node v$g$6 = yyResult.semanticValue();
 
-          yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue("]")) {
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue("]")) {
 
-            yyValue = new Action<Node>() {
-              public Node run(Node v$1) {
-                return GNode.create("ArrayDeclarator", v$1, v$g$4, v$g$6);
-              }};
+              yyValue = new Action<Node>() {
+                public Node run(Node v$1) {
+                  return GNode.create("ArrayDeclarator", v$1, v$g$4, v$g$6);
+                }};
 
-            return yyResult.createValue(yyValue, yyError);
-          } else {
-            yyError = yyError.select("']' expected", yyBase);
+              return yyResult.createValue(yyValue, yyError);
+            } else {
+              yyError = yyError.select("']' expected", yyBase);
+            }
           }
         }
       }
@@ -10205,10 +11551,15 @@ public final class JeannieParser extends ParserBase {
    */
   private Result pVariableLength(final int yyStart) throws IOException {
     JeannieParserColumn yyColumn = (JeannieParserColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fVariableLength) 
-      yyColumn.chunk3.fVariableLength = pVariableLength$1(yyStart);
-    return yyColumn.chunk3.fVariableLength;
+    if (null == yyColumn.chunk6) yyColumn.chunk6 = new Chunk6();
+    if (null == yyColumn.chunk6.fVariableLength) {
+      yyColumn.chunk6.fVariableLength = pVariableLength$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(29, yyColumn.chunk6.fVariableLength);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(29, yyColumn.chunk6.fVariableLength);
+    }
+    return yyColumn.chunk6.fVariableLength;
   }
 
   /** Actually parse xtc.lang.jeannie.JeannieC.VariableLength. */
@@ -10223,7 +11574,7 @@ public final class JeannieParser extends ParserBase {
     if (yyResult.hasValue("*")) {
 
       yyValue = GNode.create("VariableLength", false);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -10257,7 +11608,7 @@ public final class JeannieParser extends ParserBase {
       yyState.bind(toText(id));
 
       yyValue = GNode.create("SimpleDeclarator", id);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -10277,10 +11628,15 @@ public final class JeannieParser extends ParserBase {
    */
   private Result pParameterTypeList(final int yyStart) throws IOException {
     JeannieParserColumn yyColumn = (JeannieParserColumn)column(yyStart);
-    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.fParameterTypeList) 
-      yyColumn.chunk4.fParameterTypeList = pParameterTypeList$1(yyStart);
-    return yyColumn.chunk4.fParameterTypeList;
+    if (null == yyColumn.chunk6) yyColumn.chunk6 = new Chunk6();
+    if (null == yyColumn.chunk6.fParameterTypeList) {
+      yyColumn.chunk6.fParameterTypeList = pParameterTypeList$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(30, yyColumn.chunk6.fParameterTypeList);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(30, yyColumn.chunk6.fParameterTypeList);
+    }
+    return yyColumn.chunk6.fParameterTypeList;
   }
 
   /** Actually parse xtc.lang.jeannie.JeannieC.ParameterTypeList. */
@@ -10323,7 +11679,7 @@ public final class JeannieParser extends ParserBase {
         final String v$g$2 = yyOpValue1;
 
         yyValue = GNode.create("ParameterTypeList", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyOption1, yyError);
       } // End scope for v$g$2.
@@ -10346,7 +11702,8 @@ public final class JeannieParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -10358,7 +11715,8 @@ public final class JeannieParser extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyBase   = yyRepetition1;
@@ -10371,7 +11729,7 @@ public final class JeannieParser extends ParserBase {
             final Node v$el$1 = yyResult.semanticValue();
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
         } else {
@@ -10380,10 +11738,11 @@ public final class JeannieParser extends ParserBase {
         break;
       }
       { // Start scope for v$g$2.
-        final Pair<Node> v$g$2 = yyRepValue1.reverse();
+        final int v$g$2 = yyRepStart1;
+        final int v$g$2$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("ParameterList", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("ParameterList", v$g$1, v$g$2, v$g$2$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$2.
@@ -10443,7 +11802,7 @@ public final class JeannieParser extends ParserBase {
           final Node v$g$3 = yyOpValue1;
 
           yyValue = GNode.create("ParameterDeclaration", v$g$1, v$g$2, v$g$3);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           // Commit the state modification.
           yyState.commit();
@@ -10482,7 +11841,7 @@ public final class JeannieParser extends ParserBase {
           final Node v$g$5 = yyOpValue1;
 
           yyValue = GNode.create("ParameterDeclaration", v$g$1, v$g$4, v$g$5);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           // Commit the state modification.
           yyState.commit();
@@ -10539,7 +11898,7 @@ public final class JeannieParser extends ParserBase {
         final Node v$g$2 = yyResult.semanticValue();
 
         yyValue = GNode.create("AttributedAbstractDeclarator", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -10560,10 +11919,15 @@ public final class JeannieParser extends ParserBase {
    */
   private Result pAbstractDeclarator(final int yyStart) throws IOException {
     JeannieParserColumn yyColumn = (JeannieParserColumn)column(yyStart);
-    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.fAbstractDeclarator) 
-      yyColumn.chunk4.fAbstractDeclarator = pAbstractDeclarator$1(yyStart);
-    return yyColumn.chunk4.fAbstractDeclarator;
+    if (null == yyColumn.chunk6) yyColumn.chunk6 = new Chunk6();
+    if (null == yyColumn.chunk6.fAbstractDeclarator) {
+      yyColumn.chunk6.fAbstractDeclarator = pAbstractDeclarator$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(31, yyColumn.chunk6.fAbstractDeclarator);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(31, yyColumn.chunk6.fAbstractDeclarator);
+    }
+    return yyColumn.chunk6.fAbstractDeclarator;
   }
 
   /** Actually parse xtc.lang.jeannie.JeannieC.AbstractDeclarator. */
@@ -10598,7 +11962,7 @@ public final class JeannieParser extends ParserBase {
         if ((null != p) || (null != d)) {
 
           yyValue = GNode.create("AbstractDeclarator", p, d);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -10717,102 +12081,140 @@ public final class JeannieParser extends ParserBase {
     Action<Node> yyValue;
     ParseError   yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '`':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("[")) {
-      final String v$g$2 = "[";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("[")) {
+        final String v$g$2 = "[";
 
-      final int yyChoice1 = yyResult.index;
+        final int yyChoice1 = yyResult.index;
 
-      // Nested alternative 1.
+        // Nested alternative 1.
 
-      yyOption1  = yyChoice1;
-      yyOpValue1 = null;
+        yyOption1  = yyChoice1;
+        yyOpValue1 = null;
 
-      yyResult = pAssignmentExpression(yyOption1);
-      yyError  = yyResult.select(yyError, yyOption1);
-      if (yyResult.hasValue()) {
-        final Node v$el$1 = yyResult.semanticValue();
+        yyResult = pAssignmentExpression(yyOption1);
+        yyError  = yyResult.select(yyError, yyOption1);
+        if (yyResult.hasValue()) {
+          final Node v$el$1 = yyResult.semanticValue();
 
-        yyOption1  = yyResult.index;
-        yyOpValue1 = v$el$1;
-      }
-      { // Start scope for v$g$3.
-        final Node v$g$3 = yyOpValue1;
+          yyOption1  = yyResult.index;
+          yyOpValue1 = v$el$1;
+        }
+        { // Start scope for v$g$3.
+          final Node v$g$3 = yyOpValue1;
 
-        yyBase   = yyOption1;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue("]")) {
+          yyBase   = yyOption1;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue("]")) {
 
-          yyValue = new Action<Node>() {
-            public Node run(Node v$1) {
-              return GNode.create("DirectAbstractDeclarator", v$1, v$g$2, v$g$3);
-            }};
+            yyValue = new Action<Node>() {
+              public Node run(Node v$1) {
+                return GNode.create("DirectAbstractDeclarator", v$1, v$g$2, v$g$3);
+              }};
 
-          return yyResult.createValue(yyValue, yyError);
-        } else {
-          yyError = yyError.select("']' expected", yyBase);
-        }
-      } // End scope for v$g$3.
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("']' expected", yyBase);
+          }
+        } // End scope for v$g$3.
 
-      // Nested alternative 2.
+        // Nested alternative 2.
 
-      yyResult = pVariableLength(yyChoice1);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$4 = yyResult.semanticValue();
+        yyResult = pVariableLength(yyChoice1);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$4 = yyResult.semanticValue();
 
-        yyBase   = yyResult.index;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue("]")) {
+          yyBase   = yyResult.index;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue("]")) {
 
-          yyValue = new Action<Node>() {
-            public Node run(Node v$1) {
-              return GNode.create("DirectAbstractDeclarator", v$1, v$g$2, v$g$4);
-            }};
+            yyValue = new Action<Node>() {
+              public Node run(Node v$1) {
+                return GNode.create("DirectAbstractDeclarator", v$1, v$g$2, v$g$4);
+              }};
 
-          return yyResult.createValue(yyValue, yyError);
-        } else {
-          yyError = yyError.select("']' expected", yyBase);
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("']' expected", yyBase);
+          }
         }
       }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("(")) {
-      final String v$g$5 = "(";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("(")) {
+        final String v$g$5 = "(";
 
-      yyOption1  = yyResult.index;
-      yyOpValue1 = null;
+        yyOption1  = yyResult.index;
+        yyOpValue1 = null;
 
-      yyResult = pParameterTypeList(yyOption1);
-      yyError  = yyResult.select(yyError, yyOption1);
-      if (yyResult.hasValue()) {
-        final Node v$el$2 = yyResult.semanticValue();
+        yyResult = pParameterTypeList(yyOption1);
+        yyError  = yyResult.select(yyError, yyOption1);
+        if (yyResult.hasValue()) {
+          final Node v$el$2 = yyResult.semanticValue();
 
-        yyOption1  = yyResult.index;
-        yyOpValue1 = v$el$2;
-      }
-      { // Start scope for v$g$6.
-        final Node v$g$6 = yyOpValue1;
+          yyOption1  = yyResult.index;
+          yyOpValue1 = v$el$2;
+        }
+        { // Start scope for v$g$6.
+          final Node v$g$6 = yyOpValue1;
 
-        yyBase   = yyOption1;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue(")")) {
+          yyBase   = yyOption1;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue(")")) {
 
-          yyValue = new Action<Node>() {
-            public Node run(Node v$1) {
-              return GNode.create("DirectAbstractDeclarator", v$1, v$g$5, v$g$6);
-            }};
+            yyValue = new Action<Node>() {
+              public Node run(Node v$1) {
+                return GNode.create("DirectAbstractDeclarator", v$1, v$g$5, v$g$6);
+              }};
 
-          return yyResult.createValue(yyValue, yyError);
-        } else {
-          yyError = yyError.select("')' expected", yyBase);
-        }
-      } // End scope for v$g$6.
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("')' expected", yyBase);
+          }
+        } // End scope for v$g$6.
+      }
     }
 
     // Done.
@@ -10830,12 +12232,13 @@ public final class JeannieParser extends ParserBase {
    * @throws IOException Signals an I/O error.
    */
   private Result pIdentifierList(final int yyStart) throws IOException {
-    Result       yyResult;
-    int          yyBase;
-    int          yyRepetition1;
-    Pair<String> yyRepValue1;
-    Node         yyValue;
-    ParseError   yyError = ParseError.DUMMY;
+    Result     yyResult;
+    int        yyBase;
+    int        yyRepetition1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
+    Node       yyValue;
+    ParseError yyError = ParseError.DUMMY;
 
     // Alternative 1.
 
@@ -10847,7 +12250,8 @@ public final class JeannieParser extends ParserBase {
       yyState.bind(toText(id1));
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyBase   = yyRepetition1;
@@ -10862,7 +12266,7 @@ public final class JeannieParser extends ParserBase {
             yyState.bind(toText(id2));
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<String>(id2, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, id2);
             continue;
           }
         } else {
@@ -10871,10 +12275,11 @@ public final class JeannieParser extends ParserBase {
         break;
       }
       { // Start scope for v$g$1.
-        final Pair<String> v$g$1 = yyRepValue1.reverse();
+        final int v$g$1 = yyRepStart1;
+        final int v$g$1$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("IdentifierList", id1, v$g$1);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("IdentifierList", id1, v$g$1, v$g$1$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$1.
@@ -10896,14 +12301,16 @@ public final class JeannieParser extends ParserBase {
   private Result pArrayQualifierList(final int yyStart) throws IOException {
     Result     yyResult;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
     // Alternative 1.
 
     yyRepetition1 = yyStart;
-    yyRepValue1   = Pair.empty();
+    yyRepStart1   = bufferStart();
+    yyRepEnd1   = yyRepStart1;
     while (true) {
 
       yyResult = pArrayQualifierList$$Choice1(yyRepetition1);
@@ -10912,16 +12319,17 @@ public final class JeannieParser extends ParserBase {
         final Node v$el$1 = yyResult.semanticValue();
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+        yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
         continue;
       }
       break;
     }
     { // Start scope for v$g$1.
-      final Pair<Node> v$g$1 = yyRepValue1.reverse();
+      final int v$g$1 = yyRepStart1;
+      final int v$g$1$end = yyRepEnd1;
 
-      yyValue = GNode.createFromPair("ArrayQualifierList", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      yyValue = bufferedNode("ArrayQualifierList", v$g$1, v$g$1$end);
+      locate(yyValue, yyStart);
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
     } // End scope for v$g$1.
@@ -10944,133 +12352,217 @@ public final class JeannieParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x7ff;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("static")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("static")) {
 
-      yyValue = GNode.create("StaticSpecifier", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("StaticSpecifier", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("volatile")) {
-      final String v$g$1 = "volatile";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("volatile")) {
+        final String v$g$1 = "volatile";
 
-      yyValue = GNode.create("VolatileQualifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("VolatileQualifier", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__volatile")) {
-      final String v$g$2 = "__volatile";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__volatile")) {
+        final String v$g$2 = "__volatile";
 
-      yyValue = GNode.create("VolatileQualifier", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("VolatileQualifier", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 4.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__volatile__")) {
-      final String v$g$3 = "__volatile__";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__volatile__")) {
+        final String v$g$3 = "__volatile__";
 
-      yyValue = GNode.create("VolatileQualifier", v$g$3);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("VolatileQualifier", v$g$3);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 5.
+    if (0 != (yyFirst & 0x10)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("restrict")) {
-      final String v$g$1 = "restrict";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("restrict")) {
+        final String v$g$1 = "restrict";
 
-      yyValue = GNode.create("RestrictQualifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("RestrictQualifier", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 6.
+    if (0 != (yyFirst & 0x20)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__restrict")) {
-      final String v$g$2 = "__restrict";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__restrict")) {
+        final String v$g$2 = "__restrict";
 
-      yyValue = GNode.create("RestrictQualifier", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("RestrictQualifier", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 7.
+    if (0 != (yyFirst & 0x40)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__restrict__")) {
-      final String v$g$3 = "__restrict__";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__restrict__")) {
+        final String v$g$3 = "__restrict__";
 
-      yyValue = GNode.create("RestrictQualifier", v$g$3);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("RestrictQualifier", v$g$3);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 8.
+    if (0 != (yyFirst & 0x80)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("const")) {
-      final String v$g$1 = "const";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("const")) {
+        final String v$g$1 = "const";
 
-      yyValue = GNode.create("ConstantQualifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("ConstantQualifier", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 9.
+    if (0 != (yyFirst & 0x100)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__const")) {
-      final String v$g$2 = "__const";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__const")) {
+        final String v$g$2 = "__const";
 
-      yyValue = GNode.create("ConstantQualifier", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("ConstantQualifier", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 10.
+    if (0 != (yyFirst & 0x200)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__const__")) {
-      final String v$g$3 = "__const__";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__const__")) {
+        final String v$g$3 = "__const__";
 
-      yyValue = GNode.create("ConstantQualifier", v$g$3);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("ConstantQualifier", v$g$3);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 11.
+    if ((0 != (yyFirst & 0x400)) || (yyError.index < yyStart)) {
 
-    yyResult = pAttributeSpecifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pAttributeSpecifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -11094,50 +12586,120 @@ public final class JeannieParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0xf;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("_Complex")) {
-      final String v$g$1 = "_Complex";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("_Complex")) {
+        final String v$g$1 = "_Complex";
 
-      yyValue = GNode.create("Complex", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("Complex", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__complex__")) {
-      final String v$g$2 = "__complex__";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__complex__")) {
+        final String v$g$2 = "__complex__";
 
-      yyValue = GNode.create("Complex", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("Complex", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("double")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("double")) {
 
-      yyValue = GNode.create("Double", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("Double", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 4.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("float")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("float")) {
 
-      yyValue = GNode.create("Float", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("Float", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -11159,106 +12721,186 @@ public final class JeannieParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x1ff;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("long")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("long")) {
 
-      yyValue = GNode.create("Long", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("Long", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("int")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("int")) {
 
-      yyValue = GNode.create("Int", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("Int", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("short")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("short")) {
 
-      yyValue = GNode.create("Short", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("Short", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 4.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("char")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("char")) {
 
-      yyValue = GNode.create("Char", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("Char", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 5.
+    if (0 != (yyFirst & 0x10)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("_Bool")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("_Bool")) {
 
-      yyValue = GNode.create("Bool", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("Bool", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 6.
+    if (0 != (yyFirst & 0x20)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("unsigned")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("unsigned")) {
 
-      yyValue = GNode.create("Unsigned", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("Unsigned", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 7.
+    if (0 != (yyFirst & 0x40)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("signed")) {
-      final String v$g$1 = "signed";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("signed")) {
+        final String v$g$1 = "signed";
 
-      yyValue = GNode.create("Signed", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("Signed", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 8.
+    if (0 != (yyFirst & 0x80)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__signed")) {
-      final String v$g$2 = "__signed";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__signed")) {
+        final String v$g$2 = "__signed";
 
-      yyValue = GNode.create("Signed", v$g$2);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("Signed", v$g$2);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 9.
+    if (0 != (yyFirst & 0x100)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__signed__")) {
-      final String v$g$3 = "__signed__";
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__signed__")) {
+        final String v$g$3 = "__signed__";
 
-      yyValue = GNode.create("Signed", v$g$3);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("Signed", v$g$3);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -11280,34 +12922,102 @@ public final class JeannieParser extends ParserBase {
     Void       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x7;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("typeof")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("typeof")) {
 
-      yyValue = null;
+        yyValue = null;
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__typeof")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__typeof")) {
 
-      yyValue = null;
+        yyValue = null;
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__typeof__")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__typeof__")) {
 
-      yyValue = null;
+        yyValue = null;
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -11391,7 +13101,8 @@ public final class JeannieParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -11403,7 +13114,8 @@ public final class JeannieParser extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyBase   = yyRepetition1;
@@ -11416,7 +13128,7 @@ public final class JeannieParser extends ParserBase {
             final Node v$el$1 = yyResult.semanticValue();
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
         } else {
@@ -11425,10 +13137,11 @@ public final class JeannieParser extends ParserBase {
         break;
       }
       { // Start scope for v$g$2.
-        final Pair<Node> v$g$2 = yyRepValue1.reverse();
+        final int v$g$2 = yyRepStart1;
+        final int v$g$2$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("InitializerList", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("InitializerList", v$g$1, v$g$2, v$g$2$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$2.
@@ -11439,7 +13152,7 @@ public final class JeannieParser extends ParserBase {
     if (GCC) {
 
       yyValue = GNode.create("InitializerList", false);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return new SemanticValue(yyValue, yyStart, yyError);
     }
@@ -11487,7 +13200,7 @@ public final class JeannieParser extends ParserBase {
         final Node v$g$2 = yyResult.semanticValue();
 
         yyValue = GNode.create("InitializerListEntry", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -11511,7 +13224,8 @@ public final class JeannieParser extends ParserBase {
     int        yyBase;
     int        yyRepetition1;
     boolean    yyRepeated1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -11519,7 +13233,8 @@ public final class JeannieParser extends ParserBase {
 
     yyRepetition1 = yyStart;
     yyRepeated1   = false;
-    yyRepValue1   = Pair.empty();
+    yyRepStart1   = bufferStart();
+    yyRepEnd1   = yyRepStart1;
     while (true) {
 
       yyResult = pDesignator(yyRepetition1);
@@ -11529,26 +13244,28 @@ public final class JeannieParser extends ParserBase {
 
         yyRepetition1 = yyResult.index;
         yyRepeated1   = true;
-        yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+        yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
         continue;
       }
       break;
     }
 
     if (yyRepeated1) {
-      final Pair<Node> v$g$1 = yyRepValue1.reverse();
+      final int v$g$1 = yyRepStart1;
+      final int v$g$1$end = yyRepEnd1;
 
       yyBase   = yyRepetition1;
       yyResult = pSymbol(yyBase);
       if (yyResult.hasValue("=")) {
 
-        yyValue = GNode.createFromPair("Designation", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("Designation", v$g$1, v$g$1$end);
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       } else {
         yyError = yyError.select("'=' expected", yyBase);
       }
+      releaseBuffer(v$g$1);
     }
 
     // Alternative 2.
@@ -11598,27 +13315,63 @@ public final class JeannieParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '`':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Array>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("[")) {
-      final String v$g$1 = "[";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("[")) {
+        final String v$g$1 = "[";
 
-      yyResult = pJeannieC$ConditionalExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$2 = yyResult.semanticValue();
+        yyResult = pJeannieC$ConditionalExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$2 = yyResult.semanticValue();
 
-        yyBase   = yyResult.index;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue("]")) {
+          yyBase   = yyResult.index;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue("]")) {
 
-          yyValue = GNode.create("Designator", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+            yyValue = GNode.create("Designator", v$g$1, v$g$2);
+            locate(yyValue, yyStart);
 
-          return yyResult.createValue(yyValue, yyError);
-        } else {
-          yyError = yyError.select("']' expected", yyBase);
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("']' expected", yyBase);
+          }
         }
       }
     }
@@ -11650,7 +13403,7 @@ public final class JeannieParser extends ParserBase {
               if (yyResult.hasValue("]")) {
 
                 yyValue = GNode.create("Designator", v$g$3, v$g$4, v$g$5);
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return yyResult.createValue(yyValue, yyError);
               } else {
@@ -11665,20 +13418,22 @@ public final class JeannieParser extends ParserBase {
     }
 
     // Alternative <Structure>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(".")) {
-      final String v$g$6 = ".";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(".")) {
+        final String v$g$6 = ".";
 
-      yyResult = pJeannieC$PrimaryIdentifier(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$7 = yyResult.semanticValue();
+        yyResult = pJeannieC$PrimaryIdentifier(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$7 = yyResult.semanticValue();
 
-        yyValue = GNode.create("Designator", v$g$6, v$g$7);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("Designator", v$g$6, v$g$7);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
@@ -11724,7 +13479,7 @@ public final class JeannieParser extends ParserBase {
         if (yyResult.hasValue("]")) {
 
           yyValue = GNode.create("ObsoleteArrayDesignation", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
@@ -11747,7 +13502,7 @@ public final class JeannieParser extends ParserBase {
             if (yyResult.hasValue("]")) {
 
               yyValue = GNode.create("ObsoleteArrayDesignation", v$g$1, v$g$2, v$g$3);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             } else {
@@ -11794,7 +13549,7 @@ public final class JeannieParser extends ParserBase {
       if (yyResult.hasValue(":")) {
 
         yyValue = GNode.create("ObsoleteFieldDesignation", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       } else {
@@ -11817,10 +13572,15 @@ public final class JeannieParser extends ParserBase {
    */
   private Result pJeannieC$TypeName(final int yyStart) throws IOException {
     JeannieParserColumn yyColumn = (JeannieParserColumn)column(yyStart);
-    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.fJeannieC$TypeName) 
-      yyColumn.chunk4.fJeannieC$TypeName = pJeannieC$TypeName$1(yyStart);
-    return yyColumn.chunk4.fJeannieC$TypeName;
+    if (null == yyColumn.chunk5) yyColumn.chunk5 = new Chunk5();
+    if (null == yyColumn.chunk5.fJeannieC$TypeName) {
+      yyColumn.chunk5.fJeannieC$TypeName = pJeannieC$TypeName$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(32, yyColumn.chunk5.fJeannieC$TypeName);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(32, yyColumn.chunk5.fJeannieC$TypeName);
+    }
+    return yyColumn.chunk5.fJeannieC$TypeName;
   }
 
   /** Actually parse xtc.lang.jeannie.JeannieC.TypeName. */
@@ -11856,7 +13616,7 @@ public final class JeannieParser extends ParserBase {
         final Node v$g$2 = yyOpValue1;
 
         yyValue = GNode.create("TypeName", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         // Commit the state modification.
         yyState.commit();
@@ -11885,10 +13645,16 @@ public final class JeannieParser extends ParserBase {
     throws IOException {
 
     JeannieParserColumn yyColumn = (JeannieParserColumn)column(yyStart);
-    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.fAttributeSpecifierList) 
-      yyColumn.chunk4.fAttributeSpecifierList = pAttributeSpecifierList$1(yyStart);
-    return yyColumn.chunk4.fAttributeSpecifierList;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fAttributeSpecifierList) {
+      yyColumn.chunk3.fAttributeSpecifierList = 
+        pAttributeSpecifierList$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(33, yyColumn.chunk3.fAttributeSpecifierList);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(33, yyColumn.chunk3.fAttributeSpecifierList);
+    }
+    return yyColumn.chunk3.fAttributeSpecifierList;
   }
 
   /** Actually parse xtc.lang.jeannie.JeannieC.AttributeSpecifierList. */
@@ -11907,7 +13673,7 @@ public final class JeannieParser extends ParserBase {
       final Pair<Node> v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.createFromPair("AttributeSpecifierList", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -11976,10 +13742,15 @@ public final class JeannieParser extends ParserBase {
    */
   private Result pAttributeSpecifier(final int yyStart) throws IOException {
     JeannieParserColumn yyColumn = (JeannieParserColumn)column(yyStart);
-    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.fAttributeSpecifier) 
-      yyColumn.chunk4.fAttributeSpecifier = pAttributeSpecifier$1(yyStart);
-    return yyColumn.chunk4.fAttributeSpecifier;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fAttributeSpecifier) {
+      yyColumn.chunk3.fAttributeSpecifier = pAttributeSpecifier$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(34, yyColumn.chunk3.fAttributeSpecifier);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(34, yyColumn.chunk3.fAttributeSpecifier);
+    }
+    return yyColumn.chunk3.fAttributeSpecifier;
   }
 
   /** Actually parse xtc.lang.jeannie.JeannieC.AttributeSpecifier. */
@@ -12028,7 +13799,7 @@ public final class JeannieParser extends ParserBase {
               if (yyResult.hasValue(")")) {
 
                 yyValue = GNode.create("AttributeSpecifier", v$g$1);
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return yyResult.createValue(yyValue, yyError);
               } else {
@@ -12064,24 +13835,90 @@ public final class JeannieParser extends ParserBase {
     Void       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__attribute")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__attribute")) {
 
-      yyValue = null;
+        yyValue = null;
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__attribute__")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__attribute__")) {
 
-      yyValue = null;
+        yyValue = null;
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -12102,7 +13939,8 @@ public final class JeannieParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -12114,7 +13952,8 @@ public final class JeannieParser extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyBase   = yyRepetition1;
@@ -12127,7 +13966,7 @@ public final class JeannieParser extends ParserBase {
             final Node v$el$1 = yyResult.semanticValue();
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
         } else {
@@ -12136,10 +13975,11 @@ public final class JeannieParser extends ParserBase {
         break;
       }
       { // Start scope for v$g$2.
-        final Pair<Node> v$g$2 = yyRepValue1.reverse();
+        final int v$g$2 = yyRepStart1;
+        final int v$g$2$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("AttributeList", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("AttributeList", v$g$1, v$g$2, v$g$2$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$2.
@@ -12213,7 +14053,7 @@ public final class JeannieParser extends ParserBase {
         final Node v$g$2 = yyOpValue1;
 
         yyValue = GNode.create("AttributeListEntry", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyOption1, yyError);
       } // End scope for v$g$2.
@@ -12235,8 +14075,13 @@ public final class JeannieParser extends ParserBase {
   private Result pJeannieC$Statement(final int yyStart) throws IOException {
     JeannieParserColumn yyColumn = (JeannieParserColumn)column(yyStart);
     if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.fJeannieC$Statement) 
+    if (null == yyColumn.chunk4.fJeannieC$Statement) {
       yyColumn.chunk4.fJeannieC$Statement = pJeannieC$Statement$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(35, yyColumn.chunk4.fJeannieC$Statement);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(35, yyColumn.chunk4.fJeannieC$Statement);
+    }
     return yyColumn.chunk4.fJeannieC$Statement;
   }
 
@@ -12249,6 +14094,96 @@ public final class JeannieParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '`':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x8011;
+      break;
+
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x7fee;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
 
     yyResult = pCommaExpression(yyStart);
@@ -12261,7 +14196,7 @@ public final class JeannieParser extends ParserBase {
       if (yyResult.hasValue(";")) {
 
         yyValue = GNode.create("ExpressionStatement", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       } else {
@@ -12270,322 +14205,342 @@ public final class JeannieParser extends ParserBase {
     }
 
     // Alternative <JavaInCStatement>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pJavaInCStatement(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pJavaInCStatement(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Cancel>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pCancelStatement(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pCancelStatement(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Commit>.
+    if ((0 != (yyFirst & 0x4)) || (yyError.index < yyStart)) {
 
-    yyResult = pCommitStatement(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pCommitStatement(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <With>.
+    if ((0 != (yyFirst & 0x8)) || (yyError.index < yyStart)) {
 
-    yyResult = pWithStatement(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pWithStatement(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Compound>.
+    if ((0 != (yyFirst & 0x10)) || (yyError.index < yyStart)) {
 
-    yyResult = pCompoundStatement(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pCompoundStatement(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 7.
+    if (0 != (yyFirst & 0x20)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("if")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("if")) {
 
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue("(")) {
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue("(")) {
 
-        yyResult = pCommaExpression(yyResult.index);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$g$1 = yyResult.semanticValue();
+          yyResult = pCommaExpression(yyResult.index);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Node v$g$1 = yyResult.semanticValue();
 
-          yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue(")")) {
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue(")")) {
 
-            yyResult = pJeannieC$Statement(yyResult.index);
-            yyError  = yyResult.select(yyError);
-            if (yyResult.hasValue()) {
-              final Node v$g$2 = yyResult.semanticValue();
+              yyResult = pJeannieC$Statement(yyResult.index);
+              yyError  = yyResult.select(yyError);
+              if (yyResult.hasValue()) {
+                final Node v$g$2 = yyResult.semanticValue();
 
-              final int yyChoice1 = yyResult.index;
+                final int yyChoice1 = yyResult.index;
 
-              // Nested alternative 1.
+                // Nested alternative 1.
 
-              yyBase   = yyChoice1;
-              yyResult = pKeyword(yyBase);
-              if (yyResult.hasValue("else")) {
+                yyBase   = yyChoice1;
+                yyResult = pKeyword(yyBase);
+                if (yyResult.hasValue("else")) {
 
-                yyResult = pJeannieC$Statement(yyResult.index);
-                yyError  = yyResult.select(yyError);
-                if (yyResult.hasValue()) {
-                  final Node v$g$3 = yyResult.semanticValue();
+                  yyResult = pJeannieC$Statement(yyResult.index);
+                  yyError  = yyResult.select(yyError);
+                  if (yyResult.hasValue()) {
+                    final Node v$g$3 = yyResult.semanticValue();
 
-                  yyValue = GNode.create("IfElseStatement", v$g$1, v$g$2, v$g$3);
-                  yyValue.setLocation(location(yyStart));
+                    yyValue = GNode.create("IfElseStatement", v$g$1, v$g$2, v$g$3);
+                    locate(yyValue, yyStart);
 
-                  return yyResult.createValue(yyValue, yyError);
+                    return yyResult.createValue(yyValue, yyError);
+                  }
+                } else {
+                  yyError = yyError.select("'else' expected", yyBase);
                 }
-              } else {
-                yyError = yyError.select("'else' expected", yyBase);
-              }
 
-              // Nested alternative 2.
+                // Nested alternative 2.
 
-              yyValue = GNode.create("IfStatement", v$g$1, v$g$2);
-              yyValue.setLocation(location(yyStart));
+                yyValue = GNode.create("IfStatement", v$g$1, v$g$2);
+                locate(yyValue, yyStart);
 
-              return new SemanticValue(yyValue, yyChoice1, yyError);
+                return new SemanticValue(yyValue, yyChoice1, yyError);
+              }
+            } else {
+              yyError = yyError.select("')' expected", yyBase);
             }
-          } else {
-            yyError = yyError.select("')' expected", yyBase);
           }
+        } else {
+          yyError = yyError.select("'(' expected", yyBase);
         }
-      } else {
-        yyError = yyError.select("'(' expected", yyBase);
       }
     }
 
     // Alternative 8.
+    if (0 != (yyFirst & 0x40)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("while")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("while")) {
 
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue("(")) {
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue("(")) {
 
-        yyResult = pCommaExpression(yyResult.index);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$g$1 = yyResult.semanticValue();
+          yyResult = pCommaExpression(yyResult.index);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Node v$g$1 = yyResult.semanticValue();
 
-          yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue(")")) {
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue(")")) {
 
-            yyResult = pJeannieC$Statement(yyResult.index);
-            yyError  = yyResult.select(yyError);
-            if (yyResult.hasValue()) {
-              final Node v$g$2 = yyResult.semanticValue();
+              yyResult = pJeannieC$Statement(yyResult.index);
+              yyError  = yyResult.select(yyError);
+              if (yyResult.hasValue()) {
+                final Node v$g$2 = yyResult.semanticValue();
 
-              yyValue = GNode.create("WhileStatement", v$g$1, v$g$2);
-              yyValue.setLocation(location(yyStart));
+                yyValue = GNode.create("WhileStatement", v$g$1, v$g$2);
+                locate(yyValue, yyStart);
 
-              return yyResult.createValue(yyValue, yyError);
+                return yyResult.createValue(yyValue, yyError);
+              }
+            } else {
+              yyError = yyError.select("')' expected", yyBase);
             }
-          } else {
-            yyError = yyError.select("')' expected", yyBase);
           }
+        } else {
+          yyError = yyError.select("'(' expected", yyBase);
         }
-      } else {
-        yyError = yyError.select("'(' expected", yyBase);
       }
     }
 
     // Alternative 9.
+    if (0 != (yyFirst & 0x80)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("do")) {
-
-      yyResult = pJeannieC$Statement(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("do")) {
 
-        yyBase   = yyResult.index;
-        yyResult = pKeyword(yyBase);
-        if (yyResult.hasValue("while")) {
+        yyResult = pJeannieC$Statement(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$1 = yyResult.semanticValue();
 
-          yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue("(")) {
+          yyBase   = yyResult.index;
+          yyResult = pKeyword(yyBase);
+          if (yyResult.hasValue("while")) {
 
-            yyResult = pCommaExpression(yyResult.index);
-            yyError  = yyResult.select(yyError);
-            if (yyResult.hasValue()) {
-              final Node v$g$2 = yyResult.semanticValue();
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue("(")) {
 
-              yyBase   = yyResult.index;
-              yyResult = pSymbol(yyBase);
-              if (yyResult.hasValue(")")) {
+              yyResult = pCommaExpression(yyResult.index);
+              yyError  = yyResult.select(yyError);
+              if (yyResult.hasValue()) {
+                final Node v$g$2 = yyResult.semanticValue();
 
                 yyBase   = yyResult.index;
                 yyResult = pSymbol(yyBase);
-                if (yyResult.hasValue(";")) {
+                if (yyResult.hasValue(")")) {
+
+                  yyBase   = yyResult.index;
+                  yyResult = pSymbol(yyBase);
+                  if (yyResult.hasValue(";")) {
 
-                  yyValue = GNode.create("DoStatement", v$g$1, v$g$2);
-                  yyValue.setLocation(location(yyStart));
+                    yyValue = GNode.create("DoStatement", v$g$1, v$g$2);
+                    locate(yyValue, yyStart);
 
-                  return yyResult.createValue(yyValue, yyError);
+                    return yyResult.createValue(yyValue, yyError);
+                  } else {
+                    yyError = yyError.select("';' expected", yyBase);
+                  }
                 } else {
-                  yyError = yyError.select("';' expected", yyBase);
+                  yyError = yyError.select("')' expected", yyBase);
                 }
-              } else {
-                yyError = yyError.select("')' expected", yyBase);
               }
+            } else {
+              yyError = yyError.select("'(' expected", yyBase);
             }
           } else {
-            yyError = yyError.select("'(' expected", yyBase);
+            yyError = yyError.select("'while' expected", yyBase);
           }
-        } else {
-          yyError = yyError.select("'while' expected", yyBase);
         }
       }
     }
 
     // Alternative 10.
+    if (0 != (yyFirst & 0x100)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("for")) {
-
-      yyResult = pPushScope(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-
-        yyBase   = yyResult.index;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue("(")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("for")) {
 
-          yyResult = pInitialClause(yyResult.index);
-          yyError  = yyResult.select(yyError);
-          if (yyResult.hasValue()) {
-            final Node v$g$1 = yyResult.semanticValue();
+        yyResult = pPushScope(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
 
-            yyOption1  = yyResult.index;
-            yyOpValue1 = null;
+          yyBase   = yyResult.index;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue("(")) {
 
-            yyResult = pCommaExpression(yyOption1);
-            yyError  = yyResult.select(yyError, yyOption1);
+            yyResult = pInitialClause(yyResult.index);
+            yyError  = yyResult.select(yyError);
             if (yyResult.hasValue()) {
-              final Node v$el$1 = yyResult.semanticValue();
+              final Node v$g$1 = yyResult.semanticValue();
 
               yyOption1  = yyResult.index;
-              yyOpValue1 = v$el$1;
-            }
-            { // Start scope for v$g$2.
-              final Node v$g$2 = yyOpValue1;
+              yyOpValue1 = null;
 
-              yyBase   = yyOption1;
-              yyResult = pSymbol(yyBase);
-              if (yyResult.hasValue(";")) {
+              yyResult = pCommaExpression(yyOption1);
+              yyError  = yyResult.select(yyError, yyOption1);
+              if (yyResult.hasValue()) {
+                final Node v$el$1 = yyResult.semanticValue();
 
                 yyOption1  = yyResult.index;
-                yyOpValue1 = null;
+                yyOpValue1 = v$el$1;
+              }
+              { // Start scope for v$g$2.
+                final Node v$g$2 = yyOpValue1;
 
-                yyResult = pCommaExpression(yyOption1);
-                yyError  = yyResult.select(yyError, yyOption1);
-                if (yyResult.hasValue()) {
-                  final Node v$el$2 = yyResult.semanticValue();
+                yyBase   = yyOption1;
+                yyResult = pSymbol(yyBase);
+                if (yyResult.hasValue(";")) {
 
                   yyOption1  = yyResult.index;
-                  yyOpValue1 = v$el$2;
-                }
-                { // Start scope for v$g$3.
-                  final Node v$g$3 = yyOpValue1;
+                  yyOpValue1 = null;
 
-                  yyBase   = yyOption1;
-                  yyResult = pSymbol(yyBase);
-                  if (yyResult.hasValue(")")) {
+                  yyResult = pCommaExpression(yyOption1);
+                  yyError  = yyResult.select(yyError, yyOption1);
+                  if (yyResult.hasValue()) {
+                    final Node v$el$2 = yyResult.semanticValue();
 
-                    yyResult = pJeannieC$Statement(yyResult.index);
-                    yyError  = yyResult.select(yyError);
-                    if (yyResult.hasValue()) {
-                      final Node v$g$4 = yyResult.semanticValue();
+                    yyOption1  = yyResult.index;
+                    yyOpValue1 = v$el$2;
+                  }
+                  { // Start scope for v$g$3.
+                    final Node v$g$3 = yyOpValue1;
 
-                      yyResult = pPopScope(yyResult.index);
+                    yyBase   = yyOption1;
+                    yyResult = pSymbol(yyBase);
+                    if (yyResult.hasValue(")")) {
+
+                      yyResult = pJeannieC$Statement(yyResult.index);
                       yyError  = yyResult.select(yyError);
                       if (yyResult.hasValue()) {
+                        final Node v$g$4 = yyResult.semanticValue();
 
-                        yyValue = GNode.create("ForStatement", v$g$1, v$g$2, v$g$3, v$g$4);
-                        yyValue.setLocation(location(yyStart));
+                        yyResult = pPopScope(yyResult.index);
+                        yyError  = yyResult.select(yyError);
+                        if (yyResult.hasValue()) {
+
+                          yyValue = GNode.create("ForStatement", v$g$1, v$g$2, v$g$3, v$g$4);
+                          locate(yyValue, yyStart);
 
-                        return yyResult.createValue(yyValue, yyError);
+                          return yyResult.createValue(yyValue, yyError);
+                        }
                       }
+                    } else {
+                      yyError = yyError.select("')' expected", yyBase);
                     }
-                  } else {
-                    yyError = yyError.select("')' expected", yyBase);
-                  }
-                } // End scope for v$g$3.
-              } else {
-                yyError = yyError.select("';' expected", yyBase);
-              }
-            } // End scope for v$g$2.
+                  } // End scope for v$g$3.
+                } else {
+                  yyError = yyError.select("';' expected", yyBase);
+                }
+              } // End scope for v$g$2.
+            }
+          } else {
+            yyError = yyError.select("'(' expected", yyBase);
           }
-        } else {
-          yyError = yyError.select("'(' expected", yyBase);
         }
       }
     }
 
     // Alternative 11.
+    if (0 != (yyFirst & 0x200)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("switch")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("switch")) {
 
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue("(")) {
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue("(")) {
 
-        yyResult = pCommaExpression(yyResult.index);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$g$1 = yyResult.semanticValue();
+          yyResult = pCommaExpression(yyResult.index);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Node v$g$1 = yyResult.semanticValue();
 
-          yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue(")")) {
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue(")")) {
 
-            yyResult = pJeannieC$Statement(yyResult.index);
-            yyError  = yyResult.select(yyError);
-            if (yyResult.hasValue()) {
-              final Node v$g$2 = yyResult.semanticValue();
+              yyResult = pJeannieC$Statement(yyResult.index);
+              yyError  = yyResult.select(yyError);
+              if (yyResult.hasValue()) {
+                final Node v$g$2 = yyResult.semanticValue();
 
-              yyValue = GNode.create("SwitchStatement", v$g$1, v$g$2);
-              yyValue.setLocation(location(yyStart));
+                yyValue = GNode.create("SwitchStatement", v$g$1, v$g$2);
+                locate(yyValue, yyStart);
 
-              return yyResult.createValue(yyValue, yyError);
+                return yyResult.createValue(yyValue, yyError);
+              }
+            } else {
+              yyError = yyError.select("')' expected", yyBase);
             }
-          } else {
-            yyError = yyError.select("')' expected", yyBase);
           }
+        } else {
+          yyError = yyError.select("'(' expected", yyBase);
         }
-      } else {
-        yyError = yyError.select("'(' expected", yyBase);
       }
     }
 
@@ -12602,7 +14557,7 @@ public final class JeannieParser extends ParserBase {
         final Node v$g$2 = yyResult.semanticValue();
 
         yyValue = GNode.create("LabeledStatement", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -12618,101 +14573,109 @@ public final class JeannieParser extends ParserBase {
         final Node v$g$3 = yyResult.semanticValue();
 
         yyValue = GNode.create("LabeledStatement", v$g$3, null);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
     }
 
     // Alternative 14.
+    if (0 != (yyFirst & 0x400)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("break")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("break")) {
 
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue(";")) {
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue(";")) {
 
-        yyValue = GNode.create("BreakStatement", false);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("BreakStatement", false);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
-      } else {
-        yyError = yyError.select("';' expected", yyBase);
+          return yyResult.createValue(yyValue, yyError);
+        } else {
+          yyError = yyError.select("';' expected", yyBase);
+        }
       }
     }
 
     // Alternative 15.
+    if (0 != (yyFirst & 0x800)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("continue")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("continue")) {
 
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue(";")) {
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue(";")) {
 
-        yyValue = GNode.create("ContinueStatement", false);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("ContinueStatement", false);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
-      } else {
-        yyError = yyError.select("';' expected", yyBase);
+          return yyResult.createValue(yyValue, yyError);
+        } else {
+          yyError = yyError.select("';' expected", yyBase);
+        }
       }
     }
 
     // Alternative 16.
+    if (0 != (yyFirst & 0x1000)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("return")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("return")) {
 
-      yyOption1  = yyResult.index;
-      yyOpValue1 = null;
+        yyOption1  = yyResult.index;
+        yyOpValue1 = null;
 
-      yyResult = pCommaExpression(yyOption1);
-      yyError  = yyResult.select(yyError, yyOption1);
-      if (yyResult.hasValue()) {
-        final Node v$el$1 = yyResult.semanticValue();
+        yyResult = pCommaExpression(yyOption1);
+        yyError  = yyResult.select(yyError, yyOption1);
+        if (yyResult.hasValue()) {
+          final Node v$el$1 = yyResult.semanticValue();
 
-        yyOption1  = yyResult.index;
-        yyOpValue1 = v$el$1;
-      }
-      { // Start scope for v$g$1.
-        final Node v$g$1 = yyOpValue1;
+          yyOption1  = yyResult.index;
+          yyOpValue1 = v$el$1;
+        }
+        { // Start scope for v$g$1.
+          final Node v$g$1 = yyOpValue1;
 
-        yyBase   = yyOption1;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue(";")) {
+          yyBase   = yyOption1;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue(";")) {
 
-          yyValue = GNode.create("ReturnStatement", v$g$1);
-          yyValue.setLocation(location(yyStart));
+            yyValue = GNode.create("ReturnStatement", v$g$1);
+            locate(yyValue, yyStart);
 
-          return yyResult.createValue(yyValue, yyError);
-        } else {
-          yyError = yyError.select("';' expected", yyBase);
-        }
-      } // End scope for v$g$1.
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("';' expected", yyBase);
+          }
+        } // End scope for v$g$1.
+      }
     }
 
     // Alternative <Direct>.
+    if (0 != (yyFirst & 0x2000)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("goto")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("goto")) {
 
-      yyResult = pJeannieC$PrimaryIdentifier(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$2 = yyResult.semanticValue();
+        yyResult = pJeannieC$PrimaryIdentifier(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$2 = yyResult.semanticValue();
 
-        yyBase   = yyResult.index;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue(";")) {
+          yyBase   = yyResult.index;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue(";")) {
 
-          yyValue = GNode.create("GotoStatement", null, v$g$2);
-          yyValue.setLocation(location(yyStart));
+            yyValue = GNode.create("GotoStatement", null, v$g$2);
+            locate(yyValue, yyStart);
 
-          return yyResult.createValue(yyValue, yyError);
-        } else {
-          yyError = yyError.select("';' expected", yyBase);
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("';' expected", yyBase);
+          }
         }
       }
     }
@@ -12739,7 +14702,7 @@ public final class JeannieParser extends ParserBase {
             if (yyResult.hasValue(";")) {
 
               yyValue = GNode.create("GotoStatement", v$g$3, v$g$4);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             } else {
@@ -12753,69 +14716,73 @@ public final class JeannieParser extends ParserBase {
     }
 
     // Alternative 19.
+    if ((0 != (yyFirst & 0x4000)) || (yyError.index < yyStart)) {
 
-    yyResult = pAsmKeyword(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-
-      yyOption1  = yyResult.index;
-      yyOpValue1 = null;
-
-      yyResult = pTypeQualifier(yyOption1);
-      yyError  = yyResult.select(yyError, yyOption1);
+      yyResult = pAsmKeyword(yyStart);
+      yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
-        final Node v$el$1 = yyResult.semanticValue();
 
         yyOption1  = yyResult.index;
-        yyOpValue1 = v$el$1;
-      }
-      { // Start scope for v$g$1.
-        final Node v$g$1 = yyOpValue1;
+        yyOpValue1 = null;
 
-        yyBase   = yyOption1;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue("(")) {
+        yyResult = pTypeQualifier(yyOption1);
+        yyError  = yyResult.select(yyError, yyOption1);
+        if (yyResult.hasValue()) {
+          final Node v$el$1 = yyResult.semanticValue();
+
+          yyOption1  = yyResult.index;
+          yyOpValue1 = v$el$1;
+        }
+        { // Start scope for v$g$1.
+          final Node v$g$1 = yyOpValue1;
 
-          yyResult = pAssemblyArgument(yyResult.index);
-          yyError  = yyResult.select(yyError);
-          if (yyResult.hasValue()) {
-            final Node v$g$2 = yyResult.semanticValue();
+          yyBase   = yyOption1;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue("(")) {
 
-            yyBase   = yyResult.index;
-            yyResult = pSymbol(yyBase);
-            if (yyResult.hasValue(")")) {
+            yyResult = pAssemblyArgument(yyResult.index);
+            yyError  = yyResult.select(yyError);
+            if (yyResult.hasValue()) {
+              final Node v$g$2 = yyResult.semanticValue();
 
               yyBase   = yyResult.index;
               yyResult = pSymbol(yyBase);
-              if (yyResult.hasValue(";")) {
-                final String v$g$3 = ";";
+              if (yyResult.hasValue(")")) {
+
+                yyBase   = yyResult.index;
+                yyResult = pSymbol(yyBase);
+                if (yyResult.hasValue(";")) {
+                  final String v$g$3 = ";";
 
-                yyValue = GNode.create("AssemblyStatement", v$g$1, v$g$2, v$g$3);
-                yyValue.setLocation(location(yyStart));
+                  yyValue = GNode.create("AssemblyStatement", v$g$1, v$g$2, v$g$3);
+                  locate(yyValue, yyStart);
 
-                return yyResult.createValue(yyValue, yyError);
+                  return yyResult.createValue(yyValue, yyError);
+                } else {
+                  yyError = yyError.select("';' expected", yyBase);
+                }
               } else {
-                yyError = yyError.select("';' expected", yyBase);
+                yyError = yyError.select("')' expected", yyBase);
               }
-            } else {
-              yyError = yyError.select("')' expected", yyBase);
             }
+          } else {
+            yyError = yyError.select("'(' expected", yyBase);
           }
-        } else {
-          yyError = yyError.select("'(' expected", yyBase);
-        }
-      } // End scope for v$g$1.
+        } // End scope for v$g$1.
+      }
     }
 
     // Alternative 20.
+    if (0 != (yyFirst & 0x8000)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(";")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(";")) {
 
-      yyValue = GNode.create("EmptyStatement", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("EmptyStatement", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -12840,38 +14807,102 @@ public final class JeannieParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
-    // Alternative <Label>.
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x7;
+      break;
 
-    yyResult = pCIdentifier$Identifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final String v$g$1 = yyResult.semanticValue();
+    default:
+      yyFirst = 0;
+    }
 
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue(":")) {
+    // Alternative <Label>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-        yyOption1  = yyResult.index;
-        yyOpValue1 = null;
+      yyResult = pCIdentifier$Identifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final String v$g$1 = yyResult.semanticValue();
 
-        yyResult = pAttributeSpecifierList(yyOption1);
-        yyError  = yyResult.select(yyError, yyOption1);
-        if (yyResult.hasValue()) {
-          final Node v$el$1 = yyResult.semanticValue();
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue(":")) {
 
           yyOption1  = yyResult.index;
-          yyOpValue1 = v$el$1;
-        }
-        { // Start scope for v$g$2.
-          final Node v$g$2 = yyOpValue1;
+          yyOpValue1 = null;
 
-          yyValue = GNode.create("NamedLabel", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          yyResult = pAttributeSpecifierList(yyOption1);
+          yyError  = yyResult.select(yyError, yyOption1);
+          if (yyResult.hasValue()) {
+            final Node v$el$1 = yyResult.semanticValue();
 
-          return new SemanticValue(yyValue, yyOption1, yyError);
-        } // End scope for v$g$2.
-      } else {
-        yyError = yyError.select("':' expected", yyBase);
+            yyOption1  = yyResult.index;
+            yyOpValue1 = v$el$1;
+          }
+          { // Start scope for v$g$2.
+            final Node v$g$2 = yyOpValue1;
+
+            yyValue = GNode.create("NamedLabel", v$g$1, v$g$2);
+            locate(yyValue, yyStart);
+
+            return new SemanticValue(yyValue, yyOption1, yyError);
+          } // End scope for v$g$2.
+        } else {
+          yyError = yyError.select("':' expected", yyBase);
+        }
       }
     }
 
@@ -12901,7 +14932,7 @@ public final class JeannieParser extends ParserBase {
               if (yyResult.hasValue(":")) {
 
                 yyValue = GNode.create("CaseLabel", v$g$1, v$g$2);
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return yyResult.createValue(yyValue, yyError);
               } else {
@@ -12916,44 +14947,48 @@ public final class JeannieParser extends ParserBase {
     }
 
     // Alternative <Simple>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("case")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("case")) {
 
-      yyResult = pJeannieC$ConditionalExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$3 = yyResult.semanticValue();
+        yyResult = pJeannieC$ConditionalExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$3 = yyResult.semanticValue();
 
-        yyBase   = yyResult.index;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue(":")) {
+          yyBase   = yyResult.index;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue(":")) {
 
-          yyValue = GNode.create("CaseLabel", v$g$3);
-          yyValue.setLocation(location(yyStart));
+            yyValue = GNode.create("CaseLabel", v$g$3);
+            locate(yyValue, yyStart);
 
-          return yyResult.createValue(yyValue, yyError);
-        } else {
-          yyError = yyError.select("':' expected", yyBase);
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("':' expected", yyBase);
+          }
         }
       }
     }
 
     // Alternative 4.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("default")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("default")) {
 
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue(":")) {
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue(":")) {
 
-        yyValue = GNode.create("DefaultLabel", false);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("DefaultLabel", false);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
-      } else {
-        yyError = yyError.select("':' expected", yyBase);
+          return yyResult.createValue(yyValue, yyError);
+        } else {
+          yyError = yyError.select("':' expected", yyBase);
+        }
       }
     }
 
@@ -12974,8 +15009,13 @@ public final class JeannieParser extends ParserBase {
   private Result pCompoundStatement(final int yyStart) throws IOException {
     JeannieParserColumn yyColumn = (JeannieParserColumn)column(yyStart);
     if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.fCompoundStatement) 
+    if (null == yyColumn.chunk4.fCompoundStatement) {
       yyColumn.chunk4.fCompoundStatement = pCompoundStatement$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(36, yyColumn.chunk4.fCompoundStatement);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(36, yyColumn.chunk4.fCompoundStatement);
+    }
     return yyColumn.chunk4.fCompoundStatement;
   }
 
@@ -12985,24 +15025,62 @@ public final class JeannieParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '`':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <CBlock>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pCInCBlock(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pCInCBlock(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <JavaBlock>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pJavaInCBlock(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pJavaInCBlock(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -13021,12 +15099,13 @@ public final class JeannieParser extends ParserBase {
   private Result pLocalLabelDeclaration(final int yyStart) 
     throws IOException {
 
-    Result       yyResult;
-    int          yyBase;
-    int          yyRepetition1;
-    Pair<String> yyRepValue1;
-    Node         yyValue;
-    ParseError   yyError = ParseError.DUMMY;
+    Result     yyResult;
+    int        yyBase;
+    int        yyRepetition1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
+    Node       yyValue;
+    ParseError yyError = ParseError.DUMMY;
 
     // Alternative 1.
 
@@ -13039,7 +15118,8 @@ public final class JeannieParser extends ParserBase {
         final String v$g$1 = yyResult.semanticValue();
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyBase   = yyRepetition1;
@@ -13052,7 +15132,7 @@ public final class JeannieParser extends ParserBase {
               final String v$el$1 = yyResult.semanticValue();
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<String>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
           } else {
@@ -13061,19 +15141,21 @@ public final class JeannieParser extends ParserBase {
           break;
         }
         { // Start scope for v$g$2.
-          final Pair<String> v$g$2 = yyRepValue1.reverse();
+          final int v$g$2 = yyRepStart1;
+          final int v$g$2$end = yyRepEnd1;
 
           yyBase   = yyRepetition1;
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue(";")) {
 
-            yyValue = GNode.createFromPair("LocalLabelDeclaration", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
+            yyValue = bufferedNode("LocalLabelDeclaration", v$g$1, v$g$2, v$g$2$end);
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
             yyError = yyError.select("';' expected", yyBase);
           }
+          releaseBuffer(v$g$2);
         } // End scope for v$g$2.
       }
     }
@@ -13224,8 +15306,13 @@ public final class JeannieParser extends ParserBase {
   private Result pCommaExpression(final int yyStart) throws IOException {
     JeannieParserColumn yyColumn = (JeannieParserColumn)column(yyStart);
     if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.fCommaExpression) 
+    if (null == yyColumn.chunk4.fCommaExpression) {
       yyColumn.chunk4.fCommaExpression = pCommaExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(37, yyColumn.chunk4.fCommaExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(37, yyColumn.chunk4.fCommaExpression);
+    }
     return yyColumn.chunk4.fCommaExpression;
   }
 
@@ -13325,8 +15412,14 @@ public final class JeannieParser extends ParserBase {
   private Result pAssignmentExpression(final int yyStart) throws IOException {
     JeannieParserColumn yyColumn = (JeannieParserColumn)column(yyStart);
     if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.fAssignmentExpression) 
-      yyColumn.chunk4.fAssignmentExpression = pAssignmentExpression$1(yyStart);
+    if (null == yyColumn.chunk4.fAssignmentExpression) {
+      yyColumn.chunk4.fAssignmentExpression = 
+        pAssignmentExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(38, yyColumn.chunk4.fAssignmentExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(38, yyColumn.chunk4.fAssignmentExpression);
+    }
     return yyColumn.chunk4.fAssignmentExpression;
   }
 
@@ -13356,7 +15449,7 @@ public final class JeannieParser extends ParserBase {
           final Node v$g$3 = yyResult.semanticValue();
 
           yyValue = GNode.create("AssignmentExpression", v$g$1, v$g$2, v$g$3);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -13393,103 +15486,159 @@ public final class JeannieParser extends ParserBase {
     String     yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '`':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x7ff;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Equal>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("=")) {
-      yyValue = "=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("=")) {
+        yyValue = "=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <PlusEqual>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("+=")) {
-      yyValue = "+=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("+=")) {
+        yyValue = "+=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <MinusEqual>.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("-=")) {
-      yyValue = "-=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("-=")) {
+        yyValue = "-=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <TimesEqual>.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("*=")) {
-      yyValue = "*=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("*=")) {
+        yyValue = "*=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <OverEqual>.
+    if (0 != (yyFirst & 0x10)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("/=")) {
-      yyValue = "/=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("/=")) {
+        yyValue = "/=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <ModuloEqual>.
+    if (0 != (yyFirst & 0x20)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("%=")) {
-      yyValue = "%=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("%=")) {
+        yyValue = "%=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <LeftEqual>.
+    if (0 != (yyFirst & 0x40)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("<<=")) {
-      yyValue = "<<=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("<<=")) {
+        yyValue = "<<=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <RightEqual>.
+    if (0 != (yyFirst & 0x80)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(">>=")) {
-      yyValue = ">>=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(">>=")) {
+        yyValue = ">>=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <AndEqual>.
+    if (0 != (yyFirst & 0x100)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("&=")) {
-      yyValue = "&=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("&=")) {
+        yyValue = "&=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <XorEqual>.
+    if (0 != (yyFirst & 0x200)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("^=")) {
-      yyValue = "^=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("^=")) {
+        yyValue = "^=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <OrEqual>.
+    if (0 != (yyFirst & 0x400)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("|=")) {
-      yyValue = "|=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("|=")) {
+        yyValue = "|=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -13511,8 +15660,14 @@ public final class JeannieParser extends ParserBase {
 
     JeannieParserColumn yyColumn = (JeannieParserColumn)column(yyStart);
     if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.fJeannieC$ConditionalExpression) 
-      yyColumn.chunk4.fJeannieC$ConditionalExpression = pJeannieC$ConditionalExpression$1(yyStart);
+    if (null == yyColumn.chunk4.fJeannieC$ConditionalExpression) {
+      yyColumn.chunk4.fJeannieC$ConditionalExpression = 
+        pJeannieC$ConditionalExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(39, yyColumn.chunk4.fJeannieC$ConditionalExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(39, yyColumn.chunk4.fJeannieC$ConditionalExpression);
+    }
     return yyColumn.chunk4.fJeannieC$ConditionalExpression;
   }
 
@@ -13551,7 +15706,7 @@ public final class JeannieParser extends ParserBase {
               final Node v$g$3 = yyResult.semanticValue();
 
               yyValue = GNode.create("ConditionalExpression", v$g$1, v$g$2, v$g$3);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -13587,7 +15742,7 @@ public final class JeannieParser extends ParserBase {
               final Node v$g$6 = yyResult.semanticValue();
 
               yyValue = GNode.create("ConditionalExpression", v$g$4, null, v$g$6);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -13628,10 +15783,16 @@ public final class JeannieParser extends ParserBase {
     throws IOException {
 
     JeannieParserColumn yyColumn = (JeannieParserColumn)column(yyStart);
-    if (null == yyColumn.chunk5) yyColumn.chunk5 = new Chunk5();
-    if (null == yyColumn.chunk5.fJeannieC$LogicalOrExpression) 
-      yyColumn.chunk5.fJeannieC$LogicalOrExpression = pJeannieC$LogicalOrExpression$1(yyStart);
-    return yyColumn.chunk5.fJeannieC$LogicalOrExpression;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fJeannieC$LogicalOrExpression) {
+      yyColumn.chunk3.fJeannieC$LogicalOrExpression = 
+        pJeannieC$LogicalOrExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(40, yyColumn.chunk3.fJeannieC$LogicalOrExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(40, yyColumn.chunk3.fJeannieC$LogicalOrExpression);
+    }
+    return yyColumn.chunk3.fJeannieC$LogicalOrExpression;
   }
 
   /** Actually parse xtc.lang.jeannie.JeannieC.LogicalOrExpression. */
@@ -14199,10 +16360,15 @@ public final class JeannieParser extends ParserBase {
    */
   private Result p$$Shared7(final int yyStart) throws IOException {
     JeannieParserColumn yyColumn = (JeannieParserColumn)column(yyStart);
-    if (null == yyColumn.chunk5) yyColumn.chunk5 = new Chunk5();
-    if (null == yyColumn.chunk5.f$$Shared7) 
-      yyColumn.chunk5.f$$Shared7 = p$$Shared7$1(yyStart);
-    return yyColumn.chunk5.f$$Shared7;
+    if (null == yyColumn.chunk7) yyColumn.chunk7 = new Chunk7();
+    if (null == yyColumn.chunk7.f$$Shared7) {
+      yyColumn.chunk7.f$$Shared7 = p$$Shared7$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(41, yyColumn.chunk7.f$$Shared7);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(41, yyColumn.chunk7.f$$Shared7);
+    }
+    return yyColumn.chunk7.f$$Shared7;
   }
 
   /** Actually parse xtc.lang.jeannie.Jeannie.$$Shared7. */
@@ -14211,22 +16377,60 @@ public final class JeannieParser extends ParserBase {
     String     yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '`':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Equal>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("==")) {
-      yyValue = "==";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("==")) {
+        yyValue = "==";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <NotEqual>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("!=")) {
-      yyValue = "!=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("!=")) {
+        yyValue = "!=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -14344,40 +16548,82 @@ public final class JeannieParser extends ParserBase {
     String     yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '`':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0xf;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <LessEqual>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("<=")) {
-      yyValue = "<=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("<=")) {
+        yyValue = "<=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Less>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("<")) {
-      yyValue = "<";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("<")) {
+        yyValue = "<";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <GreaterEqual>.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(">=")) {
-      yyValue = ">=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(">=")) {
+        yyValue = ">=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Greater>.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(">")) {
-      yyValue = ">";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(">")) {
+        yyValue = ">";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -14495,22 +16741,60 @@ public final class JeannieParser extends ParserBase {
     String     yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '`':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Left>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("<<")) {
-      yyValue = "<<";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("<<")) {
+        yyValue = "<<";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Right>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(">>")) {
-      yyValue = ">>";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(">>")) {
+        yyValue = ">>";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -14626,10 +16910,15 @@ public final class JeannieParser extends ParserBase {
    */
   private Result p$$Shared8(final int yyStart) throws IOException {
     JeannieParserColumn yyColumn = (JeannieParserColumn)column(yyStart);
-    if (null == yyColumn.chunk5) yyColumn.chunk5 = new Chunk5();
-    if (null == yyColumn.chunk5.f$$Shared8) 
-      yyColumn.chunk5.f$$Shared8 = p$$Shared8$1(yyStart);
-    return yyColumn.chunk5.f$$Shared8;
+    if (null == yyColumn.chunk7) yyColumn.chunk7 = new Chunk7();
+    if (null == yyColumn.chunk7.f$$Shared8) {
+      yyColumn.chunk7.f$$Shared8 = p$$Shared8$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(42, yyColumn.chunk7.f$$Shared8);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(42, yyColumn.chunk7.f$$Shared8);
+    }
+    return yyColumn.chunk7.f$$Shared8;
   }
 
   /** Actually parse xtc.lang.jeannie.Jeannie.$$Shared8. */
@@ -14638,22 +16927,60 @@ public final class JeannieParser extends ParserBase {
     String     yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '`':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Plus>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("+")) {
-      yyValue = "+";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("+")) {
+        yyValue = "+";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Minus>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("-")) {
-      yyValue = "-";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("-")) {
+        yyValue = "-";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -14769,10 +17096,15 @@ public final class JeannieParser extends ParserBase {
    */
   private Result p$$Shared9(final int yyStart) throws IOException {
     JeannieParserColumn yyColumn = (JeannieParserColumn)column(yyStart);
-    if (null == yyColumn.chunk5) yyColumn.chunk5 = new Chunk5();
-    if (null == yyColumn.chunk5.f$$Shared9) 
-      yyColumn.chunk5.f$$Shared9 = p$$Shared9$1(yyStart);
-    return yyColumn.chunk5.f$$Shared9;
+    if (null == yyColumn.chunk7) yyColumn.chunk7 = new Chunk7();
+    if (null == yyColumn.chunk7.f$$Shared9) {
+      yyColumn.chunk7.f$$Shared9 = p$$Shared9$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(43, yyColumn.chunk7.f$$Shared9);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(43, yyColumn.chunk7.f$$Shared9);
+    }
+    return yyColumn.chunk7.f$$Shared9;
   }
 
   /** Actually parse xtc.lang.jeannie.Jeannie.$$Shared9. */
@@ -14781,31 +17113,71 @@ public final class JeannieParser extends ParserBase {
     String     yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '`':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x7;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Times>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("*")) {
-      yyValue = "*";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("*")) {
+        yyValue = "*";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Over>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("/")) {
-      yyValue = "/";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("/")) {
+        yyValue = "/";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Modulo>.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("%")) {
-      yyValue = "%";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("%")) {
+        yyValue = "%";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -14826,10 +17198,16 @@ public final class JeannieParser extends ParserBase {
     throws IOException {
 
     JeannieParserColumn yyColumn = (JeannieParserColumn)column(yyStart);
-    if (null == yyColumn.chunk5) yyColumn.chunk5 = new Chunk5();
-    if (null == yyColumn.chunk5.fJeannieC$CastExpression) 
-      yyColumn.chunk5.fJeannieC$CastExpression = pJeannieC$CastExpression$1(yyStart);
-    return yyColumn.chunk5.fJeannieC$CastExpression;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fJeannieC$CastExpression) {
+      yyColumn.chunk3.fJeannieC$CastExpression = 
+        pJeannieC$CastExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(44, yyColumn.chunk3.fJeannieC$CastExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(44, yyColumn.chunk3.fJeannieC$CastExpression);
+    }
+    return yyColumn.chunk3.fJeannieC$CastExpression;
   }
 
   /** Actually parse xtc.lang.jeannie.JeannieC.CastExpression. */
@@ -14861,7 +17239,7 @@ public final class JeannieParser extends ParserBase {
             final Node v$g$2 = yyResult.semanticValue();
 
             yyValue = GNode.create("CastExpression", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           }
@@ -14899,10 +17277,16 @@ public final class JeannieParser extends ParserBase {
     throws IOException {
 
     JeannieParserColumn yyColumn = (JeannieParserColumn)column(yyStart);
-    if (null == yyColumn.chunk5) yyColumn.chunk5 = new Chunk5();
-    if (null == yyColumn.chunk5.fJeannieC$UnaryExpression) 
-      yyColumn.chunk5.fJeannieC$UnaryExpression = pJeannieC$UnaryExpression$1(yyStart);
-    return yyColumn.chunk5.fJeannieC$UnaryExpression;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fJeannieC$UnaryExpression) {
+      yyColumn.chunk1.fJeannieC$UnaryExpression = 
+        pJeannieC$UnaryExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(45, yyColumn.chunk1.fJeannieC$UnaryExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(45, yyColumn.chunk1.fJeannieC$UnaryExpression);
+    }
+    return yyColumn.chunk1.fJeannieC$UnaryExpression;
   }
 
   /** Actually parse xtc.lang.jeannie.JeannieC.UnaryExpression. */
@@ -14916,309 +17300,419 @@ public final class JeannieParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '`':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x1ff0;
+      break;
+
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0xf;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("sizeof")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("sizeof")) {
 
-      final int yyChoice1 = yyResult.index;
+        final int yyChoice1 = yyResult.index;
 
-      // Nested alternative 1.
+        // Nested alternative 1.
 
-      yyBase   = yyChoice1;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue("(")) {
+        yyBase   = yyChoice1;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue("(")) {
 
-        yyResult = pJeannieC$TypeName(yyResult.index);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$g$1 = yyResult.semanticValue();
+          yyResult = pJeannieC$TypeName(yyResult.index);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Node v$g$1 = yyResult.semanticValue();
 
-          yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue(")")) {
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue(")")) {
 
-            yyPredMatched = false;
+              yyPredMatched = false;
 
-            yyPredResult = pSymbol(yyResult.index);
-            if (yyPredResult.hasValue("{")) {
+              yyPredResult = pSymbol(yyResult.index);
+              if (yyPredResult.hasValue("{")) {
 
-              yyPredMatched = true;
-            }
+                yyPredMatched = true;
+              }
 
-            if (! yyPredMatched) {
+              if (! yyPredMatched) {
 
-              yyValue = GNode.create("SizeofExpression", v$g$1);
-              yyValue.setLocation(location(yyStart));
+                yyValue = GNode.create("SizeofExpression", v$g$1);
+                locate(yyValue, yyStart);
 
-              return yyResult.createValue(yyValue, yyError);
+                return yyResult.createValue(yyValue, yyError);
+              } else {
+                yyError = yyError.select("unary expression expected", yyStart);
+              }
             } else {
-              yyError = yyError.select("unary expression expected", yyStart);
+              yyError = yyError.select("')' expected", yyBase);
             }
-          } else {
-            yyError = yyError.select("')' expected", yyBase);
           }
+        } else {
+          yyError = yyError.select("'(' expected", yyBase);
         }
-      } else {
-        yyError = yyError.select("'(' expected", yyBase);
-      }
 
-      // Nested alternative 2.
+        // Nested alternative 2.
 
-      yyResult = pJeannieC$UnaryExpression(yyChoice1);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$2 = yyResult.semanticValue();
+        yyResult = pJeannieC$UnaryExpression(yyChoice1);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("SizeofExpression", v$g$2);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("SizeofExpression", v$g$2);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 2.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pAlignofKeyword(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
+      yyResult = pAlignofKeyword(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
 
-      final int yyChoice1 = yyResult.index;
+        final int yyChoice1 = yyResult.index;
 
-      // Nested alternative 1.
+        // Nested alternative 1.
 
-      yyBase   = yyChoice1;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue("(")) {
+        yyBase   = yyChoice1;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue("(")) {
 
-        yyResult = pJeannieC$TypeName(yyResult.index);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$g$1 = yyResult.semanticValue();
+          yyResult = pJeannieC$TypeName(yyResult.index);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Node v$g$1 = yyResult.semanticValue();
 
-          yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue(")")) {
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue(")")) {
 
-            yyPredMatched = false;
+              yyPredMatched = false;
 
-            yyPredResult = pSymbol(yyResult.index);
-            if (yyPredResult.hasValue("{")) {
+              yyPredResult = pSymbol(yyResult.index);
+              if (yyPredResult.hasValue("{")) {
 
-              yyPredMatched = true;
-            }
+                yyPredMatched = true;
+              }
 
-            if (! yyPredMatched) {
+              if (! yyPredMatched) {
 
-              yyValue = GNode.create("AlignofExpression", v$g$1);
-              yyValue.setLocation(location(yyStart));
+                yyValue = GNode.create("AlignofExpression", v$g$1);
+                locate(yyValue, yyStart);
 
-              return yyResult.createValue(yyValue, yyError);
+                return yyResult.createValue(yyValue, yyError);
+              } else {
+                yyError = yyError.select("unary expression expected", yyStart);
+              }
             } else {
-              yyError = yyError.select("unary expression expected", yyStart);
+              yyError = yyError.select("')' expected", yyBase);
             }
-          } else {
-            yyError = yyError.select("')' expected", yyBase);
           }
+        } else {
+          yyError = yyError.select("'(' expected", yyBase);
         }
-      } else {
-        yyError = yyError.select("'(' expected", yyBase);
-      }
 
-      // Nested alternative 2.
+        // Nested alternative 2.
 
-      yyResult = pJeannieC$UnaryExpression(yyChoice1);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$2 = yyResult.semanticValue();
+        yyResult = pJeannieC$UnaryExpression(yyChoice1);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("AlignofExpression", v$g$2);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("AlignofExpression", v$g$2);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__builtin_offsetof")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__builtin_offsetof")) {
 
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue("(")) {
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue("(")) {
 
-        yyResult = pJeannieC$TypeName(yyResult.index);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$g$1 = yyResult.semanticValue();
+          yyResult = pJeannieC$TypeName(yyResult.index);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Node v$g$1 = yyResult.semanticValue();
 
-          yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue(",")) {
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue(",")) {
 
-            yyResult = pJeannieC$PostfixExpression(yyResult.index);
-            yyError  = yyResult.select(yyError);
-            if (yyResult.hasValue()) {
-              final Node v$g$2 = yyResult.semanticValue();
+              yyResult = pJeannieC$PostfixExpression(yyResult.index);
+              yyError  = yyResult.select(yyError);
+              if (yyResult.hasValue()) {
+                final Node v$g$2 = yyResult.semanticValue();
 
-              yyBase   = yyResult.index;
-              yyResult = pSymbol(yyBase);
-              if (yyResult.hasValue(")")) {
+                yyBase   = yyResult.index;
+                yyResult = pSymbol(yyBase);
+                if (yyResult.hasValue(")")) {
 
-                yyValue = GNode.create("OffsetofExpression", v$g$1, v$g$2);
-                yyValue.setLocation(location(yyStart));
+                  yyValue = GNode.create("OffsetofExpression", v$g$1, v$g$2);
+                  locate(yyValue, yyStart);
 
-                return yyResult.createValue(yyValue, yyError);
-              } else {
-                yyError = yyError.select("')' expected", yyBase);
+                  return yyResult.createValue(yyValue, yyError);
+                } else {
+                  yyError = yyError.select("')' expected", yyBase);
+                }
               }
+            } else {
+              yyError = yyError.select("',' expected", yyBase);
             }
-          } else {
-            yyError = yyError.select("',' expected", yyBase);
           }
+        } else {
+          yyError = yyError.select("'(' expected", yyBase);
         }
-      } else {
-        yyError = yyError.select("'(' expected", yyBase);
       }
     }
 
     // Alternative 4.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__builtin_types_compatible_p")) {
-
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue("(")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__builtin_types_compatible_p")) {
 
-        yyResult = pJeannieC$TypeName(yyResult.index);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$g$1 = yyResult.semanticValue();
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue("(")) {
 
-          yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue(",")) {
+          yyResult = pJeannieC$TypeName(yyResult.index);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Node v$g$1 = yyResult.semanticValue();
 
-            yyResult = pJeannieC$TypeName(yyResult.index);
-            yyError  = yyResult.select(yyError);
-            if (yyResult.hasValue()) {
-              final Node v$g$2 = yyResult.semanticValue();
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue(",")) {
 
-              yyBase   = yyResult.index;
-              yyResult = pSymbol(yyBase);
-              if (yyResult.hasValue(")")) {
+              yyResult = pJeannieC$TypeName(yyResult.index);
+              yyError  = yyResult.select(yyError);
+              if (yyResult.hasValue()) {
+                final Node v$g$2 = yyResult.semanticValue();
 
-                yyValue = GNode.create("TypeCompatibilityExpression", v$g$1, v$g$2);
-                yyValue.setLocation(location(yyStart));
+                yyBase   = yyResult.index;
+                yyResult = pSymbol(yyBase);
+                if (yyResult.hasValue(")")) {
 
-                return yyResult.createValue(yyValue, yyError);
-              } else {
-                yyError = yyError.select("')' expected", yyBase);
+                  yyValue = GNode.create("TypeCompatibilityExpression", v$g$1, v$g$2);
+                  locate(yyValue, yyStart);
+
+                  return yyResult.createValue(yyValue, yyError);
+                } else {
+                  yyError = yyError.select("')' expected", yyBase);
+                }
               }
+            } else {
+              yyError = yyError.select("',' expected", yyBase);
             }
-          } else {
-            yyError = yyError.select("',' expected", yyBase);
           }
+        } else {
+          yyError = yyError.select("'(' expected", yyBase);
         }
-      } else {
-        yyError = yyError.select("'(' expected", yyBase);
       }
     }
 
     // Alternative 5.
+    if (0 != (yyFirst & 0x10)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("-")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("-")) {
 
-      yyResult = pJeannieC$CastExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
+        yyResult = pJeannieC$CastExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryMinusExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("UnaryMinusExpression", v$g$1);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 6.
+    if (0 != (yyFirst & 0x20)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("+")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("+")) {
 
-      yyResult = pJeannieC$CastExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
+        yyResult = pJeannieC$CastExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryPlusExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("UnaryPlusExpression", v$g$1);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative <JavaInCExpression>.
+    if ((0 != (yyFirst & 0x40)) || (yyError.index < yyStart)) {
 
-    yyResult = pJavaInCExpression(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pJavaInCExpression(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 8.
+    if (0 != (yyFirst & 0x80)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("!")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("!")) {
 
-      yyResult = pJeannieC$CastExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
+        yyResult = pJeannieC$CastExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("LogicalNegationExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("LogicalNegationExpression", v$g$1);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 9.
+    if (0 != (yyFirst & 0x100)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("~")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("~")) {
 
-      yyResult = pJeannieC$CastExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
+        yyResult = pJeannieC$CastExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("BitwiseNegationExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("BitwiseNegationExpression", v$g$1);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 10.
+    if (0 != (yyFirst & 0x200)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("&")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("&")) {
 
-      yyResult = pJeannieC$CastExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
+        yyResult = pJeannieC$CastExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("AddressExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("AddressExpression", v$g$1);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
@@ -15235,7 +17729,7 @@ public final class JeannieParser extends ParserBase {
           final String v$g$1 = yyResult.semanticValue();
 
           yyValue = GNode.create("LabelAddressExpression", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -15243,53 +17737,59 @@ public final class JeannieParser extends ParserBase {
     }
 
     // Alternative 12.
+    if (0 != (yyFirst & 0x400)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("*")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("*")) {
 
-      yyResult = pJeannieC$CastExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
+        yyResult = pJeannieC$CastExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("IndirectionExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("IndirectionExpression", v$g$1);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 13.
+    if (0 != (yyFirst & 0x800)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("++")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("++")) {
 
-      yyResult = pJeannieC$UnaryExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
+        yyResult = pJeannieC$UnaryExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("PreincrementExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("PreincrementExpression", v$g$1);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 14.
+    if (0 != (yyFirst & 0x1000)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("--")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("--")) {
 
-      yyResult = pJeannieC$UnaryExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
+        yyResult = pJeannieC$UnaryExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("PredecrementExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("PredecrementExpression", v$g$1);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
@@ -15306,7 +17806,7 @@ public final class JeannieParser extends ParserBase {
           final Node v$g$1 = yyResult.semanticValue();
 
           yyValue = GNode.create("ExtensionExpression", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -15342,24 +17842,90 @@ public final class JeannieParser extends ParserBase {
     Void       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__alignof__")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__alignof__")) {
 
-      yyValue = null;
+        yyValue = null;
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__alignof")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__alignof")) {
 
-      yyValue = null;
+        yyValue = null;
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -15470,129 +18036,175 @@ public final class JeannieParser extends ParserBase {
     Action<Node> yyValue;
     ParseError   yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '`':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3f;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("[")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("[")) {
 
-      yyResult = pCommaExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$2 = yyResult.semanticValue();
+        yyResult = pCommaExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$2 = yyResult.semanticValue();
 
-        yyBase   = yyResult.index;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue("]")) {
+          yyBase   = yyResult.index;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue("]")) {
 
-          yyValue = new Action<Node>() {
-            public Node run(Node v$1) {
-              return GNode.create("SubscriptExpression", v$1, v$g$2);
-            }};
+            yyValue = new Action<Node>() {
+              public Node run(Node v$1) {
+                return GNode.create("SubscriptExpression", v$1, v$g$2);
+              }};
 
-          return yyResult.createValue(yyValue, yyError);
-        } else {
-          yyError = yyError.select("']' expected", yyBase);
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("']' expected", yyBase);
+          }
         }
       }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(".")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(".")) {
 
-      yyResult = pCIdentifier$Identifier(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final String v$g$3 = yyResult.semanticValue();
+        yyResult = pCIdentifier$Identifier(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final String v$g$3 = yyResult.semanticValue();
 
-        yyValue = new Action<Node>() {
-          public Node run(Node v$1) {
-            return GNode.create("DirectComponentSelection", v$1, v$g$3);
-          }};
+          yyValue = new Action<Node>() {
+            public Node run(Node v$1) {
+              return GNode.create("DirectComponentSelection", v$1, v$g$3);
+            }};
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("->")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("->")) {
 
-      yyResult = pCIdentifier$Identifier(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final String v$g$4 = yyResult.semanticValue();
+        yyResult = pCIdentifier$Identifier(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final String v$g$4 = yyResult.semanticValue();
 
-        yyValue = new Action<Node>() {
-          public Node run(Node v$1) {
-            return GNode.create("IndirectComponentSelection", v$1, v$g$4);
-          }};
+          yyValue = new Action<Node>() {
+            public Node run(Node v$1) {
+              return GNode.create("IndirectComponentSelection", v$1, v$g$4);
+            }};
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 4.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("(")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("(")) {
 
-      yyOption1  = yyResult.index;
-      yyOpValue1 = null;
+        yyOption1  = yyResult.index;
+        yyOpValue1 = null;
 
-      yyResult = pJeannieC$ExpressionList(yyOption1);
-      yyError  = yyResult.select(yyError, yyOption1);
-      if (yyResult.hasValue()) {
-        final Node v$el$1 = yyResult.semanticValue();
+        yyResult = pJeannieC$ExpressionList(yyOption1);
+        yyError  = yyResult.select(yyError, yyOption1);
+        if (yyResult.hasValue()) {
+          final Node v$el$1 = yyResult.semanticValue();
 
-        yyOption1  = yyResult.index;
-        yyOpValue1 = v$el$1;
-      }
-      { // Start scope for v$g$5.
-        final Node v$g$5 = yyOpValue1;
+          yyOption1  = yyResult.index;
+          yyOpValue1 = v$el$1;
+        }
+        { // Start scope for v$g$5.
+          final Node v$g$5 = yyOpValue1;
 
-        yyBase   = yyOption1;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue(")")) {
+          yyBase   = yyOption1;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue(")")) {
 
-          yyValue = new Action<Node>() {
-            public Node run(Node v$1) {
-              return GNode.create("FunctionCall", v$1, v$g$5);
-            }};
+            yyValue = new Action<Node>() {
+              public Node run(Node v$1) {
+                return GNode.create("FunctionCall", v$1, v$g$5);
+              }};
 
-          return yyResult.createValue(yyValue, yyError);
-        } else {
-          yyError = yyError.select("')' expected", yyBase);
-        }
-      } // End scope for v$g$5.
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("')' expected", yyBase);
+          }
+        } // End scope for v$g$5.
+      }
     }
 
     // Alternative 5.
+    if (0 != (yyFirst & 0x10)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("++")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("++")) {
 
-      yyValue = new Action<Node>() {
-        public Node run(Node v$1) {
-          return GNode.create("PostincrementExpression", v$1);
-        }};
+        yyValue = new Action<Node>() {
+          public Node run(Node v$1) {
+            return GNode.create("PostincrementExpression", v$1);
+          }};
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 6.
+    if (0 != (yyFirst & 0x20)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("--")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("--")) {
 
-      yyValue = new Action<Node>() {
-        public Node run(Node v$1) {
-          return GNode.create("PostdecrementExpression", v$1);
-        }};
+        yyValue = new Action<Node>() {
+          public Node run(Node v$1) {
+            return GNode.create("PostdecrementExpression", v$1);
+          }};
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -15613,10 +18225,16 @@ public final class JeannieParser extends ParserBase {
     throws IOException {
 
     JeannieParserColumn yyColumn = (JeannieParserColumn)column(yyStart);
-    if (null == yyColumn.chunk5) yyColumn.chunk5 = new Chunk5();
-    if (null == yyColumn.chunk5.fJeannieC$ExpressionList) 
-      yyColumn.chunk5.fJeannieC$ExpressionList = pJeannieC$ExpressionList$1(yyStart);
-    return yyColumn.chunk5.fJeannieC$ExpressionList;
+    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
+    if (null == yyColumn.chunk4.fJeannieC$ExpressionList) {
+      yyColumn.chunk4.fJeannieC$ExpressionList = 
+        pJeannieC$ExpressionList$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(46, yyColumn.chunk4.fJeannieC$ExpressionList);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(46, yyColumn.chunk4.fJeannieC$ExpressionList);
+    }
+    return yyColumn.chunk4.fJeannieC$ExpressionList;
   }
 
   /** Actually parse xtc.lang.jeannie.JeannieC.ExpressionList. */
@@ -15640,7 +18258,7 @@ public final class JeannieParser extends ParserBase {
         final Pair<Node> v$g$2 = yyResult.semanticValue();
 
         yyValue = GNode.createFromPair("ExpressionList", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -15663,10 +18281,16 @@ public final class JeannieParser extends ParserBase {
     throws IOException {
 
     JeannieParserColumn yyColumn = (JeannieParserColumn)column(yyStart);
-    if (null == yyColumn.chunk5) yyColumn.chunk5 = new Chunk5();
-    if (null == yyColumn.chunk5.fJeannieC$ExpressionList$$Star1) 
-      yyColumn.chunk5.fJeannieC$ExpressionList$$Star1 = pJeannieC$ExpressionList$$Star1$1(yyStart);
-    return yyColumn.chunk5.fJeannieC$ExpressionList$$Star1;
+    if (null == yyColumn.chunk7) yyColumn.chunk7 = new Chunk7();
+    if (null == yyColumn.chunk7.fJeannieC$ExpressionList$$Star1) {
+      yyColumn.chunk7.fJeannieC$ExpressionList$$Star1 = 
+        pJeannieC$ExpressionList$$Star1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(47, yyColumn.chunk7.fJeannieC$ExpressionList$$Star1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(47, yyColumn.chunk7.fJeannieC$ExpressionList$$Star1);
+    }
+    return yyColumn.chunk7.fJeannieC$ExpressionList$$Star1;
   }
 
   /** Actually parse JeannieC.ExpressionList$$Star1. */
@@ -15761,7 +18385,7 @@ public final class JeannieParser extends ParserBase {
               if (yyResult.hasValue("}")) {
 
                 yyValue = GNode.create("CompoundLiteral", v$g$1, v$g$2);
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return yyResult.createValue(yyValue, yyError);
               } else {
@@ -15799,27 +18423,142 @@ public final class JeannieParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '`':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x8;
+      break;
+
+    case '\"':
+    case '\'':
+    case '0':
+    case '1':
+    case '2':
+    case '3':
+    case '4':
+    case '5':
+    case '6':
+    case '7':
+    case '8':
+    case '9':
+      yyFirst = 0x1;
+      break;
+
+    case '.':
+      yyFirst = 0x9;
+      break;
+
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x6;
+      break;
+
+    case 'L':
+      yyFirst = 0x7;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Constant>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pConstant(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pConstant(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 2.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pCIdentifier$Identifier(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final String v$g$1 = yyResult.semanticValue();
+      yyResult = pCIdentifier$Identifier(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final String v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("PrimaryIdentifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("PrimaryIdentifier", v$g$1);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 3.
@@ -15839,7 +18578,7 @@ public final class JeannieParser extends ParserBase {
           if (yyResult.hasValue(")")) {
 
             yyValue = GNode.create("StatementAsExpression", v$g$1);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
@@ -15850,66 +18589,70 @@ public final class JeannieParser extends ParserBase {
     }
 
     // Alternative 4.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__builtin_va_arg")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__builtin_va_arg")) {
 
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue("(")) {
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue("(")) {
 
-        yyResult = pAssignmentExpression(yyResult.index);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$g$1 = yyResult.semanticValue();
+          yyResult = pAssignmentExpression(yyResult.index);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Node v$g$1 = yyResult.semanticValue();
 
-          yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue(",")) {
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue(",")) {
 
-            yyResult = pJeannieC$TypeName(yyResult.index);
-            yyError  = yyResult.select(yyError);
-            if (yyResult.hasValue()) {
-              final Node v$g$2 = yyResult.semanticValue();
+              yyResult = pJeannieC$TypeName(yyResult.index);
+              yyError  = yyResult.select(yyError);
+              if (yyResult.hasValue()) {
+                final Node v$g$2 = yyResult.semanticValue();
 
-              yyBase   = yyResult.index;
-              yyResult = pSymbol(yyBase);
-              if (yyResult.hasValue(")")) {
+                yyBase   = yyResult.index;
+                yyResult = pSymbol(yyBase);
+                if (yyResult.hasValue(")")) {
 
-                yyValue = GNode.create("VariableArgumentAccess", v$g$1, v$g$2);
-                yyValue.setLocation(location(yyStart));
+                  yyValue = GNode.create("VariableArgumentAccess", v$g$1, v$g$2);
+                  locate(yyValue, yyStart);
 
-                return yyResult.createValue(yyValue, yyError);
-              } else {
-                yyError = yyError.select("')' expected", yyBase);
+                  return yyResult.createValue(yyValue, yyError);
+                } else {
+                  yyError = yyError.select("')' expected", yyBase);
+                }
               }
+            } else {
+              yyError = yyError.select("',' expected", yyBase);
             }
-          } else {
-            yyError = yyError.select("',' expected", yyBase);
           }
+        } else {
+          yyError = yyError.select("'(' expected", yyBase);
         }
-      } else {
-        yyError = yyError.select("'(' expected", yyBase);
       }
     }
 
     // Alternative <ParenthesizedExpression>.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("(")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("(")) {
 
-      yyResult = pCommaExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        yyValue = yyResult.semanticValue();
+        yyResult = pCommaExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          yyValue = yyResult.semanticValue();
 
-        yyBase   = yyResult.index;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue(")")) {
+          yyBase   = yyResult.index;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue(")")) {
 
-          return yyResult.createValue(yyValue, yyError);
-        } else {
-          yyError = yyError.select("')' expected", yyBase);
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("')' expected", yyBase);
+          }
         }
       }
     }
@@ -15943,7 +18686,7 @@ public final class JeannieParser extends ParserBase {
       final String v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.create("PrimaryIdentifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -15979,7 +18722,7 @@ public final class JeannieParser extends ParserBase {
       if (yyResult.hasValue(";")) {
 
         yyValue = GNode.create("AssemblyDefinition", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       } else {
@@ -16004,10 +18747,16 @@ public final class JeannieParser extends ParserBase {
     throws IOException {
 
     JeannieParserColumn yyColumn = (JeannieParserColumn)column(yyStart);
-    if (null == yyColumn.chunk5) yyColumn.chunk5 = new Chunk5();
-    if (null == yyColumn.chunk5.fSimpleAssemblyExpression) 
-      yyColumn.chunk5.fSimpleAssemblyExpression = pSimpleAssemblyExpression$1(yyStart);
-    return yyColumn.chunk5.fSimpleAssemblyExpression;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fSimpleAssemblyExpression) {
+      yyColumn.chunk3.fSimpleAssemblyExpression = 
+        pSimpleAssemblyExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(48, yyColumn.chunk3.fSimpleAssemblyExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(48, yyColumn.chunk3.fSimpleAssemblyExpression);
+    }
+    return yyColumn.chunk3.fSimpleAssemblyExpression;
   }
 
   /** Actually parse xtc.lang.jeannie.JeannieC.SimpleAssemblyExpression. */
@@ -16039,7 +18788,7 @@ public final class JeannieParser extends ParserBase {
           if (yyResult.hasValue(")")) {
 
             yyValue = GNode.create("SimpleAssemblyExpression", v$g$1);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
@@ -16137,7 +18886,7 @@ public final class JeannieParser extends ParserBase {
                   final Node v$g$4 = yyResult.semanticValue();
 
                   yyValue = GNode.create("AssemblyArgument", v$g$1, v$g$2, v$g$3, v$g$4);
-                  yyValue.setLocation(location(yyStart));
+                  locate(yyValue, yyStart);
 
                   return yyResult.createValue(yyValue, yyError);
                 }
@@ -16148,7 +18897,7 @@ public final class JeannieParser extends ParserBase {
               // Nested alternative 2.
 
               yyValue = GNode.create("AssemblyArgument", v$g$1, v$g$2, v$g$3);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return new SemanticValue(yyValue, yyChoice3, yyError);
             } // End scope for v$g$3.
@@ -16159,7 +18908,7 @@ public final class JeannieParser extends ParserBase {
           // Nested alternative 2.
 
           yyValue = GNode.create("AssemblyArgument", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyChoice2, yyError);
         } // End scope for v$g$2.
@@ -16170,7 +18919,7 @@ public final class JeannieParser extends ParserBase {
       // Nested alternative 2.
 
       yyValue = GNode.create("AssemblyArgument", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return new SemanticValue(yyValue, yyChoice1, yyError);
     }
@@ -16191,8 +18940,13 @@ public final class JeannieParser extends ParserBase {
   private Result pAssemblyOperands(final int yyStart) throws IOException {
     JeannieParserColumn yyColumn = (JeannieParserColumn)column(yyStart);
     if (null == yyColumn.chunk5) yyColumn.chunk5 = new Chunk5();
-    if (null == yyColumn.chunk5.fAssemblyOperands) 
+    if (null == yyColumn.chunk5.fAssemblyOperands) {
       yyColumn.chunk5.fAssemblyOperands = pAssemblyOperands$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(49, yyColumn.chunk5.fAssemblyOperands);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(49, yyColumn.chunk5.fAssemblyOperands);
+    }
     return yyColumn.chunk5.fAssemblyOperands;
   }
 
@@ -16215,7 +18969,7 @@ public final class JeannieParser extends ParserBase {
         final Pair<Node> v$g$2 = yyResult.semanticValue();
 
         yyValue = GNode.createFromPair("AssemblyOperands", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -16239,10 +18993,16 @@ public final class JeannieParser extends ParserBase {
     throws IOException {
 
     JeannieParserColumn yyColumn = (JeannieParserColumn)column(yyStart);
-    if (null == yyColumn.chunk6) yyColumn.chunk6 = new Chunk6();
-    if (null == yyColumn.chunk6.fAssemblyOperands$$Star1) 
-      yyColumn.chunk6.fAssemblyOperands$$Star1 = pAssemblyOperands$$Star1$1(yyStart);
-    return yyColumn.chunk6.fAssemblyOperands$$Star1;
+    if (null == yyColumn.chunk7) yyColumn.chunk7 = new Chunk7();
+    if (null == yyColumn.chunk7.fAssemblyOperands$$Star1) {
+      yyColumn.chunk7.fAssemblyOperands$$Star1 = 
+        pAssemblyOperands$$Star1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(50, yyColumn.chunk7.fAssemblyOperands$$Star1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(50, yyColumn.chunk7.fAssemblyOperands$$Star1);
+    }
+    return yyColumn.chunk7.fAssemblyOperands$$Star1;
   }
 
   /** Actually parse xtc.lang.jeannie.Jeannie.AssemblyOperands$$Star1. */
@@ -16293,10 +19053,15 @@ public final class JeannieParser extends ParserBase {
    */
   private Result pAssemblyOperand(final int yyStart) throws IOException {
     JeannieParserColumn yyColumn = (JeannieParserColumn)column(yyStart);
-    if (null == yyColumn.chunk6) yyColumn.chunk6 = new Chunk6();
-    if (null == yyColumn.chunk6.fAssemblyOperand) 
-      yyColumn.chunk6.fAssemblyOperand = pAssemblyOperand$1(yyStart);
-    return yyColumn.chunk6.fAssemblyOperand;
+    if (null == yyColumn.chunk5) yyColumn.chunk5 = new Chunk5();
+    if (null == yyColumn.chunk5.fAssemblyOperand) {
+      yyColumn.chunk5.fAssemblyOperand = pAssemblyOperand$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(51, yyColumn.chunk5.fAssemblyOperand);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(51, yyColumn.chunk5.fAssemblyOperand);
+    }
+    return yyColumn.chunk5.fAssemblyOperand;
   }
 
   /** Actually parse xtc.lang.jeannie.JeannieC.AssemblyOperand. */
@@ -16357,7 +19122,7 @@ public final class JeannieParser extends ParserBase {
             if (yyResult.hasValue(")")) {
 
               yyValue = GNode.create("AssemblyOperand", v$g$1, v$g$2, v$g$3);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             } else {
@@ -16387,7 +19152,8 @@ public final class JeannieParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -16399,7 +19165,8 @@ public final class JeannieParser extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyBase   = yyRepetition1;
@@ -16412,7 +19179,7 @@ public final class JeannieParser extends ParserBase {
             final Node v$el$1 = yyResult.semanticValue();
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
         } else {
@@ -16421,10 +19188,11 @@ public final class JeannieParser extends ParserBase {
         break;
       }
       { // Start scope for v$g$2.
-        final Pair<Node> v$g$2 = yyRepValue1.reverse();
+        final int v$g$2 = yyRepStart1;
+        final int v$g$2$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("AssemblyClobbers", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("AssemblyClobbers", v$g$1, v$g$2, v$g$2$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$2.
@@ -16445,10 +19213,15 @@ public final class JeannieParser extends ParserBase {
    */
   private Result pAsmKeyword(final int yyStart) throws IOException {
     JeannieParserColumn yyColumn = (JeannieParserColumn)column(yyStart);
-    if (null == yyColumn.chunk6) yyColumn.chunk6 = new Chunk6();
-    if (null == yyColumn.chunk6.fAsmKeyword) 
-      yyColumn.chunk6.fAsmKeyword = pAsmKeyword$1(yyStart);
-    return yyColumn.chunk6.fAsmKeyword;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fAsmKeyword) {
+      yyColumn.chunk3.fAsmKeyword = pAsmKeyword$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(52, yyColumn.chunk3.fAsmKeyword);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(52, yyColumn.chunk3.fAsmKeyword);
+    }
+    return yyColumn.chunk3.fAsmKeyword;
   }
 
   /** Actually parse xtc.lang.jeannie.JeannieC.AsmKeyword. */
@@ -16457,34 +19230,102 @@ public final class JeannieParser extends ParserBase {
     Void       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x7;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("asm")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("asm")) {
 
-      yyValue = null;
+        yyValue = null;
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__asm")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__asm")) {
 
-      yyValue = null;
+        yyValue = null;
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pKeyword(yyStart);
-    if (yyResult.hasValue("__asm__")) {
+      yyResult = pKeyword(yyStart);
+      if (yyResult.hasValue("__asm__")) {
 
-      yyValue = null;
+        yyValue = null;
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -16539,7 +19380,7 @@ public final class JeannieParser extends ParserBase {
                 if (yyResult.hasValue()) {
 
                   yyValue = GNode.create("WithStatement", v$g$1, v$g$2);
-                  yyValue.setLocation(location(yyStart));
+                  locate(yyValue, yyStart);
 
                   return yyResult.createValue(yyValue, yyError);
                 }
@@ -16639,7 +19480,7 @@ public final class JeannieParser extends ParserBase {
         if (yyState.isValid(l)) {
 
           yyValue = GNode.create("Declaration", null, v$g$2, l);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyOption1, yyError);
         }
@@ -16681,7 +19522,7 @@ public final class JeannieParser extends ParserBase {
         if (yyResult.hasValue(";")) {
 
           yyValue = GNode.create("CancelStatement", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
@@ -16725,7 +19566,7 @@ public final class JeannieParser extends ParserBase {
         if (yyResult.hasValue(";")) {
 
           yyValue = GNode.create("CommitStatement", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
@@ -16750,10 +19591,15 @@ public final class JeannieParser extends ParserBase {
    */
   private Result pJavaInC(final int yyStart) throws IOException {
     JeannieParserColumn yyColumn = (JeannieParserColumn)column(yyStart);
-    if (null == yyColumn.chunk6) yyColumn.chunk6 = new Chunk6();
-    if (null == yyColumn.chunk6.fJavaInC) 
-      yyColumn.chunk6.fJavaInC = pJavaInC$1(yyStart);
-    return yyColumn.chunk6.fJavaInC;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fJavaInC) {
+      yyColumn.chunk1.fJavaInC = pJavaInC$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(53, yyColumn.chunk1.fJavaInC);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(53, yyColumn.chunk1.fJavaInC);
+    }
+    return yyColumn.chunk1.fJavaInC;
   }
 
   /** Actually parse xtc.lang.jeannie.JeannieC.JavaInC. */
@@ -16842,10 +19688,15 @@ public final class JeannieParser extends ParserBase {
    */
   private Result pCInCBlock(final int yyStart) throws IOException {
     JeannieParserColumn yyColumn = (JeannieParserColumn)column(yyStart);
-    if (null == yyColumn.chunk6) yyColumn.chunk6 = new Chunk6();
-    if (null == yyColumn.chunk6.fCInCBlock) 
-      yyColumn.chunk6.fCInCBlock = pCInCBlock$1(yyStart);
-    return yyColumn.chunk6.fCInCBlock;
+    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
+    if (null == yyColumn.chunk4.fCInCBlock) {
+      yyColumn.chunk4.fCInCBlock = pCInCBlock$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(54, yyColumn.chunk4.fCInCBlock);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(54, yyColumn.chunk4.fCInCBlock);
+    }
+    return yyColumn.chunk4.fCInCBlock;
   }
 
   /** Actually parse xtc.lang.jeannie.JeannieC.CInCBlock. */
@@ -16896,7 +19747,7 @@ public final class JeannieParser extends ParserBase {
 
                     yyValue = GNode.create("CInCBlock", v$g$1.size() + v$g$2.size() + 1).
                       addAll(v$g$1).addAll(v$g$2).add(v$g$3);
-                    yyValue.setLocation(location(yyStart));
+                    locate(yyValue, yyStart);
 
                     return yyResult.createValue(yyValue, yyError);
                   }
@@ -16926,10 +19777,15 @@ public final class JeannieParser extends ParserBase {
    */
   private Result pCInCBlock$$Star1(final int yyStart) throws IOException {
     JeannieParserColumn yyColumn = (JeannieParserColumn)column(yyStart);
-    if (null == yyColumn.chunk6) yyColumn.chunk6 = new Chunk6();
-    if (null == yyColumn.chunk6.fCInCBlock$$Star1) 
-      yyColumn.chunk6.fCInCBlock$$Star1 = pCInCBlock$$Star1$1(yyStart);
-    return yyColumn.chunk6.fCInCBlock$$Star1;
+    if (null == yyColumn.chunk7) yyColumn.chunk7 = new Chunk7();
+    if (null == yyColumn.chunk7.fCInCBlock$$Star1) {
+      yyColumn.chunk7.fCInCBlock$$Star1 = pCInCBlock$$Star1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(55, yyColumn.chunk7.fCInCBlock$$Star1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(55, yyColumn.chunk7.fCInCBlock$$Star1);
+    }
+    return yyColumn.chunk7.fCInCBlock$$Star1;
   }
 
   /** Actually parse xtc.lang.jeannie.Jeannie.CInCBlock$$Star1. */
@@ -16974,10 +19830,15 @@ public final class JeannieParser extends ParserBase {
    */
   private Result pCInCBlock$$Star2(final int yyStart) throws IOException {
     JeannieParserColumn yyColumn = (JeannieParserColumn)column(yyStart);
-    if (null == yyColumn.chunk6) yyColumn.chunk6 = new Chunk6();
-    if (null == yyColumn.chunk6.fCInCBlock$$Star2) 
-      yyColumn.chunk6.fCInCBlock$$Star2 = pCInCBlock$$Star2$1(yyStart);
-    return yyColumn.chunk6.fCInCBlock$$Star2;
+    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
+    if (null == yyColumn.chunk4.fCInCBlock$$Star2) {
+      yyColumn.chunk4.fCInCBlock$$Star2 = pCInCBlock$$Star2$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(56, yyColumn.chunk4.fCInCBlock$$Star2);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(56, yyColumn.chunk4.fCInCBlock$$Star2);
+    }
+    return yyColumn.chunk4.fCInCBlock$$Star2;
   }
 
   /** Actually parse xtc.lang.jeannie.Jeannie.CInCBlock$$Star2. */
@@ -17037,7 +19898,7 @@ public final class JeannieParser extends ParserBase {
         final Node v$g$1 = yyResult.semanticValue();
 
         yyValue = GNode.create("JavaInCBlock", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -17073,7 +19934,7 @@ public final class JeannieParser extends ParserBase {
         final Node v$g$1 = yyResult.semanticValue();
 
         yyValue = GNode.create("JavaInCExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -17096,7 +19957,8 @@ public final class JeannieParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -17111,7 +19973,8 @@ public final class JeannieParser extends ParserBase {
       if (yyResult.hasValue("{")) {
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyResult = pImportDeclaration(yyRepetition1);
@@ -17120,25 +19983,27 @@ public final class JeannieParser extends ParserBase {
             final Node v$el$1 = yyResult.semanticValue();
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
           break;
         }
         { // Start scope for v$g$1.
-          final Pair<Node> v$g$1 = yyRepValue1.reverse();
+          final int v$g$1 = yyRepStart1;
+          final int v$g$1$end = yyRepEnd1;
 
           yyBase   = yyRepetition1;
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue("}")) {
 
-            yyValue = GNode.createFromPair("JavaImports", v$g$1);
-            yyValue.setLocation(location(yyStart));
+            yyValue = bufferedNode("JavaImports", v$g$1, v$g$1$end);
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
             yyError = yyError.select("'}' expected", yyBase);
           }
+          releaseBuffer(v$g$1);
         } // End scope for v$g$1.
       } else {
         yyError = yyError.select("'{' expected", yyBase);
@@ -17179,7 +20044,7 @@ public final class JeannieParser extends ParserBase {
         final Node v$g$1 = yyResult.semanticValue();
 
         yyValue = GNode.create("JavaInCStatement", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -17192,7 +20057,7 @@ public final class JeannieParser extends ParserBase {
         final Node v$g$2 = yyResult.semanticValue();
 
         yyValue = GNode.create("JavaInCStatement", v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -17205,7 +20070,7 @@ public final class JeannieParser extends ParserBase {
         final Node v$g$3 = yyResult.semanticValue();
 
         yyValue = GNode.create("JavaInCStatement", v$g$3);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -17226,10 +20091,15 @@ public final class JeannieParser extends ParserBase {
    */
   private Result pJavaThrows(final int yyStart) throws IOException {
     JeannieParserColumn yyColumn = (JeannieParserColumn)column(yyStart);
-    if (null == yyColumn.chunk6) yyColumn.chunk6 = new Chunk6();
-    if (null == yyColumn.chunk6.fJavaThrows) 
-      yyColumn.chunk6.fJavaThrows = pJavaThrows$1(yyStart);
-    return yyColumn.chunk6.fJavaThrows;
+    if (null == yyColumn.chunk7) yyColumn.chunk7 = new Chunk7();
+    if (null == yyColumn.chunk7.fJavaThrows) {
+      yyColumn.chunk7.fJavaThrows = pJavaThrows$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(57, yyColumn.chunk7.fJavaThrows);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(57, yyColumn.chunk7.fJavaThrows);
+    }
+    return yyColumn.chunk7.fJavaThrows;
   }
 
   /** Actually parse xtc.lang.jeannie.JeannieC.JavaThrows. */
@@ -17262,7 +20132,7 @@ public final class JeannieParser extends ParserBase {
       final Node v$g$1 = yyOpValue1;
 
       yyValue = GNode.create("JavaThrows", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return new SemanticValue(yyValue, yyOption1, yyError);
     } // End scope for v$g$1.
@@ -17294,7 +20164,7 @@ public final class JeannieParser extends ParserBase {
         final Node v$g$1 = yyResult.semanticValue();
 
         yyValue = GNode.create("JavaType", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -17318,7 +20188,8 @@ public final class JeannieParser extends ParserBase {
     int        yyIndex;
     Result     yyResult;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     int        yyOption1;
     Node       yyOpValue1;
     Node       yyValue;
@@ -17355,7 +20226,8 @@ public final class JeannieParser extends ParserBase {
             final Node v$g$3 = yyResult.semanticValue();
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = Pair.empty();
+            yyRepStart1   = bufferStart();
+            yyRepEnd1   = yyRepStart1;
             while (true) {
 
               yyResult = pClassOrInterfaceDeclaration(yyRepetition1);
@@ -17364,13 +20236,14 @@ public final class JeannieParser extends ParserBase {
                 final Node v$el$2 = yyResult.semanticValue();
 
                 yyRepetition1 = yyResult.index;
-                yyRepValue1   = new Pair<Node>(v$el$2, yyRepValue1);
+                yyRepEnd1   = buffer(yyRepEnd1, v$el$2);
                 continue;
               }
               break;
             }
             { // Start scope for v$g$4.
-              final Pair<Node> v$g$4 = yyRepValue1.reverse();
+              final int v$g$4 = yyRepStart1;
+              final int v$g$4$end = yyRepEnd1;
 
               yyOption1  = yyRepetition1;
 
@@ -17385,12 +20258,14 @@ public final class JeannieParser extends ParserBase {
               yyError  = yyResult.select(yyError);
               if (yyResult.hasValue()) {
 
-                yyValue = GNode.create("CompilationUnit", v$g$4.size() + 3).
-                  add(v$g$1).add(v$g$2).add(v$g$3).addAll(v$g$4);
-                yyValue.setLocation(location(yyStart));
+                yyValue = GNode.create("CompilationUnit", (v$g$4$end - v$g$4) + 3).
+                  add(v$g$1).add(v$g$2).add(v$g$3);
+                addBuffered(yyValue, v$g$4, v$g$4$end);
+                locate(yyValue, yyStart);
 
                 return yyResult.createValue(yyValue, yyError);
               }
+              releaseBuffer(v$g$4);
             } // End scope for v$g$4.
           }
         }
@@ -17432,7 +20307,7 @@ public final class JeannieParser extends ParserBase {
         if (yyResult.hasValue(";")) {
 
           yyValue = GNode.create("PackageDeclaration", null, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
@@ -17492,7 +20367,7 @@ public final class JeannieParser extends ParserBase {
           if (yyResult.hasValue(";")) {
 
             yyValue = GNode.create("ImportDeclaration", null, v$g$2, v$g$3);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
@@ -17554,10 +20429,15 @@ public final class JeannieParser extends ParserBase {
    */
   private Result pModifiers(final int yyStart) throws IOException {
     JeannieParserColumn yyColumn = (JeannieParserColumn)column(yyStart);
-    if (null == yyColumn.chunk6) yyColumn.chunk6 = new Chunk6();
-    if (null == yyColumn.chunk6.fModifiers) 
-      yyColumn.chunk6.fModifiers = pModifiers$1(yyStart);
-    return yyColumn.chunk6.fModifiers;
+    if (null == yyColumn.chunk5) yyColumn.chunk5 = new Chunk5();
+    if (null == yyColumn.chunk5.fModifiers) {
+      yyColumn.chunk5.fModifiers = pModifiers$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(58, yyColumn.chunk5.fModifiers);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(58, yyColumn.chunk5.fModifiers);
+    }
+    return yyColumn.chunk5.fModifiers;
   }
 
   /** Actually parse xtc.lang.jeannie.JeannieJava.Modifiers. */
@@ -17574,7 +20454,7 @@ public final class JeannieParser extends ParserBase {
       final Pair<Node> v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.createFromPair("Modifiers", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -17644,7 +20524,7 @@ public final class JeannieParser extends ParserBase {
       final String v$g$1 = "public";
 
       yyValue = GNode.create("Modifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -17656,7 +20536,7 @@ public final class JeannieParser extends ParserBase {
       final String v$g$2 = "protected";
 
       yyValue = GNode.create("Modifier", v$g$2);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -17668,7 +20548,7 @@ public final class JeannieParser extends ParserBase {
       final String v$g$3 = "private";
 
       yyValue = GNode.create("Modifier", v$g$3);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -17680,7 +20560,7 @@ public final class JeannieParser extends ParserBase {
       final String v$g$4 = "static";
 
       yyValue = GNode.create("Modifier", v$g$4);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -17692,7 +20572,7 @@ public final class JeannieParser extends ParserBase {
       final String v$g$5 = "abstract";
 
       yyValue = GNode.create("Modifier", v$g$5);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -17704,7 +20584,7 @@ public final class JeannieParser extends ParserBase {
       final String v$g$6 = "final";
 
       yyValue = GNode.create("Modifier", v$g$6);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -17716,7 +20596,7 @@ public final class JeannieParser extends ParserBase {
       final String v$g$7 = "native";
 
       yyValue = GNode.create("Modifier", v$g$7);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -17728,7 +20608,7 @@ public final class JeannieParser extends ParserBase {
       final String v$g$8 = "synchronized";
 
       yyValue = GNode.create("Modifier", v$g$8);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -17740,7 +20620,7 @@ public final class JeannieParser extends ParserBase {
       final String v$g$9 = "transient";
 
       yyValue = GNode.create("Modifier", v$g$9);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -17752,7 +20632,7 @@ public final class JeannieParser extends ParserBase {
       final String v$g$10 = "volatile";
 
       yyValue = GNode.create("Modifier", v$g$10);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -17764,7 +20644,7 @@ public final class JeannieParser extends ParserBase {
       final String v$g$11 = "strictfp";
 
       yyValue = GNode.create("Modifier", v$g$11);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -17822,7 +20702,7 @@ public final class JeannieParser extends ParserBase {
             final Node v$g$5 = yyOpValue1;
 
             yyValue = GNode.create("FormalParameter", v$g$1, v$g$2, null, v$g$4, v$g$5);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return new SemanticValue(yyValue, yyOption1, yyError);
           } // End scope for v$g$5.
@@ -17856,7 +20736,7 @@ public final class JeannieParser extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.create("Modifiers", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -17864,7 +20744,7 @@ public final class JeannieParser extends ParserBase {
     // Alternative <Nonfinal>.
 
     yyValue = GNode.create("Modifiers", false);
-    yyValue.setLocation(location(yyStart));
+    locate(yyValue, yyStart);
 
     return new SemanticValue(yyValue, yyStart, yyError);
   }
@@ -17890,7 +20770,7 @@ public final class JeannieParser extends ParserBase {
       final String v$g$1 = "final";
 
       yyValue = GNode.create("Modifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -17911,10 +20791,15 @@ public final class JeannieParser extends ParserBase {
    */
   private Result pFormalParameters(final int yyStart) throws IOException {
     JeannieParserColumn yyColumn = (JeannieParserColumn)column(yyStart);
-    if (null == yyColumn.chunk6) yyColumn.chunk6 = new Chunk6();
-    if (null == yyColumn.chunk6.fFormalParameters) 
-      yyColumn.chunk6.fFormalParameters = pFormalParameters$1(yyStart);
-    return yyColumn.chunk6.fFormalParameters;
+    if (null == yyColumn.chunk7) yyColumn.chunk7 = new Chunk7();
+    if (null == yyColumn.chunk7.fFormalParameters) {
+      yyColumn.chunk7.fFormalParameters = pFormalParameters$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(59, yyColumn.chunk7.fFormalParameters);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(59, yyColumn.chunk7.fFormalParameters);
+    }
+    return yyColumn.chunk7.fFormalParameters;
   }
 
   /** Actually parse xtc.lang.jeannie.JeannieJava.FormalParameters. */
@@ -17948,7 +20833,7 @@ public final class JeannieParser extends ParserBase {
           if (yyResult.hasValue(")")) {
 
             yyValue = GNode.createFromPair("FormalParameters", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
@@ -17964,7 +20849,7 @@ public final class JeannieParser extends ParserBase {
       if (yyResult.hasValue(")")) {
 
         yyValue = GNode.create("FormalParameters", false);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       } else {
@@ -17992,8 +20877,14 @@ public final class JeannieParser extends ParserBase {
 
     JeannieParserColumn yyColumn = (JeannieParserColumn)column(yyStart);
     if (null == yyColumn.chunk7) yyColumn.chunk7 = new Chunk7();
-    if (null == yyColumn.chunk7.fFormalParameters$$Star1) 
-      yyColumn.chunk7.fFormalParameters$$Star1 = pFormalParameters$$Star1$1(yyStart);
+    if (null == yyColumn.chunk7.fFormalParameters$$Star1) {
+      yyColumn.chunk7.fFormalParameters$$Star1 = 
+        pFormalParameters$$Star1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(60, yyColumn.chunk7.fFormalParameters$$Star1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(60, yyColumn.chunk7.fFormalParameters$$Star1);
+    }
     return yyColumn.chunk7.fFormalParameters$$Star1;
   }
 
@@ -18095,7 +20986,7 @@ public final class JeannieParser extends ParserBase {
           final Node v$g$3 = yyOpValue1;
 
           yyValue = GNode.create("Declarator", v$g$1, v$g$2, v$g$3);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyOption1, yyError);
         } // End scope for v$g$3.
@@ -18118,8 +21009,13 @@ public final class JeannieParser extends ParserBase {
   private Result pDeclarators(final int yyStart) throws IOException {
     JeannieParserColumn yyColumn = (JeannieParserColumn)column(yyStart);
     if (null == yyColumn.chunk7) yyColumn.chunk7 = new Chunk7();
-    if (null == yyColumn.chunk7.fDeclarators) 
+    if (null == yyColumn.chunk7.fDeclarators) {
       yyColumn.chunk7.fDeclarators = pDeclarators$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(61, yyColumn.chunk7.fDeclarators);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(61, yyColumn.chunk7.fDeclarators);
+    }
     return yyColumn.chunk7.fDeclarators;
   }
 
@@ -18142,7 +21038,7 @@ public final class JeannieParser extends ParserBase {
         final Pair<Node> v$g$2 = yyResult.semanticValue();
 
         yyValue = GNode.createFromPair("Declarators", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -18163,10 +21059,15 @@ public final class JeannieParser extends ParserBase {
    */
   private Result pDeclarators$$Star1(final int yyStart) throws IOException {
     JeannieParserColumn yyColumn = (JeannieParserColumn)column(yyStart);
-    if (null == yyColumn.chunk7) yyColumn.chunk7 = new Chunk7();
-    if (null == yyColumn.chunk7.fDeclarators$$Star1) 
-      yyColumn.chunk7.fDeclarators$$Star1 = pDeclarators$$Star1$1(yyStart);
-    return yyColumn.chunk7.fDeclarators$$Star1;
+    if (null == yyColumn.chunk8) yyColumn.chunk8 = new Chunk8();
+    if (null == yyColumn.chunk8.fDeclarators$$Star1) {
+      yyColumn.chunk8.fDeclarators$$Star1 = pDeclarators$$Star1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(62, yyColumn.chunk8.fDeclarators$$Star1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(62, yyColumn.chunk8.fDeclarators$$Star1);
+    }
+    return yyColumn.chunk8.fDeclarators$$Star1;
   }
 
   /** Actually parse xtc.lang.jeannie.Jeannie.Declarators$$Star1. */
@@ -18217,7 +21118,8 @@ public final class JeannieParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -18227,7 +21129,8 @@ public final class JeannieParser extends ParserBase {
     if (yyResult.hasValue("{")) {
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyResult = pJeannieJava$Declaration(yyRepetition1);
@@ -18236,25 +21139,27 @@ public final class JeannieParser extends ParserBase {
           final Node v$el$1 = yyResult.semanticValue();
 
           yyRepetition1 = yyResult.index;
-          yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+          yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
           continue;
         }
         break;
       }
       { // Start scope for v$g$1.
-        final Pair<Node> v$g$1 = yyRepValue1.reverse();
+        final int v$g$1 = yyRepStart1;
+        final int v$g$1$end = yyRepEnd1;
 
         yyBase   = yyRepetition1;
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue("}")) {
 
-          yyValue = GNode.createFromPair("ClassBody", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          yyValue = bufferedNode("ClassBody", v$g$1, v$g$1$end);
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
           yyError = yyError.select("'}' expected", yyBase);
         }
+        releaseBuffer(v$g$1);
       } // End scope for v$g$1.
     }
 
@@ -18308,7 +21213,7 @@ public final class JeannieParser extends ParserBase {
           if (yyResult.hasValue(";")) {
 
             yyValue = GNode.create("FieldDeclaration", v$g$1, v$g$2, v$g$3);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
@@ -18376,7 +21281,7 @@ public final class JeannieParser extends ParserBase {
                     final Node v$g$8 = yyResult.semanticValue();
 
                     yyValue = GNode.create("MethodDeclaration", v$g$1, null, v$g$3, v$g$4, v$g$5, v$g$6, v$g$7, v$g$8);
-                    yyValue.setLocation(location(yyStart));
+                    locate(yyValue, yyStart);
 
                     return yyResult.createValue(yyValue, yyError);
                   }
@@ -18388,7 +21293,7 @@ public final class JeannieParser extends ParserBase {
                   if (yyResult.hasValue(";")) {
 
                     yyValue = GNode.create("MethodDeclaration", v$g$1, null, v$g$3, v$g$4, v$g$5, v$g$6, v$g$7, null);
-                    yyValue.setLocation(location(yyStart));
+                    locate(yyValue, yyStart);
 
                     return yyResult.createValue(yyValue, yyError);
                   } else {
@@ -18432,7 +21337,7 @@ public final class JeannieParser extends ParserBase {
                 final Node v$g$6 = yyResult.semanticValue();
 
                 yyValue = GNode.create("ConstructorDeclaration", v$g$1, null, v$g$3, v$g$4, v$g$5, v$g$6);
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return yyResult.createValue(yyValue, yyError);
               }
@@ -18485,7 +21390,7 @@ public final class JeannieParser extends ParserBase {
                 final Node v$g$6 = yyResult.semanticValue();
 
                 yyValue = GNode.create("ClassDeclaration", v$g$1, v$g$2, null, v$g$4, v$g$5, v$g$6);
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return yyResult.createValue(yyValue, yyError);
               }
@@ -18527,7 +21432,7 @@ public final class JeannieParser extends ParserBase {
               final Node v$g$5 = yyResult.semanticValue();
 
               yyValue = GNode.create("InterfaceDeclaration", v$g$1, v$g$2, null, v$g$4, v$g$5);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -18562,7 +21467,7 @@ public final class JeannieParser extends ParserBase {
         final Node v$g$2 = yyResult.semanticValue();
 
         yyValue = GNode.create("BlockDeclaration", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -18574,7 +21479,7 @@ public final class JeannieParser extends ParserBase {
     if (yyResult.hasValue(";")) {
 
       yyValue = GNode.create("EmptyDeclaration", false);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -18597,7 +21502,8 @@ public final class JeannieParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -18612,7 +21518,8 @@ public final class JeannieParser extends ParserBase {
         final Node v$g$1 = yyResult.semanticValue();
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyBase   = yyRepetition1;
@@ -18625,7 +21532,7 @@ public final class JeannieParser extends ParserBase {
               final Node v$el$1 = yyResult.semanticValue();
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
           } else {
@@ -18634,10 +21541,11 @@ public final class JeannieParser extends ParserBase {
           break;
         }
         { // Start scope for v$g$2.
-          final Pair<Node> v$g$2 = yyRepValue1.reverse();
+          final int v$g$2 = yyRepStart1;
+          final int v$g$2$end = yyRepEnd1;
 
-          yyValue = GNode.createFromPair("ThrowsClause", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          yyValue = bufferedNode("ThrowsClause", v$g$1, v$g$2, v$g$2$end);
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
         } // End scope for v$g$2.
@@ -18662,7 +21570,8 @@ public final class JeannieParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -18677,7 +21586,8 @@ public final class JeannieParser extends ParserBase {
         final Node v$g$1 = yyResult.semanticValue();
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyBase   = yyRepetition1;
@@ -18690,7 +21600,7 @@ public final class JeannieParser extends ParserBase {
               final Node v$el$1 = yyResult.semanticValue();
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
           } else {
@@ -18699,10 +21609,11 @@ public final class JeannieParser extends ParserBase {
           break;
         }
         { // Start scope for v$g$2.
-          final Pair<Node> v$g$2 = yyRepValue1.reverse();
+          final int v$g$2 = yyRepStart1;
+          final int v$g$2$end = yyRepEnd1;
 
-          yyValue = GNode.createFromPair("Extension", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          yyValue = bufferedNode("Extension", v$g$1, v$g$2, v$g$2$end);
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
         } // End scope for v$g$2.
@@ -18727,7 +21638,8 @@ public final class JeannieParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -18742,7 +21654,8 @@ public final class JeannieParser extends ParserBase {
         final Node v$g$1 = yyResult.semanticValue();
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyBase   = yyRepetition1;
@@ -18755,7 +21668,7 @@ public final class JeannieParser extends ParserBase {
               final Node v$el$1 = yyResult.semanticValue();
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
           } else {
@@ -18764,10 +21677,11 @@ public final class JeannieParser extends ParserBase {
           break;
         }
         { // Start scope for v$g$2.
-          final Pair<Node> v$g$2 = yyRepValue1.reverse();
+          final int v$g$2 = yyRepStart1;
+          final int v$g$2$end = yyRepEnd1;
 
-          yyValue = GNode.createFromPair("Implementation", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          yyValue = bufferedNode("Implementation", v$g$1, v$g$2, v$g$2$end);
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
         } // End scope for v$g$2.
@@ -18790,10 +21704,14 @@ public final class JeannieParser extends ParserBase {
    */
   private Result pBlock(final int yyStart) throws IOException {
     JeannieParserColumn yyColumn = (JeannieParserColumn)column(yyStart);
-    if (null == yyColumn.chunk7) yyColumn.chunk7 = new Chunk7();
-    if (null == yyColumn.chunk7.fBlock) 
-      yyColumn.chunk7.fBlock = pBlock$1(yyStart);
-    return yyColumn.chunk7.fBlock;
+    if (null == yyColumn.chunk5) yyColumn.chunk5 = new Chunk5();
+    if (null == yyColumn.chunk5.fBlock) {
+      yyColumn.chunk5.fBlock = pBlock$1(yyStart);
+      if (null != yyStatistics) yyStatistics.miss(63, yyColumn.chunk5.fBlock);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(63, yyColumn.chunk5.fBlock);
+    }
+    return yyColumn.chunk5.fBlock;
   }
 
   /** Actually parse xtc.lang.jeannie.JeannieJava.Block. */
@@ -18802,24 +21720,62 @@ public final class JeannieParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '`':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <JavaBlock>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pJavaInJavaBlock(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pJavaInJavaBlock(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <CBlock>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pCInJavaBlock(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pCInJavaBlock(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -18946,7 +21902,7 @@ public final class JeannieParser extends ParserBase {
                 final Node v$g$6 = yyResult.semanticValue();
 
                 yyValue = GNode.create("ClassDeclaration", v$g$1, v$g$2, null, v$g$4, v$g$5, v$g$6);
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 return yyResult.createValue(yyValue, yyError);
               }
@@ -18988,7 +21944,7 @@ public final class JeannieParser extends ParserBase {
               final Node v$g$5 = yyResult.semanticValue();
 
               yyValue = GNode.create("InterfaceDeclaration", v$g$1, v$g$2, null, v$g$4, v$g$5);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -19040,7 +21996,7 @@ public final class JeannieParser extends ParserBase {
           if (yyResult.hasValue(";")) {
 
             yyValue = GNode.create("FieldDeclaration", v$g$1, v$g$2, v$g$3);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
@@ -19070,20 +22026,57 @@ public final class JeannieParser extends ParserBase {
     int        yyBase;
     int        yyRepetition1;
     boolean    yyRepeated1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     int        yyOption1;
     Object     yyOpValue1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '`':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Block>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pBlock(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pBlock(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 2.
@@ -19115,7 +22108,7 @@ public final class JeannieParser extends ParserBase {
               final Node v$g$3 = yyResult.semanticValue();
 
               yyValue = GNode.create("ConditionalStatement", v$g$1, v$g$2, v$g$3);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -19126,7 +22119,7 @@ public final class JeannieParser extends ParserBase {
           // Nested alternative 2.
 
           yyValue = GNode.create("ConditionalStatement", v$g$1, v$g$2, null);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyChoice1, yyError);
         }
@@ -19157,7 +22150,7 @@ public final class JeannieParser extends ParserBase {
               final Node v$g$2 = yyResult.semanticValue();
 
               yyValue = GNode.create("ForStatement", v$g$1, v$g$2);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -19186,7 +22179,7 @@ public final class JeannieParser extends ParserBase {
           final Node v$g$2 = yyResult.semanticValue();
 
           yyValue = GNode.create("WhileStatement", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -19217,7 +22210,7 @@ public final class JeannieParser extends ParserBase {
             if (yyResult.hasValue(";")) {
 
               yyValue = GNode.create("DoWhileStatement", v$g$1, v$g$2);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             } else {
@@ -19245,7 +22238,8 @@ public final class JeannieParser extends ParserBase {
         // Nested alternative 1.
 
         yyRepetition1 = yyChoice1;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyResult = pCatchClause(yyRepetition1);
@@ -19254,13 +22248,14 @@ public final class JeannieParser extends ParserBase {
             final Node v$el$1 = yyResult.semanticValue();
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
           break;
         }
         { // Start scope for v$g$3.
-          final Pair<Node> v$g$3 = yyRepValue1.reverse();
+          final int v$g$3 = yyRepStart1;
+          final int v$g$3$end = yyRepEnd1;
 
           yyBase   = yyRepetition1;
           yyResult = pJavaIdentifier$Word(yyBase);
@@ -19271,22 +22266,26 @@ public final class JeannieParser extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$4 = yyResult.semanticValue();
 
-              yyValue = GNode.create("TryCatchFinallyStatement", v$g$3.size() + 3).
-                add(null).add(v$g$2).addAll(v$g$3).add(v$g$4);
-              yyValue.setLocation(location(yyStart));
+              yyValue = GNode.create("TryCatchFinallyStatement", (v$g$3$end - v$g$3) + 3).
+                add(null).add(v$g$2);
+              addBuffered(yyValue, v$g$3, v$g$3$end);
+              yyValue.add(v$g$4);
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
           } else {
             yyError = yyError.select("'finally' expected", yyBase);
           }
+          releaseBuffer(v$g$3);
         } // End scope for v$g$3.
 
         // Nested alternative 2.
 
         yyRepetition1 = yyChoice1;
         yyRepeated1   = false;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyResult = pCatchClause(yyRepetition1);
@@ -19296,18 +22295,21 @@ public final class JeannieParser extends ParserBase {
 
             yyRepetition1 = yyResult.index;
             yyRepeated1   = true;
-            yyRepValue1   = new Pair<Node>(v$el$2, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$2);
             continue;
           }
           break;
         }
 
         if (yyRepeated1) {
-          final Pair<Node> v$g$5 = yyRepValue1.reverse();
+          final int v$g$5 = yyRepStart1;
+          final int v$g$5$end = yyRepEnd1;
 
-          yyValue = GNode.create("TryCatchFinallyStatement", v$g$5.size() + 3).
-            add(null).add(v$g$2).addAll(v$g$5).add(null);
-          yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("TryCatchFinallyStatement", (v$g$5$end - v$g$5) + 3).
+            add(null).add(v$g$2);
+          addBuffered(yyValue, v$g$5, v$g$5$end);
+          yyValue.add(null);
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
         }
@@ -19329,7 +22331,8 @@ public final class JeannieParser extends ParserBase {
         if (yyResult.hasValue("{")) {
 
           yyRepetition1 = yyResult.index;
-          yyRepValue1   = Pair.empty();
+          yyRepStart1   = bufferStart();
+          yyRepEnd1   = yyRepStart1;
           while (true) {
 
             yyResult = pSwitchClause(yyRepetition1);
@@ -19338,25 +22341,27 @@ public final class JeannieParser extends ParserBase {
               final Node v$el$1 = yyResult.semanticValue();
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
             break;
           }
           { // Start scope for v$g$2.
-            final Pair<Node> v$g$2 = yyRepValue1.reverse();
+            final int v$g$2 = yyRepStart1;
+            final int v$g$2$end = yyRepEnd1;
 
             yyBase   = yyRepetition1;
             yyResult = pSymbol(yyBase);
             if (yyResult.hasValue("}")) {
 
-              yyValue = GNode.createFromPair("SwitchStatement", v$g$1, v$g$2);
-              yyValue.setLocation(location(yyStart));
+              yyValue = bufferedNode("SwitchStatement", v$g$1, v$g$2, v$g$2$end);
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             } else {
               yyError = yyError.select("'}' expected", yyBase);
             }
+            releaseBuffer(v$g$2);
           } // End scope for v$g$2.
         } else {
           yyError = yyError.select("'{' expected", yyBase);
@@ -19380,7 +22385,7 @@ public final class JeannieParser extends ParserBase {
           final Node v$g$2 = yyResult.semanticValue();
 
           yyValue = GNode.create("SynchronizedStatement", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -19411,7 +22416,7 @@ public final class JeannieParser extends ParserBase {
         if (yyResult.hasValue(";")) {
 
           yyValue = GNode.create("ReturnStatement", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
@@ -19435,7 +22440,7 @@ public final class JeannieParser extends ParserBase {
         if (yyResult.hasValue(";")) {
 
           yyValue = GNode.create("ThrowStatement", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
@@ -19468,7 +22473,7 @@ public final class JeannieParser extends ParserBase {
         if (yyResult.hasValue(";")) {
 
           yyValue = GNode.create("BreakStatement", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
@@ -19501,7 +22506,7 @@ public final class JeannieParser extends ParserBase {
         if (yyResult.hasValue(";")) {
 
           yyValue = GNode.create("ContinueStatement", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
@@ -19527,7 +22532,7 @@ public final class JeannieParser extends ParserBase {
           final Node v$g$2 = yyResult.semanticValue();
 
           yyValue = GNode.create("LabeledStatement", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -19548,7 +22553,7 @@ public final class JeannieParser extends ParserBase {
       if (yyResult.hasValue(";")) {
 
         yyValue = GNode.create("ExpressionStatement", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       } else {
@@ -19592,7 +22597,7 @@ public final class JeannieParser extends ParserBase {
           if (yyResult.hasValue(";")) {
 
             yyValue = GNode.create("AssertStatement", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
@@ -19603,14 +22608,16 @@ public final class JeannieParser extends ParserBase {
     }
 
     // Alternative 16.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(";")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(";")) {
 
-      yyValue = GNode.create("EmptyStatement", false);
-      yyValue.setLocation(location(yyStart));
+        yyValue = GNode.create("EmptyStatement", false);
+        locate(yyValue, yyStart);
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -19689,7 +22696,7 @@ public final class JeannieParser extends ParserBase {
                   final Node v$g$5 = yyOpValue1;
 
                   yyValue = GNode.create("BasicForControl", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
-                  yyValue.setLocation(location(yyStart));
+                  locate(yyValue, yyStart);
 
                   return new SemanticValue(yyValue, yyOption1, yyError);
                 } // End scope for v$g$5.
@@ -19757,7 +22764,7 @@ public final class JeannieParser extends ParserBase {
               final Node v$g$10 = yyOpValue1;
 
               yyValue = GNode.create("BasicForControl", null, null, v$g$8, v$g$9, v$g$10);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return new SemanticValue(yyValue, yyOption1, yyError);
             } // End scope for v$g$10.
@@ -19785,10 +22792,15 @@ public final class JeannieParser extends ParserBase {
    */
   private Result pParExpression(final int yyStart) throws IOException {
     JeannieParserColumn yyColumn = (JeannieParserColumn)column(yyStart);
-    if (null == yyColumn.chunk7) yyColumn.chunk7 = new Chunk7();
-    if (null == yyColumn.chunk7.fParExpression) 
-      yyColumn.chunk7.fParExpression = pParExpression$1(yyStart);
-    return yyColumn.chunk7.fParExpression;
+    if (null == yyColumn.chunk8) yyColumn.chunk8 = new Chunk8();
+    if (null == yyColumn.chunk8.fParExpression) {
+      yyColumn.chunk8.fParExpression = pParExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(64, yyColumn.chunk8.fParExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(64, yyColumn.chunk8.fParExpression);
+    }
+    return yyColumn.chunk8.fParExpression;
   }
 
   /** Actually parse xtc.lang.jeannie.JeannieJava.ParExpression. */
@@ -19840,7 +22852,8 @@ public final class JeannieParser extends ParserBase {
     int        yyBase;
     int        yyRepetition1;
     boolean    yyRepeated1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -19859,7 +22872,8 @@ public final class JeannieParser extends ParserBase {
         // Nested alternative 1.
 
         yyRepetition1 = yyChoice1;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyResult = pCatchClause(yyRepetition1);
@@ -19868,13 +22882,14 @@ public final class JeannieParser extends ParserBase {
             final Node v$el$1 = yyResult.semanticValue();
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
           break;
         }
         { // Start scope for v$g$3.
-          final Pair<Node> v$g$3 = yyRepValue1.reverse();
+          final int v$g$3 = yyRepStart1;
+          final int v$g$3$end = yyRepEnd1;
 
           yyBase   = yyRepetition1;
           yyResult = pJavaIdentifier$Word(yyBase);
@@ -19885,22 +22900,26 @@ public final class JeannieParser extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$4 = yyResult.semanticValue();
 
-              yyValue = GNode.create("TryCatchFinallyStatement", v$g$3.size() + 3).
-                add(null).add(v$g$2).addAll(v$g$3).add(v$g$4);
-              yyValue.setLocation(location(yyStart));
+              yyValue = GNode.create("TryCatchFinallyStatement", (v$g$3$end - v$g$3) + 3).
+                add(null).add(v$g$2);
+              addBuffered(yyValue, v$g$3, v$g$3$end);
+              yyValue.add(v$g$4);
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
           } else {
             yyError = yyError.select("'finally' expected", yyBase);
           }
+          releaseBuffer(v$g$3);
         } // End scope for v$g$3.
 
         // Nested alternative 2.
 
         yyRepetition1 = yyChoice1;
         yyRepeated1   = false;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyResult = pCatchClause(yyRepetition1);
@@ -19910,18 +22929,21 @@ public final class JeannieParser extends ParserBase {
 
             yyRepetition1 = yyResult.index;
             yyRepeated1   = true;
-            yyRepValue1   = new Pair<Node>(v$el$2, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$2);
             continue;
           }
           break;
         }
 
         if (yyRepeated1) {
-          final Pair<Node> v$g$5 = yyRepValue1.reverse();
+          final int v$g$5 = yyRepStart1;
+          final int v$g$5$end = yyRepEnd1;
 
-          yyValue = GNode.create("TryCatchFinallyStatement", v$g$5.size() + 3).
-            add(null).add(v$g$2).addAll(v$g$5).add(null);
-          yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("TryCatchFinallyStatement", (v$g$5$end - v$g$5) + 3).
+            add(null).add(v$g$2);
+          addBuffered(yyValue, v$g$5, v$g$5$end);
+          yyValue.add(null);
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
         }
@@ -19944,10 +22966,15 @@ public final class JeannieParser extends ParserBase {
    */
   private Result pCatchClause(final int yyStart) throws IOException {
     JeannieParserColumn yyColumn = (JeannieParserColumn)column(yyStart);
-    if (null == yyColumn.chunk7) yyColumn.chunk7 = new Chunk7();
-    if (null == yyColumn.chunk7.fCatchClause) 
-      yyColumn.chunk7.fCatchClause = pCatchClause$1(yyStart);
-    return yyColumn.chunk7.fCatchClause;
+    if (null == yyColumn.chunk8) yyColumn.chunk8 = new Chunk8();
+    if (null == yyColumn.chunk8.fCatchClause) {
+      yyColumn.chunk8.fCatchClause = pCatchClause$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(65, yyColumn.chunk8.fCatchClause);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(65, yyColumn.chunk8.fCatchClause);
+    }
+    return yyColumn.chunk8.fCatchClause;
   }
 
   /** Actually parse xtc.lang.jeannie.JeannieJava.CatchClause. */
@@ -19981,7 +23008,7 @@ public final class JeannieParser extends ParserBase {
               final Node v$g$2 = yyResult.semanticValue();
 
               yyValue = GNode.create("CatchClause", v$g$1, v$g$2);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -20012,7 +23039,8 @@ public final class JeannieParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -20031,7 +23059,8 @@ public final class JeannieParser extends ParserBase {
         if (yyResult.hasValue(":")) {
 
           yyRepetition1 = yyResult.index;
-          yyRepValue1   = Pair.empty();
+          yyRepStart1   = bufferStart();
+          yyRepEnd1   = yyRepStart1;
           while (true) {
 
             yyResult = pJeannieJava$DeclarationOrStatement(yyRepetition1);
@@ -20040,16 +23069,17 @@ public final class JeannieParser extends ParserBase {
               final Node v$el$1 = yyResult.semanticValue();
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
             break;
           }
           { // Start scope for v$g$2.
-            final Pair<Node> v$g$2 = yyRepValue1.reverse();
+            final int v$g$2 = yyRepStart1;
+            final int v$g$2$end = yyRepEnd1;
 
-            yyValue = GNode.createFromPair("CaseClause", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
+            yyValue = bufferedNode("CaseClause", v$g$1, v$g$2, v$g$2$end);
+            locate(yyValue, yyStart);
 
             return new SemanticValue(yyValue, yyRepetition1, yyError);
           } // End scope for v$g$2.
@@ -20069,7 +23099,8 @@ public final class JeannieParser extends ParserBase {
       if (yyResult.hasValue(":")) {
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyResult = pJeannieJava$DeclarationOrStatement(yyRepetition1);
@@ -20078,16 +23109,17 @@ public final class JeannieParser extends ParserBase {
             final Node v$el$1 = yyResult.semanticValue();
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
           break;
         }
         { // Start scope for v$g$1.
-          final Pair<Node> v$g$1 = yyRepValue1.reverse();
+          final int v$g$1 = yyRepStart1;
+          final int v$g$1$end = yyRepEnd1;
 
-          yyValue = GNode.createFromPair("DefaultClause", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          yyValue = bufferedNode("DefaultClause", v$g$1, v$g$1$end);
+          locate(yyValue, yyStart);
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
         } // End scope for v$g$1.
@@ -20133,7 +23165,7 @@ public final class JeannieParser extends ParserBase {
           final Node v$g$2 = yyResult.semanticValue();
 
           yyValue = GNode.create("SynchronizedStatement", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -20175,7 +23207,7 @@ public final class JeannieParser extends ParserBase {
         if (yyResult.hasValue(";")) {
 
           yyValue = GNode.create("ThrowStatement", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
@@ -20204,7 +23236,8 @@ public final class JeannieParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -20216,7 +23249,8 @@ public final class JeannieParser extends ParserBase {
       final Node v$g$1 = yyResult.semanticValue();
 
       yyRepetition1 = yyResult.index;
-      yyRepValue1   = Pair.empty();
+      yyRepStart1   = bufferStart();
+      yyRepEnd1   = yyRepStart1;
       while (true) {
 
         yyBase   = yyRepetition1;
@@ -20229,7 +23263,7 @@ public final class JeannieParser extends ParserBase {
             final Node v$el$1 = yyResult.semanticValue();
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
         } else {
@@ -20238,10 +23272,11 @@ public final class JeannieParser extends ParserBase {
         break;
       }
       { // Start scope for v$g$2.
-        final Pair<Node> v$g$2 = yyRepValue1.reverse();
+        final int v$g$2 = yyRepStart1;
+        final int v$g$2$end = yyRepEnd1;
 
-        yyValue = GNode.createFromPair("ExpressionList", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+        yyValue = bufferedNode("ExpressionList", v$g$1, v$g$2, v$g$2$end);
+        locate(yyValue, yyStart);
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
       } // End scope for v$g$2.
@@ -20264,10 +23299,16 @@ public final class JeannieParser extends ParserBase {
     throws IOException {
 
     JeannieParserColumn yyColumn = (JeannieParserColumn)column(yyStart);
-    if (null == yyColumn.chunk7) yyColumn.chunk7 = new Chunk7();
-    if (null == yyColumn.chunk7.fJeannieJava$Expression) 
-      yyColumn.chunk7.fJeannieJava$Expression = pJeannieJava$Expression$1(yyStart);
-    return yyColumn.chunk7.fJeannieJava$Expression;
+    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
+    if (null == yyColumn.chunk4.fJeannieJava$Expression) {
+      yyColumn.chunk4.fJeannieJava$Expression = 
+        pJeannieJava$Expression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(66, yyColumn.chunk4.fJeannieJava$Expression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(66, yyColumn.chunk4.fJeannieJava$Expression);
+    }
+    return yyColumn.chunk4.fJeannieJava$Expression;
   }
 
   /** Actually parse xtc.lang.jeannie.JeannieJava.Expression. */
@@ -20296,7 +23337,7 @@ public final class JeannieParser extends ParserBase {
           final Node v$g$3 = yyResult.semanticValue();
 
           yyValue = GNode.create("Expression", v$g$1, v$g$2, v$g$3);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -20333,112 +23374,170 @@ public final class JeannieParser extends ParserBase {
     String     yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '`':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0xfff;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Equal>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("=")) {
-      yyValue = "=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("=")) {
+        yyValue = "=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <PlusEqual>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("+=")) {
-      yyValue = "+=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("+=")) {
+        yyValue = "+=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <MinusEqual>.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("-=")) {
-      yyValue = "-=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("-=")) {
+        yyValue = "-=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <StarEqual>.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("*=")) {
-      yyValue = "*=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("*=")) {
+        yyValue = "*=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <SlashEqual>.
+    if (0 != (yyFirst & 0x10)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("/=")) {
-      yyValue = "/=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("/=")) {
+        yyValue = "/=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <AmpersandEqual>.
+    if (0 != (yyFirst & 0x20)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("&=")) {
-      yyValue = "&=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("&=")) {
+        yyValue = "&=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <BarEqual>.
+    if (0 != (yyFirst & 0x40)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("|=")) {
-      yyValue = "|=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("|=")) {
+        yyValue = "|=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <CaretEqual>.
+    if (0 != (yyFirst & 0x80)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("^=")) {
-      yyValue = "^=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("^=")) {
+        yyValue = "^=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <PercentEqual>.
+    if (0 != (yyFirst & 0x100)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("%=")) {
-      yyValue = "%=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("%=")) {
+        yyValue = "%=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <DoubleLessEqual>.
+    if (0 != (yyFirst & 0x200)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("<<=")) {
-      yyValue = "<<=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("<<=")) {
+        yyValue = "<<=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <DoubleGreaterEqual>.
+    if (0 != (yyFirst & 0x400)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(">>=")) {
-      yyValue = ">>=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(">>=")) {
+        yyValue = ">>=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <TripleGreaterEqual>.
+    if (0 != (yyFirst & 0x800)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(">>>=")) {
-      yyValue = ">>>=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(">>>=")) {
+        yyValue = ">>>=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -20459,10 +23558,16 @@ public final class JeannieParser extends ParserBase {
     throws IOException {
 
     JeannieParserColumn yyColumn = (JeannieParserColumn)column(yyStart);
-    if (null == yyColumn.chunk7) yyColumn.chunk7 = new Chunk7();
-    if (null == yyColumn.chunk7.fJeannieJava$ConditionalExpression) 
-      yyColumn.chunk7.fJeannieJava$ConditionalExpression = pJeannieJava$ConditionalExpression$1(yyStart);
-    return yyColumn.chunk7.fJeannieJava$ConditionalExpression;
+    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
+    if (null == yyColumn.chunk4.fJeannieJava$ConditionalExpression) {
+      yyColumn.chunk4.fJeannieJava$ConditionalExpression = 
+        pJeannieJava$ConditionalExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(67, yyColumn.chunk4.fJeannieJava$ConditionalExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(67, yyColumn.chunk4.fJeannieJava$ConditionalExpression);
+    }
+    return yyColumn.chunk4.fJeannieJava$ConditionalExpression;
   }
 
   /** Actually parse xtc.lang.jeannie.JeannieJava.ConditionalExpression. */
@@ -20500,7 +23605,7 @@ public final class JeannieParser extends ParserBase {
               final Node v$g$3 = yyResult.semanticValue();
 
               yyValue = GNode.create("ConditionalExpression", v$g$1, v$g$2, v$g$3);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
@@ -20540,10 +23645,16 @@ public final class JeannieParser extends ParserBase {
     throws IOException {
 
     JeannieParserColumn yyColumn = (JeannieParserColumn)column(yyStart);
-    if (null == yyColumn.chunk7) yyColumn.chunk7 = new Chunk7();
-    if (null == yyColumn.chunk7.fJeannieJava$LogicalOrExpression) 
-      yyColumn.chunk7.fJeannieJava$LogicalOrExpression = pJeannieJava$LogicalOrExpression$1(yyStart);
-    return yyColumn.chunk7.fJeannieJava$LogicalOrExpression;
+    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
+    if (null == yyColumn.chunk2.fJeannieJava$LogicalOrExpression) {
+      yyColumn.chunk2.fJeannieJava$LogicalOrExpression = 
+        pJeannieJava$LogicalOrExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(68, yyColumn.chunk2.fJeannieJava$LogicalOrExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(68, yyColumn.chunk2.fJeannieJava$LogicalOrExpression);
+    }
+    return yyColumn.chunk2.fJeannieJava$LogicalOrExpression;
   }
 
   /** Actually parse xtc.lang.jeannie.JeannieJava.LogicalOrExpression. */
@@ -21129,7 +24240,7 @@ public final class JeannieParser extends ParserBase {
           final Node v$g$2 = yyResult.semanticValue();
 
           yyValue = GNode.create("InstanceOfExpression", v$g$1, v$g$2);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -21165,10 +24276,16 @@ public final class JeannieParser extends ParserBase {
     throws IOException {
 
     JeannieParserColumn yyColumn = (JeannieParserColumn)column(yyStart);
-    if (null == yyColumn.chunk7) yyColumn.chunk7 = new Chunk7();
-    if (null == yyColumn.chunk7.fJeannieJava$RelationalExpression) 
-      yyColumn.chunk7.fJeannieJava$RelationalExpression = pJeannieJava$RelationalExpression$1(yyStart);
-    return yyColumn.chunk7.fJeannieJava$RelationalExpression;
+    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
+    if (null == yyColumn.chunk2.fJeannieJava$RelationalExpression) {
+      yyColumn.chunk2.fJeannieJava$RelationalExpression = 
+        pJeannieJava$RelationalExpression$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(69, yyColumn.chunk2.fJeannieJava$RelationalExpression);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(69, yyColumn.chunk2.fJeannieJava$RelationalExpression);
+    }
+    return yyColumn.chunk2.fJeannieJava$RelationalExpression;
   }
 
   /** Actually parse xtc.lang.jeannie.JeannieJava.RelationalExpression. */
@@ -21273,40 +24390,82 @@ public final class JeannieParser extends ParserBase {
     String     yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '`':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0xf;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Less>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("<")) {
-      yyValue = "<";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("<")) {
+        yyValue = "<";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Greater>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(">")) {
-      yyValue = ">";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(">")) {
+        yyValue = ">";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <LessEqual>.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("<=")) {
-      yyValue = "<=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("<=")) {
+        yyValue = "<=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <GreaterEqual>.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(">=")) {
-      yyValue = ">=";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(">=")) {
+        yyValue = ">=";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -21424,31 +24583,71 @@ public final class JeannieParser extends ParserBase {
     String     yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '`':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x7;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Left>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("<<")) {
-      yyValue = "<<";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("<<")) {
+        yyValue = "<<";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Right>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(">>")) {
-      yyValue = ">>";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(">>")) {
+        yyValue = ">>";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <UnsignedRight>.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(">>>")) {
-      yyValue = ">>>";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(">>>")) {
+        yyValue = ">>>";
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -21661,75 +24860,117 @@ public final class JeannieParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '`':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0xf;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Plus>.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("+")) {
-      final String v$g$1 = "+";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("+")) {
+        final String v$g$1 = "+";
 
-      yyResult = pJeannieJava$UnaryExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$2 = yyResult.semanticValue();
+        yyResult = pJeannieJava$UnaryExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryExpression", v$g$1, v$g$2);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("UnaryExpression", v$g$1, v$g$2);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative <Minus>.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("-")) {
-      final String v$g$3 = "-";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("-")) {
+        final String v$g$3 = "-";
 
-      yyResult = pJeannieJava$UnaryExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$4 = yyResult.semanticValue();
+        yyResult = pJeannieJava$UnaryExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$4 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryExpression", v$g$3, v$g$4);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("UnaryExpression", v$g$3, v$g$4);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative <Increment>.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("++")) {
-      final String v$g$5 = "++";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("++")) {
+        final String v$g$5 = "++";
 
-      yyResult = pJeannieJava$UnaryExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$6 = yyResult.semanticValue();
+        yyResult = pJeannieJava$UnaryExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$6 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryExpression", v$g$5, v$g$6);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("UnaryExpression", v$g$5, v$g$6);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative <Decrement>.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("--")) {
-      final String v$g$7 = "--";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("--")) {
+        final String v$g$7 = "--";
 
-      yyResult = pJeannieJava$UnaryExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$8 = yyResult.semanticValue();
+        yyResult = pJeannieJava$UnaryExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$8 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryExpression", v$g$7, v$g$8);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("UnaryExpression", v$g$7, v$g$8);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
@@ -21768,121 +25009,163 @@ public final class JeannieParser extends ParserBase {
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '`':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0xf;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("~")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("~")) {
 
-      yyResult = pJeannieJava$UnaryExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
+        yyResult = pJeannieJava$UnaryExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("BitwiseNegationExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("BitwiseNegationExpression", v$g$1);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative <CInJavaExpression>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pCInJavaExpression(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pCInJavaExpression(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("!")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("!")) {
 
-      yyResult = pJeannieJava$UnaryExpression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
+        yyResult = pJeannieJava$UnaryExpression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("LogicalNegationExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+          yyValue = GNode.create("LogicalNegationExpression", v$g$1);
+          locate(yyValue, yyStart);
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 4.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("(")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("(")) {
 
-      final int yyChoice1 = yyResult.index;
+        final int yyChoice1 = yyResult.index;
 
-      // Nested alternative 1.
+        // Nested alternative 1.
 
-      yyResult = pPrimitiveType(yyChoice1);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
+        yyResult = pPrimitiveType(yyChoice1);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$1 = yyResult.semanticValue();
 
-        yyOption1  = yyResult.index;
-        yyOpValue1 = null;
+          yyOption1  = yyResult.index;
+          yyOpValue1 = null;
+
+          yyResult = pDimensions(yyOption1);
+          yyError  = yyResult.select(yyError, yyOption1);
+          if (yyResult.hasValue()) {
+            final Node v$el$1 = yyResult.semanticValue();
+
+            yyOption1  = yyResult.index;
+            yyOpValue1 = v$el$1;
+          }
+          { // Start scope for v$g$2.
+            final Node v$g$2 = yyOpValue1;
+
+            yyBase   = yyOption1;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue(")")) {
+
+              yyResult = pJeannieJava$UnaryExpression(yyResult.index);
+              yyError  = yyResult.select(yyError);
+              if (yyResult.hasValue()) {
+                final Node v$g$3 = yyResult.semanticValue();
 
-        yyResult = pDimensions(yyOption1);
-        yyError  = yyResult.select(yyError, yyOption1);
-        if (yyResult.hasValue()) {
-          final Node v$el$1 = yyResult.semanticValue();
+                yyValue = GNode.create("BasicCastExpression", v$g$1, v$g$2, v$g$3);
+                locate(yyValue, yyStart);
 
-          yyOption1  = yyResult.index;
-          yyOpValue1 = v$el$1;
+                return yyResult.createValue(yyValue, yyError);
+              }
+            } else {
+              yyError = yyError.select("')' expected", yyBase);
+            }
+          } // End scope for v$g$2.
         }
-        { // Start scope for v$g$2.
-          final Node v$g$2 = yyOpValue1;
 
-          yyBase   = yyOption1;
+        // Nested alternative 2.
+
+        yyResult = pType(yyChoice1);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$1 = yyResult.semanticValue();
+
+          yyBase   = yyResult.index;
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue(")")) {
 
-            yyResult = pJeannieJava$UnaryExpression(yyResult.index);
+            yyResult = pUnaryExpressionNotPlusMinus(yyResult.index);
             yyError  = yyResult.select(yyError);
             if (yyResult.hasValue()) {
-              final Node v$g$3 = yyResult.semanticValue();
+              final Node v$g$2 = yyResult.semanticValue();
 
-              yyValue = GNode.create("BasicCastExpression", v$g$1, v$g$2, v$g$3);
-              yyValue.setLocation(location(yyStart));
+              yyValue = GNode.create("CastExpression", v$g$1, v$g$2);
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             }
           } else {
             yyError = yyError.select("')' expected", yyBase);
           }
-        } // End scope for v$g$2.
-      }
-
-      // Nested alternative 2.
-
-      yyResult = pType(yyChoice1);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$1 = yyResult.semanticValue();
-
-        yyBase   = yyResult.index;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue(")")) {
-
-          yyResult = pUnaryExpressionNotPlusMinus(yyResult.index);
-          yyError  = yyResult.select(yyError);
-          if (yyResult.hasValue()) {
-            final Node v$g$2 = yyResult.semanticValue();
-
-            yyValue = GNode.create("CastExpression", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
-
-            return yyResult.createValue(yyValue, yyError);
-          }
-        } else {
-          yyError = yyError.select("')' expected", yyBase);
         }
       }
     }
@@ -21974,193 +25257,237 @@ public final class JeannieParser extends ParserBase {
     Action<Node> yyValue;
     ParseError   yyError = ParseError.DUMMY;
 
-    // Alternative 1.
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '`':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x1f;
+      break;
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(".")) {
+    default:
+      yyFirst = 0;
+    }
 
-      final int yyChoice1 = yyResult.index;
+    // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-      // Nested alternative 1.
-      { // Start scope for nested choice.
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(".")) {
 
-        final int yyChoice2 = yyChoice1;
+        final int yyChoice1 = yyResult.index;
 
         // Nested alternative 1.
+        { // Start scope for nested choice.
 
-        yyResult = pJavaIdentifier$Identifier(yyChoice2);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final String v$g$3 = yyResult.semanticValue();
+          final int yyChoice2 = yyChoice1;
+
+          // Nested alternative 1.
 
-          yyResult = pArguments(yyResult.index);
+          yyResult = pJavaIdentifier$Identifier(yyChoice2);
           yyError  = yyResult.select(yyError);
           if (yyResult.hasValue()) {
-            final Node v$g$4 = yyResult.semanticValue();
+            final String v$g$3 = yyResult.semanticValue();
 
-            yyValue = new Action<Node>() {
-              public Node run(Node v$1) {
-                return GNode.create("CallExpression", v$1, null, v$g$3, v$g$4);
-              }};
+            yyResult = pArguments(yyResult.index);
+            yyError  = yyResult.select(yyError);
+            if (yyResult.hasValue()) {
+              final Node v$g$4 = yyResult.semanticValue();
 
-            return yyResult.createValue(yyValue, yyError);
+              yyValue = new Action<Node>() {
+                public Node run(Node v$1) {
+                  return GNode.create("CallExpression", v$1, null, v$g$3, v$g$4);
+                }};
+
+              return yyResult.createValue(yyValue, yyError);
+            }
           }
-        }
 
-        // Nested alternative 2.
+          // Nested alternative 2.
 
-        yyBase   = yyChoice2;
-        yyResult = pJavaIdentifier$Word(yyBase);
-        if (yyResult.hasValue("super")) {
-          final String v$g$5 = "super";
+          yyBase   = yyChoice2;
+          yyResult = pJavaIdentifier$Word(yyBase);
+          if (yyResult.hasValue("super")) {
+            final String v$g$5 = "super";
 
-          yyResult = pArguments(yyResult.index);
-          yyError  = yyResult.select(yyError);
-          if (yyResult.hasValue()) {
-            final Node v$g$6 = yyResult.semanticValue();
+            yyResult = pArguments(yyResult.index);
+            yyError  = yyResult.select(yyError);
+            if (yyResult.hasValue()) {
+              final Node v$g$6 = yyResult.semanticValue();
 
-            yyValue = new Action<Node>() {
-              public Node run(Node v$1) {
-                return GNode.create("CallExpression", v$1, null, v$g$5, v$g$6);
-              }};
+              yyValue = new Action<Node>() {
+                public Node run(Node v$1) {
+                  return GNode.create("CallExpression", v$1, null, v$g$5, v$g$6);
+                }};
 
-            return yyResult.createValue(yyValue, yyError);
+              return yyResult.createValue(yyValue, yyError);
+            }
+          } else {
+            yyError = yyError.select("'super' expected", yyBase);
           }
-        } else {
-          yyError = yyError.select("'super' expected", yyBase);
-        }
-      } // End scope for nested choice.
+        } // End scope for nested choice.
 
-      // Nested alternative 2.
+        // Nested alternative 2.
 
-      yyBase   = yyChoice1;
-      yyResult = pJavaIdentifier$Word(yyBase);
-      if (yyResult.hasValue("super")) {
+        yyBase   = yyChoice1;
+        yyResult = pJavaIdentifier$Word(yyBase);
+        if (yyResult.hasValue("super")) {
 
-        yyValue = new Action<Node>() {
-          public Node run(Node v$1) {
-            return GNode.create("SuperExpression", v$1);
-          }};
+          yyValue = new Action<Node>() {
+            public Node run(Node v$1) {
+              return GNode.create("SuperExpression", v$1);
+            }};
 
-        return yyResult.createValue(yyValue, yyError);
-      } else {
-        yyError = yyError.select("'super' expected", yyBase);
-      }
+          return yyResult.createValue(yyValue, yyError);
+        } else {
+          yyError = yyError.select("'super' expected", yyBase);
+        }
 
-      // Nested alternative 3.
+        // Nested alternative 3.
 
-      yyResult = pJavaIdentifier$Identifier(yyChoice1);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final String v$g$7 = yyResult.semanticValue();
+        yyResult = pJavaIdentifier$Identifier(yyChoice1);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final String v$g$7 = yyResult.semanticValue();
 
-        yyValue = new Action<Node>() {
-          public Node run(Node v$1) {
-            return GNode.create("SelectionExpression", v$1, v$g$7);
-          }};
+          yyValue = new Action<Node>() {
+            public Node run(Node v$1) {
+              return GNode.create("SelectionExpression", v$1, v$g$7);
+            }};
 
-        return yyResult.createValue(yyValue, yyError);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("[")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("[")) {
 
-      yyResult = pJeannieJava$Expression(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Node v$g$8 = yyResult.semanticValue();
+        yyResult = pJeannieJava$Expression(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Node v$g$8 = yyResult.semanticValue();
 
-        yyBase   = yyResult.index;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue("]")) {
+          yyBase   = yyResult.index;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue("]")) {
 
-          yyValue = new Action<Node>() {
-            public Node run(Node v$1) {
-              return GNode.create("SubscriptExpression", v$1, v$g$8);
-            }};
+            yyValue = new Action<Node>() {
+              public Node run(Node v$1) {
+                return GNode.create("SubscriptExpression", v$1, v$g$8);
+              }};
 
-          return yyResult.createValue(yyValue, yyError);
-        } else {
-          yyError = yyError.select("']' expected", yyBase);
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("']' expected", yyBase);
+          }
         }
       }
     }
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("++")) {
-      final String v$g$9 = "++";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("++")) {
+        final String v$g$9 = "++";
 
-      yyValue = new Action<Node>() {
-        public Node run(Node v$1) {
-          return GNode.create("PostfixExpression", v$1, v$g$9);
-        }};
+        yyValue = new Action<Node>() {
+          public Node run(Node v$1) {
+            return GNode.create("PostfixExpression", v$1, v$g$9);
+          }};
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 4.
+    if (0 != (yyFirst & 0x8)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("--")) {
-      final String v$g$10 = "--";
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("--")) {
+        final String v$g$10 = "--";
 
-      yyValue = new Action<Node>() {
-        public Node run(Node v$1) {
-          return GNode.create("PostfixExpression", v$1, v$g$10);
-        }};
+        yyValue = new Action<Node>() {
+          public Node run(Node v$1) {
+            return GNode.create("PostfixExpression", v$1, v$g$10);
+          }};
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 5.
+    if (0 != (yyFirst & 0x10)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue(".")) {
-
-      yyBase   = yyResult.index;
-      yyResult = pJavaIdentifier$Word(yyBase);
-      if (yyResult.hasValue("new")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue(".")) {
 
-        yyResult = pJavaType$TypeName(yyResult.index);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Node v$g$12 = yyResult.semanticValue();
+        yyBase   = yyResult.index;
+        yyResult = pJavaIdentifier$Word(yyBase);
+        if (yyResult.hasValue("new")) {
 
-          yyResult = pArguments(yyResult.index);
+          yyResult = pJavaType$TypeName(yyResult.index);
           yyError  = yyResult.select(yyError);
           if (yyResult.hasValue()) {
-            final Node v$g$13 = yyResult.semanticValue();
-
-            yyOption1  = yyResult.index;
-            yyOpValue1 = null;
+            final Node v$g$12 = yyResult.semanticValue();
 
-            yyResult = pClassBody(yyOption1);
-            yyError  = yyResult.select(yyError, yyOption1);
+            yyResult = pArguments(yyResult.index);
+            yyError  = yyResult.select(yyError);
             if (yyResult.hasValue()) {
-              final Node v$el$1 = yyResult.semanticValue();
+              final Node v$g$13 = yyResult.semanticValue();
 
               yyOption1  = yyResult.index;
-              yyOpValue1 = v$el$1;
-            }
-            { // Start scope for v$g$14.
-              final Node v$g$14 = yyOpValue1;
+              yyOpValue1 = null;
 
-              yyValue = new Action<Node>() {
-                public Node run(Node v$1) {
-                  return GNode.create("NewClassExpression", v$1, null, v$g$12, v$g$13, v$g$14);
-                }};
+              yyResult = pClassBody(yyOption1);
+              yyError  = yyResult.select(yyError, yyOption1);
+              if (yyResult.hasValue()) {
+                final Node v$el$1 = yyResult.semanticValue();
 
-              return new SemanticValue(yyValue, yyOption1, yyError);
-            } // End scope for v$g$14.
+                yyOption1  = yyResult.index;
+                yyOpValue1 = v$el$1;
+              }
+              { // Start scope for v$g$14.
+                final Node v$g$14 = yyOpValue1;
+
+                yyValue = new Action<Node>() {
+                  public Node run(Node v$1) {
+                    return GNode.create("NewClassExpression", v$1, null, v$g$12, v$g$13, v$g$14);
+                  }};
+
+                return new SemanticValue(yyValue, yyOption1, yyError);
+              } // End scope for v$g$14.
+            }
           }
+        } else {
+          yyError = yyError.select("'new' expected", yyBase);
         }
-      } else {
-        yyError = yyError.select("'new' expected", yyBase);
       }
     }
 
@@ -22211,7 +25538,7 @@ public final class JeannieParser extends ParserBase {
         final Node v$g$4 = yyResult.semanticValue();
 
         yyValue = GNode.create("CallExpression", null, null, v$g$3, v$g$4);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -22233,7 +25560,7 @@ public final class JeannieParser extends ParserBase {
         if (yyResult.hasValue("class")) {
 
           yyValue = GNode.create("ClassLiteralExpression", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
@@ -22256,7 +25583,7 @@ public final class JeannieParser extends ParserBase {
         final Node v$g$4 = yyResult.semanticValue();
 
         yyValue = GNode.create("CallExpression", null, null, v$g$3, v$g$4);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -22290,7 +25617,7 @@ public final class JeannieParser extends ParserBase {
       if (yyResult.hasValue("this")) {
 
         yyValue = GNode.create("ThisExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       } else {
@@ -22315,7 +25642,7 @@ public final class JeannieParser extends ParserBase {
           final Node v$g$4 = yyResult.semanticValue();
 
           yyValue = GNode.create("CallExpression", null, null, v$g$3, v$g$4);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         }
@@ -22328,7 +25655,7 @@ public final class JeannieParser extends ParserBase {
       if (yyResult.hasValue("super")) {
 
         yyValue = GNode.create("SuperExpression", null);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       } else {
@@ -22344,7 +25671,7 @@ public final class JeannieParser extends ParserBase {
       final String v$g$1 = yyResult.semanticValue();
 
       yyValue = GNode.create("PrimaryIdentifier", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      locate(yyValue, yyStart);
 
       return yyResult.createValue(yyValue, yyError);
     }
@@ -22379,7 +25706,7 @@ public final class JeannieParser extends ParserBase {
             final Node v$g$5 = yyOpValue1;
 
             yyValue = GNode.create("NewClassExpression", null, null, v$g$3, v$g$4, v$g$5);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return new SemanticValue(yyValue, yyOption1, yyError);
           } // End scope for v$g$5.
@@ -22421,7 +25748,7 @@ public final class JeannieParser extends ParserBase {
             final Node v$g$3 = yyOpValue1;
 
             yyValue = GNode.create("NewArrayExpression", v$g$1, v$g$2, v$g$3, null);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return new SemanticValue(yyValue, yyOption1, yyError);
           } // End scope for v$g$3.
@@ -22449,7 +25776,7 @@ public final class JeannieParser extends ParserBase {
             final Node v$g$7 = yyResult.semanticValue();
 
             yyValue = GNode.create("NewArrayExpression", v$g$1, null, v$g$6, v$g$7);
-            yyValue.setLocation(location(yyStart));
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           }
@@ -22496,7 +25823,8 @@ public final class JeannieParser extends ParserBase {
     Result     yyResult;
     int        yyRepetition1;
     boolean    yyRepeated1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -22504,7 +25832,8 @@ public final class JeannieParser extends ParserBase {
 
     yyRepetition1 = yyStart;
     yyRepeated1   = false;
-    yyRepValue1   = Pair.empty();
+    yyRepStart1   = bufferStart();
+    yyRepEnd1   = yyRepStart1;
     while (true) {
 
       yyResult = pConcreteDimension(yyRepetition1);
@@ -22514,17 +25843,18 @@ public final class JeannieParser extends ParserBase {
 
         yyRepetition1 = yyResult.index;
         yyRepeated1   = true;
-        yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+        yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
         continue;
       }
       break;
     }
 
     if (yyRepeated1) {
-      final Pair<Node> v$g$1 = yyRepValue1.reverse();
+      final int v$g$1 = yyRepStart1;
+      final int v$g$1$end = yyRepEnd1;
 
-      yyValue = GNode.createFromPair("ConcreteDimensions", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      yyValue = bufferedNode("ConcreteDimensions", v$g$1, v$g$1$end);
+      locate(yyValue, yyStart);
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
     }
@@ -22587,7 +25917,8 @@ public final class JeannieParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     int        yyOption1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
@@ -22607,7 +25938,8 @@ public final class JeannieParser extends ParserBase {
         final Node v$g$1 = yyResult.semanticValue();
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyBase   = yyRepetition1;
@@ -22620,7 +25952,7 @@ public final class JeannieParser extends ParserBase {
               final Node v$el$1 = yyResult.semanticValue();
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
           } else {
@@ -22629,7 +25961,8 @@ public final class JeannieParser extends ParserBase {
           break;
         }
         { // Start scope for v$g$2.
-          final Pair<Node> v$g$2 = yyRepValue1.reverse();
+          final int v$g$2 = yyRepStart1;
+          final int v$g$2$end = yyRepEnd1;
 
           yyOption1  = yyRepetition1;
 
@@ -22646,13 +25979,14 @@ public final class JeannieParser extends ParserBase {
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue("}")) {
 
-            yyValue = GNode.createFromPair("ArrayInitializer", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
+            yyValue = bufferedNode("ArrayInitializer", v$g$1, v$g$2, v$g$2$end);
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
             yyError = yyError.select("'}' expected", yyBase);
           }
+          releaseBuffer(v$g$2);
         } // End scope for v$g$2.
       }
 
@@ -22674,7 +26008,7 @@ public final class JeannieParser extends ParserBase {
       if (yyResult.hasValue("}")) {
 
         yyValue = GNode.create("ArrayInitializer", false);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       } else {
@@ -22699,8 +26033,13 @@ public final class JeannieParser extends ParserBase {
   private Result pVariableInitializer(final int yyStart) throws IOException {
     JeannieParserColumn yyColumn = (JeannieParserColumn)column(yyStart);
     if (null == yyColumn.chunk8) yyColumn.chunk8 = new Chunk8();
-    if (null == yyColumn.chunk8.fVariableInitializer) 
+    if (null == yyColumn.chunk8.fVariableInitializer) {
       yyColumn.chunk8.fVariableInitializer = pVariableInitializer$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(70, yyColumn.chunk8.fVariableInitializer);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(70, yyColumn.chunk8.fVariableInitializer);
+    }
     return yyColumn.chunk8.fVariableInitializer;
   }
 
@@ -22749,7 +26088,8 @@ public final class JeannieParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -22768,7 +26108,8 @@ public final class JeannieParser extends ParserBase {
         final Node v$g$1 = yyResult.semanticValue();
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyBase   = yyRepetition1;
@@ -22781,7 +26122,7 @@ public final class JeannieParser extends ParserBase {
               final Node v$el$1 = yyResult.semanticValue();
 
               yyRepetition1 = yyResult.index;
-              yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+              yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
               continue;
             }
           } else {
@@ -22790,19 +26131,21 @@ public final class JeannieParser extends ParserBase {
           break;
         }
         { // Start scope for v$g$2.
-          final Pair<Node> v$g$2 = yyRepValue1.reverse();
+          final int v$g$2 = yyRepStart1;
+          final int v$g$2$end = yyRepEnd1;
 
           yyBase   = yyRepetition1;
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue(")")) {
 
-            yyValue = GNode.createFromPair("Arguments", v$g$1, v$g$2);
-            yyValue.setLocation(location(yyStart));
+            yyValue = bufferedNode("Arguments", v$g$1, v$g$2, v$g$2$end);
+            locate(yyValue, yyStart);
 
             return yyResult.createValue(yyValue, yyError);
           } else {
             yyError = yyError.select("')' expected", yyBase);
           }
+          releaseBuffer(v$g$2);
         } // End scope for v$g$2.
       }
 
@@ -22813,7 +26156,7 @@ public final class JeannieParser extends ParserBase {
       if (yyResult.hasValue(")")) {
 
         yyValue = GNode.create("Arguments", false);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       } else {
@@ -22837,10 +26180,15 @@ public final class JeannieParser extends ParserBase {
    */
   private Result pCInJava(final int yyStart) throws IOException {
     JeannieParserColumn yyColumn = (JeannieParserColumn)column(yyStart);
-    if (null == yyColumn.chunk8) yyColumn.chunk8 = new Chunk8();
-    if (null == yyColumn.chunk8.fCInJava) 
-      yyColumn.chunk8.fCInJava = pCInJava$1(yyStart);
-    return yyColumn.chunk8.fCInJava;
+    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
+    if (null == yyColumn.chunk2.fCInJava) {
+      yyColumn.chunk2.fCInJava = pCInJava$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(71, yyColumn.chunk2.fCInJava);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(71, yyColumn.chunk2.fCInJava);
+    }
+    return yyColumn.chunk2.fCInJava;
   }
 
   /** Actually parse xtc.lang.jeannie.JeannieJava.CInJava. */
@@ -22908,10 +26256,15 @@ public final class JeannieParser extends ParserBase {
    */
   private Result pJavaInJavaBlock(final int yyStart) throws IOException {
     JeannieParserColumn yyColumn = (JeannieParserColumn)column(yyStart);
-    if (null == yyColumn.chunk8) yyColumn.chunk8 = new Chunk8();
-    if (null == yyColumn.chunk8.fJavaInJavaBlock) 
-      yyColumn.chunk8.fJavaInJavaBlock = pJavaInJavaBlock$1(yyStart);
-    return yyColumn.chunk8.fJavaInJavaBlock;
+    if (null == yyColumn.chunk5) yyColumn.chunk5 = new Chunk5();
+    if (null == yyColumn.chunk5.fJavaInJavaBlock) {
+      yyColumn.chunk5.fJavaInJavaBlock = pJavaInJavaBlock$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(72, yyColumn.chunk5.fJavaInJavaBlock);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(72, yyColumn.chunk5.fJavaInJavaBlock);
+    }
+    return yyColumn.chunk5.fJavaInJavaBlock;
   }
 
   /** Actually parse xtc.lang.jeannie.JeannieJava.JavaInJavaBlock. */
@@ -22936,7 +26289,7 @@ public final class JeannieParser extends ParserBase {
         if (yyResult.hasValue("}")) {
 
           yyValue = GNode.createFromPair("JavaInJavaBlock", v$g$1);
-          yyValue.setLocation(location(yyStart));
+          locate(yyValue, yyStart);
 
           return yyResult.createValue(yyValue, yyError);
         } else {
@@ -22964,10 +26317,16 @@ public final class JeannieParser extends ParserBase {
     throws IOException {
 
     JeannieParserColumn yyColumn = (JeannieParserColumn)column(yyStart);
-    if (null == yyColumn.chunk8) yyColumn.chunk8 = new Chunk8();
-    if (null == yyColumn.chunk8.fJavaInJavaBlock$$Star1) 
-      yyColumn.chunk8.fJavaInJavaBlock$$Star1 = pJavaInJavaBlock$$Star1$1(yyStart);
-    return yyColumn.chunk8.fJavaInJavaBlock$$Star1;
+    if (null == yyColumn.chunk5) yyColumn.chunk5 = new Chunk5();
+    if (null == yyColumn.chunk5.fJavaInJavaBlock$$Star1) {
+      yyColumn.chunk5.fJavaInJavaBlock$$Star1 = 
+        pJavaInJavaBlock$$Star1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(73, yyColumn.chunk5.fJavaInJavaBlock$$Star1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(73, yyColumn.chunk5.fJavaInJavaBlock$$Star1);
+    }
+    return yyColumn.chunk5.fJavaInJavaBlock$$Star1;
   }
 
   /** Actually parse xtc.lang.jeannie.Jeannie.JavaInJavaBlock$$Star1. */
@@ -23029,7 +26388,7 @@ public final class JeannieParser extends ParserBase {
         final Node v$g$1 = yyResult.semanticValue();
 
         yyValue = GNode.create("CInJavaBlock", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -23065,7 +26424,7 @@ public final class JeannieParser extends ParserBase {
         final Node v$g$1 = yyResult.semanticValue();
 
         yyValue = GNode.create("CInJavaExpression", v$g$1);
-        yyValue.setLocation(location(yyStart));
+        locate(yyValue, yyStart);
 
         return yyResult.createValue(yyValue, yyError);
       }
@@ -23089,14 +26448,16 @@ public final class JeannieParser extends ParserBase {
 
     Result     yyResult;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
     // Alternative 1.
 
     yyRepetition1 = yyStart;
-    yyRepValue1   = Pair.empty();
+    yyRepStart1   = bufferStart();
+    yyRepEnd1   = yyRepStart1;
     while (true) {
 
       yyResult = pImportDeclaration(yyRepetition1);
@@ -23105,16 +26466,17 @@ public final class JeannieParser extends ParserBase {
         final Node v$el$1 = yyResult.semanticValue();
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+        yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
         continue;
       }
       break;
     }
     { // Start scope for v$g$1.
-      final Pair<Node> v$g$1 = yyRepValue1.reverse();
+      final int v$g$1 = yyRepStart1;
+      final int v$g$1$end = yyRepEnd1;
 
-      yyValue = GNode.createFromPair("JavaImports", v$g$1);
-      yyValue.setLocation(location(yyStart));
+      yyValue = bufferedNode("JavaImports", v$g$1, v$g$1$end);
+      locate(yyValue, yyStart);
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
     } // End scope for v$g$1.
@@ -23196,7 +26558,7 @@ public final class JeannieParser extends ParserBase {
                 final Node v$g$6 = yyResult.semanticValue();
 
                 yyValue = GNode.create("ClassDeclaration", v$g$1, v$g$2, null, v$g$4, v$g$5, v$g$6);
-                yyValue.setLocation(location(yyStart));
+                locate(yyValue, yyStart);
 
                 // Commit the state modification.
                 yyState.commit();
@@ -23241,7 +26603,7 @@ public final class JeannieParser extends ParserBase {
               final Node v$g$5 = yyResult.semanticValue();
 
               yyValue = GNode.create("InterfaceDeclaration", v$g$1, v$g$2, null, v$g$4, v$g$5);
-              yyValue.setLocation(location(yyStart));
+              locate(yyValue, yyStart);
 
               // Commit the state modification.
               yyState.commit();
@@ -23275,7 +26637,8 @@ public final class JeannieParser extends ParserBase {
     Result     yyResult;
     int        yyBase;
     int        yyRepetition1;
-    Pair<Node> yyRepValue1;
+    int        yyRepStart1;
+    int        yyRepEnd1;
     Node       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
@@ -23290,7 +26653,8 @@ public final class JeannieParser extends ParserBase {
       if (yyResult.hasValue("{")) {
 
         yyRepetition1 = yyResult.index;
-        yyRepValue1   = Pair.empty();
+        yyRepStart1   = bufferStart();
+        yyRepEnd1   = yyRepStart1;
         while (true) {
 
           yyResult = pExternalDeclaration(yyRepetition1);
@@ -23299,13 +26663,14 @@ public final class JeannieParser extends ParserBase {
             final Node v$el$1 = yyResult.semanticValue();
 
             yyRepetition1 = yyResult.index;
-            yyRepValue1   = new Pair<Node>(v$el$1, yyRepValue1);
+            yyRepEnd1   = buffer(yyRepEnd1, v$el$1);
             continue;
           }
           break;
         }
         { // Start scope for v$g$1.
-          final Pair<Node> v$g$1 = yyRepValue1.reverse();
+          final int v$g$1 = yyRepStart1;
+          final int v$g$1$end = yyRepEnd1;
 
           yyResult = pAnnotations(yyRepetition1);
           yyError  = yyResult.select(yyError);
@@ -23316,15 +26681,17 @@ public final class JeannieParser extends ParserBase {
             yyResult = pSymbol(yyBase);
             if (yyResult.hasValue("}")) {
 
-              yyValue = GNode.create("CDeclarations", v$g$1.size() + 1).
-                addAll(v$g$1).add(v$g$2);
-              yyValue.setLocation(location(yyStart));
+              yyValue = GNode.create("CDeclarations", (v$g$1$end - v$g$1) + 1);
+              addBuffered(yyValue, v$g$1, v$g$1$end);
+              yyValue.add(v$g$2);
+              locate(yyValue, yyStart);
 
               return yyResult.createValue(yyValue, yyError);
             } else {
               yyError = yyError.select("'}' expected", yyBase);
             }
           }
+          releaseBuffer(v$g$1);
         } // End scope for v$g$1.
       } else {
         yyError = yyError.select("'{' expected", yyBase);
@@ -23337,6 +26704,11 @@ public final class JeannieParser extends ParserBase {
 
   // =========================================================================
 
+  /** The bit map for a character class. */
+  private static final long[] yyClass1 = { 0x0L, 0x7fffffe87fffffeL };
+
+  // =========================================================================
+
   static {
     add(JAVA_KEYWORDS, new String[] {
       "abstract",  "continue",  "for",         "new",        "switch",
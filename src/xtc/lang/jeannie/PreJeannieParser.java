@@ -1,8 +1,8 @@
 // ===========================================================================
 // This file has been generated by
-// Rats! Parser Generator, version 2.1.0,
-// (C) 2004-2011 Robert Grimm,
-// on Monday, July 25, 2011 at 2:23:40 PM.
+// Rats! Parser Generator, version 2.3.1,
+// (C) 2004-2012 Robert Grimm,
+// on Sunday, October 18, 2026 at 7:30:48 PM.
 // Edit at your own risk.
 // ===========================================================================
 
@@ -28,7 +28,7 @@ import xtc.lang.CParserState;
  * Packrat parser for grammar <code>xtc.lang.jeannie.PreJeannie</code>.
  *
  * <p />This class has been generated by the <i>Rats!</i> parser
- * generator, version 2.1.0, (C) 2004-2011 Robert Grimm.
+ * generator, version 2.3.1, (C) 2004-2012 Robert Grimm.
  */
 public final class PreJeannieParser extends ParserBase {
 
@@ -43,6 +43,14 @@ public final class PreJeannieParser extends ParserBase {
     Result fQualifiedIdentifier$$Star1;
     Result fIdentifier;
     Result fSymbol;
+
+    protected boolean clear() {
+      fQualifiedIdentifier = null;
+      fQualifiedIdentifier$$Star1 = null;
+      fIdentifier = null;
+      fSymbol = null;
+      return true;
+    }
   }
 
   // =========================================================================
@@ -83,6 +91,20 @@ public final class PreJeannieParser extends ParserBase {
 
   // =========================================================================
 
+  /** The names of the memoized productions. */
+  private static final String[] yyProductions = {
+    "xtc.lang.jeannie.PreJeannie.QualifiedIdentifier",
+    "xtc.lang.jeannie.PreJeannie.QualifiedIdentifier$$Star1",
+    "xtc.lang.jeannie.PreJeannie.Identifier",
+    "xtc.lang.jeannie.JeannieSymbol.Symbol",
+  };
+
+  protected String[] productions() {
+    return yyProductions;
+  }
+
+  // =========================================================================
+
   /**
    * Parse nonterminal xtc.lang.jeannie.PreJeannie.File.
    *
@@ -200,24 +222,67 @@ public final class PreJeannieParser extends ParserBase {
     String     yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '%':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '[':
+    case ']':
+    case '^':
+    case '`':
+    case '{':
+    case '|':
+    case '}':
+    case '~':
+      yyFirst = 0x3;
+      break;
+
+    case 'i':
+    case 'p':
+      yyFirst = 0x1;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pJavaHead(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pJavaHead(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 2.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pCHead(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pCHead(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -391,8 +456,13 @@ public final class PreJeannieParser extends ParserBase {
    */
   private Result pQualifiedIdentifier(final int yyStart) throws IOException {
     PreJeannieParserColumn yyColumn = (PreJeannieParserColumn)column(yyStart);
-    if (null == yyColumn.fQualifiedIdentifier) 
+    if (null == yyColumn.fQualifiedIdentifier) {
       yyColumn.fQualifiedIdentifier = pQualifiedIdentifier$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(0, yyColumn.fQualifiedIdentifier);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(0, yyColumn.fQualifiedIdentifier);
+    }
     return yyColumn.fQualifiedIdentifier;
   }
 
@@ -438,8 +508,14 @@ public final class PreJeannieParser extends ParserBase {
     throws IOException {
 
     PreJeannieParserColumn yyColumn = (PreJeannieParserColumn)column(yyStart);
-    if (null == yyColumn.fQualifiedIdentifier$$Star1) 
-      yyColumn.fQualifiedIdentifier$$Star1 = pQualifiedIdentifier$$Star1$1(yyStart);
+    if (null == yyColumn.fQualifiedIdentifier$$Star1) {
+      yyColumn.fQualifiedIdentifier$$Star1 = 
+        pQualifiedIdentifier$$Star1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(1, yyColumn.fQualifiedIdentifier$$Star1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(1, yyColumn.fQualifiedIdentifier$$Star1);
+    }
     return yyColumn.fQualifiedIdentifier$$Star1;
   }
 
@@ -489,8 +565,12 @@ public final class PreJeannieParser extends ParserBase {
    */
   private Result pIdentifier(final int yyStart) throws IOException {
     PreJeannieParserColumn yyColumn = (PreJeannieParserColumn)column(yyStart);
-    if (null == yyColumn.fIdentifier) 
+    if (null == yyColumn.fIdentifier) {
       yyColumn.fIdentifier = pIdentifier$1(yyStart);
+      if (null != yyStatistics) yyStatistics.miss(2, yyColumn.fIdentifier);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(2, yyColumn.fIdentifier);
+    }
     return yyColumn.fIdentifier;
   }
 
@@ -1023,28 +1103,7 @@ public final class PreJeannieParser extends ParserBase {
 
               case '/':
                 {
-                  yyRepetition2 = yyIndex;
-                  while (true) {
-
-                    yyC = character(yyRepetition2);
-                    if (-1 != yyC) {
-                      yyIndex = yyRepetition2 + 1;
-
-                      switch (yyC) {
-                      case '\n':
-                      case '\r':
-                        /* No match. */
-                        break;
-
-                      default:
-                        {
-                          yyRepetition2 = yyIndex;
-                          continue;
-                        }
-                      }
-                    }
-                    break;
-                  }
+                  yyRepetition2 = scan(yyIndex, 0xffffffffffffdbffL, 0xffffffffffffffffL, true);
 
                   yyPredResult = pLineTerminator(yyRepetition2);
                   yyError      = yyPredResult.select(yyError);
@@ -1659,35 +1718,7 @@ public final class PreJeannieParser extends ParserBase {
       case '8':
       case '9':
         {
-          yyRepetition1 = yyIndex;
-          while (true) {
-
-            yyC = character(yyRepetition1);
-            if (-1 != yyC) {
-              yyIndex = yyRepetition1 + 1;
-
-              switch (yyC) {
-              case '0':
-              case '1':
-              case '2':
-              case '3':
-              case '4':
-              case '5':
-              case '6':
-              case '7':
-              case '8':
-              case '9':
-                {
-                  yyRepetition1 = yyIndex;
-                  continue;
-                }
-
-              default:
-                /* No match. */
-              }
-            }
-            break;
-          }
+          yyRepetition1 = scan(yyIndex, 0x3ff000000000000L, 0x0L, false);
 
           yyValue = difference(yyStart, yyRepetition1);
 
@@ -1796,28 +1827,7 @@ public final class PreJeannieParser extends ParserBase {
 
     // Alternative 1.
 
-    yyRepetition1 = yyStart;
-    while (true) {
-
-      yyC = character(yyRepetition1);
-      if (-1 != yyC) {
-        yyIndex = yyRepetition1 + 1;
-
-        switch (yyC) {
-        case '\n':
-        case '\r':
-          /* No match. */
-          break;
-
-        default:
-          {
-            yyRepetition1 = yyIndex;
-            continue;
-          }
-        }
-      }
-      break;
-    }
+    yyRepetition1 = scan(yyStart, 0xffffffffffffdbffL, 0xffffffffffffffffL, true);
 
     yyValue = difference(yyStart, yyRepetition1);
 
@@ -1835,7 +1845,12 @@ public final class PreJeannieParser extends ParserBase {
    */
   private Result pSymbol(final int yyStart) throws IOException {
     PreJeannieParserColumn yyColumn = (PreJeannieParserColumn)column(yyStart);
-    if (null == yyColumn.fSymbol) yyColumn.fSymbol = pSymbol$1(yyStart);
+    if (null == yyColumn.fSymbol) {
+      yyColumn.fSymbol = pSymbol$1(yyStart);
+      if (null != yyStatistics) yyStatistics.miss(3, yyColumn.fSymbol);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(3, yyColumn.fSymbol);
+    }
     return yyColumn.fSymbol;
   }
 
@@ -2454,7 +2469,7 @@ public final class PreJeannieParser extends ParserBase {
   
   final String origString(final int start, final int end) throws IOException {
     final StringBuilder b = new StringBuilder(20 + end - start);
-    b.append(_tool.lineMarker(column(start)));
+    b.append(_tool.lineMarker(location(start)));
     for (int i=start; i<end; i++) {
       final int c = character(i);
       if (c == -1)
@@ -5,10 +5,10 @@ import java.io.File;
 import java.io.IOException;
 import java.io.Reader;
 
-import xtc.parser.Column;
 import xtc.parser.ParseException;
 import xtc.parser.Result;
 import xtc.parser.SemanticValue;
+import xtc.tree.Location;
 import xtc.tree.Node;
 import xtc.util.Tool;
 
@@ -40,7 +40,7 @@ public class Preprocessor extends Tool {
     runtime.setConsole(runtime.errConsole());
   }
 
-  public final String lineMarker(final Column c) {
+  public final String lineMarker(final Location c) {
     final StringBuilder b = new StringBuilder();
     b.append("\n# " + c.line + " \"" + c.file.replace('\\', '/') + "\"\n");
     for (int i=0; i<c.column; i++)
@@ -0,0 +1,234 @@
+/*
+ * xtc - The eXTensible Compiler
+ * Copyright (C) 2026 Robert Grimm
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * version 2.1 as published by the Free Software Foundation.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301,
+ * USA.
+ */
+package xtc.parser;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.Reader;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+/**
+ * Implementation of a fully loaded byte stream.  A byte input holds
+ * the entire input in a byte array together with the input's
+ * character set.  When passed to a parser's constructor instead of a
+ * regular reader, the parser directly uses the bytes as its input if
+ * each byte represents one character, i.e., if the character set is
+ * ISO-8859-1 or if the character set is US-ASCII or UTF-8 and the
+ * input contains only ASCII characters.  Otherwise, the parser
+ * decodes the entire input once and then uses the decoded characters.
+ * Parsers generated for grammars with the <code>byteInput</code>
+ * attribute read the bytes without any further checks.  All other
+ * parsers also accept byte inputs, though they read them somewhat
+ * more slowly.  A byte input can also be read like any other reader.
+ *
+ * <p />Note that a parser may modify the bytes in the array, notably
+ * when {@link ParserBase#resetTo(int) resetting} it.  Arrays passed
+ * to {@link #ByteInput(byte[],int,Charset)} must thus not be used by
+ * other code while they are being parsed.
+ *
+ * @author Robert Grimm
+ * @version $Revision: 1.1 $
+ */
+public class ByteInput extends Reader {
+
+  /** The ISO-8859-1 character set. */
+  static final Charset LATIN1 = Charset.forName("ISO-8859-1");
+
+  /** The bytes. */
+  private final byte[] bytes;
+
+  /** The number of bytes. */
+  private final int length;
+
+  /** The character set. */
+  private final Charset charset;
+
+  /** The flag for whether each byte represents one character. */
+  private final boolean latin1;
+
+  /** The decoded characters or <code>null</code> if not yet decoded. */
+  private InputBuffer chars;
+
+  /**
+   * Create a new byte input.
+   *
+   * @param bytes The array containing the bytes.
+   * @param length The number of bytes.
+   * @param charset The character set.
+   * @throws IllegalArgumentException Signals an invalid length.
+   */
+  public ByteInput(byte[] bytes, int length, Charset charset) {
+    if ((0 > length) || (bytes.length < length)) {
+      throw new IllegalArgumentException("Invalid length: " + length);
+    }
+    this.bytes   = bytes;
+    this.length  = length;
+    this.charset = charset;
+
+    final String name = charset.name();
+    if (LATIN1.name().equals(name)) {
+      latin1 = true;
+    } else if ("US-ASCII".equals(name) || "UTF-8".equals(name)) {
+      latin1 = isASCII(bytes, length);
+    } else {
+      latin1 = false;
+    }
+  }
+
+  /**
+   * Determine whether the specified bytes only contain ASCII
+   * characters.
+   *
+   * @param bytes The bytes.
+   * @param length The number of bytes.
+   * @return <code>true</code> if the bytes are ASCII characters.
+   */
+  private static boolean isASCII(byte[] bytes, int length) {
+    for (int i=0; i<length; i++) {
+      if (0 > bytes[i]) return false;
+    }
+    return true;
+  }
+
+  // -------------------------------------------------------------------------
+
+  /**
+   * Load the specified file.
+   *
+   * @param file The file.
+   * @param charset The file's character set.
+   * @return The corresponding byte input.
+   * @throws IllegalArgumentException Signals a file that is too large.
+   * @throws IOException Signals an I/O error.
+   */
+  public static ByteInput load(File file, Charset charset)
+    throws IOException {
+
+    if (Integer.MAX_VALUE < file.length()) {
+      throw new IllegalArgumentException(file + ": file too large");
+    }
+
+    FileInputStream in = new FileInputStream(file);
+    try {
+      byte[] buf   = new byte[(int)file.length()];
+      int    count = 0;
+
+      while (count < buf.length) {
+        int n = in.read(buf, count, buf.length - count);
+        if (-1 == n) break;
+        count += n;
+      }
+
+      return new ByteInput(buf, count, charset);
+    } finally {
+      in.close();
+    }
+  }
+
+  // -------------------------------------------------------------------------
+
+  /**
+   * Get the array containing the bytes.  The array may be longer
+   * than this input's {@link #length() length}.
+   *
+   * @return The array.
+   */
+  public byte[] array() {
+    return bytes;
+  }
+
+  /**
+   * Get the number of bytes.
+   *
+   * @return The number of bytes.
+   */
+  public int length() {
+    return length;
+  }
+
+  /**
+   * Get the character set.
+   *
+   * @return The character set.
+   */
+  public Charset charset() {
+    return charset;
+  }
+
+  /**
+   * Determine whether each byte of this input represents one
+   * character.
+   *
+   * @return <code>true</code> if each byte represents one character.
+   */
+  public boolean isLatin1() {
+    return latin1;
+  }
+
+  /**
+   * Determine whether this byte input is pristine, i.e., has not
+   * been read from.
+   *
+   * @return <code>true</code> if this byte input is pristine.
+   */
+  public boolean isPristine() {
+    return (null == chars) || chars.isPristine();
+  }
+
+  /**
+   * Get the decoded characters.  This method decodes the entire
+   * input on its first invocation, replacing malformed input just
+   * like an input stream reader.
+   *
+   * @return The characters as an input buffer.
+   */
+  InputBuffer decode() {
+    if (null == chars) {
+      chars =
+        new InputBuffer(charset.decode(ByteBuffer.wrap(bytes, 0, length)));
+    }
+    return chars;
+  }
+
+  // -------------------------------------------------------------------------
+
+  public int read() {
+    return decode().read();
+  }
+
+  public int read(char[] buf, int off, int len) {
+    return decode().read(buf, off, len);
+  }
+
+  public long skip(long n) {
+    return decode().skip(n);
+  }
+
+  public boolean ready() {
+    return true;
+  }
+
+  public void close() {
+    // Nothing to do.
+  }
+
+}
@@ -0,0 +1,255 @@
+/*
+ * xtc - The eXTensible Compiler
+ * Copyright (C) 2026 Robert Grimm
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * version 2 as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301,
+ * USA.
+ */
+package xtc.parser;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import xtc.tree.Visitor;
+
+/**
+ * Visitor to partition memoized productions into chunks.  Memoized
+ * productions that are invoked at the same input index should share
+ * a chunk, since all chunks accessed at an index need to be allocated
+ * for that index.  This visitor approximates such co-access by a
+ * production's <em>left corners</em>, i.e., the productions it may
+ * invoke before consuming any input.  Whenever a production is
+ * invoked, its left corners, their left corners, and so on are
+ * likely invoked at the same index as well.  The affinity between
+ * two memoized productions thus is the number of memoized
+ * productions whose transitive left corners include both.  This
+ * visitor greedily fills each chunk, starting with the most
+ * frequently reached production not yet assigned to a chunk and then
+ * adding the production with the highest affinity to the chunk's
+ * members.
+ *
+ * <p />This visitor assumes that the entire grammar is contained in a
+ * single module and that the analyzer has been initialized with that
+ * module.
+ *
+ * @author Robert Grimm
+ * @version $Revision: 1.1 $
+ */
+public class ChunkPartitioner extends Visitor {
+
+  /** The analyzer utility. */
+  protected final Analyzer analyzer;
+
+  /** The left corners of the current production. */
+  protected Set<NonTerminal> corners;
+
+  /**
+   * Create a new chunk partitioner.
+   *
+   * @param analyzer The analyzer utility.
+   */
+  public ChunkPartitioner(Analyzer analyzer) {
+    this.analyzer = analyzer;
+  }
+
+  /**
+   * Partition the specified productions into chunks.
+   *
+   * @param fields The memoized productions with their own fields, in
+   *   declaration order.
+   * @param size The maximum chunk size.
+   * @return The list of chunks.
+   */
+  public List<List<Production>> partition(List<Production> fields,
+                                          int size) {
+    final int                      count = fields.size();
+    final Map<Production, Integer> index =
+      new HashMap<Production, Integer>(count * 4 / 3 + 1);
+    for (int i=0; i<count; i++) {
+      index.put(fields.get(i), i);
+    }
+
+    // Determine each production's memoized left corners.
+    final Set<Production>       memoized = index.keySet();
+    final List<Set<Production>> direct   =
+      new ArrayList<Set<Production>>(count);
+    for (Production p : fields) {
+      Set<Production> result  = new LinkedHashSet<Production>();
+      Set<Production> visited = new HashSet<Production>();
+      visited.add(p);
+      collect(p, memoized, visited, result);
+      direct.add(result);
+    }
+
+    // Determine the frequencies and affinities.
+    final int[]   frequency = new int[count];
+    final int[][] affinity  = new int[count][count];
+    for (int i=0; i<count; i++) {
+      // Compute the transitive left corners, including the production.
+      final Set<Production>  closure = new HashSet<Production>();
+      final List<Production> work    = new ArrayList<Production>();
+      work.add(fields.get(i));
+      while (! work.isEmpty()) {
+        Production p = work.remove(work.size() - 1);
+        if (closure.add(p)) work.addAll(direct.get(index.get(p)));
+      }
+
+      for (Production p : closure) {
+        final int k = index.get(p);
+        frequency[k]++;
+        for (Production q : closure) {
+          if (p != q) affinity[k][index.get(q)]++;
+        }
+      }
+    }
+
+    // Greedily fill the chunks.
+    final List<List<Production>> chunks    = new ArrayList<List<Production>>();
+    final boolean[]              assigned  = new boolean[count];
+    int                          remaining = count;
+    while (0 < remaining) {
+      final List<Integer>    members = new ArrayList<Integer>(size);
+      final List<Production> chunk   = new ArrayList<Production>(size);
+
+      while ((members.size() < size) && (0 < remaining)) {
+        int best      = -1;
+        int bestScore = -1;
+        for (int i=0; i<count; i++) {
+          if (assigned[i]) continue;
+
+          int score = 0;
+          for (int k : members) score += affinity[i][k];
+          if ((score > bestScore) ||
+              ((score == bestScore) && (frequency[i] > frequency[best]))) {
+            best      = i;
+            bestScore = score;
+          }
+        }
+
+        assigned[best] = true;
+        remaining--;
+        members.add(best);
+        chunk.add(fields.get(best));
+      }
+
+      chunks.add(chunk);
+    }
+
+    // Done.
+    return chunks;
+  }
+
+  /**
+   * Collect the memoized left corners of the specified production.
+   * Left corners without their own memoization fields are expanded
+   * into their left corners in turn.
+   *
+   * @param p The production.
+   * @param memoized The memoized productions.
+   * @param visited The productions visited so far.
+   * @param result The memoized left corners.
+   */
+  protected void collect(Production p, Set<Production> memoized,
+                         Set<Production> visited, Set<Production> result) {
+    corners = new LinkedHashSet<NonTerminal>();
+    dispatch(p.choice);
+
+    for (NonTerminal nt : new ArrayList<NonTerminal>(corners)) {
+      Production q = analyzer.lookup(nt);
+      if ((null == q) || (! visited.add(q))) continue;
+
+      if (memoized.contains(q)) {
+        result.add(q);
+      } else {
+        collect(q, memoized, visited, result);
+      }
+    }
+  }
+
+  // ========================================================================
+
+  /**
+   * Visit the specified ordered choice.  The methods for visiting
+   * grammar elements record the left corners of the element and return
+   * whether the element may succeed without consuming any input.
+   */
+  public Boolean visit(OrderedChoice c) {
+    boolean empty = false;
+    for (Sequence s : c.alternatives) {
+      if ((Boolean)dispatch(s)) empty = true;
+    }
+    return empty;
+  }
+
+  /** Visit the specified sequence. */
+  public Boolean visit(Sequence s) {
+    for (Element e : s.elements) {
+      if (! (Boolean)dispatch(e)) return Boolean.FALSE;
+    }
+    return Boolean.TRUE;
+  }
+
+  /** Visit the specified repetition. */
+  public Boolean visit(Repetition r) {
+    final boolean empty = (Boolean)dispatch(r.element);
+    return (! r.once) || empty;
+  }
+
+  /** Visit the specified option. */
+  public Boolean visit(Option o) {
+    dispatch(o.element);
+    return Boolean.TRUE;
+  }
+
+  /** Visit the specified predicate. */
+  public Boolean visit(Predicate p) {
+    dispatch(p.element);
+    return Boolean.TRUE;
+  }
+
+  /**
+   * Visit the specified unary operator.  This method provides the
+   * default implementation for bindings, string matches, voided
+   * elements, and parser actions.
+   */
+  public Boolean visit(UnaryOperator op) {
+    return (Boolean)dispatch(op.element);
+  }
+
+  /** Visit the specified nonterminal. */
+  public Boolean visit(NonTerminal nt) {
+    corners.add(nt);
+    return Boolean.FALSE;
+  }
+
+  /** Visit the specified terminal. */
+  public Boolean visit(Terminal t) {
+    return Boolean.FALSE;
+  }
+
+  /**
+   * Visit the specified element.  This method provides the default
+   * implementation for actions, node markers, and value elements,
+   * which do not consume any input.
+   */
+  public Boolean visit(Element e) {
+    return Boolean.TRUE;
+  }
+
+}
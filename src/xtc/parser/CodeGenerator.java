@@ -21,6 +21,7 @@ package xtc.parser;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -107,7 +108,7 @@ import xtc.util.Utilities;
  * </ul>
  *
  * @author Robert Grimm
- * @version $Revision: 1.294 $
+ * @version $Revision: 1.301 $
  */
 public class CodeGenerator extends Visitor {
 
@@ -123,6 +124,18 @@ public class CodeGenerator extends Visitor {
   /** The prefix for field names that count accesses to memoized results. */
   public static final String PREFIX_COUNT_FIELD = "c";
 
+  /** The name of the field holding a column's token kind. */
+  public static final String TOKEN_KIND = "tokenKind";
+
+  /** The name of the field holding a column's token. */
+  public static final String TOKEN = "token";
+
+  /** The name of the field holding a column's failed token kind. */
+  public static final String FAILED_KIND = "failedKind";
+
+  /** The name of the field holding a column's failed token. */
+  public static final String FAILED = "failed";
+
   /** The general prefix for internal parser fields and variables. */
   public static final String PREFIX = "yy";
 
@@ -135,6 +148,9 @@ public class CodeGenerator extends Visitor {
   /** The name of the character parsing method. */
   public static final String PARSE_CHAR = "character";
 
+  /** The name of the character parsing method for byte input. */
+  public static final String PARSE_BYTE = "octet";
+
   /** The name of the index argument. */
   public static final String ARG_INDEX = PREFIX + "Start";
 
@@ -165,6 +181,9 @@ public class CodeGenerator extends Visitor {
   /** The prefix for the index variable for nested choices. */
   public static final String NESTED_CHOICE = PREFIX + "Choice";
 
+  /** The prefix for the variable holding the predicted alternatives. */
+  public static final String PREDICTED = PREFIX + "First";
+
   /** The prefix for the index variable for repetitions. */
   public static final String REPETITION = PREFIX + "Repetition";
 
@@ -183,6 +202,24 @@ public class CodeGenerator extends Visitor {
    */
   public static final String REP_VALUE = PREFIX + "RepValue";
 
+  /**
+   * The prefix for the variable referencing the start of a buffered
+   * repetition's values in the parser's list buffer.
+   */
+  public static final String REP_START = PREFIX + "RepStart";
+
+  /**
+   * The prefix for the variable referencing the end of a buffered
+   * repetition's values in the parser's list buffer.
+   */
+  public static final String REP_END = PREFIX + "RepEnd";
+
+  /**
+   * The suffix for the variable referencing the end of a bound
+   * buffered repetition's values.
+   */
+  public static final String BUFFER_END = "$end";
+
   /**
    * The prefix for the variable referencing the semantic value of a
    * bound option.
@@ -195,6 +232,21 @@ public class CodeGenerator extends Visitor {
   /** The name for the parse error variable. */
   public static final String PARSE_ERROR = PREFIX + "Error";
 
+  /** The name for the statistics field. */
+  public static final String STATISTICS = PREFIX + "Statistics";
+
+  /** The name for the production names field. */
+  public static final String PRODUCTIONS = PREFIX + "Productions";
+
+  /** The prefix for the fields holding character class tables. */
+  public static final String CHAR_CLASS = PREFIX + "Class";
+
+  /**
+   * The maximum number of comparisons for testing a character class
+   * before the class is tested with a table.
+   */
+  public static final int CHAR_CLASS_COMPARISONS = 4;
+
   // ========================================================================
 
   /** The runtime. */
@@ -209,6 +261,9 @@ public class CodeGenerator extends Visitor {
   /** The printer utility. */
   protected final Printer printer;
 
+  /** The size estimator. */
+  protected final SizeEstimator estimator;
+
   /** The flag for generating debugging code. */
   protected boolean attributeVerbose;
 
@@ -245,6 +300,13 @@ public class CodeGenerator extends Visitor {
   /** The class name for the generic node factory. */
   protected String factoryClassName;
 
+  /**
+   * The class name for the visitor declaring the generic node kinds
+   * or <code>null</code> if the grammar does not have a visitor
+   * attribute.
+   */
+  protected String visitorClassName;
+
   /** The flag for creating a main method. */
   protected boolean attributeMain;
 
@@ -263,6 +325,46 @@ public class CodeGenerator extends Visitor {
   /** The flag for including a method to dump the memoization table. */
   protected boolean attributeDump;
 
+  /** The flag for committing the input in streaming parsers. */
+  protected boolean attributeStreaming;
+
+  /** The flag for tracking memoized results for incremental reparsing. */
+  protected boolean attributeIncremental;
+
+  /** The flag for reading characters through the byte input fast path. */
+  protected boolean attributeByteInput;
+
+  /** The flag for laying out the memoization table by production. */
+  protected boolean attributeColumnMajor;
+
+  /**
+   * The root production committing the input for streaming parsers,
+   * or <code>null</code> if the parser does not commit its input.
+   */
+  protected Production streamingRoot;
+
+  /** The flag for whether the current production commits the input. */
+  protected boolean commitsInput;
+
+  /**
+   * The root production reporting its node's events, or
+   * <code>null</code> if the parser does not report events.
+   */
+  protected Production eventRoot;
+
+  /**
+   * The generic node value whose events are reported by the current
+   * production, or <code>null</code> if the production does not report
+   * events.
+   */
+  protected GenericNodeValue reportedValue;
+
+  /**
+   * The flag for whether the current top-level repetition reports its
+   * elements instead of accumulating them in a list.
+   */
+  protected boolean reportsElements;
+
   /** The class name for the current grammar. */
   protected String className;
 
@@ -275,6 +377,22 @@ public class CodeGenerator extends Visitor {
   /** The number of chunks. */
   protected int chunkCount;
 
+  /** The memoized productions of each chunk. */
+  protected List<List<Production>> chunks;
+
+  /** The number of token productions memoized in the token slot. */
+  protected int tokenCount;
+
+  /**
+   * The map from character classes to the names of their tables.
+   * Each character class is represented by a string with the first
+   * and last characters of its ranges.
+   */
+  protected Map<String, String> charClassTables;
+
+  /** The map from nonterminals to numbers for recording statistics. */
+  protected Map<NonTerminal, Integer> statisticsMap;
+
   /** The flag for the first element in a top-level choice. */
   protected boolean firstElement;
 
@@ -324,6 +442,12 @@ public class CodeGenerator extends Visitor {
   /** The types of bound repetitions, i.e. {@link MetaData#boundRepetitions}. */
   protected List<Type> repetitionTypes;
 
+  /**
+   * The flag for whether the current repetition accumulates its values
+   * in the parser's list buffer.
+   */
+  protected boolean repeatedBuffered;
+
   /** The flag for options. */
   protected boolean optional;
 
@@ -352,6 +476,12 @@ public class CodeGenerator extends Visitor {
   /** Flag for whether the current choice ends with a parse error. */
   protected boolean endsWithParseError;
 
+  /**
+   * The number of top-level alternatives emitted by previous methods
+   * for the current production.
+   */
+  protected int alternativeBase;
+
   /** The iterator over the elements of a sequence. */
   protected Iterator<Element> elementIter;
 
@@ -394,10 +524,11 @@ public class CodeGenerator extends Visitor {
    */
   public CodeGenerator(Runtime runtime, Analyzer analyzer, AST ast, 
                        Printer printer) {
-    this.runtime  = runtime;
-    this.analyzer = analyzer;
-    this.ast      = ast;
-    this.printer  = printer;
+    this.runtime   = runtime;
+    this.analyzer  = analyzer;
+    this.ast       = ast;
+    this.printer   = printer;
+    this.estimator = new SizeEstimator();
   }
 
   // ========================================================================
@@ -509,6 +640,103 @@ public class CodeGenerator extends Visitor {
     }
   }
 
+  /**
+   * Determine whether the specified production has its own
+   * memoization field.  Memoized productions have their own field,
+   * unless they are token productions and thus memoized in the
+   * column's token slot or the memoization table is laid out by
+   * production.
+   *
+   * @param p The production.
+   * @return <code>true</code> if the production has its own field.
+   */
+  protected boolean hasField(Production p) {
+    return ((! runtime.test("optimizeTransient")) || p.isMemoized()) &&
+      (! p.hasProperty(Properties.TOKEN_KIND)) && (! attributeColumnMajor);
+  }
+
+  /**
+   * Determine the generic node value whose events are reported by
+   * the specified root production.  The production's single
+   * alternative must end in a generic node value without formatting,
+   * whose children are all bound by the alternative's top-level
+   * elements.
+   *
+   * @param p The root production.
+   * @return The reported generic node value or <code>null</code> if
+   *   the production cannot report events.
+   */
+  protected GenericNodeValue reportedValue(Production p) {
+    final List<Element> elements = p.choice.alternatives.get(0).elements;
+    if (elements.isEmpty()) return null;
+
+    final Element last = elements.get(elements.size() - 1);
+    if (! (last instanceof GenericNodeValue)) return null;
+
+    final GenericNodeValue v = (GenericNodeValue)last;
+    if (! v.formatting.isEmpty()) return null;
+    for (Binding b : v.children) {
+      if (! elements.contains(b)) return null;
+    }
+    return v;
+  }
+
+  /**
+   * Determine whether the specified root production accumulates the
+   * values of any repetitions outside other repetitions in a list.
+   * The reported children of a root production reporting events are
+   * not accumulated.
+   *
+   * @param p The root production.
+   * @param v The reported generic node value.
+   * @return <code>true</code> if the production accumulates any
+   *   top-level repetition values.
+   */
+  protected boolean accumulates(Production p, GenericNodeValue v) {
+    for (Element e : p.choice.alternatives.get(0).elements) {
+      if (v.children.contains(e)) continue;
+      if (accumulates(e)) return true;
+    }
+    return false;
+  }
+
+  /**
+   * Determine whether the specified element accumulates the values of
+   * any repetitions outside other repetitions in a list.
+   *
+   * @param e The element.
+   * @return <code>true</code> if the element accumulates any
+   *   top-level repetition values.
+   */
+  protected boolean accumulates(Element e) {
+    if (e instanceof OrderedChoice) {
+      for (Sequence s : ((OrderedChoice)e).alternatives) {
+        if (accumulates(s)) return true;
+      }
+      return false;
+
+    } else if (e instanceof Sequence) {
+      for (Element e2 : ((Sequence)e).elements) {
+        if (accumulates(e2)) return true;
+      }
+      return false;
+
+    } else if (e instanceof Binding) {
+      return ((Binding)e).element instanceof Repetition ||
+        accumulates(((Binding)e).element);
+
+    } else if (e instanceof Repetition) {
+      // Any bound repetitions are nested.
+      return false;
+
+    } else if (e instanceof UnaryOperator) {
+      return accumulates(((UnaryOperator)e).element);
+
+    } else {
+      return false;
+    }
+  }
+
   /**
    * Generate the method name for the specified nonterminal.
    *
@@ -602,6 +830,35 @@ public class CodeGenerator extends Visitor {
 
   // ========================================================================
 
+  /**
+   * Emit code for clearing the memoized results of the specified
+   * nonterminal.
+   *
+   * @param nt The nonterminal.
+   */
+  protected void emitClear(NonTerminal nt) {
+    printer.indent().p(PREFIX_FIELD).p(nt.toIdentifier()).pln(" = null;");
+    if (attributeProfile) {
+      printer.indent().p(PREFIX_COUNT_FIELD).p(nt.toIdentifier()).
+        pln(" = 0;");
+    }
+  }
+
+  /**
+   * Emit a chunk's method for clearing the memoized results of the
+   * specified nonterminals.
+   *
+   * @param nts The nonterminals.
+   */
+  protected void emitClear(List<NonTerminal> nts) {
+    printer.pln();
+    printer.indent().pln("void clear() {").incr();
+    for (NonTerminal nt : nts) emitClear(nt);
+    printer.decr().indent().pln('}');
+  }
+
+  // ========================================================================
+
   /** Emit code for printing the memoization profile. */
   protected void profile() {
     // Emit the method header.
@@ -627,7 +884,7 @@ public class CodeGenerator extends Visitor {
 
     int maxNameSize = 0;
     for (Production p : analyzer.module().productions) {
-      if (runtime.test("optimizeTransient") && ! p.isMemoized()) continue;
+      if (! hasField(p)) continue;
 
       final String name = p.name.toIdentifier();
       maxNameSize = Math.max(maxNameSize, name.length());
@@ -651,7 +908,7 @@ public class CodeGenerator extends Visitor {
 
     if (0 == chunkCount) {
       for (Production p : analyzer.module().productions) {
-        if ((! runtime.test("optimizeTransient")) || p.isMemoized()) {
+        if (hasField(p)) {
           final String name = p.name.toIdentifier();
 
           printer.indent().p("profile(maxima, \"").p(name).p("\", ").buffer().
@@ -661,34 +918,22 @@ public class CodeGenerator extends Visitor {
       }
 
     } else {
-      int     number = 0;
-      int     idx    = CHUNK_SIZE;
-      boolean first  = true;
-
-      for (Production p : analyzer.module().productions) {
-        if (runtime.test("optimizeTransient") && ! p.isMemoized()) continue;
-
-        if (CHUNK_SIZE <= idx) {
-          number++;
-          idx = 0;
+      for (int number=1; number<=chunkCount; number++) {
+        if (1 < number) {
+          printer.decr().indent().pln('}');
+          printer.pln();
+        }
 
-          if (first) {
-            first = false;
-          } else {
-            printer.decr().indent().pln('}');
-            printer.pln();
-          }
+        printer.indent().p("Chunk").p(number).p(" chunk").p(number).
+          p(" = column.chunk").p(number).pln(';');
+        printer.indent().p("if (null != chunk").p(number).pln(") {").incr();
 
-          printer.indent().p("Chunk").p(number).p(" chunk").p(number).
-            p(" = column.chunk").p(number).pln(';');
-          printer.indent().p("if (null != chunk").p(number).pln(") {").incr();
+        for (Production p : chunks.get(number - 1)) {
+          final String name = p.name.toIdentifier();
+          printer.indent().p("profile(maxima, \"").p(name).p("\", ").
+            buffer().p("chunk").p(number).p('.').p(PREFIX_COUNT_FIELD).
+            p(name).p(");").fit("        ").pln();
         }
-
-        final String name = p.name.toIdentifier();
-        printer.indent().p("profile(maxima, \"").p(name).p("\", ").buffer().
-          p("chunk").p(number).p('.').p(PREFIX_COUNT_FIELD).p(name).p(");").
-          fit("        ").pln();
-        idx++;
       }
 
       printer.decr().indent().pln('}');
@@ -702,7 +947,7 @@ public class CodeGenerator extends Visitor {
     printer.indent().pln("// Print the profile.");
 
     for (Production p : analyzer.module().productions) {
-      if (runtime.test("optimizeTransient") && ! p.isMemoized()) continue;
+      if (! hasField(p)) continue;
 
       printer.indent().p("print(printer, ").p(maxNameSize).p(", maxima, ").
         buffer().p('"').p(p.name.toIdentifier()).p("\");").fitMore().pln();
@@ -800,7 +1045,7 @@ public class CodeGenerator extends Visitor {
       printer.pln();
 
       for (Production p : analyzer.module().productions) {
-        if ((! runtime.test("optimizeTransient")) || p.isMemoized()) {
+        if (hasField(p)) {
           final String name = p.name.toIdentifier();
 
           printer.indent().p("dump(printer, \"").p(name).p("\", ").
@@ -810,46 +1055,34 @@ public class CodeGenerator extends Visitor {
       }
       
     } else {
-      int      number = 0;
-      int      idx    = CHUNK_SIZE;
-      boolean  first  = true;
-
-      for (Production p : analyzer.module().productions) {
-        if (runtime.test("optimizeTransient") && ! p.isMemoized()) continue;
-
-        if (CHUNK_SIZE <= idx) {
-          number++;
-          idx = 0;
+      for (int number=1; number<=chunkCount; number++) {
+        if (1 < number) {
+          printer.pln();
+          printer.indent().pln("printer.decr().indent().pln(\"};\");");
+          printer.decr().indent().pln('}');
+        }
 
-          if (first) {
-            first = false;
-          } else {
-            printer.pln();
-            printer.indent().pln("printer.decr().indent().pln(\"};\");");
-            printer.decr().indent().pln('}');
-          }
+        printer.pln();
+        printer.indent().p("Chunk").p(number).p(" chunk").p(number).
+          p(" = column.chunk").p(number).pln(';');
+        printer.indent().p("printer.indent().p(\"Chunk(").p(number).
+          p(") = \");");
+        printer.pln();
 
-          printer.pln();
-          printer.indent().p("Chunk").p(number).p(" chunk").p(number).
-            p(" = column.chunk").p(number).pln(';');
-          printer.indent().p("printer.indent().p(\"Chunk(").p(number).
-            p(") = \");");
-          printer.pln();
+        printer.indent().p("if (null == chunk").p(number).pln(") {").incr();
+        printer.indent().pln("printer.pln(\"null;\");");
+        printer.pln();
 
-          printer.indent().p("if (null == chunk").p(number).pln(") {").incr();
-          printer.indent().pln("printer.pln(\"null;\");");
-          printer.pln();
+        printer.decr().indent().pln("} else {").incr();
+        printer.indent().pln("printer.pln('{').incr();");
+        printer.pln();
 
-          printer.decr().indent().pln("} else {").incr();
-          printer.indent().pln("printer.pln('{').incr();");
-          printer.pln();
+        for (Production p : chunks.get(number - 1)) {
+          final String name = p.name.toIdentifier();
+          printer.indent().p("dump(printer, \"").p(name).p("\", ").buffer().
+            p("chunk").p(number).p('.').p(PREFIX_FIELD).p(name).p(");").
+            fit("     ").pln();
         }
-
-        final String name = p.name.toIdentifier();
-        printer.indent().p("dump(printer, \"").p(name).p("\", ").buffer().
-          p("chunk").p(number).p('.').p(PREFIX_FIELD).p(name).p(");").
-          fit("     ").pln();
-        idx++;
       }
 
       printer.pln();
@@ -857,6 +1090,14 @@ public class CodeGenerator extends Visitor {
       printer.decr().indent().pln('}');
     }
 
+    if (0 < tokenCount) {
+      printer.pln();
+      printer.indent().p("dump(printer, \"").p(TOKEN).p("\", column.").
+        p(TOKEN).pln(");");
+      printer.indent().p("dump(printer, \"").p(FAILED).p("\", column.").
+        p(FAILED).pln(");");
+    }
+
     printer.pln();
     printer.indent().pln("printer.decr().indent().pln(\"};\");");
     printer.decr().indent().pln('}');
@@ -1012,6 +1253,12 @@ public class CodeGenerator extends Visitor {
     attributePrinter      = m.hasAttribute(Constants.NAME_PRINTER);
     attributeProfile      = m.hasAttribute(Constants.ATT_PROFILE);
     attributeDump         = m.hasAttribute(Constants.ATT_DUMP);
+    attributeStreaming    = m.hasAttribute(Constants.ATT_STREAMING);
+    attributeIncremental  = m.hasAttribute(Constants.ATT_INCREMENTAL);
+    attributeByteInput    = m.hasAttribute(Constants.ATT_BYTE_INPUT);
+    attributeColumnMajor  = m.hasAttribute(Constants.ATT_COLUMN_MAJOR) &&
+      (! attributeStreaming) && (! attributeIncremental) &&
+      (! attributeProfile) && (! attributeDump);
 
     if (attributeStateful) {
       stateClassName =
@@ -1028,6 +1275,11 @@ public class CodeGenerator extends Visitor {
     if (m.hasAttribute(Constants.NAME_FACTORY)) {
       factoryClassName = (String)m.getAttributeValue(Constants.NAME_FACTORY);
     }
+    if (m.hasAttribute(Constants.NAME_VISITOR)) {
+      visitorClassName = (String)m.getAttributeValue(Constants.NAME_VISITOR);
+    } else {
+      visitorClassName = null;
+    }
 
     boolean isVerbose = attributeVerbose;
     if (! isVerbose) {
@@ -1040,9 +1292,36 @@ public class CodeGenerator extends Visitor {
       }
     }
 
+    // Determine the root production committing the input or reporting
+    // events.  Since committing discards the input and reported events
+    // cannot be taken back, the root production must not backtrack and
+    // must not be invoked by other productions.
+    final boolean events = m.hasAttribute(Constants.ATT_EVENTS);
+    Production    root   = null;
+    if ((attributeStreaming || events) && m.hasProperty(Properties.ROOT)) {
+      final NonTerminal nt = (NonTerminal)m.getProperty(Properties.ROOT);
+
+      for (Production p : m.productions) {
+        if (nt.equals(p.qName)) {
+          MetaData md = (MetaData)p.getProperty(Properties.META_DATA);
+          if ((1 == p.choice.alternatives.size()) && (0 == md.usageCount)) {
+            root = p;
+          }
+          break;
+        }
+      }
+    }
+    streamingRoot = attributeStreaming ? root : null;
+    eventRoot     = (events && (null != root) && (null != reportedValue(root)))?
+      root : null;
+
     chunked    = false;
     chunkMap   = null;
     chunkCount = 0;
+    chunks     = null;
+    tokenCount = 0;
+
+    charClassTables = new LinkedHashMap<String, String>();
 
     // Emit package name.
     final String packageName = Utilities.getQualifier(m.getClassName());
@@ -1097,6 +1376,11 @@ public class CodeGenerator extends Visitor {
         printer.indent().p("import ").p(factoryClassName).pln(';');
         factoryClassName = Utilities.getName(factoryClassName);
       }
+      if ((null != visitorClassName) &&
+          Utilities.isQualified(visitorClassName)) {
+        printer.indent().p("import ").p(visitorClassName).pln(';');
+        visitorClassName = Utilities.getName(visitorClassName);
+      }
       needsNewline = true;
     }
     if (attributeParseTree) {
@@ -1194,61 +1478,64 @@ public class CodeGenerator extends Visitor {
       }
     }
     
-    // Determine the number of productions that require memoization.
-    int memoCount = 0;
+    // Determine the number of productions that require memoization
+    // and how many of them have their own fields.
+    int memoCount  = 0;
+    int fieldCount = 0;
+    statisticsMap = new HashMap<NonTerminal, Integer>();
 
     for (Production p : m.productions) {
       if ((! runtime.test("optimizeTransient")) || p.isMemoized()) {
+        statisticsMap.put(p.name, memoCount);
         memoCount++;
+        if (hasField(p)) {
+          fieldCount++;
+        } else if (! attributeColumnMajor) {
+          tokenCount++;
+        }
       }
     }
 
     // To chunk or not to chunk.
-    if (runtime.test("optimizeChunks") && (CHUNK_SIZE <= memoCount)) {
+    if (runtime.test("optimizeChunks") && (CHUNK_SIZE <= fieldCount)) {
       chunked    = true;
-      chunkMap   = new HashMap<NonTerminal, Integer>(memoCount * 4 / 3);
-
-      Integer number  = null;
-      String  sNumber = null;
-      int     i       = CHUNK_SIZE;
-      boolean first   = true;
+      chunkMap   = new HashMap<NonTerminal, Integer>(fieldCount * 4 / 3);
 
+      // Group productions invoked at the same index into chunks.
+      List<Production> fields = new ArrayList<Production>(fieldCount);
       for (Production p : m.productions) {
-        // Skip memoization for productions that are transient.
-        if (runtime.test("optimizeTransient") && ! p.isMemoized()) continue;
-
-        if (CHUNK_SIZE <= i) {
-          chunkCount++;
-          number  = new Integer(chunkCount);
-          sNumber = Integer.toString(chunkCount);
-          i       = 0;
-
-          if (first) {
-            first = false;
-            printer.sep();
-          } else {
-            printer.decr().indent().pln('}');
-          }
-          printer.pln();
-          printer.indent().p("/** Chunk ").p(sNumber).
-            pln(" of memoized results. */");
-          printer.indent().p("static final class Chunk").p(sNumber).
-            pln(" {").incr();
-        }
+        // Skip productions that are transient or tokens.
+        if (hasField(p)) fields.add(p);
+      }
+      chunks     =
+        new ChunkPartitioner(analyzer).partition(fields, CHUNK_SIZE);
+      chunkCount = chunks.size();
+
+      printer.sep();
+      for (int i=1; i<=chunkCount; i++) {
+        final Integer     number  = new Integer(i);
+        List<NonTerminal> members = new ArrayList<NonTerminal>(CHUNK_SIZE);
+
+        printer.pln();
+        printer.indent().p("/** Chunk ").p(i).pln(" of memoized results. */");
+        printer.indent().p("static final class Chunk").p(i).pln(" {").incr();
 
-        final NonTerminal nt = p.name;
-        chunkMap.put(nt, number);
-        i++;
+        for (Production p : chunks.get(i - 1)) {
+          final NonTerminal nt = p.name;
+          chunkMap.put(nt, number);
+          members.add(nt);
 
-        printer.indent().p("Result ").p(PREFIX_FIELD).p(nt.toIdentifier()).
-          pln(';');
-        if (attributeProfile) {
-          printer.indent().p("int    ").p(PREFIX_COUNT_FIELD).
+          printer.indent().p("Result ").p(PREFIX_FIELD).
             p(nt.toIdentifier()).pln(';');
+          if (attributeProfile) {
+            printer.indent().p("int    ").p(PREFIX_COUNT_FIELD).
+              p(nt.toIdentifier()).pln(';');
+          }
         }
-      }
 
-      printer.decr().indent().pln('}');
+        emitClear(members);
+        printer.decr().indent().pln('}');
+      }
       printer.pln();
     }
 
@@ -1266,7 +1553,7 @@ public class CodeGenerator extends Visitor {
 
     } else {
       for (Production p : m.productions) {
-        if ((! runtime.test("optimizeTransient")) || p.isMemoized()) {
+        if (hasField(p)) {
           printer.indent().p("Result ").p(PREFIX_FIELD).
             p(p.name.toIdentifier()).pln(';');
           if (attributeProfile) {
@@ -1276,6 +1563,37 @@ public class CodeGenerator extends Visitor {
         }
       }
     }
+    if (0 < tokenCount) {
+      printer.indent().p("int    ").p(TOKEN_KIND).pln(';');
+      printer.indent().p("Result ").p(TOKEN).pln(';');
+      printer.indent().p("int    ").p(FAILED_KIND).pln(';');
+      printer.indent().p("Result ").p(FAILED).pln(';');
+    }
+
+    // Emit code for clearing the column, which retains any chunks.
+    printer.pln();
+    printer.indent().pln("protected boolean clear() {").incr();
+    if (chunked) {
+      for (int i=1; i<=chunkCount; i++) {
+        printer.indent().p("if (").p(nullExpr()).p(" != chunk").p(i).
+          p(") chunk").p(i).pln(".clear();");
+      }
+
+    } else {
+      for (Production p : m.productions) {
+        if (hasField(p)) {
+          emitClear(p.name);
+        }
+      }
+    }
+    if (0 < tokenCount) {
+      printer.indent().p(TOKEN_KIND).pln(" = 0;");
+      printer.indent().p(TOKEN).pln(" = null;");
+      printer.indent().p(FAILED_KIND).pln(" = 0;");
+      printer.indent().p(FAILED).pln(" = null;");
+    }
+    printer.indent().pln("return true;");
+    printer.decr().indent().pln('}');
 
     printer.decr().indent().pln('}');
     printer.pln();
@@ -1344,6 +1662,25 @@ public class CodeGenerator extends Visitor {
     printer.indent().p("return new ").p(className).pln("Column();");
     printer.decr().indent().pln('}');
     printer.pln();
+
+    // Emit code for naming the memoized productions.
+    if (0 < memoCount) {
+      printer.sep().pln();
+      printer.indent().pln("/** The names of the memoized productions. */");
+      printer.indent().p("private static final String[] ").p(PRODUCTIONS).
+        pln(" = {").incr();
+      for (Production p : m.productions) {
+        if ((! runtime.test("optimizeTransient")) || p.isMemoized()) {
+          printer.indent().p('"').p(p.qName.name).pln("\",");
+        }
+      }
+      printer.decr().indent().pln("};");
+      printer.pln();
+      printer.indent().pln("protected String[] productions() {").incr();
+      printer.indent().p("return ").p(PRODUCTIONS).pln(';');
+      printer.decr().indent().pln('}');
+      printer.pln();
+    }
     
     // Emit code for productions.
     for (Production p : m.productions) {
@@ -1373,6 +1710,14 @@ public class CodeGenerator extends Visitor {
       attributeVerbose            = savedVerbose;
     }
 
+    // Emit the character class tables.
+    if (! charClassTables.isEmpty()) {
+      printer.sep().pln();
+      for (Map.Entry<String, String> entry : charClassTables.entrySet()) {
+        emitCharClassTable(entry.getValue(), entry.getKey());
+      }
+    }
+
     // Emit code for body.
     if (null != m.body) {
       printer.sep().pln();
@@ -1498,6 +1843,12 @@ public class CodeGenerator extends Visitor {
   public void visit(FullProduction p) {
     MetaData md     = (MetaData)p.getProperty(Properties.META_DATA);
     repetitionTypes = md.boundRepetitions;
+    if ((p == eventRoot) && (! repetitionTypes.isEmpty()) &&
+        (! accumulates(p, reportedValue(p)))) {
+      // The reported repetitions do not need a list value.
+      repetitionTypes = new ArrayList<Type>(repetitionTypes);
+      repetitionTypes.set(0, null);
+    }
     optionTypes     = md.options;
     String   field  = fieldName(p.name, PREFIX_FIELD);
     String   method = methodName(p.name);
@@ -1556,31 +1907,131 @@ public class CodeGenerator extends Visitor {
 
     // Only memoize non-transient productions.
     if ((! runtime.test("optimizeTransient")) || p.isMemoized()) {
-      printer.indent().p(className).p("Column ").p(COLUMN).p(" = (").
-        p(className).p("Column)column(").p(ARG_INDEX).pln(");");
-
-      if (chunked) {
-        String chunk = chunkMap.get(p.name).toString();
-        printer.indent().p("if (").p(nullExpr()).p(" == ").p(COLUMN).
-          p(".chunk").p(chunk).p(") ").p(COLUMN).p(".chunk").p(chunk).
-          p(" = new Chunk").p(chunk).pln("();");
+      final int number = statisticsMap.get(p.name);
+      if (! attributeColumnMajor) {
+        printer.indent().p(className).p("Column ").p(COLUMN).p(" = (").
+          p(className).p("Column)column(").p(ARG_INDEX).pln(");");
       }
 
-      printer.indent().p("if (").p(nullExpr()).p(" == ").p(field).p(") ").
-        buffer().p(field).p(" = ").p(method).p("$1(").p(ARG_INDEX).p(");").
-        fitMore().pln();
+      if (attributeColumnMajor) {
+        // The production's number also selects its results in the
+        // column-major memoization table.
+        printer.indent().p("Result ").p(RESULT).p(" = memoized(").p(number).
+          p(", ").p(ARG_INDEX).pln(");");
+        printer.indent().p("if (").p(nullExpr()).p(" == ").p(RESULT).
+          pln(") {").incr();
+        printer.indent().p(RESULT).p(" = ").buffer().p(method).p("$1(").
+          p(ARG_INDEX).p(");").fitMore().pln();
+        printer.indent().p("memoize(").p(number).p(", ").p(ARG_INDEX).
+          p(", ").p(RESULT).pln(");");
+        printer.indent().p("if (").p(nullExpr()).p(" != ").p(STATISTICS).
+          p(") ").buffer().p(STATISTICS).p(".miss(").p(number).p(", ").
+          p(RESULT).p(");").fitMore().pln();
+        printer.decr().indent().p("} else if (").p(nullExpr()).p(" != ").
+          p(STATISTICS).pln(") {").incr();
+        printer.indent().p(STATISTICS).p(".hit(").p(number).p(", ").
+          p(RESULT).pln(");");
+        printer.decr().indent().pln('}');
 
-      if (attributeProfile) {
-        printer.indent().p(fieldName(p.name, PREFIX_COUNT_FIELD)).pln("++;");
-      }
+        if (attributeVerbose) {
+          printer.indent().p("traceLookup(\"").p(p.name.toIdentifier()).
+            p("\", ").p(ARG_INDEX).p(", ").
+            buffer().p(RESULT).p(");").fitMore().pln();
+        }
 
-      if (attributeVerbose) {
-        printer.indent().p("traceLookup(\"").p(p.name.toIdentifier()).
-          p("\", ").p(ARG_INDEX).p(", ").
-          buffer().p(field).p(");").fitMore().pln();
-      }
+        printer.indent().p("return ").p(RESULT).pln(';');
+
+      } else if (p.hasProperty(Properties.TOKEN_KIND)) {
+        // Token productions share the column's token slots, one for
+        // the last successfully parsed token and one for the last
+        // failed token.  Since at most one kind of token usually
+        // starts at an index, the other kinds tried at that index
+        // mostly fail, and the two slots do not evict each other.
+        final String kind   = p.getProperty(Properties.TOKEN_KIND).toString();
+        final String token  = COLUMN + "." + TOKEN;
+        final String failed = COLUMN + "." + FAILED;
+
+        for (int i=0; i<2; i++) {
+          final String slot = (0 == i) ? token : failed;
+          printer.indent().p("if (").p(kind).p(" == ").p(COLUMN).p('.').
+            p((0 == i) ? TOKEN_KIND : FAILED_KIND).pln(") {").incr();
+          printer.indent().p("if (").p(nullExpr()).p(" != ").p(STATISTICS).
+            p(") ").buffer().p(STATISTICS).p(".hit(").p(number).p(", ").
+            p(slot).p(");").fitMore().pln();
+          if (attributeVerbose) {
+            printer.indent().p("traceLookup(\"").p(p.name.toIdentifier()).
+              p("\", ").p(ARG_INDEX).p(", ").
+              buffer().p(slot).p(");").fitMore().pln();
+          }
+          printer.indent().p("return ").p(slot).pln(';');
+          printer.decr().indent().pln('}');
+          printer.pln();
+        }
+
+        printer.indent().p("final Result ").p(RESULT).p(" = ").buffer().
+          p(method).p("$1(").p(ARG_INDEX).p(");").fitMore().pln();
+        printer.indent().p("if (").p(nullExpr()).p(" != ").p(STATISTICS).
+          p(") ").buffer().p(STATISTICS).p(".miss(").p(number).p(", ").
+          p(RESULT).p(");").fitMore().pln();
+        if (attributeVerbose) {
+          printer.indent().p("traceLookup(\"").p(p.name.toIdentifier()).
+            p("\", ").p(ARG_INDEX).p(", ").
+            buffer().p(RESULT).p(");").fitMore().pln();
+        }
+        printer.pln();
+        printer.indent().p("if (").p(RESULT).pln(".hasValue()) {").incr();
+        printer.indent().p(COLUMN).p('.').p(TOKEN_KIND).p("  = ").p(kind).
+          pln(';');
+        printer.indent().p(token).p("      = ").p(RESULT).pln(';');
+        printer.decr().indent().pln("} else {").incr();
+        printer.indent().p(COLUMN).p('.').p(FAILED_KIND).p(" = ").p(kind).
+          pln(';');
+        printer.indent().p(failed).p("     = ").p(RESULT).pln(';');
+        printer.decr().indent().pln('}');
+        if (attributeIncremental && (! attributeStateful)) {
+          printer.indent().p("track(").p(ARG_INDEX).pln(");");
+        }
+        printer.indent().p("return ").p(RESULT).pln(';');
+
+      } else {
+        if (chunked) {
+          String chunk = chunkMap.get(p.name).toString();
+          printer.indent().p("if (").p(nullExpr()).p(" == ").p(COLUMN).
+            p(".chunk").p(chunk).p(") ").p(COLUMN).p(".chunk").p(chunk).
+            p(" = new Chunk").p(chunk).pln("();");
+        }
+
+        printer.indent().p("if (").p(nullExpr()).p(" == ").p(field).
+          pln(") {").incr();
+        printer.indent().p(field).p(" = ").buffer().p(method).p("$1(").
+          p(ARG_INDEX).p(");").fitMore().pln();
+        if (attributeIncremental && (! attributeStateful)) {
+          // Incremental reparsing needs to know which input the
+          // memoized result may depend on.  It is unsound for stateful
+          // parsers, since reusing a result skips its state changes.
+          printer.indent().p("track(").p(ARG_INDEX).pln(");");
+        }
+        printer.indent().p("if (").p(nullExpr()).p(" != ").p(STATISTICS).
+          p(") ").buffer().p(STATISTICS).p(".miss(").p(number).p(", ").
+          p(field).p(");").fitMore().pln();
+        printer.decr().indent().p("} else if (").p(nullExpr()).p(" != ").
+          p(STATISTICS).pln(") {").incr();
+        printer.indent().p(STATISTICS).p(".hit(").p(number).p(", ").p(field).
+          pln(");");
+        printer.decr().indent().pln('}');
+
+        if (attributeProfile) {
+          printer.indent().p(fieldName(p.name, PREFIX_COUNT_FIELD)).pln("++;");
+        }
+
+        if (attributeVerbose) {
+          printer.indent().p("traceLookup(\"").p(p.name.toIdentifier()).
+            p("\", ").p(ARG_INDEX).p(", ").
+            buffer().p(field).p(");").fitMore().pln();
+        }
 
-      printer.indent().p("return ").p(field).pln(';');
+        printer.indent().p("return ").p(field).pln(';');
+      }
       printer.decr().indent().pln('}');
 
       printer.pln();
@@ -1596,9 +2047,132 @@ public class CodeGenerator extends Visitor {
       }
     }
 
-    // Emit variable declarations.  First, determine the alignment for
-    // the variable names by finding the maximum number of characters
-    // in a type name.  Second, print the individual declarations.
+    // Determine the parts of the production, with each part being
+    // parsed by its own method.
+    final List<OrderedChoice> parts = split(p);
+
+    // Emit variable declarations.
+    declarations(p, md, true);
+
+    // Emit code for verbose operation.
+    if (attributeVerbose) {
+      printer.pln();
+      printer.indent().p("traceEnter(\"").p(p.name.toIdentifier()).
+        p("\", ").p(ARG_INDEX).pln(");");
+    }
+
+    // Emit code for state management.
+    if (attributeStateful) {
+      if (p.hasAttribute(Constants.ATT_RESETTING)) {
+        printer.pln();
+        printer.indent().pln("// Reset the global state object.");
+        printer.indent().p(STATE).p(".reset(fileAt(").p(ARG_INDEX).
+          pln("));");
+      }
+
+      if (p.hasAttribute(Constants.ATT_STATEFUL)) {
+        printer.pln();
+        printer.indent().pln("// Start a state modification.");
+        printer.indent().p(STATE).pln(".start();");
+      }
+    }
+
+    // Emit code for production element.
+    endsWithParseError = false;
+    alternativeBase    = 0;
+    part(p, parts, 0);
+
+    // Emit the methods for the remaining parts.
+    for (int i=1; i<parts.size(); i++) {
+      printer.indent().p("/** Parse ").p(p.qName.name).p(", part ").p(i+1).
+        pln(". */");
+      line = printer.line();
+      printer.indent().p("private Result ").p(method).p('$').p(i+1).
+        p("(final ").p(indexT()).p(' ').p(ARG_INDEX).p(", ").buffer().
+        p("ParseError ").p(PARSE_ERROR).p(')').fitMore().p(' ').buffer().
+        p("throws IOException {").fitMore().pln().incr();
+      if (line + 1 < printer.line()) {
+        printer.pln();
+      }
+
+      declarations(p, md, false);
+      part(p, parts, i);
+    }
+  }
+
+  /**
+   * Split the specified production into parts.  If the production's
+   * parsing method is estimated to exceed the {@link
+   * SizeEstimator#HUGE_METHOD_LIMIT limit} for just-in-time
+   * compilation, this method divides the production's top-level
+   * alternatives into several ordered choices, each of which is
+   * parsed by its own method.  The first part is parsed by the
+   * production's regular method, which tail-calls the method for the
+   * second part on failure, and so on.  Since all parts share the
+   * same parser state besides the parse error, which is passed
+   * explicitly, and since the semantic values of top-level
+   * alternatives are returned directly, splitting preserves the
+   * parser's behavior.
+   *
+   * @param p The production.
+   * @return The parts.
+   */
+  protected List<OrderedChoice> split(FullProduction p) {
+    final List<OrderedChoice> parts = new ArrayList<OrderedChoice>();
+    final int                 limit = runtime.getInt("optionSplitLimit");
+    final int                 total = SizeEstimator.METHOD +
+      estimator.estimate(p.choice);
+
+    if ((total <= limit) || (! runtime.test("optimizeSplit")) ||
+        (1 == p.choice.alternatives.size())) {
+      parts.add(p.choice);
+
+    } else {
+      OrderedChoice part = null;
+      int           size = 0;
+
+      for (Sequence s : p.choice.alternatives) {
+        final int n = estimator.estimate(s) +
+          SizeEstimator.RETURN + SizeEstimator.ERROR;
+
+        if ((null == part) || (limit < size + n)) {
+          part = new OrderedChoice();
+          part.setLocation(p.choice);
+          parts.add(part);
+          size = SizeEstimator.METHOD;
+        }
+        part.alternatives.add(s);
+        size += n;
+      }
+
+      if (runtime.test("optionVerbose")) {
+        System.err.println("[Splitting " + p.qName + " into " + parts.size() +
+                           " methods]");
+      }
+    }
+
+    // Check that no part is too large.
+    for (OrderedChoice part : parts) {
+      if (limit < SizeEstimator.METHOD + estimator.estimate(part)) {
+        runtime.warning("parsing method for " + p.qName.name +
+                        " likely exceeds " + limit + " bytes", p);
+      }
+    }
+
+    return parts;
+  }
+
+  /**
+   * Emit the variable declarations for the specified production.
+   *
+   * @param p The production.
+   * @param md The production's meta-data.
+   * @param error The flag for whether to declare the parse error.
+   */
+  protected void declarations(FullProduction p, MetaData md, boolean error) {
+    // First, determine the alignment for the variable names by
+    // finding the maximum number of characters in a type name.
+    // Second, print the individual declarations.
     String ptype = extern(p.type);
     if (attributeRawTypes) ptype = rawT(ptype);
 
@@ -1659,6 +2233,10 @@ public class CodeGenerator extends Visitor {
         }
         printer.align(align).p(REP_VALUE).p(i+1).pln(';');
       }
+      if (md.bufferedRepetitions.get(i)) {
+        printer.indent().p("int").align(align).p(REP_START).p(i+1).pln(';');
+        printer.indent().p("int").align(align).p(REP_END).p(i+1).pln(';');
+      }
     }
     for (int i=0; i<md.options.size(); i++) {
       printer.indent().p(indexT()).align(align).p(OPTION).p(i+1).
@@ -1672,33 +2250,21 @@ public class CodeGenerator extends Visitor {
       }
     }
     printer.indent().p(ptype).align(align).p(VALUE).pln(';');
-    printer.indent().p("ParseError").align(align).p(PARSE_ERROR).
-      pln(" = ParseError.DUMMY;");
-
-    // Emit code for verbose operation.
-    if (attributeVerbose) {
-      printer.pln();
-      printer.indent().p("traceEnter(\"").p(p.name.toIdentifier()).
-        p("\", ").p(ARG_INDEX).pln(");");
-    }
-
-    // Emit code for state management.
-    if (attributeStateful) {
-      if (p.hasAttribute(Constants.ATT_RESETTING)) {
-        printer.pln();
-        printer.indent().pln("// Reset the global state object.");
-        printer.indent().p(STATE).p(".reset(column(").p(ARG_INDEX).
-          pln(").file);");
-      }
-
-      if (p.hasAttribute(Constants.ATT_STATEFUL)) {
-        printer.pln();
-        printer.indent().pln("// Start a state modification.");
-        printer.indent().p(STATE).pln(".start();");
-      }
+    if (error) {
+      printer.indent().p("ParseError").align(align).p(PARSE_ERROR).
+        pln(" = ParseError.DUMMY;");
     }
+  }
 
-    // Emit code for production element.
+  /**
+   * Emit the code for the specified part of the specified production.
+   * This method also ends the part's method.
+   *
+   * @param p The production.
+   * @param parts The production's parts.
+   * @param index The index of the part.
+   */
+  protected void part(FullProduction p, List<OrderedChoice> parts, int index) {
     indexName          = INDEX;
     resultName         = RESULT;
     baseIndex          = ARG_INDEX;
@@ -1708,6 +2274,7 @@ public class CodeGenerator extends Visitor {
     repeated           = false;
     repeatedOnce       = false;
     repeatedElement    = null;
+    repeatedBuffered   = false;
     savedRepeated      = false;
     savedRepeatedOnce  = false;
     optional           = false;
@@ -1716,10 +2283,21 @@ public class CodeGenerator extends Visitor {
     savedOptional      = false;
     createsNodeValue   = false;
     seenTest           = false;
-    endsWithParseError = false;
-    dispatch(p.choice);
+    commitsInput       = (p == streamingRoot);
+    reportedValue      = (p == eventRoot) ? reportedValue(p) : null;
+    reportsElements    = false;
+    dispatch(parts.get(index));
 
-    if (seenTest) {
+    alternativeBase += parts.get(index).alternatives.size();
+
+    if (parts.size() - 1 > index) {
+      if (seenTest) {
+        printer.pln();
+        printer.indent().pln("// Try the remaining alternatives.");
+        printer.indent().p("return ").p(methodName(p.name)).p('$').
+          p(index+2).p('(').p(ARG_INDEX).p(", ").p(PARSE_ERROR).pln(");");
+      }
+    } else if (seenTest) {
       if (attributeStateful && p.hasAttribute(Constants.ATT_STATEFUL)) {
         printer.pln();
         printer.indent().pln("// Abort the state modification.");
@@ -1780,6 +2358,11 @@ public class CodeGenerator extends Visitor {
     align += (printer.level() * Constants.INDENTATION) + 1 + 
       Constants.FIRST_COLUMN;
 
+    // Read characters through the byte input fast path, if requested.
+    if (attributeByteInput && PARSE_CHAR.equals(methodName)) {
+      methodName = PARSE_BYTE;
+    }
+
     if (useBaseIndex) {
       // The first result of an ordered choice or repetition as well
       // as the first element after a repetition always builds on the
@@ -2029,7 +2612,13 @@ public class CodeGenerator extends Visitor {
       if (repeatedOnce) {
         printer.indent().p(REPEATED).p(repetitionLevel).pln("   = true;");
       }
-      if (null != repeatedElement) {
+      if ((null != repeatedElement) &&
+          reportsElements && (1 == repetitionLevel)) {
+        printer.indent().p("report(").p(repeatedElement).pln(");");
+      } else if ((null != repeatedElement) && repeatedBuffered) {
+        printer.indent().p(REP_END).p(repetitionLevel).p("   = buffer(").
+          p(REP_END).p(repetitionLevel).p(", ").p(repeatedElement).pln(");");
+      } else if (null != repeatedElement) {
         printer.indent().p(REP_VALUE).p(repetitionLevel).p("   = ").buffer();
         if (attributeRawTypes) {
           printer.p("new Pair(");
@@ -2154,6 +2743,123 @@ public class CodeGenerator extends Visitor {
     return NESTED_CHOICE + Integer.toString(choiceLevel);
   }
 
+  /**
+   * Return the name of the variable holding the predicted
+   * alternatives for the current choice level.
+   *
+   * @return The predicted alternatives variable.
+   */
+  protected String predicted() {
+    return (0 == choiceLevel)? PREDICTED : PREDICTED + choiceLevel;
+  }
+
+  /**
+   * Emit the code for predicting the viable alternatives of the
+   * specified ordered choice.  If at least two alternatives have a
+   * {@link Properties#FIRST FIRST set}, this method assigns each of
+   * them a bit and emits a switch statement on the next character,
+   * which sets the {@link #predicted() predicted alternatives
+   * variable} to the bits of those alternatives that may start with
+   * the character.
+   *
+   * @param c The ordered choice.
+   * @return The bits for the alternatives, with zero indicating that
+   *   an alternative is always tried, or <code>null</code> if the
+   *   choice's alternatives are not predicted.
+   */
+  protected int[] predict(OrderedChoice c) {
+    final int   size  = c.alternatives.size();
+    final int[] bits  = new int[size];
+    int         count = 0;
+
+    for (int i=0; (i<size) && (count<Integer.SIZE); i++) {
+      if (c.alternatives.get(i).hasProperty(Properties.FIRST)) {
+        bits[i] = 1 << count;
+        count++;
+      }
+    }
+    if (2 > count) return null;
+
+    // Determine the predicted alternatives for each character.
+    final int[] masks = new int[Predictor.ASCII];
+    for (int i=0; i<size; i++) {
+      if (0 != bits[i]) {
+        CharClass klass =
+          (CharClass)c.alternatives.get(i).getProperty(Properties.FIRST);
+        for (CharRange r : klass.ranges) {
+          for (char k = r.first; k <= r.last; k++) masks[k] |= bits[i];
+        }
+      }
+    }
+
+    // Emit the switch statement, grouping characters with the same
+    // predicted alternatives.
+    final String index = (0 == choiceLevel)? ARG_INDEX : nestedChoice();
+    printer.pln();
+    printer.indent().p("final int ").p(predicted()).pln(';');
+    printer.indent().p("switch (").
+      p(attributeByteInput? PARSE_BYTE : PARSE_CHAR).p('(').p(index).
+      pln(")) {").incr();
+    for (int k=0; k<masks.length; k++) {
+      if (0 == masks[k]) continue;
+
+      final int mask = masks[k];
+      for (int l=k; l<masks.length; l++) {
+        if (mask == masks[l]) {
+          printer.indentLess().p("case \'").
+            escape((char)l, Utilities.JAVA_ESCAPES).pln("\':");
+          masks[l] = 0;
+        }
+      }
+      printer.indent().p(predicted()).p(" = 0x").
+        p(Integer.toHexString(mask)).pln(';');
+      printer.indent().pln("break;");
+      printer.pln();
+    }
+    printer.indentLess().pln("default:");
+    printer.indent().p(predicted()).pln(" = 0;");
+    printer.decr().indent().pln('}');
+
+    return bits;
+  }
+
+  /**
+   * Determine when the specified predicted alternative needs to be
+   * tried, even though it cannot start with the next character.  Such
+   * an alternative fails at the production's index, but it may still
+   * create a parse error at that index.  Since equal parse errors are
+   * resolved in favor of the last one, skipping the alternative may
+   * change the reported message.  An alternative starting with a
+   * character literal, class, or switch never creates a parse error,
+   * nor does one starting with a string literal or match when
+   * optimizing errors.  An alternative starting with a nonterminal
+   * only threads the nonterminal's parse error, which does not
+   * replace a parse error at the same index.  All other alternatives
+   * may replace such a parse error.
+   *
+   * @param s The alternative.
+   * @return The operator comparing the index of the current parse
+   *   error with the production's index, or <code>null</code> if the
+   *   alternative never needs to be tried.
+   */
+  protected String skipTest(Sequence s) {
+    Element e = s.isEmpty() ? null : s.get(0);
+    while ((e instanceof Binding) || (e instanceof VoidedElement)) {
+      e = ((UnaryOperator)e).element;
+    }
+
+    if ((e instanceof CharLiteral) || (e instanceof CharClass) ||
+        (e instanceof CharSwitch)) {
+      return null;
+    } else if ((e instanceof StringLiteral) || (e instanceof StringMatch)) {
+      return runtime.test("optimizeErrors1") ? null : "<=";
+    } else if (e instanceof NonTerminal) {
+      return "<";
+    } else {
+      return "<=";
+    }
+  }
+
   /** Generate code for the specified ordered choice. */
   public void visit(OrderedChoice c) {
     final String  base    = baseIndex;
@@ -2185,8 +2891,12 @@ public class CodeGenerator extends Visitor {
       }
     }
 
+    // Predict the viable alternatives.
+    final int[] bits = predict(c);
+
     // Process the alternatives.
-    int alternativeNumber = 0;
+    int alternativeNumber = (0 == choiceLevel)? alternativeBase : 0;
+    int alternativeIndex  = 0;
     for (Sequence s : c.alternatives) {
       elementIter      = s.elements.iterator();
       if (0 == choiceLevel) {
@@ -2210,7 +2920,34 @@ public class CodeGenerator extends Visitor {
         printer.p('<').p(s.name.name).pln(">.");
       }
 
+      final boolean guarded = (null != bits) && (0 != bits[alternativeIndex]);
+      alternativeIndex++;
+
+      if (guarded) {
+        final String test = skipTest(s);
+        printer.indent().p("if (");
+        if (null != test) printer.p('(');
+        printer.p("0 != (").p(predicted()).p(" & 0x").
+          p(Integer.toHexString(bits[alternativeIndex-1])).p("))");
+        if (null != test) {
+          printer.p(" || (").p(PARSE_ERROR).p(".index ").p(test).p(' ').
+            p(ARG_INDEX).p("))");
+        }
+        printer.pln(" {").incr();
+      }
+
+      if ((0 == choiceLevel) && (null != reportedValue)) {
+        printer.indent().p("startNode(\"").
+          p(Utilities.unqualify(reportedValue.name)).p("\", ").p(ARG_INDEX).
+          pln(");");
+      }
+
       nextElement();
+
+      if (guarded) {
+        printer.decr().indent().pln('}');
+        seenTest = true;
+      }
     }
 
     if (scoped) {
@@ -2234,6 +2971,9 @@ public class CodeGenerator extends Visitor {
     boolean  used       = useBaseIndex;
 
     String   repel      = repeatedElement;
+    boolean  buffered   = repeatedBuffered;
+    repeatedBuffered    = hasBinding() &&
+      r.getBooleanProperty(Properties.BUFFERED);
     if (hasBinding()) {
       // Per class documentation, the repeated element must be a
       // sequence, whose semantic value is captured by the binding
@@ -2261,17 +3001,46 @@ public class CodeGenerator extends Visitor {
     optional            = false;
     repetitionLevel++;
 
+    // Determine whether to report the repeated elements.
+    if (1 == repetitionLevel) {
+      reportsElements   = (null != reportedValue) && (0 == choiceLevel) &&
+        (0 == optionLevel) && (! predicate) && isReported(name);
+    }
+
+    // Reported elements are neither buffered nor bound to a list.
+    final boolean reports = reportsElements && (1 == repetitionLevel);
+    if (reports) {
+      repeatedBuffered  = false;
+    }
+
+    // Determine whether to scan the repetition in bulk.
+    boolean commits     = commitsInput && (1 == repetitionLevel) &&
+      (0 == choiceLevel) && (0 == optionLevel) && (! predicate);
+    String  scan        = null;
+    if (runtime.test("optimizeScan") && (! r.once) && (null == name) &&
+        (! commits)) {
+      scan              = scanArguments(r);
+    }
+
     // Save current parser.
     printer.pln();
-    saveIndex(REPETITION + repetitionLevel, "", base);
+    if (null == scan) {
+      saveIndex(REPETITION + repetitionLevel, "", base);
+    }
 
     // Reset repeated flag if necessary.
     if (repeatedOnce) {
       printer.indent().p(REPEATED).p(repetitionLevel).pln("   = false;");
     }
 
-    // Reset list value for bound repetitions.
-    if (null != name) {
+    // Reset list value for bound repetitions, unless the elements
+    // are reported.
+    if (repeatedBuffered) {
+      printer.indent().p(REP_START).p(repetitionLevel).
+        pln("   = bufferStart();");
+      printer.indent().p(REP_END).p(repetitionLevel).p("   = ").
+        p(REP_START).p(repetitionLevel).pln(';');
+    } else if ((null != name) && (! reports)) {
       printer.indent().p(REP_VALUE).p(repetitionLevel).p("   = ").
         p(emptyListExpr()).pln(';');
     }
@@ -2287,12 +3056,25 @@ public class CodeGenerator extends Visitor {
     }
 
     // Emit code for the repeated elements.
-    printer.indent().pln("while (true) {").incr();
-    baseIndex    = REPETITION + repetitionLevel;
-    useBaseIndex = true;
-    nextElement();
-    printer.indent().pln("break;");
-    printer.decr().indent().pln('}');
+    if (null != scan) {
+      String start = useBaseIndex ? base : resultName + ".index";
+      useBaseIndex = false;
+      printer.indent().p(REPETITION).p(repetitionLevel).p(" = scan(").
+        p(start).p(", ").p(scan).pln(");");
+      endsWithParseError = true;
+
+    } else {
+      printer.indent().pln("while (true) {").incr();
+      if (commits) {
+        printer.indent().p("commit(").p(ARG_INDEX).p(", ").p(REPETITION).
+          p(repetitionLevel).pln(");");
+      }
+      baseIndex    = REPETITION + repetitionLevel;
+      useBaseIndex = true;
+      nextElement();
+      printer.indent().pln("break;");
+      printer.decr().indent().pln('}');
+    }
 
     // Restore code generation state.
     if (predicate) {
@@ -2311,6 +3093,8 @@ public class CodeGenerator extends Visitor {
     repeated           = rep;
     repeatedOnce       = once;
     repeatedElement    = repel;
+    boolean released   = repeatedBuffered;
+    repeatedBuffered   = buffered;
     optional           = opt;
 
     bindingName        = name;
@@ -2319,22 +3103,31 @@ public class CodeGenerator extends Visitor {
     boolean closeBrace = false;
     String  blockName  = name;
     if (hasBinding()) {
-      if (! r.once) {
-        printer.indent().p("{ // Start scope for ").p(blockName).pln('.').incr();
-        closeBrace     = true;
+      // Reported elements are not bound to a list.
+      if (! reports) {
+        if (! r.once) {
+          printer.indent().p("{ // Start scope for ").p(blockName).
+            pln('.').incr();
+          closeBrace   = true;
+        }
+        binding();
       }
-      binding();
       clearBinding();
     }
 
     baseIndex       = REPETITION + Integer.toString(repetitionLevel + 1);
     useBaseIndex    = true;
-    if (! r.once) {
+    if ((! r.once) || released) {
       seenTest      = false;
     }
 
     nextElement();
 
+    // If the rest of the sequence fails, release the buffered values.
+    if (released && seenTest) {
+      printer.indent().p("releaseBuffer(").p(blockName).pln(");");
+    }
+
     if (r.once) {
       printer.decr().indent().pln('}');
       tested();
@@ -2345,6 +3138,104 @@ public class CodeGenerator extends Visitor {
     useBaseIndex = used;
   }
 
+  /**
+   * Determine the arguments for scanning the specified repetition in
+   * bulk.  A repetition can be scanned in bulk if its element is a
+   * single character class or character switch, which consumes
+   * exactly one character, and if it treats all non-ASCII characters
+   * the same.
+   *
+   * @see ParserBase#scan(int,long,long,boolean)
+   *
+   * @param r The repetition.
+   * @return The arguments for scanning the repetition or
+   *   <code>null</code> if it cannot be scanned in bulk.
+   */
+  protected String scanArguments(Repetition r) {
+    List<Element> elements = ((Sequence)r.element).elements;
+    if (1 != elements.size()) return null;
+
+    long[]  table = new long[2];
+    boolean other;
+    Element e     = elements.get(0);
+    if (e instanceof CharClass) {
+      CharClass klass = (CharClass)e;
+      other           = klass.exclusive;
+      if (! scanTable(table, klass, true)) return null;
+      if (other) {
+        table[0]      = ~table[0];
+        table[1]      = ~table[1];
+      }
+
+    } else if (e instanceof CharSwitch) {
+      CharSwitch s    = (CharSwitch)e;
+      Boolean    base = scanMember(s.base);
+      if (null == base) return null;
+      other           = base;
+      if (other) {
+        table[0]      = -1L;
+        table[1]      = -1L;
+      }
+      for (CharCase kase : s.cases) {
+        Boolean member = scanMember(kase.element);
+        if ((null == member) || kase.klass.exclusive ||
+            (! scanTable(table, kase.klass, member))) {
+          return null;
+        }
+      }
+
+    } else {
+      return null;
+    }
+
+    return "0x" + Long.toHexString(table[0]) + "L, 0x" +
+      Long.toHexString(table[1]) + "L, " + other;
+  }
+
+  /**
+   * Update the specified bit maps for scanning in bulk.
+   *
+   * @param table The bit maps.
+   * @param klass The character class.
+   * @param member The flag for whether the class' characters are members.
+   * @return <code>true</code> if the character class only contains
+   *   ASCII characters.
+   */
+  private static boolean scanTable(long[] table, CharClass klass,
+                                   boolean member) {
+    for (CharRange r : klass.ranges) {
+      if (127 < r.last) return false;
+      for (int c = r.first; c <= r.last; c++) {
+        if (member) {
+          table[c >> 6] |=   1L << c;
+        } else {
+          table[c >> 6] &= ~(1L << c);
+        }
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Determine whether a character switch's case or default accepts
+   * characters when scanning in bulk.
+   *
+   * @param e The case's element or the default element.
+   * @return <code>Boolean.TRUE</code> if the element accepts the
+   *   character, <code>Boolean.FALSE</code> if it rejects the
+   *   character, and <code>null</code> if the character switch cannot
+   *   be scanned in bulk.
+   */
+  private static Boolean scanMember(Element e) {
+    if (null == e) {
+      return Boolean.FALSE;
+    } else if ((e instanceof Sequence) && ((Sequence)e).isEmpty()) {
+      return Boolean.TRUE;
+    } else {
+      return null;
+    }
+  }
+
   // ========================================================================
 
   /** Generate code for the specified option. */
@@ -2664,6 +3555,13 @@ public class CodeGenerator extends Visitor {
 
     case REPETITION: {
       int    level = repetitionLevel + 1;
+      if (bindingElement.getBooleanProperty(Properties.BUFFERED)) {
+        // The binding references the values in the parser's buffer.
+        binding1("int", bindingName, null, REP_START + level);
+        binding1("int", bindingName + BUFFER_END, null, REP_END + level);
+        break;
+      }
+
       String expr  = REP_VALUE + level + ".reverse()";
       if ((! attributeRawTypes) &&
           (! repetitionTypes.get(repetitionLevel).equals(bindingType))) {
@@ -2693,6 +3591,32 @@ public class CodeGenerator extends Visitor {
     default:
       throw new AssertionError("Unrecognized binding element " + bindingElement);
     }
+
+    // Report the bound value if it is a child of the reported node.
+    // The elements of top-level repetitions have already been
+    // reported.
+    if ((null != reportedValue) && (0 == choiceLevel) &&
+        (0 == repetitionLevel) && (0 == optionLevel) && (! predicate) &&
+        (Element.Tag.REPETITION != bindingElement.tag()) &&
+        isReported(bindingName)) {
+      printer.indent().p("report(").p(bindingName).pln(");");
+    }
+  }
+
+  /**
+   * Determine whether the specified binding is a child of the
+   * reported node.
+   *
+   * @param name The binding's name.
+   * @return <code>true</code> if the binding is a reported child.
+   */
+  protected boolean isReported(String name) {
+    if ((null == reportedValue) || (null == name)) return false;
+
+    for (Binding b : reportedValue.children) {
+      if (name.equals(b.name)) return true;
+    }
+    return false;
   }
 
   /**
@@ -2863,14 +3787,19 @@ public class CodeGenerator extends Visitor {
 
     final int           length = c.ranges.size();
     Iterator<CharRange> iter   = c.ranges.iterator();
+    final String        table  = charClassTable(c);
 
-    if (1 == length) {
+    if (null != table) {
+      printer.indent().p("if (");
+      charClassLookup(c, table, name);
+      iter = null;
+    } else if (1 == length) {
       printer.indent().p("if ");
     } else {
       printer.indent().p("if (");
     }
 
-    while (iter.hasNext()) {
+    while ((null != iter) && iter.hasNext()) {
       CharRange r = iter.next();
 
       if (c.exclusive) {
@@ -2904,7 +3833,7 @@ public class CodeGenerator extends Visitor {
       }
     }
 
-    if (1 == length) {
+    if ((null == table) && (1 == length)) {
       printer.pln(" {").incr();
     } else {
       printer.pln(") {").incr();
@@ -2922,6 +3851,114 @@ public class CodeGenerator extends Visitor {
     tested();
   }
 
+  /**
+   * Determine the table for testing the specified character class.
+   * If the {@link #CHAR_CLASS_COMPARISONS comparisons} for testing
+   * the class exceed a table lookup, this method records the class'
+   * table and returns its name.  Character classes with the same
+   * ranges share the same table.
+   *
+   * @param c The character class.
+   * @return The name of the table or <code>null</code> if the class
+   *   should be tested with comparisons.
+   */
+  protected String charClassTable(CharClass c) {
+    if (! runtime.test("optimizeCharClass")) return null;
+
+    int           comparisons = 0;
+    StringBuilder buf         = new StringBuilder(2 * c.ranges.size());
+    for (CharRange r : c.ranges) {
+      comparisons += (r.first == r.last)? 1 : 2;
+      buf.append(r.first).append(r.last);
+    }
+    if (CHAR_CLASS_COMPARISONS >= comparisons) return null;
+
+    final String key  = buf.toString();
+    String       name = charClassTables.get(key);
+    if (null == name) {
+      name = CHAR_CLASS + (charClassTables.size() + 1);
+      charClassTables.put(key, name);
+    }
+    return name;
+  }
+
+  /**
+   * Emit the lookup of the specified character in the specified
+   * character class' table.  Tables for classes of Latin-1 characters
+   * are bit maps indexed by the character.  Tables for all other
+   * classes have two levels, with the upper eight bits of the
+   * character selecting a bit map for the lower eight bits.
+   *
+   * @see #emitCharClassTable(String,String)
+   *
+   * @param c The character class.
+   * @param table The table's name.
+   * @param name The name of the character variable.
+   */
+  protected void charClassLookup(CharClass c, String table, String name) {
+    int last = 0;
+    for (CharRange r : c.ranges) {
+      if (last < r.last) last = r.last;
+    }
+
+    if (256 > last) {
+      final int limit = ((last >> 6) + 1) * 64;
+
+      if (c.exclusive) {
+        printer.p('(').p(limit).p(" <= ").p(name).p(") || (0 == (");
+      } else {
+        printer.p('(').p(name).p(" < ").p(limit).p(") && (0 != (");
+      }
+      printer.p(table).p('[').p(name).p(" >> 6] & (1L << ").p(name).
+        p(")))");
+
+    } else {
+      printer.p(c.exclusive ? "0 == (" : "0 != (").p(table).p('[').p(name).
+        p(" >> 8][(").p(name).p(" >> 6) & 3] & (1L << ").p(name).p("))");
+    }
+  }
+
+  /**
+   * Emit the specified character class table.
+   *
+   * @see #charClassLookup(CharClass,String,String)
+   *
+   * @param name The table's name.
+   * @param ranges The first and last characters of the class' ranges.
+   */
+  protected void emitCharClassTable(String name, String ranges) {
+    int last = 0;
+    for (int i=1; i<ranges.length(); i+=2) {
+      if (last < ranges.charAt(i)) last = ranges.charAt(i);
+    }
+
+    if (256 > last) {
+      final long[] bits = new long[(last >> 6) + 1];
+      for (int i=0; i<ranges.length(); i+=2) {
+        for (int k=ranges.charAt(i); k<=ranges.charAt(i+1); k++) {
+          bits[k >> 6] |= 1L << k;
+        }
+      }
+
+      printer.indent().pln("/** The bit map for a character class. */");
+      printer.indent().p("private static final long[] ").p(name).p(" = {");
+      for (int i=0; i<bits.length; i++) {
+        if (0 < i) printer.p(',');
+        printer.p(" 0x").p(Long.toHexString(bits[i])).p('L');
+      }
+      printer.pln(" };");
+
+    } else {
+      printer.indent().
+        pln("/** The two-level table for a character class. */");
+      printer.indent().p("private static final long[][] ").p(name).
+        pln(" =").incr();
+      printer.indent().p("charTable(\"").
+        escape(ranges, Utilities.JAVA_ESCAPES).pln("\");").decr();
+    }
+    printer.pln();
+  }
+
   // ========================================================================
 
   /** Generate code for the specified literal. */
@@ -3295,8 +4332,8 @@ public class CodeGenerator extends Visitor {
     if (attributeWithLocation &&
         runtime.test("optimizeLocation") &&
         AST.isNode(type)) {
-      printer.indent().p(VALUE).p(".setLocation(location(").p(ARG_INDEX).
-        pln("));");
+      printer.indent().p("locate(").p(VALUE).p(", ").p(ARG_INDEX).
+        pln(");");
     } else {
       createsNodeValue = true;
     }
@@ -3437,7 +4474,11 @@ public class CodeGenerator extends Visitor {
         // Note: This expression used to contain an explicit cast to
         // Pair, which has been removed since all bindings are
         // declared with their correct types.
-        printer.p(b.name).p(".size()");
+        if (isBuffered(b)) {
+          printer.p('(').p(b.name).p(BUFFER_END).p(" - ").p(b.name).p(')');
+        } else {
+          printer.p(b.name).p(".size()");
+        }
 
         if (test) printer.p(')');
       } else {
@@ -3490,6 +4531,14 @@ public class CodeGenerator extends Visitor {
         }
         printer.p("add(");
 
+      } else if (isBuffered(b)) {
+        // A buffered list value.
+        printer.pln(';').indent().p("addBuffered(").p(VALUE).p(", ").
+          p(b.name).p(", ").p(b.name).p(BUFFER_END).p(')');
+        statement = true;
+        indent    = false;
+        continue;
+
       } else if (analyzer.mayBeNull(b.element)) {
         // A possibly null list value.  Note: The addAll() expression
         // used to contain an explicit cast to Pair, which has been
@@ -3531,6 +4580,19 @@ public class CodeGenerator extends Visitor {
     }
   }
 
+  /**
+   * Emit a statement setting the kind of a generic node.  This method
+   * only emits a statement if the grammar has a visitor attribute.
+   *
+   * @param name The node's name.
+   */
+  protected void emitKind(String name) {
+    if (null == visitorClassName) return;
+
+    printer.indent().p("((GNode)").p(VALUE).p(").setKind(").
+      p(visitorClassName).p('.').p(KindFinder.toConstant(name)).pln(");");
+  }
+
   /**
    * Emit a statement adding formatting to a generic node.
    *
@@ -3578,7 +4640,8 @@ public class CodeGenerator extends Visitor {
     final String  name        = Utilities.unqualify(v.name);
     final int     numChildren = numberOfChildren(1, v.children);
     final boolean defineValue = ((Integer.MIN_VALUE == numChildren) ||
-                                 (0 < v.formatting.size()));
+                                 (0 < v.formatting.size()) ||
+                                 (null != visitorClassName));
     if (defineValue) {
       printer.indent().p("Node ").p(VALUE).p(" = ");
     } else {
@@ -3622,6 +4685,7 @@ public class CodeGenerator extends Visitor {
 
     printer.pln(';');
 
+    emitKind(name);
     emitFormatting(v.formatting);
 
     if (defineValue) {
@@ -3633,13 +4697,27 @@ public class CodeGenerator extends Visitor {
   /** Generate code for the specified generic node value. */
   public void visit(GenericNodeValue v) {
     printer.pln();
+
+    // The reported node's children have already been reported.
+    if (v == reportedValue) {
+      printer.indent().p("endNode(\"").p(Utilities.unqualify(v.name)).
+        pln("\");");
+      printer.indent().p(VALUE).p(" = ").p(nullExpr()).pln(';');
+      nextElement();
+      return;
+    }
+
     printer.indent().p(VALUE).p(" = ");
-    emitFactoryName();
 
     final String name          = Utilities.unqualify(v.name);
     final int    numChildren   = numberOfChildren(0, v.children);
     boolean      emitAdditions = true;
-    if (runtime.test("optimizeGenericNodes") && (0 <= numChildren)) {
+    if (runtime.test("optimizeGenericNodes") &&
+        emitBufferedNode(name, v.children)) {
+      emitAdditions = false;
+
+    } else if (runtime.test("optimizeGenericNodes") && (0 <= numChildren)) {
+      emitFactoryName();
       if (0 == numChildren) {
         printer.p(".create(\"").p(name).p("\", false)");
         emitAdditions = false;
@@ -3675,6 +4753,9 @@ public class CodeGenerator extends Visitor {
           emitAdditions = false;
         }
       }
+
+    } else {
+      emitFactoryName();
     }
 
     if (emitAdditions) {
@@ -3692,18 +4773,64 @@ public class CodeGenerator extends Visitor {
     if (attributeWithLocation &&
         runtime.test("optimizeLocation") &&
         AST.isNode(analyzer.current().type)) {
-      printer.indent().p(VALUE).p(".setLocation(location(").p(ARG_INDEX).
-        pln("));");
+      printer.indent().p("locate(").p(VALUE).p(", ").p(ARG_INDEX).
+        pln(");");
 
     } else {
       createsNodeValue = true;
     }
 
+    emitKind(name);
     emitFormatting(v.formatting);
 
     nextElement();
   }
 
+  /**
+   * Determine whether the specified binding references a buffered
+   * repetition.
+   *
+   * @param b The binding.
+   * @return <code>true</code> if the binding references a buffered
+   *   repetition.
+   */
+  protected boolean isBuffered(Binding b) {
+    return ((b.element instanceof Repetition) &&
+            b.element.getBooleanProperty(Properties.BUFFERED));
+  }
+
+  /**
+   * Emit an expression creating a generic node directly from the
+   * parser's list buffer.  This method only emits an expression if
+   * the node's children are a buffered list, optionally preceded by
+   * a single non-list child.
+   *
+   * @param name The node's name.
+   * @param children The list of bindings representing the children.
+   * @return <code>true</code> if this method has emitted an
+   *   expression.
+   */
+  protected boolean emitBufferedNode(String name, List<Binding> children) {
+    String first;
+    Binding b;
+    if (1 == children.size()) {
+      first = null;
+      b     = children.get(0);
+    } else if ((2 == children.size()) &&
+               (! AST.isList(analyzer.type(children.get(0).element)))) {
+      first = var(children.get(0));
+      b     = children.get(1);
+    } else {
+      return false;
+    }
+    if (! isBuffered(b)) return false;
+
+    printer.p("bufferedNode(\"").p(name).p("\", ");
+    if (null != first) printer.p(first).p(", ");
+    printer.p(b.name).p(", ").p(b.name).p(BUFFER_END).p(')');
+    return true;
+  }
+
   /** Generate code for the specified generic action value. */
   public void visit(GenericActionValue v) {
     printer.pln();
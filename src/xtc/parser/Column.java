@@ -19,26 +19,26 @@
 package xtc.parser;
 
 /**
- * The superclass of memoization table columns.
+ * The superclass of memoization table columns.  Columns only hold
+ * memoized results; location information is tracked by {@link
+ * ParserBase} itself.
  *
  * @author Robert Grimm
- * @version $Revision: 1.4 $
+ * @version $Revision: 1.5 $
  */
 public abstract class Column {
 
-  /** The file name. */
-  public String  file;
-  
   /**
-   * The flag for whether the previous character was a carriage
-   * return.
+   * Clear this column's memoized results, so that the column can be
+   * reused for {@link ParserBase#reset(java.io.Reader,String,int)
+   * another input}.  Parsers generated by <i>Rats!</i> override this
+   * method.  The default implementation does not clear anything and
+   * returns <code>false</code>.
+   *
+   * @return <code>true</code> if this column has been cleared.
    */
-  public boolean seenCR;
-
-  /** The current line. */
-  public int     line;
-
-  /** The current column. */
-  public int     column;
+  protected boolean clear() {
+    return false;
+  }
 
 }
\ No newline at end of file
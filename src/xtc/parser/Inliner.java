@@ -27,7 +27,9 @@ import xtc.util.Runtime;
 /**
  * Visitor to inline productions.  If cost-based inlining is enabled,
  * this visitor inlines productions with a {@link CostEstimator cost
- * estimate} less or equal to the {@link #MAX_COST maximum cost}.
+ * estimate} less or equal to the {@link #MAX_COST maximum cost}, or
+ * to the {@link #MAX_HOT_COST maximum hot cost} for {@link
+ * Properties#HOT hot} productions.
  * However, to avoid changing a production's semantic value,
  * cost-based inlining is limited to void, text-only, and token-level
  * productions.  Independent of whether cost-based inlining is enabled
@@ -56,6 +58,9 @@ public class Inliner extends GrammarVisitor {
   /** The maximum cost for inlining productions at arbitrary positions. */
   public static final int MAX_COST = 1;
 
+  /** The maximum cost for inlining hot productions at arbitrary positions. */
+  public static final int MAX_HOT_COST = 4;
+
   /** The flag for whether to inline non-transient productions. */
   public static final boolean INLINE_PERSISTENT = true;
 
@@ -217,7 +222,9 @@ public class Inliner extends GrammarVisitor {
       return nt;
 
     } else if (runtime.test("optimizeCost") &&
-               (MAX_COST >= (Integer)p.getProperty(Properties.COST)) &&
+               ((MAX_COST >= (Integer)p.getProperty(Properties.COST)) ||
+                (p.getBooleanProperty(Properties.HOT) &&
+                 (MAX_HOT_COST >= (Integer)p.getProperty(Properties.COST)))) &&
                ! p.hasAttribute(Constants.ATT_NO_INLINE) &&
                (INLINE_PERSISTENT || (! p.isMemoized()))) {
       // If the referenced production's cost estimate is low enough,
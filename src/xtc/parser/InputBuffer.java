@@ -0,0 +1,229 @@
+/*
+ * xtc - The eXTensible Compiler
+ * Copyright (C) 2026 Robert Grimm
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * version 2.1 as published by the Free Software Foundation.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301,
+ * USA.
+ */
+package xtc.parser;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.Reader;
+
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+
+/**
+ * Implementation of a fully loaded character stream.  An input
+ * buffer holds the entire input in a character array.  When passed
+ * to a parser's constructor instead of a regular reader, the parser
+ * takes over the array as its input and never reads the stream
+ * character by character.  As a result, all parsers generated by
+ * <em>Rats!</em> can use input buffers without being regenerated.
+ * An input buffer can also be read like any other reader.
+ *
+ * <p />Note that a parser may modify the characters in the array,
+ * notably when {@link ParserBase#resetTo(int) resetting} it.
+ * Arrays passed to {@link #InputBuffer(char[])} and {@link
+ * #InputBuffer(char[],int)} must thus not be used by other code
+ * while they are being parsed.
+ *
+ * @author Robert Grimm
+ * @version $Revision: 1.1 $
+ */
+public class InputBuffer extends Reader {
+
+  /** The size of the blocks used when loading from a reader. */
+  private static final int BLOCK_SIZE = 8192;
+
+  /** The characters. */
+  private final char[] chars;
+
+  /** The number of characters. */
+  private final int length;
+
+  /** The current position. */
+  private int position;
+
+  /**
+   * Create a new input buffer.
+   *
+   * @param chars The characters.
+   */
+  public InputBuffer(char[] chars) {
+    this(chars, chars.length);
+  }
+
+  /**
+   * Create a new input buffer.
+   *
+   * @param chars The array containing the characters.
+   * @param length The number of characters.
+   * @throws IllegalArgumentException Signals an invalid length.
+   */
+  public InputBuffer(char[] chars, int length) {
+    if ((0 > length) || (chars.length < length)) {
+      throw new IllegalArgumentException("Invalid length: " + length);
+    }
+    this.chars    = chars;
+    this.length   = length;
+    this.position = 0;
+  }
+
+  /**
+   * Create a new input buffer.  The remaining characters of the
+   * specified character buffer become the input.  If the buffer is
+   * backed by an array starting at its position, that array is used
+   * directly.  Otherwise, the characters are copied.
+   *
+   * @param buffer The character buffer.
+   */
+  public InputBuffer(CharBuffer buffer) {
+    if (buffer.hasArray() && (0 == buffer.arrayOffset() + buffer.position())) {
+      chars  = buffer.array();
+      length = buffer.remaining();
+    } else {
+      length = buffer.remaining();
+      chars  = new char[length];
+      buffer.duplicate().get(chars);
+    }
+    position = 0;
+  }
+
+  // -------------------------------------------------------------------------
+
+  /**
+   * Load the specified file.  This method maps the file into memory
+   * and decodes it in bulk.
+   *
+   * @param file The file.
+   * @param charset The file's character set.
+   * @return The corresponding input buffer.
+   * @throws IOException Signals an I/O error.
+   */
+  public static InputBuffer map(File file, Charset charset)
+    throws IOException {
+
+    FileInputStream in = new FileInputStream(file);
+    try {
+      FileChannel      channel = in.getChannel();
+      MappedByteBuffer bytes   =
+        channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      return new InputBuffer(charset.newDecoder().decode(bytes));
+    } finally {
+      in.close();
+    }
+  }
+
+  /**
+   * Load the specified character stream.  This method reads the
+   * entire stream in large blocks but does not close it.
+   *
+   * @param in The character stream.
+   * @param size The expected number of characters, which only serves
+   *   as a hint.
+   * @return The corresponding input buffer.
+   * @throws IOException Signals an I/O error.
+   */
+  public static InputBuffer load(Reader in, int size) throws IOException {
+    char[] buf   = new char[Math.max(size, BLOCK_SIZE)];
+    int    count = 0;
+
+    while (true) {
+      if (buf.length == count) {
+        char[] old = buf;
+        buf        = new char[old.length + Math.max(old.length/2, BLOCK_SIZE)];
+        System.arraycopy(old, 0, buf, 0, count);
+      }
+
+      int n = in.read(buf, count, buf.length - count);
+      if (-1 == n) break;
+      count += n;
+    }
+
+    return new InputBuffer(buf, count);
+  }
+
+  // -------------------------------------------------------------------------
+
+  /**
+   * Get the array containing the characters.  The array may be
+   * longer than this buffer's {@link #length() length}.
+   *
+   * @return The array.
+   */
+  public char[] array() {
+    return chars;
+  }
+
+  /**
+   * Get the number of characters.
+   *
+   * @return The number of characters.
+   */
+  public int length() {
+    return length;
+  }
+
+  /**
+   * Determine whether this input buffer is pristine, i.e., has not
+   * been read from.
+   *
+   * @return <code>true</code> if this input buffer is pristine.
+   */
+  public boolean isPristine() {
+    return 0 == position;
+  }
+
+  // -------------------------------------------------------------------------
+
+  public int read() {
+    return (position < length)? chars[position++] : -1;
+  }
+
+  public int read(char[] buf, int off, int len) {
+    if ((0 > off) || (0 > len) || (buf.length - off < len)) {
+      throw new IndexOutOfBoundsException();
+    } else if (0 == len) {
+      return 0;
+    } else if (position >= length) {
+      return -1;
+    }
+
+    final int n = Math.min(len, length - position);
+    System.arraycopy(chars, position, buf, off, n);
+    position += n;
+    return n;
+  }
+
+  public long skip(long n) {
+    if (0 >= n) return 0;
+    final int k = (int)Math.min(n, length - position);
+    position   += k;
+    return k;
+  }
+
+  public boolean ready() {
+    return true;
+  }
+
+  public void close() {
+    // Nothing to do.
+  }
+
+}
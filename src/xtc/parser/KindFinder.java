@@ -0,0 +1,145 @@
+/*
+ * xtc - The eXTensible Compiler
+ * Copyright (C) 2026 Robert Grimm
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * version 2 as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301,
+ * USA.
+ */
+package xtc.parser;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import xtc.Constants;
+
+import xtc.tree.Attribute;
+
+import xtc.util.Runtime;
+import xtc.util.Utilities;
+
+/**
+ * Visitor to number the generic nodes created by a grammar.  For
+ * grammars with the <code>visitor</code> attribute, this visitor
+ * collects the names of all generic nodes created by generic values
+ * and annotates the grammar with the sorted names as its {@link
+ * Properties#KINDS kinds}.  The {@link CodeGenerator} then sets each
+ * generic node's kind when creating the node, and the {@link
+ * VisitorGenerator} emits the corresponding constants.
+ *
+ * <p />This visitor assumes that the entire grammar is contained in a
+ * single module and that all generic productions have been
+ * generified.
+ *
+ * @author Robert Grimm
+ * @version $Revision: 1.1 $
+ */
+public class KindFinder extends GrammarVisitor {
+
+  /** The name of the constant for nodes without a kind. */
+  public static final String UNKNOWN = "UNKNOWN";
+
+  /** The name of the array of generic node names. */
+  public static final String NAMES = "NAMES";
+
+  /** The generic node names. */
+  protected final Set<String> names;
+
+  /**
+   * Create a new kind finder.
+   *
+   * @param runtime The runtime.
+   * @param analyzer The analyzer utility.
+   */
+  public KindFinder(Runtime runtime, Analyzer analyzer) {
+    super(runtime, analyzer);
+    names = new TreeSet<String>();
+  }
+
+  /** Visit the specified grammar. */
+  public Object visit(Module m) {
+    // Collect the generic node names.
+    names.clear();
+    super.visit(m);
+
+    // Check for conflicting constant names.
+    final Attribute           att       =
+      Attribute.get(Constants.NAME_VISITOR, m.attributes);
+    final Map<String, String> constants = new HashMap<String, String>();
+    constants.put(UNKNOWN, null);
+    constants.put(NAMES, null);
+
+    for (String name : names) {
+      final String constant = toConstant(name);
+
+      if (constants.containsKey(constant)) {
+        final String other = constants.get(constant);
+        if (null == other) {
+          runtime.error("generic node name '" + name + "' conflicts with " +
+                        "visitor constant " + constant, att);
+        } else {
+          runtime.error("generic node names '" + other + "' and '" + name +
+                        "' map to the same visitor constant " + constant,
+                        att);
+        }
+      } else {
+        constants.put(constant, name);
+      }
+    }
+
+    if (runtime.test("optionVerbose")) {
+      System.err.println("[Numbering " + names.size() + " generic nodes]");
+    }
+
+    // Annotate the grammar.
+    m.setProperty(Properties.KINDS, new ArrayList<String>(names));
+
+    // Done.
+    return null;
+  }
+
+  /** Visit the specified generic value. */
+  public Element visit(GenericValue v) {
+    names.add(Utilities.unqualify(v.name));
+    return v;
+  }
+
+  /**
+   * Get the specified grammar's generic node names.
+   *
+   * @param m The grammar.
+   * @return The list of generic node names.
+   */
+  @SuppressWarnings("unchecked")
+  public static List<String> getKinds(Module m) {
+    return (List<String>)m.getProperty(Properties.KINDS);
+  }
+
+  /**
+   * Convert the specified generic node name into the name of the
+   * corresponding visitor constant.  For example, this method
+   * converts <code>FunctionDefinition</code> into
+   * <code>FUNCTION_DEFINITION</code>.
+   *
+   * @param name The generic node name.
+   * @return The constant name.
+   */
+  public static String toConstant(String name) {
+    return Utilities.split(name, '_').toUpperCase();
+  }
+
+}
@@ -0,0 +1,192 @@
+/*
+ * xtc - The eXTensible Compiler
+ * Copyright (C) 2026 Robert Grimm
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * version 2 as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301,
+ * USA.
+ */
+package xtc.parser;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import xtc.Constants;
+
+import xtc.util.Runtime;
+
+/**
+ * Visitor to identify repetitions whose values can be accumulated in
+ * the parser's list buffer.  By default, a bound repetition
+ * accumulates its values in a list of pairs, which a generic node
+ * then copies into its children.  However, if the list is only used
+ * as a flattened child of generic nodes, the {@link CodeGenerator}
+ * can accumulate the values in a growable buffer shared by all
+ * repetitions and add them to the generic node directly.  This
+ * visitor marks such repetitions as {@link Properties#BUFFERED
+ * buffered}.
+ *
+ * <p />A repetition is only buffered if it is bound to a synthetic
+ * variable introduced by the {@link Generifier} and if every
+ * alternative continuing after the binding ends in a generic node
+ * value, which does not use the list for formatting.  Grammars
+ * without the <code>flatten</code> attribute, grammars with a
+ * <code>factory</code> attribute, and the root production of
+ * grammars with the <code>events</code> attribute are not
+ * processed.
+ *
+ * <p />This visitor assumes that the entire grammar is contained in a
+ * single module.
+ *
+ * @author Robert Grimm
+ * @version $Revision: 1.1 $
+ */
+public class ListBufferer extends GrammarVisitor {
+
+  /** The prefix of variables introduced by the generifier. */
+  public static final String PREFIX =
+    Analyzer.VARIABLE + Generifier.MARKER + "$";
+
+  /**
+   * The map from repetitions to whether they can be buffered.  A
+   * repetition can only be buffered if all its uses allow for it.
+   */
+  protected final Map<Repetition, Boolean> buffered;
+
+  /**
+   * Create a new list bufferer.
+   *
+   * @param runtime The runtime.
+   * @param analyzer The analyzer utility.
+   */
+  public ListBufferer(Runtime runtime, Analyzer analyzer) {
+    super(runtime, analyzer);
+    buffered = new IdentityHashMap<Repetition, Boolean>();
+  }
+
+  /** Visit the specified grammar. */
+  public Object visit(Module m) {
+    // Initialize the per-grammar state.
+    analyzer.register(this);
+    analyzer.init(m);
+    buffered.clear();
+
+    // Determine the excluded root production, if any.
+    Object root = null;
+    if (m.hasAttribute(Constants.ATT_EVENTS)) {
+      root = m.getProperty(Properties.ROOT);
+    }
+
+    // Process the productions.
+    if (m.hasAttribute(Constants.ATT_FLATTEN) &&
+        (! m.hasAttribute(Constants.NAME_FACTORY))) {
+      for (Production p : m.productions) {
+        if (p.qName.equals(root)) continue;
+
+        for (Sequence s : p.choice.alternatives) {
+          process(s, new HashMap<String, Repetition>());
+        }
+      }
+    }
+
+    // Annotate the repetitions.
+    int count = 0;
+    for (Map.Entry<Repetition, Boolean> entry : buffered.entrySet()) {
+      if (entry.getValue()) {
+        entry.getKey().setProperty(Properties.BUFFERED, Boolean.TRUE);
+        count++;
+      } else {
+        entry.getKey().removeProperty(Properties.BUFFERED);
+      }
+    }
+
+    if (runtime.test("optionVerbose")) {
+      System.err.println("[Buffering " + count + " repetitions]");
+    }
+
+    // Done.
+    return null;
+  }
+
+  /**
+   * Process the specified alternative.
+   *
+   * @param s The alternative.
+   * @param lists The map from variable names to the bound repetitions
+   *   that may be buffered and have not yet been used.
+   */
+  protected void process(Sequence s, Map<String, Repetition> lists) {
+    for (Element e : s.elements) {
+      if (e instanceof Binding) {
+        final Binding b = (Binding)e;
+        if (isCandidate(b)) lists.put(b.name, (Repetition)b.element);
+
+      } else if (e instanceof OrderedChoice) {
+        for (Sequence alt : ((OrderedChoice)e).alternatives) {
+          process(alt, new HashMap<String, Repetition>(lists));
+        }
+        return;
+
+      } else if (e instanceof GenericNodeValue) {
+        final GenericNodeValue v = (GenericNodeValue)e;
+
+        for (Binding b : v.formatting) {
+          final Repetition r = lists.remove(b.name);
+          if (null != r) mark(r, false);
+        }
+        for (Binding b : v.children) {
+          final Repetition r = lists.remove(b.name);
+          if (null != r) mark(r, true);
+        }
+        return;
+      }
+    }
+
+    // The alternative ends in some other value, which may use the
+    // lists.
+    for (Repetition r : lists.values()) mark(r, false);
+  }
+
+  /**
+   * Determine whether the specified binding binds a repetition that
+   * may be buffered.
+   *
+   * @param b The binding.
+   * @return <code>true</code> if the binding binds a candidate
+   *   repetition.
+   */
+  protected boolean isCandidate(Binding b) {
+    if ((! b.name.startsWith(PREFIX)) ||
+        (! (b.element instanceof Repetition))) {
+      return false;
+    }
+
+    final Repetition r = (Repetition)b.element;
+    return ((r.element instanceof Sequence) &&
+            (null != Analyzer.getBinding(((Sequence)r.element).elements)));
+  }
+
+  /**
+   * Record whether the specified repetition can be buffered for one
+   * of its uses.
+   *
+   * @param r The repetition.
+   * @param flag The flag for whether the use allows for buffering.
+   */
+  protected void mark(Repetition r, boolean flag) {
+    final Boolean previous = buffered.get(r);
+    buffered.put(r, flag && ((null == previous) || previous));
+  }
+
+}
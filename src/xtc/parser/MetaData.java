@@ -27,7 +27,7 @@ import xtc.type.Type;
  * The meta-data for a production necessary for code generation.
  *
  * @author Robert Grimm
- * @version $Revision: 1.25 $
+ * @version $Revision: 1.27 $
  */
 public class MetaData {
 
@@ -76,6 +76,16 @@ public class MetaData {
    */
   public List<Type> boundRepetitions;
 
+  /**
+   * The structure of buffered repetitions for this production.  The
+   * length of the list indicates the maximum depth of nested
+   * repetitions.  Each list element is a <code>Boolean</code>, which
+   * is <code>true</code> if any of the repetitions at that level
+   * accumulates its values in the parser's {@link Properties#BUFFERED
+   * list buffer}.
+   */
+  public List<Boolean> bufferedRepetitions;
+
   /**
    * The structure of options for this production.  The length of the
    * list indicates the maximum depth of nested options.  Each list
@@ -89,13 +99,14 @@ public class MetaData {
    * Create a new meta-data record.
    *
    * <p />Note that the constructor allocates a new list for the
-   * {@link #repetitions}, {@link #boundRepetitions} and {@link
-   * #options} fields.
+   * {@link #repetitions}, {@link #boundRepetitions}, {@link
+   * #bufferedRepetitions}, and {@link #options} fields.
    */
   public MetaData() {
-    repetitions      = new ArrayList<Boolean>();
-    boundRepetitions = new ArrayList<Type>();
-    options          = new ArrayList<Type>();
+    repetitions         = new ArrayList<Boolean>();
+    boundRepetitions    = new ArrayList<Type>();
+    bufferedRepetitions = new ArrayList<Boolean>();
+    options             = new ArrayList<Type>();
   }
  
 }
@@ -48,7 +48,7 @@ import xtc.util.Utilities;
  * that the entire grammar is contained in a single module.
  *
  * @author Robert Grimm
- * @version $Revision: 1.56 $
+ * @version $Revision: 1.58 $
  */
 public class MetaDataSetter extends Visitor {
 
@@ -107,6 +107,9 @@ public class MetaDataSetter extends Visitor {
   /** The structure of bound repetitions. */
   protected List<Type> boundRepetitions;
 
+  /** The structure of buffered repetitions. */
+  protected List<Boolean> bufferedRepetitions;
+
   /** The structure of options. */
   protected List<Type> options;
 
@@ -286,27 +289,28 @@ public class MetaDataSetter extends Visitor {
     MetaData md = (MetaData)p.getProperty(Properties.META_DATA);
 
     // Initialize per-production flags.
-    requiresChar       = false;
-    requiresIndex      = false;
-    requiresResult     = false;
-    requiresPredIndex  = false;
-    requiresPredResult = false;
-    requiresPredMatch  = false;
-    requiresBaseIndex  = false;
-    repetitions        = md.repetitions;
-    boundRepetitions   = md.boundRepetitions;
-    options            = md.options;
-    createsNodeValue   = false;
-    isTopLevel         = true;
-    isRepeated         = false;
-    isOptional         = false;
-    isFirstElement     = false;
-    isBound            = false;
-    isPredicate        = false;
-    isNotFollowedBy    = false;
-    isLastInPredicate  = false;
-    repetitionLevel    = 0;
-    optionLevel        = 0;
+    requiresChar        = false;
+    requiresIndex       = false;
+    requiresResult      = false;
+    requiresPredIndex   = false;
+    requiresPredResult  = false;
+    requiresPredMatch   = false;
+    requiresBaseIndex   = false;
+    repetitions         = md.repetitions;
+    boundRepetitions    = md.boundRepetitions;
+    bufferedRepetitions = md.bufferedRepetitions;
+    options             = md.options;
+    createsNodeValue    = false;
+    isTopLevel          = true;
+    isRepeated          = false;
+    isOptional          = false;
+    isFirstElement      = false;
+    isBound             = false;
+    isPredicate         = false;
+    isNotFollowedBy     = false;
+    isLastInPredicate   = false;
+    repetitionLevel     = 0;
+    optionLevel         = 0;
 
     // Visit the element.
     dispatch(p.choice);
@@ -372,11 +376,16 @@ public class MetaDataSetter extends Visitor {
     if (repetitions.size() < repetitionLevel) {
       repetitions.add(Boolean.FALSE);
       boundRepetitions.add(null);
+      bufferedRepetitions.add(Boolean.FALSE);
     }
     if (r.once) {
       repetitions.set(repetitionLevel - 1, Boolean.TRUE);
     }
-    if (bound) {
+    if (bound && r.getBooleanProperty(Properties.BUFFERED)) {
+      // Buffered repetitions do not need a list.
+      bufferedRepetitions.set(repetitionLevel - 1, Boolean.TRUE);
+
+    } else if (bound) {
       // Make sure the type that level is initialized.
       if (null == boundRepetitions.get(repetitionLevel-1)) {
         boundRepetitions.set(repetitionLevel-1, Wildcard.TYPE);
@@ -1,8 +1,8 @@
 // ===========================================================================
 // This file has been generated by
-// Rats! Parser Generator, version 2.1.0,
-// (C) 2004-2011 Robert Grimm,
-// on Monday, July 25, 2011 at 2:20:09 PM.
+// Rats! Parser Generator, version 2.3.1,
+// (C) 2004-2012 Robert Grimm,
+// on Sunday, October 18, 2026 at 7:30:51 PM.
 // Edit at your own risk.
 // ===========================================================================
 
@@ -35,7 +35,7 @@ import xtc.util.Utilities;
  * Packrat parser for grammar <code>xtc.parser.PGrammar</code>.
  *
  * <p />This class has been generated by the <i>Rats!</i> parser
- * generator, version 2.1.0, (C) 2004-2011 Robert Grimm.
+ * generator, version 2.3.1, (C) 2004-2012 Robert Grimm.
  */
 public final class PParser extends ParserBase {
 
@@ -43,49 +43,92 @@ public final class PParser extends ParserBase {
 
   /** Chunk 1 of memoized results. */
   static final class Chunk1 {
-    Result fModuleList;
-    Result fModuleList$$Star1;
-    Result fModuleTarget;
-    Result fModuleName;
-    Result fProductionAttributes;
-    Result fChoice;
-    Result fChoice$$Star1;
-    Result fSequence;
-    Result fSequence$$Star1;
-    Result fSequenceName;
+    Result fWordCharacters;
+    Result fNameCharacters;
+    Result fName;
+    Result fSymbol;
+    Result fAction;
+    Result fCharacterLiteral;
+    Result fStringLiteral;
+    Result fPrimary;
+    Result fSuffix;
+    Result fWord;
+
+    void clear() {
+      fWordCharacters = null;
+      fNameCharacters = null;
+      fName = null;
+      fSymbol = null;
+      fAction = null;
+      fCharacterLiteral = null;
+      fStringLiteral = null;
+      fPrimary = null;
+      fSuffix = null;
+      fWord = null;
+    }
   }
 
   /** Chunk 2 of memoized results. */
   static final class Chunk2 {
     Result fVoided;
-    Result fSuffix;
-    Result fPrimary;
-    Result fUnqualifiedNonTerminal;
-    Result fAction;
-    Result fAttribute;
-    Result fTypeName;
+    Result fSequence$$Star1;
+    Result fSequenceName;
+    Result fSequence;
+    Result fChoice;
     Result fTypeNameCharacters;
-    Result fTypeNameCharacters$$Star1;
-    Result fName;
+    Result fTypeName;
+    Result fAttribute;
+    Result fProductionAttributes;
+    Result fWordCharacters$$Plus1;
+
+    void clear() {
+      fVoided = null;
+      fSequence$$Star1 = null;
+      fSequenceName = null;
+      fSequence = null;
+      fChoice = null;
+      fTypeNameCharacters = null;
+      fTypeName = null;
+      fAttribute = null;
+      fProductionAttributes = null;
+      fWordCharacters$$Plus1 = null;
+    }
   }
 
   /** Chunk 3 of memoized results. */
   static final class Chunk3 {
-    Result fWord;
-    Result fNameCharacters;
+    Result fModuleList;
+    Result fModuleList$$Star1;
+    Result fModuleTarget;
+    Result fModuleName;
+    Result fChoice$$Star1;
+    Result fUnqualifiedNonTerminal;
+    Result fTypeNameCharacters$$Star1;
     Result fNameCharacters$$Star1;
-    Result fWordCharacters;
-    Result fWordCharacters$$Plus1;
     Result fWordCharacters$$Star1;
-    Result fCharacterLiteral;
-    Result fStringLiteral;
     Result fStringLiteral$$Star1;
-    Result fClassChar;
+
+    void clear() {
+      fModuleList = null;
+      fModuleList$$Star1 = null;
+      fModuleTarget = null;
+      fModuleName = null;
+      fChoice$$Star1 = null;
+      fUnqualifiedNonTerminal = null;
+      fTypeNameCharacters$$Star1 = null;
+      fNameCharacters$$Star1 = null;
+      fWordCharacters$$Star1 = null;
+      fStringLiteral$$Star1 = null;
+    }
   }
 
   /** Chunk 4 of memoized results. */
   static final class Chunk4 {
-    Result fSymbol;
+    Result fClassChar;
+
+    void clear() {
+      fClassChar = null;
+    }
   }
 
   // =========================================================================
@@ -96,6 +139,14 @@ public final class PParser extends ParserBase {
     Chunk2 chunk2;
     Chunk3 chunk3;
     Chunk4 chunk4;
+
+    protected boolean clear() {
+      if (null != chunk1) chunk1.clear();
+      if (null != chunk2) chunk2.clear();
+      if (null != chunk3) chunk3.clear();
+      if (null != chunk4) chunk4.clear();
+      return true;
+    }
   }
 
   // =========================================================================
@@ -136,6 +187,47 @@ public final class PParser extends ParserBase {
 
   // =========================================================================
 
+  /** The names of the memoized productions. */
+  private static final String[] yyProductions = {
+    "xtc.parser.PGrammar.ModuleList",
+    "xtc.parser.PGrammar.ModuleList$$Star1",
+    "xtc.parser.PGrammar.ModuleTarget",
+    "xtc.parser.PGrammar.ModuleName",
+    "xtc.parser.PGrammar.ProductionAttributes",
+    "xtc.parser.PGrammar.Choice",
+    "xtc.parser.PGrammar.Choice$$Star1",
+    "xtc.parser.PGrammar.Sequence",
+    "xtc.parser.PGrammar.Sequence$$Star1",
+    "xtc.parser.PGrammar.SequenceName",
+    "xtc.parser.PGrammar.Voided",
+    "xtc.parser.PGrammar.Suffix",
+    "xtc.parser.PGrammar.Primary",
+    "xtc.parser.PGrammar.UnqualifiedNonTerminal",
+    "xtc.parser.PGrammar.Action",
+    "xtc.parser.PGrammar.Attribute",
+    "xtc.parser.PGrammar.TypeName",
+    "xtc.parser.PGrammar.TypeNameCharacters",
+    "xtc.parser.PGrammar.TypeNameCharacters$$Star1",
+    "xtc.parser.PGrammar.Name",
+    "xtc.parser.PGrammar.Word",
+    "xtc.parser.PGrammar.NameCharacters",
+    "xtc.parser.PGrammar.NameCharacters$$Star1",
+    "xtc.parser.PGrammar.WordCharacters",
+    "xtc.parser.PGrammar.WordCharacters$$Plus1",
+    "xtc.parser.PGrammar.WordCharacters$$Star1",
+    "xtc.parser.PGrammar.CharacterLiteral",
+    "xtc.parser.PGrammar.StringLiteral",
+    "xtc.parser.PGrammar.StringLiteral$$Star1",
+    "xtc.parser.PGrammar.ClassChar",
+    "xtc.parser.PGrammar.Symbol",
+  };
+
+  protected String[] productions() {
+    return yyProductions;
+  }
+
+  // =========================================================================
+
   /**
    * Parse nonterminal xtc.parser.PGrammar.Module.
    *
@@ -154,7 +246,7 @@ public final class PParser extends ParserBase {
     ParseError   yyError = ParseError.DUMMY;
 
     // Reset the global state object.
-    yyState.reset(column(yyStart).file);
+    yyState.reset(fileAt(yyStart));
 
     // Alternative 1.
 
@@ -345,34 +437,101 @@ public final class PParser extends ParserBase {
     ModuleDependency yyValue;
     ParseError       yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x7;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Modification>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pModuleModification(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pModuleModification(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Instantiation>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pModuleInstantiation(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pModuleInstantiation(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Import>.
+    if ((0 != (yyFirst & 0x4)) || (yyError.index < yyStart)) {
 
-    yyResult = pModuleImport(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pModuleImport(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -617,10 +776,15 @@ public final class PParser extends ParserBase {
    */
   private Result pModuleList(final int yyStart) throws IOException {
     PParserColumn yyColumn = (PParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fModuleList) 
-      yyColumn.chunk1.fModuleList = pModuleList$1(yyStart);
-    return yyColumn.chunk1.fModuleList;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fModuleList) {
+      yyColumn.chunk3.fModuleList = pModuleList$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(0, yyColumn.chunk3.fModuleList);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(0, yyColumn.chunk3.fModuleList);
+    }
+    return yyColumn.chunk3.fModuleList;
   }
 
   /** Actually parse xtc.parser.PGrammar.ModuleList. */
@@ -694,10 +858,15 @@ public final class PParser extends ParserBase {
    */
   private Result pModuleList$$Star1(final int yyStart) throws IOException {
     PParserColumn yyColumn = (PParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fModuleList$$Star1) 
-      yyColumn.chunk1.fModuleList$$Star1 = pModuleList$$Star1$1(yyStart);
-    return yyColumn.chunk1.fModuleList$$Star1;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fModuleList$$Star1) {
+      yyColumn.chunk3.fModuleList$$Star1 = pModuleList$$Star1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(1, yyColumn.chunk3.fModuleList$$Star1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(1, yyColumn.chunk3.fModuleList$$Star1);
+    }
+    return yyColumn.chunk3.fModuleList$$Star1;
   }
 
   /** Actually parse xtc.parser.PGrammar.ModuleList$$Star1. */
@@ -746,10 +915,15 @@ public final class PParser extends ParserBase {
    */
   private Result pModuleTarget(final int yyStart) throws IOException {
     PParserColumn yyColumn = (PParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fModuleTarget) 
-      yyColumn.chunk1.fModuleTarget = pModuleTarget$1(yyStart);
-    return yyColumn.chunk1.fModuleTarget;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fModuleTarget) {
+      yyColumn.chunk3.fModuleTarget = pModuleTarget$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(2, yyColumn.chunk3.fModuleTarget);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(2, yyColumn.chunk3.fModuleTarget);
+    }
+    return yyColumn.chunk3.fModuleTarget;
   }
 
   /** Actually parse xtc.parser.PGrammar.ModuleTarget. */
@@ -788,10 +962,15 @@ public final class PParser extends ParserBase {
    */
   private Result pModuleName(final int yyStart) throws IOException {
     PParserColumn yyColumn = (PParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fModuleName) 
-      yyColumn.chunk1.fModuleName = pModuleName$1(yyStart);
-    return yyColumn.chunk1.fModuleName;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fModuleName) {
+      yyColumn.chunk3.fModuleName = pModuleName$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(3, yyColumn.chunk3.fModuleName);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(3, yyColumn.chunk3.fModuleName);
+    }
+    return yyColumn.chunk3.fModuleName;
   }
 
   /** Actually parse xtc.parser.PGrammar.ModuleName. */
@@ -1002,6 +1181,67 @@ public final class PParser extends ParserBase {
     Production yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative <Full>.
 
     yyResult = pFullProduction(yyStart);
@@ -1013,23 +1253,27 @@ public final class PParser extends ParserBase {
     }
 
     // Alternative <Addition>.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pAlternativeAddition(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pAlternativeAddition(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Removal>.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pAlternativeRemoval(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pAlternativeRemoval(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative <Override>.
@@ -1510,10 +1754,16 @@ public final class PParser extends ParserBase {
    */
   private Result pProductionAttributes(final int yyStart) throws IOException {
     PParserColumn yyColumn = (PParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fProductionAttributes) 
-      yyColumn.chunk1.fProductionAttributes = pProductionAttributes$1(yyStart);
-    return yyColumn.chunk1.fProductionAttributes;
+    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
+    if (null == yyColumn.chunk2.fProductionAttributes) {
+      yyColumn.chunk2.fProductionAttributes = 
+        pProductionAttributes$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(4, yyColumn.chunk2.fProductionAttributes);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(4, yyColumn.chunk2.fProductionAttributes);
+    }
+    return yyColumn.chunk2.fProductionAttributes;
   }
 
   /** Actually parse xtc.parser.PGrammar.ProductionAttributes. */
@@ -1584,10 +1834,14 @@ public final class PParser extends ParserBase {
    */
   private Result pChoice(final int yyStart) throws IOException {
     PParserColumn yyColumn = (PParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fChoice) 
-      yyColumn.chunk1.fChoice = pChoice$1(yyStart);
-    return yyColumn.chunk1.fChoice;
+    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
+    if (null == yyColumn.chunk2.fChoice) {
+      yyColumn.chunk2.fChoice = pChoice$1(yyStart);
+      if (null != yyStatistics) yyStatistics.miss(5, yyColumn.chunk2.fChoice);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(5, yyColumn.chunk2.fChoice);
+    }
+    return yyColumn.chunk2.fChoice;
   }
 
   /** Actually parse xtc.parser.PGrammar.Choice. */
@@ -1630,10 +1884,15 @@ public final class PParser extends ParserBase {
    */
   private Result pChoice$$Star1(final int yyStart) throws IOException {
     PParserColumn yyColumn = (PParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fChoice$$Star1) 
-      yyColumn.chunk1.fChoice$$Star1 = pChoice$$Star1$1(yyStart);
-    return yyColumn.chunk1.fChoice$$Star1;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fChoice$$Star1) {
+      yyColumn.chunk3.fChoice$$Star1 = pChoice$$Star1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(6, yyColumn.chunk3.fChoice$$Star1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(6, yyColumn.chunk3.fChoice$$Star1);
+    }
+    return yyColumn.chunk3.fChoice$$Star1;
   }
 
   /** Actually parse xtc.parser.PGrammar.Choice$$Star1. */
@@ -1682,10 +1941,15 @@ public final class PParser extends ParserBase {
    */
   private Result pSequence(final int yyStart) throws IOException {
     PParserColumn yyColumn = (PParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fSequence) 
-      yyColumn.chunk1.fSequence = pSequence$1(yyStart);
-    return yyColumn.chunk1.fSequence;
+    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
+    if (null == yyColumn.chunk2.fSequence) {
+      yyColumn.chunk2.fSequence = pSequence$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(7, yyColumn.chunk2.fSequence);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(7, yyColumn.chunk2.fSequence);
+    }
+    return yyColumn.chunk2.fSequence;
   }
 
   /** Actually parse xtc.parser.PGrammar.Sequence. */
@@ -1754,10 +2018,15 @@ public final class PParser extends ParserBase {
    */
   private Result pSequence$$Star1(final int yyStart) throws IOException {
     PParserColumn yyColumn = (PParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fSequence$$Star1) 
-      yyColumn.chunk1.fSequence$$Star1 = pSequence$$Star1$1(yyStart);
-    return yyColumn.chunk1.fSequence$$Star1;
+    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
+    if (null == yyColumn.chunk2.fSequence$$Star1) {
+      yyColumn.chunk2.fSequence$$Star1 = pSequence$$Star1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(8, yyColumn.chunk2.fSequence$$Star1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(8, yyColumn.chunk2.fSequence$$Star1);
+    }
+    return yyColumn.chunk2.fSequence$$Star1;
   }
 
   /** Actually parse xtc.parser.PGrammar.Sequence$$Star1. */
@@ -1802,10 +2071,15 @@ public final class PParser extends ParserBase {
    */
   private Result pSequenceName(final int yyStart) throws IOException {
     PParserColumn yyColumn = (PParserColumn)column(yyStart);
-    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
-    if (null == yyColumn.chunk1.fSequenceName) 
-      yyColumn.chunk1.fSequenceName = pSequenceName$1(yyStart);
-    return yyColumn.chunk1.fSequenceName;
+    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
+    if (null == yyColumn.chunk2.fSequenceName) {
+      yyColumn.chunk2.fSequenceName = pSequenceName$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(9, yyColumn.chunk2.fSequenceName);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(9, yyColumn.chunk2.fSequenceName);
+    }
+    return yyColumn.chunk2.fSequenceName;
   }
 
   /** Actually parse xtc.parser.PGrammar.SequenceName. */
@@ -1862,32 +2136,65 @@ public final class PParser extends ParserBase {
     Void       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '=':
+    case '>':
+    case '?':
+    case '^':
+      yyFirst = 0x2;
+      break;
+
+    case '<':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pSequenceName(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
+      yyResult = pSequenceName(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
 
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue("...")) {
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue("...")) {
 
-        yyValue = null;
+          yyValue = null;
 
-        return yyResult.createValue(yyValue, yyError);
-      } else {
-        yyError = yyError.select("'...' expected", yyBase);
+          return yyResult.createValue(yyValue, yyError);
+        } else {
+          yyError = yyError.select("'...' expected", yyBase);
+        }
       }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("...")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("...")) {
 
-      yyValue = null;
+        yyValue = null;
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -1907,8 +2214,13 @@ public final class PParser extends ParserBase {
   private Result pVoided(final int yyStart) throws IOException {
     PParserColumn yyColumn = (PParserColumn)column(yyStart);
     if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fVoided) 
+    if (null == yyColumn.chunk2.fVoided) {
       yyColumn.chunk2.fVoided = pVoided$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(10, yyColumn.chunk2.fVoided);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(10, yyColumn.chunk2.fVoided);
+    }
     return yyColumn.chunk2.fVoided;
   }
 
@@ -1919,38 +2231,129 @@ public final class PParser extends ParserBase {
     Element    yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '\"':
+    case '&':
+    case '\'':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '@':
+    case '[':
+    case '^':
+    case '_':
+    case '{':
+      yyFirst = 0x2;
+      break;
+
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pWord(yyStart);
-    if (yyResult.hasValue("void")) {
+      yyResult = pWord(yyStart);
+      if (yyResult.hasValue("void")) {
 
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue(":")) {
+        yyBase   = yyResult.index;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue(":")) {
 
-        yyResult = pVoided(yyResult.index);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
-          final Element p = yyResult.semanticValue();
+          yyResult = pVoided(yyResult.index);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
+            final Element p = yyResult.semanticValue();
 
-          yyValue = new VoidedElement(p);
+            yyValue = new VoidedElement(p);
 
-          setLocation(yyValue, yyStart);
-          return yyResult.createValue(yyValue, yyError);
+            setLocation(yyValue, yyStart);
+            return yyResult.createValue(yyValue, yyError);
+          }
+        } else {
+          yyError = yyError.select("':' expected", yyBase);
         }
-      } else {
-        yyError = yyError.select("':' expected", yyBase);
       }
     }
 
     // Alternative 2.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pPrefix(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pPrefix(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -1973,57 +2376,134 @@ public final class PParser extends ParserBase {
     Element    yyValue;
     ParseError yyError = ParseError.DUMMY;
 
-    // Alternative 1.
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '^':
+      yyFirst = 0x27;
+      break;
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("&")) {
+    case '\"':
+      yyFirst = 0x30;
+      break;
 
-      yyResult = pSuffix(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Element s = yyResult.semanticValue();
+    case '\'':
+    case '@':
+    case '[':
+    case '_':
+    case '{':
+      yyFirst = 0x20;
+      break;
 
-        if (s instanceof Action) {
-          yyValue = new SemanticPredicate((Action)s);
-        } else {
-          yyValue = new FollowedBy(s);
-        }
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x28;
+      break;
 
-        setLocation(yyValue, yyStart);
-        return yyResult.createValue(yyValue, yyError);
-      }
+    default:
+      yyFirst = 0;
     }
 
-    // Alternative 2.
+    // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("!")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("&")) {
 
-      yyResult = pSuffix(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Element s = yyResult.semanticValue();
+        yyResult = pSuffix(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Element s = yyResult.semanticValue();
 
-        yyValue = new NotFollowedBy(s);
+          if (s instanceof Action) {
+            yyValue = new SemanticPredicate((Action)s);
+          } else {
+            yyValue = new FollowedBy(s);
+          }
 
-        setLocation(yyValue, yyStart);
-        return yyResult.createValue(yyValue, yyError);
+          setLocation(yyValue, yyStart);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
-    // Alternative 3.
+    // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("^")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("!")) {
 
-      yyResult = pSuffix(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        final Element s = yyResult.semanticValue();
-
-        if (s instanceof Action) {
+        yyResult = pSuffix(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          final Element s = yyResult.semanticValue();
 
-          yyValue = new ParserAction((Action)s);
+          yyValue = new NotFollowedBy(s);
 
           setLocation(yyValue, yyStart);
           return yyResult.createValue(yyValue, yyError);
@@ -2031,42 +2511,35 @@ public final class PParser extends ParserBase {
       }
     }
 
-    // Alternative 4.
-
-    yyResult = pWord(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final String id = yyResult.semanticValue();
+    // Alternative 3.
+    if (0 != (yyFirst & 0x4)) {
 
-      yyBase   = yyResult.index;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue(":")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("^")) {
 
         yyResult = pSuffix(yyResult.index);
         yyError  = yyResult.select(yyError);
         if (yyResult.hasValue()) {
           final Element s = yyResult.semanticValue();
 
-          yyValue = new Binding(id, s);
+          if (s instanceof Action) {
 
-          setLocation(yyValue, yyStart);
-          return yyResult.createValue(yyValue, yyError);
+            yyValue = new ParserAction((Action)s);
+
+            setLocation(yyValue, yyStart);
+            return yyResult.createValue(yyValue, yyError);
+          }
         }
-      } else {
-        yyError = yyError.select("':' expected", yyBase);
       }
     }
 
-    // Alternative 5.
-
-    yyResult = pStringLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final String t1 = yyResult.semanticValue();
+    // Alternative 4.
+    if ((0 != (yyFirst & 0x8)) || (yyError.index < yyStart)) {
 
-      yyResult = pSpacing(yyResult.index);
+      yyResult = pWord(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
+        final String id = yyResult.semanticValue();
 
         yyBase   = yyResult.index;
         yyResult = pSymbol(yyBase);
@@ -2077,8 +2550,7 @@ public final class PParser extends ParserBase {
           if (yyResult.hasValue()) {
             final Element s = yyResult.semanticValue();
 
-            final String t2 = Utilities.unescape(t1.substring(1, t1.length()-1));
-            yyValue = new StringMatch(t2, s);
+            yyValue = new Binding(id, s);
 
             setLocation(yyValue, yyStart);
             return yyResult.createValue(yyValue, yyError);
@@ -2089,14 +2561,50 @@ public final class PParser extends ParserBase {
       }
     }
 
+    // Alternative 5.
+    if ((0 != (yyFirst & 0x10)) || (yyError.index < yyStart)) {
+
+      yyResult = pStringLiteral(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final String t1 = yyResult.semanticValue();
+
+        yyResult = pSpacing(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+
+          yyBase   = yyResult.index;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue(":")) {
+
+            yyResult = pSuffix(yyResult.index);
+            yyError  = yyResult.select(yyError);
+            if (yyResult.hasValue()) {
+              final Element s = yyResult.semanticValue();
+
+              final String t2 = Utilities.unescape(t1.substring(1, t1.length()-1));
+              yyValue = new StringMatch(t2, s);
+
+              setLocation(yyValue, yyStart);
+              return yyResult.createValue(yyValue, yyError);
+            }
+          } else {
+            yyError = yyError.select("':' expected", yyBase);
+          }
+        }
+      }
+    }
+
     // Alternative 6.
+    if ((0 != (yyFirst & 0x20)) || (yyError.index < yyStart)) {
 
-    yyResult = pSuffix(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pSuffix(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -2115,10 +2623,15 @@ public final class PParser extends ParserBase {
    */
   private Result pSuffix(final int yyStart) throws IOException {
     PParserColumn yyColumn = (PParserColumn)column(yyStart);
-    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fSuffix) 
-      yyColumn.chunk2.fSuffix = pSuffix$1(yyStart);
-    return yyColumn.chunk2.fSuffix;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fSuffix) {
+      yyColumn.chunk1.fSuffix = pSuffix$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(11, yyColumn.chunk1.fSuffix);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(11, yyColumn.chunk1.fSuffix);
+    }
+    return yyColumn.chunk1.fSuffix;
   }
 
   /** Actually parse xtc.parser.PGrammar.Suffix. */
@@ -2128,66 +2641,154 @@ public final class PParser extends ParserBase {
     Element    yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '\"':
+    case '&':
+    case '\'':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '@':
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case '[':
+    case '^':
+    case '_':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+    case '{':
+      yyFirst = 0x3;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pPrimary(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final Element p = yyResult.semanticValue();
+      yyResult = pPrimary(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final Element p = yyResult.semanticValue();
 
-      final int yyChoice1 = yyResult.index;
+        final int yyChoice1 = yyResult.index;
 
-      // Nested alternative 1.
+        // Nested alternative 1.
 
-      yyBase   = yyChoice1;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue("?")) {
+        yyBase   = yyChoice1;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue("?")) {
 
-        yyValue = new Option(p);
+          yyValue = new Option(p);
 
-        setLocation(yyValue, yyStart);
-        return yyResult.createValue(yyValue, yyError);
-      } else {
-        yyError = yyError.select("'?' expected", yyBase);
-      }
+          setLocation(yyValue, yyStart);
+          return yyResult.createValue(yyValue, yyError);
+        } else {
+          yyError = yyError.select("'?' expected", yyBase);
+        }
 
-      // Nested alternative 2.
+        // Nested alternative 2.
 
-      yyBase   = yyChoice1;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue("*")) {
+        yyBase   = yyChoice1;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue("*")) {
 
-        yyValue = new Repetition(false, p);
+          yyValue = new Repetition(false, p);
 
-        setLocation(yyValue, yyStart);
-        return yyResult.createValue(yyValue, yyError);
-      } else {
-        yyError = yyError.select("'*' expected", yyBase);
-      }
+          setLocation(yyValue, yyStart);
+          return yyResult.createValue(yyValue, yyError);
+        } else {
+          yyError = yyError.select("'*' expected", yyBase);
+        }
 
-      // Nested alternative 3.
+        // Nested alternative 3.
 
-      yyBase   = yyChoice1;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue("+")) {
+        yyBase   = yyChoice1;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue("+")) {
 
-        yyValue = new Repetition(true,  p);
+          yyValue = new Repetition(true,  p);
 
-        setLocation(yyValue, yyStart);
-        return yyResult.createValue(yyValue, yyError);
-      } else {
-        yyError = yyError.select("'+' expected", yyBase);
+          setLocation(yyValue, yyStart);
+          return yyResult.createValue(yyValue, yyError);
+        } else {
+          yyError = yyError.select("'+' expected", yyBase);
+        }
       }
     }
 
     // Alternative 2.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pPrimary(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pPrimary(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Done.
@@ -2205,10 +2806,15 @@ public final class PParser extends ParserBase {
    */
   private Result pPrimary(final int yyStart) throws IOException {
     PParserColumn yyColumn = (PParserColumn)column(yyStart);
-    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fPrimary) 
-      yyColumn.chunk2.fPrimary = pPrimary$1(yyStart);
-    return yyColumn.chunk2.fPrimary;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fPrimary) {
+      yyColumn.chunk1.fPrimary = pPrimary$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(12, yyColumn.chunk1.fPrimary);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(12, yyColumn.chunk1.fPrimary);
+    }
+    return yyColumn.chunk1.fPrimary;
   }
 
   /** Actually parse xtc.parser.PGrammar.Primary. */
@@ -2218,73 +2824,181 @@ public final class PParser extends ParserBase {
     Element    yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '!':
+    case '&':
+    case '(':
+    case ')':
+    case '*':
+    case '+':
+    case ',':
+    case '-':
+    case '.':
+    case '/':
+    case ':':
+    case ';':
+    case '<':
+    case '=':
+    case '>':
+    case '?':
+    case '^':
+      yyFirst = 0x20;
+      break;
+
+    case '\"':
+    case '\'':
+    case '[':
+    case '_':
+      yyFirst = 0x4;
+      break;
+
+    case '@':
+      yyFirst = 0x8;
+      break;
+
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x3;
+      break;
+
+    case '{':
+      yyFirst = 0x10;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pNullLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pNullLiteral(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 2.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pNonTerminal(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pNonTerminal(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 3.
+    if ((0 != (yyFirst & 0x4)) || (yyError.index < yyStart)) {
 
-    yyResult = pTerminal(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pTerminal(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 4.
+    if ((0 != (yyFirst & 0x8)) || (yyError.index < yyStart)) {
 
-    yyResult = pNodeMarker(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pNodeMarker(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 5.
+    if ((0 != (yyFirst & 0x10)) || (yyError.index < yyStart)) {
 
-    yyResult = pAction(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pAction(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 6.
+    if (0 != (yyFirst & 0x20)) {
 
-    yyResult = pSymbol(yyStart);
-    if (yyResult.hasValue("(")) {
+      yyResult = pSymbol(yyStart);
+      if (yyResult.hasValue("(")) {
 
-      yyResult = pChoice(yyResult.index);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
-        yyValue = yyResult.semanticValue();
+        yyResult = pChoice(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+          yyValue = yyResult.semanticValue();
 
-        yyBase   = yyResult.index;
-        yyResult = pSymbol(yyBase);
-        if (yyResult.hasValue(")")) {
+          yyBase   = yyResult.index;
+          yyResult = pSymbol(yyBase);
+          if (yyResult.hasValue(")")) {
 
-          return yyResult.createValue(yyValue, yyError);
-        } else {
-          yyError = yyError.select("')' expected", yyBase);
+            return yyResult.createValue(yyValue, yyError);
+          } else {
+            yyError = yyError.select("')' expected", yyBase);
+          }
         }
       }
     }
@@ -2368,10 +3082,16 @@ public final class PParser extends ParserBase {
     throws IOException {
 
     PParserColumn yyColumn = (PParserColumn)column(yyStart);
-    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fUnqualifiedNonTerminal) 
-      yyColumn.chunk2.fUnqualifiedNonTerminal = pUnqualifiedNonTerminal$1(yyStart);
-    return yyColumn.chunk2.fUnqualifiedNonTerminal;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fUnqualifiedNonTerminal) {
+      yyColumn.chunk3.fUnqualifiedNonTerminal = 
+        pUnqualifiedNonTerminal$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(13, yyColumn.chunk3.fUnqualifiedNonTerminal);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(13, yyColumn.chunk3.fUnqualifiedNonTerminal);
+    }
+    return yyColumn.chunk3.fUnqualifiedNonTerminal;
   }
 
   /** Actually parse xtc.parser.PGrammar.UnqualifiedNonTerminal. */
@@ -2417,98 +3137,128 @@ public final class PParser extends ParserBase {
     Terminal        yyValue;
     ParseError      yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '\"':
+      yyFirst = 0x8;
+      break;
+
+    case '\'':
+      yyFirst = 0x2;
+      break;
+
+    case '[':
+      yyFirst = 0x4;
+      break;
+
+    case '_':
+      yyFirst = 0x1;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyC = character(yyStart);
-    if ('_' == yyC) {
-      yyIndex = yyStart + 1;
+      yyC = character(yyStart);
+      if ('_' == yyC) {
+        yyIndex = yyStart + 1;
 
-      yyResult = pSpacing(yyIndex);
-      yyError  = yyResult.select(yyError);
-      if (yyResult.hasValue()) {
+        yyResult = pSpacing(yyIndex);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
 
-        yyValue = new AnyChar();
+          yyValue = new AnyChar();
 
-        setLocation(yyValue, yyStart);
-        return yyResult.createValue(yyValue, yyError);
+          setLocation(yyValue, yyStart);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 2.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pCharacterLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final String c = yyResult.semanticValue();
-
-      yyResult = pSpacing(yyResult.index);
+      yyResult = pCharacterLiteral(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
+        final String c = yyResult.semanticValue();
 
-        yyValue = new CharLiteral(Utilities.unescape(c).charAt(1));
+        yyResult = pSpacing(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
 
-        setLocation(yyValue, yyStart);
-        return yyResult.createValue(yyValue, yyError);
+          yyValue = new CharLiteral(Utilities.unescape(c).charAt(1));
+
+          setLocation(yyValue, yyStart);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyC = character(yyStart);
-    if ('[' == yyC) {
-      yyIndex = yyStart + 1;
+      yyC = character(yyStart);
+      if ('[' == yyC) {
+        yyIndex = yyStart + 1;
 
-      yyRepetition1 = yyIndex;
-      yyRepValue1   = Pair.empty();
-      while (true) {
+        yyRepetition1 = yyIndex;
+        yyRepValue1   = Pair.empty();
+        while (true) {
 
-        yyResult = pRange(yyRepetition1);
-        yyError  = yyResult.select(yyError, yyRepetition1);
-        if (yyResult.hasValue()) {
-          final CharRange v$el$1 = yyResult.semanticValue();
+          yyResult = pRange(yyRepetition1);
+          yyError  = yyResult.select(yyError, yyRepetition1);
+          if (yyResult.hasValue()) {
+            final CharRange v$el$1 = yyResult.semanticValue();
 
-          yyRepetition1 = yyResult.index;
-          yyRepValue1   = new Pair<CharRange>(v$el$1, yyRepValue1);
-          continue;
+            yyRepetition1 = yyResult.index;
+            yyRepValue1   = new Pair<CharRange>(v$el$1, yyRepValue1);
+            continue;
+          }
+          break;
         }
-        break;
-      }
-      { // Start scope for l.
-        final Pair<CharRange> l = yyRepValue1.reverse();
-
-        yyC = character(yyRepetition1);
-        if (']' == yyC) {
-          yyIndex = yyRepetition1 + 1;
-
-          yyResult = pSpacing(yyIndex);
-          yyError  = yyResult.select(yyError);
-          if (yyResult.hasValue()) {
+        { // Start scope for l.
+          final Pair<CharRange> l = yyRepValue1.reverse();
 
-            yyValue = new CharClass(l.list());
+          yyC = character(yyRepetition1);
+          if (']' == yyC) {
+            yyIndex = yyRepetition1 + 1;
 
-            setLocation(yyValue, yyStart);
-            return yyResult.createValue(yyValue, yyError);
+            yyResult = pSpacing(yyIndex);
+            yyError  = yyResult.select(yyError);
+            if (yyResult.hasValue()) {
+
+              yyValue = new CharClass(l.list());
+
+              setLocation(yyValue, yyStart);
+              return yyResult.createValue(yyValue, yyError);
+            }
           }
-        }
-      } // End scope for l.
+        } // End scope for l.
+      }
     }
 
     // Alternative 4.
+    if ((0 != (yyFirst & 0x8)) || (yyError.index < yyStart)) {
 
-    yyResult = pStringLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final String s1 = yyResult.semanticValue();
-
-      yyResult = pSpacing(yyResult.index);
+      yyResult = pStringLiteral(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
+        final String s1 = yyResult.semanticValue();
+
+        yyResult = pSpacing(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
 
-        final String s2 = Utilities.unescape(s1);
-        yyValue = new StringLiteral(s2.substring(1, s2.length()-1));
+          final String s2 = Utilities.unescape(s1);
+          yyValue = new StringLiteral(s2.substring(1, s2.length()-1));
 
-        setLocation(yyValue, yyStart);
-        return yyResult.createValue(yyValue, yyError);
+          setLocation(yyValue, yyStart);
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
@@ -2624,10 +3374,15 @@ public final class PParser extends ParserBase {
    */
   private Result pAction(final int yyStart) throws IOException {
     PParserColumn yyColumn = (PParserColumn)column(yyStart);
-    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fAction) 
-      yyColumn.chunk2.fAction = pAction$1(yyStart);
-    return yyColumn.chunk2.fAction;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fAction) {
+      yyColumn.chunk1.fAction = pAction$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(14, yyColumn.chunk1.fAction);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(14, yyColumn.chunk1.fAction);
+    }
+    return yyColumn.chunk1.fAction;
   }
 
   /** Actually parse xtc.parser.PGrammar.Action. */
@@ -2820,28 +3575,7 @@ public final class PParser extends ParserBase {
               yyIndex = yyIndex + 1;
               if ('/' == yyC) {
 
-                yyRepetition2 = yyIndex;
-                while (true) {
-
-                  yyC = character(yyRepetition2);
-                  if (-1 != yyC) {
-                    yyIndex = yyRepetition2 + 1;
-
-                    switch (yyC) {
-                    case '\n':
-                    case '\r':
-                      /* No match. */
-                      break;
-
-                    default:
-                      {
-                        yyRepetition2 = yyIndex;
-                        continue;
-                      }
-                    }
-                  }
-                  break;
-                }
+                yyRepetition2 = scan(yyIndex, 0xffffffffffffdbffL, 0xffffffffffffffffL, true);
 
                 yyResult = pLineTerminator(yyRepetition2);
                 yyError  = yyResult.select(yyError, yyRepetition1);
@@ -2955,8 +3689,13 @@ public final class PParser extends ParserBase {
   public Result pAttribute(final int yyStart) throws IOException {
     PParserColumn yyColumn = (PParserColumn)column(yyStart);
     if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fAttribute) 
+    if (null == yyColumn.chunk2.fAttribute) {
       yyColumn.chunk2.fAttribute = pAttribute$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(15, yyColumn.chunk2.fAttribute);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(15, yyColumn.chunk2.fAttribute);
+    }
     return yyColumn.chunk2.fAttribute;
   }
 
@@ -2969,82 +3708,151 @@ public final class PParser extends ParserBase {
     Attribute  yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0xf;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if (0 != (yyFirst & 0x1)) {
 
-    yyResult = pWord(yyStart);
-    if (yyResult.hasValue("public")) {
+      yyResult = pWord(yyStart);
+      if (yyResult.hasValue("public")) {
 
-      yyValue = new Attribute(Constants.NAME_VISIBILITY,
-      Constants.VALUE_PUBLIC);
+        yyValue = new Attribute(Constants.NAME_VISIBILITY,
+        Constants.VALUE_PUBLIC);
 
-      setLocation(yyValue, yyStart);
-      return yyResult.createValue(yyValue, yyError);
+        setLocation(yyValue, yyStart);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyResult = pWord(yyStart);
-    if (yyResult.hasValue("protected")) {
+      yyResult = pWord(yyStart);
+      if (yyResult.hasValue("protected")) {
 
-      yyValue = new Attribute(Constants.NAME_VISIBILITY,
-      Constants.VALUE_PROTECTED);
+        yyValue = new Attribute(Constants.NAME_VISIBILITY,
+        Constants.VALUE_PROTECTED);
 
-      setLocation(yyValue, yyStart);
-      return yyResult.createValue(yyValue, yyError);
+        setLocation(yyValue, yyStart);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 3.
+    if (0 != (yyFirst & 0x4)) {
 
-    yyResult = pWord(yyStart);
-    if (yyResult.hasValue("private")) {
+      yyResult = pWord(yyStart);
+      if (yyResult.hasValue("private")) {
 
-      yyValue = new Attribute(Constants.NAME_VISIBILITY,
-      Constants.VALUE_PRIVATE);
+        yyValue = new Attribute(Constants.NAME_VISIBILITY,
+        Constants.VALUE_PRIVATE);
 
-      setLocation(yyValue, yyStart);
-      return yyResult.createValue(yyValue, yyError);
+        setLocation(yyValue, yyStart);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 4.
+    if ((0 != (yyFirst & 0x8)) || (yyError.index < yyStart)) {
 
-    yyResult = pWord(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final String name = yyResult.semanticValue();
+      yyResult = pWord(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        final String name = yyResult.semanticValue();
 
-      yyOption1  = yyResult.index;
-      yyOpValue1 = null;
+        yyOption1  = yyResult.index;
+        yyOpValue1 = null;
 
-      yyBase   = yyOption1;
-      yyResult = pSymbol(yyBase);
-      if (yyResult.hasValue("(")) {
+        yyBase   = yyOption1;
+        yyResult = pSymbol(yyBase);
+        if (yyResult.hasValue("(")) {
 
-        yyResult = pAttributeValue(yyResult.index);
-        yyError  = yyResult.select(yyError, yyOption1);
-        if (yyResult.hasValue()) {
-          final Object v$el$1 = yyResult.semanticValue();
+          yyResult = pAttributeValue(yyResult.index);
+          yyError  = yyResult.select(yyError, yyOption1);
+          if (yyResult.hasValue()) {
+            final Object v$el$1 = yyResult.semanticValue();
 
-          yyBase   = yyResult.index;
-          yyResult = pSymbol(yyBase);
-          if (yyResult.hasValue(")")) {
+            yyBase   = yyResult.index;
+            yyResult = pSymbol(yyBase);
+            if (yyResult.hasValue(")")) {
 
-            yyOption1  = yyResult.index;
-            yyOpValue1 = v$el$1;
-          } else {
-            yyError = yyError.select("')' expected", yyBase);
+              yyOption1  = yyResult.index;
+              yyOpValue1 = v$el$1;
+            } else {
+              yyError = yyError.select("')' expected", yyBase);
+            }
           }
+        } else {
+          yyError = yyError.select("'(' expected", yyBase);
         }
-      } else {
-        yyError = yyError.select("'(' expected", yyBase);
-      }
-      { // Start scope for value.
-        final Object value = yyOpValue1;
+        { // Start scope for value.
+          final Object value = yyOpValue1;
 
-        yyValue = new Attribute(name, value);
+          yyValue = new Attribute(name, value);
 
-        setLocation(yyValue, yyStart);
-        return new SemanticValue(yyValue, yyOption1, yyError);
-      } // End scope for value.
+          setLocation(yyValue, yyStart);
+          return new SemanticValue(yyValue, yyOption1, yyError);
+        } // End scope for value.
+      }
     }
 
     // Done.
@@ -3066,52 +3874,136 @@ public final class PParser extends ParserBase {
     Object     yyValue;
     ParseError yyError = ParseError.DUMMY;
 
-    // Alternative 1.
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '\"':
+      yyFirst = 0x4;
+      break;
 
-    yyResult = pIntegerLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      final String lit = yyResult.semanticValue();
+    case '0':
+    case '1':
+    case '2':
+    case '3':
+    case '4':
+    case '5':
+    case '6':
+    case '7':
+    case '8':
+    case '9':
+      yyFirst = 0x1;
+      break;
 
-      yyResult = pSpacing(yyResult.index);
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x2;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
+    // Alternative 1.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
+
+      yyResult = pIntegerLiteral(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
+        final String lit = yyResult.semanticValue();
 
-        try {
-          yyValue = Integer.decode(lit);
-        } catch (NumberFormatException x) {
-          yyValue = null; // Cannot happen.
-        }
+        yyResult = pSpacing(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+
+          try {
+            yyValue = Integer.decode(lit);
+          } catch (NumberFormatException x) {
+            yyValue = null; // Cannot happen.
+          }
 
-        if (yyValue instanceof Locatable) {
-          setLocation((Locatable)yyValue, yyStart);
+          if (yyValue instanceof Locatable) {
+            setLocation((Locatable)yyValue, yyStart);
+          }
+          return yyResult.createValue(yyValue, yyError);
         }
-        return yyResult.createValue(yyValue, yyError);
       }
     }
 
     // Alternative 2.
+    if ((0 != (yyFirst & 0x2)) || (yyError.index < yyStart)) {
 
-    yyResult = pName(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
+      yyResult = pName(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-      return yyResult.createValue(yyValue, yyError);
+        return yyResult.createValue(yyValue, yyError);
+      }
     }
 
     // Alternative 3.
+    if ((0 != (yyFirst & 0x4)) || (yyError.index < yyStart)) {
 
-    yyResult = pStringLiteral(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
-      yyValue = yyResult.semanticValue();
-
-      yyResult = pSpacing(yyResult.index);
+      yyResult = pStringLiteral(yyStart);
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
+        yyValue = yyResult.semanticValue();
 
-        return yyResult.createValue(yyValue, yyError);
+        yyResult = pSpacing(yyResult.index);
+        yyError  = yyResult.select(yyError);
+        if (yyResult.hasValue()) {
+
+          return yyResult.createValue(yyValue, yyError);
+        }
       }
     }
 
@@ -3131,8 +4023,13 @@ public final class PParser extends ParserBase {
   private Result pTypeName(final int yyStart) throws IOException {
     PParserColumn yyColumn = (PParserColumn)column(yyStart);
     if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fTypeName) 
+    if (null == yyColumn.chunk2.fTypeName) {
       yyColumn.chunk2.fTypeName = pTypeName$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(16, yyColumn.chunk2.fTypeName);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(16, yyColumn.chunk2.fTypeName);
+    }
     return yyColumn.chunk2.fTypeName;
   }
 
@@ -3173,8 +4070,13 @@ public final class PParser extends ParserBase {
   private Result pTypeNameCharacters(final int yyStart) throws IOException {
     PParserColumn yyColumn = (PParserColumn)column(yyStart);
     if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fTypeNameCharacters) 
+    if (null == yyColumn.chunk2.fTypeNameCharacters) {
       yyColumn.chunk2.fTypeNameCharacters = pTypeNameCharacters$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(17, yyColumn.chunk2.fTypeNameCharacters);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(17, yyColumn.chunk2.fTypeNameCharacters);
+    }
     return yyColumn.chunk2.fTypeNameCharacters;
   }
 
@@ -3256,10 +4158,16 @@ public final class PParser extends ParserBase {
     throws IOException {
 
     PParserColumn yyColumn = (PParserColumn)column(yyStart);
-    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fTypeNameCharacters$$Star1) 
-      yyColumn.chunk2.fTypeNameCharacters$$Star1 = pTypeNameCharacters$$Star1$1(yyStart);
-    return yyColumn.chunk2.fTypeNameCharacters$$Star1;
+    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
+    if (null == yyColumn.chunk3.fTypeNameCharacters$$Star1) {
+      yyColumn.chunk3.fTypeNameCharacters$$Star1 = 
+        pTypeNameCharacters$$Star1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(18, yyColumn.chunk3.fTypeNameCharacters$$Star1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(18, yyColumn.chunk3.fTypeNameCharacters$$Star1);
+    }
+    return yyColumn.chunk3.fTypeNameCharacters$$Star1;
   }
 
   /** Actually parse xtc.parser.PGrammar.TypeNameCharacters$$Star1. */
@@ -3321,10 +4229,14 @@ public final class PParser extends ParserBase {
    */
   private Result pName(final int yyStart) throws IOException {
     PParserColumn yyColumn = (PParserColumn)column(yyStart);
-    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
-    if (null == yyColumn.chunk2.fName) 
-      yyColumn.chunk2.fName = pName$1(yyStart);
-    return yyColumn.chunk2.fName;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fName) {
+      yyColumn.chunk1.fName = pName$1(yyStart);
+      if (null != yyStatistics) yyStatistics.miss(19, yyColumn.chunk1.fName);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(19, yyColumn.chunk1.fName);
+    }
+    return yyColumn.chunk1.fName;
   }
 
   /** Actually parse xtc.parser.PGrammar.Name. */
@@ -3363,10 +4275,14 @@ public final class PParser extends ParserBase {
    */
   private Result pWord(final int yyStart) throws IOException {
     PParserColumn yyColumn = (PParserColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fWord) 
-      yyColumn.chunk3.fWord = pWord$1(yyStart);
-    return yyColumn.chunk3.fWord;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fWord) {
+      yyColumn.chunk1.fWord = pWord$1(yyStart);
+      if (null != yyStatistics) yyStatistics.miss(20, yyColumn.chunk1.fWord);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(20, yyColumn.chunk1.fWord);
+    }
+    return yyColumn.chunk1.fWord;
   }
 
   /** Actually parse xtc.parser.PGrammar.Word. */
@@ -3405,10 +4321,15 @@ public final class PParser extends ParserBase {
    */
   private Result pNameCharacters(final int yyStart) throws IOException {
     PParserColumn yyColumn = (PParserColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fNameCharacters) 
-      yyColumn.chunk3.fNameCharacters = pNameCharacters$1(yyStart);
-    return yyColumn.chunk3.fNameCharacters;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fNameCharacters) {
+      yyColumn.chunk1.fNameCharacters = pNameCharacters$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(21, yyColumn.chunk1.fNameCharacters);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(21, yyColumn.chunk1.fNameCharacters);
+    }
+    return yyColumn.chunk1.fNameCharacters;
   }
 
   /** Actually parse xtc.parser.PGrammar.NameCharacters. */
@@ -3451,8 +4372,14 @@ public final class PParser extends ParserBase {
 
     PParserColumn yyColumn = (PParserColumn)column(yyStart);
     if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fNameCharacters$$Star1) 
-      yyColumn.chunk3.fNameCharacters$$Star1 = pNameCharacters$$Star1$1(yyStart);
+    if (null == yyColumn.chunk3.fNameCharacters$$Star1) {
+      yyColumn.chunk3.fNameCharacters$$Star1 = 
+        pNameCharacters$$Star1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(22, yyColumn.chunk3.fNameCharacters$$Star1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(22, yyColumn.chunk3.fNameCharacters$$Star1);
+    }
     return yyColumn.chunk3.fNameCharacters$$Star1;
   }
 
@@ -3505,10 +4432,15 @@ public final class PParser extends ParserBase {
    */
   private Result pWordCharacters(final int yyStart) throws IOException {
     PParserColumn yyColumn = (PParserColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fWordCharacters) 
-      yyColumn.chunk3.fWordCharacters = pWordCharacters$1(yyStart);
-    return yyColumn.chunk3.fWordCharacters;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fWordCharacters) {
+      yyColumn.chunk1.fWordCharacters = pWordCharacters$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(23, yyColumn.chunk1.fWordCharacters);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(23, yyColumn.chunk1.fWordCharacters);
+    }
+    return yyColumn.chunk1.fWordCharacters;
   }
 
   /** Actually parse xtc.parser.PGrammar.WordCharacters. */
@@ -3556,10 +4488,16 @@ public final class PParser extends ParserBase {
     throws IOException {
 
     PParserColumn yyColumn = (PParserColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fWordCharacters$$Plus1) 
-      yyColumn.chunk3.fWordCharacters$$Plus1 = pWordCharacters$$Plus1$1(yyStart);
-    return yyColumn.chunk3.fWordCharacters$$Plus1;
+    if (null == yyColumn.chunk2) yyColumn.chunk2 = new Chunk2();
+    if (null == yyColumn.chunk2.fWordCharacters$$Plus1) {
+      yyColumn.chunk2.fWordCharacters$$Plus1 = 
+        pWordCharacters$$Plus1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(24, yyColumn.chunk2.fWordCharacters$$Plus1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(24, yyColumn.chunk2.fWordCharacters$$Plus1);
+    }
+    return yyColumn.chunk2.fWordCharacters$$Plus1;
   }
 
   /** Actually parse xtc.parser.PGrammar.WordCharacters$$Plus1. */
@@ -3619,8 +4557,14 @@ public final class PParser extends ParserBase {
 
     PParserColumn yyColumn = (PParserColumn)column(yyStart);
     if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fWordCharacters$$Star1) 
-      yyColumn.chunk3.fWordCharacters$$Star1 = pWordCharacters$$Star1$1(yyStart);
+    if (null == yyColumn.chunk3.fWordCharacters$$Star1) {
+      yyColumn.chunk3.fWordCharacters$$Star1 = 
+        pWordCharacters$$Star1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(25, yyColumn.chunk3.fWordCharacters$$Star1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(25, yyColumn.chunk3.fWordCharacters$$Star1);
+    }
     return yyColumn.chunk3.fWordCharacters$$Star1;
   }
 
@@ -3634,47 +4578,122 @@ public final class PParser extends ParserBase {
     Void       yyValue;
     ParseError yyError = ParseError.DUMMY;
 
+    final int yyFirst;
+    switch (character(yyStart)) {
+    case '0':
+    case '1':
+    case '2':
+    case '3':
+    case '4':
+    case '5':
+    case '6':
+    case '7':
+    case '8':
+    case '9':
+    case 'A':
+    case 'B':
+    case 'C':
+    case 'D':
+    case 'E':
+    case 'F':
+    case 'G':
+    case 'H':
+    case 'I':
+    case 'J':
+    case 'K':
+    case 'L':
+    case 'M':
+    case 'N':
+    case 'O':
+    case 'P':
+    case 'Q':
+    case 'R':
+    case 'S':
+    case 'T':
+    case 'U':
+    case 'V':
+    case 'W':
+    case 'X':
+    case 'Y':
+    case 'Z':
+    case 'a':
+    case 'b':
+    case 'c':
+    case 'd':
+    case 'e':
+    case 'f':
+    case 'g':
+    case 'h':
+    case 'i':
+    case 'j':
+    case 'k':
+    case 'l':
+    case 'm':
+    case 'n':
+    case 'o':
+    case 'p':
+    case 'q':
+    case 'r':
+    case 's':
+    case 't':
+    case 'u':
+    case 'v':
+    case 'w':
+    case 'x':
+    case 'y':
+    case 'z':
+      yyFirst = 0x2;
+      break;
+
+    case '_':
+      yyFirst = 0x1;
+      break;
+
+    default:
+      yyFirst = 0;
+    }
+
     // Alternative 1.
+    if ((0 != (yyFirst & 0x1)) || (yyError.index < yyStart)) {
 
-    yyResult = pWordCharacters$$Plus1(yyStart);
-    yyError  = yyResult.select(yyError);
-    if (yyResult.hasValue()) {
+      yyResult = pWordCharacters$$Plus1(yyStart);
+      yyError  = yyResult.select(yyError);
+      if (yyResult.hasValue()) {
 
-      yyC = character(yyResult.index);
-      if (-1 != yyC) {
-        yyIndex = yyResult.index + 1;
-        if ((('0' <= yyC) && (yyC <= '9')) ||
-            (('A' <= yyC) && (yyC <= 'Z')) ||
-            (('a' <= yyC) && (yyC <= 'z'))) {
+        yyC = character(yyResult.index);
+        if (-1 != yyC) {
+          yyIndex = yyResult.index + 1;
+          if ((yyC < 128) && (0 != (yyClass1[yyC >> 6] & (1L << yyC)))) {
 
-          yyResult = pWordCharacters$$Star1(yyIndex);
-          yyError  = yyResult.select(yyError);
-          if (yyResult.hasValue()) {
+            yyResult = pWordCharacters$$Star1(yyIndex);
+            yyError  = yyResult.select(yyError);
+            if (yyResult.hasValue()) {
 
-            yyValue = null;
+              yyValue = null;
 
-            return yyResult.createValue(yyValue, yyError);
+              return yyResult.createValue(yyValue, yyError);
+            }
           }
         }
       }
     }
 
     // Alternative 2.
+    if (0 != (yyFirst & 0x2)) {
 
-    yyC = character(yyStart);
-    if (-1 != yyC) {
-      yyIndex = yyStart + 1;
-      if ((('0' <= yyC) && (yyC <= '9')) ||
-          (('A' <= yyC) && (yyC <= 'Z')) ||
-          (('a' <= yyC) && (yyC <= 'z'))) {
+      yyC = character(yyStart);
+      if (-1 != yyC) {
+        yyIndex = yyStart + 1;
+        if ((yyC < 128) && (0 != (yyClass1[yyC >> 6] & (1L << yyC)))) {
 
-        yyResult = pWordCharacters$$Star1(yyIndex);
-        yyError  = yyResult.select(yyError);
-        if (yyResult.hasValue()) {
+          yyResult = pWordCharacters$$Star1(yyIndex);
+          yyError  = yyResult.select(yyError);
+          if (yyResult.hasValue()) {
 
-          yyValue = null;
+            yyValue = null;
 
-          return yyResult.createValue(yyValue, yyError);
+            return yyResult.createValue(yyValue, yyError);
+          }
         }
       }
     }
@@ -3697,10 +4716,15 @@ public final class PParser extends ParserBase {
    */
   private Result pCharacterLiteral(final int yyStart) throws IOException {
     PParserColumn yyColumn = (PParserColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fCharacterLiteral) 
-      yyColumn.chunk3.fCharacterLiteral = pCharacterLiteral$1(yyStart);
-    return yyColumn.chunk3.fCharacterLiteral;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fCharacterLiteral) {
+      yyColumn.chunk1.fCharacterLiteral = pCharacterLiteral$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(26, yyColumn.chunk1.fCharacterLiteral);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(26, yyColumn.chunk1.fCharacterLiteral);
+    }
+    return yyColumn.chunk1.fCharacterLiteral;
   }
 
   /** Actually parse xtc.parser.PGrammar.CharacterLiteral. */
@@ -3979,10 +5003,15 @@ public final class PParser extends ParserBase {
    */
   private Result pStringLiteral(final int yyStart) throws IOException {
     PParserColumn yyColumn = (PParserColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fStringLiteral) 
-      yyColumn.chunk3.fStringLiteral = pStringLiteral$1(yyStart);
-    return yyColumn.chunk3.fStringLiteral;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fStringLiteral) {
+      yyColumn.chunk1.fStringLiteral = pStringLiteral$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(27, yyColumn.chunk1.fStringLiteral);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(27, yyColumn.chunk1.fStringLiteral);
+    }
+    return yyColumn.chunk1.fStringLiteral;
   }
 
   /** Actually parse xtc.parser.PGrammar.StringLiteral. */
@@ -4031,8 +5060,14 @@ public final class PParser extends ParserBase {
   private Result pStringLiteral$$Star1(final int yyStart) throws IOException {
     PParserColumn yyColumn = (PParserColumn)column(yyStart);
     if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fStringLiteral$$Star1) 
-      yyColumn.chunk3.fStringLiteral$$Star1 = pStringLiteral$$Star1$1(yyStart);
+    if (null == yyColumn.chunk3.fStringLiteral$$Star1) {
+      yyColumn.chunk3.fStringLiteral$$Star1 = 
+        pStringLiteral$$Star1$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(28, yyColumn.chunk3.fStringLiteral$$Star1);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(28, yyColumn.chunk3.fStringLiteral$$Star1);
+    }
     return yyColumn.chunk3.fStringLiteral$$Star1;
   }
 
@@ -4106,10 +5141,15 @@ public final class PParser extends ParserBase {
    */
   private Result pClassChar(final int yyStart) throws IOException {
     PParserColumn yyColumn = (PParserColumn)column(yyStart);
-    if (null == yyColumn.chunk3) yyColumn.chunk3 = new Chunk3();
-    if (null == yyColumn.chunk3.fClassChar) 
-      yyColumn.chunk3.fClassChar = pClassChar$1(yyStart);
-    return yyColumn.chunk3.fClassChar;
+    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
+    if (null == yyColumn.chunk4.fClassChar) {
+      yyColumn.chunk4.fClassChar = pClassChar$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(29, yyColumn.chunk4.fClassChar);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(29, yyColumn.chunk4.fClassChar);
+    }
+    return yyColumn.chunk4.fClassChar;
   }
 
   /** Actually parse xtc.parser.PGrammar.ClassChar. */
@@ -4685,35 +5725,7 @@ public final class PParser extends ParserBase {
       case '8':
       case '9':
         {
-          yyRepetition1 = yyIndex;
-          while (true) {
-
-            yyC = character(yyRepetition1);
-            if (-1 != yyC) {
-              yyIndex = yyRepetition1 + 1;
-
-              switch (yyC) {
-              case '0':
-              case '1':
-              case '2':
-              case '3':
-              case '4':
-              case '5':
-              case '6':
-              case '7':
-              case '8':
-              case '9':
-                {
-                  yyRepetition1 = yyIndex;
-                  continue;
-                }
-
-              default:
-                /* No match. */
-              }
-            }
-            break;
-          }
+          yyRepetition1 = scan(yyIndex, 0x3ff000000000000L, 0x0L, false);
 
           yyValue = difference(yyStart, yyRepetition1);
 
@@ -4906,10 +5918,15 @@ public final class PParser extends ParserBase {
    */
   private Result pSymbol(final int yyStart) throws IOException {
     PParserColumn yyColumn = (PParserColumn)column(yyStart);
-    if (null == yyColumn.chunk4) yyColumn.chunk4 = new Chunk4();
-    if (null == yyColumn.chunk4.fSymbol) 
-      yyColumn.chunk4.fSymbol = pSymbol$1(yyStart);
-    return yyColumn.chunk4.fSymbol;
+    if (null == yyColumn.chunk1) yyColumn.chunk1 = new Chunk1();
+    if (null == yyColumn.chunk1.fSymbol) {
+      yyColumn.chunk1.fSymbol = pSymbol$1(yyStart);
+      if (null != yyStatistics) 
+        yyStatistics.miss(30, yyColumn.chunk1.fSymbol);
+    } else if (null != yyStatistics) {
+      yyStatistics.hit(30, yyColumn.chunk1.fSymbol);
+    }
+    return yyColumn.chunk1.fSymbol;
   }
 
   /** Actually parse xtc.parser.PGrammar.Symbol. */
@@ -5296,28 +6313,7 @@ public final class PParser extends ParserBase {
 
               case '/':
                 {
-                  yyRepetition2 = yyIndex;
-                  while (true) {
-
-                    yyC = character(yyRepetition2);
-                    if (-1 != yyC) {
-                      yyIndex = yyRepetition2 + 1;
-
-                      switch (yyC) {
-                      case '\n':
-                      case '\r':
-                        /* No match. */
-                        break;
-
-                      default:
-                        {
-                          yyRepetition2 = yyIndex;
-                          continue;
-                        }
-                      }
-                    }
-                    break;
-                  }
+                  yyRepetition2 = scan(yyIndex, 0xffffffffffffdbffL, 0xffffffffffffffffL, true);
 
                   yyResult = pLineTerminator(yyRepetition2);
                   yyError  = yyResult.select(yyError, yyRepetition1);
@@ -5796,4 +6792,9 @@ public final class PParser extends ParserBase {
     return yyError;
   }
 
+  // =========================================================================
+
+  /** The bit map for a character class. */
+  private static final long[] yyClass1 = { 0x3ff000000000000L, 0x7fffffe07fffffeL };
+
 }
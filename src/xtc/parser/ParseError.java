@@ -22,7 +22,7 @@ package xtc.parser;
  * An erroneous parse.
  *
  * @author Robert Grimm
- * @version $Revision: 1.27 $
+ * @version $Revision: 1.30 $
  */
 public final class ParseError extends Result {
 
@@ -84,13 +84,21 @@ public final class ParseError extends Result {
    * Select the more specific parse error.  This method compares this
    * parse error with the specified index and returns a parse error
    * representing the longer parse (creating a new parse error with
-   * the specified message and index if necessary).
+   * the specified message and index if necessary).  If this parse
+   * error already has the specified index and the identical message,
+   * it is returned instead of a new, but otherwise identical parse
+   * error.  Messages are compared by reference only, since generated
+   * parsers pass string literals.
    *
    * @param msg The error message.
    * @param index The index of the parse error.
    */
   public ParseError select(final String msg, final int index) {
-    return this.index <= index ? new ParseError(msg, index) : this;
+    if (this.index > index || (this.index == index && this.msg == msg)) {
+      return this;
+    } else {
+      return new ParseError(msg, index);
+    }
   }
 
   public SemanticValue createValue(final Object value, final ParseError error) {
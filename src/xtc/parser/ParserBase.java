@@ -21,8 +21,12 @@ package xtc.parser;
 import java.io.IOException;
 import java.io.Reader;
 
+import xtc.tree.Annotation;
+import xtc.tree.GNode;
 import xtc.tree.Locatable;
 import xtc.tree.Location;
+import xtc.tree.Node;
+import xtc.tree.NodeListener;
 
 import xtc.util.Action;
 import xtc.util.Pair;
@@ -31,7 +35,7 @@ import xtc.util.Pair;
  * The base class for packrat parsers.
  *
  * @author Robert Grimm
- * @version $Revision: 1.17 $
+ * @version $Revision: 1.24 $
  */
 public abstract class ParserBase {
 
@@ -64,23 +68,157 @@ public abstract class ParserBase {
    */
   public static final int INCR_SIZE = 4096;
 
+  /**
+   * The default horizon for streaming parsers, i.e., the number of
+   * characters retained before the most recently committed index.
+   */
+  public static final int HORIZON_SIZE = 4096;
+
+  /** The initial size of the line start table. */
+  private static final int LINES_SIZE = 256;
+
+  /** The initial size of the list buffer. */
+  private static final int BUFFER_SIZE = 64;
+
+  /**
+   * The number of index bits selecting a result within a block of the
+   * column-major memoization table.
+   */
+  private static final int MEMO_SHIFT = 8;
+
+  /** The size of a block of the column-major memoization table. */
+  private static final int MEMO_SIZE = 1 << MEMO_SHIFT;
+
+  /** The mask for selecting a result within a block. */
+  private static final int MEMO_MASK = MEMO_SIZE - 1;
+
+  /** The empty list of production names. */
+  private static final String[] NO_PRODUCTIONS = new String[0];
+
   // -------------------------------------------------------------------------
 
   /** The reader for the character stream to be parsed. */
   protected Reader      yyReader;
 
-  /** The number of characters consumed from the character stream. */
+  /**
+   * The number of characters consumed from the character stream and
+   * still held in {@link #yyData}.
+   */
   protected int         yyCount;
 
+  /**
+   * The index of the first character held in {@link #yyData}.  All
+   * indices passed to and returned from this class's methods are
+   * absolute; the offset only becomes non-zero when a streaming
+   * parser {@link #commit(int,int) commits} its input.
+   */
+  protected int         yyOffset;
+
   /** The flag for whether the end-of-file has been reached. */
   protected boolean     yyEOF;
 
   /** The characters consumed so far. */
   protected char[]      yyData;
 
+  /** The flag for whether {@link #yyData} belongs to an input buffer. */
+  private boolean       yyAdopted;
+
+  /**
+   * The number of actual characters in {@link #yyData}, i.e., the
+   * number of consumed characters excluding the end-of-file.
+   */
+  private int           yyAvailable;
+
+  /**
+   * The bytes taken over from a {@link ByteInput} or
+   * <code>null</code> if the characters are held in {@link #yyData}.
+   * Each byte represents one ISO-8859-1 character.
+   */
+  private byte[]        yyBytes;
+
+  /**
+   * The number of actual characters in {@link #yyBytes}.  When
+   * parsing bytes, {@link #yyAvailable} is zero; otherwise, this
+   * count is zero.
+   */
+  private int           yyByteCount;
+
   /** The memoization table columns. */
   protected Column[]    yyColumns;
 
+  /**
+   * The extents of the memoization table columns or <code>null</code>
+   * if no results are {@link #track(int) tracked}.  Each extent is
+   * the index after the last character consumed when a result was
+   * last memoized in the corresponding column, which bounds the input
+   * examined by the column's results.
+   */
+  private int[]         yyExtents;
+
+  /**
+   * The column-major memoization table or <code>null</code> if no
+   * results have been {@link #memoize(int,int,Result) memoized} in
+   * it.  The table has an array of blocks for each memoized
+   * production, with each block holding the results for
+   * <code>MEMO_SIZE</code> consecutive indices.
+   */
+  private Result[][][]  yyMemo;
+
+  /** The cleared columns available for reuse. */
+  private Column[]      yySpares;
+
+  /** The number of spare columns. */
+  private int           yySpareCount;
+
+  /** The horizon for discarding committed input. */
+  private int           yyHorizon;
+
+  /** The index of the pinned column or -1 if no column is pinned. */
+  private int           yyPinnedIndex;
+
+  /** The pinned column, which has been discarded from the table. */
+  private Column        yyPinned;
+
+  /** The location of the pinned column. */
+  private Location      yyPinnedLocation;
+
+  /**
+   * The start indices of the lines scanned so far, in ascending
+   * order.  The table only covers lines starting after the first
+   * {@link #yyMarkers location marker}.
+   */
+  private int[]         yyLines;
+
+  /** The number of entries in the line start table. */
+  private int           yyLineCount;
+
+  /** The index of the first character not yet scanned for lines. */
+  private int           yyScanned;
+
+  /** The flag for whether the last scanned character is a carriage return. */
+  private boolean       yySeenCR;
+
+  /** The location markers, in ascending index order. */
+  private Marker[]      yyMarkers;
+
+  /** The number of location markers. */
+  private int           yyMarkerCount;
+
+  /** The statistics or <code>null</code> if they are disabled. */
+  protected ParserStatistics yyStatistics;
+
+  /** The listener for parse events or <code>null</code> if there is none. */
+  private NodeListener  yyListener;
+
+  /**
+   * The list buffer.  Buffered repetitions accumulate their values in
+   * this array, which is shared by all repetitions.
+   */
+  private Object[]      yyBuffer;
+
+  /** The index of the first unused slot in the list buffer. */
+  private int           yyBufferTop;
+
   // -------------------------------------------------------------------------
 
   /**
@@ -95,7 +233,13 @@ public abstract class ParserBase {
   }
 
   /**
-   * Create a new parser base.
+   * Create a new parser base.  If the specified reader is a pristine
+   * {@link InputBuffer}, the parser directly uses the buffer's
+   * characters as its input and ignores the specified size.
+   * Likewise, if the specified reader is a pristine {@link
+   * ByteInput}, the parser directly uses the input's bytes or, if
+   * the bytes do not represent one character each, its decoded
+   * characters.
    *
    * @param reader The reader for the character stream to be parsed.
    * @param file The name of the file backing the character stream.
@@ -104,25 +248,226 @@ public abstract class ParserBase {
    * @throws IllegalArgumentException Signals a negative file size.
    */
   public ParserBase(final Reader reader, final String file, final int size) {
+    yyHorizon = HORIZON_SIZE;
+    yyLines   = new int[LINES_SIZE];
+    yyMarkers = new Marker[1];
+    init(reader, file, size);
+  }
+
+  /**
+   * Initialize this parser for the specified character stream.  This
+   * method reuses this parser's arrays, unless they are too small for
+   * the specified size or have been taken over from an input buffer.
+   *
+   * @param reader The reader for the character stream to be parsed.
+   * @param file The name of the file backing the character stream.
+   * @param size The length of the character stream.
+   * @throws NullPointerException Signals a null file name.
+   * @throws IllegalArgumentException Signals a negative file size.
+   */
+  private void init(final Reader reader, final String file, final int size) {
     if (null == file) {
       throw new NullPointerException("Null file");
     } else if (size < 0) {
       throw new IllegalArgumentException("Negative size: " + size);
     }
 
-    yyReader     = reader;
-    yyCount      = 0;
-    yyEOF        = false;
-    yyData       = new char[size + 1];
-    yyColumns    = new Column[size + 1];
+    yyReader         = reader;
+    yyOffset         = 0;
+    yyExtents        = null;
+    yyPinnedIndex    = -1;
+    yyPinned         = null;
+    yyPinnedLocation = null;
+    yyLineCount      = 0;
+    yyScanned        = 0;
+    yySeenCR         = false;
+    for (int i=1; i<yyMarkerCount; i++) {
+      yyMarkers[i] = null;
+    }
+    yyMarkers[0]     = new Marker(0, 0, file, FIRST_LINE, FIRST_COLUMN);
+    yyMarkerCount    = 1;
+    yyBufferTop      = 0;
+
+    yyBytes          = null;
+    yyByteCount      = 0;
+
+    Reader source    = reader;
+    if ((reader instanceof ByteInput) && ((ByteInput)reader).isPristine()) {
+      final ByteInput input = (ByteInput)reader;
+
+      if (input.isLatin1()) {
+        // Take over the entire input, including the end-of-file.
+        yyCount     = input.length() + 1;
+        yyEOF       = true;
+        yyBytes     = input.array();
+        yyByteCount = input.length();
+        if (yyAdopted || (null == yyData)) {
+          yyData    = new char[1];
+        }
+        yyAdopted   = false;
+        yyAvailable = 0;
+        if ((null == yyColumns) || (yyColumns.length < input.length() + 1)) {
+          yyColumns = new Column[input.length() + 1];
+        }
+        return;
+      }
+
+      source = input.decode();
+    }
+
+    if ((source instanceof InputBuffer) &&
+        ((InputBuffer)source).isPristine()) {
+      // Take over the entire input, including the end-of-file.
+      final InputBuffer buffer = (InputBuffer)source;
+
+      yyCount     = buffer.length() + 1;
+      yyEOF       = true;
+      yyData      = buffer.array();
+      yyAdopted   = true;
+      yyAvailable = buffer.length();
+      if ((null == yyColumns) || (yyColumns.length < buffer.length() + 1)) {
+        yyColumns = new Column[buffer.length() + 1];
+      }
 
-    Column c     = newColumn();
-    c.file       = file;
-    c.seenCR     = false;
-    c.line       = FIRST_LINE;
-    c.column     = FIRST_COLUMN;
+    } else {
+      yyCount     = 0;
+      yyEOF       = false;
+      if (yyAdopted || (null == yyData) || (yyData.length < size + 1)) {
+        yyData    = new char[size + 1];
+      }
+      yyAdopted   = false;
+      yyAvailable = 0;
+      if ((null == yyColumns) || (yyColumns.length < size + 1)) {
+        yyColumns = new Column[size + 1];
+      }
+    }
+  }
+
+  /**
+   * Reset this parser for parsing the specified character stream.
+   * This method is equivalent to creating a new parser with {@link
+   * #ParserBase(Reader,String)}.
+   *
+   * @see #reset(Reader,String,int)
+   *
+   * @param reader The reader for the character stream to be parsed.
+   * @param file The name of the file backing the character stream.
+   * @throws NullPointerException Signals a null file name.
+   */
+  public final void reset(final Reader reader, final String file) {
+    reset(reader, file, INIT_SIZE - 1);
+  }
 
-    yyColumns[0] = c;
+  /**
+   * Reset this parser for parsing the specified character stream.
+   * This method is equivalent to creating a new parser with {@link
+   * #ParserBase(Reader,String,int)}, while retaining the {@link
+   * #setHorizon(int) horizon} and {@link #setStatistics(ParserStatistics)
+   * statistics}.  However, instead of allocating new arrays, it
+   * clears and reuses the existing ones as long as they are large
+   * enough.  Furthermore, for parsers generated by <i>Rats!</i>, it
+   * clears the memoization table's columns and reuses them for the
+   * new input.  Resetting a parser is thus considerably cheaper than
+   * creating a new one when parsing many small inputs.
+   *
+   * <p />This method must not be invoked while this parser is
+   * parsing.  Any global state of a parser generated for a grammar
+   * with the <code>stateful</code> attribute is only reset by the
+   * grammar's <code>resetting</code> productions.
+   *
+   * @param reader The reader for the character stream to be parsed.
+   * @param file The name of the file backing the character stream.
+   * @param size The length of the character stream.
+   * @throws NullPointerException Signals a null file name.
+   * @throws IllegalArgumentException Signals a negative file size.
+   */
+  public final void reset(final Reader reader, final String file,
+                          final int size) {
+    release();
+    init(reader, file, size);
+  }
+
+  /**
+   * Release this parser's input and memoized results.  This method
+   * drops all references to the reader, the input, and the memoized
+   * results, including any semantic values, so that they can be
+   * garbage collected while the parser is idle.  Like {@link
+   * #reset(Reader,String,int)}, it retains the parser's arrays and
+   * cleared columns for reuse.  After invoking this method, this
+   * parser must be reset before parsing again.
+   */
+  public final void release() {
+    // Recycle the columns.
+    final int limit = Math.min(yyCount + 1, yyColumns.length);
+    for (int i=0; i<limit; i++) {
+      if (null != yyColumns[i]) {
+        recycle(yyColumns[i]);
+        yyColumns[i] = null;
+      }
+    }
+    if (null != yyPinned) recycle(yyPinned);
+    yyPinned      = null;
+
+    // Clear the column-major memoization table.
+    clearMemo();
+
+    // Clear the list buffer.
+    if (null != yyBuffer) {
+      for (int i=0; i<yyBuffer.length; i++) {
+        yyBuffer[i] = null;
+      }
+    }
+    yyBufferTop   = 0;
+
+    // Drop the input.
+    yyReader      = null;
+    yyCount       = 0;
+    yyEOF         = false;
+    yyBytes       = null;
+    yyByteCount   = 0;
+    if (yyAdopted) {
+      yyData      = null;
+      yyAdopted   = false;
+    }
+    yyAvailable   = 0;
+  }
+
+  /**
+   * Clear the column-major memoization table.  This method retains
+   * the table's blocks for reuse.
+   */
+  private void clearMemo() {
+    if (null == yyMemo) return;
+
+    for (Result[][] blocks : yyMemo) {
+      if (null == blocks) continue;
+      for (Result[] block : blocks) {
+        if (null == block) continue;
+        for (int i=0; i<MEMO_SIZE; i++) {
+          block[i] = null;
+        }
+      }
+    }
+  }
+
+  /**
+   * Recycle the specified column.  If the column can be {@link
+   * Column#clear() cleared}, this method adds it to the spare
+   * columns.
+   *
+   * @param column The column.
+   */
+  private void recycle(final Column column) {
+    if (! column.clear()) return;
+
+    if (null == yySpares) {
+      yySpares = new Column[INCR_SIZE];
+    } else if (yySpares.length == yySpareCount) {
+      Column[] old = yySpares;
+      yySpares     = new Column[old.length * 2];
+      System.arraycopy(old, 0, yySpares, 0, yySpareCount);
+    }
+    yySpares[yySpareCount++] = column;
   }
 
   // -------------------------------------------------------------------------
@@ -140,47 +485,487 @@ public abstract class ParserBase {
    */
   public final void resetTo(final int index) {
     // Check the specified index.
-    if (0 > index) {
+    final int pos = index - yyOffset;
+
+    if (0 > pos) {
       throw new IndexOutOfBoundsException("Parser index: " + index);
 
-    } else if (0 == index) {
+    } else if ((0 == index) && (0 == yyOffset)) {
       // There's nothing to see here. Move on.
       return;
 
-    } else if (index >= yyCount) {
+    } else if (pos >= yyCount) {
+      throw new IndexOutOfBoundsException("Parser index: " + index);
+    }
+
+    // Make the location at the specified index the location of the
+    // new first index.
+    rebase(index);
+
+    yyScanned -= index;
+    for (int i=0; i<yyLineCount; i++) {
+      yyLines[i] -= index;
+    }
+    for (int i=0; i<yyMarkerCount; i++) {
+      yyMarkers[i].index -= index;
+    }
+
+    // Next, shift any read-in characters.
+    final int length = yyCount - pos;
+
+    if (null == yyBytes) {
+      System.arraycopy(yyData, pos, yyData, 0, yyAvailable - pos);
+      for (int i=yyAvailable - pos; i<yyAvailable; i++) {
+        yyData[i] = 0;
+      }
+      yyAvailable -= pos;
+    } else {
+      System.arraycopy(yyBytes, pos, yyBytes, 0, yyByteCount - pos);
+      yyByteCount -= pos;
+    }
+
+    // Next, clear the rest of the memoization table.
+    for (int i=0; i<yyCount; i++) {
+      yyColumns[i] = null;
+    }
+    yyExtents = null;
+    clearMemo();
+
+    // Finally, fix the counts.
+    yyCount          = length;
+    yyOffset         = 0;
+    yyPinnedIndex    = -1;
+    yyPinned         = null;
+    yyPinnedLocation = null;
+
+    // Done.
+  }
+
+  // -------------------------------------------------------------------------
+
+  /**
+   * Set the horizon for streaming parses.  A streaming parser retains
+   * at least the specified number of characters (and their memoized
+   * results) before the most recently {@link #commit(int,int)
+   * committed} index.
+   *
+   * @param horizon The horizon.
+   * @throws IllegalArgumentException Signals a negative horizon.
+   */
+  public final void setHorizon(final int horizon) {
+    if (0 > horizon) {
+      throw new IllegalArgumentException("Negative horizon: " + horizon);
+    }
+    yyHorizon = horizon;
+  }
+
+  /**
+   * Commit the parse up to the specified index.  This method is
+   * called by streaming parsers, i.e., parsers generated for grammars
+   * with the <code>streaming</code> attribute, at each iteration of
+   * the root production's top-level repetitions.  It discards the
+   * input and all memoized results more than the {@link
+   * #setHorizon(int) horizon} before the specified index, while
+   * leaving all indices unchanged.  Since discarding involves copying
+   * the retained characters and columns, it only happens once the
+   * discardable part of the table is sufficiently large.  The
+   * location of the committing production's start index remains
+   * available even after that index has been discarded.
+   *
+   * @param start The start index of the committing production.
+   * @param index The index.
+   * @throws IndexOutOfBoundsException Signals an invalid index.
+   */
+  protected final void commit(final int start, final int index) {
+    final int pos = index - yyHorizon - yyOffset;
+    if (INCR_SIZE > pos) return;
+
+    if (index - yyOffset > yyCount) {
       throw new IndexOutOfBoundsException("Parser index: " + index);
     }
 
-    // Get the column at the specified index (to make sure we have the
-    // corresponding location information) and construct its
-    // replacement.
-    Column c1 = column(index);
-    Column c2 = newColumn();
+    // Pin the start column, if it is about to be discarded.
+    if ((start < index - yyHorizon) && (start != yyPinnedIndex)) {
+      yyPinned         = column(start);
+      yyPinnedLocation = location(start);
+      yyPinnedIndex    = start;
+    }
+
+    // Make sure the first retained index carries the location.
+    rebase(index - yyHorizon);
+
+    // Shift the retained characters and columns.
+    if (null == yyBytes) {
+      System.arraycopy(yyData, pos, yyData, 0, yyAvailable - pos);
+      yyAvailable -= pos;
+    } else {
+      System.arraycopy(yyBytes, pos, yyBytes, 0, yyByteCount - pos);
+      yyByteCount -= pos;
+    }
+    System.arraycopy(yyColumns, pos, yyColumns, 0, yyCount - pos);
+    for (int i=yyCount - pos; i<yyCount; i++) {
+      yyColumns[i] = null;
+    }
+    if (null != yyExtents) {
+      System.arraycopy(yyExtents, pos, yyExtents, 0, yyCount - pos);
+      for (int i=yyCount - pos; i<yyCount; i++) {
+        yyExtents[i] = 0;
+      }
+    }
+
+    // Fix the counts.
+    yyCount     -= pos;
+    yyOffset    += pos;
+  }
+
+  // -------------------------------------------------------------------------
+
+  /**
+   * Edit the input.  This method replaces the specified number of
+   * characters at the specified index with the specified text.  It
+   * discards all memoized results at or after the index as well as
+   * all memoized results before the index that may depend on the
+   * replaced characters.  Invoking a top-level production again then
+   * reparses the edited input while reusing all remaining results.
+   *
+   * <p />Only parsers generated for grammars with the
+   * <code>incremental</code> attribute {@link #track(int) track} the
+   * input examined by their memoized results; for all other parsers,
+   * this method discards the entire memoization table.  Furthermore,
+   * a parser reading from a pristine {@link InputBuffer} has already
+   * consumed its entire input before the first parse and thus needs
+   * to reparse everything after the first edit.  Finally, the input
+   * must not have been {@link #commit(int,int) committed}.
+   *
+   * @param index The index.
+   * @param length The number of characters to replace.
+   * @param text The replacement text.
+   * @throws IllegalStateException Signals that the input has been
+   *   committed.
+   * @throws IndexOutOfBoundsException Signals an invalid index or
+   *   length.
+   * @throws IOException Signals an I/O error while reading the rest
+   *   of the input.
+   */
+  public final void edit(final int index, final int length, final String text)
+    throws IOException {
+
+    if (0 != yyOffset) {
+      throw new IllegalStateException("Input already committed");
+    } else if ((0 > index) || (0 > length)) {
+      throw new IndexOutOfBoundsException("Parser index: " + index);
+    }
+
+    // Convert any bytes into characters.
+    if (null != yyBytes) {
+      if (yyData.length < yyByteCount + 1) yyData = new char[yyByteCount + 1];
+      for (int i=0; i<yyByteCount; i++) {
+        yyData[i] = (char)(yyBytes[i] & 0xff);
+      }
+      yyAvailable = yyByteCount;
+      yyBytes     = null;
+      yyByteCount = 0;
+    }
+
+    // Read the rest of the input.
+    final InputBuffer rest  = yyEOF? null : InputBuffer.load(yyReader, 0);
+    final int         total = yyAvailable + ((null == rest)? 0 : rest.length());
+
+    if (index + length > total) {
+      throw new IndexOutOfBoundsException("Parser index: " + (index + length));
+    }
+
+    // Collect the characters after the index, which will be read again.
+    final char[] chars = new char[text.length() + total - index - length];
+    int          k     = text.length();
+
+    text.getChars(0, k, chars, 0);
+    if (index + length < yyAvailable) {
+      System.arraycopy(yyData, index + length, chars, k,
+                       yyAvailable - index - length);
+      k += yyAvailable - index - length;
+    }
+    if (null != rest) {
+      final int skip = Math.max(0, index + length - yyAvailable);
+      System.arraycopy(rest.array(), skip, chars, k, rest.length() - skip);
+
+      // Move the unread characters before the index into the input.
+      if (yyAvailable < index) {
+        if (yyData.length <= index) growBy(index + 1 - yyData.length);
+        System.arraycopy(rest.array(), 0, yyData, yyAvailable,
+                         index - yyAvailable);
+      }
+    }
+
+    // Discard the affected columns.
+    for (int i=0; i<yyColumns.length; i++) {
+      if ((index <= i) || (null == yyExtents) || (index < yyExtents[i])) {
+        yyColumns[i] = null;
+        if (null != yyExtents) yyExtents[i] = 0;
+      }
+    }
+    clearMemo();
+
+    // Discard the line start indices and location markers after the
+    // index.
+    if (index < yyScanned) {
+      yyLineCount = lines(index);
+      yyScanned   = index;
+      yySeenCR    = (0 < index) && ('\r' == yyData[index - 1]);
+    }
+    while ((1 < yyMarkerCount) && (index < yyMarkers[yyMarkerCount-1].index)) {
+      yyMarkers[--yyMarkerCount] = null;
+    }
+
+    // Finally, fix the input and counts.
+    yyReader    = new InputBuffer(chars);
+    yyCount     = index;
+    yyAvailable = index;
+    yyEOF       = false;
+
+    // Done.
+  }
+
+  /**
+   * Track the memoized results at the specified index.  Parsers
+   * generated for grammars with the <code>incremental</code>
+   * attribute call this method after memoizing a result.  Since a
+   * result only examines consumed characters and characters are
+   * consumed in order, the number of characters consumed so far
+   * bounds the input examined by all results memoized so far.
+   *
+   * @param index The index.
+   */
+  protected final void track(final int index) {
+    if (null == yyExtents) yyExtents = new int[yyColumns.length];
+    yyExtents[index - yyOffset] = yyOffset + yyCount;
+  }
+
+  // -------------------------------------------------------------------------
+
+  /**
+   * Get the names of this parser's memoized productions.  Parsers
+   * generated by <i>Rats!</i> override this method; the numbers used
+   * for recording {@link ParserStatistics statistics} are the indices
+   * into the returned array.
+   *
+   * @return The production names.
+   */
+  protected String[] productions() {
+    return NO_PRODUCTIONS;
+  }
+
+  /**
+   * Create new statistics for this parser.
+   *
+   * @return The new statistics.
+   */
+  public final ParserStatistics newStatistics() {
+    return new ParserStatistics(getClass().getName(), productions());
+  }
+
+  /**
+   * Set the statistics for this parser.  If the specified statistics
+   * are not <code>null</code>, this parser records calls to its
+   * memoized productions in them.  Otherwise, it does not record any
+   * statistics, which is the default.
+   *
+   * @param statistics The statistics.
+   * @throws IllegalArgumentException Signals that the statistics are
+   *   for a different parser.
+   */
+  public final void setStatistics(final ParserStatistics statistics) {
+    if ((null != statistics) && (! statistics.isFor(productions()))) {
+      throw new IllegalArgumentException("Statistics for different parser");
+    }
+    yyStatistics = statistics;
+  }
+
+  /**
+   * Get the statistics for this parser.
+   *
+   * @return The statistics or <code>null</code> if this parser does
+   *   not record any statistics.
+   */
+  public final ParserStatistics getStatistics() {
+    return yyStatistics;
+  }
+
+  // -------------------------------------------------------------------------
+
+  /**
+   * Set the listener for this parser's events.  Only parsers
+   * generated for grammars with the <code>events</code> attribute
+   * report events; they report the root production's node and each
+   * of its children to the listener instead of returning a tree.
+   *
+   * @param listener The listener or <code>null</code> to discard all
+   *   events.
+   */
+  public final void setListener(final NodeListener listener) {
+    yyListener = listener;
+  }
+
+  /**
+   * Report the start of the specified node.
+   *
+   * @param name The node's name.
+   * @param index The node's start index.
+   */
+  protected final void startNode(final String name, final int index) {
+    if (null != yyListener) yyListener.start(name, location(index));
+  }
+
+  /**
+   * Report the end of the specified node.
+   *
+   * @param name The node's name.
+   */
+  protected final void endNode(final String name) {
+    if (null != yyListener) yyListener.end(name);
+  }
+
+  /**
+   * Report the specified value.  This method reports nodes as their
+   * start events, their children, and their end events.  It reports
+   * lists element by element and ignores <code>null</code> values.
+   *
+   * @param value The value.
+   */
+  protected final void report(final Object value) {
+    if (null != yyListener) report(yyListener, value);
+  }
+
+  /**
+   * Report the specified value to the specified listener.
+   *
+   * @param listener The listener.
+   * @param value The value.
+   */
+  private static void report(final NodeListener listener, final Object value) {
+    if (null == value) {
+      return;
+
+    } else if (value instanceof Pair) {
+      for (Pair<?> p = (Pair<?>)value; ! p.isEmpty(); p = p.tail()) {
+        report(listener, p.head());
+      }
+
+    } else if (value instanceof Node) {
+      final Node node = (Node)value;
+
+      if (node.isAnnotation()) {
+        final Annotation annotation = node.toAnnotation();
+        listener.annotation(annotation);
+        report(listener, annotation.getNode());
+
+      } else if (node.isToken()) {
+        listener.token(node.getTokenText());
+
+      } else {
+        final String name = node.getName();
+        listener.start(name, node.getLocation());
+        if (node.hasTraversal()) {
+          final int size = node.size();
+          for (int i=0; i<size; i++) report(listener, node.get(i));
+        }
+        listener.end(name);
+      }
+
+    } else {
+      listener.token(value.toString());
+    }
+  }
 
-    c2.file   = c1.file;
-    c2.seenCR = c1.seenCR;
-    c2.line   = c1.line;
-    c2.column = c1.column;
+  // -------------------------------------------------------------------------
 
-    yyColumns[0] = c2;
+  /**
+   * Start a buffered repetition.  The values of buffered repetitions
+   * are accumulated in a single array, starting at the index returned
+   * by this method.  A repetition's values are released again when
+   * they are {@link #bufferedNode(String,int,int) added} to a generic
+   * node or when the repetition is {@link #releaseBuffer(int)
+   * released}.
+   *
+   * @return The index of the repetition's first value.
+   */
+  protected final int bufferStart() {
+    return yyBufferTop;
+  }
 
-    // Next, shift any read-in characters.
-    final int length = yyCount - index;
+  /**
+   * Buffer the specified value.
+   *
+   * @param index The index of the value.
+   * @param value The value.
+   * @return The index of the next value.
+   */
+  protected final int buffer(final int index, final Object value) {
+    if (null == yyBuffer) {
+      yyBuffer = new Object[BUFFER_SIZE];
+    } else if (yyBuffer.length == index) {
+      Object[] old = yyBuffer;
+      yyBuffer     = new Object[old.length * 2];
+      System.arraycopy(old, 0, yyBuffer, 0, index);
+    }
+    yyBuffer[index] = value;
+    yyBufferTop     = index + 1;
+    return index + 1;
+  }
 
-    System.arraycopy(yyData, index, yyData, 0, length);
+  /**
+   * Release the buffered values starting at the specified index.
+   *
+   * @param index The index.
+   */
+  protected final void releaseBuffer(final int index) {
+    yyBufferTop = index;
+  }
 
-    // Next, clear the rest of the memoization table.
-    for (int i=length; i<yyCount; i++) {
-      yyData[i] = 0;
-    }
-    for (int i=1; i<yyCount; i++) {
-      yyColumns[i] = null;
-    }
+  /**
+   * Create a new generic node with the specified buffered values as
+   * its children.  This method also releases the values.
+   *
+   * @param name The name.
+   * @param start The index of the first value.
+   * @param end The index after the last value.
+   * @return The generic node.
+   */
+  protected final GNode bufferedNode(final String name, final int start,
+                                     final int end) {
+    if (start < yyBufferTop) yyBufferTop = start;
+    return GNode.createFromArray(name, yyBuffer, start, end);
+  }
 
-    // Finally, fix the count.
-    yyCount = length;
+  /**
+   * Create a new generic node with the specified first child and the
+   * specified buffered values as the remaining children.  This method
+   * also releases the values.
+   *
+   * @param name The name.
+   * @param first The first child.
+   * @param start The index of the first value.
+   * @param end The index after the last value.
+   * @return The generic node.
+   */
+  protected final GNode bufferedNode(final String name, final Object first,
+                                     final int start, final int end) {
+    if (start < yyBufferTop) yyBufferTop = start;
+    return GNode.createFromArray(name, first, yyBuffer, start, end);
+  }
 
-    // Done.
+  /**
+   * Add the specified buffered values to the specified node.  This
+   * method also releases the values.
+   *
+   * @param node The node.
+   * @param start The index of the first value.
+   * @param end The index after the last value.
+   */
+  protected final void addBuffered(final Node node, final int start,
+                                   final int end) {
+    if (start < yyBufferTop) yyBufferTop = start;
+    for (int i=start; i<end; i++) node.add(yyBuffer[i]);
   }
 
   // -------------------------------------------------------------------------
@@ -198,6 +983,12 @@ public abstract class ParserBase {
     Column[] oldColumns = yyColumns;
     yyColumns           = new Column[oldColumns.length + incr];
     System.arraycopy(oldColumns, 0, yyColumns, 0, oldColumns.length);
+
+    if (null != yyExtents) {
+      int[] oldExtents  = yyExtents;
+      yyExtents         = new int[oldExtents.length + incr];
+      System.arraycopy(oldExtents, 0, yyExtents, 0, oldExtents.length);
+    }
   }
 
   // -------------------------------------------------------------------------
@@ -220,62 +1011,94 @@ public abstract class ParserBase {
    * @throws IndexOutOfBoundsException Signals an invalid index.
    */
   protected final Column column(final int index) {
+    final int pos = index - yyOffset;
+
+    // A discarded column is only available if it has been pinned.
+    if (0 > pos) {
+      if (index == yyPinnedIndex) return yyPinned;
+      throw new IndexOutOfBoundsException("Parser index: " + index);
+    }
+
     // A memoized production may try to access the entry just past the
     // current end of the table before the corresponding character has
     // been read.  Hence, we may need to grow the table.
-    if (yyColumns.length == index) growBy(INCR_SIZE);
+    if (yyColumns.length == pos) growBy(INCR_SIZE);
 
     // Note that the array access below will generate an index out of
     // bounds exception for invalid indices.
-    Column c = yyColumns[index];
-    if (null != c) return c;
-
-    // Find the last non-null column.
-    Column last = null;
-    int    start;
-    for (start=index; start>=0; start--) {
-      last = yyColumns[start];
-      if (null != last) break;
+    Column c = yyColumns[pos];
+    if (null == c) {
+      c              = (0 == yySpareCount)? newColumn() :
+        yySpares[--yySpareCount];
+      yyColumns[pos] = c;
     }
 
-    // Now, carry the location information forward.
-    int     line   = last.line;
-    int     column = last.column;
-    boolean seenCR = last.seenCR;
+    return c;
+  }
 
-    for (int i=start; i<index; i++) {
-      switch (yyData[i]) {
-      case '\t':
-        column = ((column >> 3) + 1) << 3;
-        seenCR = false;
-        break;
-      case '\n':
-        if (! seenCR) {
-          line++;
-          column = FIRST_COLUMN;
-        }
-        seenCR = false;
-        break;
-      case '\r':
-        line++;
-        column = FIRST_COLUMN;
-        seenCR = true;
-        break;
-      default:
-        column++;
-        seenCR = false;
-      }
+  /**
+   * Get the result memoized for the specified production at the
+   * specified index.  Parsers generated for grammars with the
+   * <code>columnMajor</code> attribute use this method and {@link
+   * #memoize(int,int,Result)} instead of memoization table columns.
+   *
+   * @param production The production's number.
+   * @param index The index.
+   * @return The memoized result or <code>null</code> if no result
+   *   has been memoized.
+   */
+  protected final Result memoized(final int production, final int index) {
+    final Result[][][] memo = yyMemo;
+    if ((null == memo) || (memo.length <= production)) return null;
+
+    final Result[][] blocks = memo[production];
+    final int        number = index >>> MEMO_SHIFT;
+    if ((null == blocks) || (blocks.length <= number)) return null;
+
+    final Result[] block = blocks[number];
+    return (null == block)? null : block[index & MEMO_MASK];
+  }
+
+  /**
+   * Memoize the specified result for the specified production at the
+   * specified index.  This method lazily allocates the blocks of the
+   * column-major memoization table.
+   *
+   * @see #memoized(int,int)
+   *
+   * @param production The production's number.
+   * @param index The index.
+   * @param result The result.
+   */
+  protected final void memoize(final int production, final int index,
+                               final Result result) {
+    if (null == yyMemo) {
+      yyMemo = new Result[production + 1][][];
+    } else if (yyMemo.length <= production) {
+      Result[][][] old = yyMemo;
+      yyMemo           = new Result[production + 1][][];
+      System.arraycopy(old, 0, yyMemo, 0, old.length);
     }
 
-    // Create the new column.
-    c                = newColumn();
-    c.file           = last.file;
-    c.seenCR         = seenCR;
-    c.line           = line;
-    c.column         = column;
-    yyColumns[index] = c;
+    final int  number = index >>> MEMO_SHIFT;
+    Result[][] blocks = yyMemo[production];
+    if (null == blocks) {
+      blocks              = new Result[(yyCount >>> MEMO_SHIFT) + 1][];
+      yyMemo[production]  = blocks;
+    }
+    if (blocks.length <= number) {
+      Result[][] old      = blocks;
+      blocks              = new Result[Math.max(number + 1, old.length * 2)][];
+      System.arraycopy(old, 0, blocks, 0, old.length);
+      yyMemo[production]  = blocks;
+    }
 
-    return c;
+    Result[] block = blocks[number];
+    if (null == block) {
+      block          = new Result[MEMO_SIZE];
+      blocks[number] = block;
+    }
+    block[index & MEMO_MASK] = result;
   }
 
   // -------------------------------------------------------------------------
@@ -290,21 +1113,23 @@ public abstract class ParserBase {
    *   stream.
    */
   protected final int character(final int index) throws IOException {
+    // Have we already read the desired character?
+    final int pos = index - yyOffset;
+    if (pos < yyAvailable) return yyData[pos];
+
     // Have we seen the end-of-file?
     if (yyEOF) {
-      if (index < yyCount - 1) {
-        return yyData[index];
-      } else if (index < yyCount) {
+      if (pos < yyByteCount) {
+        return yyBytes[pos] & 0xff;
+      } else if (pos < yyCount) {
         return -1;
       } else {
         throw new IndexOutOfBoundsException("Parser index: " + index);
       }
     }
 
-    // Have we already read the desired character?
-    if (index < yyCount) {
-      return yyData[index];
-    } else if (index != yyCount) {
+    // Are we reading the next character?
+    if (pos != yyCount) {
       throw new IndexOutOfBoundsException("Parser index: " + index);
     }
 
@@ -323,7 +1148,8 @@ public abstract class ParserBase {
 
     } else {
       // Remember the character.
-      yyData[index] = (char)c;
+      yyData[pos] = (char)c;
+      yyAvailable++;
     }
     yyCount++;
 
@@ -331,6 +1157,127 @@ public abstract class ParserBase {
     return c;
   }
 
+  /**
+   * Parse a character at the specified index of byte input.  Parsers
+   * generated for grammars with the <code>byteInput</code> attribute
+   * use this method instead of {@link #character(int)}.  It directly
+   * reads the {@link ByteInput bytes} taken over by this parser and
+   * falls back on {@link #character(int)} for all other input.
+   *
+   * @param index The index.
+   * @return The character or -1 if the end-of-file has been reached.
+   * @throws IOException
+   *   Signals an exceptional condition while accessing the character
+   *   stream.
+   */
+  protected final int octet(final int index) throws IOException {
+    final int pos = index - yyOffset;
+    if (pos < yyByteCount) return yyBytes[pos] & 0xff;
+    return character(index);
+  }
+
+  /**
+   * Scan the run of characters starting at the specified index.  This
+   * method consumes all characters that are members of the character
+   * class described by the specified bit maps and flag.  Bit
+   * <i>c</i> of <code>low</code> is set if character <i>c</i> between
+   * 0 and 63 is a member, bit <i>c</i>-64 of <code>high</code> is set
+   * if character <i>c</i> between 64 and 127 is a member, and
+   * <code>other</code> indicates whether all non-ASCII characters are
+   * members.  Parsers use this method for repetitions of a single
+   * character class, such as the bodies of comments and identifiers.
+   * It directly scans the characters already held by this parser and
+   * only falls back on {@link #character(int)} at their end.
+   *
+   * @param index The index.
+   * @param low The bit map for characters 0 to 63.
+   * @param high The bit map for characters 64 to 127.
+   * @param other The flag for whether non-ASCII characters are members.
+   * @return The index of the first character that is not a member.
+   * @throws IOException
+   *   Signals an exceptional condition while accessing the character
+   *   stream.
+   */
+  protected final int scan(final int index, final long low, final long high,
+                           final boolean other) throws IOException {
+    int pos = index - yyOffset;
+
+    // Scan the characters already held by this parser.
+    if (null == yyBytes) {
+      final char[] data  = yyData;
+      final int    limit = yyAvailable;
+      while ((pos < limit) && isMember(data[pos], low, high, other)) pos++;
+      if (pos < limit) return pos + yyOffset;
+    } else {
+      final byte[] data  = yyBytes;
+      final int    limit = yyByteCount;
+      while ((pos < limit) && isMember(data[pos] & 0xff, low, high, other)) {
+        pos++;
+      }
+      if (pos < limit) return pos + yyOffset;
+    }
+
+    // Read the remaining characters one by one.
+    int idx = pos + yyOffset;
+    while (true) {
+      final int c = character(idx);
+      if ((-1 == c) || (! isMember(c, low, high, other))) return idx;
+      idx++;
+    }
+  }
+
+  /**
+   * Create a two-level table for the specified character class.
+   * The table is indexed by a character's upper eight bits, which
+   * select a bit map of four longs indexed by its lower eight bits.
+   * Parsers use such tables for testing large character classes.
+   *
+   * @param ranges The first and last characters of the class' ranges.
+   * @return The table.
+   */
+  protected static final long[][] charTable(final String ranges) {
+    final long[]   empty = new long[4];
+    final long[][] table = new long[256][];
+    for (int i=0; i<table.length; i++) {
+      table[i] = empty;
+    }
+
+    for (int i=0; i<ranges.length(); i+=2) {
+      for (int c=ranges.charAt(i); c<=ranges.charAt(i+1); c++) {
+        if (empty == table[c >> 8]) {
+          table[c >> 8] = new long[4];
+        }
+        table[c >> 8][(c >> 6) & 3] |= 1L << c;
+      }
+    }
+
+    return table;
+  }
+
+  /**
+   * Determine whether the specified character is a member of the
+   * character class described by the specified bit maps and flag.
+   *
+   * @see #scan(int,long,long,boolean)
+   *
+   * @param c The character.
+   * @param low The bit map for characters 0 to 63.
+   * @param high The bit map for characters 64 to 127.
+   * @param other The flag for whether non-ASCII characters are members.
+   * @return <code>true</code> if the character is a member.
+   */
+  private static boolean isMember(final int c, final long low,
+                                  final long high, final boolean other) {
+    // Java only uses the lower six bits of a long's shift distance.
+    if (64 > c) {
+      return 0 != ((low >>> c) & 1);
+    } else if (128 > c) {
+      return 0 != ((high >>> c) & 1);
+    } else {
+      return other;
+    }
+  }
+
   /**
    * Get the difference between the specified indices.
    *
@@ -339,7 +1286,24 @@ public abstract class ParserBase {
    * @return The difference as a string.
    */
   protected final String difference(final int start, final int end) {
-    return (start==end)? "" : new String(yyData, start, end-start);
+    if (start == end) {
+      return "";
+    } else if (null == yyBytes) {
+      return new String(yyData, start - yyOffset, end - start);
+    } else {
+      return new String(yyBytes, start - yyOffset, end - start,
+                        ByteInput.LATIN1);
+    }
+  }
+
+  /**
+   * Get the character at the specified position.
+   *
+   * @param pos The position, relative to {@link #yyOffset}.
+   * @return The character.
+   */
+  private char at(final int pos) {
+    return (null == yyBytes)? yyData[pos] : (char)(yyBytes[pos] & 0xff);
   }
 
   /**
@@ -349,7 +1313,7 @@ public abstract class ParserBase {
    * @return <code>true</code> if the specified index represents EOF.
    */
   public final boolean isEOF(final int index) {
-    return yyEOF && (index == yyCount - 1);
+    return yyEOF && (index - yyOffset == yyCount - 1);
   }
 
   /**
@@ -367,7 +1331,7 @@ public abstract class ParserBase {
     }
 
     // Normalize index for line terminating positions.
-    if ((0 < index) &&
+    if ((yyOffset < index) &&
         ('\n' == character(index)) &&
         ('\r' == character(index - 1))) {
       index--;
@@ -384,9 +1348,9 @@ public abstract class ParserBase {
       c = character(end);
     }
 
-    // Find the start of the line.
+    // Find the start of the line, stopping at any discarded input.
     while (true) {
-      if (0 == start) {
+      if (yyOffset == start) {
         break;
       }
       c = character(start - 1);
@@ -402,16 +1366,230 @@ public abstract class ParserBase {
 
   // -------------------------------------------------------------------------
   
+  /**
+   * Scan the consumed characters for line terminators.  This method
+   * records the start indices of all lines beginning at or before
+   * the specified index.
+   *
+   * @param index The index.
+   */
+  private void scan(final int index) {
+    // Note that at most one of the two counts is non-zero.
+    final int limit = Math.min(index, yyOffset + yyAvailable + yyByteCount);
+
+    for (int i=yyScanned; i<limit; i++) {
+      switch (at(i - yyOffset)) {
+      case '\r':
+        addLine(i + 1);
+        yySeenCR = true;
+        break;
+      case '\n':
+        if (! yySeenCR) addLine(i + 1);
+        yySeenCR = false;
+        break;
+      default:
+        yySeenCR = false;
+      }
+    }
+
+    if (yyScanned < limit) yyScanned = limit;
+  }
+
+  /**
+   * Add the specified line start index to the line start table.
+   *
+   * @param index The index.
+   */
+  private void addLine(final int index) {
+    if (yyLines.length == yyLineCount) {
+      int[] old = yyLines;
+      yyLines   = new int[old.length * 2];
+      System.arraycopy(old, 0, yyLines, 0, yyLineCount);
+    }
+    yyLines[yyLineCount++] = index;
+  }
+
+  /**
+   * Get the number of lines starting at or before the specified
+   * index.  The index must have been {@link #scan(int) scanned}.
+   *
+   * @param index The index.
+   * @return The number of line start indices not exceeding the index.
+   */
+  private int lines(final int index) {
+    int lo = 0;
+    int hi = yyLineCount;
+
+    while (lo < hi) {
+      final int mid = (lo + hi) >>> 1;
+
+      if (yyLines[mid] <= index) {
+        lo = mid + 1;
+      } else {
+        hi = mid;
+      }
+    }
+
+    return lo;
+  }
+
+  /**
+   * Get the location marker for the specified index.
+   *
+   * @param index The index.
+   * @return The last marker at or before the index.
+   */
+  private Marker marker(final int index) {
+    for (int i=yyMarkerCount-1; i>0; i--) {
+      if (yyMarkers[i].index <= index) return yyMarkers[i];
+    }
+    return yyMarkers[0];
+  }
+
+  /**
+   * Advance the specified column across the specified characters.
+   * The characters must all be on the same line.
+   *
+   * @param column The column.
+   * @param start The index of the first character.
+   * @param end The index after the last character.
+   * @return The advanced column.
+   */
+  private int advance(int column, final int start, final int end) {
+    for (int i=start; i<end; i++) {
+      switch (at(i - yyOffset)) {
+      case '\t':
+        column = ((column >> 3) + 1) << 3;
+        break;
+      case '\n':
+      case '\r':
+        // A newline on the same line must directly follow a carriage
+        // return and thus does not take up a column.
+        break;
+      default:
+        column++;
+      }
+    }
+    return column;
+  }
+
+  /**
+   * Rebase the location information on the specified index.  This
+   * method replaces all line start indices and location markers up to
+   * and including the specified index with a single marker for that
+   * index.
+   *
+   * @param index The index.
+   */
+  private void rebase(final int index) {
+    final Location loc = location(index);
+    final int      n   = lines(index);
+
+    // Drop the line start indices.
+    System.arraycopy(yyLines, n, yyLines, 0, yyLineCount - n);
+    yyLineCount -= n;
+
+    // Replace the location markers.
+    int k = 1;
+    while ((k < yyMarkerCount) && (yyMarkers[k].index <= index)) k++;
+
+    System.arraycopy(yyMarkers, k, yyMarkers, 1, yyMarkerCount - k);
+    for (int i=yyMarkerCount - k + 1; i<yyMarkerCount; i++) {
+      yyMarkers[i] = null;
+    }
+    yyMarkerCount -= k - 1;
+
+    yyMarkers[0] = new Marker(index, 0, loc.file, loc.line, loc.column);
+    for (int i=1; i<yyMarkerCount; i++) {
+      yyMarkers[i].lines -= n;
+    }
+  }
+
+  /**
+   * Get the file name for the specified index.
+   *
+   * @param index The index.
+   * @return The corresponding file name.
+   * @throws IndexOutOfBoundsException Signals an invalid index.
+   */
+  public final String fileAt(final int index) {
+    if (index < yyOffset) {
+      if (index == yyPinnedIndex) {
+        return yyPinnedLocation.file;
+      }
+      throw new IndexOutOfBoundsException("Parser index: " + index);
+    }
+
+    return marker(index).file;
+  }
+
   /**
    * Get the location for the specified index.
    *
+   * @see #packedLocation(int)
+   *
    * @param index The index.
    * @return The corresponding location.
+   * @throws IndexOutOfBoundsException Signals an invalid index.
    */
   public final Location location(final int index) {
-    final Column c = column(index);
+    final long packed = packedLocation(index);
+
+    if (Location.OVERFLOW != packed) {
+      return Location.unpack(packed);
+    } else if (index < yyOffset) {
+      return yyPinnedLocation;
+    }
+
+    // The location does not fit the packed representation.
+    final Marker m = marker(index);
+    final int    n = lines(index);
+
+    if (n == m.lines) {
+      return new Location(m.file, m.line, advance(m.column, m.index, index));
+    } else {
+      return new Location(m.file, m.line + n - m.lines,
+                          advance(FIRST_COLUMN, yyLines[n-1], index));
+    }
+  }
+
+  /**
+   * Get the packed location for the specified index.  This method
+   * looks up the index's line in a table of line start indices, which
+   * is incrementally built from the consumed characters, and then
+   * computes the column from the start of that line.
+   *
+   * @see Location#pack(Location)
+   *
+   * @param index The index.
+   * @return The corresponding packed location or {@link
+   *   Location#OVERFLOW} if the location does not fit.
+   * @throws IndexOutOfBoundsException Signals an invalid index.
+   */
+  public final long packedLocation(final int index) {
+    final int pos = index - yyOffset;
+
+    // A discarded index only has a location if it has been pinned.
+    if (0 > pos) {
+      if (index == yyPinnedIndex) return Location.pack(yyPinnedLocation);
+      throw new IndexOutOfBoundsException("Parser index: " + index);
+    } else if (pos > yyCount) {
+      throw new IndexOutOfBoundsException("Parser index: " + index);
+    }
+
+    scan(index);
 
-    return new Location(c.file, c.line, c.column);
+    final Marker m = marker(index);
+    final int    n = lines(index);
+
+    if (n == m.lines) {
+      // The index is on the marker's line.
+      return Location.pack(m.fileId, m.line,
+                           advance(m.column, m.index, index));
+    } else {
+      return Location.pack(m.fileId, m.line + n - m.lines,
+                           advance(FIRST_COLUMN, yyLines[n-1], index));
+    }
   }
 
   /**
@@ -452,38 +1630,49 @@ public abstract class ParserBase {
     }
 
     // Make sure the index is valid.
-    if (index < 0 || yyCount <= index) {
+    final int pos = index - yyOffset;
+    if (pos < 0 || yyCount <= pos) {
       throw new IndexOutOfBoundsException("Parser index: " + index);
     }
 
     // Detect repeated calls for the same location.
-    Column c = yyColumns[index];
-    if (null != c) {
-      if (file.equals(c.file) && line == c.line && column == c.column) {
-        // We ignore repeated calls for the same index and location.
-        return;
-      } else if (0 != index) {
-        // The first column always exists, so we can't signal for a 0 index.
-        throw new IllegalStateException("Location at index " + index +
-                                        " is already committed");
-      }
+    final Location loc = location(index);
+    if (file.equals(loc.file) && line == loc.line && column == loc.column) {
+      // We ignore repeated calls for the same index and location.
+      return;
+    } else if ((0 != pos) && (null != yyColumns[pos])) {
+      // We can't signal for a 0 index, since the first column usually
+      // exists.
+      throw new IllegalStateException("Location at index " + index +
+                                      " is already committed");
     }
 
     // Check that no further columns have been allocated.
-    for (int i=index+1; i<yyCount; i++) {
+    for (int i=pos+1; i<yyCount; i++) {
       if (null != yyColumns[i]) {
         throw new IllegalStateException("Location at index " + index +
                                         " is already committed");
       }
     }
 
-    // Actually update the internal location.  Note that we call
-    // column() instead of allocating the column directly to correctly
-    // carry forward the seenCR flag.
-    c        = column(index);
-    c.file   = file;
-    c.line   = line;
-    c.column = column;
+    // Actually update the internal location by replacing any markers
+    // at or after the index.
+    final Marker m = new Marker(index, lines(index), file, line, column);
+
+    while ((1 < yyMarkerCount) && (yyMarkers[yyMarkerCount-1].index >= index)) {
+      yyMarkers[--yyMarkerCount] = null;
+    }
+
+    if (yyMarkers[0].index == index) {
+      yyMarkers[0] = m;
+    } else {
+      if (yyMarkers.length == yyMarkerCount) {
+        Marker[] old = yyMarkers;
+        yyMarkers    = new Marker[old.length * 2];
+        System.arraycopy(old, 0, yyMarkers, 0, yyMarkerCount);
+      }
+      yyMarkers[yyMarkerCount++] = m;
+    }
   }
   
   /**
@@ -493,14 +1682,40 @@ public abstract class ParserBase {
    *     locatable.setLocation(location(index));
    *   }
    * </pre>
+   * However, it sets the {@link Node#setPackedLocation(long) packed
+   * location} of nodes.
    *
    * @param locatable The locatable object.
    * @param index The index.
    */
   public final void setLocation(final Locatable locatable, final int index) {
     if ((null != locatable) && (! locatable.hasLocation())) {
-      Column c = column(index);
-      locatable.setLocation(new Location(c.file, c.line, c.column));
+      if (locatable instanceof Node) {
+        locate((Node)locatable, index);
+      } else {
+        locatable.setLocation(location(index));
+      }
+    }
+  }
+
+  /**
+   * Set the location of the specified node.  This method is
+   * equivalent to:<pre>
+   *   node.setLocation(location(index));
+   * </pre>
+   * However, it sets the node's {@link Node#setPackedLocation(long)
+   * packed location}, unless the location does not fit.
+   *
+   * @param node The node.
+   * @param index The index.
+   */
+  public final void locate(final Node node, final int index) {
+    final long packed = packedLocation(index);
+
+    if (Location.OVERFLOW == packed) {
+      node.setLocation(location(index));
+    } else {
+      node.setPackedLocation(packed);
     }
   }
 
@@ -571,14 +1786,14 @@ public abstract class ParserBase {
     final StringBuilder buf = new StringBuilder();
 
     // The error's location.
-    Column c = null;
+    Location loc = null;
     if (-1 != error.index) {
-      c = column(error.index);
-      buf.append(c.file);
+      loc = location(error.index);
+      buf.append(loc.file);
       buf.append(':');
-      buf.append(c.line);
+      buf.append(loc.line);
       buf.append(':');
-      buf.append(c.column);
+      buf.append(loc.column);
       buf.append(": ");
     }
 
@@ -594,7 +1809,7 @@ public abstract class ParserBase {
       buf.append(NEWLINE);
       for (int i=0; i<size; i++) buf.append(line.charAt(i));
       buf.append(NEWLINE);
-      for (int i=FIRST_COLUMN; i<c.column; i++) buf.append(' ');
+      for (int i=FIRST_COLUMN; i<loc.column; i++) buf.append(' ');
       buf.append('^');
       buf.append(NEWLINE);
     }
@@ -644,10 +1859,11 @@ public abstract class ParserBase {
    * @return The next few characters.
    */
   protected final String peek(final int index) {
-    int limit = yyEOF? yyCount - 1 : yyCount;
-    if (index >= limit) return "";
-    limit     = Math.min(index + 20, limit);
-    return new String(yyData, index, limit-index);
+    final int pos   = index - yyOffset;
+    int       limit = yyEOF? yyCount - 1 : yyCount;
+    if (pos >= limit) return "";
+    limit           = Math.min(pos + 20, limit);
+    return difference(index, yyOffset + limit);
   }
   
   // -------------------------------------------------------------------------
@@ -677,4 +1893,47 @@ public abstract class ParserBase {
     return (Pair<T>)p;
   }
 
+  // -------------------------------------------------------------------------
+
+  /** A location marker. */
+  private static final class Marker {
+
+    /** The index. */
+    int          index;
+
+    /** The number of line start indices not exceeding the index. */
+    int          lines;
+
+    /** The file name. */
+    final String file;
+
+    /** The file name's identifier. */
+    final int    fileId;
+
+    /** The line. */
+    final int    line;
+
+    /** The column. */
+    final int    column;
+
+    /**
+     * Create a new location marker.
+     *
+     * @param index The index.
+     * @param lines The number of line start indices.
+     * @param file The file name.
+     * @param line The line.
+     * @param column The column.
+     */
+    Marker(int index, int lines, String file, int line, int column) {
+      this.index  = index;
+      this.lines  = lines;
+      this.file   = file;
+      this.fileId = Location.fileId(file);
+      this.line   = line;
+      this.column = column;
+    }
+
+  }
+
 }
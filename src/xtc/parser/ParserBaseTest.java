@@ -0,0 +1,290 @@
+/*
+ * xtc - The eXTensible Compiler
+ * Copyright (C) 2026 Robert Grimm
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * version 2 as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301,
+ * USA.
+ */
+package xtc.parser;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Unit tests for the parser base.  The tests use a hand-written
+ * parser for semicolon-terminated words, which memoizes its word
+ * production in either the memoization table's columns or the
+ * column-major memoization table.
+ *
+ * @author Robert Grimm
+ * @version $Revision: 1.3 $
+ */
+public class ParserBaseTest extends junit.framework.TestCase {
+
+  /** A memoization table column for the word parser. */
+  static final class WordColumn extends Column {
+
+    /** The word result. */
+    Result word;
+
+    protected boolean clear() {
+      word = null;
+      return true;
+    }
+
+  }
+
+  /** The word parser. */
+  static final class WordParser extends ParserBase {
+
+    /** The flag for using the column-major memoization table. */
+    private final boolean columnMajor;
+
+    /**
+     * Create a new word parser.
+     *
+     * @param reader The reader.
+     * @param columnMajor The flag for column-major memoization.
+     */
+    WordParser(final Reader reader, final boolean columnMajor) {
+      super(reader, "test", 1);
+      this.columnMajor = columnMajor;
+    }
+
+    protected Column newColumn() {
+      return new WordColumn();
+    }
+
+    /**
+     * Parse all words up to the end-of-file.
+     *
+     * @param yyStart The index.
+     * @return The result, with the words as a list.
+     */
+    Result pWords(final int yyStart) throws IOException {
+      final List<String> words = new ArrayList<String>();
+      int                index = yyStart;
+
+      while (true) {
+        index = pSpacing(index);
+        if (-1 == character(index)) return new SemanticValue(words, index);
+
+        final Result r = pWord(index);
+        if (! r.hasValue()) return r;
+        words.add(r.<String>semanticValue());
+
+        index = pSpacing(r.index);
+        if (';' != character(index)) {
+          return new ParseError("';' expected", index);
+        }
+        index++;
+      }
+    }
+
+    /**
+     * Parse a single word followed by a semicolon and any spaces.
+     *
+     * @param yyStart The index.
+     * @return The result, with the word as its value.
+     */
+    Result pItem(final int yyStart) throws IOException {
+      final Result r = pWord(pSpacing(yyStart));
+      if (! r.hasValue()) return r;
+
+      final int index = pSpacing(r.index);
+      if (';' != character(index)) {
+        return new ParseError("';' expected", index);
+      }
+      return new SemanticValue(r.semanticValue(), pSpacing(index + 1));
+    }
+
+    /**
+     * Parse a word.
+     *
+     * @param yyStart The index.
+     * @return The result.
+     */
+    Result pWord(final int yyStart) throws IOException {
+      if (columnMajor) {
+        Result r = memoized(0, yyStart);
+        if (null == r) {
+          r = pWord$1(yyStart);
+          memoize(0, yyStart, r);
+        }
+        return r;
+      }
+
+      final WordColumn column = (WordColumn)column(yyStart);
+      if (null == column.word) {
+        column.word = pWord$1(yyStart);
+        track(yyStart);
+      }
+      return column.word;
+    }
+
+    /**
+     * Actually parse a word.
+     *
+     * @param yyStart The index.
+     * @return The result.
+     */
+    private Result pWord$1(final int yyStart) throws IOException {
+      int index = yyStart;
+      int c     = character(index);
+      while (('a' <= c) && (c <= 'z')) c = character(++index);
+
+      return (yyStart == index) ? new ParseError("word expected", yyStart) :
+        new SemanticValue(difference(yyStart, index), index);
+    }
+
+    /**
+     * Parse any spaces.
+     *
+     * @param yyStart The index.
+     * @return The index after the spaces.
+     */
+    private int pSpacing(final int yyStart) throws IOException {
+      int index = yyStart;
+      while (' ' == character(index)) index++;
+      return index;
+    }
+
+  }
+
+  // -------------------------------------------------------------------------
+
+  /** Create a new test class. */
+  public ParserBaseTest() { /* Nothing to do. */ }
+
+  /**
+   * Describe the specified result.
+   *
+   * @param r The result.
+   * @return The description.
+   */
+  static String describe(final Result r) {
+    return r.hasValue() ? r.semanticValue() + "@" + r.index :
+      ((ParseError)r).msg + "@" + r.index;
+  }
+
+  /**
+   * Parse the specified input with a new word parser.
+   *
+   * @param input The input.
+   * @return The description of the result.
+   */
+  static String parse(final String input) throws IOException {
+    return describe(new WordParser(new StringReader(input), false).pWords(0));
+  }
+
+  /**
+   * Test {@link ParserBase#resetTo(int)} for a parser using the
+   * column-major memoization table.
+   */
+  public void testResetToColumnMajor() throws IOException {
+    final WordParser parser =
+      new WordParser(new StringReader("aa;b; ccc;d;"), true);
+    final List<String> words = new ArrayList<String>();
+
+    for (int i=0; i<4; i++) {
+      final Result r = parser.pItem(0);
+      assertTrue(describe(r), r.hasValue());
+      words.add(r.<String>semanticValue());
+      parser.resetTo(r.index);
+    }
+    assertEquals("[aa, b, ccc, d]", words.toString());
+  }
+
+  /**
+   * Test {@link ParserBase#reset(Reader,String,int)} for a parser
+   * using the column-major memoization table.
+   */
+  public void testResetColumnMajor() throws IOException {
+    final WordParser parser = new WordParser(new StringReader("aa;b;"), true);
+    assertEquals("[aa, b]@5", describe(parser.pWords(0)));
+    parser.reset(new StringReader("b;aa;"), "test", 1);
+    assertEquals("[b, aa]@5", describe(parser.pWords(0)));
+  }
+
+  /**
+   * Test that {@link ParserBase#release()} drops the memoized results
+   * and that a released parser can be reset.
+   */
+  public void testRelease() throws IOException {
+    final WordParser parser = new WordParser(new StringReader("aa;b;"), false);
+    assertEquals("[aa, b]@5", describe(parser.pWords(0)));
+    final WordColumn column = (WordColumn)parser.column(0);
+    assertNotNull(column.word);
+    parser.release();
+    assertNull(column.word);
+    parser.reset(new StringReader("b;aa;"), "test", 1);
+    assertEquals("[b, aa]@5", describe(parser.pWords(0)));
+  }
+
+  /**
+   * Test {@link ParserBase#edit(int,int,String)} beyond the input
+   * consumed by a failed parse.
+   */
+  public void testEditBeyondConsumed() throws IOException {
+    final String     input  = "aa b; cc; dd;";
+    final WordParser parser = new WordParser(new StringReader(input), false);
+
+    assertEquals("';' expected@3", describe(parser.pWords(0)));
+    parser.edit(12, 0, "x");
+    parser.edit(2, 1, ";");
+    assertEquals(parse("aa;b; cc; ddx;"), describe(parser.pWords(0)));
+  }
+
+  /**
+   * Test that random edits followed by a reparse produce the same
+   * results as parsing the edited input from scratch.
+   */
+  public void testRandomEdits() throws IOException {
+    final Random random = new Random(42);
+    final String pieces = "abz ;;  ";
+
+    for (int round=0; round<200; round++) {
+      final StringBuilder input = new StringBuilder();
+      final int           size  = random.nextInt(40);
+      for (int i=0; i<size; i++) {
+        input.append(pieces.charAt(random.nextInt(pieces.length())));
+      }
+
+      final WordParser parser =
+        new WordParser(new StringReader(input.toString()), false);
+      assertEquals(parse(input.toString()), describe(parser.pWords(0)));
+
+      for (int edit=0; edit<10; edit++) {
+        final int index  = random.nextInt(input.length() + 1);
+        final int length = random.nextInt(input.length() - index + 1);
+        final StringBuilder text = new StringBuilder();
+        final int           n    = random.nextInt(4);
+        for (int i=0; i<n; i++) {
+          text.append(pieces.charAt(random.nextInt(pieces.length())));
+        }
+
+        parser.edit(index, length, text.toString());
+        input.replace(index, index + length, text.toString());
+        assertEquals(input.toString(), parse(input.toString()),
+                     describe(parser.pWords(0)));
+      }
+    }
+  }
+
+}
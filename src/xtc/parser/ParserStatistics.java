@@ -0,0 +1,278 @@
+/*
+ * xtc - The eXTensible Compiler
+ * Copyright (C) 2026 Robert Grimm
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * version 2.1 as published by the Free Software Foundation.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301,
+ * USA.
+ */
+package xtc.parser;
+
+import java.lang.management.ManagementFactory;
+
+import java.util.Arrays;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Runtime statistics for a parser's memoized productions.  For each
+ * memoized production, a statistics object counts the number of
+ * calls, the number of memoization table hits and misses, and the
+ * number of failed calls.  Parsers generated by <i>Rats!</i> always
+ * include the code for recording these counts; recording is enabled
+ * by {@link ParserBase#setStatistics(ParserStatistics) setting} a
+ * statistics object, which can be created through {@link
+ * ParserBase#newStatistics()}.
+ *
+ * <p />A statistics object may be shared between several parsers of
+ * the same class to aggregate counts across several inputs.  However,
+ * it is not synchronized.  Parsers running in different threads
+ * should thus use separate objects, which can be combined with {@link
+ * #add(ParserStatistics)}.
+ *
+ * @author Robert Grimm
+ * @version $Revision: 1.1 $
+ */
+public class ParserStatistics implements ParserStatisticsMBean {
+
+  /** The parser class name. */
+  private final String parser;
+
+  /** The production names. */
+  private final String[] productions;
+
+  /** The memoization table hits. */
+  private final long[] hits;
+
+  /** The memoization table misses. */
+  private final long[] misses;
+
+  /** The failed calls. */
+  private final long[] failures;
+
+  /**
+   * Create new parser statistics.
+   *
+   * @param parser The parser class name.
+   * @param productions The names of the parser's memoized productions.
+   */
+  public ParserStatistics(String parser, String[] productions) {
+    this.parser      = parser;
+    this.productions = productions.clone();
+    this.hits        = new long[productions.length];
+    this.misses      = new long[productions.length];
+    this.failures    = new long[productions.length];
+  }
+
+  /**
+   * Create a copy of the specified parser statistics.
+   *
+   * @param other The statistics to copy.
+   */
+  private ParserStatistics(ParserStatistics other) {
+    this.parser      = other.parser;
+    this.productions = other.productions;
+    this.hits        = other.hits.clone();
+    this.misses      = other.misses.clone();
+    this.failures    = other.failures.clone();
+  }
+
+  // -------------------------------------------------------------------------
+
+  /**
+   * Record a memoization table hit.
+   *
+   * @param production The production's number.
+   * @param result The memoized result.
+   */
+  public final void hit(int production, Result result) {
+    hits[production]++;
+    if (! result.hasValue()) failures[production]++;
+  }
+
+  /**
+   * Record a memoization table miss.
+   *
+   * @param production The production's number.
+   * @param result The newly computed result.
+   */
+  public final void miss(int production, Result result) {
+    misses[production]++;
+    if (! result.hasValue()) failures[production]++;
+  }
+
+  // -------------------------------------------------------------------------
+
+  /**
+   * Determine whether these statistics are for the specified
+   * productions.
+   *
+   * @param productions The production names.
+   * @return <code>true</code> if these statistics are for the
+   *   productions.
+   */
+  public boolean isFor(String[] productions) {
+    return Arrays.equals(this.productions, productions);
+  }
+
+  public String getParser() {
+    return parser;
+  }
+
+  public String[] getProductions() {
+    return productions.clone();
+  }
+
+  public long[] getCalls() {
+    final long[] calls = new long[productions.length];
+    for (int i=0; i<calls.length; i++) calls[i] = hits[i] + misses[i];
+    return calls;
+  }
+
+  public long[] getHits() {
+    return hits.clone();
+  }
+
+  public long[] getMisses() {
+    return misses.clone();
+  }
+
+  public long[] getFailures() {
+    return failures.clone();
+  }
+
+  public long getTotalCalls() {
+    return getTotalHits() + getTotalMisses();
+  }
+
+  public long getTotalHits() {
+    return sum(hits);
+  }
+
+  public long getTotalMisses() {
+    return sum(misses);
+  }
+
+  public long getTotalFailures() {
+    return sum(failures);
+  }
+
+  /**
+   * Sum up the specified counts.
+   *
+   * @param counts The counts.
+   * @return The sum.
+   */
+  private static long sum(long[] counts) {
+    long total = 0;
+    for (long c : counts) total += c;
+    return total;
+  }
+
+  // -------------------------------------------------------------------------
+
+  /**
+   * Create a snapshot of these statistics.
+   *
+   * @return A copy of these statistics.
+   */
+  public ParserStatistics snapshot() {
+    return new ParserStatistics(this);
+  }
+
+  public void reset() {
+    Arrays.fill(hits, 0);
+    Arrays.fill(misses, 0);
+    Arrays.fill(failures, 0);
+  }
+
+  /**
+   * Add the specified statistics to these statistics.
+   *
+   * @param other The other statistics.
+   * @throws IllegalArgumentException Signals that the other
+   *   statistics are for different productions.
+   */
+  public void add(ParserStatistics other) {
+    if (! isFor(other.productions)) {
+      throw new IllegalArgumentException("Statistics for different " +
+                                         "productions");
+    }
+
+    for (int i=0; i<productions.length; i++) {
+      hits[i]     += other.hits[i];
+      misses[i]   += other.misses[i];
+      failures[i] += other.failures[i];
+    }
+  }
+
+  // -------------------------------------------------------------------------
+
+  public String toCSV() {
+    final StringBuilder buf = new StringBuilder();
+
+    buf.append("production,calls,hits,misses,failures\n");
+    for (int i=0; i<productions.length; i++) {
+      buf.append(productions[i]).append(',');
+      buf.append(hits[i] + misses[i]).append(',');
+      buf.append(hits[i]).append(',');
+      buf.append(misses[i]).append(',');
+      buf.append(failures[i]).append('\n');
+    }
+
+    return buf.toString();
+  }
+
+  public String toJSON() {
+    final StringBuilder buf = new StringBuilder();
+
+    buf.append("{\"parser\":\"").append(parser).append("\",\"productions\":[");
+    for (int i=0; i<productions.length; i++) {
+      if (0 != i) buf.append(',');
+      buf.append("{\"name\":\"").append(productions[i]).append('"');
+      buf.append(",\"calls\":").append(hits[i] + misses[i]);
+      buf.append(",\"hits\":").append(hits[i]);
+      buf.append(",\"misses\":").append(misses[i]);
+      buf.append(",\"failures\":").append(failures[i]).append('}');
+    }
+    buf.append("]}");
+
+    return buf.toString();
+  }
+
+  public String toString() {
+    return toCSV();
+  }
+
+  // -------------------------------------------------------------------------
+
+  /**
+   * Register these statistics with the platform MBean server.  The
+   * statistics are registered under the object name
+   * <code>xtc.parser:type=ParserStatistics,name=</code><i>name</i>,
+   * with the name being quoted.
+   *
+   * @param name The name.
+   * @return The object name.
+   * @throws JMException Signals an error while registering.
+   */
+  public ObjectName register(String name) throws JMException {
+    final ObjectName oname =
+      new ObjectName("xtc.parser:type=ParserStatistics,name=" +
+                     ObjectName.quote(name));
+    ManagementFactory.getPlatformMBeanServer().registerMBean(this, oname);
+    return oname;
+  }
+
+}
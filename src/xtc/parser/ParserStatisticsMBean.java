@@ -0,0 +1,120 @@
+/*
+ * xtc - The eXTensible Compiler
+ * Copyright (C) 2026 Robert Grimm
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * version 2.1 as published by the Free Software Foundation.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301,
+ * USA.
+ */
+package xtc.parser;
+
+/**
+ * The management interface for parser statistics.
+ *
+ * @see ParserStatistics#register(String)
+ *
+ * @author Robert Grimm
+ * @version $Revision: 1.1 $
+ */
+public interface ParserStatisticsMBean {
+
+  /**
+   * Get the name of the parser class.
+   *
+   * @return The parser class name.
+   */
+  String getParser();
+
+  /**
+   * Get the names of the memoized productions.
+   *
+   * @return The production names.
+   */
+  String[] getProductions();
+
+  /**
+   * Get the number of calls for each memoized production.
+   *
+   * @return The calls.
+   */
+  long[] getCalls();
+
+  /**
+   * Get the number of memoization table hits for each memoized
+   * production.
+   *
+   * @return The hits.
+   */
+  long[] getHits();
+
+  /**
+   * Get the number of memoization table misses for each memoized
+   * production.
+   *
+   * @return The misses.
+   */
+  long[] getMisses();
+
+  /**
+   * Get the number of failed calls for each memoized production.
+   *
+   * @return The failures.
+   */
+  long[] getFailures();
+
+  /**
+   * Get the total number of calls.
+   *
+   * @return The total calls.
+   */
+  long getTotalCalls();
+
+  /**
+   * Get the total number of memoization table hits.
+   *
+   * @return The total hits.
+   */
+  long getTotalHits();
+
+  /**
+   * Get the total number of memoization table misses.
+   *
+   * @return The total misses.
+   */
+  long getTotalMisses();
+
+  /**
+   * Get the total number of failed calls.
+   *
+   * @return The total failures.
+   */
+  long getTotalFailures();
+
+  /** Reset all counts. */
+  void reset();
+
+  /**
+   * Export the statistics as comma-separated values.
+   *
+   * @return The statistics in CSV format.
+   */
+  String toCSV();
+
+  /**
+   * Export the statistics as a JSON object.
+   *
+   * @return The statistics in JSON format.
+   */
+  String toJSON();
+
+}
@@ -0,0 +1,347 @@
+/*
+ * xtc - The eXTensible Compiler
+ * Copyright (C) 2026 Robert Grimm
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * version 2 as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301,
+ * USA.
+ */
+package xtc.parser;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import xtc.Constants;
+
+import xtc.tree.Visitor;
+
+import xtc.util.Runtime;
+
+/**
+ * Visitor to predict the alternatives of ordered choices.  This
+ * visitor computes the FIRST set of each production, i.e., the set
+ * of characters that may start the input consumed by the production,
+ * and whether the production may match the empty input.  It then
+ * annotates each alternative of a production's top-level choice with
+ * its {@link Properties#FIRST FIRST set}, which lets the {@link
+ * CodeGenerator} skip all alternatives that cannot match the next
+ * character.
+ *
+ * <p />An alternative is only annotated if it cannot match the empty
+ * input and if skipping it cannot change the parser's behavior.  In
+ * particular, the alternative must not execute any actions, parser
+ * actions, or semantic predicates before consuming its first
+ * character and must not reference a production that resets the
+ * global state before doing so.  Furthermore, FIRST sets are limited
+ * to ASCII characters.  Nested choices are not annotated, since their
+ * parse errors may be the farthest ones.
+ *
+ * <p />Skipping alternatives does not change the semantic values
+ * produced by the parser.  A skipped alternative may, however, have
+ * created a parse error at the production's index, which is reported
+ * if that index is the farthest one.  The code generator thus still
+ * tries a skipped alternative when its parse error might become the
+ * production's parse error, so that a parser reports the same syntax
+ * errors with and without predictions.
+ *
+ * <p />This visitor assumes that the entire grammar is contained in a
+ * single module.
+ *
+ * @author Robert Grimm
+ * @version $Revision: 1.3 $
+ */
+public class Predictor extends GrammarVisitor {
+
+  /** The number of characters tracked by FIRST sets. */
+  public static final int ASCII = 128;
+
+  /** A FIRST set. */
+  private static final class First {
+
+    /** The flag for whether the empty input may be matched. */
+    boolean empty;
+
+    /** The flag for whether any character may start the input. */
+    boolean any;
+
+    /** The characters starting the input. */
+    final BitSet chars = new BitSet(ASCII);
+
+    /**
+     * Add the specified FIRST set to this FIRST set.
+     *
+     * @param other The other FIRST set.
+     * @return <code>true</code> if this FIRST set changed.
+     */
+    boolean add(First other) {
+      boolean changed = false;
+
+      if (other.empty && (! empty)) {
+        empty   = true;
+        changed = true;
+      }
+      if (other.any && (! any)) {
+        any     = true;
+        changed = true;
+      }
+      if (! any) {
+        final int count = chars.cardinality();
+        chars.or(other.chars);
+        changed = changed || (count != chars.cardinality());
+      }
+
+      return changed;
+    }
+
+    /**
+     * Add the specified character to this FIRST set.
+     *
+     * @param c The character.
+     */
+    void add(char c) {
+      if (ASCII <= c) {
+        any = true;
+      } else {
+        chars.set(c);
+      }
+    }
+
+  }
+
+  /** The FIRST sets of all productions. */
+  private final Map<Production, First> firsts;
+
+  /** The number of annotated alternatives. */
+  protected int count;
+
+  /**
+   * Create a new predictor.
+   *
+   * @param runtime The runtime.
+   * @param analyzer The analyzer utility.
+   */
+  public Predictor(Runtime runtime, Analyzer analyzer) {
+    super(runtime, analyzer);
+    firsts = new HashMap<Production, First>();
+  }
+
+  /** Visit the specified grammar. */
+  public Object visit(Module m) {
+    // Initialize the per-grammar state.
+    analyzer.register(this);
+    analyzer.init(m);
+    firsts.clear();
+    count = 0;
+
+    // Determine the FIRST sets by iterating to a fixed point.
+    for (Production p : m.productions) firsts.put(p, new First());
+
+    boolean changed;
+    do {
+      changed = false;
+      for (Production p : m.productions) {
+        if (firsts.get(p).add(first(p.choice))) changed = true;
+      }
+    } while (changed);
+
+    // Annotate the alternatives.
+    for (Production p : m.productions) annotate(p.choice);
+
+    if (runtime.test("optionVerbose")) {
+      System.err.println("[Predicting " + count + " alternatives]");
+    }
+
+    // Done.
+    return null;
+  }
+
+  /**
+   * Annotate the alternatives of the specified top-level choice.
+   *
+   * @param c The choice.
+   */
+  private void annotate(OrderedChoice c) {
+    for (Sequence s : c.alternatives) {
+      final First f = first(s);
+
+      s.removeProperty(Properties.FIRST);
+      if ((! f.empty) && (! f.any)) {
+        List<CharRange> ranges = new ArrayList<CharRange>();
+        for (int i = f.chars.nextSetBit(0); i >= 0;
+             i = f.chars.nextSetBit(i+1)) {
+          ranges.add(new CharRange((char)i));
+        }
+        s.setProperty(Properties.FIRST, new CharClass(ranges).normalize());
+        count++;
+      }
+    }
+  }
+
+  /**
+   * Determine the FIRST set of the specified element.
+   *
+   * @param e The element.
+   * @return The FIRST set.
+   */
+  private First first(Element e) {
+    return (First)firstVisitor.dispatch(e);
+  }
+
+  /** The FIRST set visitor. */
+  @SuppressWarnings("unused")
+  private final Visitor firstVisitor = new Visitor() {
+      public First visit(OrderedChoice c) {
+        First f = new First();
+        for (Sequence s : c.alternatives) f.add(first(s));
+        return f;
+      }
+
+      public First visit(Sequence s) {
+        First f = new First();
+        for (Element e : s.elements) {
+          First g = first(e);
+          f.add(g);
+          if (! g.empty) {
+            f.empty = false;
+            return f;
+          }
+        }
+        f.empty = true;
+        return f;
+      }
+
+      public First visit(Repetition r) {
+        First f = first(r.element);
+        if (! r.once) f.empty = true;
+        return f;
+      }
+
+      public First visit(Option o) {
+        First f = first(o.element);
+        f.empty = true;
+        return f;
+      }
+
+      public First visit(Predicate p) {
+        // A predicate does not consume any input, but its element may
+        // still start with the next character.
+        First f = first(p.element);
+        f.empty = true;
+        return f;
+      }
+
+      public First visit(SemanticPredicate p) {
+        return unpredictable();
+      }
+
+      public First visit(NonTerminal nt) {
+        FullProduction p = analyzer.lookup(nt);
+
+        if (p.hasAttribute(Constants.ATT_RESETTING)) {
+          return unpredictable();
+        } else {
+          First f = new First();
+          f.add(firsts.get(p));
+          return f;
+        }
+      }
+
+      public First visit(UnaryOperator op) {
+        // The default for bindings, string matches, and voided elements.
+        return first(op.element);
+      }
+
+      public First visit(ParserAction pa) {
+        return unpredictable();
+      }
+
+      public First visit(Action a) {
+        return unpredictable();
+      }
+
+      public First visit(CharLiteral l) {
+        First f = new First();
+        f.add(l.c);
+        return f;
+      }
+
+      public First visit(CharClass c) {
+        First f = new First();
+        if (c.exclusive) {
+          f.any = true;
+        } else {
+          for (CharRange r : c.ranges) {
+            for (char k = r.first; k <= r.last; k++) {
+              f.add(k);
+              if (f.any) return f;
+            }
+          }
+        }
+        return f;
+      }
+
+      public First visit(StringLiteral l) {
+        First f = new First();
+        if (0 == l.text.length()) {
+          f.empty = true;
+        } else {
+          f.add(l.text.charAt(0));
+        }
+        return f;
+      }
+
+      public First visit(CharSwitch s) {
+        First f = new First();
+        for (CharCase kase : s.cases) f.add(first(kase.klass));
+        if (null != s.base) f.any = true;
+        return f;
+      }
+
+      public First visit(Terminal t) {
+        // Any characters.
+        First f = new First();
+        f.any = true;
+        return f;
+      }
+
+      public First visit(NullLiteral l) {
+        First f = new First();
+        f.empty = true;
+        return f;
+      }
+
+      public First visit(Element e) {
+        // Node markers, parse tree nodes, and value elements do not
+        // consume any input and do not have any side effects.
+        First f = new First();
+        f.empty = true;
+        return f;
+      }
+    };
+
+  /**
+   * Create a FIRST set for an unpredictable element.
+   *
+   * @return The FIRST set.
+   */
+  private static First unpredictable() {
+    First f = new First();
+    f.empty = true;
+    f.any   = true;
+    return f;
+  }
+
+}
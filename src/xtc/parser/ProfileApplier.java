@@ -0,0 +1,162 @@
+/*
+ * xtc - The eXTensible Compiler
+ * Copyright (C) 2026 Robert Grimm
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * version 2 as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301,
+ * USA.
+ */
+package xtc.parser;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+
+import xtc.Constants;
+
+import xtc.tree.Attribute;
+
+import xtc.util.Runtime;
+
+/**
+ * Visitor to apply a recorded memoization profile.  A profile is the
+ * {@link ParserStatistics#toCSV() CSV export} of the statistics
+ * recorded by a parser generated from the same grammar.  This visitor
+ * marks all productions that have been called but never been found in
+ * the memoization table as transient, since memoizing them only costs
+ * time and memory.  Furthermore, it marks those productions that also
+ * account for at least {@link #HOT_RATIO} of all calls as {@link
+ * Properties#HOT hot}, which lets the {@link Inliner} inline them
+ * even if their cost estimate is somewhat larger.
+ *
+ * <p />Note that this visitor assumes that the entire grammar is
+ * contained in a single module.
+ *
+ * @author Robert Grimm
+ * @version $Revision: 1.1 $
+ */
+public class ProfileApplier extends GrammarVisitor {
+
+  /** The minimum fraction of all calls for a hot production. */
+  public static final double HOT_RATIO = 0.01;
+
+  /** The index of the calls in a profile entry. */
+  public static final int CALLS = 0;
+
+  /** The index of the memoization table hits in a profile entry. */
+  public static final int HITS = 1;
+
+  /** The profile, mapping production names to their counts. */
+  protected final Map<String, long[]> profile;
+
+  /**
+   * Create a new profile applier.
+   *
+   * @param runtime The runtime.
+   * @param analyzer The analyzer utility.
+   * @param profile The profile.
+   */
+  public ProfileApplier(Runtime runtime, Analyzer analyzer,
+                        Map<String, long[]> profile) {
+    super(runtime, analyzer);
+    this.profile = profile;
+  }
+
+  /**
+   * Load the profile from the specified file.
+   *
+   * @param file The file.
+   * @return The profile.
+   * @throws IOException Signals an I/O error or a malformed profile.
+   */
+  public static Map<String, long[]> load(File file) throws IOException {
+    Map<String, long[]> profile = new HashMap<String, long[]>();
+    BufferedReader      in      = new BufferedReader(new FileReader(file));
+
+    try {
+      int    number = 0;
+      String line;
+
+      while (null != (line = in.readLine())) {
+        number++;
+        if ((1 == number) || (0 == line.trim().length())) continue;
+
+        String[] fields = line.split(",");
+        if (5 != fields.length) {
+          throw new IOException(file + ":" + number + ": malformed profile");
+        }
+
+        try {
+          long[] counts = profile.get(fields[0]);
+          if (null == counts) {
+            counts = new long[2];
+            profile.put(fields[0], counts);
+          }
+          counts[CALLS] += Long.parseLong(fields[1].trim());
+          counts[HITS]  += Long.parseLong(fields[2].trim());
+        } catch (NumberFormatException x) {
+          throw new IOException(file + ":" + number + ": malformed profile");
+        }
+      }
+    } finally {
+      in.close();
+    }
+
+    return profile;
+  }
+
+  /** Visit the specified grammar. */
+  public Object visit(Module m) {
+    // Initialize the per-grammar state.
+    analyzer.register(this);
+    analyzer.init(m);
+
+    // Determine the total number of calls.
+    long total = 0;
+    for (long[] counts : profile.values()) total += counts[CALLS];
+
+    // Process the productions.
+    for (Production p : m.productions) {
+      long[] counts = profile.get(p.qName.name);
+
+      if ((null == counts) || (0 == counts[CALLS]) || (0 != counts[HITS]) ||
+          p.hasAttribute(Constants.ATT_MEMOIZED)) {
+        continue;
+      }
+
+      if (! p.hasAttribute(Constants.ATT_TRANSIENT)) {
+        if (runtime.test("optionVerbose")) {
+          System.err.println("[Marking " + p.qName + " as transient]");
+        }
+
+        if (null == p.attributes) {
+          p.attributes = new ArrayList<Attribute>(1);
+        }
+        p.attributes.add(Constants.ATT_TRANSIENT);
+      }
+
+      if (counts[CALLS] >= HOT_RATIO * total) {
+        p.setProperty(Properties.HOT, Boolean.TRUE);
+      }
+    }
+
+    // Done.
+    return null;
+  }
+
+}
@@ -24,13 +24,21 @@ import java.util.List;
  * Definition of node property names.
  *
  * @author Robert Grimm
- * @version $Revision: 1.17 $
+ * @version $Revision: 1.20 $
  */
 public class Properties {
 
   // Hide the constructor.
   private Properties() { /* Nothing to do. */ }
 
+  /**
+   * The buffered property.  It is associated with repetitions, has a
+   * boolean value, and indicates whether a bound repetition
+   * accumulates its values in the parser's list buffer instead of a
+   * list of pairs.
+   */
+  public static final String BUFFERED = "buffered";
+
   /**
    * The consumer property.  It is associated with productions, has a
    * boolean value, and indicates whether a production may consume the
@@ -59,6 +67,15 @@ public class Properties {
    */
   public static final String EMPTY = "empty";
 
+  /**
+   * The first property.  It is associated with the alternatives of
+   * a production's top-level choice, has a {@link CharClass} value,
+   * and indicates the characters that may start the input consumed
+   * by an alternative.  An alternative without this property may
+   * match the empty input or start with any character.
+   */
+  public static final String FIRST = "first";
+
   /**
    * The generic property.  When associated with a production, it has
    * a {@link #GENERIC_NODE} value indicating that the production's
@@ -84,6 +101,22 @@ public class Properties {
    */
   public static final String FORMATTING = "formatting";
 
+  /**
+   * The hot property.  It is associated with productions, has a
+   * boolean value, and indicates that a production accounts for a
+   * large fraction of all calls according to a recorded {@link
+   * ProfileApplier profile}.
+   */
+  public static final String HOT = "hot";
+
+  /**
+   * The kinds property.  It is associated with grammars, has a list of
+   * strings value, and indicates the names of all generic nodes
+   * created by a grammar with the <code>visitor</code> attribute.  A
+   * node's kind is its name's index in the list plus one.
+   */
+  public static final String KINDS = "kinds";
+
   /**
    * The lexical property.  It is associated with productions, has a
    * boolean value, and indicates whether a production recognizes
@@ -171,6 +204,14 @@ public class Properties {
    */
   public static final String TOKEN = "token";
 
+  /**
+   * The token kind property.  It is associated with productions, has
+   * an integer value, and indicates that a production is memoized in
+   * the token slots of its memoization table column, using the value
+   * to distinguish it from other token productions.
+   */
+  public static final String TOKEN_KIND = "tokenKind";
+
   /**
    * The transformable property.  It is associated with productions,
    * has a boolean value, and indicates whether a production is a
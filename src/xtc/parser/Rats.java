@@ -42,7 +42,7 @@ import xtc.type.JavaAST;
  * generator for Java.
  *
  * @author Robert Grimm
- * @version $Revision: 1.190 $
+ * @version $Revision: 1.194 $
  */
 public class Rats extends Tool {
 
@@ -97,6 +97,9 @@ public class Rats extends Tool {
            "Create an LGPL compliant parser.").
       att("option", "grammarOption", true,
           "Add the specified attribute to the grammar's options.").
+      file("profile", "optionProfile", false,
+           "Use the specified memoization profile, as recorded by a " +
+           "parser's statistics, to guide optimizations.").
       bool("Onone", "doNotOptimize", false,
            "Perform no optimizations.").
       bool("Ochunks", "optimizeChunks", true,
@@ -136,7 +139,20 @@ public class Rats extends Tool {
       bool("Ognodes", "optimizeGenericNodes", true,
            "Optimize the creation of generic nodes.").
       bool("Olocation", "optimizeLocation", true,
-           "Optimize the annotation of nodes with their source locations.");
+           "Optimize the annotation of nodes with their source locations.").
+      bool("Ofirst", "optimizeFirst", true,
+           "Skip alternatives that cannot start with the next character.").
+      bool("Osplit", "optimizeSplit", true,
+           "Split parsing methods too large for just-in-time compilation.").
+      bool("Oscan", "optimizeScan", true,
+           "Scan repetitions of a single character class in bulk.").
+      bool("Ocharclass", "optimizeCharClass", true,
+           "Test large character classes with tables.").
+      bool("Obuffer", "optimizeBuffer", true,
+           "Accumulate lists of generic node children in a buffer.").
+      number("splitLimit", "optionSplitLimit", SizeEstimator.HUGE_METHOD_LIMIT,
+             "Set the estimated size in bytes above which parsing methods " +
+             "are split.");
   }
 
   public void prepare() {
@@ -337,6 +353,20 @@ public class Rats extends Tool {
       dup.dispatch(module);
     }
     if (runtime.test("optimizePrefixes")) prefix.dispatch(module);
+
+    // Apply any recorded profile before inlining productions and
+    // marking productions as transient.
+    File profile = runtime.getFile("optionProfile");
+    if (null != profile) {
+      try {
+        new ProfileApplier(runtime, ana, ProfileApplier.load(profile)).
+          dispatch(module);
+      } catch (IOException x) {
+        runtime.error(x.getMessage());
+        return;
+      }
+    }
+
     boolean changed = false;
     do {
       changed = ((Boolean)line.dispatch(module)).booleanValue();
@@ -352,6 +382,11 @@ public class Rats extends Tool {
       }
     } while (changed);
 
+    // If requested, identify the token productions.
+    if (module.hasAttribute(Constants.ATT_TOKENIZED)) {
+      new TokenFinder(runtime, ana).dispatch(module);
+    }
+
     // If requested, annotate the grammar to preserve all formatting.
     if (module.hasAttribute(Constants.ATT_PARSE_TREE)) {
       new Tokenizer(runtime, ana).dispatch(module);
@@ -422,6 +457,15 @@ public class Rats extends Tool {
     if (runtime.test("optimizeNonTransient")) {
       trans.dispatch(module);
     }
+    if (runtime.test("optimizeFirst")) {
+      new Predictor(runtime, ana).dispatch(module);
+    }
+    if (runtime.test("optimizeBuffer")) {
+      new ListBufferer(runtime, ana).dispatch(module);
+    }
+    if (module.hasAttribute(Constants.NAME_VISITOR)) {
+      new KindFinder(runtime, ana).dispatch(module);
+    }
     new MetaDataSetter(runtime, ana, ast).dispatch(module);
     if (0 < runtime.errorCount()) return;
 
@@ -447,22 +491,43 @@ public class Rats extends Tool {
     //                        Generate parser
     // --------------------------------------------------------------------
     
+    Printer out = open(module.getClassName());
+    if (null == out) return;
+    printHeader(out);
+    new CodeGenerator(runtime, ana, ast, out).dispatch(module);
+    out.flush().close();
+
+    // Generate the visitor.
+    if (module.hasAttribute(Constants.NAME_VISITOR)) {
+      out = open((String)module.getAttributeValue(Constants.NAME_VISITOR));
+      if (null == out) return;
+      printHeader(out);
+      new VisitorGenerator(out).dispatch(module);
+      out.flush().close();
+    }
+  }
+
+  /**
+   * Open a printer for the source file of the specified class in the
+   * output directory.
+   *
+   * @param className The (optionally qualified) class name.
+   * @return The printer or <code>null</code> if the file could not be
+   *   opened.
+   */
+  protected Printer open(String className) {
     File file = new File(runtime.getOutputDirectory(),
-                         Utilities.getName(module.getClassName()) + ".java");
-    Printer out;
+                         Utilities.getName(className) + ".java");
     try {
-      out = new Printer(new PrintWriter(runtime.getWriter(file)));
+      return new Printer(new PrintWriter(runtime.getWriter(file)));
     } catch (IOException x) {
       if (null == x.getMessage()) {
         runtime.error(file.toString() + ": I/O error");
       } else {
         runtime.error(file.toString() + ": " + x.getMessage());
       }
-      return;
+      return null;
     }
-    printHeader(out);
-    new CodeGenerator(runtime, ana, ast, out).dispatch(module);
-    out.flush().close();
   }
 
   /**
@@ -864,11 +864,18 @@ public class Resolver extends Visitor {
               (! Constants.NAME_STRING_SET.equals(name)) &&
               (! Constants.NAME_FLAG.equals(name)) &&
               (! Constants.NAME_FACTORY.equals(name)) &&
+              (! Constants.NAME_VISITOR.equals(name)) &&
               (! Constants.ATT_FLATTEN.equals(att)) &&
               (! Constants.ATT_GENERIC_AS_VOID.equals(att)) &&
               (! Constants.ATT_PARSE_TREE.equals(att)) &&
               (! Constants.ATT_PROFILE.equals(att)) &&
-              (! Constants.ATT_DUMP.equals(att))) {
+              (! Constants.ATT_DUMP.equals(att)) &&
+              (! Constants.ATT_STREAMING.equals(att)) &&
+              (! Constants.ATT_INCREMENTAL.equals(att)) &&
+              (! Constants.ATT_BYTE_INPUT.equals(att)) &&
+              (! Constants.ATT_TOKENIZED.equals(att)) &&
+              (! Constants.ATT_COLUMN_MAJOR.equals(att)) &&
+              (! Constants.ATT_EVENTS.equals(att))) {
             runtime.error("unrecognized grammar-wide attribute '"+att+"'", att);
             
           } else {
@@ -997,6 +1004,19 @@ public class Resolver extends Visitor {
               runtime.error("factory attribute with invalud value", att);
             }
 
+          } else if (Constants.NAME_VISITOR.equals(name)) {
+            if (null == value) {
+              runtime.error("visitor attribute without class name", att);
+            } else if (! (value instanceof String)) {
+              runtime.error("visitor attribute with invalid value", att);
+            } else if (((String)value).startsWith("\"")) {
+              runtime.error("visitor attribute with invalid value", att);
+            }
+            if (m2.hasAttribute(Constants.NAME_FACTORY)) {
+              runtime.error("visitor attribute incompatible with factory " +
+                            "attribute", att);
+            }
+
           } else if (Constants.ATT_GENERIC_AS_VOID.equals(att)) {
             if (m2.hasAttribute(Constants.ATT_PARSE_TREE)) {
               runtime.error("genericAsVoid attribute incompatible with " +
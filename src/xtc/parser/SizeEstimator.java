@@ -0,0 +1,253 @@
+/*
+ * xtc - The eXTensible Compiler
+ * Copyright (C) 2026 Robert Grimm
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * version 2 as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301,
+ * USA.
+ */
+package xtc.parser;
+
+import java.util.BitSet;
+
+import xtc.tree.Visitor;
+
+/**
+ * Visitor to estimate the size of the code generated for a grammar
+ * element.  One unit of size is one byte of Java bytecode.  The
+ * estimate is based on the code emitted by the {@link CodeGenerator}
+ * and is reasonably accurate for fully processed grammars.  Unlike
+ * the {@link CostEstimator}, this visitor does not follow
+ * nonterminals, since a nonterminal is always parsed by calling the
+ * corresponding method.  It is used by the code generator to ensure
+ * that no parsing method exceeds {@link #HUGE_METHOD_LIMIT}.
+ *
+ * @author Robert Grimm
+ * @version $Revision: 1.1 $
+ */
+public class SizeEstimator extends Visitor {
+
+  /**
+   * The maximum size of methods compiled by HotSpot's just-in-time
+   * compilers.  Larger methods are always interpreted.
+   */
+  public static final int HUGE_METHOD_LIMIT = 8000;
+
+  /** The size of a method's fixed prologue and epilogue. */
+  public static final int METHOD = 20;
+
+  /** The size of testing a parsing method's result. */
+  public static final int RESULT = 22;
+
+  /** The size of reading and testing a character. */
+  public static final int CHAR = 24;
+
+  /** The size of returning a semantic value. */
+  public static final int RETURN = 12;
+
+  /** The size of creating a parse error. */
+  public static final int ERROR = 10;
+
+  /** Create a new size estimator. */
+  public SizeEstimator() {
+    // Nothing to do.
+  }
+
+  /**
+   * Estimate the size of the specified element.
+   *
+   * @param e The element.
+   * @return The estimated size in bytes.
+   */
+  public int estimate(Element e) {
+    return (Integer)dispatch(e);
+  }
+
+  /** Visit the specified ordered choice. */
+  public Integer visit(OrderedChoice c) {
+    // Each alternative saves the index, ends by returning a value,
+    // and may create a parse error.  Predicted alternatives also
+    // require a test, and their characters require entries in a
+    // shared switch statement.
+    final BitSet predicted = new BitSet();
+    int          size      = 0;
+    for (Sequence s : c.alternatives) {
+      size += (Integer)dispatch(s) + RETURN + ERROR;
+      if (s.hasProperty(Properties.FIRST)) {
+        size += 8;
+        CharClass first = (CharClass)s.getProperty(Properties.FIRST);
+        for (CharRange r : first.ranges) {
+          predicted.set(r.first, r.last + 1);
+        }
+      }
+    }
+    if (! predicted.isEmpty()) {
+      size += CHAR + 8 * predicted.cardinality();
+    }
+    return size;
+  }
+
+  /** Visit the specified repetition. */
+  public Integer visit(Repetition r) {
+    // The loop, the saved index, and the list of values.
+    return 2 * RETURN + (Integer)dispatch(r.element);
+  }
+
+  /** Visit the specified option. */
+  public Integer visit(Option o) {
+    // The saved index and the optional value.
+    return RETURN + (Integer)dispatch(o.element);
+  }
+
+  /** Visit the specified sequence. */
+  public Integer visit(Sequence s) {
+    int size = 0;
+    for (Element e : s.elements) {
+      size += (Integer)dispatch(e);
+    }
+    return size;
+  }
+
+  /** Visit the specified predicate. */
+  public Integer visit(Predicate p) {
+    return ERROR + (Integer)dispatch(p.element);
+  }
+
+  /** Visit the specified voided element. */
+  public Integer visit(VoidedElement v) {
+    return (Integer)dispatch(v.element);
+  }
+
+  /** Visit the specified binding. */
+  public Integer visit(Binding b) {
+    // We add the cost of extracting and casting the value.
+    return 8 + (Integer)dispatch(b.element);
+  }
+
+  /** Visit the specified string match. */
+  public Integer visit(StringMatch m) {
+    return 8 + (Integer)dispatch(m.element);
+  }
+
+  /** Visit the specified nonterminal. */
+  public Integer visit(NonTerminal nt) {
+    return RESULT;
+  }
+
+  /** Visit the specified string literal. */
+  public Integer visit(StringLiteral l) {
+    return CHAR * l.text.length() + ERROR;
+  }
+
+  /** Visit the specified character class. */
+  public Integer visit(CharClass c) {
+    // Each range requires one or two comparisons.
+    return CHAR + 8 * c.ranges.size();
+  }
+
+  /** Visit the specified character switch. */
+  public Integer visit(CharSwitch sw) {
+    // Each character requires an entry in the switch table.
+    int size = CHAR;
+    for (CharCase kase : sw.cases) {
+      for (CharRange r : kase.klass.ranges) {
+        size += 8 * (r.last - r.first + 1);
+      }
+      if (null != kase.element) {
+        size += (Integer)dispatch(kase.element);
+      }
+    }
+    if (null != sw.base) {
+      size += (Integer)dispatch(sw.base);
+    }
+    return size;
+  }
+
+  /**
+   * Visit the specified terminal.  This method provides the default
+   * implementation for any characters and character literals.
+   */
+  public Integer visit(Terminal t) {
+    return CHAR;
+  }
+
+  /** Visit the specified node marker. */
+  public Integer visit(NodeMarker m) {
+    return 0;
+  }
+
+  /** Visit the specified action. */
+  public Integer visit(Action a) {
+    // A line of Java source code results in about 10 bytes of
+    // bytecode.
+    return 10 * a.code.size();
+  }
+
+  /** Visit the specified parser action. */
+  public Integer visit(ParserAction a) {
+    return RESULT + (Integer)dispatch(a.element);
+  }
+
+  /** Visit the specified parse tree node. */
+  public Integer visit(ParseTreeNode n) {
+    return 16 + 8 * (n.predecessors.size() + n.successors.size());
+  }
+
+  /** Visit the specified string value. */
+  public Integer visit(StringValue v) {
+    return 12;
+  }
+
+  /** Visit the specified token value. */
+  public Integer visit(TokenValue v) {
+    return 20;
+  }
+
+  /** Visit the specified proper list value. */
+  public Integer visit(ProperListValue v) {
+    return 8 + 12 * v.elements.size();
+  }
+
+  /** Visit the specified action base value. */
+  public Integer visit(ActionBaseValue v) {
+    return 12;
+  }
+
+  /** Visit the specified generic value. */
+  public Integer visit(GenericValue v) {
+    // The node creation, its children, and its location.
+    return 24 + 4 * (v.children.size() + v.formatting.size());
+  }
+
+  /** Visit the specified generic action value. */
+  public Integer visit(GenericActionValue v) {
+    // The action is an anonymous inner class, whose code is not part
+    // of the generated method.
+    return 16 + 4 * v.formatting.size();
+  }
+
+  /**
+   * Visit the specified value element.  This method provides the
+   * default implementation for null values, binding values, and
+   * empty list values.
+   */
+  public Integer visit(ValueElement v) {
+    return 4;
+  }
+
+  /** Visit the specified null literal. */
+  public Integer visit(NullLiteral l) {
+    return 4;
+  }
+
+}
@@ -0,0 +1,109 @@
+/*
+ * xtc - The eXTensible Compiler
+ * Copyright (C) 2026 Robert Grimm
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * version 2 as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301,
+ * USA.
+ */
+package xtc.parser;
+
+import xtc.util.Runtime;
+
+/**
+ * Visitor to identify token productions.  A token production is a
+ * production that is not lexical itself but references one or more
+ * lexical productions and no other productions, such as a production
+ * recognizing a word followed by spacing.  This visitor annotates
+ * each token production with a distinct {@link Properties#TOKEN_KIND
+ * token kind}, which lets the {@link CodeGenerator} memoize all token
+ * productions in two shared slots per memoization table column, one
+ * for the last successfully parsed token and one for the last failed
+ * token.  Token productions that end up being transient are not
+ * memoized at all.
+ *
+ * <p />This visitor assumes that the entire grammar is contained in a
+ * single module and that text-only productions have been marked as
+ * such.  Since it relies on the {@link Tokenizer.Tester}, it must run
+ * before productions' semantic values have been made explicit.
+ *
+ * @see Tokenizer.Tester
+ *
+ * @author Robert Grimm
+ * @version $Revision: 1.2 $
+ */
+public class TokenFinder extends GrammarVisitor {
+
+  /** The flag for whether the current production is a token production. */
+  protected boolean isToken;
+
+  /** The flag for whether the current production references productions. */
+  protected boolean hasReferences;
+
+  /** The number of token productions. */
+  protected int count;
+
+  /**
+   * Create a new token finder.
+   *
+   * @param runtime The runtime.
+   * @param analyzer The analyzer utility.
+   */
+  public TokenFinder(Runtime runtime, Analyzer analyzer) {
+    super(runtime, analyzer);
+  }
+
+  /** Visit the specified grammar. */
+  public Object visit(Module m) {
+    // Recognize the lexical productions.
+    new Tokenizer.Tester(runtime, analyzer).dispatch(m);
+
+    // Initialize the per-grammar state.
+    analyzer.register(this);
+    analyzer.init(m);
+    count = 0;
+
+    // Process the productions.
+    for (Production p : m.productions) {
+      p.removeProperty(Properties.TOKEN_KIND);
+
+      if (p.getBooleanProperty(Properties.LEXICAL)) continue;
+
+      isToken       = true;
+      hasReferences = false;
+      analyzer.process(p);
+
+      if (isToken && hasReferences) {
+        if (runtime.test("optionVerbose")) {
+          System.err.println("[Recognizing " + p.qName + " as a token]");
+        }
+
+        count++;
+        p.setProperty(Properties.TOKEN_KIND, count);
+      }
+    }
+
+    // Done.
+    return null;
+  }
+
+  /** Visit the specified nonterminal. */
+  public Element visit(NonTerminal nt) {
+    hasReferences = true;
+    if (! analyzer.lookup(nt).getBooleanProperty(Properties.LEXICAL)) {
+      isToken = false;
+    }
+    return nt;
+  }
+
+}
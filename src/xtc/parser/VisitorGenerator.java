@@ -0,0 +1,135 @@
+/*
+ * xtc - The eXTensible Compiler
+ * Copyright (C) 2026 Robert Grimm
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * version 2 as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301,
+ * USA.
+ */
+package xtc.parser;
+
+import java.util.Iterator;
+import java.util.List;
+
+import xtc.Constants;
+
+import xtc.tree.Printer;
+import xtc.tree.Visitor;
+
+import xtc.util.Utilities;
+
+/**
+ * The visitor generator.  For grammars with the <code>visitor</code>
+ * attribute, this class emits an abstract visitor that declares a
+ * constant for each generic node {@link Properties#KINDS kind} and
+ * passes the generic node names to {@link
+ * xtc.tree.Visitor#Visitor(String[])}.  Visitors extending the
+ * generated visitor are dispatched on generic nodes by the nodes'
+ * kinds and can also switch on {@link
+ * xtc.tree.Visitor#kindOf(xtc.tree.Node)}.
+ *
+ * @see KindFinder
+ *
+ * @author Robert Grimm
+ * @version $Revision: 1.1 $
+ */
+public class VisitorGenerator extends Visitor {
+
+  /** The printer. */
+  protected final Printer printer;
+
+  /**
+   * Create a new visitor generator.
+   *
+   * @param printer The printer.
+   */
+  public VisitorGenerator(Printer printer) {
+    this.printer = printer;
+  }
+
+  /** Generate the visitor for the specified grammar. */
+  public void visit(Module m) {
+    final String qName = (String)m.getAttributeValue(Constants.NAME_VISITOR);
+    final String name  = Utilities.getName(qName);
+
+    final List<String> kinds = KindFinder.getKinds(m);
+
+    // Emit package name and import.
+    final String packageName = Utilities.getQualifier(qName);
+    if (null != packageName) {
+      printer.indent().p("package ").p(packageName).pln(';');
+      printer.pln();
+    }
+    printer.indent().pln("import xtc.tree.Visitor;");
+    printer.pln();
+
+    // Emit class name.
+    printer.indent().pln("/**");
+    printer.indent().p(" * Visitor for the generic nodes created by ").
+      p("grammar <code>").p(m.name.name).pln("</code>.");
+    printer.indent().pln(" *");
+    printer.indent().p(" * <p />This class has been generated by the ").
+      pln("<i>Rats!</i> parser");
+    printer.indent().p(" * generator, version ").p(Constants.VERSION).
+      p(", ").p(Constants.COPY).pln('.');
+    printer.indent().pln(" */");
+
+    printer.indent();
+    if (m.hasAttribute(Constants.NAME_VISIBILITY)) {
+      String visible = (String)m.getAttributeValue(Constants.NAME_VISIBILITY);
+      if (Constants.ATT_PUBLIC.getValue().equals(visible)) {
+        printer.p("public ");
+      }
+    } else {
+      printer.p("public ");
+    }
+    printer.p("abstract class ").p(name).pln(" extends Visitor {").
+      incr().pln();
+
+    // Emit the kinds.
+    printer.indent().
+      pln("/** The kind of nodes not created by the parser. */");
+    printer.indent().p("public static final int ").p(KindFinder.UNKNOWN).
+      pln(" = 0;");
+    printer.pln();
+
+    int kind = 1;
+    for (String kindName : kinds) {
+      printer.indent().p("public static final int ").
+        p(KindFinder.toConstant(kindName)).p(" = ").p(kind).pln(';');
+      kind++;
+    }
+    if (! kinds.isEmpty()) printer.pln();
+
+    // Emit the names.
+    printer.indent().pln("/** The generic node names by their kinds. */");
+    printer.indent().p("private static final String[] ").
+      p(KindFinder.NAMES).pln(" = {").incr();
+    printer.indent().p("null");
+    for (Iterator<String> iter = kinds.iterator(); iter.hasNext(); ) {
+      printer.pln(',').indent().p('"').p(iter.next()).p('"');
+    }
+    printer.pln().decr().indent().pln("};");
+    printer.pln();
+
+    // Emit the constructor.
+    printer.indent().pln("/** Create a new visitor. */");
+    printer.indent().p("public ").p(name).pln("() {").incr();
+    printer.indent().p("super(").p(KindFinder.NAMES).pln(");");
+    printer.decr().indent().pln('}');
+    printer.pln();
+
+    printer.decr().indent().pln('}');
+  }
+
+}
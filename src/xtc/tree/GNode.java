@@ -42,7 +42,7 @@ import xtc.util.Pair;
  * sized nodes through {@link #ensureVariable(GNode)}.
  *
  * @author Robert Grimm
- * @version $Revision: 1.48 $
+ * @version $Revision: 1.52 $
  */
 public abstract class GNode extends Node {
 
@@ -865,6 +865,9 @@ public abstract class GNode extends Node {
   /** The name. */
   final String name;
 
+  /** The kind. */
+  int kind;
+
   /** Create a new generic node with the specified name. */
   GNode(String name) {
     this.name = name;
@@ -933,6 +936,29 @@ public abstract class GNode extends Node {
     return this.name.equals(name);
   }
 
+  /**
+   * Get this generic node's kind.  Parsers generated for grammars
+   * with the <code>visitor</code> attribute number the generic nodes
+   * created by the grammar, starting at 1, and set each node's kind
+   * accordingly.  All other nodes have kind 0.
+   *
+   * @see Visitor#Visitor(String[])
+   *
+   * @return The kind.
+   */
+  public final int getKind() {
+    return kind;
+  }
+
+  /**
+   * Set this generic node's kind.
+   *
+   * @param kind The kind.
+   */
+  public final void setKind(int kind) {
+    this.kind = kind;
+  }
+
   // =======================================================================
 
   /**
@@ -1275,40 +1301,147 @@ public abstract class GNode extends Node {
     }
   }
 
+  /**
+   * Create a new generic node with the array's elements between the
+   * specified indices as its children.  If possible, this method
+   * returns a fixed size node.
+   *
+   * @param name The name.
+   * @param a The array of children.
+   * @param start The index of the first child.
+   * @param end The index after the last child.
+   * @return The corresponding generic node.
+   */
+  public static GNode createFromArray(String name, Object[] a, int start,
+                                      int end) {
+    switch (end - start) {
+    case 0:
+      return new Fixed0(name);
+    case 1:
+      return new Fixed1(name, a[start]);
+    case 2:
+      return new Fixed2(name, a[start], a[start+1]);
+    case 3:
+      return new Fixed3(name, a[start], a[start+1], a[start+2]);
+    case 4:
+      return new Fixed4(name, a[start], a[start+1], a[start+2], a[start+3]);
+    case 5:
+      return new Fixed5(name, a[start], a[start+1], a[start+2], a[start+3],
+                        a[start+4]);
+    case 6:
+      return new Fixed6(name, a[start], a[start+1], a[start+2], a[start+3],
+                        a[start+4], a[start+5]);
+    case 7:
+      return new Fixed7(name, a[start], a[start+1], a[start+2], a[start+3],
+                        a[start+4], a[start+5], a[start+6]);
+    case 8:
+      return new Fixed8(name, a[start], a[start+1], a[start+2], a[start+3],
+                        a[start+4], a[start+5], a[start+6], a[start+7]);
+    default:
+      Variable result = new Variable(name, end - start);
+      for (int i=start; i<end; i++) result.add(a[i]);
+      return result;
+    }
+  }
+
+  /**
+   * Create a new generic node with the specified first child and the
+   * array's elements between the specified indices as the remaining
+   * children.  If possible, this method returns a fixed size node.
+   *
+   * @param name The name.
+   * @param base The first child.
+   * @param a The array of the remaining children.
+   * @param start The index of the second child.
+   * @param end The index after the last child.
+   * @return The corresponding generic node.
+   */
+  public static GNode createFromArray(String name, Object base, Object[] a,
+                                      int start, int end) {
+    switch (end - start) {
+    case 0:
+      return new Fixed1(name, base);
+    case 1:
+      return new Fixed2(name, base, a[start]);
+    case 2:
+      return new Fixed3(name, base, a[start], a[start+1]);
+    case 3:
+      return new Fixed4(name, base, a[start], a[start+1], a[start+2]);
+    case 4:
+      return new Fixed5(name, base, a[start], a[start+1], a[start+2],
+                        a[start+3]);
+    case 5:
+      return new Fixed6(name, base, a[start], a[start+1], a[start+2],
+                        a[start+3], a[start+4]);
+    case 6:
+      return new Fixed7(name, base, a[start], a[start+1], a[start+2],
+                        a[start+3], a[start+4], a[start+5]);
+    case 7:
+      return new Fixed8(name, base, a[start], a[start+1], a[start+2],
+                        a[start+3], a[start+4], a[start+5], a[start+6]);
+    default:
+      Variable result = new Variable(name, end - start + 1);
+      result.add(base);
+      for (int i=start; i<end; i++) result.add(a[i]);
+      return result;
+    }
+  }
+
   /**
    * Create a new generic node that is a (shallow) copy of the
-   * specified node.
+   * specified node.  If the node is a view of a {@link NodeStore}
+   * or a node shared by {@link NodeInterner}, the copy is a regular
+   * generic node.
    *
    * @param node The node to copy.
    * @return The copy.
    */
   public static GNode create(GNode node) {
+    final GNode result;
+
     if (node instanceof Variable) {
-      return new Variable((Variable)node);
+      result = new Variable((Variable)node);
+    } else if ((node instanceof NodeStore.View) ||
+               (node instanceof NodeInterner.Shared)) {
+      final Object[] children = new Object[node.size()];
+      for (int i=0; i<children.length; i++) children[i] = node.get(i);
+      result = createFromArray(node.name, children, 0, children.length);
     } else {
       switch (node.size()) {
       case 0:
-        return new Fixed0((Fixed0)node);
+        result = new Fixed0((Fixed0)node);
+        break;
       case 1:
-        return new Fixed1((Fixed1)node);
+        result = new Fixed1((Fixed1)node);
+        break;
       case 2:
-        return new Fixed2((Fixed2)node);
+        result = new Fixed2((Fixed2)node);
+        break;
       case 3:
-        return new Fixed3((Fixed3)node);
+        result = new Fixed3((Fixed3)node);
+        break;
       case 4:
-        return new Fixed4((Fixed4)node);
+        result = new Fixed4((Fixed4)node);
+        break;
       case 5:
-        return new Fixed5((Fixed5)node);
+        result = new Fixed5((Fixed5)node);
+        break;
       case 6:
-        return new Fixed6((Fixed6)node);
+        result = new Fixed6((Fixed6)node);
+        break;
       case 7:
-        return new Fixed7((Fixed7)node);
+        result = new Fixed7((Fixed7)node);
+        break;
       case 8:
-        return new Fixed8((Fixed8)node);
+        result = new Fixed8((Fixed8)node);
+        break;
       default:
         throw new AssertionError("Internal error");
       }
     }
+
+    result.kind = node.kind;
+    return result;
   }
 
   // =======================================================================
@@ -1328,7 +1461,9 @@ public abstract class GNode extends Node {
     } else {
       ArrayList<Object> children = new ArrayList<Object>(node.size());
       node.addAllTo(children);
-      return new Variable(node.name, children);
+      GNode result = new Variable(node.name, children);
+      result.kind  = node.kind;
+      return result;
     }
   }
 
@@ -20,14 +20,66 @@ package xtc.tree;
 
 import java.io.IOException;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * The location in a source file.
  *
+ * <p />Nodes do not reference location objects but rather store their
+ * locations {@link #pack(Location) packed} into a single
+ * <code>long</code>, which combines an identifier for the file name
+ * with the line and column.  File names are {@link #fileId(String)
+ * interned} into a global table, which is never cleared.  Locations
+ * whose file identifier, line, or column are too large for the packed
+ * representation pack to {@link #OVERFLOW}, which cannot be unpacked;
+ * nodes keep such locations as location objects instead.  The packed
+ * location 0 represents no location, and equal locations always have
+ * the same packed representation.  Location objects are only created
+ * when {@link #unpack(long) unpacking} a packed location.
+ *
  * @author Robert Grimm
- * @version $Revision: 1.12 $
+ * @version $Revision: 1.14 $
  */
 public class Location implements Comparable {
 
+  /** The number of bits for file identifiers. */
+  private static final int FILE_BITS = 20;
+
+  /** The number of bits for lines. */
+  private static final int LINE_BITS = 24;
+
+  /** The number of bits for columns. */
+  private static final int COLUMN_BITS = 19;
+
+  /** The mask for lines. */
+  private static final int LINE_MASK = (1 << LINE_BITS) - 1;
+
+  /** The mask for columns. */
+  private static final int COLUMN_MASK = (1 << COLUMN_BITS) - 1;
+
+  /**
+   * The packed representation of all locations that do not fit.  It
+   * cannot be unpacked.
+   */
+  public static final long OVERFLOW = Long.MIN_VALUE;
+
+  /** The lock protecting the file name table. */
+  private static final Object lock = new Object();
+
+  /** The map from file names to identifiers. */
+  private static final Map<String, Integer> fileIds =
+    new ConcurrentHashMap<String, Integer>();
+
+  /**
+   * The file names by identifier.  The array is reassigned whenever
+   * a name is added, which safely publishes the name to readers.
+   */
+  private static volatile String[] fileNames = new String[16];
+
+  /** The number of file names. */
+  private static int fileCount = 0;
+
   /** The file name. */
   public final String file;
 
@@ -89,6 +141,134 @@ public class Location implements Comparable {
     out.append(Integer.toString(column));
   }
 
+  // ========================================================================
+
+  /**
+   * Get the identifier for the specified file name, interning the
+   * name if necessary.
+   *
+   * @param file The file name.
+   * @return The corresponding identifier.
+   */
+  public static int fileId(String file) {
+    final Integer id = fileIds.get(file);
+    if (null != id) return id;
+
+    synchronized (lock) {
+      Integer result = fileIds.get(file);
+      if (null == result) {
+        String[] names = fileNames;
+        if (names.length == fileCount) {
+          final String[] old = names;
+          names              = new String[old.length * 2];
+          System.arraycopy(old, 0, names, 0, old.length);
+        }
+        names[fileCount] = file;
+        fileNames        = names;
+        result           = fileCount++;
+        fileIds.put(file, result);
+      }
+      return result;
+    }
+  }
+
+  /**
+   * Get the file name for the specified identifier.
+   *
+   * @param id The identifier.
+   * @return The corresponding file name.
+   */
+  public static String fileName(int id) {
+    return fileNames[id];
+  }
+
+  /**
+   * Pack the specified location.
+   *
+   * @param location The location.
+   * @return The packed location, {@link #OVERFLOW} if the location
+   *   does not fit, or 0 if the location is <code>null</code>.
+   */
+  public static long pack(Location location) {
+    if (null == location) return 0;
+    return pack(fileId(location.file), location.line, location.column);
+  }
+
+  /**
+   * Pack the specified file identifier, line, and column.
+   *
+   * @param file The file identifier.
+   * @param line The line.
+   * @param column The column.
+   * @return The packed location or {@link #OVERFLOW} if the location
+   *   does not fit.
+   */
+  public static long pack(int file, int line, int column) {
+    if ((file < (1 << FILE_BITS) - 1) &&
+        (0 <= line) && (line <= LINE_MASK) &&
+        (0 <= column) && (column <= COLUMN_MASK)) {
+      return ((long)(file + 1) << (LINE_BITS + COLUMN_BITS)) |
+        ((long)line << COLUMN_BITS) | column;
+    } else {
+      return OVERFLOW;
+    }
+  }
+
+  /**
+   * Unpack the specified location.
+   *
+   * @param packed The packed location.
+   * @return The location or <code>null</code> if the packed location
+   *   is 0.
+   * @throws IllegalArgumentException Signals that the packed location
+   *   is {@link #OVERFLOW}.
+   */
+  public static Location unpack(long packed) {
+    if (0 == packed) {
+      return null;
+    } else if (OVERFLOW == packed) {
+      throw new IllegalArgumentException("Overflowing location");
+    } else {
+      return new Location(fileName(fileOf(packed)), lineOf(packed),
+                          columnOf(packed));
+    }
+  }
+
+  /**
+   * Get the file identifier of the specified packed location.
+   *
+   * @param packed The packed location, which must be neither 0 nor
+   *   {@link #OVERFLOW}.
+   * @return The file identifier.
+   */
+  public static int fileOf(long packed) {
+    return (int)(packed >>> (LINE_BITS + COLUMN_BITS)) - 1;
+  }
+
+  /**
+   * Get the line of the specified packed location.
+   *
+   * @param packed The packed location, which must be neither 0 nor
+   *   {@link #OVERFLOW}.
+   * @return The line.
+   */
+  public static int lineOf(long packed) {
+    return (int)(packed >>> COLUMN_BITS) & LINE_MASK;
+  }
+
+  /**
+   * Get the column of the specified packed location.
+   *
+   * @param packed The packed location, which must be neither 0 nor
+   *   {@link #OVERFLOW}.
+   * @return The column.
+   */
+  public static int columnOf(long packed) {
+    return (int)packed & COLUMN_MASK;
+  }
+
+  // ========================================================================
+
   public String toString() {
     StringBuilder buf = new StringBuilder();
 
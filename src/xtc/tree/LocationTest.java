@@ -0,0 +1,144 @@
+/*
+ * xtc - The eXTensible Compiler
+ * Copyright (C) 2026 Robert Grimm
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * version 2 as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301,
+ * USA.
+ */
+package xtc.tree;
+
+/**
+ * Unit tests for packed locations.
+ *
+ * @author Robert Grimm
+ * @version $Revision: 1.2 $
+ */
+public class LocationTest extends junit.framework.TestCase {
+
+  /** Create a new test class. */
+  public LocationTest() { /* Nothing to do. */ }
+
+  /**
+   * Assert that the specified locations are equal.
+   *
+   * @param expected The expected location.
+   * @param actual The actual location.
+   */
+  static void assertLocation(Location expected, Location actual) {
+    assertEquals(expected.file, actual.file);
+    assertEquals(expected.line, actual.line);
+    assertEquals(expected.column, actual.column);
+  }
+
+  /** Test packing and unpacking locations. */
+  public void testPack() {
+    final Location loc    = new Location("LocationTest.c", 42, 7);
+    final long     packed = Location.pack(loc);
+
+    assertTrue(0 < packed);
+    assertEquals(packed,
+                 Location.pack(new Location("LocationTest.c", 42, 7)));
+    assertLocation(loc, Location.unpack(packed));
+    assertEquals(Location.fileId("LocationTest.c"), Location.fileOf(packed));
+    assertEquals("LocationTest.c",
+                 Location.fileName(Location.fileOf(packed)));
+    assertEquals(42, Location.lineOf(packed));
+    assertEquals(7, Location.columnOf(packed));
+
+    assertEquals(0, Location.pack(null));
+    assertNull(Location.unpack(0));
+  }
+
+  /** Test packing locations at the limits of the packed fields. */
+  public void testLimits() {
+    final Location zero = new Location("LocationTest.c", 0, 0);
+    final long     p0   = Location.pack(zero);
+    assertTrue(0 < p0);
+    assertLocation(zero, Location.unpack(p0));
+
+    final Location max =
+      new Location("LocationTest.c", (1 << 24) - 1, (1 << 19) - 1);
+    final long     p1  = Location.pack(max);
+    assertTrue(0 < p1);
+    assertLocation(max, Location.unpack(p1));
+  }
+
+  /** Test locations that do not fit into the packed fields. */
+  public void testOverflow() {
+    final Location[] locs = {
+      new Location("LocationTest.c", 1 << 24, 1),
+      new Location("LocationTest.c", 1, 1 << 19),
+      new Location("LocationTest.c", -1, 1),
+      new Location("LocationTest.c", 1, -1)
+    };
+
+    for (Location loc : locs) {
+      assertEquals(Location.OVERFLOW, Location.pack(loc));
+
+      final GNode node = GNode.create("Node");
+      node.setLocation(loc);
+      assertTrue(node.hasLocation());
+      assertEquals(Location.OVERFLOW, node.getPackedLocation());
+      assertSame(loc, node.getLocation());
+      assertTrue(node.properties().isEmpty());
+
+      final GNode other = GNode.create("Other");
+      other.setLocation(node);
+      assertSame(loc, other.getLocation());
+
+      final GNode view = new NodeStore().add(node);
+      assertEquals(Location.OVERFLOW, view.getPackedLocation());
+      assertLocation(loc, view.getLocation());
+
+      node.setLocation(new Location("LocationTest.c", 1, 1));
+      assertTrue(0 < node.getPackedLocation());
+      assertLocation(new Location("LocationTest.c", 1, 1),
+                     node.getLocation());
+    }
+
+    try {
+      Location.unpack(Location.OVERFLOW);
+      fail("Unpacked an overflowing location");
+    } catch (IllegalArgumentException x) {
+      // Expected.
+    }
+    try {
+      GNode.create("Node").setPackedLocation(Location.OVERFLOW);
+      fail("Set an overflowing packed location");
+    } catch (IllegalArgumentException x) {
+      // Expected.
+    }
+  }
+
+  /** Test node locations. */
+  public void testNode() {
+    final GNode    node = GNode.create("Node");
+    final Location loc  = new Location("LocationTest.c", 3, 1);
+
+    assertFalse(node.hasLocation());
+    assertNull(node.getLocation());
+    node.setLocation(loc);
+    assertTrue(node.hasLocation());
+    assertEquals(Location.pack(loc), node.getPackedLocation());
+    assertLocation(loc, node.getLocation());
+
+    final GNode other = GNode.create("Other");
+    other.setLocation(node);
+    assertEquals(node.getPackedLocation(), other.getPackedLocation());
+
+    node.setPackedLocation(0);
+    assertFalse(node.hasLocation());
+  }
+
+}
@@ -22,9 +22,7 @@ import java.io.IOException;
 
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Iterator;
-import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
 
@@ -45,16 +43,20 @@ import xtc.util.Utilities;
  * meaningful implementations for {@link #add(Object)}, {@link
  * #add(int,Object)}, and {@link #remove(int)}.
  *
+ * <p />A node's properties are stored by {@link PropertyKey property
+ * key} in a small array, which is only promoted to a hash map for
+ * nodes with many properties.
+ *
  * @author Robert Grimm
- * @version $Revision: 1.55 $
+ * @version $Revision: 1.58 $
  */
 public abstract class Node implements Iterable<Object>, Locatable {
 
   /** The properties. */
-  Map<String, Object> properties;
+  PropertyMap properties;
   
-  /** The optional source location. */
-  Location location;
+  /** The optional source location, {@link Location#pack packed}. */
+  long location;
 
   // ========================================================================
 
@@ -67,7 +69,7 @@ public abstract class Node implements Iterable<Object>, Locatable {
    * @param location The source location for the new node.
    */
   public Node(Location location) {
-    this.location = location;
+    locate(location);
   }
 
   // ========================================================================
@@ -188,9 +190,9 @@ public abstract class Node implements Iterable<Object>, Locatable {
    */
   public Object setProperty(String name, Object value) {
     if (null == properties) {
-      properties = new HashMap<String, Object>();
+      properties = new PropertyMap();
     }
-    return properties.put(name, value);
+    return properties.put(PropertyKey.get(name), value);
   }
 
   /**
@@ -204,7 +206,8 @@ public abstract class Node implements Iterable<Object>, Locatable {
     if (null == properties) {
       return false;
     } else {
-      return properties.containsKey(name);
+      final PropertyKey key = PropertyKey.lookup(name);
+      return (null != key) && properties.containsKey(key);
     }
   }
 
@@ -219,7 +222,8 @@ public abstract class Node implements Iterable<Object>, Locatable {
     if (null == properties) {
       return null;
     } else {
-      return properties.get(name);
+      final PropertyKey key = PropertyKey.lookup(name);
+      return (null == key) ? null : properties.get(key);
     }
   }
 
@@ -235,7 +239,7 @@ public abstract class Node implements Iterable<Object>, Locatable {
     if (null == properties) {
       return false;
     } else {
-      Object o = properties.get(name);
+      Object o = getProperty(name);
 
       if (null == o) {
         return false;
@@ -252,11 +256,7 @@ public abstract class Node implements Iterable<Object>, Locatable {
    * @return The property's value as a string.
    */
   public String getStringProperty(String name) {
-    if (null == properties) {
-      return null;
-    } else {
-      return (String)properties.get(name);
-    }
+    return (String)getProperty(name);
   }
 
   /**
@@ -270,7 +270,8 @@ public abstract class Node implements Iterable<Object>, Locatable {
     if (null == properties) {
       return null;
     } else {
-      return properties.remove(name);
+      final PropertyKey key = PropertyKey.lookup(name);
+      return (null == key) ? null : properties.remove(key);
     }
   }
 
@@ -290,19 +291,81 @@ public abstract class Node implements Iterable<Object>, Locatable {
   // ========================================================================
 
   public boolean hasLocation() {
-    return null != location;
+    return 0 != location;
   }
 
   public Location getLocation() {
-    return location;
+    if (Location.OVERFLOW == location) return properties.location;
+    return Location.unpack(location);
   }
 
   public void setLocation(Location location) {
-    this.location = location;
+    locate(location);
   }
 
   public void setLocation(Locatable locatable) {
-    if (locatable.hasLocation()) this.location = locatable.getLocation();
+    if (! locatable.hasLocation()) return;
+
+    if ((locatable instanceof Node) &&
+        (0 != ((Node)locatable).location) &&
+        (Location.OVERFLOW != ((Node)locatable).location)) {
+      if (Location.OVERFLOW == this.location) properties.location = null;
+      this.location = ((Node)locatable).location;
+    } else {
+      locate(locatable.getLocation());
+    }
+  }
+
+  /**
+   * Set this node's location.  If the location does not fit the
+   * packed representation, this method keeps the location object with
+   * this node's properties.
+   *
+   * @param location The location.
+   */
+  private void locate(Location location) {
+    final long packed = Location.pack(location);
+
+    if (Location.OVERFLOW == packed) {
+      if (null == properties) properties = new PropertyMap();
+      properties.location = location;
+    } else if (Location.OVERFLOW == this.location) {
+      properties.location = null;
+    }
+    this.location = packed;
+  }
+
+  /**
+   * Get this node's packed location.  Subclasses that override {@link
+   * #getLocation()} must override this method as well.
+   *
+   * @see Location#pack(Location)
+   *
+   * @return The packed location, {@link Location#OVERFLOW} if the
+   *   location does not fit, or 0 if this node does not have a
+   *   location.
+   */
+  public long getPackedLocation() {
+    return location;
+  }
+
+  /**
+   * Set this node's packed location.  Subclasses that override {@link
+   * #setLocation(Location)} must override this method as well.
+   *
+   * @see Location#pack(Location)
+   *
+   * @param location The packed location or 0 to remove the location.
+   * @throws IllegalArgumentException Signals that the packed location
+   *   is {@link Location#OVERFLOW}.
+   */
+  public void setPackedLocation(long location) {
+    if (Location.OVERFLOW == location) {
+      throw new IllegalArgumentException("Overflowing location");
+    } else if (Location.OVERFLOW == this.location) {
+      properties.location = null;
+    }
+    this.location = location;
   }
 
   // ========================================================================
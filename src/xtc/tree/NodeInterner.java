@@ -0,0 +1,785 @@
+/*
+ * xtc - The eXTensible Compiler
+ * Copyright (C) 2026 Robert Grimm
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * version 2.1 as published by the Free Software Foundation.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301,
+ * USA.
+ */
+package xtc.tree;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+
+import xtc.util.Pair;
+
+/**
+ * The factory for shared, immutable generic nodes and tokens.  This
+ * class hash-conses generic nodes by their names and children, so
+ * that equal subtrees, such as the declarations from a header file
+ * included by many translation units, are represented by the same
+ * objects.  Children are compared by identity, with the exception of
+ * strings, which are compared by value, and lists, which are compared
+ * element by element.  Tokens are hash-consed by their text.  The
+ * table of shared nodes only holds weak references, so that shared
+ * nodes no longer referenced elsewhere can be garbage collected.
+ *
+ * <p />The location of a node or token is part of its identity: a
+ * shared node or token is only shared with nodes and tokens that
+ * have the same packed location.  For trees created by parsers for
+ * grammars with the <code>withLocation</code> attribute, this class
+ * thus shares the subtrees for the same source text, notably the
+ * declarations from a header file that line markers relocate to the
+ * same file, line, and column in every translation unit.  Nodes and
+ * tokens with properties or with a location that does not fit the
+ * {@link Location#pack packed} representation are not shared.
+ * Annotations are not shared either; rather, the {@link LineMarker
+ * line markers}, {@link Pragma pragmas}, {@link SourceIdentity source
+ * identities}, and {@link Comment comments} of a tree are copied to
+ * annotate the interned nodes.
+ *
+ * <p />The <code>create()</code> methods mirror those of {@link GNode}
+ * and return <em>pending</em> nodes, whose location may still be set.
+ * A pending node is {@link #intern(Object) interned} when it becomes
+ * the child of another node created by this class.  At that point, it
+ * is either replaced by the equal shared node with the same location
+ * or, if its location does not fit the packed representation, by an
+ * equal regular generic node.  This class can thus be
+ * used as the <code>factory</code> for parsers generated by
+ * <i>Rats!</i>, with the root of the resulting tree interned
+ * explicitly.  Regular generic nodes and tokens are interned by
+ * creating shared copies.  Lists of children are copied while
+ * interning their elements and must not be modified afterwards.
+ *
+ * <p />This class is thread-safe.
+ *
+ * @author Robert Grimm
+ * @version $Revision: 1.5 $
+ */
+public final class NodeInterner {
+
+  /** Hide constructor. */
+  private NodeInterner() { /* Nothing to do. */ }
+
+  // =======================================================================
+
+  /** A shared generic node. */
+  static final class Shared extends GNode.Fixed {
+
+    /** The children. */
+    private final Object[] children;
+
+    /** The hash code. */
+    private final int hash;
+
+    /** The flag for whether this node has been interned. */
+    boolean interned;
+
+    /**
+     * Create a new shared generic node.
+     *
+     * @param name The name.
+     * @param children The interned children.
+     */
+    Shared(String name, Object[] children) {
+      super(name);
+      this.children = children;
+      this.hash     = super.hashCode();
+    }
+
+    public int size() {
+      return children.length;
+    }
+
+    public Object get(int index) {
+      if ((0 <= index) && (index < children.length)) return children[index];
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " +
+                                          children.length);
+    }
+
+    public Object set(int index, Object value) {
+      throw new IllegalStateException("Not modifiable");
+    }
+
+    public Object setProperty(String name, Object value) {
+      throw new IllegalStateException("Not modifiable");
+    }
+
+    public void setLocation(Location location) {
+      if (interned) throw new IllegalStateException("Not modifiable");
+      super.setLocation(location);
+    }
+
+    public void setLocation(Locatable locatable) {
+      if (interned) throw new IllegalStateException("Not modifiable");
+      super.setLocation(locatable);
+    }
+
+    public void setPackedLocation(long location) {
+      if (interned) throw new IllegalStateException("Not modifiable");
+      super.setPackedLocation(location);
+    }
+
+    public int hashCode() {
+      return hash;
+    }
+
+  }
+
+  /** A shared token. */
+  static final class SharedToken extends Token {
+
+    /** The text. */
+    private final String text;
+
+    /** The flag for whether this token has been interned. */
+    boolean interned;
+
+    /**
+     * Create a new shared token.
+     *
+     * @param text The text.
+     */
+    SharedToken(String text) {
+      this.text = text;
+    }
+
+    public String getTokenText() {
+      return text;
+    }
+
+    public Object setProperty(String name, Object value) {
+      throw new IllegalStateException("Not modifiable");
+    }
+
+    public void setLocation(Location location) {
+      if (interned) throw new IllegalStateException("Not modifiable");
+      super.setLocation(location);
+    }
+
+    public void setLocation(Locatable locatable) {
+      if (interned) throw new IllegalStateException("Not modifiable");
+      super.setLocation(locatable);
+    }
+
+    public void setPackedLocation(long location) {
+      if (interned) throw new IllegalStateException("Not modifiable");
+      super.setPackedLocation(location);
+    }
+
+  }
+
+  /** An entry in the table of shared nodes. */
+  private static final class Entry extends WeakReference<Node> {
+
+    /** The hash code. */
+    final int hash;
+
+    /** The next entry in the same bucket. */
+    Entry next;
+
+    /**
+     * Create a new entry.
+     *
+     * @param node The node.
+     * @param hash The hash code.
+     * @param next The next entry.
+     */
+    Entry(Node node, int hash, Entry next) {
+      super(node, queue);
+      this.hash = hash;
+      this.next = next;
+    }
+
+  }
+
+  // =======================================================================
+
+  /** The lock protecting the table of shared nodes. */
+  private static final Object lock = new Object();
+
+  /** The queue of cleared entries. */
+  private static final ReferenceQueue<Node> queue =
+    new ReferenceQueue<Node>();
+
+  /** The table of shared nodes. */
+  private static Entry[] table = new Entry[1024];
+
+  /** The number of entries. */
+  private static int count = 0;
+
+  // =======================================================================
+
+  /**
+   * Get the number of shared nodes and tokens.  The count includes
+   * nodes that have been garbage collected but not yet been removed
+   * from the table.
+   *
+   * @return The number of shared nodes and tokens.
+   */
+  public static int size() {
+    synchronized (lock) {
+      expunge();
+      return count;
+    }
+  }
+
+  /**
+   * Intern the specified object.  If the object is a generic node or
+   * token without properties, this method returns the shared node or
+   * token equal to the object and with the same location, first
+   * creating it if necessary.  For generic nodes, it interns the
+   * children as well.  If the object is a pending node or token with
+   * a location that does not fit the packed representation, this
+   * method returns an equal regular node or token with the same
+   * location.  If the object is a list, this method returns a copy
+   * with interned elements.  If the object is a line marker, pragma,
+   * source identity, or comment, this method returns a copy
+   * annotating the interned node.  The object itself is never
+   * modified.  For all other objects, this method returns the
+   * object.
+   *
+   * @param o The object.
+   * @return The interned object.
+   */
+  @SuppressWarnings("unchecked")
+  public static Object intern(Object o) {
+    if (o instanceof Shared) {
+      final Shared node = (Shared)o;
+      if (node.interned) {
+        return node;
+      } else if (Location.OVERFLOW == node.location) {
+        final GNode result =
+          GNode.createFromArray(node.name, node.children, 0,
+                                node.children.length);
+        result.kind         = node.kind;
+        result.setLocation(node);
+        return result;
+      } else {
+        return canonicalize(node);
+      }
+
+    } else if (o instanceof SharedToken) {
+      final SharedToken token = (SharedToken)o;
+      if (token.interned) {
+        return token;
+      } else if (Location.OVERFLOW == token.location) {
+        final Token result = new TextToken(token.text);
+        result.setLocation(token);
+        return result;
+      } else {
+        return canonicalize(token);
+      }
+
+    } else if (! (o instanceof Node) ||
+               (Location.OVERFLOW == ((Node)o).getPackedLocation()) ||
+               (! ((Node)o).properties().isEmpty())) {
+      // Fall through.
+
+    } else if (o instanceof GNode) {
+      final GNode    node     = (GNode)o;
+      final Object[] children = new Object[node.size()];
+      for (int i=0; i<children.length; i++) {
+        children[i] = intern(node.get(i));
+      }
+
+      final Shared result = new Shared(node.name, children);
+      result.kind         = node.kind;
+      result.location     = node.getPackedLocation();
+      return canonicalize(result);
+
+    } else if (o instanceof Token) {
+      final SharedToken result =
+        new SharedToken(((Token)o).getTokenText());
+      result.location = ((Token)o).getPackedLocation();
+      return canonicalize(result);
+
+    } else if (o instanceof Annotation) {
+      final Annotation annotation = (Annotation)o;
+      final Node       node       = (Node)intern(annotation.getNode());
+      if (node == annotation.getNode()) return annotation;
+
+      final Annotation result = copy(annotation, node);
+      if (null == result) return annotation;
+      result.location = annotation.getPackedLocation();
+      return result;
+    }
+
+    if ((o instanceof Pair) && (Pair.EMPTY != o)) {
+      Pair<Object> list   = (Pair<Object>)o;
+      Pair<Object> result = new Pair<Object>(intern(list.head()));
+      Pair<Object> cursor = result;
+      for (list = list.tail(); Pair.EMPTY != list; list = list.tail()) {
+        cursor.setTail(new Pair<Object>(intern(list.head())));
+        cursor = cursor.tail();
+      }
+      return result;
+
+    } else {
+      return o;
+    }
+  }
+
+  /**
+   * Copy the specified annotation.
+   *
+   * @param annotation The annotation.
+   * @param node The interned node for the copy.
+   * @return The copy or <code>null</code> if the annotation's class
+   *   is not known.
+   */
+  private static Annotation copy(Annotation annotation, Node node) {
+    final Class<?> k = annotation.getClass();
+
+    if (LineMarker.class == k) {
+      final LineMarker m = (LineMarker)annotation;
+      return new LineMarker(m.line, m.file, m.flags, node);
+    } else if (Pragma.class == k) {
+      return new Pragma(((Pragma)annotation).directive, node);
+    } else if (SourceIdentity.class == k) {
+      return new SourceIdentity(((SourceIdentity)annotation).ident, node);
+    } else if (Comment.class == k) {
+      final Comment c = (Comment)annotation;
+      return new Comment(c.kind, c.text, node);
+    } else {
+      return null;
+    }
+  }
+
+  /**
+   * Get the shared token with the specified text and no location.
+   *
+   * @param text The text.
+   * @return The shared token.
+   */
+  public static Token token(String text) {
+    return canonicalize(new SharedToken(text));
+  }
+
+  // =======================================================================
+
+  /**
+   * Canonicalize the specified node.
+   *
+   * @param node The pending node.
+   * @return The interned node equal to the specified node.
+   */
+  private static Shared canonicalize(Shared node) {
+    final int size = node.children.length;
+    int       hash = node.name.hashCode();
+    for (Object child : node.children) hash = 31 * hash + hashOf(child);
+    hash = 31 * hash + hashOf(node.location);
+
+    synchronized (lock) {
+      expunge();
+
+      for (Entry e = table[index(hash)]; null != e; e = e.next) {
+        if (hash != e.hash) continue;
+
+        final Node other = e.get();
+        if (! (other instanceof Shared)) continue;
+
+        final Shared s = (Shared)other;
+        if ((size != s.children.length) || (node.location != s.location) ||
+            (! node.name.equals(s.name))) {
+          continue;
+        }
+
+        boolean same = true;
+        for (int i=0; i<size; i++) {
+          if (! same(node.children[i], s.children[i])) {
+            same = false;
+            break;
+          }
+        }
+        if (same) return s;
+      }
+
+      node.interned = true;
+      add(node, hash);
+      return node;
+    }
+  }
+
+  /**
+   * Canonicalize the specified token.
+   *
+   * @param token The pending token.
+   * @return The interned token equal to the specified token.
+   */
+  private static SharedToken canonicalize(SharedToken token) {
+    final int hash = 31 * token.text.hashCode() + hashOf(token.location);
+
+    synchronized (lock) {
+      expunge();
+
+      for (Entry e = table[index(hash)]; null != e; e = e.next) {
+        if (hash != e.hash) continue;
+
+        final Node other = e.get();
+        if ((other instanceof SharedToken) &&
+            (token.location == other.location) &&
+            token.text.equals(((SharedToken)other).text)) {
+          return (SharedToken)other;
+        }
+      }
+
+      token.interned = true;
+      add(token, hash);
+      return token;
+    }
+  }
+
+  /**
+   * Get the hash code of the specified packed location.
+   *
+   * @param location The packed location.
+   * @return The hash code.
+   */
+  private static int hashOf(long location) {
+    return (int)(location ^ (location >>> 32));
+  }
+
+  /**
+   * Get the hash code of the specified child.
+   *
+   * @param child The interned child.
+   * @return The hash code.
+   */
+  private static int hashOf(Object child) {
+    if (child instanceof String) {
+      return child.hashCode();
+
+    } else if (child instanceof Pair) {
+      int hash = 1;
+      for (Object o : (Pair<?>)child) hash = 31 * hash + hashOf(o);
+      return hash;
+
+    } else {
+      return System.identityHashCode(child);
+    }
+  }
+
+  /**
+   * Determine whether the specified children are the same.
+   *
+   * @param c1 The first interned child.
+   * @param c2 The second interned child.
+   * @return <code>true</code> if the children are the same.
+   */
+  private static boolean same(Object c1, Object c2) {
+    if (c1 == c2) {
+      return true;
+
+    } else if (c1 instanceof String) {
+      return c1.equals(c2);
+
+    } else if ((c1 instanceof Pair) && (c2 instanceof Pair)) {
+      Pair<?> l1 = (Pair<?>)c1, l2 = (Pair<?>)c2;
+      while ((Pair.EMPTY != l1) && (Pair.EMPTY != l2)) {
+        if (! same(l1.head(), l2.head())) return false;
+        l1 = l1.tail();
+        l2 = l2.tail();
+      }
+      return l1 == l2;
+
+    } else {
+      return false;
+    }
+  }
+
+  /**
+   * Get the table index for the specified hash code.  The caller must
+   * hold the lock.
+   *
+   * @param hash The hash code.
+   * @return The index.
+   */
+  private static int index(int hash) {
+    return (hash ^ (hash >>> 16)) & (table.length - 1);
+  }
+
+  /**
+   * Add the specified node to the table.  The caller must hold the
+   * lock.
+   *
+   * @param node The node.
+   * @param hash The hash code.
+   */
+  private static void add(Node node, int hash) {
+    if (count >= table.length * 3 / 4) {
+      final Entry[] old = table;
+      table             = new Entry[old.length * 2];
+      for (Entry e : old) {
+        while (null != e) {
+          final Entry next = e.next;
+          final int   idx  = index(e.hash);
+          e.next           = table[idx];
+          table[idx]       = e;
+          e                = next;
+        }
+      }
+    }
+
+    final int idx = index(hash);
+    table[idx]    = new Entry(node, hash, table[idx]);
+    count++;
+  }
+
+  /**
+   * Remove all entries whose nodes have been garbage collected.  The
+   * caller must hold the lock.
+   */
+  private static void expunge() {
+    for (Object x; null != (x = queue.poll()); ) {
+      final Entry entry = (Entry)x;
+      final int   idx   = index(entry.hash);
+
+      Entry prev = null;
+      for (Entry e = table[idx]; null != e; prev = e, e = e.next) {
+        if (e == entry) {
+          if (null == prev) {
+            table[idx] = e.next;
+          } else {
+            prev.next = e.next;
+          }
+          count--;
+          break;
+        }
+      }
+    }
+  }
+
+  // =======================================================================
+
+  /**
+   * Create a new generic node with the specified name.  The new node
+   * is a regular generic node with a variable number of children,
+   * which is interned when it becomes the child of a shared node.
+   *
+   * @see GNode#create(String)
+   *
+   * @param name The name.
+   * @return The corresponding generic node.
+   */
+  public static GNode create(String name) {
+    return GNode.create(name);
+  }
+
+  /**
+   * Create a new generic node with the specified name and capacity.
+   * The new node is a regular generic node with a variable number of
+   * children, which is interned when it becomes the child of a shared
+   * node.
+   *
+   * @see GNode#create(String,int)
+   *
+   * @param name The name.
+   * @param capacity The initial capacity.
+   * @return The corresponding generic node.
+   */
+  public static GNode create(String name, int capacity) {
+    return GNode.create(name, capacity);
+  }
+
+  /**
+   * Create a new generic node with the specified name.  If the
+   * variable flag is false, the new node is a pending shared node
+   * without children.
+   *
+   * @see GNode#create(String,boolean)
+   *
+   * @param name The name.
+   * @param variable Flag for whether the new node supports a variable
+   *   number of children.
+   * @return The corresponding generic node.
+   */
+  public static GNode create(String name, boolean variable) {
+    if (variable) return GNode.create(name);
+    return new Shared(name, new Object[0]);
+  }
+
+  /**
+   * Create a new pending shared node with the specified name and
+   * child.
+   *
+   * @param name The name.
+   * @param child The child.
+   * @return The corresponding generic node.
+   */
+  public static GNode create(String name, Object child) {
+    return new Shared(name, new Object[] { intern(child) });
+  }
+
+  /**
+   * Create a new pending shared node with the specified name and
+   * children.
+   *
+   * @param name The name.
+   * @param c1 The first child.
+   * @param c2 The second child.
+   * @return The corresponding generic node.
+   */
+  public static GNode create(String name, Object c1, Object c2) {
+    return new Shared(name, new Object[] { intern(c1), intern(c2) });
+  }
+
+  /**
+   * Create a new pending shared node with the specified name and
+   * children.
+   *
+   * @param name The name.
+   * @param c1 The first child.
+   * @param c2 The second child.
+   * @param c3 The third child.
+   * @return The corresponding generic node.
+   */
+  public static GNode create(String name, Object c1, Object c2, Object c3) {
+    return new Shared(name, new Object[] {
+        intern(c1), intern(c2), intern(c3) });
+  }
+
+  /**
+   * Create a new pending shared node with the specified name and
+   * children.
+   *
+   * @param name The name.
+   * @param c1 The first child.
+   * @param c2 The second child.
+   * @param c3 The third child.
+   * @param c4 The fourth child.
+   * @return The corresponding generic node.
+   */
+  public static GNode create(String name, Object c1, Object c2, Object c3,
+                             Object c4) {
+    return new Shared(name, new Object[] {
+        intern(c1), intern(c2), intern(c3), intern(c4) });
+  }
+
+  /**
+   * Create a new pending shared node with the specified name and
+   * children.
+   *
+   * @param name The name.
+   * @param c1 The first child.
+   * @param c2 The second child.
+   * @param c3 The third child.
+   * @param c4 The fourth child.
+   * @param c5 The fifth child.
+   * @return The corresponding generic node.
+   */
+  public static GNode create(String name, Object c1, Object c2, Object c3,
+                             Object c4, Object c5) {
+    return new Shared(name, new Object[] {
+        intern(c1), intern(c2), intern(c3), intern(c4), intern(c5) });
+  }
+
+  /**
+   * Create a new pending shared node with the specified name and
+   * children.
+   *
+   * @param name The name.
+   * @param c1 The first child.
+   * @param c2 The second child.
+   * @param c3 The third child.
+   * @param c4 The fourth child.
+   * @param c5 The fifth child.
+   * @param c6 The sixth child.
+   * @return The corresponding generic node.
+   */
+  public static GNode create(String name, Object c1, Object c2, Object c3,
+                             Object c4, Object c5, Object c6) {
+    return new Shared(name, new Object[] {
+        intern(c1), intern(c2), intern(c3), intern(c4), intern(c5),
+        intern(c6) });
+  }
+
+  /**
+   * Create a new pending shared node with the specified name and
+   * children.
+   *
+   * @param name The name.
+   * @param c1 The first child.
+   * @param c2 The second child.
+   * @param c3 The third child.
+   * @param c4 The fourth child.
+   * @param c5 The fifth child.
+   * @param c6 The sixth child.
+   * @param c7 The seventh child.
+   * @return The corresponding generic node.
+   */
+  public static GNode create(String name, Object c1, Object c2, Object c3,
+                             Object c4, Object c5, Object c6, Object c7) {
+    return new Shared(name, new Object[] {
+        intern(c1), intern(c2), intern(c3), intern(c4), intern(c5),
+        intern(c6), intern(c7) });
+  }
+
+  /**
+   * Create a new pending shared node with the specified name and
+   * children.
+   *
+   * @param name The name.
+   * @param c1 The first child.
+   * @param c2 The second child.
+   * @param c3 The third child.
+   * @param c4 The fourth child.
+   * @param c5 The fifth child.
+   * @param c6 The sixth child.
+   * @param c7 The seventh child.
+   * @param c8 The eigth child.
+   * @return The corresponding generic node.
+   */
+  public static GNode create(String name, Object c1, Object c2, Object c3,
+                             Object c4, Object c5, Object c6, Object c7,
+                             Object c8) {
+    return new Shared(name, new Object[] {
+        intern(c1), intern(c2), intern(c3), intern(c4), intern(c5),
+        intern(c6), intern(c7), intern(c8) });
+  }
+
+  /**
+   * Create a new pending shared node with the list's elements as its
+   * children.
+   *
+   * @param name The name.
+   * @param p The list of children.
+   * @return The corresponding generic node.
+   */
+  public static GNode createFromPair(String name, Pair<?> p) {
+    final Object[] children = new Object[p.size()];
+    for (int i=0; Pair.EMPTY != p; i++, p = p.tail()) {
+      children[i] = intern(p.head());
+    }
+    return new Shared(name, children);
+  }
+
+  /**
+   * Create a new pending shared node with the specified children.
+   *
+   * @param name The name.
+   * @param base The first child.
+   * @param rest The rest of the children.
+   * @return The corresponding generic node.
+   */
+  public static GNode createFromPair(String name, Object base,
+                                     Pair<?> rest) {
+    final Object[] children = new Object[rest.size() + 1];
+    children[0] = intern(base);
+    for (int i=1; Pair.EMPTY != rest; i++, rest = rest.tail()) {
+      children[i] = intern(rest.head());
+    }
+    return new Shared(name, children);
+  }
+
+}
@@ -0,0 +1,178 @@
+/*
+ * xtc - The eXTensible Compiler
+ * Copyright (C) 2026 Robert Grimm
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * version 2 as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301,
+ * USA.
+ */
+package xtc.tree;
+
+import xtc.util.Pair;
+
+/**
+ * Unit tests for the node interner.
+ *
+ * @author Robert Grimm
+ * @version $Revision: 1.2 $
+ */
+public class NodeInternerTest extends junit.framework.TestCase {
+
+  /** Create a new test class. */
+  public NodeInternerTest() { /* Nothing to do. */ }
+
+  /**
+   * Create a small tree without locations.
+   *
+   * @return The root of the tree.
+   */
+  static GNode tree() {
+    return GNode.create("Declaration",
+                        GNode.create("Type", "int"),
+                        new Pair<Object>(GNode.create("Identifier", "x")),
+                        null);
+  }
+
+  /** Test that equal trees are shared. */
+  public void testShare() {
+    final Object t1 = NodeInterner.intern(tree());
+    final Object t2 = NodeInterner.intern(tree());
+
+    assertSame(t1, t2);
+    assertSame(((GNode)t1).get(0),
+               NodeInterner.intern(GNode.create("Type", "int")));
+  }
+
+  /** Test that equal tokens are shared. */
+  public void testToken() {
+    final GNode node =
+      (GNode)NodeInterner.intern(GNode.create("Type", new TextToken("int")));
+
+    assertSame(NodeInterner.token("int"), node.get(0));
+    assertSame(NodeInterner.token("int"),
+               NodeInterner.intern(new TextToken("int")));
+    assertEquals("int", node.getString(0));
+  }
+
+  /** Test that shared nodes are equal to regular nodes. */
+  public void testEquals() {
+    final GNode regular = tree();
+    final GNode shared  = (GNode)NodeInterner.intern(tree());
+    final GNode pending =
+      NodeInterner.create("Declaration",
+                          NodeInterner.create("Type", "int"),
+                          new Pair<Object>(GNode.create("Identifier", "x")),
+                          null);
+
+    assertEquals(regular, shared);
+    assertEquals(shared, regular);
+    assertEquals(regular.hashCode(), shared.hashCode());
+    assertEquals(pending, regular);
+    assertEquals(pending, shared);
+    assertEquals(shared, pending);
+    assertSame(shared, NodeInterner.intern(pending));
+  }
+
+  /** Test that nodes and tokens are shared by location. */
+  public void testLocation() {
+    final Location loc = new Location("a.c", 3, 7);
+
+    final GNode pending =
+      NodeInterner.create("Identifier", NodeInterner.token("x"));
+    pending.setLocation(loc);
+    final GNode node = (GNode)NodeInterner.intern(pending);
+    assertNotSame(node, NodeInterner.intern(GNode.create("Identifier",
+                                                         new TextToken("x"))));
+    assertEquals(loc.toString(), node.getLocation().toString());
+    assertSame(NodeInterner.token("x"), node.get(0));
+
+    final GNode regular = GNode.create("Identifier", new TextToken("x"));
+    regular.setLocation(loc);
+    assertSame(node, NodeInterner.intern(regular));
+    assertTrue(regular.hasLocation());
+
+    final GNode other = GNode.create("Identifier", new TextToken("x"));
+    other.setLocation(new Location("a.c", 3, 8));
+    assertNotSame(node, NodeInterner.intern(other));
+
+    final Token token = new TextToken("x");
+    token.setLocation(loc);
+    final Token shared = (Token)NodeInterner.intern(token);
+    assertNotSame(NodeInterner.token("x"), shared);
+    assertSame(shared, NodeInterner.intern(token));
+    assertEquals(loc.toString(), shared.getLocation().toString());
+  }
+
+  /** Test that overflowing locations are not shared. */
+  public void testOverflow() {
+    final Location loc = new Location("a.c", 3, 1 << 19);
+
+    final GNode pending =
+      NodeInterner.create("Identifier", NodeInterner.token("x"));
+    pending.setLocation(loc);
+    final GNode node = (GNode)NodeInterner.intern(pending);
+    assertEquals(loc.toString(), node.getLocation().toString());
+    node.set(0, "y");
+
+    final GNode regular = GNode.create("Identifier", "x");
+    regular.setLocation(loc);
+    assertSame(regular, NodeInterner.intern(regular));
+  }
+
+  /** Test that annotations are copied. */
+  public void testAnnotation() {
+    final GNode      node   = GNode.create("Identifier", "x");
+    final LineMarker marker = new LineMarker(1, "a.h", 0, node);
+    marker.setLocation(new Location("a.c", 2, 0));
+
+    final LineMarker copy = (LineMarker)NodeInterner.intern(marker);
+    assertNotSame(marker, copy);
+    assertSame(node, marker.getNode());
+    assertSame(NodeInterner.intern(node), copy.getNode());
+    assertEquals("a.h", copy.file);
+    assertEquals(marker.getLocation().toString(),
+                 copy.getLocation().toString());
+    assertSame(copy, NodeInterner.intern(copy));
+  }
+
+  /** Test that nodes with properties are not shared. */
+  public void testProperties() {
+    final GNode node = GNode.create("Identifier", "x");
+    node.setProperty("type", "int");
+    assertSame(node, NodeInterner.intern(node));
+  }
+
+  /** Test that shared nodes cannot be modified but can be copied. */
+  public void testModify() {
+    final GNode shared = (GNode)NodeInterner.intern(tree());
+
+    try {
+      shared.set(0, null);
+      fail("Shared node modified");
+    } catch (IllegalStateException x) {
+      // Expected.
+    }
+    try {
+      shared.setLocation(new Location("a.c", 1, 0));
+      fail("Shared node located");
+    } catch (IllegalStateException x) {
+      // Expected.
+    }
+
+    final GNode copy = GNode.create(shared);
+    assertEquals(shared, copy);
+    copy.set(2, "y");
+    assertEquals("y", copy.get(2));
+  }
+
+}
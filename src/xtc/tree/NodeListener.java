@@ -0,0 +1,71 @@
+/*
+ * xtc - The eXTensible Compiler
+ * Copyright (C) 2026 Robert Grimm
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * version 2.1 as published by the Free Software Foundation.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301,
+ * USA.
+ */
+package xtc.tree;
+
+/**
+ * The interface to listeners for parse events.  Parsers generated
+ * for grammars with the <code>events</code> attribute do not build a
+ * tree for the entire input.  Rather, they report the root node and
+ * each of its children as soon as they have been recognized, with a
+ * node's children being reported between its start and end events.
+ * Lists of children are reported element by element, and
+ * <code>null</code> children are not reported at all.  If the parse
+ * fails, the events reported so far are not followed by the root
+ * node's end event.
+ *
+ * @see xtc.parser.ParserBase#setListener(NodeListener)
+ *
+ * @author Robert Grimm
+ * @version $Revision: 1.1 $
+ */
+public interface NodeListener {
+
+  /**
+   * Start the specified node.
+   *
+   * @param name The node's name.
+   * @param location The node's location or <code>null</code> if the
+   *   node does not have a location.
+   */
+  void start(String name, Location location);
+
+  /**
+   * End the specified node.
+   *
+   * @param name The node's name.
+   */
+  void end(String name);
+
+  /**
+   * Process the specified token.  This method is invoked for string
+   * children as well as for tokens.
+   *
+   * @param text The token's text.
+   */
+  void token(String text);
+
+  /**
+   * Process the specified annotation.  This method is invoked before
+   * the events for the annotated node.
+   *
+   * @param annotation The annotation.
+   */
+  void annotation(Annotation annotation);
+
+}
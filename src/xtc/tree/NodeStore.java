@@ -0,0 +1,924 @@
+/*
+ * xtc - The eXTensible Compiler
+ * Copyright (C) 2026 Robert Grimm
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * version 2.1 as published by the Free Software Foundation.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301,
+ * USA.
+ */
+package xtc.tree;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import xtc.util.Pair;
+
+/**
+ * A compact store for abstract syntax trees.  A node store keeps
+ * generic nodes in primitive arrays instead of individual objects:
+ * Each node is represented by the 16 bit index of its name, the index
+ * of its first child, and its {@link Location#pack(Location) packed}
+ * source location.  The children of all nodes are encoded as integers in a
+ * single array, with strings represented by the offsets of their
+ * (shared) text in a single character array.  Children that are
+ * neither generic nodes nor strings, such as annotations or lists,
+ * are kept as regular objects.
+ *
+ * <p />A node store hands out lightweight {@link GNode} views, which
+ * are created on demand and thus are equal to but not necessarily
+ * identical with other views of the same node.  Views have a fixed
+ * number of children but support replacing children, and they keep
+ * their properties and locations in the store.  Consequently,
+ * existing visitors can process a tree in a node store, as long as
+ * they do not rely on the identity of nodes or add and remove
+ * children.
+ *
+ * <p />Trees can be added to a node store through {@link
+ * #add(GNode)}.  Alternatively, parsers can create their nodes
+ * directly in the {@link #getCurrent() current} node store by using
+ * this class as their <code>factory</code>.  Since a node store only
+ * grows, nodes created for alternatives that later fail remain in the
+ * store.  Adding the root of the resulting tree to a new store copies
+ * only the reachable nodes.
+ *
+ * <p />Node stores are not thread-safe.
+ *
+ * @author Robert Grimm
+ * @version $Revision: 1.5 $
+ */
+public class NodeStore {
+
+  /** The view of a generic node in a node store. */
+  static final class View extends GNode.Fixed {
+
+    /** The store. */
+    final NodeStore store;
+
+    /** The node's index. */
+    final int index;
+
+    /**
+     * Create a new view.
+     *
+     * @param store The store.
+     * @param index The node's index.
+     */
+    View(NodeStore store, int index) {
+      super(store.names[store.nameIds[index]]);
+      this.store = store;
+      this.index = index;
+      kind       = store.kinds[store.nameIds[index]];
+    }
+
+    public int size() {
+      return store.starts[index+1] - store.starts[index];
+    }
+
+    public Object get(int index) {
+      return store.decode(store.children[slot(index)]);
+    }
+
+    public Object set(int index, Object value) {
+      final int    slot   = slot(index);
+      final int    old    = store.children[slot];
+      final Object result = store.decode(old);
+      final int    ref    = store.replace(old, value);
+
+      // Note: Encoding the value may grow the array of children.
+      store.children[slot] = ref;
+      return result;
+    }
+
+    /**
+     * Get the slot of the child with the specified index.
+     *
+     * @param index The child's index.
+     * @return The slot in the store's array of children.
+     * @throws IndexOutOfBoundsException Signals an invalid index.
+     */
+    private int slot(int index) {
+      final int size = size();
+      if ((0 > index) || (size <= index)) {
+        throw new IndexOutOfBoundsException("Index: "+index+", Size: "+size);
+      }
+      return store.starts[this.index] + index;
+    }
+
+    /**
+     * Get the node's properties from the store.  Views never cache
+     * the properties, since other views of the same node may add
+     * them.
+     *
+     * @return The properties or <code>null</code> if the node does
+     *   not have any properties.
+     */
+    private PropertyMap map() {
+      return (null == store.properties) ? null : store.properties.get(index);
+    }
+
+    public Object setProperty(String name, Object value) {
+      return store.properties(index).put(PropertyKey.get(name), value);
+    }
+
+    public boolean hasProperty(String name) {
+      final PropertyMap map = map();
+      if (null == map) return false;
+      final PropertyKey key = PropertyKey.lookup(name);
+      return (null != key) && map.containsKey(key);
+    }
+
+    public Object getProperty(String name) {
+      final PropertyMap map = map();
+      if (null == map) return null;
+      final PropertyKey key = PropertyKey.lookup(name);
+      return (null == key) ? null : map.get(key);
+    }
+
+    public boolean getBooleanProperty(String name) {
+      final Object o = getProperty(name);
+      return (null != o) && (Boolean)o;
+    }
+
+    public Object removeProperty(String name) {
+      final PropertyMap map = map();
+      if (null == map) return null;
+      final PropertyKey key = PropertyKey.lookup(name);
+      return (null == key) ? null : map.remove(key);
+    }
+
+    public Set<String> properties() {
+      final PropertyMap map = map();
+      if (null == map) return Collections.emptySet();
+      return map.keySet();
+    }
+
+    public boolean hasLocation() {
+      return 0 != store.locations[index];
+    }
+
+    public Location getLocation() {
+      return store.location(index);
+    }
+
+    public void setLocation(Location location) {
+      store.locate(index, Location.pack(location), location);
+    }
+
+    public void setLocation(Locatable locatable) {
+      if (locatable.hasLocation()) {
+        setLocation(locatable.getLocation());
+      }
+    }
+
+    public long getPackedLocation() {
+      return store.locations[index];
+    }
+
+    public void setPackedLocation(long location) {
+      if (Location.OVERFLOW == location) {
+        throw new IllegalArgumentException("Overflowing location");
+      }
+      store.locate(index, location, null);
+    }
+
+  }
+
+  // =======================================================================
+
+  /** The tag for generic nodes. */
+  private static final int NODE = 1;
+
+  /** The tag for strings. */
+  private static final int TEXT = 2;
+
+  /** The tag for other objects. */
+  private static final int OBJECT = 3;
+
+  /** The initial capacity for nodes and children. */
+  private static final int CAPACITY = 1024;
+
+  /** The marker for name indices that do not fit 16 bits. */
+  private static final char WIDE = Character.MAX_VALUE;
+
+  /** The current node stores. */
+  private static final ThreadLocal<NodeStore> current =
+    new ThreadLocal<NodeStore>();
+
+  // =======================================================================
+
+  /** The number of nodes. */
+  private int count;
+
+  /** The nodes' name indices. */
+  private char[] nameIds;
+
+  /**
+   * The indices of the nodes' first children, followed by the number
+   * of children.
+   */
+  private int[] starts;
+
+  /** The nodes' packed locations. */
+  private long[] locations;
+
+  /** The encoded children. */
+  private int[] children;
+
+  /** The number of children. */
+  private int childCount;
+
+  /** The node names. */
+  private String[] names;
+
+  /** The node kinds by name. */
+  private int[] kinds;
+
+  /** The map from node names to their indices. */
+  private final Map<String, Integer> nameIndex;
+
+  /** The text of all strings. */
+  private char[] text;
+
+  /** The length of the text. */
+  private int textLength;
+
+  /**
+   * The offsets of the strings into the text, followed by the text's
+   * length.
+   */
+  private int[] textStarts;
+
+  /** The number of strings. */
+  private int textCount;
+
+  /** The hash table of string indices plus one. */
+  private int[] textTable;
+
+  /** The other objects. */
+  private final List<Object> objects;
+
+  /** The properties by node index or <code>null</code> if none. */
+  Map<Integer, PropertyMap> properties;
+
+  // =======================================================================
+
+  /** Create a new node store. */
+  public NodeStore() {
+    nameIds     = new char[CAPACITY];
+    starts      = new int[CAPACITY + 1];
+    locations   = new long[CAPACITY];
+    children    = new int[CAPACITY];
+    names       = new String[64];
+    kinds       = new int[64];
+    nameIndex   = new HashMap<String, Integer>();
+    text        = new char[CAPACITY * 8];
+    textStarts  = new int[CAPACITY + 1];
+    textTable   = new int[CAPACITY * 2];
+    objects     = new ArrayList<Object>();
+  }
+
+  /**
+   * Get the number of nodes in this store.
+   *
+   * @return The number of nodes.
+   */
+  public int size() {
+    return count;
+  }
+
+  /**
+   * Trim this store's arrays to the number of nodes, children, and
+   * strings.  Invoking this method after all nodes have been added
+   * minimizes the store's memory footprint.
+   */
+  public void trimToSize() {
+    nameIds    = Arrays.copyOf(nameIds, count);
+    starts     = Arrays.copyOf(starts, count + 1);
+    locations  = Arrays.copyOf(locations, count);
+    children   = Arrays.copyOf(children, childCount);
+    text       = Arrays.copyOf(text, textLength);
+    textStarts = Arrays.copyOf(textStarts, textCount + 1);
+  }
+
+  /**
+   * Add the specified generic node to this store.  If the node is not
+   * a view of this store, this method copies the node and all generic
+   * nodes reachable through its children into this store, preserving
+   * their names, kinds, locations, and properties.
+   *
+   * @param node The node.
+   * @return The view of the node in this store.
+   */
+  public GNode add(GNode node) {
+    if ((node instanceof View) && (this == ((View)node).store)) return node;
+    return new View(this, copy(node, new IdentityHashMap<GNode, Integer>()));
+  }
+
+  // =======================================================================
+
+  /**
+   * Allocate a new node.  The new node's children are
+   * <code>null</code>.
+   *
+   * @param name The name.
+   * @param size The number of children.
+   * @return The new node's index.
+   */
+  private int allocate(String name, int size) {
+    if (count == nameIds.length) {
+      final int capacity = Math.max(count * 2, CAPACITY);
+      nameIds = Arrays.copyOf(nameIds, capacity);
+      starts  = Arrays.copyOf(starts, capacity + 1);
+      locations = Arrays.copyOf(locations, capacity);
+    }
+    if (childCount + size > children.length) {
+      children = Arrays.copyOf(children, Math.max(children.length * 2,
+                                                  childCount + size + 1));
+    }
+
+    final int node = count;
+    nameIds[node]  = (char)name(name);
+    childCount    += size;
+    count++;
+    starts[count]  = childCount;
+    return node;
+  }
+
+  /**
+   * Set the specified child.
+   *
+   * @param node The node's index.
+   * @param index The child's index.
+   * @param value The child.
+   */
+  private void put(int node, int index, Object value) {
+    final int ref = encode(value, null);
+
+    // Note: Encoding the value may grow the array of children.
+    children[starts[node] + index] = ref;
+  }
+
+  /**
+   * Copy the specified generic node into this store.
+   *
+   * @param node The node.
+   * @param copied The map from already copied nodes to their indices.
+   * @return The copy's index.
+   */
+  private int copy(GNode node, Map<GNode, Integer> copied) {
+    if (null != copied) {
+      final Integer index = copied.get(node);
+      if (null != index) return index;
+    }
+
+    final int size   = node.size();
+    final int result = allocate(node.name, size);
+    if (null != copied) copied.put(node, result);
+
+    if (0 != node.kind) kinds[nameIds[result]] = node.kind;
+    if (node.hasLocation()) {
+      final long location = node.getPackedLocation();
+      locate(result, location,
+             (Location.OVERFLOW == location) ? node.getLocation() : null);
+    }
+    for (String name : node.properties()) {
+      properties(result).put(PropertyKey.get(name), node.getProperty(name));
+    }
+
+    for (int i=0; i<size; i++) {
+      final int ref = encode(node.get(i), copied);
+
+      // Note: Encoding the child may grow the array of children.
+      children[starts[result] + i] = ref;
+    }
+
+    return result;
+  }
+
+  /**
+   * Encode the specified child.
+   *
+   * @param o The child.
+   * @param copied The map from already copied nodes to their indices
+   *   or <code>null</code> if copies need not be tracked.
+   * @return The encoded child.
+   */
+  int encode(Object o, Map<GNode, Integer> copied) {
+    if (null == o) {
+      return 0;
+    } else if (o instanceof String) {
+      return (string((String)o) << 2) | TEXT;
+    } else if ((o instanceof View) && (this == ((View)o).store)) {
+      return (((View)o).index << 2) | NODE;
+    } else if (o instanceof GNode) {
+      return (copy((GNode)o, copied) << 2) | NODE;
+    } else {
+      objects.add(o);
+      return ((objects.size() - 1) << 2) | OBJECT;
+    }
+  }
+
+  /**
+   * Encode the specified child, which replaces the specified encoded
+   * child.  If both children are neither generic nodes nor strings,
+   * the new child reuses the old child's slot in the list of other
+   * objects.
+   *
+   * @param ref The encoded old child.
+   * @param o The new child.
+   * @return The encoded new child.
+   */
+  int replace(int ref, Object o) {
+    if ((OBJECT == (ref & 3)) && (null != o) && (! (o instanceof String)) &&
+        (! (o instanceof GNode))) {
+      objects.set(ref >>> 2, o);
+      return ref;
+    } else {
+      return encode(o, null);
+    }
+  }
+
+  /**
+   * Decode the specified child.
+   *
+   * @param ref The encoded child.
+   * @return The child.
+   */
+  Object decode(int ref) {
+    switch (ref & 3) {
+    case NODE:
+      return new View(this, ref >>> 2);
+    case TEXT:
+      final int index = ref >>> 2;
+      final int start = textStarts[index];
+      return new String(text, start, textStarts[index+1] - start);
+    case OBJECT:
+      return objects.get(ref >>> 2);
+    default:
+      return null;
+    }
+  }
+
+  // =======================================================================
+
+  /**
+   * Get the index of the specified node name, adding it if necessary.
+   *
+   * @param name The name.
+   * @return The index.
+   */
+  private int name(String name) {
+    Integer index = nameIndex.get(name);
+    if (null == index) {
+      index = nameIndex.size();
+      if (WIDE == index) {
+        throw new IllegalStateException("Too many node names");
+      } else if (index == names.length) {
+        names = Arrays.copyOf(names, index * 2);
+        kinds = Arrays.copyOf(kinds, index * 2);
+      }
+      names[index] = name;
+      nameIndex.put(name, index);
+    }
+    return index;
+  }
+
+  /**
+   * Get the index of the specified string's text, adding the text if
+   * necessary.  Equal strings share the same text.
+   *
+   * @param s The string.
+   * @return The index.
+   */
+  private int string(String s) {
+    final int length = s.length();
+    final int mask   = textTable.length - 1;
+    int       slot   = s.hashCode() & mask;
+
+    while (0 != textTable[slot]) {
+      final int index = textTable[slot] - 1;
+      final int start = textStarts[index];
+
+      if (textStarts[index+1] - start == length) {
+        int i = 0;
+        while ((i < length) && (text[start+i] == s.charAt(i))) i++;
+        if (i == length) return index;
+      }
+
+      slot = (slot + 1) & mask;
+    }
+
+    // Add the text.
+    if (textLength + length > text.length) {
+      text = Arrays.copyOf(text, Math.max(text.length * 2,
+                                          textLength + length + 1));
+    }
+    if (textCount + 1 == textStarts.length) {
+      textStarts = Arrays.copyOf(textStarts, textStarts.length * 2);
+    }
+    s.getChars(0, length, text, textLength);
+
+    final int index          = textCount;
+    textLength              += length;
+    textCount++;
+    textStarts[textCount]    = textLength;
+    textTable[slot]          = index + 1;
+
+    if (textCount * 2 > textTable.length) rehash();
+    return index;
+  }
+
+  /** Double the size of the hash table for strings. */
+  private void rehash() {
+    final int[] table = new int[textTable.length * 2];
+    final int   mask  = table.length - 1;
+
+    for (int index=0; index<textCount; index++) {
+      final int start = textStarts[index];
+      final int end   = textStarts[index+1];
+
+      // Compute the same hash code as String.hashCode().
+      int hash = 0;
+      for (int i=start; i<end; i++) hash = 31 * hash + text[i];
+
+      int slot = hash & mask;
+      while (0 != table[slot]) slot = (slot + 1) & mask;
+      table[slot] = index + 1;
+    }
+
+    textTable = table;
+  }
+
+  // =======================================================================
+
+  /**
+   * Get the specified node's location.
+   *
+   * @param node The node's index.
+   * @return The location or <code>null</code> if the node does not
+   *   have a location.
+   */
+  Location location(int node) {
+    final long location = locations[node];
+    if (Location.OVERFLOW == location) return properties(node).location;
+    return Location.unpack(location);
+  }
+
+  /**
+   * Set the specified node's location.  If the location does not fit
+   * the packed representation, this method keeps the location object
+   * with the node's properties.
+   *
+   * @param node The node's index.
+   * @param packed The packed location or 0 to remove the node's
+   *   location.
+   * @param location The location if the packed location is {@link
+   *   Location#OVERFLOW}.
+   */
+  void locate(int node, long packed, Location location) {
+    if (Location.OVERFLOW == packed) {
+      properties(node).location = location;
+    } else if (Location.OVERFLOW == locations[node]) {
+      properties(node).location = null;
+    }
+    locations[node] = packed;
+  }
+
+  /**
+   * Get the specified node's properties, creating them if necessary.
+   *
+   * @param node The node's index.
+   * @return The properties.
+   */
+  PropertyMap properties(int node) {
+    if (null == properties) {
+      properties = new HashMap<Integer, PropertyMap>();
+    }
+
+    PropertyMap result = properties.get(node);
+    if (null == result) {
+      result = new PropertyMap();
+      properties.put(node, result);
+    }
+    return result;
+  }
+
+  // =======================================================================
+
+  /**
+   * Get the current thread's node store.
+   *
+   * @return The current node store.
+   * @throws IllegalStateException Signals that the current thread has
+   *   no node store.
+   */
+  public static NodeStore getCurrent() {
+    final NodeStore store = current.get();
+    if (null == store) {
+      throw new IllegalStateException("No current node store");
+    }
+    return store;
+  }
+
+  /**
+   * Set the current thread's node store.  The static methods for
+   * creating generic nodes create the nodes in this store.
+   *
+   * @param store The store or <code>null</code> to clear the current
+   *   thread's node store.
+   */
+  public static void setCurrent(NodeStore store) {
+    if (null == store) {
+      current.remove();
+    } else {
+      current.set(store);
+    }
+  }
+
+  /**
+   * Create a new generic node with the specified name.  The new node
+   * supports a variable number of children and thus is not created in
+   * the current node store.  It is added to the current node store
+   * when it becomes the child of a node in the store.
+   *
+   * @see GNode#create(String)
+   *
+   * @param name The name.
+   * @return The corresponding generic node.
+   */
+  public static GNode create(String name) {
+    return GNode.create(name);
+  }
+
+  /**
+   * Create a new generic node with the specified name and capacity.
+   * The new node supports a variable number of children and thus is
+   * not created in the current node store.  It is added to the
+   * current node store when it becomes the child of a node in the
+   * store.
+   *
+   * @see GNode#create(String,int)
+   *
+   * @param name The name.
+   * @param capacity The initial capacity.
+   * @return The corresponding generic node.
+   */
+  public static GNode create(String name, int capacity) {
+    return GNode.create(name, capacity);
+  }
+
+  /**
+   * Create a new generic node with the specified name.  If the
+   * variable flag is false, the new node has no children and is
+   * created in the current node store.
+   *
+   * @see GNode#create(String,boolean)
+   *
+   * @param name The name.
+   * @param variable Flag for whether the new node supports a variable
+   *   number of children.
+   * @return The corresponding generic node.
+   */
+  public static GNode create(String name, boolean variable) {
+    if (variable) return GNode.create(name);
+
+    final NodeStore store = getCurrent();
+    return new View(store, store.allocate(name, 0));
+  }
+
+  /**
+   * Create a new generic node with the specified name and child in
+   * the current node store.
+   *
+   * @param name The name.
+   * @param child The child.
+   * @return The corresponding generic node.
+   */
+  public static GNode create(String name, Object child) {
+    final NodeStore store = getCurrent();
+    final int       node  = store.allocate(name, 1);
+    store.put(node, 0, child);
+    return new View(store, node);
+  }
+
+  /**
+   * Create a new generic node with the specified name and children in
+   * the current node store.
+   *
+   * @param name The name.
+   * @param c1 The first child.
+   * @param c2 The second child.
+   * @return The corresponding generic node.
+   */
+  public static GNode create(String name, Object c1, Object c2) {
+    final NodeStore store = getCurrent();
+    final int       node  = store.allocate(name, 2);
+    store.put(node, 0, c1);
+    store.put(node, 1, c2);
+    return new View(store, node);
+  }
+
+  /**
+   * Create a new generic node with the specified name and children in
+   * the current node store.
+   *
+   * @param name The name.
+   * @param c1 The first child.
+   * @param c2 The second child.
+   * @param c3 The third child.
+   * @return The corresponding generic node.
+   */
+  public static GNode create(String name, Object c1, Object c2, Object c3) {
+    final NodeStore store = getCurrent();
+    final int       node  = store.allocate(name, 3);
+    store.put(node, 0, c1);
+    store.put(node, 1, c2);
+    store.put(node, 2, c3);
+    return new View(store, node);
+  }
+
+  /**
+   * Create a new generic node with the specified name and children in
+   * the current node store.
+   *
+   * @param name The name.
+   * @param c1 The first child.
+   * @param c2 The second child.
+   * @param c3 The third child.
+   * @param c4 The fourth child.
+   * @return The corresponding generic node.
+   */
+  public static GNode create(String name, Object c1, Object c2, Object c3,
+                             Object c4) {
+    final NodeStore store = getCurrent();
+    final int       node  = store.allocate(name, 4);
+    store.put(node, 0, c1);
+    store.put(node, 1, c2);
+    store.put(node, 2, c3);
+    store.put(node, 3, c4);
+    return new View(store, node);
+  }
+
+  /**
+   * Create a new generic node with the specified name and children in
+   * the current node store.
+   *
+   * @param name The name.
+   * @param c1 The first child.
+   * @param c2 The second child.
+   * @param c3 The third child.
+   * @param c4 The fourth child.
+   * @param c5 The fifth child.
+   * @return The corresponding generic node.
+   */
+  public static GNode create(String name, Object c1, Object c2, Object c3,
+                             Object c4, Object c5) {
+    final NodeStore store = getCurrent();
+    final int       node  = store.allocate(name, 5);
+    store.put(node, 0, c1);
+    store.put(node, 1, c2);
+    store.put(node, 2, c3);
+    store.put(node, 3, c4);
+    store.put(node, 4, c5);
+    return new View(store, node);
+  }
+
+  /**
+   * Create a new generic node with the specified name and children in
+   * the current node store.
+   *
+   * @param name The name.
+   * @param c1 The first child.
+   * @param c2 The second child.
+   * @param c3 The third child.
+   * @param c4 The fourth child.
+   * @param c5 The fifth child.
+   * @param c6 The sixth child.
+   * @return The corresponding generic node.
+   */
+  public static GNode create(String name, Object c1, Object c2, Object c3,
+                             Object c4, Object c5, Object c6) {
+    final NodeStore store = getCurrent();
+    final int       node  = store.allocate(name, 6);
+    store.put(node, 0, c1);
+    store.put(node, 1, c2);
+    store.put(node, 2, c3);
+    store.put(node, 3, c4);
+    store.put(node, 4, c5);
+    store.put(node, 5, c6);
+    return new View(store, node);
+  }
+
+  /**
+   * Create a new generic node with the specified name and children in
+   * the current node store.
+   *
+   * @param name The name.
+   * @param c1 The first child.
+   * @param c2 The second child.
+   * @param c3 The third child.
+   * @param c4 The fourth child.
+   * @param c5 The fifth child.
+   * @param c6 The sixth child.
+   * @param c7 The seventh child.
+   * @return The corresponding generic node.
+   */
+  public static GNode create(String name, Object c1, Object c2, Object c3,
+                             Object c4, Object c5, Object c6, Object c7) {
+    final NodeStore store = getCurrent();
+    final int       node  = store.allocate(name, 7);
+    store.put(node, 0, c1);
+    store.put(node, 1, c2);
+    store.put(node, 2, c3);
+    store.put(node, 3, c4);
+    store.put(node, 4, c5);
+    store.put(node, 5, c6);
+    store.put(node, 6, c7);
+    return new View(store, node);
+  }
+
+  /**
+   * Create a new generic node with the specified name and children in
+   * the current node store.
+   *
+   * @param name The name.
+   * @param c1 The first child.
+   * @param c2 The second child.
+   * @param c3 The third child.
+   * @param c4 The fourth child.
+   * @param c5 The fifth child.
+   * @param c6 The sixth child.
+   * @param c7 The seventh child.
+   * @param c8 The eigth child.
+   * @return The corresponding generic node.
+   */
+  public static GNode create(String name, Object c1, Object c2, Object c3,
+                             Object c4, Object c5, Object c6, Object c7,
+                             Object c8) {
+    final NodeStore store = getCurrent();
+    final int       node  = store.allocate(name, 8);
+    store.put(node, 0, c1);
+    store.put(node, 1, c2);
+    store.put(node, 2, c3);
+    store.put(node, 3, c4);
+    store.put(node, 4, c5);
+    store.put(node, 5, c6);
+    store.put(node, 6, c7);
+    store.put(node, 7, c8);
+    return new View(store, node);
+  }
+
+  /**
+   * Create a new generic node with the list's elements as its
+   * children in the current node store.
+   *
+   * @param name The name.
+   * @param p The list of children.
+   * @return The corresponding generic node.
+   */
+  public static GNode createFromPair(String name, Pair<?> p) {
+    final NodeStore store = getCurrent();
+    final int       node  = store.allocate(name, p.size());
+    for (int i=0; Pair.EMPTY != p; i++, p = p.tail()) {
+      store.put(node, i, p.head());
+    }
+    return new View(store, node);
+  }
+
+  /**
+   * Create a new generic node with the specified children in the
+   * current node store.
+   *
+   * @param name The name.
+   * @param base The first child.
+   * @param rest The rest of the children.
+   * @return The corresponding generic node.
+   */
+  public static GNode createFromPair(String name, Object base,
+                                     Pair<?> rest) {
+    final NodeStore store = getCurrent();
+    final int       node  = store.allocate(name, rest.size() + 1);
+    store.put(node, 0, base);
+    for (int i=1; Pair.EMPTY != rest; i++, rest = rest.tail()) {
+      store.put(node, i, rest.head());
+    }
+    return new View(store, node);
+  }
+
+}
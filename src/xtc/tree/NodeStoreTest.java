@@ -0,0 +1,122 @@
+/*
+ * xtc - The eXTensible Compiler
+ * Copyright (C) 2026 Robert Grimm
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * version 2 as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301,
+ * USA.
+ */
+package xtc.tree;
+
+import xtc.util.Pair;
+
+/**
+ * Unit tests for node stores.
+ *
+ * @author Robert Grimm
+ * @version $Revision: 1.1 $
+ */
+public class NodeStoreTest extends junit.framework.TestCase {
+
+  /** Create a new test class. */
+  public NodeStoreTest() { /* Nothing to do. */ }
+
+  /**
+   * Create a small tree.
+   *
+   * @return The root of the tree.
+   */
+  static GNode tree() {
+    final GNode id = GNode.create("Identifier", "x");
+    id.setLocation(new Location("a.c", 3, 7));
+    id.setProperty("type", "int");
+
+    final GNode root = GNode.create("Unit", id, new Pair<Object>("y"),
+                                    GNode.create("Empty", false));
+    root.setLocation(new Location("a.c", 1, 0));
+    return root;
+  }
+
+  /** Test {@link NodeStore#add(GNode)}. */
+  public void testAdd() {
+    final GNode tree = tree();
+    final GNode root = new NodeStore().add(tree);
+
+    assertEquals(tree, root);
+    assertEquals(3, root.size());
+    assertEquals("Identifier", root.getGeneric(0).getName());
+    assertEquals("x", root.getGeneric(0).getString(0));
+    assertEquals("int", root.getGeneric(0).getProperty("type"));
+    assertEquals(tree.getGeneric(0).getLocation().toString(),
+                 root.getGeneric(0).getLocation().toString());
+    assertEquals(new Pair<Object>("y"), root.get(1));
+    assertEquals(0, root.getGeneric(2).size());
+  }
+
+  /** Test that views of the same node share their properties. */
+  public void testViewProperties() {
+    final GNode root = new NodeStore().add(tree());
+    final GNode v1   = root.getGeneric(2);
+    final GNode v2   = root.getGeneric(2);
+
+    assertFalse(v1.hasProperty("type"));
+    assertNull(v2.setProperty("type", "void"));
+    assertTrue(v1.hasProperty("type"));
+    assertEquals("void", v1.getProperty("type"));
+    assertEquals("void", v1.getStringProperty("type"));
+    assertEquals(1, v1.properties().size());
+
+    v2.setProperty("constant", Boolean.TRUE);
+    assertTrue(v1.getBooleanProperty("constant"));
+    assertEquals("void", v1.removeProperty("type"));
+    assertFalse(v2.hasProperty("type"));
+    assertTrue(root.getGeneric(2).hasProperty("constant"));
+  }
+
+  /** Test replacing children of a view. */
+  public void testSet() {
+    final GNode root = new NodeStore().add(tree());
+
+    for (int i=0; i<10; i++) {
+      final Pair<Object> list = new Pair<Object>(i);
+      final Object       old  = root.set(1, list);
+      assertEquals(new Pair<Object>(0 == i ? "y" : i - 1), old);
+      assertSame(list, root.get(1));
+    }
+
+    assertEquals(new Pair<Object>(9), root.set(1, "z"));
+    assertEquals("z", root.getString(1));
+    assertEquals("z", root.set(1, new Pair<Object>("w")));
+    assertEquals(new Pair<Object>("w"), root.get(1));
+    assertEquals("x", root.getGeneric(0).set(0, "v"));
+    assertEquals("v", root.getGeneric(0).getString(0));
+  }
+
+  /** Test creating nodes directly in the current node store. */
+  public void testCreate() {
+    final NodeStore store = new NodeStore();
+    NodeStore.setCurrent(store);
+    try {
+      final GNode id   = NodeStore.create("Identifier", "x");
+      final GNode list = NodeStore.createFromPair("List", id,
+                                                  new Pair<Object>("y"));
+      assertEquals(2, store.size());
+      assertEquals(GNode.create("List", GNode.create("Identifier", "x"),
+                                "y"), list);
+      assertSame(list, store.add(list));
+    } finally {
+      NodeStore.setCurrent(null);
+    }
+  }
+
+}
@@ -0,0 +1,246 @@
+/*
+ * xtc - The eXTensible Compiler
+ * Copyright (C) 2026 Robert Grimm
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * version 2.1 as published by the Free Software Foundation.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301,
+ * USA.
+ */
+package xtc.tree;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import xtc.util.Pair;
+
+/**
+ * The superclass of parallel traversals for read-only analyses.  A
+ * parallel traversal processes the children of selected generic
+ * nodes, such as a C translation unit or a Java class body, in
+ * parallel fork/join tasks.  Each task creates its own visitor,
+ * processes a range of children with that visitor, and returns the
+ * visitor's result.  The results of all tasks are then combined in
+ * the order of the children they were computed from, so the combiner
+ * need only be associative.
+ *
+ * <p />The visitor is never applied to the selected nodes
+ * themselves, since their children are processed by different
+ * visitors.  Children that are lists of nodes are processed element
+ * by element, and children that are neither nodes nor lists are
+ * ignored.  If a processed child is selected for splitting as well,
+ * its children are processed in parallel too.  Visitors created by a
+ * traversal must not modify the tree, but they may safely dispatch
+ * concurrently, since {@link Visitor#dispatch(Node)} is thread-safe
+ * for distinct visitors.
+ *
+ * @author Robert Grimm
+ * @version $Revision: 1.2 $
+ */
+public abstract class ParallelTraversal<V extends Visitor, T> {
+
+  /**
+   * The number of tasks per worker thread when processing the
+   * children of a split node.
+   */
+  private static final int TASKS_PER_THREAD = 8;
+
+  /** The fork/join pool. */
+  protected final ForkJoinPool pool;
+
+  /** Create a new parallel traversal using the common fork/join pool. */
+  public ParallelTraversal() {
+    this(ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Create a new parallel traversal.
+   *
+   * @param pool The fork/join pool.
+   */
+  public ParallelTraversal(ForkJoinPool pool) {
+    this.pool = pool;
+  }
+
+  /**
+   * Create a new visitor for a task.
+   *
+   * @return The new visitor.
+   */
+  protected abstract V newVisitor();
+
+  /**
+   * Get the result of the specified visitor, which has processed a
+   * range of nodes.  A visitor that has not processed any nodes must
+   * produce the identity of {@link #combine(Object,Object)}.
+   *
+   * @param visitor The visitor.
+   * @return The visitor's result.
+   */
+  protected abstract T result(V visitor);
+
+  /**
+   * Combine the specified results.  The left result is computed from
+   * the nodes preceding the nodes of the right result.  This method
+   * must be associative.
+   *
+   * @param left The left result.
+   * @param right The right result.
+   * @return The combined result.
+   */
+  protected abstract T combine(T left, T right);
+
+  /**
+   * Determine whether to process the specified node's children in
+   * parallel instead of applying a visitor to the node.
+   *
+   * @param node The node.
+   * @return <code>true</code> if the node's children should be
+   *   processed in parallel.
+   */
+  protected abstract boolean split(GNode node);
+
+  /**
+   * Process the specified node with the specified visitor.  The
+   * default implementation simply dispatches the visitor on the node.
+   *
+   * @param visitor The visitor.
+   * @param node The node, which is not selected for splitting.
+   */
+  protected void process(V visitor, Node node) {
+    visitor.dispatch(node);
+  }
+
+  /**
+   * Traverse the specified tree.
+   *
+   * @param root The tree's root.
+   * @return The combined result.
+   */
+  public T traverse(Node root) {
+    return pool.invoke(new Task(new Node[] { root }, 0, 1, 1));
+  }
+
+  /**
+   * Get the children of the specified node to be processed in
+   * parallel.
+   *
+   * @param node The node.
+   * @return The children.
+   */
+  private static Node[] children(GNode node) {
+    final List<Node> result = new ArrayList<Node>(node.size());
+
+    for (Object o : node) {
+      if (o instanceof Node) {
+        result.add((Node)o);
+      } else if (o instanceof Pair) {
+        for (Object e : (Pair<?>)o) {
+          if (e instanceof Node) result.add((Node)e);
+        }
+      }
+    }
+
+    return result.toArray(new Node[result.size()]);
+  }
+
+  /** A task processing a range of nodes. */
+  private final class Task extends RecursiveTask<T> {
+
+    /** The serial version ID. */
+    private static final long serialVersionUID = 1L;
+
+    /** The nodes. */
+    private final Node[] nodes;
+
+    /** The index of the first node. */
+    private final int start;
+
+    /** The index after the last node. */
+    private final int end;
+
+    /** The maximum number of nodes processed without forking. */
+    private final int grain;
+
+    /**
+     * Create a new task.
+     *
+     * @param nodes The nodes.
+     * @param start The index of the first node.
+     * @param end The index after the last node.
+     * @param grain The maximum number of nodes processed without
+     *   forking.
+     */
+    Task(Node[] nodes, int start, int end, int grain) {
+      this.nodes = nodes;
+      this.start = start;
+      this.end   = end;
+      this.grain = grain;
+    }
+
+    protected T compute() {
+      // Split large ranges in half.
+      if (end - start > grain) {
+        final int  middle = (start + end) >>> 1;
+        final Task left   = new Task(nodes, start, middle, grain);
+        left.fork();
+        final T    right  = new Task(nodes, middle, end, grain).compute();
+        return combine(left.join(), right);
+      }
+
+      // Process small ranges sequentially, recursing into split nodes.
+      V       visitor = null;
+      T       result  = null;
+      boolean partial = false;
+
+      for (int i=start; i<end; i++) {
+        final Node node = nodes[i];
+
+        if ((node instanceof GNode) && split((GNode)node)) {
+          if (null != visitor) {
+            result  = partial ? combine(result, result(visitor)) :
+              result(visitor);
+            partial = true;
+            visitor = null;
+          }
+
+          final Node[] children = children((GNode)node);
+          final int    size     =
+            Math.max(1, children.length /
+                     (pool.getParallelism() * TASKS_PER_THREAD));
+          final T      value    = (0 == children.length) ?
+            result(newVisitor()) :
+            new Task(children, 0, children.length, size).compute();
+
+          result  = partial ? combine(result, value) : value;
+          partial = true;
+
+        } else {
+          if (null == visitor) visitor = newVisitor();
+          process(visitor, node);
+        }
+      }
+
+      if (null != visitor) {
+        result  = partial ? combine(result, result(visitor)) :
+          result(visitor);
+        partial = true;
+      }
+
+      return partial ? result : result(newVisitor());
+    }
+
+  }
+
+}
@@ -0,0 +1,142 @@
+/*
+ * xtc - The eXTensible Compiler
+ * Copyright (C) 2026 Robert Grimm
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * version 2.1 as published by the Free Software Foundation.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301,
+ * USA.
+ */
+package xtc.tree;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import xtc.Constants;
+
+/**
+ * A property name interned into a small integer identifier.  Nodes
+ * store their properties by property key, which lets them compare
+ * names by identity and keep their properties in a small array.
+ * Property keys are registered globally and never removed, so the
+ * number of distinct property names should be small.  The keys for
+ * {@link Constants#TYPE} and {@link Constants#SCOPE} are registered
+ * first and are looked up without accessing the registry if the
+ * names are the constants themselves.
+ *
+ * <p />This class is thread-safe.
+ *
+ * @author Robert Grimm
+ * @version $Revision: 1.1 $
+ */
+public final class PropertyKey {
+
+  /** The map from names to keys. */
+  private static final Map<String, PropertyKey> keys =
+    new ConcurrentHashMap<String, PropertyKey>();
+
+  /** The number of keys. */
+  private static int count = 0;
+
+  /** The key for {@link Constants#TYPE}. */
+  public static final PropertyKey TYPE = create(Constants.TYPE);
+
+  /** The key for {@link Constants#SCOPE}. */
+  public static final PropertyKey SCOPE = create(Constants.SCOPE);
+
+  // =======================================================================
+
+  /** The name. */
+  public final String name;
+
+  /** The identifier. */
+  public final int id;
+
+  /**
+   * Create a new property key.
+   *
+   * @param name The name.
+   * @param id The identifier.
+   */
+  private PropertyKey(String name, int id) {
+    this.name = name;
+    this.id   = id;
+  }
+
+  public int hashCode() {
+    return id;
+  }
+
+  public boolean equals(Object o) {
+    return this == o;
+  }
+
+  public String toString() {
+    return name;
+  }
+
+  // =======================================================================
+
+  /**
+   * Get the key for the specified name, registering it if necessary.
+   *
+   * @param name The name.
+   * @return The corresponding key.
+   */
+  public static PropertyKey get(String name) {
+    final PropertyKey key = lookup(name);
+    return (null == key) ? create(name) : key;
+  }
+
+  /**
+   * Look up the key for the specified name.
+   *
+   * @param name The name.
+   * @return The corresponding key or <code>null</code> if no property
+   *   with the name has been registered.
+   */
+  public static PropertyKey lookup(String name) {
+    if (Constants.TYPE == name) {
+      return TYPE;
+    } else if (Constants.SCOPE == name) {
+      return SCOPE;
+    } else {
+      return keys.get(name);
+    }
+  }
+
+  /**
+   * Get the number of registered keys.  The identifiers of all keys
+   * are between 0 and the number of keys minus one.
+   *
+   * @return The number of keys.
+   */
+  public static synchronized int size() {
+    return count;
+  }
+
+  /**
+   * Register the key for the specified name.
+   *
+   * @param name The name.
+   * @return The corresponding key.
+   */
+  private static synchronized PropertyKey create(String name) {
+    PropertyKey key = keys.get(name);
+    if (null == key) {
+      key = new PropertyKey(name, count++);
+      keys.put(name, key);
+    }
+    return key;
+  }
+
+}
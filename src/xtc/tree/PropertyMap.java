@@ -0,0 +1,241 @@
+/*
+ * xtc - The eXTensible Compiler
+ * Copyright (C) 2026 Robert Grimm
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * version 2.1 as published by the Free Software Foundation.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301,
+ * USA.
+ */
+package xtc.tree;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * A node's properties.  A property map stores up to {@link #THRESHOLD}
+ * properties in a single array that alternates between {@link
+ * PropertyKey property keys} and values, with keys being compared by
+ * identity.  Once more properties are added, the map is promoted to a
+ * hash map.  A property map also holds the node's location if that
+ * location does not fit the {@link Location#pack(Location) packed}
+ * representation.
+ *
+ * @author Robert Grimm
+ * @version $Revision: 1.2 $
+ */
+final class PropertyMap {
+
+  /** The maximum number of properties stored in the array. */
+  static final int THRESHOLD = 8;
+
+  /**
+   * The alternating keys and values or <code>null</code> if this map
+   * has been promoted.
+   */
+  private Object[] entries;
+
+  /** The number of properties in the array. */
+  private int size;
+
+  /** The hash map or <code>null</code> if this map has not been promoted. */
+  private Map<PropertyKey, Object> map;
+
+  /**
+   * The node's location if it {@link Location#OVERFLOW does not fit}
+   * the packed representation or <code>null</code> otherwise.
+   */
+  Location location;
+
+  /** Create a new property map. */
+  PropertyMap() {
+    entries = new Object[2];
+  }
+
+  /**
+   * Get the number of properties.
+   *
+   * @return The number of properties.
+   */
+  int size() {
+    return (null == map) ? size : map.size();
+  }
+
+  /**
+   * Get the index of the specified key in the array.
+   *
+   * @param key The key.
+   * @return The index or -1 if the array does not contain the key.
+   */
+  private int indexOf(PropertyKey key) {
+    final int end = size * 2;
+    for (int i=0; i<end; i+=2) {
+      if (key == entries[i]) return i;
+    }
+    return -1;
+  }
+
+  /**
+   * Determine whether this map has a property.
+   *
+   * @param key The key.
+   * @return <code>true</code> if this map has the property.
+   */
+  boolean containsKey(PropertyKey key) {
+    return (null == map) ? (-1 != indexOf(key)) : map.containsKey(key);
+  }
+
+  /**
+   * Get a property value.
+   *
+   * @param key The key.
+   * @return The value or <code>null</code> if the property doesn't
+   *   have a value.
+   */
+  Object get(PropertyKey key) {
+    if (null != map) return map.get(key);
+
+    final int idx = indexOf(key);
+    return (-1 == idx) ? null : entries[idx+1];
+  }
+
+  /**
+   * Set a property value.
+   *
+   * @param key The key.
+   * @param value The new value.
+   * @return The old value or <code>null</code> if the property didn't
+   *   have a value.
+   */
+  Object put(PropertyKey key, Object value) {
+    if (null != map) return map.put(key, value);
+
+    final int idx = indexOf(key);
+    if (-1 != idx) {
+      final Object old = entries[idx+1];
+      entries[idx+1]   = value;
+      return old;
+    }
+
+    if (THRESHOLD == size) {
+      map = new HashMap<PropertyKey, Object>();
+      for (int i=0; i<size*2; i+=2) {
+        map.put((PropertyKey)entries[i], entries[i+1]);
+      }
+      map.put(key, value);
+      entries = null;
+      size    = 0;
+      return null;
+    }
+
+    if (entries.length == size * 2) {
+      entries = Arrays.copyOf(entries, entries.length + 2);
+    }
+    entries[size*2]   = key;
+    entries[size*2+1] = value;
+    size++;
+    return null;
+  }
+
+  /**
+   * Remove a property.
+   *
+   * @param key The key.
+   * @return The old value or <code>null</code> if the property didn't
+   *   have a value.
+   */
+  Object remove(PropertyKey key) {
+    if (null != map) return map.remove(key);
+
+    final int idx = indexOf(key);
+    return (-1 == idx) ? null : removeAt(idx);
+  }
+
+  /**
+   * Remove the property at the specified index in the array.  This
+   * method moves the last property into the freed slot.
+   *
+   * @param idx The index.
+   * @return The old value.
+   */
+  private Object removeAt(int idx) {
+    final Object old  = entries[idx+1];
+    final int    last = (size - 1) * 2;
+    entries[idx]      = entries[last];
+    entries[idx+1]    = entries[last+1];
+    entries[last]     = null;
+    entries[last+1]   = null;
+    size--;
+    return old;
+  }
+
+  /**
+   * Get the set of property names.  The set is backed by this map,
+   * with removals from the set removing the corresponding properties.
+   *
+   * @return The set of property names.
+   */
+  Set<String> keySet() {
+    return new AbstractSet<String>() {
+      public int size() {
+        return PropertyMap.this.size();
+      }
+
+      public boolean contains(Object o) {
+        if (! (o instanceof String)) return false;
+        final PropertyKey key = PropertyKey.lookup((String)o);
+        return (null != key) && containsKey(key);
+      }
+
+      public Iterator<String> iterator() {
+        if (null != map) {
+          final Iterator<PropertyKey> iter = map.keySet().iterator();
+
+          return new Iterator<String>() {
+            public boolean hasNext() { return iter.hasNext(); }
+            public String next() { return iter.next().name; }
+            public void remove() { iter.remove(); }
+          };
+        }
+
+        return new Iterator<String>() {
+          int next = 0;
+          int last = -1;
+
+          public boolean hasNext() {
+            return next < size * 2;
+          }
+
+          public String next() {
+            if (next >= size * 2) throw new NoSuchElementException();
+            last  = next;
+            next += 2;
+            return ((PropertyKey)entries[last]).name;
+          }
+
+          public void remove() {
+            if (-1 == last) throw new IllegalStateException();
+            removeAt(last);
+            next = last;
+            last = -1;
+          }
+        };
+      }
+    };
+  }
+
+}
@@ -0,0 +1,136 @@
+/*
+ * xtc - The eXTensible Compiler
+ * Copyright (C) 2026 Robert Grimm
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * version 2 as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301,
+ * USA.
+ */
+package xtc.tree;
+
+import java.util.Iterator;
+import java.util.Set;
+
+/**
+ * Unit tests for property maps.
+ *
+ * @author Robert Grimm
+ * @version $Revision: 1.1 $
+ */
+public class PropertyMapTest extends junit.framework.TestCase {
+
+  /** Create a new test class. */
+  public PropertyMapTest() { /* Nothing to do. */ }
+
+  /**
+   * Get the key for the specified test property.
+   *
+   * @param i The property's number.
+   * @return The key.
+   */
+  static PropertyKey key(int i) {
+    return PropertyKey.get("PropertyMapTest." + i);
+  }
+
+  /** Test adding, replacing, and removing properties in the array. */
+  public void testArray() {
+    final PropertyMap map = new PropertyMap();
+
+    assertEquals(0, map.size());
+    assertNull(map.put(key(0), "a"));
+    assertNull(map.put(key(1), "b"));
+    assertNull(map.put(key(2), "c"));
+    assertEquals(3, map.size());
+    assertEquals("a", map.put(key(0), "A"));
+    assertEquals("A", map.get(key(0)));
+    assertEquals(3, map.size());
+
+    assertEquals("A", map.remove(key(0)));
+    assertNull(map.remove(key(0)));
+    assertFalse(map.containsKey(key(0)));
+    assertEquals(2, map.size());
+    assertEquals("b", map.get(key(1)));
+    assertEquals("c", map.get(key(2)));
+  }
+
+  /** Test that a property with a null value is still contained. */
+  public void testNull() {
+    final PropertyMap map = new PropertyMap();
+
+    assertNull(map.put(key(0), null));
+    assertTrue(map.containsKey(key(0)));
+    assertNull(map.get(key(0)));
+    assertEquals(1, map.size());
+  }
+
+  /** Test promoting the array to a hash map. */
+  public void testPromote() {
+    final PropertyMap map = new PropertyMap();
+    final int         n   = PropertyMap.THRESHOLD * 2;
+
+    for (int i=0; i<n; i++) assertNull(map.put(key(i), i));
+    assertEquals(n, map.size());
+    for (int i=0; i<n; i++) assertEquals(i, map.get(key(i)));
+
+    assertEquals(0, map.remove(key(0)));
+    assertFalse(map.containsKey(key(0)));
+    assertEquals(n - 1, map.size());
+    assertEquals(n - 1, map.keySet().size());
+  }
+
+  /** Test the key set. */
+  public void testKeySet() {
+    final PropertyMap map = new PropertyMap();
+    for (int i=0; i<4; i++) map.put(key(i), i);
+
+    final Set<String> keys = map.keySet();
+    assertEquals(4, keys.size());
+    assertTrue(keys.contains("PropertyMapTest.2"));
+    assertFalse(keys.contains("PropertyMapTest.unknown"));
+    assertFalse(keys.contains(key(2)));
+
+    // Remove the even properties through the iterator.
+    int count = 0;
+    for (Iterator<String> iter = keys.iterator(); iter.hasNext(); ) {
+      final String name = iter.next();
+      count++;
+      if (name.equals("PropertyMapTest.0") ||
+          name.equals("PropertyMapTest.2")) {
+        iter.remove();
+      }
+    }
+    assertEquals(4, count);
+    assertEquals(2, map.size());
+    assertFalse(map.containsKey(key(0)));
+    assertEquals(1, map.get(key(1)));
+    assertFalse(map.containsKey(key(2)));
+    assertEquals(3, map.get(key(3)));
+  }
+
+  /** Test properties through the node interface. */
+  public void testNode() {
+    final GNode node = GNode.create("Node");
+
+    assertTrue(node.properties().isEmpty());
+    for (int i=0; i<=PropertyMap.THRESHOLD; i++) {
+      assertNull(node.setProperty("PropertyMapTest." + i, i));
+    }
+    assertEquals(PropertyMap.THRESHOLD + 1, node.properties().size());
+    assertTrue(node.hasProperty("PropertyMapTest.3"));
+    assertEquals(3, node.removeProperty("PropertyMapTest.3"));
+    assertFalse(node.hasProperty("PropertyMapTest.3"));
+    assertFalse(node.hasProperty("PropertyMapTest.unknown"));
+    assertNull(node.getProperty("PropertyMapTest.unknown"));
+  }
+
+}
@@ -25,13 +25,16 @@ package xtc.tree;
  * the last line marker.
  *
  * @author Robert Grimm
- * @version $Revision: 1.1 $
+ * @version $Revision: 1.3 $
  */
 public class Relocator extends Visitor {
 
   /** The currently marked file. */
   protected String markedFile;
 
+  /** The identifier of the currently marked file. */
+  protected int markedFileId;
+
   /** The currently marked line. */
   protected int markedLine;
 
@@ -51,11 +54,26 @@ public class Relocator extends Visitor {
    * @param n The node.
    */
   protected void relocate(Node n) {
-    if ((null == markedFile) || (null == n.location)) return;
+    if ((null == markedFile) || (! n.hasLocation())) return;
+
+    final long location = n.getPackedLocation();
+    if (Location.OVERFLOW == location) {
+      final Location loc = n.getLocation();
+      n.setLocation(new Location(markedFile, loc.line - baseLine - 1 +
+                                 markedLine, loc.column));
+      return;
+    }
 
-    final int line = n.location.line - baseLine - 1 + markedLine;
-    if ((line != n.location.line) || (! n.location.file.equals(markedFile))) {
-      n.location = new Location(markedFile, line, n.location.column);
+    final int  original = Location.lineOf(location);
+    final int  line     = original - baseLine - 1 + markedLine;
+    if ((line != original) || (markedFileId != Location.fileOf(location))) {
+      final int  column = Location.columnOf(location);
+      final long packed = Location.pack(markedFileId, line, column);
+      if (Location.OVERFLOW == packed) {
+        n.setLocation(new Location(markedFile, line, column));
+      } else {
+        n.setPackedLocation(packed);
+      }
     }
   }
 
@@ -82,13 +100,14 @@ public class Relocator extends Visitor {
 
   /** Process the specified line marker. */
   public Node visit(LineMarker m) {
-    if (null == m.location) {
+    if (0 == m.location) {
       throw new IllegalArgumentException("Line marker without location");
     }
 
-    markedFile = m.file;
-    markedLine = m.line;
-    baseLine   = m.location.line;
+    markedFile   = m.file;
+    markedFileId = Location.fileId(m.file);
+    markedLine   = m.line;
+    baseLine     = m.getLocation().line;
 
     return (Node)dispatch(m.node);
   }
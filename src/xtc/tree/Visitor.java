@@ -18,11 +18,14 @@
  */
 package xtc.tree;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
 import java.lang.reflect.Method;
-import java.lang.reflect.InvocationTargetException;
 
-import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import xtc.util.Pair;
 
@@ -51,87 +54,91 @@ import xtc.util.Pair;
  * dynamically test and cast lists of nodes through {@link
  * Node#isList(Object)} and {@link Node#toList(Object)} respectively.
  *
+ * <p />Visitors for the generic nodes created by a parser generated
+ * with the <code>visitor</code> attribute should extend the abstract
+ * visitor also generated by <i>Rats!</i>.  That visitor passes the
+ * names of all generic nodes created by the parser to {@link
+ * #Visitor(String[])}, which lets {@link #dispatch(Node)} look up the
+ * <code>visit()</code> method for a node by its {@link GNode#getKind()
+ * kind} instead of its name.
+ *
  * @author Robert Grimm
- * @version $Revision: 1.31 $
+ * @version $Revision: 1.33 $
  */
 public abstract class Visitor {
 
-  /** Key for the method lookup cache. */
-  static final class CacheKey {
+  /** The type of the method handles in the dispatch tables. */
+  private static final MethodType DISPATCH_TYPE =
+    MethodType.methodType(Object.class, Visitor.class, Node.class);
 
-    /** The visitor. */
-    public Visitor visitor;
-
-    /** The object identifying the node. */
-    public Object  node;
+  /** A dispatch table. */
+  private static final class Table {
 
     /**
-     * Create a new cache key.
-     *
-     * @param visitor The visitor.
-     * @param node The object identifying the node.
+     * The map from generic node names and node classes to method
+     * handles.
      */
-    public CacheKey(Visitor visitor, Object node) {
-      this.visitor = visitor;
-      this.node    = node;
-    }
+    final Map<Object, MethodHandle> map =
+      new ConcurrentHashMap<Object, MethodHandle>();
 
-    public int hashCode() {
-      return (37 * visitor.hashCode()) + node.hashCode();
-    }
-
-    public boolean equals(Object o) {
-      if (! (o instanceof CacheKey)) return false;
-      CacheKey other = (CacheKey)o;
-      if (! visitor.equals(other.visitor)) return false;
-      return node.equals(other.node);
-    }
+    /**
+     * The array from generic node kinds to method handles or
+     * <code>null</code> if the visitor class does not know about node
+     * kinds.
+     */
+    volatile MethodHandle[] kinds;
 
   }
 
-  // ========================================================================
-
-  /** The size of the method lookup cache. */
-  private static final int CACHE_SIZE = 300;
+  /** The dispatch tables, with each visitor class having its own table. */
+  private static final ClassValue<Table> tables = new ClassValue<Table>() {
+    protected Table computeValue(Class<?> type) {
+      return new Table();
+    }
+  };
 
-  /** The capacity of the method lookup cache. */
-  private static final int CACHE_CAPACITY = 400;
+  /** The dispatch table for this visitor. */
+  private final Table table;
 
-  /** The load factor of the method lookup cache. */
-  private static final float CACHE_LOAD = (float)0.75;
+  /**
+   * The names of the generic nodes by their kinds or <code>null</code>
+   * if this visitor does not know about node kinds.
+   */
+  private final String[] names;
 
-  /** The method lookup cache. */
-  private static final LinkedHashMap<CacheKey, Method> cache;
+  /** The method handles by generic node kinds. */
+  private final MethodHandle[] handles;
 
-  /** The pre-allocated cache key for looking up methods. */
-  private static final CacheKey key;
+  // ========================================================================
 
-  /** The pre-allocated array for passing the argument to invoke(). */
-  private static final Object[] arguments;
+  /** Create a new visitor. */
+  public Visitor() {
+    this(null);
+  }
 
   /**
-   * The pre-allocated array for passing the type argument to
-   * getMethod().
+   * Create a new visitor for generic nodes with the specified kinds.
+   * The array maps each kind to the corresponding generic node name,
+   * with the first entry for kind 0 being <code>null</code>.
+   *
+   * @param names The generic node names.
    */
-  private static final Class<?>[] types;
+  protected Visitor(String[] names) {
+    table      = tables.get(getClass());
+    this.names = names;
 
-  static {
-    cache     =
-      new LinkedHashMap<CacheKey, Method>(CACHE_CAPACITY, CACHE_LOAD, true) {
-        protected boolean removeEldestEntry(Map.Entry e) {
-          return size() > CACHE_SIZE;
-        }
-      };
-    key       = new CacheKey(null, null);
-    arguments = new Object[]   { null };
-    types     = new Class<?>[] { null };
+    if (null == names) {
+      handles = null;
+    } else {
+      MethodHandle[] kinds = table.kinds;
+      if ((null == kinds) || (kinds.length != names.length)) {
+        kinds       = new MethodHandle[names.length];
+        table.kinds = kinds;
+      }
+      handles = kinds;
+    }
   }
 
-  // ========================================================================
-
-  /** Create a new visitor. */
-  public Visitor() { /* Nothing to do. */ }
-
   /**
    * Get a hashcode for this visitor.
    *
@@ -171,6 +178,8 @@ public abstract class Visitor {
    * invokes it on the specified node, and returns the result.  If the
    * specified node is <code>null</code> or the selected method
    * returns <code>void</code>, this method returns <code>null</code>.
+   * The selected methods are cached for each visitor class, so that
+   * dispatching is safe for concurrent use by different visitors.
    *
    * @see #unableToVisit(Node)
    *
@@ -186,50 +195,86 @@ public abstract class Visitor {
     // Get the trivial case out of the way.
     if (null == n) return null;
 
-    // Check the method lookup cache.
-    Method method;
-    key.visitor = this;
-    if (n.isGeneric()) {
-      key.node = n.getName();
+    // Check this visitor's dispatch table.
+    final int    kind = kindOf(n);
+    MethodHandle handle;
+
+    if (0 != kind) {
+      handle = handles[kind];
+      if (null == handle) {
+        handle        = lookup(n);
+        handles[kind] = handle;
+      }
     } else {
-      key.node = n.getClass();
+      handle = lookup(n);
     }
-    method = cache.get(key);
 
-    if (null == method) {
-      // Determine the correct cache value and cache it.
-      method = findMethod(n);
-      cache.put(new CacheKey(this, key.node), method);
+    // Invoke the method.
+    try {
+      return (Object)handle.invokeExact(this, n);
+    } catch (VisitingException x) {
+      throw x;
+    } catch (VisitorException x) {
+      throw x;
+    } catch (Throwable x) {
+      // Throw the appropriate visiting exception.
+      throw new VisitingException("Error visiting node " + n + " with " +
+                                  "visitor " + this, x);
     }
+  }
 
-    // Set up the argument.
-    arguments[0] = n;
+  /**
+   * Get the kind of the specified node.  If the node is a generic node
+   * whose kind and name match the kinds known to this visitor, this
+   * method returns the node's kind.  Otherwise, it returns 0.
+   *
+   * @see GNode#getKind()
+   *
+   * @param n The node.
+   * @return The node's kind.
+   */
+  protected final int kindOf(final Node n) {
+    if ((null == names) || (! (n instanceof GNode))) return 0;
+
+    final int kind = ((GNode)n).kind;
+    return ((0 < kind) && (kind < names.length) &&
+            (names[kind] == ((GNode)n).name)) ? kind : 0;
+  }
+
+  /**
+   * Look up the method handle for visiting the specified node with
+   * this visitor in the visitor's dispatch table.
+   *
+   * @param n The node.
+   * @return The corresponding method handle.
+   */
+  private MethodHandle lookup(final Node n) {
+    final Object key    = n.isGeneric() ? n.getName() : n.getClass();
+    MethodHandle handle = table.map.get(key);
+
+    if (null == handle) {
+      // Determine the correct method handle and add it to the table.
+      handle = findHandle(n);
+      table.map.put(key, handle);
+    }
+
+    return handle;
+  }
+
+  /**
+   * Determine the method handle for visiting the specified node with
+   * this visitor.
+   *
+   * @param n The node.
+   * @return The corresponding method handle.
+   */
+  private MethodHandle findHandle(final Node n) {
+    final Method method = findMethod(n);
 
-    // Invoke the method.
     try {
-      return method.invoke(this, arguments);
+      return MethodHandles.lookup().unreflect(method).asType(DISPATCH_TYPE);
     } catch (IllegalAccessException x) {
-      throw new VisitorException("Unable to invoke " + method + " on " +
-                                 arguments[0]);
-    } catch (IllegalArgumentException x) {
-      throw new VisitorException("Internal error while visiting node " +
-                                 n + " with visitor " + this);
-    } catch (InvocationTargetException x) {
-      Throwable cause = x.getCause();
-
-      // Rethrow visiting and visitor exceptions.
-      if (cause instanceof VisitingException) {
-        throw (VisitingException)cause;
-      } else if (cause instanceof VisitorException) {
-        throw (VisitorException)cause;
-      }
-
-      // Throw the appropriate visiting exception.
-      throw new VisitingException("Error visiting node " + n + " with " +
-                                  "visitor " + this, cause);
-    } catch (NullPointerException x) {
-      throw new VisitorException("Internal error while visiting node " +
-                                 n + " with visitor " + this);
+      throw new VisitorException("Unable to invoke " + method + " on " + n);
     }
   }
 
@@ -246,20 +291,18 @@ public abstract class Visitor {
 
     if (n.isGeneric()) {
       // Look for visit<n.getName()>(GNode).
-      types[0] = GNode.class;
       try {
-        method = visitorT.getMethod("visit" + n.getName(), types);
+        method = visitorT.getMethod("visit" + n.getName(), GNode.class);
       } catch (NoSuchMethodException x) {
 
         // Look for visit(GNode).
         try {
-          method = visitorT.getMethod("visit", types);
+          method = visitorT.getMethod("visit", GNode.class);
         } catch (NoSuchMethodException xx) {
 
           // Look for visit(Node).
-          types[0] = Node.class;
           try {
-            method = visitorT.getMethod("visit", types);
+            method = visitorT.getMethod("visit", Node.class);
           } catch (NoSuchMethodException xxx) {
             // Ignore.
           }
@@ -273,9 +316,8 @@ public abstract class Visitor {
 
     // Look for unableToVisit(Node).
     if (null == method) {
-      types[0] = Node.class;
       try {
-        method = visitorT.getMethod("unableToVisit", types);
+        method = visitorT.getMethod("unableToVisit", Node.class);
       } catch (NoSuchMethodException x) {
         throw new AssertionError("Unable to find unableToVisit(Node)");
       }
@@ -302,16 +344,14 @@ public abstract class Visitor {
     Method method = null;
 
     do {
-      types[0] = paramT;
       try {
-        method = k.getMethod(name, types);
+        method = k.getMethod(name, paramT);
       } catch (NoSuchMethodException x) {
         // Try the interfaces implemented by paramT.
         Class<?>[] interfaces = paramT.getInterfaces();
         for (int i=0; i<interfaces.length; i++) {
-          types[0] = interfaces[i];
           try {
-            method = k.getMethod(name, types);
+            method = k.getMethod(name, interfaces[i]);
             break;
           } catch (NoSuchMethodException xx) {
             // Ignore.
@@ -123,7 +123,7 @@ import xtc.util.Runtime;
  * uses a boolean parameter to control forwarding.
  *
  * @author Robert Grimm
- * @version $Revision: 1.112 $
+ * @version $Revision: 1.113 $
  */
 public abstract class Type extends Node {
 
@@ -406,6 +406,10 @@ public abstract class Type extends Node {
     return super.getLocation();
   }
 
+  public long getPackedLocation() {
+    return Location.pack(getLocation());
+  }
+
   /**
    * Set this type's location.
    *
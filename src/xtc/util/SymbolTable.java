@@ -62,7 +62,7 @@ import xtc.tree.Printer;
  * '<code>)</code>'.
  *
  * @author Robert Grimm
- * @version $Revision: 1.35 $
+ * @version $Revision: 1.36 $
  */
 public class SymbolTable {
 
@@ -599,6 +599,22 @@ public class SymbolTable {
     freshIdCount   = 0;
   }
 
+  /**
+   * Create a new view of the specified symbol table.  The view shares
+   * the specified table's scopes but has its own current scope,
+   * starting with the root scope.  Several threads may look up
+   * symbols through their own views, as long as no thread modifies
+   * the scopes.
+   *
+   * @param table The symbol table.
+   */
+  public SymbolTable(SymbolTable table) {
+    root           = table.root;
+    current        = root;
+    freshNameCount = 0;
+    freshIdCount   = 0;
+  }
+
   // =========================================================================
 
   /**
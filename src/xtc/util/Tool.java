@@ -27,10 +27,13 @@ import java.io.UnsupportedEncodingException;
 import java.text.DateFormat;
 
 import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
 
 import xtc.Constants;
 
 import xtc.parser.ParseException;
+import xtc.parser.ParserBase;
 
 import xtc.tree.Printer;
 import xtc.tree.Node;
@@ -40,13 +43,21 @@ import xtc.tree.VisitingException;
  * The superclass of all tools.
  *
  * @author Robert Grimm
- * @version $Revision: 1.26 $
+ * @version $Revision: 1.27 $
  */
 public abstract class Tool {
 
   /** The runtime. */
   protected final Runtime runtime;
 
+  /** The per-thread parsers, indexed by their classes. */
+  private final ThreadLocal<Map<Class<?>, ParserBase>> parsers =
+    new ThreadLocal<Map<Class<?>, ParserBase>>() {
+      protected Map<Class<?>, ParserBase> initialValue() {
+        return new HashMap<Class<?>, ParserBase>();
+      }
+    };
+
   /** Create a new tool. */
   public Tool() {
     runtime = new Runtime();
@@ -247,6 +258,81 @@ public abstract class Tool {
   public abstract Node parse(Reader in, File file)
     throws IOException, ParseException;
 
+  /**
+   * Get a parser for the specified file.  This method is equivalent
+   * to:<pre>
+   *   getParser(type, in, file.toString(), (int)file.length())
+   * </pre>
+   *
+   * @param type The parser class.
+   * @param in The input stream for the file.
+   * @param file The file.
+   * @return The parser.
+   * @throws IllegalArgumentException Signals that the parser class
+   *   cannot be instantiated.
+   */
+  protected <T extends ParserBase> T getParser(Class<T> type, Reader in,
+                                               File file) {
+    return getParser(type, in, file.toString(), (int)file.length());
+  }
+
+  /**
+   * Get a parser for the specified file.  This method maintains a
+   * pool of parsers for each thread, holding one parser per class.
+   * If the current thread's pool does not contain a parser of the
+   * specified class, this method creates one through the class's
+   * <code>(Reader,String,int)</code> constructor and adds it to the
+   * pool.  Otherwise, it {@link ParserBase#reset(Reader,String,int)
+   * resets} the pooled parser for the specified file, which avoids
+   * reallocating the parser's memoization table when processing many
+   * files.  Once {@link #parse(Reader,File)} returns, this tool {@link
+   * ParserBase#release() releases} the current thread's parsers, so
+   * that they do not retain the last file's input and memoized
+   * results.  Note that the returned parser must not be used after
+   * <code>parse()</code> returns or after the next call to this
+   * method for the same class on the same thread.
+   *
+   * @param type The parser class.
+   * @param in The input stream for the file.
+   * @param file The file name.
+   * @param size The file size.
+   * @return The parser.
+   * @throws IllegalArgumentException Signals that the parser class
+   *   cannot be instantiated.
+   */
+  protected <T extends ParserBase> T getParser(Class<T> type, Reader in,
+                                               String file, int size) {
+    final Map<Class<?>, ParserBase> pool   = parsers.get();
+    final ParserBase                parser = pool.get(type);
+
+    if (null != parser) {
+      parser.reset(in, file, size);
+      return type.cast(parser);
+    }
+
+    final T result;
+    try {
+      result = type.getConstructor(Reader.class, String.class, Integer.TYPE).
+        newInstance(in, file, size);
+    } catch (Exception x) {
+      throw new IllegalArgumentException("Unable to create parser " +
+                                         type.getName(), x);
+    }
+    pool.put(type, result);
+    return result;
+  }
+
+  /**
+   * Release the current thread's parsers.
+   *
+   * @see ParserBase#release()
+   */
+  private void releaseParsers() {
+    for (ParserBase parser : parsers.get().values()) {
+      parser.release();
+    }
+  }
+
   /**
    * Process the specified AST node.  This method is only invoked if
    * {@link #parse(Reader,File)} has completed successfuly, has
@@ -290,7 +376,8 @@ public abstract class Tool {
     try {
       root = parse(in, file);
     } finally {
-      // Close the file.
+      // Release the parsers and close the file.
+      releaseParsers();
       try {
         in.close();
       } catch (IOException x) {
@@ -527,6 +614,7 @@ public abstract class Tool {
             x.printStackTrace();
 
           } finally {
+            releaseParsers();
             if (null != in) {
               try {
                 in.close();